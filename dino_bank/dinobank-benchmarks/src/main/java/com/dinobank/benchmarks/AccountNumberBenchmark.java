@@ -0,0 +1,58 @@
+package com.dinobank.benchmarks;
+
+import com.dinobank.account.service.AccountNumberAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AccountNumberAllocator: blok içinden kilitsiz seri dağıtımı + MOD 97
+ * kontrol haneli formatlama. Blok kaynağı sahte bir sayaçtır; ölçülen
+ * süre veritabanı gidiş-dönüşünü içermez (1000 numarada bir olur).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountNumberBenchmark {
+
+    private static final int BLOCK_SIZE = 1000;
+
+    private AccountNumberAllocator allocator;
+    private long serial;
+
+    @Setup
+    public void setUp() {
+        AtomicLong sequence = new AtomicLong();
+        allocator = new AccountNumberAllocator(() -> sequence.addAndGet(BLOCK_SIZE), BLOCK_SIZE, "1907");
+    }
+
+    @Benchmark
+    public String nextAccountNumber() {
+        return allocator.nextAccountNumber();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String nextAccountNumber4Threads() {
+        return allocator.nextAccountNumber();
+    }
+
+    @Benchmark
+    public String formatOnly() {
+        return AccountNumberAllocator.format("1907", ++serial);
+    }
+}
@@ -0,0 +1,87 @@
+package com.dinobank.benchmarks;
+
+import com.dinobank.CreditApplication.service.CreditService;
+import com.dinobank.model.Account;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bakiye aritmetiği ve kredi limiti değerlendirmesi (veritabanı olmadan):
+ * - transferLegs: transferdeki bakiye kontrolü + iki bacak (compareTo, subtract, add)
+ * - sumBalancesStream / sumBalancesLoop: hesap bakiyelerinin toplanması
+ * - creditLimit: CreditService.calculateCreditLimit (toplam × 4)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BalanceArithmeticBenchmark {
+
+    @Param({ "1", "5", "50" })
+    public int accountCount;
+
+    private List<Account> accounts;
+    private BigDecimal fromBalance;
+    private BigDecimal toBalance;
+    private BigDecimal amount;
+    private BigDecimal requested;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        accounts = new ArrayList<>(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            Account account = new Account();
+            account.setBalance(BigDecimal.valueOf(random.nextLong(1_000_000_00L), 2));
+            accounts.add(account);
+        }
+        fromBalance = new BigDecimal("152340.17");
+        toBalance = new BigDecimal("98.50");
+        amount = new BigDecimal("1250.75");
+        requested = new BigDecimal("250000.00");
+    }
+
+    @Benchmark
+    public BigDecimal transferLegs() {
+        if (fromBalance.compareTo(amount) < 0) {
+            throw new IllegalStateException();
+        }
+        return fromBalance.subtract(amount).add(toBalance.add(amount));
+    }
+
+    @Benchmark
+    public BigDecimal sumBalancesStream() {
+        return accounts.stream().map(Account::getBalance).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public BigDecimal sumBalancesLoop() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Account account : accounts) {
+            total = total.add(account.getBalance());
+        }
+        return total;
+    }
+
+    @Benchmark
+    public boolean creditLimit() {
+        return CreditService.calculateCreditLimit(accounts).compareTo(requested) >= 0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.dinobank.benchmarks;
+
+import com.dinobank.fx.FxRateSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dövizli transferin sıcak yoldaki ek maliyeti: çapraz kur araması +
+ * tutar çevirme. Hedef: < 1 µs. snapshotConvert üretimdeki yoldur;
+ * naiveConvert her çağrıda TRY üzerinden bölme yapan alternatiftir.
+ * Çok thread'li varyant, kilitsiz okumanın ölçeklendiğini gösterir.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FxConversionBenchmark {
+
+    private Map<String, BigDecimal> ratesToTry;
+    private FxRateSnapshot snapshot;
+    private BigDecimal amount;
+
+    @Setup
+    public void setUp() {
+        ratesToTry = Map.of("TRY", BigDecimal.ONE, "USD", new BigDecimal("34.25"), "EUR", new BigDecimal("37.10"),
+                "GBP", new BigDecimal("43.55"), "CHF", new BigDecimal("39.60"));
+        snapshot = FxRateSnapshot.of(ratesToTry, Instant.now());
+        amount = new BigDecimal("1250.75");
+    }
+
+    @Benchmark
+    public BigDecimal snapshotConvert() {
+        return FxRateSnapshot.convert(amount, snapshot.rate("EUR", "USD"));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public BigDecimal snapshotConvert4Threads() {
+        return FxRateSnapshot.convert(amount, snapshot.rate("EUR", "USD"));
+    }
+
+    @Benchmark
+    public BigDecimal naiveConvert() {
+        BigDecimal rate = ratesToTry.get("EUR").divide(ratesToTry.get("USD"), MathContext.DECIMAL64);
+        return amount.multiply(rate).setScale(2, RoundingMode.HALF_EVEN);
+    }
+}
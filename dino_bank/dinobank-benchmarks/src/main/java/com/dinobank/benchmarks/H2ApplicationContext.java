@@ -0,0 +1,40 @@
+package com.dinobank.benchmarks;
+
+import com.dinobank.DinoBankApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DinoBank uygulamasını PostgreSQL modundaki bellek içi H2 ile başlatır.
+ * Şema Flyway migration'larıyla (db/migration/common + h2) kurulur,
+ * DataSeeder test kullanıcılarını (TR11111111110, TR22222222220, ...)
+ * ekler. Her JMH fork'u kendi veritabanını açar; çalıştırmalar birbirini
+ * etkilemez.
+ */
+final class H2ApplicationContext {
+
+    private H2ApplicationContext() {
+    }
+
+    /**
+     * @param extraArgs Benchmark'a özel ek ayarlar (ör. "--dinobank.outbox.relay.enabled=false")
+     */
+    static ConfigurableApplicationContext start(String... extraArgs) {
+        // Komut satırı argümanı olarak verilir: application.properties'teki Postgres ayarlarını ezer
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:dinobank;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                        + "DEFAULT_NULL_ORDERING=HIGH;INIT=CREATE SCHEMA IF NOT EXISTS public",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(DinoBankApplication.class).run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,89 @@
+package com.dinobank.benchmarks;
+
+import com.dinobank.account.service.InterestAccrualService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gece faiz tahakkuku (hesap/s, H2 PostgreSQL modu): her çağrı yeni bir günü
+ * baştan sona işler. ACCOUNTS hesabın yarısı artı bakiyeli VADELI, onda biri
+ * eksi bakiyelidir; her çağrıda ~%60'ına faiz yansıtılır (bakiye güncellemesi,
+ * INTEREST işlemi, outbox olayı). Relay kapalıdır: ölçüm yalnızca yazma yoludur.
+ *
+ * accrueDay: birim hesap başınadır; 10M hesap / 15 dk ≈ 11.100 hesap/s hedefi
+ * bu sayıyla karşılaştırılır.
+ * dailyInterest: sabit noktalı faiz hesabının kendisi (hesap başına).
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InterestAccrualBenchmark {
+
+    private static final int ACCOUNTS = 200_000;
+
+    private long balance = 1_234_567;
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @OperationsPerInvocation(ACCOUNTS)
+    public long accrueDay(Database database) {
+        database.day = database.day.plusDays(1);
+        return database.service.accrue(database.day);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long dailyInterest() {
+        balance = balance * 6364136223846793005L + 1442695040888963407L;
+        return InterestAccrualService.dailyInterestKurus(balance >>> 24, 40_000_000L);
+    }
+
+    /** Yalnızca accrueDay için: hesapları yüklenmiş uygulama */
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        private ConfigurableApplicationContext context;
+        private InterestAccrualService service;
+        private LocalDate day;
+
+        @Setup
+        public void setUp() {
+            context = H2ApplicationContext.start("--dinobank.outbox.relay.enabled=false",
+                    "--dinobank.interest.enabled=false");
+            service = context.getBean(InterestAccrualService.class);
+            // Hesaplar seed müşterisine bağlanır; tür ve bakiye sıra numarasından türetilir
+            context.getBean(JdbcTemplate.class).update("""
+                    INSERT INTO public.accounts (customer_id, account_number, account_type, balance, currency, active)
+                    SELECT 1, 'TRB' || r.x,
+                           CASE WHEN MOD(r.x, 2) = 0 THEN 'VADELI' ELSE 'VADESIZ' END,
+                           CASE WHEN MOD(r.x, 10) = 1 THEN -2500.00 ELSE 10000.00 + MOD(r.x, 997) END,
+                           'TRY', TRUE
+                    FROM SYSTEM_RANGE(1, ?) AS r(x)
+                    """, ACCOUNTS);
+            day = LocalDate.now();
+        }
+
+        @TearDown
+        public void tearDown() {
+            context.close();
+        }
+    }
+}
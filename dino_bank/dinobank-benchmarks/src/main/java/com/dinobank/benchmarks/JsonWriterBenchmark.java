@@ -0,0 +1,153 @@
+package com.dinobank.benchmarks;
+
+import com.dinobank.Transaction.dto.TransactionResponseDto;
+import com.dinobank.json.AccountJsonSerializer;
+import com.dinobank.json.CustomerJsonSerializer;
+import com.dinobank.json.TransactionResponseJsonSerializer;
+import com.dinobank.model.Account;
+import com.dinobank.model.Customer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sıcak cevapların JSON yazımı: Jackson'ın reflection tabanlı BeanSerializer'ı
+ * (reflective) ile com.dinobank.json altındaki elle yazılmış serializer'lar
+ * (streaming). Çıktı, servlet cevabı gibi bir OutputStream'e akıtılır;
+ * "bytes" sayacı saniyede yazılan bayttır. Ayırma (allocation) farkı için:
+ * -Djmh.args="JsonWriterBenchmark -prof gc" (gc.alloc.rate.norm = B/op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonWriterBenchmark {
+
+    @Param({ "20", "200" })
+    public int pageSize;
+
+    private List<TransactionResponseDto> historyPage;
+    private Account summary;
+    private ObjectWriter reflective;
+    private ObjectWriter streaming;
+
+    /** Yazılan baytları sayıp atar */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Sink extends OutputStream {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 452_401_000);
+        historyPage = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            TransactionResponseDto dto = new TransactionResponseDto((long) i, "TR11111111110",
+                    i % 5 == 0 ? "-" : "TR22222222220", new BigDecimal("1250.75"),
+                    i % 5 == 0 ? "WITHDRAWAL" : "TRANSFER", "COMPLETED", now.minusSeconds(i * 37L));
+            if (i % 3 == 0) {
+                dto.setExchangeRate(new BigDecimal("0.02919708"));
+                dto.setConvertedAmount(new BigDecimal("36.52"));
+                dto.setConvertedCurrency("USD");
+            }
+            historyPage.add(dto);
+        }
+
+        Customer customer = new Customer();
+        customer.setId(1L);
+        customer.setTcKimlikNo("11111111110");
+        customer.setAd("Osman");
+        customer.setSoyad("Yetkin");
+        customer.setEmail("osman@dino.com");
+        customer.setTelefon("5550000000");
+        customer.setDogumTarihi(LocalDate.of(1990, 1, 1));
+        customer.setAdres("Test Mah. Dino Cad. No:1");
+        customer.setKayitTarihi(LocalDate.of(2024, 6, 1));
+        summary = new Account();
+        summary.setId(1L);
+        summary.setCustomer(customer);
+        summary.setAccountNumber("TR11111111110");
+        summary.setAccountType("VADESIZ");
+        summary.setBalance(new BigDecimal("1000987.50"));
+        summary.setOpeningDate(now);
+
+        reflective = mapper().writer();
+        streaming = mapper().registerModule(new SimpleModule()
+                .addSerializer(TransactionResponseDto.class, new TransactionResponseJsonSerializer())
+                .addSerializer(Account.class, new AccountJsonSerializer())
+                .addSerializer(Customer.class, new CustomerJsonSerializer()))
+                .writer();
+    }
+
+    @Benchmark
+    public void historyReflective(Sink sink) throws IOException {
+        reflective.writeValue(sink, historyPage);
+    }
+
+    @Benchmark
+    public void historyStreaming(Sink sink) throws IOException {
+        streaming.writeValue(sink, historyPage);
+    }
+
+    @Benchmark
+    public void summaryReflective(Sink sink) throws IOException {
+        reflective.writeValue(sink, summary);
+    }
+
+    @Benchmark
+    public void summaryStreaming(Sink sink) throws IOException {
+        streaming.writeValue(sink, summary);
+    }
+
+    /** Spring Boot varsayılanları: JavaTimeModule, ISO tarih */
+    private static ObjectMapper mapper() {
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
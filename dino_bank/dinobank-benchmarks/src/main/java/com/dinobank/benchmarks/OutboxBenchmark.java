@@ -0,0 +1,118 @@
+package com.dinobank.benchmarks;
+
+import com.dinobank.outbox.DomainEvents;
+import com.dinobank.outbox.OutboxEvent;
+import com.dinobank.outbox.OutboxEventType;
+import com.dinobank.outbox.OutboxRelay;
+import com.dinobank.outbox.OutboxSignal;
+import com.dinobank.outbox.OutboxSubscriber;
+import com.dinobank.outbox.OutboxWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Çıkış kutusu verimi (olay/s, H2 PostgreSQL modu):
+ * - append: tek transaction'da BATCH olay yazımı (OutboxWriter)
+ * - relay: BATCH olayın okunup bir aboneye teslimi ve offset güncellemesi
+ * relay ölçümünde uygulamanın kendi relay thread'i değil, yalnızca bu
+ * benchmark'ın sayan abonesi olan ayrı bir OutboxRelay kullanılır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutboxBenchmark {
+
+    private static final int BATCH = 1000;
+
+    private ConfigurableApplicationContext context;
+    private OutboxWriter writer;
+    private TransactionTemplate transactionTemplate;
+    private OutboxRelay relay;
+    private DomainEvents.MoneyMoved payload;
+    private long delivered;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = H2ApplicationContext.start();
+        writer = context.getBean(OutboxWriter.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        OutboxSubscriber counter = new OutboxSubscriber() {
+            @Override
+            public String name() {
+                return "benchmark";
+            }
+
+            @Override
+            public void onEvents(List<OutboxEvent> events) {
+                delivered += events.size();
+            }
+        };
+        // enabled=false: thread açılmaz, relayOnce doğrudan çağrılır; boşluklar beklenmez
+        relay = new OutboxRelay(context.getBean(JdbcTemplate.class), transactionManager,
+                new OutboxSignal(), List.of(counter), new SimpleMeterRegistry(),
+                false, BATCH, 500, 0, 24);
+        relay.start();
+        payload = new DomainEvents.MoneyMoved(1L, "TRANSFER", 1L, 1L, new BigDecimal("999990.00"),
+                2L, 2L, new BigDecimal("100010.00"), BigDecimal.TEN, "TRY", BigDecimal.TEN, "TRY",
+                LocalDateTime.now(), "TR11111111110", "TR22222222220");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        relay.stop();
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void append() {
+        transactionTemplate.executeWithoutResult(status -> appendBatch());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int relay(RelayInput input) {
+        return relay.relayOnce();
+    }
+
+    /** Her relay çağrısından önce teslim edilecek BATCH olay yazılır (ölçüme dahil değil) */
+    @State(Scope.Thread)
+    public static class RelayInput {
+
+        @Setup(Level.Invocation)
+        public void fill(OutboxBenchmark benchmark) {
+            benchmark.transactionTemplate.executeWithoutResult(status -> benchmark.appendBatch());
+        }
+    }
+
+    private void appendBatch() {
+        for (int i = 0; i < BATCH; i++) {
+            writer.append(OutboxEventType.TRANSFER_COMPLETED, 1L, payload);
+        }
+    }
+}
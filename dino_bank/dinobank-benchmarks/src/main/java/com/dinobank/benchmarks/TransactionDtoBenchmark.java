@@ -0,0 +1,108 @@
+package com.dinobank.benchmarks;
+
+import com.dinobank.Transaction.dto.TransactionResponseDto;
+import com.dinobank.Transaction.service.TransactionService;
+import com.dinobank.model.Account;
+import com.dinobank.model.Transaction;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * İşlem geçmişi cevabının veritabanı dışındaki maliyeti:
+ * entity → TransactionResponseDto dönüşümü ve bir sayfanın JSON'a yazılması.
+ * ObjectMapper, Spring Boot varsayılanlarıyla (JavaTimeModule, ISO tarih) kurulur.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionDtoBenchmark {
+
+    @Param({ "20", "200" })
+    public int pageSize;
+
+    private List<Transaction> transactions;
+    private List<TransactionResponseDto> page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        Account from = account(1L, "TR11111111110", "TRY");
+        Account to = account(2L, "TR22222222220", "USD");
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        transactions = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Transaction tx = new Transaction();
+            tx.setId((long) i);
+            tx.setFromAccount(i % 5 == 0 ? null : from);
+            tx.setToAccount(to);
+            tx.setAmount(new BigDecimal("1250.75"));
+            tx.setCurrency("TRY");
+            tx.setTransactionType(i % 5 == 0 ? "DEPOSIT" : "TRANSFER");
+            tx.setStatus("COMPLETED");
+            tx.setTransactionDate(now.minusMinutes(i));
+            if (i % 3 == 0) {
+                tx.setExchangeRate(new BigDecimal("0.02919708"));
+                tx.setConvertedAmount(new BigDecimal("36.52"));
+                tx.setConvertedCurrency("USD");
+            }
+            transactions.add(tx);
+        }
+        page = buildPage();
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public List<TransactionResponseDto> buildPage() {
+        List<TransactionResponseDto> result = new ArrayList<>(transactions.size());
+        for (Transaction tx : transactions) {
+            result.add(TransactionService.toResponse(tx));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] buildAndSerializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(buildPage());
+    }
+
+    private static Account account(Long id, String number, String currency) {
+        Account account = new Account();
+        account.setId(id);
+        account.setAccountNumber(number);
+        account.setCurrency(currency);
+        account.setBalance(BigDecimal.ZERO);
+        return account;
+    }
+}
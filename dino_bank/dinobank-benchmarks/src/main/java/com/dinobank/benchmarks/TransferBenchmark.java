@@ -0,0 +1,83 @@
+package com.dinobank.benchmarks;
+
+import com.dinobank.Transaction.dto.TransactionRequestDto;
+import com.dinobank.Transaction.dto.TransactionResponseDto;
+import com.dinobank.Transaction.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TransactionService.transferMoney uçtan uca: doğrulama, hesap sorguları,
+ * bakiye güncellemesi, işlem kaydı ve commit (H2, PostgreSQL modu).
+ * İki hesap arasında karşılıklı transfer yapılır; bakiyeler sabit kalır.
+ * transactionHistory, 200 satırlık bir hesap geçmişini okur.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransferBenchmark {
+
+    private static final int HISTORY_ROWS = 200;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private TransactionRequestDto forward;
+    private TransactionRequestDto backward;
+    private boolean flip;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Aynı iki hesap arasında milyonlarca transfer: günlük limit kapatılır (sayaç yine güncellenir)
+        context = H2ApplicationContext.start("--dinobank.limits.daily=DEFAULT:0");
+        transactionService = context.getBean(TransactionService.class);
+        forward = request("TR11111111110", "TR22222222220");
+        backward = request("TR22222222220", "TR11111111110");
+        // Geçmiş sorgusu gerçekçi bir sayfa dönsün
+        for (int i = 0; i < HISTORY_ROWS; i++) {
+            transferMoney();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionResponseDto transferMoney() {
+        flip = !flip;
+        return transactionService.transferMoney(flip ? forward : backward);
+    }
+
+    @Benchmark
+    public List<TransactionResponseDto> transactionHistory() {
+        return transactionService.getTransactionHistory(1L);
+    }
+
+    private static TransactionRequestDto request(String from, String to) {
+        TransactionRequestDto request = new TransactionRequestDto();
+        request.setFromAccountNumber(from);
+        request.setToAccountNumber(to);
+        request.setAmount(new BigDecimal("1.00"));
+        request.setDescription("benchmark");
+        return request;
+    }
+}
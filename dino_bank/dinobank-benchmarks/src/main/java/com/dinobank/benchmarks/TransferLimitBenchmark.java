@@ -0,0 +1,70 @@
+package com.dinobank.benchmarks;
+
+import com.dinobank.Transaction.service.TransferLimitService;
+import com.dinobank.metrics.BusinessMetrics;
+import com.dinobank.model.Account;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Günlük limit kontrolü + rezervasyon + commit'in bellek tarafı (transaction
+ * yokken rezervasyon hemen kapanır). stripes=1 tek kilitli alternatiftir;
+ * 4 thread'li varyant şeritlemenin çekişmeyi azalttığını gösterir.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferLimitBenchmark {
+
+    private static final int ACCOUNTS = 10_000;
+
+    @Param({ "1", "64" })
+    public int stripes;
+
+    private TransferLimitService transferLimitService;
+    private Account[] accounts;
+    private BigDecimal amount;
+
+    @Setup
+    public void setUp() {
+        transferLimitService = new TransferLimitService(null, null, new BusinessMetrics(new SimpleMeterRegistry()),
+                "DEFAULT:0", "DEFAULT:0", stripes);
+        accounts = new Account[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Account account = new Account();
+            account.setId((long) i + 1);
+            account.setAccountType("VADESIZ");
+            accounts[i] = account;
+        }
+        amount = new BigDecimal("250.00");
+    }
+
+    @Benchmark
+    public void reserve() {
+        transferLimitService.reserve(accounts[ThreadLocalRandom.current().nextInt(ACCOUNTS)], amount);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void reserve4Threads() {
+        transferLimitService.reserve(accounts[ThreadLocalRandom.current().nextInt(ACCOUNTS)], amount);
+    }
+}
@@ -0,0 +1,78 @@
+package com.dinobank.benchmarks;
+
+import com.dinobank.validation.IbanValidator;
+import com.dinobank.validation.TcKimlikValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tek geçişli, allocation'sız doğrulayıcılar ile klasik yaklaşımlar:
+ * - TC: String.matches + Character.getNumericValue ile kontrol haneleri
+ * - IBAN: karakterleri yeniden dizip BigInteger mod 97
+ * Allocation farkını görmek için: -Djmh.args="ValidationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    public String tc = "10000000146";
+    public String iban = "TR330006100519786457841326";
+
+    @Benchmark
+    public boolean tcValidator() {
+        return TcKimlikValidator.isValid(tc);
+    }
+
+    @Benchmark
+    public boolean tcRegexBaseline() {
+        if (tc.length() != 11 || !tc.matches("[0-9]+") || tc.charAt(0) == '0') {
+            return false;
+        }
+        int odd = 0;
+        int even = 0;
+        int total = 0;
+        for (int i = 0; i < 10; i++) {
+            int digit = Character.getNumericValue(tc.charAt(i));
+            if (i < 9) {
+                if (i % 2 == 0) {
+                    odd += digit;
+                } else {
+                    even += digit;
+                }
+            }
+            total += digit;
+        }
+        int tenth = Math.floorMod(odd * 7 - even, 10);
+        return tenth == Character.getNumericValue(tc.charAt(9))
+                && total % 10 == Character.getNumericValue(tc.charAt(10));
+    }
+
+    @Benchmark
+    public boolean ibanValidator() {
+        return IbanValidator.isValidIban(iban);
+    }
+
+    @Benchmark
+    public boolean ibanBigIntegerBaseline() {
+        String rearranged = iban.substring(4) + iban.substring(0, 4);
+        StringBuilder numeric = new StringBuilder(rearranged.length() * 2);
+        for (int i = 0; i < rearranged.length(); i++) {
+            numeric.append(Character.getNumericValue(rearranged.charAt(i)));
+        }
+        return new BigInteger(numeric.toString()).mod(BigInteger.valueOf(97)).intValue() == 1;
+    }
+}
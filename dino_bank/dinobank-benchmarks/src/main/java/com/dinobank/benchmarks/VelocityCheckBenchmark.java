@@ -0,0 +1,89 @@
+package com.dinobank.benchmarks;
+
+import com.dinobank.Transaction.dto.TransactionRequestDto;
+import com.dinobank.fraud.FraudDecisionLog;
+import com.dinobank.fraud.VelocityCheckService;
+import com.dinobank.fraud.VelocityDecision;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transfer başına hız kontrolü maliyetinin gecikme dağılımı (SampleTime →
+ * p99). Hedef: p99 < 50 µs. 10.000 hesap arasında rastgele transferler;
+ * her işlem kontrol + commit sonrası sayaç yazısıdır (transaction yoktur,
+ * yazı hemen yapılır). Eşikler hiçbir işlem reddedilmeyecek kadar yüksektir,
+ * böylece her çağrı tüm kuralları değerlendirir. Karar kaydı başlatılmaz.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VelocityCheckBenchmark {
+
+    private static final int ACCOUNTS = 10_000;
+    private static final long NO_LIMIT = Long.MAX_VALUE / 4;
+    private static final BigDecimal NO_AMOUNT_LIMIT = new BigDecimal("1000000000000");
+
+    private VelocityCheckService velocityCheckService;
+    private TransactionRequestDto[] requests;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FraudDecisionLog decisionLog = new FraudDecisionLog(null, registry, 1_000, 100);
+        velocityCheckService = new VelocityCheckService(decisionLog, registry, true, false, NO_LIMIT, NO_LIMIT,
+                NO_AMOUNT_LIMIT, NO_LIMIT, NO_AMOUNT_LIMIT, NO_LIMIT, NO_AMOUNT_LIMIT, NO_LIMIT, NO_AMOUNT_LIMIT, 120);
+        requests = new TransactionRequestDto[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            TransactionRequestDto request = new TransactionRequestDto();
+            request.setFromAccountNumber(accountNumber(i));
+            request.setToAccountNumber(accountNumber((i + 1 + ThreadLocalRandom.current().nextInt(20)) % ACCOUNTS));
+            request.setAmount(new BigDecimal("250.00"));
+            requests[i] = request;
+            // Müşteri kuralları da devreye girsin: her 4 hesap bir müşterinin
+            velocityCheckService.recordTransferAfterCommit(request.getFromAccountNumber(),
+                    request.getToAccountNumber(), (long) (i / 4 + 1), request.getAmount());
+        }
+    }
+
+    private VelocityDecision transfer() {
+        int i = ThreadLocalRandom.current().nextInt(ACCOUNTS);
+        TransactionRequestDto request = requests[i];
+        VelocityDecision decision = velocityCheckService.checkTransfer(request);
+        velocityCheckService.recordTransferAfterCommit(request.getFromAccountNumber(), request.getToAccountNumber(),
+                (long) (i / 4 + 1), request.getAmount());
+        return decision;
+    }
+
+    /** 13 haneli, 0 ile biten iç hesap numarası (tohum verisiyle aynı biçim) */
+    private static String accountNumber(int i) {
+        return String.format("TR%010d0", i + 1);
+    }
+
+    @Benchmark
+    public VelocityDecision checkTransfer() {
+        return transfer();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public VelocityDecision checkTransfer4Threads() {
+        return transfer();
+    }
+}
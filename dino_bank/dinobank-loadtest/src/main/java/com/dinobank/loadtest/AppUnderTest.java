@@ -0,0 +1,150 @@
+package com.dinobank.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DinoBank'ı ayrı bir JVM'de, PostgreSQL modundaki bellek içi H2 ile
+ * başlatır. Yük üreticisi ile sunucu aynı heap'i/GC'yi paylaşmasın diye
+ * süreç ayrıdır. Virtual modda "virtual-threads" profili açılır
+ * (virtual thread'ler + admission limit, bkz. VirtualThreadConfig).
+ *
+ * Uygulama çıktısı target/loadtest-app-{mod}.log dosyasına yazılır.
+ */
+final class AppUnderTest implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final String MAIN_CLASS = "com.dinobank.DinoBankApplication";
+    private static final List<String> FRAUD_LIMITS = List.of("account.max-per-minute", "account.max-per-hour",
+            "account.max-amount-per-hour", "customer.max-per-hour", "customer.max-amount-per-hour",
+            "new-recipient.max-per-hour", "new-recipient.flag-amount", "deposit.max-per-hour",
+            "deposit.max-amount-per-hour");
+
+    private final Process process;
+    private final String baseUrl;
+
+    private AppUnderTest(Process process, String baseUrl) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+    }
+
+    static AppUnderTest start(boolean virtualThreads) throws IOException, InterruptedException {
+        int port = freePort();
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(MAIN_CLASS);
+        command.add("--server.port=" + port);
+        command.addAll(h2Arguments());
+        command.add("--logging.level.root=WARN");
+        // Trafik dört tohum hesaba yoğunlaşır: hız kuralları ve transfer limitleri kapatılır,
+        // kontrollerin kendisi yine çalışır
+        for (String rule : FRAUD_LIMITS) {
+            command.add("--dinobank.fraud." + rule + "=0");
+        }
+        command.add("--dinobank.limits.daily=DEFAULT:0");
+        command.add("--dinobank.limits.per-transaction=DEFAULT:0");
+        if (virtualThreads) {
+            command.add("--spring.profiles.active=virtual-threads");
+        }
+
+        Path log = Path.of("target", "loadtest-app-" + mode + ".log");
+        Files.createDirectories(log.getParent());
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        AppUnderTest app = new AppUnderTest(process, "http://localhost:" + port);
+        try {
+            app.awaitReady(log.toFile());
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            app.close();
+            throw e;
+        }
+        return app;
+    }
+
+    /** Uygulamayı application.properties'teki PostgreSQL yerine bellek içi H2'ye bağlayan argümanlar */
+    static List<String> h2Arguments() {
+        return List.of(
+                "--spring.datasource.url=jdbc:h2:mem:dinobank;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                        + "DEFAULT_NULL_ORDERING=HIGH;INIT=CREATE SCHEMA IF NOT EXISTS public",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false");
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Sağlık kontrolü yetmez: DataSeeder bir CommandLineRunner'dır ve web
+     * sunucusu açıldıktan sonra çalışır. Son seed müşterisinin hesap özeti
+     * 200 dönene kadar beklenir.
+     */
+    private void awaitReady(File log) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(baseUrl + "/api/accounts/summary/4"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Uygulama başlatılamadı, log: " + log.getAbsolutePath());
+            }
+            try {
+                if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ignored) {
+                // Sunucu henüz dinlemiyor
+            }
+            TimeUnit.MILLISECONDS.sleep(500);
+        }
+        throw new IllegalStateException("Uygulama " + STARTUP_TIMEOUT.toSeconds() + " sn içinde hazır olmadı, log: "
+                + log.getAbsolutePath());
+    }
+
+    /**
+     * Süreci önce nazikçe, 15 sn içinde kapanmazsa zorla sonlandırır.
+     * Beklerken kesilirse süreç zorla kapatılır ve kesme bayrağı geri
+     * yüklenir (try-with-resources'ta kontrollü istisna fırlatılmaz).
+     */
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(15, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
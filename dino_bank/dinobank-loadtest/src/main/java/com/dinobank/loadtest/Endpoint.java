@@ -0,0 +1,112 @@
+package com.dinobank.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Trafik karışımındaki uç noktalar. İstekler DataSeeder'ın eklediği
+ * müşteriler (1-4) ve hesaplar (TR11111111110 ... TR44444444440) üzerinde
+ * üretilir; transfer tutarları küçük tutulur, yatırmalar bakiyeleri besler.
+ */
+enum Endpoint {
+
+    LOGIN("login") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, Random random) {
+            String body = "{\"email\":\"" + EMAILS[random.nextInt(EMAILS.length)] + "\",\"sifre\":\"123\"}";
+            return post(baseUrl + "/api/auth/login", body);
+        }
+    },
+    SUMMARY("summary") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, Random random) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/accounts/summary/" + (1 + random.nextInt(SEED_COUNT))))
+                    .GET();
+        }
+    },
+    // Panelin tek çağrısı (hesaplar + son işlemler + aylık harcama); summary+history yerine
+    DASHBOARD("dashboard") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, Random random) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/dashboard/" + (1 + random.nextInt(SEED_COUNT))))
+                    .GET();
+        }
+    },
+    HISTORY("history") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, Random random) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/transactions/history/" + (1 + random.nextInt(SEED_COUNT))))
+                    .GET();
+        }
+    },
+    TRANSFER("transfer") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, Random random) {
+            int from = random.nextInt(SEED_COUNT);
+            int to = (from + 1 + random.nextInt(SEED_COUNT - 1)) % SEED_COUNT;
+            String body = "{\"fromAccountNumber\":\"" + ACCOUNTS[from] + "\",\"toAccountNumber\":\"" + ACCOUNTS[to]
+                    + "\",\"amount\":" + amount(random, 100, 500) + ",\"description\":\"yük testi\"}";
+            return post(baseUrl + "/api/transactions/transfer", body);
+        }
+    },
+    DEPOSIT("deposit") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, Random random) {
+            String body = "{\"toAccountNumber\":\"" + ACCOUNTS[random.nextInt(SEED_COUNT)] + "\",\"amount\":"
+                    + amount(random, 500, 2000) + "}";
+            return post(baseUrl + "/api/transactions/deposit", body);
+        }
+    },
+    CREDIT("credit") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, Random random) {
+            String body = "{\"customerId\":" + (1 + random.nextInt(SEED_COUNT)) + ",\"requestedAmount\":"
+                    + amount(random, 100_000, 2_000_000) + ",\"installmentCount\":12,\"purpose\":\"yük testi\"}";
+            return post(baseUrl + "/api/credits/apply", body);
+        }
+    };
+
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final int SEED_COUNT = 4;
+    private static final String[] EMAILS = {
+            "osman@dino.com", "kursat@dino.com", "ilkmert@dino.com", "atilla@dino.com" };
+    private static final String[] ACCOUNTS = {
+            "TR11111111110", "TR22222222220", "TR33333333330", "TR44444444440" };
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    abstract HttpRequest.Builder request(String baseUrl, Random random);
+
+    static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Bilinmeyen uç nokta: " + key);
+    }
+
+    private static HttpRequest.Builder post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    // Kuruş cinsinden [minCents, maxCents) aralığında tutar; "12.34" biçiminde
+    private static String amount(Random random, int minCents, int maxCents) {
+        int cents = minCents + random.nextInt(maxCents - minCents);
+        return String.format(Locale.ROOT, "%d.%02d", cents / 100, cents % 100);
+    }
+}
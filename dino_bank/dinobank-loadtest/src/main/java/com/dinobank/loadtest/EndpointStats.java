@@ -0,0 +1,72 @@
+package com.dinobank.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tek uç nokta için gecikme histogramı ve hata sayaçları. Gecikmeler
+ * mikrosaniye cinsinden, 1 µs - 60 sn aralığında 3 anlamlı basamakla
+ * tutulur. Hatalar "http_409", "timeout", "dropped" gibi anahtarlarla
+ * ayrıştırılır; 2xx dışındaki her yanıt hatadır.
+ */
+final class EndpointStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Histogram latencies = new ConcurrentHistogram(1, MAX_TRACKABLE_MICROS, 3);
+    private final LongAdder successes = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void recordSuccess(long latencyNanos) {
+        latencies.recordValue(toMicros(latencyNanos));
+        successes.increment();
+    }
+
+    void recordError(String reason, long latencyNanos) {
+        if (latencyNanos > 0) {
+            latencies.recordValue(toMicros(latencyNanos));
+        }
+        errors.computeIfAbsent(reason, r -> new LongAdder()).increment();
+    }
+
+    void reset() {
+        latencies.reset();
+        successes.reset();
+        errors.clear();
+    }
+
+    LoadReport.EndpointResult toResult(double measuredSeconds) {
+        long ok = successes.sum();
+        Map<String, Long> errorBreakdown = new TreeMap<>();
+        errors.forEach((reason, count) -> errorBreakdown.put(reason, count.sum()));
+        long failed = errorBreakdown.values().stream().mapToLong(Long::longValue).sum();
+        long total = ok + failed;
+        Histogram copy = latencies.copy();
+        return new LoadReport.EndpointResult(
+                total,
+                failed,
+                total == 0 ? 0.0 : (double) failed / total,
+                total / measuredSeconds,
+                millis(copy.getMean()),
+                millis(copy.getValueAtPercentile(50)),
+                millis(copy.getValueAtPercentile(90)),
+                millis(copy.getValueAtPercentile(99)),
+                millis(copy.getValueAtPercentile(99.9)),
+                millis(copy.getMaxValue()),
+                errorBreakdown);
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)), MAX_TRACKABLE_MICROS);
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+}
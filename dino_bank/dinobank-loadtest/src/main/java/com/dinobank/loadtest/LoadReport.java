@@ -0,0 +1,110 @@
+package com.dinobank.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Yük testi raporu. Her thread modu (platform / virtual) için bir RunResult,
+ * her uç nokta için gecikme yüzdelikleri (ms) ve hata dağılımı içerir.
+ * JSON olarak yazılır; sonraki çalıştırmalar --baseline ile bu dosyaya
+ * karşı kıyaslanır.
+ */
+record LoadReport(Instant generatedAt, String mix, long seed, List<RunResult> runs) {
+
+    /** p99 farkı bu değerin altındaysa gürültü kabul edilir (ms) */
+    private static final double P99_NOISE_FLOOR_MS = 1.0;
+    /** Hata oranında izin verilen mutlak artış (yüzde 1 puan) */
+    private static final double ERROR_RATE_TOLERANCE = 0.01;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    record RunResult(String mode, double targetRate, double measuredSeconds, Map<String, EndpointResult> endpoints) {
+    }
+
+    record EndpointResult(
+            long requests,
+            long errors,
+            double errorRate,
+            double throughput,
+            double meanMs,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs,
+            Map<String, Long> errorBreakdown) {
+    }
+
+    void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        MAPPER.writeValue(path.toFile(), this);
+    }
+
+    static LoadReport read(Path path) throws IOException {
+        return MAPPER.readValue(path.toFile(), LoadReport.class);
+    }
+
+    void print(PrintStream out) {
+        for (RunResult run : runs) {
+            out.printf(Locale.ROOT, "%n=== threads=%s, hedef %.0f req/s, %.0f sn ===%n",
+                    run.mode(), run.targetRate(), run.measuredSeconds());
+            out.printf(Locale.ROOT, "%-10s %8s %8s %8s %9s %9s %9s %9s %9s  %s%n",
+                    "endpoint", "istek", "req/s", "hata%", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "hatalar");
+            run.endpoints().forEach((name, r) -> out.printf(Locale.ROOT,
+                    "%-10s %8d %8.1f %8.2f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    name, r.requests(), r.throughput(), r.errorRate() * 100, r.p50Ms(), r.p90Ms(), r.p99Ms(),
+                    r.p999Ms(), r.maxMs(), r.errorBreakdown().isEmpty() ? "-" : r.errorBreakdown()));
+        }
+    }
+
+    /**
+     * Bu raporu baseline ile karşılaştırır. Aynı moddaki her uç nokta için
+     * p99 maxRegression oranından (ve gürültü eşiğinden) fazla kötüleşmişse
+     * veya hata oranı belirgin artmışsa bir ihlal satırı döner.
+     * Boş liste = regresyon yok.
+     */
+    List<String> regressionsAgainst(LoadReport baseline, double maxRegression) {
+        List<String> violations = new ArrayList<>();
+        for (RunResult run : runs) {
+            RunResult base = baseline.runs().stream()
+                    .filter(candidate -> candidate.mode().equals(run.mode()))
+                    .findFirst()
+                    .orElse(null);
+            if (base == null) {
+                continue;
+            }
+            run.endpoints().forEach((name, current) -> {
+                EndpointResult previous = base.endpoints().get(name);
+                if (previous == null) {
+                    return;
+                }
+                double allowedP99 = previous.p99Ms() * (1 + maxRegression);
+                if (current.p99Ms() > allowedP99 && current.p99Ms() - previous.p99Ms() > P99_NOISE_FLOOR_MS) {
+                    violations.add(String.format(Locale.ROOT, "[%s] %s p99 %.2f ms -> %.2f ms (izin verilen %.2f ms)",
+                            run.mode(), name, previous.p99Ms(), current.p99Ms(), allowedP99));
+                }
+                if (current.errorRate() > previous.errorRate() + ERROR_RATE_TOLERANCE) {
+                    violations.add(String.format(Locale.ROOT, "[%s] %s hata oranı %%%.2f -> %%%.2f",
+                            run.mode(), name, previous.errorRate() * 100, current.errorRate() * 100));
+                }
+            });
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,77 @@
+package com.dinobank.loadtest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Uçtan uca yük testi giriş noktası.
+ *
+ * 1. Her thread modu için uygulamayı H2 ile ayrı bir JVM'de başlatır
+ * (ya da --base-url ile verilen sunucuyu kullanır)
+ * 2. Seçilen karışımla açık model trafik üretir, ısınmayı atar
+ * 3. Raporu yazdırır ve JSON olarak kaydeder
+ * 4. --baseline verilmişse p99 / hata oranı regresyonunda 1 ile çıkar
+ *
+ * Örnek (dino_bank dizininden):
+ * mvn -Pload -pl dinobank-loadtest -am verify -DskipTests \
+ * -Dload.args="--threads=both --rate=200 --duration=60 --baseline=baseline.json"
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator(options);
+
+        List<LoadReport.RunResult> runs = new ArrayList<>();
+        if (options.baseUrl() != null) {
+            System.out.println("Mevcut sunucuya yük veriliyor: " + options.baseUrl());
+            runs.add(generator.run(options.baseUrl(), "external"));
+        } else {
+            for (boolean virtualThreads : modes(options.threadMode())) {
+                String mode = virtualThreads ? "virtual" : "platform";
+                System.out.println("Uygulama başlatılıyor (threads=" + mode + ")...");
+                try (AppUnderTest app = AppUnderTest.start(virtualThreads)) {
+                    System.out.printf("Hazır: %s, %d sn ısınma + %d sn ölçüm%n", app.baseUrl(),
+                            options.warmup().toSeconds(), options.duration().toSeconds());
+                    runs.add(generator.run(app.baseUrl(), mode));
+                }
+            }
+        }
+
+        LoadReport report = new LoadReport(Instant.now(), describeMix(options.mix()), options.seed(), runs);
+        report.print(System.out);
+        report.write(options.report());
+        System.out.println("\nRapor: " + options.report().toAbsolutePath());
+
+        if (options.baseline() != null) {
+            List<String> regressions = report.regressionsAgainst(LoadReport.read(options.baseline()),
+                    options.maxRegression());
+            if (!regressions.isEmpty()) {
+                System.out.println("\nBaseline'a göre regresyon (" + options.baseline() + "):");
+                regressions.forEach(line -> System.out.println(" - " + line));
+                System.exit(1);
+            }
+            System.out.println("Baseline ile karşılaştırma: regresyon yok (" + options.baseline() + ")");
+        }
+    }
+
+    private static boolean[] modes(LoadTestOptions.ThreadMode threadMode) {
+        return switch (threadMode) {
+            case PLATFORM -> new boolean[] { false };
+            case VIRTUAL -> new boolean[] { true };
+            case BOTH -> new boolean[] { false, true };
+        };
+    }
+
+    private static String describeMix(Map<Endpoint, Integer> mix) {
+        return mix.entrySet().stream()
+                .map(entry -> entry.getKey().key() + "=" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+}
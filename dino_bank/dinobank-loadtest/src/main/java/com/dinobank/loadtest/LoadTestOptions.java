@@ -0,0 +1,98 @@
+package com.dinobank.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Harness seçenekleri. Tümü --anahtar=değer biçiminde verilir:
+ *
+ * --rate=100 saniyedeki ortalama istek sayısı (açık model, Poisson varış)
+ * --duration=60 ölçüm süresi (sn)
+ * --warmup=15 ölçüme dahil edilmeyen ısınma süresi (sn)
+ * --mix=login=5,summary=30,... uç nokta ağırlıkları
+ * --threads=platform|virtual|both uygulamanın thread modeli
+ * --base-url=http://... verilirse uygulama başlatılmaz, mevcut sunucu kullanılır
+ * --max-in-flight=2000 aynı anda açık istek sınırı (aşılırsa "dropped")
+ * --report=target/load-report.json rapor dosyası
+ * --baseline=... karşılaştırılacak önceki rapor
+ * --max-regression=0.10 p99 için izin verilen oransal kötüleşme
+ * --seed=42 trafik üreticisi tohumu (aynı tohum = aynı istek dizisi)
+ */
+record LoadTestOptions(
+        double rate,
+        Duration duration,
+        Duration warmup,
+        Map<Endpoint, Integer> mix,
+        ThreadMode threadMode,
+        String baseUrl,
+        int maxInFlight,
+        Path report,
+        Path baseline,
+        double maxRegression,
+        long seed) {
+
+    static final String DEFAULT_MIX = "login=5,summary=30,history=30,transfer=20,deposit=10,credit=5";
+
+    enum ThreadMode {
+        PLATFORM, VIRTUAL, BOTH
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Geçersiz argüman: " + arg + " (beklenen: --anahtar=değer)");
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Double.parseDouble(values.getOrDefault("rate", "100")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15"))),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                ThreadMode.valueOf(values.getOrDefault("threads", "platform").toUpperCase()),
+                values.get("base-url"),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+                Path.of(values.getOrDefault("report", "target/load-report.json")),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null,
+                Double.parseDouble(values.getOrDefault("max-regression", "0.10")),
+                Long.parseLong(values.getOrDefault("seed", "42")));
+
+        if (options.rate() <= 0) {
+            throw new IllegalArgumentException("--rate pozitif olmalı");
+        }
+        if (options.baseUrl() != null && options.threadMode() == ThreadMode.BOTH) {
+            throw new IllegalArgumentException("--threads=both yalnızca harness uygulamayı kendisi başlattığında kullanılabilir");
+        }
+        return options;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String spec) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Geçersiz mix girdisi: " + part);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix ağırlığı negatif olamaz: " + part);
+            }
+            if (weight > 0) {
+                mix.put(Endpoint.fromKey(kv[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix en az bir uç nokta içermeli");
+        }
+        return mix;
+    }
+}
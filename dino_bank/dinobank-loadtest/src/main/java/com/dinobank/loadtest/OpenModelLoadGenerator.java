@@ -0,0 +1,140 @@
+package com.dinobank.loadtest;
+
+import java.net.ConnectException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * AÇIK MODEL YÜK ÜRETİCİ
+ *
+ * İstekler yanıtları beklemeden sabit bir ortalama hızla gönderilir
+ * (Poisson varış: üstel dağılımlı aralıklar). Sunucu yavaşlarsa açık istek
+ * kuyruğu büyür; kapalı modeldeki gibi üretici de yavaşlayıp gecikmeyi
+ * gizlemez.
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ Gecikme = yanıt anı - isteğin GÖNDERİLMESİ GEREKEN an │
+ * │ Isınma : planlanan istekler gönderilir ama kaydedilmez │
+ * │ Taşma : açık istek > maxInFlight ise "dropped" sayılır │
+ * └─────────────────────────────────────────────────────────────────┘
+ */
+final class OpenModelLoadGenerator {
+
+    private static final Duration DRAIN_TIMEOUT = Endpoint.REQUEST_TIMEOUT.plusSeconds(5);
+
+    private final LoadTestOptions options;
+
+    OpenModelLoadGenerator(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    LoadReport.RunResult run(String baseUrl, String mode) {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        options.mix().keySet().forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+        Endpoint[] endpoints = options.mix().keySet().toArray(Endpoint[]::new);
+        int[] cumulativeWeights = cumulativeWeights(endpoints);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Random random = new Random(options.seed());
+        AtomicInteger inFlight = new AtomicInteger();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        long next = start;
+
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long intended = next;
+            next += (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos);
+
+            Endpoint endpoint = pick(endpoints, cumulativeWeights, random);
+            boolean measured = intended >= measureFrom;
+            EndpointStats endpointStats = stats.get(endpoint);
+
+            if (inFlight.get() >= options.maxInFlight()) {
+                if (measured) {
+                    endpointStats.recordError("dropped", 0);
+                }
+                continue;
+            }
+
+            inFlight.incrementAndGet();
+            client.sendAsync(endpoint.request(baseUrl, random).timeout(Endpoint.REQUEST_TIMEOUT).build(),
+                            HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long latency = System.nanoTime() - intended;
+                        inFlight.decrementAndGet();
+                        if (!measured) {
+                            return;
+                        }
+                        if (failure != null) {
+                            endpointStats.recordError(classify(failure), latency);
+                        } else if (response.statusCode() / 100 != 2) {
+                            endpointStats.recordError("http_" + response.statusCode(), latency);
+                        } else {
+                            endpointStats.recordSuccess(latency);
+                        }
+                    });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+
+        double measuredSeconds = options.duration().toMillis() / 1000.0;
+        Map<String, LoadReport.EndpointResult> results = new LinkedHashMap<>();
+        stats.forEach((endpoint, s) -> results.put(endpoint.key(), s.toResult(measuredSeconds)));
+        return new LoadReport.RunResult(mode, options.rate(), measuredSeconds, results);
+    }
+
+    private int[] cumulativeWeights(Endpoint[] endpoints) {
+        int[] cumulative = new int[endpoints.length];
+        int sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += options.mix().get(endpoints[i]);
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    private static Endpoint pick(Endpoint[] endpoints, int[] cumulativeWeights, Random random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    private static String classify(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof HttpTimeoutException) {
+            return "timeout";
+        }
+        if (cause instanceof ConnectException) {
+            return "connect";
+        }
+        return cause.getClass().getSimpleName();
+    }
+}
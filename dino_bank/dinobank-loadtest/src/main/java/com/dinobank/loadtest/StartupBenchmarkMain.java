@@ -0,0 +1,271 @@
+package com.dinobank.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Açılış süresi benchmark'ı: her mod için uygulamayı ayrı bir JVM'de
+ * H2 ile başlatır ve süreç başlatıldığı andan ilk başarılı isteğe
+ * (GET /api/accounts/summary/1 → 200) kadar geçen süreyi ölçer.
+ *
+ * 1. Çalıştırılabilir jar target/startup-bench/app altına açılır; AppCDS
+ * yalnızca jar'lardan oluşan sabit bir classpath ile çalışır
+ * 2. CDS modları için H2'li classpath ile bir eğitim çalıştırması yapılır
+ * 3. CRaC modu için bir checkpoint alınır, her çalıştırma ondan geri yükler
+ * 4. Her mod --runs kez ölçülür; medyan/min/max yazdırılır ve JSON'a kaydedilir
+ *
+ * Seçenekler (--anahtar=değer):
+ * --jar=../dinobank/target/dinobank-0.0.1-SNAPSHOT-exec.jar
+ * --runs=5
+ * --modes=default,lazy,cds,aot,aot+cds+lazy,crac
+ * --report=target/startup-report.json
+ *
+ * Örnek (dino_bank dizininden; AOT modları için dinobank -Pstartup ile derlenir):
+ * mvn -Pstartup,startup-bench -pl dinobank-loadtest -am verify -DskipTests
+ */
+public final class StartupBenchmarkMain {
+
+    private static final String MAIN_CLASS = "com.dinobank.DinoBankApplication";
+    private static final String AOT_INITIALIZER = "com/dinobank/DinoBankApplication__ApplicationContextInitializer.class";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(180);
+    private static final Pattern STARTED = Pattern.compile("Started DinoBankApplication in ([0-9.]+) seconds");
+    private static final Path WORK_DIR = Path.of("target", "startup-bench");
+
+    private final Path classpathJar;
+    private final String classpath;
+    private final Path cdsArchive = WORK_DIR.resolve("dinobank-h2.jsa");
+    private final Path cracImage = WORK_DIR.resolve("crac");
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private int cracPort;
+
+    private StartupBenchmarkMain(Path classpathJar, Path h2Jar) {
+        this.classpathJar = classpathJar;
+        this.classpath = classpathJar + java.io.File.pathSeparator + h2Jar;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        Path jar = Path.of(options.getOrDefault("jar", "../dinobank/target/dinobank-0.0.1-SNAPSHOT-exec.jar"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        List<StartupMode> modes = options.containsKey("modes")
+                ? Arrays.stream(options.get("modes").split(",")).map(String::trim).map(StartupMode::fromKey).toList()
+                : List.of(StartupMode.values());
+        Path reportPath = Path.of(options.getOrDefault("report", "target/startup-report.json"));
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("Jar bulunamadı: " + jar.toAbsolutePath()
+                    + " (önce: mvn -pl dinobank package -DskipTests)");
+        }
+        if (runs < 1) {
+            throw new IllegalArgumentException("--runs en az 1 olmalı");
+        }
+
+        Path appDir = WORK_DIR.resolve("app");
+        System.out.println("Jar açılıyor: " + jar + " → " + appDir);
+        exec(List.of(java(), "-Djarmode=tools", "-jar", jar.toString(), "extract", "--force",
+                "--destination", appDir.toString()), WORK_DIR.resolve("extract.log"));
+        StartupBenchmarkMain benchmark = new StartupBenchmarkMain(appDir.resolve(jar.getFileName()), h2Jar());
+
+        List<StartupReport.ModeResult> results = new ArrayList<>();
+        for (StartupMode mode : modes) {
+            String skipReason = benchmark.prepare(mode);
+            if (skipReason != null) {
+                System.out.println(mode.key() + ": atlandı (" + skipReason + ")");
+                results.add(StartupReport.ModeResult.skipped(mode, skipReason));
+                continue;
+            }
+            List<Double> firstRequest = new ArrayList<>();
+            List<Double> springStarted = new ArrayList<>();
+            for (int run = 1; run <= runs; run++) {
+                double[] measured = benchmark.measure(mode, run);
+                firstRequest.add(measured[0]);
+                if (!Double.isNaN(measured[1])) {
+                    springStarted.add(measured[1]);
+                }
+                System.out.printf("%s #%d: ilk istek %.0f ms%n", mode.key(), run, measured[0]);
+            }
+            results.add(StartupReport.ModeResult.of(mode, firstRequest, springStarted));
+        }
+
+        StartupReport report = new StartupReport(Instant.now(), Runtime.version().toString(), runs, results);
+        report.print(System.out);
+        report.write(reportPath);
+        System.out.println("\nRapor: " + reportPath.toAbsolutePath());
+    }
+
+    /** Modun ön koşullarını hazırlar; çalıştırılamıyorsa sebebini döner */
+    private String prepare(StartupMode mode) throws IOException, InterruptedException {
+        if (mode.usesAot() && !containsEntry(classpathJar, AOT_INITIALIZER)) {
+            return "jar Spring AOT ile derlenmemiş (dinobank -Pstartup ile derlenmeli)";
+        }
+        if (mode.usesCds() && !Files.exists(cdsArchive)) {
+            System.out.println("AppCDS eğitim çalıştırması: " + cdsArchive);
+            List<String> command = new ArrayList<>(List.of(java(), "-XX:ArchiveClassesAtExit=" + cdsArchive,
+                    "-Dspring.context.exit=onRefresh", "-cp", classpath, MAIN_CLASS, "--server.port=0"));
+            command.addAll(AppUnderTest.h2Arguments());
+            command.add("--logging.level.root=WARN");
+            exec(command, WORK_DIR.resolve("cds-training.log"));
+        }
+        if (mode == StartupMode.CRAC) {
+            return prepareCrac();
+        }
+        return null;
+    }
+
+    private String prepareCrac() throws IOException, InterruptedException {
+        Process probe = new ProcessBuilder(java(), "-XX:CRaCCheckpointTo=" + cracImage, "-version")
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        if (probe.waitFor() != 0) {
+            return "JDK CRaC desteklemiyor (ör. Azul Zulu CRaC gerekir)";
+        }
+        try (Stream<Path> libs = Files.list(classpathJar.resolveSibling("lib"))) {
+            if (libs.noneMatch(lib -> lib.getFileName().toString().startsWith("crac-"))) {
+                return "org.crac jar'da yok (dinobank -Pstartup ile derlenmeli)";
+            }
+        }
+        if (Files.exists(cracImage)) {
+            try (Stream<Path> files = Files.walk(cracImage)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+        // Checkpoint context yenilendiğinde (migration + bean'ler hazır, web sunucusu açılmadan) alınır;
+        // geri yüklenen süreç aynı portu kullanır
+        cracPort = AppUnderTest.freePort();
+        System.out.println("CRaC checkpoint alınıyor: " + cracImage);
+        List<String> command = new ArrayList<>(List.of(java(), "-XX:CRaCCheckpointTo=" + cracImage,
+                "-Dspring.context.checkpoint=onRefresh", "-cp", classpath, MAIN_CLASS, "--server.port=" + cracPort));
+        command.addAll(AppUnderTest.h2Arguments());
+        command.add("--logging.level.root=WARN");
+        Process checkpoint = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(WORK_DIR.resolve("crac-checkpoint.log").toFile())
+                .start();
+        if (!checkpoint.waitFor(STARTUP_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            checkpoint.destroyForcibly().waitFor();
+            return "checkpoint zaman aşımına uğradı, log: " + WORK_DIR.resolve("crac-checkpoint.log");
+        }
+        try (Stream<Path> files = Files.list(cracImage)) {
+            if (files.findAny().isEmpty()) {
+                return "checkpoint alınamadı, log: " + WORK_DIR.resolve("crac-checkpoint.log");
+            }
+        }
+        return null;
+    }
+
+    /** @return { ilk başarılı isteğe kadar ms, Spring "Started" ms (yoksa NaN) } */
+    private double[] measure(StartupMode mode, int run) throws IOException, InterruptedException {
+        int port = mode == StartupMode.CRAC ? cracPort : AppUnderTest.freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        if (mode == StartupMode.CRAC) {
+            command.add("-XX:CRaCRestoreFrom=" + cracImage);
+        } else {
+            command.addAll(mode.jvmArguments(cdsArchive.toString()));
+            command.addAll(List.of("-cp", classpath, MAIN_CLASS, "--server.port=" + port));
+            command.addAll(AppUnderTest.h2Arguments());
+            command.add("--logging.level.root=WARN");
+            command.add("--logging.level." + MAIN_CLASS + "=INFO");
+            command.addAll(mode.applicationArguments());
+        }
+        Path log = WORK_DIR.resolve("startup-" + mode.key().replace('+', '-') + "-" + run + ".log");
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/accounts/summary/1"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.key() + " başlatılamadı, log: " + log.toAbsolutePath());
+                }
+                try {
+                    if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+                        return new double[] { elapsedMs, springStartedMs(log) };
+                    }
+                } catch (IOException ignored) {
+                    // Sunucu henüz dinlemiyor
+                }
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            throw new IllegalStateException(mode.key() + " " + STARTUP_TIMEOUT.toSeconds()
+                    + " sn içinde hazır olmadı, log: " + log.toAbsolutePath());
+        } finally {
+            process.destroy();
+            if (!process.waitFor(15, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static double springStartedMs(Path log) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(log));
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) * 1000 : Double.NaN;
+    }
+
+    private static void exec(List<String> command, Path log) throws IOException, InterruptedException {
+        Files.createDirectories(log.toAbsolutePath().getParent());
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Komut başarısız (" + process.exitValue() + "), log: " + log.toAbsolutePath());
+        }
+    }
+
+    private static boolean containsEntry(Path jar, String entry) throws IOException {
+        try (JarFile file = new JarFile(jar.toFile())) {
+            return file.getEntry(entry) != null;
+        }
+    }
+
+    private static Path h2Jar() throws URISyntaxException {
+        return Path.of(org.h2.Driver.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Geçersiz argüman: " + arg + " (beklenen: --anahtar=değer)");
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return values;
+    }
+}
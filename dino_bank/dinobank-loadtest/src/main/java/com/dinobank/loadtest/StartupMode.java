@@ -0,0 +1,73 @@
+package com.dinobank.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Açılış benchmark'ında karşılaştırılan modlar. Her mod uygulamaya
+ * eklenen JVM ve Spring argümanlarıyla tanımlanır; CRaC ayrıca
+ * önceden alınmış bir checkpoint'ten geri yükleme yapar.
+ */
+enum StartupMode {
+
+    /** Açılmış (extract) jar, ek ayar yok: karşılaştırma tabanı */
+    DEFAULT("default", false, false, false),
+    /** fast-startup profili: lazy initialization + arka planda DataSeeder */
+    LAZY("lazy", false, false, true),
+    /** Eğitim çalıştırmasıyla üretilmiş AppCDS arşivi */
+    CDS("cds", true, false, false),
+    /** Derleme anında üretilmiş Spring AOT bean tanımları (-Pstartup ile derlenmiş jar gerekir) */
+    AOT("aot", false, true, false),
+    /** Üçü birlikte */
+    AOT_CDS_LAZY("aot+cds+lazy", true, true, true),
+    /** CRaC checkpoint'inden geri yükleme (CRaC destekli JDK + -Pstartup ile gelen org.crac gerekir) */
+    CRAC("crac", false, false, false);
+
+    private final String key;
+    private final boolean cds;
+    private final boolean aot;
+    private final boolean lazy;
+
+    StartupMode(String key, boolean cds, boolean aot, boolean lazy) {
+        this.key = key;
+        this.cds = cds;
+        this.aot = aot;
+        this.lazy = lazy;
+    }
+
+    String key() {
+        return key;
+    }
+
+    boolean usesCds() {
+        return cds;
+    }
+
+    boolean usesAot() {
+        return aot;
+    }
+
+    List<String> jvmArguments(String cdsArchive) {
+        List<String> arguments = new ArrayList<>();
+        if (cds) {
+            arguments.add("-XX:SharedArchiveFile=" + cdsArchive);
+        }
+        if (aot) {
+            arguments.add("-Dspring.aot.enabled=true");
+        }
+        return arguments;
+    }
+
+    List<String> applicationArguments() {
+        return lazy ? List.of("--spring.profiles.active=fast-startup") : List.of();
+    }
+
+    static StartupMode fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Bilinmeyen mod: " + key + " (geçerli: "
+                        + Arrays.stream(values()).map(StartupMode::key).toList() + ")"));
+    }
+}
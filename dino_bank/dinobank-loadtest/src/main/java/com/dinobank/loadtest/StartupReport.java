@@ -0,0 +1,81 @@
+package com.dinobank.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Açılış benchmark'ı raporu. Her mod için ilk başarılı isteğe kadar geçen
+ * süreler (ms, süreç başlatma anından itibaren) ve Spring'in kendi
+ * "Started ... in X seconds" ölçümü tutulur. Atlanan modlarda sebep yazılır.
+ */
+record StartupReport(Instant generatedAt, String javaVersion, int runs, List<ModeResult> modes) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    record ModeResult(
+            String mode,
+            String skipped,
+            List<Double> timeToFirstRequestMs,
+            double medianMs,
+            double minMs,
+            double maxMs,
+            double springStartedMedianMs) {
+
+        static ModeResult skipped(StartupMode mode, String reason) {
+            return new ModeResult(mode.key(), reason, List.of(), Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+        }
+
+        static ModeResult of(StartupMode mode, List<Double> timeToFirstRequestMs, List<Double> springStartedMs) {
+            List<Double> sorted = timeToFirstRequestMs.stream().sorted().toList();
+            return new ModeResult(mode.key(), null, timeToFirstRequestMs, median(sorted), sorted.get(0),
+                    sorted.get(sorted.size() - 1), median(springStartedMs.stream().sorted().toList()));
+        }
+
+        private static double median(List<Double> sorted) {
+            if (sorted.isEmpty()) {
+                return Double.NaN;
+            }
+            int middle = sorted.size() / 2;
+            return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+        }
+    }
+
+    void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        MAPPER.writeValue(path.toFile(), this);
+    }
+
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%n=== İlk isteğe kadar geçen süre (Java %s, mod başına %d çalıştırma) ===%n",
+                javaVersion, runs);
+        out.printf(Locale.ROOT, "%-14s %10s %10s %10s %12s %10s%n",
+                "mod", "medyan ms", "min ms", "max ms", "Started ms", "taban/mod");
+        double baseline = modes.stream()
+                .filter(result -> result.skipped() == null && result.mode().equals(StartupMode.DEFAULT.key()))
+                .mapToDouble(ModeResult::medianMs)
+                .findFirst()
+                .orElse(Double.NaN);
+        for (ModeResult result : modes) {
+            if (result.skipped() != null) {
+                out.printf(Locale.ROOT, "%-14s atlandı: %s%n", result.mode(), result.skipped());
+                continue;
+            }
+            out.printf(Locale.ROOT, "%-14s %10.0f %10.0f %10.0f %12.0f %9.2fx%n", result.mode(), result.medianMs(),
+                    result.minMs(), result.maxMs(), result.springStartedMedianMs(), baseline / result.medianMs());
+        }
+    }
+}
@@ -2,13 +2,21 @@ package com.dinobank.CreditApplication.service;
 
 import com.dinobank.CreditApplication.dto.CreditEvaluationDto;
 import com.dinobank.CreditApplication.dto.CreditRequestDto;
+import com.dinobank.account.service.AccountVersionRegistry;
+import com.dinobank.metrics.BusinessMetrics;
 import java.math.BigDecimal;
 import com.dinobank.model.Account;
 import com.dinobank.model.CreditApplication;
 import com.dinobank.model.Customer;
+import com.dinobank.model.Transaction;
+import com.dinobank.outbox.DomainEvents;
+import com.dinobank.outbox.OutboxEventType;
+import com.dinobank.outbox.OutboxWriter;
 import com.dinobank.repository.AccountRepository;
 import com.dinobank.repository.CreditApplicationRepository;
 import com.dinobank.repository.CustomerRepository;
+import com.dinobank.repository.TransactionRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,8 +53,12 @@ import java.util.List;
  * @see CreditApplicationRepository
  */
 @Service // Spring'e bu sınıfın bir Service bean'i olduğunu bildirir
+@Timed(value = "dinobank.service", percentiles = { 0.5, 0.95, 0.99 }, histogram = true)
 public class CreditService {
 
+    /** Kredi limiti çarpanı: Toplam Bakiye × 4 */
+    private static final BigDecimal CREDIT_LIMIT_MULTIPLIER = new BigDecimal("4");
+
     // =========================================================================
     // BAĞIMLILIKLAR (Dependencies) - Constructor Injection ile enjekte edilir
     // =========================================================================
@@ -60,6 +72,18 @@ public class CreditService {
     /** Hesap bilgilerine erişim için repository */
     private final AccountRepository accountRepository;
 
+    /** Bakiye değişince hesap özeti/geçmiş ETag'lerini geçersiz kılar */
+    private final AccountVersionRegistry accountVersionRegistry;
+
+    /** Onay/red sayaçları */
+    private final BusinessMetrics businessMetrics;
+
+    /** Karar ve kredi yatırma olaylarını aynı transaction'da çıkış kutusuna ekler */
+    private final OutboxWriter outboxWriter;
+
+    /** Kredi yatırma işleminin (CREDIT) defter kaydı */
+    private final TransactionRepository transactionRepository;
+
     /**
      * CONSTRUCTOR - Bağımlılık Enjeksiyonu (Dependency Injection)
      * 
@@ -72,13 +96,25 @@ public class CreditService {
      * @param creditRepository   Kredi başvuru veritabanı işlemleri
      * @param customerRepository Müşteri veritabanı işlemleri
      * @param accountRepository  Hesap veritabanı işlemleri
+     * @param accountVersionRegistry Hesap değişiklik versiyonları
+     * @param businessMetrics    Kredi kararı sayaçları
+     * @param outboxWriter       Alan olayı yazıcısı
+     * @param transactionRepository İşlem kayıtları
      */
     public CreditService(CreditApplicationRepository creditRepository,
             CustomerRepository customerRepository,
-            AccountRepository accountRepository) {
+            AccountRepository accountRepository,
+            AccountVersionRegistry accountVersionRegistry,
+            BusinessMetrics businessMetrics,
+            OutboxWriter outboxWriter,
+            TransactionRepository transactionRepository) {
         this.creditRepository = creditRepository;
         this.customerRepository = customerRepository;
         this.accountRepository = accountRepository;
+        this.accountVersionRegistry = accountVersionRegistry;
+        this.businessMetrics = businessMetrics;
+        this.outboxWriter = outboxWriter;
+        this.transactionRepository = transactionRepository;
     }
 
     /**
@@ -97,6 +133,7 @@ public class CreditService {
      * │ 4. Limit yeterliyse: ONAYLA ve parayı ilk hesaba yatır │
      * │ 5. Limit yetersizse: REDDET ve sebebini kaydet │
      * │ 6. Başvuruyu veritabanına kaydet ve sonucu döndür │
+     * │ 7. CREDIT_DECIDED (+ onaydaysa CREDIT_DISBURSED) olayı ekle │
      * └─────────────────────────────────────────────────────────────────┘
      * 
      * @Transactional: Tüm işlemler tek bir veritabanı transaction'ında
@@ -114,12 +151,8 @@ public class CreditService {
         Customer customer = customerRepository.findById(request.getCustomerId())
                 .orElseThrow(() -> new RuntimeException("Müşteri bulunamadı!"));
 
-        // ADIM 2: Müşterinin toplam bakiyesini hesapla
-        // Tüm hesapları getir ve bakiyelerini topla
-        List<Account> accounts = accountRepository.findByCustomer(customer);
-        BigDecimal totalBalance = accounts.stream()
-                .map(Account::getBalance) // Her hesabın bakiyesini al
-                .reduce(BigDecimal.ZERO, BigDecimal::add); // Topla
+        // ADIM 2: Müşterinin tüm hesaplarını getir (kilitli: kredi ilk hesaba mutlak bakiye olarak yazılır)
+        List<Account> accounts = accountRepository.findByCustomerForUpdate(customer);
 
         // ADIM 3: Yeni başvuru kaydı oluştur
         CreditApplication application = new CreditApplication();
@@ -131,7 +164,8 @@ public class CreditService {
 
         // ADIM 4: Kredi limitini hesapla ve karar ver
         // KURAL: Toplam Bakiye × 4 = Maksimum Kredi Limiti
-        BigDecimal limit = totalBalance.multiply(new BigDecimal("4"));
+        BigDecimal limit = calculateCreditLimit(accounts);
+        Account targetAccount = null;
 
         // Limit yeterli mi? (limit >= talep edilen tutar)
         if (limit.compareTo(request.getRequestedAmount()) >= 0) {
@@ -141,10 +175,11 @@ public class CreditService {
 
             // Kredi tutarını müşterinin ilk hesabına yatır
             if (!accounts.isEmpty()) {
-                Account targetAccount = accounts.get(0); // İlk hesabı kullan
+                targetAccount = accounts.get(0); // İlk hesabı kullan
                 targetAccount.setBalance(
                         targetAccount.getBalance().add(request.getRequestedAmount()));
                 accountRepository.save(targetAccount); // Güncel bakiyeyi kaydet
+                accountVersionRegistry.bumpAfterCommit(targetAccount);
             }
             // NOT: Hesap yoksa para yatırılamaz, ama bakiye 0 ise zaten limit de 0'dır
         } else {
@@ -155,8 +190,24 @@ public class CreditService {
             application.setEvaluationDate(LocalDateTime.now());
         }
 
-        // ADIM 5: Başvuruyu veritabanına kaydet ve döndür
-        return creditRepository.save(application);
+        businessMetrics.creditDecision(application.getStatus(), false);
+
+        // ADIM 5: Başvuruyu veritabanına kaydet, olayları ekle ve döndür
+        CreditApplication saved = creditRepository.save(application);
+        publishDecision(saved, recordDisbursement(saved, targetAccount));
+        return saved;
+    }
+
+    /**
+     * Müşterinin kredi limiti: tüm hesap bakiyelerinin toplamı × 4.
+     * Veritabanına dokunmaz; benchmark modülü de doğrudan bunu ölçer.
+     */
+    public static BigDecimal calculateCreditLimit(List<Account> accounts) {
+        BigDecimal totalBalance = BigDecimal.ZERO;
+        for (Account account : accounts) {
+            totalBalance = totalBalance.add(account.getBalance());
+        }
+        return totalBalance.multiply(CREDIT_LIMIT_MULTIPLIER);
     }
 
     /**
@@ -197,20 +248,64 @@ public class CreditService {
         application.setEvaluationDate(LocalDateTime.now()); // Değerlendirme zamanı
 
         // Eğer onaylandıysa, parayı müşterinin hesabına aktar
+        Account targetAccount = null;
         if ("APPROVED".equals(evaluation.getResult())) {
-            List<Account> accounts = accountRepository.findByCustomer(application.getCustomer());
+            List<Account> accounts = accountRepository.findByCustomerForUpdate(application.getCustomer());
             if (accounts.isEmpty()) {
                 throw new RuntimeException("Müşterinin parayı yatıracak bir hesabı yok!");
             }
 
             // İlk hesaba kredi tutarını ekle
-            Account targetAccount = accounts.get(0);
+            targetAccount = accounts.get(0);
             targetAccount.setBalance(targetAccount.getBalance().add(application.getRequestedAmount()));
             accountRepository.save(targetAccount);
+            accountVersionRegistry.bumpAfterCommit(targetAccount);
         }
 
-        // Güncellenmiş başvuruyu kaydet ve döndür
-        return creditRepository.save(application);
+        businessMetrics.creditDecision(application.getStatus(), true);
+
+        // Güncellenmiş başvuruyu kaydet, olayları ekle ve döndür
+        CreditApplication saved = creditRepository.save(application);
+        publishDecision(saved, recordDisbursement(saved, targetAccount));
+        return saved;
+    }
+
+    /**
+     * Hesaba yatırılan kredinin CREDIT işlem kaydı: bakiye artışı defterde
+     * de görünür (mutabakat işi bakiyeyi işlemlerin netiyle karşılaştırır).
+     *
+     * @return Kayıt; kredi hesaba yatırılmadıysa null
+     */
+    private Transaction recordDisbursement(CreditApplication application, Account targetAccount) {
+        if (targetAccount == null) {
+            return null;
+        }
+        Transaction transaction = new Transaction();
+        transaction.setFromAccount(null);
+        transaction.setToAccount(targetAccount);
+        transaction.setAmount(application.getRequestedAmount());
+        transaction.setCurrency(targetAccount.getCurrency());
+        transaction.setTransactionType("CREDIT");
+        transaction.setDescription("Kredi Kullandırımı (Başvuru #" + application.getId() + ")");
+        transaction.setTransactionDate(application.getEvaluationDate());
+        transaction.setStatus("COMPLETED");
+        return transactionRepository.save(transaction);
+    }
+
+    /**
+     * Karar olayını ve (kredi hesaba yatırıldıysa) bakiye hareketi olayını
+     * çıkış kutusuna ekler.
+     */
+    private void publishDecision(CreditApplication application, Transaction disbursement) {
+        LocalDateTime decidedAt = application.getEvaluationDate();
+        Long customerId = application.getCustomer().getId();
+        outboxWriter.append(OutboxEventType.CREDIT_DECIDED, customerId,
+                new DomainEvents.CreditDecided(application.getId(), customerId, application.getStatus(),
+                        application.getRequestedAmount(), application.getRejectionReason(), decidedAt));
+        if (disbursement != null) {
+            DomainEvents.MoneyMoved event = DomainEvents.MoneyMoved.of(disbursement);
+            outboxWriter.append(OutboxEventType.CREDIT_DISBURSED, event.aggregateId(), event);
+        }
     }
 
     /**
@@ -242,6 +337,7 @@ public class CreditService {
      * @param customerId Geçmişi görüntülenecek müşterinin ID'si
      * @return Müşterinin tüm kredi başvurularının listesi
      */
+    @Transactional(readOnly = true)
     public List<CreditApplication> getHistory(Long customerId) {
         return creditRepository.findByCustomerId(customerId);
     }
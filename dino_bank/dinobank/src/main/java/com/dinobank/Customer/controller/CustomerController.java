@@ -3,7 +3,9 @@ package com.dinobank.Customer.controller;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.dinobank.Customer.dto.CustomerImportResultDto;
 import com.dinobank.Customer.dto.CustomerRequestDto;
+import com.dinobank.Customer.service.CustomerImportService;
 import com.dinobank.Customer.service.CustomerService;
 
 import java.util.List;
@@ -13,9 +15,11 @@ import java.util.List;
 public class CustomerController {
 
     private final CustomerService customerService;
+    private final CustomerImportService customerImportService;
 
-    public CustomerController(CustomerService customerService) {
+    public CustomerController(CustomerService customerService, CustomerImportService customerImportService) {
         this.customerService = customerService;
+        this.customerImportService = customerImportService;
     }
 
     @PostMapping("/register")
@@ -24,10 +28,26 @@ public class CustomerController {
         return ResponseEntity.ok(response);
     }
 
-    //admin paneli veya kontrol için
+    //admin paneli veya kontrol için (sayfalı: /api/customers?page=0&size=50)
     @GetMapping
-    public ResponseEntity<List<CustomerResponseDto>> getAllCustomers() {
-        return ResponseEntity.ok(customerService.getAllCustomers());
+    public ResponseEntity<List<CustomerResponseDto>> getAllCustomers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(customerService.getAllCustomers(page, size));
+    }
+
+    // ad, soyad veya e-posta önekiyle arama (bellek içi indeks)
+    @GetMapping("/search")
+    public ResponseEntity<List<CustomerResponseDto>> searchCustomers(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(customerService.searchCustomers(query, limit));
+    }
+
+    // Eski sistemden toplu müşteri aktarımı (dosya dinobank.import.directory altında olmalı)
+    @PostMapping("/import")
+    public ResponseEntity<CustomerImportResultDto> importCustomers(@RequestParam("file") String fileName) {
+        return ResponseEntity.ok(customerImportService.importFile(fileName));
     }
 }
 
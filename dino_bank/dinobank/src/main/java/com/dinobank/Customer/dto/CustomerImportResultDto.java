@@ -0,0 +1,88 @@
+package com.dinobank.Customer.dto;
+
+import java.util.List;
+
+public class CustomerImportResultDto {
+    private String fileName;
+    private long resumedFromLine;
+    private long processedRows;
+    private long importedRows;
+    private long duplicateRows;
+    private long invalidRows;
+    private List<String> errors;
+
+    public CustomerImportResultDto(String fileName, long resumedFromLine, long processedRows, long importedRows,
+            long duplicateRows, long invalidRows, List<String> errors) {
+        this.fileName = fileName;
+        this.resumedFromLine = resumedFromLine;
+        this.processedRows = processedRows;
+        this.importedRows = importedRows;
+        this.duplicateRows = duplicateRows;
+        this.invalidRows = invalidRows;
+        this.errors = errors;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public long getResumedFromLine() {
+        return resumedFromLine;
+    }
+
+    public void setResumedFromLine(long resumedFromLine) {
+        this.resumedFromLine = resumedFromLine;
+    }
+
+    public long getProcessedRows() {
+        return processedRows;
+    }
+
+    public void setProcessedRows(long processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public long getDuplicateRows() {
+        return duplicateRows;
+    }
+
+    public void setDuplicateRows(long duplicateRows) {
+        this.duplicateRows = duplicateRows;
+    }
+
+    public long getInvalidRows() {
+        return invalidRows;
+    }
+
+    public void setInvalidRows(long invalidRows) {
+        this.invalidRows = invalidRows;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
+
+/**
+ * Burada CustomerImportResultDto sınıfı oluşturulmuştur.
+ * Bu sınıf, toplu müşteri içe aktarımının özet sonucunu taşır.
+ * 
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
@@ -0,0 +1,391 @@
+package com.dinobank.Customer.service;
+
+import com.dinobank.Customer.dto.CustomerImportResultDto;
+import com.dinobank.account.service.AccountNumberAllocator;
+import com.dinobank.repository.CustomerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * =============================================================================
+ * CUSTOMER IMPORT SERVICE - Toplu Müşteri İçe Aktarma
+ * =============================================================================
+ *
+ * Eski çekirdek bankacılık sisteminden gelen müşterileri CSV dosyasından
+ * okuyarak parti (chunk) halinde veritabanına yazar. createCustomer'ın satır
+ * başına yaptığı iki benzersizlik sorgusu, BCrypt ve iki ayrı INSERT yerine:
+ *
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 1. Satırlar paralel doğrulanır (TC, e-posta, tarih) │
+ * │ 2. Dosya içi tekrarlar bellekteki kümelerle elenir │
+ * │ 3. TC / e-posta tekrarları DB'de tek sorguyla kontrol edilir │
+ * │ 4. Şifreler worker havuzunda önceden hashlenir │
+ * │ 5. Müşteri + varsayılan hesap JDBC batch ile yazılır │
+ * │ 6. İşlenen son satır checkpoint dosyasına kaydedilir │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * CSV FORMATI (ilk satır başlık):
+ * tcKimlikNo,ad,soyad,email,telefon,dogumTarihi,adres,sifre
+ *
+ * Şifre alanı tam bir BCrypt hash'i ($2a/$2b/$2y, 2 haneli maliyet, 53
+ * karakterlik tuz+özet) ise tekrar hashlenmez; "$2" ile başlayıp bu biçime
+ * uymayan değerler geçersiz satır sayılır (bozuk hash ile giriş
+ * yapılamayan hesap açılmaz). Uç yalnızca ROLE_ADMIN operatörüne açıktır.
+ * Yarıda kalan bir aktarım aynı dosya adıyla tekrar çağrıldığında
+ * checkpoint'ten devam eder.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Service
+public class CustomerImportService {
+
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    /** Önceden hashlenmiş şifre kabul edilen tek biçim */
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+    private static final String INSERT_CUSTOMER_SQL = "INSERT INTO public.customers "
+            + "(tc_kimlik_no, ad, soyad, email, telefon, dogum_tarihi, adres, sifre, kayit_tarihi, aktif) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, true)";
+
+    // Müşteri ID'si IDENTITY ile üretildiği için hesap satırı TC üzerinden bağlanır
+    private static final String INSERT_ACCOUNT_SQL = "INSERT INTO public.accounts "
+            + "(customer_id, account_number, account_type, balance, currency, opening_date, active) "
+            + "SELECT customer_id, ?, 'VADESIZ', 0, 'TRY', ?, true FROM public.customers WHERE tc_kimlik_no = ?";
+
+    private final CustomerRepository customerRepository;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final CustomerSearchIndex customerSearchIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path importDirectory;
+    private final int batchSize;
+    private final int hashThreads;
+
+    public CustomerImportService(CustomerRepository customerRepository,
+            BCryptPasswordEncoder passwordEncoder,
+            AccountNumberAllocator accountNumberAllocator,
+            CustomerSearchIndex customerSearchIndex,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${dinobank.import.directory:import}") String importDirectory,
+            @Value("${dinobank.import.batch-size:1000}") int batchSize,
+            @Value("${dinobank.import.hash-threads:0}") int hashThreads) {
+        this.customerRepository = customerRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.accountNumberAllocator = accountNumberAllocator;
+        this.customerSearchIndex = customerSearchIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.importDirectory = Paths.get(importDirectory).toAbsolutePath().normalize();
+        this.batchSize = batchSize;
+        this.hashThreads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public CustomerImportResultDto importFile(String fileName) {
+        Path file = importDirectory.resolve(fileName).normalize();
+        if (!file.startsWith(importDirectory) || !Files.isRegularFile(file)) {
+            throw new RuntimeException("İçe aktarılacak dosya bulunamadı: " + fileName);
+        }
+
+        Path checkpoint = file.resolveSibling(file.getFileName() + CHECKPOINT_SUFFIX);
+        ImportProgress progress = new ImportProgress(readCheckpoint(checkpoint));
+        ExecutorService hashPool = Executors.newFixedThreadPool(hashThreads);
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.readLine(); // Başlık satırı
+
+            List<ImportRow> chunk = new ArrayList<>(batchSize);
+            long lineNo = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo <= progress.resumedFromLine || line.isBlank()) {
+                    continue;
+                }
+                chunk.add(new ImportRow(lineNo, line));
+                if (chunk.size() == batchSize) {
+                    processChunk(chunk, lineNo, checkpoint, hashPool, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, lineNo, checkpoint, hashPool, progress);
+            }
+            // Dosya tamamen işlendi; tekrar çalıştırma benzersizlik kontrolüne takılır
+            Files.deleteIfExists(checkpoint);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Dosya okunamadı: " + fileName, e);
+        } finally {
+            hashPool.shutdownNow();
+        }
+
+        return new CustomerImportResultDto(fileName, progress.resumedFromLine, progress.processed,
+                progress.imported, progress.duplicates, progress.invalid, progress.errors);
+    }
+
+    private void processChunk(List<ImportRow> chunk, long lastLineNo, Path checkpoint,
+            ExecutorService hashPool, ImportProgress progress) {
+        progress.processed += chunk.size();
+
+        // ADIM 1: Satırları paralel ayrıştır ve doğrula
+        chunk.parallelStream().forEach(ImportRow::parseAndValidate);
+
+        // ADIM 2: Dosya içi tekrarları ele (sıra korunur, ilk gelen kazanır)
+        List<ImportRow> candidates = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (row.error != null) {
+                progress.reject(row, false);
+            } else if (progress.seenTc.contains(row.tcKimlikNo) || progress.seenEmail.contains(row.email)) {
+                row.error = "Dosya içinde tekrar eden TC veya e-posta";
+                progress.reject(row, true);
+            } else {
+                progress.seenTc.add(row.tcKimlikNo);
+                progress.seenEmail.add(row.email);
+                candidates.add(row);
+            }
+        }
+
+        // ADIM 3: Veritabanında zaten kayıtlı olanları tek sorguda bul
+        if (!candidates.isEmpty()) {
+            Set<String> existingTc = new HashSet<>(customerRepository.findExistingTcKimlikNos(
+                    candidates.stream().map(r -> r.tcKimlikNo).collect(Collectors.toList())));
+            Set<String> existingEmail = new HashSet<>(customerRepository.findExistingEmails(
+                    candidates.stream().map(r -> r.email).collect(Collectors.toList())));
+            candidates.removeIf(row -> {
+                if (existingTc.contains(row.tcKimlikNo) || existingEmail.contains(row.email)) {
+                    row.error = "TC veya e-posta zaten kayıtlı";
+                    progress.reject(row, true);
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        // ADIM 4: Şifreleri worker havuzunda hashle
+        hashPasswords(candidates, hashPool);
+
+        // ADIM 5: Müşteri ve hesapları tek transaction'da batch olarak yaz
+        if (!candidates.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(candidates));
+            progress.imported += candidates.size();
+            customerSearchIndex.addAll(customerRepository.findProjectedByEmailIn(
+                    candidates.stream().map(r -> r.email).collect(Collectors.toList())));
+        }
+
+        // ADIM 6: Commit sonrası checkpoint
+        writeCheckpoint(checkpoint, lastLineNo);
+    }
+
+    private void hashPasswords(List<ImportRow> rows, ExecutorService hashPool) {
+        List<Future<?>> futures = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (BCRYPT_HASH.matcher(row.sifre).matches()) {
+                row.sifreHash = row.sifre;
+            } else {
+                futures.add(hashPool.submit(() -> row.sifreHash = passwordEncoder.encode(row.sifre)));
+            }
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Şifre hashleme kesintiye uğradı!", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Şifre hashlenemedi!", e.getCause());
+        }
+    }
+
+    private void insertBatch(List<ImportRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date today = Date.valueOf(LocalDate.now());
+
+        jdbcTemplate.batchUpdate(INSERT_CUSTOMER_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.tcKimlikNo);
+            ps.setString(2, row.ad);
+            ps.setString(3, row.soyad);
+            ps.setString(4, row.email);
+            ps.setString(5, row.telefon);
+            ps.setDate(6, Date.valueOf(row.dogumTarihi));
+            ps.setString(7, row.adres);
+            ps.setString(8, row.sifreHash);
+            ps.setDate(9, today);
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_ACCOUNT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, accountNumberAllocator.nextAccountNumber());
+            ps.setTimestamp(2, now);
+            ps.setString(3, row.tcKimlikNo);
+        });
+    }
+
+    private long readCheckpoint(Path checkpoint) {
+        try {
+            return Files.exists(checkpoint) ? Long.parseLong(Files.readString(checkpoint).trim()) : 0L;
+        } catch (IOException | NumberFormatException e) {
+            throw new RuntimeException("Checkpoint dosyası okunamadı: " + checkpoint, e);
+        }
+    }
+
+    private void writeCheckpoint(Path checkpoint, long lineNo) {
+        try {
+            Path tmp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+            Files.writeString(tmp, Long.toString(lineNo));
+            Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Checkpoint yazılamadı: " + checkpoint, e);
+        }
+    }
+
+    /**
+     * Basit CSV ayrıştırıcı: virgülle ayrılmış alanlar, çift tırnak içindeki
+     * virgüller ve "" kaçışı desteklenir.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(8);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString().trim());
+        return fields;
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /** Tek bir CSV satırının ayrıştırılmış hali ve işlem durumu */
+    private static final class ImportRow {
+        private final long lineNo;
+        private final String raw;
+        private String tcKimlikNo;
+        private String ad;
+        private String soyad;
+        private String email;
+        private String telefon;
+        private LocalDate dogumTarihi;
+        private String adres;
+        private String sifre;
+        private String sifreHash;
+        private String error;
+
+        private ImportRow(long lineNo, String raw) {
+            this.lineNo = lineNo;
+            this.raw = raw;
+        }
+
+        private void parseAndValidate() {
+            List<String> fields = splitCsv(raw);
+            if (fields.size() < 8) {
+                error = "Eksik kolon (beklenen 8, bulunan " + fields.size() + ")";
+                return;
+            }
+            tcKimlikNo = fields.get(0);
+            ad = fields.get(1);
+            soyad = fields.get(2);
+            email = fields.get(3);
+            telefon = emptyToNull(fields.get(4));
+            adres = emptyToNull(fields.get(6));
+            sifre = fields.get(7);
+
+            try {
+                CustomerService.validateTcKimlik(tcKimlikNo);
+                dogumTarihi = LocalDate.parse(fields.get(5));
+            } catch (DateTimeParseException e) {
+                error = "Geçersiz doğum tarihi: " + fields.get(5);
+                return;
+            } catch (RuntimeException e) {
+                error = e.getMessage();
+                return;
+            }
+
+            if (ad.isEmpty() || soyad.isEmpty()) {
+                error = "Ad ve soyad zorunludur";
+            } else if (email.isEmpty() || email.indexOf('@') < 1) {
+                error = "Geçersiz e-posta: " + email;
+            } else if (sifre.isEmpty()) {
+                error = "Şifre zorunludur";
+            } else if (sifre.startsWith("$2") && !BCRYPT_HASH.matcher(sifre).matches()) {
+                error = "Geçersiz BCrypt hash'i";
+            }
+        }
+    }
+
+    /** Tek bir içe aktarım çalışmasının sayaçları */
+    private static final class ImportProgress {
+        private final long resumedFromLine;
+        private final Set<String> seenTc = new HashSet<>();
+        private final Set<String> seenEmail = new HashSet<>();
+        private final List<String> errors = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long duplicates;
+        private long invalid;
+
+        private ImportProgress(long resumedFromLine) {
+            this.resumedFromLine = resumedFromLine;
+        }
+
+        private void reject(ImportRow row, boolean duplicate) {
+            if (duplicate) {
+                duplicates++;
+            } else {
+                invalid++;
+            }
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("Satır " + row.lineNo + ": " + row.error);
+            }
+        }
+    }
+}
@@ -2,41 +2,66 @@ package com.dinobank.Customer.service;
 
 import com.dinobank.Customer.controller.CustomerResponseDto;
 import com.dinobank.Customer.dto.CustomerRequestDto;
+import com.dinobank.account.service.AccountNumberAllocator;
+import com.dinobank.account.service.AccountVersionRegistry;
 import com.dinobank.model.Account;
 import com.dinobank.model.Customer;
+import com.dinobank.model.Transaction;
 import com.dinobank.repository.AccountRepository;
 import com.dinobank.repository.CustomerRepository;
+import com.dinobank.repository.TransactionRepository;
+import com.dinobank.validation.TcKimlikValidator;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service // Bu sınıf bir Spring Bean olarak kaydedilir
 // @Service annotation'ı, bu sınıfın bir servis katmanı olduğunu belirtir.
+@Timed(value = "dinobank.service", percentiles = { 0.5, 0.95, 0.99 }, histogram = true)
 public class CustomerService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final CustomerRepository customerRepository;
     private final AccountRepository accountRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final CustomerSearchIndex customerSearchIndex;
+    private final AccountVersionRegistry accountVersionRegistry;
+    private final TransactionRepository transactionRepository;
 
     public CustomerService(CustomerRepository customerRepository,
             AccountRepository accountRepository,
-            BCryptPasswordEncoder passwordEncoder) {
+            BCryptPasswordEncoder passwordEncoder,
+            AccountNumberAllocator accountNumberAllocator,
+            CustomerSearchIndex customerSearchIndex,
+            AccountVersionRegistry accountVersionRegistry,
+            TransactionRepository transactionRepository) {
         this.customerRepository = customerRepository;
         this.accountRepository = accountRepository;
         this.passwordEncoder = passwordEncoder;
+        this.accountNumberAllocator = accountNumberAllocator;
+        this.customerSearchIndex = customerSearchIndex;
+        this.accountVersionRegistry = accountVersionRegistry;
+        this.transactionRepository = transactionRepository;
     }
 
+    // Müşteri, hesap ve açılış bakiyesi işlemi birlikte commit edilir
+    @Transactional
     public CustomerResponseDto createCustomer(CustomerRequestDto request) {
         // Şuanlık tc kimliği rastgele atıyoruz, ileride doğrulama servisi ile entegre edilecek
         String finalTc = request.getTcKimlikNo();
         if (finalTc == null || finalTc.isEmpty()) {
-            long randomNum = 10000000000L + (long) (Math.random() * 9000000000L);
-            finalTc = String.valueOf(randomNum);
+            long firstNine = 100000000L + (long) (Math.random() * 900000000L);
+            finalTc = TcKimlikValidator.withCheckDigits(firstNine);
         }
 
         validateTcKimlik(finalTc);
@@ -67,8 +92,7 @@ public class CustomerService {
 
         Account account = new Account();
         account.setCustomer(savedCustomer);
-        long randomAccNum = (long) (Math.random() * 100000000000L);
-        account.setAccountNumber(String.valueOf(randomAccNum));
+        account.setAccountNumber(accountNumberAllocator.nextAccountNumber());
         account.setBalance(new BigDecimal("5000.00"));
         account.setCurrency("TRY");
         account.setAccountType("VADESIZ");
@@ -76,40 +100,56 @@ public class CustomerService {
         account.setOpeningDate(LocalDateTime.now());
 
         accountRepository.save(account);
-
-        return new CustomerResponseDto(
+        accountVersionRegistry.bumpAfterCommit(account);
+
+        // Hoş geldin bakiyesi defterde de görünür (bakiye = işlemlerin neti)
+        Transaction opening = new Transaction();
+        opening.setToAccount(account);
+        opening.setAmount(account.getBalance());
+        opening.setCurrency(account.getCurrency());
+        opening.setTransactionType("DEPOSIT");
+        opening.setDescription("Hoş Geldin Bakiyesi");
+        opening.setTransactionDate(account.getOpeningDate());
+        opening.setStatus("COMPLETED");
+        transactionRepository.save(opening);
+
+        CustomerResponseDto response = new CustomerResponseDto(
                 savedCustomer.getId(),
                 savedCustomer.getAd(),
                 savedCustomer.getSoyad(),
                 savedCustomer.getEmail(),
                 savedCustomer.getKayitTarihi());
+        customerSearchIndex.addAfterCommit(response);
+        return response;
+    }
+
+    // Entity yerine DTO projeksiyonu; sayfa boyutu üst sınırla korunur
+    @Transactional(readOnly = true)
+    public List<CustomerResponseDto> getAllCustomers(int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return customerRepository.findAllProjected(PageRequest.of(Math.max(page, 0), pageSize, Sort.by("id")))
+                .getContent();
     }
 
-    public List<CustomerResponseDto> getAllCustomers() {
-        return customerRepository.findAll().stream()
-                .map(customer -> new CustomerResponseDto(
-                        customer.getId(),
-                        customer.getAd(),
-                        customer.getSoyad(),
-                        customer.getEmail(),
-                        customer.getKayitTarihi()))
-                .collect(Collectors.toList());
+    public List<CustomerResponseDto> searchCustomers(String query, int limit) {
+        return customerSearchIndex.search(query, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
     }
 
-    private void validateTcKimlik(String tc) {
+    static void validateTcKimlik(String tc) {
         if (tc == null)
             return; 
 
-        if (tc.length() != 11) {
-            throw new RuntimeException("Geçersiz TC: TC Kimlik Numarası 11 haneli olmalıdır!");
-        }
-
-        if (!tc.matches("[0-9]+")) {
-            throw new RuntimeException("Geçersiz TC: Sadece rakamlardan oluşmalıdır!");
-        }
-
-        if (tc.startsWith("0")) {
-            throw new RuntimeException("Geçersiz TC: TC Kimlik Numarası 0 ile başlayamaz!");
+        switch (TcKimlikValidator.validate(tc)) {
+            case WRONG_LENGTH:
+                throw new RuntimeException("Geçersiz TC: TC Kimlik Numarası 11 haneli olmalıdır!");
+            case NOT_NUMERIC:
+                throw new RuntimeException("Geçersiz TC: Sadece rakamlardan oluşmalıdır!");
+            case LEADING_ZERO:
+                throw new RuntimeException("Geçersiz TC: TC Kimlik Numarası 0 ile başlayamaz!");
+            case BAD_CHECKSUM:
+                throw new RuntimeException("Geçersiz TC: Kontrol haneleri hatalı!");
+            default:
+                break;
         }
     }
 }
@@ -3,8 +3,14 @@ package com.dinobank.Transaction.controller;
 import com.dinobank.Transaction.dto.TransactionRequestDto;
 import com.dinobank.Transaction.dto.TransactionResponseDto;
 import com.dinobank.Transaction.service.TransactionService;
+import com.dinobank.account.service.AccountVersionRegistry;
+import com.dinobank.config.ReadYourWrites;
+import com.dinobank.fraud.VelocityCheckService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -53,11 +59,20 @@ public class TransactionController {
     /** İşlem iş mantığı servisi */
     private final TransactionService transactionService;
 
+    /** Geçmiş endpoint'i için ETag kaynağı */
+    private final AccountVersionRegistry accountVersionRegistry;
+
+    /** Transfer ve yatırma öncesi bellek içi hız kontrolü */
+    private final VelocityCheckService velocityCheckService;
+
     /**
      * Constructor - TransactionService bağımlılığını enjekte eder
      */
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(TransactionService transactionService,
+            AccountVersionRegistry accountVersionRegistry, VelocityCheckService velocityCheckService) {
         this.transactionService = transactionService;
+        this.accountVersionRegistry = accountVersionRegistry;
+        this.velocityCheckService = velocityCheckService;
     }
 
     /**
@@ -83,11 +98,16 @@ public class TransactionController {
      * - 200 OK: Transfer başarılı, işlem detayları döner
      * - 400 Bad Request: Yetersiz bakiye veya geçersiz hesap
      * 
+     * Hız kontrolü (VelocityCheckService) transaction açılmadan, yani
+     * veritabanı bağlantısı alınmadan önce yapılır; kural ihlalinde transfer
+     * veritabanına hiç gitmeden reddedilir.
+     * 
      * @param request Transfer detayları
      * @return TransactionResponseDto - İşlem sonucu
      */
     @PostMapping("/transfer")
     public ResponseEntity<TransactionResponseDto> transfer(@RequestBody TransactionRequestDto request) {
+        velocityCheckService.checkTransfer(request);
         return ResponseEntity.ok(transactionService.transferMoney(request));
     }
 
@@ -114,6 +134,7 @@ public class TransactionController {
      */
     @PostMapping("/deposit")
     public ResponseEntity<TransactionResponseDto> deposit(@RequestBody TransactionRequestDto request) {
+        velocityCheckService.checkDeposit(request);
         return ResponseEntity.ok(transactionService.deposit(request));
     }
 
@@ -133,13 +154,23 @@ public class TransactionController {
      * 
      * ÖRNEK: GET /api/transactions/history/1
      * 
-     * RESPONSE: TransactionResponseDto[] - İşlem listesi (tarih sıralı)
+     * RESPONSE: TransactionResponseDto[] - İşlem listesi (tarih sıralı) + ETag
+     * If-None-Match güncel ETag ile aynıysa 304 döner, sorgu çalışmaz.
      * 
      * @param accountId URL'den alınan hesap ID'si
      * @return İşlem geçmişi listesi
      */
     @GetMapping("/history/{accountId}")
-    public ResponseEntity<List<TransactionResponseDto>> getHistory(@PathVariable Long accountId) {
-        return ResponseEntity.ok(transactionService.getTransactionHistory(accountId));
+    public ResponseEntity<List<TransactionResponseDto>> getHistory(@PathVariable Long accountId,
+            WebRequest webRequest) {
+        String etag = accountVersionRegistry.accountETag(accountId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        // Replika gecikmesi içinde değişen hesap primary'den okunur: eski veri yeni ETag ile etiketlenmesin
+        ReadYourWrites.pinToPrimaryIf(
+                accountVersionRegistry.accountChangedWithin(accountId, ReadYourWrites.windowMillis()));
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache())
+                .body(transactionService.getTransactionHistory(accountId));
     }
 }
\ No newline at end of file
@@ -11,6 +11,10 @@ public class TransactionResponseDto {
     private String transactionType;
     private String status;
     private LocalDateTime transactionDate;
+    // Yalnızca dövizli transferlerde dolu
+    private BigDecimal exchangeRate;
+    private BigDecimal convertedAmount;
+    private String convertedCurrency;
 
     public TransactionResponseDto(Long id, String fromAccountNumber, String toAccountNumber, BigDecimal amount,
             String transactionType, String status, LocalDateTime transactionDate) {
@@ -78,4 +82,28 @@ public class TransactionResponseDto {
     public void setTransactionDate(LocalDateTime transactionDate) {
         this.transactionDate = transactionDate;
     }
+
+    public BigDecimal getExchangeRate() {
+        return exchangeRate;
+    }
+
+    public void setExchangeRate(BigDecimal exchangeRate) {
+        this.exchangeRate = exchangeRate;
+    }
+
+    public BigDecimal getConvertedAmount() {
+        return convertedAmount;
+    }
+
+    public void setConvertedAmount(BigDecimal convertedAmount) {
+        this.convertedAmount = convertedAmount;
+    }
+
+    public String getConvertedCurrency() {
+        return convertedCurrency;
+    }
+
+    public void setConvertedCurrency(String convertedCurrency) {
+        this.convertedCurrency = convertedCurrency;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.dinobank.Transaction.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * =============================================================================
+ * TRANSACTION PARTITION MAINTENANCE - Aylık İşlem Bölümlerinin Bakımı
+ * =============================================================================
+ *
+ * PostgreSQL'de transactions tablosu transaction_date'e göre aylık
+ * bölümlenmiştir (db/migration/postgresql/V2__transactions.sql). Migration
+ * kurulum anından itibaren 12 ay ilerisini hazırlar; bu iş açılışta ve
+ * ayda bir çalışarak pencereyi ileri kaydırır.
+ *
+ * ÇALIŞMA MANTIĞI:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ ensure_transaction_partitions(0, months-ahead) çağrılır │
+ * │ → eksik aylar oluşturulur, mevcut olanlara dokunulmaz │
+ * │ Tablo bölümlenmemişse (eski kurulum) fonksiyon 0 döner │
+ * │ H2 ve diğer veritabanlarında iş hiç çalışmaz │
+ * └─────────────────────────────────────────────────────────────────┘
+ * Bir ayın bölümü yoksa kayıtlar DEFAULT bölüme düşer; o ay için bölüm
+ * sonradan oluşturulamaz. Bu yüzden pencere birkaç ay ileride tutulur.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Service
+public class TransactionPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionMaintenance.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private volatile Boolean postgres;
+
+    public TransactionPartitionMaintenance(JdbcTemplate jdbcTemplate,
+            @Value("${dinobank.transaction-partitions.months-ahead:12}") int monthsAhead) {
+        if (monthsAhead < 1) {
+            throw new IllegalArgumentException("dinobank.transaction-partitions.months-ahead en az 1 olmalıdır!");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    // Açılışta da çalışır: uygulama ay başında kapalıysa pencere yine ilerler
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${dinobank.transaction-partitions.cron:0 15 0 1 * *}")
+    public void ensureUpcomingPartitions() {
+        if (!isPostgres()) {
+            return;
+        }
+        try {
+            Integer created = jdbcTemplate.queryForObject(
+                    "SELECT public.ensure_transaction_partitions(0, ?)", Integer.class, monthsAhead);
+            if (created != null && created > 0) {
+                log.info("İşlem tablosu için {} yeni aylık bölüm oluşturuldu", created);
+            }
+        } catch (DataAccessException e) {
+            // Genellikle DEFAULT bölümde ilgili aya ait kayıt birikmiştir; elle taşınması gerekir
+            log.warn("İşlem bölümleri oluşturulamadı: {}", e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return result;
+    }
+}
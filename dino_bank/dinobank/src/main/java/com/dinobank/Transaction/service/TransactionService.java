@@ -2,51 +2,119 @@ package com.dinobank.Transaction.service;
 
 import com.dinobank.Transaction.dto.TransactionRequestDto;
 import com.dinobank.Transaction.dto.TransactionResponseDto;
+import com.dinobank.account.service.AccountVersionRegistry;
+import com.dinobank.fraud.VelocityCheckService;
+import com.dinobank.fx.FxRateService;
+import com.dinobank.fx.FxRateSnapshot;
+import com.dinobank.metrics.BusinessMetrics;
 import com.dinobank.model.Account;
 import com.dinobank.model.Transaction;
+import com.dinobank.outbox.DomainEvents;
+import com.dinobank.outbox.OutboxEventType;
+import com.dinobank.outbox.OutboxWriter;
 import com.dinobank.repository.AccountRepository;
 import com.dinobank.repository.TransactionRepository;
+import com.dinobank.validation.IbanValidator;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "dinobank.service", percentiles = { 0.5, 0.95, 0.99 }, histogram = true)
 public class TransactionService {
 
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
-
-    public TransactionService(AccountRepository accountRepository, TransactionRepository transactionRepository) {
+    private final AccountVersionRegistry accountVersionRegistry;
+    private final FxRateService fxRateService;
+    private final BusinessMetrics businessMetrics;
+    private final OutboxWriter outboxWriter;
+    private final VelocityCheckService velocityCheckService;
+    private final TransferLimitService transferLimitService;
+
+    public TransactionService(AccountRepository accountRepository, TransactionRepository transactionRepository,
+            AccountVersionRegistry accountVersionRegistry, FxRateService fxRateService,
+            BusinessMetrics businessMetrics, OutboxWriter outboxWriter, VelocityCheckService velocityCheckService,
+            TransferLimitService transferLimitService) {
         this.accountRepository = accountRepository;
         this.transactionRepository = transactionRepository;
+        this.accountVersionRegistry = accountVersionRegistry;
+        this.fxRateService = fxRateService;
+        this.businessMetrics = businessMetrics;
+        this.outboxWriter = outboxWriter;
+        this.velocityCheckService = velocityCheckService;
+        this.transferLimitService = transferLimitService;
     }
 
     @Transactional 
     public TransactionResponseDto transferMoney(TransactionRequestDto request) {
+        validateAccountNumber(request.getFromAccountNumber());
+        validateAccountNumber(request.getToAccountNumber());
+        // Sıfır veya negatif tutar bakiyeyi ters yönde taşır ve günlük limiti azaltırdı
+        if (request.getAmount() == null || request.getAmount().signum() <= 0) {
+            businessMetrics.invalidAmount();
+            throw new RuntimeException("Transfer tutarı pozitif olmalıdır!");
+        }
+        // Kuruştan küçük basamak sütunda yuvarlanır, limit ve hız sayaçlarında sayılmazdı
+        if (request.getAmount().stripTrailingZeros().scale() > 2) {
+            businessMetrics.invalidAmount();
+            throw new RuntimeException("Tutar en fazla 2 ondalık basamak içerebilir!");
+        }
 
-        Account fromAccount = accountRepository.findByAccountNumber(request.getFromAccountNumber());
-        Account toAccount = accountRepository.findByAccountNumber(request.getToAccountNumber());
+        // İki hesap da kilitlenerek okunur: bakiye aşağıda mutlak değer olarak yazıldığı için eşzamanlı
+        // bir yazı (başka bir transfer, faiz tahakkuku) satırı bırakmadan okunmamalıdır
+        Account fromAccount = null;
+        Account toAccount = null;
+        for (Account account : accountRepository.findByAccountNumberInForUpdate(
+                List.of(request.getFromAccountNumber(), request.getToAccountNumber()))) {
+            if (account.getAccountNumber().equals(request.getFromAccountNumber())) {
+                fromAccount = account;
+            }
+            if (account.getAccountNumber().equals(request.getToAccountNumber())) {
+                toAccount = account;
+            }
+        }
 
         if (fromAccount == null || toAccount == null) {
+            businessMetrics.accountNotFound();
             throw new RuntimeException("Gönderen veya Alıcı hesap bulunamadı!");
         }
-
         if (fromAccount.getBalance().compareTo(request.getAmount()) < 0) {
+            businessMetrics.insufficientBalance();
             throw new RuntimeException("Yetersiz Bakiye!");
         }
 
-        if (!fromAccount.getCurrency().equals(toAccount.getCurrency())) {
-            throw new RuntimeException("Farklı para birimleri arasında transfer yapılamaz!");
+        // Günlük kullanım bellekteki sayaçtan okunur; rezervasyon commit/rollback'te kapanır
+        transferLimitService.reserve(fromAccount, request.getAmount());
+
+        // Farklı para birimlerinde alıcıya geçen tutar güncel kur snapshot'ından hesaplanır
+        BigDecimal creditedAmount = request.getAmount();
+        BigDecimal exchangeRate = null;
+        boolean crossCurrency = !fromAccount.getCurrency().equals(toAccount.getCurrency());
+        if (crossCurrency) {
+            FxRateSnapshot rates = fxRateService.current();
+            if (!rates.supports(fromAccount.getCurrency()) || !rates.supports(toAccount.getCurrency())) {
+                businessMetrics.fxRateUnavailable();
+            }
+            exchangeRate = rates.rate(fromAccount.getCurrency(), toAccount.getCurrency());
+            creditedAmount = FxRateSnapshot.convert(request.getAmount(), exchangeRate);
         }
 
         fromAccount.setBalance(fromAccount.getBalance().subtract(request.getAmount()));
-        toAccount.setBalance(toAccount.getBalance().add(request.getAmount()));
+        toAccount.setBalance(toAccount.getBalance().add(creditedAmount));
 
         accountRepository.save(fromAccount);
         accountRepository.save(toAccount);
+        accountVersionRegistry.bumpAfterCommit(fromAccount);
+        accountVersionRegistry.bumpAfterCommit(toAccount);
+        // Hız sayaçları ve bilinen alıcılar yalnızca commit edilen transferle güncellenir
+        velocityCheckService.recordTransferAfterCommit(fromAccount.getAccountNumber(), toAccount.getAccountNumber(),
+                fromAccount.getCustomer().getId(), request.getAmount());
 
         Transaction transaction = new Transaction();
         transaction.setFromAccount(fromAccount);
@@ -57,29 +125,36 @@ public class TransactionService {
         transaction.setDescription(request.getDescription());
         transaction.setTransactionDate(LocalDateTime.now());
         transaction.setStatus("COMPLETED");
+        if (crossCurrency) {
+            transaction.setExchangeRate(exchangeRate);
+            transaction.setConvertedAmount(creditedAmount);
+            transaction.setConvertedCurrency(toAccount.getCurrency());
+        }
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        // Olay, bakiye yazılarıyla aynı transaction'da çıkış kutusuna eklenir
+        DomainEvents.MoneyMoved event = DomainEvents.MoneyMoved.of(savedTransaction);
+        outboxWriter.append(OutboxEventType.TRANSFER_COMPLETED, event.aggregateId(), event);
+        businessMetrics.transferCompleted(crossCurrency);
 
-        return new TransactionResponseDto(
-                savedTransaction.getId(),
-                fromAccount.getAccountNumber(),
-                toAccount.getAccountNumber(),
-                savedTransaction.getAmount(),
-                savedTransaction.getTransactionType(),
-                savedTransaction.getStatus(),
-                savedTransaction.getTransactionDate());
+        return toResponse(savedTransaction);
     }
 
     @Transactional
     public TransactionResponseDto deposit(TransactionRequestDto request) {
-        Account toAccount = accountRepository.findByAccountNumber(request.getToAccountNumber());
+        validateAccountNumber(request.getToAccountNumber());
+
+        Account toAccount = accountRepository.findByAccountNumberForUpdate(request.getToAccountNumber());
 
         if (toAccount == null) {
+            businessMetrics.accountNotFound();
             throw new RuntimeException("Hesap bulunamadı!");
         }
 
         toAccount.setBalance(toAccount.getBalance().add(request.getAmount()));
         accountRepository.save(toAccount);
+        accountVersionRegistry.bumpAfterCommit(toAccount);
+        velocityCheckService.recordDepositAfterCommit(toAccount.getAccountNumber(), request.getAmount());
 
         Transaction transaction = new Transaction();
         transaction.setFromAccount(null);
@@ -92,6 +167,8 @@ public class TransactionService {
         transaction.setStatus("COMPLETED");
 
         Transaction savedTx = transactionRepository.save(transaction);
+        DomainEvents.MoneyMoved event = DomainEvents.MoneyMoved.of(savedTx);
+        outboxWriter.append(OutboxEventType.DEPOSIT_COMPLETED, event.aggregateId(), event);
 
         return new TransactionResponseDto(
                 savedTx.getId(), "ATM", toAccount.getAccountNumber(),
@@ -99,17 +176,36 @@ public class TransactionService {
                 savedTx.getStatus(), savedTx.getTransactionDate());
     }
 
+    // Salt okunur: replika yönlendirmesi açıkken replikadan okunur
+    @Transactional(readOnly = true)
     public List<TransactionResponseDto> getTransactionHistory(Long accountId) {
         return transactionRepository.findByFromAccount_IdOrToAccount_IdOrderByTransactionDateDesc(accountId, accountId)
                 .stream()
-                .map(tx -> new TransactionResponseDto(
-                        tx.getId(),
-                        tx.getFromAccount() != null ? tx.getFromAccount().getAccountNumber() : "ATM", // Null kontrolü
-                        tx.getToAccount() != null ? tx.getToAccount().getAccountNumber() : "-",
-                        tx.getAmount(),
-                        tx.getTransactionType(),
-                        tx.getStatus(),
-                        tx.getTransactionDate()))
+                .map(TransactionService::toResponse)
                 .collect(Collectors.toList());
     }
+
+    // Entity → DTO dönüşümü; geçmiş listesi ve benchmark modülü tarafından kullanılır
+    public static TransactionResponseDto toResponse(Transaction tx) {
+        TransactionResponseDto dto = new TransactionResponseDto(
+                tx.getId(),
+                tx.getFromAccount() != null ? tx.getFromAccount().getAccountNumber() : "ATM", // Null kontrolü
+                tx.getToAccount() != null ? tx.getToAccount().getAccountNumber() : "-",
+                tx.getAmount(),
+                tx.getTransactionType(),
+                tx.getStatus(),
+                tx.getTransactionDate());
+        dto.setExchangeRate(tx.getExchangeRate());
+        dto.setConvertedAmount(tx.getConvertedAmount());
+        dto.setConvertedCurrency(tx.getConvertedCurrency());
+        return dto;
+    }
+
+    // Hatalı yazılmış hesap numarası DB sorgusuna gitmeden reddedilir
+    private void validateAccountNumber(String accountNumber) {
+        if (!IbanValidator.isAcceptableAccountNumber(accountNumber)) {
+            businessMetrics.invalidAccount();
+            throw new RuntimeException("Geçersiz hesap numarası: " + accountNumber);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,301 @@
+package com.dinobank.Transaction.service;
+
+import com.dinobank.metrics.BusinessMetrics;
+import com.dinobank.model.Account;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * =============================================================================
+ * TRANSFER LIMIT SERVICE - Günlük ve İşlem Başına Transfer Limitleri
+ * =============================================================================
+ *
+ * Hesap türüne (accountType) göre iki limit uygulanır:
+ * - İşlem başına: tek transferin tutarı
+ * - Günlük: hesaptan bugün çıkan transferlerin toplamı
+ * Günlük kullanım her transferde transactions tablosu toplanarak DEĞİL,
+ * bellekteki sayaçlardan okunur.
+ *
+ * SAYAÇLAR (kilit şeritleme / lock striping):
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ account_id → şerit (stripes adet, 2'nin kuvveti)                │
+ * │ Her şerit: kendi ReentrantLock'u + HashMap<account_id, kullanım>│
+ * │ Kullanım : committed (commit edilmiş) + reserved (süren tx)     │
+ * │ Farklı şeritlerdeki hesaplar birbirini beklemez                 │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * TUTARLILIK:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 1. Transfer: committed + reserved + tutar > limit → red         │
+ * │    aksi halde reserved += tutar (eşzamanlı iki transfer         │
+ * │    birlikte limiti aşamaz)                                      │
+ * │ 2. Commit sonrası  : reserved → committed                       │
+ * │ 3. Rollback sonrası: reserved geri bırakılır                    │
+ * │ 4. Gün değişince şerit ilk erişimde sıfırlanır; önceki güne ait │
+ * │    süren transferlerin sonucu bugüne yazılmaz                   │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * AÇILIŞ:
+ * Sayaçlar web sunucusu istek kabul etmeden önce bugünün tamamlanmış
+ * transferlerinden (tek GROUP BY sorgusu, primary) yeniden kurulur.
+ *
+ * NOTLAR:
+ * - Limitler hesabın kendi para biriminde, nominal tutardır.
+ * - Bellek içi olduğu için tek instance varsayar; birden fazla node aynı
+ *   veritabanına yazıyorsa limit paylaşılan bir kaynaktan okunmalıdır.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Component
+public class TransferLimitService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferLimitService.class);
+
+    private static final String DEFAULT_TYPE = "DEFAULT";
+
+    private static final String TODAY_USAGE_SQL = """
+            SELECT from_account_id, SUM(amount) AS used
+            FROM public.transactions
+            WHERE transaction_type = 'TRANSFER' AND status = 'COMPLETED'
+              AND from_account_id IS NOT NULL AND transaction_date >= ?
+            GROUP BY from_account_id
+            """;
+
+    /** Bir hesabın bugünkü kullanımı (kuruş) */
+    private static final class Usage {
+        long committed;
+        long reserved;
+    }
+
+    /** Alanlar lock tutularak okunur/yazılır (sanal thread taşıyıcıya sabitlenmez) */
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        /** Sayaçların ait olduğu gün (epoch day) */
+        long day;
+        final HashMap<Long, Usage> usage = new HashMap<>();
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BusinessMetrics businessMetrics;
+    private final Map<String, Long> dailyLimits;
+    private final Map<String, Long> transactionLimits;
+    private final Stripe[] stripes;
+    private volatile boolean running;
+
+    public TransferLimitService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            BusinessMetrics businessMetrics,
+            @Value("${dinobank.limits.daily:DEFAULT:100000}") String dailyLimits,
+            @Value("${dinobank.limits.per-transaction:DEFAULT:50000}") String transactionLimits,
+            @Value("${dinobank.limits.stripes:64}") int stripes) {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("dinobank.limits.stripes 2'nin pozitif bir kuvveti olmalıdır!");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.businessMetrics = businessMetrics;
+        this.dailyLimits = parseLimits("dinobank.limits.daily", dailyLimits);
+        this.transactionLimits = parseLimits("dinobank.limits.per-transaction", transactionLimits);
+        this.stripes = new Stripe[stripes];
+        long today = LocalDate.now().toEpochDay();
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+            this.stripes[i].day = today;
+        }
+    }
+
+    /**
+     * "VADESIZ:150000,VADELI:50000,DEFAULT:100000" biçimini okur. Listede
+     * olmayan türler DEFAULT'u kullanır; 0 = limitsiz.
+     */
+    private static Map<String, Long> parseLimits(String property, String value) {
+        Map<String, Long> limits = new HashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException(property + " hatalı: '" + part + "' (TÜR:TUTAR bekleniyor)");
+            }
+            long kurus = toKurus(new BigDecimal(pair[1].trim()));
+            if (kurus < 0) {
+                throw new IllegalArgumentException(property + " negatif olamaz: " + part);
+            }
+            limits.put(pair[0].trim().toUpperCase(Locale.ROOT), kurus);
+        }
+        if (!limits.containsKey(DEFAULT_TYPE)) {
+            throw new IllegalArgumentException(property + " bir DEFAULT değeri içermelidir!");
+        }
+        return limits;
+    }
+
+    // Web sunucusundan (SMART_LIFECYCLE_PHASE - 1024) önce başlar: sayaçlar kurulmadan transfer kabul edilmez
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    @Override
+    public void start() {
+        rebuild();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Bugünün kullanımını transactions tablosundan yeniden kurar (yalnızca açılışta) */
+    private void rebuild() {
+        LocalDate today = LocalDate.now();
+        long day = today.toEpochDay();
+        Map<Long, Long> used = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(TODAY_USAGE_SQL,
+                rs -> {
+                    used.put(rs.getLong("from_account_id"), toKurus(rs.getBigDecimal("used")));
+                }, Timestamp.valueOf(today.atStartOfDay())));
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.day = day;
+                stripe.usage.clear();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        used.forEach((accountId, kurus) -> {
+            Stripe stripe = stripe(accountId);
+            stripe.lock.lock();
+            try {
+                stripe.usage.computeIfAbsent(accountId, id -> new Usage()).committed = kurus;
+            } finally {
+                stripe.lock.unlock();
+            }
+        });
+        log.info("Transfer limiti sayaçları kuruldu: bugün transfer yapmış {} hesap", used.size());
+    }
+
+    /**
+     * Transfer tutarını gönderen hesabın limitlerine karşı kontrol eder ve
+     * günlük kullanıma rezerve eder. Aktif transaction'ın sonucuna göre
+     * rezervasyon commit'te kalıcı olur, rollback'te bırakılır.
+     *
+     * @throws RuntimeException İşlem başına veya günlük limit aşılırsa
+     */
+    public void reserve(Account fromAccount, BigDecimal amount) {
+        String type = fromAccount.getAccountType();
+        long kurus = toKurus(amount);
+        long transactionLimit = limitFor(transactionLimits, type);
+        if (transactionLimit > 0 && kurus > transactionLimit) {
+            businessMetrics.transactionLimitExceeded();
+            throw new RuntimeException("İşlem başına transfer limiti aşıldı! (limit: "
+                    + BigDecimal.valueOf(transactionLimit, 2) + ")");
+        }
+
+        Long accountId = fromAccount.getId();
+        long dailyLimit = limitFor(dailyLimits, type);
+        long day = LocalDate.now().toEpochDay();
+        Stripe stripe = stripe(accountId);
+        stripe.lock.lock();
+        try {
+            roll(stripe, day);
+            Usage usage = stripe.usage.computeIfAbsent(accountId, id -> new Usage());
+            if (dailyLimit > 0 && usage.committed + usage.reserved + kurus > dailyLimit) {
+                if (usage.committed == 0 && usage.reserved == 0) {
+                    stripe.usage.remove(accountId);
+                }
+                businessMetrics.dailyLimitExceeded();
+                throw new RuntimeException("Günlük transfer limiti aşıldı! (kalan: "
+                        + BigDecimal.valueOf(Math.max(0, dailyLimit - usage.committed - usage.reserved), 2) + ")");
+            }
+            usage.reserved += kurus;
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    settle(accountId, day, kurus, status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            settle(accountId, day, kurus, true);
+        }
+    }
+
+    private void settle(Long accountId, long day, long kurus, boolean committed) {
+        Stripe stripe = stripe(accountId);
+        stripe.lock.lock();
+        try {
+            // Rezervasyon dünden kaldıysa şerit sıfırlanmıştır; transfer bugüne sayılmaz
+            if (stripe.day != day) {
+                return;
+            }
+            Usage usage = stripe.usage.get(accountId);
+            if (usage == null) {
+                return;
+            }
+            usage.reserved -= kurus;
+            if (committed) {
+                usage.committed += kurus;
+            }
+            if (usage.committed == 0 && usage.reserved == 0) {
+                stripe.usage.remove(accountId);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /** Gün değiştiyse şeridi sıfırlar; şeridin kilidi tutulurken çağrılır */
+    private static void roll(Stripe stripe, long day) {
+        if (stripe.day < day) {
+            stripe.day = day;
+            stripe.usage.clear();
+        }
+    }
+
+    private Stripe stripe(Long accountId) {
+        long h = accountId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h >>> 32) & (stripes.length - 1)];
+    }
+
+    private static long limitFor(Map<String, Long> limits, String accountType) {
+        Long limit = accountType != null ? limits.get(accountType.toUpperCase(Locale.ROOT)) : null;
+        return limit != null ? limit : limits.get(DEFAULT_TYPE);
+    }
+
+    /** Kuruştan küçük basamak yuvarlanmaz: 0.009'luk adımlar limit hesabını atlatamaz */
+    private static long toKurus(BigDecimal amount) {
+        try {
+            return amount.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new RuntimeException("Tutar en fazla 2 ondalık basamak içerebilir!");
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.dinobank.account.controller;
 
+import com.dinobank.account.dto.AccountBalanceDto;
+import com.dinobank.account.dto.AccountPortfolioDto;
 import com.dinobank.account.dto.AccountRequestDto;
 import com.dinobank.account.dto.AccountResponseDto;
 import com.dinobank.account.service.AccountService;
+import com.dinobank.account.service.BalanceCheckpointService;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 /**
@@ -26,6 +32,8 @@ import java.util.List;
  * ├────────┼────────────────────────────────┼──────────────────────────────────┤
  * │ POST │ /api/accounts/create │ Yeni hesap oluştur │
  * │ GET │ /api/accounts/customer/{id} │ Müşterinin hesaplarını listele │
+ * │ GET │ /api/accounts/portfolio/{id} │ Tüm hesaplar + son hareket │
+ * │ GET │ /api/accounts/{id}/balance │ Geçmiş tarihli bakiye (asOf) │
  * └─────────────────────────────────────────────────────────────────────────────┘
  * 
  * FRONTEND KULLANIMI (React - api.js):
@@ -47,11 +55,15 @@ public class AccountController {
     /** Hesap işlemleri servisi */
     private final AccountService accountService;
 
+    /** Kontrol noktası tabanlı geçmiş bakiye servisi */
+    private final BalanceCheckpointService balanceCheckpointService;
+
     /**
-     * Constructor - AccountService bağımlılığını enjekte eder
+     * Constructor - Servis bağımlılıklarını enjekte eder
      */
-    public AccountController(AccountService accountService) {
+    public AccountController(AccountService accountService, BalanceCheckpointService balanceCheckpointService) {
         this.accountService = accountService;
+        this.balanceCheckpointService = balanceCheckpointService;
     }
 
     /**
@@ -109,4 +121,63 @@ public class AccountController {
     public ResponseEntity<List<AccountResponseDto>> getCustomerAccounts(@PathVariable Long customerId) {
         return ResponseEntity.ok(accountService.getAccountsByCustomerId(customerId));
     }
-}
\ No newline at end of file
+
+    /**
+     * =========================================================================
+     * MÜŞTERİ PORTFÖYÜ ENDPOINT'İ
+     * =========================================================================
+     * 
+     * URL: GET /api/accounts/portfolio/{customerId}
+     * 
+     * AÇIKLAMA:
+     * Müşterinin tüm hesaplarını bakiye ve son hareket zamanı ile birlikte
+     * tek bir sorguda döner. Hesap sayısı arttıkça sorgu sayısı artmaz.
+     * 
+     * RESPONSE: AccountPortfolioDto[] - Hesap ID sırasına göre
+     * 
+     * @param customerId URL'den alınan müşteri ID'si
+     * @return Müşterinin hesap portföyü
+     */
+    @GetMapping("/portfolio/{customerId}")
+    public ResponseEntity<List<AccountPortfolioDto>> getPortfolio(@PathVariable Long customerId) {
+        return ResponseEntity.ok(accountService.getPortfolio(customerId));
+    }
+
+    /**
+     * =========================================================================
+     * GEÇMİŞ TARİHLİ BAKİYE ENDPOINT'İ
+     * =========================================================================
+     * 
+     * URL: GET /api/accounts/{accountId}/balance?asOf=...
+     * 
+     * AÇIKLAMA:
+     * Hesabın verilen andaki bakiyesini döner (denetim/mutabakat için).
+     * En yakın bakiye kontrol noktasından başlar, yalnızca aradaki
+     * işlemleri uygular.
+     * 
+     * QUERY PARAM (asOf):
+     * - 2025-06-30 → o günün kapanış bakiyesi (ertesi gün 00:00)
+     * - 2025-06-30T14:30:00 → tam o andaki bakiye
+     * 
+     * RESPONSE:
+     * - 200 OK: AccountBalanceDto (balance, source, checkpointAt)
+     * - 400 Bad Request: asOf formatı hatalı
+     * 
+     * @param accountId URL'den alınan hesap ID'si
+     * @param asOf      Tarih veya tarih-saat (ISO-8601)
+     * @return Hesabın o andaki bakiyesi
+     */
+    @GetMapping("/{accountId}/balance")
+    public ResponseEntity<AccountBalanceDto> getBalanceAsOf(@PathVariable Long accountId,
+            @RequestParam String asOf) {
+        LocalDateTime instant;
+        try {
+            instant = asOf.length() == 10
+                    ? LocalDate.parse(asOf).plusDays(1).atStartOfDay()
+                    : LocalDateTime.parse(asOf);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(balanceCheckpointService.getBalanceAsOf(accountId, instant));
+    }
+}
@@ -0,0 +1,83 @@
+package com.dinobank.account.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Geçmiş tarihli bakiye sorgusunun cevabı; hangi kaynaktan hesaplandığını da taşır
+public class AccountBalanceDto {
+    private Long accountId;
+    private String accountNumber;
+    private String currency;
+    private LocalDateTime asOf;
+    private BigDecimal balance;
+    // "CHECKPOINT" veya "LIVE" (kontrol noktası yoksa güncel bakiyeden geriye doğru)
+    private String source;
+    private LocalDateTime checkpointAt;
+
+    public AccountBalanceDto(Long accountId, String accountNumber, String currency, LocalDateTime asOf,
+            BigDecimal balance, String source, LocalDateTime checkpointAt) {
+        this.accountId = accountId;
+        this.accountNumber = accountNumber;
+        this.currency = currency;
+        this.asOf = asOf;
+        this.balance = balance;
+        this.source = source;
+        this.checkpointAt = checkpointAt;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public void setAccountNumber(String accountNumber) {
+        this.accountNumber = accountNumber;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public LocalDateTime getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDateTime asOf) {
+        this.asOf = asOf;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public LocalDateTime getCheckpointAt() {
+        return checkpointAt;
+    }
+
+    public void setCheckpointAt(LocalDateTime checkpointAt) {
+        this.checkpointAt = checkpointAt;
+    }
+}
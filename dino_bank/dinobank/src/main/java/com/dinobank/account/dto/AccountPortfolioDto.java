@@ -0,0 +1,82 @@
+package com.dinobank.account.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Portföy ekranında her hesap için dönen sade veri yapısı (entity grafiği taşımaz)
+public class AccountPortfolioDto {
+    private Long id;
+    private String accountNumber;
+    private String accountType;
+    private BigDecimal balance;
+    private String currency;
+    private LocalDateTime openingDate;
+    private LocalDateTime lastActivity;
+
+    public AccountPortfolioDto(Long id, String accountNumber, String accountType, BigDecimal balance,
+            String currency, LocalDateTime openingDate, LocalDateTime lastActivity) {
+        this.id = id;
+        this.accountNumber = accountNumber;
+        this.accountType = accountType;
+        this.balance = balance;
+        this.currency = currency;
+        this.openingDate = openingDate;
+        this.lastActivity = lastActivity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public void setAccountNumber(String accountNumber) {
+        this.accountNumber = accountNumber;
+    }
+
+    public String getAccountType() {
+        return accountType;
+    }
+
+    public void setAccountType(String accountType) {
+        this.accountType = accountType;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public LocalDateTime getOpeningDate() {
+        return openingDate;
+    }
+
+    public void setOpeningDate(LocalDateTime openingDate) {
+        this.openingDate = openingDate;
+    }
+
+    public LocalDateTime getLastActivity() {
+        return lastActivity;
+    }
+
+    public void setLastActivity(LocalDateTime lastActivity) {
+        this.lastActivity = lastActivity;
+    }
+}
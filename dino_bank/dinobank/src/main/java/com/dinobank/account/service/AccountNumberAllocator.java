@@ -0,0 +1,246 @@
+package com.dinobank.account.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * =============================================================================
+ * ACCOUNT NUMBER ALLOCATOR - Merkezi Hesap Numarası Üreticisi
+ * =============================================================================
+ *
+ * Tüm hesap açılış yolları (AccountService, CustomerService, AuthController,
+ * toplu içe aktarım) hesap numarasını buradan alır. Math.random() veya
+ * System.currentTimeMillis() ile üretilen numaralar eşzamanlı kayıtlarda
+ * account_number unique kısıtına takılıyordu.
+ *
+ * ÇALIŞMA MANTIĞI:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 1. public.account_number_seq her nextval'de blockSize kadar │
+ * │ ilerler → (v - blockSize, v] aralığı bu instance'a aittir │
+ * │ (alt sınır en az 1: sequence 1000'den başlar, blockSize daha  │
+ * │ büyükse ilk blok yalnızca [1, 1000] olur) │
+ * │ 2. Blok içindeki seri numaraları AtomicLong ile kilitsiz dağıtılır│
+ * │ 3. Blok bitince yalnızca tek thread DB'den yeni blok çeker │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * NUMARA FORMATI (20 karakter, account_number kolonuna sığar):
+ * TR + 2 kontrol hanesi + 4 haneli banka kodu + 12 haneli seri no
+ * Örnek: TR40190700000000000001
+ *
+ * Kontrol haneleri IBAN ile aynı ISO 7064 MOD 97-10 algoritmasıyla
+ * hesaplanır; yani numara mod-97 doğrulamasından geçer.
+ *
+ * SEQUENCE ARTIŞI:
+ * Blok hesabı sequence'ın tam olarak blockSize kadar ilerlediğini varsayar.
+ * Uygulama çalışırken sequence'a DDL uygulanmaz; açılışta (web sunucusundan
+ * önce, kendi transaction'ında) artış miktarı okunur ve block-size ile
+ * uyuşmuyorsa uygulama başlamaz. Blok boyutu değiştirilecekse önce
+ * "ALTER SEQUENCE public.account_number_seq INCREMENT BY n" bir
+ * migration ile uygulanmalıdır.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Component
+public class AccountNumberAllocator implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountNumberAllocator.class);
+
+    // information_schema PostgreSQL ve H2'de ortaktır (PostgreSQL'de kolon metin tipindedir)
+    private static final String SEQUENCE_INCREMENT_SQL = """
+            SELECT increment FROM information_schema.sequences
+            WHERE sequence_schema = 'public' AND sequence_name = 'account_number_seq'
+            """;
+
+    public static final int SERIAL_DIGITS = 12;
+    public static final int ACCOUNT_NUMBER_LENGTH = 4 + 4 + SERIAL_DIGITS;
+    private static final long MAX_SERIAL = 999_999_999_999L;
+
+    /** "TR" harflerinin MOD 97 için sayısal karşılığı: T=29, R=27 */
+    private static final int[] COUNTRY_DIGITS = { 2, 9, 2, 7 };
+
+    private final LongSupplier blockSource;
+    private final int blockSize;
+    private final String bankCode;
+    private final AtomicReference<Block> current = new AtomicReference<>(new Block(0, 0));
+    private final ReentrantLock refillLock = new ReentrantLock();
+    /** Açılış kontrolü; sequence dışı kaynakla kurulduysa null */
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private volatile boolean running;
+
+    /**
+     * Sequence V1 migration'ında INCREMENT BY 1000 ile oluşturulur; her
+     * nextval (v - blockSize, v] bloğunu ayırır.
+     */
+    @Autowired
+    public AccountNumberAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            @Value("${dinobank.account-number.block-size:1000}") int blockSize,
+            @Value("${dinobank.account-number.bank-code:1907}") String bankCode) {
+        this(() -> jdbcTemplate.queryForObject("SELECT nextval('public.account_number_seq')", Long.class),
+                blockSize, bankCode, jdbcTemplate, new TransactionTemplate(transactionManager));
+    }
+
+    /**
+     * @param blockSource Her çağrıda yeni bir bloğun üst sınırını (dahil) döner
+     * @param blockSize   Bir blokta dağıtılacak numara sayısı
+     * @param bankCode    4 haneli banka/şube kodu
+     */
+    public AccountNumberAllocator(LongSupplier blockSource, int blockSize, String bankCode) {
+        this(blockSource, blockSize, bankCode, null, null);
+    }
+
+    private AccountNumberAllocator(LongSupplier blockSource, int blockSize, String bankCode,
+            JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Blok boyutu pozitif olmalıdır!");
+        }
+        if (bankCode == null || bankCode.length() != 4 || !isDigits(bankCode)) {
+            throw new IllegalArgumentException("Banka kodu 4 haneli olmalıdır: " + bankCode);
+        }
+        this.blockSource = blockSource;
+        this.blockSize = blockSize;
+        this.bankCode = bankCode;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // Web sunucusundan önce: uyumsuz sequence ile hiçbir hesap açılmaz
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    @Override
+    public void start() {
+        if (jdbcTemplate != null) {
+            verifySequenceIncrement();
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** @throws IllegalStateException Sequence yoksa veya artışı blockSize değilse */
+    private void verifySequenceIncrement() {
+        String increment = transactionTemplate.execute(status -> jdbcTemplate
+                .queryForList(SEQUENCE_INCREMENT_SQL, String.class).stream().findFirst().orElse(null));
+        if (increment == null) {
+            throw new IllegalStateException("public.account_number_seq bulunamadı!");
+        }
+        if (Long.parseLong(increment.trim()) != blockSize) {
+            throw new IllegalStateException("public.account_number_seq artışı (" + increment.trim()
+                    + ") dinobank.account-number.block-size (" + blockSize + ") ile aynı olmalıdır! "
+                    + "Önce ALTER SEQUENCE ... INCREMENT BY " + blockSize + " migration'ı uygulanmalıdır.");
+        }
+        log.info("Hesap numarası sequence'ı doğrulandı: blok boyutu {}", blockSize);
+    }
+
+    /** Yeni, benzersiz ve kontrol haneli bir hesap numarası döner. */
+    public String nextAccountNumber() {
+        return format(bankCode, nextSerial());
+    }
+
+    long nextSerial() {
+        while (true) {
+            Block block = current.get();
+            long serial = block.next.getAndIncrement();
+            if (serial < block.end) {
+                return serial;
+            }
+            refill(block);
+        }
+    }
+
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            // Başka bir thread bizden önce yenilediyse tekrar DB'ye gitme
+            if (current.get() == exhausted) {
+                long high = blockSource.getAsLong();
+                if (high > MAX_SERIAL) {
+                    throw new IllegalStateException("Hesap numarası aralığı tükendi!");
+                }
+                // Boş DB'de ilk nextval START değerini (1000) döner; blockSize daha büyükse
+                // alt sınır negatife düşerdi. 1'in altında dağıtılmış bir blok yoktur.
+                current.set(new Block(Math.max(1, high - blockSize + 1), high + 1));
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    /**
+     * Seri numarasını TRkk + banka kodu + 12 haneli seri formatına çevirir.
+     * Kontrol haneleri: 98 - ((BBAN + "TR00") mod 97).
+     */
+    public static String format(String bankCode, long serial) {
+        char[] out = new char[ACCOUNT_NUMBER_LENGTH];
+        out[0] = 'T';
+        out[1] = 'R';
+        for (int i = 0; i < 4; i++) {
+            out[4 + i] = bankCode.charAt(i);
+        }
+        long rest = serial;
+        for (int i = ACCOUNT_NUMBER_LENGTH - 1; i >= 8; i--) {
+            out[i] = (char) ('0' + (rest % 10));
+            rest /= 10;
+        }
+
+        int remainder = 0;
+        for (int i = 4; i < ACCOUNT_NUMBER_LENGTH; i++) {
+            remainder = (remainder * 10 + (out[i] - '0')) % 97;
+        }
+        for (int digit : COUNTRY_DIGITS) {
+            remainder = (remainder * 10 + digit) % 97;
+        }
+        remainder = (remainder * 100) % 97; // "00" kontrol hanesi yer tutucusu
+
+        int check = 98 - remainder;
+        out[2] = (char) ('0' + check / 10);
+        out[3] = (char) ('0' + check % 10);
+        return new String(out);
+    }
+
+    private static boolean isDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** DB'den ayrılmış [next, end) seri aralığı */
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package com.dinobank.account.service;
 
+import com.dinobank.account.dto.AccountPortfolioDto;
 import com.dinobank.account.dto.AccountRequestDto;
 import com.dinobank.account.dto.AccountResponseDto;
 import com.dinobank.model.Account;
 import com.dinobank.model.Customer;
+import com.dinobank.outbox.DomainEvents;
+import com.dinobank.outbox.OutboxEventType;
+import com.dinobank.outbox.OutboxWriter;
 import com.dinobank.repository.AccountRepository;
 import com.dinobank.repository.CustomerRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -15,16 +22,27 @@ import java.util.stream.Collectors;
 //Bu sayfada AccountService sınıfı oluşturulmuştur.
 //Bu sınıf Account tablosu için CRUD operasyonlarını gerçekleştirmek için kullanılır.
 @Service // Bu sınıf bir servis sınıfıdır.
+@Timed(value = "dinobank.service", percentiles = { 0.5, 0.95, 0.99 }, histogram = true)
 public class AccountService {
 
     private final AccountRepository accountRepository;
     private final CustomerRepository customerRepository;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final AccountVersionRegistry accountVersionRegistry;
+    private final OutboxWriter outboxWriter;
 
-    public AccountService(AccountRepository accountRepository, CustomerRepository customerRepository) {
+    public AccountService(AccountRepository accountRepository, CustomerRepository customerRepository,
+            AccountNumberAllocator accountNumberAllocator, AccountVersionRegistry accountVersionRegistry,
+            OutboxWriter outboxWriter) {
         this.accountRepository = accountRepository;
         this.customerRepository = customerRepository;
+        this.accountNumberAllocator = accountNumberAllocator;
+        this.accountVersionRegistry = accountVersionRegistry;
+        this.outboxWriter = outboxWriter;
     }
 
+    // Hesap ve ACCOUNT_OPENED olayı birlikte commit edilir
+    @Transactional
     public AccountResponseDto createAccount(AccountRequestDto request) {
         Customer customer = customerRepository.findById(request.getCustomerId())
                 .orElseThrow(() -> new RuntimeException("Müşteri bulunamadı!"));
@@ -37,10 +55,14 @@ public class AccountService {
         account.setActive(true);
         account.setAccountType("VADESIZ");
 
-        long randomNum = (long) (Math.random() * 10000000000L);
-        account.setAccountNumber(String.valueOf(randomNum));
+        account.setAccountNumber(accountNumberAllocator.nextAccountNumber());
 
         Account savedAccount = accountRepository.save(account);
+        accountVersionRegistry.bumpAfterCommit(savedAccount);
+        outboxWriter.append(OutboxEventType.ACCOUNT_OPENED, savedAccount.getId(),
+                new DomainEvents.AccountOpened(customer.getId(), savedAccount.getId(),
+                        savedAccount.getAccountNumber(), savedAccount.getAccountType(),
+                        savedAccount.getCurrency(), savedAccount.getBalance(), savedAccount.getOpeningDate()));
 
         return new AccountResponseDto(
                 savedAccount.getId(),
@@ -53,7 +75,7 @@ public class AccountService {
     }
 
     public List<AccountResponseDto> getAccountsByCustomerId(Long customerId) {
-        return accountRepository.findById(customerId).stream() 
+        return accountRepository.findByCustomerIdWithCustomer(customerId).stream()
                 .map(acc -> new AccountResponseDto(
                         acc.getId(),
                         acc.getAccountNumber(),
@@ -64,4 +86,10 @@ public class AccountService {
                         acc.getOpeningDate()))
                 .collect(Collectors.toList());
     }
+
+    // Tutarlı, salt okunur snapshot: bakiyeler ve son hareket zamanları aynı andan okunur
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public List<AccountPortfolioDto> getPortfolio(Long customerId) {
+        return accountRepository.findPortfolioByCustomerId(customerId);
+    }
 }
\ No newline at end of file
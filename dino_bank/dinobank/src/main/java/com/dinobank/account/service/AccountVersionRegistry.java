@@ -0,0 +1,90 @@
+package com.dinobank.account.service;
+
+import com.dinobank.model.Account;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * =============================================================================
+ * ACCOUNT VERSION REGISTRY - Hesap Değişiklik Versiyonları (ETag kaynağı)
+ * =============================================================================
+ *
+ * Her bakiye değişikliği, ilgili hesabın ve sahibinin versiyonunu artırır.
+ * Hesap özeti ve işlem geçmişi endpoint'leri ETag'i bu versiyondan üretir;
+ * If-None-Match eşleşirse 304 döner ve veritabanına hiç gidilmez.
+ *
+ * TUTARLILIK KURALI:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ Yazma: versiyon transaction COMMIT edildikten SONRA artırılır │
+ * │ Okuma: versiyon veriden ÖNCE okunur │
+ * │ → Eski veri hiçbir zaman yeni bir ETag ile etiketlenmez │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * Versiyonlar tek bir global sayaçtan alınır (anahtar başına monoton artar)
+ * ve ETag'e uygulamanın açılış zamanı eklenir; yeniden başlatma sonrası
+ * versiyonlar sıfırlansa da eski ETag'ler eşleşmez.
+ *
+ * NOT: Bellek içi olduğu için tek instance varsayar; birden fazla node
+ * aynı veritabanına yazıyorsa ETag'ler paylaşılan bir kaynaktan gelmelidir.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Component
+public class AccountVersionRegistry {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong clock = new AtomicLong();
+    private final ConcurrentHashMap<Long, Long> accountVersions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> customerVersions = new ConcurrentHashMap<>();
+    /** Hesabın son değiştiği an (epoch ms); replika gecikmesi koruması için */
+    private final ConcurrentHashMap<Long, Long> accountChangedAt = new ConcurrentHashMap<>();
+
+    public String accountETag(Long accountId) {
+        return "\"a" + accountId + '-' + epoch + '-' + accountVersions.getOrDefault(accountId, 0L) + '"';
+    }
+
+    public String customerETag(Long customerId) {
+        return "\"c" + customerId + '-' + epoch + '-' + customerVersions.getOrDefault(customerId, 0L) + '"';
+    }
+
+    /**
+     * Hesabın ve sahibinin versiyonunu artırır. Aktif bir transaction varsa
+     * artırım commit sonrasına ertelenir; rollback olursa hiç yapılmaz.
+     */
+    public void bumpAfterCommit(Account account) {
+        Long accountId = account.getId();
+        Long customerId = account.getCustomer() != null ? account.getCustomer().getId() : null;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(accountId, customerId);
+                }
+            });
+        } else {
+            bump(accountId, customerId);
+        }
+    }
+
+    /** Hesap son millis milisaniye içinde değişti mi (commit zamanına göre) */
+    public boolean accountChangedWithin(Long accountId, long millis) {
+        Long changedAt = accountChangedAt.get(accountId);
+        return changedAt != null && System.currentTimeMillis() - changedAt < millis;
+    }
+
+    public void bump(Long accountId, Long customerId) {
+        long version = clock.incrementAndGet();
+        if (accountId != null) {
+            accountVersions.merge(accountId, version, Math::max);
+            accountChangedAt.put(accountId, System.currentTimeMillis());
+        }
+        if (customerId != null) {
+            customerVersions.merge(customerId, version, Math::max);
+        }
+    }
+}
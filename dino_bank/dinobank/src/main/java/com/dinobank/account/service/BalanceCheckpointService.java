@@ -0,0 +1,171 @@
+package com.dinobank.account.service;
+
+import com.dinobank.account.dto.AccountBalanceDto;
+import com.dinobank.model.Account;
+import com.dinobank.model.BalanceCheckpoint;
+import com.dinobank.repository.AccountRepository;
+import com.dinobank.repository.BalanceCheckpointRepository;
+import com.dinobank.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * =============================================================================
+ * BALANCE CHECKPOINT SERVICE - Geçmiş Tarihli Bakiye Sorguları
+ * =============================================================================
+ *
+ * İki görevi vardır:
+ *
+ * 1) KONTROL NOKTASI İŞİ (zamanlanmış, varsayılan her gün 00:05)
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ Gün başı (00:00) bakiyesi = güncel bakiye │
+ * │ - 00:00'dan sonra giren tutarlar │
+ * │ + 00:00'dan sonra çıkan tutarlar │
+ * │ Hesaplar account_id aralıklarıyla parça parça işlenir; her parça │
+ * │ tek bir INSERT ... SELECT ... WHERE NOT EXISTS ifadesidir │
+ * │ → uzun süre açık kalan transaction ve satır kilidi yok │
+ * └─────────────────────────────────────────────────────────────────┘
+ * 00:05'teki gecikme, gece yarısından hemen önce başlayıp sonra commit
+ * edilen transferlerin de kontrol noktasına yansıması içindir.
+ *
+ * 2) GEÇMİŞ BAKİYE SORGUSU (asOf)
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ asOf'a en yakın kontrol noktası bulunur (önce veya sonra) │
+ * │ Yalnızca aradaki işlemlerin farkı uygulanır │
+ * │ Kontrol noktası yoksa güncel bakiyeden geriye doğru hesaplanır │
+ * └─────────────────────────────────────────────────────────────────┘
+ * Sorgu maliyeti hesabın yaşına değil, en fazla bir kontrol noktası
+ * aralığındaki işlem sayısına bağlıdır.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Service
+public class BalanceCheckpointService {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceCheckpointService.class);
+
+    /** Açık uçlu aralıklar için üst sınır (PostgreSQL timestamp aralığında kalır) */
+    private static final LocalDateTime FAR_FUTURE = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private static final String INSERT_CHECKPOINTS_SQL = """
+            INSERT INTO public.balance_checkpoints (account_id, checkpoint_at, balance, created_at)
+            SELECT a.account_id, ?, a.balance
+                   - COALESCE((SELECT SUM(COALESCE(t.converted_amount, t.amount)) FROM public.transactions t
+                               WHERE t.to_account_id = a.account_id AND t.status = 'COMPLETED'
+                                 AND t.transaction_date >= ?), 0)
+                   + COALESCE((SELECT SUM(t.amount) FROM public.transactions t
+                               WHERE t.from_account_id = a.account_id AND t.status = 'COMPLETED'
+                                 AND t.transaction_date >= ?), 0),
+                   CURRENT_TIMESTAMP
+            FROM public.accounts a
+            WHERE a.account_id >= ? AND a.account_id < ?
+              AND NOT EXISTS (SELECT 1 FROM public.balance_checkpoints c
+                              WHERE c.account_id = a.account_id AND c.checkpoint_at = ?)
+            """;
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final BalanceCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    public BalanceCheckpointService(AccountRepository accountRepository,
+            TransactionRepository transactionRepository,
+            BalanceCheckpointRepository checkpointRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${dinobank.balance-checkpoint.chunk-size:5000}") int chunkSize) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${dinobank.balance-checkpoint.cron:0 5 0 * * *}")
+    public void writeDailyCheckpoints() {
+        writeCheckpoints(LocalDate.now().atStartOfDay());
+    }
+
+    /**
+     * Tüm hesaplar için verilen anın kontrol noktasını yazar. Aynı an için
+     * tekrar çağrılırsa mevcut kayıtlar korunur.
+     *
+     * @return Yeni yazılan kontrol noktası sayısı
+     */
+    public long writeCheckpoints(LocalDateTime checkpointAt) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(account_id) FROM public.accounts", Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        Timestamp at = Timestamp.valueOf(checkpointAt);
+        long written = 0;
+        // Her parça ayrı bir ifade (auto-commit); iş yarıda kalsa bile tekrar çalıştırılabilir
+        for (long low = 1; low <= maxId; low += chunkSize) {
+            written += jdbcTemplate.update(INSERT_CHECKPOINTS_SQL, at, at, at, low, low + chunkSize, at);
+        }
+        log.info("Bakiye kontrol noktası {}: {} hesap, {} ms", checkpointAt, written,
+                (System.nanoTime() - start) / 1_000_000);
+        return written;
+    }
+
+    // Kontrol noktası ve işlem toplamları aynı snapshot'tan okunur
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public AccountBalanceDto getBalanceAsOf(Long accountId, LocalDateTime asOf) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new RuntimeException("Hesap bulunamadı!"));
+
+        Optional<BalanceCheckpoint> before = checkpointRepository
+                .findFirstByAccountIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(accountId, asOf);
+        Optional<BalanceCheckpoint> after = checkpointRepository
+                .findFirstByAccountIdAndCheckpointAtGreaterThanOrderByCheckpointAtAsc(accountId, asOf);
+
+        BigDecimal balance;
+        String source;
+        LocalDateTime checkpointAt = null;
+
+        if (before.isPresent() && (after.isEmpty() || !isCloser(after.get(), before.get(), asOf))) {
+            // İleriye doğru: kontrol noktası + [checkpoint, asOf) farkı
+            checkpointAt = before.get().getCheckpointAt();
+            balance = before.get().getBalance().add(netChange(accountId, checkpointAt, asOf));
+            source = "CHECKPOINT";
+        } else if (after.isPresent()) {
+            // Geriye doğru: kontrol noktası - [asOf, checkpoint) farkı
+            checkpointAt = after.get().getCheckpointAt();
+            balance = after.get().getBalance().subtract(netChange(accountId, asOf, checkpointAt));
+            source = "CHECKPOINT";
+        } else {
+            balance = account.getBalance().subtract(netChange(accountId, asOf, FAR_FUTURE));
+            source = "LIVE";
+        }
+
+        return new AccountBalanceDto(account.getId(), account.getAccountNumber(), account.getCurrency(),
+                asOf, balance, source, checkpointAt);
+    }
+
+    /** [from, to) aralığında hesaba giren - hesaptan çıkan */
+    private BigDecimal netChange(Long accountId, LocalDateTime from, LocalDateTime to) {
+        return transactionRepository.sumCredits(accountId, from, to)
+                .subtract(transactionRepository.sumDebits(accountId, from, to));
+    }
+
+    private static boolean isCloser(BalanceCheckpoint candidate, BalanceCheckpoint current, LocalDateTime asOf) {
+        Duration toCandidate = Duration.between(asOf, candidate.getCheckpointAt()).abs();
+        Duration toCurrent = Duration.between(current.getCheckpointAt(), asOf).abs();
+        return toCandidate.compareTo(toCurrent) < 0;
+    }
+}
@@ -0,0 +1,427 @@
+package com.dinobank.account.service;
+
+import com.dinobank.outbox.DomainEvents;
+import com.dinobank.outbox.OutboxEventType;
+import com.dinobank.outbox.OutboxWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * =============================================================================
+ * INTEREST ACCRUAL SERVICE - Gece Faiz Tahakkuku
+ * =============================================================================
+ *
+ * Her gece (varsayılan 00:30) bir önceki günün faizini hesaplara yansıtır:
+ * - VADELI hesaplar, artı bakiyeleri üzerinden mevduat faizi kazanır
+ * - Eksi bakiyeli her hesaptan (ek hesap kullanımı) borç faizi kesilir
+ * Günlük faiz = bakiye × yıllık oran / 365, kuruşa yarım-çift yuvarlanır.
+ *
+ * ÇALIŞMA MANTIĞI:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 1. Gün için çalışma satırı açılır (tamamlanmışsa hiçbir şey     │
+ * │    yapılmaz)                                                    │
+ * │ 2. account_id ekseni sabit aralıklara bölünür; fork-join havuzu │
+ * │    aralığı ikiye bölerek parçaları paralel işler                │
+ * │ 3. Her parça TEK transaction'dır:                               │
+ * │    - aday hesaplar account_id sırasıyla kilitlenerek okunur     │
+ * │    - faiz tam sayı kuruş aritmetiğiyle hesaplanır               │
+ * │    - bakiye güncellemeleri, INTEREST işlemleri ve outbox        │
+ * │      olayları JDBC batch ile yazılır                            │
+ * │    - parça kontrol noktası satırı eklenir                       │
+ * │ 4. Tüm parçalar bitince çalışma COMPLETED olarak kapatılır      │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * YENİDEN BAŞLATMA: Kontrol noktası satırı parçanın yazılarıyla birlikte
+ * commit edilir. Yarıda kalan bir çalışma (çökme, deploy) aynı gün için
+ * tekrar çağrıldığında yalnızca satırı olmayan parçalar işlenir. Aynı
+ * parçayı iki düğüm birden işlerse ikincisinin kontrol noktası eklemesi
+ * birincil anahtara takılır ve tüm parçası geri alınır.
+ *
+ * Bakiye güncellemesi görelidir (balance = balance + ?). Bakiye yazan diğer
+ * akışlar (transfer, para yatırma, kredi) hesapları SELECT ... FOR UPDATE
+ * ile okur: parça sırasında gelen bir transfer satır kilidini bekler ve
+ * faizli bakiyeyi okur, faiz üzerine yazılmaz. Kilitler her iki tarafta da
+ * account_id sırasıyla alınır. Olaylardaki hareket sonrası bakiye kilitli
+ * okumadan hesaplanır. Parça commit edildikten sonra faiz yansıyan hesapların
+ * ve sahiplerinin ETag versiyonları artırılır.
+ *
+ * Faiz çalışma anındaki bakiyeden hesaplanır; tahakkuk günü bittikten
+ * sonra açılan hesaplar o güne dahil edilmez. Havuzun thread sayısı DB
+ * bağlantı havuzundan küçük tutulmalıdır (her parça bir bağlantı tutar).
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Service
+public class InterestAccrualService {
+
+    private static final Logger log = LoggerFactory.getLogger(InterestAccrualService.class);
+
+    /** Oranlar 10^-8 hassasiyetle tam sayıya çevrilir (0.4525 → 45_250_000) */
+    private static final int RATE_SCALE = 8;
+    private static final long DAYS_PER_YEAR = 365;
+    private static final long DAILY_DIVISOR = DAYS_PER_YEAR * 100_000_000L;
+
+    private static final String TYPE_DEPOSIT_INTEREST = "VADELI";
+
+    private static final String SELECT_RUN_SQL = """
+            SELECT status, chunk_size FROM public.interest_accrual_runs WHERE accrual_date = ?
+            """;
+
+    private static final String INSERT_RUN_SQL = """
+            INSERT INTO public.interest_accrual_runs (accrual_date, status, chunk_size, started_at)
+            VALUES (?, 'RUNNING', ?, ?)
+            """;
+
+    private static final String COMPLETE_RUN_SQL = """
+            UPDATE public.interest_accrual_runs
+            SET status = 'COMPLETED', finished_at = ?,
+                accounts_posted = (SELECT COALESCE(SUM(c.accounts_posted), 0) FROM public.interest_accrual_chunks c
+                                   WHERE c.accrual_date = ?)
+            WHERE accrual_date = ?
+            """;
+
+    private static final String SELECT_DONE_CHUNKS_SQL = """
+            SELECT range_start FROM public.interest_accrual_chunks WHERE accrual_date = ?
+            """;
+
+    private static final String INSERT_CHUNK_SQL = """
+            INSERT INTO public.interest_accrual_chunks
+                   (accrual_date, range_start, range_end, accounts_posted, completed_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    // Aday filtresi indeksli aralıkta çalışır; faizi sıfıra yuvarlananlar Java tarafında elenir
+    private static final String SELECT_CANDIDATES_SQL = """
+            SELECT account_id, customer_id, account_number, account_type, balance, currency
+            FROM public.accounts
+            WHERE account_id >= ? AND account_id < ?
+              AND active = TRUE AND opening_date < ?
+              AND ((account_type = 'VADELI' AND balance > 0) OR balance < 0)
+            ORDER BY account_id
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE_BALANCE_SQL = """
+            UPDATE public.accounts SET balance = balance + ? WHERE account_id = ?
+            """;
+
+    private static final String INSERT_TRANSACTION_SQL = """
+            INSERT INTO public.transactions (from_account_id, to_account_id, transaction_type, amount, currency,
+                                             description, transaction_date, status)
+            VALUES (?, ?, 'INTEREST', ?, ?, ?, ?, 'COMPLETED')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxWriter outboxWriter;
+    private final AccountVersionRegistry accountVersionRegistry;
+    private final boolean enabled;
+    private final long depositRate;
+    private final long overdraftRate;
+    private final int chunkSize;
+    private final int threads;
+
+    public InterestAccrualService(JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            OutboxWriter outboxWriter,
+            AccountVersionRegistry accountVersionRegistry,
+            @Value("${dinobank.interest.enabled:true}") boolean enabled,
+            @Value("${dinobank.interest.deposit-annual-rate:0.40}") BigDecimal depositAnnualRate,
+            @Value("${dinobank.interest.overdraft-annual-rate:0.60}") BigDecimal overdraftAnnualRate,
+            @Value("${dinobank.interest.chunk-size:5000}") int chunkSize,
+            @Value("${dinobank.interest.threads:4}") int threads) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("dinobank.interest.chunk-size pozitif olmalıdır!");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxWriter = outboxWriter;
+        this.accountVersionRegistry = accountVersionRegistry;
+        this.enabled = enabled;
+        this.depositRate = toFixedRate("dinobank.interest.deposit-annual-rate", depositAnnualRate);
+        this.overdraftRate = toFixedRate("dinobank.interest.overdraft-annual-rate", overdraftAnnualRate);
+        this.chunkSize = chunkSize;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Scheduled(cron = "${dinobank.interest.cron:0 30 0 * * *}")
+    public void accrueNightly() {
+        if (enabled) {
+            accrue(LocalDate.now().minusDays(1));
+        }
+    }
+
+    /**
+     * Verilen günün faizini yansıtır. Gün daha önce tamamlandıysa hiçbir şey
+     * yapmaz; yarıda kaldıysa kalan parçalardan devam eder.
+     *
+     * @return Bu çağrıda faiz yansıtılan hesap sayısı
+     */
+    public long accrue(LocalDate accrualDate) {
+        Date day = Date.valueOf(accrualDate);
+        int runChunkSize = openRun(day);
+        if (runChunkSize < 0) {
+            log.info("Faiz tahakkuku {}: zaten tamamlanmış", accrualDate);
+            return 0;
+        }
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(account_id) FROM public.accounts", Long.class);
+        Set<Long> done = new HashSet<>(jdbcTemplate.queryForList(SELECT_DONE_CHUNKS_SQL, Long.class, day));
+
+        long start = System.nanoTime();
+        long posted = 0;
+        if (maxId != null) {
+            RunContext run = new RunContext(accrualDate, runChunkSize, done);
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                posted = pool.invoke(new AccrualTask(run, 1, maxId + 1));
+            } finally {
+                pool.shutdown();
+            }
+        }
+        jdbcTemplate.update(COMPLETE_RUN_SQL, Timestamp.valueOf(LocalDateTime.now()), day, day);
+        log.info("Faiz tahakkuku {}: {} hesap, {} parça önceden tamamlanmış, {} ms", accrualDate, posted,
+                done.size(), (System.nanoTime() - start) / 1_000_000);
+        return posted;
+    }
+
+    /** @return Çalışmanın parça boyu; gün tamamlanmışsa -1 */
+    private int openRun(Date day) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_RUN_SQL, day);
+        if (rows.isEmpty()) {
+            try {
+                jdbcTemplate.update(INSERT_RUN_SQL, day, chunkSize, Timestamp.valueOf(LocalDateTime.now()));
+                return chunkSize;
+            } catch (DuplicateKeyException e) {
+                // Başka bir düğüm aynı anda başlattı; kayıtlı parça boyuyla devam edilir
+                rows = jdbcTemplate.queryForList(SELECT_RUN_SQL, day);
+            }
+        }
+        Map<String, Object> run = rows.get(0);
+        if ("COMPLETED".equals(run.get("status"))) {
+            return -1;
+        }
+        return ((Number) run.get("chunk_size")).intValue();
+    }
+
+    /**
+     * Tek parça: [low, high) aralığındaki hesaplar tek transaction'da işlenir.
+     *
+     * @return Faiz yansıtılan hesap sayısı; parçayı başka bir çalışma
+     *         tamamlamışsa 0
+     */
+    private int accrueChunk(RunContext run, long low, long high) {
+        try {
+            Integer posted = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<Posting> postings = jdbcTemplate.query(SELECT_CANDIDATES_SQL,
+                        (rs, rowNum) -> toPosting(rs.getLong("account_id"), rs.getLong("customer_id"),
+                                rs.getString("account_number"), rs.getString("account_type"),
+                                rs.getBigDecimal("balance"), rs.getString("currency")),
+                        low, high, Timestamp.valueOf(run.accrualDate.plusDays(1).atStartOfDay()));
+                postings.removeIf(posting -> posting == null);
+
+                if (!postings.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, postings, postings.size(), (ps, posting) -> {
+                        ps.setBigDecimal(1, posting.credit ? posting.amount : posting.amount.negate());
+                        ps.setLong(2, posting.accountId);
+                    });
+                    long[] transactionIds = insertTransactions(run, postings, now);
+                    List<DomainEvents.MoneyMoved> events = new ArrayList<>(postings.size());
+                    for (int i = 0; i < postings.size(); i++) {
+                        events.add(postings.get(i).toEvent(transactionIds[i], now));
+                    }
+                    outboxWriter.appendAll(OutboxEventType.INTEREST_POSTED, events,
+                            DomainEvents.MoneyMoved::aggregateId);
+                    // ETag'ler ancak commit sonrası değişir; geri alınan parça versiyon artırmaz
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            for (Posting posting : postings) {
+                                accountVersionRegistry.bump(posting.accountId, posting.customerId);
+                            }
+                        }
+                    });
+                }
+                jdbcTemplate.update(INSERT_CHUNK_SQL, Date.valueOf(run.accrualDate), low, high, postings.size(),
+                        Timestamp.valueOf(now));
+                return postings.size();
+            });
+            return posted != null ? posted : 0;
+        } catch (DuplicateKeyException e) {
+            log.info("Faiz tahakkuku {}: [{}, {}) parçasını başka bir çalışma tamamladı", run.accrualDate, low, high);
+            return 0;
+        }
+    }
+
+    /** @return Satırların sırasıyla üretilen transaction_id'ler */
+    private long[] insertTransactions(RunContext run, List<Posting> postings, LocalDateTime now) {
+        String depositDescription = "Vadeli hesap faizi (" + run.accrualDate + ")";
+        String overdraftDescription = "Eksi bakiye faizi (" + run.accrualDate + ")";
+        Timestamp at = Timestamp.valueOf(now);
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_TRANSACTION_SQL, new String[] { "transaction_id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Posting posting = postings.get(i);
+                        // Yatan faizde gönderen, kesilen faizde alıcı hesap yoktur
+                        if (posting.credit) {
+                            ps.setNull(1, Types.BIGINT);
+                            ps.setLong(2, posting.accountId);
+                        } else {
+                            ps.setLong(1, posting.accountId);
+                            ps.setNull(2, Types.BIGINT);
+                        }
+                        ps.setBigDecimal(3, posting.amount);
+                        ps.setString(4, posting.currency);
+                        ps.setString(5, posting.credit ? depositDescription : overdraftDescription);
+                        ps.setTimestamp(6, at);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return postings.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        long[] ids = new long[postings.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ((Number) keyList.get(i).values().iterator().next()).longValue();
+        }
+        return ids;
+    }
+
+    /** @return Faiz kuruşa yuvarlandığında sıfırsa null */
+    private Posting toPosting(long accountId, long customerId, String accountNumber, String accountType,
+            BigDecimal balance, String currency) {
+        long balanceKurus = balance.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        boolean credit = balanceKurus > 0;
+        if (credit && !TYPE_DEPOSIT_INTEREST.equals(accountType)) {
+            return null;
+        }
+        long interestKurus = dailyInterestKurus(Math.abs(balanceKurus), credit ? depositRate : overdraftRate);
+        if (interestKurus == 0) {
+            return null;
+        }
+        long newBalanceKurus = credit ? balanceKurus + interestKurus : balanceKurus - interestKurus;
+        return new Posting(accountId, customerId, accountNumber, currency, credit,
+                BigDecimal.valueOf(interestKurus, 2), BigDecimal.valueOf(newBalanceKurus, 2));
+    }
+
+    /**
+     * Bir günlük faiz: bakiye × oran / (365 × 10^8), kuruşa yarım-çift
+     * (banker) yuvarlanır. Çarpım long'a sığmazsa (≈ 9 milyar TL üstü
+     * bakiye) BigInteger yoluna düşülür; sonuç aynıdır.
+     *
+     * @param balanceKurus  Bakiye mutlak değeri (kuruş)
+     * @param annualRateE8  Yıllık oran × 10^8
+     */
+    public static long dailyInterestKurus(long balanceKurus, long annualRateE8) {
+        long high = Math.multiplyHigh(balanceKurus, annualRateE8);
+        long product = balanceKurus * annualRateE8;
+        if (high != 0 || product < 0) {
+            return new BigDecimal(BigInteger.valueOf(balanceKurus).multiply(BigInteger.valueOf(annualRateE8)))
+                    .divide(BigDecimal.valueOf(DAILY_DIVISOR), 0, RoundingMode.HALF_EVEN)
+                    .longValueExact();
+        }
+        long quotient = product / DAILY_DIVISOR;
+        long twiceRemainder = (product % DAILY_DIVISOR) * 2;
+        if (twiceRemainder > DAILY_DIVISOR || (twiceRemainder == DAILY_DIVISOR && (quotient & 1) == 1)) {
+            quotient++;
+        }
+        return quotient;
+    }
+
+    private static long toFixedRate(String property, BigDecimal annualRate) {
+        if (annualRate.signum() < 0 || annualRate.compareTo(BigDecimal.TEN) >= 0) {
+            throw new IllegalArgumentException(property + " 0 ile 10 arasında olmalıdır!");
+        }
+        return annualRate.movePointRight(RATE_SCALE).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+    }
+
+    /** Bir çalışmanın parçalar arasında paylaşılan, değişmeyen durumu */
+    private record RunContext(LocalDate accrualDate, int chunkSize, Set<Long> doneChunks) {
+    }
+
+    private record Posting(long accountId, long customerId, String accountNumber, String currency,
+            boolean credit, BigDecimal amount, BigDecimal newBalance) {
+
+        DomainEvents.MoneyMoved toEvent(long transactionId, LocalDateTime occurredAt) {
+            return credit
+                    ? new DomainEvents.MoneyMoved(transactionId, "INTEREST", null, null, null,
+                            accountId, customerId, newBalance, amount, currency, amount, currency, occurredAt,
+                            null, accountNumber)
+                    : new DomainEvents.MoneyMoved(transactionId, "INTEREST", accountId, customerId, newBalance,
+                            null, null, null, amount, currency, amount, currency, occurredAt,
+                            accountNumber, null);
+        }
+    }
+
+    /**
+     * [low, high) aralığını parça sınırlarından ikiye bölerek işler; tek
+     * parçaya inince parçayı kendi transaction'ında çalıştırır.
+     */
+    private final class AccrualTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient RunContext run; // Görev serileştirilmez; yalnızca ForkJoinPool içinde yaşar
+        private final long low;
+        private final long high;
+
+        AccrualTask(RunContext run, long low, long high) {
+            this.run = run;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected Long compute() {
+            long chunks = (high - low + run.chunkSize - 1) / run.chunkSize;
+            if (chunks <= 1) {
+                if (run.doneChunks.contains(low)) {
+                    return 0L;
+                }
+                // Son parçanın sınırı MAX(account_id)'den bağımsızdır: yeniden başlatmada aynı aralık
+                return (long) accrueChunk(run, low, low + run.chunkSize);
+            }
+            long mid = low + (chunks / 2) * run.chunkSize;
+            AccrualTask left = new AccrualTask(run, low, mid);
+            left.fork();
+            long right = new AccrualTask(run, mid, high).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -6,31 +6,53 @@ import com.dinobank.model.Transaction;
 import com.dinobank.repository.AccountRepository;
 import com.dinobank.repository.CustomerRepository;
 import com.dinobank.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+// Sentetik veri üretiminde (generate profili) test kullanıcıları eklenmez.
+// background=true (fast-startup profili) iken ekleme ayrı bir thread'de yapılır:
+// runner'lar bitmeden uygulama hazır (ApplicationReadyEvent) sayılmaz.
 @Component
+@Profile("!generate")
 public class DataSeeder implements CommandLineRunner {
 
+    /** Açılıştan sonraki örnek hareketlerin neti: 50.000 maaş - 16.700 ödemeler */
+    private static final BigDecimal SEEDED_NET = new BigDecimal("33300.00");
+
     private final CustomerRepository customerRepository;
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final boolean background;
+    // Tüm test kullanıcılarının şifresi aynı; BCrypt bir kez çalışır
+    private String defaultPasswordHash;
 
     public DataSeeder(CustomerRepository customerRepository, AccountRepository accountRepository,
-            TransactionRepository transactionRepository, BCryptPasswordEncoder passwordEncoder) {
+            TransactionRepository transactionRepository, BCryptPasswordEncoder passwordEncoder,
+            @Value("${dinobank.data-seeder.background:false}") boolean background) {
         this.customerRepository = customerRepository;
         this.accountRepository = accountRepository;
         this.transactionRepository = transactionRepository;
         this.passwordEncoder = passwordEncoder;
+        this.background = background;
     }
 
     @Override
     public void run(String... args) throws Exception {
+        if (background) {
+            Thread.ofVirtual().name("data-seeder").start(this::seed);
+        } else {
+            seed();
+        }
+    }
+
+    private void seed() {
         createTestUser("Osman", "Yetkin", "osman@dino.com", "11111111110", new BigDecimal("1000000.00"));
         createTestUser("Kürşat", "Uğantaş", "kursat@dino.com", "22222222220", new BigDecimal("100000.00"));
         createTestUser("İlkmert", "Kullanıcı", "ilkmert@dino.com", "33333333330", new BigDecimal("101000.00"));
@@ -47,7 +69,7 @@ public class DataSeeder implements CommandLineRunner {
             customer.setTelefon("5550000000"); // Default phone
             customer.setAdres("Test Mah. Dino Cad. No:1");
             customer.setDogumTarihi(LocalDate.of(1990, 1, 1));
-            customer.setSifre(passwordEncoder.encode("123")); // Default password
+            customer.setSifre(defaultPasswordHash()); // Default password: 123
             customer.setAktif(true);
             customer.setKayitTarihi(LocalDate.now());
 
@@ -62,11 +84,14 @@ public class DataSeeder implements CommandLineRunner {
             account.setBalance(balance);
             account.setCurrency("TRY");
             account.setActive(true);
-            account.setOpeningDate(java.time.LocalDateTime.now());
+            account.setOpeningDate(java.time.LocalDateTime.now().minusDays(6));
 
             accountRepository.save(account);
 
             // Seed Transactions
+            // Bakiye = açılış yatırımı + aşağıdaki hareketlerin neti: mutabakat işi defteri tutarlı bulur
+            createTransaction(account, balance.subtract(SEEDED_NET), "DEPOSIT", "Açılış Bakiyesi",
+                    java.time.LocalDateTime.now().minusDays(6));
             createTransaction(account, new BigDecimal("50000.00"), "DEPOSIT", "Maaş Ödemesi",
                     java.time.LocalDateTime.now().minusDays(5));
             createTransaction(account, new BigDecimal("15000.00"), "WITHDRAWAL", "Kira Ödemesi",
@@ -80,6 +105,13 @@ public class DataSeeder implements CommandLineRunner {
         }
     }
 
+    private String defaultPasswordHash() {
+        if (defaultPasswordHash == null) {
+            defaultPasswordHash = passwordEncoder.encode("123");
+        }
+        return defaultPasswordHash;
+    }
+
     private void createTransaction(Account account, BigDecimal amount, String type, String desc,
             java.time.LocalDateTime date) {
         Transaction tx = new Transaction();
@@ -0,0 +1,74 @@
+package com.dinobank.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * =============================================================================
+ * METRICS CONFIG - Micrometer / Prometheus Ayarları
+ * =============================================================================
+ *
+ * SERVİS ZAMANLAYICILARI:
+ * TimedAspect, sınıf seviyesinde @Timed taşıyan bean'lerin (TransactionService,
+ * CreditService, CustomerService, AccountService, AuthController) her public
+ * metodunu "dinobank.service" zamanlayıcısıyla ölçer. class ve method
+ * etiketleri otomatik eklenir; p50/p95/p99 ve histogram kovaları
+ * /actuator/prometheus üzerinden okunur.
+ *
+ * BAĞLANTI HAVUZU DOLULUĞU:
+ * Spring Boot hikaricp.connections.* metriklerini zaten yayınlar. Buna ek
+ * olarak "dinobank.db.pool.saturation" = aktif / maksimum bağlantı oranını
+ * tek bir gauge olarak verir; 1.0'a yaklaşması ve pending > 0 olması
+ * isteklerin bağlantı beklediğini gösterir. Replika yönlendirmesi açıkken
+ * (ReadReplicaConfig) primary ve replica havuzları ayrı "pool" etiketiyle
+ * raporlanır; sarmalayıcı DataSource'lar Hikari'ye kadar açılır.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterBinder connectionPoolSaturation(ObjectProvider<DataSource> dataSources) {
+        return registry -> {
+            Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+            dataSources.orderedStream()
+                    .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class,
+                            HikariDataSource.class))
+                    .filter(hikari -> hikari != null && pools.add(hikari))
+                    .forEach(hikari -> Gauge.builder("dinobank.db.pool.saturation", hikari, MetricsConfig::saturation)
+                            .description("Aktif bağlantı / maksimum havuz boyutu")
+                            .tag("pool", String.valueOf(hikari.getPoolName()))
+                            .register(registry));
+        };
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        // Havuz ilk bağlantıya kadar oluşturulmaz
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null || hikari.getMaximumPoolSize() <= 0) {
+            return Double.NaN;
+        }
+        return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,234 @@
+package com.dinobank.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * =============================================================================
+ * READ REPLICA CONFIG - Okuma / Yazma Veri Kaynağı Ayrımı
+ * =============================================================================
+ *
+ * dinobank.datasource.replica.enabled=true olduğunda (replica profili)
+ * iki ayrı Hikari havuzu açılır:
+ * - primary : spring.datasource.* (tüm yazmalar, transaction dışı sorgular)
+ * - replica : dinobank.datasource.replica.* (readOnly transaction'lar)
+ * Uygulamaya verilen DataSource, ReplicaRoutingDataSource'u saran bir
+ * LazyConnectionDataSourceProxy'dir; JPA, JdbcTemplate vb. aynı bean'i kullanır.
+ *
+ * REPLİKASYON GECİKMESİ KORUMASI (max-lag-ms):
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 1. Yazma commit'i → aynı isteğin kalan okumaları primary'den │
+ * │ 2. Yanıta DINOBANK_RYW çerezi → kullanıcının max-lag süresi │
+ * │ içindeki istekleri primary'den okur (read-your-writes) │
+ * │ 3. Replika gecikmesi periyodik ölçülür; max-lag'i aşarsa │
+ * │ veya replika erişilemezse tüm okumalar primary'ye döner │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * YEREL TEST:
+ * İki PostgreSQL (ör. 5432 primary, 5433 streaming replica) için replica
+ * profili yeterlidir. H2 ile denemek için replika URL'i primary ile aynı
+ * verilir: iki ayrı havuz, aynı veritabanı (gecikmesiz replika).
+ *
+ * Özellik kapalıyken bu bean'ler oluşturulmaz; Spring Boot'un tek
+ * havuzlu varsayılan DataSource'u kullanılır.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "dinobank.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("dinobank.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${dinobank.datasource.replica.url}") String url,
+            @Value("${dinobank.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${dinobank.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${dinobank.datasource.replica.driver-class-name:${spring.datasource.driver-class-name:}}")
+            String driverClassName) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .driverClassName(StringUtils.hasText(driverClassName) ? driverClassName : null)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+            HikariDataSource replicaDataSource, MeterRegistry registry,
+            @Value("${dinobank.datasource.replica.max-lag-ms:2000}") long maxLagMillis) {
+        if (maxLagMillis <= 0) {
+            throw new IllegalArgumentException("dinobank.datasource.replica.max-lag-ms pozitif olmalıdır!");
+        }
+        ReadYourWrites.activate(maxLagMillis);
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, maxLagMillis, registry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource replicaDataSource,
+            ReplicaRoutingDataSource replicaRoutingDataSource, MeterRegistry registry,
+            @Value("${dinobank.datasource.replica.max-lag-ms:2000}") long maxLagMillis) {
+        return new ReplicaLagMonitor(replicaDataSource, replicaRoutingDataSource, registry, maxLagMillis);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${dinobank.datasource.replica.max-lag-ms:2000}") long maxLagMillis) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(maxLagMillis));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /** RYW çerezi taze ise isteği primary'ye sabitler; istek sonunda işareti temizler */
+    static final class ReadYourWritesFilter extends OncePerRequestFilter {
+
+        private final long maxLagMillis;
+
+        ReadYourWritesFilter(long maxLagMillis) {
+            this.maxLagMillis = maxLagMillis;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                FilterChain filterChain) throws ServletException, IOException {
+            try {
+                ReadYourWrites.pinToPrimaryIf(recentWrite(request.getCookies()));
+                filterChain.doFilter(request, response);
+            } finally {
+                ReadYourWrites.clear();
+            }
+        }
+
+        private boolean recentWrite(Cookie[] cookies) {
+            if (cookies == null) {
+                return false;
+            }
+            for (Cookie cookie : cookies) {
+                if (ReplicaRoutingDataSource.RYW_COOKIE.equals(cookie.getName())) {
+                    try {
+                        return System.currentTimeMillis() - Long.parseLong(cookie.getValue()) < maxLagMillis;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Replikanın ne kadar geride olduğunu ölçer. PostgreSQL replikasında
+     * alınan ve uygulanan WAL konumları eşitse gecikme 0 kabul edilir;
+     * değilse son uygulanan transaction'ın yaşı kullanılır. PostgreSQL
+     * olmayan replikalar (H2) gecikmesiz sayılır.
+     */
+    static final class ReplicaLagMonitor {
+
+        private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+        private static final String LAG_SQL = """
+                SELECT CASE
+                         WHEN NOT pg_is_in_recovery() THEN 0
+                         WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                         ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                       END
+                """;
+
+        private final DataSource replica;
+        private final ReplicaRoutingDataSource routing;
+        private final long maxLagMillis;
+        private volatile double lagMillis;
+
+        ReplicaLagMonitor(DataSource replica, ReplicaRoutingDataSource routing, MeterRegistry registry,
+                long maxLagMillis) {
+            this.replica = replica;
+            this.routing = routing;
+            this.maxLagMillis = maxLagMillis;
+            Gauge.builder("dinobank.db.replica.lag", this, monitor -> monitor.lagMillis)
+                    .description("Ölçülen replikasyon gecikmesi (ms); erişilemezse NaN")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        }
+
+        @Scheduled(fixedDelayString = "${dinobank.datasource.replica.lag-check-interval-ms:5000}")
+        public void check() {
+            boolean healthy;
+            try (Connection connection = replica.getConnection()) {
+                lagMillis = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())
+                        ? queryLag(connection)
+                        : 0;
+                healthy = lagMillis <= maxLagMillis;
+            } catch (SQLException e) {
+                lagMillis = Double.NaN;
+                healthy = false;
+            }
+            if (healthy != routing.isReplicaHealthy()) {
+                if (healthy) {
+                    log.info("Replika tekrar kullanımda (gecikme {} ms)", Math.round(lagMillis));
+                } else {
+                    log.warn("Replika devre dışı, okumalar primary'ye yönlendiriliyor (gecikme {} ms, sınır {} ms)",
+                            Double.isNaN(lagMillis) ? "?" : Math.round(lagMillis), maxLagMillis);
+                }
+                routing.setReplicaHealthy(healthy);
+            }
+        }
+
+        private static double queryLag(Connection connection) throws SQLException {
+            try (Statement statement = connection.createStatement();
+                    ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                return rs.next() ? rs.getDouble(1) : 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.dinobank.config;
+
+/**
+ * İstek (thread) bazında "okumaları primary'den yap" işareti.
+ *
+ * Replika yönlendirmesi kapalıyken tüm metotlar etkisizdir. Açıkken
+ * ReadReplicaConfig.ReadYourWritesFilter her isteğin sonunda işareti
+ * temizler; bu yüzden işaret yalnızca bir HTTP isteği içinde konur.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    /** 0 = yönlendirme kapalı */
+    private static volatile long windowMillis;
+
+    private ReadYourWrites() {
+    }
+
+    static void activate(long maxLagMillis) {
+        windowMillis = maxLagMillis;
+    }
+
+    /** Replikanın en fazla bu kadar geride olabileceği varsayılır (ms); kapalıyken 0 */
+    public static long windowMillis() {
+        return windowMillis;
+    }
+
+    public static void pinToPrimary() {
+        if (windowMillis > 0) {
+            PINNED.set(Boolean.TRUE);
+        }
+    }
+
+    public static void pinToPrimaryIf(boolean condition) {
+        if (condition) {
+            pinToPrimary();
+        }
+    }
+
+    static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    static void clear() {
+        PINNED.remove();
+    }
+}
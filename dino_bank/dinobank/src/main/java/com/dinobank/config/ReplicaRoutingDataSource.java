@@ -0,0 +1,107 @@
+package com.dinobank.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Bağlantıyı aktif transaction'a göre primary veya replika havuzundan alır.
+ *
+ * YÖNLENDİRME KURALI:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ readOnly transaction + replika sağlıklı + istek işaretsiz │
+ * │ → REPLICA │
+ * │ Diğer her şey (yazma, transaction dışı, işaretli istek) │
+ * │ → PRIMARY │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * Karar bağlantı alınırken verilir; bu yüzden önünde mutlaka
+ * LazyConnectionDataSourceProxy bulunur. Aksi halde JPA transaction'ı
+ * bağlantıyı readOnly bayrağı set edilmeden önce alır.
+ *
+ * Primary'de açılan yazma transaction'ı commit edildiğinde istek
+ * işaretlenir ve yanıta RYW çerezi eklenir: kullanıcının sonraki
+ * istekleri de max-lag süresi boyunca primary'den okur.
+ *
+ * Sınıf final'dır: hedef havuzlar constructor'da ayarlanır ve bu
+ * setter'ları ezen bir alt sınıf yarım kurulmuş nesneyi görmemelidir.
+ */
+public final class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+    static final String RYW_COOKIE = "DINOBANK_RYW";
+
+    private final long maxLagMillis;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private volatile boolean replicaHealthy = true;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, long maxLagMillis,
+            MeterRegistry registry) {
+        this.maxLagMillis = maxLagMillis;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.primaryRoutes = Counter.builder("dinobank.db.routing")
+                .description("Bağlantı yönlendirme kararları")
+                .tag("target", PRIMARY)
+                .register(registry);
+        this.replicaRoutes = Counter.builder("dinobank.db.routing")
+                .description("Bağlantı yönlendirme kararları")
+                .tag("target", REPLICA)
+                .register(registry);
+    }
+
+    void setReplicaHealthy(boolean replicaHealthy) {
+        this.replicaHealthy = replicaHealthy;
+    }
+
+    boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (readOnly && replicaHealthy && !ReadYourWrites.isPinned()) {
+            replicaRoutes.increment();
+            return REPLICA;
+        }
+        if (!readOnly && TransactionSynchronizationManager.isActualTransactionActive()) {
+            registerReadYourWrites();
+        }
+        primaryRoutes.increment();
+        return PRIMARY;
+    }
+
+    // Yalnızca HTTP isteği içindeki yazmalar işaretlenir; zamanlanmış işlerin thread'leri etkilenmez
+    private void registerReadYourWrites() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadYourWrites.pinToPrimary();
+                HttpServletResponse response = attributes.getResponse();
+                if (response != null && !response.isCommitted()) {
+                    Cookie cookie = new Cookie(RYW_COOKIE, Long.toString(System.currentTimeMillis()));
+                    cookie.setPath("/");
+                    cookie.setHttpOnly(true);
+                    cookie.setMaxAge((int) Math.max(1, (maxLagMillis + 999) / 1000));
+                    response.addCookie(cookie);
+                }
+            }
+        });
+    }
+}
@@ -1,11 +1,16 @@
 package com.dinobank.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfigurationSource;
 
@@ -18,23 +23,44 @@ public class SecurityConfig {
                 return new BCryptPasswordEncoder();
         }
 
+        /**
+         * Operatör hesabı (ROLE_ADMIN): toplu içe aktarma gibi işlemler HTTP Basic ile
+         * bu hesapla çağrılır. Şifre yalnızca BCrypt hash'i olarak verilir; hash
+         * boşsa hiçbir operatör tanımlanmaz ve admin uçları tamamen kapalı kalır.
+         */
+        @Bean
+        public UserDetailsService operatorUserDetailsService(
+                        @Value("${dinobank.admin.username:admin}") String username,
+                        @Value("${dinobank.admin.password-hash:}") String passwordHash) {
+                InMemoryUserDetailsManager manager = new InMemoryUserDetailsManager();
+                if (!passwordHash.isBlank()) {
+                        manager.createUser(User.withUsername(username)
+                                        .password(passwordHash.trim()) // passwordEncoder bean'i (BCrypt) ile doğrulanır
+                                        .roles("ADMIN")
+                                        .build());
+                }
+                return manager;
+        }
+
         @Bean
         public SecurityFilterChain filterChain(HttpSecurity http, CorsConfigurationSource corsConfigurationSource)
                         throws Exception {
 
+                AuthenticationEntryPoint jsonEntryPoint = (request, response, authException) -> {
+                        response.setContentType("application/json;charset=UTF-8");
+                        response.setStatus(403);
+                        response.getWriter().write("{\"message\": \"Erişim Reddedildi (Yetkisiz İşlem)\"}");
+                };
+
                 http
                                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                                 .csrf(csrf -> csrf.disable())
 
                                 // TODO
                                 // BURASI ÖNEMLİ 403 HATASI ALIYORUZ O YÜZDEN ŞİMDİLİK BÖYLE BİR MESAJ EKLEDİM
-                                .exceptionHandling(exception -> exception
-                                                .authenticationEntryPoint((request, response, authException) -> {
-                                                        response.setContentType("application/json;charset=UTF-8");
-                                                        response.setStatus(403);
-                                                        response.getWriter().write(
-                                                                        "{\"message\": \"Erişim Reddedildi (Yetkisiz İşlem)\"}");
-                                                }))
+                                .exceptionHandling(exception -> exception.authenticationEntryPoint(jsonEntryPoint))
+                                // Operatör uçları (ROLE_ADMIN) için HTTP Basic
+                                .httpBasic(basic -> basic.authenticationEntryPoint(jsonEntryPoint))
 
                                 // Allow frames for H2 Console
                                 .headers(headers -> headers.frameOptions(frame -> frame.disable()))
@@ -49,6 +75,8 @@ public class SecurityConfig {
                                                 .permitAll()
                                                 .requestMatchers("/error").permitAll()
                                                 .requestMatchers("/h2-console/**").permitAll()
+                                                // Sağlık kontrolü ve Prometheus scrape (yalnızca iç ağa açılmalı)
+                                                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                                                 // Frontend Routes (SPA)
                                                 .requestMatchers("/dashboard", "/cards", "/invest", "/history",
                                                                 "/settings", "/admin", "/login",
@@ -57,8 +85,13 @@ public class SecurityConfig {
 
                                                 .requestMatchers("/api/auth/**").permitAll()
                                                 .requestMatchers("/api/customers/register").permitAll()
+                                                // Şifre hash'i dahil müşteri yazar: yalnızca operatör
+                                                .requestMatchers("/api/customers/import").hasRole("ADMIN")
                                                 .requestMatchers("/api/accounts/**").permitAll()
+                                                .requestMatchers("/api/dashboard/**").permitAll()
                                                 .requestMatchers("/api/transactions/**").permitAll()
+                                                .requestMatchers("/api/standing-orders", "/api/standing-orders/**")
+                                                .permitAll()
                                                 .requestMatchers("/api/admin/**").permitAll()
                                                 .requestMatchers("/api/credits/**").permitAll() // Allow Credit API
 
@@ -0,0 +1,57 @@
+package com.dinobank.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * =============================================================================
+ * STARTUP CONFIG - Tembel (Lazy) Başlatma Ayarları
+ * =============================================================================
+ *
+ * fast-startup profili spring.main.lazy-initialization=true açar: bean'ler
+ * açılışta değil ilk kullanıldıklarında oluşturulur (içe aktarma servisi,
+ * admin controller, kredi servisi vb.). Böylece uygulama daha erken
+ * trafiğe açılır; bedelini ilgili uç noktanın ilk isteği öder. Aynı
+ * profilde DataSeeder da açılışı beklemeden arka planda çalışır.
+ *
+ * İSTİSNA:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ @Scheduled metodu olan bean'ler hiçbir istekte kullanılmaz; │
+ * │ tembel kalırlarsa zamanlayıcıya hiç kaydedilmezler │
+ * │ (kontrol noktası, kur yenileme, bölüm bakımı, replika gecikmesi)│
+ * │ → bu bean'ler her zaman açılışta oluşturulur │
+ * └─────────────────────────────────────────────────────────────────┘
+ * @EventListener metotları için istisna gerekmez: Spring dinleyiciyi bean
+ * adıyla kaydeder ve bean'i olay geldiğinde oluşturur.
+ *
+ * Lazy initialization kapalıyken bu filtre etkisizdir.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> hasScheduledMethods(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        if (beanType == null || !AnnotationUtils.isCandidateClass(beanType, List.of(Scheduled.class, Schedules.class))) {
+            return false;
+        }
+        return !MethodIntrospector.selectMethods(beanType, (Method method) ->
+                AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                        || AnnotatedElementUtils.hasAnnotation(method, Schedules.class)).isEmpty();
+    }
+}
@@ -0,0 +1,91 @@
+package com.dinobank.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * =============================================================================
+ * STATIC RESOURCE CONFIG - React Paketi ve SPA Yönlendirmesi
+ * =============================================================================
+ *
+ * Vite build'i (dinoframe) çıktısını src/main/resources/static altına yazar.
+ * /assets altındaki dosya adları içerik hash'i taşır (index-DnOyVevE.js);
+ * içerik değişirse ad da değişir. Aynı build her dosyanın .br ve .gz
+ * kopyasını da üretir (dinoframe/plugins/precompress.js).
+ *
+ * İSTEK AKIŞI:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ /assets/**  → Accept-Encoding'e göre .br / .gz / orijinal       │
+ * │              Cache-Control: max-age=1 yıl, public, immutable    │
+ * │              Vary: Accept-Encoding                              │
+ * │ /vite.svg, /index.html → olduğu gibi, no-cache (Last-Modified)  │
+ * │ /dashboard, /history ... (noktasız yol) → index.html            │
+ * │ /api/**, /actuator/** bulunamazsa → 404 (index.html DEĞİL)      │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * Sıkıştırma build anında yapıldığı için istek başına CPU harcanmaz;
+ * /assets çözümlemeleri (yol + kodlama) bellekte önbelleklenir. Eski
+ * SpaController'ın her istekte değerlendirilen {path:[^\\.]*} regex
+ * eşlemesinin yerini SpaFallbackResolver alır: önce dosya aranır,
+ * bulunamazsa yol bir istemci rotasıysa index.html döner. Bu zincir
+ * önbelleklenmez, çünkü rastgele yollar önbelleği sınırsız büyütürdü.
+ *
+ * Spring Boot'un varsayılan statik eşlemesi kapalıdır
+ * (spring.web.resources.add-mappings=false); tüm statik içerik buradan sunulur.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private static final String STATIC_LOCATION = "classpath:/static/";
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/assets/**")
+                .addResourceLocations(STATIC_LOCATION + "assets/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
+
+        registry.addResourceHandler("/**")
+                .addResourceLocations(STATIC_LOCATION)
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(false)
+                .addResolver(new SpaFallbackResolver());
+    }
+
+    /**
+     * Dosya bulunamazsa istemci rotalarını index.html'e çözer.
+     * React Router rotaları dosya uzantısı taşımaz; uzantılı yollar
+     * (eksik bir .js, .png) ve backend önekleri 404 olarak kalır.
+     */
+    static class SpaFallbackResolver extends PathResourceResolver {
+
+        @Override
+        protected Resource getResource(String resourcePath, Resource location) throws IOException {
+            Resource resource = super.getResource(resourcePath, location);
+            if (resource != null || !isClientRoute(resourcePath)) {
+                return resource;
+            }
+            return super.getResource("index.html", location);
+        }
+
+        private static boolean isClientRoute(String path) {
+            if (path.startsWith("api/") || path.startsWith("actuator/")) {
+                return false;
+            }
+            return path.lastIndexOf('.') <= path.lastIndexOf('/');
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.dinobank.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =============================================================================
+ * VIRTUAL THREAD CONFIG - Sanal Thread Modu İçin Kabul Sınırı
+ * =============================================================================
+ *
+ * spring.threads.virtual.enabled=true olduğunda (virtual-threads profili)
+ * Tomcat her isteği ayrı bir sanal thread'de çalıştırır; @Async ve
+ * @Scheduled işleri de sanal thread'lere geçer. Platform thread havuzunun
+ * (varsayılan 200) koyduğu doğal sınır ortadan kalkar.
+ *
+ * SORUN:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 10.000 eşzamanlı istek → 10.000 sanal thread → hepsi Hikari'den │
+ * │ bağlantı bekler → connection-timeout hataları ve uzayan kuyruk │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * ÇÖZÜM:
+ * /api/* istekleri adil (FIFO) bir Semaphore'dan izin alır. İzin sayısı
+ * bağlantı havuzunun birkaç katıdır; süre içinde izin alınamazsa istek
+ * 503 + Retry-After ile hemen reddedilir. Semaphore j.u.c. tabanlıdır,
+ * bekleyen sanal thread taşıyıcı thread'i bloklamaz (pinning yok).
+ *
+ * JSON TAMPONLARI:
+ * Jackson yazma/okuma tamponlarını varsayılan olarak ThreadLocal bir havuzda
+ * tutar. Her istek yeni bir sanal thread olduğunda tampon hiç yeniden
+ * kullanılmaz; bu modda paylaşılan (kilitsiz deque) havuz kullanılır.
+ *
+ * Platform thread modunda bu bean'ler oluşturulmaz.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionLimitFilter> admissionLimitFilter(MeterRegistry registry,
+            @Value("${dinobank.virtual-threads.max-in-flight-requests:64}") int maxInFlight,
+            @Value("${dinobank.virtual-threads.admission-timeout-ms:2000}") long admissionTimeoutMs) {
+        FilterRegistrationBean<AdmissionLimitFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionLimitFilter(registry, maxInFlight, admissionTimeoutMs));
+        registration.addUrlPatterns("/api/*");
+        // Güvenlik zincirinden önce: reddedilecek istek hiçbir iş yapmasın
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sharedJsonBufferPool() {
+        return builder -> builder.factory(JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                .build());
+    }
+
+    /** Aynı anda işlenen API isteği sayısını sınırlar */
+    static final class AdmissionLimitFilter extends OncePerRequestFilter {
+
+        private final Semaphore permits;
+        private final long admissionTimeoutMs;
+        private final Counter rejected;
+
+        AdmissionLimitFilter(MeterRegistry registry, int maxInFlight, long admissionTimeoutMs) {
+            if (maxInFlight <= 0) {
+                throw new IllegalArgumentException("max-in-flight-requests pozitif olmalıdır!");
+            }
+            this.permits = new Semaphore(maxInFlight, true);
+            this.admissionTimeoutMs = admissionTimeoutMs;
+            Gauge.builder("dinobank.http.admission.in_flight", permits, p -> maxInFlight - p.availablePermits())
+                    .description("İşlenmekte olan API istekleri")
+                    .register(registry);
+            Gauge.builder("dinobank.http.admission.queued", permits, Semaphore::getQueueLength)
+                    .description("Kabul için bekleyen API istekleri")
+                    .register(registry);
+            this.rejected = Counter.builder("dinobank.http.admission.rejected")
+                    .description("Kabul sınırı nedeniyle 503 dönen istekler")
+                    .register(registry);
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                FilterChain chain) throws ServletException, IOException {
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(admissionTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                rejected.increment();
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                response.setHeader("Retry-After", "1");
+                response.setContentType("application/json;charset=UTF-8");
+                response.getWriter().write("{\"message\": \"Sistem yoğun, lütfen tekrar deneyin\"}");
+                return;
+            }
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                permits.release();
+            }
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.dinobank.controller;
 
+import com.dinobank.account.service.AccountVersionRegistry;
 import com.dinobank.model.Account;
 import com.dinobank.model.Customer;
 import com.dinobank.repository.AccountRepository;
 import com.dinobank.repository.CustomerRepository;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -50,12 +54,17 @@ public class AccountSummaryController {
     /** Müşteri veritabanı erişimi */
     private final CustomerRepository customerRepository;
 
+    /** ETag üretimi için bellek içi hesap/müşteri versiyonları */
+    private final AccountVersionRegistry accountVersionRegistry;
+
     /**
      * Constructor - Repository bağımlılıklarını enjekte eder
      */
-    public AccountSummaryController(AccountRepository accountRepository, CustomerRepository customerRepository) {
+    public AccountSummaryController(AccountRepository accountRepository, CustomerRepository customerRepository,
+            AccountVersionRegistry accountVersionRegistry) {
         this.accountRepository = accountRepository;
         this.customerRepository = customerRepository;
+        this.accountVersionRegistry = accountVersionRegistry;
     }
 
     /**
@@ -75,7 +84,8 @@ public class AccountSummaryController {
      * ÖRNEK: GET /api/accounts/summary/1
      * 
      * RESPONSE:
-     * - 200 OK: Account objesi (balance, accountNumber, currency, vb.)
+     * - 200 OK: Account objesi (balance, accountNumber, currency, vb.) + ETag
+     * - 304 Not Modified: If-None-Match güncel ETag ile aynı (DB'ye gidilmez)
      * - 404 Not Found: Müşteri veya hesap bulunamadı
      * 
      * NOT: Müşterinin birden fazla hesabı olabilir, bu endpoint
@@ -86,7 +96,13 @@ public class AccountSummaryController {
      * @return Müşterinin ana hesap bilgileri
      */
     @GetMapping("/summary/{customerId}")
-    public ResponseEntity<Account> getAccountByCustomerId(@PathVariable Long customerId) {
+    public ResponseEntity<Account> getAccountByCustomerId(@PathVariable Long customerId, WebRequest webRequest) {
+
+        // ADIM 0: Koşullu GET - versiyon veriden ÖNCE okunur
+        String etag = accountVersionRegistry.customerETag(customerId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
 
         // ADIM 1: Müşteriyi veritabanında ara
         Optional<Customer> customerOpt = customerRepository.findById(customerId);
@@ -103,7 +119,7 @@ public class AccountSummaryController {
         }
 
         // ADIM 4: İlk hesabı döndür (ana hesap olarak kabul ediyoruz)
-        return ResponseEntity.ok(accounts.get(0));
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(accounts.get(0));
     }
 
 }
\ No newline at end of file
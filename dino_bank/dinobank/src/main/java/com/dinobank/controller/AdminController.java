@@ -4,6 +4,7 @@ import com.dinobank.repository.AccountRepository;
 import com.dinobank.repository.CustomerRepository;
 import com.dinobank.repository.TransactionRepository;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -88,9 +89,12 @@ public class AdminController {
      * Büyük veritabanlarında performans sorunu yaratabilir.
      * Üretim ortamında sayfalama (pagination) eklenmelidir.
      * 
+     * Üç sorgu tek bir salt okunur transaction'da (aynı replika bağlantısı) çalışır.
+     * 
      * @return Tüm veritabanı verilerini içeren Map objesi
      */
     @GetMapping("/db")
+    @Transactional(readOnly = true)
     public ResponseEntity<Map<String, Object>> getDatabaseData() {
         Map<String, Object> data = new HashMap<>();
 
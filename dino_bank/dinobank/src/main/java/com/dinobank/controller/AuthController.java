@@ -1,11 +1,21 @@
 package com.dinobank.controller;
 
+import com.dinobank.Customer.controller.CustomerResponseDto;
+import com.dinobank.Customer.service.CustomerSearchIndex;
+import com.dinobank.account.service.AccountNumberAllocator;
+import com.dinobank.account.service.AccountVersionRegistry;
 import com.dinobank.dto.LoginRequestDto;
 import com.dinobank.model.Customer;
+import com.dinobank.outbox.DomainEvents;
+import com.dinobank.outbox.OutboxEventType;
+import com.dinobank.outbox.OutboxWriter;
 import com.dinobank.repository.CustomerRepository;
 import com.dinobank.repository.AccountRepository;
+import com.dinobank.validation.TcKimlikValidator;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.Map;
@@ -58,6 +68,7 @@ import java.time.LocalDateTime;
 @RestController // REST API kontrolcüsü
 @RequestMapping("/api/auth") // Base path: /api/auth
 @CrossOrigin(origins = "http://localhost:5173") // React dev server'a CORS izni
+@Timed(value = "dinobank.service", percentiles = { 0.5, 0.95, 0.99 }, histogram = true)
 public class AuthController {
 
     /** Müşteri veritabanı erişimi */
@@ -71,14 +82,32 @@ public class AuthController {
     /** Şifre hashleme/doğrulama servisi - BCrypt algoritması kullanır */
     private final BCryptPasswordEncoder passwordEncoder;
 
+    /** Merkezi hesap numarası üreticisi (çakışmasız, kontrol haneli) */
+    private final AccountNumberAllocator accountNumberAllocator;
+
+    /** Admin müşteri araması için bellek içi önek indeksi */
+    private final CustomerSearchIndex customerSearchIndex;
+
+    /** Hesap özeti ETag'lerinin versiyon kaynağı */
+    private final AccountVersionRegistry accountVersionRegistry;
+
+    /** Kayıt olayını müşteri/hesap yazısıyla aynı transaction'da çıkış kutusuna ekler */
+    private final OutboxWriter outboxWriter;
+
     /**
      * Constructor - Bağımlılıkları enjekte eder
      */
     public AuthController(CustomerRepository customerRepository, AccountRepository accountRepository,
-            BCryptPasswordEncoder passwordEncoder) {
+            BCryptPasswordEncoder passwordEncoder, AccountNumberAllocator accountNumberAllocator,
+            CustomerSearchIndex customerSearchIndex, AccountVersionRegistry accountVersionRegistry,
+            OutboxWriter outboxWriter) {
         this.customerRepository = customerRepository;
         this.accountRepository = accountRepository;
         this.passwordEncoder = passwordEncoder;
+        this.accountNumberAllocator = accountNumberAllocator;
+        this.customerSearchIndex = customerSearchIndex;
+        this.accountVersionRegistry = accountVersionRegistry;
+        this.outboxWriter = outboxWriter;
     }
 
     /**
@@ -176,14 +205,22 @@ public class AuthController {
      * 2. Şifreyi BCrypt ile hashle
      * 3. Müşteriyi veritabanına kaydet
      * 4. Varsayılan vadesiz hesap oluştur
-     * 5. Başarı mesajı döndür
+     * 5. CUSTOMER_REGISTERED olayını çıkış kutusuna ekle
+     * 6. Başarı mesajı döndür
+     * 
+     * Müşteri, hesap ve olay tek transaction'da yazılır; hesap açılamazsa
+     * müşteri kaydı da geri alınır.
      * 
      * @param customer Yeni müşteri bilgileri
      * @return Başarı mesajı veya hata
      */
     @PostMapping("/register")
+    @Transactional
     public ResponseEntity<Map<String, Object>> register(@RequestBody Customer customer) {
-        // ADIM 1: E-posta tekrarı kontrolü
+        // ADIM 1: T.C. Kimlik doğrulaması (DB'ye gitmeden) ve e-posta tekrarı kontrolü
+        if (!TcKimlikValidator.isValid(customer.getTcKimlikNo())) {
+            return ResponseEntity.status(400).body(Map.of("message", "Geçersiz T.C. Kimlik Numarası!"));
+        }
         if (customerRepository.findByEmail(customer.getEmail()).isPresent()) {
             return ResponseEntity.status(400).body(Map.of("message", "Bu e-posta zaten kayıtlı!"));
         }
@@ -195,12 +232,14 @@ public class AuthController {
 
         // ADIM 3: Müşteriyi veritabanına kaydet
         Customer savedCustomer = customerRepository.save(customer);
+        customerSearchIndex.addAfterCommit(new CustomerResponseDto(savedCustomer.getId(), savedCustomer.getAd(),
+                savedCustomer.getSoyad(), savedCustomer.getEmail(), savedCustomer.getKayitTarihi()));
 
         // ADIM 4: Varsayılan vadesiz hesap oluştur
         // Her yeni müşteriye otomatik olarak bir hesap açıyoruz
         com.dinobank.model.Account defaultAccount = new com.dinobank.model.Account();
-        defaultAccount.setAccountNumber("TR" + System.currentTimeMillis()); // Benzersiz hesap no
-        defaultAccount.setAccountType("VADESİZ");
+        defaultAccount.setAccountNumber(accountNumberAllocator.nextAccountNumber()); // Benzersiz hesap no
+        defaultAccount.setAccountType("VADESIZ"); // Limit anahtarı ve diğer hesap açan akışlarla aynı yazım
         defaultAccount.setBalance(java.math.BigDecimal.ZERO); // Başlangıç bakiyesi: 0 TL
         defaultAccount.setCurrency("TRY");
         defaultAccount.setOpeningDate(LocalDateTime.now());
@@ -208,8 +247,16 @@ public class AuthController {
         defaultAccount.setCustomer(savedCustomer);
 
         accountRepository.save(defaultAccount);
+        // Kayıttan önce alınmış 404 cevaplarının ETag'i artık geçersiz
+        accountVersionRegistry.bumpAfterCommit(defaultAccount);
+
+        // ADIM 5: Kayıt olayı (dashboard, bildirim, denetim aboneleri için)
+        outboxWriter.append(OutboxEventType.CUSTOMER_REGISTERED, defaultAccount.getId(),
+                new DomainEvents.CustomerRegistered(savedCustomer.getId(), defaultAccount.getId(),
+                        defaultAccount.getAccountNumber(), defaultAccount.getCurrency(),
+                        defaultAccount.getOpeningDate()));
 
-        // ADIM 5: Başarı mesajı döndür
+        // ADIM 6: Başarı mesajı döndür
         return ResponseEntity.ok(Map.of("message", "Kayıt Başarılı!", "id", savedCustomer.getId()));
     }
 }
\ No newline at end of file
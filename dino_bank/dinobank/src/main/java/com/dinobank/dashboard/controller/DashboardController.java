@@ -0,0 +1,68 @@
+package com.dinobank.dashboard.controller;
+
+import com.dinobank.dashboard.service.DashboardService;
+import com.dinobank.dashboard.service.DashboardService.DashboardView;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+/**
+ * =============================================================================
+ * DASHBOARD CONTROLLER - Müşteri Paneli API Kontrolcüsü
+ * =============================================================================
+ *
+ * DashboardPage.jsx'in tek çağrısı: hesaplar, bakiyeler, son işlemler,
+ * aylık harcama ve kredi durumu tek cevapta gelir.
+ *
+ * API ENDPOINT:
+ * ┌─────────────────────────────────────────────────────────────────────────────┐
+ * │ METHOD │ ENDPOINT │ AÇIKLAMA │
+ * ├────────┼───────────────────────────────┼───────────────────────────────────┤
+ * │ GET │ /api/dashboard/{customerId} │ Müşteri paneli (tek satır okuma) │
+ * └─────────────────────────────────────────────────────────────────────────────┘
+ *
+ * RESPONSE:
+ * - 200 OK: CustomerDashboard JSON'u + ETag
+ * - 304 Not Modified: If-None-Match güncel ETag ile aynı
+ * - 404 Not Found: Müşteri bulunamadı
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ * @see DashboardService
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    // Kayıtlı JSON çözülüp yeniden yazılmaz; olduğu gibi gönderilir
+    @GetMapping("/{customerId}")
+    public ResponseEntity<String> getDashboard(@PathVariable Long customerId, WebRequest webRequest) {
+        Optional<DashboardView> view = dashboardService.getDashboard(customerId);
+        if (view.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String etag = view.get().etag();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(view.get().payload());
+    }
+}
@@ -0,0 +1,130 @@
+package com.dinobank.dashboard.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Müşteri panelinin tek satırlık okuma modeli. customer_dashboards.payload
+ * kolonunda JSON olarak durur ve /api/dashboard/{customerId} cevabı olarak
+ * olduğu gibi döner. DashboardProjection olaylarla artımlı günceller.
+ *
+ * Tutarlar hesabın kendi para birimindedir; aylık harcama para birimi
+ * başına ayrı tutulur.
+ */
+public class CustomerDashboard {
+
+    private Long customerId;
+    private String ad;
+    private String soyad;
+    private List<AccountLine> accounts = new ArrayList<>();
+    /** En yeni başta, en fazla dinobank.dashboard.recent-transactions kadar */
+    private List<RecentTransaction> recentTransactions = new ArrayList<>();
+    /** Ay (yyyy-MM) ve para birimi başına giden para; en eski ay başta */
+    private List<MonthlySpend> monthlySpend = new ArrayList<>();
+    private CreditStatus credit;
+    /** Modele yansıtılmış son outbox olayı (ETag'in parçası) */
+    private long lastEventId;
+    /** Aylık harcamaya sayılmış en büyük işlem id'si; tekrar teslim edilen olay iki kez sayılmaz */
+    private long lastTransactionId;
+    private LocalDateTime updatedAt;
+
+    public record AccountLine(Long accountId, String accountNumber, String accountType, String currency,
+            BigDecimal balance) {
+    }
+
+    /** direction: OUT (müşterinin hesabından çıkan) veya IN (müşterinin hesabına giren) */
+    public record RecentTransaction(Long transactionId, String transactionType, String direction,
+            String accountNumber, String counterpartyAccountNumber, BigDecimal amount, String currency,
+            LocalDateTime occurredAt) {
+    }
+
+    public record MonthlySpend(String month, String currency, BigDecimal amount) {
+    }
+
+    /** Son kredi başvurusunun durumu */
+    public record CreditStatus(Long applicationId, String status, BigDecimal requestedAmount,
+            String rejectionReason, LocalDateTime decidedAt) {
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public String getAd() {
+        return ad;
+    }
+
+    public void setAd(String ad) {
+        this.ad = ad;
+    }
+
+    public String getSoyad() {
+        return soyad;
+    }
+
+    public void setSoyad(String soyad) {
+        this.soyad = soyad;
+    }
+
+    public List<AccountLine> getAccounts() {
+        return accounts;
+    }
+
+    public void setAccounts(List<AccountLine> accounts) {
+        this.accounts = accounts;
+    }
+
+    public List<RecentTransaction> getRecentTransactions() {
+        return recentTransactions;
+    }
+
+    public void setRecentTransactions(List<RecentTransaction> recentTransactions) {
+        this.recentTransactions = recentTransactions;
+    }
+
+    public List<MonthlySpend> getMonthlySpend() {
+        return monthlySpend;
+    }
+
+    public void setMonthlySpend(List<MonthlySpend> monthlySpend) {
+        this.monthlySpend = monthlySpend;
+    }
+
+    public CreditStatus getCredit() {
+        return credit;
+    }
+
+    public void setCredit(CreditStatus credit) {
+        this.credit = credit;
+    }
+
+    public long getLastEventId() {
+        return lastEventId;
+    }
+
+    public void setLastEventId(long lastEventId) {
+        this.lastEventId = lastEventId;
+    }
+
+    public long getLastTransactionId() {
+        return lastTransactionId;
+    }
+
+    public void setLastTransactionId(long lastTransactionId) {
+        this.lastTransactionId = lastTransactionId;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,279 @@
+package com.dinobank.dashboard.service;
+
+import com.dinobank.dashboard.dto.CustomerDashboard;
+import com.dinobank.dashboard.dto.CustomerDashboard.AccountLine;
+import com.dinobank.dashboard.dto.CustomerDashboard.CreditStatus;
+import com.dinobank.dashboard.dto.CustomerDashboard.MonthlySpend;
+import com.dinobank.dashboard.dto.CustomerDashboard.RecentTransaction;
+import com.dinobank.outbox.DomainEvents;
+import com.dinobank.outbox.OutboxEvent;
+import com.dinobank.outbox.OutboxSubscriber;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * =============================================================================
+ * DASHBOARD PROJECTION - Panel Okuma Modelini Olaylarla Günceller
+ * =============================================================================
+ *
+ * Outbox abonesidir ("dashboard"). Her partide:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 1. Olayların dokunduğu müşteriler toplanır                      │
+ * │ 2. Modelleri tek sorguda okunur; satırı olmayanlar ana          │
+ * │    tablolardan kurulur                                          │
+ * │ 3. Olaylar sırayla bellekte uygulanır                           │
+ * │ 4. Değişen satırlar JDBC batch ile yazılır (offset ile birlikte)│
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * İDEMPOTENTLİK (en az bir kez teslimat, yeniden kurulumla çakışma):
+ * - Bakiyeler olaydaki hareket SONRASI değerlerle üzerine yazılır
+ * - Son işlemler transactionId ile tekilleştirilir
+ * - Aylık harcamaya yalnızca lastTransactionId'den büyük işlemler eklenir
+ * - Kredi durumu yalnızca aynı ya da daha yeni başvuru için değişir
+ * Modelde bilinmeyen bir hesap görülürse (olay üretmeyen toplu yükleme vb.)
+ * model ana tablolardan yeniden kurulur.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Component
+public class DashboardProjection implements OutboxSubscriber {
+
+    private final DashboardService dashboardService;
+    private final ObjectMapper objectMapper;
+
+    public DashboardProjection(DashboardService dashboardService, ObjectMapper objectMapper) {
+        this.dashboardService = dashboardService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return "dashboard";
+    }
+
+    @Override
+    public void onEvents(List<OutboxEvent> events) {
+        List<Object> payloads = new ArrayList<>(events.size());
+        Set<Long> customerIds = new LinkedHashSet<>();
+        for (OutboxEvent event : events) {
+            Object payload = parse(event);
+            payloads.add(payload);
+            collectCustomers(payload, customerIds);
+        }
+        if (customerIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, CustomerDashboard> existing = dashboardService.load(customerIds);
+        Map<Long, CustomerDashboard> created = new HashMap<>();
+        Map<Long, CustomerDashboard> dirty = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            Object payload = payloads.get(i);
+            long eventId = events.get(i).id();
+            Set<Long> touched = new LinkedHashSet<>();
+            collectCustomers(payload, touched);
+            for (Long customerId : touched) {
+                CustomerDashboard dashboard = existing.get(customerId);
+                if (dashboard == null) {
+                    dashboard = created.get(customerId);
+                }
+                if (dashboard == null) {
+                    dashboard = dashboardService.build(customerId);
+                    if (dashboard == null) {
+                        continue; // Müşteri silinmiş
+                    }
+                    created.put(customerId, dashboard);
+                }
+                if (!apply(dashboard, payload)) {
+                    dashboard = rebuild(customerId, existing, created);
+                    if (dashboard == null) {
+                        continue;
+                    }
+                }
+                dashboard.setLastEventId(Math.max(dashboard.getLastEventId(), eventId));
+                dashboard.setUpdatedAt(LocalDateTime.now());
+                dirty.put(customerId, dashboard);
+            }
+        }
+
+        List<CustomerDashboard> updates = new ArrayList<>();
+        for (Map.Entry<Long, CustomerDashboard> entry : dirty.entrySet()) {
+            if (existing.containsKey(entry.getKey())) {
+                updates.add(entry.getValue());
+            }
+        }
+        dashboardService.save(updates, created.values());
+    }
+
+    private CustomerDashboard rebuild(Long customerId, Map<Long, CustomerDashboard> existing,
+            Map<Long, CustomerDashboard> created) {
+        CustomerDashboard dashboard = dashboardService.build(customerId);
+        if (dashboard == null) {
+            return null;
+        }
+        if (existing.containsKey(customerId)) {
+            existing.put(customerId, dashboard);
+        } else {
+            created.put(customerId, dashboard);
+        }
+        return dashboard;
+    }
+
+    private Object parse(OutboxEvent event) {
+        Class<?> type = switch (event.type()) {
+            case TRANSFER_COMPLETED, DEPOSIT_COMPLETED, CREDIT_DISBURSED, INTEREST_POSTED ->
+                    DomainEvents.MoneyMoved.class;
+            case CREDIT_DECIDED -> DomainEvents.CreditDecided.class;
+            case CUSTOMER_REGISTERED -> DomainEvents.CustomerRegistered.class;
+            case ACCOUNT_OPENED -> DomainEvents.AccountOpened.class;
+        };
+        try {
+            return objectMapper.readValue(event.payload(), type);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Olay okunamadı: event_id " + event.id(), e);
+        }
+    }
+
+    private static void collectCustomers(Object payload, Set<Long> customerIds) {
+        switch (payload) {
+            case DomainEvents.MoneyMoved moved -> {
+                if (moved.fromCustomerId() != null) {
+                    customerIds.add(moved.fromCustomerId());
+                }
+                if (moved.toCustomerId() != null) {
+                    customerIds.add(moved.toCustomerId());
+                }
+            }
+            case DomainEvents.CreditDecided decided -> customerIds.add(decided.customerId());
+            case DomainEvents.CustomerRegistered registered -> customerIds.add(registered.customerId());
+            case DomainEvents.AccountOpened opened -> customerIds.add(opened.customerId());
+            default -> {
+            }
+        }
+    }
+
+    /** @return false: modelde olmayan bir hesap görüldü, yeniden kurulmalı */
+    private boolean apply(CustomerDashboard dashboard, Object payload) {
+        return switch (payload) {
+            case DomainEvents.MoneyMoved moved -> applyMoneyMoved(dashboard, moved);
+            case DomainEvents.CreditDecided decided -> {
+                CreditStatus current = dashboard.getCredit();
+                if (current == null || current.applicationId() <= decided.applicationId()) {
+                    dashboard.setCredit(new CreditStatus(decided.applicationId(), decided.status(),
+                            decided.requestedAmount(), decided.rejectionReason(), decided.occurredAt()));
+                }
+                yield true;
+            }
+            case DomainEvents.CustomerRegistered registered -> hasAccount(dashboard, registered.accountId());
+            case DomainEvents.AccountOpened opened -> {
+                if (!hasAccount(dashboard, opened.accountId())) {
+                    dashboard.getAccounts().add(new AccountLine(opened.accountId(), opened.accountNumber(),
+                            opened.accountType(), opened.currency(), opened.balance()));
+                }
+                yield true;
+            }
+            default -> true;
+        };
+    }
+
+    private boolean applyMoneyMoved(CustomerDashboard dashboard, DomainEvents.MoneyMoved moved) {
+        Long customerId = dashboard.getCustomerId();
+        boolean outgoing = customerId.equals(moved.fromCustomerId());
+        boolean incoming = customerId.equals(moved.toCustomerId());
+        if (outgoing && !updateBalance(dashboard, moved.fromAccountId(), moved.fromBalance())) {
+            return false;
+        }
+        if (incoming && !updateBalance(dashboard, moved.toAccountId(), moved.toBalance())) {
+            return false;
+        }
+
+        RecentTransaction line = outgoing
+                ? new RecentTransaction(moved.transactionId(), moved.transactionType(), "OUT",
+                        moved.fromAccountNumber(), moved.toAccountNumber(), moved.amount(), moved.currency(),
+                        moved.occurredAt())
+                : new RecentTransaction(moved.transactionId(), moved.transactionType(), "IN",
+                        moved.toAccountNumber(), moved.fromAccountNumber(), moved.creditedAmount(),
+                        moved.creditedCurrency(), moved.occurredAt());
+        addRecent(dashboard, line);
+
+        // Kendi hesapları arası transfer harcama değildir
+        if (outgoing && !incoming && moved.transactionId() != null
+                && moved.transactionId() > dashboard.getLastTransactionId()) {
+            addSpend(dashboard, YearMonth.from(moved.occurredAt()), moved.currency(), moved.amount());
+        }
+        if (outgoing && moved.transactionId() != null) {
+            dashboard.setLastTransactionId(Math.max(dashboard.getLastTransactionId(), moved.transactionId()));
+        }
+        return true;
+    }
+
+    private static boolean hasAccount(CustomerDashboard dashboard, Long accountId) {
+        for (AccountLine line : dashboard.getAccounts()) {
+            if (line.accountId().equals(accountId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean updateBalance(CustomerDashboard dashboard, Long accountId, BigDecimal balance) {
+        List<AccountLine> accounts = dashboard.getAccounts();
+        for (int i = 0; i < accounts.size(); i++) {
+            AccountLine line = accounts.get(i);
+            if (line.accountId().equals(accountId)) {
+                accounts.set(i, new AccountLine(line.accountId(), line.accountNumber(), line.accountType(),
+                        line.currency(), balance));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addRecent(CustomerDashboard dashboard, RecentTransaction line) {
+        List<RecentTransaction> recent = dashboard.getRecentTransactions();
+        if (line.transactionId() != null) {
+            for (RecentTransaction existing : recent) {
+                if (line.transactionId().equals(existing.transactionId())) {
+                    return;
+                }
+            }
+        }
+        recent.add(line);
+        recent.sort(DashboardService.NEWEST_FIRST);
+        int limit = dashboardService.getRecentLimit();
+        while (recent.size() > limit) {
+            recent.remove(recent.size() - 1);
+        }
+    }
+
+    private void addSpend(CustomerDashboard dashboard, YearMonth month, String currency, BigDecimal amount) {
+        YearMonth first = dashboardService.firstSpendMonth(YearMonth.now());
+        List<MonthlySpend> spend = dashboard.getMonthlySpend();
+        spend.removeIf(line -> YearMonth.parse(line.month()).isBefore(first));
+        if (month.isBefore(first)) {
+            return;
+        }
+        String key = month.toString();
+        for (int i = 0; i < spend.size(); i++) {
+            MonthlySpend line = spend.get(i);
+            if (line.month().equals(key) && line.currency().equals(currency)) {
+                spend.set(i, new MonthlySpend(key, currency, line.amount().add(amount)));
+                return;
+            }
+        }
+        spend.add(new MonthlySpend(key, currency, amount));
+        spend.sort(DashboardService.MONTH_ORDER);
+    }
+}
@@ -0,0 +1,323 @@
+package com.dinobank.dashboard.service;
+
+import com.dinobank.dashboard.dto.CustomerDashboard;
+import com.dinobank.dashboard.dto.CustomerDashboard.AccountLine;
+import com.dinobank.dashboard.dto.CustomerDashboard.CreditStatus;
+import com.dinobank.dashboard.dto.CustomerDashboard.MonthlySpend;
+import com.dinobank.dashboard.dto.CustomerDashboard.RecentTransaction;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * =============================================================================
+ * DASHBOARD SERVICE - Müşteri Paneli Okuma Modeli (CQRS)
+ * =============================================================================
+ *
+ * Panel verisi (hesaplar, bakiyeler, son işlemler, aylık harcama, kredi
+ * durumu) customer_dashboards tablosunda müşteri başına TEK SATIR JSON
+ * olarak tutulur. Okuma yolu join yapmaz, JSON'u çözmez:
+ *
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ GET /api/dashboard/{id}                                         │
+ * │   → SELECT payload ... WHERE customer_id = ? (birincil anahtar) │
+ * │   → payload olduğu gibi cevaba yazılır                          │
+ * │ Satır yoksa (ilk istek / projeksiyondan önceki müşteri):        │
+ * │   → ana tablolardan tek snapshot'ta kurulur ve kaydedilir       │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * Satırı sonrasında DashboardProjection, outbox olaylarıyla artımlı
+ * günceller. Kurulum okumaları primary'den yapılır: replika gecikmesi
+ * eski bir modeli kalıcı hale getirebilirdi.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Service
+public class DashboardService {
+
+    /** Son işlemler listesinin sırası: en yeni başta, eşitlikte büyük id başta */
+    public static final Comparator<RecentTransaction> NEWEST_FIRST = Comparator
+            .comparing(RecentTransaction::occurredAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(RecentTransaction::transactionId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    /** Aylık harcama listesinin sırası: en eski ay başta, ay içinde para birimine göre */
+    public static final Comparator<MonthlySpend> MONTH_ORDER = Comparator.comparing(MonthlySpend::month)
+            .thenComparing(MonthlySpend::currency);
+
+    private static final String SELECT_ROW_SQL = """
+            SELECT payload, last_event_id, updated_at FROM public.customer_dashboards WHERE customer_id = ?
+            """;
+
+    private static final String INSERT_ROW_SQL = """
+            INSERT INTO public.customer_dashboards (customer_id, last_event_id, payload, updated_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_ROW_SQL = """
+            UPDATE public.customer_dashboards SET last_event_id = ?, payload = ?, updated_at = ?
+            WHERE customer_id = ?
+            """;
+
+    private static final String RECENT_SQL = """
+            SELECT t.transaction_id, t.transaction_type, t.from_account_id, t.to_account_id,
+                   fa.account_number AS from_number, ta.account_number AS to_number,
+                   t.amount, t.currency, t.converted_amount, t.converted_currency, t.transaction_date
+            FROM public.transactions t
+            LEFT JOIN public.accounts fa ON fa.account_id = t.from_account_id
+            LEFT JOIN public.accounts ta ON ta.account_id = t.to_account_id
+            WHERE t.%s IN (SELECT account_id FROM public.accounts WHERE customer_id = ?)
+            ORDER BY t.transaction_date DESC, t.transaction_id DESC
+            LIMIT ?
+            """;
+
+    // Müşterinin kendi hesapları arasındaki transfer harcama sayılmaz
+    private static final String SPEND_SQL = """
+            SELECT EXTRACT(YEAR FROM t.transaction_date) AS y, EXTRACT(MONTH FROM t.transaction_date) AS m,
+                   t.currency, SUM(t.amount) AS total
+            FROM public.transactions t
+            LEFT JOIN public.accounts ta ON ta.account_id = t.to_account_id
+            WHERE t.from_account_id IN (SELECT account_id FROM public.accounts WHERE customer_id = ?)
+              AND t.transaction_date >= ?
+              AND (ta.customer_id IS NULL OR ta.customer_id <> ?)
+            GROUP BY EXTRACT(YEAR FROM t.transaction_date), EXTRACT(MONTH FROM t.transaction_date), t.currency
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate snapshotTemplate;
+    private final int recentLimit;
+    private final int spendMonths;
+
+    public DashboardService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${dinobank.dashboard.recent-transactions:10}") int recentLimit,
+            @Value("${dinobank.dashboard.spend-months:12}") int spendMonths) {
+        if (recentLimit <= 0 || spendMonths <= 0) {
+            throw new IllegalArgumentException("dinobank.dashboard.* değerleri pozitif olmalıdır!");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.recentLimit = recentLimit;
+        this.spendMonths = spendMonths;
+    }
+
+    /** Cevaba olduğu gibi yazılacak JSON ve ETag'i */
+    public record DashboardView(String payload, String etag) {
+    }
+
+    /**
+     * Müşterinin panelini döner; satır yoksa kurup kaydeder.
+     *
+     * @return Müşteri yoksa boş
+     */
+    public Optional<DashboardView> getDashboard(Long customerId) {
+        Optional<DashboardView> stored = readRow(customerId);
+        if (stored.isPresent()) {
+            return stored;
+        }
+        try {
+            return Optional.ofNullable(snapshotTemplate.execute(status -> {
+                CustomerDashboard dashboard = build(customerId);
+                if (dashboard == null) {
+                    return null;
+                }
+                String payload = toJson(dashboard);
+                jdbcTemplate.update(INSERT_ROW_SQL, customerId, dashboard.getLastEventId(), payload,
+                        Timestamp.valueOf(dashboard.getUpdatedAt()));
+                return new DashboardView(payload, etag(customerId, dashboard.getLastEventId(),
+                        dashboard.getUpdatedAt()));
+            }));
+        } catch (DuplicateKeyException e) {
+            // Projeksiyon aynı anda kurdu; onun satırı döner
+            return readRow(customerId);
+        }
+    }
+
+    private Optional<DashboardView> readRow(Long customerId) {
+        List<DashboardView> rows = jdbcTemplate.query(SELECT_ROW_SQL,
+                (rs, rowNum) -> new DashboardView(rs.getString("payload"),
+                        etag(customerId, rs.getLong("last_event_id"),
+                                rs.getTimestamp("updated_at").toLocalDateTime())),
+                customerId);
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    /** Kayıtlı modeller (JSON çözülmüş); olmayan müşteriler haritada yer almaz */
+    public Map<Long, CustomerDashboard> load(Collection<Long> customerIds) {
+        Map<Long, CustomerDashboard> result = new HashMap<>();
+        List<Long> ids = new ArrayList<>(customerIds);
+        for (int from = 0; from < ids.size(); from += 500) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + 500));
+            String sql = "SELECT customer_id, payload FROM public.customer_dashboards WHERE customer_id IN ("
+                    + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+            jdbcTemplate.query(sql, rs -> {
+                result.put(rs.getLong("customer_id"), fromJson(rs.getString("payload")));
+            }, chunk.toArray());
+        }
+        return result;
+    }
+
+    /** Projeksiyonun yazdığı modeller: mevcut satırlar güncellenir, yeniler eklenir */
+    public void save(Collection<CustomerDashboard> existing, Collection<CustomerDashboard> created) {
+        List<Object[]> updates = new ArrayList<>(existing.size());
+        for (CustomerDashboard dashboard : existing) {
+            updates.add(new Object[] { dashboard.getLastEventId(), toJson(dashboard),
+                    Timestamp.valueOf(dashboard.getUpdatedAt()), dashboard.getCustomerId() });
+        }
+        List<Object[]> inserts = new ArrayList<>(created.size());
+        for (CustomerDashboard dashboard : created) {
+            inserts.add(new Object[] { dashboard.getCustomerId(), dashboard.getLastEventId(), toJson(dashboard),
+                    Timestamp.valueOf(dashboard.getUpdatedAt()) });
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_ROW_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ROW_SQL, inserts);
+        }
+    }
+
+    /**
+     * Modeli ana tablolardan kurar. Çağıranın transaction'ında çalışır;
+     * tek snapshot için REPEATABLE_READ bir transaction içinden çağrılmalıdır.
+     *
+     * @return Müşteri yoksa null
+     */
+    public CustomerDashboard build(Long customerId) {
+        List<CustomerDashboard> customers = jdbcTemplate.query(
+                "SELECT customer_id, ad, soyad FROM public.customers WHERE customer_id = ?",
+                (rs, rowNum) -> {
+                    CustomerDashboard dashboard = new CustomerDashboard();
+                    dashboard.setCustomerId(rs.getLong("customer_id"));
+                    dashboard.setAd(rs.getString("ad"));
+                    dashboard.setSoyad(rs.getString("soyad"));
+                    return dashboard;
+                }, customerId);
+        if (customers.isEmpty()) {
+            return null;
+        }
+        CustomerDashboard dashboard = customers.get(0);
+
+        dashboard.setAccounts(jdbcTemplate.query("""
+                SELECT account_id, account_number, account_type, currency, balance
+                FROM public.accounts WHERE customer_id = ? ORDER BY account_id
+                """, (rs, rowNum) -> new AccountLine(rs.getLong("account_id"), rs.getString("account_number"),
+                rs.getString("account_type"), rs.getString("currency"), rs.getBigDecimal("balance")), customerId));
+
+        Set<Long> own = new HashSet<>();
+        dashboard.getAccounts().forEach(line -> own.add(line.accountId()));
+        Map<Long, RecentTransaction> recent = new HashMap<>();
+        for (String side : List.of("from_account_id", "to_account_id")) {
+            jdbcTemplate.query(RECENT_SQL.formatted(side), rs -> {
+                RecentTransaction line = recentLine(rs, own);
+                recent.putIfAbsent(line.transactionId(), line);
+            }, customerId, recentLimit);
+        }
+        List<RecentTransaction> recentLines = new ArrayList<>(recent.values());
+        recentLines.sort(NEWEST_FIRST);
+        dashboard.setRecentTransactions(new ArrayList<>(recentLines.subList(0, Math.min(recentLimit,
+                recentLines.size()))));
+
+        LocalDate since = firstSpendMonth(YearMonth.now()).atDay(1);
+        List<MonthlySpend> spend = jdbcTemplate.query(SPEND_SQL,
+                (rs, rowNum) -> new MonthlySpend(YearMonth.of(rs.getInt("y"), rs.getInt("m")).toString(),
+                        rs.getString("currency"), rs.getBigDecimal("total")),
+                customerId, Timestamp.valueOf(since.atStartOfDay()), customerId);
+        spend.sort(MONTH_ORDER);
+        dashboard.setMonthlySpend(new ArrayList<>(spend));
+
+        Long lastTransactionId = jdbcTemplate.queryForObject("""
+                SELECT MAX(transaction_id) FROM public.transactions
+                WHERE from_account_id IN (SELECT account_id FROM public.accounts WHERE customer_id = ?)
+                """, Long.class, customerId);
+        dashboard.setLastTransactionId(lastTransactionId != null ? lastTransactionId : 0L);
+
+        List<CreditStatus> credits = jdbcTemplate.query("""
+                SELECT credit_application_id, status, requested_amount, rejection_reason, evaluation_date
+                FROM public.credit_applications WHERE customer_id = ?
+                ORDER BY credit_application_id DESC LIMIT 1
+                """, (rs, rowNum) -> {
+            Timestamp evaluated = rs.getTimestamp("evaluation_date");
+            return new CreditStatus(rs.getLong("credit_application_id"), rs.getString("status"),
+                    rs.getBigDecimal("requested_amount"), rs.getString("rejection_reason"),
+                    evaluated != null ? evaluated.toLocalDateTime() : null);
+        }, customerId);
+        dashboard.setCredit(credits.isEmpty() ? null : credits.get(0));
+
+        Long lastEventId = jdbcTemplate.queryForObject("SELECT MAX(event_id) FROM public.outbox_events", Long.class);
+        dashboard.setLastEventId(lastEventId != null ? lastEventId : 0L);
+        dashboard.setUpdatedAt(LocalDateTime.now());
+        return dashboard;
+    }
+
+    public int getRecentLimit() {
+        return recentLimit;
+    }
+
+    /** Aylık harcama listesinde tutulan en eski ay */
+    public YearMonth firstSpendMonth(YearMonth current) {
+        return current.minusMonths(spendMonths - 1L);
+    }
+
+    private static RecentTransaction recentLine(ResultSet rs, Set<Long> own) throws SQLException {
+        long fromId = rs.getLong("from_account_id");
+        boolean outgoing = !rs.wasNull() && own.contains(fromId);
+        BigDecimal converted = rs.getBigDecimal("converted_amount");
+        String convertedCurrency = rs.getString("converted_currency");
+        BigDecimal amount = !outgoing && converted != null ? converted : rs.getBigDecimal("amount");
+        String currency = !outgoing && convertedCurrency != null ? convertedCurrency : rs.getString("currency");
+        return new RecentTransaction(rs.getLong("transaction_id"), rs.getString("transaction_type"),
+                outgoing ? "OUT" : "IN",
+                outgoing ? rs.getString("from_number") : rs.getString("to_number"),
+                outgoing ? rs.getString("to_number") : rs.getString("from_number"),
+                amount, currency, rs.getTimestamp("transaction_date").toLocalDateTime());
+    }
+
+    private static String etag(Long customerId, long lastEventId, LocalDateTime updatedAt) {
+        return "\"d" + customerId + '-' + lastEventId + '-'
+                + Long.toString(Timestamp.valueOf(updatedAt).getTime(), 36) + '"';
+    }
+
+    private String toJson(CustomerDashboard dashboard) {
+        try {
+            return objectMapper.writeValueAsString(dashboard);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Panel modeli serileştirilemedi: " + dashboard.getCustomerId(), e);
+        }
+    }
+
+    private CustomerDashboard fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, CustomerDashboard.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Panel modeli okunamadı", e);
+        }
+    }
+}
@@ -0,0 +1,498 @@
+package com.dinobank.datagen;
+
+import com.dinobank.account.service.AccountNumberAllocator;
+import com.dinobank.validation.TcKimlikValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * =============================================================================
+ * SYNTHETIC DATA GENERATOR - Ölçek Testi İçin Sentetik Veri
+ * =============================================================================
+ *
+ * "generate" profiliyle çalışır; DataSeeder bu profilde devre dışıdır.
+ * Milyonlarca müşteri, hesap ve işlemi entity/Hibernate katmanına hiç
+ * uğramadan doğrudan tablolara yazar, bittiğinde uygulamayı kapatır:
+ *
+ * java -jar dinobank-0.0.1-SNAPSHOT-exec.jar --spring.profiles.active=generate \
+ * --dinobank.datagen.customers=2000000 --dinobank.datagen.transactions=50000000
+ *
+ * ÇALIŞMA MANTIĞI:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 1. Hesap sayıları parça tohumlarından önceden sayılır │
+ * │ → tüm ID'ler önceden bellidir, parçalar bağımsız üretilir │
+ * │ 2. Müşteri + hesap parçaları paralel üreticilerle yazılır │
+ * │ 3. İşlem parçaları paralel yazılır (gönderen düzgün, alıcı Zipf) │
+ * │ 4. Bakiyeler işlemlerden yeniden hesaplanır, sequence'lar │
+ * │ son ID'ye çekilir │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * TEKRARLANABİLİRLİK: Her parça kendi Random'ını (tohum, faz, parça no)
+ * üçlüsünden türetir. Thread sayısı veya zamanlama değişse de aynı tohum
+ * aynı günde aynı satırları üretir (tarihler bugünün başına göredir).
+ *
+ * GERÇEKÇİLİK:
+ * - Hesapların %70'i tek, %22'si iki, %8'i üç hesaplıdır
+ * - Açılış yatırımları log-normal (medyan ~20.000 TL) + beklenen çıkışın
+ * 3 katı; işlemler küçük, eksi bakiye çok nadirdir (uzun kuyruk)
+ * - Transfer ve yatırma alıcıları Zipf dağılımlıdır; sıcak hesaplar
+ * ID aralığına karıştırılır, ilk ID'lere yığılmaz
+ * - Şifre bir kez BCrypt ile hashlenir, tüm satırlarda aynı hash kullanılır
+ * - Hesap numaraları "9999" banka koduyla üretilir; canlı üreticinin
+ * (1907) numaralarıyla çakışmaz
+ *
+ * Mevcut verinin üzerine eklenir: ID'ler tablolardaki en büyük ID'den
+ * devam eder.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Component
+@Profile("generate")
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String BANK_CODE = "9999";
+    /** Sentetik TC'lerin ilk 9 hanesi 900000000 + müşteri ID'sidir */
+    private static final long TC_PREFIX = 900_000_000L;
+    private static final long MAX_CUSTOMER_ID = 99_999_999L;
+
+    /** Log-normal tutar parametreleri (TL medyan, σ) */
+    private static final double OPENING_MEDIAN = 20_000;
+    private static final double TRANSFER_MEDIAN = 300;
+    private static final double TRANSFER_SIGMA = 1.2;
+    private static final double WITHDRAWAL_MEDIAN = 250;
+    private static final double WITHDRAWAL_SIGMA = 1.0;
+
+    private static final long PHASE_CUSTOMERS = 1;
+    private static final long PHASE_TRANSACTIONS = 2;
+
+    private static final String[] CUSTOMER_COLUMNS = { "customer_id", "tc_kimlik_no", "ad", "soyad", "email",
+            "telefon", "dogum_tarihi", "adres", "sifre", "kayit_tarihi", "aktif" };
+    private static final String[] ACCOUNT_COLUMNS = { "account_id", "customer_id", "account_number", "account_type",
+            "balance", "currency", "opening_date", "active" };
+    private static final String[] TRANSACTION_COLUMNS = { "transaction_id", "from_account_id", "to_account_id",
+            "transaction_type", "amount", "currency", "description", "transaction_date", "status" };
+
+    private static final String[] FIRST_NAMES = { "Ahmet", "Mehmet", "Mustafa", "Ali", "Hüseyin", "Hasan", "İbrahim",
+            "Osman", "Yusuf", "Murat", "Emre", "Burak", "Kürşat", "Atilla", "İlkmert", "Ayşe", "Fatma", "Emine",
+            "Hatice", "Zeynep", "Elif", "Meryem", "Şerife", "Büşra", "Esra", "Merve", "Selin", "Derya" };
+    private static final String[] LAST_NAMES = { "Yılmaz", "Kaya", "Demir", "Şahin", "Çelik", "Yıldız", "Yıldırım",
+            "Öztürk", "Aydın", "Özdemir", "Arslan", "Doğan", "Kılıç", "Aslan", "Çetin", "Kara", "Koç", "Kurt",
+            "Özkan", "Şimşek", "Yetkin", "Güneş", "Uğantaş", "Polat", "Erdoğan", "Korkmaz" };
+    private static final String[] CITIES = { "İstanbul", "Ankara", "İzmir", "Bursa", "Antalya", "Konya", "Adana",
+            "Gaziantep", "Kayseri", "Eskişehir", "Trabzon", "Samsun" };
+    private static final String[] WITHDRAWAL_DESCRIPTIONS = { "Market Alışverişi", "Fatura Ödemesi", "ATM Para Çekme",
+            "Kira Ödemesi", "Akaryakıt", "Restoran", "Online Alışveriş", "Netflix" };
+    private static final String[] TRANSFER_DESCRIPTIONS = { "Kira", "Borç Ödemesi", "Aidat", "Hediye", "Ortak Gider",
+            "Fatura Payı" };
+
+    // Hesap bakiyesi = gelen - giden; açılış yatırımı da bir DEPOSIT işlemidir
+    private static final String RECOMPUTE_BALANCE_SQL = """
+            UPDATE public.accounts a SET balance =
+                   COALESCE((SELECT SUM(t.amount) FROM public.transactions t
+                             WHERE t.to_account_id = a.account_id AND t.status = 'COMPLETED'), 0)
+                 - COALESCE((SELECT SUM(t.amount) FROM public.transactions t
+                             WHERE t.from_account_id = a.account_id AND t.status = 'COMPLETED'), 0)
+            WHERE a.account_id >= ? AND a.account_id < ?
+            """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext applicationContext;
+    private final long customers;
+    private final long transactions;
+    private final int historyDays;
+    private final double zipfExponent;
+    private final long seed;
+    private final int producers;
+    private final int batchSize;
+    private final String password;
+    private final boolean exitWhenDone;
+
+    public SyntheticDataGenerator(DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            BCryptPasswordEncoder passwordEncoder,
+            ConfigurableApplicationContext applicationContext,
+            @Value("${dinobank.datagen.customers:1000000}") long customers,
+            @Value("${dinobank.datagen.transactions:10000000}") long transactions,
+            @Value("${dinobank.datagen.history-days:365}") int historyDays,
+            @Value("${dinobank.datagen.zipf-exponent:1.1}") double zipfExponent,
+            @Value("${dinobank.datagen.seed:42}") long seed,
+            @Value("${dinobank.datagen.producers:0}") int producers,
+            @Value("${dinobank.datagen.batch-size:10000}") int batchSize,
+            @Value("${dinobank.datagen.password:123}") String password,
+            @Value("${dinobank.datagen.exit-when-done:true}") boolean exitWhenDone) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.applicationContext = applicationContext;
+        this.customers = customers;
+        this.transactions = transactions;
+        this.historyDays = historyDays;
+        this.zipfExponent = zipfExponent;
+        this.seed = seed;
+        this.producers = producers > 0 ? producers : Runtime.getRuntime().availableProcessors();
+        this.batchSize = batchSize;
+        this.password = password;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        long customerBase = nextId("customers", "customer_id");
+        long accountBase = nextId("accounts", "account_id");
+        long transactionBase = nextId("transactions", "transaction_id");
+        if (customerBase + customers - 1 > MAX_CUSTOMER_ID) {
+            throw new RuntimeException("Sentetik müşteri ID'leri " + MAX_CUSTOMER_ID + " sınırını aşıyor!");
+        }
+
+        log.info("Sentetik veri: {} müşteri, {} işlem, tohum={}, üretici={}, parça={}", customers, transactions, seed,
+                producers, batchSize);
+        long started = System.nanoTime();
+
+        // Tek hash: BCrypt satır başına ~100 ms'dir, milyonlarca satırda kabul edilemez
+        String passwordHash = passwordEncoder.encode(password);
+        LocalDateTime anchor = LocalDate.now().atStartOfDay();
+
+        // FAZ 0: Müşteri başına hesap sayısı → parça başlangıç ofsetleri
+        int chunkCount = (int) ((customers + batchSize - 1) / batchSize);
+        long[] chunkAccountOffsets = new long[chunkCount + 1];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            Random countRandom = countRandomFor(chunk);
+            long chunkCustomers = Math.min(batchSize, customers - (long) chunk * batchSize);
+            long chunkAccounts = 0;
+            for (long i = 0; i < chunkCustomers; i++) {
+                chunkAccounts += accountCount(countRandom);
+            }
+            chunkAccountOffsets[chunk + 1] = chunkAccountOffsets[chunk] + chunkAccounts;
+        }
+        long totalAccounts = chunkAccountOffsets[chunkCount];
+
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        try {
+            // FAZ 1: Müşteriler, hesaplar ve açılış yatırımları
+            long phaseStart = System.nanoTime();
+            List<ChunkTask> customerTasks = new ArrayList<>(chunkCount);
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int c = chunk;
+                customerTasks.add(() -> writeCustomerChunk(c, customerBase, accountBase, transactionBase,
+                        chunkAccountOffsets, passwordHash, anchor));
+            }
+            runAll(pool, customerTasks);
+            logPhase("Müşteri/hesap", customers + totalAccounts * 2, phaseStart);
+
+            // FAZ 2: Rastgele işlemler (açılış yatırımlarından sonraki ID'ler)
+            phaseStart = System.nanoTime();
+            long firstTransactionId = transactionBase + totalAccounts;
+            int txChunkCount = (int) ((transactions + batchSize - 1) / batchSize);
+            List<ChunkTask> transactionTasks = new ArrayList<>(txChunkCount);
+            for (int chunk = 0; chunk < txChunkCount; chunk++) {
+                int c = chunk;
+                transactionTasks.add(() -> writeTransactionChunk(c, accountBase, totalAccounts, firstTransactionId,
+                        anchor));
+            }
+            runAll(pool, transactionTasks);
+            logPhase("İşlem", transactions, phaseStart);
+
+            // FAZ 3: Bakiyeleri işlem geçmişiyle tutarlı hale getir
+            phaseStart = System.nanoTime();
+            long accountEnd = accountBase + totalAccounts;
+            List<ChunkTask> balanceTasks = new ArrayList<>();
+            for (long low = accountBase; low < accountEnd; low += batchSize) {
+                long from = low;
+                long to = Math.min(low + batchSize, accountEnd);
+                balanceTasks.add(() -> jdbcTemplate.update(RECOMPUTE_BALANCE_SQL, from, to));
+            }
+            runAll(pool, balanceTasks);
+            logPhase("Bakiye", totalAccounts, phaseStart);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        resetIdentity("customers", "customer_id", customerBase + customers);
+        resetIdentity("accounts", "account_id", accountBase + totalAccounts);
+        resetIdentity("transactions", "transaction_id", transactionBase + totalAccounts + transactions);
+        analyze();
+
+        log.info("Sentetik veri tamamlandı: {} müşteri, {} hesap, {} işlem, {} sn", customers, totalAccounts,
+                totalAccounts + transactions, (System.nanoTime() - started) / 1_000_000_000);
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    private void writeCustomerChunk(int chunk, long customerBase, long accountBase, long transactionBase,
+            long[] chunkAccountOffsets, String passwordHash, LocalDateTime anchor) throws SQLException {
+        // Faz 0 ile aynı tohum → aynı hesap sayıları, ofset tablosuyla birebir örtüşür
+        Random countRandom = countRandomFor(chunk);
+        Random random = new Random(mix(seed, PHASE_CUSTOMERS, chunk));
+        long firstCustomer = (long) chunk * batchSize;
+        long chunkCustomers = Math.min(batchSize, customers - firstCustomer);
+        long accountIndex = chunkAccountOffsets[chunk];
+        double expectedOutflow = expectedOutflowPerAccount(chunkAccountOffsets[chunkAccountOffsets.length - 1]);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            // Yabancı anahtarlar yüzünden sıra önemli: parça sonunda müşteri → hesap → işlem
+            int manualFlush = Integer.MAX_VALUE;
+            try (RowSink customerSink = RowSink.open(connection, "public.customers", CUSTOMER_COLUMNS, manualFlush);
+                    RowSink accountSink = RowSink.open(connection, "public.accounts", ACCOUNT_COLUMNS, manualFlush);
+                    RowSink openingSink = RowSink.open(connection, "public.transactions", TRANSACTION_COLUMNS,
+                            manualFlush)) {
+                for (long i = 0; i < chunkCustomers; i++) {
+                    long customerId = customerBase + firstCustomer + i;
+                    String ad = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                    String soyad = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                    LocalDate registered = anchor.toLocalDate().minusDays(historyDays + random.nextInt(3650));
+                    customerSink.row(customerId,
+                            TcKimlikValidator.withCheckDigits(TC_PREFIX + customerId),
+                            ad,
+                            soyad,
+                            "musteri" + customerId + "@sentetik.dinobank.com",
+                            "5" + (300_000_000L + random.nextInt(200_000_000)),
+                            LocalDate.of(1950 + random.nextInt(55), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                            CITIES[random.nextInt(CITIES.length)] + " Mah. " + (1 + random.nextInt(200)) + ". Sok.",
+                            passwordHash,
+                            registered,
+                            true);
+
+                    int accounts = accountCount(countRandom);
+                    for (int k = 0; k < accounts; k++) {
+                        long accountId = accountBase + accountIndex;
+                        LocalDateTime opened = anchor.minusDays(historyDays + random.nextInt(30))
+                                .plusSeconds(random.nextInt(86_400));
+                        accountSink.row(accountId,
+                                customerId,
+                                AccountNumberAllocator.format(BANK_CODE, accountId),
+                                k == 0 ? "VADESIZ" : "VADELI",
+                                BigDecimal.ZERO,
+                                "TRY",
+                                opened,
+                                true);
+                        openingSink.row(transactionBase + accountIndex,
+                                null,
+                                accountId,
+                                "DEPOSIT",
+                                openingAmount(random, expectedOutflow),
+                                "TRY",
+                                "Hesap Açılış Yatırımı",
+                                opened,
+                                "COMPLETED");
+                        accountIndex++;
+                    }
+                }
+                customerSink.flush();
+                accountSink.flush();
+                openingSink.flush();
+            }
+            connection.commit();
+        }
+    }
+
+    private void writeTransactionChunk(int chunk, long accountBase, long totalAccounts, long firstTransactionId,
+            LocalDateTime anchor) throws SQLException {
+        Random random = new Random(mix(seed, PHASE_TRANSACTIONS, chunk));
+        ZipfianSampler hotTargets = new ZipfianSampler(totalAccounts, zipfExponent);
+        long stride = coprimeStride(totalAccounts);
+        long firstRow = (long) chunk * batchSize;
+        long rows = Math.min(batchSize, transactions - firstRow);
+        long historySeconds = historyDays * 86_400L;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (RowSink sink = RowSink.open(connection, "public.transactions", TRANSACTION_COLUMNS, batchSize)) {
+                for (long i = 0; i < rows; i++) {
+                    LocalDateTime date = anchor.minusSeconds(1 + (long) (random.nextDouble() * historySeconds));
+                    int roll = random.nextInt(100);
+                    Long from;
+                    Long to;
+                    String type;
+                    String description;
+                    BigDecimal amount;
+                    if (roll < 60) {
+                        from = accountBase + (long) (random.nextDouble() * totalAccounts);
+                        to = accountBase + hotAccountIndex(hotTargets, random, stride, totalAccounts);
+                        if (to.equals(from)) {
+                            to = accountBase + (to - accountBase + 1) % totalAccounts;
+                        }
+                        type = "TRANSFER";
+                        description = TRANSFER_DESCRIPTIONS[random.nextInt(TRANSFER_DESCRIPTIONS.length)];
+                        amount = logNormalAmount(random, TRANSFER_MEDIAN, TRANSFER_SIGMA);
+                    } else if (roll < 85) {
+                        from = accountBase + (long) (random.nextDouble() * totalAccounts);
+                        to = null;
+                        type = "WITHDRAWAL";
+                        description = WITHDRAWAL_DESCRIPTIONS[random.nextInt(WITHDRAWAL_DESCRIPTIONS.length)];
+                        amount = logNormalAmount(random, WITHDRAWAL_MEDIAN, WITHDRAWAL_SIGMA);
+                    } else {
+                        from = null;
+                        to = accountBase + hotAccountIndex(hotTargets, random, stride, totalAccounts);
+                        type = "DEPOSIT";
+                        description = "Maaş Ödemesi";
+                        amount = logNormalAmount(random, 1_500, 0.8);
+                    }
+                    sink.row(firstTransactionId + firstRow + i, from, to, type, amount, "TRY", description, date,
+                            "COMPLETED");
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    /**
+     * Zipf sırasını hesap indeksine çevirir. (sıra * stride) mod n, stride n ile
+     * aralarında asal olduğu için bir permütasyondur: en sıcak hesaplar ID
+     * aralığına yayılır, tek bir sayfaya/aralığa yığılmaz.
+     */
+    private static long hotAccountIndex(ZipfianSampler sampler, Random random, long stride, long n) {
+        return Math.floorMod(sampler.sample(random) * stride, n);
+    }
+
+    private static long coprimeStride(long n) {
+        if (n == 1) {
+            return 1;
+        }
+        long stride = Math.floorMod(0x9E3779B97F4A7C15L, n);
+        while (stride < 1 || gcd(stride, n) != 1) {
+            stride = stride + 1 >= n ? 1 : stride + 1;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * Bir hesaptan ortalama ne kadar para çıkacağı: hesap başına işlem sayısı x
+     * (%60 transfer x E[transfer] + %25 çekim x E[çekim]). Log-normal
+     * dağılımın beklenen değeri medyan x e^(σ²/2)'dir.
+     */
+    private double expectedOutflowPerAccount(long totalAccounts) {
+        double perTransaction = 0.60 * TRANSFER_MEDIAN * Math.exp(TRANSFER_SIGMA * TRANSFER_SIGMA / 2)
+                + 0.25 * WITHDRAWAL_MEDIAN * Math.exp(WITHDRAWAL_SIGMA * WITHDRAWAL_SIGMA / 2);
+        return (double) transactions / totalAccounts * perTransaction;
+    }
+
+    // Beklenen çıkışın 3 katı + log-normal birikim: eksi bakiye yalnızca uzun kuyrukta görülür
+    private static BigDecimal openingAmount(Random random, double expectedOutflow) {
+        return logNormalAmount(random, OPENING_MEDIAN, 1.0).add(BigDecimal.valueOf(Math.round(expectedOutflow * 3)));
+    }
+
+    // %70 tek, %22 iki, %8 üç hesap
+    private static int accountCount(Random random) {
+        int roll = random.nextInt(100);
+        return roll < 70 ? 1 : roll < 92 ? 2 : 3;
+    }
+
+    private Random countRandomFor(int chunk) {
+        return new Random(mix(seed, 0, chunk));
+    }
+
+    private static BigDecimal logNormalAmount(Random random, double median, double sigma) {
+        double value = median * Math.exp(sigma * random.nextGaussian());
+        return BigDecimal.valueOf(Math.max(1.0, value)).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    // SplitMix64 karıştırması: (tohum, faz, parça) → bağımsız Random tohumu
+    private static long mix(long seed, long phase, long chunk) {
+        long z = seed + 0x9E3779B97F4A7C15L * (phase * 1_000_003L + chunk + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private long nextId(String table, String column) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + column + ") FROM public." + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    /** Elle verilen ID'lerden sonra uygulamanın ürettiği ID'ler çakışmasın */
+    private void resetIdentity(String table, String column, long nextValue) throws SQLException {
+        if (isPostgres()) {
+            jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence('public." + table + "', '" + column
+                    + "'), ?, false)", Long.class, nextValue);
+        } else {
+            jdbcTemplate.execute("ALTER TABLE public." + table + " ALTER COLUMN " + column + " RESTART WITH "
+                    + nextValue);
+        }
+    }
+
+    private void analyze() throws SQLException {
+        if (isPostgres()) {
+            jdbcTemplate.execute("ANALYZE public.customers");
+            jdbcTemplate.execute("ANALYZE public.accounts");
+            jdbcTemplate.execute("ANALYZE public.transactions");
+        }
+    }
+
+    private boolean isPostgres() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        }
+    }
+
+    private static void logPhase(String phase, long rows, long startNanos) {
+        long millis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("{} fazı: {} satır, {} ms ({} satır/sn)", phase, rows, millis, rows * 1000 / millis);
+    }
+
+    private static void runAll(ExecutorService pool, List<ChunkTask> tasks) {
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        for (ChunkTask task : tasks) {
+            futures.add(pool.submit(() -> {
+                task.call();
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Sentetik veri üretimi kesintiye uğradı!", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new RuntimeException("Sentetik veri üretilemedi!", e.getCause());
+        }
+    }
+
+    /** SQLException fırlatabilen parça görevi */
+    @FunctionalInterface
+    private interface ChunkTask {
+        void call() throws SQLException;
+    }
+}
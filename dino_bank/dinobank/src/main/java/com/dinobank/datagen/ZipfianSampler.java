@@ -0,0 +1,86 @@
+package com.dinobank.datagen;
+
+import java.util.Random;
+
+/**
+ * 1..n aralığında Zipf dağılımlı sıra numarası üretir: k. elemanın seçilme
+ * olasılığı 1 / k^exponent ile orantılıdır. Birkaç "sıcak" hesap (maaş
+ * ödeyen şirketler, büyük üye işyerleri) transferlerin büyük kısmını alır,
+ * kalan milyonlarca hesap seyrek görülür.
+ *
+ * Hörmann-Derflinger "rejection-inversion" yöntemi kullanılır: n ne kadar
+ * büyük olursa olsun tablo tutulmaz (O(1) bellek), örnek başına ortalama
+ * 1'e yakın deneme yapılır. Aynı tohumlu Random aynı diziyi üretir.
+ */
+final class ZipfianSampler {
+
+    private final long n;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralN;
+    private final double s;
+
+    ZipfianSampler(long n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Eleman sayısı pozitif olmalıdır: " + n);
+        }
+        if (exponent <= 0) {
+            throw new IllegalArgumentException("Zipf üssü pozitif olmalıdır: " + exponent);
+        }
+        this.n = n;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1.0;
+        this.hIntegralN = hIntegral(n + 0.5);
+        this.s = 2.0 - hIntegralInverse(hIntegral(2.5) - h(2.0));
+    }
+
+    /** 1 (en sıcak) ile n arasında bir sıra numarası döner */
+    long sample(Random random) {
+        while (true) {
+            double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+            double x = hIntegralInverse(u);
+            long k = (long) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > n) {
+                k = n;
+            }
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return expm1OverX((1.0 - exponent) * logX) * logX;
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = x * (1.0 - exponent);
+        if (t < -1.0) {
+            t = -1.0;
+        }
+        return Math.exp(log1pOverX(t) * x);
+    }
+
+    // log(1+x)/x; x → 0 iken Taylor açılımı (sayısal kararlılık)
+    private static double log1pOverX(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+    }
+
+    // (e^x - 1)/x; x → 0 iken Taylor açılımı
+    private static double expm1OverX(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1.0 + x * 0.5 * (1.0 + x / 3.0 * (1.0 + 0.25 * x));
+    }
+}
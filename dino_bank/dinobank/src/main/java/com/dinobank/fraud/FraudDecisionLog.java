@@ -0,0 +1,178 @@
+package com.dinobank.fraud;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =============================================================================
+ * FRAUD DECISION LOG - Hız Kontrolü Kararlarının Asenkron Kaydı
+ * =============================================================================
+ *
+ * Transfer thread'i kararı sınırlı bir kuyruğa bırakır ve beklemeden devam
+ * eder; tek bir arka plan thread'i ("fraud-decision-log") kuyruğu
+ * batch-size'lık partiler halinde fraud_decisions tablosuna yazar.
+ *
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ Transfer thread'i : offer() → kuyruk doluysa kayıt düşürülür    │
+ * │                     (dinobank.fraud.log.dropped), işlem sürer   │
+ * │ Yazıcı thread     : poll → drainTo(batch-size) → batchUpdate    │
+ * │ Kapanış           : kuyrukta kalan kararlar yazılıp çıkılır     │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * Web sunucusundan önce başlar, ondan sonra durur: kapanışta sunucu son
+ * istekleri bitirirken verilen kararlar da kuyruğa girer. stop() yazıcı
+ * thread'ini kesmez; thread kuyruğu boşaltıp kendisi çıkar. Yalnızca bu
+ * süre aşılırsa (ör. veritabanı yanıt vermiyor) thread kesilir.
+ *
+ * Kayıt denetim amaçlıdır; kararın kendisi veritabanına bağlı değildir.
+ * Veritabanı erişilemezse parti kaybedilir ve uyarı loglanır.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Component
+public class FraudDecisionLog implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(FraudDecisionLog.class);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO public.fraud_decisions
+                (decided_at, operation, from_account_number, to_account_number, customer_id, amount, outcome, rule)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /** Kuyruktaki tek karar */
+    record Entry(LocalDateTime decidedAt, String operation, String fromAccountNumber, String toAccountNumber,
+            Long customerId, BigDecimal amount, VelocityDecision decision) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final Counter written;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public FraudDecisionLog(JdbcTemplate jdbcTemplate, MeterRegistry registry,
+            @Value("${dinobank.fraud.log.queue-capacity:10000}") int queueCapacity,
+            @Value("${dinobank.fraud.log.batch-size:500}") int batchSize) {
+        if (queueCapacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("dinobank.fraud.log.queue-capacity ve batch-size pozitif olmalıdır!");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.written = Counter.builder("dinobank.fraud.log.written")
+                .description("fraud_decisions tablosuna yazılan kararlar")
+                .register(registry);
+        this.dropped = Counter.builder("dinobank.fraud.log.dropped")
+                .description("Kuyruk dolu olduğu için yazılamayan kararlar")
+                .register(registry);
+    }
+
+    /** Kararı kuyruğa bırakır; hiçbir zaman beklemez */
+    void submit(Entry entry) {
+        if (!queue.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    // Web sunucusundan (SMART_LIFECYCLE_PHASE - 1024) önce başlar, sonra durur
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("fraud-decision-log").start(this::loop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                // Thread en geç bir poll süresinde döngüden çıkar ve kuyruğu boşaltır
+                worker.join(5_000);
+                if (worker.isAlive()) {
+                    log.warn("Hız kontrolü kararları 5 sn içinde yazılamadı, yazıcı thread kesiliyor ({} kayıt)",
+                            queue.size());
+                    worker.interrupt();
+                    worker.join(1_000);
+                }
+            } catch (InterruptedException e) {
+                worker.interrupt();
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void loop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Entry first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        // Kapanışta kuyrukta kalanlar
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Entry> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                VelocityDecision decision = entry.decision();
+                ps.setTimestamp(1, Timestamp.valueOf(entry.decidedAt()));
+                ps.setString(2, entry.operation());
+                ps.setString(3, entry.fromAccountNumber());
+                ps.setString(4, entry.toAccountNumber());
+                ps.setObject(5, entry.customerId());
+                ps.setBigDecimal(6, entry.amount());
+                ps.setString(7, decision.outcome().name());
+                ps.setString(8, decision.rule() != null ? decision.rule().name() : null);
+            });
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("{} hız kontrolü kararı yazılamadı: {}", batch.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.dinobank.fraud;
+
+import java.util.Arrays;
+
+/**
+ * Tek anahtarın (hesap / müşteri) kayan pencere sayacı: sabit sayıda
+ * zaman kovasından oluşan, primitive long dizileri üzerinde bir halka.
+ *
+ * Pencere, içinde bulunulan kova dahil son "buckets" kovadır; toplamlar
+ * ayrıca tutulduğu için sorgu O(1)'dir. Zaman ilerledikçe eskiyen kovalar
+ * sıfırlanıp toplamdan düşülür (kova başına en fazla bir kez).
+ *
+ * Thread-safe DEĞİLDİR: VelocityCheckService anahtarın kilidini tutarak
+ * kullanır. Saat geri giderse en yeni kovada kalınır.
+ */
+final class SlidingWindow {
+
+    private final long bucketMillis;
+    private final long[] counts;
+    private final long[] amounts;
+
+    /** En yeni kovanın mutlak numarası (epoch ms / bucketMillis); -1 = boş */
+    private long head = -1;
+    private long totalCount;
+    private long totalAmount;
+
+    SlidingWindow(int buckets, long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+        this.counts = new long[buckets];
+        this.amounts = new long[buckets];
+    }
+
+    long count(long nowMillis) {
+        advance(nowMillis);
+        return totalCount;
+    }
+
+    /** Penceredeki toplam tutar (kuruş) */
+    long amount(long nowMillis) {
+        advance(nowMillis);
+        return totalAmount;
+    }
+
+    void add(long nowMillis, long amount) {
+        advance(nowMillis);
+        int slot = (int) (head % counts.length);
+        counts[slot]++;
+        amounts[slot] += amount;
+        totalCount++;
+        totalAmount += amount;
+    }
+
+    private void advance(long nowMillis) {
+        long bucket = nowMillis / bucketMillis;
+        if (bucket <= head) {
+            return;
+        }
+        if (head < 0 || bucket - head >= counts.length) {
+            Arrays.fill(counts, 0);
+            Arrays.fill(amounts, 0);
+            totalCount = 0;
+            totalAmount = 0;
+        } else {
+            for (long expired = head + 1; expired <= bucket; expired++) {
+                int slot = (int) (expired % counts.length);
+                totalCount -= counts[slot];
+                totalAmount -= amounts[slot];
+                counts[slot] = 0;
+                amounts[slot] = 0;
+            }
+        }
+        head = bucket;
+    }
+}
@@ -0,0 +1,508 @@
+package com.dinobank.fraud;
+
+import com.dinobank.Transaction.dto.TransactionRequestDto;
+import com.dinobank.validation.IbanValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * =============================================================================
+ * VELOCITY CHECK SERVICE - Bellek İçi Hız ve Dolandırıcılık Kontrolü
+ * =============================================================================
+ *
+ * Transfer ve para yatırma, veritabanına gitmeden ÖNCE bu servise sorulur.
+ * Karar yalnızca bellekteki kayan pencere sayaçlarıyla verilir (sorgu yok,
+ * anahtar başına kısa bir ReentrantLock; sanal thread taşıyıcıya
+ * sabitlenmez); hedef p99 < 50 µs.
+ *
+ * KURALLAR (eşikler dinobank.fraud.*, 0 = kapalı):
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ Gönderen hesap : dakikada / saatte transfer sayısı, saatlik     │
+ * │                  tutar                                          │
+ * │ Müşteri        : saatlik transfer sayısı ve tutarı (hesapları   │
+ * │                  toplamı)                                       │
+ * │ Yeni alıcı     : saatte en fazla N farklı yeni alıcı (DENY);    │
+ * │                  yeni alıcıya yüksek tutar işaretlenir (FLAG)   │
+ * │ Para yatırma   : alıcı hesaba saatlik yatırma sayısı ve tutarı  │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * SAYAÇLAR:
+ * Her anahtarın durumu primitive long halkalarından oluşur (SlidingWindow):
+ * dakika penceresi 6 × 10 sn, saat penceresi 60 × 1 dk kovadır.
+ * idle-minutes boyunca dokunulmayan anahtarlar periyodik olarak silinir,
+ * bellek aktif hesap sayısıyla sınırlı kalır.
+ *
+ * KONTROL VE İŞLEME AYRIDIR:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 1. checkTransfer / checkDeposit: sayaçları yalnızca OKUR        │
+ * │ 2. Transfer motoru işlemi yaparken recordXxxAfterCommit çağırır │
+ * │ 3. Commit sonrası: sayaçlar ve bilinen alıcılar güncellenir     │
+ * └─────────────────────────────────────────────────────────────────┘
+ * Reddedilen veya sonradan başarısız olan (yetersiz bakiye, limit, geri
+ * alınan transaction) işlem bütçe tüketmez ve alıcıyı "bilinen" yapmaz.
+ * Aynı anda süren işlemler birbirinin sayımını görmez: eşik, eşzamanlı
+ * işlem sayısı kadar aşılabilir. Kontrolden geçmeyen düzenli talimat
+ * transferleri de commit edildiklerinde sayılır.
+ *
+ * BİLİNEN SINIRLAR:
+ * - Müşteri kuralları için hesabın sahibi gerekir; bu bilgi veritabanı
+ *   okumadan öğrenilemeyeceği için commit edilen ilk transferle öğrenilir.
+ *   Açılıştan sonra bir hesabın ilk transferi yalnızca hesap kurallarından
+ *   geçer (yine de müşteri sayacına eklenir).
+ * - Tutarlar hesabın kendi para biriminde, nominal olarak toplanır.
+ * - Sayaçlar bellek içidir: tek instance varsayar ve yeniden başlatmada
+ *   sıfırlanır (bilinen alıcılar dahil).
+ *
+ * Kararlar FraudDecisionLog ile asenkron kaydedilir.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ * @see SlidingWindow
+ * @see FraudDecisionLog
+ */
+@Component
+public class VelocityCheckService {
+
+    private static final long MINUTE_BUCKET_MS = 10_000;
+    private static final int MINUTE_BUCKETS = 6;
+    private static final long HOUR_BUCKET_MS = 60_000;
+    private static final int HOUR_BUCKETS = 60;
+    private static final int KNOWN_RECIPIENTS = 16;
+
+    /** Gönderen / alıcı hesabın durumu; alanlar lock tutularak okunur/yazılır */
+    private static final class AccountState {
+        final ReentrantLock lock = new ReentrantLock();
+        /** Haritadan silindi; kilidi sonradan alan thread yeni durum açar */
+        boolean evicted;
+        final SlidingWindow minute = new SlidingWindow(MINUTE_BUCKETS, MINUTE_BUCKET_MS);
+        final SlidingWindow hour = new SlidingWindow(HOUR_BUCKETS, HOUR_BUCKET_MS);
+        final SlidingWindow newRecipients = new SlidingWindow(HOUR_BUCKETS, HOUR_BUCKET_MS);
+        /** Son alıcıların 64 bit özetleri (halka); 0 = boş yuva */
+        final long[] recipients = new long[KNOWN_RECIPIENTS];
+        int nextRecipient;
+        /** Yalnızca para yatırılan hesaplarda oluşturulur */
+        SlidingWindow deposits;
+        volatile long ownerId;
+        volatile long lastTouchedMillis;
+
+        boolean knowsRecipient(long hash) {
+            for (long known : recipients) {
+                if (known == hash) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void rememberRecipient(long hash) {
+            recipients[nextRecipient] = hash;
+            nextRecipient = (nextRecipient + 1) % KNOWN_RECIPIENTS;
+        }
+    }
+
+    private static final class CustomerState {
+        final ReentrantLock lock = new ReentrantLock();
+        boolean evicted;
+        final SlidingWindow hour = new SlidingWindow(HOUR_BUCKETS, HOUR_BUCKET_MS);
+        volatile long lastTouchedMillis;
+    }
+
+    private final ConcurrentHashMap<String, AccountState> accounts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, CustomerState> customers = new ConcurrentHashMap<>();
+    private final FraudDecisionLog decisionLog;
+
+    private final boolean enabled;
+    private final boolean logAllowed;
+    private final long accountMaxPerMinute;
+    private final long accountMaxPerHour;
+    private final long accountMaxAmountPerHour;
+    private final long customerMaxPerHour;
+    private final long customerMaxAmountPerHour;
+    private final long newRecipientsMaxPerHour;
+    private final long newRecipientFlagAmount;
+    private final long depositMaxPerHour;
+    private final long depositMaxAmountPerHour;
+    private final long idleMillis;
+
+    private final Counter allowed;
+    private final Map<VelocityRule, Counter> flagged = new EnumMap<>(VelocityRule.class);
+    private final Map<VelocityRule, Counter> denied = new EnumMap<>(VelocityRule.class);
+
+    public VelocityCheckService(FraudDecisionLog decisionLog, MeterRegistry registry,
+            @Value("${dinobank.fraud.enabled:true}") boolean enabled,
+            @Value("${dinobank.fraud.log-allowed:false}") boolean logAllowed,
+            @Value("${dinobank.fraud.account.max-per-minute:10}") long accountMaxPerMinute,
+            @Value("${dinobank.fraud.account.max-per-hour:60}") long accountMaxPerHour,
+            @Value("${dinobank.fraud.account.max-amount-per-hour:250000}") BigDecimal accountMaxAmountPerHour,
+            @Value("${dinobank.fraud.customer.max-per-hour:100}") long customerMaxPerHour,
+            @Value("${dinobank.fraud.customer.max-amount-per-hour:500000}") BigDecimal customerMaxAmountPerHour,
+            @Value("${dinobank.fraud.new-recipient.max-per-hour:5}") long newRecipientsMaxPerHour,
+            @Value("${dinobank.fraud.new-recipient.flag-amount:50000}") BigDecimal newRecipientFlagAmount,
+            @Value("${dinobank.fraud.deposit.max-per-hour:20}") long depositMaxPerHour,
+            @Value("${dinobank.fraud.deposit.max-amount-per-hour:200000}") BigDecimal depositMaxAmountPerHour,
+            @Value("${dinobank.fraud.idle-minutes:120}") long idleMinutes) {
+        // Saatlik pencere dolmadan anahtar silinirse sayaç sıfırlanmış olur
+        if (idleMinutes < 60) {
+            throw new IllegalArgumentException("dinobank.fraud.idle-minutes en az 60 olmalıdır!");
+        }
+        this.decisionLog = decisionLog;
+        this.enabled = enabled;
+        this.logAllowed = logAllowed;
+        this.accountMaxPerMinute = accountMaxPerMinute;
+        this.accountMaxPerHour = accountMaxPerHour;
+        this.accountMaxAmountPerHour = toKurus(accountMaxAmountPerHour);
+        this.customerMaxPerHour = customerMaxPerHour;
+        this.customerMaxAmountPerHour = toKurus(customerMaxAmountPerHour);
+        this.newRecipientsMaxPerHour = newRecipientsMaxPerHour;
+        this.newRecipientFlagAmount = toKurus(newRecipientFlagAmount);
+        this.depositMaxPerHour = depositMaxPerHour;
+        this.depositMaxAmountPerHour = toKurus(depositMaxAmountPerHour);
+        this.idleMillis = idleMinutes * 60_000;
+
+        this.allowed = decisions(registry, "ALLOW", "none");
+        for (VelocityRule rule : VelocityRule.values()) {
+            flagged.put(rule, decisions(registry, "FLAG", rule.name()));
+            denied.put(rule, decisions(registry, "DENY", rule.name()));
+        }
+        ConcurrentHashMap<String, AccountState> trackedAccounts = accounts;
+        ConcurrentHashMap<Long, CustomerState> trackedCustomers = customers;
+        Gauge.builder("dinobank.fraud.tracked.keys", trackedAccounts,
+                        map -> map.size() + trackedCustomers.size())
+                .description("Hız sayacı tutulan hesap ve müşteri sayısı")
+                .register(registry);
+    }
+
+    private static Counter decisions(MeterRegistry registry, String outcome, String rule) {
+        return Counter.builder("dinobank.fraud.decisions")
+                .description("Hız kontrolü kararları")
+                .tag("outcome", outcome)
+                .tag("rule", rule)
+                .register(registry);
+    }
+
+    /**
+     * Transferi sayaçlara göre kontrol eder; sayaçları değiştirmez. İzin
+     * verilen transfer ancak commit edildiğinde sayılır
+     * (recordTransferAfterCommit).
+     *
+     * @throws RuntimeException Kural ihlalinde (DENY)
+     */
+    public VelocityDecision checkTransfer(TransactionRequestDto request) {
+        String from = request.getFromAccountNumber();
+        String to = request.getToAccountNumber();
+        // Geçersiz numaralar için kontrol yapılmaz; transfer motoru reddeder
+        if (!enabled || !IbanValidator.isAcceptableAccountNumber(from)
+                || !IbanValidator.isAcceptableAccountNumber(to)) {
+            return VelocityDecision.ALLOW;
+        }
+        long amount = toKurus(request.getAmount());
+        long now = System.currentTimeMillis();
+        long ownerId = 0;
+        VelocityDecision decision;
+        // Durumu olmayan hesabın tüm sayaçları sıfırdır ve her alıcısı yenidir
+        AccountState account = accounts.get(from);
+        if (account == null) {
+            decision = evaluateAccount(0, 0, 0, 0, true, amount);
+        } else {
+            account.lock.lock();
+            try {
+                ownerId = account.ownerId;
+                decision = evaluateAccount(account.minute.count(now), account.hour.count(now),
+                        account.hour.amount(now), account.newRecipients.count(now),
+                        !account.knowsRecipient(hash(to)), amount);
+            } finally {
+                account.lock.unlock();
+            }
+        }
+        if (decision.outcome() != VelocityDecision.Outcome.DENY && ownerId != 0) {
+            VelocityDecision customerDecision = checkCustomer(ownerId, now, amount);
+            if (customerDecision != null) {
+                decision = customerDecision;
+            }
+        }
+        return record("TRANSFER", from, to, ownerId, request.getAmount(), decision);
+    }
+
+    /**
+     * Para yatırmayı alıcı hesabın yatırma penceresine göre kontrol eder;
+     * sayaçları değiştirmez (recordDepositAfterCommit).
+     *
+     * @throws RuntimeException Kural ihlalinde (DENY)
+     */
+    public VelocityDecision checkDeposit(TransactionRequestDto request) {
+        String to = request.getToAccountNumber();
+        if (!enabled || !IbanValidator.isAcceptableAccountNumber(to)) {
+            return VelocityDecision.ALLOW;
+        }
+        long amount = toKurus(request.getAmount());
+        long now = System.currentTimeMillis();
+        long count = 0;
+        long total = 0;
+        long ownerId = 0;
+        AccountState account = accounts.get(to);
+        if (account != null) {
+            account.lock.lock();
+            try {
+                ownerId = account.ownerId;
+                if (account.deposits != null) {
+                    count = account.deposits.count(now);
+                    total = account.deposits.amount(now);
+                }
+            } finally {
+                account.lock.unlock();
+            }
+        }
+        VelocityDecision decision = VelocityDecision.ALLOW;
+        if (exceeds(depositMaxPerHour, count, 1)) {
+            decision = VelocityDecision.deny(VelocityRule.DEPOSIT_COUNT_PER_HOUR);
+        } else if (exceeds(depositMaxAmountPerHour, total, amount)) {
+            decision = VelocityDecision.deny(VelocityRule.DEPOSIT_AMOUNT_PER_HOUR);
+        }
+        return record("DEPOSIT", null, to, ownerId, request.getAmount(), decision);
+    }
+
+    /**
+     * Transferi aktif transaction commit edildikten sonra gönderen hesabın ve
+     * sahibinin sayaçlarına işler, alıcıyı bilinen alıcılara ekler. Rollback
+     * olursa hiçbir şey yapılmaz. Transaction yoksa hemen işler.
+     */
+    public void recordTransferAfterCommit(String fromAccountNumber, String toAccountNumber, Long customerId,
+            BigDecimal amount) {
+        if (!enabled) {
+            return;
+        }
+        long kurus = toKurus(amount);
+        afterCommit(() -> recordTransfer(fromAccountNumber, toAccountNumber,
+                customerId != null ? customerId : 0, kurus));
+    }
+
+    /** Para yatırmayı commit sonrası alıcı hesabın yatırma penceresine işler */
+    public void recordDepositAfterCommit(String toAccountNumber, BigDecimal amount) {
+        if (!enabled) {
+            return;
+        }
+        long kurus = toKurus(amount);
+        afterCommit(() -> recordDeposit(toAccountNumber, kurus));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void recordTransfer(String from, String to, long customerId, long amount) {
+        long now = System.currentTimeMillis();
+        long recipient = hash(to);
+        AccountState account = lockAccount(from);
+        try {
+            account.lastTouchedMillis = now;
+            if (customerId != 0) {
+                account.ownerId = customerId;
+            }
+            account.minute.add(now, amount);
+            account.hour.add(now, amount);
+            if (!account.knowsRecipient(recipient)) {
+                account.rememberRecipient(recipient);
+                account.newRecipients.add(now, amount);
+            }
+        } finally {
+            account.lock.unlock();
+        }
+        if (customerId != 0) {
+            CustomerState customer = lockCustomer(customerId);
+            try {
+                customer.lastTouchedMillis = now;
+                customer.hour.add(now, amount);
+            } finally {
+                customer.lock.unlock();
+            }
+        }
+    }
+
+    private void recordDeposit(String to, long amount) {
+        long now = System.currentTimeMillis();
+        AccountState account = lockAccount(to);
+        try {
+            account.lastTouchedMillis = now;
+            if (account.deposits == null) {
+                account.deposits = new SlidingWindow(HOUR_BUCKETS, HOUR_BUCKET_MS);
+            }
+            account.deposits.add(now, amount);
+        } finally {
+            account.lock.unlock();
+        }
+    }
+
+    /** Hesabın durumunu kilitli döndürür; çağıran kilidi bırakır */
+    private AccountState lockAccount(String accountNumber) {
+        while (true) {
+            AccountState state = accounts.computeIfAbsent(accountNumber, key -> new AccountState());
+            state.lock.lock();
+            // Kilit beklenirken silindiyse yazı kaybolmasın diye yeni durum alınır
+            if (!state.evicted) {
+                return state;
+            }
+            state.lock.unlock();
+        }
+    }
+
+    private CustomerState lockCustomer(long customerId) {
+        while (true) {
+            CustomerState state = customers.computeIfAbsent(customerId, key -> new CustomerState());
+            state.lock.lock();
+            if (!state.evicted) {
+                return state;
+            }
+            state.lock.unlock();
+        }
+    }
+
+    /** Hesabın kendi kuralları; izin verilirse ALLOW veya FLAG döner */
+    private VelocityDecision evaluateAccount(long minuteCount, long hourCount, long hourAmount,
+            long newRecipientCount, boolean newRecipient, long amount) {
+        if (exceeds(accountMaxPerMinute, minuteCount, 1)) {
+            return VelocityDecision.deny(VelocityRule.ACCOUNT_COUNT_PER_MINUTE);
+        }
+        if (exceeds(accountMaxPerHour, hourCount, 1)) {
+            return VelocityDecision.deny(VelocityRule.ACCOUNT_COUNT_PER_HOUR);
+        }
+        if (exceeds(accountMaxAmountPerHour, hourAmount, amount)) {
+            return VelocityDecision.deny(VelocityRule.ACCOUNT_AMOUNT_PER_HOUR);
+        }
+        if (newRecipient) {
+            if (exceeds(newRecipientsMaxPerHour, newRecipientCount, 1)) {
+                return VelocityDecision.deny(VelocityRule.NEW_RECIPIENTS_PER_HOUR);
+            }
+            if (newRecipientFlagAmount > 0 && amount >= newRecipientFlagAmount) {
+                return VelocityDecision.flag(VelocityRule.NEW_RECIPIENT_AMOUNT);
+            }
+        }
+        return VelocityDecision.ALLOW;
+    }
+
+    private VelocityDecision checkCustomer(long ownerId, long now, long amount) {
+        CustomerState customer = customers.get(ownerId);
+        if (customer == null) {
+            return evaluateCustomer(0, 0, amount);
+        }
+        customer.lock.lock();
+        try {
+            return evaluateCustomer(customer.hour.count(now), customer.hour.amount(now), amount);
+        } finally {
+            customer.lock.unlock();
+        }
+    }
+
+    /** Müşteri kuralları; ihlal yoksa null */
+    private VelocityDecision evaluateCustomer(long hourCount, long hourAmount, long amount) {
+        if (exceeds(customerMaxPerHour, hourCount, 1)) {
+            return VelocityDecision.deny(VelocityRule.CUSTOMER_COUNT_PER_HOUR);
+        }
+        if (exceeds(customerMaxAmountPerHour, hourAmount, amount)) {
+            return VelocityDecision.deny(VelocityRule.CUSTOMER_AMOUNT_PER_HOUR);
+        }
+        return null;
+    }
+
+    private static boolean exceeds(long limit, long current, long increment) {
+        return limit > 0 && current + increment > limit;
+    }
+
+    private VelocityDecision record(String operation, String from, String to, long ownerId, BigDecimal amount,
+            VelocityDecision decision) {
+        switch (decision.outcome()) {
+            case ALLOW -> allowed.increment();
+            case FLAG -> flagged.get(decision.rule()).increment();
+            case DENY -> denied.get(decision.rule()).increment();
+        }
+        if (logAllowed || decision.outcome() != VelocityDecision.Outcome.ALLOW) {
+            decisionLog.submit(new FraudDecisionLog.Entry(LocalDateTime.now(), operation, from, to,
+                    ownerId != 0 ? ownerId : null, amount, decision));
+        }
+        if (decision.outcome() == VelocityDecision.Outcome.DENY) {
+            throw new RuntimeException("İşlem güvenlik kontrolüne takıldı: " + decision.rule().message());
+        }
+        return decision;
+    }
+
+    /**
+     * idle-minutes boyunca kullanılmayan hesap ve müşteri sayaçlarını siler.
+     * Durum kendi kilidi tutularak yeniden kontrol edilir ve silindi olarak
+     * işaretlenir; o an kilidi bekleyen bir yazı yeni bir durum açar.
+     */
+    @Scheduled(fixedDelayString = "${dinobank.fraud.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        accounts.forEach((key, state) -> {
+            if (state.lastTouchedMillis < cutoff && state.lock.tryLock()) {
+                try {
+                    if (state.lastTouchedMillis < cutoff) {
+                        state.evicted = true;
+                        accounts.remove(key, state);
+                    }
+                } finally {
+                    state.lock.unlock();
+                }
+            }
+        });
+        customers.forEach((key, state) -> {
+            if (state.lastTouchedMillis < cutoff && state.lock.tryLock()) {
+                try {
+                    if (state.lastTouchedMillis < cutoff) {
+                        state.evicted = true;
+                        customers.remove(key, state);
+                    }
+                } finally {
+                    state.lock.unlock();
+                }
+            }
+        });
+    }
+
+    /**
+     * Tutar → kuruş; boş veya negatif tutar sayaçlara 0 olarak girer.
+     * Kuruştan küçük basamak yuvarlanmaz, reddedilir.
+     */
+    private static long toKurus(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            return 0;
+        }
+        try {
+            return amount.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new RuntimeException("Tutar en fazla 2 ondalık basamak içerebilir!");
+        }
+    }
+
+    /** Alıcı hesap numarasının 64 bit FNV-1a özeti (0 boş yuva için ayrılmıştır) */
+    private static long hash(String accountNumber) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < accountNumber.length(); i++) {
+            hash ^= accountNumber.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash != 0 ? hash : 1;
+    }
+}
@@ -0,0 +1,23 @@
+package com.dinobank.fraud;
+
+/**
+ * Hız kontrolünün sonucu. ALLOW sıcak yolda nesne üretmemek için tek
+ * örnektir; FLAG işlemi geçirir ama kayda alır, DENY işlemi veritabanına
+ * gitmeden reddeder.
+ */
+public record VelocityDecision(Outcome outcome, VelocityRule rule) {
+
+    public enum Outcome {
+        ALLOW, FLAG, DENY
+    }
+
+    public static final VelocityDecision ALLOW = new VelocityDecision(Outcome.ALLOW, null);
+
+    public static VelocityDecision flag(VelocityRule rule) {
+        return new VelocityDecision(Outcome.FLAG, rule);
+    }
+
+    public static VelocityDecision deny(VelocityRule rule) {
+        return new VelocityDecision(Outcome.DENY, rule);
+    }
+}
@@ -0,0 +1,29 @@
+package com.dinobank.fraud;
+
+/**
+ * Hız (velocity) ve dolandırıcılık kuralları. Her kuralın eşiği
+ * dinobank.fraud.* ayarlarından gelir; eşik 0 ise kural kapalıdır.
+ * NEW_RECIPIENT_AMOUNT reddetmez, yalnızca işaretler (FLAG).
+ */
+public enum VelocityRule {
+
+    ACCOUNT_COUNT_PER_MINUTE("Hesaptan dakikadaki transfer sayısı sınırı aşıldı"),
+    ACCOUNT_COUNT_PER_HOUR("Hesaptan saatlik transfer sayısı sınırı aşıldı"),
+    ACCOUNT_AMOUNT_PER_HOUR("Hesaptan saatlik transfer tutarı sınırı aşıldı"),
+    CUSTOMER_COUNT_PER_HOUR("Müşterinin saatlik transfer sayısı sınırı aşıldı"),
+    CUSTOMER_AMOUNT_PER_HOUR("Müşterinin saatlik transfer tutarı sınırı aşıldı"),
+    NEW_RECIPIENTS_PER_HOUR("Saatlik yeni alıcı sayısı sınırı aşıldı"),
+    NEW_RECIPIENT_AMOUNT("Yeni alıcıya yüksek tutarlı transfer"),
+    DEPOSIT_COUNT_PER_HOUR("Hesaba saatlik para yatırma sayısı sınırı aşıldı"),
+    DEPOSIT_AMOUNT_PER_HOUR("Hesaba saatlik para yatırma tutarı sınırı aşıldı");
+
+    private final String message;
+
+    VelocityRule(String message) {
+        this.message = message;
+    }
+
+    public String message() {
+        return message;
+    }
+}
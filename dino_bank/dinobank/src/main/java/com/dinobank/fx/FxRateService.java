@@ -0,0 +1,102 @@
+package com.dinobank.fx;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * =============================================================================
+ * FX RATE SERVICE - Döviz Kuru Kaynağı
+ * =============================================================================
+ *
+ * Kurları bir properties dosyasından (classpath: veya file:) okur ve
+ * değişmez bir FxRateSnapshot olarak yayınlar. Dosya, gerçek kur
+ * beslemesinin yerini tutar; harici bir servis de aynı dosyayı yazabilir.
+ *
+ * OKUMA / YAZMA:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ Transfer (okuyucu): volatile alanı bir kez okur → kilit yok │
+ * │ Yenileme (tek yazar): yeni snapshot'ı tamamen kurar, sonra │
+ * │ referansı tek atamayla değiştirir │
+ * │ Yarım güncellenmiş tablo hiçbir zaman görülmez │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * Dosya formatı: PARA_BIRIMI=TRY karşılığı (ör. USD=34.25)
+ * Bozuk bir dosya yüklenemezse önceki snapshot kullanılmaya devam eder.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Component
+public class FxRateService {
+
+    private static final Logger log = LoggerFactory.getLogger(FxRateService.class);
+
+    private final ResourceLoader resourceLoader;
+    private final String ratesLocation;
+    private volatile FxRateSnapshot snapshot;
+
+    public FxRateService(ResourceLoader resourceLoader,
+            @Value("${dinobank.fx.rates-location:classpath:fx-rates.properties}") String ratesLocation) {
+        this.resourceLoader = resourceLoader;
+        this.ratesLocation = ratesLocation;
+        // İlk yükleme başarısızsa uygulama kursuz açılmasın
+        this.snapshot = load();
+    }
+
+    /** Güncel kur tablosu; çağıran aynı işlem boyunca bu referansı kullanmalıdır. */
+    public FxRateSnapshot current() {
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${dinobank.fx.refresh-interval-ms:60000}",
+            initialDelayString = "${dinobank.fx.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            snapshot = load();
+        } catch (RuntimeException e) {
+            log.warn("Kur dosyası yüklenemedi, önceki kurlar kullanılıyor: {}", e.getMessage());
+        }
+    }
+
+    private FxRateSnapshot load() {
+        Resource resource = resourceLoader.getResource(ratesLocation);
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream();
+                Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new IllegalStateException("Kur dosyası okunamadı: " + ratesLocation, e);
+        }
+
+        Map<String, BigDecimal> rates = new HashMap<>();
+        for (String currency : properties.stringPropertyNames()) {
+            String code = currency.trim().toUpperCase(Locale.ROOT);
+            if (code.length() != 3) {
+                throw new IllegalStateException("Geçersiz para birimi kodu: " + currency);
+            }
+            try {
+                rates.put(code, new BigDecimal(properties.getProperty(currency).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("Geçersiz kur: " + currency, e);
+            }
+        }
+        return FxRateSnapshot.of(rates, Instant.now());
+    }
+}
@@ -0,0 +1,99 @@
+package com.dinobank.fx;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * =============================================================================
+ * FX RATE SNAPSHOT - Değişmez Döviz Kuru Tablosu
+ * =============================================================================
+ *
+ * Belirli bir andaki tüm kurları tutar. Oluşturulduktan sonra hiçbir alanı
+ * değişmez; bu yüzden birden fazla thread kilit olmadan aynı anda okuyabilir.
+ *
+ * YAPI:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ Girdi: her para biriminin TRY karşılığı (1 USD = 34.25 TRY) │
+ * │ Oluşturma: tüm çapraz kurlar (USD→EUR, EUR→TRY...) bir kez │
+ * │ hesaplanır → crossRates[kaynak][hedef] │
+ * │ Okuma: iki HashMap araması, bölme veya yuvarlama yok │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+public final class FxRateSnapshot {
+
+    /** Kurların ana para birimi; dosyada yazılmasa da her zaman 1'dir */
+    public static final String BASE_CURRENCY = "TRY";
+
+    /** Çapraz kurların saklandığı hassasiyet (ör. 0.92318059) */
+    public static final int RATE_SCALE = 8;
+
+    /** Hesap bakiyeleri kuruş hassasiyetinde tutulur */
+    public static final int AMOUNT_SCALE = 2;
+
+    private final Map<String, Map<String, BigDecimal>> crossRates;
+    private final Instant loadedAt;
+
+    private FxRateSnapshot(Map<String, Map<String, BigDecimal>> crossRates, Instant loadedAt) {
+        this.crossRates = crossRates;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * @param ratesToBase Para birimi → 1 birimin TRY karşılığı
+     */
+    public static FxRateSnapshot of(Map<String, BigDecimal> ratesToBase, Instant loadedAt) {
+        Map<String, BigDecimal> toBase = new HashMap<>(ratesToBase);
+        toBase.put(BASE_CURRENCY, BigDecimal.ONE);
+
+        Map<String, Map<String, BigDecimal>> cross = new HashMap<>();
+        for (Map.Entry<String, BigDecimal> from : toBase.entrySet()) {
+            if (from.getValue().signum() <= 0) {
+                throw new IllegalArgumentException("Kur pozitif olmalıdır: " + from.getKey());
+            }
+            Map<String, BigDecimal> row = new HashMap<>();
+            for (Map.Entry<String, BigDecimal> to : toBase.entrySet()) {
+                BigDecimal rate = from.getKey().equals(to.getKey())
+                        ? BigDecimal.ONE
+                        : from.getValue().divide(to.getValue(), MathContext.DECIMAL64)
+                                .setScale(RATE_SCALE, RoundingMode.HALF_EVEN);
+                row.put(to.getKey(), rate);
+            }
+            cross.put(from.getKey(), Map.copyOf(row));
+        }
+        return new FxRateSnapshot(Map.copyOf(cross), loadedAt);
+    }
+
+    /**
+     * 1 birim kaynak para biriminin hedef para birimindeki karşılığı.
+     *
+     * @throws RuntimeException Para birimlerinden biri tabloda yoksa
+     */
+    public BigDecimal rate(String fromCurrency, String toCurrency) {
+        Map<String, BigDecimal> row = crossRates.get(fromCurrency);
+        BigDecimal rate = row != null ? row.get(toCurrency) : null;
+        if (rate == null) {
+            throw new RuntimeException("Kur bulunamadı: " + fromCurrency + " → " + toCurrency);
+        }
+        return rate;
+    }
+
+    /** Tutarı verilen kurla çevirir, sonucu kuruşa yuvarlar (banker's rounding). */
+    public static BigDecimal convert(BigDecimal amount, BigDecimal rate) {
+        return amount.multiply(rate).setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN);
+    }
+
+    public boolean supports(String currency) {
+        return crossRates.containsKey(currency);
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,68 @@
+package com.dinobank.json;
+
+import com.dinobank.model.Account;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Account entity'sini elle yazar: hesap özeti (/api/accounts/summary/{id})
+ * entity'yi doğrudan döner, admin ekranı ve işlem entity'leri de hesabı
+ * iç içe yazar. Müşteri CustomerJsonSerializer ile yazılır.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@JsonComponent
+public class AccountJsonSerializer extends StdSerializer<Account> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString CUSTOMER = new SerializedString("customer");
+    private static final SerializableString ACCOUNT_NUMBER = new SerializedString("accountNumber");
+    private static final SerializableString ACCOUNT_TYPE = new SerializedString("accountType");
+    private static final SerializableString BALANCE = new SerializedString("balance");
+    private static final SerializableString CURRENCY = new SerializedString("currency");
+    private static final SerializableString OPENING_DATE = new SerializedString("openingDate");
+    private static final SerializableString ACTIVE = new SerializedString("active");
+
+    public AccountJsonSerializer() {
+        super(Account.class);
+    }
+
+    @Override
+    public void serialize(Account value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        write(value, gen, provider);
+    }
+
+    static void write(Account value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        JsonValues.writeLong(gen, value.getId());
+        gen.writeFieldName(CUSTOMER);
+        CustomerJsonSerializer.write(value.getCustomer(), gen, provider);
+        gen.writeFieldName(ACCOUNT_NUMBER);
+        gen.writeString(value.getAccountNumber());
+        gen.writeFieldName(ACCOUNT_TYPE);
+        gen.writeString(value.getAccountType());
+        gen.writeFieldName(BALANCE);
+        gen.writeNumber(value.getBalance());
+        gen.writeFieldName(CURRENCY);
+        gen.writeString(value.getCurrency());
+        gen.writeFieldName(OPENING_DATE);
+        IsoDates.writeDateTime(gen, provider, value.getOpeningDate());
+        gen.writeFieldName(ACTIVE);
+        JsonValues.writeBoolean(gen, value.getActive());
+        gen.writeEndObject();
+    }
+}
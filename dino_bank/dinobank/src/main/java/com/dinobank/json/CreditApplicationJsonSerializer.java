@@ -0,0 +1,64 @@
+package com.dinobank.json;
+
+import com.dinobank.model.CreditApplication;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * CreditApplication entity'sini elle yazar (başvuru, değerlendirme,
+ * bekleyenler ve kredi geçmişi cevapları). Eager yüklenen müşteri
+ * CustomerJsonSerializer ile yazılır.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@JsonComponent
+public class CreditApplicationJsonSerializer extends StdSerializer<CreditApplication> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString CUSTOMER = new SerializedString("customer");
+    private static final SerializableString REQUESTED_AMOUNT = new SerializedString("requestedAmount");
+    private static final SerializableString INSTALLMENT_COUNT = new SerializedString("installmentCount");
+    private static final SerializableString PURPOSE = new SerializedString("purpose");
+    private static final SerializableString APPLICATION_DATE = new SerializedString("applicationDate");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString REJECTION_REASON = new SerializedString("rejectionReason");
+    private static final SerializableString EVALUATION_DATE = new SerializedString("evaluationDate");
+
+    public CreditApplicationJsonSerializer() {
+        super(CreditApplication.class);
+    }
+
+    @Override
+    public void serialize(CreditApplication value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        JsonValues.writeLong(gen, value.getId());
+        gen.writeFieldName(CUSTOMER);
+        CustomerJsonSerializer.write(value.getCustomer(), gen, provider);
+        gen.writeFieldName(REQUESTED_AMOUNT);
+        gen.writeNumber(value.getRequestedAmount());
+        gen.writeFieldName(INSTALLMENT_COUNT);
+        JsonValues.writeInt(gen, value.getInstallmentCount());
+        gen.writeFieldName(PURPOSE);
+        gen.writeString(value.getPurpose());
+        gen.writeFieldName(APPLICATION_DATE);
+        IsoDates.writeDate(gen, provider, value.getApplicationDate());
+        gen.writeFieldName(STATUS);
+        gen.writeString(value.getStatus());
+        gen.writeFieldName(REJECTION_REASON);
+        gen.writeString(value.getRejectionReason());
+        gen.writeFieldName(EVALUATION_DATE);
+        IsoDates.writeDateTime(gen, provider, value.getEvaluationDate());
+        gen.writeEndObject();
+    }
+}
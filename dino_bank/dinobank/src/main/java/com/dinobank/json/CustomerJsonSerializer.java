@@ -0,0 +1,79 @@
+package com.dinobank.json;
+
+import com.dinobank.model.Customer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Customer entity'sini elle yazar. Hesap özeti, kredi başvuruları ve admin
+ * ekranında müşteri iç içe (nested) yazıldığı için Account ve
+ * CreditApplication yazıcıları da bunu kullanır.
+ *
+ * Şifre hash'i (sifre) YAZILMAZ; varsayılan serileştirme onu her hesap
+ * özetinde dışarı veriyordu. Kayıt isteğinde (AuthController.register)
+ * okunması etkilenmez, bu sınıf yalnızca yazmayı belirler.
+ * accounts alanı entity'de zaten @JsonIgnore'dur.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@JsonComponent
+public class CustomerJsonSerializer extends StdSerializer<Customer> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TC_KIMLIK_NO = new SerializedString("tcKimlikNo");
+    private static final SerializableString AD = new SerializedString("ad");
+    private static final SerializableString SOYAD = new SerializedString("soyad");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString TELEFON = new SerializedString("telefon");
+    private static final SerializableString DOGUM_TARIHI = new SerializedString("dogumTarihi");
+    private static final SerializableString ADRES = new SerializedString("adres");
+    private static final SerializableString KAYIT_TARIHI = new SerializedString("kayitTarihi");
+    private static final SerializableString AKTIF = new SerializedString("aktif");
+
+    public CustomerJsonSerializer() {
+        super(Customer.class);
+    }
+
+    @Override
+    public void serialize(Customer value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        write(value, gen, provider);
+    }
+
+    static void write(Customer value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        JsonValues.writeLong(gen, value.getId());
+        gen.writeFieldName(TC_KIMLIK_NO);
+        gen.writeString(value.getTcKimlikNo());
+        gen.writeFieldName(AD);
+        gen.writeString(value.getAd());
+        gen.writeFieldName(SOYAD);
+        gen.writeString(value.getSoyad());
+        gen.writeFieldName(EMAIL);
+        gen.writeString(value.getEmail());
+        gen.writeFieldName(TELEFON);
+        gen.writeString(value.getTelefon());
+        gen.writeFieldName(DOGUM_TARIHI);
+        IsoDates.writeDate(gen, provider, value.getDogumTarihi());
+        gen.writeFieldName(ADRES);
+        gen.writeString(value.getAdres());
+        gen.writeFieldName(KAYIT_TARIHI);
+        IsoDates.writeDate(gen, provider, value.getKayitTarihi());
+        gen.writeFieldName(AKTIF);
+        JsonValues.writeBoolean(gen, value.getAktif());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,110 @@
+package com.dinobank.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * LocalDate / LocalDateTime değerlerini Jackson'ın varsayılanıyla
+ * (JavaTimeModule, ISO_LOCAL_DATE / ISO_LOCAL_DATE_TIME) birebir aynı
+ * metinle, String üretmeden yazar.
+ *
+ * Karakterler bir char[] tampona dizilir ve JsonGenerator'a doğrudan
+ * verilir. Tampon serileştirme çağrısı başına bir kez oluşturulur
+ * (SerializerProvider niteliği) ve o cevaptaki tüm tarihler için
+ * yeniden kullanılır; virtual thread'lerde de ThreadLocal gibi
+ * istek başına boşa gitmez.
+ *
+ * 0-9999 dışındaki yıllar (ISO'da işaretli/uzun yazılır) formatter'a bırakılır.
+ */
+final class IsoDates {
+
+    private static final Object BUFFER_KEY = IsoDates.class;
+
+    /** "yyyy-MM-ddTHH:mm:ss.nnnnnnnnn" */
+    private static final int MAX_LENGTH = 29;
+
+    private IsoDates() {
+    }
+
+    static void writeDate(JsonGenerator gen, SerializerProvider provider, LocalDate value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        if (value.getYear() < 0 || value.getYear() > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE.format(value));
+            return;
+        }
+        char[] buffer = buffer(provider);
+        int length = date(buffer, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+        gen.writeString(buffer, 0, length);
+    }
+
+    static void writeDateTime(JsonGenerator gen, SerializerProvider provider, LocalDateTime value)
+            throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        if (value.getYear() < 0 || value.getYear() > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        char[] buffer = buffer(provider);
+        int pos = date(buffer, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+        buffer[pos++] = 'T';
+        pos = twoDigits(buffer, pos, value.getHour());
+        buffer[pos++] = ':';
+        pos = twoDigits(buffer, pos, value.getMinute());
+        buffer[pos++] = ':';
+        pos = twoDigits(buffer, pos, value.getSecond());
+
+        // ISO_LOCAL_DATE_TIME: kesir sondaki sıfırlar atılarak yazılır, sıfırsa hiç yazılmaz
+        int nano = value.getNano();
+        if (nano > 0) {
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[pos++] = '.';
+            for (int i = pos + digits - 1; i >= pos; i--) {
+                buffer[i] = (char) ('0' + nano % 10);
+                nano /= 10;
+            }
+            pos += digits;
+        }
+        gen.writeString(buffer, 0, pos);
+    }
+
+    private static int date(char[] buffer, int year, int month, int day) {
+        buffer[0] = (char) ('0' + year / 1000);
+        buffer[1] = (char) ('0' + year / 100 % 10);
+        buffer[2] = (char) ('0' + year / 10 % 10);
+        buffer[3] = (char) ('0' + year % 10);
+        buffer[4] = '-';
+        twoDigits(buffer, 5, month);
+        buffer[7] = '-';
+        return twoDigits(buffer, 8, day);
+    }
+
+    private static int twoDigits(char[] buffer, int pos, int value) {
+        buffer[pos] = (char) ('0' + value / 10);
+        buffer[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+
+    private static char[] buffer(SerializerProvider provider) {
+        char[] buffer = (char[]) provider.getAttribute(BUFFER_KEY);
+        if (buffer == null) {
+            buffer = new char[MAX_LENGTH];
+            provider.setAttribute(BUFFER_KEY, buffer);
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,40 @@
+package com.dinobank.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Kutulu (boxed) değerleri null kontrolüyle yazar. Jackson'ın
+ * writeString / writeNumber(BigDecimal) metotları null'ı zaten
+ * "null" olarak yazar; Long, Integer ve Boolean için bu sınıf kullanılır.
+ */
+final class JsonValues {
+
+    private JsonValues() {
+    }
+
+    static void writeLong(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    static void writeInt(JsonGenerator gen, Integer value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    static void writeBoolean(JsonGenerator gen, Boolean value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeBoolean(value);
+        }
+    }
+}
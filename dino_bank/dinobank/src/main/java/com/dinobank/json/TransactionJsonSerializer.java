@@ -0,0 +1,72 @@
+package com.dinobank.json;
+
+import com.dinobank.model.Transaction;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Transaction entity'sini elle yazar. Entity'yi doğrudan dönen tek yer
+ * admin ekranıdır (/api/admin/db, tüm işlemler); her işlem iki hesabı ve
+ * onların müşterilerini iç içe taşıdığı için en büyük cevap budur.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@JsonComponent
+public class TransactionJsonSerializer extends StdSerializer<Transaction> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString FROM_ACCOUNT = new SerializedString("fromAccount");
+    private static final SerializableString TO_ACCOUNT = new SerializedString("toAccount");
+    private static final SerializableString TRANSACTION_TYPE = new SerializedString("transactionType");
+    private static final SerializableString AMOUNT = new SerializedString("amount");
+    private static final SerializableString CURRENCY = new SerializedString("currency");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString TRANSACTION_DATE = new SerializedString("transactionDate");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString EXCHANGE_RATE = new SerializedString("exchangeRate");
+    private static final SerializableString CONVERTED_AMOUNT = new SerializedString("convertedAmount");
+    private static final SerializableString CONVERTED_CURRENCY = new SerializedString("convertedCurrency");
+
+    public TransactionJsonSerializer() {
+        super(Transaction.class);
+    }
+
+    @Override
+    public void serialize(Transaction value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        JsonValues.writeLong(gen, value.getId());
+        gen.writeFieldName(FROM_ACCOUNT);
+        AccountJsonSerializer.write(value.getFromAccount(), gen, provider);
+        gen.writeFieldName(TO_ACCOUNT);
+        AccountJsonSerializer.write(value.getToAccount(), gen, provider);
+        gen.writeFieldName(TRANSACTION_TYPE);
+        gen.writeString(value.getTransactionType());
+        gen.writeFieldName(AMOUNT);
+        gen.writeNumber(value.getAmount());
+        gen.writeFieldName(CURRENCY);
+        gen.writeString(value.getCurrency());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(value.getDescription());
+        gen.writeFieldName(TRANSACTION_DATE);
+        IsoDates.writeDateTime(gen, provider, value.getTransactionDate());
+        gen.writeFieldName(STATUS);
+        gen.writeString(value.getStatus());
+        gen.writeFieldName(EXCHANGE_RATE);
+        gen.writeNumber(value.getExchangeRate());
+        gen.writeFieldName(CONVERTED_AMOUNT);
+        gen.writeNumber(value.getConvertedAmount());
+        gen.writeFieldName(CONVERTED_CURRENCY);
+        gen.writeString(value.getConvertedCurrency());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,86 @@
+package com.dinobank.json;
+
+import com.dinobank.Transaction.dto.TransactionResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * =============================================================================
+ * TRANSACTION RESPONSE JSON SERIALIZER - İşlem Geçmişi Yazıcısı
+ * =============================================================================
+ *
+ * İşlem geçmişi (/api/transactions/history/{id}) ve transfer/para yatırma
+ * cevaplarındaki TransactionResponseDto'yu elle yazar. Jackson'ın
+ * BeanSerializer'ı her alan için reflection ile getter çağırır, alan
+ * adını her seferinde yazar ve LocalDateTime'ı önce String'e çevirir.
+ *
+ * BU YAZICI:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ Alan adları → önceden kodlanmış SerializedString sabitleri      │
+ * │ Getter'lar  → doğrudan çağrı (reflection yok)                   │
+ * │ Tarih       → IsoDates: char[] tampona, String üretmeden        │
+ * │ Çıktı       → JsonGenerator ile doğrudan response stream'ine    │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * JSON çıktısı (alan sırası, null alanlar, tarih ve sayı biçimi) varsayılan
+ * serileştirmeyle birebir aynıdır; frontend değişmez. DTO'ya alan eklenirse
+ * buraya da eklenmelidir. Benchmark: dinobank-benchmarks/JsonWriterBenchmark.
+ *
+ * @JsonComponent ile Spring Boot'un ObjectMapper'ına kaydedilir.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@JsonComponent
+public class TransactionResponseJsonSerializer extends StdSerializer<TransactionResponseDto> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString FROM_ACCOUNT_NUMBER = new SerializedString("fromAccountNumber");
+    private static final SerializableString TO_ACCOUNT_NUMBER = new SerializedString("toAccountNumber");
+    private static final SerializableString AMOUNT = new SerializedString("amount");
+    private static final SerializableString TRANSACTION_TYPE = new SerializedString("transactionType");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString TRANSACTION_DATE = new SerializedString("transactionDate");
+    private static final SerializableString EXCHANGE_RATE = new SerializedString("exchangeRate");
+    private static final SerializableString CONVERTED_AMOUNT = new SerializedString("convertedAmount");
+    private static final SerializableString CONVERTED_CURRENCY = new SerializedString("convertedCurrency");
+
+    public TransactionResponseJsonSerializer() {
+        super(TransactionResponseDto.class);
+    }
+
+    @Override
+    public void serialize(TransactionResponseDto value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        JsonValues.writeLong(gen, value.getId());
+        gen.writeFieldName(FROM_ACCOUNT_NUMBER);
+        gen.writeString(value.getFromAccountNumber());
+        gen.writeFieldName(TO_ACCOUNT_NUMBER);
+        gen.writeString(value.getToAccountNumber());
+        gen.writeFieldName(AMOUNT);
+        gen.writeNumber(value.getAmount());
+        gen.writeFieldName(TRANSACTION_TYPE);
+        gen.writeString(value.getTransactionType());
+        gen.writeFieldName(STATUS);
+        gen.writeString(value.getStatus());
+        gen.writeFieldName(TRANSACTION_DATE);
+        IsoDates.writeDateTime(gen, provider, value.getTransactionDate());
+        gen.writeFieldName(EXCHANGE_RATE);
+        gen.writeNumber(value.getExchangeRate());
+        gen.writeFieldName(CONVERTED_AMOUNT);
+        gen.writeNumber(value.getConvertedAmount());
+        gen.writeFieldName(CONVERTED_CURRENCY);
+        gen.writeString(value.getConvertedCurrency());
+        gen.writeEndObject();
+    }
+}
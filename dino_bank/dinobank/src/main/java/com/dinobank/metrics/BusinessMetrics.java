@@ -0,0 +1,120 @@
+package com.dinobank.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * =============================================================================
+ * BUSINESS METRICS - İş Sonucu Sayaçları
+ * =============================================================================
+ *
+ * Teknik zamanlayıcıların göstermediği iş sonuçlarını sayar:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ dinobank.transfers{type=same_currency|fx} → tamamlanan transfer │
+ * │ dinobank.transfers.rejected{reason=...} → reddedilen transfer │
+ * │ dinobank.credit.decisions{result, mode=auto|manual} │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * Sayaçlar açılışta bir kez oluşturulur; sıcak yolda registry araması
+ * yapılmaz, yalnızca increment() çağrılır.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Component
+public class BusinessMetrics {
+
+    private final Counter transfersSameCurrency;
+    private final Counter transfersFx;
+    private final Counter rejectedInsufficientBalance;
+    private final Counter rejectedAccountNotFound;
+    private final Counter rejectedInvalidAccount;
+    private final Counter rejectedFxRateUnavailable;
+    private final Counter rejectedInvalidAmount;
+    private final Counter rejectedTransactionLimit;
+    private final Counter rejectedDailyLimit;
+    private final Counter creditAutoApproved;
+    private final Counter creditAutoRejected;
+    private final Counter creditManualApproved;
+    private final Counter creditManualRejected;
+
+    public BusinessMetrics(MeterRegistry registry) {
+        this.transfersSameCurrency = transfers(registry, "same_currency");
+        this.transfersFx = transfers(registry, "fx");
+        this.rejectedInsufficientBalance = rejected(registry, "insufficient_balance");
+        this.rejectedAccountNotFound = rejected(registry, "account_not_found");
+        this.rejectedInvalidAccount = rejected(registry, "invalid_account");
+        this.rejectedFxRateUnavailable = rejected(registry, "fx_rate_unavailable");
+        this.rejectedInvalidAmount = rejected(registry, "invalid_amount");
+        this.rejectedTransactionLimit = rejected(registry, "transaction_limit");
+        this.rejectedDailyLimit = rejected(registry, "daily_limit");
+        this.creditAutoApproved = credit(registry, "APPROVED", "auto");
+        this.creditAutoRejected = credit(registry, "REJECTED", "auto");
+        this.creditManualApproved = credit(registry, "APPROVED", "manual");
+        this.creditManualRejected = credit(registry, "REJECTED", "manual");
+    }
+
+    public void transferCompleted(boolean crossCurrency) {
+        (crossCurrency ? transfersFx : transfersSameCurrency).increment();
+    }
+
+    public void insufficientBalance() {
+        rejectedInsufficientBalance.increment();
+    }
+
+    public void accountNotFound() {
+        rejectedAccountNotFound.increment();
+    }
+
+    public void invalidAccount() {
+        rejectedInvalidAccount.increment();
+    }
+
+    public void fxRateUnavailable() {
+        rejectedFxRateUnavailable.increment();
+    }
+
+    public void invalidAmount() {
+        rejectedInvalidAmount.increment();
+    }
+
+    public void transactionLimitExceeded() {
+        rejectedTransactionLimit.increment();
+    }
+
+    public void dailyLimitExceeded() {
+        rejectedDailyLimit.increment();
+    }
+
+    public void creditDecision(String result, boolean manual) {
+        boolean approved = "APPROVED".equals(result);
+        if (manual) {
+            (approved ? creditManualApproved : creditManualRejected).increment();
+        } else {
+            (approved ? creditAutoApproved : creditAutoRejected).increment();
+        }
+    }
+
+    private static Counter transfers(MeterRegistry registry, String type) {
+        return Counter.builder("dinobank.transfers")
+                .description("Tamamlanan transferler")
+                .tag("type", type)
+                .register(registry);
+    }
+
+    private static Counter rejected(MeterRegistry registry, String reason) {
+        return Counter.builder("dinobank.transfers.rejected")
+                .description("İş kuralı nedeniyle reddedilen transfer / para yatırma istekleri")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private static Counter credit(MeterRegistry registry, String result, String mode) {
+        return Counter.builder("dinobank.credit.decisions")
+                .description("Kredi başvuru kararları")
+                .tag("result", result)
+                .tag("mode", mode)
+                .register(registry);
+    }
+}
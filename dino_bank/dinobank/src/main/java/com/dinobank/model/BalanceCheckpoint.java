@@ -0,0 +1,97 @@
+package com.dinobank.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * =============================================================================
+ * BALANCE CHECKPOINT (BAKİYE KONTROL NOKTASI) MODEL SINIFI
+ * =============================================================================
+ *
+ * Bir hesabın belirli bir andaki bakiyesini saklar. Geçmiş tarihli bakiye
+ * sorgularında tüm işlem geçmişini baştan toplamak yerine en yakın kontrol
+ * noktasından başlanır ve yalnızca aradaki işlemler uygulanır.
+ *
+ * VERİTABANI TABLOSU: public.balance_checkpoints
+ *
+ * ANLAMI:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ balance = checkpointAt anından ÖNCEKİ tüm işlemler sonrası bakiye│
+ * │ (checkpointAt anındaki işlemler dahil değildir) │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * Kayıtlar BalanceCheckpointService tarafından toplu olarak yazılır ve
+ * hiç güncellenmez. (account_id, checkpoint_at) çifti benzersizdir; iş
+ * yeniden çalışırsa mevcut kayıtlar atlanır.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ * @see Account
+ */
+@Entity
+@Table(name = "balance_checkpoints", schema = "public", uniqueConstraints = @UniqueConstraint(name = "uk_balance_checkpoints_account_at", columnNames = {
+        "account_id", "checkpoint_at" }))
+public class BalanceCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "checkpoint_id")
+    private Long id;
+
+    /** Hesap ID'si; toplu INSERT ... SELECT ile yazıldığı için ilişki yerine düz kolon */
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    /** Kontrol noktası anı (genellikle gün başı 00:00) */
+    @Column(name = "checkpoint_at", nullable = false)
+    private LocalDateTime checkpointAt;
+
+    /** Bu andaki bakiye, hesabın kendi para biriminde */
+    @Column(name = "balance", precision = 15, scale = 2, nullable = false)
+    private BigDecimal balance;
+
+    /** Kaydın yazıldığı an (denetim amaçlı) */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public LocalDateTime getCheckpointAt() {
+        return checkpointAt;
+    }
+
+    public void setCheckpointAt(LocalDateTime checkpointAt) {
+        this.checkpointAt = checkpointAt;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -60,12 +60,12 @@ public class Transaction {
      * GÖNDERİCİ HESAP - Paranın Çıktığı Hesap
      * 
      * @ManyToOne: Bir hesaptan birden fazla işlem yapılabilir
-     *             nullable = false: Her işlemin bir kaynağı olmalı!
      * 
-     *             DEPOSIT işlemlerinde bu alan banka kasasını temsil edebilir.
+     *             DEPOSIT işlemlerinde null'dır (para ATM/şube kasasından gelir),
+     *             diğer tüm işlem tiplerinde zorunludur.
      */
     @ManyToOne
-    @JoinColumn(name = "from_account_id", nullable = false)
+    @JoinColumn(name = "from_account_id")
     private Account fromAccount;
 
     /**
@@ -161,6 +161,29 @@ public class Transaction {
     @Column(name = "status", length = 20, nullable = false)
     private String status = "PENDING";
 
+    /**
+     * UYGULANAN KUR (Dövizli transferler)
+     * 
+     * 1 birim gönderen hesap para biriminin (currency) alıcı hesap para
+     * birimindeki karşılığı. Aynı para birimli işlemlerde null'dır.
+     */
+    @Column(name = "exchange_rate", precision = 19, scale = 8)
+    private BigDecimal exchangeRate;
+
+    /**
+     * ALICI BACAĞI TUTARI
+     * 
+     * Alıcı hesaba geçen tutar (amount × exchangeRate, kuruşa yuvarlanmış).
+     * amount/currency gönderen bacağını, convertedAmount/convertedCurrency
+     * alıcı bacağını tek satırda kaydeder. Aynı para biriminde null'dır.
+     */
+    @Column(name = "converted_amount", precision = 15, scale = 2)
+    private BigDecimal convertedAmount;
+
+    /** ALICI BACAĞI PARA BİRİMİ (ISO 4217) */
+    @Column(name = "converted_currency", length = 3)
+    private String convertedCurrency;
+
     public Long getId() {
         return id;
     }
@@ -232,4 +255,28 @@ public class Transaction {
     public void setStatus(String status) {
         this.status = status;
     }
+
+    public BigDecimal getExchangeRate() {
+        return exchangeRate;
+    }
+
+    public void setExchangeRate(BigDecimal exchangeRate) {
+        this.exchangeRate = exchangeRate;
+    }
+
+    public BigDecimal getConvertedAmount() {
+        return convertedAmount;
+    }
+
+    public void setConvertedAmount(BigDecimal convertedAmount) {
+        this.convertedAmount = convertedAmount;
+    }
+
+    public String getConvertedCurrency() {
+        return convertedCurrency;
+    }
+
+    public void setConvertedCurrency(String convertedCurrency) {
+        this.convertedCurrency = convertedCurrency;
+    }
 }
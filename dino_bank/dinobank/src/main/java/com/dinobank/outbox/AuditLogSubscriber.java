@@ -0,0 +1,36 @@
+package com.dinobank.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Her olayı "dinobank.audit" logger'ına bir satır olarak yazar. Log
+ * toplayıcısı bu logger'ı ayrı bir dosyaya / indekse yönlendirebilir.
+ * En az bir kez teslimat nedeniyle aynı event_id iki kez görülebilir.
+ */
+@Component
+@ConditionalOnProperty(name = "dinobank.outbox.audit-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogSubscriber implements OutboxSubscriber {
+
+    private static final Logger audit = LoggerFactory.getLogger("dinobank.audit");
+
+    @Override
+    public String name() {
+        return "audit-log";
+    }
+
+    @Override
+    public void onEvents(List<OutboxEvent> events) {
+        if (!audit.isInfoEnabled()) {
+            return;
+        }
+        for (OutboxEvent event : events) {
+            audit.info("event_id={} type={} aggregate={} at={} payload={}",
+                    event.id(), event.type(), event.aggregateId(), event.createdAt(), event.payload());
+        }
+    }
+}
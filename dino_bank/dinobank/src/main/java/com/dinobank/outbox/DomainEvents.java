@@ -0,0 +1,89 @@
+package com.dinobank.outbox;
+
+import com.dinobank.model.Account;
+import com.dinobank.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Olay yükleri. JSON olarak outbox_events.payload kolonuna yazılır;
+ * aboneler ObjectMapper.readValue(event.payload(), ...) ile okur.
+ * Alan eklemek geriye uyumludur, alan silmek/yeniden adlandırmak değildir:
+ * tablo henüz dağıtılmamış eski olayları da içerebilir.
+ */
+public final class DomainEvents {
+
+    private DomainEvents() {
+    }
+
+    /**
+     * Bakiye değiştiren hareket. Bakiyeler hareket SONRASI değerlerdir;
+     * projeksiyonlar hesap tablosunu tekrar okumadan güncellenebilir.
+     * Para yatırma ve kredide gönderen alanları null'dır.
+     */
+    public record MoneyMoved(
+            Long transactionId,
+            String transactionType,
+            Long fromAccountId,
+            Long fromCustomerId,
+            BigDecimal fromBalance,
+            Long toAccountId,
+            Long toCustomerId,
+            BigDecimal toBalance,
+            BigDecimal amount,
+            String currency,
+            BigDecimal creditedAmount,
+            String creditedCurrency,
+            LocalDateTime occurredAt,
+            String fromAccountNumber,
+            String toAccountNumber) {
+
+        public static MoneyMoved of(Transaction tx) {
+            Account from = tx.getFromAccount();
+            Account to = tx.getToAccount();
+            BigDecimal credited = tx.getConvertedAmount() != null ? tx.getConvertedAmount() : tx.getAmount();
+            String creditedCurrency = tx.getConvertedCurrency() != null ? tx.getConvertedCurrency() : tx.getCurrency();
+            return new MoneyMoved(tx.getId(), tx.getTransactionType(),
+                    from != null ? from.getId() : null,
+                    from != null ? from.getCustomer().getId() : null,
+                    from != null ? from.getBalance() : null,
+                    to.getId(), to.getCustomer().getId(), to.getBalance(),
+                    tx.getAmount(), tx.getCurrency(), credited, creditedCurrency, tx.getTransactionDate(),
+                    from != null ? from.getAccountNumber() : null, to.getAccountNumber());
+        }
+
+        /** Sıralama anahtarı: parayı gönderen hesap, yoksa alan hesap */
+        public Long aggregateId() {
+            return fromAccountId != null ? fromAccountId : toAccountId;
+        }
+    }
+
+    public record CreditDecided(
+            Long applicationId,
+            Long customerId,
+            String status,
+            BigDecimal requestedAmount,
+            String rejectionReason,
+            LocalDateTime occurredAt) {
+    }
+
+    /** Mevcut müşteriye yeni hesap açıldı */
+    public record AccountOpened(
+            Long customerId,
+            Long accountId,
+            String accountNumber,
+            String accountType,
+            String currency,
+            BigDecimal balance,
+            LocalDateTime occurredAt) {
+    }
+
+    public record CustomerRegistered(
+            Long customerId,
+            Long accountId,
+            String accountNumber,
+            String currency,
+            LocalDateTime occurredAt) {
+    }
+}
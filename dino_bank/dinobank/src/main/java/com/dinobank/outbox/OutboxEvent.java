@@ -0,0 +1,13 @@
+package com.dinobank.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Çıkış kutusundan okunan bir olay. payload, olay tipine karşılık gelen
+ * DomainEvents kaydının JSON halidir.
+ *
+ * @param id          Artan olay numarası; teslim sırası budur
+ * @param aggregateId Para hareketlerinde hesap, müşteri olaylarında müşteri id'si
+ */
+public record OutboxEvent(long id, OutboxEventType type, Long aggregateId, String payload, LocalDateTime createdAt) {
+}
@@ -0,0 +1,31 @@
+package com.dinobank.outbox;
+
+/**
+ * Çıkış kutusuna yazılan alan olayları. Yük (payload) tipleri DomainEvents'tedir.
+ */
+public enum OutboxEventType {
+
+    /** Hesaptan hesaba transfer (DomainEvents.MoneyMoved) */
+    TRANSFER_COMPLETED,
+
+    /** Para yatırma (DomainEvents.MoneyMoved, fromAccountId = null) */
+    DEPOSIT_COMPLETED,
+
+    /** Onaylanan kredinin hesaba yatırılması (DomainEvents.MoneyMoved, fromAccountId = null) */
+    CREDIT_DISBURSED,
+
+    /** Kredi başvurusu sonuçlandı (DomainEvents.CreditDecided) */
+    CREDIT_DECIDED,
+
+    /** Yeni müşteri ve varsayılan hesabı (DomainEvents.CustomerRegistered) */
+    CUSTOMER_REGISTERED,
+
+    /** Mevcut müşteriye yeni hesap (DomainEvents.AccountOpened) */
+    ACCOUNT_OPENED,
+
+    /**
+     * Gece faiz tahakkuku (DomainEvents.MoneyMoved, transactionType = INTEREST):
+     * vadeli hesaba yatan faizde gönderen, eksi bakiyeden kesilen faizde alıcı alanları null'dır
+     */
+    INTEREST_POSTED
+}
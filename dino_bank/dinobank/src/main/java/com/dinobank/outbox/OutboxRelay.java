@@ -0,0 +1,323 @@
+package com.dinobank.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * =============================================================================
+ * OUTBOX RELAY - Çıkış Kutusundaki Olayları Abonelere Dağıtır
+ * =============================================================================
+ *
+ * Tek bir arka plan thread'i ("outbox-relay") commit edilmiş olayları
+ * event_id sırasıyla partiler halinde okur ve her OutboxSubscriber bean'ine
+ * verir. Olay yazan transaction commit edildiğinde OutboxSignal thread'i
+ * hemen uyandırır; başka node'ların olayları poll-interval-ms ile görülür.
+ *
+ * ÇALIŞMA MANTIĞI (abone başına):
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 1. event_id > offset olan en fazla batch-size olay okunur       │
+ * │    (aynı offset'teki aboneler aynı okumayı paylaşır)            │
+ * │ 2. Transaction: offset satırı FOR UPDATE kilitlenir             │
+ * │    → onEvents(parti) → offset = partinin son event_id'si        │
+ * │ 3. Hata: transaction geri alınır, parti üstel beklemeyle        │
+ * │    tekrar denenir (en az bir kez); diğer aboneler etkilenmez    │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * SIRA VE BOŞLUKLAR:
+ * event_id commit sırasında değil INSERT sırasında atanır. 10 numaralı
+ * olayın transaction'ı 11'den sonra commit edilirse okuyucu önce 11'i
+ * görür. 10'u kaçırmamak (ve aynı hesabın olaylarını ters sırada vermemek)
+ * için parti ilk boşlukta kesilir; boşluk gap-timeout-ms boyunca
+ * kapanmazsa geri alınmış bir transaction kabul edilip atlanır
+ * (dinobank.outbox.gaps.skipped).
+ *
+ * Birden fazla node çalışıyorsa offset satırı kilidi aynı partinin iki
+ * kez teslim edilmesini önler; kilidi alamayan node bekler ve güncel
+ * offset'ten devam eder.
+ *
+ * Teslim edilmiş ve retention-hours'tan eski olaylar periyodik olarak silinir.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String SELECT_EVENTS_SQL = """
+            SELECT event_id, event_type, aggregate_id, payload, created_at
+            FROM public.outbox_events
+            WHERE event_id > ?
+            ORDER BY event_id
+            LIMIT ?
+            """;
+
+    private static final RowMapper<OutboxEvent> EVENT_MAPPER = (rs, rowNum) -> new OutboxEvent(
+            rs.getLong("event_id"),
+            OutboxEventType.valueOf(rs.getString("event_type")),
+            rs.getObject("aggregate_id", Long.class),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static final int PRUNE_CHUNK = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxSignal signal;
+    private final List<SubscriberState> subscribers = new ArrayList<>();
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final long gapTimeoutNanos;
+    private final long retentionHours;
+    private final Counter gapsSkipped;
+
+    /** Görülen ama henüz kapanmamış boşluklar: eksik event_id → ilk görülme anı (nanoTime) */
+    private final Map<Long, Long> openGaps = new HashMap<>();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            OutboxSignal signal, List<OutboxSubscriber> subscribers, MeterRegistry registry,
+            @Value("${dinobank.outbox.relay.enabled:true}") boolean enabled,
+            @Value("${dinobank.outbox.batch-size:1000}") int batchSize,
+            @Value("${dinobank.outbox.poll-interval-ms:500}") long pollIntervalMs,
+            @Value("${dinobank.outbox.gap-timeout-ms:10000}") long gapTimeoutMs,
+            @Value("${dinobank.outbox.retention-hours:24}") long retentionHours) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("dinobank.outbox.batch-size pozitif olmalıdır!");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.signal = signal;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.gapTimeoutNanos = gapTimeoutMs * 1_000_000;
+        this.retentionHours = retentionHours;
+        this.gapsSkipped = Counter.builder("dinobank.outbox.gaps.skipped")
+                .description("Zaman aşımıyla atlanan event_id boşlukları (geri alınmış transaction)")
+                .register(registry);
+
+        Set<String> names = new HashSet<>();
+        for (OutboxSubscriber subscriber : subscribers) {
+            if (!names.add(subscriber.name())) {
+                throw new IllegalArgumentException("Aynı adlı iki outbox abonesi: " + subscriber.name());
+            }
+            this.subscribers.add(new SubscriberState(subscriber, registry));
+        }
+    }
+
+    @Override
+    public void start() {
+        for (SubscriberState state : subscribers) {
+            state.offset = loadOffset(state.subscriber.name());
+        }
+        running = true;
+        if (enabled && !subscribers.isEmpty()) {
+            worker = Thread.ofPlatform().name("outbox-relay").start(this::loop);
+            log.info("Outbox relay başladı: {} abone", subscribers.size());
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                if (relayOnce() == 0) {
+                    signal.await(pollIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // Okuma hatası (ör. veritabanı erişilemiyor): bir sonraki turda tekrar denenir
+                log.warn("Outbox relay turu başarısız: {}", e.getMessage());
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tek tur: bekleme süresinde olmayan her aboneye en fazla bir parti teslim eder.
+     *
+     * @return Teslim edilen olay sayısı (abonelerin toplamı)
+     */
+    public int relayOnce() {
+        int delivered = 0;
+        long now = System.nanoTime();
+        Map<Long, List<OutboxEvent>> batches = new HashMap<>();
+        for (SubscriberState state : subscribers) {
+            if (now < state.retryAtNanos) {
+                continue;
+            }
+            List<OutboxEvent> batch = batches.computeIfAbsent(state.offset, this::readBatch);
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                Long newOffset = transactionTemplate.execute(status -> deliver(state, batch));
+                if (newOffset != null) {
+                    state.offset = newOffset;
+                    state.failures = 0;
+                    state.delivered.increment(batch.size());
+                    delivered += batch.size();
+                }
+            } catch (RuntimeException e) {
+                state.failures++;
+                long backoffMs = Math.min(MAX_BACKOFF_MS, 100L << Math.min(state.failures, 16));
+                state.retryAtNanos = System.nanoTime() + backoffMs * 1_000_000;
+                state.failed.increment();
+                log.warn("Outbox abonesi {} event_id {}-{} partisini işleyemedi ({}. deneme, {} ms sonra tekrar): {}",
+                        state.subscriber.name(), batch.get(0).id(), batch.get(batch.size() - 1).id(),
+                        state.failures, backoffMs, e.getMessage());
+            }
+        }
+        return delivered;
+    }
+
+    /** Transaction içinde: offset kilitlenir, parti teslim edilir, offset ilerletilir */
+    private Long deliver(SubscriberState state, List<OutboxEvent> batch) {
+        Long stored = jdbcTemplate.queryForObject(
+                "SELECT last_event_id FROM public.outbox_offsets WHERE subscriber = ? FOR UPDATE",
+                Long.class, state.subscriber.name());
+        if (stored == null || stored != state.offset) {
+            // Başka bir node bu aboneyi ilerletti; güncel offset'ten devam edilir
+            state.offset = stored != null ? stored : state.offset;
+            return null;
+        }
+        state.subscriber.onEvents(batch);
+        long last = batch.get(batch.size() - 1).id();
+        jdbcTemplate.update("UPDATE public.outbox_offsets SET last_event_id = ?, updated_at = ? WHERE subscriber = ?",
+                last, Timestamp.valueOf(LocalDateTime.now()), state.subscriber.name());
+        return last;
+    }
+
+    private List<OutboxEvent> readBatch(long offset) {
+        List<OutboxEvent> rows = jdbcTemplate.query(SELECT_EVENTS_SQL, EVENT_MAPPER, offset, batchSize);
+        long expected = offset + 1;
+        for (int i = 0; i < rows.size(); i++) {
+            long id = rows.get(i).id();
+            if (id != expected && !gapExpired(expected)) {
+                return rows.subList(0, i);
+            }
+            expected = id + 1;
+        }
+        return rows;
+    }
+
+    private boolean gapExpired(long missingId) {
+        long now = System.nanoTime();
+        long firstSeen = openGaps.computeIfAbsent(missingId, id -> now);
+        if (now - firstSeen < gapTimeoutNanos) {
+            return false;
+        }
+        openGaps.remove(missingId);
+        openGaps.keySet().removeIf(id -> id < missingId);
+        gapsSkipped.increment();
+        log.warn("Outbox: event_id {} {} ms içinde commit edilmedi; geri alınmış kabul edilip atlanıyor",
+                missingId, gapTimeoutNanos / 1_000_000);
+        return true;
+    }
+
+    private long loadOffset(String subscriber) {
+        // Yeni abone tablodaki en eski olaydan başlar
+        jdbcTemplate.update("""
+                INSERT INTO public.outbox_offsets (subscriber, last_event_id, updated_at)
+                SELECT ?, COALESCE((SELECT MIN(event_id) FROM public.outbox_events), 1) - 1, ?
+                WHERE NOT EXISTS (SELECT 1 FROM public.outbox_offsets WHERE subscriber = ?)
+                """, subscriber, Timestamp.valueOf(LocalDateTime.now()), subscriber);
+        return jdbcTemplate.queryForObject("SELECT last_event_id FROM public.outbox_offsets WHERE subscriber = ?",
+                Long.class, subscriber);
+    }
+
+    /**
+     * Tüm abonelere teslim edilmiş ve saklama süresini doldurmuş olayları
+     * parça parça siler. Abone yoksa yalnızca süreye bakılır.
+     */
+    @Scheduled(cron = "${dinobank.outbox.prune-cron:0 */10 * * * *}")
+    public void pruneDelivered() {
+        Long upper = subscribers.isEmpty()
+                ? jdbcTemplate.queryForObject("SELECT MAX(event_id) FROM public.outbox_events", Long.class)
+                : Long.valueOf(subscribers.stream().mapToLong(state -> state.offset).min().getAsLong());
+        Long lower = jdbcTemplate.queryForObject("SELECT MIN(event_id) FROM public.outbox_events", Long.class);
+        if (upper == null || lower == null) {
+            return;
+        }
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours));
+        long deleted = 0;
+        for (long low = lower; low <= upper; low += PRUNE_CHUNK) {
+            deleted += jdbcTemplate.update(
+                    "DELETE FROM public.outbox_events WHERE event_id >= ? AND event_id < ? AND event_id <= ? AND created_at < ?",
+                    low, low + PRUNE_CHUNK, upper, cutoff);
+        }
+        if (deleted > 0) {
+            log.info("Outbox: {} teslim edilmiş olay silindi", deleted);
+        }
+    }
+
+    private static final class SubscriberState {
+
+        final OutboxSubscriber subscriber;
+        final Counter delivered;
+        final Counter failed;
+        long offset;
+        int failures;
+        long retryAtNanos;
+
+        SubscriberState(OutboxSubscriber subscriber, MeterRegistry registry) {
+            this.subscriber = subscriber;
+            this.delivered = Counter.builder("dinobank.outbox.delivered")
+                    .description("Aboneye teslim edilen olaylar")
+                    .tag("subscriber", subscriber.name())
+                    .register(registry);
+            this.failed = Counter.builder("dinobank.outbox.failures")
+                    .description("Abonenin işleyemediği (tekrar denenecek) partiler")
+                    .tag("subscriber", subscriber.name())
+                    .register(registry);
+        }
+    }
+}
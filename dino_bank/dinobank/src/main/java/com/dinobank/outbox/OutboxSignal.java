@@ -0,0 +1,31 @@
+package com.dinobank.outbox;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Olay yazan transaction commit edildiğinde relay'i uyandırır. Böylece aynı
+ * node'daki olaylar yoklama aralığını beklemeden dağıtılır; başka node'ların
+ * yazdığı olaylar yoklamayla görülür. Bağımlılığı olmadığı için yazıcı ile
+ * relay arasında döngü oluşturmaz.
+ */
+@Component
+public class OutboxSignal {
+
+    private final Semaphore permits = new Semaphore(0);
+
+    public void signal() {
+        if (permits.availablePermits() == 0) {
+            permits.release();
+        }
+    }
+
+    /** Sinyal gelene ya da süre dolana kadar bekler */
+    void await(long timeoutMs) throws InterruptedException {
+        if (permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+            permits.drainPermits();
+        }
+    }
+}
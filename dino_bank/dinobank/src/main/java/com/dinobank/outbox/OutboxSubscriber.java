@@ -0,0 +1,24 @@
+package com.dinobank.outbox;
+
+import java.util.List;
+
+/**
+ * Çıkış kutusu abonesi. Spring bean'i olarak tanımlanan her abone
+ * OutboxRelay tarafından bulunur ve kendi offset'iyle beslenir.
+ *
+ * TESLİMAT GARANTİLERİ:
+ * - En az bir kez: onEvents hata fırlatırsa aynı parti tekrar gelir;
+ *   offset kaydedilmeden önce süreç ölürse de. Aboneler idempotent olmalıdır.
+ * - Sıra: olaylar event_id sırasıyla gelir; aynı hesaba ait olaylar
+ *   hiçbir zaman yer değiştirmez.
+ * - onEvents, offset güncellemesiyle aynı veritabanı transaction'ında
+ *   çağrılır; abonenin JdbcTemplate / repository yazıları o transaction'a
+ *   katılır ve offset ile birlikte commit edilir.
+ */
+public interface OutboxSubscriber {
+
+    /** Offset tablosundaki anahtar; değiştirilirse abone baştan başlar */
+    String name();
+
+    void onEvents(List<OutboxEvent> events);
+}
@@ -0,0 +1,108 @@
+package com.dinobank.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * =============================================================================
+ * OUTBOX WRITER - Alan Olaylarını Çıkış Kutusuna Yazar
+ * =============================================================================
+ *
+ * TransactionService, CreditService ve AuthController.register bakiye /
+ * başvuru / müşteri yazılarının yanında buraya bir olay ekler. Ekleme
+ * çağıranın transaction'ına katılır (MANDATORY): iş verisi commit edilirse
+ * olay da edilir, rollback olursa olay hiç görünmez.
+ *
+ * NEDEN OUTBOX:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ Yeni bir projeksiyon (önbellek, özet, bildirim, denetim) için   │
+ * │ servislere dokunulmaz; OutboxSubscriber bean'i eklemek yeter.   │
+ * │ Olay kaybolmaz: commit edilen her olay relay tarafından en az   │
+ * │ bir kez teslim edilir.                                          │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * Yazma JdbcTemplate ile tek bir INSERT'tür (entity, dirty checking yok).
+ * Commit sonrası OutboxSignal relay'i uyandırır; transaction başına bir kez.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Component
+public class OutboxWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO public.outbox_events (event_type, aggregate_id, payload, created_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxSignal signal;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, OutboxSignal signal) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.signal = signal;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Long aggregateId, Object payload) {
+        jdbcTemplate.update(INSERT_SQL, type.name(), aggregateId, toJson(type, payload),
+                Timestamp.valueOf(LocalDateTime.now()));
+        signalAfterCommit();
+    }
+
+    /**
+     * Toplu işler (faiz tahakkuku vb.) için: aynı tipteki olaylar tek bir JDBC
+     * batch'i ile yazılır. Transaction kuralları append ile aynıdır.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void appendAll(OutboxEventType type, List<T> payloads, Function<T, Long> aggregateId) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(payloads.size());
+        for (T payload : payloads) {
+            rows.add(new Object[] { type.name(), aggregateId.apply(payload), toJson(type, payload), now });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        signalAfterCommit();
+    }
+
+    private String toJson(OutboxEventType type, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Olay serileştirilemedi: " + type, e);
+        }
+    }
+
+    private void signalAfterCommit() {
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+                if (status == STATUS_COMMITTED) {
+                    signal.signal();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.dinobank.reconciliation.controller;
+
+import com.dinobank.reconciliation.dto.ReconciliationReportDto;
+import com.dinobank.reconciliation.service.LedgerReconciliationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * =============================================================================
+ * RECONCILIATION CONTROLLER - Defter Mutabakatı Yönetim API'si
+ * =============================================================================
+ *
+ * API ENDPOINT:
+ * ┌─────────────────────────────────────────────────────────────────────────────┐
+ * │ METHOD │ ENDPOINT │ AÇIKLAMA │
+ * ├────────┼─────────────────────────────────────┼─────────────────────────────┤
+ * │ GET │ /api/admin/reconciliation/latest │ Son çalışmanın raporu │
+ * │ POST │ /api/admin/reconciliation/run │ Mutabakatı şimdi çalıştır │
+ * └─────────────────────────────────────────────────────────────────────────────┘
+ *
+ * RESPONSE:
+ * - 200 OK: ReconciliationReportDto (özet + uyuşmazlıklar)
+ * - 404 Not Found: Henüz hiç mutabakat çalışmamış (latest)
+ *
+ * POST senkron çalışır; büyük veritabanlarında zamanlanmış gece işi
+ * (dinobank.reconciliation.cron) tercih edilmelidir.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ * @see LedgerReconciliationService
+ */
+@RestController
+@RequestMapping("/api/admin/reconciliation")
+public class ReconciliationController {
+
+    private final LedgerReconciliationService reconciliationService;
+
+    public ReconciliationController(LedgerReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    @GetMapping("/latest")
+    public ResponseEntity<ReconciliationReportDto> getLatest() {
+        return ResponseEntity.of(reconciliationService.getLatestReport());
+    }
+
+    @PostMapping("/run")
+    public ResponseEntity<ReconciliationReportDto> run() {
+        return ResponseEntity.ok(reconciliationService.reconcile());
+    }
+}
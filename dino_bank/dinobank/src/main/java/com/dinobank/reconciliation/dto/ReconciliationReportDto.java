@@ -0,0 +1,122 @@
+package com.dinobank.reconciliation.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Bir mutabakat çalışmasının özeti ve (en fazla max-reported adet)
+ * uyuşmazlık satırı. GET /api/admin/reconciliation/latest cevabıdır.
+ */
+public class ReconciliationReportDto {
+
+    /**
+     * Tek uyuşmazlık. expected işlemlerden hesaplanan, actual kayıtlı
+     * bakiyedir (BALANCE: accounts.balance, CHECKPOINT: kontrol noktası).
+     */
+    public record Mismatch(
+            Long accountId,
+            String accountNumber,
+            String kind,
+            String currency,
+            BigDecimal expected,
+            BigDecimal actual,
+            BigDecimal difference) {
+    }
+
+    private Long runId;
+    private String status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime checkpointAt;
+    private long accountsChecked;
+    private long mismatchCount;
+    private boolean mismatchesTruncated;
+    private List<Mismatch> mismatches;
+
+    public ReconciliationReportDto(Long runId, String status, LocalDateTime startedAt, LocalDateTime finishedAt,
+            LocalDateTime checkpointAt, long accountsChecked, long mismatchCount, boolean mismatchesTruncated,
+            List<Mismatch> mismatches) {
+        this.runId = runId;
+        this.status = status;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.checkpointAt = checkpointAt;
+        this.accountsChecked = accountsChecked;
+        this.mismatchCount = mismatchCount;
+        this.mismatchesTruncated = mismatchesTruncated;
+        this.mismatches = mismatches;
+    }
+
+    public Long getRunId() {
+        return runId;
+    }
+
+    public void setRunId(Long runId) {
+        this.runId = runId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public LocalDateTime getCheckpointAt() {
+        return checkpointAt;
+    }
+
+    public void setCheckpointAt(LocalDateTime checkpointAt) {
+        this.checkpointAt = checkpointAt;
+    }
+
+    public long getAccountsChecked() {
+        return accountsChecked;
+    }
+
+    public void setAccountsChecked(long accountsChecked) {
+        this.accountsChecked = accountsChecked;
+    }
+
+    public long getMismatchCount() {
+        return mismatchCount;
+    }
+
+    public void setMismatchCount(long mismatchCount) {
+        this.mismatchCount = mismatchCount;
+    }
+
+    public boolean isMismatchesTruncated() {
+        return mismatchesTruncated;
+    }
+
+    public void setMismatchesTruncated(boolean mismatchesTruncated) {
+        this.mismatchesTruncated = mismatchesTruncated;
+    }
+
+    public List<Mismatch> getMismatches() {
+        return mismatches;
+    }
+
+    public void setMismatches(List<Mismatch> mismatches) {
+        this.mismatches = mismatches;
+    }
+}
@@ -0,0 +1,367 @@
+package com.dinobank.reconciliation.service;
+
+import com.dinobank.reconciliation.dto.ReconciliationReportDto;
+import com.dinobank.reconciliation.dto.ReconciliationReportDto.Mismatch;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * =============================================================================
+ * LEDGER RECONCILIATION SERVICE - Gün Sonu Defter Mutabakatı
+ * =============================================================================
+ *
+ * Her hesabın kayıtlı bakiyesini, defterin (transactions) söylediğiyle
+ * karşılaştırır:
+ * - BALANCE   : accounts.balance = gelen COMPLETED - giden COMPLETED
+ * - CHECKPOINT: en son kontrol noktasındaki bakiye = o andan önceki net
+ *
+ * ÇALIŞMA MANTIĞI:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 1. account_id ekseni sabit aralıklara bölünür                   │
+ * │ 2. Aralıklar paralel işlenir; her aralık TEK sorgudur:          │
+ * │    - toplamlar sunucuda GROUP BY ile hesaplanır                 │
+ * │    - hesap başına bir satır akış halinde (fetch size) okunur    │
+ * │    - yalnızca uyuşmazlıklar bellekte tutulur                    │
+ * │ 3. Uyuşmazlıklar reconciliation_mismatches'e, özet              │
+ * │    reconciliation_runs'a yazılır                                │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * CANLI TRAFİKLE BİRLİKTE: Her aralık salt okunur REPEATABLE READ
+ * transaction'ında okunur (PostgreSQL'de snapshot izolasyonu). Bakiye ve
+ * işlem toplamları aynı snapshot'tan gelir; okuma sırasında commit edilen
+ * bir transfer ya iki tarafta da görünür ya hiç görünmez. Tablo veya
+ * satır kilidi alınmaz, yazan transaction'lar beklemez. Salt okunur
+ * olduğundan replika açıksa okumalar replikaya gider.
+ *
+ * Kontrol noktası 00:05'te yazılır; gece yarısından önce başlayıp sonra
+ * commit edilen bir işlem CHECKPOINT uyuşmazlığı olarak görünebilir.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+@Service
+public class LedgerReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerReconciliationService.class);
+
+    public static final String KIND_BALANCE = "BALANCE";
+    public static final String KIND_CHECKPOINT = "CHECKPOINT";
+
+    /** Kontrol noktası hiç yoksa: hiçbir kontrol noktasıyla eşleşmeyen an */
+    private static final LocalDateTime NO_CHECKPOINT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    // Gelen ve giden toplamlar ayrı ayrı gruplanır; kontrol noktası öncesi kısım aynı geçişte toplanır
+    private static final String RECONCILE_RANGE_SQL = """
+            SELECT a.account_id, a.account_number, a.currency, a.balance, c.balance AS checkpoint_balance,
+                   COALESCE(cr.total, 0) AS credits, COALESCE(cr.before_checkpoint, 0) AS credits_before,
+                   COALESCE(db.total, 0) AS debits, COALESCE(db.before_checkpoint, 0) AS debits_before
+            FROM public.accounts a
+            LEFT JOIN (SELECT t.to_account_id AS account_id,
+                              SUM(COALESCE(t.converted_amount, t.amount)) AS total,
+                              SUM(CASE WHEN t.transaction_date < ? THEN COALESCE(t.converted_amount, t.amount)
+                                       ELSE 0 END) AS before_checkpoint
+                       FROM public.transactions t
+                       WHERE t.to_account_id >= ? AND t.to_account_id < ? AND t.status = 'COMPLETED'
+                       GROUP BY t.to_account_id) cr ON cr.account_id = a.account_id
+            LEFT JOIN (SELECT t.from_account_id AS account_id,
+                              SUM(t.amount) AS total,
+                              SUM(CASE WHEN t.transaction_date < ? THEN t.amount ELSE 0 END) AS before_checkpoint
+                       FROM public.transactions t
+                       WHERE t.from_account_id >= ? AND t.from_account_id < ? AND t.status = 'COMPLETED'
+                       GROUP BY t.from_account_id) db ON db.account_id = a.account_id
+            LEFT JOIN public.balance_checkpoints c ON c.account_id = a.account_id AND c.checkpoint_at = ?
+            WHERE a.account_id >= ? AND a.account_id < ?
+            ORDER BY a.account_id
+            """;
+
+    private static final String INSERT_RUN_SQL = """
+            INSERT INTO public.reconciliation_runs (status, started_at, checkpoint_at) VALUES ('RUNNING', ?, ?)
+            """;
+
+    private static final String FINISH_RUN_SQL = """
+            UPDATE public.reconciliation_runs
+            SET status = ?, finished_at = ?, accounts_checked = ?, mismatch_count = ?, mismatches_truncated = ?
+            WHERE run_id = ?
+            """;
+
+    private static final String INSERT_MISMATCH_SQL = """
+            INSERT INTO public.reconciliation_mismatches
+                   (run_id, account_id, kind, account_number, currency, expected, actual)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_LATEST_RUN_SQL = """
+            SELECT run_id, status, started_at, finished_at, checkpoint_at, accounts_checked, mismatch_count,
+                   mismatches_truncated
+            FROM public.reconciliation_runs ORDER BY run_id DESC LIMIT 1
+            """;
+
+    private static final String SELECT_MISMATCHES_SQL = """
+            SELECT account_id, kind, account_number, currency, expected, actual
+            FROM public.reconciliation_mismatches WHERE run_id = ? ORDER BY account_id, kind
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int threads;
+    private final int maxReported;
+    private final int fetchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong lastMismatchCount = new AtomicLong();
+
+    public LedgerReconciliationService(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry registry,
+            @Value("${dinobank.reconciliation.enabled:true}") boolean enabled,
+            @Value("${dinobank.reconciliation.chunk-size:10000}") int chunkSize,
+            @Value("${dinobank.reconciliation.threads:4}") int threads,
+            @Value("${dinobank.reconciliation.max-reported:1000}") int maxReported,
+            @Value("${dinobank.reconciliation.fetch-size:1000}") int fetchSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("dinobank.reconciliation.chunk-size pozitif olmalıdır!");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setReadOnly(true);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.maxReported = maxReported;
+        this.fetchSize = fetchSize;
+        Gauge.builder("dinobank.reconciliation.mismatches", lastMismatchCount, AtomicLong::get)
+                .description("Son mutabakat çalışmasında bulunan uyuşmazlık sayısı")
+                .register(registry);
+    }
+
+    @Scheduled(cron = "${dinobank.reconciliation.cron:0 45 0 * * *}")
+    public void reconcileNightly() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Tüm hesapları mutabık kılar ve raporu kaydeder.
+     *
+     * @return Kaydedilen rapor (uyuşmazlıklar en fazla max-reported adet)
+     * @throws RuntimeException Başka bir mutabakat çalışıyorsa
+     */
+    public ReconciliationReportDto reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("Mutabakat zaten çalışıyor!");
+        }
+        try {
+            return runReconciliation();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public Optional<ReconciliationReportDto> getLatestReport() {
+        List<ReconciliationReportDto> runs = jdbcTemplate.query(SELECT_LATEST_RUN_SQL, (rs, rowNum) -> {
+            long runId = rs.getLong("run_id");
+            List<Mismatch> mismatches = jdbcTemplate.query(SELECT_MISMATCHES_SQL,
+                    (mrs, i) -> mismatch(mrs.getLong("account_id"), mrs.getString("account_number"),
+                            mrs.getString("kind"), mrs.getString("currency"), mrs.getBigDecimal("expected"),
+                            mrs.getBigDecimal("actual")),
+                    runId);
+            return new ReconciliationReportDto(runId, rs.getString("status"),
+                    toLocalDateTime(rs.getTimestamp("started_at")), toLocalDateTime(rs.getTimestamp("finished_at")),
+                    toLocalDateTime(rs.getTimestamp("checkpoint_at")), rs.getLong("accounts_checked"),
+                    rs.getLong("mismatch_count"), rs.getBoolean("mismatches_truncated"), mismatches);
+        });
+        return runs.stream().findFirst();
+    }
+
+    private ReconciliationReportDto runReconciliation() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Timestamp latestCheckpoint = jdbcTemplate.queryForObject(
+                "SELECT MAX(checkpoint_at) FROM public.balance_checkpoints", Timestamp.class);
+        LocalDateTime checkpointAt = toLocalDateTime(latestCheckpoint);
+        long runId = insertRun(startedAt, latestCheckpoint);
+
+        long start = System.nanoTime();
+        RangeResult total;
+        try {
+            total = checkAllRanges(checkpointAt != null ? checkpointAt : NO_CHECKPOINT);
+        } catch (RuntimeException e) {
+            jdbcTemplate.update(FINISH_RUN_SQL, "FAILED", Timestamp.valueOf(LocalDateTime.now()), null, null,
+                    false, runId);
+            throw e;
+        }
+
+        total.mismatches.sort(Comparator.comparing(Mismatch::accountId).thenComparing(Mismatch::kind));
+        boolean truncated = total.mismatchCount > total.mismatches.size();
+        List<Mismatch> stored = total.mismatches;
+        jdbcTemplate.batchUpdate(INSERT_MISMATCH_SQL, stored, 1000, (ps, m) -> {
+            ps.setLong(1, runId);
+            ps.setLong(2, m.accountId());
+            ps.setString(3, m.kind());
+            ps.setString(4, m.accountNumber());
+            ps.setString(5, m.currency());
+            ps.setBigDecimal(6, m.expected());
+            ps.setBigDecimal(7, m.actual());
+        });
+        LocalDateTime finishedAt = LocalDateTime.now();
+        jdbcTemplate.update(FINISH_RUN_SQL, "COMPLETED", Timestamp.valueOf(finishedAt), total.accountsChecked,
+                total.mismatchCount, truncated, runId);
+        lastMismatchCount.set(total.mismatchCount);
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        if (total.mismatchCount > 0) {
+            log.warn("Defter mutabakatı #{}: {} hesapta {} uyuşmazlık, {} ms", runId, total.accountsChecked,
+                    total.mismatchCount, elapsedMs);
+        } else {
+            log.info("Defter mutabakatı #{}: {} hesap tutarlı, {} ms", runId, total.accountsChecked, elapsedMs);
+        }
+        return new ReconciliationReportDto(runId, "COMPLETED", startedAt, finishedAt, checkpointAt,
+                total.accountsChecked, total.mismatchCount, truncated, stored);
+    }
+
+    private long insertRun(LocalDateTime startedAt, Timestamp checkpointAt) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_RUN_SQL, new String[] { "run_id" });
+            ps.setTimestamp(1, Timestamp.valueOf(startedAt));
+            ps.setTimestamp(2, checkpointAt);
+            return ps;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+
+    private RangeResult checkAllRanges(LocalDateTime checkpointAt) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(account_id) FROM public.accounts", Long.class);
+        RangeResult total = new RangeResult();
+        if (maxId == null) {
+            return total;
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<RangeResult>> futures = new ArrayList<>();
+            for (long low = 1; low <= maxId; low += chunkSize) {
+                long rangeStart = low;
+                futures.add(pool.submit(() -> checkRange(rangeStart, rangeStart + chunkSize, checkpointAt)));
+            }
+            for (Future<RangeResult> future : futures) {
+                total.merge(future.get(), maxReported);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Mutabakat kesildi!", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Mutabakat tamamlanamadı: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return total;
+    }
+
+    /** [low, high) aralığı tek snapshot'ta, tek sorguyla */
+    private RangeResult checkRange(long low, long high, LocalDateTime checkpointAt) {
+        Timestamp at = Timestamp.valueOf(checkpointAt);
+        RangeResult result = new RangeResult();
+        snapshotTemplate.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(RECONCILE_RANGE_SQL);
+            ps.setFetchSize(fetchSize);
+            ps.setTimestamp(1, at);
+            ps.setLong(2, low);
+            ps.setLong(3, high);
+            ps.setTimestamp(4, at);
+            ps.setLong(5, low);
+            ps.setLong(6, high);
+            ps.setTimestamp(7, at);
+            ps.setLong(8, low);
+            ps.setLong(9, high);
+            return ps;
+        }, (ResultSet rs) -> compareRow(rs, result)));
+        return result;
+    }
+
+    private void compareRow(ResultSet rs, RangeResult result) throws SQLException {
+        result.accountsChecked++;
+        long accountId = rs.getLong("account_id");
+        String accountNumber = rs.getString("account_number");
+        String currency = rs.getString("currency");
+
+        BigDecimal ledger = rs.getBigDecimal("credits").subtract(rs.getBigDecimal("debits"));
+        BigDecimal balance = rs.getBigDecimal("balance");
+        if (ledger.compareTo(balance) != 0) {
+            result.add(mismatch(accountId, accountNumber, KIND_BALANCE, currency, ledger, balance), maxReported);
+        }
+
+        BigDecimal checkpointBalance = rs.getBigDecimal("checkpoint_balance");
+        if (checkpointBalance != null) {
+            BigDecimal ledgerBefore = rs.getBigDecimal("credits_before").subtract(rs.getBigDecimal("debits_before"));
+            if (ledgerBefore.compareTo(checkpointBalance) != 0) {
+                result.add(mismatch(accountId, accountNumber, KIND_CHECKPOINT, currency, ledgerBefore,
+                        checkpointBalance), maxReported);
+            }
+        }
+    }
+
+    private static Mismatch mismatch(long accountId, String accountNumber, String kind, String currency,
+            BigDecimal expected, BigDecimal actual) {
+        return new Mismatch(accountId, accountNumber, kind, currency, expected, actual, actual.subtract(expected));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    /** Aralık (veya birleştirilmiş toplam) sonucu; uyuşmazlık listesi sınırlıdır */
+    private static final class RangeResult {
+
+        private long accountsChecked;
+        private long mismatchCount;
+        private final List<Mismatch> mismatches = new ArrayList<>();
+
+        void add(Mismatch mismatch, int limit) {
+            mismatchCount++;
+            if (mismatches.size() < limit) {
+                mismatches.add(mismatch);
+            }
+        }
+
+        void merge(RangeResult other, int limit) {
+            accountsChecked += other.accountsChecked;
+            mismatchCount += other.mismatchCount;
+            for (Mismatch mismatch : other.mismatches) {
+                if (mismatches.size() >= limit) {
+                    break;
+                }
+                mismatches.add(mismatch);
+            }
+        }
+    }
+}
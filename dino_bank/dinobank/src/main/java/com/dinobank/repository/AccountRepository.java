@@ -1,8 +1,14 @@
 package com.dinobank.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import com.dinobank.account.dto.AccountPortfolioDto;
 import com.dinobank.model.Customer;
 import com.dinobank.model.Account;
 import java.util.Optional;
@@ -13,6 +19,35 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     Account findByAccountNumber(String accountNumber);
     List<Account> findByActiveTrue();
     Optional<Account> findById(Long id);
+
+    // Bakiye yazan akışlar hesapları SELECT ... FOR UPDATE ile okur: eşzamanlı bir
+    // yazı (transfer, faiz tahakkuku) satırı bırakana kadar beklenir, güncelleme
+    // kaybolmaz. Birden fazla satır her zaman account_id sırasıyla kilitlenir
+    // (faiz tahakkuku da aynı sırayı kullanır) → kilitlenme (deadlock) olmaz.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.accountNumber in :accountNumbers order by a.id")
+    List<Account> findByAccountNumberInForUpdate(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.accountNumber = :accountNumber")
+    Account findByAccountNumberForUpdate(@Param("accountNumber") String accountNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.customer = :customer order by a.id")
+    List<Account> findByCustomerForUpdate(@Param("customer") Customer customer);
+
+    // Müşterinin hesapları, sahibi ile birlikte tek sorguda (N+1 yok)
+    @Query("select a from Account a join fetch a.customer c where c.id = :customerId order by a.id")
+    List<Account> findByCustomerIdWithCustomer(@Param("customerId") Long customerId);
+
+    // Portföy: tüm hesaplar + son hareket zamanı tek sorguda. Her yön için ayrı
+    // max() alt sorgusu (from/to, transaction_date) indeksinden tek satır okur.
+    @Query("select new com.dinobank.account.dto.AccountPortfolioDto(a.id, a.accountNumber, a.accountType, "
+            + "a.balance, a.currency, a.openingDate, "
+            + "greatest(coalesce((select max(t.transactionDate) from Transaction t where t.fromAccount = a), a.openingDate), "
+            + "coalesce((select max(t.transactionDate) from Transaction t where t.toAccount = a), a.openingDate))) "
+            + "from Account a where a.customer.id = :customerId order by a.id")
+    List<AccountPortfolioDto> findPortfolioByCustomerId(@Param("customerId") Long customerId);
 }
 
 /**
@@ -0,0 +1,30 @@
+package com.dinobank.repository;
+
+import com.dinobank.model.BalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * =============================================================================
+ * BAKİYE KONTROL NOKTASI REPOSITORY
+ * =============================================================================
+ *
+ * Her iki sorgu da (account_id, checkpoint_at) benzersiz indeksi üzerinde
+ * tek satırlık aralık taramasıdır; hesap ne kadar eski olursa olsun sabit
+ * sürede cevap döner.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+public interface BalanceCheckpointRepository extends JpaRepository<BalanceCheckpoint, Long> {
+
+    /** Verilen andan önceki (veya aynı andaki) en yakın kontrol noktası */
+    Optional<BalanceCheckpoint> findFirstByAccountIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(
+            Long accountId, LocalDateTime asOf);
+
+    /** Verilen andan sonraki en yakın kontrol noktası */
+    Optional<BalanceCheckpoint> findFirstByAccountIdAndCheckpointAtGreaterThanOrderByCheckpointAtAsc(
+            Long accountId, LocalDateTime asOf);
+}
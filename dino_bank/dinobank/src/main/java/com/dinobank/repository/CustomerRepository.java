@@ -1,8 +1,15 @@
 package com.dinobank.repository;
 
+import com.dinobank.Customer.controller.CustomerResponseDto;
 import com.dinobank.model.Customer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,7 +17,28 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     boolean existsByTcKimlikNo(String tcKimlikNo);
     Optional<Customer> findByEmail(String email);
     Customer findByAd(String ad);
- 
+
+    // Toplu içe aktarımda benzersizlik kontrolü satır satır değil, parti halinde yapılır
+    @Query("select c.tcKimlikNo from Customer c where c.tcKimlikNo in :tcKimlikNos")
+    List<String> findExistingTcKimlikNos(@Param("tcKimlikNos") Collection<String> tcKimlikNos);
+
+    @Query("select c.email from Customer c where c.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Listeleme için yalnızca DTO kolonları okunur (şifre hash'i ve entity yüklenmez).
+    // Slice: toplam kayıt için COUNT(*) sorgusu çalıştırılmaz.
+    @Query("select new com.dinobank.Customer.controller.CustomerResponseDto(c.id, c.ad, c.soyad, c.email, c.kayitTarihi) "
+            + "from Customer c")
+    Slice<CustomerResponseDto> findAllProjected(Pageable pageable);
+
+    // Arama indeksini kurarken keyset (id > son id) ile sayfa sayfa okunur
+    @Query("select new com.dinobank.Customer.controller.CustomerResponseDto(c.id, c.ad, c.soyad, c.email, c.kayitTarihi) "
+            + "from Customer c where c.id > :afterId order by c.id")
+    List<CustomerResponseDto> findProjectedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new com.dinobank.Customer.controller.CustomerResponseDto(c.id, c.ad, c.soyad, c.email, c.kayitTarihi) "
+            + "from Customer c where c.email in :emails")
+    List<CustomerResponseDto> findProjectedByEmailIn(@Param("emails") Collection<String> emails);
 }
 /**
  * =============================================================================
@@ -1,10 +1,13 @@
 package com.dinobank.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import com.dinobank.model.Transaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * =============================================================================
@@ -44,4 +47,22 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     List<Transaction> findByStatus(String status);
 
     List<Transaction> findByTransactionDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * [from, to) aralığında hesaba giren tutarların toplamı.
+     * Dövizli transferlerde alıcı bacağı (convertedAmount) kullanılır.
+     * (to_account_id, transaction_date) indeksiyle aralık taraması yapar.
+     */
+    @Query("SELECT COALESCE(SUM(COALESCE(t.convertedAmount, t.amount)), 0) FROM Transaction t "
+            + "WHERE t.toAccount.id = :accountId AND t.status = 'COMPLETED' "
+            + "AND t.transactionDate >= :from AND t.transactionDate < :to")
+    BigDecimal sumCredits(@Param("accountId") Long accountId, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /** [from, to) aralığında hesaptan çıkan tutarların toplamı */
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t "
+            + "WHERE t.fromAccount.id = :accountId AND t.status = 'COMPLETED' "
+            + "AND t.transactionDate >= :from AND t.transactionDate < :to")
+    BigDecimal sumDebits(@Param("accountId") Long accountId, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,84 @@
+package com.dinobank.standingorder.controller;
+
+import com.dinobank.standingorder.dto.StandingOrderExecutionDto;
+import com.dinobank.standingorder.dto.StandingOrderRequestDto;
+import com.dinobank.standingorder.dto.StandingOrderResponseDto;
+import com.dinobank.standingorder.service.StandingOrderService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * =============================================================================
+ * STANDING ORDER CONTROLLER - Düzenli Transfer Talimatı API'si
+ * =============================================================================
+ *
+ * API ENDPOINT HARİTASI:
+ * ┌─────────────────────────────────────────────────────────────────────────────┐
+ * │ METHOD │ ENDPOINT │ AÇIKLAMA │
+ * ├────────┼──────────────────────────────────────┼────────────────────────────┤
+ * │ POST │ /api/standing-orders │ Yeni talimat oluştur │
+ * │ GET │ /api/standing-orders?customerId=1 │ Müşterinin talimatları │
+ * │ DELETE │ /api/standing-orders/{id} │ Talimatı iptal et │
+ * │ GET │ /api/standing-orders/{id}/executions │ Son çalışmalar │
+ * └─────────────────────────────────────────────────────────────────────────────┘
+ *
+ * REQUEST BODY (POST):
+ * {
+ * "customerId": 1,
+ * "fromAccountNumber": "TR11111111110",
+ * "toAccountNumber": "TR22222222220",
+ * "amount": 7500.00,
+ * "description": "Kira",
+ * "frequency": "MONTHLY", // DAILY / WEEKLY / MONTHLY
+ * "firstRunAt": "2026-11-01T09:00:00", // Opsiyonel (boşsa hemen)
+ * "endDate": "2027-10-31" // Opsiyonel
+ * }
+ *
+ * RESPONSE:
+ * - 201 Created: StandingOrderResponseDto
+ * - 200 OK: Liste / iptal edilen talimat / çalışma geçmişi
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ * @see StandingOrderService
+ */
+@RestController
+@RequestMapping("/api/standing-orders")
+public class StandingOrderController {
+
+    private final StandingOrderService standingOrderService;
+
+    public StandingOrderController(StandingOrderService standingOrderService) {
+        this.standingOrderService = standingOrderService;
+    }
+
+    @PostMapping
+    public ResponseEntity<StandingOrderResponseDto> create(@RequestBody StandingOrderRequestDto request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(standingOrderService.createStandingOrder(request));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<StandingOrderResponseDto>> getCustomerOrders(@RequestParam Long customerId) {
+        return ResponseEntity.ok(standingOrderService.getCustomerStandingOrders(customerId));
+    }
+
+    @DeleteMapping("/{orderId}")
+    public ResponseEntity<StandingOrderResponseDto> cancel(@PathVariable Long orderId) {
+        return ResponseEntity.ok(standingOrderService.cancelStandingOrder(orderId));
+    }
+
+    @GetMapping("/{orderId}/executions")
+    public ResponseEntity<List<StandingOrderExecutionDto>> getExecutions(@PathVariable Long orderId) {
+        return ResponseEntity.ok(standingOrderService.getExecutions(orderId));
+    }
+}
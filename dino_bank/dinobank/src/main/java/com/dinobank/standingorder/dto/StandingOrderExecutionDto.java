@@ -0,0 +1,15 @@
+package com.dinobank.standingorder.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bir talimat tekrarının sonucu. COMPLETED ise transactionId oluşan
+ * transferdir; FAILED ise error başarısızlık nedenidir (ör. "Yetersiz Bakiye!").
+ */
+public record StandingOrderExecutionDto(
+        LocalDateTime scheduledFor,
+        String status,
+        Long transactionId,
+        String error,
+        LocalDateTime executedAt) {
+}
@@ -0,0 +1,32 @@
+package com.dinobank.standingorder.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Düzenli transfer sıklığı. n'inci tekrar her zaman İLK çalışma anından
+ * hesaplanır: 31 Ocak'ta başlayan aylık talimat Şubat'ta ayın son gününe
+ * kayar, Mart'ta yine 31'inde çalışır (kayma birikmez).
+ */
+public enum Frequency {
+
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    /** @param occurrence 0 = ilk çalışma */
+    public LocalDateTime occurrence(LocalDateTime firstRunAt, int occurrence) {
+        return switch (this) {
+            case DAILY -> firstRunAt.plusDays(occurrence);
+            case WEEKLY -> firstRunAt.plusWeeks(occurrence);
+            case MONTHLY -> firstRunAt.plusMonths(occurrence);
+        };
+    }
+
+    public static Frequency parse(String value) {
+        try {
+            return Frequency.valueOf(value);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new RuntimeException("Geçersiz talimat sıklığı: " + value + " (DAILY, WEEKLY, MONTHLY)");
+        }
+    }
+}
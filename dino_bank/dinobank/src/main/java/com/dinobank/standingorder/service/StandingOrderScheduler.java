@@ -0,0 +1,399 @@
+package com.dinobank.standingorder.service;
+
+import com.dinobank.Transaction.dto.TransactionRequestDto;
+import com.dinobank.Transaction.dto.TransactionResponseDto;
+import com.dinobank.Transaction.service.TransactionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * =============================================================================
+ * STANDING ORDER SCHEDULER - Düzenli Transfer Talimatlarını Çalıştırır
+ * =============================================================================
+ *
+ * Tek bir arka plan thread'i ("standing-orders") yaklaşan window-ms
+ * içindeki talimatları bellekteki hiyerarşik zamanlayıcı çarkına
+ * (TimingWheel) yükler ve her tikte vadesi gelenleri transfer motoru
+ * (TransactionService.transferMoney) üzerinden çalıştırır. Çarka ekleme ve
+ * tetikleme O(1)'dir; veritabanı yalnızca pencere yüklemesinde taranır.
+ *
+ * ÇALIŞMA MANTIĞI (her tik):
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 1. load-interval-ms dolduysa pencere ileri kaydırılır:          │
+ * │    next_run_at < şimdi + window-ms olan AKTİF talimatlar çarka  │
+ * │    eklenir (ilk yüklemede vadesi geçmiş olanlar da dahil)       │
+ * │ 2. Pencere içine düşen yeni talimatlar (commit sonrası kuyruk)  │
+ * │    çarka eklenir                                                │
+ * │ 3. Çark şimdiye ilerletilir; vadesi gelenler batch-size'lık     │
+ * │    partiler halinde tek sorguyla okunur ve sırayla çalıştırılır │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * TEK TEKRARIN ÇALIŞTIRILMASI (kendi transaction'ında):
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 1. Sahiplik: UPDATE ... SET next_run_at = sıradaki tekrar       │
+ * │    WHERE status = 'ACTIVE' AND next_run_at = çarktaki an        │
+ * │    → 0 satır: iptal edilmiş / başka node çalıştırmış, atlanır   │
+ * │ 2. transferMoney → COMPLETED çalışma kaydı (aynı transaction)   │
+ * │ 3. Transfer hata verirse (ör. yetersiz bakiye) transaction      │
+ * │    geri alınır; yeni transaction'da sahiplik tekrar alınıp      │
+ * │    FAILED kaydı yazılır ve talimat sıradaki tekrara geçer       │
+ * │ 4. Sıradaki tekrar pencere içindeyse hemen çarka eklenir;       │
+ * │    end_date aşıldıysa talimat COMPLETED olur                    │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * KAÇIRILAN ÇALIŞMALAR:
+ * Durum yalnızca veritabanındadır. Uygulama kapalıyken vadesi geçen
+ * talimatlar ilk pencere yüklemesinde çarka girer ve bir sonraki tikte
+ * çalışır; birden fazla tekrar kaçırıldıysa her biri sırayla (tik başına
+ * bir tekrar) yetiştirilir. Beklenmeyen bir hatayla (ör. veritabanı
+ * erişilemiyor) çarktan düşen talimat bir sonraki pencere yüklemesinde
+ * tekrar alınır. Aynı tekrarın çarka iki kez girmesi zararsızdır:
+ * sahiplik UPDATE'i ikincisini atlatır.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ * @see TimingWheel
+ * @see StandingOrderService
+ */
+@Component
+public class StandingOrderScheduler implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(StandingOrderScheduler.class);
+
+    private static final int WHEEL_LEVELS = 4;
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private static final String SELECT_WINDOW_SQL = """
+            SELECT order_id, next_run_at
+            FROM public.standing_orders
+            WHERE status = 'ACTIVE'
+              AND ((next_run_at >= ? AND next_run_at < ?) OR next_run_at < ?)
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE public.standing_orders
+            SET occurrence = ?, next_run_at = ?, status = ?
+            WHERE order_id = ? AND status = 'ACTIVE' AND next_run_at = ?
+            """;
+
+    private static final String INSERT_EXECUTION_SQL = """
+            INSERT INTO public.standing_order_executions
+                (order_id, scheduled_for, status, transaction_id, error, executed_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    /** Çarktaki öğe: talimat ve çalıştırılacak tekrarın anı */
+    private record Due(long orderId, LocalDateTime scheduledFor) {
+    }
+
+    /** Partide okunan talimat satırı */
+    private record OrderRow(long orderId, String fromAccountNumber, String toAccountNumber, BigDecimal amount,
+            String description, Frequency frequency, LocalDateTime firstRunAt, LocalDate endDate,
+            int occurrence, LocalDateTime nextRunAt, String status) {
+    }
+
+    private enum Outcome {
+        COMPLETED, FAILED, SKIPPED
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionService transactionService;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final boolean enabled;
+    private final long tickMs;
+    private final long windowMs;
+    private final long loadIntervalMs;
+    private final int batchSize;
+    private final Counter completed;
+    private final Counter failed;
+    private final Counter skipped;
+
+    /** Pencere dışında kalan yeni talimatlar buraya girmez; bir sonraki yüklemede okunur */
+    private final ConcurrentLinkedQueue<Due> inbox = new ConcurrentLinkedQueue<>();
+
+    /** Yalnızca "standing-orders" thread'i kullanır */
+    private TimingWheel<Due> wheel;
+
+    /** Çarka yüklenmiş pencerenin üst sınırı (epoch ms); sorgudan ÖNCE ilerletilir */
+    private volatile long loadedUntilMillis;
+    /** Gauge kaynağı; thread tarafından her tik sonunda yazılır */
+    private final AtomicInteger wheelSize;
+    private long lastAdvancedMillis;
+    private long nextLoadAtMillis;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public StandingOrderScheduler(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            TransactionService transactionService, MeterRegistry registry,
+            @Value("${dinobank.standing-orders.enabled:true}") boolean enabled,
+            @Value("${dinobank.standing-orders.tick-ms:1000}") long tickMs,
+            @Value("${dinobank.standing-orders.window-ms:3600000}") long windowMs,
+            @Value("${dinobank.standing-orders.load-interval-ms:300000}") long loadIntervalMs,
+            @Value("${dinobank.standing-orders.batch-size:500}") int batchSize) {
+        if (tickMs <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("dinobank.standing-orders.tick-ms ve batch-size pozitif olmalıdır!");
+        }
+        if (loadIntervalMs <= 0 || loadIntervalMs >= windowMs) {
+            throw new IllegalArgumentException(
+                    "dinobank.standing-orders.load-interval-ms pozitif ve window-ms'den küçük olmalıdır!");
+        }
+        // Pencerenin sonundaki talimat, yükleme anından itibaren çarkın kapsamına sığmalıdır
+        long spanMs = (1L << (6 * WHEEL_LEVELS)) * tickMs;
+        if (windowMs >= spanMs - tickMs) {
+            throw new IllegalArgumentException("dinobank.standing-orders.window-ms zamanlayıcı çarkının kapsamını ("
+                    + spanMs + " ms) aşıyor!");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionService = transactionService;
+        this.enabled = enabled;
+        this.tickMs = tickMs;
+        this.windowMs = windowMs;
+        this.loadIntervalMs = loadIntervalMs;
+        this.batchSize = batchSize;
+        this.completed = executedCounter(registry, "completed");
+        this.failed = executedCounter(registry, "failed");
+        this.skipped = executedCounter(registry, "skipped");
+        // Gauge yarım kurulmuş nesneyi değil, yalnızca sayacı tutar
+        AtomicInteger size = new AtomicInteger();
+        Gauge.builder("dinobank.standing_orders.wheel.size", size, AtomicInteger::get)
+                .description("Zamanlayıcı çarkında bekleyen talimat tekrarları")
+                .register(registry);
+        this.wheelSize = size;
+    }
+
+    private static Counter executedCounter(MeterRegistry registry, String result) {
+        return Counter.builder("dinobank.standing_orders.executed")
+                .description("Çalıştırılan talimat tekrarları")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (enabled) {
+            long now = System.currentTimeMillis();
+            wheel = new TimingWheel<>(tickMs, WHEEL_LEVELS, now);
+            lastAdvancedMillis = now;
+            worker = Thread.ofPlatform().name("standing-orders").start(this::loop);
+            log.info("Talimat zamanlayıcısı başladı: tik {} ms, pencere {} ms", tickMs, windowMs);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Yeni (veya yeniden zamanlanan) talimatı bildirir; talimatı yazan
+     * transaction commit edildikten sonra çağrılır. An yüklenmiş pencerenin
+     * dışındaysa bir şey yapılmaz: pencere yüklemesi onu okuyacaktır.
+     */
+    public void onScheduled(long orderId, LocalDateTime runAt) {
+        if (enabled && toMillis(runAt) < loadedUntilMillis) {
+            inbox.add(new Due(orderId, runAt));
+        }
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                tick(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                // Düşen talimatlar bir sonraki pencere yüklemesinde tekrar alınır
+                log.warn("Talimat zamanlayıcısı turu başarısız: {}", e.getMessage());
+            }
+            try {
+                Thread.sleep(tickMs - System.currentTimeMillis() % tickMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void tick(long now) {
+        if (now >= nextLoadAtMillis) {
+            int loaded = loadWindow(now);
+            nextLoadAtMillis = now + loadIntervalMs;
+            log.debug("Talimat penceresi yüklendi: {} tekrar", loaded);
+        }
+        Due added;
+        while ((added = inbox.poll()) != null) {
+            wheel.add(toMillis(added.scheduledFor()), added);
+        }
+        List<Due> due = new ArrayList<>();
+        wheel.advanceTo(now, due::add);
+        lastAdvancedMillis = now;
+        for (int from = 0; from < due.size(); from += batchSize) {
+            executeBatch(due.subList(from, Math.min(due.size(), from + batchSize)));
+        }
+        wheelSize.set(wheel.size());
+    }
+
+    /**
+     * Pencereyi [önceki üst sınır, şimdi + window-ms) aralığına genişletir.
+     * Çarkın zaten tetiklemiş olması gereken ama hâlâ AKTİF duran talimatlar
+     * (beklenmeyen hata) da yeniden alınır. Primary'den okunur.
+     */
+    private int loadWindow(long now) {
+        long previousUntil = loadedUntilMillis;
+        long until = now + windowMs;
+        // Sorgu sırasında commit edilen talimatlar onScheduled ile de gelebilsin diye önce ilerletilir
+        loadedUntilMillis = until;
+        int[] loaded = { 0 };
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(SELECT_WINDOW_SQL, rs -> {
+            LocalDateTime runAt = rs.getTimestamp("next_run_at").toLocalDateTime();
+            wheel.add(toMillis(runAt), new Due(rs.getLong("order_id"), runAt));
+            loaded[0]++;
+        }, timestamp(previousUntil), timestamp(until), timestamp(lastAdvancedMillis - tickMs)));
+        return loaded[0];
+    }
+
+    private void executeBatch(List<Due> batch) {
+        Map<Long, OrderRow> rows = loadOrders(batch);
+        for (Due due : batch) {
+            OrderRow row = rows.get(due.orderId());
+            if (row == null || !"ACTIVE".equals(row.status()) || !due.scheduledFor().equals(row.nextRunAt())) {
+                // İptal edilmiş, tamamlanmış veya bu tekrar zaten çalıştırılmış
+                skipped.increment();
+                continue;
+            }
+            try {
+                execute(row);
+            } catch (RuntimeException e) {
+                log.warn("Talimat {} ({}) çalıştırılamadı: {}", row.orderId(), row.nextRunAt(), e.getMessage());
+            }
+        }
+    }
+
+    private Map<Long, OrderRow> loadOrders(List<Due> batch) {
+        Object[] ids = batch.stream().map(Due::orderId).distinct().toArray();
+        String placeholders = String.join(",", Collections.nCopies(ids.length, "?"));
+        Map<Long, OrderRow> rows = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query("""
+                SELECT order_id, from_account_number, to_account_number, amount, description, frequency,
+                       first_run_at, end_date, occurrence, next_run_at, status
+                FROM public.standing_orders
+                WHERE order_id IN (""" + placeholders + ")", rs -> {
+            Date endDate = rs.getDate("end_date");
+            Timestamp nextRunAt = rs.getTimestamp("next_run_at");
+            OrderRow row = new OrderRow(rs.getLong("order_id"), rs.getString("from_account_number"),
+                    rs.getString("to_account_number"), rs.getBigDecimal("amount"), rs.getString("description"),
+                    Frequency.parse(rs.getString("frequency")), rs.getTimestamp("first_run_at").toLocalDateTime(),
+                    endDate != null ? endDate.toLocalDate() : null, rs.getInt("occurrence"),
+                    nextRunAt != null ? nextRunAt.toLocalDateTime() : null, rs.getString("status"));
+            rows.put(row.orderId(), row);
+        }, ids));
+        return rows;
+    }
+
+    /** Tek tekrarı çalıştırır; sıradaki tekrar pencere içindeyse çarka ekler */
+    private void execute(OrderRow row) {
+        int nextOccurrence = row.occurrence() + 1;
+        LocalDateTime nextRunAt = row.frequency().occurrence(row.firstRunAt(), nextOccurrence);
+        boolean finished = row.endDate() != null && nextRunAt.toLocalDate().isAfter(row.endDate());
+
+        Outcome outcome;
+        try {
+            outcome = transactionTemplate.execute(status -> {
+                if (!claim(row, nextOccurrence, nextRunAt, finished)) {
+                    return Outcome.SKIPPED;
+                }
+                TransactionResponseDto transfer = transactionService.transferMoney(toTransferRequest(row));
+                insertExecution(row, "COMPLETED", transfer.getId(), null);
+                return Outcome.COMPLETED;
+            });
+        } catch (RuntimeException e) {
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            outcome = transactionTemplate.execute(status -> {
+                if (!claim(row, nextOccurrence, nextRunAt, finished)) {
+                    return Outcome.SKIPPED;
+                }
+                insertExecution(row, "FAILED", null,
+                        error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+                return Outcome.FAILED;
+            });
+            if (outcome == Outcome.FAILED) {
+                log.info("Talimat {} ({}) başarısız: {}", row.orderId(), row.nextRunAt(), error);
+            }
+        }
+
+        switch (outcome) {
+            case COMPLETED -> completed.increment();
+            case FAILED -> failed.increment();
+            case SKIPPED -> skipped.increment();
+        }
+        if (outcome != Outcome.SKIPPED && !finished && toMillis(nextRunAt) < loadedUntilMillis) {
+            wheel.add(toMillis(nextRunAt), new Due(row.orderId(), nextRunAt));
+        }
+    }
+
+    private boolean claim(OrderRow row, int nextOccurrence, LocalDateTime nextRunAt, boolean finished) {
+        return jdbcTemplate.update(CLAIM_SQL, nextOccurrence,
+                finished ? null : Timestamp.valueOf(nextRunAt), finished ? "COMPLETED" : "ACTIVE",
+                row.orderId(), Timestamp.valueOf(row.nextRunAt())) == 1;
+    }
+
+    private void insertExecution(OrderRow row, String status, Long transactionId, String error) {
+        jdbcTemplate.update(INSERT_EXECUTION_SQL, row.orderId(), Timestamp.valueOf(row.nextRunAt()), status,
+                transactionId, error, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static TransactionRequestDto toTransferRequest(OrderRow row) {
+        TransactionRequestDto request = new TransactionRequestDto();
+        request.setFromAccountNumber(row.fromAccountNumber());
+        request.setToAccountNumber(row.toAccountNumber());
+        request.setAmount(row.amount());
+        request.setDescription(row.description() != null ? row.description() : "Düzenli Transfer Talimatı");
+        return request;
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private Timestamp timestamp(long epochMillis) {
+        return new Timestamp(epochMillis);
+    }
+}
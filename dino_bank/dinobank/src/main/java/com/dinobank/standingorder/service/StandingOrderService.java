@@ -0,0 +1,188 @@
+package com.dinobank.standingorder.service;
+
+import com.dinobank.standingorder.dto.StandingOrderExecutionDto;
+import com.dinobank.standingorder.dto.StandingOrderRequestDto;
+import com.dinobank.standingorder.dto.StandingOrderResponseDto;
+import com.dinobank.validation.IbanValidator;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * =============================================================================
+ * STANDING ORDER SERVICE - Düzenli Transfer Talimatı Yönetimi
+ * =============================================================================
+ *
+ * Talimatları oluşturur, listeler ve iptal eder. Çalıştırma
+ * StandingOrderScheduler'ın işidir; bu servis yalnızca standing_orders
+ * tablosunu yazar ve yeni talimatı commit sonrası zamanlayıcıya bildirir.
+ *
+ * KURALLAR:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ - Gönderen hesap talimatı veren müşteriye ait ve aktif olmalı   │
+ * │ - Tutar pozitif, gönderen ve alıcı hesap farklı olmalı          │
+ * │ - İlk çalışma anı verilmezse talimat hemen (bir sonraki tikte)  │
+ * │   çalışır; bitiş tarihi ilk çalışmadan önce olamaz              │
+ * │ - Bakiye oluşturma anında DEĞİL, her çalışmada kontrol edilir   │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ * @see StandingOrderScheduler
+ */
+@Service
+public class StandingOrderService {
+
+    private static final int MAX_EXECUTIONS = 100;
+
+    private static final String SELECT_ORDER_SQL = """
+            SELECT order_id, customer_id, from_account_number, to_account_number, amount, description,
+                   frequency, first_run_at, end_date, next_run_at, status, created_at
+            FROM public.standing_orders
+            """;
+
+    private static final RowMapper<StandingOrderResponseDto> ORDER_MAPPER = (rs, rowNum) -> {
+        Date endDate = rs.getDate("end_date");
+        Timestamp nextRunAt = rs.getTimestamp("next_run_at");
+        return new StandingOrderResponseDto(rs.getLong("order_id"), rs.getLong("customer_id"),
+                rs.getString("from_account_number"), rs.getString("to_account_number"), rs.getBigDecimal("amount"),
+                rs.getString("description"), rs.getString("frequency"),
+                rs.getTimestamp("first_run_at").toLocalDateTime(), endDate != null ? endDate.toLocalDate() : null,
+                nextRunAt != null ? nextRunAt.toLocalDateTime() : null, rs.getString("status"),
+                rs.getTimestamp("created_at").toLocalDateTime());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StandingOrderScheduler scheduler;
+
+    public StandingOrderService(JdbcTemplate jdbcTemplate, StandingOrderScheduler scheduler) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scheduler = scheduler;
+    }
+
+    @Transactional
+    public StandingOrderResponseDto createStandingOrder(StandingOrderRequestDto request) {
+        Frequency frequency = Frequency.parse(request.getFrequency());
+        if (request.getCustomerId() == null) {
+            throw new RuntimeException("Müşteri belirtilmedi!");
+        }
+        if (request.getAmount() == null || request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new RuntimeException("Talimat tutarı pozitif olmalıdır!");
+        }
+        if (!IbanValidator.isAcceptableAccountNumber(request.getFromAccountNumber())
+                || !IbanValidator.isAcceptableAccountNumber(request.getToAccountNumber())) {
+            throw new RuntimeException("Geçersiz hesap numarası!");
+        }
+        if (request.getFromAccountNumber().equals(request.getToAccountNumber())) {
+            throw new RuntimeException("Gönderen ve alıcı hesap aynı olamaz!");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime firstRunAt = request.getFirstRunAt() != null ? request.getFirstRunAt() : now;
+        if (request.getEndDate() != null && request.getEndDate().isBefore(firstRunAt.toLocalDate())) {
+            throw new RuntimeException("Bitiş tarihi ilk çalışma tarihinden önce olamaz!");
+        }
+
+        List<Long> owners = jdbcTemplate.queryForList(
+                "SELECT customer_id FROM public.accounts WHERE account_number = ? AND active = TRUE",
+                Long.class, request.getFromAccountNumber());
+        if (owners.isEmpty() || !owners.get(0).equals(request.getCustomerId())) {
+            throw new RuntimeException("Gönderen hesap bulunamadı veya müşteriye ait değil!");
+        }
+        Integer receivers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM public.accounts WHERE account_number = ?",
+                Integer.class, request.getToAccountNumber());
+        if (receivers == null || receivers == 0) {
+            throw new RuntimeException("Alıcı hesap bulunamadı!");
+        }
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    INSERT INTO public.standing_orders
+                        (customer_id, from_account_number, to_account_number, amount, description, frequency,
+                         first_run_at, end_date, occurrence, next_run_at, status, created_at)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, 'ACTIVE', ?)
+                    """, new String[] { "order_id" });
+            ps.setLong(1, request.getCustomerId());
+            ps.setString(2, request.getFromAccountNumber());
+            ps.setString(3, request.getToAccountNumber());
+            ps.setBigDecimal(4, request.getAmount());
+            ps.setString(5, request.getDescription());
+            ps.setString(6, frequency.name());
+            ps.setTimestamp(7, Timestamp.valueOf(firstRunAt));
+            ps.setDate(8, request.getEndDate() != null ? Date.valueOf(request.getEndDate()) : null);
+            ps.setTimestamp(9, Timestamp.valueOf(firstRunAt));
+            ps.setTimestamp(10, Timestamp.valueOf(now));
+            return ps;
+        }, keys);
+        long orderId = keys.getKey().longValue();
+
+        // Zamanlayıcı talimatı ancak commit edildikten sonra görebilir
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduler.onScheduled(orderId, firstRunAt);
+            }
+        });
+
+        return new StandingOrderResponseDto(orderId, request.getCustomerId(), request.getFromAccountNumber(),
+                request.getToAccountNumber(), request.getAmount(), request.getDescription(), frequency.name(),
+                firstRunAt, request.getEndDate(), firstRunAt, "ACTIVE", now);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StandingOrderResponseDto> getCustomerStandingOrders(Long customerId) {
+        return jdbcTemplate.query(SELECT_ORDER_SQL + " WHERE customer_id = ? ORDER BY order_id",
+                ORDER_MAPPER, customerId);
+    }
+
+    /**
+     * Talimatı iptal eder. Çarkta bekleyen tekrar silinmez; tetiklendiğinde
+     * durumu ACTIVE olmadığı için atlanır.
+     */
+    @Transactional
+    public StandingOrderResponseDto cancelStandingOrder(Long orderId) {
+        int updated = jdbcTemplate.update(
+                "UPDATE public.standing_orders SET status = 'CANCELLED', next_run_at = NULL "
+                        + "WHERE order_id = ? AND status = 'ACTIVE'",
+                orderId);
+        if (updated == 0) {
+            throw new RuntimeException("Aktif talimat bulunamadı!");
+        }
+        return jdbcTemplate.queryForObject(SELECT_ORDER_SQL + " WHERE order_id = ?", ORDER_MAPPER, orderId);
+    }
+
+    /** Son MAX_EXECUTIONS çalışma, en yeniden eskiye */
+    @Transactional(readOnly = true)
+    public List<StandingOrderExecutionDto> getExecutions(Long orderId) {
+        try {
+            jdbcTemplate.queryForObject("SELECT order_id FROM public.standing_orders WHERE order_id = ?",
+                    Long.class, orderId);
+        } catch (EmptyResultDataAccessException e) {
+            throw new RuntimeException("Talimat bulunamadı!");
+        }
+        return jdbcTemplate.query("""
+                SELECT scheduled_for, status, transaction_id, error, executed_at
+                FROM public.standing_order_executions
+                WHERE order_id = ?
+                ORDER BY scheduled_for DESC
+                LIMIT ?
+                """, (rs, rowNum) -> new StandingOrderExecutionDto(
+                rs.getTimestamp("scheduled_for").toLocalDateTime(), rs.getString("status"),
+                rs.getObject("transaction_id", Long.class), rs.getString("error"),
+                rs.getTimestamp("executed_at").toLocalDateTime()), orderId, MAX_EXECUTIONS);
+    }
+}
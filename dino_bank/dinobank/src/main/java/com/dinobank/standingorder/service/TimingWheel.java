@@ -0,0 +1,144 @@
+package com.dinobank.standingorder.service;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * =============================================================================
+ * TIMING WHEEL - Hiyerarşik Zamanlayıcı Çarkı
+ * =============================================================================
+ *
+ * Milyonlarca zamanlanmış öğeyi öncelik kuyruğu (O(log n)) yerine sabit
+ * maliyetle tutar: ekleme ve tetikleme O(1)'dir.
+ *
+ * YAPI (varsayılan 1 sn tik, 4 seviye × 64 yuva):
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ Seviye 0: yuva = 1 tik        → ilk 64 tik                      │
+ * │ Seviye 1: yuva = 64 tik       → ilk 4.096 tik  (~68 dk)         │
+ * │ Seviye 2: yuva = 4.096 tik    → ilk 262.144 tik (~73 saat)      │
+ * │ Seviye 3: yuva = 262.144 tik  → ilk 16.777.216 tik (~194 gün)   │
+ * └─────────────────────────────────────────────────────────────────┘
+ * Öğe, kalan süresinin sığdığı en alt seviyeye konur. Seviye 0 her tikte
+ * bir yuva ilerler; bir tur tamamlanınca üst seviyenin sıradaki yuvası
+ * alt seviyelere dağıtılır (cascade). Her öğe en fazla seviye sayısı kadar
+ * taşınır.
+ *
+ * Thread-safe DEĞİLDİR: tek bir thread (StandingOrderScheduler) kullanır.
+ * Öğe silme yoktur; iptal edilen öğeler tetiklendiğinde çağıran tarafından
+ * elenir.
+ *
+ * @param <T> Zamanlanan öğe tipi
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+public final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final int levels;
+    private final long spanTicks;
+    private final ArrayDeque<Entry<T>>[][] wheels;
+
+    /** Son işlenmiş tik; bu tik ve öncesi tetiklenmiştir */
+    private long currentTick;
+    private int size;
+
+    private record Entry<T>(long tick, T item) {
+    }
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int levels, long startMillis) {
+        if (tickMillis <= 0 || levels <= 0 || levels * SLOT_BITS >= 63) {
+            throw new IllegalArgumentException("Geçersiz zamanlayıcı çarkı: tick=" + tickMillis
+                    + " ms, seviye=" + levels);
+        }
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.spanTicks = 1L << (SLOT_BITS * levels);
+        this.wheels = (ArrayDeque<Entry<T>>[][]) new ArrayDeque<?>[levels][SLOTS];
+        for (int level = 0; level < levels; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new ArrayDeque<>();
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /** Çarkın tutabileceği en uzak süre (ms) */
+    public long spanMillis() {
+        return (spanTicks - 1) * tickMillis;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Öğeyi dueAtMillis anına zamanlar. Geçmiş bir an verilirse bir sonraki
+     * tikte tetiklenir.
+     *
+     * @throws IllegalArgumentException An çarkın kapsamının ötesindeyse
+     */
+    public void add(long dueAtMillis, T item) {
+        long tick = Math.max(Math.ceilDiv(dueAtMillis, tickMillis), currentTick + 1);
+        if (tick - currentTick >= spanTicks) {
+            throw new IllegalArgumentException("Zaman çarkın kapsamı dışında: " + dueAtMillis);
+        }
+        place(new Entry<>(tick, item));
+        size++;
+    }
+
+    /**
+     * Çarkı nowMillis anına kadar ilerletir; vadesi gelen öğeler zaman
+     * sırasıyla (aynı tik içinde ekleme sırasıyla) sink'e verilir.
+     *
+     * @return Tetiklenen öğe sayısı
+     */
+    public int advanceTo(long nowMillis, Consumer<T> sink) {
+        long targetTick = nowMillis / tickMillis;
+        int fired = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            if ((currentTick & SLOT_MASK) == 0) {
+                cascade(1);
+            }
+            ArrayDeque<Entry<T>> bucket = wheels[0][(int) (currentTick & SLOT_MASK)];
+            Entry<T> entry;
+            while ((entry = bucket.pollFirst()) != null) {
+                size--;
+                fired++;
+                sink.accept(entry.item());
+            }
+        }
+        return fired;
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.tick() - currentTick;
+        int level = 0;
+        while (level < levels - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((entry.tick() >>> (SLOT_BITS * level)) & SLOT_MASK);
+        wheels[level][slot].addLast(entry);
+    }
+
+    /** Üst seviyenin şimdiki yuvasını alt seviyelere dağıtır; o da tur attıysa önce bir üstü */
+    private void cascade(int level) {
+        if (level >= levels) {
+            return;
+        }
+        int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        if (slot == 0) {
+            cascade(level + 1);
+        }
+        ArrayDeque<Entry<T>> bucket = wheels[level][slot];
+        int count = bucket.size();
+        for (int i = 0; i < count; i++) {
+            place(bucket.pollFirst());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.dinobank.validation;
+
+/**
+ * =============================================================================
+ * IBAN / HESAP NUMARASI DOĞRULAYICI
+ * =============================================================================
+ *
+ * ISO 13616 IBAN yapısını ve ISO 7064 MOD 97-10 kontrol hanelerini doğrular.
+ * Kalan (mod 97) karakter karakter hesaplanır; BigInteger veya ara String
+ * oluşturulmaz.
+ *
+ * HESAP NUMARASI KURALI (transfer / yatırma yolları):
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ 2 harfle başlayan 20 karakterli numaralar → IBAN kuralı         │
+ * │ (AccountNumberAllocator'ın ürettiği TRkk + 16 hane)             │
+ * │ 20'den uzun numaralar → IBAN kuralı (yabancı IBAN'lar)          │
+ * │ Diğerleri → eski format: en fazla 20 alfanümerik karakter       │
+ * │ (seed "TR" + TC = 13, eski kayıt "TR" + millis = 15 karakter,   │
+ * │ eski rastgele sayısal numaralar; kontrol hanesi yoktur)         │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+public final class IbanValidator {
+
+    public static final int MIN_IBAN_LENGTH = 15;
+    public static final int MAX_IBAN_LENGTH = 34;
+    public static final int MAX_LEGACY_LENGTH = 20;
+    /** AccountNumberAllocator'ın ürettiği numaraların uzunluğu */
+    public static final int ALLOCATED_LENGTH = 20;
+
+    private IbanValidator() {
+    }
+
+    public static boolean isValidIban(CharSequence iban) {
+        if (iban == null) {
+            return false;
+        }
+        int length = iban.length();
+        if (length < MIN_IBAN_LENGTH || length > MAX_IBAN_LENGTH
+                || !isUpperLetter(iban.charAt(0)) || !isUpperLetter(iban.charAt(1))
+                || !isDigit(iban.charAt(2)) || !isDigit(iban.charAt(3))) {
+            return false;
+        }
+
+        // BBAN + ülke kodu + kontrol haneleri sırasıyla işlenir
+        int remainder = 0;
+        for (int i = 4; i < length + 4; i++) {
+            char c = iban.charAt(i < length ? i : i - length);
+            if (isDigit(c)) {
+                remainder = (remainder * 10 + (c - '0')) % 97;
+            } else if (isUpperLetter(c)) {
+                remainder = (remainder * 100 + (c - 'A' + 10)) % 97;
+            } else {
+                return false;
+            }
+        }
+        return remainder == 1;
+    }
+
+    /**
+     * Transfer isteklerindeki hesap numarasını DB'ye gitmeden kontrol eder.
+     * Üreticinin uzunluğundaki ve daha uzun IBAN biçimli numaralar
+     * mod-97'den geçmelidir. Eski numaralar (ör. 15 karakterli "TR" +
+     * millis) IBAN'a benzese de kontrol hanesi taşımaz; yalnızca karakter
+     * kümesi ve uzunluk açısından kontrol edilir.
+     */
+    public static boolean isAcceptableAccountNumber(CharSequence accountNumber) {
+        if (accountNumber == null) {
+            return false;
+        }
+        int length = accountNumber.length();
+        if ((length == ALLOCATED_LENGTH || length > MAX_LEGACY_LENGTH)
+                && isUpperLetter(accountNumber.charAt(0)) && isUpperLetter(accountNumber.charAt(1))) {
+            return isValidIban(accountNumber);
+        }
+        if (length == 0 || length > MAX_LEGACY_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = accountNumber.charAt(i);
+            if (!isDigit(c) && !isUpperLetter(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isUpperLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+}
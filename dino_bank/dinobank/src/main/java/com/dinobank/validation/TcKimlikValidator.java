@@ -0,0 +1,104 @@
+package com.dinobank.validation;
+
+/**
+ * =============================================================================
+ * T.C. KİMLİK NUMARASI DOĞRULAYICI
+ * =============================================================================
+ *
+ * Resmi algoritmaya göre 11 haneli T.C. Kimlik numarasını doğrular:
+ * ┌─────────────────────────────────────────────────────────────────┐
+ * │ - 11 hane, yalnızca rakam, ilk hane 0 olamaz │
+ * │ - 10. hane = ((1+3+5+7+9. haneler) × 7 − (2+4+6+8. haneler)) mod 10│
+ * │ - 11. hane = (ilk 10 hanenin toplamı) mod 10 │
+ * └─────────────────────────────────────────────────────────────────┘
+ *
+ * Kayıt ve toplu içe aktarım gibi sıcak yollarda çağrıldığı için regex
+ * kullanılmaz ve hiçbir nesne oluşturulmaz: karakterler tek geçişte
+ * toplanır, rakam dışı karakterler bit maskesiyle en sonda kontrol edilir.
+ *
+ * @author DinoBank Development Team
+ * @version 1.0
+ */
+public final class TcKimlikValidator {
+
+    public static final int LENGTH = 11;
+
+    /** Doğrulama sonucu; enum sabitleri tekil olduğu için çağrı başına allocation yoktur */
+    public enum Result {
+        VALID,
+        WRONG_LENGTH,
+        NOT_NUMERIC,
+        LEADING_ZERO,
+        BAD_CHECKSUM
+    }
+
+    private TcKimlikValidator() {
+    }
+
+    public static boolean isValid(CharSequence tc) {
+        return validate(tc) == Result.VALID;
+    }
+
+    public static Result validate(CharSequence tc) {
+        if (tc == null || tc.length() != LENGTH) {
+            return Result.WRONG_LENGTH;
+        }
+
+        int odd = 0;
+        int even = 0;
+        int invalid = 0;
+        for (int i = 0; i < 9; i += 2) {
+            int d = tc.charAt(i) - '0';
+            invalid |= d | (9 - d); // d 0..9 dışındaysa işaret biti set olur
+            odd += d;
+        }
+        for (int i = 1; i < 8; i += 2) {
+            int d = tc.charAt(i) - '0';
+            invalid |= d | (9 - d);
+            even += d;
+        }
+        int d10 = tc.charAt(9) - '0';
+        int d11 = tc.charAt(10) - '0';
+        invalid |= d10 | (9 - d10) | d11 | (9 - d11);
+
+        if (invalid < 0) {
+            return Result.NOT_NUMERIC;
+        }
+        if (tc.charAt(0) == '0') {
+            return Result.LEADING_ZERO;
+        }
+
+        int expected10 = Math.floorMod(odd * 7 - even, 10);
+        int expected11 = (odd + even + d10) % 10;
+        return (d10 == expected10 && d11 == expected11) ? Result.VALID : Result.BAD_CHECKSUM;
+    }
+
+    /**
+     * İlk 9 haneye (ilk hane 0 olmamalı) resmi kontrol hanelerini ekleyerek
+     * geçerli bir T.C. Kimlik numarası üretir. Test ve sentetik veri için.
+     */
+    public static String withCheckDigits(long firstNineDigits) {
+        if (firstNineDigits < 100_000_000L || firstNineDigits > 999_999_999L) {
+            throw new IllegalArgumentException("İlk 9 hane 100000000-999999999 aralığında olmalıdır!");
+        }
+        char[] out = new char[LENGTH];
+        long rest = firstNineDigits;
+        for (int i = 8; i >= 0; i--) {
+            out[i] = (char) ('0' + (rest % 10));
+            rest /= 10;
+        }
+        int odd = 0;
+        int even = 0;
+        for (int i = 0; i < 9; i++) {
+            if ((i & 1) == 0) {
+                odd += out[i] - '0';
+            } else {
+                even += out[i] - '0';
+            }
+        }
+        int d10 = Math.floorMod(odd * 7 - even, 10);
+        out[9] = (char) ('0' + d10);
+        out[10] = (char) ('0' + (odd + even + d10) % 10);
+        return new String(out);
+    }
+}
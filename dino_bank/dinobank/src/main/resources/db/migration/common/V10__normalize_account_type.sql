@@ -0,0 +1,5 @@
+-- Kayıt akışı varsayılan hesabı noktalı İ ile ('VADESİZ') açıyordu; diğer
+-- tüm akışlar 'VADESIZ' yazar. Transfer limitleri hesap türüne göre
+-- seçildiği için bu hesaplar VADESIZ limiti yerine DEFAULT'a düşüyordu.
+
+UPDATE public.accounts SET account_type = 'VADESIZ' WHERE account_type = 'VADESİZ';
@@ -0,0 +1,60 @@
+-- DinoBank temel şeması (PostgreSQL ve H2/PostgreSQL modu ortak)
+--
+-- Tüm ifadeler IF NOT EXISTS ile yazılmıştır: eski dinobank.sql veya
+-- ddl-auto=update ile kurulmuş veritabanlarında baseline (0) sonrası
+-- çalıştırıldığında mevcut tablolara dokunmaz.
+--
+-- Serbest metin kolonları TEXT yerine VARCHAR(255): H2'de TEXT = CLOB olur
+-- ve Hibernate şema doğrulaması varchar bekler. Eski kurulumlardaki TEXT
+-- kolonlar PostgreSQL'de varchar olarak doğrulanır, değiştirilmez.
+
+CREATE TABLE IF NOT EXISTS public.customers (
+    customer_id BIGSERIAL PRIMARY KEY,
+    tc_kimlik_no VARCHAR(11) NOT NULL UNIQUE,
+    ad VARCHAR(50) NOT NULL,
+    soyad VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    telefon VARCHAR(15),
+    dogum_tarihi DATE NOT NULL,
+    adres VARCHAR(255),
+    sifre VARCHAR(255) NOT NULL,
+    kayit_tarihi DATE NOT NULL DEFAULT CURRENT_DATE,
+    aktif BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+CREATE TABLE IF NOT EXISTS public.accounts (
+    account_id BIGSERIAL PRIMARY KEY,
+    customer_id BIGINT NOT NULL REFERENCES public.customers (customer_id),
+    account_number VARCHAR(20) NOT NULL UNIQUE,
+    account_type VARCHAR(20) NOT NULL,
+    balance NUMERIC(15, 2) NOT NULL DEFAULT 0.00,
+    currency VARCHAR(3) NOT NULL DEFAULT 'TRY',
+    opening_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+-- Hesap numarası blok sequence'ı (AccountNumberAllocator her nextval'de
+-- block-size kadar numara ayırır ve açılışta INCREMENT BY değerini eşitler)
+CREATE SEQUENCE IF NOT EXISTS public.account_number_seq START WITH 1000 INCREMENT BY 1000;
+
+-- Bakiye kontrol noktaları (BalanceCheckpointService her gün 00:00 bakiyesini yazar)
+CREATE TABLE IF NOT EXISTS public.balance_checkpoints (
+    checkpoint_id BIGSERIAL PRIMARY KEY,
+    account_id BIGINT NOT NULL REFERENCES public.accounts (account_id),
+    checkpoint_at TIMESTAMP NOT NULL,
+    balance NUMERIC(15, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_balance_checkpoints_account_at UNIQUE (account_id, checkpoint_at)
+);
+
+CREATE TABLE IF NOT EXISTS public.credit_applications (
+    credit_application_id BIGSERIAL PRIMARY KEY,
+    customer_id BIGINT NOT NULL REFERENCES public.customers (customer_id),
+    requested_amount NUMERIC(15, 2) NOT NULL,
+    installment_count INTEGER NOT NULL,
+    purpose VARCHAR(255),
+    application_date DATE NOT NULL DEFAULT CURRENT_DATE,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    rejection_reason VARCHAR(255),
+    evaluation_date TIMESTAMP
+);
@@ -0,0 +1,18 @@
+-- Sorgu indeksleri. ddl-auto=update bunları hiçbir zaman oluşturmuyordu;
+-- artık her kurulumda (eski veritabanları dahil) uygulanır.
+-- PostgreSQL'de bölümlenmiş transactions tablosundaki indeksler tüm
+-- bölümlere (sonradan eklenenler dahil) otomatik yayılır.
+--
+-- customers.email / tc_kimlik_no ve accounts.account_number için ayrıca
+-- indeks açılmaz: UNIQUE kısıtları zaten birer benzersiz indekstir.
+
+CREATE INDEX IF NOT EXISTS idx_accounts_customer_id ON public.accounts (customer_id);
+
+-- Hesap bazlı son hareket / tarih aralığı sorguları (geçmiş, portföy, checkpoint);
+-- tek kolonlu from/to indekslerinin yerini de tutar
+CREATE INDEX IF NOT EXISTS idx_transactions_from_account_date ON public.transactions (from_account_id, transaction_date);
+CREATE INDEX IF NOT EXISTS idx_transactions_to_account_date ON public.transactions (to_account_id, transaction_date);
+CREATE INDEX IF NOT EXISTS idx_transactions_date ON public.transactions (transaction_date);
+
+CREATE INDEX IF NOT EXISTS idx_credit_applications_customer ON public.credit_applications (customer_id);
+CREATE INDEX IF NOT EXISTS idx_credit_applications_status ON public.credit_applications (status);
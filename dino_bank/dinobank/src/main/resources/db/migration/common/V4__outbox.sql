@@ -0,0 +1,22 @@
+-- İşlem çıkış kutusu (transactional outbox): servisler alan olaylarını iş
+-- verisiyle AYNI transaction'da buraya yazar; OutboxRelay commit edilmiş
+-- olayları event_id sırasıyla abonelere dağıtır.
+--
+-- Entity yoktur (JdbcTemplate ile yazılır/okunur); Hibernate doğrulaması
+-- bu tablolara bakmaz.
+
+CREATE TABLE IF NOT EXISTS public.outbox_events (
+    event_id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(40) NOT NULL,
+    -- Sıralama anahtarı: para hareketlerinde hesap, müşteri olaylarında müşteri id'si
+    aggregate_id BIGINT,
+    payload VARCHAR(4000) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+-- Abone başına son teslim edilen olay; teslimat ile aynı transaction'da ilerler
+CREATE TABLE IF NOT EXISTS public.outbox_offsets (
+    subscriber VARCHAR(100) PRIMARY KEY,
+    last_event_id BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,14 @@
+-- Müşteri paneli okuma modeli (CQRS): müşteri başına tek satır JSON.
+-- DashboardProjection outbox olaylarıyla günceller; satır yoksa ilk
+-- GET /api/dashboard/{id} isteği ana tablolardan kurar. Tablo silinip
+-- yeniden oluşturulabilir: içerik her zaman ana tablolardan türetilir.
+--
+-- Entity yoktur (JdbcTemplate ile yazılır/okunur).
+
+CREATE TABLE IF NOT EXISTS public.customer_dashboards (
+    customer_id BIGINT PRIMARY KEY REFERENCES public.customers (customer_id),
+    -- Modele yansıtılmış son outbox olayı (ETag'in parçası)
+    last_event_id BIGINT NOT NULL,
+    payload VARCHAR NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,30 @@
+-- Gece faiz tahakkuku (InterestAccrualService): gün başına bir çalışma satırı
+-- ve tamamlanan her account_id parçası için bir kontrol noktası.
+--
+-- Parça satırı, parçanın bakiye güncellemeleri ve INTEREST işlemleriyle
+-- AYNI transaction'da yazılır: yarıda kalan bir çalışma yeniden
+-- başlatıldığında yalnızca satırı olmayan parçalar işlenir, hiçbir hesaba
+-- aynı gün için iki kez faiz yansıtılmaz.
+--
+-- Entity yoktur (JdbcTemplate ile yazılır/okunur).
+
+CREATE TABLE IF NOT EXISTS public.interest_accrual_runs (
+    accrual_date DATE PRIMARY KEY,
+    status VARCHAR(20) NOT NULL, -- RUNNING / COMPLETED
+    -- Parça sınırları (1 + k * chunk_size) yeniden başlatmada bu değerle kurulur;
+    -- ayar sonradan değişse de tamamlanan parçalarla çakışan aralık oluşmaz
+    chunk_size INT NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+    -- Faiz yansıtılan hesap sayısı (tamamlandığında, tüm parçaların toplamı)
+    accounts_posted BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS public.interest_accrual_chunks (
+    accrual_date DATE NOT NULL,
+    range_start BIGINT NOT NULL,
+    range_end BIGINT NOT NULL,
+    accounts_posted INT NOT NULL,
+    completed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (accrual_date, range_start)
+);
@@ -0,0 +1,32 @@
+-- Gün sonu defter mutabakatı (LedgerReconciliationService): her çalışma için
+-- bir özet satırı ve bulunan uyuşmazlıklar.
+--
+-- BALANCE   : accounts.balance ≠ hesabın COMPLETED işlemlerinin neti
+-- CHECKPOINT: balance_checkpoints bakiyesi ≠ kontrol noktası anından önceki net
+--
+-- Entity yoktur (JdbcTemplate ile yazılır/okunur).
+
+CREATE TABLE IF NOT EXISTS public.reconciliation_runs (
+    run_id BIGSERIAL PRIMARY KEY,
+    status VARCHAR(20) NOT NULL, -- RUNNING / COMPLETED / FAILED
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+    -- Karşılaştırılan en son kontrol noktası anı (yoksa NULL)
+    checkpoint_at TIMESTAMP,
+    accounts_checked BIGINT,
+    mismatch_count BIGINT,
+    -- Toplam uyuşmazlık sayısı sınırı aşarsa yalnızca ilk max-reported kadarı saklanır
+    mismatches_truncated BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE IF NOT EXISTS public.reconciliation_mismatches (
+    run_id BIGINT NOT NULL REFERENCES public.reconciliation_runs (run_id) ON DELETE CASCADE,
+    account_id BIGINT NOT NULL,
+    kind VARCHAR(20) NOT NULL,
+    account_number VARCHAR(20) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    -- expected: işlemlerden hesaplanan, actual: kayıtlı bakiye
+    expected NUMERIC(17, 2) NOT NULL,
+    actual NUMERIC(17, 2) NOT NULL,
+    PRIMARY KEY (run_id, account_id, kind)
+);
@@ -0,0 +1,40 @@
+-- Düzenli transfer talimatları (kira, abonelik): StandingOrderScheduler
+-- yaklaşan pencereyi bellekteki zamanlayıcı çarkına yükler ve vadesi gelen
+-- talimatları transfer motoru (TransactionService) üzerinden çalıştırır.
+--
+-- Bir tekrarın sahipliği koşullu UPDATE ile alınır (next_run_at = çarktaki
+-- an): aynı tekrarı iki düğüm birden çalıştıramaz. Çalışma kaydı transferle
+-- aynı transaction'da yazılır.
+--
+-- Entity yoktur (JdbcTemplate ile yazılır/okunur).
+
+CREATE TABLE IF NOT EXISTS public.standing_orders (
+    order_id BIGSERIAL PRIMARY KEY,
+    customer_id BIGINT NOT NULL REFERENCES public.customers (customer_id),
+    from_account_number VARCHAR(20) NOT NULL,
+    to_account_number VARCHAR(20) NOT NULL,
+    amount NUMERIC(15, 2) NOT NULL,
+    description VARCHAR(255),
+    frequency VARCHAR(10) NOT NULL, -- DAILY / WEEKLY / MONTHLY
+    first_run_at TIMESTAMP NOT NULL,
+    end_date DATE,
+    -- Sıradaki tekrarın sıra numarası (0 = ilk çalışma) ve anı
+    occurrence INT NOT NULL DEFAULT 0,
+    next_run_at TIMESTAMP,
+    status VARCHAR(20) NOT NULL, -- ACTIVE / CANCELLED / COMPLETED
+    created_at TIMESTAMP NOT NULL
+);
+
+-- Pencere yüklemesi: status = 'ACTIVE' AND next_run_at aralığı
+CREATE INDEX IF NOT EXISTS idx_standing_orders_due ON public.standing_orders (status, next_run_at);
+CREATE INDEX IF NOT EXISTS idx_standing_orders_customer ON public.standing_orders (customer_id);
+
+CREATE TABLE IF NOT EXISTS public.standing_order_executions (
+    order_id BIGINT NOT NULL REFERENCES public.standing_orders (order_id),
+    scheduled_for TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL, -- COMPLETED / FAILED
+    transaction_id BIGINT,
+    error VARCHAR(255),
+    executed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (order_id, scheduled_for)
+);
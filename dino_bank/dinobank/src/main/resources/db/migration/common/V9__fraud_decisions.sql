@@ -0,0 +1,21 @@
+-- Hız (velocity) kontrolü kararları: VelocityCheckService bellekteki
+-- sayaçlarla karar verir, FraudDecisionLog kararları arka planda partiler
+-- halinde buraya yazar. Varsayılan olarak yalnızca FLAG ve DENY yazılır
+-- (dinobank.fraud.log-allowed=true ile ALLOW da yazılır).
+--
+-- Entity yoktur (JdbcTemplate ile yazılır/okunur).
+
+CREATE TABLE IF NOT EXISTS public.fraud_decisions (
+    decision_id BIGSERIAL PRIMARY KEY,
+    decided_at TIMESTAMP NOT NULL,
+    operation VARCHAR(20) NOT NULL, -- TRANSFER / DEPOSIT
+    from_account_number VARCHAR(20),
+    to_account_number VARCHAR(20),
+    customer_id BIGINT, -- Hız kontrolü anında biliniyorsa
+    amount NUMERIC(15, 2),
+    outcome VARCHAR(10) NOT NULL, -- ALLOW / FLAG / DENY
+    rule VARCHAR(40)
+);
+
+CREATE INDEX IF NOT EXISTS idx_fraud_decisions_decided_at ON public.fraud_decisions (decided_at);
+CREATE INDEX IF NOT EXISTS idx_fraud_decisions_from_account ON public.fraud_decisions (from_account_number);
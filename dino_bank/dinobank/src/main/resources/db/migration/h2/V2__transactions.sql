@@ -0,0 +1,17 @@
+-- İşlem tablosu (H2): yerel deneme, benchmark ve yük testi için bölümlenmemiş
+-- hali. PostgreSQL karşılığı db/migration/postgresql/V2__transactions.sql.
+
+CREATE TABLE IF NOT EXISTS public.transactions (
+    transaction_id BIGSERIAL PRIMARY KEY,
+    from_account_id BIGINT REFERENCES public.accounts (account_id), -- DEPOSIT işlemlerinde NULL
+    to_account_id BIGINT REFERENCES public.accounts (account_id),
+    transaction_type VARCHAR(20) NOT NULL,
+    amount NUMERIC(15, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'TRY',
+    description VARCHAR(255),
+    transaction_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    exchange_rate NUMERIC(19, 8),
+    converted_amount NUMERIC(15, 2),
+    converted_currency VARCHAR(3)
+);
@@ -0,0 +1,72 @@
+-- İşlem tablosu (PostgreSQL): transaction_date'e göre aylık RANGE bölümleme.
+--
+-- Geçmiş ve tarih aralığı sorguları yalnızca ilgili ayların bölümlerini
+-- tarar; eski aylar tek tek DETACH edilip arşivlenebilir. Bölümlemede
+-- birincil anahtar bölüm kolonunu içermek zorundadır; transaction_id
+-- tek başına yine sequence'tan gelir ve benzersizdir.
+--
+-- Eski kurulumlarda (dinobank.sql / ddl-auto=update) tablo bölümlenmemiş
+-- olarak zaten vardır: CREATE atlanır, yalnızca eksik kolonlar eklenir ve
+-- bölüm fonksiyonu hiçbir şey yapmaz. Dolu bir tabloyu bölümlemek
+-- çevrimdışı bir veri taşıma işidir, açılışta yapılmaz.
+
+CREATE TABLE IF NOT EXISTS public.transactions (
+    transaction_id BIGSERIAL NOT NULL,
+    from_account_id BIGINT REFERENCES public.accounts (account_id), -- DEPOSIT işlemlerinde NULL
+    to_account_id BIGINT REFERENCES public.accounts (account_id),
+    transaction_type VARCHAR(20) NOT NULL,
+    amount NUMERIC(15, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'TRY',
+    description VARCHAR(255),
+    transaction_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    exchange_rate NUMERIC(19, 8),
+    converted_amount NUMERIC(15, 2),
+    converted_currency VARCHAR(3),
+    PRIMARY KEY (transaction_id, transaction_date)
+) PARTITION BY RANGE (transaction_date);
+
+-- Eski kurulumlar için: para yatırma kayıtlarında gönderen hesap yoktur
+ALTER TABLE public.transactions ALTER COLUMN from_account_id DROP NOT NULL;
+-- Dövizli transferler: uygulanan kur ve alıcı bacağı
+ALTER TABLE public.transactions ADD COLUMN IF NOT EXISTS exchange_rate NUMERIC(19, 8);
+ALTER TABLE public.transactions ADD COLUMN IF NOT EXISTS converted_amount NUMERIC(15, 2);
+ALTER TABLE public.transactions ADD COLUMN IF NOT EXISTS converted_currency VARCHAR(3);
+
+-- Bugünden months_back ay öncesi ile months_ahead ay sonrası arasındaki eksik
+-- aylık bölümleri ve aralık dışı kayıtlar için DEFAULT bölümü oluşturur.
+-- Oluşturulan bölüm sayısını döner. TransactionPartitionMaintenance ayda bir
+-- çağırarak ileriye dönük bölümleri hazır tutar: DEFAULT bölümde o aya ait
+-- kayıt birikirse yeni bölüm oluşturulamaz.
+CREATE OR REPLACE FUNCTION public.ensure_transaction_partitions(months_back INTEGER, months_ahead INTEGER)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start DATE;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'public.transactions'::regclass) THEN
+        RETURN 0;
+    END IF;
+
+    IF to_regclass('public.transactions_default') IS NULL THEN
+        CREATE TABLE public.transactions_default PARTITION OF public.transactions DEFAULT;
+        created := created + 1;
+    END IF;
+
+    FOR i IN -months_back..months_ahead LOOP
+        month_start := (date_trunc('month', CURRENT_DATE) + make_interval(months => i))::DATE;
+        partition_name := 'transactions_' || to_char(month_start, 'YYYY_MM');
+        IF to_regclass('public.' || partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE public.%I PARTITION OF public.transactions FOR VALUES FROM (%L) TO (%L)',
+                    partition_name, month_start, (month_start + INTERVAL '1 month')::DATE);
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END
+$$;
+
+SELECT public.ensure_transaction_partitions(24, 12);
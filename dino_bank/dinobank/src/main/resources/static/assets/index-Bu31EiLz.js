@@ -1,92 +0,0 @@
-function EP(e,t){for(var n=0;n<t.length;n++){const r=t[n];if(typeof r!="string"&&!Array.isArray(r)){for(const l in r)if(l!=="default"&&!(l in e)){const o=Object.getOwnPropertyDescriptor(r,l);o&&Object.defineProperty(e,l,o.get?o:{enumerable:!0,get:()=>r[l]})}}}return Object.freeze(Object.defineProperty(e,Symbol.toStringTag,{value:"Module"}))}(function(){const t=document.createElement("link").relList;if(t&&t.supports&&t.supports("modulepreload"))return;for(const l of document.querySelectorAll('link[rel="modulepreload"]'))r(l);new MutationObserver(l=>{for(const o of l)if(o.type==="childList")for(const c of o.addedNodes)c.tagName==="LINK"&&c.rel==="modulepreload"&&r(c)}).observe(document,{childList:!0,subtree:!0});function n(l){const o={};return l.integrity&&(o.integrity=l.integrity),l.referrerPolicy&&(o.referrerPolicy=l.referrerPolicy),l.crossOrigin==="use-credentials"?o.credentials="include":l.crossOrigin==="anonymous"?o.credentials="omit":o.credentials="same-origin",o}function r(l){if(l.ep)return;l.ep=!0;const o=n(l);fetch(l.href,o)}})();function oa(e){return e&&e.__esModule&&Object.prototype.hasOwnProperty.call(e,"default")?e.default:e}var iv={exports:{}},lu={};var Fw;function OP(){if(Fw)return lu;Fw=1;var e=Symbol.for("react.transitional.element"),t=Symbol.for("react.fragment");function n(r,l,o){var c=null;if(o!==void 0&&(c=""+o),l.key!==void 0&&(c=""+l.key),"key"in l){o={};for(var f in l)f!=="key"&&(o[f]=l[f])}else o=l;return l=o.ref,{$$typeof:e,type:r,key:c,ref:l!==void 0?l:null,props:o}}return lu.Fragment=t,lu.jsx=n,lu.jsxs=n,lu}var Ww;function AP(){return Ww||(Ww=1,iv.exports=OP()),iv.exports}var b=AP(),lv={exports:{}},Se={};var Zw;function jP(){if(Zw)return Se;Zw=1;var e=Symbol.for("react.transitional.element"),t=Symbol.for("react.portal"),n=Symbol.for("react.fragment"),r=Symbol.for("react.strict_mode"),l=Symbol.for("react.profiler"),o=Symbol.for("react.consumer"),c=Symbol.for("react.context"),f=Symbol.for("react.forward_ref"),d=Symbol.for("react.suspense"),h=Symbol.for("react.memo"),m=Symbol.for("react.lazy"),p=Symbol.for("react.activity"),x=Symbol.iterator;function w(P){return P===null||typeof P!="object"?null:(P=x&&P[x]||P["@@iterator"],typeof P=="function"?P:null)}var A={isMounted:function(){return!1},enqueueForceUpdate:function(){},enqueueReplaceState:function(){},enqueueSetState:function(){}},O=Object.assign,E={};function j(P,K,ee){this.props=P,this.context=K,this.refs=E,this.updater=ee||A}j.prototype.isReactComponent={},j.prototype.setState=function(P,K){if(typeof P!="object"&&typeof P!="function"&&P!=null)throw Error("takes an object of state variables to update or a function which returns an object of state variables.");this.updater.enqueueSetState(this,P,K,"setState")},j.prototype.forceUpdate=function(P){this.updater.enqueueForceUpdate(this,P,"forceUpdate")};function _(){}_.prototype=j.prototype;function C(P,K,ee){this.props=P,this.context=K,this.refs=E,this.updater=ee||A}var D=C.prototype=new _;D.constructor=C,O(D,j.prototype),D.isPureReactComponent=!0;var T=Array.isArray;function R(){}var k={H:null,A:null,T:null,S:null},I=Object.prototype.hasOwnProperty;function re(P,K,ee){var ne=ee.ref;return{$$typeof:e,type:P,key:K,ref:ne!==void 0?ne:null,props:ee}}function ae(P,K){return re(P.type,K,P.props)}function W(P){return typeof P=="object"&&P!==null&&P.$$typeof===e}function J(P){var K={"=":"=0",":":"=2"};return"$"+P.replace(/[=:]/g,function(ee){return K[ee]})}var pe=/\/+/g;function ge(P,K){return typeof P=="object"&&P!==null&&P.key!=null?J(""+P.key):K.toString(36)}function xe(P){switch(P.status){case"fulfilled":return P.value;case"rejected":throw P.reason;default:switch(typeof P.status=="string"?P.then(R,R):(P.status="pending",P.then(function(K){P.status==="pending"&&(P.status="fulfilled",P.value=K)},function(K){P.status==="pending"&&(P.status="rejected",P.reason=K)})),P.status){case"fulfilled":return P.value;case"rejected":throw P.reason}}throw P}function q(P,K,ee,ne,he){var we=typeof P;(we==="undefined"||we==="boolean")&&(P=null);var ue=!1;if(P===null)ue=!0;else switch(we){case"bigint":case"string":case"number":ue=!0;break;case"object":switch(P.$$typeof){case e:case t:ue=!0;break;case m:return ue=P._init,q(ue(P._payload),K,ee,ne,he)}}if(ue)return he=he(P),ue=ne===""?"."+ge(P,0):ne,T(he)?(ee="",ue!=null&&(ee=ue.replace(pe,"$&/")+"/"),q(he,K,ee,"",function(be){return be})):he!=null&&(W(he)&&(he=ae(he,ee+(he.key==null||P&&P.key===he.key?"":(""+he.key).replace(pe,"$&/")+"/")+ue)),K.push(he)),1;ue=0;var rt=ne===""?".":ne+":";if(T(P))for(var V=0;V<P.length;V++)ne=P[V],we=rt+ge(ne,V),ue+=q(ne,K,ee,we,he);else if(V=w(P),typeof V=="function")for(P=V.call(P),V=0;!(ne=P.next()).done;)ne=ne.value,we=rt+ge(ne,V++),ue+=q(ne,K,ee,we,he);else if(we==="object"){if(typeof P.then=="function")return q(xe(P),K,ee,ne,he);throw K=String(P),Error("Objects are not valid as a React child (found: "+(K==="[object Object]"?"object with keys {"+Object.keys(P).join(", ")+"}":K)+"). If you meant to render a collection of children, use an array instead.")}return ue}function Q(P,K,ee){if(P==null)return P;var ne=[],he=0;return q(P,ne,"","",function(we){return K.call(ee,we,he++)}),ne}function X(P){if(P._status===-1){var K=P._result;K=K(),K.then(function(ee){(P._status===0||P._status===-1)&&(P._status=1,P._result=ee)},function(ee){(P._status===0||P._status===-1)&&(P._status=2,P._result=ee)}),P._status===-1&&(P._status=0,P._result=K)}if(P._status===1)return P._result.default;throw P._result}var le=typeof reportError=="function"?reportError:function(P){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var K=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof P=="object"&&P!==null&&typeof P.message=="string"?String(P.message):String(P),error:P});if(!window.dispatchEvent(K))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",P);return}console.error(P)},Oe={map:Q,forEach:function(P,K,ee){Q(P,function(){K.apply(this,arguments)},ee)},count:function(P){var K=0;return Q(P,function(){K++}),K},toArray:function(P){return Q(P,function(K){return K})||[]},only:function(P){if(!W(P))throw Error("React.Children.only expected to receive a single React element child.");return P}};return Se.Activity=p,Se.Children=Oe,Se.Component=j,Se.Fragment=n,Se.Profiler=l,Se.PureComponent=C,Se.StrictMode=r,Se.Suspense=d,Se.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE=k,Se.__COMPILER_RUNTIME={__proto__:null,c:function(P){return k.H.useMemoCache(P)}},Se.cache=function(P){return function(){return P.apply(null,arguments)}},Se.cacheSignal=function(){return null},Se.cloneElement=function(P,K,ee){if(P==null)throw Error("The argument must be a React element, but you passed "+P+".");var ne=O({},P.props),he=P.key;if(K!=null)for(we in K.key!==void 0&&(he=""+K.key),K)!I.call(K,we)||we==="key"||we==="__self"||we==="__source"||we==="ref"&&K.ref===void 0||(ne[we]=K[we]);var we=arguments.length-2;if(we===1)ne.children=ee;else if(1<we){for(var ue=Array(we),rt=0;rt<we;rt++)ue[rt]=arguments[rt+2];ne.children=ue}return re(P.type,he,ne)},Se.createContext=function(P){return P={$$typeof:c,_currentValue:P,_currentValue2:P,_threadCount:0,Provider:null,Consumer:null},P.Provider=P,P.Consumer={$$typeof:o,_context:P},P},Se.createElement=function(P,K,ee){var ne,he={},we=null;if(K!=null)for(ne in K.key!==void 0&&(we=""+K.key),K)I.call(K,ne)&&ne!=="key"&&ne!=="__self"&&ne!=="__source"&&(he[ne]=K[ne]);var ue=arguments.length-2;if(ue===1)he.children=ee;else if(1<ue){for(var rt=Array(ue),V=0;V<ue;V++)rt[V]=arguments[V+2];he.children=rt}if(P&&P.defaultProps)for(ne in ue=P.defaultProps,ue)he[ne]===void 0&&(he[ne]=ue[ne]);return re(P,we,he)},Se.createRef=function(){return{current:null}},Se.forwardRef=function(P){return{$$typeof:f,render:P}},Se.isValidElement=W,Se.lazy=function(P){return{$$typeof:m,_payload:{_status:-1,_result:P},_init:X}},Se.memo=function(P,K){return{$$typeof:h,type:P,compare:K===void 0?null:K}},Se.startTransition=function(P){var K=k.T,ee={};k.T=ee;try{var ne=P(),he=k.S;he!==null&&he(ee,ne),typeof ne=="object"&&ne!==null&&typeof ne.then=="function"&&ne.then(R,le)}catch(we){le(we)}finally{K!==null&&ee.types!==null&&(K.types=ee.types),k.T=K}},Se.unstable_useCacheRefresh=function(){return k.H.useCacheRefresh()},Se.use=function(P){return k.H.use(P)},Se.useActionState=function(P,K,ee){return k.H.useActionState(P,K,ee)},Se.useCallback=function(P,K){return k.H.useCallback(P,K)},Se.useContext=function(P){return k.H.useContext(P)},Se.useDebugValue=function(){},Se.useDeferredValue=function(P,K){return k.H.useDeferredValue(P,K)},Se.useEffect=function(P,K){return k.H.useEffect(P,K)},Se.useEffectEvent=function(P){return k.H.useEffectEvent(P)},Se.useId=function(){return k.H.useId()},Se.useImperativeHandle=function(P,K,ee){return k.H.useImperativeHandle(P,K,ee)},Se.useInsertionEffect=function(P,K){return k.H.useInsertionEffect(P,K)},Se.useLayoutEffect=function(P,K){return k.H.useLayoutEffect(P,K)},Se.useMemo=function(P,K){return k.H.useMemo(P,K)},Se.useOptimistic=function(P,K){return k.H.useOptimistic(P,K)},Se.useReducer=function(P,K,ee){return k.H.useReducer(P,K,ee)},Se.useRef=function(P){return k.H.useRef(P)},Se.useState=function(P){return k.H.useState(P)},Se.useSyncExternalStore=function(P,K,ee){return k.H.useSyncExternalStore(P,K,ee)},Se.useTransition=function(){return k.H.useTransition()},Se.version="19.2.1",Se}var Qw;function Xl(){return Qw||(Qw=1,lv.exports=jP()),lv.exports}var g=Xl();const k2=oa(g),ed=EP({__proto__:null,default:k2},[g]);var ov={exports:{}},ou={},uv={exports:{}},cv={};var Jw;function NP(){return Jw||(Jw=1,(function(e){function t(q,Q){var X=q.length;q.push(Q);e:for(;0<X;){var le=X-1>>>1,Oe=q[le];if(0<l(Oe,Q))q[le]=Q,q[X]=Oe,X=le;else break e}}function n(q){return q.length===0?null:q[0]}function r(q){if(q.length===0)return null;var Q=q[0],X=q.pop();if(X!==Q){q[0]=X;e:for(var le=0,Oe=q.length,P=Oe>>>1;le<P;){var K=2*(le+1)-1,ee=q[K],ne=K+1,he=q[ne];if(0>l(ee,X))ne<Oe&&0>l(he,ee)?(q[le]=he,q[ne]=X,le=ne):(q[le]=ee,q[K]=X,le=K);else if(ne<Oe&&0>l(he,X))q[le]=he,q[ne]=X,le=ne;else break e}}return Q}function l(q,Q){var X=q.sortIndex-Q.sortIndex;return X!==0?X:q.id-Q.id}if(e.unstable_now=void 0,typeof performance=="object"&&typeof performance.now=="function"){var o=performance;e.unstable_now=function(){return o.now()}}else{var c=Date,f=c.now();e.unstable_now=function(){return c.now()-f}}var d=[],h=[],m=1,p=null,x=3,w=!1,A=!1,O=!1,E=!1,j=typeof setTimeout=="function"?setTimeout:null,_=typeof clearTimeout=="function"?clearTimeout:null,C=typeof setImmediate<"u"?setImmediate:null;function D(q){for(var Q=n(h);Q!==null;){if(Q.callback===null)r(h);else if(Q.startTime<=q)r(h),Q.sortIndex=Q.expirationTime,t(d,Q);else break;Q=n(h)}}function T(q){if(O=!1,D(q),!A)if(n(d)!==null)A=!0,R||(R=!0,J());else{var Q=n(h);Q!==null&&xe(T,Q.startTime-q)}}var R=!1,k=-1,I=5,re=-1;function ae(){return E?!0:!(e.unstable_now()-re<I)}function W(){if(E=!1,R){var q=e.unstable_now();re=q;var Q=!0;try{e:{A=!1,O&&(O=!1,_(k),k=-1),w=!0;var X=x;try{t:{for(D(q),p=n(d);p!==null&&!(p.expirationTime>q&&ae());){var le=p.callback;if(typeof le=="function"){p.callback=null,x=p.priorityLevel;var Oe=le(p.expirationTime<=q);if(q=e.unstable_now(),typeof Oe=="function"){p.callback=Oe,D(q),Q=!0;break t}p===n(d)&&r(d),D(q)}else r(d);p=n(d)}if(p!==null)Q=!0;else{var P=n(h);P!==null&&xe(T,P.startTime-q),Q=!1}}break e}finally{p=null,x=X,w=!1}Q=void 0}}finally{Q?J():R=!1}}}var J;if(typeof C=="function")J=function(){C(W)};else if(typeof MessageChannel<"u"){var pe=new MessageChannel,ge=pe.port2;pe.port1.onmessage=W,J=function(){ge.postMessage(null)}}else J=function(){j(W,0)};function xe(q,Q){k=j(function(){q(e.unstable_now())},Q)}e.unstable_IdlePriority=5,e.unstable_ImmediatePriority=1,e.unstable_LowPriority=4,e.unstable_NormalPriority=3,e.unstable_Profiling=null,e.unstable_UserBlockingPriority=2,e.unstable_cancelCallback=function(q){q.callback=null},e.unstable_forceFrameRate=function(q){0>q||125<q?console.error("forceFrameRate takes a positive int between 0 and 125, forcing frame rates higher than 125 fps is not supported"):I=0<q?Math.floor(1e3/q):5},e.unstable_getCurrentPriorityLevel=function(){return x},e.unstable_next=function(q){switch(x){case 1:case 2:case 3:var Q=3;break;default:Q=x}var X=x;x=Q;try{return q()}finally{x=X}},e.unstable_requestPaint=function(){E=!0},e.unstable_runWithPriority=function(q,Q){switch(q){case 1:case 2:case 3:case 4:case 5:break;default:q=3}var X=x;x=q;try{return Q()}finally{x=X}},e.unstable_scheduleCallback=function(q,Q,X){var le=e.unstable_now();switch(typeof X=="object"&&X!==null?(X=X.delay,X=typeof X=="number"&&0<X?le+X:le):X=le,q){case 1:var Oe=-1;break;case 2:Oe=250;break;case 5:Oe=1073741823;break;case 4:Oe=1e4;break;default:Oe=5e3}return Oe=X+Oe,q={id:m++,callback:Q,priorityLevel:q,startTime:X,expirationTime:Oe,sortIndex:-1},X>le?(q.sortIndex=X,t(h,q),n(d)===null&&q===n(h)&&(O?(_(k),k=-1):O=!0,xe(T,X-le))):(q.sortIndex=Oe,t(d,q),A||w||(A=!0,R||(R=!0,J()))),q},e.unstable_shouldYield=ae,e.unstable_wrapCallback=function(q){var Q=x;return function(){var X=x;x=Q;try{return q.apply(this,arguments)}finally{x=X}}}})(cv)),cv}var eS;function CP(){return eS||(eS=1,uv.exports=NP()),uv.exports}var sv={exports:{}},Qt={};var tS;function _P(){if(tS)return Qt;tS=1;var e=Xl();function t(d){var h="https://react.dev/errors/"+d;if(1<arguments.length){h+="?args[]="+encodeURIComponent(arguments[1]);for(var m=2;m<arguments.length;m++)h+="&args[]="+encodeURIComponent(arguments[m])}return"Minified React error #"+d+"; visit "+h+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}function n(){}var r={d:{f:n,r:function(){throw Error(t(522))},D:n,C:n,L:n,m:n,X:n,S:n,M:n},p:0,findDOMNode:null},l=Symbol.for("react.portal");function o(d,h,m){var p=3<arguments.length&&arguments[3]!==void 0?arguments[3]:null;return{$$typeof:l,key:p==null?null:""+p,children:d,containerInfo:h,implementation:m}}var c=e.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE;function f(d,h){if(d==="font")return"";if(typeof h=="string")return h==="use-credentials"?h:""}return Qt.__DOM_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE=r,Qt.createPortal=function(d,h){var m=2<arguments.length&&arguments[2]!==void 0?arguments[2]:null;if(!h||h.nodeType!==1&&h.nodeType!==9&&h.nodeType!==11)throw Error(t(299));return o(d,h,null,m)},Qt.flushSync=function(d){var h=c.T,m=r.p;try{if(c.T=null,r.p=2,d)return d()}finally{c.T=h,r.p=m,r.d.f()}},Qt.preconnect=function(d,h){typeof d=="string"&&(h?(h=h.crossOrigin,h=typeof h=="string"?h==="use-credentials"?h:"":void 0):h=null,r.d.C(d,h))},Qt.prefetchDNS=function(d){typeof d=="string"&&r.d.D(d)},Qt.preinit=function(d,h){if(typeof d=="string"&&h&&typeof h.as=="string"){var m=h.as,p=f(m,h.crossOrigin),x=typeof h.integrity=="string"?h.integrity:void 0,w=typeof h.fetchPriority=="string"?h.fetchPriority:void 0;m==="style"?r.d.S(d,typeof h.precedence=="string"?h.precedence:void 0,{crossOrigin:p,integrity:x,fetchPriority:w}):m==="script"&&r.d.X(d,{crossOrigin:p,integrity:x,fetchPriority:w,nonce:typeof h.nonce=="string"?h.nonce:void 0})}},Qt.preinitModule=function(d,h){if(typeof d=="string")if(typeof h=="object"&&h!==null){if(h.as==null||h.as==="script"){var m=f(h.as,h.crossOrigin);r.d.M(d,{crossOrigin:m,integrity:typeof h.integrity=="string"?h.integrity:void 0,nonce:typeof h.nonce=="string"?h.nonce:void 0})}}else h==null&&r.d.M(d)},Qt.preload=function(d,h){if(typeof d=="string"&&typeof h=="object"&&h!==null&&typeof h.as=="string"){var m=h.as,p=f(m,h.crossOrigin);r.d.L(d,m,{crossOrigin:p,integrity:typeof h.integrity=="string"?h.integrity:void 0,nonce:typeof h.nonce=="string"?h.nonce:void 0,type:typeof h.type=="string"?h.type:void 0,fetchPriority:typeof h.fetchPriority=="string"?h.fetchPriority:void 0,referrerPolicy:typeof h.referrerPolicy=="string"?h.referrerPolicy:void 0,imageSrcSet:typeof h.imageSrcSet=="string"?h.imageSrcSet:void 0,imageSizes:typeof h.imageSizes=="string"?h.imageSizes:void 0,media:typeof h.media=="string"?h.media:void 0})}},Qt.preloadModule=function(d,h){if(typeof d=="string")if(h){var m=f(h.as,h.crossOrigin);r.d.m(d,{as:typeof h.as=="string"&&h.as!=="script"?h.as:void 0,crossOrigin:m,integrity:typeof h.integrity=="string"?h.integrity:void 0})}else r.d.m(d)},Qt.requestFormReset=function(d){r.d.r(d)},Qt.unstable_batchedUpdates=function(d,h){return d(h)},Qt.useFormState=function(d,h,m){return c.H.useFormState(d,h,m)},Qt.useFormStatus=function(){return c.H.useHostTransitionStatus()},Qt.version="19.2.1",Qt}var nS;function P2(){if(nS)return sv.exports;nS=1;function e(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(e)}catch(t){console.error(t)}}return e(),sv.exports=_P(),sv.exports}var rS;function TP(){if(rS)return ou;rS=1;var e=CP(),t=Xl(),n=P2();function r(a){var i="https://react.dev/errors/"+a;if(1<arguments.length){i+="?args[]="+encodeURIComponent(arguments[1]);for(var u=2;u<arguments.length;u++)i+="&args[]="+encodeURIComponent(arguments[u])}return"Minified React error #"+a+"; visit "+i+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}function l(a){return!(!a||a.nodeType!==1&&a.nodeType!==9&&a.nodeType!==11)}function o(a){var i=a,u=a;if(a.alternate)for(;i.return;)i=i.return;else{a=i;do i=a,(i.flags&4098)!==0&&(u=i.return),a=i.return;while(a)}return i.tag===3?u:null}function c(a){if(a.tag===13){var i=a.memoizedState;if(i===null&&(a=a.alternate,a!==null&&(i=a.memoizedState)),i!==null)return i.dehydrated}return null}function f(a){if(a.tag===31){var i=a.memoizedState;if(i===null&&(a=a.alternate,a!==null&&(i=a.memoizedState)),i!==null)return i.dehydrated}return null}function d(a){if(o(a)!==a)throw Error(r(188))}function h(a){var i=a.alternate;if(!i){if(i=o(a),i===null)throw Error(r(188));return i!==a?null:a}for(var u=a,s=i;;){var v=u.return;if(v===null)break;var y=v.alternate;if(y===null){if(s=v.return,s!==null){u=s;continue}break}if(v.child===y.child){for(y=v.child;y;){if(y===u)return d(v),a;if(y===s)return d(v),i;y=y.sibling}throw Error(r(188))}if(u.return!==s.return)u=v,s=y;else{for(var S=!1,N=v.child;N;){if(N===u){S=!0,u=v,s=y;break}if(N===s){S=!0,s=v,u=y;break}N=N.sibling}if(!S){for(N=y.child;N;){if(N===u){S=!0,u=y,s=v;break}if(N===s){S=!0,s=y,u=v;break}N=N.sibling}if(!S)throw Error(r(189))}}if(u.alternate!==s)throw Error(r(190))}if(u.tag!==3)throw Error(r(188));return u.stateNode.current===u?a:i}function m(a){var i=a.tag;if(i===5||i===26||i===27||i===6)return a;for(a=a.child;a!==null;){if(i=m(a),i!==null)return i;a=a.sibling}return null}var p=Object.assign,x=Symbol.for("react.element"),w=Symbol.for("react.transitional.element"),A=Symbol.for("react.portal"),O=Symbol.for("react.fragment"),E=Symbol.for("react.strict_mode"),j=Symbol.for("react.profiler"),_=Symbol.for("react.consumer"),C=Symbol.for("react.context"),D=Symbol.for("react.forward_ref"),T=Symbol.for("react.suspense"),R=Symbol.for("react.suspense_list"),k=Symbol.for("react.memo"),I=Symbol.for("react.lazy"),re=Symbol.for("react.activity"),ae=Symbol.for("react.memo_cache_sentinel"),W=Symbol.iterator;function J(a){return a===null||typeof a!="object"?null:(a=W&&a[W]||a["@@iterator"],typeof a=="function"?a:null)}var pe=Symbol.for("react.client.reference");function ge(a){if(a==null)return null;if(typeof a=="function")return a.$$typeof===pe?null:a.displayName||a.name||null;if(typeof a=="string")return a;switch(a){case O:return"Fragment";case j:return"Profiler";case E:return"StrictMode";case T:return"Suspense";case R:return"SuspenseList";case re:return"Activity"}if(typeof a=="object")switch(a.$$typeof){case A:return"Portal";case C:return a.displayName||"Context";case _:return(a._context.displayName||"Context")+".Consumer";case D:var i=a.render;return a=a.displayName,a||(a=i.displayName||i.name||"",a=a!==""?"ForwardRef("+a+")":"ForwardRef"),a;case k:return i=a.displayName||null,i!==null?i:ge(a.type)||"Memo";case I:i=a._payload,a=a._init;try{return ge(a(i))}catch{}}return null}var xe=Array.isArray,q=t.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE,Q=n.__DOM_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE,X={pending:!1,data:null,method:null,action:null},le=[],Oe=-1;function P(a){return{current:a}}function K(a){0>Oe||(a.current=le[Oe],le[Oe]=null,Oe--)}function ee(a,i){Oe++,le[Oe]=a.current,a.current=i}var ne=P(null),he=P(null),we=P(null),ue=P(null);function rt(a,i){switch(ee(we,i),ee(he,a),ee(ne,null),i.nodeType){case 9:case 11:a=(a=i.documentElement)&&(a=a.namespaceURI)?gw(a):0;break;default:if(a=i.tagName,i=i.namespaceURI)i=gw(i),a=bw(i,a);else switch(a){case"svg":a=1;break;case"math":a=2;break;default:a=0}}K(ne),ee(ne,a)}function V(){K(ne),K(he),K(we)}function be(a){a.memoizedState!==null&&ee(ue,a);var i=ne.current,u=bw(i,a.type);i!==u&&(ee(he,a),ee(ne,u))}function Ae(a){he.current===a&&(K(ne),K(he)),ue.current===a&&(K(ue),nu._currentValue=X)}var te,Bt;function ke(a){if(te===void 0)try{throw Error()}catch(u){var i=u.stack.trim().match(/\n( *(at )?)/);te=i&&i[1]||"",Bt=-1<u.stack.indexOf(`
-    at`)?" (<anonymous>)":-1<u.stack.indexOf("@")?"@unknown:0:0":""}return`
-`+te+a+Bt}var Ut=!1;function It(a,i){if(!a||Ut)return"";Ut=!0;var u=Error.prepareStackTrace;Error.prepareStackTrace=void 0;try{var s={DetermineComponentFrameRoot:function(){try{if(i){var Z=function(){throw Error()};if(Object.defineProperty(Z.prototype,"props",{set:function(){throw Error()}}),typeof Reflect=="object"&&Reflect.construct){try{Reflect.construct(Z,[])}catch($){var H=$}Reflect.construct(a,[],Z)}else{try{Z.call()}catch($){H=$}a.call(Z.prototype)}}else{try{throw Error()}catch($){H=$}(Z=a())&&typeof Z.catch=="function"&&Z.catch(function(){})}}catch($){if($&&H&&typeof $.stack=="string")return[$.stack,H.stack]}return[null,null]}};s.DetermineComponentFrameRoot.displayName="DetermineComponentFrameRoot";var v=Object.getOwnPropertyDescriptor(s.DetermineComponentFrameRoot,"name");v&&v.configurable&&Object.defineProperty(s.DetermineComponentFrameRoot,"name",{value:"DetermineComponentFrameRoot"});var y=s.DetermineComponentFrameRoot(),S=y[0],N=y[1];if(S&&N){var M=S.split(`
-`),U=N.split(`
-`);for(v=s=0;s<M.length&&!M[s].includes("DetermineComponentFrameRoot");)s++;for(;v<U.length&&!U[v].includes("DetermineComponentFrameRoot");)v++;if(s===M.length||v===U.length)for(s=M.length-1,v=U.length-1;1<=s&&0<=v&&M[s]!==U[v];)v--;for(;1<=s&&0<=v;s--,v--)if(M[s]!==U[v]){if(s!==1||v!==1)do if(s--,v--,0>v||M[s]!==U[v]){var G=`
-`+M[s].replace(" at new "," at ");return a.displayName&&G.includes("<anonymous>")&&(G=G.replace("<anonymous>",a.displayName)),G}while(1<=s&&0<=v);break}}}finally{Ut=!1,Error.prepareStackTrace=u}return(u=a?a.displayName||a.name:"")?ke(u):""}function jr(a,i){switch(a.tag){case 26:case 27:case 5:return ke(a.type);case 16:return ke("Lazy");case 13:return a.child!==i&&i!==null?ke("Suspense Fallback"):ke("Suspense");case 19:return ke("SuspenseList");case 0:case 15:return It(a.type,!1);case 11:return It(a.type.render,!1);case 1:return It(a.type,!0);case 31:return ke("Activity");default:return""}}function ho(a){try{var i="",u=null;do i+=jr(a,u),u=a,a=a.return;while(a);return i}catch(s){return`
-Error generating stack: `+s.message+`
-`+s.stack}}var Yd=Object.prototype.hasOwnProperty,Kd=e.unstable_scheduleCallback,Gd=e.unstable_cancelCallback,tD=e.unstable_shouldYield,nD=e.unstable_requestPaint,xn=e.unstable_now,rD=e.unstable_getCurrentPriorityLevel,W0=e.unstable_ImmediatePriority,Z0=e.unstable_UserBlockingPriority,sc=e.unstable_NormalPriority,aD=e.unstable_LowPriority,Q0=e.unstable_IdlePriority,iD=e.log,lD=e.unstable_setDisableYieldValue,mo=null,wn=null;function ya(a){if(typeof iD=="function"&&lD(a),wn&&typeof wn.setStrictMode=="function")try{wn.setStrictMode(mo,a)}catch{}}var Sn=Math.clz32?Math.clz32:cD,oD=Math.log,uD=Math.LN2;function cD(a){return a>>>=0,a===0?32:31-(oD(a)/uD|0)|0}var fc=256,dc=262144,hc=4194304;function ti(a){var i=a&42;if(i!==0)return i;switch(a&-a){case 1:return 1;case 2:return 2;case 4:return 4;case 8:return 8;case 16:return 16;case 32:return 32;case 64:return 64;case 128:return 128;case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:return a&261888;case 262144:case 524288:case 1048576:case 2097152:return a&3932160;case 4194304:case 8388608:case 16777216:case 33554432:return a&62914560;case 67108864:return 67108864;case 134217728:return 134217728;case 268435456:return 268435456;case 536870912:return 536870912;case 1073741824:return 0;default:return a}}function mc(a,i,u){var s=a.pendingLanes;if(s===0)return 0;var v=0,y=a.suspendedLanes,S=a.pingedLanes;a=a.warmLanes;var N=s&134217727;return N!==0?(s=N&~y,s!==0?v=ti(s):(S&=N,S!==0?v=ti(S):u||(u=N&~a,u!==0&&(v=ti(u))))):(N=s&~y,N!==0?v=ti(N):S!==0?v=ti(S):u||(u=s&~a,u!==0&&(v=ti(u)))),v===0?0:i!==0&&i!==v&&(i&y)===0&&(y=v&-v,u=i&-i,y>=u||y===32&&(u&4194048)!==0)?i:v}function vo(a,i){return(a.pendingLanes&~(a.suspendedLanes&~a.pingedLanes)&i)===0}function sD(a,i){switch(a){case 1:case 2:case 4:case 8:case 64:return i+250;case 16:case 32:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return i+5e3;case 4194304:case 8388608:case 16777216:case 33554432:return-1;case 67108864:case 134217728:case 268435456:case 536870912:case 1073741824:return-1;default:return-1}}function J0(){var a=hc;return hc<<=1,(hc&62914560)===0&&(hc=4194304),a}function Vd(a){for(var i=[],u=0;31>u;u++)i.push(a);return i}function po(a,i){a.pendingLanes|=i,i!==268435456&&(a.suspendedLanes=0,a.pingedLanes=0,a.warmLanes=0)}function fD(a,i,u,s,v,y){var S=a.pendingLanes;a.pendingLanes=u,a.suspendedLanes=0,a.pingedLanes=0,a.warmLanes=0,a.expiredLanes&=u,a.entangledLanes&=u,a.errorRecoveryDisabledLanes&=u,a.shellSuspendCounter=0;var N=a.entanglements,M=a.expirationTimes,U=a.hiddenUpdates;for(u=S&~u;0<u;){var G=31-Sn(u),Z=1<<G;N[G]=0,M[G]=-1;var H=U[G];if(H!==null)for(U[G]=null,G=0;G<H.length;G++){var $=H[G];$!==null&&($.lane&=-536870913)}u&=~Z}s!==0&&eb(a,s,0),y!==0&&v===0&&a.tag!==0&&(a.suspendedLanes|=y&~(S&~i))}function eb(a,i,u){a.pendingLanes|=i,a.suspendedLanes&=~i;var s=31-Sn(i);a.entangledLanes|=i,a.entanglements[s]=a.entanglements[s]|1073741824|u&261930}function tb(a,i){var u=a.entangledLanes|=i;for(a=a.entanglements;u;){var s=31-Sn(u),v=1<<s;v&i|a[s]&i&&(a[s]|=i),u&=~v}}function nb(a,i){var u=i&-i;return u=(u&42)!==0?1:Xd(u),(u&(a.suspendedLanes|i))!==0?0:u}function Xd(a){switch(a){case 2:a=1;break;case 8:a=4;break;case 32:a=16;break;case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:case 4194304:case 8388608:case 16777216:case 33554432:a=128;break;case 268435456:a=134217728;break;default:a=0}return a}function Fd(a){return a&=-a,2<a?8<a?(a&134217727)!==0?32:268435456:8:2}function rb(){var a=Q.p;return a!==0?a:(a=window.event,a===void 0?32:Hw(a.type))}function ab(a,i){var u=Q.p;try{return Q.p=a,i()}finally{Q.p=u}}var ga=Math.random().toString(36).slice(2),qt="__reactFiber$"+ga,un="__reactProps$"+ga,Ii="__reactContainer$"+ga,Wd="__reactEvents$"+ga,dD="__reactListeners$"+ga,hD="__reactHandles$"+ga,ib="__reactResources$"+ga,yo="__reactMarker$"+ga;function Zd(a){delete a[qt],delete a[un],delete a[Wd],delete a[dD],delete a[hD]}function qi(a){var i=a[qt];if(i)return i;for(var u=a.parentNode;u;){if(i=u[Ii]||u[qt]){if(u=i.alternate,i.child!==null||u!==null&&u.child!==null)for(a=jw(a);a!==null;){if(u=a[qt])return u;a=jw(a)}return i}a=u,u=a.parentNode}return null}function Hi(a){if(a=a[qt]||a[Ii]){var i=a.tag;if(i===5||i===6||i===13||i===31||i===26||i===27||i===3)return a}return null}function go(a){var i=a.tag;if(i===5||i===26||i===27||i===6)return a.stateNode;throw Error(r(33))}function $i(a){var i=a[ib];return i||(i=a[ib]={hoistableStyles:new Map,hoistableScripts:new Map}),i}function Nt(a){a[yo]=!0}var lb=new Set,ob={};function ni(a,i){Yi(a,i),Yi(a+"Capture",i)}function Yi(a,i){for(ob[a]=i,a=0;a<i.length;a++)lb.add(i[a])}var mD=RegExp("^[:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD][:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD\\-.0-9\\u00B7\\u0300-\\u036F\\u203F-\\u2040]*$"),ub={},cb={};function vD(a){return Yd.call(cb,a)?!0:Yd.call(ub,a)?!1:mD.test(a)?cb[a]=!0:(ub[a]=!0,!1)}function vc(a,i,u){if(vD(i))if(u===null)a.removeAttribute(i);else{switch(typeof u){case"undefined":case"function":case"symbol":a.removeAttribute(i);return;case"boolean":var s=i.toLowerCase().slice(0,5);if(s!=="data-"&&s!=="aria-"){a.removeAttribute(i);return}}a.setAttribute(i,""+u)}}function pc(a,i,u){if(u===null)a.removeAttribute(i);else{switch(typeof u){case"undefined":case"function":case"symbol":case"boolean":a.removeAttribute(i);return}a.setAttribute(i,""+u)}}function Nr(a,i,u,s){if(s===null)a.removeAttribute(u);else{switch(typeof s){case"undefined":case"function":case"symbol":case"boolean":a.removeAttribute(u);return}a.setAttributeNS(i,u,""+s)}}function zn(a){switch(typeof a){case"bigint":case"boolean":case"number":case"string":case"undefined":return a;case"object":return a;default:return""}}function sb(a){var i=a.type;return(a=a.nodeName)&&a.toLowerCase()==="input"&&(i==="checkbox"||i==="radio")}function pD(a,i,u){var s=Object.getOwnPropertyDescriptor(a.constructor.prototype,i);if(!a.hasOwnProperty(i)&&typeof s<"u"&&typeof s.get=="function"&&typeof s.set=="function"){var v=s.get,y=s.set;return Object.defineProperty(a,i,{configurable:!0,get:function(){return v.call(this)},set:function(S){u=""+S,y.call(this,S)}}),Object.defineProperty(a,i,{enumerable:s.enumerable}),{getValue:function(){return u},setValue:function(S){u=""+S},stopTracking:function(){a._valueTracker=null,delete a[i]}}}}function Qd(a){if(!a._valueTracker){var i=sb(a)?"checked":"value";a._valueTracker=pD(a,i,""+a[i])}}function fb(a){if(!a)return!1;var i=a._valueTracker;if(!i)return!0;var u=i.getValue(),s="";return a&&(s=sb(a)?a.checked?"true":"false":a.value),a=s,a!==u?(i.setValue(a),!0):!1}function yc(a){if(a=a||(typeof document<"u"?document:void 0),typeof a>"u")return null;try{return a.activeElement||a.body}catch{return a.body}}var yD=/[\n"\\]/g;function Ln(a){return a.replace(yD,function(i){return"\\"+i.charCodeAt(0).toString(16)+" "})}function Jd(a,i,u,s,v,y,S,N){a.name="",S!=null&&typeof S!="function"&&typeof S!="symbol"&&typeof S!="boolean"?a.type=S:a.removeAttribute("type"),i!=null?S==="number"?(i===0&&a.value===""||a.value!=i)&&(a.value=""+zn(i)):a.value!==""+zn(i)&&(a.value=""+zn(i)):S!=="submit"&&S!=="reset"||a.removeAttribute("value"),i!=null?eh(a,S,zn(i)):u!=null?eh(a,S,zn(u)):s!=null&&a.removeAttribute("value"),v==null&&y!=null&&(a.defaultChecked=!!y),v!=null&&(a.checked=v&&typeof v!="function"&&typeof v!="symbol"),N!=null&&typeof N!="function"&&typeof N!="symbol"&&typeof N!="boolean"?a.name=""+zn(N):a.removeAttribute("name")}function db(a,i,u,s,v,y,S,N){if(y!=null&&typeof y!="function"&&typeof y!="symbol"&&typeof y!="boolean"&&(a.type=y),i!=null||u!=null){if(!(y!=="submit"&&y!=="reset"||i!=null)){Qd(a);return}u=u!=null?""+zn(u):"",i=i!=null?""+zn(i):u,N||i===a.value||(a.value=i),a.defaultValue=i}s=s??v,s=typeof s!="function"&&typeof s!="symbol"&&!!s,a.checked=N?a.checked:!!s,a.defaultChecked=!!s,S!=null&&typeof S!="function"&&typeof S!="symbol"&&typeof S!="boolean"&&(a.name=S),Qd(a)}function eh(a,i,u){i==="number"&&yc(a.ownerDocument)===a||a.defaultValue===""+u||(a.defaultValue=""+u)}function Ki(a,i,u,s){if(a=a.options,i){i={};for(var v=0;v<u.length;v++)i["$"+u[v]]=!0;for(u=0;u<a.length;u++)v=i.hasOwnProperty("$"+a[u].value),a[u].selected!==v&&(a[u].selected=v),v&&s&&(a[u].defaultSelected=!0)}else{for(u=""+zn(u),i=null,v=0;v<a.length;v++){if(a[v].value===u){a[v].selected=!0,s&&(a[v].defaultSelected=!0);return}i!==null||a[v].disabled||(i=a[v])}i!==null&&(i.selected=!0)}}function hb(a,i,u){if(i!=null&&(i=""+zn(i),i!==a.value&&(a.value=i),u==null)){a.defaultValue!==i&&(a.defaultValue=i);return}a.defaultValue=u!=null?""+zn(u):""}function mb(a,i,u,s){if(i==null){if(s!=null){if(u!=null)throw Error(r(92));if(xe(s)){if(1<s.length)throw Error(r(93));s=s[0]}u=s}u==null&&(u=""),i=u}u=zn(i),a.defaultValue=u,s=a.textContent,s===u&&s!==""&&s!==null&&(a.value=s),Qd(a)}function Gi(a,i){if(i){var u=a.firstChild;if(u&&u===a.lastChild&&u.nodeType===3){u.nodeValue=i;return}}a.textContent=i}var gD=new Set("animationIterationCount aspectRatio borderImageOutset borderImageSlice borderImageWidth boxFlex boxFlexGroup boxOrdinalGroup columnCount columns flex flexGrow flexPositive flexShrink flexNegative flexOrder gridArea gridRow gridRowEnd gridRowSpan gridRowStart gridColumn gridColumnEnd gridColumnSpan gridColumnStart fontWeight lineClamp lineHeight opacity order orphans scale tabSize widows zIndex zoom fillOpacity floodOpacity stopOpacity strokeDasharray strokeDashoffset strokeMiterlimit strokeOpacity strokeWidth MozAnimationIterationCount MozBoxFlex MozBoxFlexGroup MozLineClamp msAnimationIterationCount msFlex msZoom msFlexGrow msFlexNegative msFlexOrder msFlexPositive msFlexShrink msGridColumn msGridColumnSpan msGridRow msGridRowSpan WebkitAnimationIterationCount WebkitBoxFlex WebKitBoxFlexGroup WebkitBoxOrdinalGroup WebkitColumnCount WebkitColumns WebkitFlex WebkitFlexGrow WebkitFlexPositive WebkitFlexShrink WebkitLineClamp".split(" "));function vb(a,i,u){var s=i.indexOf("--")===0;u==null||typeof u=="boolean"||u===""?s?a.setProperty(i,""):i==="float"?a.cssFloat="":a[i]="":s?a.setProperty(i,u):typeof u!="number"||u===0||gD.has(i)?i==="float"?a.cssFloat=u:a[i]=(""+u).trim():a[i]=u+"px"}function pb(a,i,u){if(i!=null&&typeof i!="object")throw Error(r(62));if(a=a.style,u!=null){for(var s in u)!u.hasOwnProperty(s)||i!=null&&i.hasOwnProperty(s)||(s.indexOf("--")===0?a.setProperty(s,""):s==="float"?a.cssFloat="":a[s]="");for(var v in i)s=i[v],i.hasOwnProperty(v)&&u[v]!==s&&vb(a,v,s)}else for(var y in i)i.hasOwnProperty(y)&&vb(a,y,i[y])}function th(a){if(a.indexOf("-")===-1)return!1;switch(a){case"annotation-xml":case"color-profile":case"font-face":case"font-face-src":case"font-face-uri":case"font-face-format":case"font-face-name":case"missing-glyph":return!1;default:return!0}}var bD=new Map([["acceptCharset","accept-charset"],["htmlFor","for"],["httpEquiv","http-equiv"],["crossOrigin","crossorigin"],["accentHeight","accent-height"],["alignmentBaseline","alignment-baseline"],["arabicForm","arabic-form"],["baselineShift","baseline-shift"],["capHeight","cap-height"],["clipPath","clip-path"],["clipRule","clip-rule"],["colorInterpolation","color-interpolation"],["colorInterpolationFilters","color-interpolation-filters"],["colorProfile","color-profile"],["colorRendering","color-rendering"],["dominantBaseline","dominant-baseline"],["enableBackground","enable-background"],["fillOpacity","fill-opacity"],["fillRule","fill-rule"],["floodColor","flood-color"],["floodOpacity","flood-opacity"],["fontFamily","font-family"],["fontSize","font-size"],["fontSizeAdjust","font-size-adjust"],["fontStretch","font-stretch"],["fontStyle","font-style"],["fontVariant","font-variant"],["fontWeight","font-weight"],["glyphName","glyph-name"],["glyphOrientationHorizontal","glyph-orientation-horizontal"],["glyphOrientationVertical","glyph-orientation-vertical"],["horizAdvX","horiz-adv-x"],["horizOriginX","horiz-origin-x"],["imageRendering","image-rendering"],["letterSpacing","letter-spacing"],["lightingColor","lighting-color"],["markerEnd","marker-end"],["markerMid","marker-mid"],["markerStart","marker-start"],["overlinePosition","overline-position"],["overlineThickness","overline-thickness"],["paintOrder","paint-order"],["panose-1","panose-1"],["pointerEvents","pointer-events"],["renderingIntent","rendering-intent"],["shapeRendering","shape-rendering"],["stopColor","stop-color"],["stopOpacity","stop-opacity"],["strikethroughPosition","strikethrough-position"],["strikethroughThickness","strikethrough-thickness"],["strokeDasharray","stroke-dasharray"],["strokeDashoffset","stroke-dashoffset"],["strokeLinecap","stroke-linecap"],["strokeLinejoin","stroke-linejoin"],["strokeMiterlimit","stroke-miterlimit"],["strokeOpacity","stroke-opacity"],["strokeWidth","stroke-width"],["textAnchor","text-anchor"],["textDecoration","text-decoration"],["textRendering","text-rendering"],["transformOrigin","transform-origin"],["underlinePosition","underline-position"],["underlineThickness","underline-thickness"],["unicodeBidi","unicode-bidi"],["unicodeRange","unicode-range"],["unitsPerEm","units-per-em"],["vAlphabetic","v-alphabetic"],["vHanging","v-hanging"],["vIdeographic","v-ideographic"],["vMathematical","v-mathematical"],["vectorEffect","vector-effect"],["vertAdvY","vert-adv-y"],["vertOriginX","vert-origin-x"],["vertOriginY","vert-origin-y"],["wordSpacing","word-spacing"],["writingMode","writing-mode"],["xmlnsXlink","xmlns:xlink"],["xHeight","x-height"]]),xD=/^[\u0000-\u001F ]*j[\r\n\t]*a[\r\n\t]*v[\r\n\t]*a[\r\n\t]*s[\r\n\t]*c[\r\n\t]*r[\r\n\t]*i[\r\n\t]*p[\r\n\t]*t[\r\n\t]*:/i;function gc(a){return xD.test(""+a)?"javascript:throw new Error('React has blocked a javascript: URL as a security precaution.')":a}function Cr(){}var nh=null;function rh(a){return a=a.target||a.srcElement||window,a.correspondingUseElement&&(a=a.correspondingUseElement),a.nodeType===3?a.parentNode:a}var Vi=null,Xi=null;function yb(a){var i=Hi(a);if(i&&(a=i.stateNode)){var u=a[un]||null;e:switch(a=i.stateNode,i.type){case"input":if(Jd(a,u.value,u.defaultValue,u.defaultValue,u.checked,u.defaultChecked,u.type,u.name),i=u.name,u.type==="radio"&&i!=null){for(u=a;u.parentNode;)u=u.parentNode;for(u=u.querySelectorAll('input[name="'+Ln(""+i)+'"][type="radio"]'),i=0;i<u.length;i++){var s=u[i];if(s!==a&&s.form===a.form){var v=s[un]||null;if(!v)throw Error(r(90));Jd(s,v.value,v.defaultValue,v.defaultValue,v.checked,v.defaultChecked,v.type,v.name)}}for(i=0;i<u.length;i++)s=u[i],s.form===a.form&&fb(s)}break e;case"textarea":hb(a,u.value,u.defaultValue);break e;case"select":i=u.value,i!=null&&Ki(a,!!u.multiple,i,!1)}}}var ah=!1;function gb(a,i,u){if(ah)return a(i,u);ah=!0;try{var s=a(i);return s}finally{if(ah=!1,(Vi!==null||Xi!==null)&&(is(),Vi&&(i=Vi,a=Xi,Xi=Vi=null,yb(i),a)))for(i=0;i<a.length;i++)yb(a[i])}}function bo(a,i){var u=a.stateNode;if(u===null)return null;var s=u[un]||null;if(s===null)return null;u=s[i];e:switch(i){case"onClick":case"onClickCapture":case"onDoubleClick":case"onDoubleClickCapture":case"onMouseDown":case"onMouseDownCapture":case"onMouseMove":case"onMouseMoveCapture":case"onMouseUp":case"onMouseUpCapture":case"onMouseEnter":(s=!s.disabled)||(a=a.type,s=!(a==="button"||a==="input"||a==="select"||a==="textarea")),a=!s;break e;default:a=!1}if(a)return null;if(u&&typeof u!="function")throw Error(r(231,i,typeof u));return u}var _r=!(typeof window>"u"||typeof window.document>"u"||typeof window.document.createElement>"u"),ih=!1;if(_r)try{var xo={};Object.defineProperty(xo,"passive",{get:function(){ih=!0}}),window.addEventListener("test",xo,xo),window.removeEventListener("test",xo,xo)}catch{ih=!1}var ba=null,lh=null,bc=null;function bb(){if(bc)return bc;var a,i=lh,u=i.length,s,v="value"in ba?ba.value:ba.textContent,y=v.length;for(a=0;a<u&&i[a]===v[a];a++);var S=u-a;for(s=1;s<=S&&i[u-s]===v[y-s];s++);return bc=v.slice(a,1<s?1-s:void 0)}function xc(a){var i=a.keyCode;return"charCode"in a?(a=a.charCode,a===0&&i===13&&(a=13)):a=i,a===10&&(a=13),32<=a||a===13?a:0}function wc(){return!0}function xb(){return!1}function cn(a){function i(u,s,v,y,S){this._reactName=u,this._targetInst=v,this.type=s,this.nativeEvent=y,this.target=S,this.currentTarget=null;for(var N in a)a.hasOwnProperty(N)&&(u=a[N],this[N]=u?u(y):y[N]);return this.isDefaultPrevented=(y.defaultPrevented!=null?y.defaultPrevented:y.returnValue===!1)?wc:xb,this.isPropagationStopped=xb,this}return p(i.prototype,{preventDefault:function(){this.defaultPrevented=!0;var u=this.nativeEvent;u&&(u.preventDefault?u.preventDefault():typeof u.returnValue!="unknown"&&(u.returnValue=!1),this.isDefaultPrevented=wc)},stopPropagation:function(){var u=this.nativeEvent;u&&(u.stopPropagation?u.stopPropagation():typeof u.cancelBubble!="unknown"&&(u.cancelBubble=!0),this.isPropagationStopped=wc)},persist:function(){},isPersistent:wc}),i}var ri={eventPhase:0,bubbles:0,cancelable:0,timeStamp:function(a){return a.timeStamp||Date.now()},defaultPrevented:0,isTrusted:0},Sc=cn(ri),wo=p({},ri,{view:0,detail:0}),wD=cn(wo),oh,uh,So,Ec=p({},wo,{screenX:0,screenY:0,clientX:0,clientY:0,pageX:0,pageY:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,getModifierState:sh,button:0,buttons:0,relatedTarget:function(a){return a.relatedTarget===void 0?a.fromElement===a.srcElement?a.toElement:a.fromElement:a.relatedTarget},movementX:function(a){return"movementX"in a?a.movementX:(a!==So&&(So&&a.type==="mousemove"?(oh=a.screenX-So.screenX,uh=a.screenY-So.screenY):uh=oh=0,So=a),oh)},movementY:function(a){return"movementY"in a?a.movementY:uh}}),wb=cn(Ec),SD=p({},Ec,{dataTransfer:0}),ED=cn(SD),OD=p({},wo,{relatedTarget:0}),ch=cn(OD),AD=p({},ri,{animationName:0,elapsedTime:0,pseudoElement:0}),jD=cn(AD),ND=p({},ri,{clipboardData:function(a){return"clipboardData"in a?a.clipboardData:window.clipboardData}}),CD=cn(ND),_D=p({},ri,{data:0}),Sb=cn(_D),TD={Esc:"Escape",Spacebar:" ",Left:"ArrowLeft",Up:"ArrowUp",Right:"ArrowRight",Down:"ArrowDown",Del:"Delete",Win:"OS",Menu:"ContextMenu",Apps:"ContextMenu",Scroll:"ScrollLock",MozPrintableKey:"Unidentified"},MD={8:"Backspace",9:"Tab",12:"Clear",13:"Enter",16:"Shift",17:"Control",18:"Alt",19:"Pause",20:"CapsLock",27:"Escape",32:" ",33:"PageUp",34:"PageDown",35:"End",36:"Home",37:"ArrowLeft",38:"ArrowUp",39:"ArrowRight",40:"ArrowDown",45:"Insert",46:"Delete",112:"F1",113:"F2",114:"F3",115:"F4",116:"F5",117:"F6",118:"F7",119:"F8",120:"F9",121:"F10",122:"F11",123:"F12",144:"NumLock",145:"ScrollLock",224:"Meta"},DD={Alt:"altKey",Control:"ctrlKey",Meta:"metaKey",Shift:"shiftKey"};function kD(a){var i=this.nativeEvent;return i.getModifierState?i.getModifierState(a):(a=DD[a])?!!i[a]:!1}function sh(){return kD}var PD=p({},wo,{key:function(a){if(a.key){var i=TD[a.key]||a.key;if(i!=="Unidentified")return i}return a.type==="keypress"?(a=xc(a),a===13?"Enter":String.fromCharCode(a)):a.type==="keydown"||a.type==="keyup"?MD[a.keyCode]||"Unidentified":""},code:0,location:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,repeat:0,locale:0,getModifierState:sh,charCode:function(a){return a.type==="keypress"?xc(a):0},keyCode:function(a){return a.type==="keydown"||a.type==="keyup"?a.keyCode:0},which:function(a){return a.type==="keypress"?xc(a):a.type==="keydown"||a.type==="keyup"?a.keyCode:0}}),RD=cn(PD),zD=p({},Ec,{pointerId:0,width:0,height:0,pressure:0,tangentialPressure:0,tiltX:0,tiltY:0,twist:0,pointerType:0,isPrimary:0}),Eb=cn(zD),LD=p({},wo,{touches:0,targetTouches:0,changedTouches:0,altKey:0,metaKey:0,ctrlKey:0,shiftKey:0,getModifierState:sh}),BD=cn(LD),UD=p({},ri,{propertyName:0,elapsedTime:0,pseudoElement:0}),ID=cn(UD),qD=p({},Ec,{deltaX:function(a){return"deltaX"in a?a.deltaX:"wheelDeltaX"in a?-a.wheelDeltaX:0},deltaY:function(a){return"deltaY"in a?a.deltaY:"wheelDeltaY"in a?-a.wheelDeltaY:"wheelDelta"in a?-a.wheelDelta:0},deltaZ:0,deltaMode:0}),HD=cn(qD),$D=p({},ri,{newState:0,oldState:0}),YD=cn($D),KD=[9,13,27,32],fh=_r&&"CompositionEvent"in window,Eo=null;_r&&"documentMode"in document&&(Eo=document.documentMode);var GD=_r&&"TextEvent"in window&&!Eo,Ob=_r&&(!fh||Eo&&8<Eo&&11>=Eo),Ab=" ",jb=!1;function Nb(a,i){switch(a){case"keyup":return KD.indexOf(i.keyCode)!==-1;case"keydown":return i.keyCode!==229;case"keypress":case"mousedown":case"focusout":return!0;default:return!1}}function Cb(a){return a=a.detail,typeof a=="object"&&"data"in a?a.data:null}var Fi=!1;function VD(a,i){switch(a){case"compositionend":return Cb(i);case"keypress":return i.which!==32?null:(jb=!0,Ab);case"textInput":return a=i.data,a===Ab&&jb?null:a;default:return null}}function XD(a,i){if(Fi)return a==="compositionend"||!fh&&Nb(a,i)?(a=bb(),bc=lh=ba=null,Fi=!1,a):null;switch(a){case"paste":return null;case"keypress":if(!(i.ctrlKey||i.altKey||i.metaKey)||i.ctrlKey&&i.altKey){if(i.char&&1<i.char.length)return i.char;if(i.which)return String.fromCharCode(i.which)}return null;case"compositionend":return Ob&&i.locale!=="ko"?null:i.data;default:return null}}var FD={color:!0,date:!0,datetime:!0,"datetime-local":!0,email:!0,month:!0,number:!0,password:!0,range:!0,search:!0,tel:!0,text:!0,time:!0,url:!0,week:!0};function _b(a){var i=a&&a.nodeName&&a.nodeName.toLowerCase();return i==="input"?!!FD[a.type]:i==="textarea"}function Tb(a,i,u,s){Vi?Xi?Xi.push(s):Xi=[s]:Vi=s,i=ds(i,"onChange"),0<i.length&&(u=new Sc("onChange","change",null,u,s),a.push({event:u,listeners:i}))}var Oo=null,Ao=null;function WD(a){dw(a,0)}function Oc(a){var i=go(a);if(fb(i))return a}function Mb(a,i){if(a==="change")return i}var Db=!1;if(_r){var dh;if(_r){var hh="oninput"in document;if(!hh){var kb=document.createElement("div");kb.setAttribute("oninput","return;"),hh=typeof kb.oninput=="function"}dh=hh}else dh=!1;Db=dh&&(!document.documentMode||9<document.documentMode)}function Pb(){Oo&&(Oo.detachEvent("onpropertychange",Rb),Ao=Oo=null)}function Rb(a){if(a.propertyName==="value"&&Oc(Ao)){var i=[];Tb(i,Ao,a,rh(a)),gb(WD,i)}}function ZD(a,i,u){a==="focusin"?(Pb(),Oo=i,Ao=u,Oo.attachEvent("onpropertychange",Rb)):a==="focusout"&&Pb()}function QD(a){if(a==="selectionchange"||a==="keyup"||a==="keydown")return Oc(Ao)}function JD(a,i){if(a==="click")return Oc(i)}function ek(a,i){if(a==="input"||a==="change")return Oc(i)}function tk(a,i){return a===i&&(a!==0||1/a===1/i)||a!==a&&i!==i}var En=typeof Object.is=="function"?Object.is:tk;function jo(a,i){if(En(a,i))return!0;if(typeof a!="object"||a===null||typeof i!="object"||i===null)return!1;var u=Object.keys(a),s=Object.keys(i);if(u.length!==s.length)return!1;for(s=0;s<u.length;s++){var v=u[s];if(!Yd.call(i,v)||!En(a[v],i[v]))return!1}return!0}function zb(a){for(;a&&a.firstChild;)a=a.firstChild;return a}function Lb(a,i){var u=zb(a);a=0;for(var s;u;){if(u.nodeType===3){if(s=a+u.textContent.length,a<=i&&s>=i)return{node:u,offset:i-a};a=s}e:{for(;u;){if(u.nextSibling){u=u.nextSibling;break e}u=u.parentNode}u=void 0}u=zb(u)}}function Bb(a,i){return a&&i?a===i?!0:a&&a.nodeType===3?!1:i&&i.nodeType===3?Bb(a,i.parentNode):"contains"in a?a.contains(i):a.compareDocumentPosition?!!(a.compareDocumentPosition(i)&16):!1:!1}function Ub(a){a=a!=null&&a.ownerDocument!=null&&a.ownerDocument.defaultView!=null?a.ownerDocument.defaultView:window;for(var i=yc(a.document);i instanceof a.HTMLIFrameElement;){try{var u=typeof i.contentWindow.location.href=="string"}catch{u=!1}if(u)a=i.contentWindow;else break;i=yc(a.document)}return i}function mh(a){var i=a&&a.nodeName&&a.nodeName.toLowerCase();return i&&(i==="input"&&(a.type==="text"||a.type==="search"||a.type==="tel"||a.type==="url"||a.type==="password")||i==="textarea"||a.contentEditable==="true")}var nk=_r&&"documentMode"in document&&11>=document.documentMode,Wi=null,vh=null,No=null,ph=!1;function Ib(a,i,u){var s=u.window===u?u.document:u.nodeType===9?u:u.ownerDocument;ph||Wi==null||Wi!==yc(s)||(s=Wi,"selectionStart"in s&&mh(s)?s={start:s.selectionStart,end:s.selectionEnd}:(s=(s.ownerDocument&&s.ownerDocument.defaultView||window).getSelection(),s={anchorNode:s.anchorNode,anchorOffset:s.anchorOffset,focusNode:s.focusNode,focusOffset:s.focusOffset}),No&&jo(No,s)||(No=s,s=ds(vh,"onSelect"),0<s.length&&(i=new Sc("onSelect","select",null,i,u),a.push({event:i,listeners:s}),i.target=Wi)))}function ai(a,i){var u={};return u[a.toLowerCase()]=i.toLowerCase(),u["Webkit"+a]="webkit"+i,u["Moz"+a]="moz"+i,u}var Zi={animationend:ai("Animation","AnimationEnd"),animationiteration:ai("Animation","AnimationIteration"),animationstart:ai("Animation","AnimationStart"),transitionrun:ai("Transition","TransitionRun"),transitionstart:ai("Transition","TransitionStart"),transitioncancel:ai("Transition","TransitionCancel"),transitionend:ai("Transition","TransitionEnd")},yh={},qb={};_r&&(qb=document.createElement("div").style,"AnimationEvent"in window||(delete Zi.animationend.animation,delete Zi.animationiteration.animation,delete Zi.animationstart.animation),"TransitionEvent"in window||delete Zi.transitionend.transition);function ii(a){if(yh[a])return yh[a];if(!Zi[a])return a;var i=Zi[a],u;for(u in i)if(i.hasOwnProperty(u)&&u in qb)return yh[a]=i[u];return a}var Hb=ii("animationend"),$b=ii("animationiteration"),Yb=ii("animationstart"),rk=ii("transitionrun"),ak=ii("transitionstart"),ik=ii("transitioncancel"),Kb=ii("transitionend"),Gb=new Map,gh="abort auxClick beforeToggle cancel canPlay canPlayThrough click close contextMenu copy cut drag dragEnd dragEnter dragExit dragLeave dragOver dragStart drop durationChange emptied encrypted ended error gotPointerCapture input invalid keyDown keyPress keyUp load loadedData loadedMetadata loadStart lostPointerCapture mouseDown mouseMove mouseOut mouseOver mouseUp paste pause play playing pointerCancel pointerDown pointerMove pointerOut pointerOver pointerUp progress rateChange reset resize seeked seeking stalled submit suspend timeUpdate touchCancel touchEnd touchStart volumeChange scroll toggle touchMove waiting wheel".split(" ");gh.push("scrollEnd");function tr(a,i){Gb.set(a,i),ni(i,[a])}var Ac=typeof reportError=="function"?reportError:function(a){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var i=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof a=="object"&&a!==null&&typeof a.message=="string"?String(a.message):String(a),error:a});if(!window.dispatchEvent(i))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",a);return}console.error(a)},Bn=[],Qi=0,bh=0;function jc(){for(var a=Qi,i=bh=Qi=0;i<a;){var u=Bn[i];Bn[i++]=null;var s=Bn[i];Bn[i++]=null;var v=Bn[i];Bn[i++]=null;var y=Bn[i];if(Bn[i++]=null,s!==null&&v!==null){var S=s.pending;S===null?v.next=v:(v.next=S.next,S.next=v),s.pending=v}y!==0&&Vb(u,v,y)}}function Nc(a,i,u,s){Bn[Qi++]=a,Bn[Qi++]=i,Bn[Qi++]=u,Bn[Qi++]=s,bh|=s,a.lanes|=s,a=a.alternate,a!==null&&(a.lanes|=s)}function xh(a,i,u,s){return Nc(a,i,u,s),Cc(a)}function li(a,i){return Nc(a,null,null,i),Cc(a)}function Vb(a,i,u){a.lanes|=u;var s=a.alternate;s!==null&&(s.lanes|=u);for(var v=!1,y=a.return;y!==null;)y.childLanes|=u,s=y.alternate,s!==null&&(s.childLanes|=u),y.tag===22&&(a=y.stateNode,a===null||a._visibility&1||(v=!0)),a=y,y=y.return;return a.tag===3?(y=a.stateNode,v&&i!==null&&(v=31-Sn(u),a=y.hiddenUpdates,s=a[v],s===null?a[v]=[i]:s.push(i),i.lane=u|536870912),y):null}function Cc(a){if(50<Fo)throw Fo=0,_m=null,Error(r(185));for(var i=a.return;i!==null;)a=i,i=a.return;return a.tag===3?a.stateNode:null}var Ji={};function lk(a,i,u,s){this.tag=a,this.key=u,this.sibling=this.child=this.return=this.stateNode=this.type=this.elementType=null,this.index=0,this.refCleanup=this.ref=null,this.pendingProps=i,this.dependencies=this.memoizedState=this.updateQueue=this.memoizedProps=null,this.mode=s,this.subtreeFlags=this.flags=0,this.deletions=null,this.childLanes=this.lanes=0,this.alternate=null}function On(a,i,u,s){return new lk(a,i,u,s)}function wh(a){return a=a.prototype,!(!a||!a.isReactComponent)}function Tr(a,i){var u=a.alternate;return u===null?(u=On(a.tag,i,a.key,a.mode),u.elementType=a.elementType,u.type=a.type,u.stateNode=a.stateNode,u.alternate=a,a.alternate=u):(u.pendingProps=i,u.type=a.type,u.flags=0,u.subtreeFlags=0,u.deletions=null),u.flags=a.flags&65011712,u.childLanes=a.childLanes,u.lanes=a.lanes,u.child=a.child,u.memoizedProps=a.memoizedProps,u.memoizedState=a.memoizedState,u.updateQueue=a.updateQueue,i=a.dependencies,u.dependencies=i===null?null:{lanes:i.lanes,firstContext:i.firstContext},u.sibling=a.sibling,u.index=a.index,u.ref=a.ref,u.refCleanup=a.refCleanup,u}function Xb(a,i){a.flags&=65011714;var u=a.alternate;return u===null?(a.childLanes=0,a.lanes=i,a.child=null,a.subtreeFlags=0,a.memoizedProps=null,a.memoizedState=null,a.updateQueue=null,a.dependencies=null,a.stateNode=null):(a.childLanes=u.childLanes,a.lanes=u.lanes,a.child=u.child,a.subtreeFlags=0,a.deletions=null,a.memoizedProps=u.memoizedProps,a.memoizedState=u.memoizedState,a.updateQueue=u.updateQueue,a.type=u.type,i=u.dependencies,a.dependencies=i===null?null:{lanes:i.lanes,firstContext:i.firstContext}),a}function _c(a,i,u,s,v,y){var S=0;if(s=a,typeof a=="function")wh(a)&&(S=1);else if(typeof a=="string")S=fP(a,u,ne.current)?26:a==="html"||a==="head"||a==="body"?27:5;else e:switch(a){case re:return a=On(31,u,i,v),a.elementType=re,a.lanes=y,a;case O:return oi(u.children,v,y,i);case E:S=8,v|=24;break;case j:return a=On(12,u,i,v|2),a.elementType=j,a.lanes=y,a;case T:return a=On(13,u,i,v),a.elementType=T,a.lanes=y,a;case R:return a=On(19,u,i,v),a.elementType=R,a.lanes=y,a;default:if(typeof a=="object"&&a!==null)switch(a.$$typeof){case C:S=10;break e;case _:S=9;break e;case D:S=11;break e;case k:S=14;break e;case I:S=16,s=null;break e}S=29,u=Error(r(130,a===null?"null":typeof a,"")),s=null}return i=On(S,u,i,v),i.elementType=a,i.type=s,i.lanes=y,i}function oi(a,i,u,s){return a=On(7,a,s,i),a.lanes=u,a}function Sh(a,i,u){return a=On(6,a,null,i),a.lanes=u,a}function Fb(a){var i=On(18,null,null,0);return i.stateNode=a,i}function Eh(a,i,u){return i=On(4,a.children!==null?a.children:[],a.key,i),i.lanes=u,i.stateNode={containerInfo:a.containerInfo,pendingChildren:null,implementation:a.implementation},i}var Wb=new WeakMap;function Un(a,i){if(typeof a=="object"&&a!==null){var u=Wb.get(a);return u!==void 0?u:(i={value:a,source:i,stack:ho(i)},Wb.set(a,i),i)}return{value:a,source:i,stack:ho(i)}}var el=[],tl=0,Tc=null,Co=0,In=[],qn=0,xa=null,hr=1,mr="";function Mr(a,i){el[tl++]=Co,el[tl++]=Tc,Tc=a,Co=i}function Zb(a,i,u){In[qn++]=hr,In[qn++]=mr,In[qn++]=xa,xa=a;var s=hr;a=mr;var v=32-Sn(s)-1;s&=~(1<<v),u+=1;var y=32-Sn(i)+v;if(30<y){var S=v-v%5;y=(s&(1<<S)-1).toString(32),s>>=S,v-=S,hr=1<<32-Sn(i)+v|u<<v|s,mr=y+a}else hr=1<<y|u<<v|s,mr=a}function Oh(a){a.return!==null&&(Mr(a,1),Zb(a,1,0))}function Ah(a){for(;a===Tc;)Tc=el[--tl],el[tl]=null,Co=el[--tl],el[tl]=null;for(;a===xa;)xa=In[--qn],In[qn]=null,mr=In[--qn],In[qn]=null,hr=In[--qn],In[qn]=null}function Qb(a,i){In[qn++]=hr,In[qn++]=mr,In[qn++]=xa,hr=i.id,mr=i.overflow,xa=a}var Ht=null,Fe=null,De=!1,wa=null,Hn=!1,jh=Error(r(519));function Sa(a){var i=Error(r(418,1<arguments.length&&arguments[1]!==void 0&&arguments[1]?"text":"HTML",""));throw _o(Un(i,a)),jh}function Jb(a){var i=a.stateNode,u=a.type,s=a.memoizedProps;switch(i[qt]=a,i[un]=s,u){case"dialog":_e("cancel",i),_e("close",i);break;case"iframe":case"object":case"embed":_e("load",i);break;case"video":case"audio":for(u=0;u<Zo.length;u++)_e(Zo[u],i);break;case"source":_e("error",i);break;case"img":case"image":case"link":_e("error",i),_e("load",i);break;case"details":_e("toggle",i);break;case"input":_e("invalid",i),db(i,s.value,s.defaultValue,s.checked,s.defaultChecked,s.type,s.name,!0);break;case"select":_e("invalid",i);break;case"textarea":_e("invalid",i),mb(i,s.value,s.defaultValue,s.children)}u=s.children,typeof u!="string"&&typeof u!="number"&&typeof u!="bigint"||i.textContent===""+u||s.suppressHydrationWarning===!0||pw(i.textContent,u)?(s.popover!=null&&(_e("beforetoggle",i),_e("toggle",i)),s.onScroll!=null&&_e("scroll",i),s.onScrollEnd!=null&&_e("scrollend",i),s.onClick!=null&&(i.onclick=Cr),i=!0):i=!1,i||Sa(a,!0)}function ex(a){for(Ht=a.return;Ht;)switch(Ht.tag){case 5:case 31:case 13:Hn=!1;return;case 27:case 3:Hn=!0;return;default:Ht=Ht.return}}function nl(a){if(a!==Ht)return!1;if(!De)return ex(a),De=!0,!1;var i=a.tag,u;if((u=i!==3&&i!==27)&&((u=i===5)&&(u=a.type,u=!(u!=="form"&&u!=="button")||Ym(a.type,a.memoizedProps)),u=!u),u&&Fe&&Sa(a),ex(a),i===13){if(a=a.memoizedState,a=a!==null?a.dehydrated:null,!a)throw Error(r(317));Fe=Aw(a)}else if(i===31){if(a=a.memoizedState,a=a!==null?a.dehydrated:null,!a)throw Error(r(317));Fe=Aw(a)}else i===27?(i=Fe,za(a.type)?(a=Fm,Fm=null,Fe=a):Fe=i):Fe=Ht?Yn(a.stateNode.nextSibling):null;return!0}function ui(){Fe=Ht=null,De=!1}function Nh(){var a=wa;return a!==null&&(hn===null?hn=a:hn.push.apply(hn,a),wa=null),a}function _o(a){wa===null?wa=[a]:wa.push(a)}var Ch=P(null),ci=null,Dr=null;function Ea(a,i,u){ee(Ch,i._currentValue),i._currentValue=u}function kr(a){a._currentValue=Ch.current,K(Ch)}function _h(a,i,u){for(;a!==null;){var s=a.alternate;if((a.childLanes&i)!==i?(a.childLanes|=i,s!==null&&(s.childLanes|=i)):s!==null&&(s.childLanes&i)!==i&&(s.childLanes|=i),a===u)break;a=a.return}}function Th(a,i,u,s){var v=a.child;for(v!==null&&(v.return=a);v!==null;){var y=v.dependencies;if(y!==null){var S=v.child;y=y.firstContext;e:for(;y!==null;){var N=y;y=v;for(var M=0;M<i.length;M++)if(N.context===i[M]){y.lanes|=u,N=y.alternate,N!==null&&(N.lanes|=u),_h(y.return,u,a),s||(S=null);break e}y=N.next}}else if(v.tag===18){if(S=v.return,S===null)throw Error(r(341));S.lanes|=u,y=S.alternate,y!==null&&(y.lanes|=u),_h(S,u,a),S=null}else S=v.child;if(S!==null)S.return=v;else for(S=v;S!==null;){if(S===a){S=null;break}if(v=S.sibling,v!==null){v.return=S.return,S=v;break}S=S.return}v=S}}function rl(a,i,u,s){a=null;for(var v=i,y=!1;v!==null;){if(!y){if((v.flags&524288)!==0)y=!0;else if((v.flags&262144)!==0)break}if(v.tag===10){var S=v.alternate;if(S===null)throw Error(r(387));if(S=S.memoizedProps,S!==null){var N=v.type;En(v.pendingProps.value,S.value)||(a!==null?a.push(N):a=[N])}}else if(v===ue.current){if(S=v.alternate,S===null)throw Error(r(387));S.memoizedState.memoizedState!==v.memoizedState.memoizedState&&(a!==null?a.push(nu):a=[nu])}v=v.return}a!==null&&Th(i,a,u,s),i.flags|=262144}function Mc(a){for(a=a.firstContext;a!==null;){if(!En(a.context._currentValue,a.memoizedValue))return!0;a=a.next}return!1}function si(a){ci=a,Dr=null,a=a.dependencies,a!==null&&(a.firstContext=null)}function $t(a){return tx(ci,a)}function Dc(a,i){return ci===null&&si(a),tx(a,i)}function tx(a,i){var u=i._currentValue;if(i={context:i,memoizedValue:u,next:null},Dr===null){if(a===null)throw Error(r(308));Dr=i,a.dependencies={lanes:0,firstContext:i},a.flags|=524288}else Dr=Dr.next=i;return u}var ok=typeof AbortController<"u"?AbortController:function(){var a=[],i=this.signal={aborted:!1,addEventListener:function(u,s){a.push(s)}};this.abort=function(){i.aborted=!0,a.forEach(function(u){return u()})}},uk=e.unstable_scheduleCallback,ck=e.unstable_NormalPriority,dt={$$typeof:C,Consumer:null,Provider:null,_currentValue:null,_currentValue2:null,_threadCount:0};function Mh(){return{controller:new ok,data:new Map,refCount:0}}function To(a){a.refCount--,a.refCount===0&&uk(ck,function(){a.controller.abort()})}var Mo=null,Dh=0,al=0,il=null;function sk(a,i){if(Mo===null){var u=Mo=[];Dh=0,al=Rm(),il={status:"pending",value:void 0,then:function(s){u.push(s)}}}return Dh++,i.then(nx,nx),i}function nx(){if(--Dh===0&&Mo!==null){il!==null&&(il.status="fulfilled");var a=Mo;Mo=null,al=0,il=null;for(var i=0;i<a.length;i++)(0,a[i])()}}function fk(a,i){var u=[],s={status:"pending",value:null,reason:null,then:function(v){u.push(v)}};return a.then(function(){s.status="fulfilled",s.value=i;for(var v=0;v<u.length;v++)(0,u[v])(i)},function(v){for(s.status="rejected",s.reason=v,v=0;v<u.length;v++)(0,u[v])(void 0)}),s}var rx=q.S;q.S=function(a,i){I1=xn(),typeof i=="object"&&i!==null&&typeof i.then=="function"&&sk(a,i),rx!==null&&rx(a,i)};var fi=P(null);function kh(){var a=fi.current;return a!==null?a:Ye.pooledCache}function kc(a,i){i===null?ee(fi,fi.current):ee(fi,i.pool)}function ax(){var a=kh();return a===null?null:{parent:dt._currentValue,pool:a}}var ll=Error(r(460)),Ph=Error(r(474)),Pc=Error(r(542)),Rc={then:function(){}};function ix(a){return a=a.status,a==="fulfilled"||a==="rejected"}function lx(a,i,u){switch(u=a[u],u===void 0?a.push(i):u!==i&&(i.then(Cr,Cr),i=u),i.status){case"fulfilled":return i.value;case"rejected":throw a=i.reason,ux(a),a;default:if(typeof i.status=="string")i.then(Cr,Cr);else{if(a=Ye,a!==null&&100<a.shellSuspendCounter)throw Error(r(482));a=i,a.status="pending",a.then(function(s){if(i.status==="pending"){var v=i;v.status="fulfilled",v.value=s}},function(s){if(i.status==="pending"){var v=i;v.status="rejected",v.reason=s}})}switch(i.status){case"fulfilled":return i.value;case"rejected":throw a=i.reason,ux(a),a}throw hi=i,ll}}function di(a){try{var i=a._init;return i(a._payload)}catch(u){throw u!==null&&typeof u=="object"&&typeof u.then=="function"?(hi=u,ll):u}}var hi=null;function ox(){if(hi===null)throw Error(r(459));var a=hi;return hi=null,a}function ux(a){if(a===ll||a===Pc)throw Error(r(483))}var ol=null,Do=0;function zc(a){var i=Do;return Do+=1,ol===null&&(ol=[]),lx(ol,a,i)}function ko(a,i){i=i.props.ref,a.ref=i!==void 0?i:null}function Lc(a,i){throw i.$$typeof===x?Error(r(525)):(a=Object.prototype.toString.call(i),Error(r(31,a==="[object Object]"?"object with keys {"+Object.keys(i).join(", ")+"}":a)))}function cx(a){function i(L,z){if(a){var B=L.deletions;B===null?(L.deletions=[z],L.flags|=16):B.push(z)}}function u(L,z){if(!a)return null;for(;z!==null;)i(L,z),z=z.sibling;return null}function s(L){for(var z=new Map;L!==null;)L.key!==null?z.set(L.key,L):z.set(L.index,L),L=L.sibling;return z}function v(L,z){return L=Tr(L,z),L.index=0,L.sibling=null,L}function y(L,z,B){return L.index=B,a?(B=L.alternate,B!==null?(B=B.index,B<z?(L.flags|=67108866,z):B):(L.flags|=67108866,z)):(L.flags|=1048576,z)}function S(L){return a&&L.alternate===null&&(L.flags|=67108866),L}function N(L,z,B,F){return z===null||z.tag!==6?(z=Sh(B,L.mode,F),z.return=L,z):(z=v(z,B),z.return=L,z)}function M(L,z,B,F){var me=B.type;return me===O?G(L,z,B.props.children,F,B.key):z!==null&&(z.elementType===me||typeof me=="object"&&me!==null&&me.$$typeof===I&&di(me)===z.type)?(z=v(z,B.props),ko(z,B),z.return=L,z):(z=_c(B.type,B.key,B.props,null,L.mode,F),ko(z,B),z.return=L,z)}function U(L,z,B,F){return z===null||z.tag!==4||z.stateNode.containerInfo!==B.containerInfo||z.stateNode.implementation!==B.implementation?(z=Eh(B,L.mode,F),z.return=L,z):(z=v(z,B.children||[]),z.return=L,z)}function G(L,z,B,F,me){return z===null||z.tag!==7?(z=oi(B,L.mode,F,me),z.return=L,z):(z=v(z,B),z.return=L,z)}function Z(L,z,B){if(typeof z=="string"&&z!==""||typeof z=="number"||typeof z=="bigint")return z=Sh(""+z,L.mode,B),z.return=L,z;if(typeof z=="object"&&z!==null){switch(z.$$typeof){case w:return B=_c(z.type,z.key,z.props,null,L.mode,B),ko(B,z),B.return=L,B;case A:return z=Eh(z,L.mode,B),z.return=L,z;case I:return z=di(z),Z(L,z,B)}if(xe(z)||J(z))return z=oi(z,L.mode,B,null),z.return=L,z;if(typeof z.then=="function")return Z(L,zc(z),B);if(z.$$typeof===C)return Z(L,Dc(L,z),B);Lc(L,z)}return null}function H(L,z,B,F){var me=z!==null?z.key:null;if(typeof B=="string"&&B!==""||typeof B=="number"||typeof B=="bigint")return me!==null?null:N(L,z,""+B,F);if(typeof B=="object"&&B!==null){switch(B.$$typeof){case w:return B.key===me?M(L,z,B,F):null;case A:return B.key===me?U(L,z,B,F):null;case I:return B=di(B),H(L,z,B,F)}if(xe(B)||J(B))return me!==null?null:G(L,z,B,F,null);if(typeof B.then=="function")return H(L,z,zc(B),F);if(B.$$typeof===C)return H(L,z,Dc(L,B),F);Lc(L,B)}return null}function $(L,z,B,F,me){if(typeof F=="string"&&F!==""||typeof F=="number"||typeof F=="bigint")return L=L.get(B)||null,N(z,L,""+F,me);if(typeof F=="object"&&F!==null){switch(F.$$typeof){case w:return L=L.get(F.key===null?B:F.key)||null,M(z,L,F,me);case A:return L=L.get(F.key===null?B:F.key)||null,U(z,L,F,me);case I:return F=di(F),$(L,z,B,F,me)}if(xe(F)||J(F))return L=L.get(B)||null,G(z,L,F,me,null);if(typeof F.then=="function")return $(L,z,B,zc(F),me);if(F.$$typeof===C)return $(L,z,B,Dc(z,F),me);Lc(z,F)}return null}function oe(L,z,B,F){for(var me=null,Pe=null,fe=z,je=z=0,Me=null;fe!==null&&je<B.length;je++){fe.index>je?(Me=fe,fe=null):Me=fe.sibling;var Re=H(L,fe,B[je],F);if(Re===null){fe===null&&(fe=Me);break}a&&fe&&Re.alternate===null&&i(L,fe),z=y(Re,z,je),Pe===null?me=Re:Pe.sibling=Re,Pe=Re,fe=Me}if(je===B.length)return u(L,fe),De&&Mr(L,je),me;if(fe===null){for(;je<B.length;je++)fe=Z(L,B[je],F),fe!==null&&(z=y(fe,z,je),Pe===null?me=fe:Pe.sibling=fe,Pe=fe);return De&&Mr(L,je),me}for(fe=s(fe);je<B.length;je++)Me=$(fe,L,je,B[je],F),Me!==null&&(a&&Me.alternate!==null&&fe.delete(Me.key===null?je:Me.key),z=y(Me,z,je),Pe===null?me=Me:Pe.sibling=Me,Pe=Me);return a&&fe.forEach(function(qa){return i(L,qa)}),De&&Mr(L,je),me}function ye(L,z,B,F){if(B==null)throw Error(r(151));for(var me=null,Pe=null,fe=z,je=z=0,Me=null,Re=B.next();fe!==null&&!Re.done;je++,Re=B.next()){fe.index>je?(Me=fe,fe=null):Me=fe.sibling;var qa=H(L,fe,Re.value,F);if(qa===null){fe===null&&(fe=Me);break}a&&fe&&qa.alternate===null&&i(L,fe),z=y(qa,z,je),Pe===null?me=qa:Pe.sibling=qa,Pe=qa,fe=Me}if(Re.done)return u(L,fe),De&&Mr(L,je),me;if(fe===null){for(;!Re.done;je++,Re=B.next())Re=Z(L,Re.value,F),Re!==null&&(z=y(Re,z,je),Pe===null?me=Re:Pe.sibling=Re,Pe=Re);return De&&Mr(L,je),me}for(fe=s(fe);!Re.done;je++,Re=B.next())Re=$(fe,L,je,Re.value,F),Re!==null&&(a&&Re.alternate!==null&&fe.delete(Re.key===null?je:Re.key),z=y(Re,z,je),Pe===null?me=Re:Pe.sibling=Re,Pe=Re);return a&&fe.forEach(function(SP){return i(L,SP)}),De&&Mr(L,je),me}function $e(L,z,B,F){if(typeof B=="object"&&B!==null&&B.type===O&&B.key===null&&(B=B.props.children),typeof B=="object"&&B!==null){switch(B.$$typeof){case w:e:{for(var me=B.key;z!==null;){if(z.key===me){if(me=B.type,me===O){if(z.tag===7){u(L,z.sibling),F=v(z,B.props.children),F.return=L,L=F;break e}}else if(z.elementType===me||typeof me=="object"&&me!==null&&me.$$typeof===I&&di(me)===z.type){u(L,z.sibling),F=v(z,B.props),ko(F,B),F.return=L,L=F;break e}u(L,z);break}else i(L,z);z=z.sibling}B.type===O?(F=oi(B.props.children,L.mode,F,B.key),F.return=L,L=F):(F=_c(B.type,B.key,B.props,null,L.mode,F),ko(F,B),F.return=L,L=F)}return S(L);case A:e:{for(me=B.key;z!==null;){if(z.key===me)if(z.tag===4&&z.stateNode.containerInfo===B.containerInfo&&z.stateNode.implementation===B.implementation){u(L,z.sibling),F=v(z,B.children||[]),F.return=L,L=F;break e}else{u(L,z);break}else i(L,z);z=z.sibling}F=Eh(B,L.mode,F),F.return=L,L=F}return S(L);case I:return B=di(B),$e(L,z,B,F)}if(xe(B))return oe(L,z,B,F);if(J(B)){if(me=J(B),typeof me!="function")throw Error(r(150));return B=me.call(B),ye(L,z,B,F)}if(typeof B.then=="function")return $e(L,z,zc(B),F);if(B.$$typeof===C)return $e(L,z,Dc(L,B),F);Lc(L,B)}return typeof B=="string"&&B!==""||typeof B=="number"||typeof B=="bigint"?(B=""+B,z!==null&&z.tag===6?(u(L,z.sibling),F=v(z,B),F.return=L,L=F):(u(L,z),F=Sh(B,L.mode,F),F.return=L,L=F),S(L)):u(L,z)}return function(L,z,B,F){try{Do=0;var me=$e(L,z,B,F);return ol=null,me}catch(fe){if(fe===ll||fe===Pc)throw fe;var Pe=On(29,fe,null,L.mode);return Pe.lanes=F,Pe.return=L,Pe}finally{}}}var mi=cx(!0),sx=cx(!1),Oa=!1;function Rh(a){a.updateQueue={baseState:a.memoizedState,firstBaseUpdate:null,lastBaseUpdate:null,shared:{pending:null,lanes:0,hiddenCallbacks:null},callbacks:null}}function zh(a,i){a=a.updateQueue,i.updateQueue===a&&(i.updateQueue={baseState:a.baseState,firstBaseUpdate:a.firstBaseUpdate,lastBaseUpdate:a.lastBaseUpdate,shared:a.shared,callbacks:null})}function Aa(a){return{lane:a,tag:0,payload:null,callback:null,next:null}}function ja(a,i,u){var s=a.updateQueue;if(s===null)return null;if(s=s.shared,(Le&2)!==0){var v=s.pending;return v===null?i.next=i:(i.next=v.next,v.next=i),s.pending=i,i=Cc(a),Vb(a,null,u),i}return Nc(a,s,i,u),Cc(a)}function Po(a,i,u){if(i=i.updateQueue,i!==null&&(i=i.shared,(u&4194048)!==0)){var s=i.lanes;s&=a.pendingLanes,u|=s,i.lanes=u,tb(a,u)}}function Lh(a,i){var u=a.updateQueue,s=a.alternate;if(s!==null&&(s=s.updateQueue,u===s)){var v=null,y=null;if(u=u.firstBaseUpdate,u!==null){do{var S={lane:u.lane,tag:u.tag,payload:u.payload,callback:null,next:null};y===null?v=y=S:y=y.next=S,u=u.next}while(u!==null);y===null?v=y=i:y=y.next=i}else v=y=i;u={baseState:s.baseState,firstBaseUpdate:v,lastBaseUpdate:y,shared:s.shared,callbacks:s.callbacks},a.updateQueue=u;return}a=u.lastBaseUpdate,a===null?u.firstBaseUpdate=i:a.next=i,u.lastBaseUpdate=i}var Bh=!1;function Ro(){if(Bh){var a=il;if(a!==null)throw a}}function zo(a,i,u,s){Bh=!1;var v=a.updateQueue;Oa=!1;var y=v.firstBaseUpdate,S=v.lastBaseUpdate,N=v.shared.pending;if(N!==null){v.shared.pending=null;var M=N,U=M.next;M.next=null,S===null?y=U:S.next=U,S=M;var G=a.alternate;G!==null&&(G=G.updateQueue,N=G.lastBaseUpdate,N!==S&&(N===null?G.firstBaseUpdate=U:N.next=U,G.lastBaseUpdate=M))}if(y!==null){var Z=v.baseState;S=0,G=U=M=null,N=y;do{var H=N.lane&-536870913,$=H!==N.lane;if($?(Te&H)===H:(s&H)===H){H!==0&&H===al&&(Bh=!0),G!==null&&(G=G.next={lane:0,tag:N.tag,payload:N.payload,callback:null,next:null});e:{var oe=a,ye=N;H=i;var $e=u;switch(ye.tag){case 1:if(oe=ye.payload,typeof oe=="function"){Z=oe.call($e,Z,H);break e}Z=oe;break e;case 3:oe.flags=oe.flags&-65537|128;case 0:if(oe=ye.payload,H=typeof oe=="function"?oe.call($e,Z,H):oe,H==null)break e;Z=p({},Z,H);break e;case 2:Oa=!0}}H=N.callback,H!==null&&(a.flags|=64,$&&(a.flags|=8192),$=v.callbacks,$===null?v.callbacks=[H]:$.push(H))}else $={lane:H,tag:N.tag,payload:N.payload,callback:N.callback,next:null},G===null?(U=G=$,M=Z):G=G.next=$,S|=H;if(N=N.next,N===null){if(N=v.shared.pending,N===null)break;$=N,N=$.next,$.next=null,v.lastBaseUpdate=$,v.shared.pending=null}}while(!0);G===null&&(M=Z),v.baseState=M,v.firstBaseUpdate=U,v.lastBaseUpdate=G,y===null&&(v.shared.lanes=0),Ma|=S,a.lanes=S,a.memoizedState=Z}}function fx(a,i){if(typeof a!="function")throw Error(r(191,a));a.call(i)}function dx(a,i){var u=a.callbacks;if(u!==null)for(a.callbacks=null,a=0;a<u.length;a++)fx(u[a],i)}var ul=P(null),Bc=P(0);function hx(a,i){a=Hr,ee(Bc,a),ee(ul,i),Hr=a|i.baseLanes}function Uh(){ee(Bc,Hr),ee(ul,ul.current)}function Ih(){Hr=Bc.current,K(ul),K(Bc)}var An=P(null),$n=null;function Na(a){var i=a.alternate;ee(ut,ut.current&1),ee(An,a),$n===null&&(i===null||ul.current!==null||i.memoizedState!==null)&&($n=a)}function qh(a){ee(ut,ut.current),ee(An,a),$n===null&&($n=a)}function mx(a){a.tag===22?(ee(ut,ut.current),ee(An,a),$n===null&&($n=a)):Ca()}function Ca(){ee(ut,ut.current),ee(An,An.current)}function jn(a){K(An),$n===a&&($n=null),K(ut)}var ut=P(0);function Uc(a){for(var i=a;i!==null;){if(i.tag===13){var u=i.memoizedState;if(u!==null&&(u=u.dehydrated,u===null||Vm(u)||Xm(u)))return i}else if(i.tag===19&&(i.memoizedProps.revealOrder==="forwards"||i.memoizedProps.revealOrder==="backwards"||i.memoizedProps.revealOrder==="unstable_legacy-backwards"||i.memoizedProps.revealOrder==="together")){if((i.flags&128)!==0)return i}else if(i.child!==null){i.child.return=i,i=i.child;continue}if(i===a)break;for(;i.sibling===null;){if(i.return===null||i.return===a)return null;i=i.return}i.sibling.return=i.return,i=i.sibling}return null}var Pr=0,Ee=null,qe=null,ht=null,Ic=!1,cl=!1,vi=!1,qc=0,Lo=0,sl=null,dk=0;function at(){throw Error(r(321))}function Hh(a,i){if(i===null)return!1;for(var u=0;u<i.length&&u<a.length;u++)if(!En(a[u],i[u]))return!1;return!0}function $h(a,i,u,s,v,y){return Pr=y,Ee=i,i.memoizedState=null,i.updateQueue=null,i.lanes=0,q.H=a===null||a.memoizedState===null?Zx:am,vi=!1,y=u(s,v),vi=!1,cl&&(y=px(i,u,s,v)),vx(a),y}function vx(a){q.H=Io;var i=qe!==null&&qe.next!==null;if(Pr=0,ht=qe=Ee=null,Ic=!1,Lo=0,sl=null,i)throw Error(r(300));a===null||mt||(a=a.dependencies,a!==null&&Mc(a)&&(mt=!0))}function px(a,i,u,s){Ee=a;var v=0;do{if(cl&&(sl=null),Lo=0,cl=!1,25<=v)throw Error(r(301));if(v+=1,ht=qe=null,a.updateQueue!=null){var y=a.updateQueue;y.lastEffect=null,y.events=null,y.stores=null,y.memoCache!=null&&(y.memoCache.index=0)}q.H=Qx,y=i(u,s)}while(cl);return y}function hk(){var a=q.H,i=a.useState()[0];return i=typeof i.then=="function"?Bo(i):i,a=a.useState()[0],(qe!==null?qe.memoizedState:null)!==a&&(Ee.flags|=1024),i}function Yh(){var a=qc!==0;return qc=0,a}function Kh(a,i,u){i.updateQueue=a.updateQueue,i.flags&=-2053,a.lanes&=~u}function Gh(a){if(Ic){for(a=a.memoizedState;a!==null;){var i=a.queue;i!==null&&(i.pending=null),a=a.next}Ic=!1}Pr=0,ht=qe=Ee=null,cl=!1,Lo=qc=0,sl=null}function nn(){var a={memoizedState:null,baseState:null,baseQueue:null,queue:null,next:null};return ht===null?Ee.memoizedState=ht=a:ht=ht.next=a,ht}function ct(){if(qe===null){var a=Ee.alternate;a=a!==null?a.memoizedState:null}else a=qe.next;var i=ht===null?Ee.memoizedState:ht.next;if(i!==null)ht=i,qe=a;else{if(a===null)throw Ee.alternate===null?Error(r(467)):Error(r(310));qe=a,a={memoizedState:qe.memoizedState,baseState:qe.baseState,baseQueue:qe.baseQueue,queue:qe.queue,next:null},ht===null?Ee.memoizedState=ht=a:ht=ht.next=a}return ht}function Hc(){return{lastEffect:null,events:null,stores:null,memoCache:null}}function Bo(a){var i=Lo;return Lo+=1,sl===null&&(sl=[]),a=lx(sl,a,i),i=Ee,(ht===null?i.memoizedState:ht.next)===null&&(i=i.alternate,q.H=i===null||i.memoizedState===null?Zx:am),a}function $c(a){if(a!==null&&typeof a=="object"){if(typeof a.then=="function")return Bo(a);if(a.$$typeof===C)return $t(a)}throw Error(r(438,String(a)))}function Vh(a){var i=null,u=Ee.updateQueue;if(u!==null&&(i=u.memoCache),i==null){var s=Ee.alternate;s!==null&&(s=s.updateQueue,s!==null&&(s=s.memoCache,s!=null&&(i={data:s.data.map(function(v){return v.slice()}),index:0})))}if(i==null&&(i={data:[],index:0}),u===null&&(u=Hc(),Ee.updateQueue=u),u.memoCache=i,u=i.data[i.index],u===void 0)for(u=i.data[i.index]=Array(a),s=0;s<a;s++)u[s]=ae;return i.index++,u}function Rr(a,i){return typeof i=="function"?i(a):i}function Yc(a){var i=ct();return Xh(i,qe,a)}function Xh(a,i,u){var s=a.queue;if(s===null)throw Error(r(311));s.lastRenderedReducer=u;var v=a.baseQueue,y=s.pending;if(y!==null){if(v!==null){var S=v.next;v.next=y.next,y.next=S}i.baseQueue=v=y,s.pending=null}if(y=a.baseState,v===null)a.memoizedState=y;else{i=v.next;var N=S=null,M=null,U=i,G=!1;do{var Z=U.lane&-536870913;if(Z!==U.lane?(Te&Z)===Z:(Pr&Z)===Z){var H=U.revertLane;if(H===0)M!==null&&(M=M.next={lane:0,revertLane:0,gesture:null,action:U.action,hasEagerState:U.hasEagerState,eagerState:U.eagerState,next:null}),Z===al&&(G=!0);else if((Pr&H)===H){U=U.next,H===al&&(G=!0);continue}else Z={lane:0,revertLane:U.revertLane,gesture:null,action:U.action,hasEagerState:U.hasEagerState,eagerState:U.eagerState,next:null},M===null?(N=M=Z,S=y):M=M.next=Z,Ee.lanes|=H,Ma|=H;Z=U.action,vi&&u(y,Z),y=U.hasEagerState?U.eagerState:u(y,Z)}else H={lane:Z,revertLane:U.revertLane,gesture:U.gesture,action:U.action,hasEagerState:U.hasEagerState,eagerState:U.eagerState,next:null},M===null?(N=M=H,S=y):M=M.next=H,Ee.lanes|=Z,Ma|=Z;U=U.next}while(U!==null&&U!==i);if(M===null?S=y:M.next=N,!En(y,a.memoizedState)&&(mt=!0,G&&(u=il,u!==null)))throw u;a.memoizedState=y,a.baseState=S,a.baseQueue=M,s.lastRenderedState=y}return v===null&&(s.lanes=0),[a.memoizedState,s.dispatch]}function Fh(a){var i=ct(),u=i.queue;if(u===null)throw Error(r(311));u.lastRenderedReducer=a;var s=u.dispatch,v=u.pending,y=i.memoizedState;if(v!==null){u.pending=null;var S=v=v.next;do y=a(y,S.action),S=S.next;while(S!==v);En(y,i.memoizedState)||(mt=!0),i.memoizedState=y,i.baseQueue===null&&(i.baseState=y),u.lastRenderedState=y}return[y,s]}function yx(a,i,u){var s=Ee,v=ct(),y=De;if(y){if(u===void 0)throw Error(r(407));u=u()}else u=i();var S=!En((qe||v).memoizedState,u);if(S&&(v.memoizedState=u,mt=!0),v=v.queue,Qh(xx.bind(null,s,v,a),[a]),v.getSnapshot!==i||S||ht!==null&&ht.memoizedState.tag&1){if(s.flags|=2048,fl(9,{destroy:void 0},bx.bind(null,s,v,u,i),null),Ye===null)throw Error(r(349));y||(Pr&127)!==0||gx(s,i,u)}return u}function gx(a,i,u){a.flags|=16384,a={getSnapshot:i,value:u},i=Ee.updateQueue,i===null?(i=Hc(),Ee.updateQueue=i,i.stores=[a]):(u=i.stores,u===null?i.stores=[a]:u.push(a))}function bx(a,i,u,s){i.value=u,i.getSnapshot=s,wx(i)&&Sx(a)}function xx(a,i,u){return u(function(){wx(i)&&Sx(a)})}function wx(a){var i=a.getSnapshot;a=a.value;try{var u=i();return!En(a,u)}catch{return!0}}function Sx(a){var i=li(a,2);i!==null&&mn(i,a,2)}function Wh(a){var i=nn();if(typeof a=="function"){var u=a;if(a=u(),vi){ya(!0);try{u()}finally{ya(!1)}}}return i.memoizedState=i.baseState=a,i.queue={pending:null,lanes:0,dispatch:null,lastRenderedReducer:Rr,lastRenderedState:a},i}function Ex(a,i,u,s){return a.baseState=u,Xh(a,qe,typeof s=="function"?s:Rr)}function mk(a,i,u,s,v){if(Vc(a))throw Error(r(485));if(a=i.action,a!==null){var y={payload:v,action:a,next:null,isTransition:!0,status:"pending",value:null,reason:null,listeners:[],then:function(S){y.listeners.push(S)}};q.T!==null?u(!0):y.isTransition=!1,s(y),u=i.pending,u===null?(y.next=i.pending=y,Ox(i,y)):(y.next=u.next,i.pending=u.next=y)}}function Ox(a,i){var u=i.action,s=i.payload,v=a.state;if(i.isTransition){var y=q.T,S={};q.T=S;try{var N=u(v,s),M=q.S;M!==null&&M(S,N),Ax(a,i,N)}catch(U){Zh(a,i,U)}finally{y!==null&&S.types!==null&&(y.types=S.types),q.T=y}}else try{y=u(v,s),Ax(a,i,y)}catch(U){Zh(a,i,U)}}function Ax(a,i,u){u!==null&&typeof u=="object"&&typeof u.then=="function"?u.then(function(s){jx(a,i,s)},function(s){return Zh(a,i,s)}):jx(a,i,u)}function jx(a,i,u){i.status="fulfilled",i.value=u,Nx(i),a.state=u,i=a.pending,i!==null&&(u=i.next,u===i?a.pending=null:(u=u.next,i.next=u,Ox(a,u)))}function Zh(a,i,u){var s=a.pending;if(a.pending=null,s!==null){s=s.next;do i.status="rejected",i.reason=u,Nx(i),i=i.next;while(i!==s)}a.action=null}function Nx(a){a=a.listeners;for(var i=0;i<a.length;i++)(0,a[i])()}function Cx(a,i){return i}function _x(a,i){if(De){var u=Ye.formState;if(u!==null){e:{var s=Ee;if(De){if(Fe){t:{for(var v=Fe,y=Hn;v.nodeType!==8;){if(!y){v=null;break t}if(v=Yn(v.nextSibling),v===null){v=null;break t}}y=v.data,v=y==="F!"||y==="F"?v:null}if(v){Fe=Yn(v.nextSibling),s=v.data==="F!";break e}}Sa(s)}s=!1}s&&(i=u[0])}}return u=nn(),u.memoizedState=u.baseState=i,s={pending:null,lanes:0,dispatch:null,lastRenderedReducer:Cx,lastRenderedState:i},u.queue=s,u=Xx.bind(null,Ee,s),s.dispatch=u,s=Wh(!1),y=rm.bind(null,Ee,!1,s.queue),s=nn(),v={state:i,dispatch:null,action:a,pending:null},s.queue=v,u=mk.bind(null,Ee,v,y,u),v.dispatch=u,s.memoizedState=a,[i,u,!1]}function Tx(a){var i=ct();return Mx(i,qe,a)}function Mx(a,i,u){if(i=Xh(a,i,Cx)[0],a=Yc(Rr)[0],typeof i=="object"&&i!==null&&typeof i.then=="function")try{var s=Bo(i)}catch(S){throw S===ll?Pc:S}else s=i;i=ct();var v=i.queue,y=v.dispatch;return u!==i.memoizedState&&(Ee.flags|=2048,fl(9,{destroy:void 0},vk.bind(null,v,u),null)),[s,y,a]}function vk(a,i){a.action=i}function Dx(a){var i=ct(),u=qe;if(u!==null)return Mx(i,u,a);ct(),i=i.memoizedState,u=ct();var s=u.queue.dispatch;return u.memoizedState=a,[i,s,!1]}function fl(a,i,u,s){return a={tag:a,create:u,deps:s,inst:i,next:null},i=Ee.updateQueue,i===null&&(i=Hc(),Ee.updateQueue=i),u=i.lastEffect,u===null?i.lastEffect=a.next=a:(s=u.next,u.next=a,a.next=s,i.lastEffect=a),a}function kx(){return ct().memoizedState}function Kc(a,i,u,s){var v=nn();Ee.flags|=a,v.memoizedState=fl(1|i,{destroy:void 0},u,s===void 0?null:s)}function Gc(a,i,u,s){var v=ct();s=s===void 0?null:s;var y=v.memoizedState.inst;qe!==null&&s!==null&&Hh(s,qe.memoizedState.deps)?v.memoizedState=fl(i,y,u,s):(Ee.flags|=a,v.memoizedState=fl(1|i,y,u,s))}function Px(a,i){Kc(8390656,8,a,i)}function Qh(a,i){Gc(2048,8,a,i)}function pk(a){Ee.flags|=4;var i=Ee.updateQueue;if(i===null)i=Hc(),Ee.updateQueue=i,i.events=[a];else{var u=i.events;u===null?i.events=[a]:u.push(a)}}function Rx(a){var i=ct().memoizedState;return pk({ref:i,nextImpl:a}),function(){if((Le&2)!==0)throw Error(r(440));return i.impl.apply(void 0,arguments)}}function zx(a,i){return Gc(4,2,a,i)}function Lx(a,i){return Gc(4,4,a,i)}function Bx(a,i){if(typeof i=="function"){a=a();var u=i(a);return function(){typeof u=="function"?u():i(null)}}if(i!=null)return a=a(),i.current=a,function(){i.current=null}}function Ux(a,i,u){u=u!=null?u.concat([a]):null,Gc(4,4,Bx.bind(null,i,a),u)}function Jh(){}function Ix(a,i){var u=ct();i=i===void 0?null:i;var s=u.memoizedState;return i!==null&&Hh(i,s[1])?s[0]:(u.memoizedState=[a,i],a)}function qx(a,i){var u=ct();i=i===void 0?null:i;var s=u.memoizedState;if(i!==null&&Hh(i,s[1]))return s[0];if(s=a(),vi){ya(!0);try{a()}finally{ya(!1)}}return u.memoizedState=[s,i],s}function em(a,i,u){return u===void 0||(Pr&1073741824)!==0&&(Te&261930)===0?a.memoizedState=i:(a.memoizedState=u,a=H1(),Ee.lanes|=a,Ma|=a,u)}function Hx(a,i,u,s){return En(u,i)?u:ul.current!==null?(a=em(a,u,s),En(a,i)||(mt=!0),a):(Pr&42)===0||(Pr&1073741824)!==0&&(Te&261930)===0?(mt=!0,a.memoizedState=u):(a=H1(),Ee.lanes|=a,Ma|=a,i)}function $x(a,i,u,s,v){var y=Q.p;Q.p=y!==0&&8>y?y:8;var S=q.T,N={};q.T=N,rm(a,!1,i,u);try{var M=v(),U=q.S;if(U!==null&&U(N,M),M!==null&&typeof M=="object"&&typeof M.then=="function"){var G=fk(M,s);Uo(a,i,G,_n(a))}else Uo(a,i,s,_n(a))}catch(Z){Uo(a,i,{then:function(){},status:"rejected",reason:Z},_n())}finally{Q.p=y,S!==null&&N.types!==null&&(S.types=N.types),q.T=S}}function yk(){}function tm(a,i,u,s){if(a.tag!==5)throw Error(r(476));var v=Yx(a).queue;$x(a,v,i,X,u===null?yk:function(){return Kx(a),u(s)})}function Yx(a){var i=a.memoizedState;if(i!==null)return i;i={memoizedState:X,baseState:X,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:Rr,lastRenderedState:X},next:null};var u={};return i.next={memoizedState:u,baseState:u,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:Rr,lastRenderedState:u},next:null},a.memoizedState=i,a=a.alternate,a!==null&&(a.memoizedState=i),i}function Kx(a){var i=Yx(a);i.next===null&&(i=a.alternate.memoizedState),Uo(a,i.next.queue,{},_n())}function nm(){return $t(nu)}function Gx(){return ct().memoizedState}function Vx(){return ct().memoizedState}function gk(a){for(var i=a.return;i!==null;){switch(i.tag){case 24:case 3:var u=_n();a=Aa(u);var s=ja(i,a,u);s!==null&&(mn(s,i,u),Po(s,i,u)),i={cache:Mh()},a.payload=i;return}i=i.return}}function bk(a,i,u){var s=_n();u={lane:s,revertLane:0,gesture:null,action:u,hasEagerState:!1,eagerState:null,next:null},Vc(a)?Fx(i,u):(u=xh(a,i,u,s),u!==null&&(mn(u,a,s),Wx(u,i,s)))}function Xx(a,i,u){var s=_n();Uo(a,i,u,s)}function Uo(a,i,u,s){var v={lane:s,revertLane:0,gesture:null,action:u,hasEagerState:!1,eagerState:null,next:null};if(Vc(a))Fx(i,v);else{var y=a.alternate;if(a.lanes===0&&(y===null||y.lanes===0)&&(y=i.lastRenderedReducer,y!==null))try{var S=i.lastRenderedState,N=y(S,u);if(v.hasEagerState=!0,v.eagerState=N,En(N,S))return Nc(a,i,v,0),Ye===null&&jc(),!1}catch{}finally{}if(u=xh(a,i,v,s),u!==null)return mn(u,a,s),Wx(u,i,s),!0}return!1}function rm(a,i,u,s){if(s={lane:2,revertLane:Rm(),gesture:null,action:s,hasEagerState:!1,eagerState:null,next:null},Vc(a)){if(i)throw Error(r(479))}else i=xh(a,u,s,2),i!==null&&mn(i,a,2)}function Vc(a){var i=a.alternate;return a===Ee||i!==null&&i===Ee}function Fx(a,i){cl=Ic=!0;var u=a.pending;u===null?i.next=i:(i.next=u.next,u.next=i),a.pending=i}function Wx(a,i,u){if((u&4194048)!==0){var s=i.lanes;s&=a.pendingLanes,u|=s,i.lanes=u,tb(a,u)}}var Io={readContext:$t,use:$c,useCallback:at,useContext:at,useEffect:at,useImperativeHandle:at,useLayoutEffect:at,useInsertionEffect:at,useMemo:at,useReducer:at,useRef:at,useState:at,useDebugValue:at,useDeferredValue:at,useTransition:at,useSyncExternalStore:at,useId:at,useHostTransitionStatus:at,useFormState:at,useActionState:at,useOptimistic:at,useMemoCache:at,useCacheRefresh:at};Io.useEffectEvent=at;var Zx={readContext:$t,use:$c,useCallback:function(a,i){return nn().memoizedState=[a,i===void 0?null:i],a},useContext:$t,useEffect:Px,useImperativeHandle:function(a,i,u){u=u!=null?u.concat([a]):null,Kc(4194308,4,Bx.bind(null,i,a),u)},useLayoutEffect:function(a,i){return Kc(4194308,4,a,i)},useInsertionEffect:function(a,i){Kc(4,2,a,i)},useMemo:function(a,i){var u=nn();i=i===void 0?null:i;var s=a();if(vi){ya(!0);try{a()}finally{ya(!1)}}return u.memoizedState=[s,i],s},useReducer:function(a,i,u){var s=nn();if(u!==void 0){var v=u(i);if(vi){ya(!0);try{u(i)}finally{ya(!1)}}}else v=i;return s.memoizedState=s.baseState=v,a={pending:null,lanes:0,dispatch:null,lastRenderedReducer:a,lastRenderedState:v},s.queue=a,a=a.dispatch=bk.bind(null,Ee,a),[s.memoizedState,a]},useRef:function(a){var i=nn();return a={current:a},i.memoizedState=a},useState:function(a){a=Wh(a);var i=a.queue,u=Xx.bind(null,Ee,i);return i.dispatch=u,[a.memoizedState,u]},useDebugValue:Jh,useDeferredValue:function(a,i){var u=nn();return em(u,a,i)},useTransition:function(){var a=Wh(!1);return a=$x.bind(null,Ee,a.queue,!0,!1),nn().memoizedState=a,[!1,a]},useSyncExternalStore:function(a,i,u){var s=Ee,v=nn();if(De){if(u===void 0)throw Error(r(407));u=u()}else{if(u=i(),Ye===null)throw Error(r(349));(Te&127)!==0||gx(s,i,u)}v.memoizedState=u;var y={value:u,getSnapshot:i};return v.queue=y,Px(xx.bind(null,s,y,a),[a]),s.flags|=2048,fl(9,{destroy:void 0},bx.bind(null,s,y,u,i),null),u},useId:function(){var a=nn(),i=Ye.identifierPrefix;if(De){var u=mr,s=hr;u=(s&~(1<<32-Sn(s)-1)).toString(32)+u,i="_"+i+"R_"+u,u=qc++,0<u&&(i+="H"+u.toString(32)),i+="_"}else u=dk++,i="_"+i+"r_"+u.toString(32)+"_";return a.memoizedState=i},useHostTransitionStatus:nm,useFormState:_x,useActionState:_x,useOptimistic:function(a){var i=nn();i.memoizedState=i.baseState=a;var u={pending:null,lanes:0,dispatch:null,lastRenderedReducer:null,lastRenderedState:null};return i.queue=u,i=rm.bind(null,Ee,!0,u),u.dispatch=i,[a,i]},useMemoCache:Vh,useCacheRefresh:function(){return nn().memoizedState=gk.bind(null,Ee)},useEffectEvent:function(a){var i=nn(),u={impl:a};return i.memoizedState=u,function(){if((Le&2)!==0)throw Error(r(440));return u.impl.apply(void 0,arguments)}}},am={readContext:$t,use:$c,useCallback:Ix,useContext:$t,useEffect:Qh,useImperativeHandle:Ux,useInsertionEffect:zx,useLayoutEffect:Lx,useMemo:qx,useReducer:Yc,useRef:kx,useState:function(){return Yc(Rr)},useDebugValue:Jh,useDeferredValue:function(a,i){var u=ct();return Hx(u,qe.memoizedState,a,i)},useTransition:function(){var a=Yc(Rr)[0],i=ct().memoizedState;return[typeof a=="boolean"?a:Bo(a),i]},useSyncExternalStore:yx,useId:Gx,useHostTransitionStatus:nm,useFormState:Tx,useActionState:Tx,useOptimistic:function(a,i){var u=ct();return Ex(u,qe,a,i)},useMemoCache:Vh,useCacheRefresh:Vx};am.useEffectEvent=Rx;var Qx={readContext:$t,use:$c,useCallback:Ix,useContext:$t,useEffect:Qh,useImperativeHandle:Ux,useInsertionEffect:zx,useLayoutEffect:Lx,useMemo:qx,useReducer:Fh,useRef:kx,useState:function(){return Fh(Rr)},useDebugValue:Jh,useDeferredValue:function(a,i){var u=ct();return qe===null?em(u,a,i):Hx(u,qe.memoizedState,a,i)},useTransition:function(){var a=Fh(Rr)[0],i=ct().memoizedState;return[typeof a=="boolean"?a:Bo(a),i]},useSyncExternalStore:yx,useId:Gx,useHostTransitionStatus:nm,useFormState:Dx,useActionState:Dx,useOptimistic:function(a,i){var u=ct();return qe!==null?Ex(u,qe,a,i):(u.baseState=a,[a,u.queue.dispatch])},useMemoCache:Vh,useCacheRefresh:Vx};Qx.useEffectEvent=Rx;function im(a,i,u,s){i=a.memoizedState,u=u(s,i),u=u==null?i:p({},i,u),a.memoizedState=u,a.lanes===0&&(a.updateQueue.baseState=u)}var lm={enqueueSetState:function(a,i,u){a=a._reactInternals;var s=_n(),v=Aa(s);v.payload=i,u!=null&&(v.callback=u),i=ja(a,v,s),i!==null&&(mn(i,a,s),Po(i,a,s))},enqueueReplaceState:function(a,i,u){a=a._reactInternals;var s=_n(),v=Aa(s);v.tag=1,v.payload=i,u!=null&&(v.callback=u),i=ja(a,v,s),i!==null&&(mn(i,a,s),Po(i,a,s))},enqueueForceUpdate:function(a,i){a=a._reactInternals;var u=_n(),s=Aa(u);s.tag=2,i!=null&&(s.callback=i),i=ja(a,s,u),i!==null&&(mn(i,a,u),Po(i,a,u))}};function Jx(a,i,u,s,v,y,S){return a=a.stateNode,typeof a.shouldComponentUpdate=="function"?a.shouldComponentUpdate(s,y,S):i.prototype&&i.prototype.isPureReactComponent?!jo(u,s)||!jo(v,y):!0}function e1(a,i,u,s){a=i.state,typeof i.componentWillReceiveProps=="function"&&i.componentWillReceiveProps(u,s),typeof i.UNSAFE_componentWillReceiveProps=="function"&&i.UNSAFE_componentWillReceiveProps(u,s),i.state!==a&&lm.enqueueReplaceState(i,i.state,null)}function pi(a,i){var u=i;if("ref"in i){u={};for(var s in i)s!=="ref"&&(u[s]=i[s])}if(a=a.defaultProps){u===i&&(u=p({},u));for(var v in a)u[v]===void 0&&(u[v]=a[v])}return u}function t1(a){Ac(a)}function n1(a){console.error(a)}function r1(a){Ac(a)}function Xc(a,i){try{var u=a.onUncaughtError;u(i.value,{componentStack:i.stack})}catch(s){setTimeout(function(){throw s})}}function a1(a,i,u){try{var s=a.onCaughtError;s(u.value,{componentStack:u.stack,errorBoundary:i.tag===1?i.stateNode:null})}catch(v){setTimeout(function(){throw v})}}function om(a,i,u){return u=Aa(u),u.tag=3,u.payload={element:null},u.callback=function(){Xc(a,i)},u}function i1(a){return a=Aa(a),a.tag=3,a}function l1(a,i,u,s){var v=u.type.getDerivedStateFromError;if(typeof v=="function"){var y=s.value;a.payload=function(){return v(y)},a.callback=function(){a1(i,u,s)}}var S=u.stateNode;S!==null&&typeof S.componentDidCatch=="function"&&(a.callback=function(){a1(i,u,s),typeof v!="function"&&(Da===null?Da=new Set([this]):Da.add(this));var N=s.stack;this.componentDidCatch(s.value,{componentStack:N!==null?N:""})})}function xk(a,i,u,s,v){if(u.flags|=32768,s!==null&&typeof s=="object"&&typeof s.then=="function"){if(i=u.alternate,i!==null&&rl(i,u,v,!0),u=An.current,u!==null){switch(u.tag){case 31:case 13:return $n===null?ls():u.alternate===null&&it===0&&(it=3),u.flags&=-257,u.flags|=65536,u.lanes=v,s===Rc?u.flags|=16384:(i=u.updateQueue,i===null?u.updateQueue=new Set([s]):i.add(s),Dm(a,s,v)),!1;case 22:return u.flags|=65536,s===Rc?u.flags|=16384:(i=u.updateQueue,i===null?(i={transitions:null,markerInstances:null,retryQueue:new Set([s])},u.updateQueue=i):(u=i.retryQueue,u===null?i.retryQueue=new Set([s]):u.add(s)),Dm(a,s,v)),!1}throw Error(r(435,u.tag))}return Dm(a,s,v),ls(),!1}if(De)return i=An.current,i!==null?((i.flags&65536)===0&&(i.flags|=256),i.flags|=65536,i.lanes=v,s!==jh&&(a=Error(r(422),{cause:s}),_o(Un(a,u)))):(s!==jh&&(i=Error(r(423),{cause:s}),_o(Un(i,u))),a=a.current.alternate,a.flags|=65536,v&=-v,a.lanes|=v,s=Un(s,u),v=om(a.stateNode,s,v),Lh(a,v),it!==4&&(it=2)),!1;var y=Error(r(520),{cause:s});if(y=Un(y,u),Xo===null?Xo=[y]:Xo.push(y),it!==4&&(it=2),i===null)return!0;s=Un(s,u),u=i;do{switch(u.tag){case 3:return u.flags|=65536,a=v&-v,u.lanes|=a,a=om(u.stateNode,s,a),Lh(u,a),!1;case 1:if(i=u.type,y=u.stateNode,(u.flags&128)===0&&(typeof i.getDerivedStateFromError=="function"||y!==null&&typeof y.componentDidCatch=="function"&&(Da===null||!Da.has(y))))return u.flags|=65536,v&=-v,u.lanes|=v,v=i1(v),l1(v,a,u,s),Lh(u,v),!1}u=u.return}while(u!==null);return!1}var um=Error(r(461)),mt=!1;function Yt(a,i,u,s){i.child=a===null?sx(i,null,u,s):mi(i,a.child,u,s)}function o1(a,i,u,s,v){u=u.render;var y=i.ref;if("ref"in s){var S={};for(var N in s)N!=="ref"&&(S[N]=s[N])}else S=s;return si(i),s=$h(a,i,u,S,y,v),N=Yh(),a!==null&&!mt?(Kh(a,i,v),zr(a,i,v)):(De&&N&&Oh(i),i.flags|=1,Yt(a,i,s,v),i.child)}function u1(a,i,u,s,v){if(a===null){var y=u.type;return typeof y=="function"&&!wh(y)&&y.defaultProps===void 0&&u.compare===null?(i.tag=15,i.type=y,c1(a,i,y,s,v)):(a=_c(u.type,null,s,i,i.mode,v),a.ref=i.ref,a.return=i,i.child=a)}if(y=a.child,!pm(a,v)){var S=y.memoizedProps;if(u=u.compare,u=u!==null?u:jo,u(S,s)&&a.ref===i.ref)return zr(a,i,v)}return i.flags|=1,a=Tr(y,s),a.ref=i.ref,a.return=i,i.child=a}function c1(a,i,u,s,v){if(a!==null){var y=a.memoizedProps;if(jo(y,s)&&a.ref===i.ref)if(mt=!1,i.pendingProps=s=y,pm(a,v))(a.flags&131072)!==0&&(mt=!0);else return i.lanes=a.lanes,zr(a,i,v)}return cm(a,i,u,s,v)}function s1(a,i,u,s){var v=s.children,y=a!==null?a.memoizedState:null;if(a===null&&i.stateNode===null&&(i.stateNode={_visibility:1,_pendingMarkers:null,_retryCache:null,_transitions:null}),s.mode==="hidden"){if((i.flags&128)!==0){if(y=y!==null?y.baseLanes|u:u,a!==null){for(s=i.child=a.child,v=0;s!==null;)v=v|s.lanes|s.childLanes,s=s.sibling;s=v&~y}else s=0,i.child=null;return f1(a,i,y,u,s)}if((u&536870912)!==0)i.memoizedState={baseLanes:0,cachePool:null},a!==null&&kc(i,y!==null?y.cachePool:null),y!==null?hx(i,y):Uh(),mx(i);else return s=i.lanes=536870912,f1(a,i,y!==null?y.baseLanes|u:u,u,s)}else y!==null?(kc(i,y.cachePool),hx(i,y),Ca(),i.memoizedState=null):(a!==null&&kc(i,null),Uh(),Ca());return Yt(a,i,v,u),i.child}function qo(a,i){return a!==null&&a.tag===22||i.stateNode!==null||(i.stateNode={_visibility:1,_pendingMarkers:null,_retryCache:null,_transitions:null}),i.sibling}function f1(a,i,u,s,v){var y=kh();return y=y===null?null:{parent:dt._currentValue,pool:y},i.memoizedState={baseLanes:u,cachePool:y},a!==null&&kc(i,null),Uh(),mx(i),a!==null&&rl(a,i,s,!0),i.childLanes=v,null}function Fc(a,i){return i=Zc({mode:i.mode,children:i.children},a.mode),i.ref=a.ref,a.child=i,i.return=a,i}function d1(a,i,u){return mi(i,a.child,null,u),a=Fc(i,i.pendingProps),a.flags|=2,jn(i),i.memoizedState=null,a}function wk(a,i,u){var s=i.pendingProps,v=(i.flags&128)!==0;if(i.flags&=-129,a===null){if(De){if(s.mode==="hidden")return a=Fc(i,s),i.lanes=536870912,qo(null,a);if(qh(i),(a=Fe)?(a=Ow(a,Hn),a=a!==null&&a.data==="&"?a:null,a!==null&&(i.memoizedState={dehydrated:a,treeContext:xa!==null?{id:hr,overflow:mr}:null,retryLane:536870912,hydrationErrors:null},u=Fb(a),u.return=i,i.child=u,Ht=i,Fe=null)):a=null,a===null)throw Sa(i);return i.lanes=536870912,null}return Fc(i,s)}var y=a.memoizedState;if(y!==null){var S=y.dehydrated;if(qh(i),v)if(i.flags&256)i.flags&=-257,i=d1(a,i,u);else if(i.memoizedState!==null)i.child=a.child,i.flags|=128,i=null;else throw Error(r(558));else if(mt||rl(a,i,u,!1),v=(u&a.childLanes)!==0,mt||v){if(s=Ye,s!==null&&(S=nb(s,u),S!==0&&S!==y.retryLane))throw y.retryLane=S,li(a,S),mn(s,a,S),um;ls(),i=d1(a,i,u)}else a=y.treeContext,Fe=Yn(S.nextSibling),Ht=i,De=!0,wa=null,Hn=!1,a!==null&&Qb(i,a),i=Fc(i,s),i.flags|=4096;return i}return a=Tr(a.child,{mode:s.mode,children:s.children}),a.ref=i.ref,i.child=a,a.return=i,a}function Wc(a,i){var u=i.ref;if(u===null)a!==null&&a.ref!==null&&(i.flags|=4194816);else{if(typeof u!="function"&&typeof u!="object")throw Error(r(284));(a===null||a.ref!==u)&&(i.flags|=4194816)}}function cm(a,i,u,s,v){return si(i),u=$h(a,i,u,s,void 0,v),s=Yh(),a!==null&&!mt?(Kh(a,i,v),zr(a,i,v)):(De&&s&&Oh(i),i.flags|=1,Yt(a,i,u,v),i.child)}function h1(a,i,u,s,v,y){return si(i),i.updateQueue=null,u=px(i,s,u,v),vx(a),s=Yh(),a!==null&&!mt?(Kh(a,i,y),zr(a,i,y)):(De&&s&&Oh(i),i.flags|=1,Yt(a,i,u,y),i.child)}function m1(a,i,u,s,v){if(si(i),i.stateNode===null){var y=Ji,S=u.contextType;typeof S=="object"&&S!==null&&(y=$t(S)),y=new u(s,y),i.memoizedState=y.state!==null&&y.state!==void 0?y.state:null,y.updater=lm,i.stateNode=y,y._reactInternals=i,y=i.stateNode,y.props=s,y.state=i.memoizedState,y.refs={},Rh(i),S=u.contextType,y.context=typeof S=="object"&&S!==null?$t(S):Ji,y.state=i.memoizedState,S=u.getDerivedStateFromProps,typeof S=="function"&&(im(i,u,S,s),y.state=i.memoizedState),typeof u.getDerivedStateFromProps=="function"||typeof y.getSnapshotBeforeUpdate=="function"||typeof y.UNSAFE_componentWillMount!="function"&&typeof y.componentWillMount!="function"||(S=y.state,typeof y.componentWillMount=="function"&&y.componentWillMount(),typeof y.UNSAFE_componentWillMount=="function"&&y.UNSAFE_componentWillMount(),S!==y.state&&lm.enqueueReplaceState(y,y.state,null),zo(i,s,y,v),Ro(),y.state=i.memoizedState),typeof y.componentDidMount=="function"&&(i.flags|=4194308),s=!0}else if(a===null){y=i.stateNode;var N=i.memoizedProps,M=pi(u,N);y.props=M;var U=y.context,G=u.contextType;S=Ji,typeof G=="object"&&G!==null&&(S=$t(G));var Z=u.getDerivedStateFromProps;G=typeof Z=="function"||typeof y.getSnapshotBeforeUpdate=="function",N=i.pendingProps!==N,G||typeof y.UNSAFE_componentWillReceiveProps!="function"&&typeof y.componentWillReceiveProps!="function"||(N||U!==S)&&e1(i,y,s,S),Oa=!1;var H=i.memoizedState;y.state=H,zo(i,s,y,v),Ro(),U=i.memoizedState,N||H!==U||Oa?(typeof Z=="function"&&(im(i,u,Z,s),U=i.memoizedState),(M=Oa||Jx(i,u,M,s,H,U,S))?(G||typeof y.UNSAFE_componentWillMount!="function"&&typeof y.componentWillMount!="function"||(typeof y.componentWillMount=="function"&&y.componentWillMount(),typeof y.UNSAFE_componentWillMount=="function"&&y.UNSAFE_componentWillMount()),typeof y.componentDidMount=="function"&&(i.flags|=4194308)):(typeof y.componentDidMount=="function"&&(i.flags|=4194308),i.memoizedProps=s,i.memoizedState=U),y.props=s,y.state=U,y.context=S,s=M):(typeof y.componentDidMount=="function"&&(i.flags|=4194308),s=!1)}else{y=i.stateNode,zh(a,i),S=i.memoizedProps,G=pi(u,S),y.props=G,Z=i.pendingProps,H=y.context,U=u.contextType,M=Ji,typeof U=="object"&&U!==null&&(M=$t(U)),N=u.getDerivedStateFromProps,(U=typeof N=="function"||typeof y.getSnapshotBeforeUpdate=="function")||typeof y.UNSAFE_componentWillReceiveProps!="function"&&typeof y.componentWillReceiveProps!="function"||(S!==Z||H!==M)&&e1(i,y,s,M),Oa=!1,H=i.memoizedState,y.state=H,zo(i,s,y,v),Ro();var $=i.memoizedState;S!==Z||H!==$||Oa||a!==null&&a.dependencies!==null&&Mc(a.dependencies)?(typeof N=="function"&&(im(i,u,N,s),$=i.memoizedState),(G=Oa||Jx(i,u,G,s,H,$,M)||a!==null&&a.dependencies!==null&&Mc(a.dependencies))?(U||typeof y.UNSAFE_componentWillUpdate!="function"&&typeof y.componentWillUpdate!="function"||(typeof y.componentWillUpdate=="function"&&y.componentWillUpdate(s,$,M),typeof y.UNSAFE_componentWillUpdate=="function"&&y.UNSAFE_componentWillUpdate(s,$,M)),typeof y.componentDidUpdate=="function"&&(i.flags|=4),typeof y.getSnapshotBeforeUpdate=="function"&&(i.flags|=1024)):(typeof y.componentDidUpdate!="function"||S===a.memoizedProps&&H===a.memoizedState||(i.flags|=4),typeof y.getSnapshotBeforeUpdate!="function"||S===a.memoizedProps&&H===a.memoizedState||(i.flags|=1024),i.memoizedProps=s,i.memoizedState=$),y.props=s,y.state=$,y.context=M,s=G):(typeof y.componentDidUpdate!="function"||S===a.memoizedProps&&H===a.memoizedState||(i.flags|=4),typeof y.getSnapshotBeforeUpdate!="function"||S===a.memoizedProps&&H===a.memoizedState||(i.flags|=1024),s=!1)}return y=s,Wc(a,i),s=(i.flags&128)!==0,y||s?(y=i.stateNode,u=s&&typeof u.getDerivedStateFromError!="function"?null:y.render(),i.flags|=1,a!==null&&s?(i.child=mi(i,a.child,null,v),i.child=mi(i,null,u,v)):Yt(a,i,u,v),i.memoizedState=y.state,a=i.child):a=zr(a,i,v),a}function v1(a,i,u,s){return ui(),i.flags|=256,Yt(a,i,u,s),i.child}var sm={dehydrated:null,treeContext:null,retryLane:0,hydrationErrors:null};function fm(a){return{baseLanes:a,cachePool:ax()}}function dm(a,i,u){return a=a!==null?a.childLanes&~u:0,i&&(a|=Cn),a}function p1(a,i,u){var s=i.pendingProps,v=!1,y=(i.flags&128)!==0,S;if((S=y)||(S=a!==null&&a.memoizedState===null?!1:(ut.current&2)!==0),S&&(v=!0,i.flags&=-129),S=(i.flags&32)!==0,i.flags&=-33,a===null){if(De){if(v?Na(i):Ca(),(a=Fe)?(a=Ow(a,Hn),a=a!==null&&a.data!=="&"?a:null,a!==null&&(i.memoizedState={dehydrated:a,treeContext:xa!==null?{id:hr,overflow:mr}:null,retryLane:536870912,hydrationErrors:null},u=Fb(a),u.return=i,i.child=u,Ht=i,Fe=null)):a=null,a===null)throw Sa(i);return Xm(a)?i.lanes=32:i.lanes=536870912,null}var N=s.children;return s=s.fallback,v?(Ca(),v=i.mode,N=Zc({mode:"hidden",children:N},v),s=oi(s,v,u,null),N.return=i,s.return=i,N.sibling=s,i.child=N,s=i.child,s.memoizedState=fm(u),s.childLanes=dm(a,S,u),i.memoizedState=sm,qo(null,s)):(Na(i),hm(i,N))}var M=a.memoizedState;if(M!==null&&(N=M.dehydrated,N!==null)){if(y)i.flags&256?(Na(i),i.flags&=-257,i=mm(a,i,u)):i.memoizedState!==null?(Ca(),i.child=a.child,i.flags|=128,i=null):(Ca(),N=s.fallback,v=i.mode,s=Zc({mode:"visible",children:s.children},v),N=oi(N,v,u,null),N.flags|=2,s.return=i,N.return=i,s.sibling=N,i.child=s,mi(i,a.child,null,u),s=i.child,s.memoizedState=fm(u),s.childLanes=dm(a,S,u),i.memoizedState=sm,i=qo(null,s));else if(Na(i),Xm(N)){if(S=N.nextSibling&&N.nextSibling.dataset,S)var U=S.dgst;S=U,s=Error(r(419)),s.stack="",s.digest=S,_o({value:s,source:null,stack:null}),i=mm(a,i,u)}else if(mt||rl(a,i,u,!1),S=(u&a.childLanes)!==0,mt||S){if(S=Ye,S!==null&&(s=nb(S,u),s!==0&&s!==M.retryLane))throw M.retryLane=s,li(a,s),mn(S,a,s),um;Vm(N)||ls(),i=mm(a,i,u)}else Vm(N)?(i.flags|=192,i.child=a.child,i=null):(a=M.treeContext,Fe=Yn(N.nextSibling),Ht=i,De=!0,wa=null,Hn=!1,a!==null&&Qb(i,a),i=hm(i,s.children),i.flags|=4096);return i}return v?(Ca(),N=s.fallback,v=i.mode,M=a.child,U=M.sibling,s=Tr(M,{mode:"hidden",children:s.children}),s.subtreeFlags=M.subtreeFlags&65011712,U!==null?N=Tr(U,N):(N=oi(N,v,u,null),N.flags|=2),N.return=i,s.return=i,s.sibling=N,i.child=s,qo(null,s),s=i.child,N=a.child.memoizedState,N===null?N=fm(u):(v=N.cachePool,v!==null?(M=dt._currentValue,v=v.parent!==M?{parent:M,pool:M}:v):v=ax(),N={baseLanes:N.baseLanes|u,cachePool:v}),s.memoizedState=N,s.childLanes=dm(a,S,u),i.memoizedState=sm,qo(a.child,s)):(Na(i),u=a.child,a=u.sibling,u=Tr(u,{mode:"visible",children:s.children}),u.return=i,u.sibling=null,a!==null&&(S=i.deletions,S===null?(i.deletions=[a],i.flags|=16):S.push(a)),i.child=u,i.memoizedState=null,u)}function hm(a,i){return i=Zc({mode:"visible",children:i},a.mode),i.return=a,a.child=i}function Zc(a,i){return a=On(22,a,null,i),a.lanes=0,a}function mm(a,i,u){return mi(i,a.child,null,u),a=hm(i,i.pendingProps.children),a.flags|=2,i.memoizedState=null,a}function y1(a,i,u){a.lanes|=i;var s=a.alternate;s!==null&&(s.lanes|=i),_h(a.return,i,u)}function vm(a,i,u,s,v,y){var S=a.memoizedState;S===null?a.memoizedState={isBackwards:i,rendering:null,renderingStartTime:0,last:s,tail:u,tailMode:v,treeForkCount:y}:(S.isBackwards=i,S.rendering=null,S.renderingStartTime=0,S.last=s,S.tail=u,S.tailMode=v,S.treeForkCount=y)}function g1(a,i,u){var s=i.pendingProps,v=s.revealOrder,y=s.tail;s=s.children;var S=ut.current,N=(S&2)!==0;if(N?(S=S&1|2,i.flags|=128):S&=1,ee(ut,S),Yt(a,i,s,u),s=De?Co:0,!N&&a!==null&&(a.flags&128)!==0)e:for(a=i.child;a!==null;){if(a.tag===13)a.memoizedState!==null&&y1(a,u,i);else if(a.tag===19)y1(a,u,i);else if(a.child!==null){a.child.return=a,a=a.child;continue}if(a===i)break e;for(;a.sibling===null;){if(a.return===null||a.return===i)break e;a=a.return}a.sibling.return=a.return,a=a.sibling}switch(v){case"forwards":for(u=i.child,v=null;u!==null;)a=u.alternate,a!==null&&Uc(a)===null&&(v=u),u=u.sibling;u=v,u===null?(v=i.child,i.child=null):(v=u.sibling,u.sibling=null),vm(i,!1,v,u,y,s);break;case"backwards":case"unstable_legacy-backwards":for(u=null,v=i.child,i.child=null;v!==null;){if(a=v.alternate,a!==null&&Uc(a)===null){i.child=v;break}a=v.sibling,v.sibling=u,u=v,v=a}vm(i,!0,u,null,y,s);break;case"together":vm(i,!1,null,null,void 0,s);break;default:i.memoizedState=null}return i.child}function zr(a,i,u){if(a!==null&&(i.dependencies=a.dependencies),Ma|=i.lanes,(u&i.childLanes)===0)if(a!==null){if(rl(a,i,u,!1),(u&i.childLanes)===0)return null}else return null;if(a!==null&&i.child!==a.child)throw Error(r(153));if(i.child!==null){for(a=i.child,u=Tr(a,a.pendingProps),i.child=u,u.return=i;a.sibling!==null;)a=a.sibling,u=u.sibling=Tr(a,a.pendingProps),u.return=i;u.sibling=null}return i.child}function pm(a,i){return(a.lanes&i)!==0?!0:(a=a.dependencies,!!(a!==null&&Mc(a)))}function Sk(a,i,u){switch(i.tag){case 3:rt(i,i.stateNode.containerInfo),Ea(i,dt,a.memoizedState.cache),ui();break;case 27:case 5:be(i);break;case 4:rt(i,i.stateNode.containerInfo);break;case 10:Ea(i,i.type,i.memoizedProps.value);break;case 31:if(i.memoizedState!==null)return i.flags|=128,qh(i),null;break;case 13:var s=i.memoizedState;if(s!==null)return s.dehydrated!==null?(Na(i),i.flags|=128,null):(u&i.child.childLanes)!==0?p1(a,i,u):(Na(i),a=zr(a,i,u),a!==null?a.sibling:null);Na(i);break;case 19:var v=(a.flags&128)!==0;if(s=(u&i.childLanes)!==0,s||(rl(a,i,u,!1),s=(u&i.childLanes)!==0),v){if(s)return g1(a,i,u);i.flags|=128}if(v=i.memoizedState,v!==null&&(v.rendering=null,v.tail=null,v.lastEffect=null),ee(ut,ut.current),s)break;return null;case 22:return i.lanes=0,s1(a,i,u,i.pendingProps);case 24:Ea(i,dt,a.memoizedState.cache)}return zr(a,i,u)}function b1(a,i,u){if(a!==null)if(a.memoizedProps!==i.pendingProps)mt=!0;else{if(!pm(a,u)&&(i.flags&128)===0)return mt=!1,Sk(a,i,u);mt=(a.flags&131072)!==0}else mt=!1,De&&(i.flags&1048576)!==0&&Zb(i,Co,i.index);switch(i.lanes=0,i.tag){case 16:e:{var s=i.pendingProps;if(a=di(i.elementType),i.type=a,typeof a=="function")wh(a)?(s=pi(a,s),i.tag=1,i=m1(null,i,a,s,u)):(i.tag=0,i=cm(null,i,a,s,u));else{if(a!=null){var v=a.$$typeof;if(v===D){i.tag=11,i=o1(null,i,a,s,u);break e}else if(v===k){i.tag=14,i=u1(null,i,a,s,u);break e}}throw i=ge(a)||a,Error(r(306,i,""))}}return i;case 0:return cm(a,i,i.type,i.pendingProps,u);case 1:return s=i.type,v=pi(s,i.pendingProps),m1(a,i,s,v,u);case 3:e:{if(rt(i,i.stateNode.containerInfo),a===null)throw Error(r(387));s=i.pendingProps;var y=i.memoizedState;v=y.element,zh(a,i),zo(i,s,null,u);var S=i.memoizedState;if(s=S.cache,Ea(i,dt,s),s!==y.cache&&Th(i,[dt],u,!0),Ro(),s=S.element,y.isDehydrated)if(y={element:s,isDehydrated:!1,cache:S.cache},i.updateQueue.baseState=y,i.memoizedState=y,i.flags&256){i=v1(a,i,s,u);break e}else if(s!==v){v=Un(Error(r(424)),i),_o(v),i=v1(a,i,s,u);break e}else{switch(a=i.stateNode.containerInfo,a.nodeType){case 9:a=a.body;break;default:a=a.nodeName==="HTML"?a.ownerDocument.body:a}for(Fe=Yn(a.firstChild),Ht=i,De=!0,wa=null,Hn=!0,u=sx(i,null,s,u),i.child=u;u;)u.flags=u.flags&-3|4096,u=u.sibling}else{if(ui(),s===v){i=zr(a,i,u);break e}Yt(a,i,s,u)}i=i.child}return i;case 26:return Wc(a,i),a===null?(u=Tw(i.type,null,i.pendingProps,null))?i.memoizedState=u:De||(u=i.type,a=i.pendingProps,s=hs(we.current).createElement(u),s[qt]=i,s[un]=a,Kt(s,u,a),Nt(s),i.stateNode=s):i.memoizedState=Tw(i.type,a.memoizedProps,i.pendingProps,a.memoizedState),null;case 27:return be(i),a===null&&De&&(s=i.stateNode=Nw(i.type,i.pendingProps,we.current),Ht=i,Hn=!0,v=Fe,za(i.type)?(Fm=v,Fe=Yn(s.firstChild)):Fe=v),Yt(a,i,i.pendingProps.children,u),Wc(a,i),a===null&&(i.flags|=4194304),i.child;case 5:return a===null&&De&&((v=s=Fe)&&(s=Qk(s,i.type,i.pendingProps,Hn),s!==null?(i.stateNode=s,Ht=i,Fe=Yn(s.firstChild),Hn=!1,v=!0):v=!1),v||Sa(i)),be(i),v=i.type,y=i.pendingProps,S=a!==null?a.memoizedProps:null,s=y.children,Ym(v,y)?s=null:S!==null&&Ym(v,S)&&(i.flags|=32),i.memoizedState!==null&&(v=$h(a,i,hk,null,null,u),nu._currentValue=v),Wc(a,i),Yt(a,i,s,u),i.child;case 6:return a===null&&De&&((a=u=Fe)&&(u=Jk(u,i.pendingProps,Hn),u!==null?(i.stateNode=u,Ht=i,Fe=null,a=!0):a=!1),a||Sa(i)),null;case 13:return p1(a,i,u);case 4:return rt(i,i.stateNode.containerInfo),s=i.pendingProps,a===null?i.child=mi(i,null,s,u):Yt(a,i,s,u),i.child;case 11:return o1(a,i,i.type,i.pendingProps,u);case 7:return Yt(a,i,i.pendingProps,u),i.child;case 8:return Yt(a,i,i.pendingProps.children,u),i.child;case 12:return Yt(a,i,i.pendingProps.children,u),i.child;case 10:return s=i.pendingProps,Ea(i,i.type,s.value),Yt(a,i,s.children,u),i.child;case 9:return v=i.type._context,s=i.pendingProps.children,si(i),v=$t(v),s=s(v),i.flags|=1,Yt(a,i,s,u),i.child;case 14:return u1(a,i,i.type,i.pendingProps,u);case 15:return c1(a,i,i.type,i.pendingProps,u);case 19:return g1(a,i,u);case 31:return wk(a,i,u);case 22:return s1(a,i,u,i.pendingProps);case 24:return si(i),s=$t(dt),a===null?(v=kh(),v===null&&(v=Ye,y=Mh(),v.pooledCache=y,y.refCount++,y!==null&&(v.pooledCacheLanes|=u),v=y),i.memoizedState={parent:s,cache:v},Rh(i),Ea(i,dt,v)):((a.lanes&u)!==0&&(zh(a,i),zo(i,null,null,u),Ro()),v=a.memoizedState,y=i.memoizedState,v.parent!==s?(v={parent:s,cache:s},i.memoizedState=v,i.lanes===0&&(i.memoizedState=i.updateQueue.baseState=v),Ea(i,dt,s)):(s=y.cache,Ea(i,dt,s),s!==v.cache&&Th(i,[dt],u,!0))),Yt(a,i,i.pendingProps.children,u),i.child;case 29:throw i.pendingProps}throw Error(r(156,i.tag))}function Lr(a){a.flags|=4}function ym(a,i,u,s,v){if((i=(a.mode&32)!==0)&&(i=!1),i){if(a.flags|=16777216,(v&335544128)===v)if(a.stateNode.complete)a.flags|=8192;else if(G1())a.flags|=8192;else throw hi=Rc,Ph}else a.flags&=-16777217}function x1(a,i){if(i.type!=="stylesheet"||(i.state.loading&4)!==0)a.flags&=-16777217;else if(a.flags|=16777216,!Rw(i))if(G1())a.flags|=8192;else throw hi=Rc,Ph}function Qc(a,i){i!==null&&(a.flags|=4),a.flags&16384&&(i=a.tag!==22?J0():536870912,a.lanes|=i,vl|=i)}function Ho(a,i){if(!De)switch(a.tailMode){case"hidden":i=a.tail;for(var u=null;i!==null;)i.alternate!==null&&(u=i),i=i.sibling;u===null?a.tail=null:u.sibling=null;break;case"collapsed":u=a.tail;for(var s=null;u!==null;)u.alternate!==null&&(s=u),u=u.sibling;s===null?i||a.tail===null?a.tail=null:a.tail.sibling=null:s.sibling=null}}function We(a){var i=a.alternate!==null&&a.alternate.child===a.child,u=0,s=0;if(i)for(var v=a.child;v!==null;)u|=v.lanes|v.childLanes,s|=v.subtreeFlags&65011712,s|=v.flags&65011712,v.return=a,v=v.sibling;else for(v=a.child;v!==null;)u|=v.lanes|v.childLanes,s|=v.subtreeFlags,s|=v.flags,v.return=a,v=v.sibling;return a.subtreeFlags|=s,a.childLanes=u,i}function Ek(a,i,u){var s=i.pendingProps;switch(Ah(i),i.tag){case 16:case 15:case 0:case 11:case 7:case 8:case 12:case 9:case 14:return We(i),null;case 1:return We(i),null;case 3:return u=i.stateNode,s=null,a!==null&&(s=a.memoizedState.cache),i.memoizedState.cache!==s&&(i.flags|=2048),kr(dt),V(),u.pendingContext&&(u.context=u.pendingContext,u.pendingContext=null),(a===null||a.child===null)&&(nl(i)?Lr(i):a===null||a.memoizedState.isDehydrated&&(i.flags&256)===0||(i.flags|=1024,Nh())),We(i),null;case 26:var v=i.type,y=i.memoizedState;return a===null?(Lr(i),y!==null?(We(i),x1(i,y)):(We(i),ym(i,v,null,s,u))):y?y!==a.memoizedState?(Lr(i),We(i),x1(i,y)):(We(i),i.flags&=-16777217):(a=a.memoizedProps,a!==s&&Lr(i),We(i),ym(i,v,a,s,u)),null;case 27:if(Ae(i),u=we.current,v=i.type,a!==null&&i.stateNode!=null)a.memoizedProps!==s&&Lr(i);else{if(!s){if(i.stateNode===null)throw Error(r(166));return We(i),null}a=ne.current,nl(i)?Jb(i):(a=Nw(v,s,u),i.stateNode=a,Lr(i))}return We(i),null;case 5:if(Ae(i),v=i.type,a!==null&&i.stateNode!=null)a.memoizedProps!==s&&Lr(i);else{if(!s){if(i.stateNode===null)throw Error(r(166));return We(i),null}if(y=ne.current,nl(i))Jb(i);else{var S=hs(we.current);switch(y){case 1:y=S.createElementNS("http://www.w3.org/2000/svg",v);break;case 2:y=S.createElementNS("http://www.w3.org/1998/Math/MathML",v);break;default:switch(v){case"svg":y=S.createElementNS("http://www.w3.org/2000/svg",v);break;case"math":y=S.createElementNS("http://www.w3.org/1998/Math/MathML",v);break;case"script":y=S.createElement("div"),y.innerHTML="<script><\/script>",y=y.removeChild(y.firstChild);break;case"select":y=typeof s.is=="string"?S.createElement("select",{is:s.is}):S.createElement("select"),s.multiple?y.multiple=!0:s.size&&(y.size=s.size);break;default:y=typeof s.is=="string"?S.createElement(v,{is:s.is}):S.createElement(v)}}y[qt]=i,y[un]=s;e:for(S=i.child;S!==null;){if(S.tag===5||S.tag===6)y.appendChild(S.stateNode);else if(S.tag!==4&&S.tag!==27&&S.child!==null){S.child.return=S,S=S.child;continue}if(S===i)break e;for(;S.sibling===null;){if(S.return===null||S.return===i)break e;S=S.return}S.sibling.return=S.return,S=S.sibling}i.stateNode=y;e:switch(Kt(y,v,s),v){case"button":case"input":case"select":case"textarea":s=!!s.autoFocus;break e;case"img":s=!0;break e;default:s=!1}s&&Lr(i)}}return We(i),ym(i,i.type,a===null?null:a.memoizedProps,i.pendingProps,u),null;case 6:if(a&&i.stateNode!=null)a.memoizedProps!==s&&Lr(i);else{if(typeof s!="string"&&i.stateNode===null)throw Error(r(166));if(a=we.current,nl(i)){if(a=i.stateNode,u=i.memoizedProps,s=null,v=Ht,v!==null)switch(v.tag){case 27:case 5:s=v.memoizedProps}a[qt]=i,a=!!(a.nodeValue===u||s!==null&&s.suppressHydrationWarning===!0||pw(a.nodeValue,u)),a||Sa(i,!0)}else a=hs(a).createTextNode(s),a[qt]=i,i.stateNode=a}return We(i),null;case 31:if(u=i.memoizedState,a===null||a.memoizedState!==null){if(s=nl(i),u!==null){if(a===null){if(!s)throw Error(r(318));if(a=i.memoizedState,a=a!==null?a.dehydrated:null,!a)throw Error(r(557));a[qt]=i}else ui(),(i.flags&128)===0&&(i.memoizedState=null),i.flags|=4;We(i),a=!1}else u=Nh(),a!==null&&a.memoizedState!==null&&(a.memoizedState.hydrationErrors=u),a=!0;if(!a)return i.flags&256?(jn(i),i):(jn(i),null);if((i.flags&128)!==0)throw Error(r(558))}return We(i),null;case 13:if(s=i.memoizedState,a===null||a.memoizedState!==null&&a.memoizedState.dehydrated!==null){if(v=nl(i),s!==null&&s.dehydrated!==null){if(a===null){if(!v)throw Error(r(318));if(v=i.memoizedState,v=v!==null?v.dehydrated:null,!v)throw Error(r(317));v[qt]=i}else ui(),(i.flags&128)===0&&(i.memoizedState=null),i.flags|=4;We(i),v=!1}else v=Nh(),a!==null&&a.memoizedState!==null&&(a.memoizedState.hydrationErrors=v),v=!0;if(!v)return i.flags&256?(jn(i),i):(jn(i),null)}return jn(i),(i.flags&128)!==0?(i.lanes=u,i):(u=s!==null,a=a!==null&&a.memoizedState!==null,u&&(s=i.child,v=null,s.alternate!==null&&s.alternate.memoizedState!==null&&s.alternate.memoizedState.cachePool!==null&&(v=s.alternate.memoizedState.cachePool.pool),y=null,s.memoizedState!==null&&s.memoizedState.cachePool!==null&&(y=s.memoizedState.cachePool.pool),y!==v&&(s.flags|=2048)),u!==a&&u&&(i.child.flags|=8192),Qc(i,i.updateQueue),We(i),null);case 4:return V(),a===null&&Um(i.stateNode.containerInfo),We(i),null;case 10:return kr(i.type),We(i),null;case 19:if(K(ut),s=i.memoizedState,s===null)return We(i),null;if(v=(i.flags&128)!==0,y=s.rendering,y===null)if(v)Ho(s,!1);else{if(it!==0||a!==null&&(a.flags&128)!==0)for(a=i.child;a!==null;){if(y=Uc(a),y!==null){for(i.flags|=128,Ho(s,!1),a=y.updateQueue,i.updateQueue=a,Qc(i,a),i.subtreeFlags=0,a=u,u=i.child;u!==null;)Xb(u,a),u=u.sibling;return ee(ut,ut.current&1|2),De&&Mr(i,s.treeForkCount),i.child}a=a.sibling}s.tail!==null&&xn()>rs&&(i.flags|=128,v=!0,Ho(s,!1),i.lanes=4194304)}else{if(!v)if(a=Uc(y),a!==null){if(i.flags|=128,v=!0,a=a.updateQueue,i.updateQueue=a,Qc(i,a),Ho(s,!0),s.tail===null&&s.tailMode==="hidden"&&!y.alternate&&!De)return We(i),null}else 2*xn()-s.renderingStartTime>rs&&u!==536870912&&(i.flags|=128,v=!0,Ho(s,!1),i.lanes=4194304);s.isBackwards?(y.sibling=i.child,i.child=y):(a=s.last,a!==null?a.sibling=y:i.child=y,s.last=y)}return s.tail!==null?(a=s.tail,s.rendering=a,s.tail=a.sibling,s.renderingStartTime=xn(),a.sibling=null,u=ut.current,ee(ut,v?u&1|2:u&1),De&&Mr(i,s.treeForkCount),a):(We(i),null);case 22:case 23:return jn(i),Ih(),s=i.memoizedState!==null,a!==null?a.memoizedState!==null!==s&&(i.flags|=8192):s&&(i.flags|=8192),s?(u&536870912)!==0&&(i.flags&128)===0&&(We(i),i.subtreeFlags&6&&(i.flags|=8192)):We(i),u=i.updateQueue,u!==null&&Qc(i,u.retryQueue),u=null,a!==null&&a.memoizedState!==null&&a.memoizedState.cachePool!==null&&(u=a.memoizedState.cachePool.pool),s=null,i.memoizedState!==null&&i.memoizedState.cachePool!==null&&(s=i.memoizedState.cachePool.pool),s!==u&&(i.flags|=2048),a!==null&&K(fi),null;case 24:return u=null,a!==null&&(u=a.memoizedState.cache),i.memoizedState.cache!==u&&(i.flags|=2048),kr(dt),We(i),null;case 25:return null;case 30:return null}throw Error(r(156,i.tag))}function Ok(a,i){switch(Ah(i),i.tag){case 1:return a=i.flags,a&65536?(i.flags=a&-65537|128,i):null;case 3:return kr(dt),V(),a=i.flags,(a&65536)!==0&&(a&128)===0?(i.flags=a&-65537|128,i):null;case 26:case 27:case 5:return Ae(i),null;case 31:if(i.memoizedState!==null){if(jn(i),i.alternate===null)throw Error(r(340));ui()}return a=i.flags,a&65536?(i.flags=a&-65537|128,i):null;case 13:if(jn(i),a=i.memoizedState,a!==null&&a.dehydrated!==null){if(i.alternate===null)throw Error(r(340));ui()}return a=i.flags,a&65536?(i.flags=a&-65537|128,i):null;case 19:return K(ut),null;case 4:return V(),null;case 10:return kr(i.type),null;case 22:case 23:return jn(i),Ih(),a!==null&&K(fi),a=i.flags,a&65536?(i.flags=a&-65537|128,i):null;case 24:return kr(dt),null;case 25:return null;default:return null}}function w1(a,i){switch(Ah(i),i.tag){case 3:kr(dt),V();break;case 26:case 27:case 5:Ae(i);break;case 4:V();break;case 31:i.memoizedState!==null&&jn(i);break;case 13:jn(i);break;case 19:K(ut);break;case 10:kr(i.type);break;case 22:case 23:jn(i),Ih(),a!==null&&K(fi);break;case 24:kr(dt)}}function $o(a,i){try{var u=i.updateQueue,s=u!==null?u.lastEffect:null;if(s!==null){var v=s.next;u=v;do{if((u.tag&a)===a){s=void 0;var y=u.create,S=u.inst;s=y(),S.destroy=s}u=u.next}while(u!==v)}}catch(N){Ue(i,i.return,N)}}function _a(a,i,u){try{var s=i.updateQueue,v=s!==null?s.lastEffect:null;if(v!==null){var y=v.next;s=y;do{if((s.tag&a)===a){var S=s.inst,N=S.destroy;if(N!==void 0){S.destroy=void 0,v=i;var M=u,U=N;try{U()}catch(G){Ue(v,M,G)}}}s=s.next}while(s!==y)}}catch(G){Ue(i,i.return,G)}}function S1(a){var i=a.updateQueue;if(i!==null){var u=a.stateNode;try{dx(i,u)}catch(s){Ue(a,a.return,s)}}}function E1(a,i,u){u.props=pi(a.type,a.memoizedProps),u.state=a.memoizedState;try{u.componentWillUnmount()}catch(s){Ue(a,i,s)}}function Yo(a,i){try{var u=a.ref;if(u!==null){switch(a.tag){case 26:case 27:case 5:var s=a.stateNode;break;case 30:s=a.stateNode;break;default:s=a.stateNode}typeof u=="function"?a.refCleanup=u(s):u.current=s}}catch(v){Ue(a,i,v)}}function vr(a,i){var u=a.ref,s=a.refCleanup;if(u!==null)if(typeof s=="function")try{s()}catch(v){Ue(a,i,v)}finally{a.refCleanup=null,a=a.alternate,a!=null&&(a.refCleanup=null)}else if(typeof u=="function")try{u(null)}catch(v){Ue(a,i,v)}else u.current=null}function O1(a){var i=a.type,u=a.memoizedProps,s=a.stateNode;try{e:switch(i){case"button":case"input":case"select":case"textarea":u.autoFocus&&s.focus();break e;case"img":u.src?s.src=u.src:u.srcSet&&(s.srcset=u.srcSet)}}catch(v){Ue(a,a.return,v)}}function gm(a,i,u){try{var s=a.stateNode;Gk(s,a.type,u,i),s[un]=i}catch(v){Ue(a,a.return,v)}}function A1(a){return a.tag===5||a.tag===3||a.tag===26||a.tag===27&&za(a.type)||a.tag===4}function bm(a){e:for(;;){for(;a.sibling===null;){if(a.return===null||A1(a.return))return null;a=a.return}for(a.sibling.return=a.return,a=a.sibling;a.tag!==5&&a.tag!==6&&a.tag!==18;){if(a.tag===27&&za(a.type)||a.flags&2||a.child===null||a.tag===4)continue e;a.child.return=a,a=a.child}if(!(a.flags&2))return a.stateNode}}function xm(a,i,u){var s=a.tag;if(s===5||s===6)a=a.stateNode,i?(u.nodeType===9?u.body:u.nodeName==="HTML"?u.ownerDocument.body:u).insertBefore(a,i):(i=u.nodeType===9?u.body:u.nodeName==="HTML"?u.ownerDocument.body:u,i.appendChild(a),u=u._reactRootContainer,u!=null||i.onclick!==null||(i.onclick=Cr));else if(s!==4&&(s===27&&za(a.type)&&(u=a.stateNode,i=null),a=a.child,a!==null))for(xm(a,i,u),a=a.sibling;a!==null;)xm(a,i,u),a=a.sibling}function Jc(a,i,u){var s=a.tag;if(s===5||s===6)a=a.stateNode,i?u.insertBefore(a,i):u.appendChild(a);else if(s!==4&&(s===27&&za(a.type)&&(u=a.stateNode),a=a.child,a!==null))for(Jc(a,i,u),a=a.sibling;a!==null;)Jc(a,i,u),a=a.sibling}function j1(a){var i=a.stateNode,u=a.memoizedProps;try{for(var s=a.type,v=i.attributes;v.length;)i.removeAttributeNode(v[0]);Kt(i,s,u),i[qt]=a,i[un]=u}catch(y){Ue(a,a.return,y)}}var Br=!1,vt=!1,wm=!1,N1=typeof WeakSet=="function"?WeakSet:Set,Ct=null;function Ak(a,i){if(a=a.containerInfo,Hm=xs,a=Ub(a),mh(a)){if("selectionStart"in a)var u={start:a.selectionStart,end:a.selectionEnd};else e:{u=(u=a.ownerDocument)&&u.defaultView||window;var s=u.getSelection&&u.getSelection();if(s&&s.rangeCount!==0){u=s.anchorNode;var v=s.anchorOffset,y=s.focusNode;s=s.focusOffset;try{u.nodeType,y.nodeType}catch{u=null;break e}var S=0,N=-1,M=-1,U=0,G=0,Z=a,H=null;t:for(;;){for(var $;Z!==u||v!==0&&Z.nodeType!==3||(N=S+v),Z!==y||s!==0&&Z.nodeType!==3||(M=S+s),Z.nodeType===3&&(S+=Z.nodeValue.length),($=Z.firstChild)!==null;)H=Z,Z=$;for(;;){if(Z===a)break t;if(H===u&&++U===v&&(N=S),H===y&&++G===s&&(M=S),($=Z.nextSibling)!==null)break;Z=H,H=Z.parentNode}Z=$}u=N===-1||M===-1?null:{start:N,end:M}}else u=null}u=u||{start:0,end:0}}else u=null;for($m={focusedElem:a,selectionRange:u},xs=!1,Ct=i;Ct!==null;)if(i=Ct,a=i.child,(i.subtreeFlags&1028)!==0&&a!==null)a.return=i,Ct=a;else for(;Ct!==null;){switch(i=Ct,y=i.alternate,a=i.flags,i.tag){case 0:if((a&4)!==0&&(a=i.updateQueue,a=a!==null?a.events:null,a!==null))for(u=0;u<a.length;u++)v=a[u],v.ref.impl=v.nextImpl;break;case 11:case 15:break;case 1:if((a&1024)!==0&&y!==null){a=void 0,u=i,v=y.memoizedProps,y=y.memoizedState,s=u.stateNode;try{var oe=pi(u.type,v);a=s.getSnapshotBeforeUpdate(oe,y),s.__reactInternalSnapshotBeforeUpdate=a}catch(ye){Ue(u,u.return,ye)}}break;case 3:if((a&1024)!==0){if(a=i.stateNode.containerInfo,u=a.nodeType,u===9)Gm(a);else if(u===1)switch(a.nodeName){case"HEAD":case"HTML":case"BODY":Gm(a);break;default:a.textContent=""}}break;case 5:case 26:case 27:case 6:case 4:case 17:break;default:if((a&1024)!==0)throw Error(r(163))}if(a=i.sibling,a!==null){a.return=i.return,Ct=a;break}Ct=i.return}}function C1(a,i,u){var s=u.flags;switch(u.tag){case 0:case 11:case 15:Ir(a,u),s&4&&$o(5,u);break;case 1:if(Ir(a,u),s&4)if(a=u.stateNode,i===null)try{a.componentDidMount()}catch(S){Ue(u,u.return,S)}else{var v=pi(u.type,i.memoizedProps);i=i.memoizedState;try{a.componentDidUpdate(v,i,a.__reactInternalSnapshotBeforeUpdate)}catch(S){Ue(u,u.return,S)}}s&64&&S1(u),s&512&&Yo(u,u.return);break;case 3:if(Ir(a,u),s&64&&(a=u.updateQueue,a!==null)){if(i=null,u.child!==null)switch(u.child.tag){case 27:case 5:i=u.child.stateNode;break;case 1:i=u.child.stateNode}try{dx(a,i)}catch(S){Ue(u,u.return,S)}}break;case 27:i===null&&s&4&&j1(u);case 26:case 5:Ir(a,u),i===null&&s&4&&O1(u),s&512&&Yo(u,u.return);break;case 12:Ir(a,u);break;case 31:Ir(a,u),s&4&&M1(a,u);break;case 13:Ir(a,u),s&4&&D1(a,u),s&64&&(a=u.memoizedState,a!==null&&(a=a.dehydrated,a!==null&&(u=Pk.bind(null,u),eP(a,u))));break;case 22:if(s=u.memoizedState!==null||Br,!s){i=i!==null&&i.memoizedState!==null||vt,v=Br;var y=vt;Br=s,(vt=i)&&!y?qr(a,u,(u.subtreeFlags&8772)!==0):Ir(a,u),Br=v,vt=y}break;case 30:break;default:Ir(a,u)}}function _1(a){var i=a.alternate;i!==null&&(a.alternate=null,_1(i)),a.child=null,a.deletions=null,a.sibling=null,a.tag===5&&(i=a.stateNode,i!==null&&Zd(i)),a.stateNode=null,a.return=null,a.dependencies=null,a.memoizedProps=null,a.memoizedState=null,a.pendingProps=null,a.stateNode=null,a.updateQueue=null}var Qe=null,sn=!1;function Ur(a,i,u){for(u=u.child;u!==null;)T1(a,i,u),u=u.sibling}function T1(a,i,u){if(wn&&typeof wn.onCommitFiberUnmount=="function")try{wn.onCommitFiberUnmount(mo,u)}catch{}switch(u.tag){case 26:vt||vr(u,i),Ur(a,i,u),u.memoizedState?u.memoizedState.count--:u.stateNode&&(u=u.stateNode,u.parentNode.removeChild(u));break;case 27:vt||vr(u,i);var s=Qe,v=sn;za(u.type)&&(Qe=u.stateNode,sn=!1),Ur(a,i,u),Jo(u.stateNode),Qe=s,sn=v;break;case 5:vt||vr(u,i);case 6:if(s=Qe,v=sn,Qe=null,Ur(a,i,u),Qe=s,sn=v,Qe!==null)if(sn)try{(Qe.nodeType===9?Qe.body:Qe.nodeName==="HTML"?Qe.ownerDocument.body:Qe).removeChild(u.stateNode)}catch(y){Ue(u,i,y)}else try{Qe.removeChild(u.stateNode)}catch(y){Ue(u,i,y)}break;case 18:Qe!==null&&(sn?(a=Qe,Sw(a.nodeType===9?a.body:a.nodeName==="HTML"?a.ownerDocument.body:a,u.stateNode),El(a)):Sw(Qe,u.stateNode));break;case 4:s=Qe,v=sn,Qe=u.stateNode.containerInfo,sn=!0,Ur(a,i,u),Qe=s,sn=v;break;case 0:case 11:case 14:case 15:_a(2,u,i),vt||_a(4,u,i),Ur(a,i,u);break;case 1:vt||(vr(u,i),s=u.stateNode,typeof s.componentWillUnmount=="function"&&E1(u,i,s)),Ur(a,i,u);break;case 21:Ur(a,i,u);break;case 22:vt=(s=vt)||u.memoizedState!==null,Ur(a,i,u),vt=s;break;default:Ur(a,i,u)}}function M1(a,i){if(i.memoizedState===null&&(a=i.alternate,a!==null&&(a=a.memoizedState,a!==null))){a=a.dehydrated;try{El(a)}catch(u){Ue(i,i.return,u)}}}function D1(a,i){if(i.memoizedState===null&&(a=i.alternate,a!==null&&(a=a.memoizedState,a!==null&&(a=a.dehydrated,a!==null))))try{El(a)}catch(u){Ue(i,i.return,u)}}function jk(a){switch(a.tag){case 31:case 13:case 19:var i=a.stateNode;return i===null&&(i=a.stateNode=new N1),i;case 22:return a=a.stateNode,i=a._retryCache,i===null&&(i=a._retryCache=new N1),i;default:throw Error(r(435,a.tag))}}function es(a,i){var u=jk(a);i.forEach(function(s){if(!u.has(s)){u.add(s);var v=Rk.bind(null,a,s);s.then(v,v)}})}function fn(a,i){var u=i.deletions;if(u!==null)for(var s=0;s<u.length;s++){var v=u[s],y=a,S=i,N=S;e:for(;N!==null;){switch(N.tag){case 27:if(za(N.type)){Qe=N.stateNode,sn=!1;break e}break;case 5:Qe=N.stateNode,sn=!1;break e;case 3:case 4:Qe=N.stateNode.containerInfo,sn=!0;break e}N=N.return}if(Qe===null)throw Error(r(160));T1(y,S,v),Qe=null,sn=!1,y=v.alternate,y!==null&&(y.return=null),v.return=null}if(i.subtreeFlags&13886)for(i=i.child;i!==null;)k1(i,a),i=i.sibling}var nr=null;function k1(a,i){var u=a.alternate,s=a.flags;switch(a.tag){case 0:case 11:case 14:case 15:fn(i,a),dn(a),s&4&&(_a(3,a,a.return),$o(3,a),_a(5,a,a.return));break;case 1:fn(i,a),dn(a),s&512&&(vt||u===null||vr(u,u.return)),s&64&&Br&&(a=a.updateQueue,a!==null&&(s=a.callbacks,s!==null&&(u=a.shared.hiddenCallbacks,a.shared.hiddenCallbacks=u===null?s:u.concat(s))));break;case 26:var v=nr;if(fn(i,a),dn(a),s&512&&(vt||u===null||vr(u,u.return)),s&4){var y=u!==null?u.memoizedState:null;if(s=a.memoizedState,u===null)if(s===null)if(a.stateNode===null){e:{s=a.type,u=a.memoizedProps,v=v.ownerDocument||v;t:switch(s){case"title":y=v.getElementsByTagName("title")[0],(!y||y[yo]||y[qt]||y.namespaceURI==="http://www.w3.org/2000/svg"||y.hasAttribute("itemprop"))&&(y=v.createElement(s),v.head.insertBefore(y,v.querySelector("head > title"))),Kt(y,s,u),y[qt]=a,Nt(y),s=y;break e;case"link":var S=kw("link","href",v).get(s+(u.href||""));if(S){for(var N=0;N<S.length;N++)if(y=S[N],y.getAttribute("href")===(u.href==null||u.href===""?null:u.href)&&y.getAttribute("rel")===(u.rel==null?null:u.rel)&&y.getAttribute("title")===(u.title==null?null:u.title)&&y.getAttribute("crossorigin")===(u.crossOrigin==null?null:u.crossOrigin)){S.splice(N,1);break t}}y=v.createElement(s),Kt(y,s,u),v.head.appendChild(y);break;case"meta":if(S=kw("meta","content",v).get(s+(u.content||""))){for(N=0;N<S.length;N++)if(y=S[N],y.getAttribute("content")===(u.content==null?null:""+u.content)&&y.getAttribute("name")===(u.name==null?null:u.name)&&y.getAttribute("property")===(u.property==null?null:u.property)&&y.getAttribute("http-equiv")===(u.httpEquiv==null?null:u.httpEquiv)&&y.getAttribute("charset")===(u.charSet==null?null:u.charSet)){S.splice(N,1);break t}}y=v.createElement(s),Kt(y,s,u),v.head.appendChild(y);break;default:throw Error(r(468,s))}y[qt]=a,Nt(y),s=y}a.stateNode=s}else Pw(v,a.type,a.stateNode);else a.stateNode=Dw(v,s,a.memoizedProps);else y!==s?(y===null?u.stateNode!==null&&(u=u.stateNode,u.parentNode.removeChild(u)):y.count--,s===null?Pw(v,a.type,a.stateNode):Dw(v,s,a.memoizedProps)):s===null&&a.stateNode!==null&&gm(a,a.memoizedProps,u.memoizedProps)}break;case 27:fn(i,a),dn(a),s&512&&(vt||u===null||vr(u,u.return)),u!==null&&s&4&&gm(a,a.memoizedProps,u.memoizedProps);break;case 5:if(fn(i,a),dn(a),s&512&&(vt||u===null||vr(u,u.return)),a.flags&32){v=a.stateNode;try{Gi(v,"")}catch(oe){Ue(a,a.return,oe)}}s&4&&a.stateNode!=null&&(v=a.memoizedProps,gm(a,v,u!==null?u.memoizedProps:v)),s&1024&&(wm=!0);break;case 6:if(fn(i,a),dn(a),s&4){if(a.stateNode===null)throw Error(r(162));s=a.memoizedProps,u=a.stateNode;try{u.nodeValue=s}catch(oe){Ue(a,a.return,oe)}}break;case 3:if(ps=null,v=nr,nr=ms(i.containerInfo),fn(i,a),nr=v,dn(a),s&4&&u!==null&&u.memoizedState.isDehydrated)try{El(i.containerInfo)}catch(oe){Ue(a,a.return,oe)}wm&&(wm=!1,P1(a));break;case 4:s=nr,nr=ms(a.stateNode.containerInfo),fn(i,a),dn(a),nr=s;break;case 12:fn(i,a),dn(a);break;case 31:fn(i,a),dn(a),s&4&&(s=a.updateQueue,s!==null&&(a.updateQueue=null,es(a,s)));break;case 13:fn(i,a),dn(a),a.child.flags&8192&&a.memoizedState!==null!=(u!==null&&u.memoizedState!==null)&&(ns=xn()),s&4&&(s=a.updateQueue,s!==null&&(a.updateQueue=null,es(a,s)));break;case 22:v=a.memoizedState!==null;var M=u!==null&&u.memoizedState!==null,U=Br,G=vt;if(Br=U||v,vt=G||M,fn(i,a),vt=G,Br=U,dn(a),s&8192)e:for(i=a.stateNode,i._visibility=v?i._visibility&-2:i._visibility|1,v&&(u===null||M||Br||vt||yi(a)),u=null,i=a;;){if(i.tag===5||i.tag===26){if(u===null){M=u=i;try{if(y=M.stateNode,v)S=y.style,typeof S.setProperty=="function"?S.setProperty("display","none","important"):S.display="none";else{N=M.stateNode;var Z=M.memoizedProps.style,H=Z!=null&&Z.hasOwnProperty("display")?Z.display:null;N.style.display=H==null||typeof H=="boolean"?"":(""+H).trim()}}catch(oe){Ue(M,M.return,oe)}}}else if(i.tag===6){if(u===null){M=i;try{M.stateNode.nodeValue=v?"":M.memoizedProps}catch(oe){Ue(M,M.return,oe)}}}else if(i.tag===18){if(u===null){M=i;try{var $=M.stateNode;v?Ew($,!0):Ew(M.stateNode,!1)}catch(oe){Ue(M,M.return,oe)}}}else if((i.tag!==22&&i.tag!==23||i.memoizedState===null||i===a)&&i.child!==null){i.child.return=i,i=i.child;continue}if(i===a)break e;for(;i.sibling===null;){if(i.return===null||i.return===a)break e;u===i&&(u=null),i=i.return}u===i&&(u=null),i.sibling.return=i.return,i=i.sibling}s&4&&(s=a.updateQueue,s!==null&&(u=s.retryQueue,u!==null&&(s.retryQueue=null,es(a,u))));break;case 19:fn(i,a),dn(a),s&4&&(s=a.updateQueue,s!==null&&(a.updateQueue=null,es(a,s)));break;case 30:break;case 21:break;default:fn(i,a),dn(a)}}function dn(a){var i=a.flags;if(i&2){try{for(var u,s=a.return;s!==null;){if(A1(s)){u=s;break}s=s.return}if(u==null)throw Error(r(160));switch(u.tag){case 27:var v=u.stateNode,y=bm(a);Jc(a,y,v);break;case 5:var S=u.stateNode;u.flags&32&&(Gi(S,""),u.flags&=-33);var N=bm(a);Jc(a,N,S);break;case 3:case 4:var M=u.stateNode.containerInfo,U=bm(a);xm(a,U,M);break;default:throw Error(r(161))}}catch(G){Ue(a,a.return,G)}a.flags&=-3}i&4096&&(a.flags&=-4097)}function P1(a){if(a.subtreeFlags&1024)for(a=a.child;a!==null;){var i=a;P1(i),i.tag===5&&i.flags&1024&&i.stateNode.reset(),a=a.sibling}}function Ir(a,i){if(i.subtreeFlags&8772)for(i=i.child;i!==null;)C1(a,i.alternate,i),i=i.sibling}function yi(a){for(a=a.child;a!==null;){var i=a;switch(i.tag){case 0:case 11:case 14:case 15:_a(4,i,i.return),yi(i);break;case 1:vr(i,i.return);var u=i.stateNode;typeof u.componentWillUnmount=="function"&&E1(i,i.return,u),yi(i);break;case 27:Jo(i.stateNode);case 26:case 5:vr(i,i.return),yi(i);break;case 22:i.memoizedState===null&&yi(i);break;case 30:yi(i);break;default:yi(i)}a=a.sibling}}function qr(a,i,u){for(u=u&&(i.subtreeFlags&8772)!==0,i=i.child;i!==null;){var s=i.alternate,v=a,y=i,S=y.flags;switch(y.tag){case 0:case 11:case 15:qr(v,y,u),$o(4,y);break;case 1:if(qr(v,y,u),s=y,v=s.stateNode,typeof v.componentDidMount=="function")try{v.componentDidMount()}catch(U){Ue(s,s.return,U)}if(s=y,v=s.updateQueue,v!==null){var N=s.stateNode;try{var M=v.shared.hiddenCallbacks;if(M!==null)for(v.shared.hiddenCallbacks=null,v=0;v<M.length;v++)fx(M[v],N)}catch(U){Ue(s,s.return,U)}}u&&S&64&&S1(y),Yo(y,y.return);break;case 27:j1(y);case 26:case 5:qr(v,y,u),u&&s===null&&S&4&&O1(y),Yo(y,y.return);break;case 12:qr(v,y,u);break;case 31:qr(v,y,u),u&&S&4&&M1(v,y);break;case 13:qr(v,y,u),u&&S&4&&D1(v,y);break;case 22:y.memoizedState===null&&qr(v,y,u),Yo(y,y.return);break;case 30:break;default:qr(v,y,u)}i=i.sibling}}function Sm(a,i){var u=null;a!==null&&a.memoizedState!==null&&a.memoizedState.cachePool!==null&&(u=a.memoizedState.cachePool.pool),a=null,i.memoizedState!==null&&i.memoizedState.cachePool!==null&&(a=i.memoizedState.cachePool.pool),a!==u&&(a!=null&&a.refCount++,u!=null&&To(u))}function Em(a,i){a=null,i.alternate!==null&&(a=i.alternate.memoizedState.cache),i=i.memoizedState.cache,i!==a&&(i.refCount++,a!=null&&To(a))}function rr(a,i,u,s){if(i.subtreeFlags&10256)for(i=i.child;i!==null;)R1(a,i,u,s),i=i.sibling}function R1(a,i,u,s){var v=i.flags;switch(i.tag){case 0:case 11:case 15:rr(a,i,u,s),v&2048&&$o(9,i);break;case 1:rr(a,i,u,s);break;case 3:rr(a,i,u,s),v&2048&&(a=null,i.alternate!==null&&(a=i.alternate.memoizedState.cache),i=i.memoizedState.cache,i!==a&&(i.refCount++,a!=null&&To(a)));break;case 12:if(v&2048){rr(a,i,u,s),a=i.stateNode;try{var y=i.memoizedProps,S=y.id,N=y.onPostCommit;typeof N=="function"&&N(S,i.alternate===null?"mount":"update",a.passiveEffectDuration,-0)}catch(M){Ue(i,i.return,M)}}else rr(a,i,u,s);break;case 31:rr(a,i,u,s);break;case 13:rr(a,i,u,s);break;case 23:break;case 22:y=i.stateNode,S=i.alternate,i.memoizedState!==null?y._visibility&2?rr(a,i,u,s):Ko(a,i):y._visibility&2?rr(a,i,u,s):(y._visibility|=2,dl(a,i,u,s,(i.subtreeFlags&10256)!==0||!1)),v&2048&&Sm(S,i);break;case 24:rr(a,i,u,s),v&2048&&Em(i.alternate,i);break;default:rr(a,i,u,s)}}function dl(a,i,u,s,v){for(v=v&&((i.subtreeFlags&10256)!==0||!1),i=i.child;i!==null;){var y=a,S=i,N=u,M=s,U=S.flags;switch(S.tag){case 0:case 11:case 15:dl(y,S,N,M,v),$o(8,S);break;case 23:break;case 22:var G=S.stateNode;S.memoizedState!==null?G._visibility&2?dl(y,S,N,M,v):Ko(y,S):(G._visibility|=2,dl(y,S,N,M,v)),v&&U&2048&&Sm(S.alternate,S);break;case 24:dl(y,S,N,M,v),v&&U&2048&&Em(S.alternate,S);break;default:dl(y,S,N,M,v)}i=i.sibling}}function Ko(a,i){if(i.subtreeFlags&10256)for(i=i.child;i!==null;){var u=a,s=i,v=s.flags;switch(s.tag){case 22:Ko(u,s),v&2048&&Sm(s.alternate,s);break;case 24:Ko(u,s),v&2048&&Em(s.alternate,s);break;default:Ko(u,s)}i=i.sibling}}var Go=8192;function hl(a,i,u){if(a.subtreeFlags&Go)for(a=a.child;a!==null;)z1(a,i,u),a=a.sibling}function z1(a,i,u){switch(a.tag){case 26:hl(a,i,u),a.flags&Go&&a.memoizedState!==null&&dP(u,nr,a.memoizedState,a.memoizedProps);break;case 5:hl(a,i,u);break;case 3:case 4:var s=nr;nr=ms(a.stateNode.containerInfo),hl(a,i,u),nr=s;break;case 22:a.memoizedState===null&&(s=a.alternate,s!==null&&s.memoizedState!==null?(s=Go,Go=16777216,hl(a,i,u),Go=s):hl(a,i,u));break;default:hl(a,i,u)}}function L1(a){var i=a.alternate;if(i!==null&&(a=i.child,a!==null)){i.child=null;do i=a.sibling,a.sibling=null,a=i;while(a!==null)}}function Vo(a){var i=a.deletions;if((a.flags&16)!==0){if(i!==null)for(var u=0;u<i.length;u++){var s=i[u];Ct=s,U1(s,a)}L1(a)}if(a.subtreeFlags&10256)for(a=a.child;a!==null;)B1(a),a=a.sibling}function B1(a){switch(a.tag){case 0:case 11:case 15:Vo(a),a.flags&2048&&_a(9,a,a.return);break;case 3:Vo(a);break;case 12:Vo(a);break;case 22:var i=a.stateNode;a.memoizedState!==null&&i._visibility&2&&(a.return===null||a.return.tag!==13)?(i._visibility&=-3,ts(a)):Vo(a);break;default:Vo(a)}}function ts(a){var i=a.deletions;if((a.flags&16)!==0){if(i!==null)for(var u=0;u<i.length;u++){var s=i[u];Ct=s,U1(s,a)}L1(a)}for(a=a.child;a!==null;){switch(i=a,i.tag){case 0:case 11:case 15:_a(8,i,i.return),ts(i);break;case 22:u=i.stateNode,u._visibility&2&&(u._visibility&=-3,ts(i));break;default:ts(i)}a=a.sibling}}function U1(a,i){for(;Ct!==null;){var u=Ct;switch(u.tag){case 0:case 11:case 15:_a(8,u,i);break;case 23:case 22:if(u.memoizedState!==null&&u.memoizedState.cachePool!==null){var s=u.memoizedState.cachePool.pool;s!=null&&s.refCount++}break;case 24:To(u.memoizedState.cache)}if(s=u.child,s!==null)s.return=u,Ct=s;else e:for(u=a;Ct!==null;){s=Ct;var v=s.sibling,y=s.return;if(_1(s),s===u){Ct=null;break e}if(v!==null){v.return=y,Ct=v;break e}Ct=y}}}var Nk={getCacheForType:function(a){var i=$t(dt),u=i.data.get(a);return u===void 0&&(u=a(),i.data.set(a,u)),u},cacheSignal:function(){return $t(dt).controller.signal}},Ck=typeof WeakMap=="function"?WeakMap:Map,Le=0,Ye=null,Ce=null,Te=0,Be=0,Nn=null,Ta=!1,ml=!1,Om=!1,Hr=0,it=0,Ma=0,gi=0,Am=0,Cn=0,vl=0,Xo=null,hn=null,jm=!1,ns=0,I1=0,rs=1/0,as=null,Da=null,bt=0,ka=null,pl=null,$r=0,Nm=0,Cm=null,q1=null,Fo=0,_m=null;function _n(){return(Le&2)!==0&&Te!==0?Te&-Te:q.T!==null?Rm():rb()}function H1(){if(Cn===0)if((Te&536870912)===0||De){var a=dc;dc<<=1,(dc&3932160)===0&&(dc=262144),Cn=a}else Cn=536870912;return a=An.current,a!==null&&(a.flags|=32),Cn}function mn(a,i,u){(a===Ye&&(Be===2||Be===9)||a.cancelPendingCommit!==null)&&(yl(a,0),Pa(a,Te,Cn,!1)),po(a,u),((Le&2)===0||a!==Ye)&&(a===Ye&&((Le&2)===0&&(gi|=u),it===4&&Pa(a,Te,Cn,!1)),pr(a))}function $1(a,i,u){if((Le&6)!==0)throw Error(r(327));var s=!u&&(i&127)===0&&(i&a.expiredLanes)===0||vo(a,i),v=s?Mk(a,i):Mm(a,i,!0),y=s;do{if(v===0){ml&&!s&&Pa(a,i,0,!1);break}else{if(u=a.current.alternate,y&&!_k(u)){v=Mm(a,i,!1),y=!1;continue}if(v===2){if(y=i,a.errorRecoveryDisabledLanes&y)var S=0;else S=a.pendingLanes&-536870913,S=S!==0?S:S&536870912?536870912:0;if(S!==0){i=S;e:{var N=a;v=Xo;var M=N.current.memoizedState.isDehydrated;if(M&&(yl(N,S).flags|=256),S=Mm(N,S,!1),S!==2){if(Om&&!M){N.errorRecoveryDisabledLanes|=y,gi|=y,v=4;break e}y=hn,hn=v,y!==null&&(hn===null?hn=y:hn.push.apply(hn,y))}v=S}if(y=!1,v!==2)continue}}if(v===1){yl(a,0),Pa(a,i,0,!0);break}e:{switch(s=a,y=v,y){case 0:case 1:throw Error(r(345));case 4:if((i&4194048)!==i)break;case 6:Pa(s,i,Cn,!Ta);break e;case 2:hn=null;break;case 3:case 5:break;default:throw Error(r(329))}if((i&62914560)===i&&(v=ns+300-xn(),10<v)){if(Pa(s,i,Cn,!Ta),mc(s,0,!0)!==0)break e;$r=i,s.timeoutHandle=xw(Y1.bind(null,s,u,hn,as,jm,i,Cn,gi,vl,Ta,y,"Throttled",-0,0),v);break e}Y1(s,u,hn,as,jm,i,Cn,gi,vl,Ta,y,null,-0,0)}}break}while(!0);pr(a)}function Y1(a,i,u,s,v,y,S,N,M,U,G,Z,H,$){if(a.timeoutHandle=-1,Z=i.subtreeFlags,Z&8192||(Z&16785408)===16785408){Z={stylesheets:null,count:0,imgCount:0,imgBytes:0,suspenseyImages:[],waitingForImages:!0,waitingForViewTransition:!1,unsuspend:Cr},z1(i,y,Z);var oe=(y&62914560)===y?ns-xn():(y&4194048)===y?I1-xn():0;if(oe=hP(Z,oe),oe!==null){$r=y,a.cancelPendingCommit=oe(Q1.bind(null,a,i,y,u,s,v,S,N,M,G,Z,null,H,$)),Pa(a,y,S,!U);return}}Q1(a,i,y,u,s,v,S,N,M)}function _k(a){for(var i=a;;){var u=i.tag;if((u===0||u===11||u===15)&&i.flags&16384&&(u=i.updateQueue,u!==null&&(u=u.stores,u!==null)))for(var s=0;s<u.length;s++){var v=u[s],y=v.getSnapshot;v=v.value;try{if(!En(y(),v))return!1}catch{return!1}}if(u=i.child,i.subtreeFlags&16384&&u!==null)u.return=i,i=u;else{if(i===a)break;for(;i.sibling===null;){if(i.return===null||i.return===a)return!0;i=i.return}i.sibling.return=i.return,i=i.sibling}}return!0}function Pa(a,i,u,s){i&=~Am,i&=~gi,a.suspendedLanes|=i,a.pingedLanes&=~i,s&&(a.warmLanes|=i),s=a.expirationTimes;for(var v=i;0<v;){var y=31-Sn(v),S=1<<y;s[y]=-1,v&=~S}u!==0&&eb(a,u,i)}function is(){return(Le&6)===0?(Wo(0),!1):!0}function Tm(){if(Ce!==null){if(Be===0)var a=Ce.return;else a=Ce,Dr=ci=null,Gh(a),ol=null,Do=0,a=Ce;for(;a!==null;)w1(a.alternate,a),a=a.return;Ce=null}}function yl(a,i){var u=a.timeoutHandle;u!==-1&&(a.timeoutHandle=-1,Fk(u)),u=a.cancelPendingCommit,u!==null&&(a.cancelPendingCommit=null,u()),$r=0,Tm(),Ye=a,Ce=u=Tr(a.current,null),Te=i,Be=0,Nn=null,Ta=!1,ml=vo(a,i),Om=!1,vl=Cn=Am=gi=Ma=it=0,hn=Xo=null,jm=!1,(i&8)!==0&&(i|=i&32);var s=a.entangledLanes;if(s!==0)for(a=a.entanglements,s&=i;0<s;){var v=31-Sn(s),y=1<<v;i|=a[v],s&=~y}return Hr=i,jc(),u}function K1(a,i){Ee=null,q.H=Io,i===ll||i===Pc?(i=ox(),Be=3):i===Ph?(i=ox(),Be=4):Be=i===um?8:i!==null&&typeof i=="object"&&typeof i.then=="function"?6:1,Nn=i,Ce===null&&(it=1,Xc(a,Un(i,a.current)))}function G1(){var a=An.current;return a===null?!0:(Te&4194048)===Te?$n===null:(Te&62914560)===Te||(Te&536870912)!==0?a===$n:!1}function V1(){var a=q.H;return q.H=Io,a===null?Io:a}function X1(){var a=q.A;return q.A=Nk,a}function ls(){it=4,Ta||(Te&4194048)!==Te&&An.current!==null||(ml=!0),(Ma&134217727)===0&&(gi&134217727)===0||Ye===null||Pa(Ye,Te,Cn,!1)}function Mm(a,i,u){var s=Le;Le|=2;var v=V1(),y=X1();(Ye!==a||Te!==i)&&(as=null,yl(a,i)),i=!1;var S=it;e:do try{if(Be!==0&&Ce!==null){var N=Ce,M=Nn;switch(Be){case 8:Tm(),S=6;break e;case 3:case 2:case 9:case 6:An.current===null&&(i=!0);var U=Be;if(Be=0,Nn=null,gl(a,N,M,U),u&&ml){S=0;break e}break;default:U=Be,Be=0,Nn=null,gl(a,N,M,U)}}Tk(),S=it;break}catch(G){K1(a,G)}while(!0);return i&&a.shellSuspendCounter++,Dr=ci=null,Le=s,q.H=v,q.A=y,Ce===null&&(Ye=null,Te=0,jc()),S}function Tk(){for(;Ce!==null;)F1(Ce)}function Mk(a,i){var u=Le;Le|=2;var s=V1(),v=X1();Ye!==a||Te!==i?(as=null,rs=xn()+500,yl(a,i)):ml=vo(a,i);e:do try{if(Be!==0&&Ce!==null){i=Ce;var y=Nn;t:switch(Be){case 1:Be=0,Nn=null,gl(a,i,y,1);break;case 2:case 9:if(ix(y)){Be=0,Nn=null,W1(i);break}i=function(){Be!==2&&Be!==9||Ye!==a||(Be=7),pr(a)},y.then(i,i);break e;case 3:Be=7;break e;case 4:Be=5;break e;case 7:ix(y)?(Be=0,Nn=null,W1(i)):(Be=0,Nn=null,gl(a,i,y,7));break;case 5:var S=null;switch(Ce.tag){case 26:S=Ce.memoizedState;case 5:case 27:var N=Ce;if(S?Rw(S):N.stateNode.complete){Be=0,Nn=null;var M=N.sibling;if(M!==null)Ce=M;else{var U=N.return;U!==null?(Ce=U,os(U)):Ce=null}break t}}Be=0,Nn=null,gl(a,i,y,5);break;case 6:Be=0,Nn=null,gl(a,i,y,6);break;case 8:Tm(),it=6;break e;default:throw Error(r(462))}}Dk();break}catch(G){K1(a,G)}while(!0);return Dr=ci=null,q.H=s,q.A=v,Le=u,Ce!==null?0:(Ye=null,Te=0,jc(),it)}function Dk(){for(;Ce!==null&&!tD();)F1(Ce)}function F1(a){var i=b1(a.alternate,a,Hr);a.memoizedProps=a.pendingProps,i===null?os(a):Ce=i}function W1(a){var i=a,u=i.alternate;switch(i.tag){case 15:case 0:i=h1(u,i,i.pendingProps,i.type,void 0,Te);break;case 11:i=h1(u,i,i.pendingProps,i.type.render,i.ref,Te);break;case 5:Gh(i);default:w1(u,i),i=Ce=Xb(i,Hr),i=b1(u,i,Hr)}a.memoizedProps=a.pendingProps,i===null?os(a):Ce=i}function gl(a,i,u,s){Dr=ci=null,Gh(i),ol=null,Do=0;var v=i.return;try{if(xk(a,v,i,u,Te)){it=1,Xc(a,Un(u,a.current)),Ce=null;return}}catch(y){if(v!==null)throw Ce=v,y;it=1,Xc(a,Un(u,a.current)),Ce=null;return}i.flags&32768?(De||s===1?a=!0:ml||(Te&536870912)!==0?a=!1:(Ta=a=!0,(s===2||s===9||s===3||s===6)&&(s=An.current,s!==null&&s.tag===13&&(s.flags|=16384))),Z1(i,a)):os(i)}function os(a){var i=a;do{if((i.flags&32768)!==0){Z1(i,Ta);return}a=i.return;var u=Ek(i.alternate,i,Hr);if(u!==null){Ce=u;return}if(i=i.sibling,i!==null){Ce=i;return}Ce=i=a}while(i!==null);it===0&&(it=5)}function Z1(a,i){do{var u=Ok(a.alternate,a);if(u!==null){u.flags&=32767,Ce=u;return}if(u=a.return,u!==null&&(u.flags|=32768,u.subtreeFlags=0,u.deletions=null),!i&&(a=a.sibling,a!==null)){Ce=a;return}Ce=a=u}while(a!==null);it=6,Ce=null}function Q1(a,i,u,s,v,y,S,N,M){a.cancelPendingCommit=null;do us();while(bt!==0);if((Le&6)!==0)throw Error(r(327));if(i!==null){if(i===a.current)throw Error(r(177));if(y=i.lanes|i.childLanes,y|=bh,fD(a,u,y,S,N,M),a===Ye&&(Ce=Ye=null,Te=0),pl=i,ka=a,$r=u,Nm=y,Cm=v,q1=s,(i.subtreeFlags&10256)!==0||(i.flags&10256)!==0?(a.callbackNode=null,a.callbackPriority=0,zk(sc,function(){return rw(),null})):(a.callbackNode=null,a.callbackPriority=0),s=(i.flags&13878)!==0,(i.subtreeFlags&13878)!==0||s){s=q.T,q.T=null,v=Q.p,Q.p=2,S=Le,Le|=4;try{Ak(a,i,u)}finally{Le=S,Q.p=v,q.T=s}}bt=1,J1(),ew(),tw()}}function J1(){if(bt===1){bt=0;var a=ka,i=pl,u=(i.flags&13878)!==0;if((i.subtreeFlags&13878)!==0||u){u=q.T,q.T=null;var s=Q.p;Q.p=2;var v=Le;Le|=4;try{k1(i,a);var y=$m,S=Ub(a.containerInfo),N=y.focusedElem,M=y.selectionRange;if(S!==N&&N&&N.ownerDocument&&Bb(N.ownerDocument.documentElement,N)){if(M!==null&&mh(N)){var U=M.start,G=M.end;if(G===void 0&&(G=U),"selectionStart"in N)N.selectionStart=U,N.selectionEnd=Math.min(G,N.value.length);else{var Z=N.ownerDocument||document,H=Z&&Z.defaultView||window;if(H.getSelection){var $=H.getSelection(),oe=N.textContent.length,ye=Math.min(M.start,oe),$e=M.end===void 0?ye:Math.min(M.end,oe);!$.extend&&ye>$e&&(S=$e,$e=ye,ye=S);var L=Lb(N,ye),z=Lb(N,$e);if(L&&z&&($.rangeCount!==1||$.anchorNode!==L.node||$.anchorOffset!==L.offset||$.focusNode!==z.node||$.focusOffset!==z.offset)){var B=Z.createRange();B.setStart(L.node,L.offset),$.removeAllRanges(),ye>$e?($.addRange(B),$.extend(z.node,z.offset)):(B.setEnd(z.node,z.offset),$.addRange(B))}}}}for(Z=[],$=N;$=$.parentNode;)$.nodeType===1&&Z.push({element:$,left:$.scrollLeft,top:$.scrollTop});for(typeof N.focus=="function"&&N.focus(),N=0;N<Z.length;N++){var F=Z[N];F.element.scrollLeft=F.left,F.element.scrollTop=F.top}}xs=!!Hm,$m=Hm=null}finally{Le=v,Q.p=s,q.T=u}}a.current=i,bt=2}}function ew(){if(bt===2){bt=0;var a=ka,i=pl,u=(i.flags&8772)!==0;if((i.subtreeFlags&8772)!==0||u){u=q.T,q.T=null;var s=Q.p;Q.p=2;var v=Le;Le|=4;try{C1(a,i.alternate,i)}finally{Le=v,Q.p=s,q.T=u}}bt=3}}function tw(){if(bt===4||bt===3){bt=0,nD();var a=ka,i=pl,u=$r,s=q1;(i.subtreeFlags&10256)!==0||(i.flags&10256)!==0?bt=5:(bt=0,pl=ka=null,nw(a,a.pendingLanes));var v=a.pendingLanes;if(v===0&&(Da=null),Fd(u),i=i.stateNode,wn&&typeof wn.onCommitFiberRoot=="function")try{wn.onCommitFiberRoot(mo,i,void 0,(i.current.flags&128)===128)}catch{}if(s!==null){i=q.T,v=Q.p,Q.p=2,q.T=null;try{for(var y=a.onRecoverableError,S=0;S<s.length;S++){var N=s[S];y(N.value,{componentStack:N.stack})}}finally{q.T=i,Q.p=v}}($r&3)!==0&&us(),pr(a),v=a.pendingLanes,(u&261930)!==0&&(v&42)!==0?a===_m?Fo++:(Fo=0,_m=a):Fo=0,Wo(0)}}function nw(a,i){(a.pooledCacheLanes&=i)===0&&(i=a.pooledCache,i!=null&&(a.pooledCache=null,To(i)))}function us(){return J1(),ew(),tw(),rw()}function rw(){if(bt!==5)return!1;var a=ka,i=Nm;Nm=0;var u=Fd($r),s=q.T,v=Q.p;try{Q.p=32>u?32:u,q.T=null,u=Cm,Cm=null;var y=ka,S=$r;if(bt=0,pl=ka=null,$r=0,(Le&6)!==0)throw Error(r(331));var N=Le;if(Le|=4,B1(y.current),R1(y,y.current,S,u),Le=N,Wo(0,!1),wn&&typeof wn.onPostCommitFiberRoot=="function")try{wn.onPostCommitFiberRoot(mo,y)}catch{}return!0}finally{Q.p=v,q.T=s,nw(a,i)}}function aw(a,i,u){i=Un(u,i),i=om(a.stateNode,i,2),a=ja(a,i,2),a!==null&&(po(a,2),pr(a))}function Ue(a,i,u){if(a.tag===3)aw(a,a,u);else for(;i!==null;){if(i.tag===3){aw(i,a,u);break}else if(i.tag===1){var s=i.stateNode;if(typeof i.type.getDerivedStateFromError=="function"||typeof s.componentDidCatch=="function"&&(Da===null||!Da.has(s))){a=Un(u,a),u=i1(2),s=ja(i,u,2),s!==null&&(l1(u,s,i,a),po(s,2),pr(s));break}}i=i.return}}function Dm(a,i,u){var s=a.pingCache;if(s===null){s=a.pingCache=new Ck;var v=new Set;s.set(i,v)}else v=s.get(i),v===void 0&&(v=new Set,s.set(i,v));v.has(u)||(Om=!0,v.add(u),a=kk.bind(null,a,i,u),i.then(a,a))}function kk(a,i,u){var s=a.pingCache;s!==null&&s.delete(i),a.pingedLanes|=a.suspendedLanes&u,a.warmLanes&=~u,Ye===a&&(Te&u)===u&&(it===4||it===3&&(Te&62914560)===Te&&300>xn()-ns?(Le&2)===0&&yl(a,0):Am|=u,vl===Te&&(vl=0)),pr(a)}function iw(a,i){i===0&&(i=J0()),a=li(a,i),a!==null&&(po(a,i),pr(a))}function Pk(a){var i=a.memoizedState,u=0;i!==null&&(u=i.retryLane),iw(a,u)}function Rk(a,i){var u=0;switch(a.tag){case 31:case 13:var s=a.stateNode,v=a.memoizedState;v!==null&&(u=v.retryLane);break;case 19:s=a.stateNode;break;case 22:s=a.stateNode._retryCache;break;default:throw Error(r(314))}s!==null&&s.delete(i),iw(a,u)}function zk(a,i){return Kd(a,i)}var cs=null,bl=null,km=!1,ss=!1,Pm=!1,Ra=0;function pr(a){a!==bl&&a.next===null&&(bl===null?cs=bl=a:bl=bl.next=a),ss=!0,km||(km=!0,Bk())}function Wo(a,i){if(!Pm&&ss){Pm=!0;do for(var u=!1,s=cs;s!==null;){if(a!==0){var v=s.pendingLanes;if(v===0)var y=0;else{var S=s.suspendedLanes,N=s.pingedLanes;y=(1<<31-Sn(42|a)+1)-1,y&=v&~(S&~N),y=y&201326741?y&201326741|1:y?y|2:0}y!==0&&(u=!0,cw(s,y))}else y=Te,y=mc(s,s===Ye?y:0,s.cancelPendingCommit!==null||s.timeoutHandle!==-1),(y&3)===0||vo(s,y)||(u=!0,cw(s,y));s=s.next}while(u);Pm=!1}}function Lk(){lw()}function lw(){ss=km=!1;var a=0;Ra!==0&&Xk()&&(a=Ra);for(var i=xn(),u=null,s=cs;s!==null;){var v=s.next,y=ow(s,i);y===0?(s.next=null,u===null?cs=v:u.next=v,v===null&&(bl=u)):(u=s,(a!==0||(y&3)!==0)&&(ss=!0)),s=v}bt!==0&&bt!==5||Wo(a),Ra!==0&&(Ra=0)}function ow(a,i){for(var u=a.suspendedLanes,s=a.pingedLanes,v=a.expirationTimes,y=a.pendingLanes&-62914561;0<y;){var S=31-Sn(y),N=1<<S,M=v[S];M===-1?((N&u)===0||(N&s)!==0)&&(v[S]=sD(N,i)):M<=i&&(a.expiredLanes|=N),y&=~N}if(i=Ye,u=Te,u=mc(a,a===i?u:0,a.cancelPendingCommit!==null||a.timeoutHandle!==-1),s=a.callbackNode,u===0||a===i&&(Be===2||Be===9)||a.cancelPendingCommit!==null)return s!==null&&s!==null&&Gd(s),a.callbackNode=null,a.callbackPriority=0;if((u&3)===0||vo(a,u)){if(i=u&-u,i===a.callbackPriority)return i;switch(s!==null&&Gd(s),Fd(u)){case 2:case 8:u=Z0;break;case 32:u=sc;break;case 268435456:u=Q0;break;default:u=sc}return s=uw.bind(null,a),u=Kd(u,s),a.callbackPriority=i,a.callbackNode=u,i}return s!==null&&s!==null&&Gd(s),a.callbackPriority=2,a.callbackNode=null,2}function uw(a,i){if(bt!==0&&bt!==5)return a.callbackNode=null,a.callbackPriority=0,null;var u=a.callbackNode;if(us()&&a.callbackNode!==u)return null;var s=Te;return s=mc(a,a===Ye?s:0,a.cancelPendingCommit!==null||a.timeoutHandle!==-1),s===0?null:($1(a,s,i),ow(a,xn()),a.callbackNode!=null&&a.callbackNode===u?uw.bind(null,a):null)}function cw(a,i){if(us())return null;$1(a,i,!0)}function Bk(){Wk(function(){(Le&6)!==0?Kd(W0,Lk):lw()})}function Rm(){if(Ra===0){var a=al;a===0&&(a=fc,fc<<=1,(fc&261888)===0&&(fc=256)),Ra=a}return Ra}function sw(a){return a==null||typeof a=="symbol"||typeof a=="boolean"?null:typeof a=="function"?a:gc(""+a)}function fw(a,i){var u=i.ownerDocument.createElement("input");return u.name=i.name,u.value=i.value,a.id&&u.setAttribute("form",a.id),i.parentNode.insertBefore(u,i),a=new FormData(a),u.parentNode.removeChild(u),a}function Uk(a,i,u,s,v){if(i==="submit"&&u&&u.stateNode===v){var y=sw((v[un]||null).action),S=s.submitter;S&&(i=(i=S[un]||null)?sw(i.formAction):S.getAttribute("formAction"),i!==null&&(y=i,S=null));var N=new Sc("action","action",null,s,v);a.push({event:N,listeners:[{instance:null,listener:function(){if(s.defaultPrevented){if(Ra!==0){var M=S?fw(v,S):new FormData(v);tm(u,{pending:!0,data:M,method:v.method,action:y},null,M)}}else typeof y=="function"&&(N.preventDefault(),M=S?fw(v,S):new FormData(v),tm(u,{pending:!0,data:M,method:v.method,action:y},y,M))},currentTarget:v}]})}}for(var zm=0;zm<gh.length;zm++){var Lm=gh[zm],Ik=Lm.toLowerCase(),qk=Lm[0].toUpperCase()+Lm.slice(1);tr(Ik,"on"+qk)}tr(Hb,"onAnimationEnd"),tr($b,"onAnimationIteration"),tr(Yb,"onAnimationStart"),tr("dblclick","onDoubleClick"),tr("focusin","onFocus"),tr("focusout","onBlur"),tr(rk,"onTransitionRun"),tr(ak,"onTransitionStart"),tr(ik,"onTransitionCancel"),tr(Kb,"onTransitionEnd"),Yi("onMouseEnter",["mouseout","mouseover"]),Yi("onMouseLeave",["mouseout","mouseover"]),Yi("onPointerEnter",["pointerout","pointerover"]),Yi("onPointerLeave",["pointerout","pointerover"]),ni("onChange","change click focusin focusout input keydown keyup selectionchange".split(" ")),ni("onSelect","focusout contextmenu dragend focusin keydown keyup mousedown mouseup selectionchange".split(" ")),ni("onBeforeInput",["compositionend","keypress","textInput","paste"]),ni("onCompositionEnd","compositionend focusout keydown keypress keyup mousedown".split(" ")),ni("onCompositionStart","compositionstart focusout keydown keypress keyup mousedown".split(" ")),ni("onCompositionUpdate","compositionupdate focusout keydown keypress keyup mousedown".split(" "));var Zo="abort canplay canplaythrough durationchange emptied encrypted ended error loadeddata loadedmetadata loadstart pause play playing progress ratechange resize seeked seeking stalled suspend timeupdate volumechange waiting".split(" "),Hk=new Set("beforetoggle cancel close invalid load scroll scrollend toggle".split(" ").concat(Zo));function dw(a,i){i=(i&4)!==0;for(var u=0;u<a.length;u++){var s=a[u],v=s.event;s=s.listeners;e:{var y=void 0;if(i)for(var S=s.length-1;0<=S;S--){var N=s[S],M=N.instance,U=N.currentTarget;if(N=N.listener,M!==y&&v.isPropagationStopped())break e;y=N,v.currentTarget=U;try{y(v)}catch(G){Ac(G)}v.currentTarget=null,y=M}else for(S=0;S<s.length;S++){if(N=s[S],M=N.instance,U=N.currentTarget,N=N.listener,M!==y&&v.isPropagationStopped())break e;y=N,v.currentTarget=U;try{y(v)}catch(G){Ac(G)}v.currentTarget=null,y=M}}}}function _e(a,i){var u=i[Wd];u===void 0&&(u=i[Wd]=new Set);var s=a+"__bubble";u.has(s)||(hw(i,a,2,!1),u.add(s))}function Bm(a,i,u){var s=0;i&&(s|=4),hw(u,a,s,i)}var fs="_reactListening"+Math.random().toString(36).slice(2);function Um(a){if(!a[fs]){a[fs]=!0,lb.forEach(function(u){u!=="selectionchange"&&(Hk.has(u)||Bm(u,!1,a),Bm(u,!0,a))});var i=a.nodeType===9?a:a.ownerDocument;i===null||i[fs]||(i[fs]=!0,Bm("selectionchange",!1,i))}}function hw(a,i,u,s){switch(Hw(i)){case 2:var v=pP;break;case 8:v=yP;break;default:v=ev}u=v.bind(null,i,u,a),v=void 0,!ih||i!=="touchstart"&&i!=="touchmove"&&i!=="wheel"||(v=!0),s?v!==void 0?a.addEventListener(i,u,{capture:!0,passive:v}):a.addEventListener(i,u,!0):v!==void 0?a.addEventListener(i,u,{passive:v}):a.addEventListener(i,u,!1)}function Im(a,i,u,s,v){var y=s;if((i&1)===0&&(i&2)===0&&s!==null)e:for(;;){if(s===null)return;var S=s.tag;if(S===3||S===4){var N=s.stateNode.containerInfo;if(N===v)break;if(S===4)for(S=s.return;S!==null;){var M=S.tag;if((M===3||M===4)&&S.stateNode.containerInfo===v)return;S=S.return}for(;N!==null;){if(S=qi(N),S===null)return;if(M=S.tag,M===5||M===6||M===26||M===27){s=y=S;continue e}N=N.parentNode}}s=s.return}gb(function(){var U=y,G=rh(u),Z=[];e:{var H=Gb.get(a);if(H!==void 0){var $=Sc,oe=a;switch(a){case"keypress":if(xc(u)===0)break e;case"keydown":case"keyup":$=RD;break;case"focusin":oe="focus",$=ch;break;case"focusout":oe="blur",$=ch;break;case"beforeblur":case"afterblur":$=ch;break;case"click":if(u.button===2)break e;case"auxclick":case"dblclick":case"mousedown":case"mousemove":case"mouseup":case"mouseout":case"mouseover":case"contextmenu":$=wb;break;case"drag":case"dragend":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"dragstart":case"drop":$=ED;break;case"touchcancel":case"touchend":case"touchmove":case"touchstart":$=BD;break;case Hb:case $b:case Yb:$=jD;break;case Kb:$=ID;break;case"scroll":case"scrollend":$=wD;break;case"wheel":$=HD;break;case"copy":case"cut":case"paste":$=CD;break;case"gotpointercapture":case"lostpointercapture":case"pointercancel":case"pointerdown":case"pointermove":case"pointerout":case"pointerover":case"pointerup":$=Eb;break;case"toggle":case"beforetoggle":$=YD}var ye=(i&4)!==0,$e=!ye&&(a==="scroll"||a==="scrollend"),L=ye?H!==null?H+"Capture":null:H;ye=[];for(var z=U,B;z!==null;){var F=z;if(B=F.stateNode,F=F.tag,F!==5&&F!==26&&F!==27||B===null||L===null||(F=bo(z,L),F!=null&&ye.push(Qo(z,F,B))),$e)break;z=z.return}0<ye.length&&(H=new $(H,oe,null,u,G),Z.push({event:H,listeners:ye}))}}if((i&7)===0){e:{if(H=a==="mouseover"||a==="pointerover",$=a==="mouseout"||a==="pointerout",H&&u!==nh&&(oe=u.relatedTarget||u.fromElement)&&(qi(oe)||oe[Ii]))break e;if(($||H)&&(H=G.window===G?G:(H=G.ownerDocument)?H.defaultView||H.parentWindow:window,$?(oe=u.relatedTarget||u.toElement,$=U,oe=oe?qi(oe):null,oe!==null&&($e=o(oe),ye=oe.tag,oe!==$e||ye!==5&&ye!==27&&ye!==6)&&(oe=null)):($=null,oe=U),$!==oe)){if(ye=wb,F="onMouseLeave",L="onMouseEnter",z="mouse",(a==="pointerout"||a==="pointerover")&&(ye=Eb,F="onPointerLeave",L="onPointerEnter",z="pointer"),$e=$==null?H:go($),B=oe==null?H:go(oe),H=new ye(F,z+"leave",$,u,G),H.target=$e,H.relatedTarget=B,F=null,qi(G)===U&&(ye=new ye(L,z+"enter",oe,u,G),ye.target=B,ye.relatedTarget=$e,F=ye),$e=F,$&&oe)t:{for(ye=$k,L=$,z=oe,B=0,F=L;F;F=ye(F))B++;F=0;for(var me=z;me;me=ye(me))F++;for(;0<B-F;)L=ye(L),B--;for(;0<F-B;)z=ye(z),F--;for(;B--;){if(L===z||z!==null&&L===z.alternate){ye=L;break t}L=ye(L),z=ye(z)}ye=null}else ye=null;$!==null&&mw(Z,H,$,ye,!1),oe!==null&&$e!==null&&mw(Z,$e,oe,ye,!0)}}e:{if(H=U?go(U):window,$=H.nodeName&&H.nodeName.toLowerCase(),$==="select"||$==="input"&&H.type==="file")var Pe=Mb;else if(_b(H))if(Db)Pe=ek;else{Pe=QD;var fe=ZD}else $=H.nodeName,!$||$.toLowerCase()!=="input"||H.type!=="checkbox"&&H.type!=="radio"?U&&th(U.elementType)&&(Pe=Mb):Pe=JD;if(Pe&&(Pe=Pe(a,U))){Tb(Z,Pe,u,G);break e}fe&&fe(a,H,U),a==="focusout"&&U&&H.type==="number"&&U.memoizedProps.value!=null&&eh(H,"number",H.value)}switch(fe=U?go(U):window,a){case"focusin":(_b(fe)||fe.contentEditable==="true")&&(Wi=fe,vh=U,No=null);break;case"focusout":No=vh=Wi=null;break;case"mousedown":ph=!0;break;case"contextmenu":case"mouseup":case"dragend":ph=!1,Ib(Z,u,G);break;case"selectionchange":if(nk)break;case"keydown":case"keyup":Ib(Z,u,G)}var je;if(fh)e:{switch(a){case"compositionstart":var Me="onCompositionStart";break e;case"compositionend":Me="onCompositionEnd";break e;case"compositionupdate":Me="onCompositionUpdate";break e}Me=void 0}else Fi?Nb(a,u)&&(Me="onCompositionEnd"):a==="keydown"&&u.keyCode===229&&(Me="onCompositionStart");Me&&(Ob&&u.locale!=="ko"&&(Fi||Me!=="onCompositionStart"?Me==="onCompositionEnd"&&Fi&&(je=bb()):(ba=G,lh="value"in ba?ba.value:ba.textContent,Fi=!0)),fe=ds(U,Me),0<fe.length&&(Me=new Sb(Me,a,null,u,G),Z.push({event:Me,listeners:fe}),je?Me.data=je:(je=Cb(u),je!==null&&(Me.data=je)))),(je=GD?VD(a,u):XD(a,u))&&(Me=ds(U,"onBeforeInput"),0<Me.length&&(fe=new Sb("onBeforeInput","beforeinput",null,u,G),Z.push({event:fe,listeners:Me}),fe.data=je)),Uk(Z,a,U,u,G)}dw(Z,i)})}function Qo(a,i,u){return{instance:a,listener:i,currentTarget:u}}function ds(a,i){for(var u=i+"Capture",s=[];a!==null;){var v=a,y=v.stateNode;if(v=v.tag,v!==5&&v!==26&&v!==27||y===null||(v=bo(a,u),v!=null&&s.unshift(Qo(a,v,y)),v=bo(a,i),v!=null&&s.push(Qo(a,v,y))),a.tag===3)return s;a=a.return}return[]}function $k(a){if(a===null)return null;do a=a.return;while(a&&a.tag!==5&&a.tag!==27);return a||null}function mw(a,i,u,s,v){for(var y=i._reactName,S=[];u!==null&&u!==s;){var N=u,M=N.alternate,U=N.stateNode;if(N=N.tag,M!==null&&M===s)break;N!==5&&N!==26&&N!==27||U===null||(M=U,v?(U=bo(u,y),U!=null&&S.unshift(Qo(u,U,M))):v||(U=bo(u,y),U!=null&&S.push(Qo(u,U,M)))),u=u.return}S.length!==0&&a.push({event:i,listeners:S})}var Yk=/\r\n?/g,Kk=/\u0000|\uFFFD/g;function vw(a){return(typeof a=="string"?a:""+a).replace(Yk,`
-`).replace(Kk,"")}function pw(a,i){return i=vw(i),vw(a)===i}function He(a,i,u,s,v,y){switch(u){case"children":typeof s=="string"?i==="body"||i==="textarea"&&s===""||Gi(a,s):(typeof s=="number"||typeof s=="bigint")&&i!=="body"&&Gi(a,""+s);break;case"className":pc(a,"class",s);break;case"tabIndex":pc(a,"tabindex",s);break;case"dir":case"role":case"viewBox":case"width":case"height":pc(a,u,s);break;case"style":pb(a,s,y);break;case"data":if(i!=="object"){pc(a,"data",s);break}case"src":case"href":if(s===""&&(i!=="a"||u!=="href")){a.removeAttribute(u);break}if(s==null||typeof s=="function"||typeof s=="symbol"||typeof s=="boolean"){a.removeAttribute(u);break}s=gc(""+s),a.setAttribute(u,s);break;case"action":case"formAction":if(typeof s=="function"){a.setAttribute(u,"javascript:throw new Error('A React form was unexpectedly submitted. If you called form.submit() manually, consider using form.requestSubmit() instead. If you\\'re trying to use event.stopPropagation() in a submit event handler, consider also calling event.preventDefault().')");break}else typeof y=="function"&&(u==="formAction"?(i!=="input"&&He(a,i,"name",v.name,v,null),He(a,i,"formEncType",v.formEncType,v,null),He(a,i,"formMethod",v.formMethod,v,null),He(a,i,"formTarget",v.formTarget,v,null)):(He(a,i,"encType",v.encType,v,null),He(a,i,"method",v.method,v,null),He(a,i,"target",v.target,v,null)));if(s==null||typeof s=="symbol"||typeof s=="boolean"){a.removeAttribute(u);break}s=gc(""+s),a.setAttribute(u,s);break;case"onClick":s!=null&&(a.onclick=Cr);break;case"onScroll":s!=null&&_e("scroll",a);break;case"onScrollEnd":s!=null&&_e("scrollend",a);break;case"dangerouslySetInnerHTML":if(s!=null){if(typeof s!="object"||!("__html"in s))throw Error(r(61));if(u=s.__html,u!=null){if(v.children!=null)throw Error(r(60));a.innerHTML=u}}break;case"multiple":a.multiple=s&&typeof s!="function"&&typeof s!="symbol";break;case"muted":a.muted=s&&typeof s!="function"&&typeof s!="symbol";break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"defaultValue":case"defaultChecked":case"innerHTML":case"ref":break;case"autoFocus":break;case"xlinkHref":if(s==null||typeof s=="function"||typeof s=="boolean"||typeof s=="symbol"){a.removeAttribute("xlink:href");break}u=gc(""+s),a.setAttributeNS("http://www.w3.org/1999/xlink","xlink:href",u);break;case"contentEditable":case"spellCheck":case"draggable":case"value":case"autoReverse":case"externalResourcesRequired":case"focusable":case"preserveAlpha":s!=null&&typeof s!="function"&&typeof s!="symbol"?a.setAttribute(u,""+s):a.removeAttribute(u);break;case"inert":case"allowFullScreen":case"async":case"autoPlay":case"controls":case"default":case"defer":case"disabled":case"disablePictureInPicture":case"disableRemotePlayback":case"formNoValidate":case"hidden":case"loop":case"noModule":case"noValidate":case"open":case"playsInline":case"readOnly":case"required":case"reversed":case"scoped":case"seamless":case"itemScope":s&&typeof s!="function"&&typeof s!="symbol"?a.setAttribute(u,""):a.removeAttribute(u);break;case"capture":case"download":s===!0?a.setAttribute(u,""):s!==!1&&s!=null&&typeof s!="function"&&typeof s!="symbol"?a.setAttribute(u,s):a.removeAttribute(u);break;case"cols":case"rows":case"size":case"span":s!=null&&typeof s!="function"&&typeof s!="symbol"&&!isNaN(s)&&1<=s?a.setAttribute(u,s):a.removeAttribute(u);break;case"rowSpan":case"start":s==null||typeof s=="function"||typeof s=="symbol"||isNaN(s)?a.removeAttribute(u):a.setAttribute(u,s);break;case"popover":_e("beforetoggle",a),_e("toggle",a),vc(a,"popover",s);break;case"xlinkActuate":Nr(a,"http://www.w3.org/1999/xlink","xlink:actuate",s);break;case"xlinkArcrole":Nr(a,"http://www.w3.org/1999/xlink","xlink:arcrole",s);break;case"xlinkRole":Nr(a,"http://www.w3.org/1999/xlink","xlink:role",s);break;case"xlinkShow":Nr(a,"http://www.w3.org/1999/xlink","xlink:show",s);break;case"xlinkTitle":Nr(a,"http://www.w3.org/1999/xlink","xlink:title",s);break;case"xlinkType":Nr(a,"http://www.w3.org/1999/xlink","xlink:type",s);break;case"xmlBase":Nr(a,"http://www.w3.org/XML/1998/namespace","xml:base",s);break;case"xmlLang":Nr(a,"http://www.w3.org/XML/1998/namespace","xml:lang",s);break;case"xmlSpace":Nr(a,"http://www.w3.org/XML/1998/namespace","xml:space",s);break;case"is":vc(a,"is",s);break;case"innerText":case"textContent":break;default:(!(2<u.length)||u[0]!=="o"&&u[0]!=="O"||u[1]!=="n"&&u[1]!=="N")&&(u=bD.get(u)||u,vc(a,u,s))}}function qm(a,i,u,s,v,y){switch(u){case"style":pb(a,s,y);break;case"dangerouslySetInnerHTML":if(s!=null){if(typeof s!="object"||!("__html"in s))throw Error(r(61));if(u=s.__html,u!=null){if(v.children!=null)throw Error(r(60));a.innerHTML=u}}break;case"children":typeof s=="string"?Gi(a,s):(typeof s=="number"||typeof s=="bigint")&&Gi(a,""+s);break;case"onScroll":s!=null&&_e("scroll",a);break;case"onScrollEnd":s!=null&&_e("scrollend",a);break;case"onClick":s!=null&&(a.onclick=Cr);break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"innerHTML":case"ref":break;case"innerText":case"textContent":break;default:if(!ob.hasOwnProperty(u))e:{if(u[0]==="o"&&u[1]==="n"&&(v=u.endsWith("Capture"),i=u.slice(2,v?u.length-7:void 0),y=a[un]||null,y=y!=null?y[u]:null,typeof y=="function"&&a.removeEventListener(i,y,v),typeof s=="function")){typeof y!="function"&&y!==null&&(u in a?a[u]=null:a.hasAttribute(u)&&a.removeAttribute(u)),a.addEventListener(i,s,v);break e}u in a?a[u]=s:s===!0?a.setAttribute(u,""):vc(a,u,s)}}}function Kt(a,i,u){switch(i){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"img":_e("error",a),_e("load",a);var s=!1,v=!1,y;for(y in u)if(u.hasOwnProperty(y)){var S=u[y];if(S!=null)switch(y){case"src":s=!0;break;case"srcSet":v=!0;break;case"children":case"dangerouslySetInnerHTML":throw Error(r(137,i));default:He(a,i,y,S,u,null)}}v&&He(a,i,"srcSet",u.srcSet,u,null),s&&He(a,i,"src",u.src,u,null);return;case"input":_e("invalid",a);var N=y=S=v=null,M=null,U=null;for(s in u)if(u.hasOwnProperty(s)){var G=u[s];if(G!=null)switch(s){case"name":v=G;break;case"type":S=G;break;case"checked":M=G;break;case"defaultChecked":U=G;break;case"value":y=G;break;case"defaultValue":N=G;break;case"children":case"dangerouslySetInnerHTML":if(G!=null)throw Error(r(137,i));break;default:He(a,i,s,G,u,null)}}db(a,y,N,M,U,S,v,!1);return;case"select":_e("invalid",a),s=S=y=null;for(v in u)if(u.hasOwnProperty(v)&&(N=u[v],N!=null))switch(v){case"value":y=N;break;case"defaultValue":S=N;break;case"multiple":s=N;default:He(a,i,v,N,u,null)}i=y,u=S,a.multiple=!!s,i!=null?Ki(a,!!s,i,!1):u!=null&&Ki(a,!!s,u,!0);return;case"textarea":_e("invalid",a),y=v=s=null;for(S in u)if(u.hasOwnProperty(S)&&(N=u[S],N!=null))switch(S){case"value":s=N;break;case"defaultValue":v=N;break;case"children":y=N;break;case"dangerouslySetInnerHTML":if(N!=null)throw Error(r(91));break;default:He(a,i,S,N,u,null)}mb(a,s,v,y);return;case"option":for(M in u)if(u.hasOwnProperty(M)&&(s=u[M],s!=null))switch(M){case"selected":a.selected=s&&typeof s!="function"&&typeof s!="symbol";break;default:He(a,i,M,s,u,null)}return;case"dialog":_e("beforetoggle",a),_e("toggle",a),_e("cancel",a),_e("close",a);break;case"iframe":case"object":_e("load",a);break;case"video":case"audio":for(s=0;s<Zo.length;s++)_e(Zo[s],a);break;case"image":_e("error",a),_e("load",a);break;case"details":_e("toggle",a);break;case"embed":case"source":case"link":_e("error",a),_e("load",a);case"area":case"base":case"br":case"col":case"hr":case"keygen":case"meta":case"param":case"track":case"wbr":case"menuitem":for(U in u)if(u.hasOwnProperty(U)&&(s=u[U],s!=null))switch(U){case"children":case"dangerouslySetInnerHTML":throw Error(r(137,i));default:He(a,i,U,s,u,null)}return;default:if(th(i)){for(G in u)u.hasOwnProperty(G)&&(s=u[G],s!==void 0&&qm(a,i,G,s,u,void 0));return}}for(N in u)u.hasOwnProperty(N)&&(s=u[N],s!=null&&He(a,i,N,s,u,null))}function Gk(a,i,u,s){switch(i){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"input":var v=null,y=null,S=null,N=null,M=null,U=null,G=null;for($ in u){var Z=u[$];if(u.hasOwnProperty($)&&Z!=null)switch($){case"checked":break;case"value":break;case"defaultValue":M=Z;default:s.hasOwnProperty($)||He(a,i,$,null,s,Z)}}for(var H in s){var $=s[H];if(Z=u[H],s.hasOwnProperty(H)&&($!=null||Z!=null))switch(H){case"type":y=$;break;case"name":v=$;break;case"checked":U=$;break;case"defaultChecked":G=$;break;case"value":S=$;break;case"defaultValue":N=$;break;case"children":case"dangerouslySetInnerHTML":if($!=null)throw Error(r(137,i));break;default:$!==Z&&He(a,i,H,$,s,Z)}}Jd(a,S,N,M,U,G,y,v);return;case"select":$=S=N=H=null;for(y in u)if(M=u[y],u.hasOwnProperty(y)&&M!=null)switch(y){case"value":break;case"multiple":$=M;default:s.hasOwnProperty(y)||He(a,i,y,null,s,M)}for(v in s)if(y=s[v],M=u[v],s.hasOwnProperty(v)&&(y!=null||M!=null))switch(v){case"value":H=y;break;case"defaultValue":N=y;break;case"multiple":S=y;default:y!==M&&He(a,i,v,y,s,M)}i=N,u=S,s=$,H!=null?Ki(a,!!u,H,!1):!!s!=!!u&&(i!=null?Ki(a,!!u,i,!0):Ki(a,!!u,u?[]:"",!1));return;case"textarea":$=H=null;for(N in u)if(v=u[N],u.hasOwnProperty(N)&&v!=null&&!s.hasOwnProperty(N))switch(N){case"value":break;case"children":break;default:He(a,i,N,null,s,v)}for(S in s)if(v=s[S],y=u[S],s.hasOwnProperty(S)&&(v!=null||y!=null))switch(S){case"value":H=v;break;case"defaultValue":$=v;break;case"children":break;case"dangerouslySetInnerHTML":if(v!=null)throw Error(r(91));break;default:v!==y&&He(a,i,S,v,s,y)}hb(a,H,$);return;case"option":for(var oe in u)if(H=u[oe],u.hasOwnProperty(oe)&&H!=null&&!s.hasOwnProperty(oe))switch(oe){case"selected":a.selected=!1;break;default:He(a,i,oe,null,s,H)}for(M in s)if(H=s[M],$=u[M],s.hasOwnProperty(M)&&H!==$&&(H!=null||$!=null))switch(M){case"selected":a.selected=H&&typeof H!="function"&&typeof H!="symbol";break;default:He(a,i,M,H,s,$)}return;case"img":case"link":case"area":case"base":case"br":case"col":case"embed":case"hr":case"keygen":case"meta":case"param":case"source":case"track":case"wbr":case"menuitem":for(var ye in u)H=u[ye],u.hasOwnProperty(ye)&&H!=null&&!s.hasOwnProperty(ye)&&He(a,i,ye,null,s,H);for(U in s)if(H=s[U],$=u[U],s.hasOwnProperty(U)&&H!==$&&(H!=null||$!=null))switch(U){case"children":case"dangerouslySetInnerHTML":if(H!=null)throw Error(r(137,i));break;default:He(a,i,U,H,s,$)}return;default:if(th(i)){for(var $e in u)H=u[$e],u.hasOwnProperty($e)&&H!==void 0&&!s.hasOwnProperty($e)&&qm(a,i,$e,void 0,s,H);for(G in s)H=s[G],$=u[G],!s.hasOwnProperty(G)||H===$||H===void 0&&$===void 0||qm(a,i,G,H,s,$);return}}for(var L in u)H=u[L],u.hasOwnProperty(L)&&H!=null&&!s.hasOwnProperty(L)&&He(a,i,L,null,s,H);for(Z in s)H=s[Z],$=u[Z],!s.hasOwnProperty(Z)||H===$||H==null&&$==null||He(a,i,Z,H,s,$)}function yw(a){switch(a){case"css":case"script":case"font":case"img":case"image":case"input":case"link":return!0;default:return!1}}function Vk(){if(typeof performance.getEntriesByType=="function"){for(var a=0,i=0,u=performance.getEntriesByType("resource"),s=0;s<u.length;s++){var v=u[s],y=v.transferSize,S=v.initiatorType,N=v.duration;if(y&&N&&yw(S)){for(S=0,N=v.responseEnd,s+=1;s<u.length;s++){var M=u[s],U=M.startTime;if(U>N)break;var G=M.transferSize,Z=M.initiatorType;G&&yw(Z)&&(M=M.responseEnd,S+=G*(M<N?1:(N-U)/(M-U)))}if(--s,i+=8*(y+S)/(v.duration/1e3),a++,10<a)break}}if(0<a)return i/a/1e6}return navigator.connection&&(a=navigator.connection.downlink,typeof a=="number")?a:5}var Hm=null,$m=null;function hs(a){return a.nodeType===9?a:a.ownerDocument}function gw(a){switch(a){case"http://www.w3.org/2000/svg":return 1;case"http://www.w3.org/1998/Math/MathML":return 2;default:return 0}}function bw(a,i){if(a===0)switch(i){case"svg":return 1;case"math":return 2;default:return 0}return a===1&&i==="foreignObject"?0:a}function Ym(a,i){return a==="textarea"||a==="noscript"||typeof i.children=="string"||typeof i.children=="number"||typeof i.children=="bigint"||typeof i.dangerouslySetInnerHTML=="object"&&i.dangerouslySetInnerHTML!==null&&i.dangerouslySetInnerHTML.__html!=null}var Km=null;function Xk(){var a=window.event;return a&&a.type==="popstate"?a===Km?!1:(Km=a,!0):(Km=null,!1)}var xw=typeof setTimeout=="function"?setTimeout:void 0,Fk=typeof clearTimeout=="function"?clearTimeout:void 0,ww=typeof Promise=="function"?Promise:void 0,Wk=typeof queueMicrotask=="function"?queueMicrotask:typeof ww<"u"?function(a){return ww.resolve(null).then(a).catch(Zk)}:xw;function Zk(a){setTimeout(function(){throw a})}function za(a){return a==="head"}function Sw(a,i){var u=i,s=0;do{var v=u.nextSibling;if(a.removeChild(u),v&&v.nodeType===8)if(u=v.data,u==="/$"||u==="/&"){if(s===0){a.removeChild(v),El(i);return}s--}else if(u==="$"||u==="$?"||u==="$~"||u==="$!"||u==="&")s++;else if(u==="html")Jo(a.ownerDocument.documentElement);else if(u==="head"){u=a.ownerDocument.head,Jo(u);for(var y=u.firstChild;y;){var S=y.nextSibling,N=y.nodeName;y[yo]||N==="SCRIPT"||N==="STYLE"||N==="LINK"&&y.rel.toLowerCase()==="stylesheet"||u.removeChild(y),y=S}}else u==="body"&&Jo(a.ownerDocument.body);u=v}while(u);El(i)}function Ew(a,i){var u=a;a=0;do{var s=u.nextSibling;if(u.nodeType===1?i?(u._stashedDisplay=u.style.display,u.style.display="none"):(u.style.display=u._stashedDisplay||"",u.getAttribute("style")===""&&u.removeAttribute("style")):u.nodeType===3&&(i?(u._stashedText=u.nodeValue,u.nodeValue=""):u.nodeValue=u._stashedText||""),s&&s.nodeType===8)if(u=s.data,u==="/$"){if(a===0)break;a--}else u!=="$"&&u!=="$?"&&u!=="$~"&&u!=="$!"||a++;u=s}while(u)}function Gm(a){var i=a.firstChild;for(i&&i.nodeType===10&&(i=i.nextSibling);i;){var u=i;switch(i=i.nextSibling,u.nodeName){case"HTML":case"HEAD":case"BODY":Gm(u),Zd(u);continue;case"SCRIPT":case"STYLE":continue;case"LINK":if(u.rel.toLowerCase()==="stylesheet")continue}a.removeChild(u)}}function Qk(a,i,u,s){for(;a.nodeType===1;){var v=u;if(a.nodeName.toLowerCase()!==i.toLowerCase()){if(!s&&(a.nodeName!=="INPUT"||a.type!=="hidden"))break}else if(s){if(!a[yo])switch(i){case"meta":if(!a.hasAttribute("itemprop"))break;return a;case"link":if(y=a.getAttribute("rel"),y==="stylesheet"&&a.hasAttribute("data-precedence"))break;if(y!==v.rel||a.getAttribute("href")!==(v.href==null||v.href===""?null:v.href)||a.getAttribute("crossorigin")!==(v.crossOrigin==null?null:v.crossOrigin)||a.getAttribute("title")!==(v.title==null?null:v.title))break;return a;case"style":if(a.hasAttribute("data-precedence"))break;return a;case"script":if(y=a.getAttribute("src"),(y!==(v.src==null?null:v.src)||a.getAttribute("type")!==(v.type==null?null:v.type)||a.getAttribute("crossorigin")!==(v.crossOrigin==null?null:v.crossOrigin))&&y&&a.hasAttribute("async")&&!a.hasAttribute("itemprop"))break;return a;default:return a}}else if(i==="input"&&a.type==="hidden"){var y=v.name==null?null:""+v.name;if(v.type==="hidden"&&a.getAttribute("name")===y)return a}else return a;if(a=Yn(a.nextSibling),a===null)break}return null}function Jk(a,i,u){if(i==="")return null;for(;a.nodeType!==3;)if((a.nodeType!==1||a.nodeName!=="INPUT"||a.type!=="hidden")&&!u||(a=Yn(a.nextSibling),a===null))return null;return a}function Ow(a,i){for(;a.nodeType!==8;)if((a.nodeType!==1||a.nodeName!=="INPUT"||a.type!=="hidden")&&!i||(a=Yn(a.nextSibling),a===null))return null;return a}function Vm(a){return a.data==="$?"||a.data==="$~"}function Xm(a){return a.data==="$!"||a.data==="$?"&&a.ownerDocument.readyState!=="loading"}function eP(a,i){var u=a.ownerDocument;if(a.data==="$~")a._reactRetry=i;else if(a.data!=="$?"||u.readyState!=="loading")i();else{var s=function(){i(),u.removeEventListener("DOMContentLoaded",s)};u.addEventListener("DOMContentLoaded",s),a._reactRetry=s}}function Yn(a){for(;a!=null;a=a.nextSibling){var i=a.nodeType;if(i===1||i===3)break;if(i===8){if(i=a.data,i==="$"||i==="$!"||i==="$?"||i==="$~"||i==="&"||i==="F!"||i==="F")break;if(i==="/$"||i==="/&")return null}}return a}var Fm=null;function Aw(a){a=a.nextSibling;for(var i=0;a;){if(a.nodeType===8){var u=a.data;if(u==="/$"||u==="/&"){if(i===0)return Yn(a.nextSibling);i--}else u!=="$"&&u!=="$!"&&u!=="$?"&&u!=="$~"&&u!=="&"||i++}a=a.nextSibling}return null}function jw(a){a=a.previousSibling;for(var i=0;a;){if(a.nodeType===8){var u=a.data;if(u==="$"||u==="$!"||u==="$?"||u==="$~"||u==="&"){if(i===0)return a;i--}else u!=="/$"&&u!=="/&"||i++}a=a.previousSibling}return null}function Nw(a,i,u){switch(i=hs(u),a){case"html":if(a=i.documentElement,!a)throw Error(r(452));return a;case"head":if(a=i.head,!a)throw Error(r(453));return a;case"body":if(a=i.body,!a)throw Error(r(454));return a;default:throw Error(r(451))}}function Jo(a){for(var i=a.attributes;i.length;)a.removeAttributeNode(i[0]);Zd(a)}var Kn=new Map,Cw=new Set;function ms(a){return typeof a.getRootNode=="function"?a.getRootNode():a.nodeType===9?a:a.ownerDocument}var Yr=Q.d;Q.d={f:tP,r:nP,D:rP,C:aP,L:iP,m:lP,X:uP,S:oP,M:cP};function tP(){var a=Yr.f(),i=is();return a||i}function nP(a){var i=Hi(a);i!==null&&i.tag===5&&i.type==="form"?Kx(i):Yr.r(a)}var xl=typeof document>"u"?null:document;function _w(a,i,u){var s=xl;if(s&&typeof i=="string"&&i){var v=Ln(i);v='link[rel="'+a+'"][href="'+v+'"]',typeof u=="string"&&(v+='[crossorigin="'+u+'"]'),Cw.has(v)||(Cw.add(v),a={rel:a,crossOrigin:u,href:i},s.querySelector(v)===null&&(i=s.createElement("link"),Kt(i,"link",a),Nt(i),s.head.appendChild(i)))}}function rP(a){Yr.D(a),_w("dns-prefetch",a,null)}function aP(a,i){Yr.C(a,i),_w("preconnect",a,i)}function iP(a,i,u){Yr.L(a,i,u);var s=xl;if(s&&a&&i){var v='link[rel="preload"][as="'+Ln(i)+'"]';i==="image"&&u&&u.imageSrcSet?(v+='[imagesrcset="'+Ln(u.imageSrcSet)+'"]',typeof u.imageSizes=="string"&&(v+='[imagesizes="'+Ln(u.imageSizes)+'"]')):v+='[href="'+Ln(a)+'"]';var y=v;switch(i){case"style":y=wl(a);break;case"script":y=Sl(a)}Kn.has(y)||(a=p({rel:"preload",href:i==="image"&&u&&u.imageSrcSet?void 0:a,as:i},u),Kn.set(y,a),s.querySelector(v)!==null||i==="style"&&s.querySelector(eu(y))||i==="script"&&s.querySelector(tu(y))||(i=s.createElement("link"),Kt(i,"link",a),Nt(i),s.head.appendChild(i)))}}function lP(a,i){Yr.m(a,i);var u=xl;if(u&&a){var s=i&&typeof i.as=="string"?i.as:"script",v='link[rel="modulepreload"][as="'+Ln(s)+'"][href="'+Ln(a)+'"]',y=v;switch(s){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":y=Sl(a)}if(!Kn.has(y)&&(a=p({rel:"modulepreload",href:a},i),Kn.set(y,a),u.querySelector(v)===null)){switch(s){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":if(u.querySelector(tu(y)))return}s=u.createElement("link"),Kt(s,"link",a),Nt(s),u.head.appendChild(s)}}}function oP(a,i,u){Yr.S(a,i,u);var s=xl;if(s&&a){var v=$i(s).hoistableStyles,y=wl(a);i=i||"default";var S=v.get(y);if(!S){var N={loading:0,preload:null};if(S=s.querySelector(eu(y)))N.loading=5;else{a=p({rel:"stylesheet",href:a,"data-precedence":i},u),(u=Kn.get(y))&&Wm(a,u);var M=S=s.createElement("link");Nt(M),Kt(M,"link",a),M._p=new Promise(function(U,G){M.onload=U,M.onerror=G}),M.addEventListener("load",function(){N.loading|=1}),M.addEventListener("error",function(){N.loading|=2}),N.loading|=4,vs(S,i,s)}S={type:"stylesheet",instance:S,count:1,state:N},v.set(y,S)}}}function uP(a,i){Yr.X(a,i);var u=xl;if(u&&a){var s=$i(u).hoistableScripts,v=Sl(a),y=s.get(v);y||(y=u.querySelector(tu(v)),y||(a=p({src:a,async:!0},i),(i=Kn.get(v))&&Zm(a,i),y=u.createElement("script"),Nt(y),Kt(y,"link",a),u.head.appendChild(y)),y={type:"script",instance:y,count:1,state:null},s.set(v,y))}}function cP(a,i){Yr.M(a,i);var u=xl;if(u&&a){var s=$i(u).hoistableScripts,v=Sl(a),y=s.get(v);y||(y=u.querySelector(tu(v)),y||(a=p({src:a,async:!0,type:"module"},i),(i=Kn.get(v))&&Zm(a,i),y=u.createElement("script"),Nt(y),Kt(y,"link",a),u.head.appendChild(y)),y={type:"script",instance:y,count:1,state:null},s.set(v,y))}}function Tw(a,i,u,s){var v=(v=we.current)?ms(v):null;if(!v)throw Error(r(446));switch(a){case"meta":case"title":return null;case"style":return typeof u.precedence=="string"&&typeof u.href=="string"?(i=wl(u.href),u=$i(v).hoistableStyles,s=u.get(i),s||(s={type:"style",instance:null,count:0,state:null},u.set(i,s)),s):{type:"void",instance:null,count:0,state:null};case"link":if(u.rel==="stylesheet"&&typeof u.href=="string"&&typeof u.precedence=="string"){a=wl(u.href);var y=$i(v).hoistableStyles,S=y.get(a);if(S||(v=v.ownerDocument||v,S={type:"stylesheet",instance:null,count:0,state:{loading:0,preload:null}},y.set(a,S),(y=v.querySelector(eu(a)))&&!y._p&&(S.instance=y,S.state.loading=5),Kn.has(a)||(u={rel:"preload",as:"style",href:u.href,crossOrigin:u.crossOrigin,integrity:u.integrity,media:u.media,hrefLang:u.hrefLang,referrerPolicy:u.referrerPolicy},Kn.set(a,u),y||sP(v,a,u,S.state))),i&&s===null)throw Error(r(528,""));return S}if(i&&s!==null)throw Error(r(529,""));return null;case"script":return i=u.async,u=u.src,typeof u=="string"&&i&&typeof i!="function"&&typeof i!="symbol"?(i=Sl(u),u=$i(v).hoistableScripts,s=u.get(i),s||(s={type:"script",instance:null,count:0,state:null},u.set(i,s)),s):{type:"void",instance:null,count:0,state:null};default:throw Error(r(444,a))}}function wl(a){return'href="'+Ln(a)+'"'}function eu(a){return'link[rel="stylesheet"]['+a+"]"}function Mw(a){return p({},a,{"data-precedence":a.precedence,precedence:null})}function sP(a,i,u,s){a.querySelector('link[rel="preload"][as="style"]['+i+"]")?s.loading=1:(i=a.createElement("link"),s.preload=i,i.addEventListener("load",function(){return s.loading|=1}),i.addEventListener("error",function(){return s.loading|=2}),Kt(i,"link",u),Nt(i),a.head.appendChild(i))}function Sl(a){return'[src="'+Ln(a)+'"]'}function tu(a){return"script[async]"+a}function Dw(a,i,u){if(i.count++,i.instance===null)switch(i.type){case"style":var s=a.querySelector('style[data-href~="'+Ln(u.href)+'"]');if(s)return i.instance=s,Nt(s),s;var v=p({},u,{"data-href":u.href,"data-precedence":u.precedence,href:null,precedence:null});return s=(a.ownerDocument||a).createElement("style"),Nt(s),Kt(s,"style",v),vs(s,u.precedence,a),i.instance=s;case"stylesheet":v=wl(u.href);var y=a.querySelector(eu(v));if(y)return i.state.loading|=4,i.instance=y,Nt(y),y;s=Mw(u),(v=Kn.get(v))&&Wm(s,v),y=(a.ownerDocument||a).createElement("link"),Nt(y);var S=y;return S._p=new Promise(function(N,M){S.onload=N,S.onerror=M}),Kt(y,"link",s),i.state.loading|=4,vs(y,u.precedence,a),i.instance=y;case"script":return y=Sl(u.src),(v=a.querySelector(tu(y)))?(i.instance=v,Nt(v),v):(s=u,(v=Kn.get(y))&&(s=p({},u),Zm(s,v)),a=a.ownerDocument||a,v=a.createElement("script"),Nt(v),Kt(v,"link",s),a.head.appendChild(v),i.instance=v);case"void":return null;default:throw Error(r(443,i.type))}else i.type==="stylesheet"&&(i.state.loading&4)===0&&(s=i.instance,i.state.loading|=4,vs(s,u.precedence,a));return i.instance}function vs(a,i,u){for(var s=u.querySelectorAll('link[rel="stylesheet"][data-precedence],style[data-precedence]'),v=s.length?s[s.length-1]:null,y=v,S=0;S<s.length;S++){var N=s[S];if(N.dataset.precedence===i)y=N;else if(y!==v)break}y?y.parentNode.insertBefore(a,y.nextSibling):(i=u.nodeType===9?u.head:u,i.insertBefore(a,i.firstChild))}function Wm(a,i){a.crossOrigin==null&&(a.crossOrigin=i.crossOrigin),a.referrerPolicy==null&&(a.referrerPolicy=i.referrerPolicy),a.title==null&&(a.title=i.title)}function Zm(a,i){a.crossOrigin==null&&(a.crossOrigin=i.crossOrigin),a.referrerPolicy==null&&(a.referrerPolicy=i.referrerPolicy),a.integrity==null&&(a.integrity=i.integrity)}var ps=null;function kw(a,i,u){if(ps===null){var s=new Map,v=ps=new Map;v.set(u,s)}else v=ps,s=v.get(u),s||(s=new Map,v.set(u,s));if(s.has(a))return s;for(s.set(a,null),u=u.getElementsByTagName(a),v=0;v<u.length;v++){var y=u[v];if(!(y[yo]||y[qt]||a==="link"&&y.getAttribute("rel")==="stylesheet")&&y.namespaceURI!=="http://www.w3.org/2000/svg"){var S=y.getAttribute(i)||"";S=a+S;var N=s.get(S);N?N.push(y):s.set(S,[y])}}return s}function Pw(a,i,u){a=a.ownerDocument||a,a.head.insertBefore(u,i==="title"?a.querySelector("head > title"):null)}function fP(a,i,u){if(u===1||i.itemProp!=null)return!1;switch(a){case"meta":case"title":return!0;case"style":if(typeof i.precedence!="string"||typeof i.href!="string"||i.href==="")break;return!0;case"link":if(typeof i.rel!="string"||typeof i.href!="string"||i.href===""||i.onLoad||i.onError)break;switch(i.rel){case"stylesheet":return a=i.disabled,typeof i.precedence=="string"&&a==null;default:return!0}case"script":if(i.async&&typeof i.async!="function"&&typeof i.async!="symbol"&&!i.onLoad&&!i.onError&&i.src&&typeof i.src=="string")return!0}return!1}function Rw(a){return!(a.type==="stylesheet"&&(a.state.loading&3)===0)}function dP(a,i,u,s){if(u.type==="stylesheet"&&(typeof s.media!="string"||matchMedia(s.media).matches!==!1)&&(u.state.loading&4)===0){if(u.instance===null){var v=wl(s.href),y=i.querySelector(eu(v));if(y){i=y._p,i!==null&&typeof i=="object"&&typeof i.then=="function"&&(a.count++,a=ys.bind(a),i.then(a,a)),u.state.loading|=4,u.instance=y,Nt(y);return}y=i.ownerDocument||i,s=Mw(s),(v=Kn.get(v))&&Wm(s,v),y=y.createElement("link"),Nt(y);var S=y;S._p=new Promise(function(N,M){S.onload=N,S.onerror=M}),Kt(y,"link",s),u.instance=y}a.stylesheets===null&&(a.stylesheets=new Map),a.stylesheets.set(u,i),(i=u.state.preload)&&(u.state.loading&3)===0&&(a.count++,u=ys.bind(a),i.addEventListener("load",u),i.addEventListener("error",u))}}var Qm=0;function hP(a,i){return a.stylesheets&&a.count===0&&bs(a,a.stylesheets),0<a.count||0<a.imgCount?function(u){var s=setTimeout(function(){if(a.stylesheets&&bs(a,a.stylesheets),a.unsuspend){var y=a.unsuspend;a.unsuspend=null,y()}},6e4+i);0<a.imgBytes&&Qm===0&&(Qm=62500*Vk());var v=setTimeout(function(){if(a.waitingForImages=!1,a.count===0&&(a.stylesheets&&bs(a,a.stylesheets),a.unsuspend)){var y=a.unsuspend;a.unsuspend=null,y()}},(a.imgBytes>Qm?50:800)+i);return a.unsuspend=u,function(){a.unsuspend=null,clearTimeout(s),clearTimeout(v)}}:null}function ys(){if(this.count--,this.count===0&&(this.imgCount===0||!this.waitingForImages)){if(this.stylesheets)bs(this,this.stylesheets);else if(this.unsuspend){var a=this.unsuspend;this.unsuspend=null,a()}}}var gs=null;function bs(a,i){a.stylesheets=null,a.unsuspend!==null&&(a.count++,gs=new Map,i.forEach(mP,a),gs=null,ys.call(a))}function mP(a,i){if(!(i.state.loading&4)){var u=gs.get(a);if(u)var s=u.get(null);else{u=new Map,gs.set(a,u);for(var v=a.querySelectorAll("link[data-precedence],style[data-precedence]"),y=0;y<v.length;y++){var S=v[y];(S.nodeName==="LINK"||S.getAttribute("media")!=="not all")&&(u.set(S.dataset.precedence,S),s=S)}s&&u.set(null,s)}v=i.instance,S=v.getAttribute("data-precedence"),y=u.get(S)||s,y===s&&u.set(null,v),u.set(S,v),this.count++,s=ys.bind(this),v.addEventListener("load",s),v.addEventListener("error",s),y?y.parentNode.insertBefore(v,y.nextSibling):(a=a.nodeType===9?a.head:a,a.insertBefore(v,a.firstChild)),i.state.loading|=4}}var nu={$$typeof:C,Provider:null,Consumer:null,_currentValue:X,_currentValue2:X,_threadCount:0};function vP(a,i,u,s,v,y,S,N,M){this.tag=1,this.containerInfo=a,this.pingCache=this.current=this.pendingChildren=null,this.timeoutHandle=-1,this.callbackNode=this.next=this.pendingContext=this.context=this.cancelPendingCommit=null,this.callbackPriority=0,this.expirationTimes=Vd(-1),this.entangledLanes=this.shellSuspendCounter=this.errorRecoveryDisabledLanes=this.expiredLanes=this.warmLanes=this.pingedLanes=this.suspendedLanes=this.pendingLanes=0,this.entanglements=Vd(0),this.hiddenUpdates=Vd(null),this.identifierPrefix=s,this.onUncaughtError=v,this.onCaughtError=y,this.onRecoverableError=S,this.pooledCache=null,this.pooledCacheLanes=0,this.formState=M,this.incompleteTransitions=new Map}function zw(a,i,u,s,v,y,S,N,M,U,G,Z){return a=new vP(a,i,u,S,M,U,G,Z,N),i=1,y===!0&&(i|=24),y=On(3,null,null,i),a.current=y,y.stateNode=a,i=Mh(),i.refCount++,a.pooledCache=i,i.refCount++,y.memoizedState={element:s,isDehydrated:u,cache:i},Rh(y),a}function Lw(a){return a?(a=Ji,a):Ji}function Bw(a,i,u,s,v,y){v=Lw(v),s.context===null?s.context=v:s.pendingContext=v,s=Aa(i),s.payload={element:u},y=y===void 0?null:y,y!==null&&(s.callback=y),u=ja(a,s,i),u!==null&&(mn(u,a,i),Po(u,a,i))}function Uw(a,i){if(a=a.memoizedState,a!==null&&a.dehydrated!==null){var u=a.retryLane;a.retryLane=u!==0&&u<i?u:i}}function Jm(a,i){Uw(a,i),(a=a.alternate)&&Uw(a,i)}function Iw(a){if(a.tag===13||a.tag===31){var i=li(a,67108864);i!==null&&mn(i,a,67108864),Jm(a,67108864)}}function qw(a){if(a.tag===13||a.tag===31){var i=_n();i=Xd(i);var u=li(a,i);u!==null&&mn(u,a,i),Jm(a,i)}}var xs=!0;function pP(a,i,u,s){var v=q.T;q.T=null;var y=Q.p;try{Q.p=2,ev(a,i,u,s)}finally{Q.p=y,q.T=v}}function yP(a,i,u,s){var v=q.T;q.T=null;var y=Q.p;try{Q.p=8,ev(a,i,u,s)}finally{Q.p=y,q.T=v}}function ev(a,i,u,s){if(xs){var v=tv(s);if(v===null)Im(a,i,s,ws,u),$w(a,s);else if(bP(v,a,i,u,s))s.stopPropagation();else if($w(a,s),i&4&&-1<gP.indexOf(a)){for(;v!==null;){var y=Hi(v);if(y!==null)switch(y.tag){case 3:if(y=y.stateNode,y.current.memoizedState.isDehydrated){var S=ti(y.pendingLanes);if(S!==0){var N=y;for(N.pendingLanes|=2,N.entangledLanes|=2;S;){var M=1<<31-Sn(S);N.entanglements[1]|=M,S&=~M}pr(y),(Le&6)===0&&(rs=xn()+500,Wo(0))}}break;case 31:case 13:N=li(y,2),N!==null&&mn(N,y,2),is(),Jm(y,2)}if(y=tv(s),y===null&&Im(a,i,s,ws,u),y===v)break;v=y}v!==null&&s.stopPropagation()}else Im(a,i,s,null,u)}}function tv(a){return a=rh(a),nv(a)}var ws=null;function nv(a){if(ws=null,a=qi(a),a!==null){var i=o(a);if(i===null)a=null;else{var u=i.tag;if(u===13){if(a=c(i),a!==null)return a;a=null}else if(u===31){if(a=f(i),a!==null)return a;a=null}else if(u===3){if(i.stateNode.current.memoizedState.isDehydrated)return i.tag===3?i.stateNode.containerInfo:null;a=null}else i!==a&&(a=null)}}return ws=a,null}function Hw(a){switch(a){case"beforetoggle":case"cancel":case"click":case"close":case"contextmenu":case"copy":case"cut":case"auxclick":case"dblclick":case"dragend":case"dragstart":case"drop":case"focusin":case"focusout":case"input":case"invalid":case"keydown":case"keypress":case"keyup":case"mousedown":case"mouseup":case"paste":case"pause":case"play":case"pointercancel":case"pointerdown":case"pointerup":case"ratechange":case"reset":case"resize":case"seeked":case"submit":case"toggle":case"touchcancel":case"touchend":case"touchstart":case"volumechange":case"change":case"selectionchange":case"textInput":case"compositionstart":case"compositionend":case"compositionupdate":case"beforeblur":case"afterblur":case"beforeinput":case"blur":case"fullscreenchange":case"focus":case"hashchange":case"popstate":case"select":case"selectstart":return 2;case"drag":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"mousemove":case"mouseout":case"mouseover":case"pointermove":case"pointerout":case"pointerover":case"scroll":case"touchmove":case"wheel":case"mouseenter":case"mouseleave":case"pointerenter":case"pointerleave":return 8;case"message":switch(rD()){case W0:return 2;case Z0:return 8;case sc:case aD:return 32;case Q0:return 268435456;default:return 32}default:return 32}}var rv=!1,La=null,Ba=null,Ua=null,ru=new Map,au=new Map,Ia=[],gP="mousedown mouseup touchcancel touchend touchstart auxclick dblclick pointercancel pointerdown pointerup dragend dragstart drop compositionend compositionstart keydown keypress keyup input textInput copy cut paste click change contextmenu reset".split(" ");function $w(a,i){switch(a){case"focusin":case"focusout":La=null;break;case"dragenter":case"dragleave":Ba=null;break;case"mouseover":case"mouseout":Ua=null;break;case"pointerover":case"pointerout":ru.delete(i.pointerId);break;case"gotpointercapture":case"lostpointercapture":au.delete(i.pointerId)}}function iu(a,i,u,s,v,y){return a===null||a.nativeEvent!==y?(a={blockedOn:i,domEventName:u,eventSystemFlags:s,nativeEvent:y,targetContainers:[v]},i!==null&&(i=Hi(i),i!==null&&Iw(i)),a):(a.eventSystemFlags|=s,i=a.targetContainers,v!==null&&i.indexOf(v)===-1&&i.push(v),a)}function bP(a,i,u,s,v){switch(i){case"focusin":return La=iu(La,a,i,u,s,v),!0;case"dragenter":return Ba=iu(Ba,a,i,u,s,v),!0;case"mouseover":return Ua=iu(Ua,a,i,u,s,v),!0;case"pointerover":var y=v.pointerId;return ru.set(y,iu(ru.get(y)||null,a,i,u,s,v)),!0;case"gotpointercapture":return y=v.pointerId,au.set(y,iu(au.get(y)||null,a,i,u,s,v)),!0}return!1}function Yw(a){var i=qi(a.target);if(i!==null){var u=o(i);if(u!==null){if(i=u.tag,i===13){if(i=c(u),i!==null){a.blockedOn=i,ab(a.priority,function(){qw(u)});return}}else if(i===31){if(i=f(u),i!==null){a.blockedOn=i,ab(a.priority,function(){qw(u)});return}}else if(i===3&&u.stateNode.current.memoizedState.isDehydrated){a.blockedOn=u.tag===3?u.stateNode.containerInfo:null;return}}}a.blockedOn=null}function Ss(a){if(a.blockedOn!==null)return!1;for(var i=a.targetContainers;0<i.length;){var u=tv(a.nativeEvent);if(u===null){u=a.nativeEvent;var s=new u.constructor(u.type,u);nh=s,u.target.dispatchEvent(s),nh=null}else return i=Hi(u),i!==null&&Iw(i),a.blockedOn=u,!1;i.shift()}return!0}function Kw(a,i,u){Ss(a)&&u.delete(i)}function xP(){rv=!1,La!==null&&Ss(La)&&(La=null),Ba!==null&&Ss(Ba)&&(Ba=null),Ua!==null&&Ss(Ua)&&(Ua=null),ru.forEach(Kw),au.forEach(Kw)}function Es(a,i){a.blockedOn===i&&(a.blockedOn=null,rv||(rv=!0,e.unstable_scheduleCallback(e.unstable_NormalPriority,xP)))}var Os=null;function Gw(a){Os!==a&&(Os=a,e.unstable_scheduleCallback(e.unstable_NormalPriority,function(){Os===a&&(Os=null);for(var i=0;i<a.length;i+=3){var u=a[i],s=a[i+1],v=a[i+2];if(typeof s!="function"){if(nv(s||u)===null)continue;break}var y=Hi(u);y!==null&&(a.splice(i,3),i-=3,tm(y,{pending:!0,data:v,method:u.method,action:s},s,v))}}))}function El(a){function i(M){return Es(M,a)}La!==null&&Es(La,a),Ba!==null&&Es(Ba,a),Ua!==null&&Es(Ua,a),ru.forEach(i),au.forEach(i);for(var u=0;u<Ia.length;u++){var s=Ia[u];s.blockedOn===a&&(s.blockedOn=null)}for(;0<Ia.length&&(u=Ia[0],u.blockedOn===null);)Yw(u),u.blockedOn===null&&Ia.shift();if(u=(a.ownerDocument||a).$$reactFormReplay,u!=null)for(s=0;s<u.length;s+=3){var v=u[s],y=u[s+1],S=v[un]||null;if(typeof y=="function")S||Gw(u);else if(S){var N=null;if(y&&y.hasAttribute("formAction")){if(v=y,S=y[un]||null)N=S.formAction;else if(nv(v)!==null)continue}else N=S.action;typeof N=="function"?u[s+1]=N:(u.splice(s,3),s-=3),Gw(u)}}}function Vw(){function a(y){y.canIntercept&&y.info==="react-transition"&&y.intercept({handler:function(){return new Promise(function(S){return v=S})},focusReset:"manual",scroll:"manual"})}function i(){v!==null&&(v(),v=null),s||setTimeout(u,20)}function u(){if(!s&&!navigation.transition){var y=navigation.currentEntry;y&&y.url!=null&&navigation.navigate(y.url,{state:y.getState(),info:"react-transition",history:"replace"})}}if(typeof navigation=="object"){var s=!1,v=null;return navigation.addEventListener("navigate",a),navigation.addEventListener("navigatesuccess",i),navigation.addEventListener("navigateerror",i),setTimeout(u,100),function(){s=!0,navigation.removeEventListener("navigate",a),navigation.removeEventListener("navigatesuccess",i),navigation.removeEventListener("navigateerror",i),v!==null&&(v(),v=null)}}}function av(a){this._internalRoot=a}As.prototype.render=av.prototype.render=function(a){var i=this._internalRoot;if(i===null)throw Error(r(409));var u=i.current,s=_n();Bw(u,s,a,i,null,null)},As.prototype.unmount=av.prototype.unmount=function(){var a=this._internalRoot;if(a!==null){this._internalRoot=null;var i=a.containerInfo;Bw(a.current,2,null,a,null,null),is(),i[Ii]=null}};function As(a){this._internalRoot=a}As.prototype.unstable_scheduleHydration=function(a){if(a){var i=rb();a={blockedOn:null,target:a,priority:i};for(var u=0;u<Ia.length&&i!==0&&i<Ia[u].priority;u++);Ia.splice(u,0,a),u===0&&Yw(a)}};var Xw=t.version;if(Xw!=="19.2.1")throw Error(r(527,Xw,"19.2.1"));Q.findDOMNode=function(a){var i=a._reactInternals;if(i===void 0)throw typeof a.render=="function"?Error(r(188)):(a=Object.keys(a).join(","),Error(r(268,a)));return a=h(i),a=a!==null?m(a):null,a=a===null?null:a.stateNode,a};var wP={bundleType:0,version:"19.2.1",rendererPackageName:"react-dom",currentDispatcherRef:q,reconcilerVersion:"19.2.1"};if(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__<"u"){var js=__REACT_DEVTOOLS_GLOBAL_HOOK__;if(!js.isDisabled&&js.supportsFiber)try{mo=js.inject(wP),wn=js}catch{}}return ou.createRoot=function(a,i){if(!l(a))throw Error(r(299));var u=!1,s="",v=t1,y=n1,S=r1;return i!=null&&(i.unstable_strictMode===!0&&(u=!0),i.identifierPrefix!==void 0&&(s=i.identifierPrefix),i.onUncaughtError!==void 0&&(v=i.onUncaughtError),i.onCaughtError!==void 0&&(y=i.onCaughtError),i.onRecoverableError!==void 0&&(S=i.onRecoverableError)),i=zw(a,1,!1,null,null,u,s,null,v,y,S,Vw),a[Ii]=i.current,Um(a),new av(i)},ou.hydrateRoot=function(a,i,u){if(!l(a))throw Error(r(299));var s=!1,v="",y=t1,S=n1,N=r1,M=null;return u!=null&&(u.unstable_strictMode===!0&&(s=!0),u.identifierPrefix!==void 0&&(v=u.identifierPrefix),u.onUncaughtError!==void 0&&(y=u.onUncaughtError),u.onCaughtError!==void 0&&(S=u.onCaughtError),u.onRecoverableError!==void 0&&(N=u.onRecoverableError),u.formState!==void 0&&(M=u.formState)),i=zw(a,1,!0,i,u??null,s,v,M,y,S,N,Vw),i.context=Lw(null),u=i.current,s=_n(),s=Xd(s),v=Aa(s),v.callback=null,ja(u,v,s),u=s,i.current.lanes=u,po(i,u),pr(i),a[Ii]=i.current,Um(a),new As(i)},ou.version="19.2.1",ou}var aS;function MP(){if(aS)return ov.exports;aS=1;function e(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(e)}catch(t){console.error(t)}}return e(),ov.exports=TP(),ov.exports}var DP=MP();var iS="popstate";function kP(e={}){function t(r,l){let{pathname:o,search:c,hash:f}=r.location;return Jp("",{pathname:o,search:c,hash:f},l.state&&l.state.usr||null,l.state&&l.state.key||"default")}function n(r,l){return typeof l=="string"?l:wu(l)}return RP(t,n,null,e)}function nt(e,t){if(e===!1||e===null||typeof e>"u")throw new Error(t)}function Fn(e,t){if(!e){typeof console<"u"&&console.warn(t);try{throw new Error(t)}catch{}}}function PP(){return Math.random().toString(36).substring(2,10)}function lS(e,t){return{usr:e.state,key:e.key,idx:t}}function Jp(e,t,n=null,r){return{pathname:typeof e=="string"?e:e.pathname,search:"",hash:"",...typeof t=="string"?Fl(t):t,state:n,key:t&&t.key||r||PP()}}function wu({pathname:e="/",search:t="",hash:n=""}){return t&&t!=="?"&&(e+=t.charAt(0)==="?"?t:"?"+t),n&&n!=="#"&&(e+=n.charAt(0)==="#"?n:"#"+n),e}function Fl(e){let t={};if(e){let n=e.indexOf("#");n>=0&&(t.hash=e.substring(n),e=e.substring(0,n));let r=e.indexOf("?");r>=0&&(t.search=e.substring(r),e=e.substring(0,r)),e&&(t.pathname=e)}return t}function RP(e,t,n,r={}){let{window:l=document.defaultView,v5Compat:o=!1}=r,c=l.history,f="POP",d=null,h=m();h==null&&(h=0,c.replaceState({...c.state,idx:h},""));function m(){return(c.state||{idx:null}).idx}function p(){f="POP";let E=m(),j=E==null?null:E-h;h=E,d&&d({action:f,location:O.location,delta:j})}function x(E,j){f="PUSH";let _=Jp(O.location,E,j);h=m()+1;let C=lS(_,h),D=O.createHref(_);try{c.pushState(C,"",D)}catch(T){if(T instanceof DOMException&&T.name==="DataCloneError")throw T;l.location.assign(D)}o&&d&&d({action:f,location:O.location,delta:1})}function w(E,j){f="REPLACE";let _=Jp(O.location,E,j);h=m();let C=lS(_,h),D=O.createHref(_);c.replaceState(C,"",D),o&&d&&d({action:f,location:O.location,delta:0})}function A(E){return zP(E)}let O={get action(){return f},get location(){return e(l,c)},listen(E){if(d)throw new Error("A history only accepts one active listener");return l.addEventListener(iS,p),d=E,()=>{l.removeEventListener(iS,p),d=null}},createHref(E){return t(l,E)},createURL:A,encodeLocation(E){let j=A(E);return{pathname:j.pathname,search:j.search,hash:j.hash}},push:x,replace:w,go(E){return c.go(E)}};return O}function zP(e,t=!1){let n="http://localhost";typeof window<"u"&&(n=window.location.origin!=="null"?window.location.origin:window.location.href),nt(n,"No window.location.(origin|href) available to create URL");let r=typeof e=="string"?e:wu(e);return r=r.replace(/ $/,"%20"),!t&&r.startsWith("//")&&(r=n+r),new URL(r,n)}function R2(e,t,n="/"){return LP(e,t,n,!1)}function LP(e,t,n,r){let l=typeof t=="string"?Fl(t):t,o=ea(l.pathname||"/",n);if(o==null)return null;let c=z2(e);BP(c);let f=null;for(let d=0;f==null&&d<c.length;++d){let h=FP(o);f=VP(c[d],h,r)}return f}function z2(e,t=[],n=[],r="",l=!1){let o=(c,f,d=l,h)=>{let m={relativePath:h===void 0?c.path||"":h,caseSensitive:c.caseSensitive===!0,childrenIndex:f,route:c};if(m.relativePath.startsWith("/")){if(!m.relativePath.startsWith(r)&&d)return;nt(m.relativePath.startsWith(r),`Absolute route path "${m.relativePath}" nested under path "${r}" is not valid. An absolute child route path must start with the combined path of all its parent routes.`),m.relativePath=m.relativePath.slice(r.length)}let p=Zr([r,m.relativePath]),x=n.concat(m);c.children&&c.children.length>0&&(nt(c.index!==!0,`Index routes must not have child routes. Please remove all child routes from route path "${p}".`),z2(c.children,t,x,p,d)),!(c.path==null&&!c.index)&&t.push({path:p,score:KP(p,c.index),routesMeta:x})};return e.forEach((c,f)=>{if(c.path===""||!c.path?.includes("?"))o(c,f);else for(let d of L2(c.path))o(c,f,!0,d)}),t}function L2(e){let t=e.split("/");if(t.length===0)return[];let[n,...r]=t,l=n.endsWith("?"),o=n.replace(/\?$/,"");if(r.length===0)return l?[o,""]:[o];let c=L2(r.join("/")),f=[];return f.push(...c.map(d=>d===""?o:[o,d].join("/"))),l&&f.push(...c),f.map(d=>e.startsWith("/")&&d===""?"/":d)}function BP(e){e.sort((t,n)=>t.score!==n.score?n.score-t.score:GP(t.routesMeta.map(r=>r.childrenIndex),n.routesMeta.map(r=>r.childrenIndex)))}var UP=/^:[\w-]+$/,IP=3,qP=2,HP=1,$P=10,YP=-2,oS=e=>e==="*";function KP(e,t){let n=e.split("/"),r=n.length;return n.some(oS)&&(r+=YP),t&&(r+=qP),n.filter(l=>!oS(l)).reduce((l,o)=>l+(UP.test(o)?IP:o===""?HP:$P),r)}function GP(e,t){return e.length===t.length&&e.slice(0,-1).every((r,l)=>r===t[l])?e[e.length-1]-t[t.length-1]:0}function VP(e,t,n=!1){let{routesMeta:r}=e,l={},o="/",c=[];for(let f=0;f<r.length;++f){let d=r[f],h=f===r.length-1,m=o==="/"?t:t.slice(o.length)||"/",p=uf({path:d.relativePath,caseSensitive:d.caseSensitive,end:h},m),x=d.route;if(!p&&h&&n&&!r[r.length-1].route.index&&(p=uf({path:d.relativePath,caseSensitive:d.caseSensitive,end:!1},m)),!p)return null;Object.assign(l,p.params),c.push({params:l,pathname:Zr([o,p.pathname]),pathnameBase:eR(Zr([o,p.pathnameBase])),route:x}),p.pathnameBase!=="/"&&(o=Zr([o,p.pathnameBase]))}return c}function uf(e,t){typeof e=="string"&&(e={path:e,caseSensitive:!1,end:!0});let[n,r]=XP(e.path,e.caseSensitive,e.end),l=t.match(n);if(!l)return null;let o=l[0],c=o.replace(/(.)\/+$/,"$1"),f=l.slice(1);return{params:r.reduce((h,{paramName:m,isOptional:p},x)=>{if(m==="*"){let A=f[x]||"";c=o.slice(0,o.length-A.length).replace(/(.)\/+$/,"$1")}const w=f[x];return p&&!w?h[m]=void 0:h[m]=(w||"").replace(/%2F/g,"/"),h},{}),pathname:o,pathnameBase:c,pattern:e}}function XP(e,t=!1,n=!0){Fn(e==="*"||!e.endsWith("*")||e.endsWith("/*"),`Route path "${e}" will be treated as if it were "${e.replace(/\*$/,"/*")}" because the \`*\` character must always follow a \`/\` in the pattern. To get rid of this warning, please change the route path to "${e.replace(/\*$/,"/*")}".`);let r=[],l="^"+e.replace(/\/*\*?$/,"").replace(/^\/*/,"/").replace(/[\\.*+^${}|()[\]]/g,"\\$&").replace(/\/:([\w-]+)(\?)?/g,(c,f,d)=>(r.push({paramName:f,isOptional:d!=null}),d?"/?([^\\/]+)?":"/([^\\/]+)")).replace(/\/([\w-]+)\?(\/|$)/g,"(/$1)?$2");return e.endsWith("*")?(r.push({paramName:"*"}),l+=e==="*"||e==="/*"?"(.*)$":"(?:\\/(.+)|\\/*)$"):n?l+="\\/*$":e!==""&&e!=="/"&&(l+="(?:(?=\\/|$))"),[new RegExp(l,t?void 0:"i"),r]}function FP(e){try{return e.split("/").map(t=>decodeURIComponent(t).replace(/\//g,"%2F")).join("/")}catch(t){return Fn(!1,`The URL path "${e}" could not be decoded because it is a malformed URL segment. This is probably due to a bad percent encoding (${t}).`),e}}function ea(e,t){if(t==="/")return e;if(!e.toLowerCase().startsWith(t.toLowerCase()))return null;let n=t.endsWith("/")?t.length-1:t.length,r=e.charAt(n);return r&&r!=="/"?null:e.slice(n)||"/"}var WP=/^(?:[a-z][a-z0-9+.-]*:|\/\/)/i,ZP=e=>WP.test(e);function QP(e,t="/"){let{pathname:n,search:r="",hash:l=""}=typeof e=="string"?Fl(e):e,o;if(n)if(ZP(n))o=n;else{if(n.includes("//")){let c=n;n=n.replace(/\/\/+/g,"/"),Fn(!1,`Pathnames cannot have embedded double slashes - normalizing ${c} -> ${n}`)}n.startsWith("/")?o=uS(n.substring(1),"/"):o=uS(n,t)}else o=t;return{pathname:o,search:tR(r),hash:nR(l)}}function uS(e,t){let n=t.replace(/\/+$/,"").split("/");return e.split("/").forEach(l=>{l===".."?n.length>1&&n.pop():l!=="."&&n.push(l)}),n.length>1?n.join("/"):"/"}function fv(e,t,n,r){return`Cannot include a '${e}' character in a manually specified \`to.${t}\` field [${JSON.stringify(r)}].  Please separate it out to the \`to.${n}\` field. Alternatively you may provide the full path as a string in <Link to="..."> and the router will parse it for you.`}function JP(e){return e.filter((t,n)=>n===0||t.route.path&&t.route.path.length>0)}function eg(e){let t=JP(e);return t.map((n,r)=>r===t.length-1?n.pathname:n.pathnameBase)}function tg(e,t,n,r=!1){let l;typeof e=="string"?l=Fl(e):(l={...e},nt(!l.pathname||!l.pathname.includes("?"),fv("?","pathname","search",l)),nt(!l.pathname||!l.pathname.includes("#"),fv("#","pathname","hash",l)),nt(!l.search||!l.search.includes("#"),fv("#","search","hash",l)));let o=e===""||l.pathname==="",c=o?"/":l.pathname,f;if(c==null)f=n;else{let p=t.length-1;if(!r&&c.startsWith("..")){let x=c.split("/");for(;x[0]==="..";)x.shift(),p-=1;l.pathname=x.join("/")}f=p>=0?t[p]:"/"}let d=QP(l,f),h=c&&c!=="/"&&c.endsWith("/"),m=(o||c===".")&&n.endsWith("/");return!d.pathname.endsWith("/")&&(h||m)&&(d.pathname+="/"),d}var Zr=e=>e.join("/").replace(/\/\/+/g,"/"),eR=e=>e.replace(/\/+$/,"").replace(/^\/*/,"/"),tR=e=>!e||e==="?"?"":e.startsWith("?")?e:"?"+e,nR=e=>!e||e==="#"?"":e.startsWith("#")?e:"#"+e;function rR(e){return e!=null&&typeof e.status=="number"&&typeof e.statusText=="string"&&typeof e.internal=="boolean"&&"data"in e}function aR(e){return e.map(t=>t.route.path).filter(Boolean).join("/").replace(/\/\/*/g,"/")||"/"}Object.getOwnPropertyNames(Object.prototype).sort().join("\0");var B2=["POST","PUT","PATCH","DELETE"];new Set(B2);var iR=["GET",...B2];new Set(iR);var Wl=g.createContext(null);Wl.displayName="DataRouter";var td=g.createContext(null);td.displayName="DataRouterState";g.createContext(!1);var U2=g.createContext({isTransitioning:!1});U2.displayName="ViewTransition";var lR=g.createContext(new Map);lR.displayName="Fetchers";var oR=g.createContext(null);oR.displayName="Await";var Jn=g.createContext(null);Jn.displayName="Navigation";var Uu=g.createContext(null);Uu.displayName="Location";var Ar=g.createContext({outlet:null,matches:[],isDataRoute:!1});Ar.displayName="Route";var ng=g.createContext(null);ng.displayName="RouteError";function uR(e,{relative:t}={}){nt(Zl(),"useHref() may be used only in the context of a <Router> component.");let{basename:n,navigator:r}=g.useContext(Jn),{hash:l,pathname:o,search:c}=qu(e,{relative:t}),f=o;return n!=="/"&&(f=o==="/"?n:Zr([n,o])),r.createHref({pathname:f,search:c,hash:l})}function Zl(){return g.useContext(Uu)!=null}function ua(){return nt(Zl(),"useLocation() may be used only in the context of a <Router> component."),g.useContext(Uu).location}var I2="You should call navigate() in a React.useEffect(), not when your component is first rendered.";function q2(e){g.useContext(Jn).static||g.useLayoutEffect(e)}function Iu(){let{isDataRoute:e}=g.useContext(Ar);return e?wR():cR()}function cR(){nt(Zl(),"useNavigate() may be used only in the context of a <Router> component.");let e=g.useContext(Wl),{basename:t,navigator:n}=g.useContext(Jn),{matches:r}=g.useContext(Ar),{pathname:l}=ua(),o=JSON.stringify(eg(r)),c=g.useRef(!1);return q2(()=>{c.current=!0}),g.useCallback((d,h={})=>{if(Fn(c.current,I2),!c.current)return;if(typeof d=="number"){n.go(d);return}let m=tg(d,JSON.parse(o),l,h.relative==="path");e==null&&t!=="/"&&(m.pathname=m.pathname==="/"?t:Zr([t,m.pathname])),(h.replace?n.replace:n.push)(m,h.state,h)},[t,n,o,l,e])}g.createContext(null);function qu(e,{relative:t}={}){let{matches:n}=g.useContext(Ar),{pathname:r}=ua(),l=JSON.stringify(eg(n));return g.useMemo(()=>tg(e,JSON.parse(l),r,t==="path"),[e,l,r,t])}function sR(e,t){return H2(e,t)}function H2(e,t,n,r,l){nt(Zl(),"useRoutes() may be used only in the context of a <Router> component.");let{navigator:o}=g.useContext(Jn),{matches:c}=g.useContext(Ar),f=c[c.length-1],d=f?f.params:{},h=f?f.pathname:"/",m=f?f.pathnameBase:"/",p=f&&f.route;{let _=p&&p.path||"";$2(h,!p||_.endsWith("*")||_.endsWith("*?"),`You rendered descendant <Routes> (or called \`useRoutes()\`) at "${h}" (under <Route path="${_}">) but the parent route path has no trailing "*". This means if you navigate deeper, the parent won't match anymore and therefore the child routes will never render.
-
-Please change the parent <Route path="${_}"> to <Route path="${_==="/"?"*":`${_}/*`}">.`)}let x=ua(),w;if(t){let _=typeof t=="string"?Fl(t):t;nt(m==="/"||_.pathname?.startsWith(m),`When overriding the location using \`<Routes location>\` or \`useRoutes(routes, location)\`, the location pathname must begin with the portion of the URL pathname that was matched by all parent routes. The current pathname base is "${m}" but pathname "${_.pathname}" was given in the \`location\` prop.`),w=_}else w=x;let A=w.pathname||"/",O=A;if(m!=="/"){let _=m.replace(/^\//,"").split("/");O="/"+A.replace(/^\//,"").split("/").slice(_.length).join("/")}let E=R2(e,{pathname:O});Fn(p||E!=null,`No routes matched location "${w.pathname}${w.search}${w.hash}" `),Fn(E==null||E[E.length-1].route.element!==void 0||E[E.length-1].route.Component!==void 0||E[E.length-1].route.lazy!==void 0,`Matched leaf route at location "${w.pathname}${w.search}${w.hash}" does not have an element or Component. This means it will render an <Outlet /> with a null value by default resulting in an "empty" page.`);let j=vR(E&&E.map(_=>Object.assign({},_,{params:Object.assign({},d,_.params),pathname:Zr([m,o.encodeLocation?o.encodeLocation(_.pathname.replace(/\?/g,"%3F").replace(/#/g,"%23")).pathname:_.pathname]),pathnameBase:_.pathnameBase==="/"?m:Zr([m,o.encodeLocation?o.encodeLocation(_.pathnameBase.replace(/\?/g,"%3F").replace(/#/g,"%23")).pathname:_.pathnameBase])})),c,n,r,l);return t&&j?g.createElement(Uu.Provider,{value:{location:{pathname:"/",search:"",hash:"",state:null,key:"default",...w},navigationType:"POP"}},j):j}function fR(){let e=xR(),t=rR(e)?`${e.status} ${e.statusText}`:e instanceof Error?e.message:JSON.stringify(e),n=e instanceof Error?e.stack:null,r="rgba(200,200,200, 0.5)",l={padding:"0.5rem",backgroundColor:r},o={padding:"2px 4px",backgroundColor:r},c=null;return console.error("Error handled by React Router default ErrorBoundary:",e),c=g.createElement(g.Fragment,null,g.createElement("p",null,"💿 Hey developer 👋"),g.createElement("p",null,"You can provide a way better UX than this when your app throws errors by providing your own ",g.createElement("code",{style:o},"ErrorBoundary")," or"," ",g.createElement("code",{style:o},"errorElement")," prop on your route.")),g.createElement(g.Fragment,null,g.createElement("h2",null,"Unexpected Application Error!"),g.createElement("h3",{style:{fontStyle:"italic"}},t),n?g.createElement("pre",{style:l},n):null,c)}var dR=g.createElement(fR,null),hR=class extends g.Component{constructor(e){super(e),this.state={location:e.location,revalidation:e.revalidation,error:e.error}}static getDerivedStateFromError(e){return{error:e}}static getDerivedStateFromProps(e,t){return t.location!==e.location||t.revalidation!=="idle"&&e.revalidation==="idle"?{error:e.error,location:e.location,revalidation:e.revalidation}:{error:e.error!==void 0?e.error:t.error,location:t.location,revalidation:e.revalidation||t.revalidation}}componentDidCatch(e,t){this.props.onError?this.props.onError(e,t):console.error("React Router caught the following error during render",e)}render(){return this.state.error!==void 0?g.createElement(Ar.Provider,{value:this.props.routeContext},g.createElement(ng.Provider,{value:this.state.error,children:this.props.component})):this.props.children}};function mR({routeContext:e,match:t,children:n}){let r=g.useContext(Wl);return r&&r.static&&r.staticContext&&(t.route.errorElement||t.route.ErrorBoundary)&&(r.staticContext._deepestRenderedBoundaryId=t.route.id),g.createElement(Ar.Provider,{value:e},n)}function vR(e,t=[],n=null,r=null,l=null){if(e==null){if(!n)return null;if(n.errors)e=n.matches;else if(t.length===0&&!n.initialized&&n.matches.length>0)e=n.matches;else return null}let o=e,c=n?.errors;if(c!=null){let m=o.findIndex(p=>p.route.id&&c?.[p.route.id]!==void 0);nt(m>=0,`Could not find a matching route for errors on route IDs: ${Object.keys(c).join(",")}`),o=o.slice(0,Math.min(o.length,m+1))}let f=!1,d=-1;if(n)for(let m=0;m<o.length;m++){let p=o[m];if((p.route.HydrateFallback||p.route.hydrateFallbackElement)&&(d=m),p.route.id){let{loaderData:x,errors:w}=n,A=p.route.loader&&!x.hasOwnProperty(p.route.id)&&(!w||w[p.route.id]===void 0);if(p.route.lazy||A){f=!0,d>=0?o=o.slice(0,d+1):o=[o[0]];break}}}let h=n&&r?(m,p)=>{r(m,{location:n.location,params:n.matches?.[0]?.params??{},unstable_pattern:aR(n.matches),errorInfo:p})}:void 0;return o.reduceRight((m,p,x)=>{let w,A=!1,O=null,E=null;n&&(w=c&&p.route.id?c[p.route.id]:void 0,O=p.route.errorElement||dR,f&&(d<0&&x===0?($2("route-fallback",!1,"No `HydrateFallback` element provided to render during initial hydration"),A=!0,E=null):d===x&&(A=!0,E=p.route.hydrateFallbackElement||null)));let j=t.concat(o.slice(0,x+1)),_=()=>{let C;return w?C=O:A?C=E:p.route.Component?C=g.createElement(p.route.Component,null):p.route.element?C=p.route.element:C=m,g.createElement(mR,{match:p,routeContext:{outlet:m,matches:j,isDataRoute:n!=null},children:C})};return n&&(p.route.ErrorBoundary||p.route.errorElement||x===0)?g.createElement(hR,{location:n.location,revalidation:n.revalidation,component:O,error:w,children:_(),routeContext:{outlet:null,matches:j,isDataRoute:!0},onError:h}):_()},null)}function rg(e){return`${e} must be used within a data router.  See https://reactrouter.com/en/main/routers/picking-a-router.`}function pR(e){let t=g.useContext(Wl);return nt(t,rg(e)),t}function yR(e){let t=g.useContext(td);return nt(t,rg(e)),t}function gR(e){let t=g.useContext(Ar);return nt(t,rg(e)),t}function ag(e){let t=gR(e),n=t.matches[t.matches.length-1];return nt(n.route.id,`${e} can only be used on routes that contain a unique "id"`),n.route.id}function bR(){return ag("useRouteId")}function xR(){let e=g.useContext(ng),t=yR("useRouteError"),n=ag("useRouteError");return e!==void 0?e:t.errors?.[n]}function wR(){let{router:e}=pR("useNavigate"),t=ag("useNavigate"),n=g.useRef(!1);return q2(()=>{n.current=!0}),g.useCallback(async(l,o={})=>{Fn(n.current,I2),n.current&&(typeof l=="number"?await e.navigate(l):await e.navigate(l,{fromRouteId:t,...o}))},[e,t])}var cS={};function $2(e,t,n){!t&&!cS[e]&&(cS[e]=!0,Fn(!1,n))}g.memo(SR);function SR({routes:e,future:t,state:n,unstable_onError:r}){return H2(e,void 0,n,r,t)}function ER({to:e,replace:t,state:n,relative:r}){nt(Zl(),"<Navigate> may be used only in the context of a <Router> component.");let{static:l}=g.useContext(Jn);Fn(!l,"<Navigate> must not be used on the initial render in a <StaticRouter>. This is a no-op, but you should modify your code so the <Navigate> is only ever rendered in response to some user interaction or state change.");let{matches:o}=g.useContext(Ar),{pathname:c}=ua(),f=Iu(),d=tg(e,eg(o),c,r==="path"),h=JSON.stringify(d);return g.useEffect(()=>{f(JSON.parse(h),{replace:t,state:n,relative:r})},[f,h,r,t,n]),null}function ar(e){nt(!1,"A <Route> is only ever to be used as the child of <Routes> element, never rendered directly. Please wrap your <Route> in a <Routes>.")}function OR({basename:e="/",children:t=null,location:n,navigationType:r="POP",navigator:l,static:o=!1,unstable_useTransitions:c}){nt(!Zl(),"You cannot render a <Router> inside another <Router>. You should never have more than one in your app.");let f=e.replace(/^\/*/,"/"),d=g.useMemo(()=>({basename:f,navigator:l,static:o,unstable_useTransitions:c,future:{}}),[f,l,o,c]);typeof n=="string"&&(n=Fl(n));let{pathname:h="/",search:m="",hash:p="",state:x=null,key:w="default"}=n,A=g.useMemo(()=>{let O=ea(h,f);return O==null?null:{location:{pathname:O,search:m,hash:p,state:x,key:w},navigationType:r}},[f,h,m,p,x,w,r]);return Fn(A!=null,`<Router basename="${f}"> is not able to match the URL "${h}${m}${p}" because it does not start with the basename, so the <Router> won't render anything.`),A==null?null:g.createElement(Jn.Provider,{value:d},g.createElement(Uu.Provider,{children:t,value:A}))}function AR({children:e,location:t}){return sR(ey(e),t)}function ey(e,t=[]){let n=[];return g.Children.forEach(e,(r,l)=>{if(!g.isValidElement(r))return;let o=[...t,l];if(r.type===g.Fragment){n.push.apply(n,ey(r.props.children,o));return}nt(r.type===ar,`[${typeof r.type=="string"?r.type:r.type.name}] is not a <Route> component. All component children of <Routes> must be a <Route> or <React.Fragment>`),nt(!r.props.index||!r.props.children,"An index route cannot have child routes.");let c={id:r.props.id||o.join("-"),caseSensitive:r.props.caseSensitive,element:r.props.element,Component:r.props.Component,index:r.props.index,path:r.props.path,middleware:r.props.middleware,loader:r.props.loader,action:r.props.action,hydrateFallbackElement:r.props.hydrateFallbackElement,HydrateFallback:r.props.HydrateFallback,errorElement:r.props.errorElement,ErrorBoundary:r.props.ErrorBoundary,hasErrorBoundary:r.props.hasErrorBoundary===!0||r.props.ErrorBoundary!=null||r.props.errorElement!=null,shouldRevalidate:r.props.shouldRevalidate,handle:r.props.handle,lazy:r.props.lazy};r.props.children&&(c.children=ey(r.props.children,o)),n.push(c)}),n}var Zs="get",Qs="application/x-www-form-urlencoded";function nd(e){return typeof HTMLElement<"u"&&e instanceof HTMLElement}function jR(e){return nd(e)&&e.tagName.toLowerCase()==="button"}function NR(e){return nd(e)&&e.tagName.toLowerCase()==="form"}function CR(e){return nd(e)&&e.tagName.toLowerCase()==="input"}function _R(e){return!!(e.metaKey||e.altKey||e.ctrlKey||e.shiftKey)}function TR(e,t){return e.button===0&&(!t||t==="_self")&&!_R(e)}var Ns=null;function MR(){if(Ns===null)try{new FormData(document.createElement("form"),0),Ns=!1}catch{Ns=!0}return Ns}var DR=new Set(["application/x-www-form-urlencoded","multipart/form-data","text/plain"]);function dv(e){return e!=null&&!DR.has(e)?(Fn(!1,`"${e}" is not a valid \`encType\` for \`<Form>\`/\`<fetcher.Form>\` and will default to "${Qs}"`),null):e}function kR(e,t){let n,r,l,o,c;if(NR(e)){let f=e.getAttribute("action");r=f?ea(f,t):null,n=e.getAttribute("method")||Zs,l=dv(e.getAttribute("enctype"))||Qs,o=new FormData(e)}else if(jR(e)||CR(e)&&(e.type==="submit"||e.type==="image")){let f=e.form;if(f==null)throw new Error('Cannot submit a <button> or <input type="submit"> without a <form>');let d=e.getAttribute("formaction")||f.getAttribute("action");if(r=d?ea(d,t):null,n=e.getAttribute("formmethod")||f.getAttribute("method")||Zs,l=dv(e.getAttribute("formenctype"))||dv(f.getAttribute("enctype"))||Qs,o=new FormData(f,e),!MR()){let{name:h,type:m,value:p}=e;if(m==="image"){let x=h?`${h}.`:"";o.append(`${x}x`,"0"),o.append(`${x}y`,"0")}else h&&o.append(h,p)}}else{if(nd(e))throw new Error('Cannot submit element that is not <form>, <button>, or <input type="submit|image">');n=Zs,r=null,l=Qs,c=e}return o&&l==="text/plain"&&(c=o,o=void 0),{action:r,method:n.toLowerCase(),encType:l,formData:o,body:c}}Object.getOwnPropertyNames(Object.prototype).sort().join("\0");function ig(e,t){if(e===!1||e===null||typeof e>"u")throw new Error(t)}function PR(e,t,n){let r=typeof e=="string"?new URL(e,typeof window>"u"?"server://singlefetch/":window.location.origin):e;return r.pathname==="/"?r.pathname=`_root.${n}`:t&&ea(r.pathname,t)==="/"?r.pathname=`${t.replace(/\/$/,"")}/_root.${n}`:r.pathname=`${r.pathname.replace(/\/$/,"")}.${n}`,r}async function RR(e,t){if(e.id in t)return t[e.id];try{let n=await import(e.module);return t[e.id]=n,n}catch(n){return console.error(`Error loading route module \`${e.module}\`, reloading page...`),console.error(n),window.__reactRouterContext&&window.__reactRouterContext.isSpaMode,window.location.reload(),new Promise(()=>{})}}function zR(e){return e==null?!1:e.href==null?e.rel==="preload"&&typeof e.imageSrcSet=="string"&&typeof e.imageSizes=="string":typeof e.rel=="string"&&typeof e.href=="string"}async function LR(e,t,n){let r=await Promise.all(e.map(async l=>{let o=t.routes[l.route.id];if(o){let c=await RR(o,n);return c.links?c.links():[]}return[]}));return qR(r.flat(1).filter(zR).filter(l=>l.rel==="stylesheet"||l.rel==="preload").map(l=>l.rel==="stylesheet"?{...l,rel:"prefetch",as:"style"}:{...l,rel:"prefetch"}))}function sS(e,t,n,r,l,o){let c=(d,h)=>n[h]?d.route.id!==n[h].route.id:!0,f=(d,h)=>n[h].pathname!==d.pathname||n[h].route.path?.endsWith("*")&&n[h].params["*"]!==d.params["*"];return o==="assets"?t.filter((d,h)=>c(d,h)||f(d,h)):o==="data"?t.filter((d,h)=>{let m=r.routes[d.route.id];if(!m||!m.hasLoader)return!1;if(c(d,h)||f(d,h))return!0;if(d.route.shouldRevalidate){let p=d.route.shouldRevalidate({currentUrl:new URL(l.pathname+l.search+l.hash,window.origin),currentParams:n[0]?.params||{},nextUrl:new URL(e,window.origin),nextParams:d.params,defaultShouldRevalidate:!0});if(typeof p=="boolean")return p}return!0}):[]}function BR(e,t,{includeHydrateFallback:n}={}){return UR(e.map(r=>{let l=t.routes[r.route.id];if(!l)return[];let o=[l.module];return l.clientActionModule&&(o=o.concat(l.clientActionModule)),l.clientLoaderModule&&(o=o.concat(l.clientLoaderModule)),n&&l.hydrateFallbackModule&&(o=o.concat(l.hydrateFallbackModule)),l.imports&&(o=o.concat(l.imports)),o}).flat(1))}function UR(e){return[...new Set(e)]}function IR(e){let t={},n=Object.keys(e).sort();for(let r of n)t[r]=e[r];return t}function qR(e,t){let n=new Set;return new Set(t),e.reduce((r,l)=>{let o=JSON.stringify(IR(l));return n.has(o)||(n.add(o),r.push({key:o,link:l})),r},[])}function Y2(){let e=g.useContext(Wl);return ig(e,"You must render this element inside a <DataRouterContext.Provider> element"),e}function HR(){let e=g.useContext(td);return ig(e,"You must render this element inside a <DataRouterStateContext.Provider> element"),e}var lg=g.createContext(void 0);lg.displayName="FrameworkContext";function K2(){let e=g.useContext(lg);return ig(e,"You must render this element inside a <HydratedRouter> element"),e}function $R(e,t){let n=g.useContext(lg),[r,l]=g.useState(!1),[o,c]=g.useState(!1),{onFocus:f,onBlur:d,onMouseEnter:h,onMouseLeave:m,onTouchStart:p}=t,x=g.useRef(null);g.useEffect(()=>{if(e==="render"&&c(!0),e==="viewport"){let O=j=>{j.forEach(_=>{c(_.isIntersecting)})},E=new IntersectionObserver(O,{threshold:.5});return x.current&&E.observe(x.current),()=>{E.disconnect()}}},[e]),g.useEffect(()=>{if(r){let O=setTimeout(()=>{c(!0)},100);return()=>{clearTimeout(O)}}},[r]);let w=()=>{l(!0)},A=()=>{l(!1),c(!1)};return n?e!=="intent"?[o,x,{}]:[o,x,{onFocus:uu(f,w),onBlur:uu(d,A),onMouseEnter:uu(h,w),onMouseLeave:uu(m,A),onTouchStart:uu(p,w)}]:[!1,x,{}]}function uu(e,t){return n=>{e&&e(n),n.defaultPrevented||t(n)}}function YR({page:e,...t}){let{router:n}=Y2(),r=g.useMemo(()=>R2(n.routes,e,n.basename),[n.routes,e,n.basename]);return r?g.createElement(GR,{page:e,matches:r,...t}):null}function KR(e){let{manifest:t,routeModules:n}=K2(),[r,l]=g.useState([]);return g.useEffect(()=>{let o=!1;return LR(e,t,n).then(c=>{o||l(c)}),()=>{o=!0}},[e,t,n]),r}function GR({page:e,matches:t,...n}){let r=ua(),{manifest:l,routeModules:o}=K2(),{basename:c}=Y2(),{loaderData:f,matches:d}=HR(),h=g.useMemo(()=>sS(e,t,d,l,r,"data"),[e,t,d,l,r]),m=g.useMemo(()=>sS(e,t,d,l,r,"assets"),[e,t,d,l,r]),p=g.useMemo(()=>{if(e===r.pathname+r.search+r.hash)return[];let A=new Set,O=!1;if(t.forEach(j=>{let _=l.routes[j.route.id];!_||!_.hasLoader||(!h.some(C=>C.route.id===j.route.id)&&j.route.id in f&&o[j.route.id]?.shouldRevalidate||_.hasClientLoader?O=!0:A.add(j.route.id))}),A.size===0)return[];let E=PR(e,c,"data");return O&&A.size>0&&E.searchParams.set("_routes",t.filter(j=>A.has(j.route.id)).map(j=>j.route.id).join(",")),[E.pathname+E.search]},[c,f,r,l,h,t,e,o]),x=g.useMemo(()=>BR(m,l),[m,l]),w=KR(m);return g.createElement(g.Fragment,null,p.map(A=>g.createElement("link",{key:A,rel:"prefetch",as:"fetch",href:A,...n})),x.map(A=>g.createElement("link",{key:A,rel:"modulepreload",href:A,...n})),w.map(({key:A,link:O})=>g.createElement("link",{key:A,nonce:n.nonce,...O})))}function VR(...e){return t=>{e.forEach(n=>{typeof n=="function"?n(t):n!=null&&(n.current=t)})}}var G2=typeof window<"u"&&typeof window.document<"u"&&typeof window.document.createElement<"u";try{G2&&(window.__reactRouterVersion="7.10.1")}catch{}function XR({basename:e,children:t,unstable_useTransitions:n,window:r}){let l=g.useRef();l.current==null&&(l.current=kP({window:r,v5Compat:!0}));let o=l.current,[c,f]=g.useState({action:o.action,location:o.location}),d=g.useCallback(h=>{n===!1?f(h):g.startTransition(()=>f(h))},[n]);return g.useLayoutEffect(()=>o.listen(d),[o,d]),g.createElement(OR,{basename:e,children:t,location:c.location,navigationType:c.action,navigator:o,unstable_useTransitions:n===!0})}var V2=/^(?:[a-z][a-z0-9+.-]*:|\/\/)/i,Va=g.forwardRef(function({onClick:t,discover:n="render",prefetch:r="none",relative:l,reloadDocument:o,replace:c,state:f,target:d,to:h,preventScrollReset:m,viewTransition:p,...x},w){let{basename:A,unstable_useTransitions:O}=g.useContext(Jn),E=typeof h=="string"&&V2.test(h),j,_=!1;if(typeof h=="string"&&E&&(j=h,G2))try{let ae=new URL(window.location.href),W=h.startsWith("//")?new URL(ae.protocol+h):new URL(h),J=ea(W.pathname,A);W.origin===ae.origin&&J!=null?h=J+W.search+W.hash:_=!0}catch{Fn(!1,`<Link to="${h}"> contains an invalid URL which will probably break when clicked - please update to a valid URL path.`)}let C=uR(h,{relative:l}),[D,T,R]=$R(r,x),k=QR(h,{replace:c,state:f,target:d,preventScrollReset:m,relative:l,viewTransition:p,unstable_useTransitions:O});function I(ae){t&&t(ae),ae.defaultPrevented||k(ae)}let re=g.createElement("a",{...x,...R,href:j||C,onClick:_||o?t:I,ref:VR(w,T),target:d,"data-discover":!E&&n==="render"?"true":void 0});return D&&!E?g.createElement(g.Fragment,null,re,g.createElement(YR,{page:C})):re});Va.displayName="Link";var FR=g.forwardRef(function({"aria-current":t="page",caseSensitive:n=!1,className:r="",end:l=!1,style:o,to:c,viewTransition:f,children:d,...h},m){let p=qu(c,{relative:h.relative}),x=ua(),w=g.useContext(td),{navigator:A,basename:O}=g.useContext(Jn),E=w!=null&&r3(p)&&f===!0,j=A.encodeLocation?A.encodeLocation(p).pathname:p.pathname,_=x.pathname,C=w&&w.navigation&&w.navigation.location?w.navigation.location.pathname:null;n||(_=_.toLowerCase(),C=C?C.toLowerCase():null,j=j.toLowerCase()),C&&O&&(C=ea(C,O)||C);const D=j!=="/"&&j.endsWith("/")?j.length-1:j.length;let T=_===j||!l&&_.startsWith(j)&&_.charAt(D)==="/",R=C!=null&&(C===j||!l&&C.startsWith(j)&&C.charAt(j.length)==="/"),k={isActive:T,isPending:R,isTransitioning:E},I=T?t:void 0,re;typeof r=="function"?re=r(k):re=[r,T?"active":null,R?"pending":null,E?"transitioning":null].filter(Boolean).join(" ");let ae=typeof o=="function"?o(k):o;return g.createElement(Va,{...h,"aria-current":I,className:re,ref:m,style:ae,to:c,viewTransition:f},typeof d=="function"?d(k):d)});FR.displayName="NavLink";var WR=g.forwardRef(({discover:e="render",fetcherKey:t,navigate:n,reloadDocument:r,replace:l,state:o,method:c=Zs,action:f,onSubmit:d,relative:h,preventScrollReset:m,viewTransition:p,...x},w)=>{let{unstable_useTransitions:A}=g.useContext(Jn),O=t3(),E=n3(f,{relative:h}),j=c.toLowerCase()==="get"?"get":"post",_=typeof f=="string"&&V2.test(f),C=D=>{if(d&&d(D),D.defaultPrevented)return;D.preventDefault();let T=D.nativeEvent.submitter,R=T?.getAttribute("formmethod")||c,k=()=>O(T||D.currentTarget,{fetcherKey:t,method:R,navigate:n,replace:l,state:o,relative:h,preventScrollReset:m,viewTransition:p});A&&n!==!1?g.startTransition(()=>k()):k()};return g.createElement("form",{ref:w,method:j,action:E,onSubmit:r?d:C,...x,"data-discover":!_&&e==="render"?"true":void 0})});WR.displayName="Form";function ZR(e){return`${e} must be used within a data router.  See https://reactrouter.com/en/main/routers/picking-a-router.`}function X2(e){let t=g.useContext(Wl);return nt(t,ZR(e)),t}function QR(e,{target:t,replace:n,state:r,preventScrollReset:l,relative:o,viewTransition:c,unstable_useTransitions:f}={}){let d=Iu(),h=ua(),m=qu(e,{relative:o});return g.useCallback(p=>{if(TR(p,t)){p.preventDefault();let x=n!==void 0?n:wu(h)===wu(m),w=()=>d(e,{replace:x,state:r,preventScrollReset:l,relative:o,viewTransition:c});f?g.startTransition(()=>w()):w()}},[h,d,m,n,r,t,e,l,o,c,f])}var JR=0,e3=()=>`__${String(++JR)}__`;function t3(){let{router:e}=X2("useSubmit"),{basename:t}=g.useContext(Jn),n=bR(),r=e.fetch,l=e.navigate;return g.useCallback(async(o,c={})=>{let{action:f,method:d,encType:h,formData:m,body:p}=kR(o,t);if(c.navigate===!1){let x=c.fetcherKey||e3();await r(x,n,c.action||f,{preventScrollReset:c.preventScrollReset,formData:m,body:p,formMethod:c.method||d,formEncType:c.encType||h,flushSync:c.flushSync})}else await l(c.action||f,{preventScrollReset:c.preventScrollReset,formData:m,body:p,formMethod:c.method||d,formEncType:c.encType||h,replace:c.replace,state:c.state,fromRouteId:n,flushSync:c.flushSync,viewTransition:c.viewTransition})},[r,l,t,n])}function n3(e,{relative:t}={}){let{basename:n}=g.useContext(Jn),r=g.useContext(Ar);nt(r,"useFormAction must be used inside a RouteContext");let[l]=r.matches.slice(-1),o={...qu(e||".",{relative:t})},c=ua();if(e==null){o.search=c.search;let f=new URLSearchParams(o.search),d=f.getAll("index");if(d.some(m=>m==="")){f.delete("index"),d.filter(p=>p).forEach(p=>f.append("index",p));let m=f.toString();o.search=m?`?${m}`:""}}return(!e||e===".")&&l.route.index&&(o.search=o.search?o.search.replace(/^\?/,"?index&"):"?index"),n!=="/"&&(o.pathname=o.pathname==="/"?n:Zr([n,o.pathname])),wu(o)}function r3(e,{relative:t}={}){let n=g.useContext(U2);nt(n!=null,"`useViewTransitionState` must be used within `react-router-dom`'s `RouterProvider`.  Did you accidentally import `RouterProvider` from `react-router`?");let{basename:r}=X2("useViewTransitionState"),l=qu(e,{relative:t});if(!n.isTransitioning)return!1;let o=ea(n.currentLocation.pathname,r)||n.currentLocation.pathname,c=ea(n.nextLocation.pathname,r)||n.nextLocation.pathname;return uf(l.pathname,c)!=null||uf(l.pathname,o)!=null}var rd=P2();const a3=oa(rd);function fS(e,t){if(typeof e=="function")return e(t);e!=null&&(e.current=t)}function Ql(...e){return t=>{let n=!1;const r=e.map(l=>{const o=fS(l,t);return!n&&typeof o=="function"&&(n=!0),o});if(n)return()=>{for(let l=0;l<r.length;l++){const o=r[l];typeof o=="function"?o():fS(e[l],null)}}}}function Li(...e){return g.useCallback(Ql(...e),e)}var i3=Symbol.for("react.lazy"),cf=ed[" use ".trim().toString()];function l3(e){return typeof e=="object"&&e!==null&&"then"in e}function F2(e){return e!=null&&typeof e=="object"&&"$$typeof"in e&&e.$$typeof===i3&&"_payload"in e&&l3(e._payload)}function W2(e){const t=u3(e),n=g.forwardRef((r,l)=>{let{children:o,...c}=r;F2(o)&&typeof cf=="function"&&(o=cf(o._payload));const f=g.Children.toArray(o),d=f.find(s3);if(d){const h=d.props.children,m=f.map(p=>p===d?g.Children.count(h)>1?g.Children.only(null):g.isValidElement(h)?h.props.children:null:p);return b.jsx(t,{...c,ref:l,children:g.isValidElement(h)?g.cloneElement(h,void 0,m):null})}return b.jsx(t,{...c,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}var o3=W2("Slot");function u3(e){const t=g.forwardRef((n,r)=>{let{children:l,...o}=n;if(F2(l)&&typeof cf=="function"&&(l=cf(l._payload)),g.isValidElement(l)){const c=d3(l),f=f3(o,l.props);return l.type!==g.Fragment&&(f.ref=r?Ql(r,c):c),g.cloneElement(l,f)}return g.Children.count(l)>1?g.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var c3=Symbol("radix.slottable");function s3(e){return g.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===c3}function f3(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function d3(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}function Z2(e){var t,n,r="";if(typeof e=="string"||typeof e=="number")r+=e;else if(typeof e=="object")if(Array.isArray(e)){var l=e.length;for(t=0;t<l;t++)e[t]&&(n=Z2(e[t]))&&(r&&(r+=" "),r+=n)}else for(n in e)e[n]&&(r&&(r+=" "),r+=n);return r}function Ge(){for(var e,t,n=0,r="",l=arguments.length;n<l;n++)(e=arguments[n])&&(t=Z2(e))&&(r&&(r+=" "),r+=t);return r}const dS=e=>typeof e=="boolean"?`${e}`:e===0?"0":e,hS=Ge,Q2=(e,t)=>n=>{var r;if(t?.variants==null)return hS(e,n?.class,n?.className);const{variants:l,defaultVariants:o}=t,c=Object.keys(l).map(h=>{const m=n?.[h],p=o?.[h];if(m===null)return null;const x=dS(m)||dS(p);return l[h][x]}),f=n&&Object.entries(n).reduce((h,m)=>{let[p,x]=m;return x===void 0||(h[p]=x),h},{}),d=t==null||(r=t.compoundVariants)===null||r===void 0?void 0:r.reduce((h,m)=>{let{class:p,className:x,...w}=m;return Object.entries(w).every(A=>{let[O,E]=A;return Array.isArray(E)?E.includes({...o,...f}[O]):{...o,...f}[O]===E})?[...h,p,x]:h},[]);return hS(e,c,d,n?.class,n?.className)},h3=(e,t)=>{const n=new Array(e.length+t.length);for(let r=0;r<e.length;r++)n[r]=e[r];for(let r=0;r<t.length;r++)n[e.length+r]=t[r];return n},m3=(e,t)=>({classGroupId:e,validator:t}),J2=(e=new Map,t=null,n)=>({nextPart:e,validators:t,classGroupId:n}),sf="-",mS=[],v3="arbitrary..",p3=e=>{const t=g3(e),{conflictingClassGroups:n,conflictingClassGroupModifiers:r}=e;return{getClassGroupId:c=>{if(c.startsWith("[")&&c.endsWith("]"))return y3(c);const f=c.split(sf),d=f[0]===""&&f.length>1?1:0;return ej(f,d,t)},getConflictingClassGroupIds:(c,f)=>{if(f){const d=r[c],h=n[c];return d?h?h3(h,d):d:h||mS}return n[c]||mS}}},ej=(e,t,n)=>{if(e.length-t===0)return n.classGroupId;const l=e[t],o=n.nextPart.get(l);if(o){const h=ej(e,t+1,o);if(h)return h}const c=n.validators;if(c===null)return;const f=t===0?e.join(sf):e.slice(t).join(sf),d=c.length;for(let h=0;h<d;h++){const m=c[h];if(m.validator(f))return m.classGroupId}},y3=e=>e.slice(1,-1).indexOf(":")===-1?void 0:(()=>{const t=e.slice(1,-1),n=t.indexOf(":"),r=t.slice(0,n);return r?v3+r:void 0})(),g3=e=>{const{theme:t,classGroups:n}=e;return b3(n,t)},b3=(e,t)=>{const n=J2();for(const r in e){const l=e[r];og(l,n,r,t)}return n},og=(e,t,n,r)=>{const l=e.length;for(let o=0;o<l;o++){const c=e[o];x3(c,t,n,r)}},x3=(e,t,n,r)=>{if(typeof e=="string"){w3(e,t,n);return}if(typeof e=="function"){S3(e,t,n,r);return}E3(e,t,n,r)},w3=(e,t,n)=>{const r=e===""?t:tj(t,e);r.classGroupId=n},S3=(e,t,n,r)=>{if(O3(e)){og(e(r),t,n,r);return}t.validators===null&&(t.validators=[]),t.validators.push(m3(n,e))},E3=(e,t,n,r)=>{const l=Object.entries(e),o=l.length;for(let c=0;c<o;c++){const[f,d]=l[c];og(d,tj(t,f),n,r)}},tj=(e,t)=>{let n=e;const r=t.split(sf),l=r.length;for(let o=0;o<l;o++){const c=r[o];let f=n.nextPart.get(c);f||(f=J2(),n.nextPart.set(c,f)),n=f}return n},O3=e=>"isThemeGetter"in e&&e.isThemeGetter===!0,A3=e=>{if(e<1)return{get:()=>{},set:()=>{}};let t=0,n=Object.create(null),r=Object.create(null);const l=(o,c)=>{n[o]=c,t++,t>e&&(t=0,r=n,n=Object.create(null))};return{get(o){let c=n[o];if(c!==void 0)return c;if((c=r[o])!==void 0)return l(o,c),c},set(o,c){o in n?n[o]=c:l(o,c)}}},ty="!",vS=":",j3=[],pS=(e,t,n,r,l)=>({modifiers:e,hasImportantModifier:t,baseClassName:n,maybePostfixModifierPosition:r,isExternal:l}),N3=e=>{const{prefix:t,experimentalParseClassName:n}=e;let r=l=>{const o=[];let c=0,f=0,d=0,h;const m=l.length;for(let O=0;O<m;O++){const E=l[O];if(c===0&&f===0){if(E===vS){o.push(l.slice(d,O)),d=O+1;continue}if(E==="/"){h=O;continue}}E==="["?c++:E==="]"?c--:E==="("?f++:E===")"&&f--}const p=o.length===0?l:l.slice(d);let x=p,w=!1;p.endsWith(ty)?(x=p.slice(0,-1),w=!0):p.startsWith(ty)&&(x=p.slice(1),w=!0);const A=h&&h>d?h-d:void 0;return pS(o,w,x,A)};if(t){const l=t+vS,o=r;r=c=>c.startsWith(l)?o(c.slice(l.length)):pS(j3,!1,c,void 0,!0)}if(n){const l=r;r=o=>n({className:o,parseClassName:l})}return r},C3=e=>{const t=new Map;return e.orderSensitiveModifiers.forEach((n,r)=>{t.set(n,1e6+r)}),n=>{const r=[];let l=[];for(let o=0;o<n.length;o++){const c=n[o],f=c[0]==="[",d=t.has(c);f||d?(l.length>0&&(l.sort(),r.push(...l),l=[]),r.push(c)):l.push(c)}return l.length>0&&(l.sort(),r.push(...l)),r}},_3=e=>({cache:A3(e.cacheSize),parseClassName:N3(e),sortModifiers:C3(e),...p3(e)}),T3=/\s+/,M3=(e,t)=>{const{parseClassName:n,getClassGroupId:r,getConflictingClassGroupIds:l,sortModifiers:o}=t,c=[],f=e.trim().split(T3);let d="";for(let h=f.length-1;h>=0;h-=1){const m=f[h],{isExternal:p,modifiers:x,hasImportantModifier:w,baseClassName:A,maybePostfixModifierPosition:O}=n(m);if(p){d=m+(d.length>0?" "+d:d);continue}let E=!!O,j=r(E?A.substring(0,O):A);if(!j){if(!E){d=m+(d.length>0?" "+d:d);continue}if(j=r(A),!j){d=m+(d.length>0?" "+d:d);continue}E=!1}const _=x.length===0?"":x.length===1?x[0]:o(x).join(":"),C=w?_+ty:_,D=C+j;if(c.indexOf(D)>-1)continue;c.push(D);const T=l(j,E);for(let R=0;R<T.length;++R){const k=T[R];c.push(C+k)}d=m+(d.length>0?" "+d:d)}return d},D3=(...e)=>{let t=0,n,r,l="";for(;t<e.length;)(n=e[t++])&&(r=nj(n))&&(l&&(l+=" "),l+=r);return l},nj=e=>{if(typeof e=="string")return e;let t,n="";for(let r=0;r<e.length;r++)e[r]&&(t=nj(e[r]))&&(n&&(n+=" "),n+=t);return n},k3=(e,...t)=>{let n,r,l,o;const c=d=>{const h=t.reduce((m,p)=>p(m),e());return n=_3(h),r=n.cache.get,l=n.cache.set,o=f,f(d)},f=d=>{const h=r(d);if(h)return h;const m=M3(d,n);return l(d,m),m};return o=c,(...d)=>o(D3(...d))},P3=[],xt=e=>{const t=n=>n[e]||P3;return t.isThemeGetter=!0,t},rj=/^\[(?:(\w[\w-]*):)?(.+)\]$/i,aj=/^\((?:(\w[\w-]*):)?(.+)\)$/i,R3=/^\d+\/\d+$/,z3=/^(\d+(\.\d+)?)?(xs|sm|md|lg|xl)$/,L3=/\d+(%|px|r?em|[sdl]?v([hwib]|min|max)|pt|pc|in|cm|mm|cap|ch|ex|r?lh|cq(w|h|i|b|min|max))|\b(calc|min|max|clamp)\(.+\)|^0$/,B3=/^(rgba?|hsla?|hwb|(ok)?(lab|lch)|color-mix)\(.+\)$/,U3=/^(inset_)?-?((\d+)?\.?(\d+)[a-z]+|0)_-?((\d+)?\.?(\d+)[a-z]+|0)/,I3=/^(url|image|image-set|cross-fade|element|(repeating-)?(linear|radial|conic)-gradient)\(.+\)$/,Ol=e=>R3.test(e),Ne=e=>!!e&&!Number.isNaN(Number(e)),Ha=e=>!!e&&Number.isInteger(Number(e)),hv=e=>e.endsWith("%")&&Ne(e.slice(0,-1)),Kr=e=>z3.test(e),q3=()=>!0,H3=e=>L3.test(e)&&!B3.test(e),ij=()=>!1,$3=e=>U3.test(e),Y3=e=>I3.test(e),K3=e=>!ce(e)&&!se(e),G3=e=>Jl(e,uj,ij),ce=e=>rj.test(e),bi=e=>Jl(e,cj,H3),mv=e=>Jl(e,Z3,Ne),yS=e=>Jl(e,lj,ij),V3=e=>Jl(e,oj,Y3),Cs=e=>Jl(e,sj,$3),se=e=>aj.test(e),cu=e=>eo(e,cj),X3=e=>eo(e,Q3),gS=e=>eo(e,lj),F3=e=>eo(e,uj),W3=e=>eo(e,oj),_s=e=>eo(e,sj,!0),Jl=(e,t,n)=>{const r=rj.exec(e);return r?r[1]?t(r[1]):n(r[2]):!1},eo=(e,t,n=!1)=>{const r=aj.exec(e);return r?r[1]?t(r[1]):n:!1},lj=e=>e==="position"||e==="percentage",oj=e=>e==="image"||e==="url",uj=e=>e==="length"||e==="size"||e==="bg-size",cj=e=>e==="length",Z3=e=>e==="number",Q3=e=>e==="family-name",sj=e=>e==="shadow",J3=()=>{const e=xt("color"),t=xt("font"),n=xt("text"),r=xt("font-weight"),l=xt("tracking"),o=xt("leading"),c=xt("breakpoint"),f=xt("container"),d=xt("spacing"),h=xt("radius"),m=xt("shadow"),p=xt("inset-shadow"),x=xt("text-shadow"),w=xt("drop-shadow"),A=xt("blur"),O=xt("perspective"),E=xt("aspect"),j=xt("ease"),_=xt("animate"),C=()=>["auto","avoid","all","avoid-page","page","left","right","column"],D=()=>["center","top","bottom","left","right","top-left","left-top","top-right","right-top","bottom-right","right-bottom","bottom-left","left-bottom"],T=()=>[...D(),se,ce],R=()=>["auto","hidden","clip","visible","scroll"],k=()=>["auto","contain","none"],I=()=>[se,ce,d],re=()=>[Ol,"full","auto",...I()],ae=()=>[Ha,"none","subgrid",se,ce],W=()=>["auto",{span:["full",Ha,se,ce]},Ha,se,ce],J=()=>[Ha,"auto",se,ce],pe=()=>["auto","min","max","fr",se,ce],ge=()=>["start","end","center","between","around","evenly","stretch","baseline","center-safe","end-safe"],xe=()=>["start","end","center","stretch","center-safe","end-safe"],q=()=>["auto",...I()],Q=()=>[Ol,"auto","full","dvw","dvh","lvw","lvh","svw","svh","min","max","fit",...I()],X=()=>[e,se,ce],le=()=>[...D(),gS,yS,{position:[se,ce]}],Oe=()=>["no-repeat",{repeat:["","x","y","space","round"]}],P=()=>["auto","cover","contain",F3,G3,{size:[se,ce]}],K=()=>[hv,cu,bi],ee=()=>["","none","full",h,se,ce],ne=()=>["",Ne,cu,bi],he=()=>["solid","dashed","dotted","double"],we=()=>["normal","multiply","screen","overlay","darken","lighten","color-dodge","color-burn","hard-light","soft-light","difference","exclusion","hue","saturation","color","luminosity"],ue=()=>[Ne,hv,gS,yS],rt=()=>["","none",A,se,ce],V=()=>["none",Ne,se,ce],be=()=>["none",Ne,se,ce],Ae=()=>[Ne,se,ce],te=()=>[Ol,"full",...I()];return{cacheSize:500,theme:{animate:["spin","ping","pulse","bounce"],aspect:["video"],blur:[Kr],breakpoint:[Kr],color:[q3],container:[Kr],"drop-shadow":[Kr],ease:["in","out","in-out"],font:[K3],"font-weight":["thin","extralight","light","normal","medium","semibold","bold","extrabold","black"],"inset-shadow":[Kr],leading:["none","tight","snug","normal","relaxed","loose"],perspective:["dramatic","near","normal","midrange","distant","none"],radius:[Kr],shadow:[Kr],spacing:["px",Ne],text:[Kr],"text-shadow":[Kr],tracking:["tighter","tight","normal","wide","wider","widest"]},classGroups:{aspect:[{aspect:["auto","square",Ol,ce,se,E]}],container:["container"],columns:[{columns:[Ne,ce,se,f]}],"break-after":[{"break-after":C()}],"break-before":[{"break-before":C()}],"break-inside":[{"break-inside":["auto","avoid","avoid-page","avoid-column"]}],"box-decoration":[{"box-decoration":["slice","clone"]}],box:[{box:["border","content"]}],display:["block","inline-block","inline","flex","inline-flex","table","inline-table","table-caption","table-cell","table-column","table-column-group","table-footer-group","table-header-group","table-row-group","table-row","flow-root","grid","inline-grid","contents","list-item","hidden"],sr:["sr-only","not-sr-only"],float:[{float:["right","left","none","start","end"]}],clear:[{clear:["left","right","both","none","start","end"]}],isolation:["isolate","isolation-auto"],"object-fit":[{object:["contain","cover","fill","none","scale-down"]}],"object-position":[{object:T()}],overflow:[{overflow:R()}],"overflow-x":[{"overflow-x":R()}],"overflow-y":[{"overflow-y":R()}],overscroll:[{overscroll:k()}],"overscroll-x":[{"overscroll-x":k()}],"overscroll-y":[{"overscroll-y":k()}],position:["static","fixed","absolute","relative","sticky"],inset:[{inset:re()}],"inset-x":[{"inset-x":re()}],"inset-y":[{"inset-y":re()}],start:[{start:re()}],end:[{end:re()}],top:[{top:re()}],right:[{right:re()}],bottom:[{bottom:re()}],left:[{left:re()}],visibility:["visible","invisible","collapse"],z:[{z:[Ha,"auto",se,ce]}],basis:[{basis:[Ol,"full","auto",f,...I()]}],"flex-direction":[{flex:["row","row-reverse","col","col-reverse"]}],"flex-wrap":[{flex:["nowrap","wrap","wrap-reverse"]}],flex:[{flex:[Ne,Ol,"auto","initial","none",ce]}],grow:[{grow:["",Ne,se,ce]}],shrink:[{shrink:["",Ne,se,ce]}],order:[{order:[Ha,"first","last","none",se,ce]}],"grid-cols":[{"grid-cols":ae()}],"col-start-end":[{col:W()}],"col-start":[{"col-start":J()}],"col-end":[{"col-end":J()}],"grid-rows":[{"grid-rows":ae()}],"row-start-end":[{row:W()}],"row-start":[{"row-start":J()}],"row-end":[{"row-end":J()}],"grid-flow":[{"grid-flow":["row","col","dense","row-dense","col-dense"]}],"auto-cols":[{"auto-cols":pe()}],"auto-rows":[{"auto-rows":pe()}],gap:[{gap:I()}],"gap-x":[{"gap-x":I()}],"gap-y":[{"gap-y":I()}],"justify-content":[{justify:[...ge(),"normal"]}],"justify-items":[{"justify-items":[...xe(),"normal"]}],"justify-self":[{"justify-self":["auto",...xe()]}],"align-content":[{content:["normal",...ge()]}],"align-items":[{items:[...xe(),{baseline:["","last"]}]}],"align-self":[{self:["auto",...xe(),{baseline:["","last"]}]}],"place-content":[{"place-content":ge()}],"place-items":[{"place-items":[...xe(),"baseline"]}],"place-self":[{"place-self":["auto",...xe()]}],p:[{p:I()}],px:[{px:I()}],py:[{py:I()}],ps:[{ps:I()}],pe:[{pe:I()}],pt:[{pt:I()}],pr:[{pr:I()}],pb:[{pb:I()}],pl:[{pl:I()}],m:[{m:q()}],mx:[{mx:q()}],my:[{my:q()}],ms:[{ms:q()}],me:[{me:q()}],mt:[{mt:q()}],mr:[{mr:q()}],mb:[{mb:q()}],ml:[{ml:q()}],"space-x":[{"space-x":I()}],"space-x-reverse":["space-x-reverse"],"space-y":[{"space-y":I()}],"space-y-reverse":["space-y-reverse"],size:[{size:Q()}],w:[{w:[f,"screen",...Q()]}],"min-w":[{"min-w":[f,"screen","none",...Q()]}],"max-w":[{"max-w":[f,"screen","none","prose",{screen:[c]},...Q()]}],h:[{h:["screen","lh",...Q()]}],"min-h":[{"min-h":["screen","lh","none",...Q()]}],"max-h":[{"max-h":["screen","lh",...Q()]}],"font-size":[{text:["base",n,cu,bi]}],"font-smoothing":["antialiased","subpixel-antialiased"],"font-style":["italic","not-italic"],"font-weight":[{font:[r,se,mv]}],"font-stretch":[{"font-stretch":["ultra-condensed","extra-condensed","condensed","semi-condensed","normal","semi-expanded","expanded","extra-expanded","ultra-expanded",hv,ce]}],"font-family":[{font:[X3,ce,t]}],"fvn-normal":["normal-nums"],"fvn-ordinal":["ordinal"],"fvn-slashed-zero":["slashed-zero"],"fvn-figure":["lining-nums","oldstyle-nums"],"fvn-spacing":["proportional-nums","tabular-nums"],"fvn-fraction":["diagonal-fractions","stacked-fractions"],tracking:[{tracking:[l,se,ce]}],"line-clamp":[{"line-clamp":[Ne,"none",se,mv]}],leading:[{leading:[o,...I()]}],"list-image":[{"list-image":["none",se,ce]}],"list-style-position":[{list:["inside","outside"]}],"list-style-type":[{list:["disc","decimal","none",se,ce]}],"text-alignment":[{text:["left","center","right","justify","start","end"]}],"placeholder-color":[{placeholder:X()}],"text-color":[{text:X()}],"text-decoration":["underline","overline","line-through","no-underline"],"text-decoration-style":[{decoration:[...he(),"wavy"]}],"text-decoration-thickness":[{decoration:[Ne,"from-font","auto",se,bi]}],"text-decoration-color":[{decoration:X()}],"underline-offset":[{"underline-offset":[Ne,"auto",se,ce]}],"text-transform":["uppercase","lowercase","capitalize","normal-case"],"text-overflow":["truncate","text-ellipsis","text-clip"],"text-wrap":[{text:["wrap","nowrap","balance","pretty"]}],indent:[{indent:I()}],"vertical-align":[{align:["baseline","top","middle","bottom","text-top","text-bottom","sub","super",se,ce]}],whitespace:[{whitespace:["normal","nowrap","pre","pre-line","pre-wrap","break-spaces"]}],break:[{break:["normal","words","all","keep"]}],wrap:[{wrap:["break-word","anywhere","normal"]}],hyphens:[{hyphens:["none","manual","auto"]}],content:[{content:["none",se,ce]}],"bg-attachment":[{bg:["fixed","local","scroll"]}],"bg-clip":[{"bg-clip":["border","padding","content","text"]}],"bg-origin":[{"bg-origin":["border","padding","content"]}],"bg-position":[{bg:le()}],"bg-repeat":[{bg:Oe()}],"bg-size":[{bg:P()}],"bg-image":[{bg:["none",{linear:[{to:["t","tr","r","br","b","bl","l","tl"]},Ha,se,ce],radial:["",se,ce],conic:[Ha,se,ce]},W3,V3]}],"bg-color":[{bg:X()}],"gradient-from-pos":[{from:K()}],"gradient-via-pos":[{via:K()}],"gradient-to-pos":[{to:K()}],"gradient-from":[{from:X()}],"gradient-via":[{via:X()}],"gradient-to":[{to:X()}],rounded:[{rounded:ee()}],"rounded-s":[{"rounded-s":ee()}],"rounded-e":[{"rounded-e":ee()}],"rounded-t":[{"rounded-t":ee()}],"rounded-r":[{"rounded-r":ee()}],"rounded-b":[{"rounded-b":ee()}],"rounded-l":[{"rounded-l":ee()}],"rounded-ss":[{"rounded-ss":ee()}],"rounded-se":[{"rounded-se":ee()}],"rounded-ee":[{"rounded-ee":ee()}],"rounded-es":[{"rounded-es":ee()}],"rounded-tl":[{"rounded-tl":ee()}],"rounded-tr":[{"rounded-tr":ee()}],"rounded-br":[{"rounded-br":ee()}],"rounded-bl":[{"rounded-bl":ee()}],"border-w":[{border:ne()}],"border-w-x":[{"border-x":ne()}],"border-w-y":[{"border-y":ne()}],"border-w-s":[{"border-s":ne()}],"border-w-e":[{"border-e":ne()}],"border-w-t":[{"border-t":ne()}],"border-w-r":[{"border-r":ne()}],"border-w-b":[{"border-b":ne()}],"border-w-l":[{"border-l":ne()}],"divide-x":[{"divide-x":ne()}],"divide-x-reverse":["divide-x-reverse"],"divide-y":[{"divide-y":ne()}],"divide-y-reverse":["divide-y-reverse"],"border-style":[{border:[...he(),"hidden","none"]}],"divide-style":[{divide:[...he(),"hidden","none"]}],"border-color":[{border:X()}],"border-color-x":[{"border-x":X()}],"border-color-y":[{"border-y":X()}],"border-color-s":[{"border-s":X()}],"border-color-e":[{"border-e":X()}],"border-color-t":[{"border-t":X()}],"border-color-r":[{"border-r":X()}],"border-color-b":[{"border-b":X()}],"border-color-l":[{"border-l":X()}],"divide-color":[{divide:X()}],"outline-style":[{outline:[...he(),"none","hidden"]}],"outline-offset":[{"outline-offset":[Ne,se,ce]}],"outline-w":[{outline:["",Ne,cu,bi]}],"outline-color":[{outline:X()}],shadow:[{shadow:["","none",m,_s,Cs]}],"shadow-color":[{shadow:X()}],"inset-shadow":[{"inset-shadow":["none",p,_s,Cs]}],"inset-shadow-color":[{"inset-shadow":X()}],"ring-w":[{ring:ne()}],"ring-w-inset":["ring-inset"],"ring-color":[{ring:X()}],"ring-offset-w":[{"ring-offset":[Ne,bi]}],"ring-offset-color":[{"ring-offset":X()}],"inset-ring-w":[{"inset-ring":ne()}],"inset-ring-color":[{"inset-ring":X()}],"text-shadow":[{"text-shadow":["none",x,_s,Cs]}],"text-shadow-color":[{"text-shadow":X()}],opacity:[{opacity:[Ne,se,ce]}],"mix-blend":[{"mix-blend":[...we(),"plus-darker","plus-lighter"]}],"bg-blend":[{"bg-blend":we()}],"mask-clip":[{"mask-clip":["border","padding","content","fill","stroke","view"]},"mask-no-clip"],"mask-composite":[{mask:["add","subtract","intersect","exclude"]}],"mask-image-linear-pos":[{"mask-linear":[Ne]}],"mask-image-linear-from-pos":[{"mask-linear-from":ue()}],"mask-image-linear-to-pos":[{"mask-linear-to":ue()}],"mask-image-linear-from-color":[{"mask-linear-from":X()}],"mask-image-linear-to-color":[{"mask-linear-to":X()}],"mask-image-t-from-pos":[{"mask-t-from":ue()}],"mask-image-t-to-pos":[{"mask-t-to":ue()}],"mask-image-t-from-color":[{"mask-t-from":X()}],"mask-image-t-to-color":[{"mask-t-to":X()}],"mask-image-r-from-pos":[{"mask-r-from":ue()}],"mask-image-r-to-pos":[{"mask-r-to":ue()}],"mask-image-r-from-color":[{"mask-r-from":X()}],"mask-image-r-to-color":[{"mask-r-to":X()}],"mask-image-b-from-pos":[{"mask-b-from":ue()}],"mask-image-b-to-pos":[{"mask-b-to":ue()}],"mask-image-b-from-color":[{"mask-b-from":X()}],"mask-image-b-to-color":[{"mask-b-to":X()}],"mask-image-l-from-pos":[{"mask-l-from":ue()}],"mask-image-l-to-pos":[{"mask-l-to":ue()}],"mask-image-l-from-color":[{"mask-l-from":X()}],"mask-image-l-to-color":[{"mask-l-to":X()}],"mask-image-x-from-pos":[{"mask-x-from":ue()}],"mask-image-x-to-pos":[{"mask-x-to":ue()}],"mask-image-x-from-color":[{"mask-x-from":X()}],"mask-image-x-to-color":[{"mask-x-to":X()}],"mask-image-y-from-pos":[{"mask-y-from":ue()}],"mask-image-y-to-pos":[{"mask-y-to":ue()}],"mask-image-y-from-color":[{"mask-y-from":X()}],"mask-image-y-to-color":[{"mask-y-to":X()}],"mask-image-radial":[{"mask-radial":[se,ce]}],"mask-image-radial-from-pos":[{"mask-radial-from":ue()}],"mask-image-radial-to-pos":[{"mask-radial-to":ue()}],"mask-image-radial-from-color":[{"mask-radial-from":X()}],"mask-image-radial-to-color":[{"mask-radial-to":X()}],"mask-image-radial-shape":[{"mask-radial":["circle","ellipse"]}],"mask-image-radial-size":[{"mask-radial":[{closest:["side","corner"],farthest:["side","corner"]}]}],"mask-image-radial-pos":[{"mask-radial-at":D()}],"mask-image-conic-pos":[{"mask-conic":[Ne]}],"mask-image-conic-from-pos":[{"mask-conic-from":ue()}],"mask-image-conic-to-pos":[{"mask-conic-to":ue()}],"mask-image-conic-from-color":[{"mask-conic-from":X()}],"mask-image-conic-to-color":[{"mask-conic-to":X()}],"mask-mode":[{mask:["alpha","luminance","match"]}],"mask-origin":[{"mask-origin":["border","padding","content","fill","stroke","view"]}],"mask-position":[{mask:le()}],"mask-repeat":[{mask:Oe()}],"mask-size":[{mask:P()}],"mask-type":[{"mask-type":["alpha","luminance"]}],"mask-image":[{mask:["none",se,ce]}],filter:[{filter:["","none",se,ce]}],blur:[{blur:rt()}],brightness:[{brightness:[Ne,se,ce]}],contrast:[{contrast:[Ne,se,ce]}],"drop-shadow":[{"drop-shadow":["","none",w,_s,Cs]}],"drop-shadow-color":[{"drop-shadow":X()}],grayscale:[{grayscale:["",Ne,se,ce]}],"hue-rotate":[{"hue-rotate":[Ne,se,ce]}],invert:[{invert:["",Ne,se,ce]}],saturate:[{saturate:[Ne,se,ce]}],sepia:[{sepia:["",Ne,se,ce]}],"backdrop-filter":[{"backdrop-filter":["","none",se,ce]}],"backdrop-blur":[{"backdrop-blur":rt()}],"backdrop-brightness":[{"backdrop-brightness":[Ne,se,ce]}],"backdrop-contrast":[{"backdrop-contrast":[Ne,se,ce]}],"backdrop-grayscale":[{"backdrop-grayscale":["",Ne,se,ce]}],"backdrop-hue-rotate":[{"backdrop-hue-rotate":[Ne,se,ce]}],"backdrop-invert":[{"backdrop-invert":["",Ne,se,ce]}],"backdrop-opacity":[{"backdrop-opacity":[Ne,se,ce]}],"backdrop-saturate":[{"backdrop-saturate":[Ne,se,ce]}],"backdrop-sepia":[{"backdrop-sepia":["",Ne,se,ce]}],"border-collapse":[{border:["collapse","separate"]}],"border-spacing":[{"border-spacing":I()}],"border-spacing-x":[{"border-spacing-x":I()}],"border-spacing-y":[{"border-spacing-y":I()}],"table-layout":[{table:["auto","fixed"]}],caption:[{caption:["top","bottom"]}],transition:[{transition:["","all","colors","opacity","shadow","transform","none",se,ce]}],"transition-behavior":[{transition:["normal","discrete"]}],duration:[{duration:[Ne,"initial",se,ce]}],ease:[{ease:["linear","initial",j,se,ce]}],delay:[{delay:[Ne,se,ce]}],animate:[{animate:["none",_,se,ce]}],backface:[{backface:["hidden","visible"]}],perspective:[{perspective:[O,se,ce]}],"perspective-origin":[{"perspective-origin":T()}],rotate:[{rotate:V()}],"rotate-x":[{"rotate-x":V()}],"rotate-y":[{"rotate-y":V()}],"rotate-z":[{"rotate-z":V()}],scale:[{scale:be()}],"scale-x":[{"scale-x":be()}],"scale-y":[{"scale-y":be()}],"scale-z":[{"scale-z":be()}],"scale-3d":["scale-3d"],skew:[{skew:Ae()}],"skew-x":[{"skew-x":Ae()}],"skew-y":[{"skew-y":Ae()}],transform:[{transform:[se,ce,"","none","gpu","cpu"]}],"transform-origin":[{origin:T()}],"transform-style":[{transform:["3d","flat"]}],translate:[{translate:te()}],"translate-x":[{"translate-x":te()}],"translate-y":[{"translate-y":te()}],"translate-z":[{"translate-z":te()}],"translate-none":["translate-none"],accent:[{accent:X()}],appearance:[{appearance:["none","auto"]}],"caret-color":[{caret:X()}],"color-scheme":[{scheme:["normal","dark","light","light-dark","only-dark","only-light"]}],cursor:[{cursor:["auto","default","pointer","wait","text","move","help","not-allowed","none","context-menu","progress","cell","crosshair","vertical-text","alias","copy","no-drop","grab","grabbing","all-scroll","col-resize","row-resize","n-resize","e-resize","s-resize","w-resize","ne-resize","nw-resize","se-resize","sw-resize","ew-resize","ns-resize","nesw-resize","nwse-resize","zoom-in","zoom-out",se,ce]}],"field-sizing":[{"field-sizing":["fixed","content"]}],"pointer-events":[{"pointer-events":["auto","none"]}],resize:[{resize:["none","","y","x"]}],"scroll-behavior":[{scroll:["auto","smooth"]}],"scroll-m":[{"scroll-m":I()}],"scroll-mx":[{"scroll-mx":I()}],"scroll-my":[{"scroll-my":I()}],"scroll-ms":[{"scroll-ms":I()}],"scroll-me":[{"scroll-me":I()}],"scroll-mt":[{"scroll-mt":I()}],"scroll-mr":[{"scroll-mr":I()}],"scroll-mb":[{"scroll-mb":I()}],"scroll-ml":[{"scroll-ml":I()}],"scroll-p":[{"scroll-p":I()}],"scroll-px":[{"scroll-px":I()}],"scroll-py":[{"scroll-py":I()}],"scroll-ps":[{"scroll-ps":I()}],"scroll-pe":[{"scroll-pe":I()}],"scroll-pt":[{"scroll-pt":I()}],"scroll-pr":[{"scroll-pr":I()}],"scroll-pb":[{"scroll-pb":I()}],"scroll-pl":[{"scroll-pl":I()}],"snap-align":[{snap:["start","end","center","align-none"]}],"snap-stop":[{snap:["normal","always"]}],"snap-type":[{snap:["none","x","y","both"]}],"snap-strictness":[{snap:["mandatory","proximity"]}],touch:[{touch:["auto","none","manipulation"]}],"touch-x":[{"touch-pan":["x","left","right"]}],"touch-y":[{"touch-pan":["y","up","down"]}],"touch-pz":["touch-pinch-zoom"],select:[{select:["none","text","all","auto"]}],"will-change":[{"will-change":["auto","scroll","contents","transform",se,ce]}],fill:[{fill:["none",...X()]}],"stroke-w":[{stroke:[Ne,cu,bi,mv]}],stroke:[{stroke:["none",...X()]}],"forced-color-adjust":[{"forced-color-adjust":["auto","none"]}]},conflictingClassGroups:{overflow:["overflow-x","overflow-y"],overscroll:["overscroll-x","overscroll-y"],inset:["inset-x","inset-y","start","end","top","right","bottom","left"],"inset-x":["right","left"],"inset-y":["top","bottom"],flex:["basis","grow","shrink"],gap:["gap-x","gap-y"],p:["px","py","ps","pe","pt","pr","pb","pl"],px:["pr","pl"],py:["pt","pb"],m:["mx","my","ms","me","mt","mr","mb","ml"],mx:["mr","ml"],my:["mt","mb"],size:["w","h"],"font-size":["leading"],"fvn-normal":["fvn-ordinal","fvn-slashed-zero","fvn-figure","fvn-spacing","fvn-fraction"],"fvn-ordinal":["fvn-normal"],"fvn-slashed-zero":["fvn-normal"],"fvn-figure":["fvn-normal"],"fvn-spacing":["fvn-normal"],"fvn-fraction":["fvn-normal"],"line-clamp":["display","overflow"],rounded:["rounded-s","rounded-e","rounded-t","rounded-r","rounded-b","rounded-l","rounded-ss","rounded-se","rounded-ee","rounded-es","rounded-tl","rounded-tr","rounded-br","rounded-bl"],"rounded-s":["rounded-ss","rounded-es"],"rounded-e":["rounded-se","rounded-ee"],"rounded-t":["rounded-tl","rounded-tr"],"rounded-r":["rounded-tr","rounded-br"],"rounded-b":["rounded-br","rounded-bl"],"rounded-l":["rounded-tl","rounded-bl"],"border-spacing":["border-spacing-x","border-spacing-y"],"border-w":["border-w-x","border-w-y","border-w-s","border-w-e","border-w-t","border-w-r","border-w-b","border-w-l"],"border-w-x":["border-w-r","border-w-l"],"border-w-y":["border-w-t","border-w-b"],"border-color":["border-color-x","border-color-y","border-color-s","border-color-e","border-color-t","border-color-r","border-color-b","border-color-l"],"border-color-x":["border-color-r","border-color-l"],"border-color-y":["border-color-t","border-color-b"],translate:["translate-x","translate-y","translate-none"],"translate-none":["translate","translate-x","translate-y","translate-z"],"scroll-m":["scroll-mx","scroll-my","scroll-ms","scroll-me","scroll-mt","scroll-mr","scroll-mb","scroll-ml"],"scroll-mx":["scroll-mr","scroll-ml"],"scroll-my":["scroll-mt","scroll-mb"],"scroll-p":["scroll-px","scroll-py","scroll-ps","scroll-pe","scroll-pt","scroll-pr","scroll-pb","scroll-pl"],"scroll-px":["scroll-pr","scroll-pl"],"scroll-py":["scroll-pt","scroll-pb"],touch:["touch-x","touch-y","touch-pz"],"touch-x":["touch"],"touch-y":["touch"],"touch-pz":["touch"]},conflictingClassGroupModifiers:{"font-size":["leading"]},orderSensitiveModifiers:["*","**","after","backdrop","before","details-content","file","first-letter","first-line","marker","placeholder","selection"]}},ez=k3(J3);function Ve(...e){return ez(Ge(e))}const tz=Q2("inline-flex items-center justify-center whitespace-nowrap rounded-md text-sm font-medium ring-offset-background transition-colors focus-visible:outline-none focus-visible:ring-2 focus-visible:ring-ring focus-visible:ring-offset-2 disabled:pointer-events-none disabled:opacity-50",{variants:{variant:{default:"bg-primary text-primary-foreground hover:bg-primary/90",destructive:"bg-destructive text-destructive-foreground hover:bg-destructive/90",outline:"border border-input bg-background hover:bg-accent hover:text-accent-foreground",secondary:"bg-secondary text-secondary-foreground hover:bg-secondary/80",ghost:"hover:bg-accent hover:text-accent-foreground",link:"text-primary underline-offset-4 hover:underline"},size:{default:"h-10 px-4 py-2",sm:"h-9 rounded-md px-3",lg:"h-11 rounded-md px-8",icon:"h-10 w-10"}},defaultVariants:{variant:"default",size:"default"}}),yt=g.forwardRef(({className:e,variant:t,size:n,asChild:r=!1,...l},o)=>{const c=r?o3:"button";return b.jsx(c,{className:Ve(tz({variant:t,size:n,className:e})),ref:o,...l})});yt.displayName="Button";const Vt=g.forwardRef(({className:e,type:t,...n},r)=>b.jsx("input",{type:t,className:Ve("flex h-10 w-full rounded-md border border-input bg-background px-3 py-2 text-sm ring-offset-background file:border-0 file:bg-transparent file:text-sm file:font-medium placeholder:text-muted-foreground focus-visible:outline-none focus-visible:ring-2 focus-visible:ring-ring focus-visible:ring-offset-2 disabled:cursor-not-allowed disabled:opacity-50",e),ref:r,...n}));Vt.displayName="Input";var nz=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],ug=nz.reduce((e,t)=>{const n=W2(`Primitive.${t}`),r=g.forwardRef((l,o)=>{const{asChild:c,...f}=l,d=c?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),b.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{}),rz="Label",fj=g.forwardRef((e,t)=>b.jsx(ug.label,{...e,ref:t,onMouseDown:n=>{n.target.closest("button, input, select, textarea")||(e.onMouseDown?.(n),!n.defaultPrevented&&n.detail>1&&n.preventDefault())}}));fj.displayName=rz;var dj=fj;const az=Q2("text-sm font-medium leading-none peer-disabled:cursor-not-allowed peer-disabled:opacity-70"),Xt=g.forwardRef(({className:e,...t},n)=>b.jsx(dj,{ref:n,className:Ve(az(),e),...t}));Xt.displayName=dj.displayName;const Dt=g.forwardRef(({className:e,...t},n)=>b.jsx("div",{ref:n,className:Ve("rounded-lg border bg-card text-card-foreground shadow-sm",e),...t}));Dt.displayName="Card";const kt=g.forwardRef(({className:e,...t},n)=>b.jsx("div",{ref:n,className:Ve("flex flex-col space-y-1.5 p-6",e),...t}));kt.displayName="CardHeader";const Pt=g.forwardRef(({className:e,...t},n)=>b.jsx("h3",{ref:n,className:Ve("text-2xl font-semibold leading-none tracking-tight",e),...t}));Pt.displayName="CardTitle";const to=g.forwardRef(({className:e,...t},n)=>b.jsx("p",{ref:n,className:Ve("text-sm text-muted-foreground",e),...t}));to.displayName="CardDescription";const Rt=g.forwardRef(({className:e,...t},n)=>b.jsx("div",{ref:n,className:Ve("p-6 pt-0",e),...t}));Rt.displayName="CardContent";const cg=g.forwardRef(({className:e,...t},n)=>b.jsx("div",{ref:n,className:Ve("flex items-center p-6 pt-0",e),...t}));cg.displayName="CardFooter";const iz="/api";async function no(e,t={}){const n={headers:{"Content-Type":"application/json"}},r={...n,...t,headers:{...n.headers,...t.headers}};let l;try{l=await fetch(`${iz}${e}`,r)}catch{throw new Error("Network error")}if(!l.ok){let o="An error occurred";try{o=(await l.json()).message||o}catch{o=await l.text()}throw new Error(o)}if(l.status===204)return null;try{return await l.json()}catch{return null}}const bS=(e,t)=>no("/auth/login",{method:"POST",body:JSON.stringify({email:e,sifre:t})}),lz=e=>no("/auth/register",{method:"POST",body:JSON.stringify(e)}),hj=e=>no(`/accounts/summary/${e}`),mj=e=>no(`/transactions/history/${e}`),oz=e=>no("/transactions/transfer",{method:"POST",body:JSON.stringify(e)});const uz=e=>e.replace(/([a-z0-9])([A-Z])/g,"$1-$2").toLowerCase(),cz=e=>e.replace(/^([A-Z])|[\s-_]+(\w)/g,(t,n,r)=>r?r.toUpperCase():n.toLowerCase()),xS=e=>{const t=cz(e);return t.charAt(0).toUpperCase()+t.slice(1)},vj=(...e)=>e.filter((t,n,r)=>!!t&&t.trim()!==""&&r.indexOf(t)===n).join(" ").trim(),sz=e=>{for(const t in e)if(t.startsWith("aria-")||t==="role"||t==="title")return!0};var fz={xmlns:"http://www.w3.org/2000/svg",width:24,height:24,viewBox:"0 0 24 24",fill:"none",stroke:"currentColor",strokeWidth:2,strokeLinecap:"round",strokeLinejoin:"round"};const dz=g.forwardRef(({color:e="currentColor",size:t=24,strokeWidth:n=2,absoluteStrokeWidth:r,className:l="",children:o,iconNode:c,...f},d)=>g.createElement("svg",{ref:d,...fz,width:t,height:t,stroke:e,strokeWidth:r?Number(n)*24/Number(t):n,className:vj("lucide",l),...!o&&!sz(f)&&{"aria-hidden":"true"},...f},[...c.map(([h,m])=>g.createElement(h,m)),...Array.isArray(o)?o:[o]]));const St=(e,t)=>{const n=g.forwardRef(({className:r,...l},o)=>g.createElement(dz,{ref:o,iconNode:t,className:vj(`lucide-${uz(xS(e))}`,`lucide-${e}`,r),...l}));return n.displayName=xS(e),n};const hz=[["path",{d:"M22 12h-2.48a2 2 0 0 0-1.93 1.46l-2.35 8.36a.25.25 0 0 1-.48 0L9.24 2.18a.25.25 0 0 0-.48 0l-2.35 8.36A2 2 0 0 1 4.49 12H2",key:"169zse"}]],mz=St("activity",hz);const vz=[["path",{d:"M11.767 19.089c4.924.868 6.14-6.025 1.216-6.894m-1.216 6.894L5.86 18.047m5.908 1.042-.347 1.97m1.563-8.864c4.924.869 6.14-6.025 1.215-6.893m-1.215 6.893-3.94-.694m5.155-6.2L8.29 4.26m5.908 1.042.348-1.97M7.48 20.364l3.126-17.727",key:"yr8idg"}]],pz=St("bitcoin",vz);const yz=[["rect",{width:"20",height:"14",x:"2",y:"5",rx:"2",key:"ynyp8z"}],["line",{x1:"2",x2:"22",y1:"10",y2:"10",key:"1b3vmo"}]],pj=St("credit-card",yz);const gz=[["line",{x1:"12",x2:"12",y1:"2",y2:"22",key:"7eqyqh"}],["path",{d:"M17 5H9.5a3.5 3.5 0 0 0 0 7h5a3.5 3.5 0 0 1 0 7H6",key:"1b0p4s"}]],bz=St("dollar-sign",gz);const xz=[["path",{d:"M3 12a9 9 0 1 0 9-9 9.75 9.75 0 0 0-6.74 2.74L3 8",key:"1357e3"}],["path",{d:"M3 3v5h5",key:"1xhq8a"}],["path",{d:"M12 7v5l4 2",key:"1fdv2h"}]],wz=St("history",xz);const Sz=[["rect",{width:"7",height:"9",x:"3",y:"3",rx:"1",key:"10lvy0"}],["rect",{width:"7",height:"5",x:"14",y:"3",rx:"1",key:"16une8"}],["rect",{width:"7",height:"9",x:"14",y:"12",rx:"1",key:"1hutg5"}],["rect",{width:"7",height:"5",x:"3",y:"16",rx:"1",key:"ldoo1y"}]],Ez=St("layout-dashboard",Sz);const Oz=[["path",{d:"M21 12a9 9 0 1 1-6.219-8.56",key:"13zald"}]],sg=St("loader-circle",Oz);const Az=[["rect",{width:"18",height:"11",x:"3",y:"11",rx:"2",ry:"2",key:"1w4ew1"}],["path",{d:"M7 11V7a5 5 0 0 1 10 0v4",key:"fwvmzm"}]],yj=St("lock",Az);const jz=[["path",{d:"m16 17 5-5-5-5",key:"1bji2h"}],["path",{d:"M21 12H9",key:"dn1m92"}],["path",{d:"M9 21H5a2 2 0 0 1-2-2V5a2 2 0 0 1 2-2h4",key:"1uf3rs"}]],Nz=St("log-out",jz);const Cz=[["path",{d:"m22 7-8.991 5.727a2 2 0 0 1-2.009 0L2 7",key:"132q7q"}],["rect",{x:"2",y:"4",width:"20",height:"16",rx:"2",key:"izxlao"}]],_z=St("mail",Cz);const Tz=[["path",{d:"M5 12h14",key:"1ays0h"}],["path",{d:"M12 5v14",key:"s699le"}]],Mz=St("plus",Tz);const Dz=[["path",{d:"M9.671 4.136a2.34 2.34 0 0 1 4.659 0 2.34 2.34 0 0 0 3.319 1.915 2.34 2.34 0 0 1 2.33 4.033 2.34 2.34 0 0 0 0 3.831 2.34 2.34 0 0 1-2.33 4.033 2.34 2.34 0 0 0-3.319 1.915 2.34 2.34 0 0 1-4.659 0 2.34 2.34 0 0 0-3.32-1.915 2.34 2.34 0 0 1-2.33-4.033 2.34 2.34 0 0 0 0-3.831A2.34 2.34 0 0 1 6.35 6.051a2.34 2.34 0 0 0 3.319-1.915",key:"1i5ecw"}],["circle",{cx:"12",cy:"12",r:"3",key:"1v7zrd"}]],kz=St("settings",Dz);const Pz=[["path",{d:"M20 13c0 5-3.5 7.5-7.66 8.95a1 1 0 0 1-.67-.01C7.5 20.5 4 18 4 13V6a1 1 0 0 1 1-1c2 0 4.5-1.2 6.24-2.72a1.17 1.17 0 0 1 1.52 0C14.51 3.81 17 5 19 5a1 1 0 0 1 1 1z",key:"oel41y"}]],gj=St("shield",Pz);const Rz=[["path",{d:"M16 17h6v-6",key:"t6n2it"}],["path",{d:"m22 17-8.5-8.5-5 5L2 7",key:"x473p"}]],wS=St("trending-down",Rz);const zz=[["path",{d:"M16 7h6v6",key:"box55l"}],["path",{d:"m22 7-8.5 8.5-5-5L2 17",key:"1t1m79"}]],fg=St("trending-up",zz);const Lz=[["path",{d:"M19 21v-2a4 4 0 0 0-4-4H9a4 4 0 0 0-4 4v2",key:"975kel"}],["circle",{cx:"12",cy:"7",r:"4",key:"17ys0d"}]],bj=St("user",Lz);const Bz=[["path",{d:"M19 7V4a1 1 0 0 0-1-1H5a2 2 0 0 0 0 4h15a1 1 0 0 1 1 1v4h-3a2 2 0 0 0 0 4h3a1 1 0 0 0 1-1v-2a1 1 0 0 0-1-1",key:"18etb6"}],["path",{d:"M3 5v14a2 2 0 0 0 2 2h15a1 1 0 0 0 1-1v-4",key:"xoc0q4"}]],SS=St("wallet",Bz);const Uz=[["path",{d:"M18 6 6 18",key:"1bl5f8"}],["path",{d:"m6 6 12 12",key:"d8bk6v"}]],Iz=St("x",Uz);const qz=[["path",{d:"M4 14a1 1 0 0 1-.78-1.63l9.9-10.2a.5.5 0 0 1 .86.46l-1.92 6.02A1 1 0 0 0 13 10h7a1 1 0 0 1 .78 1.63l-9.9 10.2a.5.5 0 0 1-.86-.46l1.92-6.02A1 1 0 0 0 11 14z",key:"1xq2db"}]],Hz=St("zap",qz);function $z(){const[e,t]=g.useState(""),[n,r]=g.useState(""),[l,o]=g.useState(!1),[c,f]=g.useState(""),d=Iu(),h=async p=>{p.preventDefault(),o(!0),f("");try{const x=await bS(e,n);localStorage.setItem("dinoUser",JSON.stringify(x)),d("/dashboard")}catch(x){f(x.message)}finally{o(!1)}},m=async(p,x)=>{t(p),r(x),o(!0);try{const w=await bS(p,x);localStorage.setItem("dinoUser",JSON.stringify(w)),d("/dashboard")}catch(w){f("Demo login failed: "+w.message),o(!1)}};return b.jsxs("div",{className:"min-h-screen flex items-center justify-center p-4 relative overflow-hidden",children:[b.jsx("div",{className:"absolute top-[-10%] left-[-10%] w-[500px] h-[500px] bg-primary/20 rounded-full blur-[100px]"}),b.jsx("div",{className:"absolute bottom-[-10%] right-[-10%] w-[500px] h-[500px] bg-blue-500/10 rounded-full blur-[100px]"}),b.jsxs(Dt,{className:"w-full max-w-md glass border-white/10 shadow-2xl relative z-10",children:[b.jsxs(kt,{className:"space-y-2 text-center pb-8",children:[b.jsx("div",{className:"mx-auto w-16 h-16 bg-primary/20 rounded-2xl flex items-center justify-center mb-4 border border-primary/20",children:b.jsx("span",{className:"text-3xl",children:"🦖"})}),b.jsx(Pt,{className:"text-3xl font-bold tracking-tight bg-gradient-to-r from-white to-white/60 bg-clip-text text-transparent",children:"DinoBank"}),b.jsx(to,{className:"text-slate-400 text-base",children:"Tarih öncesi güven, modern hız."})]}),b.jsx(Rt,{children:b.jsxs("form",{onSubmit:h,className:"space-y-5",children:[b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"email",className:"text-slate-300",children:"E-posta"}),b.jsxs("div",{className:"relative group",children:[b.jsx(_z,{className:"absolute left-3 top-3 h-4 w-4 text-slate-500 group-focus-within:text-primary transition-colors"}),b.jsx(Vt,{id:"email",type:"email",placeholder:"m@ornek.com",className:"pl-10 bg-black/20 border-white/10 focus:border-primary/50 focus:ring-primary/20 h-11 transition-all",value:e,onChange:p=>t(p.target.value),required:!0})]})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"password",className:"text-slate-300",children:"Şifre"}),b.jsxs("div",{className:"relative group",children:[b.jsx(yj,{className:"absolute left-3 top-3 h-4 w-4 text-slate-500 group-focus-within:text-primary transition-colors"}),b.jsx(Vt,{id:"password",type:"password",className:"pl-10 bg-black/20 border-white/10 focus:border-primary/50 focus:ring-primary/20 h-11 transition-all",value:n,onChange:p=>r(p.target.value),required:!0})]})]}),c&&b.jsx("p",{className:"text-sm text-red-400 font-medium bg-red-900/20 p-3 rounded-lg border border-red-900/50",children:c}),b.jsx(yt,{type:"submit",className:"w-full h-11 bg-primary hover:bg-primary/90 text-black font-bold text-base shadow-lg shadow-primary/20 transition-all hover:scale-[1.02]",disabled:l,children:l?b.jsx(sg,{className:"mr-2 h-5 w-5 animate-spin"}):"Giriş Yap"}),b.jsxs("div",{className:"relative py-2",children:[b.jsx("div",{className:"absolute inset-0 flex items-center",children:b.jsx("span",{className:"w-full border-t border-white/10"})}),b.jsx("div",{className:"relative flex justify-center text-xs uppercase",children:b.jsx("span",{className:"bg-transparent px-2 text-slate-500 font-medium",children:"Hızlı Demo Girişi"})})]}),b.jsxs("div",{className:"grid grid-cols-3 gap-2",children:[b.jsx(yt,{type:"button",variant:"outline",className:"h-10 border-white/10 bg-white/5 hover:bg-white/10 hover:text-white text-slate-300 text-xs",onClick:()=>m("osman@dino.com","123"),children:"🦖 Osman"}),b.jsx(yt,{type:"button",variant:"outline",className:"h-10 border-white/10 bg-white/5 hover:bg-white/10 hover:text-white text-slate-300 text-xs",onClick:()=>m("kursat@dino.com","123"),children:"🦕 Kürşat"}),b.jsx(yt,{type:"button",variant:"outline",className:"h-10 border-white/10 bg-white/5 hover:bg-white/10 hover:text-white text-slate-300 text-xs",onClick:()=>m("ilkmert@dino.com","123"),children:"🥚 İlkmert"})]})]})}),b.jsx(cg,{className:"flex justify-center pb-8",children:b.jsxs("p",{className:"text-sm text-slate-500",children:["Hesabınız yok mu?"," ",b.jsx(Va,{to:"/register",className:"text-primary hover:text-primary/80 font-semibold transition-colors",children:"Kayıt Ol"})]})})]})]})}function Yz(){const[e,t]=g.useState({ad:"",soyad:"",email:"",tcKimlikNo:"",telefon:"",dogumTarihi:"",sifre:"",adres:""}),[n,r]=g.useState(!1),[l,o]=g.useState(""),c=Iu(),f=h=>{t({...e,[h.target.id]:h.target.value})},d=async h=>{h.preventDefault(),r(!0),o("");try{await lz(e),localStorage.removeItem("token"),localStorage.removeItem("dinoUser"),c("/login")}catch(m){o(m.message)}finally{r(!1)}};return b.jsxs("div",{className:"min-h-screen flex items-center justify-center bg-slate-50 dark:bg-slate-950 p-4 py-8 relative overflow-hidden",children:[b.jsx("div",{className:"absolute top-[-10%] right-[-10%] w-[500px] h-[500px] bg-primary/20 rounded-full blur-[100px]"}),b.jsx("div",{className:"absolute bottom-[-10%] left-[-10%] w-[500px] h-[500px] bg-blue-500/10 rounded-full blur-[100px]"}),b.jsxs(Dt,{className:"w-full max-w-lg glass border-white/10 shadow-2xl relative z-10",children:[b.jsxs(kt,{className:"space-y-1",children:[b.jsx(Pt,{className:"text-2xl font-bold text-center text-primary",children:"DinoBank'a Katıl"}),b.jsx(to,{className:"text-center text-slate-400",children:"Başlamak için hesabınızı oluşturun"})]}),b.jsx(Rt,{children:b.jsxs("form",{onSubmit:d,className:"space-y-4",children:[b.jsxs("div",{className:"grid grid-cols-2 gap-4",children:[b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"ad",className:"text-slate-300",children:"Ad"}),b.jsx(Vt,{id:"ad",placeholder:"Ahmet",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"soyad",className:"text-slate-300",children:"Soyad"}),b.jsx(Vt,{id:"soyad",placeholder:"Yılmaz",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"email",className:"text-slate-300",children:"E-posta"}),b.jsx(Vt,{id:"email",type:"email",placeholder:"m@ornek.com",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]}),b.jsxs("div",{className:"grid grid-cols-2 gap-4",children:[b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"tcKimlikNo",className:"text-slate-300",children:"TC Kimlik No"}),b.jsx(Vt,{id:"tcKimlikNo",placeholder:"11111111111",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"telefon",className:"text-slate-300",children:"Telefon"}),b.jsx(Vt,{id:"telefon",placeholder:"5551234567",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"dogumTarihi",className:"text-slate-300",children:"Doğum Tarihi"}),b.jsx(Vt,{id:"dogumTarihi",type:"date",onChange:f,required:!0,className:"bg-black/20 border-white/10 text-white"})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"sifre",className:"text-slate-300",children:"Şifre"}),b.jsx(Vt,{id:"sifre",type:"password",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"adres",className:"text-slate-300",children:"Adres"}),b.jsx(Vt,{id:"adres",placeholder:"Tam adresiniz...",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]}),l&&b.jsx("p",{className:"text-sm text-red-400 font-medium",children:l}),b.jsx(yt,{type:"submit",className:"w-full bg-primary hover:bg-primary/90 text-black font-bold",disabled:n,children:n?b.jsx(sg,{className:"mr-2 h-4 w-4 animate-spin"}):"Hesap Oluştur"})]})}),b.jsx(cg,{className:"flex justify-center",children:b.jsxs("p",{className:"text-sm text-slate-500",children:["Zaten hesabınız var mı?"," ",b.jsx(Va,{to:"/login",className:"text-primary hover:underline font-medium",children:"Giriş Yap"})]})})]})]})}function Kz(e,t=[]){let n=[];function r(o,c){const f=g.createContext(c);f.displayName=o+"Context";const d=n.length;n=[...n,c];const h=p=>{const{scope:x,children:w,...A}=p,O=x?.[e]?.[d]||f,E=g.useMemo(()=>A,Object.values(A));return b.jsx(O.Provider,{value:E,children:w})};h.displayName=o+"Provider";function m(p,x){const w=x?.[e]?.[d]||f,A=g.useContext(w);if(A)return A;if(c!==void 0)return c;throw new Error(`\`${p}\` must be used within \`${o}\``)}return[h,m]}const l=()=>{const o=n.map(c=>g.createContext(c));return function(f){const d=f?.[e]||o;return g.useMemo(()=>({[`__scope${e}`]:{...f,[e]:d}}),[f,d])}};return l.scopeName=e,[r,Gz(l,...t)]}function Gz(...e){const t=e[0];if(e.length===1)return t;const n=()=>{const r=e.map(l=>({useScope:l(),scopeName:l.scopeName}));return function(o){const c=r.reduce((f,{useScope:d,scopeName:h})=>{const p=d(o)[`__scope${h}`];return{...f,...p}},{});return g.useMemo(()=>({[`__scope${t.scopeName}`]:c}),[c])}};return n.scopeName=t.scopeName,n}var dg="Progress",hg=100,[Vz]=Kz(dg),[Xz,Fz]=Vz(dg),xj=g.forwardRef((e,t)=>{const{__scopeProgress:n,value:r=null,max:l,getValueLabel:o=Wz,...c}=e;(l||l===0)&&!ES(l)&&console.error(Zz(`${l}`,"Progress"));const f=ES(l)?l:hg;r!==null&&!OS(r,f)&&console.error(Qz(`${r}`,"Progress"));const d=OS(r,f)?r:null,h=ff(d)?o(d,f):void 0;return b.jsx(Xz,{scope:n,value:d,max:f,children:b.jsx(ug.div,{"aria-valuemax":f,"aria-valuemin":0,"aria-valuenow":ff(d)?d:void 0,"aria-valuetext":h,role:"progressbar","data-state":Ej(d,f),"data-value":d??void 0,"data-max":f,...c,ref:t})})});xj.displayName=dg;var wj="ProgressIndicator",Sj=g.forwardRef((e,t)=>{const{__scopeProgress:n,...r}=e,l=Fz(wj,n);return b.jsx(ug.div,{"data-state":Ej(l.value,l.max),"data-value":l.value??void 0,"data-max":l.max,...r,ref:t})});Sj.displayName=wj;function Wz(e,t){return`${Math.round(e/t*100)}%`}function Ej(e,t){return e==null?"indeterminate":e===t?"complete":"loading"}function ff(e){return typeof e=="number"}function ES(e){return ff(e)&&!isNaN(e)&&e>0}function OS(e,t){return ff(e)&&!isNaN(e)&&e<=t&&e>=0}function Zz(e,t){return`Invalid prop \`max\` of value \`${e}\` supplied to \`${t}\`. Only numbers greater than 0 are valid max values. Defaulting to \`${hg}\`.`}function Qz(e,t){return`Invalid prop \`value\` of value \`${e}\` supplied to \`${t}\`. The \`value\` prop must be:
-  - a positive number
-  - less than the value passed to \`max\` (or ${hg} if no \`max\` prop is set)
-  - \`null\` or \`undefined\` if the progress is indeterminate.
-
-Defaulting to \`null\`.`}var Oj=xj,Jz=Sj;const bu=g.forwardRef(({className:e,value:t,...n},r)=>b.jsx(Oj,{ref:r,className:Ve("relative h-4 w-full overflow-hidden rounded-full bg-secondary",e),...n,children:b.jsx(Jz,{className:"h-full w-full flex-1 bg-primary transition-all",style:{transform:`translateX(-${100-(t||0)}%)`}})}));bu.displayName=Oj.displayName;const Rl=g.forwardRef(({className:e,...t},n)=>b.jsx("div",{className:"relative w-full overflow-auto",children:b.jsx("table",{ref:n,className:Ve("w-full caption-bottom text-sm",e),...t})}));Rl.displayName="Table";const zl=g.forwardRef(({className:e,...t},n)=>b.jsx("thead",{ref:n,className:Ve("[&_tr]:border-b",e),...t}));zl.displayName="TableHeader";const Ll=g.forwardRef(({className:e,...t},n)=>b.jsx("tbody",{ref:n,className:Ve("[&_tr:last-child]:border-0",e),...t}));Ll.displayName="TableBody";const e4=g.forwardRef(({className:e,...t},n)=>b.jsx("tfoot",{ref:n,className:Ve("border-t bg-muted/50 font-medium [&>tr]:last:border-b-0",e),...t}));e4.displayName="TableFooter";const pn=g.forwardRef(({className:e,...t},n)=>b.jsx("tr",{ref:n,className:Ve("border-b transition-colors hover:bg-muted/50 data-[state=selected]:bg-muted",e),...t}));pn.displayName="TableRow";const ft=g.forwardRef(({className:e,...t},n)=>b.jsx("th",{ref:n,className:Ve("h-12 px-4 text-left align-middle font-medium text-muted-foreground [&:has([role=checkbox])]:pr-0",e),...t}));ft.displayName="TableHead";const Je=g.forwardRef(({className:e,...t},n)=>b.jsx("td",{ref:n,className:Ve("p-4 align-middle [&:has([role=checkbox])]:pr-0",e),...t}));Je.displayName="TableCell";const t4=g.forwardRef(({className:e,...t},n)=>b.jsx("caption",{ref:n,className:Ve("mt-4 text-sm text-muted-foreground",e),...t}));t4.displayName="TableCaption";var n4=["dangerouslySetInnerHTML","onCopy","onCopyCapture","onCut","onCutCapture","onPaste","onPasteCapture","onCompositionEnd","onCompositionEndCapture","onCompositionStart","onCompositionStartCapture","onCompositionUpdate","onCompositionUpdateCapture","onFocus","onFocusCapture","onBlur","onBlurCapture","onChange","onChangeCapture","onBeforeInput","onBeforeInputCapture","onInput","onInputCapture","onReset","onResetCapture","onSubmit","onSubmitCapture","onInvalid","onInvalidCapture","onLoad","onLoadCapture","onError","onErrorCapture","onKeyDown","onKeyDownCapture","onKeyPress","onKeyPressCapture","onKeyUp","onKeyUpCapture","onAbort","onAbortCapture","onCanPlay","onCanPlayCapture","onCanPlayThrough","onCanPlayThroughCapture","onDurationChange","onDurationChangeCapture","onEmptied","onEmptiedCapture","onEncrypted","onEncryptedCapture","onEnded","onEndedCapture","onLoadedData","onLoadedDataCapture","onLoadedMetadata","onLoadedMetadataCapture","onLoadStart","onLoadStartCapture","onPause","onPauseCapture","onPlay","onPlayCapture","onPlaying","onPlayingCapture","onProgress","onProgressCapture","onRateChange","onRateChangeCapture","onSeeked","onSeekedCapture","onSeeking","onSeekingCapture","onStalled","onStalledCapture","onSuspend","onSuspendCapture","onTimeUpdate","onTimeUpdateCapture","onVolumeChange","onVolumeChangeCapture","onWaiting","onWaitingCapture","onAuxClick","onAuxClickCapture","onClick","onClickCapture","onContextMenu","onContextMenuCapture","onDoubleClick","onDoubleClickCapture","onDrag","onDragCapture","onDragEnd","onDragEndCapture","onDragEnter","onDragEnterCapture","onDragExit","onDragExitCapture","onDragLeave","onDragLeaveCapture","onDragOver","onDragOverCapture","onDragStart","onDragStartCapture","onDrop","onDropCapture","onMouseDown","onMouseDownCapture","onMouseEnter","onMouseLeave","onMouseMove","onMouseMoveCapture","onMouseOut","onMouseOutCapture","onMouseOver","onMouseOverCapture","onMouseUp","onMouseUpCapture","onSelect","onSelectCapture","onTouchCancel","onTouchCancelCapture","onTouchEnd","onTouchEndCapture","onTouchMove","onTouchMoveCapture","onTouchStart","onTouchStartCapture","onPointerDown","onPointerDownCapture","onPointerMove","onPointerMoveCapture","onPointerUp","onPointerUpCapture","onPointerCancel","onPointerCancelCapture","onPointerEnter","onPointerEnterCapture","onPointerLeave","onPointerLeaveCapture","onPointerOver","onPointerOverCapture","onPointerOut","onPointerOutCapture","onGotPointerCapture","onGotPointerCaptureCapture","onLostPointerCapture","onLostPointerCaptureCapture","onScroll","onScrollCapture","onWheel","onWheelCapture","onAnimationStart","onAnimationStartCapture","onAnimationEnd","onAnimationEndCapture","onAnimationIteration","onAnimationIterationCapture","onTransitionEnd","onTransitionEndCapture"];function mg(e){if(typeof e!="string")return!1;var t=n4;return t.includes(e)}var r4=["aria-activedescendant","aria-atomic","aria-autocomplete","aria-busy","aria-checked","aria-colcount","aria-colindex","aria-colspan","aria-controls","aria-current","aria-describedby","aria-details","aria-disabled","aria-errormessage","aria-expanded","aria-flowto","aria-haspopup","aria-hidden","aria-invalid","aria-keyshortcuts","aria-label","aria-labelledby","aria-level","aria-live","aria-modal","aria-multiline","aria-multiselectable","aria-orientation","aria-owns","aria-placeholder","aria-posinset","aria-pressed","aria-readonly","aria-relevant","aria-required","aria-roledescription","aria-rowcount","aria-rowindex","aria-rowspan","aria-selected","aria-setsize","aria-sort","aria-valuemax","aria-valuemin","aria-valuenow","aria-valuetext","className","color","height","id","lang","max","media","method","min","name","style","target","width","role","tabIndex","accentHeight","accumulate","additive","alignmentBaseline","allowReorder","alphabetic","amplitude","arabicForm","ascent","attributeName","attributeType","autoReverse","azimuth","baseFrequency","baselineShift","baseProfile","bbox","begin","bias","by","calcMode","capHeight","clip","clipPath","clipPathUnits","clipRule","colorInterpolation","colorInterpolationFilters","colorProfile","colorRendering","contentScriptType","contentStyleType","cursor","cx","cy","d","decelerate","descent","diffuseConstant","direction","display","divisor","dominantBaseline","dur","dx","dy","edgeMode","elevation","enableBackground","end","exponent","externalResourcesRequired","fill","fillOpacity","fillRule","filter","filterRes","filterUnits","floodColor","floodOpacity","focusable","fontFamily","fontSize","fontSizeAdjust","fontStretch","fontStyle","fontVariant","fontWeight","format","from","fx","fy","g1","g2","glyphName","glyphOrientationHorizontal","glyphOrientationVertical","glyphRef","gradientTransform","gradientUnits","hanging","horizAdvX","horizOriginX","href","ideographic","imageRendering","in2","in","intercept","k1","k2","k3","k4","k","kernelMatrix","kernelUnitLength","kerning","keyPoints","keySplines","keyTimes","lengthAdjust","letterSpacing","lightingColor","limitingConeAngle","local","markerEnd","markerHeight","markerMid","markerStart","markerUnits","markerWidth","mask","maskContentUnits","maskUnits","mathematical","mode","numOctaves","offset","opacity","operator","order","orient","orientation","origin","overflow","overlinePosition","overlineThickness","paintOrder","panose1","pathLength","patternContentUnits","patternTransform","patternUnits","pointerEvents","pointsAtX","pointsAtY","pointsAtZ","preserveAlpha","preserveAspectRatio","primitiveUnits","r","radius","refX","refY","renderingIntent","repeatCount","repeatDur","requiredExtensions","requiredFeatures","restart","result","rotate","rx","ry","seed","shapeRendering","slope","spacing","specularConstant","specularExponent","speed","spreadMethod","startOffset","stdDeviation","stemh","stemv","stitchTiles","stopColor","stopOpacity","strikethroughPosition","strikethroughThickness","string","stroke","strokeDasharray","strokeDashoffset","strokeLinecap","strokeLinejoin","strokeMiterlimit","strokeOpacity","strokeWidth","surfaceScale","systemLanguage","tableValues","targetX","targetY","textAnchor","textDecoration","textLength","textRendering","to","transform","u1","u2","underlinePosition","underlineThickness","unicode","unicodeBidi","unicodeRange","unitsPerEm","vAlphabetic","values","vectorEffect","version","vertAdvY","vertOriginX","vertOriginY","vHanging","vIdeographic","viewTarget","visibility","vMathematical","widths","wordSpacing","writingMode","x1","x2","x","xChannelSelector","xHeight","xlinkActuate","xlinkArcrole","xlinkHref","xlinkRole","xlinkShow","xlinkTitle","xlinkType","xmlBase","xmlLang","xmlns","xmlnsXlink","xmlSpace","y1","y2","y","yChannelSelector","z","zoomAndPan","ref","key","angle"],a4=new Set(r4);function Aj(e){return typeof e!="string"?!1:a4.has(e)}function jj(e){return typeof e=="string"&&e.startsWith("data-")}function cr(e){if(typeof e!="object"||e===null)return{};var t={};for(var n in e)Object.prototype.hasOwnProperty.call(e,n)&&(Aj(n)||jj(n))&&(t[n]=e[n]);return t}function ad(e){if(e==null)return null;if(g.isValidElement(e)&&typeof e.props=="object"&&e.props!==null){var t=e.props;return cr(t)}return typeof e=="object"&&!Array.isArray(e)?cr(e):null}function Wn(e){var t={};for(var n in e)Object.prototype.hasOwnProperty.call(e,n)&&(Aj(n)||jj(n)||mg(n))&&(t[n]=e[n]);return t}function i4(e){return e==null?null:g.isValidElement(e)?Wn(e.props):typeof e=="object"&&!Array.isArray(e)?Wn(e):null}var l4=["children","width","height","viewBox","className","style","title","desc"];function ny(){return ny=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},ny.apply(null,arguments)}function o4(e,t){if(e==null)return{};var n,r,l=u4(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function u4(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var Nj=g.forwardRef((e,t)=>{var{children:n,width:r,height:l,viewBox:o,className:c,style:f,title:d,desc:h}=e,m=o4(e,l4),p=o||{width:r,height:l,x:0,y:0},x=Ge("recharts-surface",c);return g.createElement("svg",ny({},Wn(m),{className:x,width:r,height:l,style:f,viewBox:"".concat(p.x," ").concat(p.y," ").concat(p.width," ").concat(p.height),ref:t}),g.createElement("title",null,d),g.createElement("desc",null,h),n)}),c4=["children","className"];function ry(){return ry=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},ry.apply(null,arguments)}function s4(e,t){if(e==null)return{};var n,r,l=f4(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function f4(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var wr=g.forwardRef((e,t)=>{var{children:n,className:r}=e,l=s4(e,c4),o=Ge("recharts-layer",r);return g.createElement("g",ry({className:o},Wn(l),{ref:t}),n)}),d4=g.createContext(null);function lt(e){return function(){return e}}const ay=Math.PI,iy=2*ay,xi=1e-6,h4=iy-xi;function Cj(e){this._+=e[0];for(let t=1,n=e.length;t<n;++t)this._+=arguments[t]+e[t]}function m4(e){let t=Math.floor(e);if(!(t>=0))throw new Error(`invalid digits: ${e}`);if(t>15)return Cj;const n=10**t;return function(r){this._+=r[0];for(let l=1,o=r.length;l<o;++l)this._+=Math.round(arguments[l]*n)/n+r[l]}}class v4{constructor(t){this._x0=this._y0=this._x1=this._y1=null,this._="",this._append=t==null?Cj:m4(t)}moveTo(t,n){this._append`M${this._x0=this._x1=+t},${this._y0=this._y1=+n}`}closePath(){this._x1!==null&&(this._x1=this._x0,this._y1=this._y0,this._append`Z`)}lineTo(t,n){this._append`L${this._x1=+t},${this._y1=+n}`}quadraticCurveTo(t,n,r,l){this._append`Q${+t},${+n},${this._x1=+r},${this._y1=+l}`}bezierCurveTo(t,n,r,l,o,c){this._append`C${+t},${+n},${+r},${+l},${this._x1=+o},${this._y1=+c}`}arcTo(t,n,r,l,o){if(t=+t,n=+n,r=+r,l=+l,o=+o,o<0)throw new Error(`negative radius: ${o}`);let c=this._x1,f=this._y1,d=r-t,h=l-n,m=c-t,p=f-n,x=m*m+p*p;if(this._x1===null)this._append`M${this._x1=t},${this._y1=n}`;else if(x>xi)if(!(Math.abs(p*d-h*m)>xi)||!o)this._append`L${this._x1=t},${this._y1=n}`;else{let w=r-c,A=l-f,O=d*d+h*h,E=w*w+A*A,j=Math.sqrt(O),_=Math.sqrt(x),C=o*Math.tan((ay-Math.acos((O+x-E)/(2*j*_)))/2),D=C/_,T=C/j;Math.abs(D-1)>xi&&this._append`L${t+D*m},${n+D*p}`,this._append`A${o},${o},0,0,${+(p*w>m*A)},${this._x1=t+T*d},${this._y1=n+T*h}`}}arc(t,n,r,l,o,c){if(t=+t,n=+n,r=+r,c=!!c,r<0)throw new Error(`negative radius: ${r}`);let f=r*Math.cos(l),d=r*Math.sin(l),h=t+f,m=n+d,p=1^c,x=c?l-o:o-l;this._x1===null?this._append`M${h},${m}`:(Math.abs(this._x1-h)>xi||Math.abs(this._y1-m)>xi)&&this._append`L${h},${m}`,r&&(x<0&&(x=x%iy+iy),x>h4?this._append`A${r},${r},0,1,${p},${t-f},${n-d}A${r},${r},0,1,${p},${this._x1=h},${this._y1=m}`:x>xi&&this._append`A${r},${r},0,${+(x>=ay)},${p},${this._x1=t+r*Math.cos(o)},${this._y1=n+r*Math.sin(o)}`)}rect(t,n,r,l){this._append`M${this._x0=this._x1=+t},${this._y0=this._y1=+n}h${r=+r}v${+l}h${-r}Z`}toString(){return this._}}function _j(e){let t=3;return e.digits=function(n){if(!arguments.length)return t;if(n==null)t=null;else{const r=Math.floor(n);if(!(r>=0))throw new RangeError(`invalid digits: ${n}`);t=r}return e},()=>new v4(t)}function vg(e){return typeof e=="object"&&"length"in e?e:Array.from(e)}function Tj(e){this._context=e}Tj.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._point=0},lineEnd:function(){(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line=1-this._line},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1,this._line?this._context.lineTo(e,t):this._context.moveTo(e,t);break;case 1:this._point=2;default:this._context.lineTo(e,t);break}}};function id(e){return new Tj(e)}function Mj(e){return e[0]}function Dj(e){return e[1]}function kj(e,t){var n=lt(!0),r=null,l=id,o=null,c=_j(f);e=typeof e=="function"?e:e===void 0?Mj:lt(e),t=typeof t=="function"?t:t===void 0?Dj:lt(t);function f(d){var h,m=(d=vg(d)).length,p,x=!1,w;for(r==null&&(o=l(w=c())),h=0;h<=m;++h)!(h<m&&n(p=d[h],h,d))===x&&((x=!x)?o.lineStart():o.lineEnd()),x&&o.point(+e(p,h,d),+t(p,h,d));if(w)return o=null,w+""||null}return f.x=function(d){return arguments.length?(e=typeof d=="function"?d:lt(+d),f):e},f.y=function(d){return arguments.length?(t=typeof d=="function"?d:lt(+d),f):t},f.defined=function(d){return arguments.length?(n=typeof d=="function"?d:lt(!!d),f):n},f.curve=function(d){return arguments.length?(l=d,r!=null&&(o=l(r)),f):l},f.context=function(d){return arguments.length?(d==null?r=o=null:o=l(r=d),f):r},f}function Ts(e,t,n){var r=null,l=lt(!0),o=null,c=id,f=null,d=_j(h);e=typeof e=="function"?e:e===void 0?Mj:lt(+e),t=typeof t=="function"?t:lt(t===void 0?0:+t),n=typeof n=="function"?n:n===void 0?Dj:lt(+n);function h(p){var x,w,A,O=(p=vg(p)).length,E,j=!1,_,C=new Array(O),D=new Array(O);for(o==null&&(f=c(_=d())),x=0;x<=O;++x){if(!(x<O&&l(E=p[x],x,p))===j)if(j=!j)w=x,f.areaStart(),f.lineStart();else{for(f.lineEnd(),f.lineStart(),A=x-1;A>=w;--A)f.point(C[A],D[A]);f.lineEnd(),f.areaEnd()}j&&(C[x]=+e(E,x,p),D[x]=+t(E,x,p),f.point(r?+r(E,x,p):C[x],n?+n(E,x,p):D[x]))}if(_)return f=null,_+""||null}function m(){return kj().defined(l).curve(c).context(o)}return h.x=function(p){return arguments.length?(e=typeof p=="function"?p:lt(+p),r=null,h):e},h.x0=function(p){return arguments.length?(e=typeof p=="function"?p:lt(+p),h):e},h.x1=function(p){return arguments.length?(r=p==null?null:typeof p=="function"?p:lt(+p),h):r},h.y=function(p){return arguments.length?(t=typeof p=="function"?p:lt(+p),n=null,h):t},h.y0=function(p){return arguments.length?(t=typeof p=="function"?p:lt(+p),h):t},h.y1=function(p){return arguments.length?(n=p==null?null:typeof p=="function"?p:lt(+p),h):n},h.lineX0=h.lineY0=function(){return m().x(e).y(t)},h.lineY1=function(){return m().x(e).y(n)},h.lineX1=function(){return m().x(r).y(t)},h.defined=function(p){return arguments.length?(l=typeof p=="function"?p:lt(!!p),h):l},h.curve=function(p){return arguments.length?(c=p,o!=null&&(f=c(o)),h):c},h.context=function(p){return arguments.length?(p==null?o=f=null:f=c(o=p),h):o},h}class Pj{constructor(t,n){this._context=t,this._x=n}areaStart(){this._line=0}areaEnd(){this._line=NaN}lineStart(){this._point=0}lineEnd(){(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line=1-this._line}point(t,n){switch(t=+t,n=+n,this._point){case 0:{this._point=1,this._line?this._context.lineTo(t,n):this._context.moveTo(t,n);break}case 1:this._point=2;default:{this._x?this._context.bezierCurveTo(this._x0=(this._x0+t)/2,this._y0,this._x0,n,t,n):this._context.bezierCurveTo(this._x0,this._y0=(this._y0+n)/2,t,this._y0,t,n);break}}this._x0=t,this._y0=n}}function p4(e){return new Pj(e,!0)}function y4(e){return new Pj(e,!1)}function df(){}function hf(e,t,n){e._context.bezierCurveTo((2*e._x0+e._x1)/3,(2*e._y0+e._y1)/3,(e._x0+2*e._x1)/3,(e._y0+2*e._y1)/3,(e._x0+4*e._x1+t)/6,(e._y0+4*e._y1+n)/6)}function Rj(e){this._context=e}Rj.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x0=this._x1=this._y0=this._y1=NaN,this._point=0},lineEnd:function(){switch(this._point){case 3:hf(this,this._x1,this._y1);case 2:this._context.lineTo(this._x1,this._y1);break}(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line=1-this._line},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1,this._line?this._context.lineTo(e,t):this._context.moveTo(e,t);break;case 1:this._point=2;break;case 2:this._point=3,this._context.lineTo((5*this._x0+this._x1)/6,(5*this._y0+this._y1)/6);default:hf(this,e,t);break}this._x0=this._x1,this._x1=e,this._y0=this._y1,this._y1=t}};function g4(e){return new Rj(e)}function zj(e){this._context=e}zj.prototype={areaStart:df,areaEnd:df,lineStart:function(){this._x0=this._x1=this._x2=this._x3=this._x4=this._y0=this._y1=this._y2=this._y3=this._y4=NaN,this._point=0},lineEnd:function(){switch(this._point){case 1:{this._context.moveTo(this._x2,this._y2),this._context.closePath();break}case 2:{this._context.moveTo((this._x2+2*this._x3)/3,(this._y2+2*this._y3)/3),this._context.lineTo((this._x3+2*this._x2)/3,(this._y3+2*this._y2)/3),this._context.closePath();break}case 3:{this.point(this._x2,this._y2),this.point(this._x3,this._y3),this.point(this._x4,this._y4);break}}},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1,this._x2=e,this._y2=t;break;case 1:this._point=2,this._x3=e,this._y3=t;break;case 2:this._point=3,this._x4=e,this._y4=t,this._context.moveTo((this._x0+4*this._x1+e)/6,(this._y0+4*this._y1+t)/6);break;default:hf(this,e,t);break}this._x0=this._x1,this._x1=e,this._y0=this._y1,this._y1=t}};function b4(e){return new zj(e)}function Lj(e){this._context=e}Lj.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x0=this._x1=this._y0=this._y1=NaN,this._point=0},lineEnd:function(){(this._line||this._line!==0&&this._point===3)&&this._context.closePath(),this._line=1-this._line},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1;break;case 1:this._point=2;break;case 2:this._point=3;var n=(this._x0+4*this._x1+e)/6,r=(this._y0+4*this._y1+t)/6;this._line?this._context.lineTo(n,r):this._context.moveTo(n,r);break;case 3:this._point=4;default:hf(this,e,t);break}this._x0=this._x1,this._x1=e,this._y0=this._y1,this._y1=t}};function x4(e){return new Lj(e)}function Bj(e){this._context=e}Bj.prototype={areaStart:df,areaEnd:df,lineStart:function(){this._point=0},lineEnd:function(){this._point&&this._context.closePath()},point:function(e,t){e=+e,t=+t,this._point?this._context.lineTo(e,t):(this._point=1,this._context.moveTo(e,t))}};function w4(e){return new Bj(e)}function AS(e){return e<0?-1:1}function jS(e,t,n){var r=e._x1-e._x0,l=t-e._x1,o=(e._y1-e._y0)/(r||l<0&&-0),c=(n-e._y1)/(l||r<0&&-0),f=(o*l+c*r)/(r+l);return(AS(o)+AS(c))*Math.min(Math.abs(o),Math.abs(c),.5*Math.abs(f))||0}function NS(e,t){var n=e._x1-e._x0;return n?(3*(e._y1-e._y0)/n-t)/2:t}function vv(e,t,n){var r=e._x0,l=e._y0,o=e._x1,c=e._y1,f=(o-r)/3;e._context.bezierCurveTo(r+f,l+f*t,o-f,c-f*n,o,c)}function mf(e){this._context=e}mf.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x0=this._x1=this._y0=this._y1=this._t0=NaN,this._point=0},lineEnd:function(){switch(this._point){case 2:this._context.lineTo(this._x1,this._y1);break;case 3:vv(this,this._t0,NS(this,this._t0));break}(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line=1-this._line},point:function(e,t){var n=NaN;if(e=+e,t=+t,!(e===this._x1&&t===this._y1)){switch(this._point){case 0:this._point=1,this._line?this._context.lineTo(e,t):this._context.moveTo(e,t);break;case 1:this._point=2;break;case 2:this._point=3,vv(this,NS(this,n=jS(this,e,t)),n);break;default:vv(this,this._t0,n=jS(this,e,t));break}this._x0=this._x1,this._x1=e,this._y0=this._y1,this._y1=t,this._t0=n}}};function Uj(e){this._context=new Ij(e)}(Uj.prototype=Object.create(mf.prototype)).point=function(e,t){mf.prototype.point.call(this,t,e)};function Ij(e){this._context=e}Ij.prototype={moveTo:function(e,t){this._context.moveTo(t,e)},closePath:function(){this._context.closePath()},lineTo:function(e,t){this._context.lineTo(t,e)},bezierCurveTo:function(e,t,n,r,l,o){this._context.bezierCurveTo(t,e,r,n,o,l)}};function S4(e){return new mf(e)}function E4(e){return new Uj(e)}function qj(e){this._context=e}qj.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x=[],this._y=[]},lineEnd:function(){var e=this._x,t=this._y,n=e.length;if(n)if(this._line?this._context.lineTo(e[0],t[0]):this._context.moveTo(e[0],t[0]),n===2)this._context.lineTo(e[1],t[1]);else for(var r=CS(e),l=CS(t),o=0,c=1;c<n;++o,++c)this._context.bezierCurveTo(r[0][o],l[0][o],r[1][o],l[1][o],e[c],t[c]);(this._line||this._line!==0&&n===1)&&this._context.closePath(),this._line=1-this._line,this._x=this._y=null},point:function(e,t){this._x.push(+e),this._y.push(+t)}};function CS(e){var t,n=e.length-1,r,l=new Array(n),o=new Array(n),c=new Array(n);for(l[0]=0,o[0]=2,c[0]=e[0]+2*e[1],t=1;t<n-1;++t)l[t]=1,o[t]=4,c[t]=4*e[t]+2*e[t+1];for(l[n-1]=2,o[n-1]=7,c[n-1]=8*e[n-1]+e[n],t=1;t<n;++t)r=l[t]/o[t-1],o[t]-=r,c[t]-=r*c[t-1];for(l[n-1]=c[n-1]/o[n-1],t=n-2;t>=0;--t)l[t]=(c[t]-l[t+1])/o[t];for(o[n-1]=(e[n]+l[n-1])/2,t=0;t<n-1;++t)o[t]=2*e[t+1]-l[t+1];return[l,o]}function O4(e){return new qj(e)}function ld(e,t){this._context=e,this._t=t}ld.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x=this._y=NaN,this._point=0},lineEnd:function(){0<this._t&&this._t<1&&this._point===2&&this._context.lineTo(this._x,this._y),(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line>=0&&(this._t=1-this._t,this._line=1-this._line)},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1,this._line?this._context.lineTo(e,t):this._context.moveTo(e,t);break;case 1:this._point=2;default:{if(this._t<=0)this._context.lineTo(this._x,t),this._context.lineTo(e,t);else{var n=this._x*(1-this._t)+e*this._t;this._context.lineTo(n,this._y),this._context.lineTo(n,t)}break}}this._x=e,this._y=t}};function A4(e){return new ld(e,.5)}function j4(e){return new ld(e,0)}function N4(e){return new ld(e,1)}function ql(e,t){if((c=e.length)>1)for(var n=1,r,l,o=e[t[0]],c,f=o.length;n<c;++n)for(l=o,o=e[t[n]],r=0;r<f;++r)o[r][1]+=o[r][0]=isNaN(l[r][1])?l[r][0]:l[r][1]}function ly(e){for(var t=e.length,n=new Array(t);--t>=0;)n[t]=t;return n}function C4(e,t){return e[t]}function _4(e){const t=[];return t.key=e,t}function T4(){var e=lt([]),t=ly,n=ql,r=C4;function l(o){var c=Array.from(e.apply(this,arguments),_4),f,d=c.length,h=-1,m;for(const p of o)for(f=0,++h;f<d;++f)(c[f][h]=[0,+r(p,c[f].key,h,o)]).data=p;for(f=0,m=vg(t(c));f<d;++f)c[m[f]].index=f;return n(c,m),c}return l.keys=function(o){return arguments.length?(e=typeof o=="function"?o:lt(Array.from(o)),l):e},l.value=function(o){return arguments.length?(r=typeof o=="function"?o:lt(+o),l):r},l.order=function(o){return arguments.length?(t=o==null?ly:typeof o=="function"?o:lt(Array.from(o)),l):t},l.offset=function(o){return arguments.length?(n=o??ql,l):n},l}function M4(e,t){if((r=e.length)>0){for(var n,r,l=0,o=e[0].length,c;l<o;++l){for(c=n=0;n<r;++n)c+=e[n][l][1]||0;if(c)for(n=0;n<r;++n)e[n][l][1]/=c}ql(e,t)}}function D4(e,t){if((l=e.length)>0){for(var n=0,r=e[t[0]],l,o=r.length;n<o;++n){for(var c=0,f=0;c<l;++c)f+=e[c][n][1]||0;r[n][1]+=r[n][0]=-f/2}ql(e,t)}}function k4(e,t){if(!(!((c=e.length)>0)||!((o=(l=e[t[0]]).length)>0))){for(var n=0,r=1,l,o,c;r<o;++r){for(var f=0,d=0,h=0;f<c;++f){for(var m=e[t[f]],p=m[r][1]||0,x=m[r-1][1]||0,w=(p-x)/2,A=0;A<f;++A){var O=e[t[A]],E=O[r][1]||0,j=O[r-1][1]||0;w+=E-j}d+=p,h+=w*p}l[r-1][1]+=l[r-1][0]=n,d&&(n-=h/d)}l[r-1][1]+=l[r-1][0]=n,ql(e,t)}}var pv={},yv={},_S;function P4(){return _S||(_S=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n==="__proto__"}e.isUnsafeProperty=t})(yv)),yv}var gv={},TS;function Hj(){return TS||(TS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){switch(typeof n){case"number":case"symbol":return!1;case"string":return n.includes(".")||n.includes("[")||n.includes("]")}}e.isDeepKey=t})(gv)),gv}var bv={},MS;function pg(){return MS||(MS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return typeof n=="string"||typeof n=="symbol"?n:Object.is(n?.valueOf?.(),-0)?"-0":String(n)}e.toKey=t})(bv)),bv}var xv={},wv={},DS;function R4(){return DS||(DS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){if(n==null)return"";if(typeof n=="string")return n;if(Array.isArray(n))return n.map(t).join(",");const r=String(n);return r==="0"&&Object.is(Number(n),-0)?"-0":r}e.toString=t})(wv)),wv}var kS;function yg(){return kS||(kS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=R4(),n=pg();function r(l){if(Array.isArray(l))return l.map(n.toKey);if(typeof l=="symbol")return[l];l=t.toString(l);const o=[],c=l.length;if(c===0)return o;let f=0,d="",h="",m=!1;for(l.charCodeAt(0)===46&&(o.push(""),f++);f<c;){const p=l[f];h?p==="\\"&&f+1<c?(f++,d+=l[f]):p===h?h="":d+=p:m?p==='"'||p==="'"?h=p:p==="]"?(m=!1,o.push(d),d=""):d+=p:p==="["?(m=!0,d&&(o.push(d),d="")):p==="."?d&&(o.push(d),d=""):d+=p,f++}return d&&o.push(d),o}e.toPath=r})(xv)),xv}var PS;function gg(){return PS||(PS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=P4(),n=Hj(),r=pg(),l=yg();function o(f,d,h){if(f==null)return h;switch(typeof d){case"string":{if(t.isUnsafeProperty(d))return h;const m=f[d];return m===void 0?n.isDeepKey(d)?o(f,l.toPath(d),h):h:m}case"number":case"symbol":{typeof d=="number"&&(d=r.toKey(d));const m=f[d];return m===void 0?h:m}default:{if(Array.isArray(d))return c(f,d,h);if(Object.is(d?.valueOf(),-0)?d="-0":d=String(d),t.isUnsafeProperty(d))return h;const m=f[d];return m===void 0?h:m}}}function c(f,d,h){if(d.length===0)return h;let m=f;for(let p=0;p<d.length;p++){if(m==null||t.isUnsafeProperty(d[p]))return h;m=m[d[p]]}return m===void 0?h:m}e.get=o})(pv)),pv}var Sv,RS;function z4(){return RS||(RS=1,Sv=gg().get),Sv}var L4=z4();const od=oa(L4);var Vn=e=>e===0?0:e>0?1:-1,sr=e=>typeof e=="number"&&e!=+e,ta=e=>typeof e=="string"&&e.indexOf("%")===e.length-1,de=e=>(typeof e=="number"||e instanceof Number)&&!sr(e),Sr=e=>de(e)||typeof e=="string",B4=0,Su=e=>{var t=++B4;return"".concat(e||"").concat(t)},Wa=function(t,n){var r=arguments.length>2&&arguments[2]!==void 0?arguments[2]:0,l=arguments.length>3&&arguments[3]!==void 0?arguments[3]:!1;if(!de(t)&&typeof t!="string")return r;var o;if(ta(t)){if(n==null)return r;var c=t.indexOf("%");o=n*parseFloat(t.slice(0,c))/100}else o=+t;return sr(o)&&(o=r),l&&n!=null&&o>n&&(o=n),o},$j=e=>{if(!Array.isArray(e))return!1;for(var t=e.length,n={},r=0;r<t;r++)if(!n[e[r]])n[e[r]]=!0;else return!0;return!1};function yr(e,t,n){return de(e)&&de(t)?e+n*(t-e):t}function Yj(e,t,n){if(!(!e||!e.length))return e.find(r=>r&&(typeof t=="function"?t(r):od(r,t))===n)}var Wt=e=>e===null||typeof e>"u",bg=e=>Wt(e)?e:"".concat(e.charAt(0).toUpperCase()).concat(e.slice(1));function U4(e){return e!=null}function Hu(){}var Kj=e=>"radius"in e&&"startAngle"in e&&"endAngle"in e,xg=(e,t)=>{if(!e||typeof e=="function"||typeof e=="boolean")return null;var n=e;if(g.isValidElement(e)&&(n=e.props),typeof n!="object"&&typeof n!="function")return null;var r={};return Object.keys(n).forEach(l=>{mg(l)&&(r[l]=(o=>n[l](n,o)))}),r},I4=(e,t,n)=>r=>(e(t,n,r),null),q4=(e,t,n)=>{if(e===null||typeof e!="object"&&typeof e!="function")return null;var r=null;return Object.keys(e).forEach(l=>{var o=e[l];mg(l)&&typeof o=="function"&&(r||(r={}),r[l]=I4(o,t,n))}),r};function zS(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function H4(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?zS(Object(n),!0).forEach(function(r){$4(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):zS(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function $4(e,t,n){return(t=Y4(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Y4(e){var t=K4(e,"string");return typeof t=="symbol"?t:t+""}function K4(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Rn(e,t){var n=H4({},e),r=t,l=Object.keys(t),o=l.reduce((c,f)=>(c[f]===void 0&&r[f]!==void 0&&(c[f]=r[f]),c),n);return o}var Ev={},Ov={},LS;function G4(){return LS||(LS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n,r){const l=new Map;for(let o=0;o<n.length;o++){const c=n[o],f=r(c);l.has(f)||l.set(f,c)}return Array.from(l.values())}e.uniqBy=t})(Ov)),Ov}var Av={},BS;function Gj(){return BS||(BS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n}e.identity=t})(Av)),Av}var jv={},Nv={},Cv={},US;function V4(){return US||(US=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return Number.isSafeInteger(n)&&n>=0}e.isLength=t})(Cv)),Cv}var IS;function wg(){return IS||(IS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=V4();function n(r){return r!=null&&typeof r!="function"&&t.isLength(r.length)}e.isArrayLike=n})(Nv)),Nv}var _v={},qS;function X4(){return qS||(qS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return typeof n=="object"&&n!==null}e.isObjectLike=t})(_v)),_v}var HS;function F4(){return HS||(HS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=wg(),n=X4();function r(l){return n.isObjectLike(l)&&t.isArrayLike(l)}e.isArrayLikeObject=r})(jv)),jv}var Tv={},Mv={},$S;function W4(){return $S||($S=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=gg();function n(r){return function(l){return t.get(l,r)}}e.property=n})(Mv)),Mv}var Dv={},kv={},Pv={},Rv={},YS;function Vj(){return YS||(YS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n!==null&&(typeof n=="object"||typeof n=="function")}e.isObject=t})(Rv)),Rv}var zv={},KS;function Xj(){return KS||(KS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n==null||typeof n!="object"&&typeof n!="function"}e.isPrimitive=t})(zv)),zv}var Lv={},GS;function Fj(){return GS||(GS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n,r){return n===r||Number.isNaN(n)&&Number.isNaN(r)}e.eq=t})(Lv)),Lv}var VS;function Z4(){return VS||(VS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Vj(),n=Xj(),r=Fj();function l(m,p,x){return typeof x!="function"?l(m,p,()=>{}):o(m,p,function w(A,O,E,j,_,C){const D=x(A,O,E,j,_,C);return D!==void 0?!!D:o(A,O,w,C)},new Map)}function o(m,p,x,w){if(p===m)return!0;switch(typeof p){case"object":return c(m,p,x,w);case"function":return Object.keys(p).length>0?o(m,{...p},x,w):r.eq(m,p);default:return t.isObject(m)?typeof p=="string"?p==="":!0:r.eq(m,p)}}function c(m,p,x,w){if(p==null)return!0;if(Array.isArray(p))return d(m,p,x,w);if(p instanceof Map)return f(m,p,x,w);if(p instanceof Set)return h(m,p,x,w);const A=Object.keys(p);if(m==null)return A.length===0;if(A.length===0)return!0;if(w?.has(p))return w.get(p)===m;w?.set(p,m);try{for(let O=0;O<A.length;O++){const E=A[O];if(!n.isPrimitive(m)&&!(E in m)||p[E]===void 0&&m[E]!==void 0||p[E]===null&&m[E]!==null||!x(m[E],p[E],E,m,p,w))return!1}return!0}finally{w?.delete(p)}}function f(m,p,x,w){if(p.size===0)return!0;if(!(m instanceof Map))return!1;for(const[A,O]of p.entries()){const E=m.get(A);if(x(E,O,A,m,p,w)===!1)return!1}return!0}function d(m,p,x,w){if(p.length===0)return!0;if(!Array.isArray(m))return!1;const A=new Set;for(let O=0;O<p.length;O++){const E=p[O];let j=!1;for(let _=0;_<m.length;_++){if(A.has(_))continue;const C=m[_];let D=!1;if(x(C,E,O,m,p,w)&&(D=!0),D){A.add(_),j=!0;break}}if(!j)return!1}return!0}function h(m,p,x,w){return p.size===0?!0:m instanceof Set?d([...m],[...p],x,w):!1}e.isMatchWith=l,e.isSetMatch=h})(Pv)),Pv}var XS;function Wj(){return XS||(XS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Z4();function n(r,l){return t.isMatchWith(r,l,()=>{})}e.isMatch=n})(kv)),kv}var Bv={},Uv={},Iv={},FS;function Q4(){return FS||(FS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return Object.getOwnPropertySymbols(n).filter(r=>Object.prototype.propertyIsEnumerable.call(n,r))}e.getSymbols=t})(Iv)),Iv}var qv={},WS;function Zj(){return WS||(WS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n==null?n===void 0?"[object Undefined]":"[object Null]":Object.prototype.toString.call(n)}e.getTag=t})(qv)),qv}var Hv={},ZS;function Qj(){return ZS||(ZS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t="[object RegExp]",n="[object String]",r="[object Number]",l="[object Boolean]",o="[object Arguments]",c="[object Symbol]",f="[object Date]",d="[object Map]",h="[object Set]",m="[object Array]",p="[object Function]",x="[object ArrayBuffer]",w="[object Object]",A="[object Error]",O="[object DataView]",E="[object Uint8Array]",j="[object Uint8ClampedArray]",_="[object Uint16Array]",C="[object Uint32Array]",D="[object BigUint64Array]",T="[object Int8Array]",R="[object Int16Array]",k="[object Int32Array]",I="[object BigInt64Array]",re="[object Float32Array]",ae="[object Float64Array]";e.argumentsTag=o,e.arrayBufferTag=x,e.arrayTag=m,e.bigInt64ArrayTag=I,e.bigUint64ArrayTag=D,e.booleanTag=l,e.dataViewTag=O,e.dateTag=f,e.errorTag=A,e.float32ArrayTag=re,e.float64ArrayTag=ae,e.functionTag=p,e.int16ArrayTag=R,e.int32ArrayTag=k,e.int8ArrayTag=T,e.mapTag=d,e.numberTag=r,e.objectTag=w,e.regexpTag=t,e.setTag=h,e.stringTag=n,e.symbolTag=c,e.uint16ArrayTag=_,e.uint32ArrayTag=C,e.uint8ArrayTag=E,e.uint8ClampedArrayTag=j})(Hv)),Hv}var $v={},QS;function J4(){return QS||(QS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return ArrayBuffer.isView(n)&&!(n instanceof DataView)}e.isTypedArray=t})($v)),$v}var JS;function Jj(){return JS||(JS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Q4(),n=Zj(),r=Qj(),l=Xj(),o=J4();function c(m,p){return f(m,void 0,m,new Map,p)}function f(m,p,x,w=new Map,A=void 0){const O=A?.(m,p,x,w);if(O!==void 0)return O;if(l.isPrimitive(m))return m;if(w.has(m))return w.get(m);if(Array.isArray(m)){const E=new Array(m.length);w.set(m,E);for(let j=0;j<m.length;j++)E[j]=f(m[j],j,x,w,A);return Object.hasOwn(m,"index")&&(E.index=m.index),Object.hasOwn(m,"input")&&(E.input=m.input),E}if(m instanceof Date)return new Date(m.getTime());if(m instanceof RegExp){const E=new RegExp(m.source,m.flags);return E.lastIndex=m.lastIndex,E}if(m instanceof Map){const E=new Map;w.set(m,E);for(const[j,_]of m)E.set(j,f(_,j,x,w,A));return E}if(m instanceof Set){const E=new Set;w.set(m,E);for(const j of m)E.add(f(j,void 0,x,w,A));return E}if(typeof Buffer<"u"&&Buffer.isBuffer(m))return m.subarray();if(o.isTypedArray(m)){const E=new(Object.getPrototypeOf(m)).constructor(m.length);w.set(m,E);for(let j=0;j<m.length;j++)E[j]=f(m[j],j,x,w,A);return E}if(m instanceof ArrayBuffer||typeof SharedArrayBuffer<"u"&&m instanceof SharedArrayBuffer)return m.slice(0);if(m instanceof DataView){const E=new DataView(m.buffer.slice(0),m.byteOffset,m.byteLength);return w.set(m,E),d(E,m,x,w,A),E}if(typeof File<"u"&&m instanceof File){const E=new File([m],m.name,{type:m.type});return w.set(m,E),d(E,m,x,w,A),E}if(typeof Blob<"u"&&m instanceof Blob){const E=new Blob([m],{type:m.type});return w.set(m,E),d(E,m,x,w,A),E}if(m instanceof Error){const E=new m.constructor;return w.set(m,E),E.message=m.message,E.name=m.name,E.stack=m.stack,E.cause=m.cause,d(E,m,x,w,A),E}if(m instanceof Boolean){const E=new Boolean(m.valueOf());return w.set(m,E),d(E,m,x,w,A),E}if(m instanceof Number){const E=new Number(m.valueOf());return w.set(m,E),d(E,m,x,w,A),E}if(m instanceof String){const E=new String(m.valueOf());return w.set(m,E),d(E,m,x,w,A),E}if(typeof m=="object"&&h(m)){const E=Object.create(Object.getPrototypeOf(m));return w.set(m,E),d(E,m,x,w,A),E}return m}function d(m,p,x=m,w,A){const O=[...Object.keys(p),...t.getSymbols(p)];for(let E=0;E<O.length;E++){const j=O[E],_=Object.getOwnPropertyDescriptor(m,j);(_==null||_.writable)&&(m[j]=f(p[j],j,x,w,A))}}function h(m){switch(n.getTag(m)){case r.argumentsTag:case r.arrayTag:case r.arrayBufferTag:case r.dataViewTag:case r.booleanTag:case r.dateTag:case r.float32ArrayTag:case r.float64ArrayTag:case r.int8ArrayTag:case r.int16ArrayTag:case r.int32ArrayTag:case r.mapTag:case r.numberTag:case r.objectTag:case r.regexpTag:case r.setTag:case r.stringTag:case r.symbolTag:case r.uint8ArrayTag:case r.uint8ClampedArrayTag:case r.uint16ArrayTag:case r.uint32ArrayTag:return!0;default:return!1}}e.cloneDeepWith=c,e.cloneDeepWithImpl=f,e.copyProperties=d})(Uv)),Uv}var eE;function e5(){return eE||(eE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Jj();function n(r){return t.cloneDeepWithImpl(r,void 0,r,new Map,void 0)}e.cloneDeep=n})(Bv)),Bv}var tE;function t5(){return tE||(tE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Wj(),n=e5();function r(l){return l=n.cloneDeep(l),o=>t.isMatch(o,l)}e.matches=r})(Dv)),Dv}var Yv={},Kv={},Gv={},nE;function n5(){return nE||(nE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Jj(),n=Qj();function r(l,o){return t.cloneDeepWith(l,(c,f,d,h)=>{const m=o?.(c,f,d,h);if(m!==void 0)return m;if(typeof l=="object")switch(Object.prototype.toString.call(l)){case n.numberTag:case n.stringTag:case n.booleanTag:{const p=new l.constructor(l?.valueOf());return t.copyProperties(p,l),p}case n.argumentsTag:{const p={};return t.copyProperties(p,l),p.length=l.length,p[Symbol.iterator]=l[Symbol.iterator],p}default:return}})}e.cloneDeepWith=r})(Gv)),Gv}var rE;function r5(){return rE||(rE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=n5();function n(r){return t.cloneDeepWith(r)}e.cloneDeep=n})(Kv)),Kv}var Vv={},Xv={},aE;function eN(){return aE||(aE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=/^(?:0|[1-9]\d*)$/;function n(r,l=Number.MAX_SAFE_INTEGER){switch(typeof r){case"number":return Number.isInteger(r)&&r>=0&&r<l;case"symbol":return!1;case"string":return t.test(r)}}e.isIndex=n})(Xv)),Xv}var Fv={},iE;function a5(){return iE||(iE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Zj();function n(r){return r!==null&&typeof r=="object"&&t.getTag(r)==="[object Arguments]"}e.isArguments=n})(Fv)),Fv}var lE;function i5(){return lE||(lE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Hj(),n=eN(),r=a5(),l=yg();function o(c,f){let d;if(Array.isArray(f)?d=f:typeof f=="string"&&t.isDeepKey(f)&&c?.[f]==null?d=l.toPath(f):d=[f],d.length===0)return!1;let h=c;for(let m=0;m<d.length;m++){const p=d[m];if((h==null||!Object.hasOwn(h,p))&&!((Array.isArray(h)||r.isArguments(h))&&n.isIndex(p)&&p<h.length))return!1;h=h[p]}return!0}e.has=o})(Vv)),Vv}var oE;function l5(){return oE||(oE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Wj(),n=pg(),r=r5(),l=gg(),o=i5();function c(f,d){switch(typeof f){case"object":{Object.is(f?.valueOf(),-0)&&(f="-0");break}case"number":{f=n.toKey(f);break}}return d=r.cloneDeep(d),function(h){const m=l.get(h,f);return m===void 0?o.has(h,f):d===void 0?m===void 0:t.isMatch(m,d)}}e.matchesProperty=c})(Yv)),Yv}var uE;function o5(){return uE||(uE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Gj(),n=W4(),r=t5(),l=l5();function o(c){if(c==null)return t.identity;switch(typeof c){case"function":return c;case"object":return Array.isArray(c)&&c.length===2?l.matchesProperty(c[0],c[1]):r.matches(c);case"string":case"symbol":case"number":return n.property(c)}}e.iteratee=o})(Tv)),Tv}var cE;function u5(){return cE||(cE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=G4(),n=Gj(),r=F4(),l=o5();function o(c,f=n.identity){return r.isArrayLikeObject(c)?t.uniqBy(Array.from(c),l.iteratee(f)):[]}e.uniqBy=o})(Ev)),Ev}var Wv,sE;function c5(){return sE||(sE=1,Wv=u5().uniqBy),Wv}var s5=c5();const fE=oa(s5);function f5(e,t,n){return t===!0?fE(e,n):typeof t=="function"?fE(e,t):e}var Zv={exports:{}},Qv={},Jv={exports:{}},ep={};var dE;function d5(){if(dE)return ep;dE=1;var e=Xl();function t(p,x){return p===x&&(p!==0||1/p===1/x)||p!==p&&x!==x}var n=typeof Object.is=="function"?Object.is:t,r=e.useState,l=e.useEffect,o=e.useLayoutEffect,c=e.useDebugValue;function f(p,x){var w=x(),A=r({inst:{value:w,getSnapshot:x}}),O=A[0].inst,E=A[1];return o(function(){O.value=w,O.getSnapshot=x,d(O)&&E({inst:O})},[p,w,x]),l(function(){return d(O)&&E({inst:O}),p(function(){d(O)&&E({inst:O})})},[p]),c(w),w}function d(p){var x=p.getSnapshot;p=p.value;try{var w=x();return!n(p,w)}catch{return!0}}function h(p,x){return x()}var m=typeof window>"u"||typeof window.document>"u"||typeof window.document.createElement>"u"?h:f;return ep.useSyncExternalStore=e.useSyncExternalStore!==void 0?e.useSyncExternalStore:m,ep}var hE;function h5(){return hE||(hE=1,Jv.exports=d5()),Jv.exports}var mE;function m5(){if(mE)return Qv;mE=1;var e=Xl(),t=h5();function n(h,m){return h===m&&(h!==0||1/h===1/m)||h!==h&&m!==m}var r=typeof Object.is=="function"?Object.is:n,l=t.useSyncExternalStore,o=e.useRef,c=e.useEffect,f=e.useMemo,d=e.useDebugValue;return Qv.useSyncExternalStoreWithSelector=function(h,m,p,x,w){var A=o(null);if(A.current===null){var O={hasValue:!1,value:null};A.current=O}else O=A.current;A=f(function(){function j(R){if(!_){if(_=!0,C=R,R=x(R),w!==void 0&&O.hasValue){var k=O.value;if(w(k,R))return D=k}return D=R}if(k=D,r(C,R))return k;var I=x(R);return w!==void 0&&w(k,I)?(C=R,k):(C=R,D=I)}var _=!1,C,D,T=p===void 0?null:p;return[function(){return j(m())},T===null?void 0:function(){return j(T())}]},[m,p,x,w]);var E=l(h,A[0],A[1]);return c(function(){O.hasValue=!0,O.value=E},[E]),d(E),E},Qv}var vE;function v5(){return vE||(vE=1,Zv.exports=m5()),Zv.exports}var p5=v5(),Sg=g.createContext(null),y5=e=>e,zt=()=>{var e=g.useContext(Sg);return e?e.store.dispatch:y5},Js=()=>{},g5=()=>Js,b5=(e,t)=>e===t;function ve(e){var t=g.useContext(Sg);return p5.useSyncExternalStoreWithSelector(t?t.subscription.addNestedSub:g5,t?t.store.getState:Js,t?t.store.getState:Js,t?e:Js,b5)}function x5(e,t=`expected a function, instead received ${typeof e}`){if(typeof e!="function")throw new TypeError(t)}function w5(e,t=`expected an object, instead received ${typeof e}`){if(typeof e!="object")throw new TypeError(t)}function S5(e,t="expected all items to be functions, instead received the following types: "){if(!e.every(n=>typeof n=="function")){const n=e.map(r=>typeof r=="function"?`function ${r.name||"unnamed"}()`:typeof r).join(", ");throw new TypeError(`${t}[${n}]`)}}var pE=e=>Array.isArray(e)?e:[e];function E5(e){const t=Array.isArray(e[0])?e[0]:e;return S5(t,"createSelector expects all input-selectors to be functions, but received the following types: "),t}function O5(e,t){const n=[],{length:r}=e;for(let l=0;l<r;l++)n.push(e[l].apply(null,t));return n}var A5=class{constructor(e){this.value=e}deref(){return this.value}},j5=typeof WeakRef<"u"?WeakRef:A5,N5=0,yE=1;function Ms(){return{s:N5,v:void 0,o:null,p:null}}function tN(e,t={}){let n=Ms();const{resultEqualityCheck:r}=t;let l,o=0;function c(){let f=n;const{length:d}=arguments;for(let p=0,x=d;p<x;p++){const w=arguments[p];if(typeof w=="function"||typeof w=="object"&&w!==null){let A=f.o;A===null&&(f.o=A=new WeakMap);const O=A.get(w);O===void 0?(f=Ms(),A.set(w,f)):f=O}else{let A=f.p;A===null&&(f.p=A=new Map);const O=A.get(w);O===void 0?(f=Ms(),A.set(w,f)):f=O}}const h=f;let m;if(f.s===yE)m=f.v;else if(m=e.apply(null,arguments),o++,r){const p=l?.deref?.()??l;p!=null&&r(p,m)&&(m=p,o!==0&&o--),l=typeof m=="object"&&m!==null||typeof m=="function"?new j5(m):m}return h.s=yE,h.v=m,m}return c.clearCache=()=>{n=Ms(),c.resetResultsCount()},c.resultsCount=()=>o,c.resetResultsCount=()=>{o=0},c}function C5(e,...t){const n=typeof e=="function"?{memoize:e,memoizeOptions:t}:e,r=(...l)=>{let o=0,c=0,f,d={},h=l.pop();typeof h=="object"&&(d=h,h=l.pop()),x5(h,`createSelector expects an output function after the inputs, but received: [${typeof h}]`);const m={...n,...d},{memoize:p,memoizeOptions:x=[],argsMemoize:w=tN,argsMemoizeOptions:A=[]}=m,O=pE(x),E=pE(A),j=E5(l),_=p(function(){return o++,h.apply(null,arguments)},...O),C=w(function(){c++;const T=O5(j,arguments);return f=_.apply(null,T),f},...E);return Object.assign(C,{resultFunc:h,memoizedResultFunc:_,dependencies:j,dependencyRecomputations:()=>c,resetDependencyRecomputations:()=>{c=0},lastResult:()=>f,recomputations:()=>o,resetRecomputations:()=>{o=0},memoize:p,argsMemoize:w})};return Object.assign(r,{withTypes:()=>r}),r}var Y=C5(tN),_5=Object.assign((e,t=Y)=>{w5(e,`createStructuredSelector expects first argument to be an object where each property is a selector, instead received a ${typeof e}`);const n=Object.keys(e),r=n.map(o=>e[o]);return t(r,(...o)=>o.reduce((c,f,d)=>(c[n[d]]=f,c),{}))},{withTypes:()=>_5}),tp={},np={},rp={},gE;function T5(){return gE||(gE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(r){return typeof r=="symbol"?1:r===null?2:r===void 0?3:r!==r?4:0}const n=(r,l,o)=>{if(r!==l){const c=t(r),f=t(l);if(c===f&&c===0){if(r<l)return o==="desc"?1:-1;if(r>l)return o==="desc"?-1:1}return o==="desc"?f-c:c-f}return 0};e.compareValues=n})(rp)),rp}var ap={},ip={},bE;function nN(){return bE||(bE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return typeof n=="symbol"||n instanceof Symbol}e.isSymbol=t})(ip)),ip}var xE;function M5(){return xE||(xE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=nN(),n=/\.|\[(?:[^[\]]*|(["'])(?:(?!\1)[^\\]|\\.)*?\1)\]/,r=/^\w*$/;function l(o,c){return Array.isArray(o)?!1:typeof o=="number"||typeof o=="boolean"||o==null||t.isSymbol(o)?!0:typeof o=="string"&&(r.test(o)||!n.test(o))||c!=null&&Object.hasOwn(c,o)}e.isKey=l})(ap)),ap}var wE;function D5(){return wE||(wE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=T5(),n=M5(),r=yg();function l(o,c,f,d){if(o==null)return[];f=d?void 0:f,Array.isArray(o)||(o=Object.values(o)),Array.isArray(c)||(c=c==null?[null]:[c]),c.length===0&&(c=[null]),Array.isArray(f)||(f=f==null?[]:[f]),f=f.map(w=>String(w));const h=(w,A)=>{let O=w;for(let E=0;E<A.length&&O!=null;++E)O=O[A[E]];return O},m=(w,A)=>A==null||w==null?A:typeof w=="object"&&"key"in w?Object.hasOwn(A,w.key)?A[w.key]:h(A,w.path):typeof w=="function"?w(A):Array.isArray(w)?h(A,w):typeof A=="object"?A[w]:A,p=c.map(w=>(Array.isArray(w)&&w.length===1&&(w=w[0]),w==null||typeof w=="function"||Array.isArray(w)||n.isKey(w)?w:{key:w,path:r.toPath(w)}));return o.map(w=>({original:w,criteria:p.map(A=>m(A,w))})).slice().sort((w,A)=>{for(let O=0;O<p.length;O++){const E=t.compareValues(w.criteria[O],A.criteria[O],f[O]);if(E!==0)return E}return 0}).map(w=>w.original)}e.orderBy=l})(np)),np}var lp={},SE;function k5(){return SE||(SE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n,r=1){const l=[],o=Math.floor(r),c=(f,d)=>{for(let h=0;h<f.length;h++){const m=f[h];Array.isArray(m)&&d<o?c(m,d+1):l.push(m)}};return c(n,0),l}e.flatten=t})(lp)),lp}var op={},EE;function rN(){return EE||(EE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=eN(),n=wg(),r=Vj(),l=Fj();function o(c,f,d){return r.isObject(d)&&(typeof f=="number"&&n.isArrayLike(d)&&t.isIndex(f)&&f<d.length||typeof f=="string"&&f in d)?l.eq(d[f],c):!1}e.isIterateeCall=o})(op)),op}var OE;function P5(){return OE||(OE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=D5(),n=k5(),r=rN();function l(o,...c){const f=c.length;return f>1&&r.isIterateeCall(o,c[0],c[1])?c=[]:f>2&&r.isIterateeCall(c[0],c[1],c[2])&&(c=[c[0]]),t.orderBy(o,n.flatten(c),["asc"])}e.sortBy=l})(tp)),tp}var up,AE;function R5(){return AE||(AE=1,up=P5().sortBy),up}var z5=R5();const ud=oa(z5);var aN=e=>e.legend.settings,L5=e=>e.legend.size,B5=e=>e.legend.payload;Y([B5,aN],(e,t)=>{var{itemSorter:n}=t,r=e.flat(1);return n?ud(r,n):r});var Ds=1;function U5(){var e=arguments.length>0&&arguments[0]!==void 0?arguments[0]:[],[t,n]=g.useState({height:0,left:0,top:0,width:0}),r=g.useCallback(l=>{if(l!=null){var o=l.getBoundingClientRect(),c={height:o.height,left:o.left,top:o.top,width:o.width};(Math.abs(c.height-t.height)>Ds||Math.abs(c.left-t.left)>Ds||Math.abs(c.top-t.top)>Ds||Math.abs(c.width-t.width)>Ds)&&n({height:c.height,left:c.left,top:c.top,width:c.width})}},[t.width,t.height,t.top,t.left,...e]);return[t,r]}function Gt(e){return`Minified Redux error #${e}; visit https://redux.js.org/Errors?code=${e} for the full message or use the non-minified dev environment for full errors. `}var I5=typeof Symbol=="function"&&Symbol.observable||"@@observable",jE=I5,cp=()=>Math.random().toString(36).substring(7).split("").join("."),q5={INIT:`@@redux/INIT${cp()}`,REPLACE:`@@redux/REPLACE${cp()}`,PROBE_UNKNOWN_ACTION:()=>`@@redux/PROBE_UNKNOWN_ACTION${cp()}`},vf=q5;function Eg(e){if(typeof e!="object"||e===null)return!1;let t=e;for(;Object.getPrototypeOf(t)!==null;)t=Object.getPrototypeOf(t);return Object.getPrototypeOf(e)===t||Object.getPrototypeOf(e)===null}function iN(e,t,n){if(typeof e!="function")throw new Error(Gt(2));if(typeof t=="function"&&typeof n=="function"||typeof n=="function"&&typeof arguments[3]=="function")throw new Error(Gt(0));if(typeof t=="function"&&typeof n>"u"&&(n=t,t=void 0),typeof n<"u"){if(typeof n!="function")throw new Error(Gt(1));return n(iN)(e,t)}let r=e,l=t,o=new Map,c=o,f=0,d=!1;function h(){c===o&&(c=new Map,o.forEach((E,j)=>{c.set(j,E)}))}function m(){if(d)throw new Error(Gt(3));return l}function p(E){if(typeof E!="function")throw new Error(Gt(4));if(d)throw new Error(Gt(5));let j=!0;h();const _=f++;return c.set(_,E),function(){if(j){if(d)throw new Error(Gt(6));j=!1,h(),c.delete(_),o=null}}}function x(E){if(!Eg(E))throw new Error(Gt(7));if(typeof E.type>"u")throw new Error(Gt(8));if(typeof E.type!="string")throw new Error(Gt(17));if(d)throw new Error(Gt(9));try{d=!0,l=r(l,E)}finally{d=!1}return(o=c).forEach(_=>{_()}),E}function w(E){if(typeof E!="function")throw new Error(Gt(10));r=E,x({type:vf.REPLACE})}function A(){const E=p;return{subscribe(j){if(typeof j!="object"||j===null)throw new Error(Gt(11));function _(){const D=j;D.next&&D.next(m())}return _(),{unsubscribe:E(_)}},[jE](){return this}}}return x({type:vf.INIT}),{dispatch:x,subscribe:p,getState:m,replaceReducer:w,[jE]:A}}function H5(e){Object.keys(e).forEach(t=>{const n=e[t];if(typeof n(void 0,{type:vf.INIT})>"u")throw new Error(Gt(12));if(typeof n(void 0,{type:vf.PROBE_UNKNOWN_ACTION()})>"u")throw new Error(Gt(13))})}function lN(e){const t=Object.keys(e),n={};for(let o=0;o<t.length;o++){const c=t[o];typeof e[c]=="function"&&(n[c]=e[c])}const r=Object.keys(n);let l;try{H5(n)}catch(o){l=o}return function(c={},f){if(l)throw l;let d=!1;const h={};for(let m=0;m<r.length;m++){const p=r[m],x=n[p],w=c[p],A=x(w,f);if(typeof A>"u")throw f&&f.type,new Error(Gt(14));h[p]=A,d=d||A!==w}return d=d||r.length!==Object.keys(c).length,d?h:c}}function pf(...e){return e.length===0?t=>t:e.length===1?e[0]:e.reduce((t,n)=>(...r)=>t(n(...r)))}function $5(...e){return t=>(n,r)=>{const l=t(n,r);let o=()=>{throw new Error(Gt(15))};const c={getState:l.getState,dispatch:(d,...h)=>o(d,...h)},f=e.map(d=>d(c));return o=pf(...f)(l.dispatch),{...l,dispatch:o}}}function oN(e){return Eg(e)&&"type"in e&&typeof e.type=="string"}var uN=Symbol.for("immer-nothing"),NE=Symbol.for("immer-draftable"),ln=Symbol.for("immer-state");function ir(e,...t){throw new Error(`[Immer] minified error nr: ${e}. Full error at: https://bit.ly/3cXEKWf`)}var Dn=Object,Hl=Dn.getPrototypeOf,yf="constructor",cd="prototype",oy="configurable",gf="enumerable",ef="writable",Eu="value",na=e=>!!e&&!!e[ln];function fr(e){return e?cN(e)||sd(e)||!!e[NE]||!!e[yf]?.[NE]||fd(e)||dd(e):!1}var Y5=Dn[cd][yf].toString(),CE=new WeakMap;function cN(e){if(!e||!Og(e))return!1;const t=Hl(e);if(t===null||t===Dn[cd])return!0;const n=Dn.hasOwnProperty.call(t,yf)&&t[yf];if(n===Object)return!0;if(!Ml(n))return!1;let r=CE.get(n);return r===void 0&&(r=Function.toString.call(n),CE.set(n,r)),r===Y5}function $u(e,t,n=!0){Yu(e)===0?(n?Reflect.ownKeys(e):Dn.keys(e)).forEach(l=>{t(l,e[l],e)}):e.forEach((r,l)=>t(l,r,e))}function Yu(e){const t=e[ln];return t?t.type_:sd(e)?1:fd(e)?2:dd(e)?3:0}var _E=(e,t,n=Yu(e))=>n===2?e.has(t):Dn[cd].hasOwnProperty.call(e,t),uy=(e,t,n=Yu(e))=>n===2?e.get(t):e[t],bf=(e,t,n,r=Yu(e))=>{r===2?e.set(t,n):r===3?e.add(n):e[t]=n};function K5(e,t){return e===t?e!==0||1/e===1/t:e!==e&&t!==t}var sd=Array.isArray,fd=e=>e instanceof Map,dd=e=>e instanceof Set,Og=e=>typeof e=="object",Ml=e=>typeof e=="function",sp=e=>typeof e=="boolean",Gr=e=>e.copy_||e.base_,Ag=e=>e.modified_?e.copy_:e.base_;function cy(e,t){if(fd(e))return new Map(e);if(dd(e))return new Set(e);if(sd(e))return Array[cd].slice.call(e);const n=cN(e);if(t===!0||t==="class_only"&&!n){const r=Dn.getOwnPropertyDescriptors(e);delete r[ln];let l=Reflect.ownKeys(r);for(let o=0;o<l.length;o++){const c=l[o],f=r[c];f[ef]===!1&&(f[ef]=!0,f[oy]=!0),(f.get||f.set)&&(r[c]={[oy]:!0,[ef]:!0,[gf]:f[gf],[Eu]:e[c]})}return Dn.create(Hl(e),r)}else{const r=Hl(e);if(r!==null&&n)return{...e};const l=Dn.create(r);return Dn.assign(l,e)}}function jg(e,t=!1){return hd(e)||na(e)||!fr(e)||(Yu(e)>1&&Dn.defineProperties(e,{set:ks,add:ks,clear:ks,delete:ks}),Dn.freeze(e),t&&$u(e,(n,r)=>{jg(r,!0)},!1)),e}function G5(){ir(2)}var ks={[Eu]:G5};function hd(e){return e===null||!Og(e)?!0:Dn.isFrozen(e)}var xf="MapSet",sy="Patches",sN={};function $l(e){const t=sN[e];return t||ir(0,e),t}var V5=e=>!!sN[e],Ou,fN=()=>Ou,X5=(e,t)=>({drafts_:[],parent_:e,immer_:t,canAutoFreeze_:!0,unfinalizedDrafts_:0,handledSet_:new Set,processedForPatches_:new Set,mapSetPlugin_:V5(xf)?$l(xf):void 0});function TE(e,t){t&&(e.patchPlugin_=$l(sy),e.patches_=[],e.inversePatches_=[],e.patchListener_=t)}function fy(e){dy(e),e.drafts_.forEach(F5),e.drafts_=null}function dy(e){e===Ou&&(Ou=e.parent_)}var ME=e=>Ou=X5(Ou,e);function F5(e){const t=e[ln];t.type_===0||t.type_===1?t.revoke_():t.revoked_=!0}function DE(e,t){t.unfinalizedDrafts_=t.drafts_.length;const n=t.drafts_[0];if(e!==void 0&&e!==n){n[ln].modified_&&(fy(t),ir(4)),fr(e)&&(e=kE(t,e));const{patchPlugin_:l}=t;l&&l.generateReplacementPatches_(n[ln].base_,e,t)}else e=kE(t,n);return W5(t,e,!0),fy(t),t.patches_&&t.patchListener_(t.patches_,t.inversePatches_),e!==uN?e:void 0}function kE(e,t){if(hd(t))return t;const n=t[ln];if(!n)return Ng(t,e.handledSet_,e);if(!md(n,e))return t;if(!n.modified_)return n.base_;if(!n.finalized_){const{callbacks_:r}=n;if(r)for(;r.length>0;)r.pop()(e);mN(n,e)}return n.copy_}function W5(e,t,n=!1){!e.parent_&&e.immer_.autoFreeze_&&e.canAutoFreeze_&&jg(t,n)}function dN(e){e.finalized_=!0,e.scope_.unfinalizedDrafts_--}var md=(e,t)=>e.scope_===t,Z5=[];function hN(e,t,n,r){const l=Gr(e),o=e.type_;if(r!==void 0&&uy(l,r,o)===t){bf(l,r,n,o);return}if(!e.draftLocations_){const f=e.draftLocations_=new Map;$u(l,(d,h)=>{if(na(h)){const m=f.get(h)||[];m.push(d),f.set(h,m)}})}const c=e.draftLocations_.get(t)??Z5;for(const f of c)bf(l,f,n,o)}function Q5(e,t,n){e.callbacks_.push(function(l){const o=t;if(!o||!md(o,l))return;l.mapSetPlugin_?.fixSetContents(o);const c=Ag(o);hN(e,o.draft_??o,c,n),mN(o,l)})}function mN(e,t){if(e.modified_&&!e.finalized_&&(e.type_===3||(e.assigned_?.size??0)>0)){const{patchPlugin_:r}=t;if(r){const l=r.getPath(e);l&&r.generatePatches_(e,l,t)}dN(e)}}function J5(e,t,n){const{scope_:r}=e;if(na(n)){const l=n[ln];md(l,r)&&l.callbacks_.push(function(){tf(e);const c=Ag(l);hN(e,n,c,t)})}else fr(n)&&e.callbacks_.push(function(){const o=Gr(e);uy(o,t,e.type_)===n&&r.drafts_.length>1&&(e.assigned_.get(t)??!1)===!0&&e.copy_&&Ng(uy(e.copy_,t,e.type_),r.handledSet_,r)})}function Ng(e,t,n){return!n.immer_.autoFreeze_&&n.unfinalizedDrafts_<1||na(e)||t.has(e)||!fr(e)||hd(e)||(t.add(e),$u(e,(r,l)=>{if(na(l)){const o=l[ln];if(md(o,n)){const c=Ag(o);bf(e,r,c,e.type_),dN(o)}}else fr(l)&&Ng(l,t,n)})),e}function eL(e,t){const n=sd(e),r={type_:n?1:0,scope_:t?t.scope_:fN(),modified_:!1,finalized_:!1,assigned_:void 0,parent_:t,base_:e,draft_:null,copy_:null,revoke_:null,isManual_:!1,callbacks_:void 0};let l=r,o=Cg;n&&(l=[r],o=Au);const{revoke:c,proxy:f}=Proxy.revocable(l,o);return r.draft_=f,r.revoke_=c,[f,r]}var Cg={get(e,t){if(t===ln)return e;const n=Gr(e);if(!_E(n,t,e.type_))return tL(e,n,t);const r=n[t];if(e.finalized_||!fr(r))return r;if(r===fp(e.base_,t)){tf(e);const l=e.type_===1?+t:t,o=my(e.scope_,r,e,l);return e.copy_[l]=o}return r},has(e,t){return t in Gr(e)},ownKeys(e){return Reflect.ownKeys(Gr(e))},set(e,t,n){const r=vN(Gr(e),t);if(r?.set)return r.set.call(e.draft_,n),!0;if(!e.modified_){const l=fp(Gr(e),t),o=l?.[ln];if(o&&o.base_===n)return e.copy_[t]=n,e.assigned_.set(t,!1),!0;if(K5(n,l)&&(n!==void 0||_E(e.base_,t,e.type_)))return!0;tf(e),hy(e)}return e.copy_[t]===n&&(n!==void 0||t in e.copy_)||Number.isNaN(n)&&Number.isNaN(e.copy_[t])||(e.copy_[t]=n,e.assigned_.set(t,!0),J5(e,t,n)),!0},deleteProperty(e,t){return tf(e),fp(e.base_,t)!==void 0||t in e.base_?(e.assigned_.set(t,!1),hy(e)):e.assigned_.delete(t),e.copy_&&delete e.copy_[t],!0},getOwnPropertyDescriptor(e,t){const n=Gr(e),r=Reflect.getOwnPropertyDescriptor(n,t);return r&&{[ef]:!0,[oy]:e.type_!==1||t!=="length",[gf]:r[gf],[Eu]:n[t]}},defineProperty(){ir(11)},getPrototypeOf(e){return Hl(e.base_)},setPrototypeOf(){ir(12)}},Au={};$u(Cg,(e,t)=>{Au[e]=function(){const n=arguments;return n[0]=n[0][0],t.apply(this,n)}});Au.deleteProperty=function(e,t){return Au.set.call(this,e,t,void 0)};Au.set=function(e,t,n){return Cg.set.call(this,e[0],t,n,e[0])};function fp(e,t){const n=e[ln];return(n?Gr(n):e)[t]}function tL(e,t,n){const r=vN(t,n);return r?Eu in r?r[Eu]:r.get?.call(e.draft_):void 0}function vN(e,t){if(!(t in e))return;let n=Hl(e);for(;n;){const r=Object.getOwnPropertyDescriptor(n,t);if(r)return r;n=Hl(n)}}function hy(e){e.modified_||(e.modified_=!0,e.parent_&&hy(e.parent_))}function tf(e){e.copy_||(e.assigned_=new Map,e.copy_=cy(e.base_,e.scope_.immer_.useStrictShallowCopy_))}var nL=class{constructor(t){this.autoFreeze_=!0,this.useStrictShallowCopy_=!1,this.useStrictIteration_=!1,this.produce=(n,r,l)=>{if(Ml(n)&&!Ml(r)){const c=r;r=n;const f=this;return function(h=c,...m){return f.produce(h,p=>r.call(this,p,...m))}}Ml(r)||ir(6),l!==void 0&&!Ml(l)&&ir(7);let o;if(fr(n)){const c=ME(this),f=my(c,n,void 0);let d=!0;try{o=r(f),d=!1}finally{d?fy(c):dy(c)}return TE(c,l),DE(o,c)}else if(!n||!Og(n)){if(o=r(n),o===void 0&&(o=n),o===uN&&(o=void 0),this.autoFreeze_&&jg(o,!0),l){const c=[],f=[];$l(sy).generateReplacementPatches_(n,o,{patches_:c,inversePatches_:f}),l(c,f)}return o}else ir(1,n)},this.produceWithPatches=(n,r)=>{if(Ml(n))return(f,...d)=>this.produceWithPatches(f,h=>n(h,...d));let l,o;return[this.produce(n,r,(f,d)=>{l=f,o=d}),l,o]},sp(t?.autoFreeze)&&this.setAutoFreeze(t.autoFreeze),sp(t?.useStrictShallowCopy)&&this.setUseStrictShallowCopy(t.useStrictShallowCopy),sp(t?.useStrictIteration)&&this.setUseStrictIteration(t.useStrictIteration)}createDraft(t){fr(t)||ir(8),na(t)&&(t=ur(t));const n=ME(this),r=my(n,t,void 0);return r[ln].isManual_=!0,dy(n),r}finishDraft(t,n){const r=t&&t[ln];(!r||!r.isManual_)&&ir(9);const{scope_:l}=r;return TE(l,n),DE(void 0,l)}setAutoFreeze(t){this.autoFreeze_=t}setUseStrictShallowCopy(t){this.useStrictShallowCopy_=t}setUseStrictIteration(t){this.useStrictIteration_=t}shouldUseStrictIteration(){return this.useStrictIteration_}applyPatches(t,n){let r;for(r=n.length-1;r>=0;r--){const o=n[r];if(o.path.length===0&&o.op==="replace"){t=o.value;break}}r>-1&&(n=n.slice(r+1));const l=$l(sy).applyPatches_;return na(t)?l(t,n):this.produce(t,o=>l(o,n))}};function my(e,t,n,r){const[l,o]=fd(t)?$l(xf).proxyMap_(t,n):dd(t)?$l(xf).proxySet_(t,n):eL(t,n);return(n?.scope_??fN()).drafts_.push(l),o.callbacks_=n?.callbacks_??[],o.key_=r,n&&r!==void 0?Q5(n,o,r):o.callbacks_.push(function(d){d.mapSetPlugin_?.fixSetContents(o);const{patchPlugin_:h}=d;o.modified_&&h&&h.generatePatches_(o,[],d)}),l}function ur(e){return na(e)||ir(10,e),pN(e)}function pN(e){if(!fr(e)||hd(e))return e;const t=e[ln];let n,r=!0;if(t){if(!t.modified_)return t.base_;t.finalized_=!0,n=cy(e,t.scope_.immer_.useStrictShallowCopy_),r=t.scope_.immer_.shouldUseStrictIteration()}else n=cy(e,!0);return $u(n,(l,o)=>{bf(n,l,pN(o))},r),t&&(t.finalized_=!1),n}var rL=new nL,yN=rL.produce;function gN(e){return({dispatch:n,getState:r})=>l=>o=>typeof o=="function"?o(n,r,e):l(o)}var aL=gN(),iL=gN,lL=typeof window<"u"&&window.__REDUX_DEVTOOLS_EXTENSION_COMPOSE__?window.__REDUX_DEVTOOLS_EXTENSION_COMPOSE__:function(){if(arguments.length!==0)return typeof arguments[0]=="object"?pf:pf.apply(null,arguments)};function Zn(e,t){function n(...r){if(t){let l=t(...r);if(!l)throw new Error(kn(0));return{type:e,payload:l.payload,..."meta"in l&&{meta:l.meta},..."error"in l&&{error:l.error}}}return{type:e,payload:r[0]}}return n.toString=()=>`${e}`,n.type=e,n.match=r=>oN(r)&&r.type===e,n}var bN=class yu extends Array{constructor(...t){super(...t),Object.setPrototypeOf(this,yu.prototype)}static get[Symbol.species](){return yu}concat(...t){return super.concat.apply(this,t)}prepend(...t){return t.length===1&&Array.isArray(t[0])?new yu(...t[0].concat(this)):new yu(...t.concat(this))}};function PE(e){return fr(e)?yN(e,()=>{}):e}function Ps(e,t,n){return e.has(t)?e.get(t):e.set(t,n(t)).get(t)}function oL(e){return typeof e=="boolean"}var uL=()=>function(t){const{thunk:n=!0,immutableCheck:r=!0,serializableCheck:l=!0,actionCreatorCheck:o=!0}=t??{};let c=new bN;return n&&(oL(n)?c.push(aL):c.push(iL(n.extraArgument))),c},xN="RTK_autoBatch",et=()=>e=>({payload:e,meta:{[xN]:!0}}),RE=e=>t=>{setTimeout(t,e)},wN=(e={type:"raf"})=>t=>(...n)=>{const r=t(...n);let l=!0,o=!1,c=!1;const f=new Set,d=e.type==="tick"?queueMicrotask:e.type==="raf"?typeof window<"u"&&window.requestAnimationFrame?window.requestAnimationFrame:RE(10):e.type==="callback"?e.queueNotification:RE(e.timeout),h=()=>{c=!1,o&&(o=!1,f.forEach(m=>m()))};return Object.assign({},r,{subscribe(m){const p=()=>l&&m(),x=r.subscribe(p);return f.add(m),()=>{x(),f.delete(m)}},dispatch(m){try{return l=!m?.meta?.[xN],o=!l,o&&(c||(c=!0,d(h))),r.dispatch(m)}finally{l=!0}}})},cL=e=>function(n){const{autoBatch:r=!0}=n??{};let l=new bN(e);return r&&l.push(wN(typeof r=="object"?r:void 0)),l};function sL(e){const t=uL(),{reducer:n=void 0,middleware:r,devTools:l=!0,preloadedState:o=void 0,enhancers:c=void 0}=e||{};let f;if(typeof n=="function")f=n;else if(Eg(n))f=lN(n);else throw new Error(kn(1));let d;typeof r=="function"?d=r(t):d=t();let h=pf;l&&(h=lL({trace:!1,...typeof l=="object"&&l}));const m=$5(...d),p=cL(m);let x=typeof c=="function"?c(p):p();const w=h(...x);return iN(f,o,w)}function SN(e){const t={},n=[];let r;const l={addCase(o,c){const f=typeof o=="string"?o:o.type;if(!f)throw new Error(kn(28));if(f in t)throw new Error(kn(29));return t[f]=c,l},addAsyncThunk(o,c){return c.pending&&(t[o.pending.type]=c.pending),c.rejected&&(t[o.rejected.type]=c.rejected),c.fulfilled&&(t[o.fulfilled.type]=c.fulfilled),c.settled&&n.push({matcher:o.settled,reducer:c.settled}),l},addMatcher(o,c){return n.push({matcher:o,reducer:c}),l},addDefaultCase(o){return r=o,l}};return e(l),[t,n,r]}function fL(e){return typeof e=="function"}function dL(e,t){let[n,r,l]=SN(t),o;if(fL(e))o=()=>PE(e());else{const f=PE(e);o=()=>f}function c(f=o(),d){let h=[n[d.type],...r.filter(({matcher:m})=>m(d)).map(({reducer:m})=>m)];return h.filter(m=>!!m).length===0&&(h=[l]),h.reduce((m,p)=>{if(p)if(na(m)){const w=p(m,d);return w===void 0?m:w}else{if(fr(m))return yN(m,x=>p(x,d));{const x=p(m,d);if(x===void 0){if(m===null)return m;throw Error("A case reducer on a non-draftable value must not return undefined")}return x}}return m},f)}return c.getInitialState=o,c}var hL="ModuleSymbhasOwnPr-0123456789ABCDEFGHNRVfgctiUvz_KqYTJkLxpZXIjQW",mL=(e=21)=>{let t="",n=e;for(;n--;)t+=hL[Math.random()*64|0];return t},vL=Symbol.for("rtk-slice-createasyncthunk");function pL(e,t){return`${e}/${t}`}function yL({creators:e}={}){const t=e?.asyncThunk?.[vL];return function(r){const{name:l,reducerPath:o=l}=r;if(!l)throw new Error(kn(11));const c=(typeof r.reducers=="function"?r.reducers(bL()):r.reducers)||{},f=Object.keys(c),d={sliceCaseReducersByName:{},sliceCaseReducersByType:{},actionCreators:{},sliceMatchers:[]},h={addCase(C,D){const T=typeof C=="string"?C:C.type;if(!T)throw new Error(kn(12));if(T in d.sliceCaseReducersByType)throw new Error(kn(13));return d.sliceCaseReducersByType[T]=D,h},addMatcher(C,D){return d.sliceMatchers.push({matcher:C,reducer:D}),h},exposeAction(C,D){return d.actionCreators[C]=D,h},exposeCaseReducer(C,D){return d.sliceCaseReducersByName[C]=D,h}};f.forEach(C=>{const D=c[C],T={reducerName:C,type:pL(l,C),createNotation:typeof r.reducers=="function"};wL(D)?EL(T,D,h,t):xL(T,D,h)});function m(){const[C={},D=[],T=void 0]=typeof r.extraReducers=="function"?SN(r.extraReducers):[r.extraReducers],R={...C,...d.sliceCaseReducersByType};return dL(r.initialState,k=>{for(let I in R)k.addCase(I,R[I]);for(let I of d.sliceMatchers)k.addMatcher(I.matcher,I.reducer);for(let I of D)k.addMatcher(I.matcher,I.reducer);T&&k.addDefaultCase(T)})}const p=C=>C,x=new Map,w=new WeakMap;let A;function O(C,D){return A||(A=m()),A(C,D)}function E(){return A||(A=m()),A.getInitialState()}function j(C,D=!1){function T(k){let I=k[C];return typeof I>"u"&&D&&(I=Ps(w,T,E)),I}function R(k=p){const I=Ps(x,D,()=>new WeakMap);return Ps(I,k,()=>{const re={};for(const[ae,W]of Object.entries(r.selectors??{}))re[ae]=gL(W,k,()=>Ps(w,k,E),D);return re})}return{reducerPath:C,getSelectors:R,get selectors(){return R(T)},selectSlice:T}}const _={name:l,reducer:O,actions:d.actionCreators,caseReducers:d.sliceCaseReducersByName,getInitialState:E,...j(o),injectInto(C,{reducerPath:D,...T}={}){const R=D??o;return C.inject({reducerPath:R,reducer:O},T),{..._,...j(R,!0)}}};return _}}function gL(e,t,n,r){function l(o,...c){let f=t(o);return typeof f>"u"&&r&&(f=n()),e(f,...c)}return l.unwrapped=e,l}var gn=yL();function bL(){function e(t,n){return{_reducerDefinitionType:"asyncThunk",payloadCreator:t,...n}}return e.withTypes=()=>e,{reducer(t){return Object.assign({[t.name](...n){return t(...n)}}[t.name],{_reducerDefinitionType:"reducer"})},preparedReducer(t,n){return{_reducerDefinitionType:"reducerWithPrepare",prepare:t,reducer:n}},asyncThunk:e}}function xL({type:e,reducerName:t,createNotation:n},r,l){let o,c;if("reducer"in r){if(n&&!SL(r))throw new Error(kn(17));o=r.reducer,c=r.prepare}else o=r;l.addCase(e,o).exposeCaseReducer(t,o).exposeAction(t,c?Zn(e,c):Zn(e))}function wL(e){return e._reducerDefinitionType==="asyncThunk"}function SL(e){return e._reducerDefinitionType==="reducerWithPrepare"}function EL({type:e,reducerName:t},n,r,l){if(!l)throw new Error(kn(18));const{payloadCreator:o,fulfilled:c,pending:f,rejected:d,settled:h,options:m}=n,p=l(e,o,m);r.exposeAction(t,p),c&&r.addCase(p.fulfilled,c),f&&r.addCase(p.pending,f),d&&r.addCase(p.rejected,d),h&&r.addMatcher(p.settled,h),r.exposeCaseReducer(t,{fulfilled:c||Rs,pending:f||Rs,rejected:d||Rs,settled:h||Rs})}function Rs(){}var OL="task",EN="listener",ON="completed",_g="cancelled",AL=`task-${_g}`,jL=`task-${ON}`,vy=`${EN}-${_g}`,NL=`${EN}-${ON}`,vd=class{constructor(e){this.code=e,this.message=`${OL} ${_g} (reason: ${e})`}name="TaskAbortError";message},Tg=(e,t)=>{if(typeof e!="function")throw new TypeError(kn(32))},wf=()=>{},AN=(e,t=wf)=>(e.catch(t),e),jN=(e,t)=>(e.addEventListener("abort",t,{once:!0}),()=>e.removeEventListener("abort",t)),ji=(e,t)=>{const n=e.signal;n.aborted||("reason"in n||Object.defineProperty(n,"reason",{enumerable:!0,value:t,configurable:!0,writable:!0}),e.abort(t))},Ni=e=>{if(e.aborted){const{reason:t}=e;throw new vd(t)}};function NN(e,t){let n=wf;return new Promise((r,l)=>{const o=()=>l(new vd(e.reason));if(e.aborted){o();return}n=jN(e,o),t.finally(()=>n()).then(r,l)}).finally(()=>{n=wf})}var CL=async(e,t)=>{try{return await Promise.resolve(),{status:"ok",value:await e()}}catch(n){return{status:n instanceof vd?"cancelled":"rejected",error:n}}finally{t?.()}},Sf=e=>t=>AN(NN(e,t).then(n=>(Ni(e),n))),CN=e=>{const t=Sf(e);return n=>t(new Promise(r=>setTimeout(r,n)))},{assign:Bl}=Object,zE={},pd="listenerMiddleware",_L=(e,t)=>{const n=r=>jN(e,()=>ji(r,e.reason));return(r,l)=>{Tg(r);const o=new AbortController;n(o);const c=CL(async()=>{Ni(e),Ni(o.signal);const f=await r({pause:Sf(o.signal),delay:CN(o.signal),signal:o.signal});return Ni(o.signal),f},()=>ji(o,jL));return l?.autoJoin&&t.push(c.catch(wf)),{result:Sf(e)(c),cancel(){ji(o,AL)}}}},TL=(e,t)=>{const n=async(r,l)=>{Ni(t);let o=()=>{};const f=[new Promise((d,h)=>{let m=e({predicate:r,effect:(p,x)=>{x.unsubscribe(),d([p,x.getState(),x.getOriginalState()])}});o=()=>{m(),h()}})];l!=null&&f.push(new Promise(d=>setTimeout(d,l,null)));try{const d=await NN(t,Promise.race(f));return Ni(t),d}finally{o()}};return(r,l)=>AN(n(r,l))},_N=e=>{let{type:t,actionCreator:n,matcher:r,predicate:l,effect:o}=e;if(t)l=Zn(t).match;else if(n)t=n.type,l=n.match;else if(r)l=r;else if(!l)throw new Error(kn(21));return Tg(o),{predicate:l,type:t,effect:o}},TN=Bl(e=>{const{type:t,predicate:n,effect:r}=_N(e);return{id:mL(),effect:r,type:t,predicate:n,pending:new Set,unsubscribe:()=>{throw new Error(kn(22))}}},{withTypes:()=>TN}),LE=(e,t)=>{const{type:n,effect:r,predicate:l}=_N(t);return Array.from(e.values()).find(o=>(typeof n=="string"?o.type===n:o.predicate===l)&&o.effect===r)},py=e=>{e.pending.forEach(t=>{ji(t,vy)})},ML=(e,t)=>()=>{for(const n of t.keys())py(n);e.clear()},BE=(e,t,n)=>{try{e(t,n)}catch(r){setTimeout(()=>{throw r},0)}},MN=Bl(Zn(`${pd}/add`),{withTypes:()=>MN}),DL=Zn(`${pd}/removeAll`),DN=Bl(Zn(`${pd}/remove`),{withTypes:()=>DN}),kL=(...e)=>{console.error(`${pd}/error`,...e)},Ku=(e={})=>{const t=new Map,n=new Map,r=w=>{const A=n.get(w)??0;n.set(w,A+1)},l=w=>{const A=n.get(w)??1;A===1?n.delete(w):n.set(w,A-1)},{extra:o,onError:c=kL}=e;Tg(c);const f=w=>(w.unsubscribe=()=>t.delete(w.id),t.set(w.id,w),A=>{w.unsubscribe(),A?.cancelActive&&py(w)}),d=w=>{const A=LE(t,w)??TN(w);return f(A)};Bl(d,{withTypes:()=>d});const h=w=>{const A=LE(t,w);return A&&(A.unsubscribe(),w.cancelActive&&py(A)),!!A};Bl(h,{withTypes:()=>h});const m=async(w,A,O,E)=>{const j=new AbortController,_=TL(d,j.signal),C=[];try{w.pending.add(j),r(w),await Promise.resolve(w.effect(A,Bl({},O,{getOriginalState:E,condition:(D,T)=>_(D,T).then(Boolean),take:_,delay:CN(j.signal),pause:Sf(j.signal),extra:o,signal:j.signal,fork:_L(j.signal,C),unsubscribe:w.unsubscribe,subscribe:()=>{t.set(w.id,w)},cancelActiveListeners:()=>{w.pending.forEach((D,T,R)=>{D!==j&&(ji(D,vy),R.delete(D))})},cancel:()=>{ji(j,vy),w.pending.delete(j)},throwIfCancelled:()=>{Ni(j.signal)}})))}catch(D){D instanceof vd||BE(c,D,{raisedBy:"effect"})}finally{await Promise.all(C),ji(j,NL),l(w),w.pending.delete(j)}},p=ML(t,n);return{middleware:w=>A=>O=>{if(!oN(O))return A(O);if(MN.match(O))return d(O.payload);if(DL.match(O)){p();return}if(DN.match(O))return h(O.payload);let E=w.getState();const j=()=>{if(E===zE)throw new Error(kn(23));return E};let _;try{if(_=A(O),t.size>0){const C=w.getState(),D=Array.from(t.values());for(const T of D){let R=!1;try{R=T.predicate(O,C,E)}catch(k){R=!1,BE(c,k,{raisedBy:"predicate"})}R&&m(T,O,w,j)}}}finally{E=zE}return _},startListening:d,stopListening:h,clearListeners:p}};function kn(e){return`Minified Redux Toolkit error #${e}; visit https://redux-toolkit.js.org/Errors?code=${e} for the full message or use the non-minified dev environment for full errors. `}var PL={layoutType:"horizontal",width:0,height:0,margin:{top:5,right:5,bottom:5,left:5},scale:1},kN=gn({name:"chartLayout",initialState:PL,reducers:{setLayout(e,t){e.layoutType=t.payload},setChartSize(e,t){e.width=t.payload.width,e.height=t.payload.height},setMargin(e,t){var n,r,l,o;e.margin.top=(n=t.payload.top)!==null&&n!==void 0?n:0,e.margin.right=(r=t.payload.right)!==null&&r!==void 0?r:0,e.margin.bottom=(l=t.payload.bottom)!==null&&l!==void 0?l:0,e.margin.left=(o=t.payload.left)!==null&&o!==void 0?o:0},setScale(e,t){e.scale=t.payload}}}),{setMargin:RL,setLayout:zL,setChartSize:LL,setScale:BL}=kN.actions,UL=kN.reducer;function PN(e,t,n){return Array.isArray(e)&&e&&t+n!==0?e.slice(t,n+1):e}function UE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Dl(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?UE(Object(n),!0).forEach(function(r){IL(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):UE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function IL(e,t,n){return(t=qL(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function qL(e){var t=HL(e,"string");return typeof t=="symbol"?t:t+""}function HL(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function tn(e,t,n){return Wt(e)||Wt(t)?n:Sr(t)?od(e,t,n):typeof t=="function"?t(e):n}var $L=(e,t,n)=>{if(t&&n){var{width:r,height:l}=n,{align:o,verticalAlign:c,layout:f}=t;if((f==="vertical"||f==="horizontal"&&c==="middle")&&o!=="center"&&de(e[o]))return Dl(Dl({},e),{},{[o]:e[o]+(r||0)});if((f==="horizontal"||f==="vertical"&&o==="center")&&c!=="middle"&&de(e[c]))return Dl(Dl({},e),{},{[c]:e[c]+(l||0)})}return e},ca=(e,t)=>e==="horizontal"&&t==="xAxis"||e==="vertical"&&t==="yAxis"||e==="centric"&&t==="angleAxis"||e==="radial"&&t==="radiusAxis",RN=(e,t,n,r)=>{if(r)return e.map(f=>f.coordinate);var l,o,c=e.map(f=>(f.coordinate===t&&(l=!0),f.coordinate===n&&(o=!0),f.coordinate));return l||c.push(t),o||c.push(n),c},zN=(e,t,n)=>{if(!e)return null;var{duplicateDomain:r,type:l,range:o,scale:c,realScaleType:f,isCategorical:d,categoricalDomain:h,tickCount:m,ticks:p,niceTicks:x,axisType:w}=e;if(!c)return null;var A=f==="scaleBand"&&c.bandwidth?c.bandwidth()/2:2,O=l==="category"&&c.bandwidth?c.bandwidth()/A:0;if(O=w==="angleAxis"&&o&&o.length>=2?Vn(o[0]-o[1])*2*O:O,p||x){var E=(p||x||[]).map((j,_)=>{var C=r?r.indexOf(j):j;return{coordinate:c(C)+O,value:j,offset:O,index:_}});return E.filter(j=>!sr(j.coordinate))}return d&&h?h.map((j,_)=>({coordinate:c(j)+O,value:j,index:_,offset:O})):c.ticks&&m!=null?c.ticks(m).map((j,_)=>({coordinate:c(j)+O,value:j,offset:O,index:_})):c.domain().map((j,_)=>({coordinate:c(j)+O,value:r?r[j]:j,index:_,offset:O}))},IE=1e-4,YL=e=>{var t=e.domain();if(!(!t||t.length<=2)){var n=t.length,r=e.range(),l=Math.min(r[0],r[1])-IE,o=Math.max(r[0],r[1])+IE,c=e(t[0]),f=e(t[n-1]);(c<l||c>o||f<l||f>o)&&e.domain([t[0],t[n-1]])}},KL=e=>{var t=e.length;if(!(t<=0))for(var n=0,r=e[0].length;n<r;++n)for(var l=0,o=0,c=0;c<t;++c){var f=sr(e[c][n][1])?e[c][n][0]:e[c][n][1];f>=0?(e[c][n][0]=l,e[c][n][1]=l+f,l=e[c][n][1]):(e[c][n][0]=o,e[c][n][1]=o+f,o=e[c][n][1])}},GL=e=>{var t=e.length;if(!(t<=0))for(var n=0,r=e[0].length;n<r;++n)for(var l=0,o=0;o<t;++o){var c=sr(e[o][n][1])?e[o][n][0]:e[o][n][1];c>=0?(e[o][n][0]=l,e[o][n][1]=l+c,l=e[o][n][1]):(e[o][n][0]=0,e[o][n][1]=0)}},VL={sign:KL,expand:M4,none:ql,silhouette:D4,wiggle:k4,positive:GL},XL=(e,t,n)=>{var r=VL[n],l=T4().keys(t).value((o,c)=>Number(tn(o,c,0))).order(ly).offset(r);return l(e)};function FL(e){return e==null?void 0:String(e)}function qE(e){var{axis:t,ticks:n,bandSize:r,entry:l,index:o,dataKey:c}=e;if(t.type==="category"){if(!t.allowDuplicatedCategory&&t.dataKey&&!Wt(l[t.dataKey])){var f=Yj(n,"value",l[t.dataKey]);if(f)return f.coordinate+r/2}return n[o]?n[o].coordinate+r/2:null}var d=tn(l,Wt(c)?t.dataKey:c);return Wt(d)?null:t.scale(d)}var WL=e=>{var t=e.flat(2).filter(de);return[Math.min(...t),Math.max(...t)]},ZL=e=>[e[0]===1/0?0:e[0],e[1]===-1/0?0:e[1]],QL=(e,t,n)=>{if(e!=null)return ZL(Object.keys(e).reduce((r,l)=>{var o=e[l],{stackedData:c}=o,f=c.reduce((d,h)=>{var m=PN(h,t,n),p=WL(m);return[Math.min(d[0],p[0]),Math.max(d[1],p[1])]},[1/0,-1/0]);return[Math.min(f[0],r[0]),Math.max(f[1],r[1])]},[1/0,-1/0]))},HE=/^dataMin[\s]*-[\s]*([0-9]+([.]{1}[0-9]+){0,1})$/,$E=/^dataMax[\s]*\+[\s]*([0-9]+([.]{1}[0-9]+){0,1})$/,Ef=(e,t,n)=>{if(e&&e.scale&&e.scale.bandwidth){var r=e.scale.bandwidth();if(!n||r>0)return r}if(e&&t&&t.length>=2){for(var l=ud(t,m=>m.coordinate),o=1/0,c=1,f=l.length;c<f;c++){var d=l[c],h=l[c-1];o=Math.min((d.coordinate||0)-(h.coordinate||0),o)}return o===1/0?0:o}return n?void 0:0};function YE(e){var{tooltipEntrySettings:t,dataKey:n,payload:r,value:l,name:o}=e;return Dl(Dl({},t),{},{dataKey:n,payload:r,value:l,name:o})}function LN(e,t){if(e)return String(e);if(typeof t=="string")return t}var JL=(e,t)=>{if(t==="horizontal")return e.chartX;if(t==="vertical")return e.chartY},e6=(e,t)=>t==="centric"?e.angle:e.radius,sa=e=>e.layout.width,fa=e=>e.layout.height,t6=e=>e.layout.scale,BN=e=>e.layout.margin,yd=Y(e=>e.cartesianAxis.xAxis,e=>Object.values(e)),gd=Y(e=>e.cartesianAxis.yAxis,e=>Object.values(e)),n6="data-recharts-item-index",r6="data-recharts-item-data-key",Gu=60;function KE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function zs(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?KE(Object(n),!0).forEach(function(r){a6(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):KE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function a6(e,t,n){return(t=i6(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function i6(e){var t=l6(e,"string");return typeof t=="symbol"?t:t+""}function l6(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var o6=e=>e.brush.height;function u6(e){var t=gd(e);return t.reduce((n,r)=>{if(r.orientation==="left"&&!r.mirror&&!r.hide){var l=typeof r.width=="number"?r.width:Gu;return n+l}return n},0)}function c6(e){var t=gd(e);return t.reduce((n,r)=>{if(r.orientation==="right"&&!r.mirror&&!r.hide){var l=typeof r.width=="number"?r.width:Gu;return n+l}return n},0)}function s6(e){var t=yd(e);return t.reduce((n,r)=>r.orientation==="top"&&!r.mirror&&!r.hide?n+r.height:n,0)}function f6(e){var t=yd(e);return t.reduce((n,r)=>r.orientation==="bottom"&&!r.mirror&&!r.hide?n+r.height:n,0)}var Zt=Y([sa,fa,BN,o6,u6,c6,s6,f6,aN,L5],(e,t,n,r,l,o,c,f,d,h)=>{var m={left:(n.left||0)+l,right:(n.right||0)+o},p={top:(n.top||0)+c,bottom:(n.bottom||0)+f},x=zs(zs({},p),m),w=x.bottom;x.bottom+=r,x=$L(x,d,h);var A=e-x.left-x.right,O=t-x.top-x.bottom;return zs(zs({brushBottom:w},x),{},{width:Math.max(A,0),height:Math.max(O,0)})}),d6=Y(Zt,e=>({x:e.left,y:e.top,width:e.width,height:e.height})),UN=Y(sa,fa,(e,t)=>({x:0,y:0,width:e,height:t})),h6=g.createContext(null),bn=()=>g.useContext(h6)!=null,bd=e=>e.brush,xd=Y([bd,Zt,BN],(e,t,n)=>({height:e.height,x:de(e.x)?e.x:t.left,y:de(e.y)?e.y:t.top+t.height+t.brushBottom-(n?.bottom||0),width:de(e.width)?e.width:t.width})),dp={},hp={},mp={},GE;function m6(){return GE||(GE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n,r,{signal:l,edges:o}={}){let c,f=null;const d=o!=null&&o.includes("leading"),h=o==null||o.includes("trailing"),m=()=>{f!==null&&(n.apply(c,f),c=void 0,f=null)},p=()=>{h&&m(),O()};let x=null;const w=()=>{x!=null&&clearTimeout(x),x=setTimeout(()=>{x=null,p()},r)},A=()=>{x!==null&&(clearTimeout(x),x=null)},O=()=>{A(),c=void 0,f=null},E=()=>{m()},j=function(..._){if(l?.aborted)return;c=this,f=_;const C=x==null;w(),d&&C&&m()};return j.schedule=w,j.cancel=O,j.flush=E,l?.addEventListener("abort",O,{once:!0}),j}e.debounce=t})(mp)),mp}var VE;function v6(){return VE||(VE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=m6();function n(r,l=0,o={}){typeof o!="object"&&(o={});const{leading:c=!1,trailing:f=!0,maxWait:d}=o,h=Array(2);c&&(h[0]="leading"),f&&(h[1]="trailing");let m,p=null;const x=t.debounce(function(...O){m=r.apply(this,O),p=null},l,{edges:h}),w=function(...O){return d!=null&&(p===null&&(p=Date.now()),Date.now()-p>=d)?(m=r.apply(this,O),p=Date.now(),x.cancel(),x.schedule(),m):(x.apply(this,O),m)},A=()=>(x.flush(),m);return w.cancel=x.cancel,w.flush=A,w}e.debounce=n})(hp)),hp}var XE;function p6(){return XE||(XE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=v6();function n(r,l=0,o={}){const{leading:c=!0,trailing:f=!0}=o;return t.debounce(r,l,{leading:c,maxWait:l,trailing:f})}e.throttle=n})(dp)),dp}var vp,FE;function y6(){return FE||(FE=1,vp=p6().throttle),vp}var g6=y6();const b6=oa(g6);var Of=function(t,n){for(var r=arguments.length,l=new Array(r>2?r-2:0),o=2;o<r;o++)l[o-2]=arguments[o];if(typeof console<"u"&&console.warn&&(n===void 0&&console.warn("LogUtils requires an error message argument"),!t))if(n===void 0)console.warn("Minified exception occurred; use the non-minified dev environment for the full error message and additional helpful warnings.");else{var c=0;console.warn(n.replace(/%s/g,()=>l[c++]))}},IN=(e,t,n)=>{var{width:r="100%",height:l="100%",aspect:o,maxHeight:c}=n,f=ta(r)?e:Number(r),d=ta(l)?t:Number(l);return o&&o>0&&(f?d=f/o:d&&(f=d*o),c&&d!=null&&d>c&&(d=c)),{calculatedWidth:f,calculatedHeight:d}},x6={width:0,height:0,overflow:"visible"},w6={width:0,overflowX:"visible"},S6={height:0,overflowY:"visible"},E6={},O6=e=>{var{width:t,height:n}=e,r=ta(t),l=ta(n);return r&&l?x6:r?w6:l?S6:E6};function A6(e){var{width:t,height:n,aspect:r}=e,l=t,o=n;return l===void 0&&o===void 0?(l="100%",o="100%"):l===void 0?l=r&&r>0?void 0:"100%":o===void 0&&(o=r&&r>0?void 0:"100%"),{width:l,height:o}}function ot(e){return Number.isFinite(e)}function Er(e){return typeof e=="number"&&e>0&&Number.isFinite(e)}function yy(){return yy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},yy.apply(null,arguments)}function WE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function ZE(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?WE(Object(n),!0).forEach(function(r){j6(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):WE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function j6(e,t,n){return(t=N6(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function N6(e){var t=C6(e,"string");return typeof t=="symbol"?t:t+""}function C6(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var qN=g.createContext({width:-1,height:-1});function _6(e){return Er(e.width)&&Er(e.height)}function HN(e){var{children:t,width:n,height:r}=e,l=g.useMemo(()=>({width:n,height:r}),[n,r]);return _6(l)?g.createElement(qN.Provider,{value:l},t):null}var Mg=()=>g.useContext(qN),T6=g.forwardRef((e,t)=>{var{aspect:n,initialDimension:r={width:-1,height:-1},width:l,height:o,minWidth:c=0,minHeight:f,maxHeight:d,children:h,debounce:m=0,id:p,className:x,onResize:w,style:A={}}=e,O=g.useRef(null),E=g.useRef();E.current=w,g.useImperativeHandle(t,()=>O.current);var[j,_]=g.useState({containerWidth:r.width,containerHeight:r.height}),C=g.useCallback((I,re)=>{_(ae=>{var W=Math.round(I),J=Math.round(re);return ae.containerWidth===W&&ae.containerHeight===J?ae:{containerWidth:W,containerHeight:J}})},[]);g.useEffect(()=>{if(O.current==null||typeof ResizeObserver>"u")return Hu;var I=J=>{var pe,{width:ge,height:xe}=J[0].contentRect;C(ge,xe),(pe=E.current)===null||pe===void 0||pe.call(E,ge,xe)};m>0&&(I=b6(I,m,{trailing:!0,leading:!1}));var re=new ResizeObserver(I),{width:ae,height:W}=O.current.getBoundingClientRect();return C(ae,W),re.observe(O.current),()=>{re.disconnect()}},[C,m]);var{containerWidth:D,containerHeight:T}=j;Of(!n||n>0,"The aspect(%s) must be greater than zero.",n);var{calculatedWidth:R,calculatedHeight:k}=IN(D,T,{width:l,height:o,aspect:n,maxHeight:d});return Of(R!=null&&R>0||k!=null&&k>0,`The width(%s) and height(%s) of chart should be greater than 0,
-       please check the style of container, or the props width(%s) and height(%s),
-       or add a minWidth(%s) or minHeight(%s) or use aspect(%s) to control the
-       height and width.`,R,k,l,o,c,f,n),g.createElement("div",{id:p?"".concat(p):void 0,className:Ge("recharts-responsive-container",x),style:ZE(ZE({},A),{},{width:l,height:o,minWidth:c,minHeight:f,maxHeight:d}),ref:O},g.createElement("div",{style:O6({width:l,height:o})},g.createElement(HN,{width:R,height:k},h)))}),$N=g.forwardRef((e,t)=>{var n=Mg();if(Er(n.width)&&Er(n.height))return e.children;var{width:r,height:l}=A6({width:e.width,height:e.height,aspect:e.aspect}),{calculatedWidth:o,calculatedHeight:c}=IN(void 0,void 0,{width:r,height:l,aspect:e.aspect,maxHeight:e.maxHeight});return de(o)&&de(c)?g.createElement(HN,{width:o,height:c},e.children):g.createElement(T6,yy({},e,{width:r,height:l,ref:t}))});function YN(e){if(e)return{x:e.x,y:e.y,upperWidth:"upperWidth"in e?e.upperWidth:e.width,lowerWidth:"lowerWidth"in e?e.lowerWidth:e.width,width:e.width,height:e.height}}var wd=()=>{var e,t=bn(),n=ve(d6),r=ve(xd),l=(e=ve(bd))===null||e===void 0?void 0:e.padding;return!t||!r||!l?n:{width:r.width-l.left-l.right,height:r.height-l.top-l.bottom,x:l.left,y:l.top}},M6={top:0,bottom:0,left:0,right:0,width:0,height:0,brushBottom:0},KN=()=>{var e;return(e=ve(Zt))!==null&&e!==void 0?e:M6},GN=()=>ve(sa),VN=()=>ve(fa),Xe=e=>e.layout.layoutType,Vu=()=>ve(Xe),D6=()=>{var e=Vu();if(e==="horizontal"||e==="vertical")return e},k6=()=>{var e=Vu();return e!==void 0},Sd=e=>{var t=zt(),n=bn(),{width:r,height:l}=e,o=Mg(),c=r,f=l;return o&&(c=o.width>0?o.width:r,f=o.height>0?o.height:l),g.useEffect(()=>{!n&&Er(c)&&Er(f)&&t(LL({width:c,height:f}))},[t,n,c,f]),null},XN=Symbol.for("immer-nothing"),QE=Symbol.for("immer-draftable"),Pn=Symbol.for("immer-state");function lr(e,...t){throw new Error(`[Immer] minified error nr: ${e}. Full error at: https://bit.ly/3cXEKWf`)}var ju=Object.getPrototypeOf;function Yl(e){return!!e&&!!e[Pn]}function Mi(e){return e?FN(e)||Array.isArray(e)||!!e[QE]||!!e.constructor?.[QE]||Xu(e)||Od(e):!1}var P6=Object.prototype.constructor.toString(),JE=new WeakMap;function FN(e){if(!e||typeof e!="object")return!1;const t=Object.getPrototypeOf(e);if(t===null||t===Object.prototype)return!0;const n=Object.hasOwnProperty.call(t,"constructor")&&t.constructor;if(n===Object)return!0;if(typeof n!="function")return!1;let r=JE.get(n);return r===void 0&&(r=Function.toString.call(n),JE.set(n,r)),r===P6}function Af(e,t,n=!0){Ed(e)===0?(n?Reflect.ownKeys(e):Object.keys(e)).forEach(l=>{t(l,e[l],e)}):e.forEach((r,l)=>t(l,r,e))}function Ed(e){const t=e[Pn];return t?t.type_:Array.isArray(e)?1:Xu(e)?2:Od(e)?3:0}function gy(e,t){return Ed(e)===2?e.has(t):Object.prototype.hasOwnProperty.call(e,t)}function WN(e,t,n){const r=Ed(e);r===2?e.set(t,n):r===3?e.add(n):e[t]=n}function R6(e,t){return e===t?e!==0||1/e===1/t:e!==e&&t!==t}function Xu(e){return e instanceof Map}function Od(e){return e instanceof Set}function wi(e){return e.copy_||e.base_}function by(e,t){if(Xu(e))return new Map(e);if(Od(e))return new Set(e);if(Array.isArray(e))return Array.prototype.slice.call(e);const n=FN(e);if(t===!0||t==="class_only"&&!n){const r=Object.getOwnPropertyDescriptors(e);delete r[Pn];let l=Reflect.ownKeys(r);for(let o=0;o<l.length;o++){const c=l[o],f=r[c];f.writable===!1&&(f.writable=!0,f.configurable=!0),(f.get||f.set)&&(r[c]={configurable:!0,writable:!0,enumerable:f.enumerable,value:e[c]})}return Object.create(ju(e),r)}else{const r=ju(e);if(r!==null&&n)return{...e};const l=Object.create(r);return Object.assign(l,e)}}function Dg(e,t=!1){return Ad(e)||Yl(e)||!Mi(e)||(Ed(e)>1&&Object.defineProperties(e,{set:Ls,add:Ls,clear:Ls,delete:Ls}),Object.freeze(e),t&&Object.values(e).forEach(n=>Dg(n,!0))),e}function z6(){lr(2)}var Ls={value:z6};function Ad(e){return e===null||typeof e!="object"?!0:Object.isFrozen(e)}var L6={};function Di(e){const t=L6[e];return t||lr(0,e),t}var Nu;function ZN(){return Nu}function B6(e,t){return{drafts_:[],parent_:e,immer_:t,canAutoFreeze_:!0,unfinalizedDrafts_:0}}function eO(e,t){t&&(Di("Patches"),e.patches_=[],e.inversePatches_=[],e.patchListener_=t)}function xy(e){wy(e),e.drafts_.forEach(U6),e.drafts_=null}function wy(e){e===Nu&&(Nu=e.parent_)}function tO(e){return Nu=B6(Nu,e)}function U6(e){const t=e[Pn];t.type_===0||t.type_===1?t.revoke_():t.revoked_=!0}function nO(e,t){t.unfinalizedDrafts_=t.drafts_.length;const n=t.drafts_[0];return e!==void 0&&e!==n?(n[Pn].modified_&&(xy(t),lr(4)),Mi(e)&&(e=jf(t,e),t.parent_||Nf(t,e)),t.patches_&&Di("Patches").generateReplacementPatches_(n[Pn].base_,e,t.patches_,t.inversePatches_)):e=jf(t,n,[]),xy(t),t.patches_&&t.patchListener_(t.patches_,t.inversePatches_),e!==XN?e:void 0}function jf(e,t,n){if(Ad(t))return t;const r=e.immer_.shouldUseStrictIteration(),l=t[Pn];if(!l)return Af(t,(o,c)=>rO(e,l,t,o,c,n),r),t;if(l.scope_!==e)return t;if(!l.modified_)return Nf(e,l.base_,!0),l.base_;if(!l.finalized_){l.finalized_=!0,l.scope_.unfinalizedDrafts_--;const o=l.copy_;let c=o,f=!1;l.type_===3&&(c=new Set(o),o.clear(),f=!0),Af(c,(d,h)=>rO(e,l,o,d,h,n,f),r),Nf(e,o,!1),n&&e.patches_&&Di("Patches").generatePatches_(l,n,e.patches_,e.inversePatches_)}return l.copy_}function rO(e,t,n,r,l,o,c){if(l==null||typeof l!="object"&&!c)return;const f=Ad(l);if(!(f&&!c)){if(Yl(l)){const d=o&&t&&t.type_!==3&&!gy(t.assigned_,r)?o.concat(r):void 0,h=jf(e,l,d);if(WN(n,r,h),Yl(h))e.canAutoFreeze_=!1;else return}else c&&n.add(l);if(Mi(l)&&!f){if(!e.immer_.autoFreeze_&&e.unfinalizedDrafts_<1||t&&t.base_&&t.base_[r]===l&&f)return;jf(e,l),(!t||!t.scope_.parent_)&&typeof r!="symbol"&&(Xu(n)?n.has(r):Object.prototype.propertyIsEnumerable.call(n,r))&&Nf(e,l)}}}function Nf(e,t,n=!1){!e.parent_&&e.immer_.autoFreeze_&&e.canAutoFreeze_&&Dg(t,n)}function I6(e,t){const n=Array.isArray(e),r={type_:n?1:0,scope_:t?t.scope_:ZN(),modified_:!1,finalized_:!1,assigned_:{},parent_:t,base_:e,draft_:null,copy_:null,revoke_:null,isManual_:!1};let l=r,o=kg;n&&(l=[r],o=Cu);const{revoke:c,proxy:f}=Proxy.revocable(l,o);return r.draft_=f,r.revoke_=c,f}var kg={get(e,t){if(t===Pn)return e;const n=wi(e);if(!gy(n,t))return q6(e,n,t);const r=n[t];return e.finalized_||!Mi(r)?r:r===pp(e.base_,t)?(yp(e),e.copy_[t]=Ey(r,e)):r},has(e,t){return t in wi(e)},ownKeys(e){return Reflect.ownKeys(wi(e))},set(e,t,n){const r=QN(wi(e),t);if(r?.set)return r.set.call(e.draft_,n),!0;if(!e.modified_){const l=pp(wi(e),t),o=l?.[Pn];if(o&&o.base_===n)return e.copy_[t]=n,e.assigned_[t]=!1,!0;if(R6(n,l)&&(n!==void 0||gy(e.base_,t)))return!0;yp(e),Sy(e)}return e.copy_[t]===n&&(n!==void 0||t in e.copy_)||Number.isNaN(n)&&Number.isNaN(e.copy_[t])||(e.copy_[t]=n,e.assigned_[t]=!0),!0},deleteProperty(e,t){return pp(e.base_,t)!==void 0||t in e.base_?(e.assigned_[t]=!1,yp(e),Sy(e)):delete e.assigned_[t],e.copy_&&delete e.copy_[t],!0},getOwnPropertyDescriptor(e,t){const n=wi(e),r=Reflect.getOwnPropertyDescriptor(n,t);return r&&{writable:!0,configurable:e.type_!==1||t!=="length",enumerable:r.enumerable,value:n[t]}},defineProperty(){lr(11)},getPrototypeOf(e){return ju(e.base_)},setPrototypeOf(){lr(12)}},Cu={};Af(kg,(e,t)=>{Cu[e]=function(){return arguments[0]=arguments[0][0],t.apply(this,arguments)}});Cu.deleteProperty=function(e,t){return Cu.set.call(this,e,t,void 0)};Cu.set=function(e,t,n){return kg.set.call(this,e[0],t,n,e[0])};function pp(e,t){const n=e[Pn];return(n?wi(n):e)[t]}function q6(e,t,n){const r=QN(t,n);return r?"value"in r?r.value:r.get?.call(e.draft_):void 0}function QN(e,t){if(!(t in e))return;let n=ju(e);for(;n;){const r=Object.getOwnPropertyDescriptor(n,t);if(r)return r;n=ju(n)}}function Sy(e){e.modified_||(e.modified_=!0,e.parent_&&Sy(e.parent_))}function yp(e){e.copy_||(e.copy_=by(e.base_,e.scope_.immer_.useStrictShallowCopy_))}var H6=class{constructor(e){this.autoFreeze_=!0,this.useStrictShallowCopy_=!1,this.useStrictIteration_=!0,this.produce=(t,n,r)=>{if(typeof t=="function"&&typeof n!="function"){const o=n;n=t;const c=this;return function(d=o,...h){return c.produce(d,m=>n.call(this,m,...h))}}typeof n!="function"&&lr(6),r!==void 0&&typeof r!="function"&&lr(7);let l;if(Mi(t)){const o=tO(this),c=Ey(t,void 0);let f=!0;try{l=n(c),f=!1}finally{f?xy(o):wy(o)}return eO(o,r),nO(l,o)}else if(!t||typeof t!="object"){if(l=n(t),l===void 0&&(l=t),l===XN&&(l=void 0),this.autoFreeze_&&Dg(l,!0),r){const o=[],c=[];Di("Patches").generateReplacementPatches_(t,l,o,c),r(o,c)}return l}else lr(1,t)},this.produceWithPatches=(t,n)=>{if(typeof t=="function")return(c,...f)=>this.produceWithPatches(c,d=>t(d,...f));let r,l;return[this.produce(t,n,(c,f)=>{r=c,l=f}),r,l]},typeof e?.autoFreeze=="boolean"&&this.setAutoFreeze(e.autoFreeze),typeof e?.useStrictShallowCopy=="boolean"&&this.setUseStrictShallowCopy(e.useStrictShallowCopy),typeof e?.useStrictIteration=="boolean"&&this.setUseStrictIteration(e.useStrictIteration)}createDraft(e){Mi(e)||lr(8),Yl(e)&&(e=$6(e));const t=tO(this),n=Ey(e,void 0);return n[Pn].isManual_=!0,wy(t),n}finishDraft(e,t){const n=e&&e[Pn];(!n||!n.isManual_)&&lr(9);const{scope_:r}=n;return eO(r,t),nO(void 0,r)}setAutoFreeze(e){this.autoFreeze_=e}setUseStrictShallowCopy(e){this.useStrictShallowCopy_=e}setUseStrictIteration(e){this.useStrictIteration_=e}shouldUseStrictIteration(){return this.useStrictIteration_}applyPatches(e,t){let n;for(n=t.length-1;n>=0;n--){const l=t[n];if(l.path.length===0&&l.op==="replace"){e=l.value;break}}n>-1&&(t=t.slice(n+1));const r=Di("Patches").applyPatches_;return Yl(e)?r(e,t):this.produce(e,l=>r(l,t))}};function Ey(e,t){const n=Xu(e)?Di("MapSet").proxyMap_(e,t):Od(e)?Di("MapSet").proxySet_(e,t):I6(e,t);return(t?t.scope_:ZN()).drafts_.push(n),n}function $6(e){return Yl(e)||lr(10,e),JN(e)}function JN(e){if(!Mi(e)||Ad(e))return e;const t=e[Pn];let n,r=!0;if(t){if(!t.modified_)return t.base_;t.finalized_=!0,n=by(e,t.scope_.immer_.useStrictShallowCopy_),r=t.scope_.immer_.shouldUseStrictIteration()}else n=by(e,!0);return Af(n,(l,o)=>{WN(n,l,JN(o))},r),t&&(t.finalized_=!1),n}var Y6=new H6;Y6.produce;var K6={settings:{layout:"horizontal",align:"center",verticalAlign:"middle",itemSorter:"value"},size:{width:0,height:0},payload:[]},eC=gn({name:"legend",initialState:K6,reducers:{setLegendSize(e,t){e.size.width=t.payload.width,e.size.height=t.payload.height},setLegendSettings(e,t){e.settings.align=t.payload.align,e.settings.layout=t.payload.layout,e.settings.verticalAlign=t.payload.verticalAlign,e.settings.itemSorter=t.payload.itemSorter},addLegendPayload:{reducer(e,t){e.payload.push(t.payload)},prepare:et()},replaceLegendPayload:{reducer(e,t){var{prev:n,next:r}=t.payload,l=ur(e).payload.indexOf(n);l>-1&&(e.payload[l]=r)},prepare:et()},removeLegendPayload:{reducer(e,t){var n=ur(e).payload.indexOf(t.payload);n>-1&&e.payload.splice(n,1)},prepare:et()}}}),{setLegendSize:AF,setLegendSettings:jF,addLegendPayload:G6,replaceLegendPayload:V6,removeLegendPayload:X6}=eC.actions,F6=eC.reducer;function Oy(){return Oy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Oy.apply(null,arguments)}function aO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function gp(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?aO(Object(n),!0).forEach(function(r){W6(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):aO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function W6(e,t,n){return(t=Z6(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Z6(e){var t=Q6(e,"string");return typeof t=="symbol"?t:t+""}function Q6(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function J6(e){return Array.isArray(e)&&Sr(e[0])&&Sr(e[1])?e.join(" ~ "):e}var e8=e=>{var{separator:t=" : ",contentStyle:n={},itemStyle:r={},labelStyle:l={},payload:o,formatter:c,itemSorter:f,wrapperClassName:d,labelClassName:h,label:m,labelFormatter:p,accessibilityLayer:x=!1}=e,w=()=>{if(o&&o.length){var T={padding:0,margin:0},R=(f?ud(o,f):o).map((k,I)=>{if(k.type==="none")return null;var re=k.formatter||c||J6,{value:ae,name:W}=k,J=ae,pe=W;if(re){var ge=re(ae,W,k,I,o);if(Array.isArray(ge))[J,pe]=ge;else if(ge!=null)J=ge;else return null}var xe=gp({display:"block",paddingTop:4,paddingBottom:4,color:k.color||"#000"},r);return g.createElement("li",{className:"recharts-tooltip-item",key:"tooltip-item-".concat(I),style:xe},Sr(pe)?g.createElement("span",{className:"recharts-tooltip-item-name"},pe):null,Sr(pe)?g.createElement("span",{className:"recharts-tooltip-item-separator"},t):null,g.createElement("span",{className:"recharts-tooltip-item-value"},J),g.createElement("span",{className:"recharts-tooltip-item-unit"},k.unit||""))});return g.createElement("ul",{className:"recharts-tooltip-item-list",style:T},R)}return null},A=gp({margin:0,padding:10,backgroundColor:"#fff",border:"1px solid #ccc",whiteSpace:"nowrap"},n),O=gp({margin:0},l),E=!Wt(m),j=E?m:"",_=Ge("recharts-default-tooltip",d),C=Ge("recharts-tooltip-label",h);E&&p&&o!==void 0&&o!==null&&(j=p(m,o));var D=x?{role:"status","aria-live":"assertive"}:{};return g.createElement("div",Oy({className:_,style:A},D),g.createElement("p",{className:C,style:O},g.isValidElement(j)?j:"".concat(j)),w())},su="recharts-tooltip-wrapper",t8={visibility:"hidden"};function n8(e){var{coordinate:t,translateX:n,translateY:r}=e;return Ge(su,{["".concat(su,"-right")]:de(n)&&t&&de(t.x)&&n>=t.x,["".concat(su,"-left")]:de(n)&&t&&de(t.x)&&n<t.x,["".concat(su,"-bottom")]:de(r)&&t&&de(t.y)&&r>=t.y,["".concat(su,"-top")]:de(r)&&t&&de(t.y)&&r<t.y})}function iO(e){var{allowEscapeViewBox:t,coordinate:n,key:r,offsetTopLeft:l,position:o,reverseDirection:c,tooltipDimension:f,viewBox:d,viewBoxDimension:h}=e;if(o&&de(o[r]))return o[r];var m=n[r]-f-(l>0?l:0),p=n[r]+l;if(t[r])return c[r]?m:p;var x=d[r];if(x==null)return 0;if(c[r]){var w=m,A=x;return w<A?Math.max(p,x):Math.max(m,x)}if(h==null)return 0;var O=p+f,E=x+h;return O>E?Math.max(m,x):Math.max(p,x)}function r8(e){var{translateX:t,translateY:n,useTranslate3d:r}=e;return{transform:r?"translate3d(".concat(t,"px, ").concat(n,"px, 0)"):"translate(".concat(t,"px, ").concat(n,"px)")}}function a8(e){var{allowEscapeViewBox:t,coordinate:n,offsetTopLeft:r,position:l,reverseDirection:o,tooltipBox:c,useTranslate3d:f,viewBox:d}=e,h,m,p;return c.height>0&&c.width>0&&n?(m=iO({allowEscapeViewBox:t,coordinate:n,key:"x",offsetTopLeft:r,position:l,reverseDirection:o,tooltipDimension:c.width,viewBox:d,viewBoxDimension:d.width}),p=iO({allowEscapeViewBox:t,coordinate:n,key:"y",offsetTopLeft:r,position:l,reverseDirection:o,tooltipDimension:c.height,viewBox:d,viewBoxDimension:d.height}),h=r8({translateX:m,translateY:p,useTranslate3d:f})):h=t8,{cssProperties:h,cssClasses:n8({translateX:m,translateY:p,coordinate:n})}}function lO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Bs(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?lO(Object(n),!0).forEach(function(r){Ay(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):lO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Ay(e,t,n){return(t=i8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function i8(e){var t=l8(e,"string");return typeof t=="symbol"?t:t+""}function l8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}class o8 extends g.PureComponent{constructor(){super(...arguments),Ay(this,"state",{dismissed:!1,dismissedAtCoordinate:{x:0,y:0}}),Ay(this,"handleKeyDown",t=>{if(t.key==="Escape"){var n,r,l,o;this.setState({dismissed:!0,dismissedAtCoordinate:{x:(n=(r=this.props.coordinate)===null||r===void 0?void 0:r.x)!==null&&n!==void 0?n:0,y:(l=(o=this.props.coordinate)===null||o===void 0?void 0:o.y)!==null&&l!==void 0?l:0}})}})}componentDidMount(){document.addEventListener("keydown",this.handleKeyDown)}componentWillUnmount(){document.removeEventListener("keydown",this.handleKeyDown)}componentDidUpdate(){var t,n;this.state.dismissed&&(((t=this.props.coordinate)===null||t===void 0?void 0:t.x)!==this.state.dismissedAtCoordinate.x||((n=this.props.coordinate)===null||n===void 0?void 0:n.y)!==this.state.dismissedAtCoordinate.y)&&(this.state.dismissed=!1)}render(){var{active:t,allowEscapeViewBox:n,animationDuration:r,animationEasing:l,children:o,coordinate:c,hasPayload:f,isAnimationActive:d,offset:h,position:m,reverseDirection:p,useTranslate3d:x,viewBox:w,wrapperStyle:A,lastBoundingBox:O,innerRef:E,hasPortalFromProps:j}=this.props,{cssClasses:_,cssProperties:C}=a8({allowEscapeViewBox:n,coordinate:c,offsetTopLeft:h,position:m,reverseDirection:p,tooltipBox:{height:O.height,width:O.width},useTranslate3d:x,viewBox:w}),D=j?{}:Bs(Bs({transition:d&&t?"transform ".concat(r,"ms ").concat(l):void 0},C),{},{pointerEvents:"none",visibility:!this.state.dismissed&&t&&f?"visible":"hidden",position:"absolute",top:0,left:0}),T=Bs(Bs({},D),{},{visibility:!this.state.dismissed&&t&&f?"visible":"hidden"},A);return g.createElement("div",{xmlns:"http://www.w3.org/1999/xhtml",tabIndex:-1,className:_,style:T,ref:E},o)}}var tC=()=>{var e;return(e=ve(t=>t.rootProps.accessibilityLayer))!==null&&e!==void 0?e:!0};function jy(){return jy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},jy.apply(null,arguments)}function oO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function uO(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?oO(Object(n),!0).forEach(function(r){u8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):oO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function u8(e,t,n){return(t=c8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function c8(e){var t=s8(e,"string");return typeof t=="symbol"?t:t+""}function s8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var cO={curveBasisClosed:b4,curveBasisOpen:x4,curveBasis:g4,curveBumpX:p4,curveBumpY:y4,curveLinearClosed:w4,curveLinear:id,curveMonotoneX:S4,curveMonotoneY:E4,curveNatural:O4,curveStep:A4,curveStepAfter:N4,curveStepBefore:j4},Cf=e=>ot(e.x)&&ot(e.y),sO=e=>e.base!=null&&Cf(e.base)&&Cf(e),fu=e=>e.x,du=e=>e.y,f8=(e,t)=>{if(typeof e=="function")return e;var n="curve".concat(bg(e));return(n==="curveMonotone"||n==="curveBump")&&t?cO["".concat(n).concat(t==="vertical"?"Y":"X")]:cO[n]||id},d8=e=>{var{type:t="linear",points:n=[],baseLine:r,layout:l,connectNulls:o=!1}=e,c=f8(t,l),f=o?n.filter(Cf):n,d;if(Array.isArray(r)){var h=n.map((w,A)=>uO(uO({},w),{},{base:r[A]}));l==="vertical"?d=Ts().y(du).x1(fu).x0(w=>w.base.x):d=Ts().x(fu).y1(du).y0(w=>w.base.y);var m=d.defined(sO).curve(c),p=o?h.filter(sO):h;return m(p)}l==="vertical"&&de(r)?d=Ts().y(du).x1(fu).x0(r):de(r)?d=Ts().x(fu).y1(du).y0(r):d=kj().x(fu).y(du);var x=d.defined(Cf).curve(c);return x(f)},nf=e=>{var{className:t,points:n,path:r,pathRef:l}=e;if((!n||!n.length)&&!r)return null;var o=n&&n.length?d8(e):r;return g.createElement("path",jy({},cr(e),xg(e),{className:Ge("recharts-curve",t),d:o===null?void 0:o,ref:l}))},h8=["x","y","top","left","width","height","className"];function Ny(){return Ny=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Ny.apply(null,arguments)}function fO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function m8(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?fO(Object(n),!0).forEach(function(r){v8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):fO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function v8(e,t,n){return(t=p8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function p8(e){var t=y8(e,"string");return typeof t=="symbol"?t:t+""}function y8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function g8(e,t){if(e==null)return{};var n,r,l=b8(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function b8(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var x8=(e,t,n,r,l,o)=>"M".concat(e,",").concat(l,"v").concat(r,"M").concat(o,",").concat(t,"h").concat(n),w8=e=>{var{x:t=0,y:n=0,top:r=0,left:l=0,width:o=0,height:c=0,className:f}=e,d=g8(e,h8),h=m8({x:t,y:n,top:r,left:l,width:o,height:c},d);return!de(t)||!de(n)||!de(o)||!de(c)||!de(r)||!de(l)?null:g.createElement("path",Ny({},Wn(h),{className:Ge("recharts-cross",f),d:x8(t,n,o,c,r,l)}))};function S8(e,t,n,r){var l=r/2;return{stroke:"none",fill:"#ccc",x:e==="horizontal"?t.x-l:n.left+.5,y:e==="horizontal"?n.top+.5:t.y-l,width:e==="horizontal"?r:n.width-1,height:e==="horizontal"?n.height-1:r}}function dO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function hO(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?dO(Object(n),!0).forEach(function(r){E8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):dO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function E8(e,t,n){return(t=O8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function O8(e){var t=A8(e,"string");return typeof t=="symbol"?t:t+""}function A8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var j8=e=>e.replace(/([A-Z])/g,t=>"-".concat(t.toLowerCase())),N8=(e,t,n)=>e.map(r=>"".concat(j8(r)," ").concat(t,"ms ").concat(n)).join(","),C8=(e,t)=>[Object.keys(e),Object.keys(t)].reduce((n,r)=>n.filter(l=>r.includes(l))),_u=(e,t)=>Object.keys(t).reduce((n,r)=>hO(hO({},n),{},{[r]:e(r,t[r])}),{});function mO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function wt(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?mO(Object(n),!0).forEach(function(r){_8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):mO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function _8(e,t,n){return(t=T8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function T8(e){var t=M8(e,"string");return typeof t=="symbol"?t:t+""}function M8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var _f=(e,t,n)=>e+(t-e)*n,Cy=e=>{var{from:t,to:n}=e;return t!==n},nC=(e,t,n)=>{var r=_u((l,o)=>{if(Cy(o)){var[c,f]=e(o.from,o.to,o.velocity);return wt(wt({},o),{},{from:c,velocity:f})}return o},t);return n<1?_u((l,o)=>Cy(o)?wt(wt({},o),{},{velocity:_f(o.velocity,r[l].velocity,n),from:_f(o.from,r[l].from,n)}):o,t):nC(e,r,n-1)};function D8(e,t,n,r,l,o){var c,f=r.reduce((x,w)=>wt(wt({},x),{},{[w]:{from:e[w],velocity:0,to:t[w]}}),{}),d=()=>_u((x,w)=>w.from,f),h=()=>!Object.values(f).filter(Cy).length,m=null,p=x=>{c||(c=x);var w=x-c,A=w/n.dt;f=nC(n,f,A),l(wt(wt(wt({},e),t),d())),c=x,h()||(m=o.setTimeout(p))};return()=>(m=o.setTimeout(p),()=>{var x;(x=m)===null||x===void 0||x()})}function k8(e,t,n,r,l,o,c){var f=null,d=l.reduce((p,x)=>wt(wt({},p),{},{[x]:[e[x],t[x]]}),{}),h,m=p=>{h||(h=p);var x=(p-h)/r,w=_u((O,E)=>_f(...E,n(x)),d);if(o(wt(wt(wt({},e),t),w)),x<1)f=c.setTimeout(m);else{var A=_u((O,E)=>_f(...E,n(1)),d);o(wt(wt(wt({},e),t),A))}};return()=>(f=c.setTimeout(m),()=>{var p;(p=f)===null||p===void 0||p()})}const P8=(e,t,n,r,l,o)=>{var c=C8(e,t);return n==null?()=>(l(wt(wt({},e),t)),()=>{}):n.isStepper===!0?D8(e,t,n,c,l,o):k8(e,t,n,r,c,l,o)};var Tf=1e-4,rC=(e,t)=>[0,3*e,3*t-6*e,3*e-3*t+1],aC=(e,t)=>e.map((n,r)=>n*t**r).reduce((n,r)=>n+r),vO=(e,t)=>n=>{var r=rC(e,t);return aC(r,n)},R8=(e,t)=>n=>{var r=rC(e,t),l=[...r.map((o,c)=>o*c).slice(1),0];return aC(l,n)},z8=function(){for(var t=arguments.length,n=new Array(t),r=0;r<t;r++)n[r]=arguments[r];if(n.length===1)switch(n[0]){case"linear":return[0,0,1,1];case"ease":return[.25,.1,.25,1];case"ease-in":return[.42,0,1,1];case"ease-out":return[.42,0,.58,1];case"ease-in-out":return[0,0,.58,1];default:{var l,o=n[0].split("(");if(o[0]==="cubic-bezier"&&((l=o[1])===null||l===void 0?void 0:l.split(")")[0].split(",").length)===4){var c=o[1].split(")")[0].split(",").map(f=>parseFloat(f));return[c[0],c[1],c[2],c[3]]}}}return n.length===4?n:[0,0,1,1]},L8=(e,t,n,r)=>{var l=vO(e,n),o=vO(t,r),c=R8(e,n),f=h=>h>1?1:h<0?0:h,d=h=>{for(var m=h>1?1:h,p=m,x=0;x<8;++x){var w=l(p)-m,A=c(p);if(Math.abs(w-m)<Tf||A<Tf)return o(p);p=f(p-w/A)}return o(p)};return d.isStepper=!1,d},pO=function(){return L8(...z8(...arguments))},B8=function(){var t=arguments.length>0&&arguments[0]!==void 0?arguments[0]:{},{stiff:n=100,damping:r=8,dt:l=17}=t,o=(c,f,d)=>{var h=-(c-f)*n,m=d*r,p=d+(h-m)*l/1e3,x=d*l/1e3+c;return Math.abs(x-f)<Tf&&Math.abs(p)<Tf?[f,0]:[x,p]};return o.isStepper=!0,o.dt=l,o},U8=e=>{if(typeof e=="string")switch(e){case"ease":case"ease-in-out":case"ease-out":case"ease-in":case"linear":return pO(e);case"spring":return B8();default:if(e.split("(")[0]==="cubic-bezier")return pO(e)}return typeof e=="function"?e:null};function I8(e){var t,n=()=>null,r=!1,l=null,o=c=>{if(!r){if(Array.isArray(c)){if(!c.length)return;var f=c,[d,...h]=f;if(typeof d=="number"){l=e.setTimeout(o.bind(null,h),d);return}o(d),l=e.setTimeout(o.bind(null,h));return}typeof c=="string"&&(t=c,n(t)),typeof c=="object"&&(t=c,n(t)),typeof c=="function"&&c()}};return{stop:()=>{r=!0},start:c=>{r=!1,l&&(l(),l=null),o(c)},subscribe:c=>(n=c,()=>{n=()=>null}),getTimeoutController:()=>e}}class q8{setTimeout(t){var n=arguments.length>1&&arguments[1]!==void 0?arguments[1]:0,r=performance.now(),l=null,o=c=>{c-r>=n?t(c):typeof requestAnimationFrame=="function"&&(l=requestAnimationFrame(o))};return l=requestAnimationFrame(o),()=>{l!=null&&cancelAnimationFrame(l)}}}function H8(){return I8(new q8)}var $8=g.createContext(H8);function Y8(e,t){var n=g.useContext($8);return g.useMemo(()=>t??n(e),[e,t,n])}var K8=()=>!(typeof window<"u"&&window.document&&window.document.createElement&&window.setTimeout),ro={devToolsEnabled:!1,isSsr:K8()},G8={begin:0,duration:1e3,easing:"ease",isActive:!0,canBegin:!0,onAnimationEnd:()=>{},onAnimationStart:()=>{}},yO={t:0},bp={t:1};function iC(e){var t=Rn(e,G8),{isActive:n,canBegin:r,duration:l,easing:o,begin:c,onAnimationEnd:f,onAnimationStart:d,children:h}=t,m=n==="auto"?!ro.isSsr:n,p=Y8(t.animationId,t.animationManager),[x,w]=g.useState(m?yO:bp),A=g.useRef(null);return g.useEffect(()=>{m||w(bp)},[m]),g.useEffect(()=>{if(!m||!r)return Hu;var O=P8(yO,bp,U8(o),l,w,p.getTimeoutController()),E=()=>{A.current=O()};return p.start([d,c,E,l,f]),()=>{p.stop(),A.current&&A.current(),f()}},[m,r,l,o,c,d,f,p]),h(x.t)}function lC(e){var t=arguments.length>1&&arguments[1]!==void 0?arguments[1]:"animation-",n=g.useRef(Su(t)),r=g.useRef(e);return r.current!==e&&(n.current=Su(t),r.current=e),n.current}var V8=["radius"],X8=["radius"];function gO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function bO(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?gO(Object(n),!0).forEach(function(r){F8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):gO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function F8(e,t,n){return(t=W8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function W8(e){var t=Z8(e,"string");return typeof t=="symbol"?t:t+""}function Z8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Mf(){return Mf=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Mf.apply(null,arguments)}function xO(e,t){if(e==null)return{};var n,r,l=Q8(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function Q8(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var wO=(e,t,n,r,l)=>{var o=Math.min(Math.abs(n)/2,Math.abs(r)/2),c=r>=0?1:-1,f=n>=0?1:-1,d=r>=0&&n>=0||r<0&&n<0?1:0,h;if(o>0&&l instanceof Array){for(var m=[0,0,0,0],p=0,x=4;p<x;p++)m[p]=l[p]>o?o:l[p];h="M".concat(e,",").concat(t+c*m[0]),m[0]>0&&(h+="A ".concat(m[0],",").concat(m[0],",0,0,").concat(d,",").concat(e+f*m[0],",").concat(t)),h+="L ".concat(e+n-f*m[1],",").concat(t),m[1]>0&&(h+="A ".concat(m[1],",").concat(m[1],",0,0,").concat(d,`,
-        `).concat(e+n,",").concat(t+c*m[1])),h+="L ".concat(e+n,",").concat(t+r-c*m[2]),m[2]>0&&(h+="A ".concat(m[2],",").concat(m[2],",0,0,").concat(d,`,
-        `).concat(e+n-f*m[2],",").concat(t+r)),h+="L ".concat(e+f*m[3],",").concat(t+r),m[3]>0&&(h+="A ".concat(m[3],",").concat(m[3],",0,0,").concat(d,`,
-        `).concat(e,",").concat(t+r-c*m[3])),h+="Z"}else if(o>0&&l===+l&&l>0){var w=Math.min(o,l);h="M ".concat(e,",").concat(t+c*w,`
-            A `).concat(w,",").concat(w,",0,0,").concat(d,",").concat(e+f*w,",").concat(t,`
-            L `).concat(e+n-f*w,",").concat(t,`
-            A `).concat(w,",").concat(w,",0,0,").concat(d,",").concat(e+n,",").concat(t+c*w,`
-            L `).concat(e+n,",").concat(t+r-c*w,`
-            A `).concat(w,",").concat(w,",0,0,").concat(d,",").concat(e+n-f*w,",").concat(t+r,`
-            L `).concat(e+f*w,",").concat(t+r,`
-            A `).concat(w,",").concat(w,",0,0,").concat(d,",").concat(e,",").concat(t+r-c*w," Z")}else h="M ".concat(e,",").concat(t," h ").concat(n," v ").concat(r," h ").concat(-n," Z");return h},SO={x:0,y:0,width:0,height:0,radius:0,isAnimationActive:!1,isUpdateAnimationActive:!1,animationBegin:0,animationDuration:1500,animationEasing:"ease"},J8=e=>{var t=Rn(e,SO),n=g.useRef(null),[r,l]=g.useState(-1);g.useEffect(()=>{if(n.current&&n.current.getTotalLength)try{var Q=n.current.getTotalLength();Q&&l(Q)}catch{}},[]);var{x:o,y:c,width:f,height:d,radius:h,className:m}=t,{animationEasing:p,animationDuration:x,animationBegin:w,isAnimationActive:A,isUpdateAnimationActive:O}=t,E=g.useRef(f),j=g.useRef(d),_=g.useRef(o),C=g.useRef(c),D=g.useMemo(()=>({x:o,y:c,width:f,height:d,radius:h}),[o,c,f,d,h]),T=lC(D,"rectangle-");if(o!==+o||c!==+c||f!==+f||d!==+d||f===0||d===0)return null;var R=Ge("recharts-rectangle",m);if(!O){var k=Wn(t),{radius:I}=k,re=xO(k,V8);return g.createElement("path",Mf({},re,{radius:typeof h=="number"?h:void 0,className:R,d:wO(o,c,f,d,h)}))}var ae=E.current,W=j.current,J=_.current,pe=C.current,ge="0px ".concat(r===-1?1:r,"px"),xe="".concat(r,"px 0px"),q=N8(["strokeDasharray"],x,typeof p=="string"?p:SO.animationEasing);return g.createElement(iC,{animationId:T,key:T,canBegin:r>0,duration:x,easing:p,isActive:O,begin:w},Q=>{var X=yr(ae,f,Q),le=yr(W,d,Q),Oe=yr(J,o,Q),P=yr(pe,c,Q);n.current&&(E.current=X,j.current=le,_.current=Oe,C.current=P);var K;A?Q>0?K={transition:q,strokeDasharray:xe}:K={strokeDasharray:ge}:K={strokeDasharray:xe};var ee=Wn(t),{radius:ne}=ee,he=xO(ee,X8);return g.createElement("path",Mf({},he,{radius:typeof h=="number"?h:void 0,className:R,d:wO(Oe,P,X,le,h),ref:n,style:bO(bO({},K),t.style)}))})};function EO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function OO(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?EO(Object(n),!0).forEach(function(r){eB(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):EO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function eB(e,t,n){return(t=tB(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function tB(e){var t=nB(e,"string");return typeof t=="symbol"?t:t+""}function nB(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Df=Math.PI/180,rB=e=>e*180/Math.PI,Ft=(e,t,n,r)=>({x:e+Math.cos(-Df*r)*n,y:t+Math.sin(-Df*r)*n}),aB=function(t,n){var r=arguments.length>2&&arguments[2]!==void 0?arguments[2]:{top:0,right:0,bottom:0,left:0};return Math.min(Math.abs(t-(r.left||0)-(r.right||0)),Math.abs(n-(r.top||0)-(r.bottom||0)))/2},iB=(e,t)=>{var{x:n,y:r}=e,{x:l,y:o}=t;return Math.sqrt((n-l)**2+(r-o)**2)},lB=(e,t)=>{var{x:n,y:r}=e,{cx:l,cy:o}=t,c=iB({x:n,y:r},{x:l,y:o});if(c<=0)return{radius:c,angle:0};var f=(n-l)/c,d=Math.acos(f);return r>o&&(d=2*Math.PI-d),{radius:c,angle:rB(d),angleInRadian:d}},oB=e=>{var{startAngle:t,endAngle:n}=e,r=Math.floor(t/360),l=Math.floor(n/360),o=Math.min(r,l);return{startAngle:t-o*360,endAngle:n-o*360}},uB=(e,t)=>{var{startAngle:n,endAngle:r}=t,l=Math.floor(n/360),o=Math.floor(r/360),c=Math.min(l,o);return e+c*360},cB=(e,t)=>{var{chartX:n,chartY:r}=e,{radius:l,angle:o}=lB({x:n,y:r},t),{innerRadius:c,outerRadius:f}=t;if(l<c||l>f||l===0)return null;var{startAngle:d,endAngle:h}=oB(t),m=o,p;if(d<=h){for(;m>h;)m-=360;for(;m<d;)m+=360;p=m>=d&&m<=h}else{for(;m>d;)m-=360;for(;m<h;)m+=360;p=m>=h&&m<=d}return p?OO(OO({},t),{},{radius:l,angle:uB(m,t)}):null};function oC(e){var{cx:t,cy:n,radius:r,startAngle:l,endAngle:o}=e,c=Ft(t,n,r,l),f=Ft(t,n,r,o);return{points:[c,f],cx:t,cy:n,radius:r,startAngle:l,endAngle:o}}function _y(){return _y=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},_y.apply(null,arguments)}var sB=(e,t)=>{var n=Vn(t-e),r=Math.min(Math.abs(t-e),359.999);return n*r},Us=e=>{var{cx:t,cy:n,radius:r,angle:l,sign:o,isExternal:c,cornerRadius:f,cornerIsExternal:d}=e,h=f*(c?1:-1)+r,m=Math.asin(f/h)/Df,p=d?l:l+o*m,x=Ft(t,n,h,p),w=Ft(t,n,r,p),A=d?l-o*m:l,O=Ft(t,n,h*Math.cos(m*Df),A);return{center:x,circleTangency:w,lineTangency:O,theta:m}},uC=e=>{var{cx:t,cy:n,innerRadius:r,outerRadius:l,startAngle:o,endAngle:c}=e,f=sB(o,c),d=o+f,h=Ft(t,n,l,o),m=Ft(t,n,l,d),p="M ".concat(h.x,",").concat(h.y,`
-    A `).concat(l,",").concat(l,`,0,
-    `).concat(+(Math.abs(f)>180),",").concat(+(o>d),`,
-    `).concat(m.x,",").concat(m.y,`
-  `);if(r>0){var x=Ft(t,n,r,o),w=Ft(t,n,r,d);p+="L ".concat(w.x,",").concat(w.y,`
-            A `).concat(r,",").concat(r,`,0,
-            `).concat(+(Math.abs(f)>180),",").concat(+(o<=d),`,
-            `).concat(x.x,",").concat(x.y," Z")}else p+="L ".concat(t,",").concat(n," Z");return p},fB=e=>{var{cx:t,cy:n,innerRadius:r,outerRadius:l,cornerRadius:o,forceCornerRadius:c,cornerIsExternal:f,startAngle:d,endAngle:h}=e,m=Vn(h-d),{circleTangency:p,lineTangency:x,theta:w}=Us({cx:t,cy:n,radius:l,angle:d,sign:m,cornerRadius:o,cornerIsExternal:f}),{circleTangency:A,lineTangency:O,theta:E}=Us({cx:t,cy:n,radius:l,angle:h,sign:-m,cornerRadius:o,cornerIsExternal:f}),j=f?Math.abs(d-h):Math.abs(d-h)-w-E;if(j<0)return c?"M ".concat(x.x,",").concat(x.y,`
-        a`).concat(o,",").concat(o,",0,0,1,").concat(o*2,`,0
-        a`).concat(o,",").concat(o,",0,0,1,").concat(-o*2,`,0
-      `):uC({cx:t,cy:n,innerRadius:r,outerRadius:l,startAngle:d,endAngle:h});var _="M ".concat(x.x,",").concat(x.y,`
-    A`).concat(o,",").concat(o,",0,0,").concat(+(m<0),",").concat(p.x,",").concat(p.y,`
-    A`).concat(l,",").concat(l,",0,").concat(+(j>180),",").concat(+(m<0),",").concat(A.x,",").concat(A.y,`
-    A`).concat(o,",").concat(o,",0,0,").concat(+(m<0),",").concat(O.x,",").concat(O.y,`
-  `);if(r>0){var{circleTangency:C,lineTangency:D,theta:T}=Us({cx:t,cy:n,radius:r,angle:d,sign:m,isExternal:!0,cornerRadius:o,cornerIsExternal:f}),{circleTangency:R,lineTangency:k,theta:I}=Us({cx:t,cy:n,radius:r,angle:h,sign:-m,isExternal:!0,cornerRadius:o,cornerIsExternal:f}),re=f?Math.abs(d-h):Math.abs(d-h)-T-I;if(re<0&&o===0)return"".concat(_,"L").concat(t,",").concat(n,"Z");_+="L".concat(k.x,",").concat(k.y,`
-      A`).concat(o,",").concat(o,",0,0,").concat(+(m<0),",").concat(R.x,",").concat(R.y,`
-      A`).concat(r,",").concat(r,",0,").concat(+(re>180),",").concat(+(m>0),",").concat(C.x,",").concat(C.y,`
-      A`).concat(o,",").concat(o,",0,0,").concat(+(m<0),",").concat(D.x,",").concat(D.y,"Z")}else _+="L".concat(t,",").concat(n,"Z");return _},dB={cx:0,cy:0,innerRadius:0,outerRadius:0,startAngle:0,endAngle:0,cornerRadius:0,forceCornerRadius:!1,cornerIsExternal:!1},hB=e=>{var t=Rn(e,dB),{cx:n,cy:r,innerRadius:l,outerRadius:o,cornerRadius:c,forceCornerRadius:f,cornerIsExternal:d,startAngle:h,endAngle:m,className:p}=t;if(o<l||h===m)return null;var x=Ge("recharts-sector",p),w=o-l,A=Wa(c,w,0,!0),O;return A>0&&Math.abs(h-m)<360?O=fB({cx:n,cy:r,innerRadius:l,outerRadius:o,cornerRadius:Math.min(A,w/2),forceCornerRadius:f,cornerIsExternal:d,startAngle:h,endAngle:m}):O=uC({cx:n,cy:r,innerRadius:l,outerRadius:o,startAngle:h,endAngle:m}),g.createElement("path",_y({},Wn(t),{className:x,d:O}))};function mB(e,t,n){if(e==="horizontal")return[{x:t.x,y:n.top},{x:t.x,y:n.top+n.height}];if(e==="vertical")return[{x:n.left,y:t.y},{x:n.left+n.width,y:t.y}];if(Kj(t)){if(e==="centric"){var{cx:r,cy:l,innerRadius:o,outerRadius:c,angle:f}=t,d=Ft(r,l,o,f),h=Ft(r,l,c,f);return[{x:d.x,y:d.y},{x:h.x,y:h.y}]}return oC(t)}}var xp={},wp={},Sp={},AO;function vB(){return AO||(AO=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=nN();function n(r){return t.isSymbol(r)?NaN:Number(r)}e.toNumber=n})(Sp)),Sp}var jO;function pB(){return jO||(jO=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=vB();function n(r){return r?(r=t.toNumber(r),r===1/0||r===-1/0?(r<0?-1:1)*Number.MAX_VALUE:r===r?r:0):r===0?r:0}e.toFinite=n})(wp)),wp}var NO;function yB(){return NO||(NO=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=rN(),n=pB();function r(l,o,c){c&&typeof c!="number"&&t.isIterateeCall(l,o,c)&&(o=c=void 0),l=n.toFinite(l),o===void 0?(o=l,l=0):o=n.toFinite(o),c=c===void 0?l<o?1:-1:n.toFinite(c);const f=Math.max(Math.ceil((o-l)/(c||1)),0),d=new Array(f);for(let h=0;h<f;h++)d[h]=l,l+=c;return d}e.range=r})(xp)),xp}var Ep,CO;function gB(){return CO||(CO=1,Ep=yB().range),Ep}var bB=gB();const cC=oa(bB);function Xa(e,t){return e==null||t==null?NaN:e<t?-1:e>t?1:e>=t?0:NaN}function xB(e,t){return e==null||t==null?NaN:t<e?-1:t>e?1:t>=e?0:NaN}function Pg(e){let t,n,r;e.length!==2?(t=Xa,n=(f,d)=>Xa(e(f),d),r=(f,d)=>e(f)-d):(t=e===Xa||e===xB?e:wB,n=e,r=e);function l(f,d,h=0,m=f.length){if(h<m){if(t(d,d)!==0)return m;do{const p=h+m>>>1;n(f[p],d)<0?h=p+1:m=p}while(h<m)}return h}function o(f,d,h=0,m=f.length){if(h<m){if(t(d,d)!==0)return m;do{const p=h+m>>>1;n(f[p],d)<=0?h=p+1:m=p}while(h<m)}return h}function c(f,d,h=0,m=f.length){const p=l(f,d,h,m-1);return p>h&&r(f[p-1],d)>-r(f[p],d)?p-1:p}return{left:l,center:c,right:o}}function wB(){return 0}function sC(e){return e===null?NaN:+e}function*SB(e,t){for(let n of e)n!=null&&(n=+n)>=n&&(yield n)}const EB=Pg(Xa),Fu=EB.right;Pg(sC).center;class _O extends Map{constructor(t,n=jB){if(super(),Object.defineProperties(this,{_intern:{value:new Map},_key:{value:n}}),t!=null)for(const[r,l]of t)this.set(r,l)}get(t){return super.get(TO(this,t))}has(t){return super.has(TO(this,t))}set(t,n){return super.set(OB(this,t),n)}delete(t){return super.delete(AB(this,t))}}function TO({_intern:e,_key:t},n){const r=t(n);return e.has(r)?e.get(r):n}function OB({_intern:e,_key:t},n){const r=t(n);return e.has(r)?e.get(r):(e.set(r,n),n)}function AB({_intern:e,_key:t},n){const r=t(n);return e.has(r)&&(n=e.get(r),e.delete(r)),n}function jB(e){return e!==null&&typeof e=="object"?e.valueOf():e}function NB(e=Xa){if(e===Xa)return fC;if(typeof e!="function")throw new TypeError("compare is not a function");return(t,n)=>{const r=e(t,n);return r||r===0?r:(e(n,n)===0)-(e(t,t)===0)}}function fC(e,t){return(e==null||!(e>=e))-(t==null||!(t>=t))||(e<t?-1:e>t?1:0)}const CB=Math.sqrt(50),_B=Math.sqrt(10),TB=Math.sqrt(2);function kf(e,t,n){const r=(t-e)/Math.max(0,n),l=Math.floor(Math.log10(r)),o=r/Math.pow(10,l),c=o>=CB?10:o>=_B?5:o>=TB?2:1;let f,d,h;return l<0?(h=Math.pow(10,-l)/c,f=Math.round(e*h),d=Math.round(t*h),f/h<e&&++f,d/h>t&&--d,h=-h):(h=Math.pow(10,l)*c,f=Math.round(e/h),d=Math.round(t/h),f*h<e&&++f,d*h>t&&--d),d<f&&.5<=n&&n<2?kf(e,t,n*2):[f,d,h]}function Ty(e,t,n){if(t=+t,e=+e,n=+n,!(n>0))return[];if(e===t)return[e];const r=t<e,[l,o,c]=r?kf(t,e,n):kf(e,t,n);if(!(o>=l))return[];const f=o-l+1,d=new Array(f);if(r)if(c<0)for(let h=0;h<f;++h)d[h]=(o-h)/-c;else for(let h=0;h<f;++h)d[h]=(o-h)*c;else if(c<0)for(let h=0;h<f;++h)d[h]=(l+h)/-c;else for(let h=0;h<f;++h)d[h]=(l+h)*c;return d}function My(e,t,n){return t=+t,e=+e,n=+n,kf(e,t,n)[2]}function Dy(e,t,n){t=+t,e=+e,n=+n;const r=t<e,l=r?My(t,e,n):My(e,t,n);return(r?-1:1)*(l<0?1/-l:l)}function MO(e,t){let n;for(const r of e)r!=null&&(n<r||n===void 0&&r>=r)&&(n=r);return n}function DO(e,t){let n;for(const r of e)r!=null&&(n>r||n===void 0&&r>=r)&&(n=r);return n}function dC(e,t,n=0,r=1/0,l){if(t=Math.floor(t),n=Math.floor(Math.max(0,n)),r=Math.floor(Math.min(e.length-1,r)),!(n<=t&&t<=r))return e;for(l=l===void 0?fC:NB(l);r>n;){if(r-n>600){const d=r-n+1,h=t-n+1,m=Math.log(d),p=.5*Math.exp(2*m/3),x=.5*Math.sqrt(m*p*(d-p)/d)*(h-d/2<0?-1:1),w=Math.max(n,Math.floor(t-h*p/d+x)),A=Math.min(r,Math.floor(t+(d-h)*p/d+x));dC(e,t,w,A,l)}const o=e[t];let c=n,f=r;for(hu(e,n,t),l(e[r],o)>0&&hu(e,n,r);c<f;){for(hu(e,c,f),++c,--f;l(e[c],o)<0;)++c;for(;l(e[f],o)>0;)--f}l(e[n],o)===0?hu(e,n,f):(++f,hu(e,f,r)),f<=t&&(n=f+1),t<=f&&(r=f-1)}return e}function hu(e,t,n){const r=e[t];e[t]=e[n],e[n]=r}function MB(e,t,n){if(e=Float64Array.from(SB(e)),!(!(r=e.length)||isNaN(t=+t))){if(t<=0||r<2)return DO(e);if(t>=1)return MO(e);var r,l=(r-1)*t,o=Math.floor(l),c=MO(dC(e,o).subarray(0,o+1)),f=DO(e.subarray(o+1));return c+(f-c)*(l-o)}}function DB(e,t,n=sC){if(!(!(r=e.length)||isNaN(t=+t))){if(t<=0||r<2)return+n(e[0],0,e);if(t>=1)return+n(e[r-1],r-1,e);var r,l=(r-1)*t,o=Math.floor(l),c=+n(e[o],o,e),f=+n(e[o+1],o+1,e);return c+(f-c)*(l-o)}}function kB(e,t,n){e=+e,t=+t,n=(l=arguments.length)<2?(t=e,e=0,1):l<3?1:+n;for(var r=-1,l=Math.max(0,Math.ceil((t-e)/n))|0,o=new Array(l);++r<l;)o[r]=e+r*n;return o}function er(e,t){switch(arguments.length){case 0:break;case 1:this.range(e);break;default:this.range(t).domain(e);break}return this}function da(e,t){switch(arguments.length){case 0:break;case 1:{typeof e=="function"?this.interpolator(e):this.range(e);break}default:{this.domain(e),typeof t=="function"?this.interpolator(t):this.range(t);break}}return this}const ky=Symbol("implicit");function Rg(){var e=new _O,t=[],n=[],r=ky;function l(o){let c=e.get(o);if(c===void 0){if(r!==ky)return r;e.set(o,c=t.push(o)-1)}return n[c%n.length]}return l.domain=function(o){if(!arguments.length)return t.slice();t=[],e=new _O;for(const c of o)e.has(c)||e.set(c,t.push(c)-1);return l},l.range=function(o){return arguments.length?(n=Array.from(o),l):n.slice()},l.unknown=function(o){return arguments.length?(r=o,l):r},l.copy=function(){return Rg(t,n).unknown(r)},er.apply(l,arguments),l}function zg(){var e=Rg().unknown(void 0),t=e.domain,n=e.range,r=0,l=1,o,c,f=!1,d=0,h=0,m=.5;delete e.unknown;function p(){var x=t().length,w=l<r,A=w?l:r,O=w?r:l;o=(O-A)/Math.max(1,x-d+h*2),f&&(o=Math.floor(o)),A+=(O-A-o*(x-d))*m,c=o*(1-d),f&&(A=Math.round(A),c=Math.round(c));var E=kB(x).map(function(j){return A+o*j});return n(w?E.reverse():E)}return e.domain=function(x){return arguments.length?(t(x),p()):t()},e.range=function(x){return arguments.length?([r,l]=x,r=+r,l=+l,p()):[r,l]},e.rangeRound=function(x){return[r,l]=x,r=+r,l=+l,f=!0,p()},e.bandwidth=function(){return c},e.step=function(){return o},e.round=function(x){return arguments.length?(f=!!x,p()):f},e.padding=function(x){return arguments.length?(d=Math.min(1,h=+x),p()):d},e.paddingInner=function(x){return arguments.length?(d=Math.min(1,x),p()):d},e.paddingOuter=function(x){return arguments.length?(h=+x,p()):h},e.align=function(x){return arguments.length?(m=Math.max(0,Math.min(1,x)),p()):m},e.copy=function(){return zg(t(),[r,l]).round(f).paddingInner(d).paddingOuter(h).align(m)},er.apply(p(),arguments)}function hC(e){var t=e.copy;return e.padding=e.paddingOuter,delete e.paddingInner,delete e.paddingOuter,e.copy=function(){return hC(t())},e}function PB(){return hC(zg.apply(null,arguments).paddingInner(1))}function Lg(e,t,n){e.prototype=t.prototype=n,n.constructor=e}function mC(e,t){var n=Object.create(e.prototype);for(var r in t)n[r]=t[r];return n}function Wu(){}var Tu=.7,Pf=1/Tu,Ul="\\s*([+-]?\\d+)\\s*",Mu="\\s*([+-]?(?:\\d*\\.)?\\d+(?:[eE][+-]?\\d+)?)\\s*",xr="\\s*([+-]?(?:\\d*\\.)?\\d+(?:[eE][+-]?\\d+)?)%\\s*",RB=/^#([0-9a-f]{3,8})$/,zB=new RegExp(`^rgb\\(${Ul},${Ul},${Ul}\\)$`),LB=new RegExp(`^rgb\\(${xr},${xr},${xr}\\)$`),BB=new RegExp(`^rgba\\(${Ul},${Ul},${Ul},${Mu}\\)$`),UB=new RegExp(`^rgba\\(${xr},${xr},${xr},${Mu}\\)$`),IB=new RegExp(`^hsl\\(${Mu},${xr},${xr}\\)$`),qB=new RegExp(`^hsla\\(${Mu},${xr},${xr},${Mu}\\)$`),kO={aliceblue:15792383,antiquewhite:16444375,aqua:65535,aquamarine:8388564,azure:15794175,beige:16119260,bisque:16770244,black:0,blanchedalmond:16772045,blue:255,blueviolet:9055202,brown:10824234,burlywood:14596231,cadetblue:6266528,chartreuse:8388352,chocolate:13789470,coral:16744272,cornflowerblue:6591981,cornsilk:16775388,crimson:14423100,cyan:65535,darkblue:139,darkcyan:35723,darkgoldenrod:12092939,darkgray:11119017,darkgreen:25600,darkgrey:11119017,darkkhaki:12433259,darkmagenta:9109643,darkolivegreen:5597999,darkorange:16747520,darkorchid:10040012,darkred:9109504,darksalmon:15308410,darkseagreen:9419919,darkslateblue:4734347,darkslategray:3100495,darkslategrey:3100495,darkturquoise:52945,darkviolet:9699539,deeppink:16716947,deepskyblue:49151,dimgray:6908265,dimgrey:6908265,dodgerblue:2003199,firebrick:11674146,floralwhite:16775920,forestgreen:2263842,fuchsia:16711935,gainsboro:14474460,ghostwhite:16316671,gold:16766720,goldenrod:14329120,gray:8421504,green:32768,greenyellow:11403055,grey:8421504,honeydew:15794160,hotpink:16738740,indianred:13458524,indigo:4915330,ivory:16777200,khaki:15787660,lavender:15132410,lavenderblush:16773365,lawngreen:8190976,lemonchiffon:16775885,lightblue:11393254,lightcoral:15761536,lightcyan:14745599,lightgoldenrodyellow:16448210,lightgray:13882323,lightgreen:9498256,lightgrey:13882323,lightpink:16758465,lightsalmon:16752762,lightseagreen:2142890,lightskyblue:8900346,lightslategray:7833753,lightslategrey:7833753,lightsteelblue:11584734,lightyellow:16777184,lime:65280,limegreen:3329330,linen:16445670,magenta:16711935,maroon:8388608,mediumaquamarine:6737322,mediumblue:205,mediumorchid:12211667,mediumpurple:9662683,mediumseagreen:3978097,mediumslateblue:8087790,mediumspringgreen:64154,mediumturquoise:4772300,mediumvioletred:13047173,midnightblue:1644912,mintcream:16121850,mistyrose:16770273,moccasin:16770229,navajowhite:16768685,navy:128,oldlace:16643558,olive:8421376,olivedrab:7048739,orange:16753920,orangered:16729344,orchid:14315734,palegoldenrod:15657130,palegreen:10025880,paleturquoise:11529966,palevioletred:14381203,papayawhip:16773077,peachpuff:16767673,peru:13468991,pink:16761035,plum:14524637,powderblue:11591910,purple:8388736,rebeccapurple:6697881,red:16711680,rosybrown:12357519,royalblue:4286945,saddlebrown:9127187,salmon:16416882,sandybrown:16032864,seagreen:3050327,seashell:16774638,sienna:10506797,silver:12632256,skyblue:8900331,slateblue:6970061,slategray:7372944,slategrey:7372944,snow:16775930,springgreen:65407,steelblue:4620980,tan:13808780,teal:32896,thistle:14204888,tomato:16737095,turquoise:4251856,violet:15631086,wheat:16113331,white:16777215,whitesmoke:16119285,yellow:16776960,yellowgreen:10145074};Lg(Wu,Du,{copy(e){return Object.assign(new this.constructor,this,e)},displayable(){return this.rgb().displayable()},hex:PO,formatHex:PO,formatHex8:HB,formatHsl:$B,formatRgb:RO,toString:RO});function PO(){return this.rgb().formatHex()}function HB(){return this.rgb().formatHex8()}function $B(){return vC(this).formatHsl()}function RO(){return this.rgb().formatRgb()}function Du(e){var t,n;return e=(e+"").trim().toLowerCase(),(t=RB.exec(e))?(n=t[1].length,t=parseInt(t[1],16),n===6?zO(t):n===3?new yn(t>>8&15|t>>4&240,t>>4&15|t&240,(t&15)<<4|t&15,1):n===8?Is(t>>24&255,t>>16&255,t>>8&255,(t&255)/255):n===4?Is(t>>12&15|t>>8&240,t>>8&15|t>>4&240,t>>4&15|t&240,((t&15)<<4|t&15)/255):null):(t=zB.exec(e))?new yn(t[1],t[2],t[3],1):(t=LB.exec(e))?new yn(t[1]*255/100,t[2]*255/100,t[3]*255/100,1):(t=BB.exec(e))?Is(t[1],t[2],t[3],t[4]):(t=UB.exec(e))?Is(t[1]*255/100,t[2]*255/100,t[3]*255/100,t[4]):(t=IB.exec(e))?UO(t[1],t[2]/100,t[3]/100,1):(t=qB.exec(e))?UO(t[1],t[2]/100,t[3]/100,t[4]):kO.hasOwnProperty(e)?zO(kO[e]):e==="transparent"?new yn(NaN,NaN,NaN,0):null}function zO(e){return new yn(e>>16&255,e>>8&255,e&255,1)}function Is(e,t,n,r){return r<=0&&(e=t=n=NaN),new yn(e,t,n,r)}function YB(e){return e instanceof Wu||(e=Du(e)),e?(e=e.rgb(),new yn(e.r,e.g,e.b,e.opacity)):new yn}function Py(e,t,n,r){return arguments.length===1?YB(e):new yn(e,t,n,r??1)}function yn(e,t,n,r){this.r=+e,this.g=+t,this.b=+n,this.opacity=+r}Lg(yn,Py,mC(Wu,{brighter(e){return e=e==null?Pf:Math.pow(Pf,e),new yn(this.r*e,this.g*e,this.b*e,this.opacity)},darker(e){return e=e==null?Tu:Math.pow(Tu,e),new yn(this.r*e,this.g*e,this.b*e,this.opacity)},rgb(){return this},clamp(){return new yn(Ci(this.r),Ci(this.g),Ci(this.b),Rf(this.opacity))},displayable(){return-.5<=this.r&&this.r<255.5&&-.5<=this.g&&this.g<255.5&&-.5<=this.b&&this.b<255.5&&0<=this.opacity&&this.opacity<=1},hex:LO,formatHex:LO,formatHex8:KB,formatRgb:BO,toString:BO}));function LO(){return`#${Ei(this.r)}${Ei(this.g)}${Ei(this.b)}`}function KB(){return`#${Ei(this.r)}${Ei(this.g)}${Ei(this.b)}${Ei((isNaN(this.opacity)?1:this.opacity)*255)}`}function BO(){const e=Rf(this.opacity);return`${e===1?"rgb(":"rgba("}${Ci(this.r)}, ${Ci(this.g)}, ${Ci(this.b)}${e===1?")":`, ${e})`}`}function Rf(e){return isNaN(e)?1:Math.max(0,Math.min(1,e))}function Ci(e){return Math.max(0,Math.min(255,Math.round(e)||0))}function Ei(e){return e=Ci(e),(e<16?"0":"")+e.toString(16)}function UO(e,t,n,r){return r<=0?e=t=n=NaN:n<=0||n>=1?e=t=NaN:t<=0&&(e=NaN),new or(e,t,n,r)}function vC(e){if(e instanceof or)return new or(e.h,e.s,e.l,e.opacity);if(e instanceof Wu||(e=Du(e)),!e)return new or;if(e instanceof or)return e;e=e.rgb();var t=e.r/255,n=e.g/255,r=e.b/255,l=Math.min(t,n,r),o=Math.max(t,n,r),c=NaN,f=o-l,d=(o+l)/2;return f?(t===o?c=(n-r)/f+(n<r)*6:n===o?c=(r-t)/f+2:c=(t-n)/f+4,f/=d<.5?o+l:2-o-l,c*=60):f=d>0&&d<1?0:c,new or(c,f,d,e.opacity)}function GB(e,t,n,r){return arguments.length===1?vC(e):new or(e,t,n,r??1)}function or(e,t,n,r){this.h=+e,this.s=+t,this.l=+n,this.opacity=+r}Lg(or,GB,mC(Wu,{brighter(e){return e=e==null?Pf:Math.pow(Pf,e),new or(this.h,this.s,this.l*e,this.opacity)},darker(e){return e=e==null?Tu:Math.pow(Tu,e),new or(this.h,this.s,this.l*e,this.opacity)},rgb(){var e=this.h%360+(this.h<0)*360,t=isNaN(e)||isNaN(this.s)?0:this.s,n=this.l,r=n+(n<.5?n:1-n)*t,l=2*n-r;return new yn(Op(e>=240?e-240:e+120,l,r),Op(e,l,r),Op(e<120?e+240:e-120,l,r),this.opacity)},clamp(){return new or(IO(this.h),qs(this.s),qs(this.l),Rf(this.opacity))},displayable(){return(0<=this.s&&this.s<=1||isNaN(this.s))&&0<=this.l&&this.l<=1&&0<=this.opacity&&this.opacity<=1},formatHsl(){const e=Rf(this.opacity);return`${e===1?"hsl(":"hsla("}${IO(this.h)}, ${qs(this.s)*100}%, ${qs(this.l)*100}%${e===1?")":`, ${e})`}`}}));function IO(e){return e=(e||0)%360,e<0?e+360:e}function qs(e){return Math.max(0,Math.min(1,e||0))}function Op(e,t,n){return(e<60?t+(n-t)*e/60:e<180?n:e<240?t+(n-t)*(240-e)/60:t)*255}const Bg=e=>()=>e;function VB(e,t){return function(n){return e+n*t}}function XB(e,t,n){return e=Math.pow(e,n),t=Math.pow(t,n)-e,n=1/n,function(r){return Math.pow(e+r*t,n)}}function FB(e){return(e=+e)==1?pC:function(t,n){return n-t?XB(t,n,e):Bg(isNaN(t)?n:t)}}function pC(e,t){var n=t-e;return n?VB(e,n):Bg(isNaN(e)?t:e)}const qO=(function e(t){var n=FB(t);function r(l,o){var c=n((l=Py(l)).r,(o=Py(o)).r),f=n(l.g,o.g),d=n(l.b,o.b),h=pC(l.opacity,o.opacity);return function(m){return l.r=c(m),l.g=f(m),l.b=d(m),l.opacity=h(m),l+""}}return r.gamma=e,r})(1);function WB(e,t){t||(t=[]);var n=e?Math.min(t.length,e.length):0,r=t.slice(),l;return function(o){for(l=0;l<n;++l)r[l]=e[l]*(1-o)+t[l]*o;return r}}function ZB(e){return ArrayBuffer.isView(e)&&!(e instanceof DataView)}function QB(e,t){var n=t?t.length:0,r=e?Math.min(n,e.length):0,l=new Array(r),o=new Array(n),c;for(c=0;c<r;++c)l[c]=ao(e[c],t[c]);for(;c<n;++c)o[c]=t[c];return function(f){for(c=0;c<r;++c)o[c]=l[c](f);return o}}function JB(e,t){var n=new Date;return e=+e,t=+t,function(r){return n.setTime(e*(1-r)+t*r),n}}function zf(e,t){return e=+e,t=+t,function(n){return e*(1-n)+t*n}}function eU(e,t){var n={},r={},l;(e===null||typeof e!="object")&&(e={}),(t===null||typeof t!="object")&&(t={});for(l in t)l in e?n[l]=ao(e[l],t[l]):r[l]=t[l];return function(o){for(l in n)r[l]=n[l](o);return r}}var Ry=/[-+]?(?:\d+\.?\d*|\.?\d+)(?:[eE][-+]?\d+)?/g,Ap=new RegExp(Ry.source,"g");function tU(e){return function(){return e}}function nU(e){return function(t){return e(t)+""}}function rU(e,t){var n=Ry.lastIndex=Ap.lastIndex=0,r,l,o,c=-1,f=[],d=[];for(e=e+"",t=t+"";(r=Ry.exec(e))&&(l=Ap.exec(t));)(o=l.index)>n&&(o=t.slice(n,o),f[c]?f[c]+=o:f[++c]=o),(r=r[0])===(l=l[0])?f[c]?f[c]+=l:f[++c]=l:(f[++c]=null,d.push({i:c,x:zf(r,l)})),n=Ap.lastIndex;return n<t.length&&(o=t.slice(n),f[c]?f[c]+=o:f[++c]=o),f.length<2?d[0]?nU(d[0].x):tU(t):(t=d.length,function(h){for(var m=0,p;m<t;++m)f[(p=d[m]).i]=p.x(h);return f.join("")})}function ao(e,t){var n=typeof t,r;return t==null||n==="boolean"?Bg(t):(n==="number"?zf:n==="string"?(r=Du(t))?(t=r,qO):rU:t instanceof Du?qO:t instanceof Date?JB:ZB(t)?WB:Array.isArray(t)?QB:typeof t.valueOf!="function"&&typeof t.toString!="function"||isNaN(t)?eU:zf)(e,t)}function Ug(e,t){return e=+e,t=+t,function(n){return Math.round(e*(1-n)+t*n)}}function aU(e,t){t===void 0&&(t=e,e=ao);for(var n=0,r=t.length-1,l=t[0],o=new Array(r<0?0:r);n<r;)o[n]=e(l,l=t[++n]);return function(c){var f=Math.max(0,Math.min(r-1,Math.floor(c*=r)));return o[f](c-f)}}function iU(e){return function(){return e}}function Lf(e){return+e}var HO=[0,1];function rn(e){return e}function zy(e,t){return(t-=e=+e)?function(n){return(n-e)/t}:iU(isNaN(t)?NaN:.5)}function lU(e,t){var n;return e>t&&(n=e,e=t,t=n),function(r){return Math.max(e,Math.min(t,r))}}function oU(e,t,n){var r=e[0],l=e[1],o=t[0],c=t[1];return l<r?(r=zy(l,r),o=n(c,o)):(r=zy(r,l),o=n(o,c)),function(f){return o(r(f))}}function uU(e,t,n){var r=Math.min(e.length,t.length)-1,l=new Array(r),o=new Array(r),c=-1;for(e[r]<e[0]&&(e=e.slice().reverse(),t=t.slice().reverse());++c<r;)l[c]=zy(e[c],e[c+1]),o[c]=n(t[c],t[c+1]);return function(f){var d=Fu(e,f,1,r)-1;return o[d](l[d](f))}}function Zu(e,t){return t.domain(e.domain()).range(e.range()).interpolate(e.interpolate()).clamp(e.clamp()).unknown(e.unknown())}function jd(){var e=HO,t=HO,n=ao,r,l,o,c=rn,f,d,h;function m(){var x=Math.min(e.length,t.length);return c!==rn&&(c=lU(e[0],e[x-1])),f=x>2?uU:oU,d=h=null,p}function p(x){return x==null||isNaN(x=+x)?o:(d||(d=f(e.map(r),t,n)))(r(c(x)))}return p.invert=function(x){return c(l((h||(h=f(t,e.map(r),zf)))(x)))},p.domain=function(x){return arguments.length?(e=Array.from(x,Lf),m()):e.slice()},p.range=function(x){return arguments.length?(t=Array.from(x),m()):t.slice()},p.rangeRound=function(x){return t=Array.from(x),n=Ug,m()},p.clamp=function(x){return arguments.length?(c=x?!0:rn,m()):c!==rn},p.interpolate=function(x){return arguments.length?(n=x,m()):n},p.unknown=function(x){return arguments.length?(o=x,p):o},function(x,w){return r=x,l=w,m()}}function Ig(){return jd()(rn,rn)}function cU(e){return Math.abs(e=Math.round(e))>=1e21?e.toLocaleString("en").replace(/,/g,""):e.toString(10)}function Bf(e,t){if((n=(e=t?e.toExponential(t-1):e.toExponential()).indexOf("e"))<0)return null;var n,r=e.slice(0,n);return[r.length>1?r[0]+r.slice(2):r,+e.slice(n+1)]}function Kl(e){return e=Bf(Math.abs(e)),e?e[1]:NaN}function sU(e,t){return function(n,r){for(var l=n.length,o=[],c=0,f=e[0],d=0;l>0&&f>0&&(d+f+1>r&&(f=Math.max(1,r-d)),o.push(n.substring(l-=f,l+f)),!((d+=f+1)>r));)f=e[c=(c+1)%e.length];return o.reverse().join(t)}}function fU(e){return function(t){return t.replace(/[0-9]/g,function(n){return e[+n]})}}var dU=/^(?:(.)?([<>=^]))?([+\-( ])?([$#])?(0)?(\d+)?(,)?(\.\d+)?(~)?([a-z%])?$/i;function ku(e){if(!(t=dU.exec(e)))throw new Error("invalid format: "+e);var t;return new qg({fill:t[1],align:t[2],sign:t[3],symbol:t[4],zero:t[5],width:t[6],comma:t[7],precision:t[8]&&t[8].slice(1),trim:t[9],type:t[10]})}ku.prototype=qg.prototype;function qg(e){this.fill=e.fill===void 0?" ":e.fill+"",this.align=e.align===void 0?">":e.align+"",this.sign=e.sign===void 0?"-":e.sign+"",this.symbol=e.symbol===void 0?"":e.symbol+"",this.zero=!!e.zero,this.width=e.width===void 0?void 0:+e.width,this.comma=!!e.comma,this.precision=e.precision===void 0?void 0:+e.precision,this.trim=!!e.trim,this.type=e.type===void 0?"":e.type+""}qg.prototype.toString=function(){return this.fill+this.align+this.sign+this.symbol+(this.zero?"0":"")+(this.width===void 0?"":Math.max(1,this.width|0))+(this.comma?",":"")+(this.precision===void 0?"":"."+Math.max(0,this.precision|0))+(this.trim?"~":"")+this.type};function hU(e){e:for(var t=e.length,n=1,r=-1,l;n<t;++n)switch(e[n]){case".":r=l=n;break;case"0":r===0&&(r=n),l=n;break;default:if(!+e[n])break e;r>0&&(r=0);break}return r>0?e.slice(0,r)+e.slice(l+1):e}var yC;function mU(e,t){var n=Bf(e,t);if(!n)return e+"";var r=n[0],l=n[1],o=l-(yC=Math.max(-8,Math.min(8,Math.floor(l/3)))*3)+1,c=r.length;return o===c?r:o>c?r+new Array(o-c+1).join("0"):o>0?r.slice(0,o)+"."+r.slice(o):"0."+new Array(1-o).join("0")+Bf(e,Math.max(0,t+o-1))[0]}function $O(e,t){var n=Bf(e,t);if(!n)return e+"";var r=n[0],l=n[1];return l<0?"0."+new Array(-l).join("0")+r:r.length>l+1?r.slice(0,l+1)+"."+r.slice(l+1):r+new Array(l-r.length+2).join("0")}const YO={"%":(e,t)=>(e*100).toFixed(t),b:e=>Math.round(e).toString(2),c:e=>e+"",d:cU,e:(e,t)=>e.toExponential(t),f:(e,t)=>e.toFixed(t),g:(e,t)=>e.toPrecision(t),o:e=>Math.round(e).toString(8),p:(e,t)=>$O(e*100,t),r:$O,s:mU,X:e=>Math.round(e).toString(16).toUpperCase(),x:e=>Math.round(e).toString(16)};function KO(e){return e}var GO=Array.prototype.map,VO=["y","z","a","f","p","n","µ","m","","k","M","G","T","P","E","Z","Y"];function vU(e){var t=e.grouping===void 0||e.thousands===void 0?KO:sU(GO.call(e.grouping,Number),e.thousands+""),n=e.currency===void 0?"":e.currency[0]+"",r=e.currency===void 0?"":e.currency[1]+"",l=e.decimal===void 0?".":e.decimal+"",o=e.numerals===void 0?KO:fU(GO.call(e.numerals,String)),c=e.percent===void 0?"%":e.percent+"",f=e.minus===void 0?"−":e.minus+"",d=e.nan===void 0?"NaN":e.nan+"";function h(p){p=ku(p);var x=p.fill,w=p.align,A=p.sign,O=p.symbol,E=p.zero,j=p.width,_=p.comma,C=p.precision,D=p.trim,T=p.type;T==="n"?(_=!0,T="g"):YO[T]||(C===void 0&&(C=12),D=!0,T="g"),(E||x==="0"&&w==="=")&&(E=!0,x="0",w="=");var R=O==="$"?n:O==="#"&&/[boxX]/.test(T)?"0"+T.toLowerCase():"",k=O==="$"?r:/[%p]/.test(T)?c:"",I=YO[T],re=/[defgprs%]/.test(T);C=C===void 0?6:/[gprs]/.test(T)?Math.max(1,Math.min(21,C)):Math.max(0,Math.min(20,C));function ae(W){var J=R,pe=k,ge,xe,q;if(T==="c")pe=I(W)+pe,W="";else{W=+W;var Q=W<0||1/W<0;if(W=isNaN(W)?d:I(Math.abs(W),C),D&&(W=hU(W)),Q&&+W==0&&A!=="+"&&(Q=!1),J=(Q?A==="("?A:f:A==="-"||A==="("?"":A)+J,pe=(T==="s"?VO[8+yC/3]:"")+pe+(Q&&A==="("?")":""),re){for(ge=-1,xe=W.length;++ge<xe;)if(q=W.charCodeAt(ge),48>q||q>57){pe=(q===46?l+W.slice(ge+1):W.slice(ge))+pe,W=W.slice(0,ge);break}}}_&&!E&&(W=t(W,1/0));var X=J.length+W.length+pe.length,le=X<j?new Array(j-X+1).join(x):"";switch(_&&E&&(W=t(le+W,le.length?j-pe.length:1/0),le=""),w){case"<":W=J+W+pe+le;break;case"=":W=J+le+W+pe;break;case"^":W=le.slice(0,X=le.length>>1)+J+W+pe+le.slice(X);break;default:W=le+J+W+pe;break}return o(W)}return ae.toString=function(){return p+""},ae}function m(p,x){var w=h((p=ku(p),p.type="f",p)),A=Math.max(-8,Math.min(8,Math.floor(Kl(x)/3)))*3,O=Math.pow(10,-A),E=VO[8+A/3];return function(j){return w(O*j)+E}}return{format:h,formatPrefix:m}}var Hs,Hg,gC;pU({thousands:",",grouping:[3],currency:["$",""]});function pU(e){return Hs=vU(e),Hg=Hs.format,gC=Hs.formatPrefix,Hs}function yU(e){return Math.max(0,-Kl(Math.abs(e)))}function gU(e,t){return Math.max(0,Math.max(-8,Math.min(8,Math.floor(Kl(t)/3)))*3-Kl(Math.abs(e)))}function bU(e,t){return e=Math.abs(e),t=Math.abs(t)-e,Math.max(0,Kl(t)-Kl(e))+1}function bC(e,t,n,r){var l=Dy(e,t,n),o;switch(r=ku(r??",f"),r.type){case"s":{var c=Math.max(Math.abs(e),Math.abs(t));return r.precision==null&&!isNaN(o=gU(l,c))&&(r.precision=o),gC(r,c)}case"":case"e":case"g":case"p":case"r":{r.precision==null&&!isNaN(o=bU(l,Math.max(Math.abs(e),Math.abs(t))))&&(r.precision=o-(r.type==="e"));break}case"f":case"%":{r.precision==null&&!isNaN(o=yU(l))&&(r.precision=o-(r.type==="%")*2);break}}return Hg(r)}function Qa(e){var t=e.domain;return e.ticks=function(n){var r=t();return Ty(r[0],r[r.length-1],n??10)},e.tickFormat=function(n,r){var l=t();return bC(l[0],l[l.length-1],n??10,r)},e.nice=function(n){n==null&&(n=10);var r=t(),l=0,o=r.length-1,c=r[l],f=r[o],d,h,m=10;for(f<c&&(h=c,c=f,f=h,h=l,l=o,o=h);m-- >0;){if(h=My(c,f,n),h===d)return r[l]=c,r[o]=f,t(r);if(h>0)c=Math.floor(c/h)*h,f=Math.ceil(f/h)*h;else if(h<0)c=Math.ceil(c*h)/h,f=Math.floor(f*h)/h;else break;d=h}return e},e}function xC(){var e=Ig();return e.copy=function(){return Zu(e,xC())},er.apply(e,arguments),Qa(e)}function wC(e){var t;function n(r){return r==null||isNaN(r=+r)?t:r}return n.invert=n,n.domain=n.range=function(r){return arguments.length?(e=Array.from(r,Lf),n):e.slice()},n.unknown=function(r){return arguments.length?(t=r,n):t},n.copy=function(){return wC(e).unknown(t)},e=arguments.length?Array.from(e,Lf):[0,1],Qa(n)}function SC(e,t){e=e.slice();var n=0,r=e.length-1,l=e[n],o=e[r],c;return o<l&&(c=n,n=r,r=c,c=l,l=o,o=c),e[n]=t.floor(l),e[r]=t.ceil(o),e}function XO(e){return Math.log(e)}function FO(e){return Math.exp(e)}function xU(e){return-Math.log(-e)}function wU(e){return-Math.exp(-e)}function SU(e){return isFinite(e)?+("1e"+e):e<0?0:e}function EU(e){return e===10?SU:e===Math.E?Math.exp:t=>Math.pow(e,t)}function OU(e){return e===Math.E?Math.log:e===10&&Math.log10||e===2&&Math.log2||(e=Math.log(e),t=>Math.log(t)/e)}function WO(e){return(t,n)=>-e(-t,n)}function $g(e){const t=e(XO,FO),n=t.domain;let r=10,l,o;function c(){return l=OU(r),o=EU(r),n()[0]<0?(l=WO(l),o=WO(o),e(xU,wU)):e(XO,FO),t}return t.base=function(f){return arguments.length?(r=+f,c()):r},t.domain=function(f){return arguments.length?(n(f),c()):n()},t.ticks=f=>{const d=n();let h=d[0],m=d[d.length-1];const p=m<h;p&&([h,m]=[m,h]);let x=l(h),w=l(m),A,O;const E=f==null?10:+f;let j=[];if(!(r%1)&&w-x<E){if(x=Math.floor(x),w=Math.ceil(w),h>0){for(;x<=w;++x)for(A=1;A<r;++A)if(O=x<0?A/o(-x):A*o(x),!(O<h)){if(O>m)break;j.push(O)}}else for(;x<=w;++x)for(A=r-1;A>=1;--A)if(O=x>0?A/o(-x):A*o(x),!(O<h)){if(O>m)break;j.push(O)}j.length*2<E&&(j=Ty(h,m,E))}else j=Ty(x,w,Math.min(w-x,E)).map(o);return p?j.reverse():j},t.tickFormat=(f,d)=>{if(f==null&&(f=10),d==null&&(d=r===10?"s":","),typeof d!="function"&&(!(r%1)&&(d=ku(d)).precision==null&&(d.trim=!0),d=Hg(d)),f===1/0)return d;const h=Math.max(1,r*f/t.ticks().length);return m=>{let p=m/o(Math.round(l(m)));return p*r<r-.5&&(p*=r),p<=h?d(m):""}},t.nice=()=>n(SC(n(),{floor:f=>o(Math.floor(l(f))),ceil:f=>o(Math.ceil(l(f)))})),t}function EC(){const e=$g(jd()).domain([1,10]);return e.copy=()=>Zu(e,EC()).base(e.base()),er.apply(e,arguments),e}function ZO(e){return function(t){return Math.sign(t)*Math.log1p(Math.abs(t/e))}}function QO(e){return function(t){return Math.sign(t)*Math.expm1(Math.abs(t))*e}}function Yg(e){var t=1,n=e(ZO(t),QO(t));return n.constant=function(r){return arguments.length?e(ZO(t=+r),QO(t)):t},Qa(n)}function OC(){var e=Yg(jd());return e.copy=function(){return Zu(e,OC()).constant(e.constant())},er.apply(e,arguments)}function JO(e){return function(t){return t<0?-Math.pow(-t,e):Math.pow(t,e)}}function AU(e){return e<0?-Math.sqrt(-e):Math.sqrt(e)}function jU(e){return e<0?-e*e:e*e}function Kg(e){var t=e(rn,rn),n=1;function r(){return n===1?e(rn,rn):n===.5?e(AU,jU):e(JO(n),JO(1/n))}return t.exponent=function(l){return arguments.length?(n=+l,r()):n},Qa(t)}function Gg(){var e=Kg(jd());return e.copy=function(){return Zu(e,Gg()).exponent(e.exponent())},er.apply(e,arguments),e}function NU(){return Gg.apply(null,arguments).exponent(.5)}function eA(e){return Math.sign(e)*e*e}function CU(e){return Math.sign(e)*Math.sqrt(Math.abs(e))}function AC(){var e=Ig(),t=[0,1],n=!1,r;function l(o){var c=CU(e(o));return isNaN(c)?r:n?Math.round(c):c}return l.invert=function(o){return e.invert(eA(o))},l.domain=function(o){return arguments.length?(e.domain(o),l):e.domain()},l.range=function(o){return arguments.length?(e.range((t=Array.from(o,Lf)).map(eA)),l):t.slice()},l.rangeRound=function(o){return l.range(o).round(!0)},l.round=function(o){return arguments.length?(n=!!o,l):n},l.clamp=function(o){return arguments.length?(e.clamp(o),l):e.clamp()},l.unknown=function(o){return arguments.length?(r=o,l):r},l.copy=function(){return AC(e.domain(),t).round(n).clamp(e.clamp()).unknown(r)},er.apply(l,arguments),Qa(l)}function jC(){var e=[],t=[],n=[],r;function l(){var c=0,f=Math.max(1,t.length);for(n=new Array(f-1);++c<f;)n[c-1]=DB(e,c/f);return o}function o(c){return c==null||isNaN(c=+c)?r:t[Fu(n,c)]}return o.invertExtent=function(c){var f=t.indexOf(c);return f<0?[NaN,NaN]:[f>0?n[f-1]:e[0],f<n.length?n[f]:e[e.length-1]]},o.domain=function(c){if(!arguments.length)return e.slice();e=[];for(let f of c)f!=null&&!isNaN(f=+f)&&e.push(f);return e.sort(Xa),l()},o.range=function(c){return arguments.length?(t=Array.from(c),l()):t.slice()},o.unknown=function(c){return arguments.length?(r=c,o):r},o.quantiles=function(){return n.slice()},o.copy=function(){return jC().domain(e).range(t).unknown(r)},er.apply(o,arguments)}function NC(){var e=0,t=1,n=1,r=[.5],l=[0,1],o;function c(d){return d!=null&&d<=d?l[Fu(r,d,0,n)]:o}function f(){var d=-1;for(r=new Array(n);++d<n;)r[d]=((d+1)*t-(d-n)*e)/(n+1);return c}return c.domain=function(d){return arguments.length?([e,t]=d,e=+e,t=+t,f()):[e,t]},c.range=function(d){return arguments.length?(n=(l=Array.from(d)).length-1,f()):l.slice()},c.invertExtent=function(d){var h=l.indexOf(d);return h<0?[NaN,NaN]:h<1?[e,r[0]]:h>=n?[r[n-1],t]:[r[h-1],r[h]]},c.unknown=function(d){return arguments.length&&(o=d),c},c.thresholds=function(){return r.slice()},c.copy=function(){return NC().domain([e,t]).range(l).unknown(o)},er.apply(Qa(c),arguments)}function CC(){var e=[.5],t=[0,1],n,r=1;function l(o){return o!=null&&o<=o?t[Fu(e,o,0,r)]:n}return l.domain=function(o){return arguments.length?(e=Array.from(o),r=Math.min(e.length,t.length-1),l):e.slice()},l.range=function(o){return arguments.length?(t=Array.from(o),r=Math.min(e.length,t.length-1),l):t.slice()},l.invertExtent=function(o){var c=t.indexOf(o);return[e[c-1],e[c]]},l.unknown=function(o){return arguments.length?(n=o,l):n},l.copy=function(){return CC().domain(e).range(t).unknown(n)},er.apply(l,arguments)}const jp=new Date,Np=new Date;function Et(e,t,n,r){function l(o){return e(o=arguments.length===0?new Date:new Date(+o)),o}return l.floor=o=>(e(o=new Date(+o)),o),l.ceil=o=>(e(o=new Date(o-1)),t(o,1),e(o),o),l.round=o=>{const c=l(o),f=l.ceil(o);return o-c<f-o?c:f},l.offset=(o,c)=>(t(o=new Date(+o),c==null?1:Math.floor(c)),o),l.range=(o,c,f)=>{const d=[];if(o=l.ceil(o),f=f==null?1:Math.floor(f),!(o<c)||!(f>0))return d;let h;do d.push(h=new Date(+o)),t(o,f),e(o);while(h<o&&o<c);return d},l.filter=o=>Et(c=>{if(c>=c)for(;e(c),!o(c);)c.setTime(c-1)},(c,f)=>{if(c>=c)if(f<0)for(;++f<=0;)for(;t(c,-1),!o(c););else for(;--f>=0;)for(;t(c,1),!o(c););}),n&&(l.count=(o,c)=>(jp.setTime(+o),Np.setTime(+c),e(jp),e(Np),Math.floor(n(jp,Np))),l.every=o=>(o=Math.floor(o),!isFinite(o)||!(o>0)?null:o>1?l.filter(r?c=>r(c)%o===0:c=>l.count(0,c)%o===0):l)),l}const Uf=Et(()=>{},(e,t)=>{e.setTime(+e+t)},(e,t)=>t-e);Uf.every=e=>(e=Math.floor(e),!isFinite(e)||!(e>0)?null:e>1?Et(t=>{t.setTime(Math.floor(t/e)*e)},(t,n)=>{t.setTime(+t+n*e)},(t,n)=>(n-t)/e):Uf);Uf.range;const Fr=1e3,Xn=Fr*60,Wr=Xn*60,ra=Wr*24,Vg=ra*7,tA=ra*30,Cp=ra*365,Oi=Et(e=>{e.setTime(e-e.getMilliseconds())},(e,t)=>{e.setTime(+e+t*Fr)},(e,t)=>(t-e)/Fr,e=>e.getUTCSeconds());Oi.range;const Xg=Et(e=>{e.setTime(e-e.getMilliseconds()-e.getSeconds()*Fr)},(e,t)=>{e.setTime(+e+t*Xn)},(e,t)=>(t-e)/Xn,e=>e.getMinutes());Xg.range;const Fg=Et(e=>{e.setUTCSeconds(0,0)},(e,t)=>{e.setTime(+e+t*Xn)},(e,t)=>(t-e)/Xn,e=>e.getUTCMinutes());Fg.range;const Wg=Et(e=>{e.setTime(e-e.getMilliseconds()-e.getSeconds()*Fr-e.getMinutes()*Xn)},(e,t)=>{e.setTime(+e+t*Wr)},(e,t)=>(t-e)/Wr,e=>e.getHours());Wg.range;const Zg=Et(e=>{e.setUTCMinutes(0,0,0)},(e,t)=>{e.setTime(+e+t*Wr)},(e,t)=>(t-e)/Wr,e=>e.getUTCHours());Zg.range;const Qu=Et(e=>e.setHours(0,0,0,0),(e,t)=>e.setDate(e.getDate()+t),(e,t)=>(t-e-(t.getTimezoneOffset()-e.getTimezoneOffset())*Xn)/ra,e=>e.getDate()-1);Qu.range;const Nd=Et(e=>{e.setUTCHours(0,0,0,0)},(e,t)=>{e.setUTCDate(e.getUTCDate()+t)},(e,t)=>(t-e)/ra,e=>e.getUTCDate()-1);Nd.range;const _C=Et(e=>{e.setUTCHours(0,0,0,0)},(e,t)=>{e.setUTCDate(e.getUTCDate()+t)},(e,t)=>(t-e)/ra,e=>Math.floor(e/ra));_C.range;function Bi(e){return Et(t=>{t.setDate(t.getDate()-(t.getDay()+7-e)%7),t.setHours(0,0,0,0)},(t,n)=>{t.setDate(t.getDate()+n*7)},(t,n)=>(n-t-(n.getTimezoneOffset()-t.getTimezoneOffset())*Xn)/Vg)}const Cd=Bi(0),If=Bi(1),_U=Bi(2),TU=Bi(3),Gl=Bi(4),MU=Bi(5),DU=Bi(6);Cd.range;If.range;_U.range;TU.range;Gl.range;MU.range;DU.range;function Ui(e){return Et(t=>{t.setUTCDate(t.getUTCDate()-(t.getUTCDay()+7-e)%7),t.setUTCHours(0,0,0,0)},(t,n)=>{t.setUTCDate(t.getUTCDate()+n*7)},(t,n)=>(n-t)/Vg)}const _d=Ui(0),qf=Ui(1),kU=Ui(2),PU=Ui(3),Vl=Ui(4),RU=Ui(5),zU=Ui(6);_d.range;qf.range;kU.range;PU.range;Vl.range;RU.range;zU.range;const Qg=Et(e=>{e.setDate(1),e.setHours(0,0,0,0)},(e,t)=>{e.setMonth(e.getMonth()+t)},(e,t)=>t.getMonth()-e.getMonth()+(t.getFullYear()-e.getFullYear())*12,e=>e.getMonth());Qg.range;const Jg=Et(e=>{e.setUTCDate(1),e.setUTCHours(0,0,0,0)},(e,t)=>{e.setUTCMonth(e.getUTCMonth()+t)},(e,t)=>t.getUTCMonth()-e.getUTCMonth()+(t.getUTCFullYear()-e.getUTCFullYear())*12,e=>e.getUTCMonth());Jg.range;const aa=Et(e=>{e.setMonth(0,1),e.setHours(0,0,0,0)},(e,t)=>{e.setFullYear(e.getFullYear()+t)},(e,t)=>t.getFullYear()-e.getFullYear(),e=>e.getFullYear());aa.every=e=>!isFinite(e=Math.floor(e))||!(e>0)?null:Et(t=>{t.setFullYear(Math.floor(t.getFullYear()/e)*e),t.setMonth(0,1),t.setHours(0,0,0,0)},(t,n)=>{t.setFullYear(t.getFullYear()+n*e)});aa.range;const ia=Et(e=>{e.setUTCMonth(0,1),e.setUTCHours(0,0,0,0)},(e,t)=>{e.setUTCFullYear(e.getUTCFullYear()+t)},(e,t)=>t.getUTCFullYear()-e.getUTCFullYear(),e=>e.getUTCFullYear());ia.every=e=>!isFinite(e=Math.floor(e))||!(e>0)?null:Et(t=>{t.setUTCFullYear(Math.floor(t.getUTCFullYear()/e)*e),t.setUTCMonth(0,1),t.setUTCHours(0,0,0,0)},(t,n)=>{t.setUTCFullYear(t.getUTCFullYear()+n*e)});ia.range;function TC(e,t,n,r,l,o){const c=[[Oi,1,Fr],[Oi,5,5*Fr],[Oi,15,15*Fr],[Oi,30,30*Fr],[o,1,Xn],[o,5,5*Xn],[o,15,15*Xn],[o,30,30*Xn],[l,1,Wr],[l,3,3*Wr],[l,6,6*Wr],[l,12,12*Wr],[r,1,ra],[r,2,2*ra],[n,1,Vg],[t,1,tA],[t,3,3*tA],[e,1,Cp]];function f(h,m,p){const x=m<h;x&&([h,m]=[m,h]);const w=p&&typeof p.range=="function"?p:d(h,m,p),A=w?w.range(h,+m+1):[];return x?A.reverse():A}function d(h,m,p){const x=Math.abs(m-h)/p,w=Pg(([,,E])=>E).right(c,x);if(w===c.length)return e.every(Dy(h/Cp,m/Cp,p));if(w===0)return Uf.every(Math.max(Dy(h,m,p),1));const[A,O]=c[x/c[w-1][2]<c[w][2]/x?w-1:w];return A.every(O)}return[f,d]}const[LU,BU]=TC(ia,Jg,_d,_C,Zg,Fg),[UU,IU]=TC(aa,Qg,Cd,Qu,Wg,Xg);function _p(e){if(0<=e.y&&e.y<100){var t=new Date(-1,e.m,e.d,e.H,e.M,e.S,e.L);return t.setFullYear(e.y),t}return new Date(e.y,e.m,e.d,e.H,e.M,e.S,e.L)}function Tp(e){if(0<=e.y&&e.y<100){var t=new Date(Date.UTC(-1,e.m,e.d,e.H,e.M,e.S,e.L));return t.setUTCFullYear(e.y),t}return new Date(Date.UTC(e.y,e.m,e.d,e.H,e.M,e.S,e.L))}function mu(e,t,n){return{y:e,m:t,d:n,H:0,M:0,S:0,L:0}}function qU(e){var t=e.dateTime,n=e.date,r=e.time,l=e.periods,o=e.days,c=e.shortDays,f=e.months,d=e.shortMonths,h=vu(l),m=pu(l),p=vu(o),x=pu(o),w=vu(c),A=pu(c),O=vu(f),E=pu(f),j=vu(d),_=pu(d),C={a:Q,A:X,b:le,B:Oe,c:null,d:oA,e:oA,f:sI,g:xI,G:SI,H:oI,I:uI,j:cI,L:MC,m:fI,M:dI,p:P,q:K,Q:sA,s:fA,S:hI,u:mI,U:vI,V:pI,w:yI,W:gI,x:null,X:null,y:bI,Y:wI,Z:EI,"%":cA},D={a:ee,A:ne,b:he,B:we,c:null,d:uA,e:uA,f:NI,g:LI,G:UI,H:OI,I:AI,j:jI,L:kC,m:CI,M:_I,p:ue,q:rt,Q:sA,s:fA,S:TI,u:MI,U:DI,V:kI,w:PI,W:RI,x:null,X:null,y:zI,Y:BI,Z:II,"%":cA},T={a:ae,A:W,b:J,B:pe,c:ge,d:iA,e:iA,f:rI,g:aA,G:rA,H:lA,I:lA,j:JU,L:nI,m:QU,M:eI,p:re,q:ZU,Q:iI,s:lI,S:tI,u:GU,U:VU,V:XU,w:KU,W:FU,x:xe,X:q,y:aA,Y:rA,Z:WU,"%":aI};C.x=R(n,C),C.X=R(r,C),C.c=R(t,C),D.x=R(n,D),D.X=R(r,D),D.c=R(t,D);function R(V,be){return function(Ae){var te=[],Bt=-1,ke=0,Ut=V.length,It,jr,ho;for(Ae instanceof Date||(Ae=new Date(+Ae));++Bt<Ut;)V.charCodeAt(Bt)===37&&(te.push(V.slice(ke,Bt)),(jr=nA[It=V.charAt(++Bt)])!=null?It=V.charAt(++Bt):jr=It==="e"?" ":"0",(ho=be[It])&&(It=ho(Ae,jr)),te.push(It),ke=Bt+1);return te.push(V.slice(ke,Bt)),te.join("")}}function k(V,be){return function(Ae){var te=mu(1900,void 0,1),Bt=I(te,V,Ae+="",0),ke,Ut;if(Bt!=Ae.length)return null;if("Q"in te)return new Date(te.Q);if("s"in te)return new Date(te.s*1e3+("L"in te?te.L:0));if(be&&!("Z"in te)&&(te.Z=0),"p"in te&&(te.H=te.H%12+te.p*12),te.m===void 0&&(te.m="q"in te?te.q:0),"V"in te){if(te.V<1||te.V>53)return null;"w"in te||(te.w=1),"Z"in te?(ke=Tp(mu(te.y,0,1)),Ut=ke.getUTCDay(),ke=Ut>4||Ut===0?qf.ceil(ke):qf(ke),ke=Nd.offset(ke,(te.V-1)*7),te.y=ke.getUTCFullYear(),te.m=ke.getUTCMonth(),te.d=ke.getUTCDate()+(te.w+6)%7):(ke=_p(mu(te.y,0,1)),Ut=ke.getDay(),ke=Ut>4||Ut===0?If.ceil(ke):If(ke),ke=Qu.offset(ke,(te.V-1)*7),te.y=ke.getFullYear(),te.m=ke.getMonth(),te.d=ke.getDate()+(te.w+6)%7)}else("W"in te||"U"in te)&&("w"in te||(te.w="u"in te?te.u%7:"W"in te?1:0),Ut="Z"in te?Tp(mu(te.y,0,1)).getUTCDay():_p(mu(te.y,0,1)).getDay(),te.m=0,te.d="W"in te?(te.w+6)%7+te.W*7-(Ut+5)%7:te.w+te.U*7-(Ut+6)%7);return"Z"in te?(te.H+=te.Z/100|0,te.M+=te.Z%100,Tp(te)):_p(te)}}function I(V,be,Ae,te){for(var Bt=0,ke=be.length,Ut=Ae.length,It,jr;Bt<ke;){if(te>=Ut)return-1;if(It=be.charCodeAt(Bt++),It===37){if(It=be.charAt(Bt++),jr=T[It in nA?be.charAt(Bt++):It],!jr||(te=jr(V,Ae,te))<0)return-1}else if(It!=Ae.charCodeAt(te++))return-1}return te}function re(V,be,Ae){var te=h.exec(be.slice(Ae));return te?(V.p=m.get(te[0].toLowerCase()),Ae+te[0].length):-1}function ae(V,be,Ae){var te=w.exec(be.slice(Ae));return te?(V.w=A.get(te[0].toLowerCase()),Ae+te[0].length):-1}function W(V,be,Ae){var te=p.exec(be.slice(Ae));return te?(V.w=x.get(te[0].toLowerCase()),Ae+te[0].length):-1}function J(V,be,Ae){var te=j.exec(be.slice(Ae));return te?(V.m=_.get(te[0].toLowerCase()),Ae+te[0].length):-1}function pe(V,be,Ae){var te=O.exec(be.slice(Ae));return te?(V.m=E.get(te[0].toLowerCase()),Ae+te[0].length):-1}function ge(V,be,Ae){return I(V,t,be,Ae)}function xe(V,be,Ae){return I(V,n,be,Ae)}function q(V,be,Ae){return I(V,r,be,Ae)}function Q(V){return c[V.getDay()]}function X(V){return o[V.getDay()]}function le(V){return d[V.getMonth()]}function Oe(V){return f[V.getMonth()]}function P(V){return l[+(V.getHours()>=12)]}function K(V){return 1+~~(V.getMonth()/3)}function ee(V){return c[V.getUTCDay()]}function ne(V){return o[V.getUTCDay()]}function he(V){return d[V.getUTCMonth()]}function we(V){return f[V.getUTCMonth()]}function ue(V){return l[+(V.getUTCHours()>=12)]}function rt(V){return 1+~~(V.getUTCMonth()/3)}return{format:function(V){var be=R(V+="",C);return be.toString=function(){return V},be},parse:function(V){var be=k(V+="",!1);return be.toString=function(){return V},be},utcFormat:function(V){var be=R(V+="",D);return be.toString=function(){return V},be},utcParse:function(V){var be=k(V+="",!0);return be.toString=function(){return V},be}}}var nA={"-":"",_:" ",0:"0"},Lt=/^\s*\d+/,HU=/^%/,$U=/[\\^$*+?|[\]().{}]/g;function ze(e,t,n){var r=e<0?"-":"",l=(r?-e:e)+"",o=l.length;return r+(o<n?new Array(n-o+1).join(t)+l:l)}function YU(e){return e.replace($U,"\\$&")}function vu(e){return new RegExp("^(?:"+e.map(YU).join("|")+")","i")}function pu(e){return new Map(e.map((t,n)=>[t.toLowerCase(),n]))}function KU(e,t,n){var r=Lt.exec(t.slice(n,n+1));return r?(e.w=+r[0],n+r[0].length):-1}function GU(e,t,n){var r=Lt.exec(t.slice(n,n+1));return r?(e.u=+r[0],n+r[0].length):-1}function VU(e,t,n){var r=Lt.exec(t.slice(n,n+2));return r?(e.U=+r[0],n+r[0].length):-1}function XU(e,t,n){var r=Lt.exec(t.slice(n,n+2));return r?(e.V=+r[0],n+r[0].length):-1}function FU(e,t,n){var r=Lt.exec(t.slice(n,n+2));return r?(e.W=+r[0],n+r[0].length):-1}function rA(e,t,n){var r=Lt.exec(t.slice(n,n+4));return r?(e.y=+r[0],n+r[0].length):-1}function aA(e,t,n){var r=Lt.exec(t.slice(n,n+2));return r?(e.y=+r[0]+(+r[0]>68?1900:2e3),n+r[0].length):-1}function WU(e,t,n){var r=/^(Z)|([+-]\d\d)(?::?(\d\d))?/.exec(t.slice(n,n+6));return r?(e.Z=r[1]?0:-(r[2]+(r[3]||"00")),n+r[0].length):-1}function ZU(e,t,n){var r=Lt.exec(t.slice(n,n+1));return r?(e.q=r[0]*3-3,n+r[0].length):-1}function QU(e,t,n){var r=Lt.exec(t.slice(n,n+2));return r?(e.m=r[0]-1,n+r[0].length):-1}function iA(e,t,n){var r=Lt.exec(t.slice(n,n+2));return r?(e.d=+r[0],n+r[0].length):-1}function JU(e,t,n){var r=Lt.exec(t.slice(n,n+3));return r?(e.m=0,e.d=+r[0],n+r[0].length):-1}function lA(e,t,n){var r=Lt.exec(t.slice(n,n+2));return r?(e.H=+r[0],n+r[0].length):-1}function eI(e,t,n){var r=Lt.exec(t.slice(n,n+2));return r?(e.M=+r[0],n+r[0].length):-1}function tI(e,t,n){var r=Lt.exec(t.slice(n,n+2));return r?(e.S=+r[0],n+r[0].length):-1}function nI(e,t,n){var r=Lt.exec(t.slice(n,n+3));return r?(e.L=+r[0],n+r[0].length):-1}function rI(e,t,n){var r=Lt.exec(t.slice(n,n+6));return r?(e.L=Math.floor(r[0]/1e3),n+r[0].length):-1}function aI(e,t,n){var r=HU.exec(t.slice(n,n+1));return r?n+r[0].length:-1}function iI(e,t,n){var r=Lt.exec(t.slice(n));return r?(e.Q=+r[0],n+r[0].length):-1}function lI(e,t,n){var r=Lt.exec(t.slice(n));return r?(e.s=+r[0],n+r[0].length):-1}function oA(e,t){return ze(e.getDate(),t,2)}function oI(e,t){return ze(e.getHours(),t,2)}function uI(e,t){return ze(e.getHours()%12||12,t,2)}function cI(e,t){return ze(1+Qu.count(aa(e),e),t,3)}function MC(e,t){return ze(e.getMilliseconds(),t,3)}function sI(e,t){return MC(e,t)+"000"}function fI(e,t){return ze(e.getMonth()+1,t,2)}function dI(e,t){return ze(e.getMinutes(),t,2)}function hI(e,t){return ze(e.getSeconds(),t,2)}function mI(e){var t=e.getDay();return t===0?7:t}function vI(e,t){return ze(Cd.count(aa(e)-1,e),t,2)}function DC(e){var t=e.getDay();return t>=4||t===0?Gl(e):Gl.ceil(e)}function pI(e,t){return e=DC(e),ze(Gl.count(aa(e),e)+(aa(e).getDay()===4),t,2)}function yI(e){return e.getDay()}function gI(e,t){return ze(If.count(aa(e)-1,e),t,2)}function bI(e,t){return ze(e.getFullYear()%100,t,2)}function xI(e,t){return e=DC(e),ze(e.getFullYear()%100,t,2)}function wI(e,t){return ze(e.getFullYear()%1e4,t,4)}function SI(e,t){var n=e.getDay();return e=n>=4||n===0?Gl(e):Gl.ceil(e),ze(e.getFullYear()%1e4,t,4)}function EI(e){var t=e.getTimezoneOffset();return(t>0?"-":(t*=-1,"+"))+ze(t/60|0,"0",2)+ze(t%60,"0",2)}function uA(e,t){return ze(e.getUTCDate(),t,2)}function OI(e,t){return ze(e.getUTCHours(),t,2)}function AI(e,t){return ze(e.getUTCHours()%12||12,t,2)}function jI(e,t){return ze(1+Nd.count(ia(e),e),t,3)}function kC(e,t){return ze(e.getUTCMilliseconds(),t,3)}function NI(e,t){return kC(e,t)+"000"}function CI(e,t){return ze(e.getUTCMonth()+1,t,2)}function _I(e,t){return ze(e.getUTCMinutes(),t,2)}function TI(e,t){return ze(e.getUTCSeconds(),t,2)}function MI(e){var t=e.getUTCDay();return t===0?7:t}function DI(e,t){return ze(_d.count(ia(e)-1,e),t,2)}function PC(e){var t=e.getUTCDay();return t>=4||t===0?Vl(e):Vl.ceil(e)}function kI(e,t){return e=PC(e),ze(Vl.count(ia(e),e)+(ia(e).getUTCDay()===4),t,2)}function PI(e){return e.getUTCDay()}function RI(e,t){return ze(qf.count(ia(e)-1,e),t,2)}function zI(e,t){return ze(e.getUTCFullYear()%100,t,2)}function LI(e,t){return e=PC(e),ze(e.getUTCFullYear()%100,t,2)}function BI(e,t){return ze(e.getUTCFullYear()%1e4,t,4)}function UI(e,t){var n=e.getUTCDay();return e=n>=4||n===0?Vl(e):Vl.ceil(e),ze(e.getUTCFullYear()%1e4,t,4)}function II(){return"+0000"}function cA(){return"%"}function sA(e){return+e}function fA(e){return Math.floor(+e/1e3)}var Al,RC,zC;qI({dateTime:"%x, %X",date:"%-m/%-d/%Y",time:"%-I:%M:%S %p",periods:["AM","PM"],days:["Sunday","Monday","Tuesday","Wednesday","Thursday","Friday","Saturday"],shortDays:["Sun","Mon","Tue","Wed","Thu","Fri","Sat"],months:["January","February","March","April","May","June","July","August","September","October","November","December"],shortMonths:["Jan","Feb","Mar","Apr","May","Jun","Jul","Aug","Sep","Oct","Nov","Dec"]});function qI(e){return Al=qU(e),RC=Al.format,Al.parse,zC=Al.utcFormat,Al.utcParse,Al}function HI(e){return new Date(e)}function $I(e){return e instanceof Date?+e:+new Date(+e)}function e0(e,t,n,r,l,o,c,f,d,h){var m=Ig(),p=m.invert,x=m.domain,w=h(".%L"),A=h(":%S"),O=h("%I:%M"),E=h("%I %p"),j=h("%a %d"),_=h("%b %d"),C=h("%B"),D=h("%Y");function T(R){return(d(R)<R?w:f(R)<R?A:c(R)<R?O:o(R)<R?E:r(R)<R?l(R)<R?j:_:n(R)<R?C:D)(R)}return m.invert=function(R){return new Date(p(R))},m.domain=function(R){return arguments.length?x(Array.from(R,$I)):x().map(HI)},m.ticks=function(R){var k=x();return e(k[0],k[k.length-1],R??10)},m.tickFormat=function(R,k){return k==null?T:h(k)},m.nice=function(R){var k=x();return(!R||typeof R.range!="function")&&(R=t(k[0],k[k.length-1],R??10)),R?x(SC(k,R)):m},m.copy=function(){return Zu(m,e0(e,t,n,r,l,o,c,f,d,h))},m}function YI(){return er.apply(e0(UU,IU,aa,Qg,Cd,Qu,Wg,Xg,Oi,RC).domain([new Date(2e3,0,1),new Date(2e3,0,2)]),arguments)}function KI(){return er.apply(e0(LU,BU,ia,Jg,_d,Nd,Zg,Fg,Oi,zC).domain([Date.UTC(2e3,0,1),Date.UTC(2e3,0,2)]),arguments)}function Td(){var e=0,t=1,n,r,l,o,c=rn,f=!1,d;function h(p){return p==null||isNaN(p=+p)?d:c(l===0?.5:(p=(o(p)-n)*l,f?Math.max(0,Math.min(1,p)):p))}h.domain=function(p){return arguments.length?([e,t]=p,n=o(e=+e),r=o(t=+t),l=n===r?0:1/(r-n),h):[e,t]},h.clamp=function(p){return arguments.length?(f=!!p,h):f},h.interpolator=function(p){return arguments.length?(c=p,h):c};function m(p){return function(x){var w,A;return arguments.length?([w,A]=x,c=p(w,A),h):[c(0),c(1)]}}return h.range=m(ao),h.rangeRound=m(Ug),h.unknown=function(p){return arguments.length?(d=p,h):d},function(p){return o=p,n=p(e),r=p(t),l=n===r?0:1/(r-n),h}}function Ja(e,t){return t.domain(e.domain()).interpolator(e.interpolator()).clamp(e.clamp()).unknown(e.unknown())}function LC(){var e=Qa(Td()(rn));return e.copy=function(){return Ja(e,LC())},da.apply(e,arguments)}function BC(){var e=$g(Td()).domain([1,10]);return e.copy=function(){return Ja(e,BC()).base(e.base())},da.apply(e,arguments)}function UC(){var e=Yg(Td());return e.copy=function(){return Ja(e,UC()).constant(e.constant())},da.apply(e,arguments)}function t0(){var e=Kg(Td());return e.copy=function(){return Ja(e,t0()).exponent(e.exponent())},da.apply(e,arguments)}function GI(){return t0.apply(null,arguments).exponent(.5)}function IC(){var e=[],t=rn;function n(r){if(r!=null&&!isNaN(r=+r))return t((Fu(e,r,1)-1)/(e.length-1))}return n.domain=function(r){if(!arguments.length)return e.slice();e=[];for(let l of r)l!=null&&!isNaN(l=+l)&&e.push(l);return e.sort(Xa),n},n.interpolator=function(r){return arguments.length?(t=r,n):t},n.range=function(){return e.map((r,l)=>t(l/(e.length-1)))},n.quantiles=function(r){return Array.from({length:r+1},(l,o)=>MB(e,o/r))},n.copy=function(){return IC(t).domain(e)},da.apply(n,arguments)}function Md(){var e=0,t=.5,n=1,r=1,l,o,c,f,d,h=rn,m,p=!1,x;function w(O){return isNaN(O=+O)?x:(O=.5+((O=+m(O))-o)*(r*O<r*o?f:d),h(p?Math.max(0,Math.min(1,O)):O))}w.domain=function(O){return arguments.length?([e,t,n]=O,l=m(e=+e),o=m(t=+t),c=m(n=+n),f=l===o?0:.5/(o-l),d=o===c?0:.5/(c-o),r=o<l?-1:1,w):[e,t,n]},w.clamp=function(O){return arguments.length?(p=!!O,w):p},w.interpolator=function(O){return arguments.length?(h=O,w):h};function A(O){return function(E){var j,_,C;return arguments.length?([j,_,C]=E,h=aU(O,[j,_,C]),w):[h(0),h(.5),h(1)]}}return w.range=A(ao),w.rangeRound=A(Ug),w.unknown=function(O){return arguments.length?(x=O,w):x},function(O){return m=O,l=O(e),o=O(t),c=O(n),f=l===o?0:.5/(o-l),d=o===c?0:.5/(c-o),r=o<l?-1:1,w}}function qC(){var e=Qa(Md()(rn));return e.copy=function(){return Ja(e,qC())},da.apply(e,arguments)}function HC(){var e=$g(Md()).domain([.1,1,10]);return e.copy=function(){return Ja(e,HC()).base(e.base())},da.apply(e,arguments)}function $C(){var e=Yg(Md());return e.copy=function(){return Ja(e,$C()).constant(e.constant())},da.apply(e,arguments)}function n0(){var e=Kg(Md());return e.copy=function(){return Ja(e,n0()).exponent(e.exponent())},da.apply(e,arguments)}function VI(){return n0.apply(null,arguments).exponent(.5)}const gu=Object.freeze(Object.defineProperty({__proto__:null,scaleBand:zg,scaleDiverging:qC,scaleDivergingLog:HC,scaleDivergingPow:n0,scaleDivergingSqrt:VI,scaleDivergingSymlog:$C,scaleIdentity:wC,scaleImplicit:ky,scaleLinear:xC,scaleLog:EC,scaleOrdinal:Rg,scalePoint:PB,scalePow:Gg,scaleQuantile:jC,scaleQuantize:NC,scaleRadial:AC,scaleSequential:LC,scaleSequentialLog:BC,scaleSequentialPow:t0,scaleSequentialQuantile:IC,scaleSequentialSqrt:GI,scaleSequentialSymlog:UC,scaleSqrt:NU,scaleSymlog:OC,scaleThreshold:CC,scaleTime:YI,scaleUtc:KI,tickFormat:bC},Symbol.toStringTag,{value:"Module"}));var ei=e=>e.chartData,XI=Y([ei],e=>{var t=e.chartData!=null?e.chartData.length-1:0;return{chartData:e.chartData,computedData:e.computedData,dataEndIndex:t,dataStartIndex:0}}),r0=(e,t,n,r)=>r?XI(e):ei(e);function Za(e){if(Array.isArray(e)&&e.length===2){var[t,n]=e;if(ot(t)&&ot(n))return!0}return!1}function dA(e,t,n){return n?e:[Math.min(e[0],t[0]),Math.max(e[1],t[1])]}function YC(e,t){if(t&&typeof e!="function"&&Array.isArray(e)&&e.length===2){var[n,r]=e,l,o;if(ot(n))l=n;else if(typeof n=="function")return;if(ot(r))o=r;else if(typeof r=="function")return;var c=[l,o];if(Za(c))return c}}function FI(e,t,n){if(!(!n&&t==null)){if(typeof e=="function"&&t!=null)try{var r=e(t,n);if(Za(r))return dA(r,t,n)}catch{}if(Array.isArray(e)&&e.length===2){var[l,o]=e,c,f;if(l==="auto")t!=null&&(c=Math.min(...t));else if(de(l))c=l;else if(typeof l=="function")try{t!=null&&(c=l(t?.[0]))}catch{}else if(typeof l=="string"&&HE.test(l)){var d=HE.exec(l);if(d==null||t==null)c=void 0;else{var h=+d[1];c=t[0]-h}}else c=t?.[0];if(o==="auto")t!=null&&(f=Math.max(...t));else if(de(o))f=o;else if(typeof o=="function")try{t!=null&&(f=o(t?.[1]))}catch{}else if(typeof o=="string"&&$E.test(o)){var m=$E.exec(o);if(m==null||t==null)f=void 0;else{var p=+m[1];f=t[1]+p}}else f=t?.[1];var x=[c,f];if(Za(x))return t==null?x:dA(x,t,n)}}}var io=1e9,WI={precision:20,rounding:4,toExpNeg:-7,toExpPos:21,LN10:"2.302585092994045684017991454684364207601101488628772976033327900967572609677352480235997205089598298341967784042286"},i0,tt=!0,Qn="[DecimalError] ",_i=Qn+"Invalid argument: ",a0=Qn+"Exponent out of range: ",lo=Math.floor,Si=Math.pow,ZI=/^(\d+(\.\d*)?|\.\d+)(e[+-]?\d+)?$/i,Mn,Mt=1e7,Ze=7,KC=9007199254740991,Hf=lo(KC/Ze),ie={};ie.absoluteValue=ie.abs=function(){var e=new this.constructor(this);return e.s&&(e.s=1),e};ie.comparedTo=ie.cmp=function(e){var t,n,r,l,o=this;if(e=new o.constructor(e),o.s!==e.s)return o.s||-e.s;if(o.e!==e.e)return o.e>e.e^o.s<0?1:-1;for(r=o.d.length,l=e.d.length,t=0,n=r<l?r:l;t<n;++t)if(o.d[t]!==e.d[t])return o.d[t]>e.d[t]^o.s<0?1:-1;return r===l?0:r>l^o.s<0?1:-1};ie.decimalPlaces=ie.dp=function(){var e=this,t=e.d.length-1,n=(t-e.e)*Ze;if(t=e.d[t],t)for(;t%10==0;t/=10)n--;return n<0?0:n};ie.dividedBy=ie.div=function(e){return Qr(this,new this.constructor(e))};ie.dividedToIntegerBy=ie.idiv=function(e){var t=this,n=t.constructor;return Ke(Qr(t,new n(e),0,1),n.precision)};ie.equals=ie.eq=function(e){return!this.cmp(e)};ie.exponent=function(){return gt(this)};ie.greaterThan=ie.gt=function(e){return this.cmp(e)>0};ie.greaterThanOrEqualTo=ie.gte=function(e){return this.cmp(e)>=0};ie.isInteger=ie.isint=function(){return this.e>this.d.length-2};ie.isNegative=ie.isneg=function(){return this.s<0};ie.isPositive=ie.ispos=function(){return this.s>0};ie.isZero=function(){return this.s===0};ie.lessThan=ie.lt=function(e){return this.cmp(e)<0};ie.lessThanOrEqualTo=ie.lte=function(e){return this.cmp(e)<1};ie.logarithm=ie.log=function(e){var t,n=this,r=n.constructor,l=r.precision,o=l+5;if(e===void 0)e=new r(10);else if(e=new r(e),e.s<1||e.eq(Mn))throw Error(Qn+"NaN");if(n.s<1)throw Error(Qn+(n.s?"NaN":"-Infinity"));return n.eq(Mn)?new r(0):(tt=!1,t=Qr(Pu(n,o),Pu(e,o),o),tt=!0,Ke(t,l))};ie.minus=ie.sub=function(e){var t=this;return e=new t.constructor(e),t.s==e.s?XC(t,e):GC(t,(e.s=-e.s,e))};ie.modulo=ie.mod=function(e){var t,n=this,r=n.constructor,l=r.precision;if(e=new r(e),!e.s)throw Error(Qn+"NaN");return n.s?(tt=!1,t=Qr(n,e,0,1).times(e),tt=!0,n.minus(t)):Ke(new r(n),l)};ie.naturalExponential=ie.exp=function(){return VC(this)};ie.naturalLogarithm=ie.ln=function(){return Pu(this)};ie.negated=ie.neg=function(){var e=new this.constructor(this);return e.s=-e.s||0,e};ie.plus=ie.add=function(e){var t=this;return e=new t.constructor(e),t.s==e.s?GC(t,e):XC(t,(e.s=-e.s,e))};ie.precision=ie.sd=function(e){var t,n,r,l=this;if(e!==void 0&&e!==!!e&&e!==1&&e!==0)throw Error(_i+e);if(t=gt(l)+1,r=l.d.length-1,n=r*Ze+1,r=l.d[r],r){for(;r%10==0;r/=10)n--;for(r=l.d[0];r>=10;r/=10)n++}return e&&t>n?t:n};ie.squareRoot=ie.sqrt=function(){var e,t,n,r,l,o,c,f=this,d=f.constructor;if(f.s<1){if(!f.s)return new d(0);throw Error(Qn+"NaN")}for(e=gt(f),tt=!1,l=Math.sqrt(+f),l==0||l==1/0?(t=br(f.d),(t.length+e)%2==0&&(t+="0"),l=Math.sqrt(t),e=lo((e+1)/2)-(e<0||e%2),l==1/0?t="5e"+e:(t=l.toExponential(),t=t.slice(0,t.indexOf("e")+1)+e),r=new d(t)):r=new d(l.toString()),n=d.precision,l=c=n+3;;)if(o=r,r=o.plus(Qr(f,o,c+2)).times(.5),br(o.d).slice(0,c)===(t=br(r.d)).slice(0,c)){if(t=t.slice(c-3,c+1),l==c&&t=="4999"){if(Ke(o,n+1,0),o.times(o).eq(f)){r=o;break}}else if(t!="9999")break;c+=4}return tt=!0,Ke(r,n)};ie.times=ie.mul=function(e){var t,n,r,l,o,c,f,d,h,m=this,p=m.constructor,x=m.d,w=(e=new p(e)).d;if(!m.s||!e.s)return new p(0);for(e.s*=m.s,n=m.e+e.e,d=x.length,h=w.length,d<h&&(o=x,x=w,w=o,c=d,d=h,h=c),o=[],c=d+h,r=c;r--;)o.push(0);for(r=h;--r>=0;){for(t=0,l=d+r;l>r;)f=o[l]+w[r]*x[l-r-1]+t,o[l--]=f%Mt|0,t=f/Mt|0;o[l]=(o[l]+t)%Mt|0}for(;!o[--c];)o.pop();return t?++n:o.shift(),e.d=o,e.e=n,tt?Ke(e,p.precision):e};ie.toDecimalPlaces=ie.todp=function(e,t){var n=this,r=n.constructor;return n=new r(n),e===void 0?n:(Or(e,0,io),t===void 0?t=r.rounding:Or(t,0,8),Ke(n,e+gt(n)+1,t))};ie.toExponential=function(e,t){var n,r=this,l=r.constructor;return e===void 0?n=ki(r,!0):(Or(e,0,io),t===void 0?t=l.rounding:Or(t,0,8),r=Ke(new l(r),e+1,t),n=ki(r,!0,e+1)),n};ie.toFixed=function(e,t){var n,r,l=this,o=l.constructor;return e===void 0?ki(l):(Or(e,0,io),t===void 0?t=o.rounding:Or(t,0,8),r=Ke(new o(l),e+gt(l)+1,t),n=ki(r.abs(),!1,e+gt(r)+1),l.isneg()&&!l.isZero()?"-"+n:n)};ie.toInteger=ie.toint=function(){var e=this,t=e.constructor;return Ke(new t(e),gt(e)+1,t.rounding)};ie.toNumber=function(){return+this};ie.toPower=ie.pow=function(e){var t,n,r,l,o,c,f=this,d=f.constructor,h=12,m=+(e=new d(e));if(!e.s)return new d(Mn);if(f=new d(f),!f.s){if(e.s<1)throw Error(Qn+"Infinity");return f}if(f.eq(Mn))return f;if(r=d.precision,e.eq(Mn))return Ke(f,r);if(t=e.e,n=e.d.length-1,c=t>=n,o=f.s,c){if((n=m<0?-m:m)<=KC){for(l=new d(Mn),t=Math.ceil(r/Ze+4),tt=!1;n%2&&(l=l.times(f),mA(l.d,t)),n=lo(n/2),n!==0;)f=f.times(f),mA(f.d,t);return tt=!0,e.s<0?new d(Mn).div(l):Ke(l,r)}}else if(o<0)throw Error(Qn+"NaN");return o=o<0&&e.d[Math.max(t,n)]&1?-1:1,f.s=1,tt=!1,l=e.times(Pu(f,r+h)),tt=!0,l=VC(l),l.s=o,l};ie.toPrecision=function(e,t){var n,r,l=this,o=l.constructor;return e===void 0?(n=gt(l),r=ki(l,n<=o.toExpNeg||n>=o.toExpPos)):(Or(e,1,io),t===void 0?t=o.rounding:Or(t,0,8),l=Ke(new o(l),e,t),n=gt(l),r=ki(l,e<=n||n<=o.toExpNeg,e)),r};ie.toSignificantDigits=ie.tosd=function(e,t){var n=this,r=n.constructor;return e===void 0?(e=r.precision,t=r.rounding):(Or(e,1,io),t===void 0?t=r.rounding:Or(t,0,8)),Ke(new r(n),e,t)};ie.toString=ie.valueOf=ie.val=ie.toJSON=ie[Symbol.for("nodejs.util.inspect.custom")]=function(){var e=this,t=gt(e),n=e.constructor;return ki(e,t<=n.toExpNeg||t>=n.toExpPos)};function GC(e,t){var n,r,l,o,c,f,d,h,m=e.constructor,p=m.precision;if(!e.s||!t.s)return t.s||(t=new m(e)),tt?Ke(t,p):t;if(d=e.d,h=t.d,c=e.e,l=t.e,d=d.slice(),o=c-l,o){for(o<0?(r=d,o=-o,f=h.length):(r=h,l=c,f=d.length),c=Math.ceil(p/Ze),f=c>f?c+1:f+1,o>f&&(o=f,r.length=1),r.reverse();o--;)r.push(0);r.reverse()}for(f=d.length,o=h.length,f-o<0&&(o=f,r=h,h=d,d=r),n=0;o;)n=(d[--o]=d[o]+h[o]+n)/Mt|0,d[o]%=Mt;for(n&&(d.unshift(n),++l),f=d.length;d[--f]==0;)d.pop();return t.d=d,t.e=l,tt?Ke(t,p):t}function Or(e,t,n){if(e!==~~e||e<t||e>n)throw Error(_i+e)}function br(e){var t,n,r,l=e.length-1,o="",c=e[0];if(l>0){for(o+=c,t=1;t<l;t++)r=e[t]+"",n=Ze-r.length,n&&(o+=Ya(n)),o+=r;c=e[t],r=c+"",n=Ze-r.length,n&&(o+=Ya(n))}else if(c===0)return"0";for(;c%10===0;)c/=10;return o+c}var Qr=(function(){function e(r,l){var o,c=0,f=r.length;for(r=r.slice();f--;)o=r[f]*l+c,r[f]=o%Mt|0,c=o/Mt|0;return c&&r.unshift(c),r}function t(r,l,o,c){var f,d;if(o!=c)d=o>c?1:-1;else for(f=d=0;f<o;f++)if(r[f]!=l[f]){d=r[f]>l[f]?1:-1;break}return d}function n(r,l,o){for(var c=0;o--;)r[o]-=c,c=r[o]<l[o]?1:0,r[o]=c*Mt+r[o]-l[o];for(;!r[0]&&r.length>1;)r.shift()}return function(r,l,o,c){var f,d,h,m,p,x,w,A,O,E,j,_,C,D,T,R,k,I,re=r.constructor,ae=r.s==l.s?1:-1,W=r.d,J=l.d;if(!r.s)return new re(r);if(!l.s)throw Error(Qn+"Division by zero");for(d=r.e-l.e,k=J.length,T=W.length,w=new re(ae),A=w.d=[],h=0;J[h]==(W[h]||0);)++h;if(J[h]>(W[h]||0)&&--d,o==null?_=o=re.precision:c?_=o+(gt(r)-gt(l))+1:_=o,_<0)return new re(0);if(_=_/Ze+2|0,h=0,k==1)for(m=0,J=J[0],_++;(h<T||m)&&_--;h++)C=m*Mt+(W[h]||0),A[h]=C/J|0,m=C%J|0;else{for(m=Mt/(J[0]+1)|0,m>1&&(J=e(J,m),W=e(W,m),k=J.length,T=W.length),D=k,O=W.slice(0,k),E=O.length;E<k;)O[E++]=0;I=J.slice(),I.unshift(0),R=J[0],J[1]>=Mt/2&&++R;do m=0,f=t(J,O,k,E),f<0?(j=O[0],k!=E&&(j=j*Mt+(O[1]||0)),m=j/R|0,m>1?(m>=Mt&&(m=Mt-1),p=e(J,m),x=p.length,E=O.length,f=t(p,O,x,E),f==1&&(m--,n(p,k<x?I:J,x))):(m==0&&(f=m=1),p=J.slice()),x=p.length,x<E&&p.unshift(0),n(O,p,E),f==-1&&(E=O.length,f=t(J,O,k,E),f<1&&(m++,n(O,k<E?I:J,E))),E=O.length):f===0&&(m++,O=[0]),A[h++]=m,f&&O[0]?O[E++]=W[D]||0:(O=[W[D]],E=1);while((D++<T||O[0]!==void 0)&&_--)}return A[0]||A.shift(),w.e=d,Ke(w,c?o+gt(w)+1:o)}})();function VC(e,t){var n,r,l,o,c,f,d=0,h=0,m=e.constructor,p=m.precision;if(gt(e)>16)throw Error(a0+gt(e));if(!e.s)return new m(Mn);for(tt=!1,f=p,c=new m(.03125);e.abs().gte(.1);)e=e.times(c),h+=5;for(r=Math.log(Si(2,h))/Math.LN10*2+5|0,f+=r,n=l=o=new m(Mn),m.precision=f;;){if(l=Ke(l.times(e),f),n=n.times(++d),c=o.plus(Qr(l,n,f)),br(c.d).slice(0,f)===br(o.d).slice(0,f)){for(;h--;)o=Ke(o.times(o),f);return m.precision=p,t==null?(tt=!0,Ke(o,p)):o}o=c}}function gt(e){for(var t=e.e*Ze,n=e.d[0];n>=10;n/=10)t++;return t}function Mp(e,t,n){if(t>e.LN10.sd())throw tt=!0,n&&(e.precision=n),Error(Qn+"LN10 precision limit exceeded");return Ke(new e(e.LN10),t)}function Ya(e){for(var t="";e--;)t+="0";return t}function Pu(e,t){var n,r,l,o,c,f,d,h,m,p=1,x=10,w=e,A=w.d,O=w.constructor,E=O.precision;if(w.s<1)throw Error(Qn+(w.s?"NaN":"-Infinity"));if(w.eq(Mn))return new O(0);if(t==null?(tt=!1,h=E):h=t,w.eq(10))return t==null&&(tt=!0),Mp(O,h);if(h+=x,O.precision=h,n=br(A),r=n.charAt(0),o=gt(w),Math.abs(o)<15e14){for(;r<7&&r!=1||r==1&&n.charAt(1)>3;)w=w.times(e),n=br(w.d),r=n.charAt(0),p++;o=gt(w),r>1?(w=new O("0."+n),o++):w=new O(r+"."+n.slice(1))}else return d=Mp(O,h+2,E).times(o+""),w=Pu(new O(r+"."+n.slice(1)),h-x).plus(d),O.precision=E,t==null?(tt=!0,Ke(w,E)):w;for(f=c=w=Qr(w.minus(Mn),w.plus(Mn),h),m=Ke(w.times(w),h),l=3;;){if(c=Ke(c.times(m),h),d=f.plus(Qr(c,new O(l),h)),br(d.d).slice(0,h)===br(f.d).slice(0,h))return f=f.times(2),o!==0&&(f=f.plus(Mp(O,h+2,E).times(o+""))),f=Qr(f,new O(p),h),O.precision=E,t==null?(tt=!0,Ke(f,E)):f;f=d,l+=2}}function hA(e,t){var n,r,l;for((n=t.indexOf("."))>-1&&(t=t.replace(".","")),(r=t.search(/e/i))>0?(n<0&&(n=r),n+=+t.slice(r+1),t=t.substring(0,r)):n<0&&(n=t.length),r=0;t.charCodeAt(r)===48;)++r;for(l=t.length;t.charCodeAt(l-1)===48;)--l;if(t=t.slice(r,l),t){if(l-=r,n=n-r-1,e.e=lo(n/Ze),e.d=[],r=(n+1)%Ze,n<0&&(r+=Ze),r<l){for(r&&e.d.push(+t.slice(0,r)),l-=Ze;r<l;)e.d.push(+t.slice(r,r+=Ze));t=t.slice(r),r=Ze-t.length}else r-=l;for(;r--;)t+="0";if(e.d.push(+t),tt&&(e.e>Hf||e.e<-Hf))throw Error(a0+n)}else e.s=0,e.e=0,e.d=[0];return e}function Ke(e,t,n){var r,l,o,c,f,d,h,m,p=e.d;for(c=1,o=p[0];o>=10;o/=10)c++;if(r=t-c,r<0)r+=Ze,l=t,h=p[m=0];else{if(m=Math.ceil((r+1)/Ze),o=p.length,m>=o)return e;for(h=o=p[m],c=1;o>=10;o/=10)c++;r%=Ze,l=r-Ze+c}if(n!==void 0&&(o=Si(10,c-l-1),f=h/o%10|0,d=t<0||p[m+1]!==void 0||h%o,d=n<4?(f||d)&&(n==0||n==(e.s<0?3:2)):f>5||f==5&&(n==4||d||n==6&&(r>0?l>0?h/Si(10,c-l):0:p[m-1])%10&1||n==(e.s<0?8:7))),t<1||!p[0])return d?(o=gt(e),p.length=1,t=t-o-1,p[0]=Si(10,(Ze-t%Ze)%Ze),e.e=lo(-t/Ze)||0):(p.length=1,p[0]=e.e=e.s=0),e;if(r==0?(p.length=m,o=1,m--):(p.length=m+1,o=Si(10,Ze-r),p[m]=l>0?(h/Si(10,c-l)%Si(10,l)|0)*o:0),d)for(;;)if(m==0){(p[0]+=o)==Mt&&(p[0]=1,++e.e);break}else{if(p[m]+=o,p[m]!=Mt)break;p[m--]=0,o=1}for(r=p.length;p[--r]===0;)p.pop();if(tt&&(e.e>Hf||e.e<-Hf))throw Error(a0+gt(e));return e}function XC(e,t){var n,r,l,o,c,f,d,h,m,p,x=e.constructor,w=x.precision;if(!e.s||!t.s)return t.s?t.s=-t.s:t=new x(e),tt?Ke(t,w):t;if(d=e.d,p=t.d,r=t.e,h=e.e,d=d.slice(),c=h-r,c){for(m=c<0,m?(n=d,c=-c,f=p.length):(n=p,r=h,f=d.length),l=Math.max(Math.ceil(w/Ze),f)+2,c>l&&(c=l,n.length=1),n.reverse(),l=c;l--;)n.push(0);n.reverse()}else{for(l=d.length,f=p.length,m=l<f,m&&(f=l),l=0;l<f;l++)if(d[l]!=p[l]){m=d[l]<p[l];break}c=0}for(m&&(n=d,d=p,p=n,t.s=-t.s),f=d.length,l=p.length-f;l>0;--l)d[f++]=0;for(l=p.length;l>c;){if(d[--l]<p[l]){for(o=l;o&&d[--o]===0;)d[o]=Mt-1;--d[o],d[l]+=Mt}d[l]-=p[l]}for(;d[--f]===0;)d.pop();for(;d[0]===0;d.shift())--r;return d[0]?(t.d=d,t.e=r,tt?Ke(t,w):t):new x(0)}function ki(e,t,n){var r,l=gt(e),o=br(e.d),c=o.length;return t?(n&&(r=n-c)>0?o=o.charAt(0)+"."+o.slice(1)+Ya(r):c>1&&(o=o.charAt(0)+"."+o.slice(1)),o=o+(l<0?"e":"e+")+l):l<0?(o="0."+Ya(-l-1)+o,n&&(r=n-c)>0&&(o+=Ya(r))):l>=c?(o+=Ya(l+1-c),n&&(r=n-l-1)>0&&(o=o+"."+Ya(r))):((r=l+1)<c&&(o=o.slice(0,r)+"."+o.slice(r)),n&&(r=n-c)>0&&(l+1===c&&(o+="."),o+=Ya(r))),e.s<0?"-"+o:o}function mA(e,t){if(e.length>t)return e.length=t,!0}function FC(e){var t,n,r;function l(o){var c=this;if(!(c instanceof l))return new l(o);if(c.constructor=l,o instanceof l){c.s=o.s,c.e=o.e,c.d=(o=o.d)?o.slice():o;return}if(typeof o=="number"){if(o*0!==0)throw Error(_i+o);if(o>0)c.s=1;else if(o<0)o=-o,c.s=-1;else{c.s=0,c.e=0,c.d=[0];return}if(o===~~o&&o<1e7){c.e=0,c.d=[o];return}return hA(c,o.toString())}else if(typeof o!="string")throw Error(_i+o);if(o.charCodeAt(0)===45?(o=o.slice(1),c.s=-1):c.s=1,ZI.test(o))hA(c,o);else throw Error(_i+o)}if(l.prototype=ie,l.ROUND_UP=0,l.ROUND_DOWN=1,l.ROUND_CEIL=2,l.ROUND_FLOOR=3,l.ROUND_HALF_UP=4,l.ROUND_HALF_DOWN=5,l.ROUND_HALF_EVEN=6,l.ROUND_HALF_CEIL=7,l.ROUND_HALF_FLOOR=8,l.clone=FC,l.config=l.set=QI,e===void 0&&(e={}),e)for(r=["precision","rounding","toExpNeg","toExpPos","LN10"],t=0;t<r.length;)e.hasOwnProperty(n=r[t++])||(e[n]=this[n]);return l.config(e),l}function QI(e){if(!e||typeof e!="object")throw Error(Qn+"Object expected");var t,n,r,l=["precision",1,io,"rounding",0,8,"toExpNeg",-1/0,0,"toExpPos",0,1/0];for(t=0;t<l.length;t+=3)if((r=e[n=l[t]])!==void 0)if(lo(r)===r&&r>=l[t+1]&&r<=l[t+2])this[n]=r;else throw Error(_i+n+": "+r);if((r=e[n="LN10"])!==void 0)if(r==Math.LN10)this[n]=new this(r);else throw Error(_i+n+": "+r);return this}var i0=FC(WI);Mn=new i0(1);const Ie=i0;var JI=e=>e,WC={},ZC=e=>e===WC,vA=e=>function t(){return arguments.length===0||arguments.length===1&&ZC(arguments.length<=0?void 0:arguments[0])?t:e(...arguments)},QC=(e,t)=>e===1?t:vA(function(){for(var n=arguments.length,r=new Array(n),l=0;l<n;l++)r[l]=arguments[l];var o=r.filter(c=>c!==WC).length;return o>=e?t(...r):QC(e-o,vA(function(){for(var c=arguments.length,f=new Array(c),d=0;d<c;d++)f[d]=arguments[d];var h=r.map(m=>ZC(m)?f.shift():m);return t(...h,...f)}))}),e9=e=>QC(e.length,e),Ly=(e,t)=>{for(var n=[],r=e;r<t;++r)n[r-e]=r;return n},t9=e9((e,t)=>Array.isArray(t)?t.map(e):Object.keys(t).map(n=>t[n]).map(e)),n9=function(){for(var t=arguments.length,n=new Array(t),r=0;r<t;r++)n[r]=arguments[r];if(!n.length)return JI;var l=n.reverse(),o=l[0],c=l.slice(1);return function(){return c.reduce((f,d)=>d(f),o(...arguments))}},By=e=>Array.isArray(e)?e.reverse():e.split("").reverse().join("");function JC(e){var t;return e===0?t=1:t=Math.floor(new Ie(e).abs().log(10).toNumber())+1,t}function e_(e,t,n){for(var r=new Ie(e),l=0,o=[];r.lt(t)&&l<1e5;)o.push(r.toNumber()),r=r.add(n),l++;return o}var t_=e=>{var[t,n]=e,[r,l]=[t,n];return t>n&&([r,l]=[n,t]),[r,l]},n_=(e,t,n)=>{if(e.lte(0))return new Ie(0);var r=JC(e.toNumber()),l=new Ie(10).pow(r),o=e.div(l),c=r!==1?.05:.1,f=new Ie(Math.ceil(o.div(c).toNumber())).add(n).mul(c),d=f.mul(l);return t?new Ie(d.toNumber()):new Ie(Math.ceil(d.toNumber()))},r9=(e,t,n)=>{var r=new Ie(1),l=new Ie(e);if(!l.isint()&&n){var o=Math.abs(e);o<1?(r=new Ie(10).pow(JC(e)-1),l=new Ie(Math.floor(l.div(r).toNumber())).mul(r)):o>1&&(l=new Ie(Math.floor(e)))}else e===0?l=new Ie(Math.floor((t-1)/2)):n||(l=new Ie(Math.floor(e)));var c=Math.floor((t-1)/2),f=n9(t9(d=>l.add(new Ie(d-c).mul(r)).toNumber()),Ly);return f(0,t)},r_=function(t,n,r,l){var o=arguments.length>4&&arguments[4]!==void 0?arguments[4]:0;if(!Number.isFinite((n-t)/(r-1)))return{step:new Ie(0),tickMin:new Ie(0),tickMax:new Ie(0)};var c=n_(new Ie(n).sub(t).div(r-1),l,o),f;t<=0&&n>=0?f=new Ie(0):(f=new Ie(t).add(n).div(2),f=f.sub(new Ie(f).mod(c)));var d=Math.ceil(f.sub(t).div(c).toNumber()),h=Math.ceil(new Ie(n).sub(f).div(c).toNumber()),m=d+h+1;return m>r?r_(t,n,r,l,o+1):(m<r&&(h=n>0?h+(r-m):h,d=n>0?d:d+(r-m)),{step:c,tickMin:f.sub(new Ie(d).mul(c)),tickMax:f.add(new Ie(h).mul(c))})},a9=function(t){var[n,r]=t,l=arguments.length>1&&arguments[1]!==void 0?arguments[1]:6,o=arguments.length>2&&arguments[2]!==void 0?arguments[2]:!0,c=Math.max(l,2),[f,d]=t_([n,r]);if(f===-1/0||d===1/0){var h=d===1/0?[f,...Ly(0,l-1).map(()=>1/0)]:[...Ly(0,l-1).map(()=>-1/0),d];return n>r?By(h):h}if(f===d)return r9(f,l,o);var{step:m,tickMin:p,tickMax:x}=r_(f,d,c,o,0),w=e_(p,x.add(new Ie(.1).mul(m)),m);return n>r?By(w):w},i9=function(t,n){var[r,l]=t,o=arguments.length>2&&arguments[2]!==void 0?arguments[2]:!0,[c,f]=t_([r,l]);if(c===-1/0||f===1/0)return[r,l];if(c===f)return[c];var d=Math.max(n,2),h=n_(new Ie(f).sub(c).div(d-1),o,0),m=[...e_(new Ie(c),new Ie(f),h),f];return o===!1&&(m=m.map(p=>Math.round(p))),r>l?By(m):m},l9=e=>e.rootProps.barCategoryGap,Dd=e=>e.rootProps.stackOffset,a_=e=>e.rootProps.reverseStackOrder,l0=e=>e.options.chartName,o0=e=>e.rootProps.syncId,i_=e=>e.rootProps.syncMethod,u0=e=>e.options.eventEmitter,o9=e=>e.rootProps.baseValue,an={grid:-100,barBackground:-50,area:100,cursorRectangle:200,bar:300,line:400,axis:500,scatter:600,activeBar:1e3,cursorLine:1100,activeDot:1200,label:2e3},Vr={allowDuplicatedCategory:!0,angleAxisId:0,reversed:!1,scale:"auto",tick:!0,type:"category"},Tn={allowDataOverflow:!1,allowDuplicatedCategory:!0,radiusAxisId:0,scale:"auto",tick:!0,tickCount:5,type:"number"},kd=(e,t)=>{if(!(!e||!t))return e!=null&&e.reversed?[t[1],t[0]]:t},u9={allowDataOverflow:!1,allowDecimals:!1,allowDuplicatedCategory:!1,dataKey:void 0,domain:void 0,id:Vr.angleAxisId,includeHidden:!1,name:void 0,reversed:Vr.reversed,scale:Vr.scale,tick:Vr.tick,tickCount:void 0,ticks:void 0,type:Vr.type,unit:void 0},c9={allowDataOverflow:Tn.allowDataOverflow,allowDecimals:!1,allowDuplicatedCategory:Tn.allowDuplicatedCategory,dataKey:void 0,domain:void 0,id:Tn.radiusAxisId,includeHidden:!1,name:void 0,reversed:!1,scale:Tn.scale,tick:Tn.tick,tickCount:Tn.tickCount,ticks:void 0,type:Tn.type,unit:void 0},s9={allowDataOverflow:!1,allowDecimals:!1,allowDuplicatedCategory:Vr.allowDuplicatedCategory,dataKey:void 0,domain:void 0,id:Vr.angleAxisId,includeHidden:!1,name:void 0,reversed:!1,scale:Vr.scale,tick:Vr.tick,tickCount:void 0,ticks:void 0,type:"number",unit:void 0},f9={allowDataOverflow:Tn.allowDataOverflow,allowDecimals:!1,allowDuplicatedCategory:Tn.allowDuplicatedCategory,dataKey:void 0,domain:void 0,id:Tn.radiusAxisId,includeHidden:!1,name:void 0,reversed:!1,scale:Tn.scale,tick:Tn.tick,tickCount:Tn.tickCount,ticks:void 0,type:"category",unit:void 0},c0=(e,t)=>e.polarAxis.angleAxis[t]!=null?e.polarAxis.angleAxis[t]:e.layout.layoutType==="radial"?s9:u9,s0=(e,t)=>e.polarAxis.radiusAxis[t]!=null?e.polarAxis.radiusAxis[t]:e.layout.layoutType==="radial"?f9:c9,Pd=e=>e.polarOptions,f0=Y([sa,fa,Zt],aB),l_=Y([Pd,f0],(e,t)=>{if(e!=null)return Wa(e.innerRadius,t,0)}),o_=Y([Pd,f0],(e,t)=>{if(e!=null)return Wa(e.outerRadius,t,t*.8)}),d9=e=>{if(e==null)return[0,0];var{startAngle:t,endAngle:n}=e;return[t,n]},u_=Y([Pd],d9);Y([c0,u_],kd);var c_=Y([f0,l_,o_],(e,t,n)=>{if(!(e==null||t==null||n==null))return[t,n]});Y([s0,c_],kd);var s_=Y([Xe,Pd,l_,o_,sa,fa],(e,t,n,r,l,o)=>{if(!(e!=="centric"&&e!=="radial"||t==null||n==null||r==null)){var{cx:c,cy:f,startAngle:d,endAngle:h}=t;return{cx:Wa(c,l,l/2),cy:Wa(f,o,o/2),innerRadius:n,outerRadius:r,startAngle:d,endAngle:h,clockWise:!1}}}),Ot=(e,t)=>t,Rd=(e,t,n)=>n;function d0(e){return e?.id}function f_(e,t,n){var{chartData:r=[]}=t,{allowDuplicatedCategory:l,dataKey:o}=n,c=new Map;return e.forEach(f=>{var d,h=(d=f.data)!==null&&d!==void 0?d:r;if(!(h==null||h.length===0)){var m=d0(f);h.forEach((p,x)=>{var w=o==null||l?x:String(tn(p,o,null)),A=tn(p,f.dataKey,0),O;c.has(w)?O=c.get(w):O={},Object.assign(O,{[m]:A}),c.set(w,O)})}}),Array.from(c.values())}function h0(e){return e.stackId!=null&&e.dataKey!=null}var zd=(e,t)=>e===t?!0:e==null||t==null?!1:e[0]===t[0]&&e[1]===t[1];function Ld(e,t){return Array.isArray(e)&&Array.isArray(t)&&e.length===0&&t.length===0?!0:e===t}function h9(e,t){if(e.length===t.length){for(var n=0;n<e.length;n++)if(e[n]!==t[n])return!1;return!0}return!1}var At=e=>{var t=Xe(e);return t==="horizontal"?"xAxis":t==="vertical"?"yAxis":t==="centric"?"angleAxis":"radiusAxis"},oo=e=>e.tooltip.settings.axisId;function pA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function $f(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?pA(Object(n),!0).forEach(function(r){m9(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):pA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function m9(e,t,n){return(t=v9(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function v9(e){var t=p9(e,"string");return typeof t=="symbol"?t:t+""}function p9(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Uy=[0,"auto"],_t={allowDataOverflow:!1,allowDecimals:!0,allowDuplicatedCategory:!0,angle:0,dataKey:void 0,domain:void 0,height:30,hide:!0,id:0,includeHidden:!1,interval:"preserveEnd",minTickGap:5,mirror:!1,name:void 0,orientation:"bottom",padding:{left:0,right:0},reversed:!1,scale:"auto",tick:!0,tickCount:5,tickFormatter:void 0,ticks:void 0,type:"category",unit:void 0},d_=(e,t)=>e.cartesianAxis.xAxis[t],ha=(e,t)=>{var n=d_(e,t);return n??_t},Tt={allowDataOverflow:!1,allowDecimals:!0,allowDuplicatedCategory:!0,angle:0,dataKey:void 0,domain:Uy,hide:!0,id:0,includeHidden:!1,interval:"preserveEnd",minTickGap:5,mirror:!1,name:void 0,orientation:"left",padding:{top:0,bottom:0},reversed:!1,scale:"auto",tick:!0,tickCount:5,tickFormatter:void 0,ticks:void 0,type:"number",unit:void 0,width:Gu},h_=(e,t)=>e.cartesianAxis.yAxis[t],ma=(e,t)=>{var n=h_(e,t);return n??Tt},y9={domain:[0,"auto"],includeHidden:!1,reversed:!1,allowDataOverflow:!1,allowDuplicatedCategory:!1,dataKey:void 0,id:0,name:"",range:[64,64],scale:"auto",type:"number",unit:""},m0=(e,t)=>{var n=e.cartesianAxis.zAxis[t];return n??y9},on=(e,t,n)=>{switch(t){case"xAxis":return ha(e,n);case"yAxis":return ma(e,n);case"zAxis":return m0(e,n);case"angleAxis":return c0(e,n);case"radiusAxis":return s0(e,n);default:throw new Error("Unexpected axis type: ".concat(t))}},g9=(e,t,n)=>{switch(t){case"xAxis":return ha(e,n);case"yAxis":return ma(e,n);default:throw new Error("Unexpected axis type: ".concat(t))}},Ju=(e,t,n)=>{switch(t){case"xAxis":return ha(e,n);case"yAxis":return ma(e,n);case"angleAxis":return c0(e,n);case"radiusAxis":return s0(e,n);default:throw new Error("Unexpected axis type: ".concat(t))}},m_=e=>e.graphicalItems.cartesianItems.some(t=>t.type==="bar")||e.graphicalItems.polarItems.some(t=>t.type==="radialBar");function v_(e,t){return n=>{switch(e){case"xAxis":return"xAxisId"in n&&n.xAxisId===t;case"yAxis":return"yAxisId"in n&&n.yAxisId===t;case"zAxis":return"zAxisId"in n&&n.zAxisId===t;case"angleAxis":return"angleAxisId"in n&&n.angleAxisId===t;case"radiusAxis":return"radiusAxisId"in n&&n.radiusAxisId===t;default:return!1}}}var p_=e=>e.graphicalItems.cartesianItems,b9=Y([Ot,Rd],v_),y_=(e,t,n)=>e.filter(n).filter(r=>t?.includeHidden===!0?!0:!r.hide),ec=Y([p_,on,b9],y_,{memoizeOptions:{resultEqualityCheck:Ld}}),g_=Y([ec],e=>e.filter(t=>t.type==="area"||t.type==="bar").filter(h0)),b_=e=>e.filter(t=>!("stackId"in t)||t.stackId===void 0),x9=Y([ec],b_),x_=e=>e.map(t=>t.data).filter(Boolean).flat(1),w9=Y([ec],x_,{memoizeOptions:{resultEqualityCheck:Ld}}),w_=(e,t)=>{var{chartData:n=[],dataStartIndex:r,dataEndIndex:l}=t;return e.length>0?e:n.slice(r,l+1)},v0=Y([w9,r0],w_),S_=(e,t,n)=>t?.dataKey!=null?e.map(r=>({value:tn(r,t.dataKey)})):n.length>0?n.map(r=>r.dataKey).flatMap(r=>e.map(l=>({value:tn(l,r)}))):e.map(r=>({value:r})),Bd=Y([v0,on,ec],S_);function E_(e,t){switch(e){case"xAxis":return t.direction==="x";case"yAxis":return t.direction==="y";default:return!1}}function rf(e){if(Sr(e)||e instanceof Date){var t=Number(e);if(ot(t))return t}}function yA(e){if(Array.isArray(e)){var t=[rf(e[0]),rf(e[1])];return Za(t)?t:void 0}var n=rf(e);if(n!=null)return[n,n]}function la(e){return e.map(rf).filter(U4)}function S9(e,t,n){return!n||typeof t!="number"||sr(t)?[]:n.length?la(n.flatMap(r=>{var l=tn(e,r.dataKey),o,c;if(Array.isArray(l)?[o,c]=l:o=c=l,!(!ot(o)||!ot(c)))return[t-o,t+c]})):[]}var jt=e=>{var t=At(e),n=oo(e);return Ju(e,t,n)},tc=Y([jt],e=>e?.dataKey),E9=Y([g_,r0,jt],f_),O_=(e,t,n,r)=>{var l={},o=t.reduce((c,f)=>(f.stackId==null||(c[f.stackId]==null&&(c[f.stackId]=[]),c[f.stackId].push(f)),c),l);return Object.fromEntries(Object.entries(o).map(c=>{var[f,d]=c,h=r?[...d].reverse():d,m=h.map(d0);return[f,{stackedData:XL(e,m,n),graphicalItems:h}]}))},Iy=Y([E9,g_,Dd,a_],O_),A_=(e,t,n,r)=>{var{dataStartIndex:l,dataEndIndex:o}=t;if(r==null&&n!=="zAxis"){var c=QL(e,l,o);if(!(c!=null&&c[0]===0&&c[1]===0))return c}},O9=Y([on],e=>e.allowDataOverflow),p0=e=>{var t;if(e==null||!("domain"in e))return Uy;if(e.domain!=null)return e.domain;if(e.ticks!=null){if(e.type==="number"){var n=la(e.ticks);return[Math.min(...n),Math.max(...n)]}if(e.type==="category")return e.ticks.map(String)}return(t=e?.domain)!==null&&t!==void 0?t:Uy},j_=Y([on],p0),N_=Y([j_,O9],YC),A9=Y([Iy,ei,Ot,N_],A_,{memoizeOptions:{resultEqualityCheck:zd}}),y0=e=>e.errorBars,j9=(e,t,n)=>e.flatMap(r=>t[r.id]).filter(Boolean).filter(r=>E_(n,r)),Yf=function(){for(var t=arguments.length,n=new Array(t),r=0;r<t;r++)n[r]=arguments[r];var l=n.filter(Boolean);if(l.length!==0){var o=l.flat(),c=Math.min(...o),f=Math.max(...o);return[c,f]}},C_=(e,t,n,r,l)=>{var o,c;if(n.length>0&&e.forEach(f=>{n.forEach(d=>{var h,m,p=(h=r[d.id])===null||h===void 0?void 0:h.filter(j=>E_(l,j)),x=tn(f,(m=t.dataKey)!==null&&m!==void 0?m:d.dataKey),w=S9(f,x,p);if(w.length>=2){var A=Math.min(...w),O=Math.max(...w);(o==null||A<o)&&(o=A),(c==null||O>c)&&(c=O)}var E=yA(x);E!=null&&(o=o==null?E[0]:Math.min(o,E[0]),c=c==null?E[1]:Math.max(c,E[1]))})}),t?.dataKey!=null&&e.forEach(f=>{var d=yA(tn(f,t.dataKey));d!=null&&(o=o==null?d[0]:Math.min(o,d[0]),c=c==null?d[1]:Math.max(c,d[1]))}),ot(o)&&ot(c))return[o,c]},N9=Y([v0,on,x9,y0,Ot],C_,{memoizeOptions:{resultEqualityCheck:zd}});function C9(e){var{value:t}=e;if(Sr(t)||t instanceof Date)return t}var _9=(e,t,n)=>{var r=e.map(C9).filter(l=>l!=null);return n&&(t.dataKey==null||t.allowDuplicatedCategory&&$j(r))?cC(0,e.length):t.allowDuplicatedCategory?r:Array.from(new Set(r))},__=e=>e.referenceElements.dots,uo=(e,t,n)=>e.filter(r=>r.ifOverflow==="extendDomain").filter(r=>t==="xAxis"?r.xAxisId===n:r.yAxisId===n),T9=Y([__,Ot,Rd],uo),T_=e=>e.referenceElements.areas,M9=Y([T_,Ot,Rd],uo),M_=e=>e.referenceElements.lines,D9=Y([M_,Ot,Rd],uo),D_=(e,t)=>{var n=la(e.map(r=>t==="xAxis"?r.x:r.y));if(n.length!==0)return[Math.min(...n),Math.max(...n)]},k9=Y(T9,Ot,D_),k_=(e,t)=>{var n=la(e.flatMap(r=>[t==="xAxis"?r.x1:r.y1,t==="xAxis"?r.x2:r.y2]));if(n.length!==0)return[Math.min(...n),Math.max(...n)]},P9=Y([M9,Ot],k_);function R9(e){var t;if(e.x!=null)return la([e.x]);var n=(t=e.segment)===null||t===void 0?void 0:t.map(r=>r.x);return n==null||n.length===0?[]:la(n)}function z9(e){var t;if(e.y!=null)return la([e.y]);var n=(t=e.segment)===null||t===void 0?void 0:t.map(r=>r.y);return n==null||n.length===0?[]:la(n)}var P_=(e,t)=>{var n=e.flatMap(r=>t==="xAxis"?R9(r):z9(r));if(n.length!==0)return[Math.min(...n),Math.max(...n)]},L9=Y([D9,Ot],P_),B9=Y(k9,L9,P9,(e,t,n)=>Yf(e,n,t)),R_=(e,t,n,r,l,o,c,f)=>{if(n!=null)return n;var d=c==="vertical"&&f==="xAxis"||c==="horizontal"&&f==="yAxis",h=d?Yf(r,o,l):Yf(o,l);return FI(t,h,e.allowDataOverflow)},U9=Y([on,j_,N_,A9,N9,B9,Xe,Ot],R_,{memoizeOptions:{resultEqualityCheck:zd}}),I9=[0,1],z_=(e,t,n,r,l,o,c)=>{if(!((e==null||n==null||n.length===0)&&c===void 0)){var{dataKey:f,type:d}=e,h=ca(t,o);if(h&&f==null){var m;return cC(0,(m=n?.length)!==null&&m!==void 0?m:0)}return d==="category"?_9(r,e,h):l==="expand"?I9:c}},g0=Y([on,Xe,v0,Bd,Dd,Ot,U9],z_),L_=(e,t,n,r,l)=>{if(e!=null){var{scale:o,type:c}=e;if(o==="auto")return t==="radial"&&l==="radiusAxis"?"band":t==="radial"&&l==="angleAxis"?"linear":c==="category"&&r&&(r.indexOf("LineChart")>=0||r.indexOf("AreaChart")>=0||r.indexOf("ComposedChart")>=0&&!n)?"point":c==="category"?"band":"linear";if(typeof o=="string"){var f="scale".concat(bg(o));return f in gu?f:"point"}}},nc=Y([on,Xe,m_,l0,Ot],L_);function q9(e){if(e!=null){if(e in gu)return gu[e]();var t="scale".concat(bg(e));if(t in gu)return gu[t]()}}function b0(e,t,n,r){if(!(n==null||r==null)){if(typeof e.scale=="function")return e.scale.copy().domain(n).range(r);var l=q9(t);if(l!=null){var o=l.domain(n).range(r);return YL(o),o}}}var B_=(e,t,n)=>{var r=p0(t);if(!(n!=="auto"&&n!=="linear")){if(t!=null&&t.tickCount&&Array.isArray(r)&&(r[0]==="auto"||r[1]==="auto")&&Za(e))return a9(e,t.tickCount,t.allowDecimals);if(t!=null&&t.tickCount&&t.type==="number"&&Za(e))return i9(e,t.tickCount,t.allowDecimals)}},x0=Y([g0,Ju,nc],B_),U_=(e,t,n,r)=>{if(r!=="angleAxis"&&e?.type==="number"&&Za(t)&&Array.isArray(n)&&n.length>0){var l=t[0],o=n[0],c=t[1],f=n[n.length-1];return[Math.min(l,o),Math.max(c,f)]}return t},H9=Y([on,g0,x0,Ot],U_),$9=Y(Bd,on,(e,t)=>{if(!(!t||t.type!=="number")){var n=1/0,r=Array.from(la(e.map(f=>f.value))).sort((f,d)=>f-d);if(r.length<2)return 1/0;var l=r[r.length-1]-r[0];if(l===0)return 1/0;for(var o=0;o<r.length-1;o++){var c=r[o+1]-r[o];n=Math.min(n,c)}return n/l}}),I_=Y($9,Xe,l9,Zt,(e,t,n,r)=>r,(e,t,n,r,l)=>{if(!ot(e))return 0;var o=t==="vertical"?r.height:r.width;if(l==="gap")return e*o/2;if(l==="no-gap"){var c=Wa(n,e*o),f=e*o/2;return f-c-(f-c)/o*c}return 0}),Y9=(e,t)=>{var n=ha(e,t);return n==null||typeof n.padding!="string"?0:I_(e,"xAxis",t,n.padding)},K9=(e,t)=>{var n=ma(e,t);return n==null||typeof n.padding!="string"?0:I_(e,"yAxis",t,n.padding)},G9=Y(ha,Y9,(e,t)=>{var n,r;if(e==null)return{left:0,right:0};var{padding:l}=e;return typeof l=="string"?{left:t,right:t}:{left:((n=l.left)!==null&&n!==void 0?n:0)+t,right:((r=l.right)!==null&&r!==void 0?r:0)+t}}),V9=Y(ma,K9,(e,t)=>{var n,r;if(e==null)return{top:0,bottom:0};var{padding:l}=e;return typeof l=="string"?{top:t,bottom:t}:{top:((n=l.top)!==null&&n!==void 0?n:0)+t,bottom:((r=l.bottom)!==null&&r!==void 0?r:0)+t}}),X9=Y([Zt,G9,xd,bd,(e,t,n)=>n],(e,t,n,r,l)=>{var{padding:o}=r;return l?[o.left,n.width-o.right]:[e.left+t.left,e.left+e.width-t.right]}),F9=Y([Zt,Xe,V9,xd,bd,(e,t,n)=>n],(e,t,n,r,l,o)=>{var{padding:c}=l;return o?[r.height-c.bottom,c.top]:t==="horizontal"?[e.top+e.height-n.bottom,e.top+n.top]:[e.top+n.top,e.top+e.height-n.bottom]}),rc=(e,t,n,r)=>{var l;switch(t){case"xAxis":return X9(e,n,r);case"yAxis":return F9(e,n,r);case"zAxis":return(l=m0(e,n))===null||l===void 0?void 0:l.range;case"angleAxis":return u_(e);case"radiusAxis":return c_(e,n);default:return}},q_=Y([on,rc],kd),co=Y([on,nc,H9,q_],b0);Y([ec,y0,Ot],j9);function H_(e,t){return e.id<t.id?-1:e.id>t.id?1:0}var Ud=(e,t)=>t,Id=(e,t,n)=>n,W9=Y(yd,Ud,Id,(e,t,n)=>e.filter(r=>r.orientation===t).filter(r=>r.mirror===n).sort(H_)),Z9=Y(gd,Ud,Id,(e,t,n)=>e.filter(r=>r.orientation===t).filter(r=>r.mirror===n).sort(H_)),$_=(e,t)=>({width:e.width,height:t.height}),Q9=(e,t)=>{var n=typeof t.width=="number"?t.width:Gu;return{width:n,height:e.height}},J9=Y(Zt,ha,$_),e7=(e,t,n)=>{switch(t){case"top":return e.top;case"bottom":return n-e.bottom;default:return 0}},t7=(e,t,n)=>{switch(t){case"left":return e.left;case"right":return n-e.right;default:return 0}},n7=Y(fa,Zt,W9,Ud,Id,(e,t,n,r,l)=>{var o={},c;return n.forEach(f=>{var d=$_(t,f);c==null&&(c=e7(t,r,e));var h=r==="top"&&!l||r==="bottom"&&l;o[f.id]=c-Number(h)*d.height,c+=(h?-1:1)*d.height}),o}),r7=Y(sa,Zt,Z9,Ud,Id,(e,t,n,r,l)=>{var o={},c;return n.forEach(f=>{var d=Q9(t,f);c==null&&(c=t7(t,r,e));var h=r==="left"&&!l||r==="right"&&l;o[f.id]=c-Number(h)*d.width,c+=(h?-1:1)*d.width}),o}),a7=(e,t)=>{var n=ha(e,t);if(n!=null)return n7(e,n.orientation,n.mirror)},i7=Y([Zt,ha,a7,(e,t)=>t],(e,t,n,r)=>{if(t!=null){var l=n?.[r];return l==null?{x:e.left,y:0}:{x:e.left,y:l}}}),l7=(e,t)=>{var n=ma(e,t);if(n!=null)return r7(e,n.orientation,n.mirror)},o7=Y([Zt,ma,l7,(e,t)=>t],(e,t,n,r)=>{if(t!=null){var l=n?.[r];return l==null?{x:0,y:e.top}:{x:l,y:e.top}}}),u7=Y(Zt,ma,(e,t)=>{var n=typeof t.width=="number"?t.width:Gu;return{width:n,height:e.height}}),Y_=(e,t,n,r)=>{if(n!=null){var{allowDuplicatedCategory:l,type:o,dataKey:c}=n,f=ca(e,r),d=t.map(h=>h.value);if(c&&f&&o==="category"&&l&&$j(d))return d}},w0=Y([Xe,Bd,on,Ot],Y_),K_=(e,t,n,r)=>{if(!(n==null||n.dataKey==null)){var{type:l,scale:o}=n,c=ca(e,r);if(c&&(l==="number"||o!=="auto"))return t.map(f=>f.value)}},S0=Y([Xe,Bd,Ju,Ot],K_),gA=Y([Xe,g9,nc,co,w0,S0,rc,x0,Ot],(e,t,n,r,l,o,c,f,d)=>{if(t!=null){var h=ca(e,d);return{angle:t.angle,interval:t.interval,minTickGap:t.minTickGap,orientation:t.orientation,tick:t.tick,tickCount:t.tickCount,tickFormatter:t.tickFormatter,ticks:t.ticks,type:t.type,unit:t.unit,axisType:d,categoricalDomain:o,duplicateDomain:l,isCategorical:h,niceTicks:f,range:c,realScaleType:n,scale:r}}}),c7=(e,t,n,r,l,o,c,f,d)=>{if(!(t==null||r==null)){var h=ca(e,d),{type:m,ticks:p,tickCount:x}=t,w=n==="scaleBand"&&typeof r.bandwidth=="function"?r.bandwidth()/2:2,A=m==="category"&&r.bandwidth?r.bandwidth()/w:0;A=d==="angleAxis"&&o!=null&&o.length>=2?Vn(o[0]-o[1])*2*A:A;var O=p||l;if(O){var E=O.map((j,_)=>{var C=c?c.indexOf(j):j;return{index:_,coordinate:r(C)+A,value:j,offset:A}});return E.filter(j=>ot(j.coordinate))}return h&&f?f.map((j,_)=>({coordinate:r(j)+A,value:j,index:_,offset:A})).filter(j=>ot(j.coordinate)):r.ticks?r.ticks(x).map(j=>({coordinate:r(j)+A,value:j,offset:A})):r.domain().map((j,_)=>({coordinate:r(j)+A,value:c?c[j]:j,index:_,offset:A}))}},G_=Y([Xe,Ju,nc,co,x0,rc,w0,S0,Ot],c7),s7=(e,t,n,r,l,o,c)=>{if(!(t==null||n==null||r==null||r[0]===r[1])){var f=ca(e,c),{tickCount:d}=t,h=0;return h=c==="angleAxis"&&r?.length>=2?Vn(r[0]-r[1])*2*h:h,f&&o?o.map((m,p)=>({coordinate:n(m)+h,value:m,index:p,offset:h})):n.ticks?n.ticks(d).map(m=>({coordinate:n(m)+h,value:m,offset:h})):n.domain().map((m,p)=>({coordinate:n(m)+h,value:l?l[m]:m,index:p,offset:h}))}},V_=Y([Xe,Ju,co,rc,w0,S0,Ot],s7),X_=Y(on,co,(e,t)=>{if(!(e==null||t==null))return $f($f({},e),{},{scale:t})}),f7=Y([on,nc,g0,q_],b0);Y((e,t,n)=>m0(e,n),f7,(e,t)=>{if(!(e==null||t==null))return $f($f({},e),{},{scale:t})});var d7=Y([Xe,yd,gd],(e,t,n)=>{switch(e){case"horizontal":return t.some(r=>r.reversed)?"right-to-left":"left-to-right";case"vertical":return n.some(r=>r.reversed)?"bottom-to-top":"top-to-bottom";case"centric":case"radial":return"left-to-right";default:return}}),F_=e=>e.options.defaultTooltipEventType,W_=e=>e.options.validateTooltipEventTypes;function Z_(e,t,n){if(e==null)return t;var r=e?"axis":"item";return n==null?t:n.includes(r)?r:t}function E0(e,t){var n=F_(e),r=W_(e);return Z_(t,n,r)}function h7(e){return ve(t=>E0(t,e))}var Q_=(e,t)=>{var n,r=Number(t);if(!(sr(r)||t==null))return r>=0?e==null||(n=e[r])===null||n===void 0?void 0:n.value:void 0},m7=e=>e.tooltip.settings,Ga={active:!1,index:null,dataKey:void 0,graphicalItemId:void 0,coordinate:void 0},v7={itemInteraction:{click:Ga,hover:Ga},axisInteraction:{click:Ga,hover:Ga},keyboardInteraction:Ga,syncInteraction:{active:!1,index:null,dataKey:void 0,label:void 0,coordinate:void 0,sourceViewBox:void 0,graphicalItemId:void 0},tooltipItemPayloads:[],settings:{shared:void 0,trigger:"hover",axisId:0,active:!1,defaultIndex:void 0}},J_=gn({name:"tooltip",initialState:v7,reducers:{addTooltipEntrySettings:{reducer(e,t){e.tooltipItemPayloads.push(t.payload)},prepare:et()},replaceTooltipEntrySettings:{reducer(e,t){var{prev:n,next:r}=t.payload,l=ur(e).tooltipItemPayloads.indexOf(n);l>-1&&(e.tooltipItemPayloads[l]=r)},prepare:et()},removeTooltipEntrySettings:{reducer(e,t){var n=ur(e).tooltipItemPayloads.indexOf(t.payload);n>-1&&e.tooltipItemPayloads.splice(n,1)},prepare:et()},setTooltipSettingsState(e,t){e.settings=t.payload},setActiveMouseOverItemIndex(e,t){e.syncInteraction.active=!1,e.keyboardInteraction.active=!1,e.itemInteraction.hover.active=!0,e.itemInteraction.hover.index=t.payload.activeIndex,e.itemInteraction.hover.dataKey=t.payload.activeDataKey,e.itemInteraction.hover.graphicalItemId=t.payload.activeGraphicalItemId,e.itemInteraction.hover.coordinate=t.payload.activeCoordinate},mouseLeaveChart(e){e.itemInteraction.hover.active=!1,e.axisInteraction.hover.active=!1},mouseLeaveItem(e){e.itemInteraction.hover.active=!1},setActiveClickItemIndex(e,t){e.syncInteraction.active=!1,e.itemInteraction.click.active=!0,e.keyboardInteraction.active=!1,e.itemInteraction.click.index=t.payload.activeIndex,e.itemInteraction.click.dataKey=t.payload.activeDataKey,e.itemInteraction.click.graphicalItemId=t.payload.activeGraphicalItemId,e.itemInteraction.click.coordinate=t.payload.activeCoordinate},setMouseOverAxisIndex(e,t){e.syncInteraction.active=!1,e.axisInteraction.hover.active=!0,e.keyboardInteraction.active=!1,e.axisInteraction.hover.index=t.payload.activeIndex,e.axisInteraction.hover.dataKey=t.payload.activeDataKey,e.axisInteraction.hover.coordinate=t.payload.activeCoordinate},setMouseClickAxisIndex(e,t){e.syncInteraction.active=!1,e.keyboardInteraction.active=!1,e.axisInteraction.click.active=!0,e.axisInteraction.click.index=t.payload.activeIndex,e.axisInteraction.click.dataKey=t.payload.activeDataKey,e.axisInteraction.click.coordinate=t.payload.activeCoordinate},setSyncInteraction(e,t){e.syncInteraction=t.payload},setKeyboardInteraction(e,t){e.keyboardInteraction.active=t.payload.active,e.keyboardInteraction.index=t.payload.activeIndex,e.keyboardInteraction.coordinate=t.payload.activeCoordinate,e.keyboardInteraction.dataKey=t.payload.activeDataKey}}}),{addTooltipEntrySettings:p7,replaceTooltipEntrySettings:y7,removeTooltipEntrySettings:g7,setTooltipSettingsState:b7,setActiveMouseOverItemIndex:x7,mouseLeaveItem:NF,mouseLeaveChart:eT,setActiveClickItemIndex:CF,setMouseOverAxisIndex:tT,setMouseClickAxisIndex:w7,setSyncInteraction:qy,setKeyboardInteraction:Hy}=J_.actions,S7=J_.reducer;function bA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function $s(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?bA(Object(n),!0).forEach(function(r){E7(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):bA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function E7(e,t,n){return(t=O7(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function O7(e){var t=A7(e,"string");return typeof t=="symbol"?t:t+""}function A7(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function j7(e,t,n){return t==="axis"?n==="click"?e.axisInteraction.click:e.axisInteraction.hover:n==="click"?e.itemInteraction.click:e.itemInteraction.hover}function N7(e){return e.index!=null}var nT=(e,t,n,r)=>{if(t==null)return Ga;var l=j7(e,t,n);if(l==null)return Ga;if(l.active)return l;if(e.keyboardInteraction.active)return e.keyboardInteraction;if(e.syncInteraction.active&&e.syncInteraction.index!=null)return e.syncInteraction;var o=e.settings.active===!0;if(N7(l)){if(o)return $s($s({},l),{},{active:!0})}else if(r!=null)return{active:!0,coordinate:void 0,dataKey:void 0,index:r,graphicalItemId:void 0};return $s($s({},Ga),{},{coordinate:l.coordinate})};function C7(e){if(typeof e=="number")return Number.isFinite(e)?e:void 0;if(e instanceof Date){var t=e.valueOf();return Number.isFinite(t)?t:void 0}var n=Number(e);return Number.isFinite(n)?n:void 0}function _7(e,t){var n=C7(e),r=t[0],l=t[1];if(n===void 0)return!1;var o=Math.min(r,l),c=Math.max(r,l);return n>=o&&n<=c}function T7(e,t,n){if(n==null||t==null)return!0;var r=tn(e,t);return r==null||!Za(n)?!0:_7(r,n)}var O0=(e,t,n,r)=>{var l=e?.index;if(l==null)return null;var o=Number(l);if(!ot(o))return l;var c=0,f=1/0;t.length>0&&(f=t.length-1);var d=Math.max(c,Math.min(o,f)),h=t[d];return h==null||T7(h,n,r)?String(d):null},rT=(e,t,n,r,l,o,c,f)=>{if(!(o==null||f==null)){var d=c[0],h=d==null?void 0:f(d.positions,o);if(h!=null)return h;var m=l?.[Number(o)];if(m)switch(n){case"horizontal":return{x:m.coordinate,y:(r.top+t)/2};default:return{x:(r.left+e)/2,y:m.coordinate}}}},aT=(e,t,n,r)=>{if(t==="axis")return e.tooltipItemPayloads;if(e.tooltipItemPayloads.length===0)return[];var l;return n==="hover"?l=e.itemInteraction.hover.dataKey:l=e.itemInteraction.click.dataKey,l==null&&r!=null?[e.tooltipItemPayloads[0]]:e.tooltipItemPayloads.filter(o=>{var c;return((c=o.settings)===null||c===void 0?void 0:c.dataKey)===l})},ac=e=>e.options.tooltipPayloadSearcher,so=e=>e.tooltip;function xA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function wA(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?xA(Object(n),!0).forEach(function(r){M7(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):xA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function M7(e,t,n){return(t=D7(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function D7(e){var t=k7(e,"string");return typeof t=="symbol"?t:t+""}function k7(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function P7(e,t){return e??t}var iT=(e,t,n,r,l,o,c)=>{if(!(t==null||o==null)){var{chartData:f,computedData:d,dataStartIndex:h,dataEndIndex:m}=n,p=[];return e.reduce((x,w)=>{var A,{dataDefinedOnItem:O,settings:E}=w,j=P7(O,f),_=Array.isArray(j)?PN(j,h,m):j,C=(A=E?.dataKey)!==null&&A!==void 0?A:r,D=E?.nameKey,T;if(r&&Array.isArray(_)&&!Array.isArray(_[0])&&c==="axis"?T=Yj(_,r,l):T=o(_,t,d,D),Array.isArray(T))T.forEach(k=>{var I=wA(wA({},E),{},{name:k.name,unit:k.unit,color:void 0,fill:void 0});x.push(YE({tooltipEntrySettings:I,dataKey:k.dataKey,payload:k.payload,value:tn(k.payload,k.dataKey),name:k.name}))});else{var R;x.push(YE({tooltipEntrySettings:E,dataKey:C,payload:T,value:tn(T,C),name:(R=tn(T,D))!==null&&R!==void 0?R:E?.name}))}return x},p)}},A0=Y([jt,Xe,m_,l0,At],L_),R7=Y([e=>e.graphicalItems.cartesianItems,e=>e.graphicalItems.polarItems],(e,t)=>[...e,...t]),z7=Y([At,oo],v_),ic=Y([R7,jt,z7],y_,{memoizeOptions:{resultEqualityCheck:Ld}}),L7=Y([ic],e=>e.filter(h0)),B7=Y([ic],x_,{memoizeOptions:{resultEqualityCheck:Ld}}),fo=Y([B7,ei],w_),U7=Y([L7,ei,jt],f_),j0=Y([fo,jt,ic],S_),lT=Y([jt],p0),I7=Y([jt],e=>e.allowDataOverflow),oT=Y([lT,I7],YC),q7=Y([ic],e=>e.filter(h0)),H7=Y([U7,q7,Dd,a_],O_),$7=Y([H7,ei,At,oT],A_),Y7=Y([ic],b_),K7=Y([fo,jt,Y7,y0,At],C_,{memoizeOptions:{resultEqualityCheck:zd}}),G7=Y([__,At,oo],uo),V7=Y([G7,At],D_),X7=Y([T_,At,oo],uo),F7=Y([X7,At],k_),W7=Y([M_,At,oo],uo),Z7=Y([W7,At],P_),Q7=Y([V7,Z7,F7],Yf),J7=Y([jt,lT,oT,$7,K7,Q7,Xe,At],R_),lc=Y([jt,Xe,fo,j0,Dd,At,J7],z_),eq=Y([lc,jt,A0],B_),tq=Y([jt,lc,eq,At],U_),uT=e=>{var t=At(e),n=oo(e),r=!1;return rc(e,t,n,r)},cT=Y([jt,uT],kd),sT=Y([jt,A0,tq,cT],b0),nq=Y([Xe,j0,jt,At],Y_),rq=Y([Xe,j0,jt,At],K_),aq=(e,t,n,r,l,o,c,f)=>{if(t){var{type:d}=t,h=ca(e,f);if(r){var m=n==="scaleBand"&&r.bandwidth?r.bandwidth()/2:2,p=d==="category"&&r.bandwidth?r.bandwidth()/m:0;return p=f==="angleAxis"&&l!=null&&l?.length>=2?Vn(l[0]-l[1])*2*p:p,h&&c?c.map((x,w)=>({coordinate:r(x)+p,value:x,index:w,offset:p})):r.domain().map((x,w)=>({coordinate:r(x)+p,value:o?o[x]:x,index:w,offset:p}))}}},va=Y([Xe,jt,A0,sT,uT,nq,rq,At],aq),N0=Y([F_,W_,m7],(e,t,n)=>Z_(n.shared,e,t)),fT=e=>e.tooltip.settings.trigger,C0=e=>e.tooltip.settings.defaultIndex,oc=Y([so,N0,fT,C0],nT),Ru=Y([oc,fo,tc,lc],O0),dT=Y([va,Ru],Q_),iq=Y([oc],e=>{if(e)return e.dataKey});Y([oc],e=>{if(e)return e.graphicalItemId});var hT=Y([so,N0,fT,C0],aT),lq=Y([sa,fa,Xe,Zt,va,C0,hT,ac],rT),oq=Y([oc,lq],(e,t)=>e!=null&&e.coordinate?e.coordinate:t),uq=Y([oc],e=>e.active),cq=Y([hT,Ru,ei,tc,dT,ac,N0],iT),sq=Y([cq],e=>{if(e!=null){var t=e.map(n=>n.payload).filter(n=>n!=null);return Array.from(new Set(t))}});function SA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function EA(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?SA(Object(n),!0).forEach(function(r){fq(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):SA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function fq(e,t,n){return(t=dq(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function dq(e){var t=hq(e,"string");return typeof t=="symbol"?t:t+""}function hq(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var mq=()=>ve(jt),vq=()=>{var e=mq(),t=ve(va),n=ve(sT);return Ef(!e||!n?void 0:EA(EA({},e),{},{scale:n}),t)};function OA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function jl(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?OA(Object(n),!0).forEach(function(r){pq(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):OA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function pq(e,t,n){return(t=yq(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function yq(e){var t=gq(e,"string");return typeof t=="symbol"?t:t+""}function gq(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var bq=(e,t,n,r)=>{var l=t.find(o=>o&&o.index===n);if(l){if(e==="horizontal")return{x:l.coordinate,y:r.chartY};if(e==="vertical")return{x:r.chartX,y:l.coordinate}}return{x:0,y:0}},xq=(e,t,n,r)=>{var l=t.find(h=>h&&h.index===n);if(l){if(e==="centric"){var o=l.coordinate,{radius:c}=r;return jl(jl(jl({},r),Ft(r.cx,r.cy,c,o)),{},{angle:o,radius:c})}var f=l.coordinate,{angle:d}=r;return jl(jl(jl({},r),Ft(r.cx,r.cy,f,d)),{},{angle:d,radius:f})}return{angle:0,clockWise:!1,cx:0,cy:0,endAngle:0,innerRadius:0,outerRadius:0,radius:0,startAngle:0,x:0,y:0}};function wq(e,t){var{chartX:n,chartY:r}=e;return n>=t.left&&n<=t.left+t.width&&r>=t.top&&r<=t.top+t.height}var mT=(e,t,n,r,l)=>{var o,c=-1,f=(o=t?.length)!==null&&o!==void 0?o:0;if(f<=1||e==null)return 0;if(r==="angleAxis"&&l!=null&&Math.abs(Math.abs(l[1]-l[0])-360)<=1e-6)for(var d=0;d<f;d++){var h=d>0?n[d-1].coordinate:n[f-1].coordinate,m=n[d].coordinate,p=d>=f-1?n[0].coordinate:n[d+1].coordinate,x=void 0;if(Vn(m-h)!==Vn(p-m)){var w=[];if(Vn(p-m)===Vn(l[1]-l[0])){x=p;var A=m+l[1]-l[0];w[0]=Math.min(A,(A+h)/2),w[1]=Math.max(A,(A+h)/2)}else{x=h;var O=p+l[1]-l[0];w[0]=Math.min(m,(O+m)/2),w[1]=Math.max(m,(O+m)/2)}var E=[Math.min(m,(x+m)/2),Math.max(m,(x+m)/2)];if(e>E[0]&&e<=E[1]||e>=w[0]&&e<=w[1]){({index:c}=n[d]);break}}else{var j=Math.min(h,p),_=Math.max(h,p);if(e>(j+m)/2&&e<=(_+m)/2){({index:c}=n[d]);break}}}else if(t){for(var C=0;C<f;C++)if(C===0&&e<=(t[C].coordinate+t[C+1].coordinate)/2||C>0&&C<f-1&&e>(t[C].coordinate+t[C-1].coordinate)/2&&e<=(t[C].coordinate+t[C+1].coordinate)/2||C===f-1&&e>(t[C].coordinate+t[C-1].coordinate)/2){({index:c}=t[C]);break}}return c},vT=()=>ve(l0),_0=(e,t)=>t,pT=(e,t,n)=>n,T0=(e,t,n,r)=>r,Sq=Y(va,e=>ud(e,t=>t.coordinate)),M0=Y([so,_0,pT,T0],nT),D0=Y([M0,fo,tc,lc],O0),Eq=(e,t,n)=>{if(t!=null){var r=so(e);return t==="axis"?n==="hover"?r.axisInteraction.hover.dataKey:r.axisInteraction.click.dataKey:n==="hover"?r.itemInteraction.hover.dataKey:r.itemInteraction.click.dataKey}},yT=Y([so,_0,pT,T0],aT),Kf=Y([sa,fa,Xe,Zt,va,T0,yT,ac],rT),Oq=Y([M0,Kf],(e,t)=>{var n;return(n=e.coordinate)!==null&&n!==void 0?n:t}),gT=Y([va,D0],Q_),Aq=Y([yT,D0,ei,tc,gT,ac,_0],iT),jq=Y([M0,D0],(e,t)=>({isActive:e.active&&t!=null,activeIndex:t})),Nq=(e,t,n,r,l,o,c)=>{if(!(!e||!n||!r||!l)&&wq(e,c)){var f=JL(e,t),d=mT(f,o,l,n,r),h=bq(t,l,d,e);return{activeIndex:String(d),activeCoordinate:h}}},Cq=(e,t,n,r,l,o,c)=>{if(!(!e||!r||!l||!o||!n)){var f=cB(e,n);if(f){var d=e6(f,t),h=mT(d,c,o,r,l),m=xq(t,o,h,f);return{activeIndex:String(h),activeCoordinate:m}}}},_q=(e,t,n,r,l,o,c,f)=>{if(!(!e||!t||!r||!l||!o))return t==="horizontal"||t==="vertical"?Nq(e,t,r,l,o,c,f):Cq(e,t,n,r,l,o,c)},Tq=Y(e=>e.zIndex.zIndexMap,(e,t)=>t,(e,t,n)=>n,(e,t,n)=>{if(t!=null){var r=e[t];if(r!=null)return n?r.panoramaElementId:r.elementId}}),Mq=Y(e=>e.zIndex.zIndexMap,e=>{var t=Object.keys(e).map(r=>parseInt(r,10)).concat(Object.values(an)),n=Array.from(new Set(t));return n.sort((r,l)=>r-l)},{memoizeOptions:{resultEqualityCheck:h9}});function AA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function jA(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?AA(Object(n),!0).forEach(function(r){Dq(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):AA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Dq(e,t,n){return(t=kq(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function kq(e){var t=Pq(e,"string");return typeof t=="symbol"?t:t+""}function Pq(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Rq={},zq={zIndexMap:Object.values(an).reduce((e,t)=>jA(jA({},e),{},{[t]:{elementId:void 0,panoramaElementId:void 0,consumers:0}}),Rq)},Lq=new Set(Object.values(an));function Bq(e){return Lq.has(e)}var bT=gn({name:"zIndex",initialState:zq,reducers:{registerZIndexPortal:{reducer:(e,t)=>{var{zIndex:n}=t.payload;e.zIndexMap[n]?e.zIndexMap[n].consumers+=1:e.zIndexMap[n]={consumers:1,elementId:void 0,panoramaElementId:void 0}},prepare:et()},unregisterZIndexPortal:{reducer:(e,t)=>{var{zIndex:n}=t.payload;e.zIndexMap[n]&&(e.zIndexMap[n].consumers-=1,e.zIndexMap[n].consumers<=0&&!Bq(n)&&delete e.zIndexMap[n])},prepare:et()},registerZIndexPortalId:{reducer:(e,t)=>{var{zIndex:n,elementId:r,isPanorama:l}=t.payload;e.zIndexMap[n]?l?e.zIndexMap[n].panoramaElementId=r:e.zIndexMap[n].elementId=r:e.zIndexMap[n]={consumers:0,elementId:l?void 0:r,panoramaElementId:l?r:void 0}},prepare:et()},unregisterZIndexPortalId:{reducer:(e,t)=>{var{zIndex:n}=t.payload;e.zIndexMap[n]&&(t.payload.isPanorama?e.zIndexMap[n].panoramaElementId=void 0:e.zIndexMap[n].elementId=void 0)},prepare:et()}}}),{registerZIndexPortal:Uq,unregisterZIndexPortal:Iq,registerZIndexPortalId:qq,unregisterZIndexPortalId:Hq}=bT.actions,$q=bT.reducer;function pa(e){var{zIndex:t,children:n}=e,r=k6(),l=r&&t!==void 0&&t!==0,o=bn(),c=zt();g.useLayoutEffect(()=>l?(c(Uq({zIndex:t})),()=>{c(Iq({zIndex:t}))}):Hu,[c,t,l]);var f=ve(h=>Tq(h,t,o));if(!l)return n;if(!f)return null;var d=document.getElementById(f);return d?rd.createPortal(n,d):null}function $y(){return $y=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},$y.apply(null,arguments)}function NA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Ys(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?NA(Object(n),!0).forEach(function(r){Yq(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):NA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Yq(e,t,n){return(t=Kq(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Kq(e){var t=Gq(e,"string");return typeof t=="symbol"?t:t+""}function Gq(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Vq(e){var{cursor:t,cursorComp:n,cursorProps:r}=e;return g.isValidElement(t)?g.cloneElement(t,r):g.createElement(n,r)}function Xq(e){var t,{coordinate:n,payload:r,index:l,offset:o,tooltipAxisBandSize:c,layout:f,cursor:d,tooltipEventType:h,chartName:m}=e,p=n,x=r,w=l;if(!d||!p||m!=="ScatterChart"&&h!=="axis")return null;var A,O,E;if(m==="ScatterChart")A=p,O=w8,E=an.cursorLine;else if(m==="BarChart")A=S8(f,p,o,c),O=J8,E=an.cursorRectangle;else if(f==="radial"&&Kj(p)){var{cx:j,cy:_,radius:C,startAngle:D,endAngle:T}=oC(p);A={cx:j,cy:_,startAngle:D,endAngle:T,innerRadius:C,outerRadius:C},O=hB,E=an.cursorLine}else A={points:mB(f,p,o)},O=nf,E=an.cursorLine;var R=typeof d=="object"&&"className"in d?d.className:void 0,k=Ys(Ys(Ys(Ys({stroke:"#ccc",pointerEvents:"none"},o),A),ad(d)),{},{payload:x,payloadIndex:w,className:Ge("recharts-tooltip-cursor",R)});return g.createElement(pa,{zIndex:(t=e.zIndex)!==null&&t!==void 0?t:E},g.createElement(Vq,{cursor:d,cursorComp:O,cursorProps:k}))}function Fq(e){var t=vq(),n=KN(),r=Vu(),l=vT();return t==null||n==null||r==null||l==null?null:g.createElement(Xq,$y({},e,{offset:n,layout:r,tooltipAxisBandSize:t,chartName:l}))}var xT=g.createContext(null),Wq=()=>g.useContext(xT),Dp={exports:{}},CA;function Zq(){return CA||(CA=1,(function(e){var t=Object.prototype.hasOwnProperty,n="~";function r(){}Object.create&&(r.prototype=Object.create(null),new r().__proto__||(n=!1));function l(d,h,m){this.fn=d,this.context=h,this.once=m||!1}function o(d,h,m,p,x){if(typeof m!="function")throw new TypeError("The listener must be a function");var w=new l(m,p||d,x),A=n?n+h:h;return d._events[A]?d._events[A].fn?d._events[A]=[d._events[A],w]:d._events[A].push(w):(d._events[A]=w,d._eventsCount++),d}function c(d,h){--d._eventsCount===0?d._events=new r:delete d._events[h]}function f(){this._events=new r,this._eventsCount=0}f.prototype.eventNames=function(){var h=[],m,p;if(this._eventsCount===0)return h;for(p in m=this._events)t.call(m,p)&&h.push(n?p.slice(1):p);return Object.getOwnPropertySymbols?h.concat(Object.getOwnPropertySymbols(m)):h},f.prototype.listeners=function(h){var m=n?n+h:h,p=this._events[m];if(!p)return[];if(p.fn)return[p.fn];for(var x=0,w=p.length,A=new Array(w);x<w;x++)A[x]=p[x].fn;return A},f.prototype.listenerCount=function(h){var m=n?n+h:h,p=this._events[m];return p?p.fn?1:p.length:0},f.prototype.emit=function(h,m,p,x,w,A){var O=n?n+h:h;if(!this._events[O])return!1;var E=this._events[O],j=arguments.length,_,C;if(E.fn){switch(E.once&&this.removeListener(h,E.fn,void 0,!0),j){case 1:return E.fn.call(E.context),!0;case 2:return E.fn.call(E.context,m),!0;case 3:return E.fn.call(E.context,m,p),!0;case 4:return E.fn.call(E.context,m,p,x),!0;case 5:return E.fn.call(E.context,m,p,x,w),!0;case 6:return E.fn.call(E.context,m,p,x,w,A),!0}for(C=1,_=new Array(j-1);C<j;C++)_[C-1]=arguments[C];E.fn.apply(E.context,_)}else{var D=E.length,T;for(C=0;C<D;C++)switch(E[C].once&&this.removeListener(h,E[C].fn,void 0,!0),j){case 1:E[C].fn.call(E[C].context);break;case 2:E[C].fn.call(E[C].context,m);break;case 3:E[C].fn.call(E[C].context,m,p);break;case 4:E[C].fn.call(E[C].context,m,p,x);break;default:if(!_)for(T=1,_=new Array(j-1);T<j;T++)_[T-1]=arguments[T];E[C].fn.apply(E[C].context,_)}}return!0},f.prototype.on=function(h,m,p){return o(this,h,m,p,!1)},f.prototype.once=function(h,m,p){return o(this,h,m,p,!0)},f.prototype.removeListener=function(h,m,p,x){var w=n?n+h:h;if(!this._events[w])return this;if(!m)return c(this,w),this;var A=this._events[w];if(A.fn)A.fn===m&&(!x||A.once)&&(!p||A.context===p)&&c(this,w);else{for(var O=0,E=[],j=A.length;O<j;O++)(A[O].fn!==m||x&&!A[O].once||p&&A[O].context!==p)&&E.push(A[O]);E.length?this._events[w]=E.length===1?E[0]:E:c(this,w)}return this},f.prototype.removeAllListeners=function(h){var m;return h?(m=n?n+h:h,this._events[m]&&c(this,m)):(this._events=new r,this._eventsCount=0),this},f.prototype.off=f.prototype.removeListener,f.prototype.addListener=f.prototype.on,f.prefixed=n,f.EventEmitter=f,e.exports=f})(Dp)),Dp.exports}var Qq=Zq();const Jq=oa(Qq);var zu=new Jq,Yy="recharts.syncEvent.tooltip",_A="recharts.syncEvent.brush";function eH(e,t){if(t){var n=Number.parseInt(t,10);if(!sr(n))return e?.[n]}}var tH={chartName:"",tooltipPayloadSearcher:void 0,eventEmitter:void 0,defaultTooltipEventType:"axis"},wT=gn({name:"options",initialState:tH,reducers:{createEventEmitter:e=>{e.eventEmitter==null&&(e.eventEmitter=Symbol("rechartsEventEmitter"))}}}),nH=wT.reducer,{createEventEmitter:rH}=wT.actions;function aH(e){return e.tooltip.syncInteraction}var iH={chartData:void 0,computedData:void 0,dataStartIndex:0,dataEndIndex:0},ST=gn({name:"chartData",initialState:iH,reducers:{setChartData(e,t){if(e.chartData=t.payload,t.payload==null){e.dataStartIndex=0,e.dataEndIndex=0;return}t.payload.length>0&&e.dataEndIndex!==t.payload.length-1&&(e.dataEndIndex=t.payload.length-1)},setComputedData(e,t){e.computedData=t.payload},setDataStartEndIndexes(e,t){var{startIndex:n,endIndex:r}=t.payload;n!=null&&(e.dataStartIndex=n),r!=null&&(e.dataEndIndex=r)}}}),{setChartData:TA,setDataStartEndIndexes:lH,setComputedData:_F}=ST.actions,oH=ST.reducer,uH=["x","y"];function MA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Nl(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?MA(Object(n),!0).forEach(function(r){cH(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):MA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function cH(e,t,n){return(t=sH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function sH(e){var t=fH(e,"string");return typeof t=="symbol"?t:t+""}function fH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function dH(e,t){if(e==null)return{};var n,r,l=hH(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function hH(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function mH(){var e=ve(o0),t=ve(u0),n=zt(),r=ve(i_),l=ve(va),o=Vu(),c=wd(),f=ve(d=>d.rootProps.className);g.useEffect(()=>{if(e==null)return Hu;var d=(h,m,p)=>{if(t!==p&&e===h){if(r==="index"){var x;if(c&&m!==null&&m!==void 0&&(x=m.payload)!==null&&x!==void 0&&x.coordinate&&m.payload.sourceViewBox){var w=m.payload.coordinate,{x:A,y:O}=w,E=dH(w,uH),{x:j,y:_,width:C,height:D}=m.payload.sourceViewBox,T=Nl(Nl({},E),{},{x:c.x+(C?(A-j)/C:0)*c.width,y:c.y+(D?(O-_)/D:0)*c.height});n(Nl(Nl({},m),{},{payload:Nl(Nl({},m.payload),{},{coordinate:T})}))}else n(m);return}if(l!=null){var R;if(typeof r=="function"){var k={activeTooltipIndex:m.payload.index==null?void 0:Number(m.payload.index),isTooltipActive:m.payload.active,activeIndex:m.payload.index==null?void 0:Number(m.payload.index),activeLabel:m.payload.label,activeDataKey:m.payload.dataKey,activeCoordinate:m.payload.coordinate},I=r(l,k);R=l[I]}else r==="value"&&(R=l.find(q=>String(q.value)===m.payload.label));var{coordinate:re}=m.payload;if(R==null||m.payload.active===!1||re==null||c==null){n(qy({active:!1,coordinate:void 0,dataKey:void 0,index:null,label:void 0,sourceViewBox:void 0,graphicalItemId:void 0}));return}var{x:ae,y:W}=re,J=Math.min(ae,c.x+c.width),pe=Math.min(W,c.y+c.height),ge={x:o==="horizontal"?R.coordinate:J,y:o==="horizontal"?pe:R.coordinate},xe=qy({active:m.payload.active,coordinate:ge,dataKey:m.payload.dataKey,index:String(R.index),label:m.payload.label,sourceViewBox:m.payload.sourceViewBox,graphicalItemId:m.payload.graphicalItemId});n(xe)}}};return zu.on(Yy,d),()=>{zu.off(Yy,d)}},[f,n,t,e,r,l,o,c])}function vH(){var e=ve(o0),t=ve(u0),n=zt();g.useEffect(()=>{if(e==null)return Hu;var r=(l,o,c)=>{t!==c&&e===l&&n(lH(o))};return zu.on(_A,r),()=>{zu.off(_A,r)}},[n,t,e])}function pH(){var e=zt();g.useEffect(()=>{e(rH())},[e]),mH(),vH()}function yH(e,t,n,r,l,o){var c=ve(w=>Eq(w,e,t)),f=ve(u0),d=ve(o0),h=ve(i_),m=ve(aH),p=m?.active,x=wd();g.useEffect(()=>{if(!p&&d!=null&&f!=null){var w=qy({active:o,coordinate:n,dataKey:c,index:l,label:typeof r=="number"?String(r):r,sourceViewBox:x,graphicalItemId:void 0});zu.emit(Yy,d,w,f)}},[p,n,c,l,r,f,d,h,o,x])}function DA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function kA(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?DA(Object(n),!0).forEach(function(r){gH(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):DA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function gH(e,t,n){return(t=bH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function bH(e){var t=xH(e,"string");return typeof t=="symbol"?t:t+""}function xH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function wH(e){return e.dataKey}function SH(e,t){return g.isValidElement(e)?g.cloneElement(e,t):typeof e=="function"?g.createElement(e,t):g.createElement(e8,t)}var PA=[],EH={allowEscapeViewBox:{x:!1,y:!1},animationDuration:400,animationEasing:"ease",axisId:0,contentStyle:{},cursor:!0,filterNull:!0,isAnimationActive:"auto",itemSorter:"name",itemStyle:{},labelStyle:{},offset:10,reverseDirection:{x:!1,y:!1},separator:" : ",trigger:"hover",useTranslate3d:!1,wrapperStyle:{}};function ET(e){var t,n,r=Rn(e,EH),{active:l,allowEscapeViewBox:o,animationDuration:c,animationEasing:f,content:d,filterNull:h,isAnimationActive:m,offset:p,payloadUniqBy:x,position:w,reverseDirection:A,useTranslate3d:O,wrapperStyle:E,cursor:j,shared:_,trigger:C,defaultIndex:D,portal:T,axisId:R}=r,k=zt(),I=typeof D=="number"?String(D):D;g.useEffect(()=>{k(b7({shared:_,trigger:C,axisId:R,active:l,defaultIndex:I}))},[k,_,C,R,l,I]);var re=wd(),ae=tC(),W=h7(_),{activeIndex:J,isActive:pe}=(t=ve(ue=>jq(ue,W,C,I)))!==null&&t!==void 0?t:{},ge=ve(ue=>Aq(ue,W,C,I)),xe=ve(ue=>gT(ue,W,C,I)),q=ve(ue=>Oq(ue,W,C,I)),Q=ge,X=Wq(),le=(n=l??pe)!==null&&n!==void 0?n:!1,[Oe,P]=U5([Q,le]),K=W==="axis"?xe:void 0;yH(W,C,q,K,J,le);var ee=T??X;if(ee==null||re==null||W==null)return null;var ne=Q??PA;le||(ne=PA),h&&ne.length&&(ne=f5(ne.filter(ue=>ue.value!=null&&(ue.hide!==!0||r.includeHidden)),x,wH));var he=ne.length>0,we=g.createElement(o8,{allowEscapeViewBox:o,animationDuration:c,animationEasing:f,isAnimationActive:m,active:le,coordinate:q,hasPayload:he,offset:p,position:w,reverseDirection:A,useTranslate3d:O,viewBox:re,wrapperStyle:E,lastBoundingBox:Oe,innerRef:P,hasPortalFromProps:!!T},SH(d,kA(kA({},r),{},{payload:ne,label:K,active:le,activeIndex:J,coordinate:q,accessibilityLayer:ae})));return g.createElement(g.Fragment,null,rd.createPortal(we,ee),le&&g.createElement(Fq,{cursor:j,tooltipEventType:W,coordinate:q,payload:ne,index:J}))}function OH(e,t,n){return(t=AH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function AH(e){var t=jH(e,"string");return typeof t=="symbol"?t:t+""}function jH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}class NH{constructor(t){OH(this,"cache",new Map),this.maxSize=t}get(t){var n=this.cache.get(t);return n!==void 0&&(this.cache.delete(t),this.cache.set(t,n)),n}set(t,n){if(this.cache.has(t))this.cache.delete(t);else if(this.cache.size>=this.maxSize){var r=this.cache.keys().next().value;r!=null&&this.cache.delete(r)}this.cache.set(t,n)}clear(){this.cache.clear()}size(){return this.cache.size}}function RA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function CH(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?RA(Object(n),!0).forEach(function(r){_H(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):RA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function _H(e,t,n){return(t=TH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function TH(e){var t=MH(e,"string");return typeof t=="symbol"?t:t+""}function MH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var DH={cacheSize:2e3,enableCache:!0},OT=CH({},DH),zA=new NH(OT.cacheSize),kH={position:"absolute",top:"-20000px",left:0,padding:0,margin:0,border:"none",whiteSpace:"pre"},LA="recharts_measurement_span";function PH(e,t){var n=t.fontSize||"",r=t.fontFamily||"",l=t.fontWeight||"",o=t.fontStyle||"",c=t.letterSpacing||"",f=t.textTransform||"";return"".concat(e,"|").concat(n,"|").concat(r,"|").concat(l,"|").concat(o,"|").concat(c,"|").concat(f)}var BA=(e,t)=>{try{var n=document.getElementById(LA);n||(n=document.createElement("span"),n.setAttribute("id",LA),n.setAttribute("aria-hidden","true"),document.body.appendChild(n)),Object.assign(n.style,kH,t),n.textContent="".concat(e);var r=n.getBoundingClientRect();return{width:r.width,height:r.height}}catch{return{width:0,height:0}}},xu=function(t){var n=arguments.length>1&&arguments[1]!==void 0?arguments[1]:{};if(t==null||ro.isSsr)return{width:0,height:0};if(!OT.enableCache)return BA(t,n);var r=PH(t,n),l=zA.get(r);if(l)return l;var o=BA(t,n);return zA.set(r,o),o},UA=/(-?\d+(?:\.\d+)?[a-zA-Z%]*)([*/])(-?\d+(?:\.\d+)?[a-zA-Z%]*)/,IA=/(-?\d+(?:\.\d+)?[a-zA-Z%]*)([+-])(-?\d+(?:\.\d+)?[a-zA-Z%]*)/,RH=/^px|cm|vh|vw|em|rem|%|mm|in|pt|pc|ex|ch|vmin|vmax|Q$/,zH=/(-?\d+(?:\.\d+)?)([a-zA-Z%]+)?/,AT={cm:96/2.54,mm:96/25.4,pt:96/72,pc:96/6,in:96,Q:96/(2.54*40),px:1},LH=Object.keys(AT),kl="NaN";function BH(e,t){return e*AT[t]}class vn{static parse(t){var n,[,r,l]=(n=zH.exec(t))!==null&&n!==void 0?n:[];return new vn(parseFloat(r),l??"")}constructor(t,n){this.num=t,this.unit=n,this.num=t,this.unit=n,sr(t)&&(this.unit=""),n!==""&&!RH.test(n)&&(this.num=NaN,this.unit=""),LH.includes(n)&&(this.num=BH(t,n),this.unit="px")}add(t){return this.unit!==t.unit?new vn(NaN,""):new vn(this.num+t.num,this.unit)}subtract(t){return this.unit!==t.unit?new vn(NaN,""):new vn(this.num-t.num,this.unit)}multiply(t){return this.unit!==""&&t.unit!==""&&this.unit!==t.unit?new vn(NaN,""):new vn(this.num*t.num,this.unit||t.unit)}divide(t){return this.unit!==""&&t.unit!==""&&this.unit!==t.unit?new vn(NaN,""):new vn(this.num/t.num,this.unit||t.unit)}toString(){return"".concat(this.num).concat(this.unit)}isNaN(){return sr(this.num)}}function jT(e){if(e.includes(kl))return kl;for(var t=e;t.includes("*")||t.includes("/");){var n,[,r,l,o]=(n=UA.exec(t))!==null&&n!==void 0?n:[],c=vn.parse(r??""),f=vn.parse(o??""),d=l==="*"?c.multiply(f):c.divide(f);if(d.isNaN())return kl;t=t.replace(UA,d.toString())}for(;t.includes("+")||/.-\d+(?:\.\d+)?/.test(t);){var h,[,m,p,x]=(h=IA.exec(t))!==null&&h!==void 0?h:[],w=vn.parse(m??""),A=vn.parse(x??""),O=p==="+"?w.add(A):w.subtract(A);if(O.isNaN())return kl;t=t.replace(IA,O.toString())}return t}var qA=/\(([^()]*)\)/;function UH(e){for(var t=e,n;(n=qA.exec(t))!=null;){var[,r]=n;t=t.replace(qA,jT(r))}return t}function IH(e){var t=e.replace(/\s+/g,"");return t=UH(t),t=jT(t),t}function qH(e){try{return IH(e)}catch{return kl}}function kp(e){var t=qH(e.slice(5,-1));return t===kl?"":t}var HH=["x","y","lineHeight","capHeight","fill","scaleToFit","textAnchor","verticalAnchor"],$H=["dx","dy","angle","className","breakAll"];function Ky(){return Ky=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Ky.apply(null,arguments)}function HA(e,t){if(e==null)return{};var n,r,l=YH(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function YH(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var NT=/[ \f\n\r\t\v\u2028\u2029]+/,CT=e=>{var{children:t,breakAll:n,style:r}=e;try{var l=[];Wt(t)||(n?l=t.toString().split(""):l=t.toString().split(NT));var o=l.map(f=>({word:f,width:xu(f,r).width})),c=n?0:xu(" ",r).width;return{wordsWithComputedWidth:o,spaceWidth:c}}catch{return null}};function KH(e){return e==="start"||e==="middle"||e==="end"||e==="inherit"}var _T=(e,t,n,r)=>e.reduce((l,o)=>{var{word:c,width:f}=o,d=l[l.length-1];if(d&&f!=null&&(t==null||r||d.width+f+n<Number(t)))d.words.push(c),d.width+=f+n;else{var h={words:[c],width:f};l.push(h)}return l},[]),TT=e=>e.reduce((t,n)=>t.width>n.width?t:n),GH="…",$A=(e,t,n,r,l,o,c,f)=>{var d=e.slice(0,t),h=CT({breakAll:n,style:r,children:d+GH});if(!h)return[!1,[]];var m=_T(h.wordsWithComputedWidth,o,c,f),p=m.length>l||TT(m).width>Number(o);return[p,m]},VH=(e,t,n,r,l)=>{var{maxLines:o,children:c,style:f,breakAll:d}=e,h=de(o),m=String(c),p=_T(t,r,n,l);if(!h||l)return p;var x=p.length>o||TT(p).width>Number(r);if(!x)return p;for(var w=0,A=m.length-1,O=0,E;w<=A&&O<=m.length-1;){var j=Math.floor((w+A)/2),_=j-1,[C,D]=$A(m,_,d,f,o,r,n,l),[T]=$A(m,j,d,f,o,r,n,l);if(!C&&!T&&(w=j+1),C&&T&&(A=j-1),!C&&T){E=D;break}O++}return E||p},YA=e=>{var t=Wt(e)?[]:e.toString().split(NT);return[{words:t,width:void 0}]},XH=e=>{var{width:t,scaleToFit:n,children:r,style:l,breakAll:o,maxLines:c}=e;if((t||n)&&!ro.isSsr){var f,d,h=CT({breakAll:o,children:r,style:l});if(h){var{wordsWithComputedWidth:m,spaceWidth:p}=h;f=m,d=p}else return YA(r);return VH({breakAll:o,children:r,maxLines:c,style:l},f,d,t,!!n)}return YA(r)},MT="#808080",FH={angle:0,breakAll:!1,capHeight:"0.71em",fill:MT,lineHeight:"1em",scaleToFit:!1,textAnchor:"start",verticalAnchor:"end",x:0,y:0},k0=g.forwardRef((e,t)=>{var n=Rn(e,FH),{x:r,y:l,lineHeight:o,capHeight:c,fill:f,scaleToFit:d,textAnchor:h,verticalAnchor:m}=n,p=HA(n,HH),x=g.useMemo(()=>XH({breakAll:p.breakAll,children:p.children,maxLines:p.maxLines,scaleToFit:d,style:p.style,width:p.width}),[p.breakAll,p.children,p.maxLines,d,p.style,p.width]),{dx:w,dy:A,angle:O,className:E,breakAll:j}=p,_=HA(p,$H);if(!Sr(r)||!Sr(l)||x.length===0)return null;var C=Number(r)+(de(w)?w:0),D=Number(l)+(de(A)?A:0);if(!ot(C)||!ot(D))return null;var T;switch(m){case"start":T=kp("calc(".concat(c,")"));break;case"middle":T=kp("calc(".concat((x.length-1)/2," * -").concat(o," + (").concat(c," / 2))"));break;default:T=kp("calc(".concat(x.length-1," * -").concat(o,")"));break}var R=[];if(d){var k=x[0].width,{width:I}=p;R.push("scale(".concat(de(I)&&de(k)?I/k:1,")"))}return O&&R.push("rotate(".concat(O,", ").concat(C,", ").concat(D,")")),R.length&&(_.transform=R.join(" ")),g.createElement("text",Ky({},Wn(_),{ref:t,x:C,y:D,className:Ge("recharts-text",E),textAnchor:h,fill:f.includes("url")?MT:f}),x.map((re,ae)=>{var W=re.words.join(j?"":" ");return g.createElement("tspan",{x:C,dy:ae===0?T:o,key:"".concat(W,"-").concat(ae)},W)}))});k0.displayName="Text";var WH=["labelRef"];function ZH(e,t){if(e==null)return{};var n,r,l=QH(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function QH(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function KA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function st(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?KA(Object(n),!0).forEach(function(r){JH(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):KA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function JH(e,t,n){return(t=e$(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function e$(e){var t=t$(e,"string");return typeof t=="symbol"?t:t+""}function t$(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Xr(){return Xr=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Xr.apply(null,arguments)}var DT=g.createContext(null),n$=e=>{var{x:t,y:n,upperWidth:r,lowerWidth:l,width:o,height:c,children:f}=e,d=g.useMemo(()=>({x:t,y:n,upperWidth:r,lowerWidth:l,width:o,height:c}),[t,n,r,l,o,c]);return g.createElement(DT.Provider,{value:d},f)},kT=()=>{var e=g.useContext(DT),t=wd();return e||YN(t)},r$=g.createContext(null),a$=()=>{var e=g.useContext(r$),t=ve(s_);return e||t},i$=e=>{var{value:t,formatter:n}=e,r=Wt(e.children)?t:e.children;return typeof n=="function"?n(r):r},P0=e=>e!=null&&typeof e=="function",l$=(e,t)=>{var n=Vn(t-e),r=Math.min(Math.abs(t-e),360);return n*r},o$=(e,t,n,r,l)=>{var{offset:o,className:c}=e,{cx:f,cy:d,innerRadius:h,outerRadius:m,startAngle:p,endAngle:x,clockWise:w}=l,A=(h+m)/2,O=l$(p,x),E=O>=0?1:-1,j,_;switch(t){case"insideStart":j=p+E*o,_=w;break;case"insideEnd":j=x-E*o,_=!w;break;case"end":j=x+E*o,_=w;break;default:throw new Error("Unsupported position ".concat(t))}_=O<=0?_:!_;var C=Ft(f,d,A,j),D=Ft(f,d,A,j+(_?1:-1)*359),T="M".concat(C.x,",").concat(C.y,`
-    A`).concat(A,",").concat(A,",0,1,").concat(_?0:1,`,
-    `).concat(D.x,",").concat(D.y),R=Wt(e.id)?Su("recharts-radial-line-"):e.id;return g.createElement("text",Xr({},r,{dominantBaseline:"central",className:Ge("recharts-radial-bar-label",c)}),g.createElement("defs",null,g.createElement("path",{id:R,d:T})),g.createElement("textPath",{xlinkHref:"#".concat(R)},n))},u$=(e,t,n)=>{var{cx:r,cy:l,innerRadius:o,outerRadius:c,startAngle:f,endAngle:d}=e,h=(f+d)/2;if(n==="outside"){var{x:m,y:p}=Ft(r,l,c+t,h);return{x:m,y:p,textAnchor:m>=r?"start":"end",verticalAnchor:"middle"}}if(n==="center")return{x:r,y:l,textAnchor:"middle",verticalAnchor:"middle"};if(n==="centerTop")return{x:r,y:l,textAnchor:"middle",verticalAnchor:"start"};if(n==="centerBottom")return{x:r,y:l,textAnchor:"middle",verticalAnchor:"end"};var x=(o+c)/2,{x:w,y:A}=Ft(r,l,x,h);return{x:w,y:A,textAnchor:"middle",verticalAnchor:"middle"}},Gy=e=>"cx"in e&&de(e.cx),c$=(e,t)=>{var{parentViewBox:n,offset:r,position:l}=e,o;n!=null&&!Gy(n)&&(o=n);var{x:c,y:f,upperWidth:d,lowerWidth:h,height:m}=t,p=c,x=c+(d-h)/2,w=(p+x)/2,A=(d+h)/2,O=p+d/2,E=m>=0?1:-1,j=E*r,_=E>0?"end":"start",C=E>0?"start":"end",D=d>=0?1:-1,T=D*r,R=D>0?"end":"start",k=D>0?"start":"end";if(l==="top"){var I={x:p+d/2,y:f-j,textAnchor:"middle",verticalAnchor:_};return st(st({},I),o?{height:Math.max(f-o.y,0),width:d}:{})}if(l==="bottom"){var re={x:x+h/2,y:f+m+j,textAnchor:"middle",verticalAnchor:C};return st(st({},re),o?{height:Math.max(o.y+o.height-(f+m),0),width:h}:{})}if(l==="left"){var ae={x:w-T,y:f+m/2,textAnchor:R,verticalAnchor:"middle"};return st(st({},ae),o?{width:Math.max(ae.x-o.x,0),height:m}:{})}if(l==="right"){var W={x:w+A+T,y:f+m/2,textAnchor:k,verticalAnchor:"middle"};return st(st({},W),o?{width:Math.max(o.x+o.width-W.x,0),height:m}:{})}var J=o?{width:A,height:m}:{};return l==="insideLeft"?st({x:w+T,y:f+m/2,textAnchor:k,verticalAnchor:"middle"},J):l==="insideRight"?st({x:w+A-T,y:f+m/2,textAnchor:R,verticalAnchor:"middle"},J):l==="insideTop"?st({x:p+d/2,y:f+j,textAnchor:"middle",verticalAnchor:C},J):l==="insideBottom"?st({x:x+h/2,y:f+m-j,textAnchor:"middle",verticalAnchor:_},J):l==="insideTopLeft"?st({x:p+T,y:f+j,textAnchor:k,verticalAnchor:C},J):l==="insideTopRight"?st({x:p+d-T,y:f+j,textAnchor:R,verticalAnchor:C},J):l==="insideBottomLeft"?st({x:x+T,y:f+m-j,textAnchor:k,verticalAnchor:_},J):l==="insideBottomRight"?st({x:x+h-T,y:f+m-j,textAnchor:R,verticalAnchor:_},J):l&&typeof l=="object"&&(de(l.x)||ta(l.x))&&(de(l.y)||ta(l.y))?st({x:c+Wa(l.x,A),y:f+Wa(l.y,m),textAnchor:"end",verticalAnchor:"end"},J):st({x:O,y:f+m/2,textAnchor:"middle",verticalAnchor:"middle"},J)},s$={angle:0,offset:5,zIndex:an.label,position:"middle",textBreakAll:!1};function Ka(e){var t=Rn(e,s$),{viewBox:n,position:r,value:l,children:o,content:c,className:f="",textBreakAll:d,labelRef:h}=t,m=a$(),p=kT(),x=r==="center"?p:m??p,w,A,O;if(n==null?w=x:Gy(n)?w=n:w=YN(n),!w||Wt(l)&&Wt(o)&&!g.isValidElement(c)&&typeof c!="function")return null;var E=st(st({},t),{},{viewBox:w});if(g.isValidElement(c)){var{labelRef:j}=E,_=ZH(E,WH);return g.cloneElement(c,_)}if(typeof c=="function"){if(A=g.createElement(c,E),g.isValidElement(A))return A}else A=i$(t);var C=Wn(t);if(Gy(w)){if(r==="insideStart"||r==="insideEnd"||r==="end")return o$(t,r,A,C,w);O=u$(w,t.offset,t.position)}else O=c$(t,w);return g.createElement(pa,{zIndex:t.zIndex},g.createElement(k0,Xr({ref:h,className:Ge("recharts-label",f)},C,O,{textAnchor:KH(C.textAnchor)?C.textAnchor:O.textAnchor,breakAll:d}),A))}Ka.displayName="Label";var f$=(e,t,n)=>{if(!e)return null;var r={viewBox:t,labelRef:n};return e===!0?g.createElement(Ka,Xr({key:"label-implicit"},r)):Sr(e)?g.createElement(Ka,Xr({key:"label-implicit",value:e},r)):g.isValidElement(e)?e.type===Ka?g.cloneElement(e,st({key:"label-implicit"},r)):g.createElement(Ka,Xr({key:"label-implicit",content:e},r)):P0(e)?g.createElement(Ka,Xr({key:"label-implicit",content:e},r)):e&&typeof e=="object"?g.createElement(Ka,Xr({},e,{key:"label-implicit"},r)):null};function d$(e){var{label:t,labelRef:n}=e,r=kT();return f$(t,r,n)||null}var Pp={},Rp={},GA;function h$(){return GA||(GA=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n[n.length-1]}e.last=t})(Rp)),Rp}var zp={},VA;function m$(){return VA||(VA=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return Array.isArray(n)?n:Array.from(n)}e.toArray=t})(zp)),zp}var XA;function v$(){return XA||(XA=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=h$(),n=m$(),r=wg();function l(o){if(r.isArrayLike(o))return t.last(n.toArray(o))}e.last=l})(Pp)),Pp}var Lp,FA;function p$(){return FA||(FA=1,Lp=v$().last),Lp}var y$=p$();const g$=oa(y$);var b$=["valueAccessor"],x$=["dataKey","clockWise","id","textBreakAll","zIndex"];function Gf(){return Gf=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Gf.apply(null,arguments)}function WA(e,t){if(e==null)return{};var n,r,l=w$(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function w$(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var S$=e=>Array.isArray(e.value)?g$(e.value):e.value,PT=g.createContext(void 0),E$=PT.Provider,RT=g.createContext(void 0);RT.Provider;function O$(){return g.useContext(PT)}function A$(){return g.useContext(RT)}function af(e){var{valueAccessor:t=S$}=e,n=WA(e,b$),{dataKey:r,clockWise:l,id:o,textBreakAll:c,zIndex:f}=n,d=WA(n,x$),h=O$(),m=A$(),p=h||m;return!p||!p.length?null:g.createElement(pa,{zIndex:f??an.label},g.createElement(wr,{className:"recharts-label-list"},p.map((x,w)=>{var A,O=Wt(r)?t(x,w):tn(x&&x.payload,r),E=Wt(o)?{}:{id:"".concat(o,"-").concat(w)};return g.createElement(Ka,Gf({key:"label-".concat(w)},Wn(x),d,E,{fill:(A=n.fill)!==null&&A!==void 0?A:x.fill,parentViewBox:x.parentViewBox,value:O,textBreakAll:c,viewBox:x.viewBox,index:w,zIndex:0}))})))}af.displayName="LabelList";function j$(e){var{label:t}=e;return t?t===!0?g.createElement(af,{key:"labelList-implicit"}):g.isValidElement(t)||P0(t)?g.createElement(af,{key:"labelList-implicit",content:t}):typeof t=="object"?g.createElement(af,Gf({key:"labelList-implicit"},t,{type:String(t.type)})):null:null}function Vy(){return Vy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Vy.apply(null,arguments)}var zT=e=>{var{cx:t,cy:n,r,className:l}=e,o=Ge("recharts-dot",l);return de(t)&&de(n)&&de(r)?g.createElement("circle",Vy({},cr(e),xg(e),{className:o,cx:t,cy:n,r})):null},N$={radiusAxis:{},angleAxis:{}},LT=gn({name:"polarAxis",initialState:N$,reducers:{addRadiusAxis(e,t){e.radiusAxis[t.payload.id]=t.payload},removeRadiusAxis(e,t){delete e.radiusAxis[t.payload.id]},addAngleAxis(e,t){e.angleAxis[t.payload.id]=t.payload},removeAngleAxis(e,t){delete e.angleAxis[t.payload.id]}}}),{addRadiusAxis:TF,removeRadiusAxis:MF,addAngleAxis:DF,removeAngleAxis:kF}=LT.actions,C$=LT.reducer,BT=e=>e&&typeof e=="object"&&"clipDot"in e?!!e.clipDot:!0;function _$(e){var{tooltipEntrySettings:t}=e,n=zt(),r=bn(),l=g.useRef(null);return g.useLayoutEffect(()=>{r||(l.current===null?n(p7(t)):l.current!==t&&n(y7({prev:l.current,next:t})),l.current=t)},[t,n,r]),g.useLayoutEffect(()=>()=>{l.current&&(n(g7(l.current)),l.current=null)},[n]),null}function T$(e){var{legendPayload:t}=e,n=zt(),r=bn(),l=g.useRef(null);return g.useLayoutEffect(()=>{r||(l.current===null?n(G6(t)):l.current!==t&&n(V6({prev:l.current,next:t})),l.current=t)},[n,r,t]),g.useLayoutEffect(()=>()=>{l.current&&(n(X6(l.current)),l.current=null)},[n]),null}var Bp,M$=()=>{var[e]=g.useState(()=>Su("uid-"));return e},D$=(Bp=ed.useId)!==null&&Bp!==void 0?Bp:M$;function UT(e,t){var n=D$();return t||(e?"".concat(e,"-").concat(n):n)}var k$=g.createContext(void 0),P$=e=>{var{id:t,type:n,children:r}=e,l=UT("recharts-".concat(n),t);return g.createElement(k$.Provider,{value:l},r(l))},R$={cartesianItems:[],polarItems:[]},IT=gn({name:"graphicalItems",initialState:R$,reducers:{addCartesianGraphicalItem:{reducer(e,t){e.cartesianItems.push(t.payload)},prepare:et()},replaceCartesianGraphicalItem:{reducer(e,t){var{prev:n,next:r}=t.payload,l=ur(e).cartesianItems.indexOf(n);l>-1&&(e.cartesianItems[l]=r)},prepare:et()},removeCartesianGraphicalItem:{reducer(e,t){var n=ur(e).cartesianItems.indexOf(t.payload);n>-1&&e.cartesianItems.splice(n,1)},prepare:et()},addPolarGraphicalItem:{reducer(e,t){e.polarItems.push(t.payload)},prepare:et()},removePolarGraphicalItem:{reducer(e,t){var n=ur(e).polarItems.indexOf(t.payload);n>-1&&e.polarItems.splice(n,1)},prepare:et()}}}),{addCartesianGraphicalItem:z$,replaceCartesianGraphicalItem:L$,removeCartesianGraphicalItem:B$,addPolarGraphicalItem:PF,removePolarGraphicalItem:RF}=IT.actions,U$=IT.reducer,I$=e=>{var t=zt(),n=g.useRef(null);return g.useLayoutEffect(()=>{n.current===null?t(z$(e)):n.current!==e&&t(L$({prev:n.current,next:e})),n.current=e},[t,e]),g.useLayoutEffect(()=>()=>{n.current&&(t(B$(n.current)),n.current=null)},[t]),null},q$=g.memo(I$),H$=["points"];function ZA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Up(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?ZA(Object(n),!0).forEach(function(r){$$(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):ZA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function $$(e,t,n){return(t=Y$(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Y$(e){var t=K$(e,"string");return typeof t=="symbol"?t:t+""}function K$(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Vf(){return Vf=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Vf.apply(null,arguments)}function G$(e,t){if(e==null)return{};var n,r,l=V$(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function V$(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function X$(e){var{option:t,dotProps:n,className:r}=e;if(g.isValidElement(t))return g.cloneElement(t,n);if(typeof t=="function")return t(n);var l=Ge(r,typeof t!="boolean"?t.className:""),o=n??{},{points:c}=o,f=G$(o,H$);return g.createElement(zT,Vf({},f,{className:l}))}function F$(e,t){return e==null?!1:t?!0:e.length===1}function W$(e){var{points:t,dot:n,className:r,dotClassName:l,dataKey:o,baseProps:c,needClip:f,clipPathId:d,zIndex:h=an.scatter}=e;if(!F$(t,n))return null;var m=BT(n),p=i4(n),x=t.map((A,O)=>{var E,j,_=Up(Up(Up({r:3},c),p),{},{index:O,cx:(E=A.x)!==null&&E!==void 0?E:void 0,cy:(j=A.y)!==null&&j!==void 0?j:void 0,dataKey:o,value:A.value,payload:A.payload,points:t});return g.createElement(X$,{key:"dot-".concat(O),option:n,dotProps:_,className:l})}),w={};return f&&d!=null&&(w.clipPath="url(#clipPath-".concat(m?"":"dots-").concat(d,")")),g.createElement(pa,{zIndex:h},g.createElement(wr,Vf({className:r},w),x))}function QA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function JA(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?QA(Object(n),!0).forEach(function(r){Z$(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):QA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Z$(e,t,n){return(t=Q$(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Q$(e){var t=J$(e,"string");return typeof t=="symbol"?t:t+""}function J$(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var eY={xAxis:{},yAxis:{},zAxis:{}},qT=gn({name:"cartesianAxis",initialState:eY,reducers:{addXAxis:{reducer(e,t){e.xAxis[t.payload.id]=t.payload},prepare:et()},replaceXAxis:{reducer(e,t){var{prev:n,next:r}=t.payload;e.xAxis[n.id]!==void 0&&(n.id!==r.id&&delete e.xAxis[n.id],e.xAxis[r.id]=r)},prepare:et()},removeXAxis:{reducer(e,t){delete e.xAxis[t.payload.id]},prepare:et()},addYAxis:{reducer(e,t){e.yAxis[t.payload.id]=t.payload},prepare:et()},replaceYAxis:{reducer(e,t){var{prev:n,next:r}=t.payload;e.yAxis[n.id]!==void 0&&(n.id!==r.id&&delete e.yAxis[n.id],e.yAxis[r.id]=r)},prepare:et()},removeYAxis:{reducer(e,t){delete e.yAxis[t.payload.id]},prepare:et()},addZAxis:{reducer(e,t){e.zAxis[t.payload.id]=t.payload},prepare:et()},replaceZAxis:{reducer(e,t){var{prev:n,next:r}=t.payload;e.zAxis[n.id]!==void 0&&(n.id!==r.id&&delete e.zAxis[n.id],e.zAxis[r.id]=r)},prepare:et()},removeZAxis:{reducer(e,t){delete e.zAxis[t.payload.id]},prepare:et()},updateYAxisWidth(e,t){var{id:n,width:r}=t.payload,l=e.yAxis[n];if(l){var o=l.widthHistory||[];if(o.length===3&&o[0]===o[2]&&r===o[1]&&r!==l.width&&Math.abs(r-o[0])<=1)return;var c=[...o,r].slice(-3);e.yAxis[n]=JA(JA({},e.yAxis[n]),{},{width:r,widthHistory:c})}}}}),{addXAxis:tY,replaceXAxis:nY,removeXAxis:rY,addYAxis:aY,replaceYAxis:iY,removeYAxis:lY,addZAxis:zF,replaceZAxis:LF,removeZAxis:BF,updateYAxisWidth:oY}=qT.actions,uY=qT.reducer,cY=Y([Zt],e=>({top:e.top,bottom:e.bottom,left:e.left,right:e.right})),sY=Y([cY,sa,fa],(e,t,n)=>{if(!(!e||t==null||n==null))return{x:e.left,y:e.top,width:Math.max(0,t-e.left-e.right),height:Math.max(0,n-e.top-e.bottom)}}),R0=()=>ve(sY),fY=()=>ve(sq);function e2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Ip(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?e2(Object(n),!0).forEach(function(r){dY(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):e2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function dY(e,t,n){return(t=hY(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function hY(e){var t=mY(e,"string");return typeof t=="symbol"?t:t+""}function mY(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var vY=e=>{var{point:t,childIndex:n,mainColor:r,activeDot:l,dataKey:o,clipPath:c}=e;if(l===!1||t.x==null||t.y==null)return null;var f={index:n,dataKey:o,cx:t.x,cy:t.y,r:4,fill:r??"none",strokeWidth:2,stroke:"#fff",payload:t.payload,value:t.value},d=Ip(Ip(Ip({},f),ad(l)),xg(l)),h;return g.isValidElement(l)?h=g.cloneElement(l,d):typeof l=="function"?h=l(d):h=g.createElement(zT,d),g.createElement(wr,{className:"recharts-active-dot",clipPath:c},h)};function t2(e){var{points:t,mainColor:n,activeDot:r,itemDataKey:l,clipPath:o,zIndex:c=an.activeDot}=e,f=ve(Ru),d=fY();if(t==null||d==null)return null;var h=t.find(m=>d.includes(m.payload));return Wt(h)?null:g.createElement(pa,{zIndex:c},g.createElement(vY,{point:h,childIndex:Number(f),mainColor:n,dataKey:l,activeDot:r,clipPath:o}))}var pY={},HT=gn({name:"errorBars",initialState:pY,reducers:{addErrorBar:(e,t)=>{var{itemId:n,errorBar:r}=t.payload;e[n]||(e[n]=[]),e[n].push(r)},replaceErrorBar:(e,t)=>{var{itemId:n,prev:r,next:l}=t.payload;e[n]&&(e[n]=e[n].map(o=>o.dataKey===r.dataKey&&o.direction===r.direction?l:o))},removeErrorBar:(e,t)=>{var{itemId:n,errorBar:r}=t.payload;e[n]&&(e[n]=e[n].filter(l=>l.dataKey!==r.dataKey||l.direction!==r.direction))}}}),{addErrorBar:UF,replaceErrorBar:IF,removeErrorBar:qF}=HT.actions,yY=HT.reducer;function $T(e,t){var n,r,l=ve(h=>ha(h,e)),o=ve(h=>ma(h,t)),c=(n=l?.allowDataOverflow)!==null&&n!==void 0?n:_t.allowDataOverflow,f=(r=o?.allowDataOverflow)!==null&&r!==void 0?r:Tt.allowDataOverflow,d=c||f;return{needClip:d,needClipX:c,needClipY:f}}function gY(e){var{xAxisId:t,yAxisId:n,clipPathId:r}=e,l=R0(),{needClipX:o,needClipY:c,needClip:f}=$T(t,n);if(!f||!l)return null;var{x:d,y:h,width:m,height:p}=l;return g.createElement("clipPath",{id:"clipPath-".concat(r)},g.createElement("rect",{x:o?d:d-m/2,y:c?h:h-p/2,width:o?m:m*2,height:c?p:p*2}))}var qp={exports:{}},Hp={};var n2;function bY(){if(n2)return Hp;n2=1;var e=Xl();function t(d,h){return d===h&&(d!==0||1/d===1/h)||d!==d&&h!==h}var n=typeof Object.is=="function"?Object.is:t,r=e.useSyncExternalStore,l=e.useRef,o=e.useEffect,c=e.useMemo,f=e.useDebugValue;return Hp.useSyncExternalStoreWithSelector=function(d,h,m,p,x){var w=l(null);if(w.current===null){var A={hasValue:!1,value:null};w.current=A}else A=w.current;w=c(function(){function E(T){if(!j){if(j=!0,_=T,T=p(T),x!==void 0&&A.hasValue){var R=A.value;if(x(R,T))return C=R}return C=T}if(R=C,n(_,T))return R;var k=p(T);return x!==void 0&&x(R,k)?(_=T,R):(_=T,C=k)}var j=!1,_,C,D=m===void 0?null:m;return[function(){return E(h())},D===null?void 0:function(){return E(D())}]},[h,m,p,x]);var O=r(d,w[0],w[1]);return o(function(){A.hasValue=!0,A.value=O},[O]),f(O),O},Hp}var r2;function xY(){return r2||(r2=1,qp.exports=bY()),qp.exports}xY();function wY(e){e()}function SY(){let e=null,t=null;return{clear(){e=null,t=null},notify(){wY(()=>{let n=e;for(;n;)n.callback(),n=n.next})},get(){const n=[];let r=e;for(;r;)n.push(r),r=r.next;return n},subscribe(n){let r=!0;const l=t={callback:n,next:null,prev:t};return l.prev?l.prev.next=l:e=l,function(){!r||e===null||(r=!1,l.next?l.next.prev=l.prev:t=l.prev,l.prev?l.prev.next=l.next:e=l.next)}}}}var a2={notify(){},get:()=>[]};function EY(e,t){let n,r=a2,l=0,o=!1;function c(O){m();const E=r.subscribe(O);let j=!1;return()=>{j||(j=!0,E(),p())}}function f(){r.notify()}function d(){A.onStateChange&&A.onStateChange()}function h(){return o}function m(){l++,n||(n=e.subscribe(d),r=SY())}function p(){l--,n&&l===0&&(n(),n=void 0,r.clear(),r=a2)}function x(){o||(o=!0,m())}function w(){o&&(o=!1,p())}const A={addNestedSub:c,notifyNestedSubs:f,handleChangeWrapper:d,isSubscribed:h,trySubscribe:x,tryUnsubscribe:w,getListeners:()=>r};return A}var OY=()=>typeof window<"u"&&typeof window.document<"u"&&typeof window.document.createElement<"u",AY=OY(),jY=()=>typeof navigator<"u"&&navigator.product==="ReactNative",NY=jY(),CY=()=>AY||NY?g.useLayoutEffect:g.useEffect,_Y=CY();function i2(e,t){return e===t?e!==0||t!==0||1/e===1/t:e!==e&&t!==t}function TY(e,t){if(i2(e,t))return!0;if(typeof e!="object"||e===null||typeof t!="object"||t===null)return!1;const n=Object.keys(e),r=Object.keys(t);if(n.length!==r.length)return!1;for(let l=0;l<n.length;l++)if(!Object.prototype.hasOwnProperty.call(t,n[l])||!i2(e[n[l]],t[n[l]]))return!1;return!0}var MY=Symbol.for("react-redux-context"),DY=typeof globalThis<"u"?globalThis:{};function kY(){if(!g.createContext)return{};const e=DY[MY]??=new Map;let t=e.get(g.createContext);return t||(t=g.createContext(null),e.set(g.createContext,t)),t}var PY=kY();function RY(e){const{children:t,context:n,serverState:r,store:l}=e,o=g.useMemo(()=>{const d=EY(l);return{store:l,subscription:d,getServerState:r?()=>r:void 0}},[l,r]),c=g.useMemo(()=>l.getState(),[l]);_Y(()=>{const{subscription:d}=o;return d.onStateChange=d.notifyNestedSubs,d.trySubscribe(),c!==l.getState()&&d.notifyNestedSubs(),()=>{d.tryUnsubscribe(),d.onStateChange=void 0}},[o,c]);const f=n||PY;return g.createElement(f.Provider,{value:o},t)}var zY=RY,LY=new Set(["axisLine","tickLine","activeBar","activeDot","activeLabel","activeShape","allowEscapeViewBox","background","cursor","dot","label","line","margin","padding","position","shape","style","tick","wrapperStyle"]);function BY(e,t){return e==null&&t==null?!0:typeof e=="number"&&typeof t=="number"?e===t||e!==e&&t!==t:e===t}function z0(e,t){var n=new Set([...Object.keys(e),...Object.keys(t)]);for(var r of n)if(LY.has(r)){if(e[r]==null&&t[r]==null)continue;if(!TY(e[r],t[r]))return!1}else if(!BY(e[r],t[r]))return!1;return!0}var UY=e=>{var{chartData:t}=e,n=zt(),r=bn();return g.useEffect(()=>r?()=>{}:(n(TA(t)),()=>{n(TA(void 0))}),[t,n,r]),null},l2={x:0,y:0,width:0,height:0,padding:{top:0,right:0,bottom:0,left:0}},YT=gn({name:"brush",initialState:l2,reducers:{setBrushSettings(e,t){return t.payload==null?l2:t.payload}}}),{setBrushSettings:HF}=YT.actions,IY=YT.reducer;function qY(e,t,n){return(t=HY(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function HY(e){var t=$Y(e,"string");return typeof t=="symbol"?t:t+""}function $Y(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}class L0{static create(t){return new L0(t)}constructor(t){this.scale=t}get domain(){return this.scale.domain}get range(){return this.scale.range}get rangeMin(){return this.range()[0]}get rangeMax(){return this.range()[1]}get bandwidth(){return this.scale.bandwidth}apply(t){var{bandAware:n,position:r}=arguments.length>1&&arguments[1]!==void 0?arguments[1]:{};if(t!==void 0){if(r)switch(r){case"start":return this.scale(t);case"middle":{var l=this.bandwidth?this.bandwidth()/2:0;return this.scale(t)+l}case"end":{var o=this.bandwidth?this.bandwidth():0;return this.scale(t)+o}default:return this.scale(t)}if(n){var c=this.bandwidth?this.bandwidth()/2:0;return this.scale(t)+c}return this.scale(t)}}isInRange(t){var n=this.range(),r=n[0],l=n[n.length-1];return r<=l?t>=r&&t<=l:t>=l&&t<=r}}qY(L0,"EPS",1e-4);function YY(e){return(e%180+180)%180}var KY=function(t){var{width:n,height:r}=t,l=arguments.length>1&&arguments[1]!==void 0?arguments[1]:0,o=YY(l),c=o*Math.PI/180,f=Math.atan(r/n),d=c>f&&c<Math.PI-f?r/Math.sin(c):n/Math.cos(c);return Math.abs(d)},GY={dots:[],areas:[],lines:[]},KT=gn({name:"referenceElements",initialState:GY,reducers:{addDot:(e,t)=>{e.dots.push(t.payload)},removeDot:(e,t)=>{var n=ur(e).dots.findIndex(r=>r===t.payload);n!==-1&&e.dots.splice(n,1)},addArea:(e,t)=>{e.areas.push(t.payload)},removeArea:(e,t)=>{var n=ur(e).areas.findIndex(r=>r===t.payload);n!==-1&&e.areas.splice(n,1)},addLine:(e,t)=>{e.lines.push(t.payload)},removeLine:(e,t)=>{var n=ur(e).lines.findIndex(r=>r===t.payload);n!==-1&&e.lines.splice(n,1)}}}),{addDot:$F,removeDot:YF,addArea:KF,removeArea:GF,addLine:VF,removeLine:XF}=KT.actions,VY=KT.reducer,XY=g.createContext(void 0),FY=e=>{var{children:t}=e,[n]=g.useState("".concat(Su("recharts"),"-clip")),r=R0();if(r==null)return null;var{x:l,y:o,width:c,height:f}=r;return g.createElement(XY.Provider,{value:n},g.createElement("defs",null,g.createElement("clipPath",{id:n},g.createElement("rect",{x:l,y:o,height:f,width:c}))),t)};function GT(e,t){if(t<1)return[];if(t===1)return e;for(var n=[],r=0;r<e.length;r+=t)n.push(e[r]);return n}function WY(e,t,n){var r={width:e.width+t.width,height:e.height+t.height};return KY(r,n)}function ZY(e,t,n){var r=n==="width",{x:l,y:o,width:c,height:f}=e;return t===1?{start:r?l:o,end:r?l+c:o+f}:{start:r?l+c:o+f,end:r?l:o}}function Xf(e,t,n,r,l){if(e*t<e*r||e*t>e*l)return!1;var o=n();return e*(t-e*o/2-r)>=0&&e*(t+e*o/2-l)<=0}function QY(e,t){return GT(e,t+1)}function JY(e,t,n,r,l){for(var o=(r||[]).slice(),{start:c,end:f}=t,d=0,h=1,m=c,p=function(){var A=r?.[d];if(A===void 0)return{v:GT(r,h)};var O=d,E,j=()=>(E===void 0&&(E=n(A,O)),E),_=A.coordinate,C=d===0||Xf(e,_,j,m,f);C||(d=0,m=c,h+=1),C&&(m=_+e*(j()/2+l),d+=h)},x;h<=o.length;)if(x=p(),x)return x.v;return[]}function o2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Jt(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?o2(Object(n),!0).forEach(function(r){eK(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):o2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function eK(e,t,n){return(t=tK(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function tK(e){var t=nK(e,"string");return typeof t=="symbol"?t:t+""}function nK(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function rK(e,t,n,r,l){for(var o=(r||[]).slice(),c=o.length,{start:f}=t,{end:d}=t,h=function(x){var w=o[x],A,O=()=>(A===void 0&&(A=n(w,x)),A);if(x===c-1){var E=e*(w.coordinate+e*O()/2-d);o[x]=w=Jt(Jt({},w),{},{tickCoord:E>0?w.coordinate-E*e:w.coordinate})}else o[x]=w=Jt(Jt({},w),{},{tickCoord:w.coordinate});if(w.tickCoord!=null){var j=Xf(e,w.tickCoord,O,f,d);j&&(d=w.tickCoord-e*(O()/2+l),o[x]=Jt(Jt({},w),{},{isShow:!0}))}},m=c-1;m>=0;m--)h(m);return o}function aK(e,t,n,r,l,o){var c=(r||[]).slice(),f=c.length,{start:d,end:h}=t;if(o){var m=r[f-1],p=n(m,f-1),x=e*(m.coordinate+e*p/2-h);if(c[f-1]=m=Jt(Jt({},m),{},{tickCoord:x>0?m.coordinate-x*e:m.coordinate}),m.tickCoord!=null){var w=Xf(e,m.tickCoord,()=>p,d,h);w&&(h=m.tickCoord-e*(p/2+l),c[f-1]=Jt(Jt({},m),{},{isShow:!0}))}}for(var A=o?f-1:f,O=function(_){var C=c[_],D,T=()=>(D===void 0&&(D=n(C,_)),D);if(_===0){var R=e*(C.coordinate-e*T()/2-d);c[_]=C=Jt(Jt({},C),{},{tickCoord:R<0?C.coordinate-R*e:C.coordinate})}else c[_]=C=Jt(Jt({},C),{},{tickCoord:C.coordinate});if(C.tickCoord!=null){var k=Xf(e,C.tickCoord,T,d,h);k&&(d=C.tickCoord+e*(T()/2+l),c[_]=Jt(Jt({},C),{},{isShow:!0}))}},E=0;E<A;E++)O(E);return c}function B0(e,t,n){var{tick:r,ticks:l,viewBox:o,minTickGap:c,orientation:f,interval:d,tickFormatter:h,unit:m,angle:p}=e;if(!l||!l.length||!r)return[];if(de(d)||ro.isSsr){var x;return(x=QY(l,de(d)?d:0))!==null&&x!==void 0?x:[]}var w=[],A=f==="top"||f==="bottom"?"width":"height",O=m&&A==="width"?xu(m,{fontSize:t,letterSpacing:n}):{width:0,height:0},E=(C,D)=>{var T=typeof h=="function"?h(C.value,D):C.value;return A==="width"?WY(xu(T,{fontSize:t,letterSpacing:n}),O,p):xu(T,{fontSize:t,letterSpacing:n})[A]},j=l.length>=2?Vn(l[1].coordinate-l[0].coordinate):1,_=ZY(o,j,A);return d==="equidistantPreserveStart"?JY(j,_,E,l,c):(d==="preserveStart"||d==="preserveStartEnd"?w=aK(j,_,E,l,c,d==="preserveStartEnd"):w=rK(j,_,E,l,c),w.filter(C=>C.isShow))}var iK=e=>{var{ticks:t,label:n,labelGapWithTick:r=5,tickSize:l=0,tickMargin:o=0}=e,c=0;if(t){Array.from(t).forEach(m=>{if(m){var p=m.getBoundingClientRect();p.width>c&&(c=p.width)}});var f=n?n.getBoundingClientRect().width:0,d=l+o,h=c+d+f+(n?r:0);return Math.round(h)}return 0},lK=["axisLine","width","height","className","hide","ticks","axisType"];function oK(e,t){if(e==null)return{};var n,r,l=uK(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function uK(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function Pi(){return Pi=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Pi.apply(null,arguments)}function u2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function pt(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?u2(Object(n),!0).forEach(function(r){cK(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):u2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function cK(e,t,n){return(t=sK(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function sK(e){var t=fK(e,"string");return typeof t=="symbol"?t:t+""}function fK(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Jr={x:0,y:0,width:0,height:0,viewBox:{x:0,y:0,width:0,height:0},orientation:"bottom",ticks:[],stroke:"#666",tickLine:!0,axisLine:!0,tick:!0,mirror:!1,minTickGap:5,tickSize:6,tickMargin:2,interval:"preserveEnd",zIndex:an.axis};function dK(e){var{x:t,y:n,width:r,height:l,orientation:o,mirror:c,axisLine:f,otherSvgProps:d}=e;if(!f)return null;var h=pt(pt(pt({},d),cr(f)),{},{fill:"none"});if(o==="top"||o==="bottom"){var m=+(o==="top"&&!c||o==="bottom"&&c);h=pt(pt({},h),{},{x1:t,y1:n+m*l,x2:t+r,y2:n+m*l})}else{var p=+(o==="left"&&!c||o==="right"&&c);h=pt(pt({},h),{},{x1:t+p*r,y1:n,x2:t+p*r,y2:n+l})}return g.createElement("line",Pi({},h,{className:Ge("recharts-cartesian-axis-line",od(f,"className"))}))}function hK(e,t,n,r,l,o,c,f,d){var h,m,p,x,w,A,O=f?-1:1,E=e.tickSize||c,j=de(e.tickCoord)?e.tickCoord:e.coordinate;switch(o){case"top":h=m=e.coordinate,x=n+ +!f*l,p=x-O*E,A=p-O*d,w=j;break;case"left":p=x=e.coordinate,m=t+ +!f*r,h=m-O*E,w=h-O*d,A=j;break;case"right":p=x=e.coordinate,m=t+ +f*r,h=m+O*E,w=h+O*d,A=j;break;default:h=m=e.coordinate,x=n+ +f*l,p=x+O*E,A=p+O*d,w=j;break}return{line:{x1:h,y1:p,x2:m,y2:x},tick:{x:w,y:A}}}function mK(e,t){switch(e){case"left":return t?"start":"end";case"right":return t?"end":"start";default:return"middle"}}function vK(e,t){switch(e){case"left":case"right":return"middle";case"top":return t?"start":"end";default:return t?"end":"start"}}function pK(e){var{option:t,tickProps:n,value:r}=e,l,o=Ge(n.className,"recharts-cartesian-axis-tick-value");if(g.isValidElement(t))l=g.cloneElement(t,pt(pt({},n),{},{className:o}));else if(typeof t=="function")l=t(pt(pt({},n),{},{className:o}));else{var c="recharts-cartesian-axis-tick-value";typeof t!="boolean"&&(c=Ge(c,t?.className)),l=g.createElement(k0,Pi({},n,{className:c}),r)}return l}var yK=g.forwardRef((e,t)=>{var{ticks:n=[],tick:r,tickLine:l,stroke:o,tickFormatter:c,unit:f,padding:d,tickTextProps:h,orientation:m,mirror:p,x,y:w,width:A,height:O,tickSize:E,tickMargin:j,fontSize:_,letterSpacing:C,getTicksConfig:D,events:T,axisType:R}=e,k=B0(pt(pt({},D),{},{ticks:n}),_,C),I=mK(m,p),re=vK(m,p),ae=cr(D),W=ad(r),J={};typeof l=="object"&&(J=l);var pe=pt(pt({},ae),{},{fill:"none"},J),ge=k.map(Q=>pt({entry:Q},hK(Q,x,w,A,O,m,E,p,j))),xe=ge.map(Q=>{var{entry:X,line:le}=Q;return g.createElement(wr,{className:"recharts-cartesian-axis-tick",key:"tick-".concat(X.value,"-").concat(X.coordinate,"-").concat(X.tickCoord)},l&&g.createElement("line",Pi({},pe,le,{className:Ge("recharts-cartesian-axis-tick-line",od(l,"className"))})))}),q=ge.map((Q,X)=>{var{entry:le,tick:Oe}=Q,P=pt(pt(pt(pt({textAnchor:I,verticalAnchor:re},ae),{},{stroke:"none",fill:o},W),Oe),{},{index:X,payload:le,visibleTicksCount:k.length,tickFormatter:c,padding:d},h);return g.createElement(wr,Pi({className:"recharts-cartesian-axis-tick-label",key:"tick-label-".concat(le.value,"-").concat(le.coordinate,"-").concat(le.tickCoord)},q4(T,le,X)),r&&g.createElement(pK,{option:r,tickProps:P,value:"".concat(typeof c=="function"?c(le.value,X):le.value).concat(f||"")}))});return g.createElement("g",{className:"recharts-cartesian-axis-ticks recharts-".concat(R,"-ticks")},q.length>0&&g.createElement(pa,{zIndex:an.label},g.createElement("g",{className:"recharts-cartesian-axis-tick-labels recharts-".concat(R,"-tick-labels"),ref:t},q)),xe.length>0&&g.createElement("g",{className:"recharts-cartesian-axis-tick-lines recharts-".concat(R,"-tick-lines")},xe))}),gK=g.forwardRef((e,t)=>{var{axisLine:n,width:r,height:l,className:o,hide:c,ticks:f,axisType:d}=e,h=oK(e,lK),[m,p]=g.useState(""),[x,w]=g.useState(""),A=g.useRef(null);g.useImperativeHandle(t,()=>({getCalculatedWidth:()=>{var E;return iK({ticks:A.current,label:(E=e.labelRef)===null||E===void 0?void 0:E.current,labelGapWithTick:5,tickSize:e.tickSize,tickMargin:e.tickMargin})}}));var O=g.useCallback(E=>{if(E){var j=E.getElementsByClassName("recharts-cartesian-axis-tick-value");A.current=j;var _=j[0];if(_){var C=window.getComputedStyle(_),D=C.fontSize,T=C.letterSpacing;(D!==m||T!==x)&&(p(D),w(T))}}},[m,x]);return c||r!=null&&r<=0||l!=null&&l<=0?null:g.createElement(pa,{zIndex:e.zIndex},g.createElement(wr,{className:Ge("recharts-cartesian-axis",o)},g.createElement(dK,{x:e.x,y:e.y,width:r,height:l,orientation:e.orientation,mirror:e.mirror,axisLine:n,otherSvgProps:cr(e)}),g.createElement(yK,{ref:O,axisType:d,events:h,fontSize:m,getTicksConfig:e,height:e.height,letterSpacing:x,mirror:e.mirror,orientation:e.orientation,padding:e.padding,stroke:e.stroke,tick:e.tick,tickFormatter:e.tickFormatter,tickLine:e.tickLine,tickMargin:e.tickMargin,tickSize:e.tickSize,tickTextProps:e.tickTextProps,ticks:f,unit:e.unit,width:e.width,x:e.x,y:e.y}),g.createElement(n$,{x:e.x,y:e.y,width:e.width,height:e.height,lowerWidth:e.width,upperWidth:e.width},g.createElement(d$,{label:e.label,labelRef:e.labelRef}),e.children)))}),U0=g.forwardRef((e,t)=>{var n=Rn(e,Jr);return g.createElement(gK,Pi({},n,{ref:t}))});U0.displayName="CartesianAxis";var bK=["x1","y1","x2","y2","key"],xK=["offset"],wK=["xAxisId","yAxisId"],SK=["xAxisId","yAxisId"];function c2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function en(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?c2(Object(n),!0).forEach(function(r){EK(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):c2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function EK(e,t,n){return(t=OK(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function OK(e){var t=AK(e,"string");return typeof t=="symbol"?t:t+""}function AK(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Ai(){return Ai=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Ai.apply(null,arguments)}function Ff(e,t){if(e==null)return{};var n,r,l=jK(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function jK(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var NK=e=>{var{fill:t}=e;if(!t||t==="none")return null;var{fillOpacity:n,x:r,y:l,width:o,height:c,ry:f}=e;return g.createElement("rect",{x:r,y:l,ry:f,width:o,height:c,stroke:"none",fill:t,fillOpacity:n,className:"recharts-cartesian-grid-bg"})};function VT(e){var{option:t,lineItemProps:n}=e,r;if(g.isValidElement(t))r=g.cloneElement(t,n);else if(typeof t=="function")r=t(n);else{var l,{x1:o,y1:c,x2:f,y2:d,key:h}=n,m=Ff(n,bK),p=(l=cr(m))!==null&&l!==void 0?l:{},{offset:x}=p,w=Ff(p,xK);r=g.createElement("line",Ai({},w,{x1:o,y1:c,x2:f,y2:d,fill:"none",key:h}))}return r}function CK(e){var{x:t,width:n,horizontal:r=!0,horizontalPoints:l}=e;if(!r||!l||!l.length)return null;var{xAxisId:o,yAxisId:c}=e,f=Ff(e,wK),d=l.map((h,m)=>{var p=en(en({},f),{},{x1:t,y1:h,x2:t+n,y2:h,key:"line-".concat(m),index:m});return g.createElement(VT,{key:"line-".concat(m),option:r,lineItemProps:p})});return g.createElement("g",{className:"recharts-cartesian-grid-horizontal"},d)}function _K(e){var{y:t,height:n,vertical:r=!0,verticalPoints:l}=e;if(!r||!l||!l.length)return null;var{xAxisId:o,yAxisId:c}=e,f=Ff(e,SK),d=l.map((h,m)=>{var p=en(en({},f),{},{x1:h,y1:t,x2:h,y2:t+n,key:"line-".concat(m),index:m});return g.createElement(VT,{option:r,lineItemProps:p,key:"line-".concat(m)})});return g.createElement("g",{className:"recharts-cartesian-grid-vertical"},d)}function TK(e){var{horizontalFill:t,fillOpacity:n,x:r,y:l,width:o,height:c,horizontalPoints:f,horizontal:d=!0}=e;if(!d||!t||!t.length||f==null)return null;var h=f.map(p=>Math.round(p+l-l)).sort((p,x)=>p-x);l!==h[0]&&h.unshift(0);var m=h.map((p,x)=>{var w=!h[x+1],A=w?l+c-p:h[x+1]-p;if(A<=0)return null;var O=x%t.length;return g.createElement("rect",{key:"react-".concat(x),y:p,x:r,height:A,width:o,stroke:"none",fill:t[O],fillOpacity:n,className:"recharts-cartesian-grid-bg"})});return g.createElement("g",{className:"recharts-cartesian-gridstripes-horizontal"},m)}function MK(e){var{vertical:t=!0,verticalFill:n,fillOpacity:r,x:l,y:o,width:c,height:f,verticalPoints:d}=e;if(!t||!n||!n.length)return null;var h=d.map(p=>Math.round(p+l-l)).sort((p,x)=>p-x);l!==h[0]&&h.unshift(0);var m=h.map((p,x)=>{var w=!h[x+1],A=w?l+c-p:h[x+1]-p;if(A<=0)return null;var O=x%n.length;return g.createElement("rect",{key:"react-".concat(x),x:p,y:o,width:A,height:f,stroke:"none",fill:n[O],fillOpacity:r,className:"recharts-cartesian-grid-bg"})});return g.createElement("g",{className:"recharts-cartesian-gridstripes-vertical"},m)}var DK=(e,t)=>{var{xAxis:n,width:r,height:l,offset:o}=e;return RN(B0(en(en(en({},Jr),n),{},{ticks:zN(n),viewBox:{x:0,y:0,width:r,height:l}})),o.left,o.left+o.width,t)},kK=(e,t)=>{var{yAxis:n,width:r,height:l,offset:o}=e;return RN(B0(en(en(en({},Jr),n),{},{ticks:zN(n),viewBox:{x:0,y:0,width:r,height:l}})),o.top,o.top+o.height,t)},PK={horizontal:!0,vertical:!0,horizontalPoints:[],verticalPoints:[],stroke:"#ccc",fill:"none",verticalFill:[],horizontalFill:[],xAxisId:0,yAxisId:0,syncWithTicks:!1,zIndex:an.grid};function I0(e){var t=GN(),n=VN(),r=KN(),l=en(en({},Rn(e,PK)),{},{x:de(e.x)?e.x:r.left,y:de(e.y)?e.y:r.top,width:de(e.width)?e.width:r.width,height:de(e.height)?e.height:r.height}),{xAxisId:o,yAxisId:c,x:f,y:d,width:h,height:m,syncWithTicks:p,horizontalValues:x,verticalValues:w}=l,A=bn(),O=ve(re=>gA(re,"xAxis",o,A)),E=ve(re=>gA(re,"yAxis",c,A));if(!Er(h)||!Er(m)||!de(f)||!de(d))return null;var j=l.verticalCoordinatesGenerator||DK,_=l.horizontalCoordinatesGenerator||kK,{horizontalPoints:C,verticalPoints:D}=l;if((!C||!C.length)&&typeof _=="function"){var T=x&&x.length,R=_({yAxis:E?en(en({},E),{},{ticks:T?x:E.ticks}):void 0,width:t??h,height:n??m,offset:r},T?!0:p);Of(Array.isArray(R),"horizontalCoordinatesGenerator should return Array but instead it returned [".concat(typeof R,"]")),Array.isArray(R)&&(C=R)}if((!D||!D.length)&&typeof j=="function"){var k=w&&w.length,I=j({xAxis:O?en(en({},O),{},{ticks:k?w:O.ticks}):void 0,width:t??h,height:n??m,offset:r},k?!0:p);Of(Array.isArray(I),"verticalCoordinatesGenerator should return Array but instead it returned [".concat(typeof I,"]")),Array.isArray(I)&&(D=I)}return g.createElement(pa,{zIndex:l.zIndex},g.createElement("g",{className:"recharts-cartesian-grid"},g.createElement(NK,{fill:l.fill,fillOpacity:l.fillOpacity,x:l.x,y:l.y,width:l.width,height:l.height,ry:l.ry}),g.createElement(TK,Ai({},l,{horizontalPoints:C})),g.createElement(MK,Ai({},l,{verticalPoints:D})),g.createElement(CK,Ai({},l,{offset:r,horizontalPoints:C,xAxis:O,yAxis:E})),g.createElement(_K,Ai({},l,{offset:r,verticalPoints:D,xAxis:O,yAxis:E}))))}I0.displayName="CartesianGrid";function RK(e){var t=ad(e),n=3,r=2;if(t!=null){var{r:l,strokeWidth:o}=t,c=Number(l),f=Number(o);return(Number.isNaN(c)||c<0)&&(c=n),(Number.isNaN(f)||f<0)&&(f=r),{r:c,strokeWidth:f}}return{r:n,strokeWidth:r}}var XT=(e,t,n,r)=>X_(e,"xAxis",t,r),FT=(e,t,n,r)=>V_(e,"xAxis",t,r),WT=(e,t,n,r)=>X_(e,"yAxis",n,r),ZT=(e,t,n,r)=>V_(e,"yAxis",n,r),zK=Y([Xe,XT,WT,FT,ZT],(e,t,n,r,l)=>ca(e,"xAxis")?Ef(t,r,!1):Ef(n,l,!1)),LK=(e,t,n,r,l)=>l,QT=Y([p_,LK],(e,t)=>e.filter(n=>n.type==="area").find(n=>n.id===t)),BK=(e,t,n,r,l)=>{var o,c=QT(e,t,n,r,l);if(c!=null){var f=Xe(e),d=ca(f,"xAxis"),h;if(d?h=Iy(e,"yAxis",n,r):h=Iy(e,"xAxis",t,r),h!=null){var{stackId:m}=c,p=d0(c);if(!(m==null||p==null)){var x=(o=h[m])===null||o===void 0?void 0:o.stackedData;return x?.find(w=>w.key===p)}}}},UK=Y([Xe,XT,WT,FT,ZT,BK,r0,zK,QT,o9],(e,t,n,r,l,o,c,f,d,h)=>{var{chartData:m,dataStartIndex:p,dataEndIndex:x}=c;if(!(d==null||e!=="horizontal"&&e!=="vertical"||t==null||n==null||r==null||l==null||r.length===0||l.length===0||f==null)){var{data:w}=d,A;if(w&&w.length>0?A=w:A=m?.slice(p,x+1),A!=null)return aG({layout:e,xAxis:t,yAxis:n,xAxisTicks:r,yAxisTicks:l,dataStartIndex:p,areaSettings:d,stackedData:o,displayedData:A,chartBaseValue:h,bandSize:f})}}),IK=["id"],qK=["activeDot","animationBegin","animationDuration","animationEasing","connectNulls","dot","fill","fillOpacity","hide","isAnimationActive","legendType","stroke","xAxisId","yAxisId"];function Ti(){return Ti=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Ti.apply(null,arguments)}function JT(e,t){if(e==null)return{};var n,r,l=HK(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function HK(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function s2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Pl(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?s2(Object(n),!0).forEach(function(r){$K(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):s2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function $K(e,t,n){return(t=YK(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function YK(e){var t=KK(e,"string");return typeof t=="symbol"?t:t+""}function KK(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Wf(e,t){return e&&e!=="none"?e:t}var GK=e=>{var{dataKey:t,name:n,stroke:r,fill:l,legendType:o,hide:c}=e;return[{inactive:c,dataKey:t,type:o,color:Wf(r,l),value:LN(n,t),payload:e}]},VK=g.memo(e=>{var{dataKey:t,data:n,stroke:r,strokeWidth:l,fill:o,name:c,hide:f,unit:d,tooltipType:h}=e,m={dataDefinedOnItem:n,positions:void 0,settings:{stroke:r,strokeWidth:l,fill:o,dataKey:t,nameKey:void 0,name:LN(c,t),hide:f,type:h,color:Wf(r,o),unit:d}};return g.createElement(_$,{tooltipEntrySettings:m})});function XK(e){var{clipPathId:t,points:n,props:r}=e,{needClip:l,dot:o,dataKey:c}=r,f=cr(r);return g.createElement(W$,{points:n,dot:o,className:"recharts-area-dots",dotClassName:"recharts-area-dot",dataKey:c,baseProps:f,needClip:l,clipPathId:t})}function FK(e){var{showLabels:t,children:n,points:r}=e,l=r.map(o=>{var c,f,d={x:(c=o.x)!==null&&c!==void 0?c:0,y:(f=o.y)!==null&&f!==void 0?f:0,width:0,lowerWidth:0,upperWidth:0,height:0};return Pl(Pl({},d),{},{value:o.value,payload:o.payload,parentViewBox:void 0,viewBox:d,fill:void 0})});return g.createElement(E$,{value:t?l:void 0},n)}function f2(e){var{points:t,baseLine:n,needClip:r,clipPathId:l,props:o}=e,{layout:c,type:f,stroke:d,connectNulls:h,isRange:m}=o,{id:p}=o,x=JT(o,IK),w=cr(x),A=Wn(x);return g.createElement(g.Fragment,null,t?.length>1&&g.createElement(wr,{clipPath:r?"url(#clipPath-".concat(l,")"):void 0},g.createElement(nf,Ti({},A,{id:p,points:t,connectNulls:h,type:f,baseLine:n,layout:c,stroke:"none",className:"recharts-area-area"})),d!=="none"&&g.createElement(nf,Ti({},w,{className:"recharts-area-curve",layout:c,type:f,connectNulls:h,fill:"none",points:t})),d!=="none"&&m&&g.createElement(nf,Ti({},w,{className:"recharts-area-curve",layout:c,type:f,connectNulls:h,fill:"none",points:n}))),g.createElement(XK,{points:t,props:x,clipPathId:l}))}function WK(e){var{alpha:t,baseLine:n,points:r,strokeWidth:l}=e,o=r[0].y,c=r[r.length-1].y;if(!ot(o)||!ot(c))return null;var f=t*Math.abs(o-c),d=Math.max(...r.map(h=>h.x||0));return de(n)?d=Math.max(n,d):n&&Array.isArray(n)&&n.length&&(d=Math.max(...n.map(h=>h.x||0),d)),de(d)?g.createElement("rect",{x:0,y:o<c?o:o-f,width:d+(l?parseInt("".concat(l),10):1),height:Math.floor(f)}):null}function ZK(e){var{alpha:t,baseLine:n,points:r,strokeWidth:l}=e,o=r[0].x,c=r[r.length-1].x;if(!ot(o)||!ot(c))return null;var f=t*Math.abs(o-c),d=Math.max(...r.map(h=>h.y||0));return de(n)?d=Math.max(n,d):n&&Array.isArray(n)&&n.length&&(d=Math.max(...n.map(h=>h.y||0),d)),de(d)?g.createElement("rect",{x:o<c?o:o-f,y:0,width:f,height:Math.floor(d+(l?parseInt("".concat(l),10):1))}):null}function QK(e){var{alpha:t,layout:n,points:r,baseLine:l,strokeWidth:o}=e;return n==="vertical"?g.createElement(WK,{alpha:t,points:r,baseLine:l,strokeWidth:o}):g.createElement(ZK,{alpha:t,points:r,baseLine:l,strokeWidth:o})}function JK(e){var{needClip:t,clipPathId:n,props:r,previousPointsRef:l,previousBaselineRef:o}=e,{points:c,baseLine:f,isAnimationActive:d,animationBegin:h,animationDuration:m,animationEasing:p,onAnimationStart:x,onAnimationEnd:w}=r,A=g.useMemo(()=>({points:c,baseLine:f}),[c,f]),O=lC(A,"recharts-area-"),E=D6(),[j,_]=g.useState(!1),C=!j,D=g.useCallback(()=>{typeof w=="function"&&w(),_(!1)},[w]),T=g.useCallback(()=>{typeof x=="function"&&x(),_(!0)},[x]);if(E==null)return null;var R=l.current,k=o.current;return g.createElement(FK,{showLabels:C,points:c},r.children,g.createElement(iC,{animationId:O,begin:h,duration:m,isActive:d,easing:p,onAnimationEnd:D,onAnimationStart:T,key:O},I=>{if(R){var re=R.length/c.length,ae=I===1?c:c.map((J,pe)=>{var ge=Math.floor(pe*re);if(R[ge]){var xe=R[ge];return Pl(Pl({},J),{},{x:yr(xe.x,J.x,I),y:yr(xe.y,J.y,I)})}return J}),W;return de(f)?W=yr(k,f,I):Wt(f)||sr(f)?W=yr(k,0,I):W=f.map((J,pe)=>{var ge=Math.floor(pe*re);if(Array.isArray(k)&&k[ge]){var xe=k[ge];return Pl(Pl({},J),{},{x:yr(xe.x,J.x,I),y:yr(xe.y,J.y,I)})}return J}),I>0&&(l.current=ae,o.current=W),g.createElement(f2,{points:ae,baseLine:W,needClip:t,clipPathId:n,props:r})}return I>0&&(l.current=c,o.current=f),g.createElement(wr,null,d&&g.createElement("defs",null,g.createElement("clipPath",{id:"animationClipPath-".concat(n)},g.createElement(QK,{alpha:I,points:c,baseLine:f,layout:E,strokeWidth:r.strokeWidth}))),g.createElement(wr,{clipPath:"url(#animationClipPath-".concat(n,")")},g.createElement(f2,{points:c,baseLine:f,needClip:t,clipPathId:n,props:r})))}),g.createElement(j$,{label:r.label}))}function eG(e){var{needClip:t,clipPathId:n,props:r}=e,l=g.useRef(null),o=g.useRef();return g.createElement(JK,{needClip:t,clipPathId:n,props:r,previousPointsRef:l,previousBaselineRef:o})}class tG extends g.PureComponent{render(){var{hide:t,dot:n,points:r,className:l,top:o,left:c,needClip:f,xAxisId:d,yAxisId:h,width:m,height:p,id:x,baseLine:w,zIndex:A}=this.props;if(t)return null;var O=Ge("recharts-area",l),E=x,{r:j,strokeWidth:_}=RK(n),C=BT(n),D=j*2+_,T=f?"url(#clipPath-".concat(C?"":"dots-").concat(E,")"):void 0;return g.createElement(pa,{zIndex:A},g.createElement(wr,{className:O},f&&g.createElement("defs",null,g.createElement(gY,{clipPathId:E,xAxisId:d,yAxisId:h}),!C&&g.createElement("clipPath",{id:"clipPath-dots-".concat(E)},g.createElement("rect",{x:c-D/2,y:o-D/2,width:m+D,height:p+D}))),g.createElement(eG,{needClip:f,clipPathId:E,props:this.props})),g.createElement(t2,{points:r,mainColor:Wf(this.props.stroke,this.props.fill),itemDataKey:this.props.dataKey,activeDot:this.props.activeDot,clipPath:T}),this.props.isRange&&Array.isArray(w)&&g.createElement(t2,{points:w,mainColor:Wf(this.props.stroke,this.props.fill),itemDataKey:this.props.dataKey,activeDot:this.props.activeDot,clipPath:T}))}}var eM={activeDot:!0,animationBegin:0,animationDuration:1500,animationEasing:"ease",connectNulls:!1,dot:!1,fill:"#3182bd",fillOpacity:.6,hide:!1,isAnimationActive:"auto",legendType:"line",stroke:"#3182bd",strokeWidth:1,type:"linear",label:!1,xAxisId:0,yAxisId:0,zIndex:an.area};function nG(e){var t,n=Rn(e,eM),{activeDot:r,animationBegin:l,animationDuration:o,animationEasing:c,connectNulls:f,dot:d,fill:h,fillOpacity:m,hide:p,isAnimationActive:x,legendType:w,stroke:A,xAxisId:O,yAxisId:E}=n,j=JT(n,qK),_=Vu(),C=vT(),{needClip:D}=$T(O,E),T=bn(),{points:R,isRange:k,baseLine:I}=(t=ve(ge=>UK(ge,O,E,T,e.id)))!==null&&t!==void 0?t:{},re=R0();if(_!=="horizontal"&&_!=="vertical"||re==null||C!=="AreaChart"&&C!=="ComposedChart")return null;var{height:ae,width:W,x:J,y:pe}=re;return!R||!R.length?null:g.createElement(tG,Ti({},j,{activeDot:r,animationBegin:l,animationDuration:o,animationEasing:c,baseLine:I,connectNulls:f,dot:d,fill:h,fillOpacity:m,height:ae,hide:p,layout:_,isAnimationActive:x==="auto"?!ro.isSsr:x,isRange:k,legendType:w,needClip:D,points:R,stroke:A,width:W,left:J,top:pe,xAxisId:O,yAxisId:E}))}var rG=(e,t,n,r,l)=>{var o=n??t;if(de(o))return o;var c=e==="horizontal"?l:r,f=c.scale.domain();if(c.type==="number"){var d=Math.max(f[0],f[1]),h=Math.min(f[0],f[1]);return o==="dataMin"?h:o==="dataMax"||d<0?d:Math.max(Math.min(f[0],f[1]),0)}return o==="dataMin"?f[0]:o==="dataMax"?f[1]:f[0]};function aG(e){var{areaSettings:{connectNulls:t,baseValue:n,dataKey:r},stackedData:l,layout:o,chartBaseValue:c,xAxis:f,yAxis:d,displayedData:h,dataStartIndex:m,xAxisTicks:p,yAxisTicks:x,bandSize:w}=e,A=l&&l.length,O=rG(o,c,n,f,d),E=o==="horizontal",j=!1,_=h.map((D,T)=>{var R;A?R=l[m+T]:(R=tn(D,r),Array.isArray(R)?j=!0:R=[O,R]);var k=R[1]==null||A&&!t&&tn(D,r)==null;return E?{x:qE({axis:f,ticks:p,bandSize:w,entry:D,index:T}),y:k?null:d.scale(R[1]),value:R,payload:D}:{x:k?null:f.scale(R[1]),y:qE({axis:d,ticks:x,bandSize:w,entry:D,index:T}),value:R,payload:D}}),C;return A||j?C=_.map(D=>{var T=Array.isArray(D.value)?D.value[0]:null;return E?{x:D.x,y:T!=null&&D.y!=null?d.scale(T):null,payload:D.payload}:{x:T!=null?f.scale(T):null,y:D.y,payload:D.payload}}):C=E?d.scale(O):f.scale(O),{points:_,baseLine:C,isRange:j}}function iG(e){var t=Rn(e,eM),n=bn();return g.createElement(P$,{id:t.id,type:"area"},r=>g.createElement(g.Fragment,null,g.createElement(T$,{legendPayload:GK(t)}),g.createElement(VK,{dataKey:t.dataKey,data:t.data,stroke:t.stroke,strokeWidth:t.strokeWidth,fill:t.fill,name:t.name,hide:t.hide,unit:t.unit,tooltipType:t.tooltipType}),g.createElement(q$,{type:"area",id:r,data:t.data,dataKey:t.dataKey,xAxisId:t.xAxisId,yAxisId:t.yAxisId,zAxisId:0,stackId:FL(t.stackId),hide:t.hide,barSize:void 0,baseValue:t.baseValue,isPanorama:n,connectNulls:t.connectNulls}),g.createElement(nG,Ti({},t,{id:r}))))}var q0=g.memo(iG,z0);q0.displayName="Area";var lG=["domain","range"],oG=["domain","range"];function d2(e,t){if(e==null)return{};var n,r,l=uG(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function uG(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function h2(e,t){return e===t?!0:Array.isArray(e)&&e.length===2&&Array.isArray(t)&&t.length===2?e[0]===t[0]&&e[1]===t[1]:!1}function tM(e,t){if(e===t)return!0;var{domain:n,range:r}=e,l=d2(e,lG),{domain:o,range:c}=t,f=d2(t,oG);return!h2(n,o)||!h2(r,c)?!1:z0(l,f)}var cG=["dangerouslySetInnerHTML","ticks"],sG=["id"];function Xy(){return Xy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Xy.apply(null,arguments)}function m2(e,t){if(e==null)return{};var n,r,l=fG(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function fG(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function dG(e){var t=zt(),n=g.useRef(null);return g.useLayoutEffect(()=>{n.current===null?t(tY(e)):n.current!==e&&t(nY({prev:n.current,next:e})),n.current=e},[e,t]),g.useLayoutEffect(()=>()=>{n.current&&(t(rY(n.current)),n.current=null)},[t]),null}var hG=e=>{var{xAxisId:t,className:n}=e,r=ve(UN),l=bn(),o="xAxis",c=ve(E=>co(E,o,t,l)),f=ve(E=>G_(E,o,t,l)),d=ve(E=>J9(E,t)),h=ve(E=>i7(E,t)),m=ve(E=>d_(E,t));if(d==null||h==null||m==null)return null;var{dangerouslySetInnerHTML:p,ticks:x}=e,w=m2(e,cG),{id:A}=m,O=m2(m,sG);return g.createElement(U0,Xy({},w,O,{scale:c,x:h.x,y:h.y,width:d.width,height:d.height,className:Ge("recharts-".concat(o," ").concat(o),n),viewBox:r,ticks:f,axisType:o}))},mG={allowDataOverflow:_t.allowDataOverflow,allowDecimals:_t.allowDecimals,allowDuplicatedCategory:_t.allowDuplicatedCategory,angle:_t.angle,axisLine:Jr.axisLine,height:_t.height,hide:!1,includeHidden:_t.includeHidden,interval:_t.interval,minTickGap:_t.minTickGap,mirror:_t.mirror,orientation:_t.orientation,padding:_t.padding,reversed:_t.reversed,scale:_t.scale,tick:_t.tick,tickCount:_t.tickCount,tickLine:Jr.tickLine,tickSize:Jr.tickSize,type:_t.type,xAxisId:0},vG=e=>{var t=Rn(e,mG);return g.createElement(g.Fragment,null,g.createElement(dG,{allowDataOverflow:t.allowDataOverflow,allowDecimals:t.allowDecimals,allowDuplicatedCategory:t.allowDuplicatedCategory,angle:t.angle,dataKey:t.dataKey,domain:t.domain,height:t.height,hide:t.hide,id:t.xAxisId,includeHidden:t.includeHidden,interval:t.interval,minTickGap:t.minTickGap,mirror:t.mirror,name:t.name,orientation:t.orientation,padding:t.padding,reversed:t.reversed,scale:t.scale,tick:t.tick,tickCount:t.tickCount,tickFormatter:t.tickFormatter,ticks:t.ticks,type:t.type,unit:t.unit}),g.createElement(hG,t))},H0=g.memo(vG,tM);H0.displayName="XAxis";var pG=["dangerouslySetInnerHTML","ticks"],yG=["id"];function Fy(){return Fy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Fy.apply(null,arguments)}function v2(e,t){if(e==null)return{};var n,r,l=gG(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function gG(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function bG(e){var t=zt(),n=g.useRef(null);return g.useLayoutEffect(()=>{n.current===null?t(aY(e)):n.current!==e&&t(iY({prev:n.current,next:e})),n.current=e},[e,t]),g.useLayoutEffect(()=>()=>{n.current&&(t(lY(n.current)),n.current=null)},[t]),null}var xG=e=>{var{yAxisId:t,className:n,width:r,label:l}=e,o=g.useRef(null),c=g.useRef(null),f=ve(UN),d=bn(),h=zt(),m="yAxis",p=ve(T=>co(T,m,t,d)),x=ve(T=>u7(T,t)),w=ve(T=>o7(T,t)),A=ve(T=>G_(T,m,t,d)),O=ve(T=>h_(T,t));if(g.useLayoutEffect(()=>{if(!(r!=="auto"||!x||P0(l)||g.isValidElement(l)||O==null)){var T=o.current;if(T){var R=T.getCalculatedWidth();Math.round(x.width)!==Math.round(R)&&h(oY({id:t,width:R}))}}},[A,x,h,l,t,r,O]),x==null||w==null||O==null)return null;var{dangerouslySetInnerHTML:E,ticks:j}=e,_=v2(e,pG),{id:C}=O,D=v2(O,yG);return g.createElement(U0,Fy({},_,D,{ref:o,labelRef:c,scale:p,x:w.x,y:w.y,tickTextProps:r==="auto"?{width:void 0}:{width:r},width:x.width,height:x.height,className:Ge("recharts-".concat(m," ").concat(m),n),viewBox:f,ticks:A,axisType:m}))},wG={allowDataOverflow:Tt.allowDataOverflow,allowDecimals:Tt.allowDecimals,allowDuplicatedCategory:Tt.allowDuplicatedCategory,angle:Tt.angle,axisLine:Jr.axisLine,hide:!1,includeHidden:Tt.includeHidden,interval:Tt.interval,minTickGap:Tt.minTickGap,mirror:Tt.mirror,orientation:Tt.orientation,padding:Tt.padding,reversed:Tt.reversed,scale:Tt.scale,tick:Tt.tick,tickCount:Tt.tickCount,tickLine:Jr.tickLine,tickSize:Jr.tickSize,type:Tt.type,width:Tt.width,yAxisId:0},SG=e=>{var t=Rn(e,wG);return g.createElement(g.Fragment,null,g.createElement(bG,{interval:t.interval,id:t.yAxisId,scale:t.scale,type:t.type,domain:t.domain,allowDataOverflow:t.allowDataOverflow,dataKey:t.dataKey,allowDuplicatedCategory:t.allowDuplicatedCategory,allowDecimals:t.allowDecimals,tickCount:t.tickCount,padding:t.padding,includeHidden:t.includeHidden,reversed:t.reversed,ticks:t.ticks,width:t.width,orientation:t.orientation,mirror:t.mirror,hide:t.hide,unit:t.unit,name:t.name,angle:t.angle,minTickGap:t.minTickGap,tick:t.tick,tickFormatter:t.tickFormatter}),g.createElement(xG,t))},$0=g.memo(SG,tM);$0.displayName="YAxis";var EG=(e,t)=>t,Y0=Y([EG,Xe,s_,At,cT,va,Sq,Zt],_q),K0=e=>{var t=e.currentTarget.getBoundingClientRect(),n=t.width/e.currentTarget.offsetWidth,r=t.height/e.currentTarget.offsetHeight;return{chartX:Math.round((e.clientX-t.left)/n),chartY:Math.round((e.clientY-t.top)/r)}},nM=Zn("mouseClick"),rM=Ku();rM.startListening({actionCreator:nM,effect:(e,t)=>{var n=e.payload,r=Y0(t.getState(),K0(n));r?.activeIndex!=null&&t.dispatch(w7({activeIndex:r.activeIndex,activeDataKey:void 0,activeCoordinate:r.activeCoordinate}))}});var Wy=Zn("mouseMove"),aM=Ku(),Ks=null;aM.startListening({actionCreator:Wy,effect:(e,t)=>{var n=e.payload;Ks!==null&&cancelAnimationFrame(Ks);var r=K0(n);Ks=requestAnimationFrame(()=>{var l=t.getState(),o=E0(l,l.tooltip.settings.shared);if(o==="axis"){var c=Y0(l,r);c?.activeIndex!=null?t.dispatch(tT({activeIndex:c.activeIndex,activeDataKey:void 0,activeCoordinate:c.activeCoordinate})):t.dispatch(eT())}Ks=null})}});var p2={accessibilityLayer:!0,barCategoryGap:"10%",barGap:4,barSize:void 0,className:void 0,maxBarSize:void 0,stackOffset:"none",syncId:void 0,syncMethod:"index",baseValue:void 0,reverseStackOrder:!1},iM=gn({name:"rootProps",initialState:p2,reducers:{updateOptions:(e,t)=>{var n;e.accessibilityLayer=t.payload.accessibilityLayer,e.barCategoryGap=t.payload.barCategoryGap,e.barGap=(n=t.payload.barGap)!==null&&n!==void 0?n:p2.barGap,e.barSize=t.payload.barSize,e.maxBarSize=t.payload.maxBarSize,e.stackOffset=t.payload.stackOffset,e.syncId=t.payload.syncId,e.syncMethod=t.payload.syncMethod,e.className=t.payload.className,e.baseValue=t.payload.baseValue,e.reverseStackOrder=t.payload.reverseStackOrder}}}),OG=iM.reducer,{updateOptions:AG}=iM.actions,lM=gn({name:"polarOptions",initialState:null,reducers:{updatePolarOptions:(e,t)=>t.payload}}),{updatePolarOptions:FF}=lM.actions,jG=lM.reducer,oM=Zn("keyDown"),uM=Zn("focus"),G0=Ku();G0.startListening({actionCreator:oM,effect:(e,t)=>{var n=t.getState(),r=n.rootProps.accessibilityLayer!==!1;if(r){var{keyboardInteraction:l}=n.tooltip,o=e.payload;if(!(o!=="ArrowRight"&&o!=="ArrowLeft"&&o!=="Enter")){var c=O0(l,fo(n),tc(n),lc(n)),f=c==null?-1:Number(c);if(!(!Number.isFinite(f)||f<0)){var d=va(n);if(o==="Enter"){var h=Kf(n,"axis","hover",String(l.index));t.dispatch(Hy({active:!l.active,activeIndex:l.index,activeDataKey:l.dataKey,activeCoordinate:h}));return}var m=d7(n),p=m==="left-to-right"?1:-1,x=o==="ArrowRight"?1:-1,w=f+x*p;if(!(d==null||w>=d.length||w<0)){var A=Kf(n,"axis","hover",String(w));t.dispatch(Hy({active:!0,activeIndex:w.toString(),activeDataKey:void 0,activeCoordinate:A}))}}}}}});G0.startListening({actionCreator:uM,effect:(e,t)=>{var n=t.getState(),r=n.rootProps.accessibilityLayer!==!1;if(r){var{keyboardInteraction:l}=n.tooltip;if(!l.active&&l.index==null){var o="0",c=Kf(n,"axis","hover",String(o));t.dispatch(Hy({activeDataKey:void 0,active:!0,activeIndex:o,activeCoordinate:c}))}}}});var Gn=Zn("externalEvent"),cM=Ku(),$p=new Map;cM.startListening({actionCreator:Gn,effect:(e,t)=>{var{handler:n,reactEvent:r}=e.payload;if(n!=null){r.persist();var l=r.type,o=$p.get(l);o!==void 0&&cancelAnimationFrame(o);var c=requestAnimationFrame(()=>{try{var f=t.getState(),d={activeCoordinate:oq(f),activeDataKey:iq(f),activeIndex:Ru(f),activeLabel:dT(f),activeTooltipIndex:Ru(f),isTooltipActive:uq(f)};n(d,r)}finally{$p.delete(l)}});$p.set(l,c)}}});var NG=Y([so],e=>e.tooltipItemPayloads),CG=Y([NG,ac,(e,t,n)=>t,(e,t,n)=>n],(e,t,n,r)=>{var l=e.find(f=>f.settings.dataKey===r);if(l!=null){var{positions:o}=l;if(o!=null){var c=t(o,n);return c}}}),sM=Zn("touchMove"),fM=Ku();fM.startListening({actionCreator:sM,effect:(e,t)=>{var n=e.payload;if(!(n.touches==null||n.touches.length===0)){var r=t.getState(),l=E0(r,r.tooltip.settings.shared);if(l==="axis"){var o=Y0(r,K0({clientX:n.touches[0].clientX,clientY:n.touches[0].clientY,currentTarget:n.currentTarget}));o?.activeIndex!=null&&t.dispatch(tT({activeIndex:o.activeIndex,activeDataKey:void 0,activeCoordinate:o.activeCoordinate}))}else if(l==="item"){var c,f=n.touches[0];if(document.elementFromPoint==null)return;var d=document.elementFromPoint(f.clientX,f.clientY);if(!d||!d.getAttribute)return;var h=d.getAttribute(n6),m=(c=d.getAttribute(r6))!==null&&c!==void 0?c:void 0,p=CG(t.getState(),h,m);t.dispatch(x7({activeDataKey:m,activeIndex:h,activeCoordinate:p}))}}}});var _G=lN({brush:IY,cartesianAxis:uY,chartData:oH,errorBars:yY,graphicalItems:U$,layout:UL,legend:F6,options:nH,polarAxis:C$,polarOptions:jG,referenceElements:VY,rootProps:OG,tooltip:S7,zIndex:$q}),TG=function(t){return sL({reducer:_G,preloadedState:t,middleware:n=>{var r;return n({serializableCheck:!1,immutableCheck:!["commonjs","es6","production"].includes((r="es6")!==null&&r!==void 0?r:"")}).concat([rM.middleware,aM.middleware,G0.middleware,cM.middleware,fM.middleware])},enhancers:n=>{var r=n;return typeof n=="function"&&(r=n()),r.concat(wN({type:"raf"}))},devTools:ro.devToolsEnabled})};function MG(e){var{preloadedState:t,children:n,reduxStoreName:r}=e,l=bn(),o=g.useRef(null);if(l)return n;o.current==null&&(o.current=TG(t));var c=Sg;return g.createElement(zY,{context:c,store:o.current},n)}function DG(e){var{layout:t,margin:n}=e,r=zt(),l=bn();return g.useEffect(()=>{l||(r(zL(t)),r(RL(n)))},[r,l,t,n]),null}var kG=g.memo(DG,z0);function PG(e){var t=zt();return g.useEffect(()=>{t(AG(e))},[t,e]),null}function y2(e){var{zIndex:t,isPanorama:n}=e,r=n?"recharts-zindex-panorama-":"recharts-zindex-",l=UT("".concat(r).concat(t)),o=zt();return g.useLayoutEffect(()=>(o(qq({zIndex:t,elementId:l,isPanorama:n})),()=>{o(Hq({zIndex:t,isPanorama:n}))}),[o,t,l,n]),g.createElement("g",{tabIndex:-1,id:l})}function g2(e){var{children:t,isPanorama:n}=e,r=ve(Mq);if(!r||r.length===0)return t;var l=r.filter(c=>c<0),o=r.filter(c=>c>0);return g.createElement(g.Fragment,null,l.map(c=>g.createElement(y2,{key:c,zIndex:c,isPanorama:n})),t,o.map(c=>g.createElement(y2,{key:c,zIndex:c,isPanorama:n})))}var RG=["children"];function zG(e,t){if(e==null)return{};var n,r,l=LG(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function LG(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function Zf(){return Zf=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Zf.apply(null,arguments)}var BG={width:"100%",height:"100%",display:"block"},UG=g.forwardRef((e,t)=>{var n=GN(),r=VN(),l=tC();if(!Er(n)||!Er(r))return null;var{children:o,otherAttributes:c,title:f,desc:d}=e,h,m;return c!=null&&(typeof c.tabIndex=="number"?h=c.tabIndex:h=l?0:void 0,typeof c.role=="string"?m=c.role:m=l?"application":void 0),g.createElement(Nj,Zf({},c,{title:f,desc:d,role:m,tabIndex:h,width:n,height:r,style:BG,ref:t}),o)}),IG=e=>{var{children:t}=e,n=ve(xd);if(!n)return null;var{width:r,height:l,y:o,x:c}=n;return g.createElement(Nj,{width:r,height:l,x:c,y:o},t)},b2=g.forwardRef((e,t)=>{var{children:n}=e,r=zG(e,RG),l=bn();return l?g.createElement(IG,null,g.createElement(g2,{isPanorama:!0},n)):g.createElement(UG,Zf({ref:t},r),g.createElement(g2,{isPanorama:!1},n))});function qG(){var e=zt(),[t,n]=g.useState(null),r=ve(t6);return g.useEffect(()=>{if(t!=null){var l=t.getBoundingClientRect(),o=l.width/t.offsetWidth;ot(o)&&o!==r&&e(BL(o))}},[t,e,r]),n}function x2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function HG(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?x2(Object(n),!0).forEach(function(r){$G(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):x2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function $G(e,t,n){return(t=YG(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function YG(e){var t=KG(e,"string");return typeof t=="symbol"?t:t+""}function KG(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Ri(){return Ri=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Ri.apply(null,arguments)}var GG=()=>(pH(),null);function Qf(e){if(typeof e=="number")return e;if(typeof e=="string"){var t=parseFloat(e);if(!Number.isNaN(t))return t}return 0}var VG=g.forwardRef((e,t)=>{var n,r,l=g.useRef(null),[o,c]=g.useState({containerWidth:Qf((n=e.style)===null||n===void 0?void 0:n.width),containerHeight:Qf((r=e.style)===null||r===void 0?void 0:r.height)}),f=g.useCallback((h,m)=>{c(p=>{var x=Math.round(h),w=Math.round(m);return p.containerWidth===x&&p.containerHeight===w?p:{containerWidth:x,containerHeight:w}})},[]),d=g.useCallback(h=>{if(typeof t=="function"&&t(h),h!=null&&typeof ResizeObserver<"u"){var{width:m,height:p}=h.getBoundingClientRect();f(m,p);var x=A=>{var{width:O,height:E}=A[0].contentRect;f(O,E)},w=new ResizeObserver(x);w.observe(h),l.current=w}},[t,f]);return g.useEffect(()=>()=>{var h=l.current;h?.disconnect()},[f]),g.createElement(g.Fragment,null,g.createElement(Sd,{width:o.containerWidth,height:o.containerHeight}),g.createElement("div",Ri({ref:d},e)))}),XG=g.forwardRef((e,t)=>{var{width:n,height:r}=e,[l,o]=g.useState({containerWidth:Qf(n),containerHeight:Qf(r)}),c=g.useCallback((d,h)=>{o(m=>{var p=Math.round(d),x=Math.round(h);return m.containerWidth===p&&m.containerHeight===x?m:{containerWidth:p,containerHeight:x}})},[]),f=g.useCallback(d=>{if(typeof t=="function"&&t(d),d!=null){var{width:h,height:m}=d.getBoundingClientRect();c(h,m)}},[t,c]);return g.createElement(g.Fragment,null,g.createElement(Sd,{width:l.containerWidth,height:l.containerHeight}),g.createElement("div",Ri({ref:f},e)))}),FG=g.forwardRef((e,t)=>{var{width:n,height:r}=e;return g.createElement(g.Fragment,null,g.createElement(Sd,{width:n,height:r}),g.createElement("div",Ri({ref:t},e)))}),WG=g.forwardRef((e,t)=>{var{width:n,height:r}=e;return ta(n)||ta(r)?g.createElement(XG,Ri({},e,{ref:t})):g.createElement(FG,Ri({},e,{ref:t}))});function ZG(e){return e===!0?VG:WG}var QG=g.forwardRef((e,t)=>{var{children:n,className:r,height:l,onClick:o,onContextMenu:c,onDoubleClick:f,onMouseDown:d,onMouseEnter:h,onMouseLeave:m,onMouseMove:p,onMouseUp:x,onTouchEnd:w,onTouchMove:A,onTouchStart:O,style:E,width:j,responsive:_,dispatchTouchEvents:C=!0}=e,D=g.useRef(null),T=zt(),[R,k]=g.useState(null),[I,re]=g.useState(null),ae=qG(),W=Mg(),J=W?.width>0?W.width:j,pe=W?.height>0?W.height:l,ge=g.useCallback(V=>{ae(V),typeof t=="function"&&t(V),k(V),re(V),V!=null&&(D.current=V)},[ae,t,k,re]),xe=g.useCallback(V=>{T(nM(V)),T(Gn({handler:o,reactEvent:V}))},[T,o]),q=g.useCallback(V=>{T(Wy(V)),T(Gn({handler:h,reactEvent:V}))},[T,h]),Q=g.useCallback(V=>{T(eT()),T(Gn({handler:m,reactEvent:V}))},[T,m]),X=g.useCallback(V=>{T(Wy(V)),T(Gn({handler:p,reactEvent:V}))},[T,p]),le=g.useCallback(()=>{T(uM())},[T]),Oe=g.useCallback(V=>{T(oM(V.key))},[T]),P=g.useCallback(V=>{T(Gn({handler:c,reactEvent:V}))},[T,c]),K=g.useCallback(V=>{T(Gn({handler:f,reactEvent:V}))},[T,f]),ee=g.useCallback(V=>{T(Gn({handler:d,reactEvent:V}))},[T,d]),ne=g.useCallback(V=>{T(Gn({handler:x,reactEvent:V}))},[T,x]),he=g.useCallback(V=>{T(Gn({handler:O,reactEvent:V}))},[T,O]),we=g.useCallback(V=>{C&&T(sM(V)),T(Gn({handler:A,reactEvent:V}))},[T,C,A]),ue=g.useCallback(V=>{T(Gn({handler:w,reactEvent:V}))},[T,w]),rt=ZG(_);return g.createElement(xT.Provider,{value:R},g.createElement(d4.Provider,{value:I},g.createElement(rt,{width:J??E?.width,height:pe??E?.height,className:Ge("recharts-wrapper",r),style:HG({position:"relative",cursor:"default",width:J,height:pe},E),onClick:xe,onContextMenu:P,onDoubleClick:K,onFocus:le,onKeyDown:Oe,onMouseDown:ee,onMouseEnter:q,onMouseLeave:Q,onMouseMove:X,onMouseUp:ne,onTouchEnd:ue,onTouchMove:we,onTouchStart:he,ref:ge},g.createElement(GG,null),n)))}),JG=["width","height","responsive","children","className","style","compact","title","desc"];function eV(e,t){if(e==null)return{};var n,r,l=tV(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function tV(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var nV=g.forwardRef((e,t)=>{var{width:n,height:r,responsive:l,children:o,className:c,style:f,compact:d,title:h,desc:m}=e,p=eV(e,JG),x=cr(p);return d?g.createElement(g.Fragment,null,g.createElement(Sd,{width:n,height:r}),g.createElement(b2,{otherAttributes:x,title:h,desc:m},o)):g.createElement(QG,{className:c,style:f,width:n,height:r,responsive:l??!1,onClick:e.onClick,onMouseLeave:e.onMouseLeave,onMouseEnter:e.onMouseEnter,onMouseMove:e.onMouseMove,onMouseDown:e.onMouseDown,onMouseUp:e.onMouseUp,onContextMenu:e.onContextMenu,onDoubleClick:e.onDoubleClick,onTouchStart:e.onTouchStart,onTouchMove:e.onTouchMove,onTouchEnd:e.onTouchEnd},g.createElement(b2,{otherAttributes:x,title:h,desc:m,ref:t},g.createElement(FY,null,o)))});function Zy(){return Zy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Zy.apply(null,arguments)}var rV={top:5,right:5,bottom:5,left:5},aV={accessibilityLayer:!0,barCategoryGap:"10%",barGap:4,layout:"horizontal",margin:rV,responsive:!1,reverseStackOrder:!1,stackOffset:"none",syncMethod:"index"},iV=g.forwardRef(function(t,n){var r,l=Rn(t.categoricalChartProps,aV),{chartName:o,defaultTooltipEventType:c,validateTooltipEventTypes:f,tooltipPayloadSearcher:d,categoricalChartProps:h}=t,m={chartName:o,defaultTooltipEventType:c,validateTooltipEventTypes:f,tooltipPayloadSearcher:d,eventEmitter:void 0};return g.createElement(MG,{preloadedState:{options:m},reduxStoreName:(r=h.id)!==null&&r!==void 0?r:o},g.createElement(UY,{chartData:h.data}),g.createElement(kG,{layout:l.layout,margin:l.margin}),g.createElement(PG,{baseValue:l.baseValue,accessibilityLayer:l.accessibilityLayer,barCategoryGap:l.barCategoryGap,maxBarSize:l.maxBarSize,stackOffset:l.stackOffset,barGap:l.barGap,barSize:l.barSize,syncId:l.syncId,syncMethod:l.syncMethod,className:l.className,reverseStackOrder:l.reverseStackOrder}),g.createElement(nV,Zy({},l,{ref:n})))}),lV=["axis"],dM=g.forwardRef((e,t)=>g.createElement(iV,{chartName:"AreaChart",defaultTooltipEventType:"axis",validateTooltipEventTypes:lV,tooltipPayloadSearcher:eH,categoricalChartProps:e,ref:t}));function uc({className:e}){const t=ua(),n=l=>t.pathname===l,r=[{icon:Ez,label:"Panel",path:"/dashboard"},{icon:pj,label:"Kartlarım",path:"/cards"},{icon:fg,label:"Yatırımlar",path:"/invest"},{icon:wz,label:"Geçmiş",path:"/history"},{icon:kz,label:"Ayarlar",path:"/settings"}];return b.jsxs("div",{className:Ve("pb-12 min-h-screen border-r bg-card",e),children:[b.jsx("div",{className:"space-y-4 py-4",children:b.jsxs("div",{className:"px-3 py-2",children:[b.jsx("h2",{className:"mb-2 px-4 text-2xl font-bold tracking-tight text-primary flex items-center gap-2",children:"DinoBank"}),b.jsx("div",{className:"space-y-1",children:r.map(l=>b.jsx(Va,{to:l.path,children:b.jsxs(yt,{variant:n(l.path)?"secondary":"ghost",className:"w-full justify-start",children:[b.jsx(l.icon,{className:"mr-2 h-4 w-4"}),l.label]})},l.path))})]})}),b.jsx("div",{className:"px-3 py-2 mt-auto border-t",children:b.jsxs("div",{className:"flex items-center gap-3 px-4 py-4",children:[b.jsx("div",{className:"h-9 w-9 rounded-full bg-primary/20 flex items-center justify-center text-primary",children:b.jsx(bj,{className:"h-5 w-5"})}),b.jsxs("div",{className:"flex-1 overflow-hidden",children:[b.jsx("p",{className:"text-sm font-medium leading-none truncate",children:"T-Rex Admin"}),b.jsx("p",{className:"text-xs text-muted-foreground truncate",children:"admin@dinobank.com"})]}),b.jsx(yt,{variant:"ghost",size:"icon",className:"text-destructive hover:text-destructive",onClick:()=>{localStorage.removeItem("token"),window.location.href="/login"},children:b.jsx(Nz,{className:"h-4 w-4"})})]})})]})}function Fa(e,t,{checkForDefaultPrevented:n=!0}={}){return function(l){if(e?.(l),n===!1||!l.defaultPrevented)return t?.(l)}}function oV(e,t){const n=g.createContext(t),r=o=>{const{children:c,...f}=o,d=g.useMemo(()=>f,Object.values(f));return b.jsx(n.Provider,{value:d,children:c})};r.displayName=e+"Provider";function l(o){const c=g.useContext(n);if(c)return c;if(t!==void 0)return t;throw new Error(`\`${o}\` must be used within \`${e}\``)}return[r,l]}function uV(e,t=[]){let n=[];function r(o,c){const f=g.createContext(c),d=n.length;n=[...n,c];const h=p=>{const{scope:x,children:w,...A}=p,O=x?.[e]?.[d]||f,E=g.useMemo(()=>A,Object.values(A));return b.jsx(O.Provider,{value:E,children:w})};h.displayName=o+"Provider";function m(p,x){const w=x?.[e]?.[d]||f,A=g.useContext(w);if(A)return A;if(c!==void 0)return c;throw new Error(`\`${p}\` must be used within \`${o}\``)}return[h,m]}const l=()=>{const o=n.map(c=>g.createContext(c));return function(f){const d=f?.[e]||o;return g.useMemo(()=>({[`__scope${e}`]:{...f,[e]:d}}),[f,d])}};return l.scopeName=e,[r,cV(l,...t)]}function cV(...e){const t=e[0];if(e.length===1)return t;const n=()=>{const r=e.map(l=>({useScope:l(),scopeName:l.scopeName}));return function(o){const c=r.reduce((f,{useScope:d,scopeName:h})=>{const p=d(o)[`__scope${h}`];return{...f,...p}},{});return g.useMemo(()=>({[`__scope${t.scopeName}`]:c}),[c])}};return n.scopeName=t.scopeName,n}var Lu=globalThis?.document?g.useLayoutEffect:()=>{},sV=ed[" useId ".trim().toString()]||(()=>{}),fV=0;function Yp(e){const[t,n]=g.useState(sV());return Lu(()=>{n(r=>r??String(fV++))},[e]),e||(t?`radix-${t}`:"")}var dV=ed[" useInsertionEffect ".trim().toString()]||Lu;function hV({prop:e,defaultProp:t,onChange:n=()=>{},caller:r}){const[l,o,c]=mV({defaultProp:t,onChange:n}),f=e!==void 0,d=f?e:l;{const m=g.useRef(e!==void 0);g.useEffect(()=>{const p=m.current;p!==f&&console.warn(`${r} is changing from ${p?"controlled":"uncontrolled"} to ${f?"controlled":"uncontrolled"}. Components should not switch from controlled to uncontrolled (or vice versa). Decide between using a controlled or uncontrolled value for the lifetime of the component.`),m.current=f},[f,r])}const h=g.useCallback(m=>{if(f){const p=vV(m)?m(e):m;p!==e&&c.current?.(p)}else o(m)},[f,e,o,c]);return[d,h]}function mV({defaultProp:e,onChange:t}){const[n,r]=g.useState(e),l=g.useRef(n),o=g.useRef(t);return dV(()=>{o.current=t},[t]),g.useEffect(()=>{l.current!==n&&(o.current?.(n),l.current=n)},[n,l]),[n,r,o]}function vV(e){return typeof e=="function"}function pV(e){const t=yV(e),n=g.forwardRef((r,l)=>{const{children:o,...c}=r,f=g.Children.toArray(o),d=f.find(bV);if(d){const h=d.props.children,m=f.map(p=>p===d?g.Children.count(h)>1?g.Children.only(null):g.isValidElement(h)?h.props.children:null:p);return b.jsx(t,{...c,ref:l,children:g.isValidElement(h)?g.cloneElement(h,void 0,m):null})}return b.jsx(t,{...c,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}function yV(e){const t=g.forwardRef((n,r)=>{const{children:l,...o}=n;if(g.isValidElement(l)){const c=wV(l),f=xV(o,l.props);return l.type!==g.Fragment&&(f.ref=r?Ql(r,c):c),g.cloneElement(l,f)}return g.Children.count(l)>1?g.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var gV=Symbol("radix.slottable");function bV(e){return g.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===gV}function xV(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function wV(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}var SV=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],hM=SV.reduce((e,t)=>{const n=pV(`Primitive.${t}`),r=g.forwardRef((l,o)=>{const{asChild:c,...f}=l,d=c?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),b.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{});function EV(e,t){e&&rd.flushSync(()=>e.dispatchEvent(t))}function Bu(e){const t=g.useRef(e);return g.useEffect(()=>{t.current=e}),g.useMemo(()=>(...n)=>t.current?.(...n),[])}function OV(e,t=globalThis?.document){const n=Bu(e);g.useEffect(()=>{const r=l=>{l.key==="Escape"&&n(l)};return t.addEventListener("keydown",r,{capture:!0}),()=>t.removeEventListener("keydown",r,{capture:!0})},[n,t])}var AV="DismissableLayer",Qy="dismissableLayer.update",jV="dismissableLayer.pointerDownOutside",NV="dismissableLayer.focusOutside",w2,mM=g.createContext({layers:new Set,layersWithOutsidePointerEventsDisabled:new Set,branches:new Set}),vM=g.forwardRef((e,t)=>{const{disableOutsidePointerEvents:n=!1,onEscapeKeyDown:r,onPointerDownOutside:l,onFocusOutside:o,onInteractOutside:c,onDismiss:f,...d}=e,h=g.useContext(mM),[m,p]=g.useState(null),x=m?.ownerDocument??globalThis?.document,[,w]=g.useState({}),A=Li(t,k=>p(k)),O=Array.from(h.layers),[E]=[...h.layersWithOutsidePointerEventsDisabled].slice(-1),j=O.indexOf(E),_=m?O.indexOf(m):-1,C=h.layersWithOutsidePointerEventsDisabled.size>0,D=_>=j,T=TV(k=>{const I=k.target,re=[...h.branches].some(ae=>ae.contains(I));!D||re||(l?.(k),c?.(k),k.defaultPrevented||f?.())},x),R=MV(k=>{const I=k.target;[...h.branches].some(ae=>ae.contains(I))||(o?.(k),c?.(k),k.defaultPrevented||f?.())},x);return OV(k=>{_===h.layers.size-1&&(r?.(k),!k.defaultPrevented&&f&&(k.preventDefault(),f()))},x),g.useEffect(()=>{if(m)return n&&(h.layersWithOutsidePointerEventsDisabled.size===0&&(w2=x.body.style.pointerEvents,x.body.style.pointerEvents="none"),h.layersWithOutsidePointerEventsDisabled.add(m)),h.layers.add(m),S2(),()=>{n&&h.layersWithOutsidePointerEventsDisabled.size===1&&(x.body.style.pointerEvents=w2)}},[m,x,n,h]),g.useEffect(()=>()=>{m&&(h.layers.delete(m),h.layersWithOutsidePointerEventsDisabled.delete(m),S2())},[m,h]),g.useEffect(()=>{const k=()=>w({});return document.addEventListener(Qy,k),()=>document.removeEventListener(Qy,k)},[]),b.jsx(hM.div,{...d,ref:A,style:{pointerEvents:C?D?"auto":"none":void 0,...e.style},onFocusCapture:Fa(e.onFocusCapture,R.onFocusCapture),onBlurCapture:Fa(e.onBlurCapture,R.onBlurCapture),onPointerDownCapture:Fa(e.onPointerDownCapture,T.onPointerDownCapture)})});vM.displayName=AV;var CV="DismissableLayerBranch",_V=g.forwardRef((e,t)=>{const n=g.useContext(mM),r=g.useRef(null),l=Li(t,r);return g.useEffect(()=>{const o=r.current;if(o)return n.branches.add(o),()=>{n.branches.delete(o)}},[n.branches]),b.jsx(hM.div,{...e,ref:l})});_V.displayName=CV;function TV(e,t=globalThis?.document){const n=Bu(e),r=g.useRef(!1),l=g.useRef(()=>{});return g.useEffect(()=>{const o=f=>{if(f.target&&!r.current){let d=function(){pM(jV,n,h,{discrete:!0})};const h={originalEvent:f};f.pointerType==="touch"?(t.removeEventListener("click",l.current),l.current=d,t.addEventListener("click",l.current,{once:!0})):d()}else t.removeEventListener("click",l.current);r.current=!1},c=window.setTimeout(()=>{t.addEventListener("pointerdown",o)},0);return()=>{window.clearTimeout(c),t.removeEventListener("pointerdown",o),t.removeEventListener("click",l.current)}},[t,n]),{onPointerDownCapture:()=>r.current=!0}}function MV(e,t=globalThis?.document){const n=Bu(e),r=g.useRef(!1);return g.useEffect(()=>{const l=o=>{o.target&&!r.current&&pM(NV,n,{originalEvent:o},{discrete:!1})};return t.addEventListener("focusin",l),()=>t.removeEventListener("focusin",l)},[t,n]),{onFocusCapture:()=>r.current=!0,onBlurCapture:()=>r.current=!1}}function S2(){const e=new CustomEvent(Qy);document.dispatchEvent(e)}function pM(e,t,n,{discrete:r}){const l=n.originalEvent.target,o=new CustomEvent(e,{bubbles:!1,cancelable:!0,detail:n});t&&l.addEventListener(e,t,{once:!0}),r?EV(l,o):l.dispatchEvent(o)}function DV(e){const t=kV(e),n=g.forwardRef((r,l)=>{const{children:o,...c}=r,f=g.Children.toArray(o),d=f.find(RV);if(d){const h=d.props.children,m=f.map(p=>p===d?g.Children.count(h)>1?g.Children.only(null):g.isValidElement(h)?h.props.children:null:p);return b.jsx(t,{...c,ref:l,children:g.isValidElement(h)?g.cloneElement(h,void 0,m):null})}return b.jsx(t,{...c,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}function kV(e){const t=g.forwardRef((n,r)=>{const{children:l,...o}=n;if(g.isValidElement(l)){const c=LV(l),f=zV(o,l.props);return l.type!==g.Fragment&&(f.ref=r?Ql(r,c):c),g.cloneElement(l,f)}return g.Children.count(l)>1?g.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var PV=Symbol("radix.slottable");function RV(e){return g.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===PV}function zV(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function LV(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}var BV=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],UV=BV.reduce((e,t)=>{const n=DV(`Primitive.${t}`),r=g.forwardRef((l,o)=>{const{asChild:c,...f}=l,d=c?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),b.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{}),Kp="focusScope.autoFocusOnMount",Gp="focusScope.autoFocusOnUnmount",E2={bubbles:!1,cancelable:!0},IV="FocusScope",yM=g.forwardRef((e,t)=>{const{loop:n=!1,trapped:r=!1,onMountAutoFocus:l,onUnmountAutoFocus:o,...c}=e,[f,d]=g.useState(null),h=Bu(l),m=Bu(o),p=g.useRef(null),x=Li(t,O=>d(O)),w=g.useRef({paused:!1,pause(){this.paused=!0},resume(){this.paused=!1}}).current;g.useEffect(()=>{if(r){let O=function(C){if(w.paused||!f)return;const D=C.target;f.contains(D)?p.current=D:$a(p.current,{select:!0})},E=function(C){if(w.paused||!f)return;const D=C.relatedTarget;D!==null&&(f.contains(D)||$a(p.current,{select:!0}))},j=function(C){if(document.activeElement===document.body)for(const T of C)T.removedNodes.length>0&&$a(f)};document.addEventListener("focusin",O),document.addEventListener("focusout",E);const _=new MutationObserver(j);return f&&_.observe(f,{childList:!0,subtree:!0}),()=>{document.removeEventListener("focusin",O),document.removeEventListener("focusout",E),_.disconnect()}}},[r,f,w.paused]),g.useEffect(()=>{if(f){A2.add(w);const O=document.activeElement;if(!f.contains(O)){const j=new CustomEvent(Kp,E2);f.addEventListener(Kp,h),f.dispatchEvent(j),j.defaultPrevented||(qV(GV(gM(f)),{select:!0}),document.activeElement===O&&$a(f))}return()=>{f.removeEventListener(Kp,h),setTimeout(()=>{const j=new CustomEvent(Gp,E2);f.addEventListener(Gp,m),f.dispatchEvent(j),j.defaultPrevented||$a(O??document.body,{select:!0}),f.removeEventListener(Gp,m),A2.remove(w)},0)}}},[f,h,m,w]);const A=g.useCallback(O=>{if(!n&&!r||w.paused)return;const E=O.key==="Tab"&&!O.altKey&&!O.ctrlKey&&!O.metaKey,j=document.activeElement;if(E&&j){const _=O.currentTarget,[C,D]=HV(_);C&&D?!O.shiftKey&&j===D?(O.preventDefault(),n&&$a(C,{select:!0})):O.shiftKey&&j===C&&(O.preventDefault(),n&&$a(D,{select:!0})):j===_&&O.preventDefault()}},[n,r,w.paused]);return b.jsx(UV.div,{tabIndex:-1,...c,ref:x,onKeyDown:A})});yM.displayName=IV;function qV(e,{select:t=!1}={}){const n=document.activeElement;for(const r of e)if($a(r,{select:t}),document.activeElement!==n)return}function HV(e){const t=gM(e),n=O2(t,e),r=O2(t.reverse(),e);return[n,r]}function gM(e){const t=[],n=document.createTreeWalker(e,NodeFilter.SHOW_ELEMENT,{acceptNode:r=>{const l=r.tagName==="INPUT"&&r.type==="hidden";return r.disabled||r.hidden||l?NodeFilter.FILTER_SKIP:r.tabIndex>=0?NodeFilter.FILTER_ACCEPT:NodeFilter.FILTER_SKIP}});for(;n.nextNode();)t.push(n.currentNode);return t}function O2(e,t){for(const n of e)if(!$V(n,{upTo:t}))return n}function $V(e,{upTo:t}){if(getComputedStyle(e).visibility==="hidden")return!0;for(;e;){if(t!==void 0&&e===t)return!1;if(getComputedStyle(e).display==="none")return!0;e=e.parentElement}return!1}function YV(e){return e instanceof HTMLInputElement&&"select"in e}function $a(e,{select:t=!1}={}){if(e&&e.focus){const n=document.activeElement;e.focus({preventScroll:!0}),e!==n&&YV(e)&&t&&e.select()}}var A2=KV();function KV(){let e=[];return{add(t){const n=e[0];t!==n&&n?.pause(),e=j2(e,t),e.unshift(t)},remove(t){e=j2(e,t),e[0]?.resume()}}}function j2(e,t){const n=[...e],r=n.indexOf(t);return r!==-1&&n.splice(r,1),n}function GV(e){return e.filter(t=>t.tagName!=="A")}function VV(e){const t=XV(e),n=g.forwardRef((r,l)=>{const{children:o,...c}=r,f=g.Children.toArray(o),d=f.find(WV);if(d){const h=d.props.children,m=f.map(p=>p===d?g.Children.count(h)>1?g.Children.only(null):g.isValidElement(h)?h.props.children:null:p);return b.jsx(t,{...c,ref:l,children:g.isValidElement(h)?g.cloneElement(h,void 0,m):null})}return b.jsx(t,{...c,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}function XV(e){const t=g.forwardRef((n,r)=>{const{children:l,...o}=n;if(g.isValidElement(l)){const c=QV(l),f=ZV(o,l.props);return l.type!==g.Fragment&&(f.ref=r?Ql(r,c):c),g.cloneElement(l,f)}return g.Children.count(l)>1?g.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var FV=Symbol("radix.slottable");function WV(e){return g.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===FV}function ZV(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function QV(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}var JV=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],eX=JV.reduce((e,t)=>{const n=VV(`Primitive.${t}`),r=g.forwardRef((l,o)=>{const{asChild:c,...f}=l,d=c?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),b.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{}),tX="Portal",bM=g.forwardRef((e,t)=>{const{container:n,...r}=e,[l,o]=g.useState(!1);Lu(()=>o(!0),[]);const c=n||l&&globalThis?.document?.body;return c?a3.createPortal(b.jsx(eX.div,{...r,ref:t}),c):null});bM.displayName=tX;function nX(e,t){return g.useReducer((n,r)=>t[n][r]??n,e)}var qd=e=>{const{present:t,children:n}=e,r=rX(t),l=typeof n=="function"?n({present:r.isPresent}):g.Children.only(n),o=Li(r.ref,aX(l));return typeof n=="function"||r.isPresent?g.cloneElement(l,{ref:o}):null};qd.displayName="Presence";function rX(e){const[t,n]=g.useState(),r=g.useRef(null),l=g.useRef(e),o=g.useRef("none"),c=e?"mounted":"unmounted",[f,d]=nX(c,{mounted:{UNMOUNT:"unmounted",ANIMATION_OUT:"unmountSuspended"},unmountSuspended:{MOUNT:"mounted",ANIMATION_END:"unmounted"},unmounted:{MOUNT:"mounted"}});return g.useEffect(()=>{const h=Gs(r.current);o.current=f==="mounted"?h:"none"},[f]),Lu(()=>{const h=r.current,m=l.current;if(m!==e){const x=o.current,w=Gs(h);e?d("MOUNT"):w==="none"||h?.display==="none"?d("UNMOUNT"):d(m&&x!==w?"ANIMATION_OUT":"UNMOUNT"),l.current=e}},[e,d]),Lu(()=>{if(t){let h;const m=t.ownerDocument.defaultView??window,p=w=>{const O=Gs(r.current).includes(CSS.escape(w.animationName));if(w.target===t&&O&&(d("ANIMATION_END"),!l.current)){const E=t.style.animationFillMode;t.style.animationFillMode="forwards",h=m.setTimeout(()=>{t.style.animationFillMode==="forwards"&&(t.style.animationFillMode=E)})}},x=w=>{w.target===t&&(o.current=Gs(r.current))};return t.addEventListener("animationstart",x),t.addEventListener("animationcancel",p),t.addEventListener("animationend",p),()=>{m.clearTimeout(h),t.removeEventListener("animationstart",x),t.removeEventListener("animationcancel",p),t.removeEventListener("animationend",p)}}else d("ANIMATION_END")},[t,d]),{isPresent:["mounted","unmountSuspended"].includes(f),ref:g.useCallback(h=>{r.current=h?getComputedStyle(h):null,n(h)},[])}}function Gs(e){return e?.animationName||"none"}function aX(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}function xM(e){const t=iX(e),n=g.forwardRef((r,l)=>{const{children:o,...c}=r,f=g.Children.toArray(o),d=f.find(oX);if(d){const h=d.props.children,m=f.map(p=>p===d?g.Children.count(h)>1?g.Children.only(null):g.isValidElement(h)?h.props.children:null:p);return b.jsx(t,{...c,ref:l,children:g.isValidElement(h)?g.cloneElement(h,void 0,m):null})}return b.jsx(t,{...c,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}function iX(e){const t=g.forwardRef((n,r)=>{const{children:l,...o}=n;if(g.isValidElement(l)){const c=cX(l),f=uX(o,l.props);return l.type!==g.Fragment&&(f.ref=r?Ql(r,c):c),g.cloneElement(l,f)}return g.Children.count(l)>1?g.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var lX=Symbol("radix.slottable");function oX(e){return g.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===lX}function uX(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function cX(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}var sX=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],cc=sX.reduce((e,t)=>{const n=xM(`Primitive.${t}`),r=g.forwardRef((l,o)=>{const{asChild:c,...f}=l,d=c?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),b.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{}),Vp=0;function fX(){g.useEffect(()=>{const e=document.querySelectorAll("[data-radix-focus-guard]");return document.body.insertAdjacentElement("afterbegin",e[0]??N2()),document.body.insertAdjacentElement("beforeend",e[1]??N2()),Vp++,()=>{Vp===1&&document.querySelectorAll("[data-radix-focus-guard]").forEach(t=>t.remove()),Vp--}},[])}function N2(){const e=document.createElement("span");return e.setAttribute("data-radix-focus-guard",""),e.tabIndex=0,e.style.outline="none",e.style.opacity="0",e.style.position="fixed",e.style.pointerEvents="none",e}var gr=function(){return gr=Object.assign||function(t){for(var n,r=1,l=arguments.length;r<l;r++){n=arguments[r];for(var o in n)Object.prototype.hasOwnProperty.call(n,o)&&(t[o]=n[o])}return t},gr.apply(this,arguments)};function wM(e,t){var n={};for(var r in e)Object.prototype.hasOwnProperty.call(e,r)&&t.indexOf(r)<0&&(n[r]=e[r]);if(e!=null&&typeof Object.getOwnPropertySymbols=="function")for(var l=0,r=Object.getOwnPropertySymbols(e);l<r.length;l++)t.indexOf(r[l])<0&&Object.prototype.propertyIsEnumerable.call(e,r[l])&&(n[r[l]]=e[r[l]]);return n}function dX(e,t,n){if(n||arguments.length===2)for(var r=0,l=t.length,o;r<l;r++)(o||!(r in t))&&(o||(o=Array.prototype.slice.call(t,0,r)),o[r]=t[r]);return e.concat(o||Array.prototype.slice.call(t))}var lf="right-scroll-bar-position",of="width-before-scroll-bar",hX="with-scroll-bars-hidden",mX="--removed-body-scroll-bar-size";function Xp(e,t){return typeof e=="function"?e(t):e&&(e.current=t),e}function vX(e,t){var n=g.useState(function(){return{value:e,callback:t,facade:{get current(){return n.value},set current(r){var l=n.value;l!==r&&(n.value=r,n.callback(r,l))}}}})[0];return n.callback=t,n.facade}var pX=typeof window<"u"?g.useLayoutEffect:g.useEffect,C2=new WeakMap;function yX(e,t){var n=vX(null,function(r){return e.forEach(function(l){return Xp(l,r)})});return pX(function(){var r=C2.get(n);if(r){var l=new Set(r),o=new Set(e),c=n.current;l.forEach(function(f){o.has(f)||Xp(f,null)}),o.forEach(function(f){l.has(f)||Xp(f,c)})}C2.set(n,e)},[e]),n}function gX(e){return e}function bX(e,t){t===void 0&&(t=gX);var n=[],r=!1,l={read:function(){if(r)throw new Error("Sidecar: could not `read` from an `assigned` medium. `read` could be used only with `useMedium`.");return n.length?n[n.length-1]:e},useMedium:function(o){var c=t(o,r);return n.push(c),function(){n=n.filter(function(f){return f!==c})}},assignSyncMedium:function(o){for(r=!0;n.length;){var c=n;n=[],c.forEach(o)}n={push:function(f){return o(f)},filter:function(){return n}}},assignMedium:function(o){r=!0;var c=[];if(n.length){var f=n;n=[],f.forEach(o),c=n}var d=function(){var m=c;c=[],m.forEach(o)},h=function(){return Promise.resolve().then(d)};h(),n={push:function(m){c.push(m),h()},filter:function(m){return c=c.filter(m),n}}}};return l}function xX(e){e===void 0&&(e={});var t=bX(null);return t.options=gr({async:!0,ssr:!1},e),t}var SM=function(e){var t=e.sideCar,n=wM(e,["sideCar"]);if(!t)throw new Error("Sidecar: please provide `sideCar` property to import the right car");var r=t.read();if(!r)throw new Error("Sidecar medium not found");return g.createElement(r,gr({},n))};SM.isSideCarExport=!0;function wX(e,t){return e.useMedium(t),SM}var EM=xX(),Fp=function(){},Hd=g.forwardRef(function(e,t){var n=g.useRef(null),r=g.useState({onScrollCapture:Fp,onWheelCapture:Fp,onTouchMoveCapture:Fp}),l=r[0],o=r[1],c=e.forwardProps,f=e.children,d=e.className,h=e.removeScrollBar,m=e.enabled,p=e.shards,x=e.sideCar,w=e.noRelative,A=e.noIsolation,O=e.inert,E=e.allowPinchZoom,j=e.as,_=j===void 0?"div":j,C=e.gapMode,D=wM(e,["forwardProps","children","className","removeScrollBar","enabled","shards","sideCar","noRelative","noIsolation","inert","allowPinchZoom","as","gapMode"]),T=x,R=yX([n,t]),k=gr(gr({},D),l);return g.createElement(g.Fragment,null,m&&g.createElement(T,{sideCar:EM,removeScrollBar:h,shards:p,noRelative:w,noIsolation:A,inert:O,setCallbacks:o,allowPinchZoom:!!E,lockRef:n,gapMode:C}),c?g.cloneElement(g.Children.only(f),gr(gr({},k),{ref:R})):g.createElement(_,gr({},k,{className:d,ref:R}),f))});Hd.defaultProps={enabled:!0,removeScrollBar:!0,inert:!1};Hd.classNames={fullWidth:of,zeroRight:lf};var SX=function(){if(typeof __webpack_nonce__<"u")return __webpack_nonce__};function EX(){if(!document)return null;var e=document.createElement("style");e.type="text/css";var t=SX();return t&&e.setAttribute("nonce",t),e}function OX(e,t){e.styleSheet?e.styleSheet.cssText=t:e.appendChild(document.createTextNode(t))}function AX(e){var t=document.head||document.getElementsByTagName("head")[0];t.appendChild(e)}var jX=function(){var e=0,t=null;return{add:function(n){e==0&&(t=EX())&&(OX(t,n),AX(t)),e++},remove:function(){e--,!e&&t&&(t.parentNode&&t.parentNode.removeChild(t),t=null)}}},NX=function(){var e=jX();return function(t,n){g.useEffect(function(){return e.add(t),function(){e.remove()}},[t&&n])}},OM=function(){var e=NX(),t=function(n){var r=n.styles,l=n.dynamic;return e(r,l),null};return t},CX={left:0,top:0,right:0,gap:0},Wp=function(e){return parseInt(e||"",10)||0},_X=function(e){var t=window.getComputedStyle(document.body),n=t[e==="padding"?"paddingLeft":"marginLeft"],r=t[e==="padding"?"paddingTop":"marginTop"],l=t[e==="padding"?"paddingRight":"marginRight"];return[Wp(n),Wp(r),Wp(l)]},TX=function(e){if(e===void 0&&(e="margin"),typeof window>"u")return CX;var t=_X(e),n=document.documentElement.clientWidth,r=window.innerWidth;return{left:t[0],top:t[1],right:t[2],gap:Math.max(0,r-n+t[2]-t[0])}},MX=OM(),Il="data-scroll-locked",DX=function(e,t,n,r){var l=e.left,o=e.top,c=e.right,f=e.gap;return n===void 0&&(n="margin"),`
-  .`.concat(hX,` {
-   overflow: hidden `).concat(r,`;
-   padding-right: `).concat(f,"px ").concat(r,`;
-  }
-  body[`).concat(Il,`] {
-    overflow: hidden `).concat(r,`;
-    overscroll-behavior: contain;
-    `).concat([t&&"position: relative ".concat(r,";"),n==="margin"&&`
-    padding-left: `.concat(l,`px;
-    padding-top: `).concat(o,`px;
-    padding-right: `).concat(c,`px;
-    margin-left:0;
-    margin-top:0;
-    margin-right: `).concat(f,"px ").concat(r,`;
-    `),n==="padding"&&"padding-right: ".concat(f,"px ").concat(r,";")].filter(Boolean).join(""),`
-  }
-  
-  .`).concat(lf,` {
-    right: `).concat(f,"px ").concat(r,`;
-  }
-  
-  .`).concat(of,` {
-    margin-right: `).concat(f,"px ").concat(r,`;
-  }
-  
-  .`).concat(lf," .").concat(lf,` {
-    right: 0 `).concat(r,`;
-  }
-  
-  .`).concat(of," .").concat(of,` {
-    margin-right: 0 `).concat(r,`;
-  }
-  
-  body[`).concat(Il,`] {
-    `).concat(mX,": ").concat(f,`px;
-  }
-`)},_2=function(){var e=parseInt(document.body.getAttribute(Il)||"0",10);return isFinite(e)?e:0},kX=function(){g.useEffect(function(){return document.body.setAttribute(Il,(_2()+1).toString()),function(){var e=_2()-1;e<=0?document.body.removeAttribute(Il):document.body.setAttribute(Il,e.toString())}},[])},PX=function(e){var t=e.noRelative,n=e.noImportant,r=e.gapMode,l=r===void 0?"margin":r;kX();var o=g.useMemo(function(){return TX(l)},[l]);return g.createElement(MX,{styles:DX(o,!t,l,n?"":"!important")})},Jy=!1;if(typeof window<"u")try{var Vs=Object.defineProperty({},"passive",{get:function(){return Jy=!0,!0}});window.addEventListener("test",Vs,Vs),window.removeEventListener("test",Vs,Vs)}catch{Jy=!1}var Cl=Jy?{passive:!1}:!1,RX=function(e){return e.tagName==="TEXTAREA"},AM=function(e,t){if(!(e instanceof Element))return!1;var n=window.getComputedStyle(e);return n[t]!=="hidden"&&!(n.overflowY===n.overflowX&&!RX(e)&&n[t]==="visible")},zX=function(e){return AM(e,"overflowY")},LX=function(e){return AM(e,"overflowX")},T2=function(e,t){var n=t.ownerDocument,r=t;do{typeof ShadowRoot<"u"&&r instanceof ShadowRoot&&(r=r.host);var l=jM(e,r);if(l){var o=NM(e,r),c=o[1],f=o[2];if(c>f)return!0}r=r.parentNode}while(r&&r!==n.body);return!1},BX=function(e){var t=e.scrollTop,n=e.scrollHeight,r=e.clientHeight;return[t,n,r]},UX=function(e){var t=e.scrollLeft,n=e.scrollWidth,r=e.clientWidth;return[t,n,r]},jM=function(e,t){return e==="v"?zX(t):LX(t)},NM=function(e,t){return e==="v"?BX(t):UX(t)},IX=function(e,t){return e==="h"&&t==="rtl"?-1:1},qX=function(e,t,n,r,l){var o=IX(e,window.getComputedStyle(t).direction),c=o*r,f=n.target,d=t.contains(f),h=!1,m=c>0,p=0,x=0;do{if(!f)break;var w=NM(e,f),A=w[0],O=w[1],E=w[2],j=O-E-o*A;(A||j)&&jM(e,f)&&(p+=j,x+=A);var _=f.parentNode;f=_&&_.nodeType===Node.DOCUMENT_FRAGMENT_NODE?_.host:_}while(!d&&f!==document.body||d&&(t.contains(f)||t===f));return(m&&Math.abs(p)<1||!m&&Math.abs(x)<1)&&(h=!0),h},Xs=function(e){return"changedTouches"in e?[e.changedTouches[0].clientX,e.changedTouches[0].clientY]:[0,0]},M2=function(e){return[e.deltaX,e.deltaY]},D2=function(e){return e&&"current"in e?e.current:e},HX=function(e,t){return e[0]===t[0]&&e[1]===t[1]},$X=function(e){return`
-  .block-interactivity-`.concat(e,` {pointer-events: none;}
-  .allow-interactivity-`).concat(e,` {pointer-events: all;}
-`)},YX=0,_l=[];function KX(e){var t=g.useRef([]),n=g.useRef([0,0]),r=g.useRef(),l=g.useState(YX++)[0],o=g.useState(OM)[0],c=g.useRef(e);g.useEffect(function(){c.current=e},[e]),g.useEffect(function(){if(e.inert){document.body.classList.add("block-interactivity-".concat(l));var O=dX([e.lockRef.current],(e.shards||[]).map(D2),!0).filter(Boolean);return O.forEach(function(E){return E.classList.add("allow-interactivity-".concat(l))}),function(){document.body.classList.remove("block-interactivity-".concat(l)),O.forEach(function(E){return E.classList.remove("allow-interactivity-".concat(l))})}}},[e.inert,e.lockRef.current,e.shards]);var f=g.useCallback(function(O,E){if("touches"in O&&O.touches.length===2||O.type==="wheel"&&O.ctrlKey)return!c.current.allowPinchZoom;var j=Xs(O),_=n.current,C="deltaX"in O?O.deltaX:_[0]-j[0],D="deltaY"in O?O.deltaY:_[1]-j[1],T,R=O.target,k=Math.abs(C)>Math.abs(D)?"h":"v";if("touches"in O&&k==="h"&&R.type==="range")return!1;var I=window.getSelection(),re=I&&I.anchorNode,ae=re?re===R||re.contains(R):!1;if(ae)return!1;var W=T2(k,R);if(!W)return!0;if(W?T=k:(T=k==="v"?"h":"v",W=T2(k,R)),!W)return!1;if(!r.current&&"changedTouches"in O&&(C||D)&&(r.current=T),!T)return!0;var J=r.current||T;return qX(J,E,O,J==="h"?C:D)},[]),d=g.useCallback(function(O){var E=O;if(!(!_l.length||_l[_l.length-1]!==o)){var j="deltaY"in E?M2(E):Xs(E),_=t.current.filter(function(T){return T.name===E.type&&(T.target===E.target||E.target===T.shadowParent)&&HX(T.delta,j)})[0];if(_&&_.should){E.cancelable&&E.preventDefault();return}if(!_){var C=(c.current.shards||[]).map(D2).filter(Boolean).filter(function(T){return T.contains(E.target)}),D=C.length>0?f(E,C[0]):!c.current.noIsolation;D&&E.cancelable&&E.preventDefault()}}},[]),h=g.useCallback(function(O,E,j,_){var C={name:O,delta:E,target:j,should:_,shadowParent:GX(j)};t.current.push(C),setTimeout(function(){t.current=t.current.filter(function(D){return D!==C})},1)},[]),m=g.useCallback(function(O){n.current=Xs(O),r.current=void 0},[]),p=g.useCallback(function(O){h(O.type,M2(O),O.target,f(O,e.lockRef.current))},[]),x=g.useCallback(function(O){h(O.type,Xs(O),O.target,f(O,e.lockRef.current))},[]);g.useEffect(function(){return _l.push(o),e.setCallbacks({onScrollCapture:p,onWheelCapture:p,onTouchMoveCapture:x}),document.addEventListener("wheel",d,Cl),document.addEventListener("touchmove",d,Cl),document.addEventListener("touchstart",m,Cl),function(){_l=_l.filter(function(O){return O!==o}),document.removeEventListener("wheel",d,Cl),document.removeEventListener("touchmove",d,Cl),document.removeEventListener("touchstart",m,Cl)}},[]);var w=e.removeScrollBar,A=e.inert;return g.createElement(g.Fragment,null,A?g.createElement(o,{styles:$X(l)}):null,w?g.createElement(PX,{noRelative:e.noRelative,gapMode:e.gapMode}):null)}function GX(e){for(var t=null;e!==null;)e instanceof ShadowRoot&&(t=e.host,e=e.host),e=e.parentNode;return t}const VX=wX(EM,KX);var CM=g.forwardRef(function(e,t){return g.createElement(Hd,gr({},e,{ref:t,sideCar:VX}))});CM.classNames=Hd.classNames;var XX=function(e){if(typeof document>"u")return null;var t=Array.isArray(e)?e[0]:e;return t.ownerDocument.body},Tl=new WeakMap,Fs=new WeakMap,Ws={},Zp=0,_M=function(e){return e&&(e.host||_M(e.parentNode))},FX=function(e,t){return t.map(function(n){if(e.contains(n))return n;var r=_M(n);return r&&e.contains(r)?r:(console.error("aria-hidden",n,"in not contained inside",e,". Doing nothing"),null)}).filter(function(n){return!!n})},WX=function(e,t,n,r){var l=FX(t,Array.isArray(e)?e:[e]);Ws[n]||(Ws[n]=new WeakMap);var o=Ws[n],c=[],f=new Set,d=new Set(l),h=function(p){!p||f.has(p)||(f.add(p),h(p.parentNode))};l.forEach(h);var m=function(p){!p||d.has(p)||Array.prototype.forEach.call(p.children,function(x){if(f.has(x))m(x);else try{var w=x.getAttribute(r),A=w!==null&&w!=="false",O=(Tl.get(x)||0)+1,E=(o.get(x)||0)+1;Tl.set(x,O),o.set(x,E),c.push(x),O===1&&A&&Fs.set(x,!0),E===1&&x.setAttribute(n,"true"),A||x.setAttribute(r,"true")}catch(j){console.error("aria-hidden: cannot operate on ",x,j)}})};return m(t),f.clear(),Zp++,function(){c.forEach(function(p){var x=Tl.get(p)-1,w=o.get(p)-1;Tl.set(p,x),o.set(p,w),x||(Fs.has(p)||p.removeAttribute(r),Fs.delete(p)),w||p.removeAttribute(n)}),Zp--,Zp||(Tl=new WeakMap,Tl=new WeakMap,Fs=new WeakMap,Ws={})}},ZX=function(e,t,n){n===void 0&&(n="data-aria-hidden");var r=Array.from(Array.isArray(e)?e:[e]),l=XX(e);return l?(r.push.apply(r,Array.from(l.querySelectorAll("[aria-live], script"))),WX(r,l,n,"aria-hidden")):function(){return null}},$d="Dialog",[TM]=uV($d),[QX,dr]=TM($d),MM=e=>{const{__scopeDialog:t,children:n,open:r,defaultOpen:l,onOpenChange:o,modal:c=!0}=e,f=g.useRef(null),d=g.useRef(null),[h,m]=hV({prop:r,defaultProp:l??!1,onChange:o,caller:$d});return b.jsx(QX,{scope:t,triggerRef:f,contentRef:d,contentId:Yp(),titleId:Yp(),descriptionId:Yp(),open:h,onOpenChange:m,onOpenToggle:g.useCallback(()=>m(p=>!p),[m]),modal:c,children:n})};MM.displayName=$d;var DM="DialogTrigger",JX=g.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=dr(DM,n),o=Li(t,l.triggerRef);return b.jsx(cc.button,{type:"button","aria-haspopup":"dialog","aria-expanded":l.open,"aria-controls":l.contentId,"data-state":F0(l.open),...r,ref:o,onClick:Fa(e.onClick,l.onOpenToggle)})});JX.displayName=DM;var V0="DialogPortal",[eF,kM]=TM(V0,{forceMount:void 0}),PM=e=>{const{__scopeDialog:t,forceMount:n,children:r,container:l}=e,o=dr(V0,t);return b.jsx(eF,{scope:t,forceMount:n,children:g.Children.map(r,c=>b.jsx(qd,{present:n||o.open,children:b.jsx(bM,{asChild:!0,container:l,children:c})}))})};PM.displayName=V0;var Jf="DialogOverlay",RM=g.forwardRef((e,t)=>{const n=kM(Jf,e.__scopeDialog),{forceMount:r=n.forceMount,...l}=e,o=dr(Jf,e.__scopeDialog);return o.modal?b.jsx(qd,{present:r||o.open,children:b.jsx(nF,{...l,ref:t})}):null});RM.displayName=Jf;var tF=xM("DialogOverlay.RemoveScroll"),nF=g.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=dr(Jf,n);return b.jsx(CM,{as:tF,allowPinchZoom:!0,shards:[l.contentRef],children:b.jsx(cc.div,{"data-state":F0(l.open),...r,ref:t,style:{pointerEvents:"auto",...r.style}})})}),zi="DialogContent",zM=g.forwardRef((e,t)=>{const n=kM(zi,e.__scopeDialog),{forceMount:r=n.forceMount,...l}=e,o=dr(zi,e.__scopeDialog);return b.jsx(qd,{present:r||o.open,children:o.modal?b.jsx(rF,{...l,ref:t}):b.jsx(aF,{...l,ref:t})})});zM.displayName=zi;var rF=g.forwardRef((e,t)=>{const n=dr(zi,e.__scopeDialog),r=g.useRef(null),l=Li(t,n.contentRef,r);return g.useEffect(()=>{const o=r.current;if(o)return ZX(o)},[]),b.jsx(LM,{...e,ref:l,trapFocus:n.open,disableOutsidePointerEvents:!0,onCloseAutoFocus:Fa(e.onCloseAutoFocus,o=>{o.preventDefault(),n.triggerRef.current?.focus()}),onPointerDownOutside:Fa(e.onPointerDownOutside,o=>{const c=o.detail.originalEvent,f=c.button===0&&c.ctrlKey===!0;(c.button===2||f)&&o.preventDefault()}),onFocusOutside:Fa(e.onFocusOutside,o=>o.preventDefault())})}),aF=g.forwardRef((e,t)=>{const n=dr(zi,e.__scopeDialog),r=g.useRef(!1),l=g.useRef(!1);return b.jsx(LM,{...e,ref:t,trapFocus:!1,disableOutsidePointerEvents:!1,onCloseAutoFocus:o=>{e.onCloseAutoFocus?.(o),o.defaultPrevented||(r.current||n.triggerRef.current?.focus(),o.preventDefault()),r.current=!1,l.current=!1},onInteractOutside:o=>{e.onInteractOutside?.(o),o.defaultPrevented||(r.current=!0,o.detail.originalEvent.type==="pointerdown"&&(l.current=!0));const c=o.target;n.triggerRef.current?.contains(c)&&o.preventDefault(),o.detail.originalEvent.type==="focusin"&&l.current&&o.preventDefault()}})}),LM=g.forwardRef((e,t)=>{const{__scopeDialog:n,trapFocus:r,onOpenAutoFocus:l,onCloseAutoFocus:o,...c}=e,f=dr(zi,n),d=g.useRef(null),h=Li(t,d);return fX(),b.jsxs(b.Fragment,{children:[b.jsx(yM,{asChild:!0,loop:!0,trapped:r,onMountAutoFocus:l,onUnmountAutoFocus:o,children:b.jsx(vM,{role:"dialog",id:f.contentId,"aria-describedby":f.descriptionId,"aria-labelledby":f.titleId,"data-state":F0(f.open),...c,ref:h,onDismiss:()=>f.onOpenChange(!1)})}),b.jsxs(b.Fragment,{children:[b.jsx(iF,{titleId:f.titleId}),b.jsx(oF,{contentRef:d,descriptionId:f.descriptionId})]})]})}),X0="DialogTitle",BM=g.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=dr(X0,n);return b.jsx(cc.h2,{id:l.titleId,...r,ref:t})});BM.displayName=X0;var UM="DialogDescription",IM=g.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=dr(UM,n);return b.jsx(cc.p,{id:l.descriptionId,...r,ref:t})});IM.displayName=UM;var qM="DialogClose",HM=g.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=dr(qM,n);return b.jsx(cc.button,{type:"button",...r,ref:t,onClick:Fa(e.onClick,()=>l.onOpenChange(!1))})});HM.displayName=qM;function F0(e){return e?"open":"closed"}var $M="DialogTitleWarning",[WF,YM]=oV($M,{contentName:zi,titleName:X0,docsSlug:"dialog"}),iF=({titleId:e})=>{const t=YM($M),n=`\`${t.contentName}\` requires a \`${t.titleName}\` for the component to be accessible for screen reader users.
-
-If you want to hide the \`${t.titleName}\`, you can wrap it with our VisuallyHidden component.
-
-For more information, see https://radix-ui.com/primitives/docs/components/${t.docsSlug}`;return g.useEffect(()=>{e&&(document.getElementById(e)||console.error(n))},[n,e]),null},lF="DialogDescriptionWarning",oF=({contentRef:e,descriptionId:t})=>{const r=`Warning: Missing \`Description\` or \`aria-describedby={undefined}\` for {${YM(lF).contentName}}.`;return g.useEffect(()=>{const l=e.current?.getAttribute("aria-describedby");t&&l&&(document.getElementById(t)||console.warn(r))},[r,e,t]),null},uF=MM,cF=PM,KM=RM,GM=zM,VM=BM,XM=IM,sF=HM;const fF=uF,dF=cF,FM=g.forwardRef(({className:e,...t},n)=>b.jsx(KM,{ref:n,className:Ve("fixed inset-0 z-50 bg-black/80  data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0",e),...t}));FM.displayName=KM.displayName;const WM=g.forwardRef(({className:e,children:t,...n},r)=>b.jsxs(dF,{children:[b.jsx(FM,{}),b.jsxs(GM,{ref:r,className:Ve("fixed left-[50%] top-[50%] z-50 grid w-full max-w-lg translate-x-[-50%] translate-y-[-50%] gap-4 border bg-background p-6 shadow-lg duration-200 data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 data-[state=closed]:zoom-out-95 data-[state=open]:zoom-in-95 data-[state=closed]:slide-out-to-left-1/2 data-[state=closed]:slide-out-to-top-[48%] data-[state=open]:slide-in-from-left-1/2 data-[state=open]:slide-in-from-top-[48%] sm:rounded-lg",e),...n,children:[t,b.jsxs(sF,{className:"absolute right-4 top-4 rounded-sm opacity-70 ring-offset-background transition-opacity hover:opacity-100 focus:outline-none focus:ring-2 focus:ring-ring focus:ring-offset-2 disabled:pointer-events-none data-[state=open]:bg-accent data-[state=open]:text-muted-foreground",children:[b.jsx(Iz,{className:"h-4 w-4"}),b.jsx("span",{className:"sr-only",children:"Close"})]})]})]}));WM.displayName=GM.displayName;const ZM=({className:e,...t})=>b.jsx("div",{className:Ve("flex flex-col space-y-1.5 text-center sm:text-left",e),...t});ZM.displayName="DialogHeader";const QM=({className:e,...t})=>b.jsx("div",{className:Ve("flex flex-col-reverse sm:flex-row sm:justify-end sm:space-x-2",e),...t});QM.displayName="DialogFooter";const JM=g.forwardRef(({className:e,...t},n)=>b.jsx(VM,{ref:n,className:Ve("text-lg font-semibold leading-none tracking-tight",e),...t}));JM.displayName=VM.displayName;const eD=g.forwardRef(({className:e,...t},n)=>b.jsx(XM,{ref:n,className:Ve("text-sm text-muted-foreground",e),...t}));eD.displayName=XM.displayName;function hF({isOpen:e,onClose:t,onSuccess:n,userAccountId:r}){const[l,o]=g.useState(""),[c,f]=g.useState(""),[d,h]=g.useState(""),[m,p]=g.useState(!1),[x,w]=g.useState(""),A=async O=>{if(O.preventDefault(),p(!0),w(""),Number(c)<=0){w("Tutar 0'dan büyük olmalı."),p(!1);return}try{await oz({fromAccountNumber:r,toAccountNumber:l,amount:Number(c),description:d||"Transfer"}),n(),t(),o(""),f(""),h("")}catch(E){w(E.message||"Transfer başarısız.")}finally{p(!1)}};return b.jsx(fF,{open:e,onOpenChange:t,children:b.jsxs(WM,{className:"sm:max-w-[425px] bg-slate-900 text-white border-slate-700",children:[b.jsxs(ZM,{children:[b.jsx(JM,{children:"Para Transferi 💸"}),b.jsx(eD,{className:"text-slate-400",children:"Başka bir DinoBank hesabına anında para gönderin."})]}),b.jsxs("form",{onSubmit:A,className:"grid gap-4 py-4",children:[b.jsxs("div",{className:"grid grid-cols-4 items-center gap-4",children:[b.jsx(Xt,{htmlFor:"target",className:"text-right text-slate-300",children:"Alıcı Hesap"}),b.jsx(Vt,{id:"target",placeholder:"TR...",className:"col-span-3 bg-slate-800 border-slate-700 text-white focus:ring-primary",value:l,onChange:O=>o(O.target.value),required:!0})]}),b.jsxs("div",{className:"grid grid-cols-4 items-center gap-4",children:[b.jsx(Xt,{htmlFor:"amount",className:"text-right text-slate-300",children:"Tutar"}),b.jsx(Vt,{id:"amount",type:"number",placeholder:"0.00",className:"col-span-3 bg-slate-800 border-slate-700 text-white focus:ring-primary",value:c,onChange:O=>f(O.target.value),required:!0})]}),b.jsxs("div",{className:"grid grid-cols-4 items-center gap-4",children:[b.jsx(Xt,{htmlFor:"desc",className:"text-right text-slate-300",children:"Açıklama"}),b.jsx(Vt,{id:"desc",placeholder:"Örn: Kira",className:"col-span-3 bg-slate-800 border-slate-700 text-white focus:ring-primary",value:d,onChange:O=>h(O.target.value)})]}),x&&b.jsx("div",{className:"text-red-400 text-sm text-center bg-red-900/20 p-2 rounded",children:x}),b.jsx(QM,{children:b.jsx(yt,{type:"submit",disabled:m,className:"w-full bg-primary hover:bg-primary/90 text-black font-bold",children:m?b.jsx(sg,{className:"mr-2 h-4 w-4 animate-spin"}):"Gönder"})})]})]})})}const Qp=[{name:"Başlangıç",min:0},{name:"Gümüş",min:1e3},{name:"Altın",min:5e3},{name:"Platin",min:1e4},{name:"Elmas",min:25e3},{name:"Efsanevi",min:5e4}];function mF(){const[e,t]=g.useState(null),[n,r]=g.useState(null),[l,o]=g.useState([]),[c,f]=g.useState(!0),[d,h]=g.useState(!1),m=Iu(),p=n?Math.floor(n.balance):0,x=Qp.slice().reverse().find(j=>p>=j.min)||Qp[0],w=Qp.find(j=>j.min>p),A=w?(p-x.min)/(w.min-x.min)*100:100,O=[{name:"Pzt",amount:4e3},{name:"Sal",amount:3e3},{name:"Çar",amount:2e3},{name:"Per",amount:2780},{name:"Cum",amount:1890},{name:"Cmt",amount:2390},{name:"Paz",amount:3490}],E=async()=>{const j=localStorage.getItem("dinoUser");if(!j)return;const _=JSON.parse(j);try{const C=await hj(_.id);if(r(C),C&&C.id){const D=await mj(C.id),T=k=>k?Array.isArray(k)?new Date(k[0],k[1]-1,k[2],k[3],k[4],k[5]||0):new Date(k):new Date,R=D.sort((k,I)=>T(I.transactionDate)-T(k.transactionDate));o(R.map(k=>({...k,parsedDate:T(k.transactionDate)})))}}catch(C){console.error("Dashboard data fetch error:",C)}};return g.useEffect(()=>{const j=localStorage.getItem("dinoUser");if(!j){m("/login");return}const _=JSON.parse(j);t(_),(async()=>{await E(),f(!1)})()},[m]),c?b.jsx("div",{className:"flex items-center justify-center h-screen text-white bg-background",children:b.jsxs("div",{className:"flex flex-col items-center",children:[b.jsx("span",{className:"text-4xl animate-bounce",children:"🦖"}),b.jsx("p",{className:"mt-4 text-slate-400",children:"Veriler Yükleniyor..."})]})}):b.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[b.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:b.jsx(uc,{})}),b.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[b.jsxs("header",{className:"flex justify-between items-center mb-10",children:[b.jsxs("div",{children:[b.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-white to-slate-400 bg-clip-text text-transparent",children:"Panel"}),b.jsxs("p",{className:"text-slate-400 mt-1",children:["Tekrar hoşgeldin, ",e?.ad,"!"]})]}),b.jsx("div",{className:"flex items-center gap-4",children:b.jsxs(yt,{className:"bg-primary text-black font-bold hover:bg-primary/90 shadow-lg shadow-primary/20",onClick:()=>h(!0),children:[b.jsx(SS,{className:"mr-2 h-4 w-4"})," Yeni Transfer"]})})]}),b.jsx(hF,{isOpen:d,onClose:()=>h(!1),onSuccess:()=>{E()},userAccountId:n?.accountNumber}),b.jsxs("div",{className:"grid gap-6 md:grid-cols-2 lg:grid-cols-7",children:[b.jsxs(Dt,{className:"col-span-4 bg-gradient-to-br from-primary/20 to-black/40 border-primary/20 backdrop-blur-sm relative overflow-hidden",children:[b.jsx("div",{className:"absolute right-[-20px] bottom-[-20px] text-[150px] opacity-5 rotate-[-10deg]",children:"🦖"}),b.jsxs(kt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[b.jsx(Pt,{className:"text-sm font-medium text-primary-foreground/80",children:"Toplam Bakiye"}),b.jsx(SS,{className:"h-5 w-5 text-primary"})]}),b.jsxs(Rt,{children:[b.jsxs("div",{className:"text-5xl font-black text-white tracking-tight",children:["₺ ",n?.balance?n.balance.toLocaleString("tr-TR",{minimumFractionDigits:2}):"0,00"]}),b.jsx("p",{className:"text-sm text-primary/80 mt-2 font-medium flex items-center",children:b.jsx("span",{className:"opacity-70 text-xs mr-2",children:n?.accountNumber})})]})]}),b.jsxs(Dt,{className:"col-span-3 bg-black/40 border-white/10 backdrop-blur-md",children:[b.jsxs(kt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[b.jsx(Pt,{className:"text-sm font-medium text-slate-300",children:"Sadakat Durumu"}),b.jsx("div",{className:"h-8 w-8 rounded-full bg-primary/20 flex items-center justify-center text-primary",children:b.jsx(fg,{className:"h-4 w-4"})})]}),b.jsxs(Rt,{children:[b.jsxs("div",{className:"flex justify-between items-end mb-4",children:[b.jsxs("div",{children:[b.jsx("div",{className:"text-3xl font-bold text-white",children:x.name}),b.jsxs("p",{className:"text-sm text-slate-400 font-medium",children:[p," Puan"]})]}),w&&b.jsxs("div",{className:"text-right",children:[b.jsxs("div",{className:"text-sm font-medium text-slate-300",children:["Sonraki: ",w.name]}),b.jsxs("div",{className:"text-xs text-slate-500",children:[w.min-p," puan kaldı"]})]})]}),b.jsx(bu,{value:A,className:"h-3 bg-white/5",indicatorClassName:"bg-gradient-to-r from-primary to-emerald-400"})]})]}),b.jsxs(Dt,{className:"col-span-4 bg-black/20 border-white/5",children:[b.jsx(kt,{children:b.jsx(Pt,{className:"text-slate-200",children:"Haftalık Özet"})}),b.jsx(Rt,{className:"pl-2",children:b.jsx("div",{className:"h-[250px] w-full",children:b.jsx($N,{width:"100%",height:"100%",children:b.jsxs(dM,{data:O,children:[b.jsx("defs",{children:b.jsxs("linearGradient",{id:"colorAmount",x1:"0",y1:"0",x2:"0",y2:"1",children:[b.jsx("stop",{offset:"5%",stopColor:"hsl(var(--primary))",stopOpacity:.3}),b.jsx("stop",{offset:"95%",stopColor:"hsl(var(--primary))",stopOpacity:0})]})}),b.jsx(I0,{strokeDasharray:"3 3",vertical:!1,stroke:"rgba(255,255,255,0.05)"}),b.jsx(H0,{dataKey:"name",stroke:"#64748b",fontSize:12,tickLine:!1,axisLine:!1}),b.jsx($0,{stroke:"#64748b",fontSize:12,tickLine:!1,axisLine:!1,tickFormatter:j=>`₺${j}`}),b.jsx(ET,{contentStyle:{backgroundColor:"#0f172a",borderRadius:"12px",border:"1px solid rgba(255,255,255,0.1)",color:"#fff"},itemStyle:{color:"#fff"}}),b.jsx(q0,{type:"monotone",dataKey:"amount",stroke:"hsl(var(--primary))",strokeWidth:3,fillOpacity:1,fill:"url(#colorAmount)"})]})})})})]}),b.jsxs(Dt,{className:"col-span-3 bg-black/20 border-white/5",children:[b.jsxs(kt,{children:[b.jsx(Pt,{className:"text-slate-200",children:"Son İşlemler"}),b.jsxs(to,{className:"text-slate-500",children:["Bu hafta ",l.length," işlem yaptınız."]})]}),b.jsx(Rt,{children:b.jsxs(Rl,{children:[b.jsx(zl,{children:b.jsxs(pn,{className:"border-white/5 hover:bg-transparent",children:[b.jsx(ft,{className:"text-slate-400",children:"İşlem"}),b.jsx(ft,{className:"text-right text-slate-400",children:"Tutar"})]})}),b.jsx(Ll,{children:l.length===0?b.jsx(pn,{children:b.jsx(Je,{colSpan:2,className:"text-center text-slate-500 py-4",children:"Henüz işlem yok 🦖"})}):l.slice(0,5).map(j=>{j.amount>0;const _=j.transactionType==="DEPOSIT"||j.transactionType==="INCOMING_TRANSFER";return b.jsxs(pn,{className:"border-white/5 hover:bg-white/5 transition-colors",children:[b.jsxs(Je,{children:[b.jsx("div",{className:"font-medium text-slate-200",children:j.description||j.transactionType}),b.jsx("div",{className:"text-xs text-slate-500",children:j.parsedDate?j.parsedDate.toLocaleDateString("tr-TR"):"-"})]}),b.jsxs(Je,{className:Ve("text-right font-bold",_?"text-emerald-400":"text-slate-300"),children:[_?"+":"-","₺",Math.abs(j.amount).toLocaleString("tr-TR",{minimumFractionDigits:2})]})]},j.id)})})]})})]})]})]})]})}function vF(){return b.jsxs("div",{className:"min-h-screen bg-slate-950 font-sans text-white scroll-smooth relative overflow-x-hidden",children:[b.jsx("nav",{className:"fixed w-full z-50 top-0 px-4 py-3",children:b.jsxs("div",{className:"bg-white/70 dark:bg-black/70 backdrop-blur-md max-w-7xl mx-auto rounded-2xl px-6 py-3 shadow-sm flex flex-wrap items-center justify-between border border-white/20",children:[b.jsxs(Va,{to:"/",className:"flex items-center space-x-2 group",children:[b.jsx("div",{className:"bg-primary text-primary-foreground p-2 rounded-lg shadow-lg group-hover:rotate-12 transition-transform",children:b.jsx("svg",{className:"h-6 w-6",fill:"currentColor",viewBox:"0 0 24 24",children:b.jsx("path",{d:"M12 2C6.48 2 2 6.48 2 12s4.48 10 10 10 10-4.48 10-10S17.52 2 12 2zm-1 17.93c-3.95-.49-7-3.85-7-7.93 0-.62.08-1.21.21-1.79L9 15v1c0 1.1.9 2 2 2v1.93zm6.9-2.54c-.26-.81-1-1.39-1.9-1.39h-1v-3c0-.55-.45-1-1-1H8v-2h2c.55 0 1-.45 1-1V7h2c1.1 0 2-.9 2-2v-.41c2.93 1.19 5 4.06 5 7.41 0 2.08-.8 3.97-2.1 5.39z"})})}),b.jsx("span",{className:"self-center text-xl font-bold tracking-tight",children:"DinoBank"})]}),b.jsxs("div",{className:"hidden md:flex space-x-8 font-medium text-slate-600 dark:text-slate-300",children:[b.jsx("a",{href:"#features",className:"hover:text-primary transition",children:"Özellikler"}),b.jsx("a",{href:"#cards",className:"hover:text-primary transition",children:"Kartlar"}),b.jsx("a",{href:"#contact",className:"hover:text-primary transition",children:"İletişim"})]}),b.jsx("div",{className:"flex space-x-3",children:b.jsx(Va,{to:"/login",children:b.jsx(yt,{className:"bg-primary hover:bg-primary/90 text-primary-foreground font-semibold rounded-xl shadow-lg shadow-primary/20",children:"Giriş Yap"})})})]})}),b.jsxs("section",{id:"home",className:"relative pt-40 pb-20 overflow-hidden",children:[b.jsx("div",{className:"absolute top-20 right-0 w-[600px] h-[600px] bg-primary/10 rounded-full blur-[100px] -z-10"}),b.jsx("div",{className:"absolute bottom-0 left-0 w-[400px] h-[400px] bg-blue-500/10 rounded-full blur-[80px] -z-10"}),b.jsx("div",{className:"container mx-auto px-6 relative z-10",children:b.jsxs("div",{className:"flex flex-col lg:flex-row items-center gap-12",children:[b.jsxs("div",{className:"w-full lg:w-1/2 space-y-8 text-center lg:text-left",children:[b.jsx("div",{className:"inline-block px-4 py-1.5 bg-white dark:bg-white/5 border border-primary/20 rounded-full shadow-sm",children:b.jsxs("span",{className:"text-primary font-bold text-xs uppercase tracking-wider flex items-center gap-2",children:[b.jsx("span",{className:"w-2 h-2 bg-primary rounded-full animate-pulse"}),"Yeni Nesil Finans"]})}),b.jsxs("h1",{className:"text-5xl lg:text-7xl font-extrabold leading-[1.1]",children:["Paranız İçin ",b.jsx("br",{}),b.jsx("span",{className:"text-transparent bg-clip-text bg-gradient-to-r from-primary to-emerald-400",children:"Jurassic Bir Güç."})]}),b.jsx("p",{className:"text-lg text-slate-600 dark:text-slate-400 max-w-xl mx-auto lg:mx-0 leading-relaxed",children:"Fosil bankacılık alışkanlıklarını geride bırakın. DinoBank ile ışık hızında transferler, kaya gibi sağlam güvenlik ve size özel avantajlar dünyasına adım atın."}),b.jsxs("div",{className:"flex flex-col sm:flex-row gap-4 justify-center lg:justify-start",children:[b.jsx(Va,{to:"/register",children:b.jsx(yt,{size:"lg",className:"rounded-2xl text-lg px-8 py-6 shadow-xl shadow-primary/20",children:"Hesap Oluştur"})}),b.jsx(yt,{variant:"outline",size:"lg",className:"rounded-2xl text-lg px-8 py-6 bg-white/50 dark:bg-white/5 backdrop-blur-sm",children:"Nasıl Çalışır?"})]}),b.jsxs("div",{className:"pt-8 flex items-center justify-center lg:justify-start gap-8 border-t border-slate-200 dark:border-slate-800",children:[b.jsxs("div",{children:[b.jsx("p",{className:"text-3xl font-bold",children:"2M+"}),b.jsx("p",{className:"text-sm text-slate-500 font-medium",children:"Kullanıcı"})]}),b.jsx("div",{className:"w-px h-10 bg-slate-300 dark:bg-slate-700"}),b.jsxs("div",{children:[b.jsx("p",{className:"text-3xl font-bold",children:"₺50Mr"}),b.jsx("p",{className:"text-sm text-slate-500 font-medium",children:"Hacim"})]})]})]}),b.jsxs("div",{className:"w-full lg:w-1/2 flex justify-center relative",children:[b.jsx("div",{className:"absolute inset-0 bg-gradient-to-tr from-primary/20 to-transparent rounded-full filter blur-3xl opacity-30 animate-pulse"}),b.jsx("div",{className:"relative w-full max-w-md animate-bounce duration-[3000ms]",children:b.jsx("div",{className:"relative bg-slate-900 rounded-[3rem] p-4 shadow-2xl border-4 border-slate-800 ring-1 ring-slate-700",children:b.jsxs("div",{className:"bg-white dark:bg-slate-950 rounded-[2.5rem] overflow-hidden h-[600px] w-full relative",children:[b.jsxs("div",{className:"bg-primary h-40 p-6 pt-10 text-primary-foreground rounded-b-[3rem] shadow-lg relative z-10",children:[b.jsxs("div",{className:"flex justify-between items-center mb-4",children:[b.jsx("div",{className:"w-8 h-8 bg-white/20 rounded-full flex items-center justify-center text-xs",children:"🦖"}),b.jsx("div",{className:"w-8 h-8 bg-white/20 rounded-full"})]}),b.jsx("p",{className:"text-primary-foreground/80 text-sm",children:"Toplam Bakiye"}),b.jsx("h3",{className:"text-3xl font-bold",children:"₺ 124.500"})]}),b.jsxs("div",{className:"p-6 space-y-4 -mt-6 relative z-0",children:[b.jsxs("div",{className:"bg-white dark:bg-slate-900 p-4 rounded-2xl shadow-lg border border-slate-100 dark:border-slate-800 flex items-center justify-between",children:[b.jsxs("div",{className:"flex items-center gap-3",children:[b.jsx("div",{className:"w-10 h-10 bg-green-50 dark:bg-green-900/20 text-primary rounded-full flex items-center justify-center font-bold",children:"₺"}),b.jsxs("div",{children:[b.jsx("p",{className:"font-bold text-sm",children:"Maaş Yatışı"}),b.jsx("p",{className:"text-xs text-slate-400",children:"DinoCorp A.Ş."})]})]}),b.jsx("span",{className:"font-bold text-emerald-500",children:"+45.000₺"})]}),b.jsxs("div",{className:"bg-white dark:bg-slate-900 p-4 rounded-2xl shadow-sm border border-slate-100 dark:border-slate-800 flex items-center justify-between opacity-80",children:[b.jsxs("div",{className:"flex items-center gap-3",children:[b.jsx("div",{className:"w-10 h-10 bg-red-50 dark:bg-red-900/20 text-red-500 rounded-full flex items-center justify-center",children:"🛒"}),b.jsxs("div",{children:[b.jsx("p",{className:"font-bold text-sm",children:"Market"}),b.jsx("p",{className:"text-xs text-slate-400",children:"Migros"})]})]}),b.jsx("span",{className:"font-bold text-slate-800 dark:text-slate-200",children:"-1.200₺"})]})]})]})})})]})]})})]}),b.jsx("section",{id:"features",className:"py-24 relative bg-slate-900 border-t border-slate-800",children:b.jsxs("div",{className:"container mx-auto px-6",children:[b.jsxs("div",{className:"mb-32 flex flex-col md:flex-row items-center gap-12 bg-slate-800/50 p-12 rounded-[3rem] border border-slate-700 relative overflow-hidden",children:[b.jsx("div",{className:"absolute top-0 right-0 w-64 h-64 bg-primary/20 rounded-full blur-[100px] pointer-events-none"}),b.jsx("div",{className:"w-full md:w-1/3 flex justify-center",children:b.jsx("div",{className:"w-64 h-64 bg-gradient-to-br from-emerald-500 to-primary rounded-full flex items-center justify-center text-[100px] shadow-2xl shadow-emerald-500/20 animate-bounce cursor-pointer hover:rotate-12 transition-transform",children:"🦖"})}),b.jsxs("div",{className:"w-full md:w-2/3 space-y-6 relative z-10",children:[b.jsx("div",{className:"inline-block px-4 py-1.5 bg-emerald-500/20 text-emerald-400 rounded-full text-xs font-bold uppercase tracking-wider",children:"Müşteri Temsilciniz"}),b.jsx("h2",{className:"text-4xl font-extrabold text-white",children:"T-Rex İle Tanışın."}),b.jsx("p",{className:"text-lg text-slate-300 leading-relaxed",children:'"Merhaba! Ben T-Rex. Bankacılık işlemlerinizin fosilleşmesini engellemek için buradayım. Sürpriz ücretleri yiyor, faiz oranlarını ısırıyorum. Size en güçlü finansal desteği sunmak için 65 milyon yıldır bekliyorum!"'}),b.jsx(yt,{className:"bg-emerald-600 hover:bg-emerald-700 text-white rounded-xl px-8 h-12",children:"T-Rex İle Konuş (Yakında)"})]})]}),b.jsxs("div",{className:"text-center max-w-3xl mx-auto mb-16",children:[b.jsx("span",{className:"text-primary font-bold tracking-widest uppercase text-xs",children:"Neden Biz?"}),b.jsxs("h2",{className:"text-4xl font-bold mt-2 text-white",children:["Dinozor Kadar Güçlü,",b.jsx("br",{}),"Teknoloji Kadar Hızlı."]})]}),b.jsx("div",{className:"grid grid-cols-1 md:grid-cols-3 gap-8",children:[{icon:"🚀",title:"Işık Hızı",desc:"Havale, EFT ve FAST işlemleriniz saniyeler içinde gerçekleşir. DinoBank ile beklemek tarihe karıştı.",color:"bg-green-50 dark:bg-green-900/20"},{icon:"🛡️",title:"Zırhlı Güvenlik",desc:"Verileriniz, en son şifreleme teknolojileri ve Dinozor gücündeki güvenlik duvarlarıyla korunur.",color:"bg-yellow-50 dark:bg-yellow-900/20"},{icon:"🌍",title:"Evrensel Erişim",desc:"Dünyanın her yerinde geçerli kartlar ve düşük komisyonlu döviz işlemleri ile sınırlar kalktı.",color:"bg-blue-50 dark:bg-blue-900/20"}].map((e,t)=>b.jsxs("div",{className:"group bg-white dark:bg-slate-800 p-8 rounded-[2rem] shadow-lg border border-slate-100 dark:border-slate-700 hover:border-primary/30 transition-all duration-300 relative overflow-hidden",children:[b.jsx("div",{className:`absolute top-0 right-0 w-32 h-32 ${e.color} rounded-bl-[100px] -z-0 transition-transform group-hover:scale-110`}),b.jsxs("div",{className:"relative z-10",children:[b.jsx("div",{className:"w-14 h-14 bg-primary text-primary-foreground rounded-2xl flex items-center justify-center mb-6 shadow-lg shadow-primary/20 text-2xl",children:e.icon}),b.jsx("h3",{className:"text-xl font-bold mb-3",children:e.title}),b.jsx("p",{className:"text-slate-500 dark:text-slate-400 leading-relaxed",children:e.desc})]})]},t))})]})}),b.jsx("section",{id:"cards",className:"py-24 bg-slate-50 dark:bg-slate-950 overflow-hidden",children:b.jsxs("div",{className:"container mx-auto px-6",children:[b.jsxs("div",{className:"text-center max-w-3xl mx-auto mb-16",children:[b.jsx("span",{className:"text-primary font-bold tracking-widest uppercase text-xs",children:"Kartlarımız"}),b.jsxs("h2",{className:"text-4xl font-bold mt-2",children:["Cüzdanınıza Yakışan",b.jsx("br",{}),"Dinozor Gücü."]})]}),b.jsxs("div",{className:"flex flex-wrap justify-center gap-8 perspective-1000",children:[b.jsxs("div",{className:"group relative w-80 h-48 bg-gradient-to-br from-blue-600 to-blue-800 rounded-2xl shadow-2xl p-6 text-white transform transition-all duration-500 hover:scale-105 hover:-rotate-2 hover:shadow-blue-500/50",children:[b.jsxs("div",{className:"flex justify-between items-start",children:[b.jsx("span",{className:"font-bold text-lg tracking-widest",children:"DinoBank"}),b.jsx("span",{className:"text-xs opacity-70",children:"Debit"})]}),b.jsxs("div",{className:"mt-8 flex gap-2",children:[b.jsx("div",{className:"w-10 h-7 bg-yellow-400/80 rounded-md"}),b.jsx("div",{className:"w-7 h-7 border-2 border-white/30 rounded-full"})]}),b.jsx("div",{className:"mt-4",children:b.jsx("p",{className:"font-mono text-lg tracking-widest opacity-90",children:"**** **** **** 4242"})}),b.jsxs("div",{className:"mt-4 flex justify-between items-end",children:[b.jsxs("div",{children:[b.jsx("p",{className:"text-[10px] opacity-70 uppercase",children:"Kart Sahibi"}),b.jsx("p",{className:"font-medium text-sm tracking-wide",children:"OSMAN YETKİN"})]}),b.jsx("div",{className:"w-10 h-10 bg-white/20 rounded-full flex items-center justify-center text-xl",children:"🦖"})]})]}),b.jsxs("div",{className:"group relative w-80 h-48 bg-gradient-to-br from-yellow-500 via-amber-500 to-yellow-600 rounded-2xl shadow-2xl p-6 text-white transform transition-all duration-500 hover:scale-110 hover:z-10 hover:shadow-yellow-500/50",children:[b.jsx("div",{className:"absolute inset-0 bg-[url('https://www.transparenttextures.com/patterns/cubes.png')] opacity-10"}),b.jsxs("div",{className:"flex justify-between items-start relative z-10",children:[b.jsx("span",{className:"font-bold text-lg tracking-widest",children:"DinoBank"}),b.jsx("span",{className:"bg-white/20 px-2 py-0.5 rounded text-[10px] font-bold uppercase",children:"Gold"})]}),b.jsxs("div",{className:"mt-8 flex gap-2 relative z-10",children:[b.jsx("div",{className:"w-10 h-7 bg-yellow-200/80 rounded-md"}),b.jsx("span",{className:"text-2xl",children:"📶"})]}),b.jsx("div",{className:"mt-4 relative z-10",children:b.jsx("p",{className:"font-mono text-lg tracking-widest text-shadow-sm",children:"5412 7512 3412 3456"})}),b.jsxs("div",{className:"mt-4 flex justify-between items-end relative z-10",children:[b.jsxs("div",{children:[b.jsx("p",{className:"text-[10px] opacity-70 uppercase",children:"Kart Sahibi"}),b.jsx("p",{className:"font-medium text-sm tracking-wide",children:"KÜRŞAT YILMAZ"})]}),b.jsx("div",{className:"text-2xl",children:"🦕"})]})]}),b.jsxs("div",{className:"group relative w-80 h-48 bg-gradient-to-br from-slate-800 to-black rounded-2xl shadow-2xl p-6 text-white transform transition-all duration-500 hover:scale-105 hover:rotate-2 hover:shadow-primary/50 border border-slate-700",children:[b.jsx("div",{className:"absolute inset-0 bg-gradient-to-r from-transparent via-white/5 to-transparent skew-x-12 opacity-0 group-hover:opacity-100 transition-opacity duration-700"}),b.jsxs("div",{className:"flex justify-between items-start",children:[b.jsx("span",{className:"font-bold text-lg tracking-widest bg-gradient-to-r from-primary to-emerald-400 bg-clip-text text-transparent",children:"DinoBank"}),b.jsx("span",{className:"text-primary text-xs font-bold uppercase tracking-widest",children:"Elite"})]}),b.jsx("div",{className:"mt-8 flex gap-2",children:b.jsx("div",{className:"w-10 h-7 bg-slate-400/80 rounded-md"})}),b.jsx("div",{className:"mt-4",children:b.jsx("p",{className:"font-mono text-lg tracking-widest opacity-90",children:"4000 1234 5678 9010"})}),b.jsxs("div",{className:"mt-4 flex justify-between items-end",children:[b.jsxs("div",{children:[b.jsx("p",{className:"text-[10px] opacity-70 uppercase",children:"Kart Sahibi"}),b.jsx("p",{className:"font-medium text-sm tracking-wide",children:"İLKMERT DEMİR"})]}),b.jsx("div",{className:"text-2xl",children:"🥚"})]})]})]})]})}),b.jsx("footer",{className:"bg-slate-50 dark:bg-slate-950 pt-16 pb-8 border-t border-slate-200 dark:border-slate-800",children:b.jsx("div",{className:"container mx-auto px-6",children:b.jsxs("div",{className:"flex flex-col md:flex-row justify-between items-center text-sm text-slate-500",children:[b.jsx("div",{className:"flex items-center space-x-2 mb-4 md:mb-0",children:b.jsx("span",{className:"text-xl font-bold text-slate-900 dark:text-slate-100",children:"DinoBank"})}),b.jsx("p",{children:"© 2025 DinoBank A.Ş. Tüm hakları saklıdır."})]})})})]})}function pF(){const[e,t]=g.useState("credit");return b.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[b.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:b.jsx(uc,{})}),b.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[b.jsxs("header",{className:"flex justify-between items-center mb-10",children:[b.jsxs("div",{children:[b.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-purple-400 to-pink-600 bg-clip-text text-transparent",children:"Kartlarım"}),b.jsx("p",{className:"text-slate-400 mt-1",children:"Kartlarınızı yönetin ve limitlerinizi kontrol edin."})]}),b.jsxs(yt,{className:"bg-white text-black hover:bg-slate-200",children:[b.jsx(Mz,{className:"mr-2 h-4 w-4"})," Yeni Kart Başvurusu"]})]}),b.jsxs("div",{className:"grid gap-8 lg:grid-cols-2",children:[b.jsxs("div",{className:"space-y-6",children:[b.jsx("div",{className:"relative group perspective-1000",children:b.jsxs("div",{className:"relative h-56 w-96 rounded-2xl bg-gradient-to-r from-purple-600 to-blue-600 p-6 text-white shadow-2xl transition-transform transform group-hover:scale-105 duration-300",children:[b.jsxs("div",{className:"flex justify-between items-start",children:[b.jsx("div",{className:"text-2xl font-bold",children:"DinoBank"}),b.jsx(pj,{className:"h-8 w-8 opacity-80"})]}),b.jsxs("div",{className:"mt-8 flex items-center gap-2",children:[b.jsx("div",{className:"bg-white/20 px-2 py-1 rounded text-xs backdrop-blur-sm",children:"CHIP"}),b.jsx(Hz,{className:"h-4 w-4 text-yellow-300"})]}),b.jsx("div",{className:"mt-4 text-2xl font-mono tracking-widest",children:"4522 **** **** 9832"}),b.jsxs("div",{className:"mt-6 flex justify-between items-end",children:[b.jsxs("div",{children:[b.jsx("div",{className:"text-[10px] opacity-75 mb-1",children:"KART SAHİBİ"}),b.jsx("div",{className:"font-bold tracking-wider text-sm truncate w-40",children:"TEST USER"})]}),b.jsxs("div",{children:[b.jsx("div",{className:"text-xs opacity-75",children:"SKT"}),b.jsx("div",{className:"font-bold",children:"12/28"})]}),b.jsx("div",{className:"text-2xl font-bold italic opacity-50",children:"PLATINUM"})]}),b.jsx("div",{className:"absolute inset-0 rounded-2xl bg-gradient-to-tr from-white/10 to-transparent pointer-events-none"})]})}),b.jsxs("div",{className:"grid grid-cols-2 gap-4 w-96",children:[b.jsxs(yt,{variant:"outline",className:"border-white/10 hover:bg-white/5 text-white",children:[b.jsx(yj,{className:"mr-2 h-4 w-4"})," Şifre Değiştir"]}),b.jsxs(yt,{variant:"destructive",className:"bg-red-900/50 hover:bg-red-900/80",children:[b.jsx(gj,{className:"mr-2 h-4 w-4"})," Kartı Dondur"]})]})]}),b.jsx("div",{className:"space-y-6",children:b.jsxs(Dt,{className:"bg-black/40 border-white/10",children:[b.jsxs(kt,{children:[b.jsx(Pt,{className:"text-white",children:"Harcama Limitleri"}),b.jsx(to,{children:"Aylık harcama detaylarınız"})]}),b.jsxs(Rt,{className:"space-y-6",children:[b.jsxs("div",{children:[b.jsxs("div",{className:"flex justify-between text-sm mb-2 text-slate-300",children:[b.jsx("span",{children:"Kredi Kartı Limiti"}),b.jsx("span",{className:"font-bold",children:"₺15,450 / ₺50,000"})]}),b.jsx(bu,{value:33,className:"h-2",indicatorClassName:"bg-purple-500"})]}),b.jsxs("div",{children:[b.jsxs("div",{className:"flex justify-between text-sm mb-2 text-slate-300",children:[b.jsx("span",{children:"İnternet Alışverişi"}),b.jsx("span",{className:"font-bold",children:"₺2,300 / ₺10,000"})]}),b.jsx(bu,{value:23,className:"h-2",indicatorClassName:"bg-blue-500"})]}),b.jsxs("div",{children:[b.jsxs("div",{className:"flex justify-between text-sm mb-2 text-slate-300",children:[b.jsx("span",{children:"Nakit Avans"}),b.jsx("span",{className:"font-bold",children:"₺0 / ₺5,000"})]}),b.jsx(bu,{value:0,className:"h-2",indicatorClassName:"bg-green-500"})]})]})]})})]})]})]})}const yF=[{name:"10:00",value:4e3},{name:"11:00",value:3e3},{name:"12:00",value:5e3},{name:"13:00",value:2780},{name:"14:00",value:1890},{name:"15:00",value:2390},{name:"16:00",value:3490}];function gF(){return b.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[b.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:b.jsx(uc,{})}),b.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[b.jsx("header",{className:"flex justify-between items-center mb-10",children:b.jsxs("div",{children:[b.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-emerald-400 to-cyan-600 bg-clip-text text-transparent",children:"Yatırım Dünyası"}),b.jsx("p",{className:"text-slate-400 mt-1",children:"DinoCoin ve hisse senedi piyasalarını takip edin."})]})}),b.jsxs("div",{className:"grid gap-6 md:grid-cols-2 lg:grid-cols-4 mb-8",children:[b.jsxs(Dt,{className:"bg-black/40 border-emerald-500/30",children:[b.jsxs(kt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[b.jsx(Pt,{className:"text-sm font-medium text-slate-200",children:"DinoCoin (DNC)"}),b.jsx(pz,{className:"h-4 w-4 text-emerald-500"})]}),b.jsxs(Rt,{children:[b.jsx("div",{className:"text-2xl font-bold text-white",children:"$45,231.89"}),b.jsxs("p",{className:"text-xs text-emerald-500 flex items-center mt-1",children:[b.jsx(fg,{className:"h-3 w-3 mr-1"})," +20.1% bugün"]})]})]}),b.jsxs(Dt,{className:"bg-black/40 border-white/10",children:[b.jsxs(kt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[b.jsx(Pt,{className:"text-sm font-medium text-slate-200",children:"Portföy Değeri"}),b.jsx(bz,{className:"h-4 w-4 text-purple-500"})]}),b.jsxs(Rt,{children:[b.jsx("div",{className:"text-2xl font-bold text-white",children:"$12,345.00"}),b.jsxs("p",{className:"text-xs text-purple-500 flex items-center mt-1",children:[b.jsx(mz,{className:"h-3 w-3 mr-1"})," Stabil"]})]})]}),b.jsxs(Dt,{className:"bg-black/40 border-red-500/30",children:[b.jsxs(kt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[b.jsx(Pt,{className:"text-sm font-medium text-slate-200",children:"Meteor Stocks"}),b.jsx(wS,{className:"h-4 w-4 text-red-500"})]}),b.jsxs(Rt,{children:[b.jsx("div",{className:"text-2xl font-bold text-white",children:"$1,203.45"}),b.jsxs("p",{className:"text-xs text-red-500 flex items-center mt-1",children:[b.jsx(wS,{className:"h-3 w-3 mr-1"})," -4.5% bugün"]})]})]})]}),b.jsxs(Dt,{className:"bg-black/20 border-white/5",children:[b.jsx(kt,{children:b.jsx(Pt,{className:"text-slate-200",children:"DinoCoin Performansı (24s)"})}),b.jsx(Rt,{className:"h-[400px]",children:b.jsx($N,{width:"100%",height:"100%",children:b.jsxs(dM,{data:yF,children:[b.jsx("defs",{children:b.jsxs("linearGradient",{id:"colorValue",x1:"0",y1:"0",x2:"0",y2:"1",children:[b.jsx("stop",{offset:"5%",stopColor:"#10b981",stopOpacity:.3}),b.jsx("stop",{offset:"95%",stopColor:"#10b981",stopOpacity:0})]})}),b.jsx(I0,{strokeDasharray:"3 3",vertical:!1,stroke:"rgba(255,255,255,0.05)"}),b.jsx(H0,{dataKey:"name",stroke:"#64748b"}),b.jsx($0,{stroke:"#64748b",prefix:"$"}),b.jsx(ET,{contentStyle:{backgroundColor:"#0f172a",border:"1px solid rgba(255,255,255,0.1)"},itemStyle:{color:"#fff"}}),b.jsx(q0,{type:"monotone",dataKey:"value",stroke:"#10b981",fillOpacity:1,fill:"url(#colorValue)"})]})})})]})]})]})}function bF(){const[e,t]=g.useState({ad:"",soyad:"",email:""});return g.useEffect(()=>{const n=localStorage.getItem("dinoUser");n&&t(JSON.parse(n))},[]),b.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[b.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:b.jsx(uc,{})}),b.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[b.jsxs("header",{className:"mb-10",children:[b.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-slate-200 to-slate-500 bg-clip-text text-transparent",children:"Ayarlar"}),b.jsx("p",{className:"text-slate-400 mt-1",children:"Hesap tercihlerinizi ve g??venlik ayarlarınızı yönetin."})]}),b.jsxs("div",{className:"grid gap-6 max-w-2xl",children:[b.jsxs(Dt,{className:"bg-black/40 border-white/10",children:[b.jsxs(kt,{children:[b.jsxs(Pt,{className:"flex items-center gap-2 text-white",children:[b.jsx(bj,{className:"h-5 w-5"})," Profil Bilgileri"]}),b.jsx(to,{children:"Kişisel bilgilerinizi güncelleyin."})]}),b.jsxs(Rt,{className:"space-y-4",children:[b.jsxs("div",{className:"grid grid-cols-2 gap-4",children:[b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"name",className:"text-slate-300",children:"İsim"}),b.jsx(Vt,{id:"name",defaultValue:e.ad,className:"bg-slate-900 border-slate-700 text-white"})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"surname",className:"text-slate-300",children:"Soyisim"}),b.jsx(Vt,{id:"surname",defaultValue:e.soyad,className:"bg-slate-900 border-slate-700 text-white"})]})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(Xt,{htmlFor:"email",className:"text-slate-300",children:"E-posta"}),b.jsx(Vt,{id:"email",defaultValue:e.email,className:"bg-slate-900 border-slate-700 text-white",disabled:!0})]}),b.jsx(yt,{className:"w-full bg-primary text-black font-bold hover:bg-primary/90",children:"Değişiklikleri Kaydet"})]})]}),b.jsxs(Dt,{className:"bg-black/40 border-white/10",children:[b.jsx(kt,{children:b.jsxs(Pt,{className:"flex items-center gap-2 text-white",children:[b.jsx(gj,{className:"h-5 w-5"})," Güvenlik"]})}),b.jsxs(Rt,{className:"space-y-4",children:[b.jsx(yt,{variant:"outline",className:"w-full border-slate-700 text-slate-300 hover:bg-slate-800",children:"Şifre Değiştir"}),b.jsx(yt,{variant:"outline",className:"w-full border-red-900/50 text-red-400 hover:bg-red-900/20 hover:text-red-300",children:"Hesabı Sil"})]})]})]})]})]})}function xF(){const[e,t]=g.useState([]),[n,r]=g.useState(!0);return g.useEffect(()=>{(async()=>{const o=localStorage.getItem("dinoUser");if(o){const c=JSON.parse(o);try{const f=await hj(c.id);if(f&&f.id){const d=await mj(f.id),h=p=>p?Array.isArray(p)?new Date(p[0],p[1]-1,p[2],p[3],p[4],p[5]||0):new Date(p):new Date,m=d.sort((p,x)=>h(x.transactionDate)-h(p.transactionDate));t(m.map(p=>({...p,parsedDate:h(p.transactionDate)})))}}catch(f){console.error("History fetch error:",f)}finally{r(!1)}}})()},[]),b.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[b.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:b.jsx(uc,{})}),b.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[b.jsxs("header",{className:"mb-10",children:[b.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-orange-400 to-red-600 bg-clip-text text-transparent",children:"Geçmiş İşlemler"}),b.jsx("p",{className:"text-slate-400 mt-1",children:"Hesap hareketlerinizin detaylı dökümü."})]}),b.jsxs(Dt,{className:"bg-black/40 border-white/10",children:[b.jsx(kt,{children:b.jsx(Pt,{className:"text-white",children:"İşlem Geçmişi"})}),b.jsx(Rt,{children:b.jsxs(Rl,{children:[b.jsx(zl,{children:b.jsxs(pn,{className:"border-white/5 hover:bg-transparent",children:[b.jsx(ft,{className:"text-slate-400",children:"Tarih"}),b.jsx(ft,{className:"text-slate-400",children:"İşlem Tipi"}),b.jsx(ft,{className:"text-slate-400",children:"Açıklama"}),b.jsx(ft,{className:"text-right text-slate-400",children:"Tutar"}),b.jsx(ft,{className:"text-right text-slate-400",children:"Durum"})]})}),b.jsx(Ll,{children:n?b.jsx(pn,{children:b.jsx(Je,{colSpan:5,className:"text-center py-8",children:"Yükleniyor..."})}):e.length===0?b.jsx(pn,{children:b.jsx(Je,{colSpan:5,className:"text-center py-8 text-slate-500",children:"İşlem bulunamadı."})}):e.map(l=>{const o=l.transactionType==="DEPOSIT"||l.transactionType==="INCOMING_TRANSFER";return b.jsxs(pn,{className:"border-white/5 hover:bg-white/5",children:[b.jsx(Je,{className:"text-slate-300",children:l.parsedDate?l.parsedDate.toLocaleDateString("tr-TR")+" "+l.parsedDate.toLocaleTimeString("tr-TR",{hour:"2-digit",minute:"2-digit"}):"-"}),b.jsx(Je,{className:"text-slate-300",children:l.transactionType}),b.jsx(Je,{className:"text-slate-300",children:l.description}),b.jsxs(Je,{className:Ve("text-right font-bold",o?"text-emerald-400":"text-slate-300"),children:[o?"+":"-","₺",Math.abs(l.amount).toLocaleString("tr-TR",{minimumFractionDigits:2})]}),b.jsx(Je,{className:"text-right",children:b.jsx("span",{className:"px-2 py-1 rounded bg-green-900/40 text-green-400 text-xs font-bold",children:l.status})})]},l.id)})})]})})]})]})]})}function wF(){const[e,t]=g.useState({customers:[],accounts:[]}),[n,r]=g.useState(!0);return g.useEffect(()=>{(async()=>{try{const o=await no("/admin/db");t(o)}catch(o){console.error("Admin fetch error:",o)}finally{r(!1)}})()},[]),n?b.jsx("div",{className:"text-white text-center p-10",children:"Veritabanı Yükleniyor..."}):b.jsxs("div",{className:"min-h-screen bg-slate-950 p-8 text-white",children:[b.jsx("h1",{className:"text-3xl font-bold mb-8 text-primary",children:"Admin Veritabanı Görünümü"}),b.jsxs("div",{className:"grid gap-8",children:[b.jsxs(Dt,{className:"bg-slate-900 border-slate-800",children:[b.jsx(kt,{children:b.jsx(Pt,{className:"text-xl text-slate-200",children:"Müşteriler (Customers)"})}),b.jsx(Rt,{children:b.jsx("div",{className:"overflow-x-auto",children:b.jsxs(Rl,{children:[b.jsx(zl,{children:b.jsxs(pn,{className:"border-slate-800",children:[b.jsx(ft,{className:"text-slate-400",children:"ID"}),b.jsx(ft,{className:"text-slate-400",children:"Ad Soyad"}),b.jsx(ft,{className:"text-slate-400",children:"Email"}),b.jsx(ft,{className:"text-slate-400",children:"TCKN"})]})}),b.jsx(Ll,{children:e.customers?.map(l=>b.jsxs(pn,{className:"border-slate-800",children:[b.jsx(Je,{children:l.id}),b.jsxs(Je,{children:[l.ad," ",l.soyad]}),b.jsx(Je,{children:l.email}),b.jsx(Je,{children:l.tcKimlikNo})]},l.id))})]})})})]}),b.jsxs(Dt,{className:"bg-slate-900 border-slate-800",children:[b.jsx(kt,{children:b.jsx(Pt,{className:"text-xl text-slate-200",children:"Hesaplar (Accounts)"})}),b.jsx(Rt,{children:b.jsx("div",{className:"overflow-x-auto",children:b.jsxs(Rl,{children:[b.jsx(zl,{children:b.jsxs(pn,{className:"border-slate-800",children:[b.jsx(ft,{className:"text-slate-400",children:"ID"}),b.jsx(ft,{className:"text-slate-400",children:"Hesap No"}),b.jsx(ft,{className:"text-slate-400",children:"Müşteri ID"}),b.jsx(ft,{className:"text-slate-400 text-right",children:"Bakiye"})]})}),b.jsx(Ll,{children:e.accounts?.map(l=>b.jsxs(pn,{className:"border-slate-800",children:[b.jsx(Je,{children:l.id}),b.jsx(Je,{children:l.accountNumber}),b.jsx(Je,{children:l.customer?.id||l.customerId}),b.jsxs(Je,{className:"text-right",children:["₺",l.balance]})]},l.id))})]})})})]}),b.jsxs(Dt,{className:"bg-slate-900 border-slate-800",children:[b.jsx(kt,{children:b.jsx(Pt,{className:"text-xl text-slate-200",children:"İşlemler (Transactions)"})}),b.jsx(Rt,{children:b.jsx("div",{className:"overflow-x-auto",children:b.jsxs(Rl,{children:[b.jsx(zl,{children:b.jsxs(pn,{className:"border-slate-800",children:[b.jsx(ft,{className:"text-slate-400",children:"ID"}),b.jsx(ft,{className:"text-slate-400",children:"Tip"}),b.jsx(ft,{className:"text-slate-400",children:"Tutar"}),b.jsx(ft,{className:"text-slate-400",children:"Açıklama"}),b.jsx(ft,{className:"text-slate-400",children:"Tarih"})]})}),b.jsx(Ll,{children:e.transactions?.map(l=>b.jsxs(pn,{className:"border-slate-800",children:[b.jsx(Je,{children:l.id}),b.jsx(Je,{children:l.transactionType}),b.jsxs(Je,{children:["₺",l.amount]}),b.jsx(Je,{children:l.description}),b.jsx(Je,{children:l.transactionDate})]},l.id))})]})})})]})]})]})}class SF extends k2.Component{constructor(t){super(t),this.state={hasError:!1,error:null,errorInfo:null}}static getDerivedStateFromError(t){return{hasError:!0}}componentDidCatch(t,n){this.setState({error:t,errorInfo:n}),console.error("Uncaught error:",t,n)}render(){return this.state.hasError?b.jsxs("div",{style:{padding:"20px",color:"red",backgroundColor:"#fff"},children:[b.jsx("h1",{children:"Something went wrong."}),b.jsxs("details",{style:{whiteSpace:"pre-wrap"},children:[this.state.error&&this.state.error.toString(),b.jsx("br",{}),this.state.errorInfo&&this.state.errorInfo.componentStack]})]}):this.props.children}}function EF(){return b.jsx(SF,{children:b.jsx(XR,{children:b.jsx("div",{className:"min-h-screen bg-background font-sans antialiased",children:b.jsxs(AR,{children:[b.jsx(ar,{path:"/",element:b.jsx(vF,{})}),b.jsx(ar,{path:"/login",element:b.jsx($z,{})}),b.jsx(ar,{path:"/register",element:b.jsx(Yz,{})}),b.jsx(ar,{path:"/dashboard",element:b.jsx(mF,{})}),b.jsx(ar,{path:"/cards",element:b.jsx(pF,{})}),b.jsx(ar,{path:"/invest",element:b.jsx(gF,{})}),b.jsx(ar,{path:"/settings",element:b.jsx(bF,{})}),b.jsx(ar,{path:"/history",element:b.jsx(xF,{})}),b.jsx(ar,{path:"/admin",element:b.jsx(wF,{})}),b.jsx(ar,{path:"*",element:b.jsx(ER,{to:"/",replace:!0})})]})})})})}console.log("Main.jsx is running");DP.createRoot(document.getElementById("root")).render(b.jsx(g.StrictMode,{children:b.jsx(EF,{})}));
@@ -1,102 +0,0 @@
-function NR(e,t){for(var n=0;n<t.length;n++){const r=t[n];if(typeof r!="string"&&!Array.isArray(r)){for(const l in r)if(l!=="default"&&!(l in e)){const o=Object.getOwnPropertyDescriptor(r,l);o&&Object.defineProperty(e,l,o.get?o:{enumerable:!0,get:()=>r[l]})}}}return Object.freeze(Object.defineProperty(e,Symbol.toStringTag,{value:"Module"}))}(function(){const t=document.createElement("link").relList;if(t&&t.supports&&t.supports("modulepreload"))return;for(const l of document.querySelectorAll('link[rel="modulepreload"]'))r(l);new MutationObserver(l=>{for(const o of l)if(o.type==="childList")for(const s of o.addedNodes)s.tagName==="LINK"&&s.rel==="modulepreload"&&r(s)}).observe(document,{childList:!0,subtree:!0});function n(l){const o={};return l.integrity&&(o.integrity=l.integrity),l.referrerPolicy&&(o.referrerPolicy=l.referrerPolicy),l.crossOrigin==="use-credentials"?o.credentials="include":l.crossOrigin==="anonymous"?o.credentials="omit":o.credentials="same-origin",o}function r(l){if(l.ep)return;l.ep=!0;const o=n(l);fetch(l.href,o)}})();function ua(e){return e&&e.__esModule&&Object.prototype.hasOwnProperty.call(e,"default")?e.default:e}var iv={exports:{}},ou={};var Ww;function CR(){if(Ww)return ou;Ww=1;var e=Symbol.for("react.transitional.element"),t=Symbol.for("react.fragment");function n(r,l,o){var s=null;if(o!==void 0&&(s=""+o),l.key!==void 0&&(s=""+l.key),"key"in l){o={};for(var f in l)f!=="key"&&(o[f]=l[f])}else o=l;return l=o.ref,{$$typeof:e,type:r,key:s,ref:l!==void 0?l:null,props:o}}return ou.Fragment=t,ou.jsx=n,ou.jsxs=n,ou}var Zw;function _R(){return Zw||(Zw=1,iv.exports=CR()),iv.exports}var y=_R(),lv={exports:{}},Se={};var Qw;function TR(){if(Qw)return Se;Qw=1;var e=Symbol.for("react.transitional.element"),t=Symbol.for("react.portal"),n=Symbol.for("react.fragment"),r=Symbol.for("react.strict_mode"),l=Symbol.for("react.profiler"),o=Symbol.for("react.consumer"),s=Symbol.for("react.context"),f=Symbol.for("react.forward_ref"),d=Symbol.for("react.suspense"),h=Symbol.for("react.memo"),m=Symbol.for("react.lazy"),p=Symbol.for("react.activity"),x=Symbol.iterator;function w(R){return R===null||typeof R!="object"?null:(R=x&&R[x]||R["@@iterator"],typeof R=="function"?R:null)}var E={isMounted:function(){return!1},enqueueForceUpdate:function(){},enqueueReplaceState:function(){},enqueueSetState:function(){}},A=Object.assign,j={};function O(R,Y,ee){this.props=R,this.context=Y,this.refs=j,this.updater=ee||E}O.prototype.isReactComponent={},O.prototype.setState=function(R,Y){if(typeof R!="object"&&typeof R!="function"&&R!=null)throw Error("takes an object of state variables to update or a function which returns an object of state variables.");this.updater.enqueueSetState(this,R,Y,"setState")},O.prototype.forceUpdate=function(R){this.updater.enqueueForceUpdate(this,R,"forceUpdate")};function _(){}_.prototype=O.prototype;function C(R,Y,ee){this.props=R,this.context=Y,this.refs=j,this.updater=ee||E}var D=C.prototype=new _;D.constructor=C,A(D,O.prototype),D.isPureReactComponent=!0;var T=Array.isArray;function P(){}var k={H:null,A:null,T:null,S:null},I=Object.prototype.hasOwnProperty;function re(R,Y,ee){var ne=ee.ref;return{$$typeof:e,type:R,key:Y,ref:ne!==void 0?ne:null,props:ee}}function ae(R,Y){return re(R.type,Y,R.props)}function W(R){return typeof R=="object"&&R!==null&&R.$$typeof===e}function J(R){var Y={"=":"=0",":":"=2"};return"$"+R.replace(/[=:]/g,function(ee){return Y[ee]})}var pe=/\/+/g;function ge(R,Y){return typeof R=="object"&&R!==null&&R.key!=null?J(""+R.key):Y.toString(36)}function xe(R){switch(R.status){case"fulfilled":return R.value;case"rejected":throw R.reason;default:switch(typeof R.status=="string"?R.then(P,P):(R.status="pending",R.then(function(Y){R.status==="pending"&&(R.status="fulfilled",R.value=Y)},function(Y){R.status==="pending"&&(R.status="rejected",R.reason=Y)})),R.status){case"fulfilled":return R.value;case"rejected":throw R.reason}}throw R}function q(R,Y,ee,ne,he){var we=typeof R;(we==="undefined"||we==="boolean")&&(R=null);var ue=!1;if(R===null)ue=!0;else switch(we){case"bigint":case"string":case"number":ue=!0;break;case"object":switch(R.$$typeof){case e:case t:ue=!0;break;case m:return ue=R._init,q(ue(R._payload),Y,ee,ne,he)}}if(ue)return he=he(R),ue=ne===""?"."+ge(R,0):ne,T(he)?(ee="",ue!=null&&(ee=ue.replace(pe,"$&/")+"/"),q(he,Y,ee,"",function(be){return be})):he!=null&&(W(he)&&(he=ae(he,ee+(he.key==null||R&&R.key===he.key?"":(""+he.key).replace(pe,"$&/")+"/")+ue)),Y.push(he)),1;ue=0;var lt=ne===""?".":ne+":";if(T(R))for(var V=0;V<R.length;V++)ne=R[V],we=lt+ge(ne,V),ue+=q(ne,Y,ee,we,he);else if(V=w(R),typeof V=="function")for(R=V.call(R),V=0;!(ne=R.next()).done;)ne=ne.value,we=lt+ge(ne,V++),ue+=q(ne,Y,ee,we,he);else if(we==="object"){if(typeof R.then=="function")return q(xe(R),Y,ee,ne,he);throw Y=String(R),Error("Objects are not valid as a React child (found: "+(Y==="[object Object]"?"object with keys {"+Object.keys(R).join(", ")+"}":Y)+"). If you meant to render a collection of children, use an array instead.")}return ue}function Q(R,Y,ee){if(R==null)return R;var ne=[],he=0;return q(R,ne,"","",function(we){return Y.call(ee,we,he++)}),ne}function X(R){if(R._status===-1){var Y=R._result;Y=Y(),Y.then(function(ee){(R._status===0||R._status===-1)&&(R._status=1,R._result=ee)},function(ee){(R._status===0||R._status===-1)&&(R._status=2,R._result=ee)}),R._status===-1&&(R._status=0,R._result=Y)}if(R._status===1)return R._result.default;throw R._result}var le=typeof reportError=="function"?reportError:function(R){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var Y=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof R=="object"&&R!==null&&typeof R.message=="string"?String(R.message):String(R),error:R});if(!window.dispatchEvent(Y))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",R);return}console.error(R)},Ee={map:Q,forEach:function(R,Y,ee){Q(R,function(){Y.apply(this,arguments)},ee)},count:function(R){var Y=0;return Q(R,function(){Y++}),Y},toArray:function(R){return Q(R,function(Y){return Y})||[]},only:function(R){if(!W(R))throw Error("React.Children.only expected to receive a single React element child.");return R}};return Se.Activity=p,Se.Children=Ee,Se.Component=O,Se.Fragment=n,Se.Profiler=l,Se.PureComponent=C,Se.StrictMode=r,Se.Suspense=d,Se.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE=k,Se.__COMPILER_RUNTIME={__proto__:null,c:function(R){return k.H.useMemoCache(R)}},Se.cache=function(R){return function(){return R.apply(null,arguments)}},Se.cacheSignal=function(){return null},Se.cloneElement=function(R,Y,ee){if(R==null)throw Error("The argument must be a React element, but you passed "+R+".");var ne=A({},R.props),he=R.key;if(Y!=null)for(we in Y.key!==void 0&&(he=""+Y.key),Y)!I.call(Y,we)||we==="key"||we==="__self"||we==="__source"||we==="ref"&&Y.ref===void 0||(ne[we]=Y[we]);var we=arguments.length-2;if(we===1)ne.children=ee;else if(1<we){for(var ue=Array(we),lt=0;lt<we;lt++)ue[lt]=arguments[lt+2];ne.children=ue}return re(R.type,he,ne)},Se.createContext=function(R){return R={$$typeof:s,_currentValue:R,_currentValue2:R,_threadCount:0,Provider:null,Consumer:null},R.Provider=R,R.Consumer={$$typeof:o,_context:R},R},Se.createElement=function(R,Y,ee){var ne,he={},we=null;if(Y!=null)for(ne in Y.key!==void 0&&(we=""+Y.key),Y)I.call(Y,ne)&&ne!=="key"&&ne!=="__self"&&ne!=="__source"&&(he[ne]=Y[ne]);var ue=arguments.length-2;if(ue===1)he.children=ee;else if(1<ue){for(var lt=Array(ue),V=0;V<ue;V++)lt[V]=arguments[V+2];he.children=lt}if(R&&R.defaultProps)for(ne in ue=R.defaultProps,ue)he[ne]===void 0&&(he[ne]=ue[ne]);return re(R,we,he)},Se.createRef=function(){return{current:null}},Se.forwardRef=function(R){return{$$typeof:f,render:R}},Se.isValidElement=W,Se.lazy=function(R){return{$$typeof:m,_payload:{_status:-1,_result:R},_init:X}},Se.memo=function(R,Y){return{$$typeof:h,type:R,compare:Y===void 0?null:Y}},Se.startTransition=function(R){var Y=k.T,ee={};k.T=ee;try{var ne=R(),he=k.S;he!==null&&he(ee,ne),typeof ne=="object"&&ne!==null&&typeof ne.then=="function"&&ne.then(P,le)}catch(we){le(we)}finally{Y!==null&&ee.types!==null&&(Y.types=ee.types),k.T=Y}},Se.unstable_useCacheRefresh=function(){return k.H.useCacheRefresh()},Se.use=function(R){return k.H.use(R)},Se.useActionState=function(R,Y,ee){return k.H.useActionState(R,Y,ee)},Se.useCallback=function(R,Y){return k.H.useCallback(R,Y)},Se.useContext=function(R){return k.H.useContext(R)},Se.useDebugValue=function(){},Se.useDeferredValue=function(R,Y){return k.H.useDeferredValue(R,Y)},Se.useEffect=function(R,Y){return k.H.useEffect(R,Y)},Se.useEffectEvent=function(R){return k.H.useEffectEvent(R)},Se.useId=function(){return k.H.useId()},Se.useImperativeHandle=function(R,Y,ee){return k.H.useImperativeHandle(R,Y,ee)},Se.useInsertionEffect=function(R,Y){return k.H.useInsertionEffect(R,Y)},Se.useLayoutEffect=function(R,Y){return k.H.useLayoutEffect(R,Y)},Se.useMemo=function(R,Y){return k.H.useMemo(R,Y)},Se.useOptimistic=function(R,Y){return k.H.useOptimistic(R,Y)},Se.useReducer=function(R,Y,ee){return k.H.useReducer(R,Y,ee)},Se.useRef=function(R){return k.H.useRef(R)},Se.useState=function(R){return k.H.useState(R)},Se.useSyncExternalStore=function(R,Y,ee){return k.H.useSyncExternalStore(R,Y,ee)},Se.useTransition=function(){return k.H.useTransition()},Se.version="19.2.1",Se}var Jw;function Xl(){return Jw||(Jw=1,lv.exports=TR()),lv.exports}var b=Xl();const zA=ua(b),ed=NR({__proto__:null,default:zA},[b]);var ov={exports:{}},uu={},uv={exports:{}},sv={};var eS;function MR(){return eS||(eS=1,(function(e){function t(q,Q){var X=q.length;q.push(Q);e:for(;0<X;){var le=X-1>>>1,Ee=q[le];if(0<l(Ee,Q))q[le]=Q,q[X]=Ee,X=le;else break e}}function n(q){return q.length===0?null:q[0]}function r(q){if(q.length===0)return null;var Q=q[0],X=q.pop();if(X!==Q){q[0]=X;e:for(var le=0,Ee=q.length,R=Ee>>>1;le<R;){var Y=2*(le+1)-1,ee=q[Y],ne=Y+1,he=q[ne];if(0>l(ee,X))ne<Ee&&0>l(he,ee)?(q[le]=he,q[ne]=X,le=ne):(q[le]=ee,q[Y]=X,le=Y);else if(ne<Ee&&0>l(he,X))q[le]=he,q[ne]=X,le=ne;else break e}}return Q}function l(q,Q){var X=q.sortIndex-Q.sortIndex;return X!==0?X:q.id-Q.id}if(e.unstable_now=void 0,typeof performance=="object"&&typeof performance.now=="function"){var o=performance;e.unstable_now=function(){return o.now()}}else{var s=Date,f=s.now();e.unstable_now=function(){return s.now()-f}}var d=[],h=[],m=1,p=null,x=3,w=!1,E=!1,A=!1,j=!1,O=typeof setTimeout=="function"?setTimeout:null,_=typeof clearTimeout=="function"?clearTimeout:null,C=typeof setImmediate<"u"?setImmediate:null;function D(q){for(var Q=n(h);Q!==null;){if(Q.callback===null)r(h);else if(Q.startTime<=q)r(h),Q.sortIndex=Q.expirationTime,t(d,Q);else break;Q=n(h)}}function T(q){if(A=!1,D(q),!E)if(n(d)!==null)E=!0,P||(P=!0,J());else{var Q=n(h);Q!==null&&xe(T,Q.startTime-q)}}var P=!1,k=-1,I=5,re=-1;function ae(){return j?!0:!(e.unstable_now()-re<I)}function W(){if(j=!1,P){var q=e.unstable_now();re=q;var Q=!0;try{e:{E=!1,A&&(A=!1,_(k),k=-1),w=!0;var X=x;try{t:{for(D(q),p=n(d);p!==null&&!(p.expirationTime>q&&ae());){var le=p.callback;if(typeof le=="function"){p.callback=null,x=p.priorityLevel;var Ee=le(p.expirationTime<=q);if(q=e.unstable_now(),typeof Ee=="function"){p.callback=Ee,D(q),Q=!0;break t}p===n(d)&&r(d),D(q)}else r(d);p=n(d)}if(p!==null)Q=!0;else{var R=n(h);R!==null&&xe(T,R.startTime-q),Q=!1}}break e}finally{p=null,x=X,w=!1}Q=void 0}}finally{Q?J():P=!1}}}var J;if(typeof C=="function")J=function(){C(W)};else if(typeof MessageChannel<"u"){var pe=new MessageChannel,ge=pe.port2;pe.port1.onmessage=W,J=function(){ge.postMessage(null)}}else J=function(){O(W,0)};function xe(q,Q){k=O(function(){q(e.unstable_now())},Q)}e.unstable_IdlePriority=5,e.unstable_ImmediatePriority=1,e.unstable_LowPriority=4,e.unstable_NormalPriority=3,e.unstable_Profiling=null,e.unstable_UserBlockingPriority=2,e.unstable_cancelCallback=function(q){q.callback=null},e.unstable_forceFrameRate=function(q){0>q||125<q?console.error("forceFrameRate takes a positive int between 0 and 125, forcing frame rates higher than 125 fps is not supported"):I=0<q?Math.floor(1e3/q):5},e.unstable_getCurrentPriorityLevel=function(){return x},e.unstable_next=function(q){switch(x){case 1:case 2:case 3:var Q=3;break;default:Q=x}var X=x;x=Q;try{return q()}finally{x=X}},e.unstable_requestPaint=function(){j=!0},e.unstable_runWithPriority=function(q,Q){switch(q){case 1:case 2:case 3:case 4:case 5:break;default:q=3}var X=x;x=q;try{return Q()}finally{x=X}},e.unstable_scheduleCallback=function(q,Q,X){var le=e.unstable_now();switch(typeof X=="object"&&X!==null?(X=X.delay,X=typeof X=="number"&&0<X?le+X:le):X=le,q){case 1:var Ee=-1;break;case 2:Ee=250;break;case 5:Ee=1073741823;break;case 4:Ee=1e4;break;default:Ee=5e3}return Ee=X+Ee,q={id:m++,callback:Q,priorityLevel:q,startTime:X,expirationTime:Ee,sortIndex:-1},X>le?(q.sortIndex=X,t(h,q),n(d)===null&&q===n(h)&&(A?(_(k),k=-1):A=!0,xe(T,X-le))):(q.sortIndex=Ee,t(d,q),E||w||(E=!0,P||(P=!0,J()))),q},e.unstable_shouldYield=ae,e.unstable_wrapCallback=function(q){var Q=x;return function(){var X=x;x=Q;try{return q.apply(this,arguments)}finally{x=X}}}})(sv)),sv}var tS;function DR(){return tS||(tS=1,uv.exports=MR()),uv.exports}var cv={exports:{}},Jt={};var nS;function kR(){if(nS)return Jt;nS=1;var e=Xl();function t(d){var h="https://react.dev/errors/"+d;if(1<arguments.length){h+="?args[]="+encodeURIComponent(arguments[1]);for(var m=2;m<arguments.length;m++)h+="&args[]="+encodeURIComponent(arguments[m])}return"Minified React error #"+d+"; visit "+h+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}function n(){}var r={d:{f:n,r:function(){throw Error(t(522))},D:n,C:n,L:n,m:n,X:n,S:n,M:n},p:0,findDOMNode:null},l=Symbol.for("react.portal");function o(d,h,m){var p=3<arguments.length&&arguments[3]!==void 0?arguments[3]:null;return{$$typeof:l,key:p==null?null:""+p,children:d,containerInfo:h,implementation:m}}var s=e.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE;function f(d,h){if(d==="font")return"";if(typeof h=="string")return h==="use-credentials"?h:""}return Jt.__DOM_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE=r,Jt.createPortal=function(d,h){var m=2<arguments.length&&arguments[2]!==void 0?arguments[2]:null;if(!h||h.nodeType!==1&&h.nodeType!==9&&h.nodeType!==11)throw Error(t(299));return o(d,h,null,m)},Jt.flushSync=function(d){var h=s.T,m=r.p;try{if(s.T=null,r.p=2,d)return d()}finally{s.T=h,r.p=m,r.d.f()}},Jt.preconnect=function(d,h){typeof d=="string"&&(h?(h=h.crossOrigin,h=typeof h=="string"?h==="use-credentials"?h:"":void 0):h=null,r.d.C(d,h))},Jt.prefetchDNS=function(d){typeof d=="string"&&r.d.D(d)},Jt.preinit=function(d,h){if(typeof d=="string"&&h&&typeof h.as=="string"){var m=h.as,p=f(m,h.crossOrigin),x=typeof h.integrity=="string"?h.integrity:void 0,w=typeof h.fetchPriority=="string"?h.fetchPriority:void 0;m==="style"?r.d.S(d,typeof h.precedence=="string"?h.precedence:void 0,{crossOrigin:p,integrity:x,fetchPriority:w}):m==="script"&&r.d.X(d,{crossOrigin:p,integrity:x,fetchPriority:w,nonce:typeof h.nonce=="string"?h.nonce:void 0})}},Jt.preinitModule=function(d,h){if(typeof d=="string")if(typeof h=="object"&&h!==null){if(h.as==null||h.as==="script"){var m=f(h.as,h.crossOrigin);r.d.M(d,{crossOrigin:m,integrity:typeof h.integrity=="string"?h.integrity:void 0,nonce:typeof h.nonce=="string"?h.nonce:void 0})}}else h==null&&r.d.M(d)},Jt.preload=function(d,h){if(typeof d=="string"&&typeof h=="object"&&h!==null&&typeof h.as=="string"){var m=h.as,p=f(m,h.crossOrigin);r.d.L(d,m,{crossOrigin:p,integrity:typeof h.integrity=="string"?h.integrity:void 0,nonce:typeof h.nonce=="string"?h.nonce:void 0,type:typeof h.type=="string"?h.type:void 0,fetchPriority:typeof h.fetchPriority=="string"?h.fetchPriority:void 0,referrerPolicy:typeof h.referrerPolicy=="string"?h.referrerPolicy:void 0,imageSrcSet:typeof h.imageSrcSet=="string"?h.imageSrcSet:void 0,imageSizes:typeof h.imageSizes=="string"?h.imageSizes:void 0,media:typeof h.media=="string"?h.media:void 0})}},Jt.preloadModule=function(d,h){if(typeof d=="string")if(h){var m=f(h.as,h.crossOrigin);r.d.m(d,{as:typeof h.as=="string"&&h.as!=="script"?h.as:void 0,crossOrigin:m,integrity:typeof h.integrity=="string"?h.integrity:void 0})}else r.d.m(d)},Jt.requestFormReset=function(d){r.d.r(d)},Jt.unstable_batchedUpdates=function(d,h){return d(h)},Jt.useFormState=function(d,h,m){return s.H.useFormState(d,h,m)},Jt.useFormStatus=function(){return s.H.useHostTransitionStatus()},Jt.version="19.2.1",Jt}var rS;function LA(){if(rS)return cv.exports;rS=1;function e(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(e)}catch(t){console.error(t)}}return e(),cv.exports=kR(),cv.exports}var aS;function RR(){if(aS)return uu;aS=1;var e=DR(),t=Xl(),n=LA();function r(a){var i="https://react.dev/errors/"+a;if(1<arguments.length){i+="?args[]="+encodeURIComponent(arguments[1]);for(var u=2;u<arguments.length;u++)i+="&args[]="+encodeURIComponent(arguments[u])}return"Minified React error #"+a+"; visit "+i+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}function l(a){return!(!a||a.nodeType!==1&&a.nodeType!==9&&a.nodeType!==11)}function o(a){var i=a,u=a;if(a.alternate)for(;i.return;)i=i.return;else{a=i;do i=a,(i.flags&4098)!==0&&(u=i.return),a=i.return;while(a)}return i.tag===3?u:null}function s(a){if(a.tag===13){var i=a.memoizedState;if(i===null&&(a=a.alternate,a!==null&&(i=a.memoizedState)),i!==null)return i.dehydrated}return null}function f(a){if(a.tag===31){var i=a.memoizedState;if(i===null&&(a=a.alternate,a!==null&&(i=a.memoizedState)),i!==null)return i.dehydrated}return null}function d(a){if(o(a)!==a)throw Error(r(188))}function h(a){var i=a.alternate;if(!i){if(i=o(a),i===null)throw Error(r(188));return i!==a?null:a}for(var u=a,c=i;;){var v=u.return;if(v===null)break;var g=v.alternate;if(g===null){if(c=v.return,c!==null){u=c;continue}break}if(v.child===g.child){for(g=v.child;g;){if(g===u)return d(v),a;if(g===c)return d(v),i;g=g.sibling}throw Error(r(188))}if(u.return!==c.return)u=v,c=g;else{for(var S=!1,N=v.child;N;){if(N===u){S=!0,u=v,c=g;break}if(N===c){S=!0,c=v,u=g;break}N=N.sibling}if(!S){for(N=g.child;N;){if(N===u){S=!0,u=g,c=v;break}if(N===c){S=!0,c=g,u=v;break}N=N.sibling}if(!S)throw Error(r(189))}}if(u.alternate!==c)throw Error(r(190))}if(u.tag!==3)throw Error(r(188));return u.stateNode.current===u?a:i}function m(a){var i=a.tag;if(i===5||i===26||i===27||i===6)return a;for(a=a.child;a!==null;){if(i=m(a),i!==null)return i;a=a.sibling}return null}var p=Object.assign,x=Symbol.for("react.element"),w=Symbol.for("react.transitional.element"),E=Symbol.for("react.portal"),A=Symbol.for("react.fragment"),j=Symbol.for("react.strict_mode"),O=Symbol.for("react.profiler"),_=Symbol.for("react.consumer"),C=Symbol.for("react.context"),D=Symbol.for("react.forward_ref"),T=Symbol.for("react.suspense"),P=Symbol.for("react.suspense_list"),k=Symbol.for("react.memo"),I=Symbol.for("react.lazy"),re=Symbol.for("react.activity"),ae=Symbol.for("react.memo_cache_sentinel"),W=Symbol.iterator;function J(a){return a===null||typeof a!="object"?null:(a=W&&a[W]||a["@@iterator"],typeof a=="function"?a:null)}var pe=Symbol.for("react.client.reference");function ge(a){if(a==null)return null;if(typeof a=="function")return a.$$typeof===pe?null:a.displayName||a.name||null;if(typeof a=="string")return a;switch(a){case A:return"Fragment";case O:return"Profiler";case j:return"StrictMode";case T:return"Suspense";case P:return"SuspenseList";case re:return"Activity"}if(typeof a=="object")switch(a.$$typeof){case E:return"Portal";case C:return a.displayName||"Context";case _:return(a._context.displayName||"Context")+".Consumer";case D:var i=a.render;return a=a.displayName,a||(a=i.displayName||i.name||"",a=a!==""?"ForwardRef("+a+")":"ForwardRef"),a;case k:return i=a.displayName||null,i!==null?i:ge(a.type)||"Memo";case I:i=a._payload,a=a._init;try{return ge(a(i))}catch{}}return null}var xe=Array.isArray,q=t.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE,Q=n.__DOM_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE,X={pending:!1,data:null,method:null,action:null},le=[],Ee=-1;function R(a){return{current:a}}function Y(a){0>Ee||(a.current=le[Ee],le[Ee]=null,Ee--)}function ee(a,i){Ee++,le[Ee]=a.current,a.current=i}var ne=R(null),he=R(null),we=R(null),ue=R(null);function lt(a,i){switch(ee(we,i),ee(he,a),ee(ne,null),i.nodeType){case 9:case 11:a=(a=i.documentElement)&&(a=a.namespaceURI)?bw(a):0;break;default:if(a=i.tagName,i=i.namespaceURI)i=bw(i),a=xw(i,a);else switch(a){case"svg":a=1;break;case"math":a=2;break;default:a=0}}Y(ne),ee(ne,a)}function V(){Y(ne),Y(he),Y(we)}function be(a){a.memoizedState!==null&&ee(ue,a);var i=ne.current,u=xw(i,a.type);i!==u&&(ee(he,a),ee(ne,u))}function Ae(a){he.current===a&&(Y(ne),Y(he)),ue.current===a&&(Y(ue),ru._currentValue=X)}var te,It;function ke(a){if(te===void 0)try{throw Error()}catch(u){var i=u.stack.trim().match(/\n( *(at )?)/);te=i&&i[1]||"",It=-1<u.stack.indexOf(`
-    at`)?" (<anonymous>)":-1<u.stack.indexOf("@")?"@unknown:0:0":""}return`
-`+te+a+It}var qt=!1;function Ht(a,i){if(!a||qt)return"";qt=!0;var u=Error.prepareStackTrace;Error.prepareStackTrace=void 0;try{var c={DetermineComponentFrameRoot:function(){try{if(i){var Z=function(){throw Error()};if(Object.defineProperty(Z.prototype,"props",{set:function(){throw Error()}}),typeof Reflect=="object"&&Reflect.construct){try{Reflect.construct(Z,[])}catch($){var H=$}Reflect.construct(a,[],Z)}else{try{Z.call()}catch($){H=$}a.call(Z.prototype)}}else{try{throw Error()}catch($){H=$}(Z=a())&&typeof Z.catch=="function"&&Z.catch(function(){})}}catch($){if($&&H&&typeof $.stack=="string")return[$.stack,H.stack]}return[null,null]}};c.DetermineComponentFrameRoot.displayName="DetermineComponentFrameRoot";var v=Object.getOwnPropertyDescriptor(c.DetermineComponentFrameRoot,"name");v&&v.configurable&&Object.defineProperty(c.DetermineComponentFrameRoot,"name",{value:"DetermineComponentFrameRoot"});var g=c.DetermineComponentFrameRoot(),S=g[0],N=g[1];if(S&&N){var M=S.split(`
-`),U=N.split(`
-`);for(v=c=0;c<M.length&&!M[c].includes("DetermineComponentFrameRoot");)c++;for(;v<U.length&&!U[v].includes("DetermineComponentFrameRoot");)v++;if(c===M.length||v===U.length)for(c=M.length-1,v=U.length-1;1<=c&&0<=v&&M[c]!==U[v];)v--;for(;1<=c&&0<=v;c--,v--)if(M[c]!==U[v]){if(c!==1||v!==1)do if(c--,v--,0>v||M[c]!==U[v]){var G=`
-`+M[c].replace(" at new "," at ");return a.displayName&&G.includes("<anonymous>")&&(G=G.replace("<anonymous>",a.displayName)),G}while(1<=c&&0<=v);break}}}finally{qt=!1,Error.prepareStackTrace=u}return(u=a?a.displayName||a.name:"")?ke(u):""}function Nr(a,i){switch(a.tag){case 26:case 27:case 5:return ke(a.type);case 16:return ke("Lazy");case 13:return a.child!==i&&i!==null?ke("Suspense Fallback"):ke("Suspense");case 19:return ke("SuspenseList");case 0:case 15:return Ht(a.type,!1);case 11:return Ht(a.type.render,!1);case 1:return Ht(a.type,!0);case 31:return ke("Activity");default:return""}}function mo(a){try{var i="",u=null;do i+=Nr(a,u),u=a,a=a.return;while(a);return i}catch(c){return`
-Error generating stack: `+c.message+`
-`+c.stack}}var Kd=Object.prototype.hasOwnProperty,Yd=e.unstable_scheduleCallback,Gd=e.unstable_cancelCallback,iD=e.unstable_shouldYield,lD=e.unstable_requestPaint,xn=e.unstable_now,oD=e.unstable_getCurrentPriorityLevel,Z0=e.unstable_ImmediatePriority,Q0=e.unstable_UserBlockingPriority,cs=e.unstable_NormalPriority,uD=e.unstable_LowPriority,J0=e.unstable_IdlePriority,sD=e.log,cD=e.unstable_setDisableYieldValue,vo=null,wn=null;function ga(a){if(typeof sD=="function"&&cD(a),wn&&typeof wn.setStrictMode=="function")try{wn.setStrictMode(vo,a)}catch{}}var Sn=Math.clz32?Math.clz32:hD,fD=Math.log,dD=Math.LN2;function hD(a){return a>>>=0,a===0?32:31-(fD(a)/dD|0)|0}var fs=256,ds=262144,hs=4194304;function ti(a){var i=a&42;if(i!==0)return i;switch(a&-a){case 1:return 1;case 2:return 2;case 4:return 4;case 8:return 8;case 16:return 16;case 32:return 32;case 64:return 64;case 128:return 128;case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:return a&261888;case 262144:case 524288:case 1048576:case 2097152:return a&3932160;case 4194304:case 8388608:case 16777216:case 33554432:return a&62914560;case 67108864:return 67108864;case 134217728:return 134217728;case 268435456:return 268435456;case 536870912:return 536870912;case 1073741824:return 0;default:return a}}function ms(a,i,u){var c=a.pendingLanes;if(c===0)return 0;var v=0,g=a.suspendedLanes,S=a.pingedLanes;a=a.warmLanes;var N=c&134217727;return N!==0?(c=N&~g,c!==0?v=ti(c):(S&=N,S!==0?v=ti(S):u||(u=N&~a,u!==0&&(v=ti(u))))):(N=c&~g,N!==0?v=ti(N):S!==0?v=ti(S):u||(u=c&~a,u!==0&&(v=ti(u)))),v===0?0:i!==0&&i!==v&&(i&g)===0&&(g=v&-v,u=i&-i,g>=u||g===32&&(u&4194048)!==0)?i:v}function po(a,i){return(a.pendingLanes&~(a.suspendedLanes&~a.pingedLanes)&i)===0}function mD(a,i){switch(a){case 1:case 2:case 4:case 8:case 64:return i+250;case 16:case 32:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return i+5e3;case 4194304:case 8388608:case 16777216:case 33554432:return-1;case 67108864:case 134217728:case 268435456:case 536870912:case 1073741824:return-1;default:return-1}}function eb(){var a=hs;return hs<<=1,(hs&62914560)===0&&(hs=4194304),a}function Vd(a){for(var i=[],u=0;31>u;u++)i.push(a);return i}function yo(a,i){a.pendingLanes|=i,i!==268435456&&(a.suspendedLanes=0,a.pingedLanes=0,a.warmLanes=0)}function vD(a,i,u,c,v,g){var S=a.pendingLanes;a.pendingLanes=u,a.suspendedLanes=0,a.pingedLanes=0,a.warmLanes=0,a.expiredLanes&=u,a.entangledLanes&=u,a.errorRecoveryDisabledLanes&=u,a.shellSuspendCounter=0;var N=a.entanglements,M=a.expirationTimes,U=a.hiddenUpdates;for(u=S&~u;0<u;){var G=31-Sn(u),Z=1<<G;N[G]=0,M[G]=-1;var H=U[G];if(H!==null)for(U[G]=null,G=0;G<H.length;G++){var $=H[G];$!==null&&($.lane&=-536870913)}u&=~Z}c!==0&&tb(a,c,0),g!==0&&v===0&&a.tag!==0&&(a.suspendedLanes|=g&~(S&~i))}function tb(a,i,u){a.pendingLanes|=i,a.suspendedLanes&=~i;var c=31-Sn(i);a.entangledLanes|=i,a.entanglements[c]=a.entanglements[c]|1073741824|u&261930}function nb(a,i){var u=a.entangledLanes|=i;for(a=a.entanglements;u;){var c=31-Sn(u),v=1<<c;v&i|a[c]&i&&(a[c]|=i),u&=~v}}function rb(a,i){var u=i&-i;return u=(u&42)!==0?1:Xd(u),(u&(a.suspendedLanes|i))!==0?0:u}function Xd(a){switch(a){case 2:a=1;break;case 8:a=4;break;case 32:a=16;break;case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:case 4194304:case 8388608:case 16777216:case 33554432:a=128;break;case 268435456:a=134217728;break;default:a=0}return a}function Fd(a){return a&=-a,2<a?8<a?(a&134217727)!==0?32:268435456:8:2}function ab(){var a=Q.p;return a!==0?a:(a=window.event,a===void 0?32:$w(a.type))}function ib(a,i){var u=Q.p;try{return Q.p=a,i()}finally{Q.p=u}}var ba=Math.random().toString(36).slice(2),$t="__reactFiber$"+ba,sn="__reactProps$"+ba,$i="__reactContainer$"+ba,Wd="__reactEvents$"+ba,pD="__reactListeners$"+ba,yD="__reactHandles$"+ba,lb="__reactResources$"+ba,go="__reactMarker$"+ba;function Zd(a){delete a[$t],delete a[sn],delete a[Wd],delete a[pD],delete a[yD]}function Ki(a){var i=a[$t];if(i)return i;for(var u=a.parentNode;u;){if(i=u[$i]||u[$t]){if(u=i.alternate,i.child!==null||u!==null&&u.child!==null)for(a=Nw(a);a!==null;){if(u=a[$t])return u;a=Nw(a)}return i}a=u,u=a.parentNode}return null}function Yi(a){if(a=a[$t]||a[$i]){var i=a.tag;if(i===5||i===6||i===13||i===31||i===26||i===27||i===3)return a}return null}function bo(a){var i=a.tag;if(i===5||i===26||i===27||i===6)return a.stateNode;throw Error(r(33))}function Gi(a){var i=a[lb];return i||(i=a[lb]={hoistableStyles:new Map,hoistableScripts:new Map}),i}function Mt(a){a[go]=!0}var ob=new Set,ub={};function ni(a,i){Vi(a,i),Vi(a+"Capture",i)}function Vi(a,i){for(ub[a]=i,a=0;a<i.length;a++)ob.add(i[a])}var gD=RegExp("^[:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD][:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD\\-.0-9\\u00B7\\u0300-\\u036F\\u203F-\\u2040]*$"),sb={},cb={};function bD(a){return Kd.call(cb,a)?!0:Kd.call(sb,a)?!1:gD.test(a)?cb[a]=!0:(sb[a]=!0,!1)}function vs(a,i,u){if(bD(i))if(u===null)a.removeAttribute(i);else{switch(typeof u){case"undefined":case"function":case"symbol":a.removeAttribute(i);return;case"boolean":var c=i.toLowerCase().slice(0,5);if(c!=="data-"&&c!=="aria-"){a.removeAttribute(i);return}}a.setAttribute(i,""+u)}}function ps(a,i,u){if(u===null)a.removeAttribute(i);else{switch(typeof u){case"undefined":case"function":case"symbol":case"boolean":a.removeAttribute(i);return}a.setAttribute(i,""+u)}}function Cr(a,i,u,c){if(c===null)a.removeAttribute(u);else{switch(typeof c){case"undefined":case"function":case"symbol":case"boolean":a.removeAttribute(u);return}a.setAttributeNS(i,u,""+c)}}function Bn(a){switch(typeof a){case"bigint":case"boolean":case"number":case"string":case"undefined":return a;case"object":return a;default:return""}}function fb(a){var i=a.type;return(a=a.nodeName)&&a.toLowerCase()==="input"&&(i==="checkbox"||i==="radio")}function xD(a,i,u){var c=Object.getOwnPropertyDescriptor(a.constructor.prototype,i);if(!a.hasOwnProperty(i)&&typeof c<"u"&&typeof c.get=="function"&&typeof c.set=="function"){var v=c.get,g=c.set;return Object.defineProperty(a,i,{configurable:!0,get:function(){return v.call(this)},set:function(S){u=""+S,g.call(this,S)}}),Object.defineProperty(a,i,{enumerable:c.enumerable}),{getValue:function(){return u},setValue:function(S){u=""+S},stopTracking:function(){a._valueTracker=null,delete a[i]}}}}function Qd(a){if(!a._valueTracker){var i=fb(a)?"checked":"value";a._valueTracker=xD(a,i,""+a[i])}}function db(a){if(!a)return!1;var i=a._valueTracker;if(!i)return!0;var u=i.getValue(),c="";return a&&(c=fb(a)?a.checked?"true":"false":a.value),a=c,a!==u?(i.setValue(a),!0):!1}function ys(a){if(a=a||(typeof document<"u"?document:void 0),typeof a>"u")return null;try{return a.activeElement||a.body}catch{return a.body}}var wD=/[\n"\\]/g;function Un(a){return a.replace(wD,function(i){return"\\"+i.charCodeAt(0).toString(16)+" "})}function Jd(a,i,u,c,v,g,S,N){a.name="",S!=null&&typeof S!="function"&&typeof S!="symbol"&&typeof S!="boolean"?a.type=S:a.removeAttribute("type"),i!=null?S==="number"?(i===0&&a.value===""||a.value!=i)&&(a.value=""+Bn(i)):a.value!==""+Bn(i)&&(a.value=""+Bn(i)):S!=="submit"&&S!=="reset"||a.removeAttribute("value"),i!=null?eh(a,S,Bn(i)):u!=null?eh(a,S,Bn(u)):c!=null&&a.removeAttribute("value"),v==null&&g!=null&&(a.defaultChecked=!!g),v!=null&&(a.checked=v&&typeof v!="function"&&typeof v!="symbol"),N!=null&&typeof N!="function"&&typeof N!="symbol"&&typeof N!="boolean"?a.name=""+Bn(N):a.removeAttribute("name")}function hb(a,i,u,c,v,g,S,N){if(g!=null&&typeof g!="function"&&typeof g!="symbol"&&typeof g!="boolean"&&(a.type=g),i!=null||u!=null){if(!(g!=="submit"&&g!=="reset"||i!=null)){Qd(a);return}u=u!=null?""+Bn(u):"",i=i!=null?""+Bn(i):u,N||i===a.value||(a.value=i),a.defaultValue=i}c=c??v,c=typeof c!="function"&&typeof c!="symbol"&&!!c,a.checked=N?a.checked:!!c,a.defaultChecked=!!c,S!=null&&typeof S!="function"&&typeof S!="symbol"&&typeof S!="boolean"&&(a.name=S),Qd(a)}function eh(a,i,u){i==="number"&&ys(a.ownerDocument)===a||a.defaultValue===""+u||(a.defaultValue=""+u)}function Xi(a,i,u,c){if(a=a.options,i){i={};for(var v=0;v<u.length;v++)i["$"+u[v]]=!0;for(u=0;u<a.length;u++)v=i.hasOwnProperty("$"+a[u].value),a[u].selected!==v&&(a[u].selected=v),v&&c&&(a[u].defaultSelected=!0)}else{for(u=""+Bn(u),i=null,v=0;v<a.length;v++){if(a[v].value===u){a[v].selected=!0,c&&(a[v].defaultSelected=!0);return}i!==null||a[v].disabled||(i=a[v])}i!==null&&(i.selected=!0)}}function mb(a,i,u){if(i!=null&&(i=""+Bn(i),i!==a.value&&(a.value=i),u==null)){a.defaultValue!==i&&(a.defaultValue=i);return}a.defaultValue=u!=null?""+Bn(u):""}function vb(a,i,u,c){if(i==null){if(c!=null){if(u!=null)throw Error(r(92));if(xe(c)){if(1<c.length)throw Error(r(93));c=c[0]}u=c}u==null&&(u=""),i=u}u=Bn(i),a.defaultValue=u,c=a.textContent,c===u&&c!==""&&c!==null&&(a.value=c),Qd(a)}function Fi(a,i){if(i){var u=a.firstChild;if(u&&u===a.lastChild&&u.nodeType===3){u.nodeValue=i;return}}a.textContent=i}var SD=new Set("animationIterationCount aspectRatio borderImageOutset borderImageSlice borderImageWidth boxFlex boxFlexGroup boxOrdinalGroup columnCount columns flex flexGrow flexPositive flexShrink flexNegative flexOrder gridArea gridRow gridRowEnd gridRowSpan gridRowStart gridColumn gridColumnEnd gridColumnSpan gridColumnStart fontWeight lineClamp lineHeight opacity order orphans scale tabSize widows zIndex zoom fillOpacity floodOpacity stopOpacity strokeDasharray strokeDashoffset strokeMiterlimit strokeOpacity strokeWidth MozAnimationIterationCount MozBoxFlex MozBoxFlexGroup MozLineClamp msAnimationIterationCount msFlex msZoom msFlexGrow msFlexNegative msFlexOrder msFlexPositive msFlexShrink msGridColumn msGridColumnSpan msGridRow msGridRowSpan WebkitAnimationIterationCount WebkitBoxFlex WebKitBoxFlexGroup WebkitBoxOrdinalGroup WebkitColumnCount WebkitColumns WebkitFlex WebkitFlexGrow WebkitFlexPositive WebkitFlexShrink WebkitLineClamp".split(" "));function pb(a,i,u){var c=i.indexOf("--")===0;u==null||typeof u=="boolean"||u===""?c?a.setProperty(i,""):i==="float"?a.cssFloat="":a[i]="":c?a.setProperty(i,u):typeof u!="number"||u===0||SD.has(i)?i==="float"?a.cssFloat=u:a[i]=(""+u).trim():a[i]=u+"px"}function yb(a,i,u){if(i!=null&&typeof i!="object")throw Error(r(62));if(a=a.style,u!=null){for(var c in u)!u.hasOwnProperty(c)||i!=null&&i.hasOwnProperty(c)||(c.indexOf("--")===0?a.setProperty(c,""):c==="float"?a.cssFloat="":a[c]="");for(var v in i)c=i[v],i.hasOwnProperty(v)&&u[v]!==c&&pb(a,v,c)}else for(var g in i)i.hasOwnProperty(g)&&pb(a,g,i[g])}function th(a){if(a.indexOf("-")===-1)return!1;switch(a){case"annotation-xml":case"color-profile":case"font-face":case"font-face-src":case"font-face-uri":case"font-face-format":case"font-face-name":case"missing-glyph":return!1;default:return!0}}var jD=new Map([["acceptCharset","accept-charset"],["htmlFor","for"],["httpEquiv","http-equiv"],["crossOrigin","crossorigin"],["accentHeight","accent-height"],["alignmentBaseline","alignment-baseline"],["arabicForm","arabic-form"],["baselineShift","baseline-shift"],["capHeight","cap-height"],["clipPath","clip-path"],["clipRule","clip-rule"],["colorInterpolation","color-interpolation"],["colorInterpolationFilters","color-interpolation-filters"],["colorProfile","color-profile"],["colorRendering","color-rendering"],["dominantBaseline","dominant-baseline"],["enableBackground","enable-background"],["fillOpacity","fill-opacity"],["fillRule","fill-rule"],["floodColor","flood-color"],["floodOpacity","flood-opacity"],["fontFamily","font-family"],["fontSize","font-size"],["fontSizeAdjust","font-size-adjust"],["fontStretch","font-stretch"],["fontStyle","font-style"],["fontVariant","font-variant"],["fontWeight","font-weight"],["glyphName","glyph-name"],["glyphOrientationHorizontal","glyph-orientation-horizontal"],["glyphOrientationVertical","glyph-orientation-vertical"],["horizAdvX","horiz-adv-x"],["horizOriginX","horiz-origin-x"],["imageRendering","image-rendering"],["letterSpacing","letter-spacing"],["lightingColor","lighting-color"],["markerEnd","marker-end"],["markerMid","marker-mid"],["markerStart","marker-start"],["overlinePosition","overline-position"],["overlineThickness","overline-thickness"],["paintOrder","paint-order"],["panose-1","panose-1"],["pointerEvents","pointer-events"],["renderingIntent","rendering-intent"],["shapeRendering","shape-rendering"],["stopColor","stop-color"],["stopOpacity","stop-opacity"],["strikethroughPosition","strikethrough-position"],["strikethroughThickness","strikethrough-thickness"],["strokeDasharray","stroke-dasharray"],["strokeDashoffset","stroke-dashoffset"],["strokeLinecap","stroke-linecap"],["strokeLinejoin","stroke-linejoin"],["strokeMiterlimit","stroke-miterlimit"],["strokeOpacity","stroke-opacity"],["strokeWidth","stroke-width"],["textAnchor","text-anchor"],["textDecoration","text-decoration"],["textRendering","text-rendering"],["transformOrigin","transform-origin"],["underlinePosition","underline-position"],["underlineThickness","underline-thickness"],["unicodeBidi","unicode-bidi"],["unicodeRange","unicode-range"],["unitsPerEm","units-per-em"],["vAlphabetic","v-alphabetic"],["vHanging","v-hanging"],["vIdeographic","v-ideographic"],["vMathematical","v-mathematical"],["vectorEffect","vector-effect"],["vertAdvY","vert-adv-y"],["vertOriginX","vert-origin-x"],["vertOriginY","vert-origin-y"],["wordSpacing","word-spacing"],["writingMode","writing-mode"],["xmlnsXlink","xmlns:xlink"],["xHeight","x-height"]]),ED=/^[\u0000-\u001F ]*j[\r\n\t]*a[\r\n\t]*v[\r\n\t]*a[\r\n\t]*s[\r\n\t]*c[\r\n\t]*r[\r\n\t]*i[\r\n\t]*p[\r\n\t]*t[\r\n\t]*:/i;function gs(a){return ED.test(""+a)?"javascript:throw new Error('React has blocked a javascript: URL as a security precaution.')":a}function _r(){}var nh=null;function rh(a){return a=a.target||a.srcElement||window,a.correspondingUseElement&&(a=a.correspondingUseElement),a.nodeType===3?a.parentNode:a}var Wi=null,Zi=null;function gb(a){var i=Yi(a);if(i&&(a=i.stateNode)){var u=a[sn]||null;e:switch(a=i.stateNode,i.type){case"input":if(Jd(a,u.value,u.defaultValue,u.defaultValue,u.checked,u.defaultChecked,u.type,u.name),i=u.name,u.type==="radio"&&i!=null){for(u=a;u.parentNode;)u=u.parentNode;for(u=u.querySelectorAll('input[name="'+Un(""+i)+'"][type="radio"]'),i=0;i<u.length;i++){var c=u[i];if(c!==a&&c.form===a.form){var v=c[sn]||null;if(!v)throw Error(r(90));Jd(c,v.value,v.defaultValue,v.defaultValue,v.checked,v.defaultChecked,v.type,v.name)}}for(i=0;i<u.length;i++)c=u[i],c.form===a.form&&db(c)}break e;case"textarea":mb(a,u.value,u.defaultValue);break e;case"select":i=u.value,i!=null&&Xi(a,!!u.multiple,i,!1)}}}var ah=!1;function bb(a,i,u){if(ah)return a(i,u);ah=!0;try{var c=a(i);return c}finally{if(ah=!1,(Wi!==null||Zi!==null)&&(ic(),Wi&&(i=Wi,a=Zi,Zi=Wi=null,gb(i),a)))for(i=0;i<a.length;i++)gb(a[i])}}function xo(a,i){var u=a.stateNode;if(u===null)return null;var c=u[sn]||null;if(c===null)return null;u=c[i];e:switch(i){case"onClick":case"onClickCapture":case"onDoubleClick":case"onDoubleClickCapture":case"onMouseDown":case"onMouseDownCapture":case"onMouseMove":case"onMouseMoveCapture":case"onMouseUp":case"onMouseUpCapture":case"onMouseEnter":(c=!c.disabled)||(a=a.type,c=!(a==="button"||a==="input"||a==="select"||a==="textarea")),a=!c;break e;default:a=!1}if(a)return null;if(u&&typeof u!="function")throw Error(r(231,i,typeof u));return u}var Tr=!(typeof window>"u"||typeof window.document>"u"||typeof window.document.createElement>"u"),ih=!1;if(Tr)try{var wo={};Object.defineProperty(wo,"passive",{get:function(){ih=!0}}),window.addEventListener("test",wo,wo),window.removeEventListener("test",wo,wo)}catch{ih=!1}var xa=null,lh=null,bs=null;function xb(){if(bs)return bs;var a,i=lh,u=i.length,c,v="value"in xa?xa.value:xa.textContent,g=v.length;for(a=0;a<u&&i[a]===v[a];a++);var S=u-a;for(c=1;c<=S&&i[u-c]===v[g-c];c++);return bs=v.slice(a,1<c?1-c:void 0)}function xs(a){var i=a.keyCode;return"charCode"in a?(a=a.charCode,a===0&&i===13&&(a=13)):a=i,a===10&&(a=13),32<=a||a===13?a:0}function ws(){return!0}function wb(){return!1}function cn(a){function i(u,c,v,g,S){this._reactName=u,this._targetInst=v,this.type=c,this.nativeEvent=g,this.target=S,this.currentTarget=null;for(var N in a)a.hasOwnProperty(N)&&(u=a[N],this[N]=u?u(g):g[N]);return this.isDefaultPrevented=(g.defaultPrevented!=null?g.defaultPrevented:g.returnValue===!1)?ws:wb,this.isPropagationStopped=wb,this}return p(i.prototype,{preventDefault:function(){this.defaultPrevented=!0;var u=this.nativeEvent;u&&(u.preventDefault?u.preventDefault():typeof u.returnValue!="unknown"&&(u.returnValue=!1),this.isDefaultPrevented=ws)},stopPropagation:function(){var u=this.nativeEvent;u&&(u.stopPropagation?u.stopPropagation():typeof u.cancelBubble!="unknown"&&(u.cancelBubble=!0),this.isPropagationStopped=ws)},persist:function(){},isPersistent:ws}),i}var ri={eventPhase:0,bubbles:0,cancelable:0,timeStamp:function(a){return a.timeStamp||Date.now()},defaultPrevented:0,isTrusted:0},Ss=cn(ri),So=p({},ri,{view:0,detail:0}),AD=cn(So),oh,uh,jo,js=p({},So,{screenX:0,screenY:0,clientX:0,clientY:0,pageX:0,pageY:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,getModifierState:ch,button:0,buttons:0,relatedTarget:function(a){return a.relatedTarget===void 0?a.fromElement===a.srcElement?a.toElement:a.fromElement:a.relatedTarget},movementX:function(a){return"movementX"in a?a.movementX:(a!==jo&&(jo&&a.type==="mousemove"?(oh=a.screenX-jo.screenX,uh=a.screenY-jo.screenY):uh=oh=0,jo=a),oh)},movementY:function(a){return"movementY"in a?a.movementY:uh}}),Sb=cn(js),OD=p({},js,{dataTransfer:0}),ND=cn(OD),CD=p({},So,{relatedTarget:0}),sh=cn(CD),_D=p({},ri,{animationName:0,elapsedTime:0,pseudoElement:0}),TD=cn(_D),MD=p({},ri,{clipboardData:function(a){return"clipboardData"in a?a.clipboardData:window.clipboardData}}),DD=cn(MD),kD=p({},ri,{data:0}),jb=cn(kD),RD={Esc:"Escape",Spacebar:" ",Left:"ArrowLeft",Up:"ArrowUp",Right:"ArrowRight",Down:"ArrowDown",Del:"Delete",Win:"OS",Menu:"ContextMenu",Apps:"ContextMenu",Scroll:"ScrollLock",MozPrintableKey:"Unidentified"},PD={8:"Backspace",9:"Tab",12:"Clear",13:"Enter",16:"Shift",17:"Control",18:"Alt",19:"Pause",20:"CapsLock",27:"Escape",32:" ",33:"PageUp",34:"PageDown",35:"End",36:"Home",37:"ArrowLeft",38:"ArrowUp",39:"ArrowRight",40:"ArrowDown",45:"Insert",46:"Delete",112:"F1",113:"F2",114:"F3",115:"F4",116:"F5",117:"F6",118:"F7",119:"F8",120:"F9",121:"F10",122:"F11",123:"F12",144:"NumLock",145:"ScrollLock",224:"Meta"},zD={Alt:"altKey",Control:"ctrlKey",Meta:"metaKey",Shift:"shiftKey"};function LD(a){var i=this.nativeEvent;return i.getModifierState?i.getModifierState(a):(a=zD[a])?!!i[a]:!1}function ch(){return LD}var BD=p({},So,{key:function(a){if(a.key){var i=RD[a.key]||a.key;if(i!=="Unidentified")return i}return a.type==="keypress"?(a=xs(a),a===13?"Enter":String.fromCharCode(a)):a.type==="keydown"||a.type==="keyup"?PD[a.keyCode]||"Unidentified":""},code:0,location:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,repeat:0,locale:0,getModifierState:ch,charCode:function(a){return a.type==="keypress"?xs(a):0},keyCode:function(a){return a.type==="keydown"||a.type==="keyup"?a.keyCode:0},which:function(a){return a.type==="keypress"?xs(a):a.type==="keydown"||a.type==="keyup"?a.keyCode:0}}),UD=cn(BD),ID=p({},js,{pointerId:0,width:0,height:0,pressure:0,tangentialPressure:0,tiltX:0,tiltY:0,twist:0,pointerType:0,isPrimary:0}),Eb=cn(ID),qD=p({},So,{touches:0,targetTouches:0,changedTouches:0,altKey:0,metaKey:0,ctrlKey:0,shiftKey:0,getModifierState:ch}),HD=cn(qD),$D=p({},ri,{propertyName:0,elapsedTime:0,pseudoElement:0}),KD=cn($D),YD=p({},js,{deltaX:function(a){return"deltaX"in a?a.deltaX:"wheelDeltaX"in a?-a.wheelDeltaX:0},deltaY:function(a){return"deltaY"in a?a.deltaY:"wheelDeltaY"in a?-a.wheelDeltaY:"wheelDelta"in a?-a.wheelDelta:0},deltaZ:0,deltaMode:0}),GD=cn(YD),VD=p({},ri,{newState:0,oldState:0}),XD=cn(VD),FD=[9,13,27,32],fh=Tr&&"CompositionEvent"in window,Eo=null;Tr&&"documentMode"in document&&(Eo=document.documentMode);var WD=Tr&&"TextEvent"in window&&!Eo,Ab=Tr&&(!fh||Eo&&8<Eo&&11>=Eo),Ob=" ",Nb=!1;function Cb(a,i){switch(a){case"keyup":return FD.indexOf(i.keyCode)!==-1;case"keydown":return i.keyCode!==229;case"keypress":case"mousedown":case"focusout":return!0;default:return!1}}function _b(a){return a=a.detail,typeof a=="object"&&"data"in a?a.data:null}var Qi=!1;function ZD(a,i){switch(a){case"compositionend":return _b(i);case"keypress":return i.which!==32?null:(Nb=!0,Ob);case"textInput":return a=i.data,a===Ob&&Nb?null:a;default:return null}}function QD(a,i){if(Qi)return a==="compositionend"||!fh&&Cb(a,i)?(a=xb(),bs=lh=xa=null,Qi=!1,a):null;switch(a){case"paste":return null;case"keypress":if(!(i.ctrlKey||i.altKey||i.metaKey)||i.ctrlKey&&i.altKey){if(i.char&&1<i.char.length)return i.char;if(i.which)return String.fromCharCode(i.which)}return null;case"compositionend":return Ab&&i.locale!=="ko"?null:i.data;default:return null}}var JD={color:!0,date:!0,datetime:!0,"datetime-local":!0,email:!0,month:!0,number:!0,password:!0,range:!0,search:!0,tel:!0,text:!0,time:!0,url:!0,week:!0};function Tb(a){var i=a&&a.nodeName&&a.nodeName.toLowerCase();return i==="input"?!!JD[a.type]:i==="textarea"}function Mb(a,i,u,c){Wi?Zi?Zi.push(c):Zi=[c]:Wi=c,i=dc(i,"onChange"),0<i.length&&(u=new Ss("onChange","change",null,u,c),a.push({event:u,listeners:i}))}var Ao=null,Oo=null;function ek(a){hw(a,0)}function Es(a){var i=bo(a);if(db(i))return a}function Db(a,i){if(a==="change")return i}var kb=!1;if(Tr){var dh;if(Tr){var hh="oninput"in document;if(!hh){var Rb=document.createElement("div");Rb.setAttribute("oninput","return;"),hh=typeof Rb.oninput=="function"}dh=hh}else dh=!1;kb=dh&&(!document.documentMode||9<document.documentMode)}function Pb(){Ao&&(Ao.detachEvent("onpropertychange",zb),Oo=Ao=null)}function zb(a){if(a.propertyName==="value"&&Es(Oo)){var i=[];Mb(i,Oo,a,rh(a)),bb(ek,i)}}function tk(a,i,u){a==="focusin"?(Pb(),Ao=i,Oo=u,Ao.attachEvent("onpropertychange",zb)):a==="focusout"&&Pb()}function nk(a){if(a==="selectionchange"||a==="keyup"||a==="keydown")return Es(Oo)}function rk(a,i){if(a==="click")return Es(i)}function ak(a,i){if(a==="input"||a==="change")return Es(i)}function ik(a,i){return a===i&&(a!==0||1/a===1/i)||a!==a&&i!==i}var jn=typeof Object.is=="function"?Object.is:ik;function No(a,i){if(jn(a,i))return!0;if(typeof a!="object"||a===null||typeof i!="object"||i===null)return!1;var u=Object.keys(a),c=Object.keys(i);if(u.length!==c.length)return!1;for(c=0;c<u.length;c++){var v=u[c];if(!Kd.call(i,v)||!jn(a[v],i[v]))return!1}return!0}function Lb(a){for(;a&&a.firstChild;)a=a.firstChild;return a}function Bb(a,i){var u=Lb(a);a=0;for(var c;u;){if(u.nodeType===3){if(c=a+u.textContent.length,a<=i&&c>=i)return{node:u,offset:i-a};a=c}e:{for(;u;){if(u.nextSibling){u=u.nextSibling;break e}u=u.parentNode}u=void 0}u=Lb(u)}}function Ub(a,i){return a&&i?a===i?!0:a&&a.nodeType===3?!1:i&&i.nodeType===3?Ub(a,i.parentNode):"contains"in a?a.contains(i):a.compareDocumentPosition?!!(a.compareDocumentPosition(i)&16):!1:!1}function Ib(a){a=a!=null&&a.ownerDocument!=null&&a.ownerDocument.defaultView!=null?a.ownerDocument.defaultView:window;for(var i=ys(a.document);i instanceof a.HTMLIFrameElement;){try{var u=typeof i.contentWindow.location.href=="string"}catch{u=!1}if(u)a=i.contentWindow;else break;i=ys(a.document)}return i}function mh(a){var i=a&&a.nodeName&&a.nodeName.toLowerCase();return i&&(i==="input"&&(a.type==="text"||a.type==="search"||a.type==="tel"||a.type==="url"||a.type==="password")||i==="textarea"||a.contentEditable==="true")}var lk=Tr&&"documentMode"in document&&11>=document.documentMode,Ji=null,vh=null,Co=null,ph=!1;function qb(a,i,u){var c=u.window===u?u.document:u.nodeType===9?u:u.ownerDocument;ph||Ji==null||Ji!==ys(c)||(c=Ji,"selectionStart"in c&&mh(c)?c={start:c.selectionStart,end:c.selectionEnd}:(c=(c.ownerDocument&&c.ownerDocument.defaultView||window).getSelection(),c={anchorNode:c.anchorNode,anchorOffset:c.anchorOffset,focusNode:c.focusNode,focusOffset:c.focusOffset}),Co&&No(Co,c)||(Co=c,c=dc(vh,"onSelect"),0<c.length&&(i=new Ss("onSelect","select",null,i,u),a.push({event:i,listeners:c}),i.target=Ji)))}function ai(a,i){var u={};return u[a.toLowerCase()]=i.toLowerCase(),u["Webkit"+a]="webkit"+i,u["Moz"+a]="moz"+i,u}var el={animationend:ai("Animation","AnimationEnd"),animationiteration:ai("Animation","AnimationIteration"),animationstart:ai("Animation","AnimationStart"),transitionrun:ai("Transition","TransitionRun"),transitionstart:ai("Transition","TransitionStart"),transitioncancel:ai("Transition","TransitionCancel"),transitionend:ai("Transition","TransitionEnd")},yh={},Hb={};Tr&&(Hb=document.createElement("div").style,"AnimationEvent"in window||(delete el.animationend.animation,delete el.animationiteration.animation,delete el.animationstart.animation),"TransitionEvent"in window||delete el.transitionend.transition);function ii(a){if(yh[a])return yh[a];if(!el[a])return a;var i=el[a],u;for(u in i)if(i.hasOwnProperty(u)&&u in Hb)return yh[a]=i[u];return a}var $b=ii("animationend"),Kb=ii("animationiteration"),Yb=ii("animationstart"),ok=ii("transitionrun"),uk=ii("transitionstart"),sk=ii("transitioncancel"),Gb=ii("transitionend"),Vb=new Map,gh="abort auxClick beforeToggle cancel canPlay canPlayThrough click close contextMenu copy cut drag dragEnd dragEnter dragExit dragLeave dragOver dragStart drop durationChange emptied encrypted ended error gotPointerCapture input invalid keyDown keyPress keyUp load loadedData loadedMetadata loadStart lostPointerCapture mouseDown mouseMove mouseOut mouseOver mouseUp paste pause play playing pointerCancel pointerDown pointerMove pointerOut pointerOver pointerUp progress rateChange reset resize seeked seeking stalled submit suspend timeUpdate touchCancel touchEnd touchStart volumeChange scroll toggle touchMove waiting wheel".split(" ");gh.push("scrollEnd");function rr(a,i){Vb.set(a,i),ni(i,[a])}var As=typeof reportError=="function"?reportError:function(a){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var i=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof a=="object"&&a!==null&&typeof a.message=="string"?String(a.message):String(a),error:a});if(!window.dispatchEvent(i))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",a);return}console.error(a)},In=[],tl=0,bh=0;function Os(){for(var a=tl,i=bh=tl=0;i<a;){var u=In[i];In[i++]=null;var c=In[i];In[i++]=null;var v=In[i];In[i++]=null;var g=In[i];if(In[i++]=null,c!==null&&v!==null){var S=c.pending;S===null?v.next=v:(v.next=S.next,S.next=v),c.pending=v}g!==0&&Xb(u,v,g)}}function Ns(a,i,u,c){In[tl++]=a,In[tl++]=i,In[tl++]=u,In[tl++]=c,bh|=c,a.lanes|=c,a=a.alternate,a!==null&&(a.lanes|=c)}function xh(a,i,u,c){return Ns(a,i,u,c),Cs(a)}function li(a,i){return Ns(a,null,null,i),Cs(a)}function Xb(a,i,u){a.lanes|=u;var c=a.alternate;c!==null&&(c.lanes|=u);for(var v=!1,g=a.return;g!==null;)g.childLanes|=u,c=g.alternate,c!==null&&(c.childLanes|=u),g.tag===22&&(a=g.stateNode,a===null||a._visibility&1||(v=!0)),a=g,g=g.return;return a.tag===3?(g=a.stateNode,v&&i!==null&&(v=31-Sn(u),a=g.hiddenUpdates,c=a[v],c===null?a[v]=[i]:c.push(i),i.lane=u|536870912),g):null}function Cs(a){if(50<Wo)throw Wo=0,_m=null,Error(r(185));for(var i=a.return;i!==null;)a=i,i=a.return;return a.tag===3?a.stateNode:null}var nl={};function ck(a,i,u,c){this.tag=a,this.key=u,this.sibling=this.child=this.return=this.stateNode=this.type=this.elementType=null,this.index=0,this.refCleanup=this.ref=null,this.pendingProps=i,this.dependencies=this.memoizedState=this.updateQueue=this.memoizedProps=null,this.mode=c,this.subtreeFlags=this.flags=0,this.deletions=null,this.childLanes=this.lanes=0,this.alternate=null}function En(a,i,u,c){return new ck(a,i,u,c)}function wh(a){return a=a.prototype,!(!a||!a.isReactComponent)}function Mr(a,i){var u=a.alternate;return u===null?(u=En(a.tag,i,a.key,a.mode),u.elementType=a.elementType,u.type=a.type,u.stateNode=a.stateNode,u.alternate=a,a.alternate=u):(u.pendingProps=i,u.type=a.type,u.flags=0,u.subtreeFlags=0,u.deletions=null),u.flags=a.flags&65011712,u.childLanes=a.childLanes,u.lanes=a.lanes,u.child=a.child,u.memoizedProps=a.memoizedProps,u.memoizedState=a.memoizedState,u.updateQueue=a.updateQueue,i=a.dependencies,u.dependencies=i===null?null:{lanes:i.lanes,firstContext:i.firstContext},u.sibling=a.sibling,u.index=a.index,u.ref=a.ref,u.refCleanup=a.refCleanup,u}function Fb(a,i){a.flags&=65011714;var u=a.alternate;return u===null?(a.childLanes=0,a.lanes=i,a.child=null,a.subtreeFlags=0,a.memoizedProps=null,a.memoizedState=null,a.updateQueue=null,a.dependencies=null,a.stateNode=null):(a.childLanes=u.childLanes,a.lanes=u.lanes,a.child=u.child,a.subtreeFlags=0,a.deletions=null,a.memoizedProps=u.memoizedProps,a.memoizedState=u.memoizedState,a.updateQueue=u.updateQueue,a.type=u.type,i=u.dependencies,a.dependencies=i===null?null:{lanes:i.lanes,firstContext:i.firstContext}),a}function _s(a,i,u,c,v,g){var S=0;if(c=a,typeof a=="function")wh(a)&&(S=1);else if(typeof a=="string")S=vR(a,u,ne.current)?26:a==="html"||a==="head"||a==="body"?27:5;else e:switch(a){case re:return a=En(31,u,i,v),a.elementType=re,a.lanes=g,a;case A:return oi(u.children,v,g,i);case j:S=8,v|=24;break;case O:return a=En(12,u,i,v|2),a.elementType=O,a.lanes=g,a;case T:return a=En(13,u,i,v),a.elementType=T,a.lanes=g,a;case P:return a=En(19,u,i,v),a.elementType=P,a.lanes=g,a;default:if(typeof a=="object"&&a!==null)switch(a.$$typeof){case C:S=10;break e;case _:S=9;break e;case D:S=11;break e;case k:S=14;break e;case I:S=16,c=null;break e}S=29,u=Error(r(130,a===null?"null":typeof a,"")),c=null}return i=En(S,u,i,v),i.elementType=a,i.type=c,i.lanes=g,i}function oi(a,i,u,c){return a=En(7,a,c,i),a.lanes=u,a}function Sh(a,i,u){return a=En(6,a,null,i),a.lanes=u,a}function Wb(a){var i=En(18,null,null,0);return i.stateNode=a,i}function jh(a,i,u){return i=En(4,a.children!==null?a.children:[],a.key,i),i.lanes=u,i.stateNode={containerInfo:a.containerInfo,pendingChildren:null,implementation:a.implementation},i}var Zb=new WeakMap;function qn(a,i){if(typeof a=="object"&&a!==null){var u=Zb.get(a);return u!==void 0?u:(i={value:a,source:i,stack:mo(i)},Zb.set(a,i),i)}return{value:a,source:i,stack:mo(i)}}var rl=[],al=0,Ts=null,_o=0,Hn=[],$n=0,wa=null,mr=1,vr="";function Dr(a,i){rl[al++]=_o,rl[al++]=Ts,Ts=a,_o=i}function Qb(a,i,u){Hn[$n++]=mr,Hn[$n++]=vr,Hn[$n++]=wa,wa=a;var c=mr;a=vr;var v=32-Sn(c)-1;c&=~(1<<v),u+=1;var g=32-Sn(i)+v;if(30<g){var S=v-v%5;g=(c&(1<<S)-1).toString(32),c>>=S,v-=S,mr=1<<32-Sn(i)+v|u<<v|c,vr=g+a}else mr=1<<g|u<<v|c,vr=a}function Eh(a){a.return!==null&&(Dr(a,1),Qb(a,1,0))}function Ah(a){for(;a===Ts;)Ts=rl[--al],rl[al]=null,_o=rl[--al],rl[al]=null;for(;a===wa;)wa=Hn[--$n],Hn[$n]=null,vr=Hn[--$n],Hn[$n]=null,mr=Hn[--$n],Hn[$n]=null}function Jb(a,i){Hn[$n++]=mr,Hn[$n++]=vr,Hn[$n++]=wa,mr=i.id,vr=i.overflow,wa=a}var Kt=null,Qe=null,De=!1,Sa=null,Kn=!1,Oh=Error(r(519));function ja(a){var i=Error(r(418,1<arguments.length&&arguments[1]!==void 0&&arguments[1]?"text":"HTML",""));throw To(qn(i,a)),Oh}function ex(a){var i=a.stateNode,u=a.type,c=a.memoizedProps;switch(i[$t]=a,i[sn]=c,u){case"dialog":_e("cancel",i),_e("close",i);break;case"iframe":case"object":case"embed":_e("load",i);break;case"video":case"audio":for(u=0;u<Qo.length;u++)_e(Qo[u],i);break;case"source":_e("error",i);break;case"img":case"image":case"link":_e("error",i),_e("load",i);break;case"details":_e("toggle",i);break;case"input":_e("invalid",i),hb(i,c.value,c.defaultValue,c.checked,c.defaultChecked,c.type,c.name,!0);break;case"select":_e("invalid",i);break;case"textarea":_e("invalid",i),vb(i,c.value,c.defaultValue,c.children)}u=c.children,typeof u!="string"&&typeof u!="number"&&typeof u!="bigint"||i.textContent===""+u||c.suppressHydrationWarning===!0||yw(i.textContent,u)?(c.popover!=null&&(_e("beforetoggle",i),_e("toggle",i)),c.onScroll!=null&&_e("scroll",i),c.onScrollEnd!=null&&_e("scrollend",i),c.onClick!=null&&(i.onclick=_r),i=!0):i=!1,i||ja(a,!0)}function tx(a){for(Kt=a.return;Kt;)switch(Kt.tag){case 5:case 31:case 13:Kn=!1;return;case 27:case 3:Kn=!0;return;default:Kt=Kt.return}}function il(a){if(a!==Kt)return!1;if(!De)return tx(a),De=!0,!1;var i=a.tag,u;if((u=i!==3&&i!==27)&&((u=i===5)&&(u=a.type,u=!(u!=="form"&&u!=="button")||Km(a.type,a.memoizedProps)),u=!u),u&&Qe&&ja(a),tx(a),i===13){if(a=a.memoizedState,a=a!==null?a.dehydrated:null,!a)throw Error(r(317));Qe=Ow(a)}else if(i===31){if(a=a.memoizedState,a=a!==null?a.dehydrated:null,!a)throw Error(r(317));Qe=Ow(a)}else i===27?(i=Qe,La(a.type)?(a=Fm,Fm=null,Qe=a):Qe=i):Qe=Kt?Gn(a.stateNode.nextSibling):null;return!0}function ui(){Qe=Kt=null,De=!1}function Nh(){var a=Sa;return a!==null&&(mn===null?mn=a:mn.push.apply(mn,a),Sa=null),a}function To(a){Sa===null?Sa=[a]:Sa.push(a)}var Ch=R(null),si=null,kr=null;function Ea(a,i,u){ee(Ch,i._currentValue),i._currentValue=u}function Rr(a){a._currentValue=Ch.current,Y(Ch)}function _h(a,i,u){for(;a!==null;){var c=a.alternate;if((a.childLanes&i)!==i?(a.childLanes|=i,c!==null&&(c.childLanes|=i)):c!==null&&(c.childLanes&i)!==i&&(c.childLanes|=i),a===u)break;a=a.return}}function Th(a,i,u,c){var v=a.child;for(v!==null&&(v.return=a);v!==null;){var g=v.dependencies;if(g!==null){var S=v.child;g=g.firstContext;e:for(;g!==null;){var N=g;g=v;for(var M=0;M<i.length;M++)if(N.context===i[M]){g.lanes|=u,N=g.alternate,N!==null&&(N.lanes|=u),_h(g.return,u,a),c||(S=null);break e}g=N.next}}else if(v.tag===18){if(S=v.return,S===null)throw Error(r(341));S.lanes|=u,g=S.alternate,g!==null&&(g.lanes|=u),_h(S,u,a),S=null}else S=v.child;if(S!==null)S.return=v;else for(S=v;S!==null;){if(S===a){S=null;break}if(v=S.sibling,v!==null){v.return=S.return,S=v;break}S=S.return}v=S}}function ll(a,i,u,c){a=null;for(var v=i,g=!1;v!==null;){if(!g){if((v.flags&524288)!==0)g=!0;else if((v.flags&262144)!==0)break}if(v.tag===10){var S=v.alternate;if(S===null)throw Error(r(387));if(S=S.memoizedProps,S!==null){var N=v.type;jn(v.pendingProps.value,S.value)||(a!==null?a.push(N):a=[N])}}else if(v===ue.current){if(S=v.alternate,S===null)throw Error(r(387));S.memoizedState.memoizedState!==v.memoizedState.memoizedState&&(a!==null?a.push(ru):a=[ru])}v=v.return}a!==null&&Th(i,a,u,c),i.flags|=262144}function Ms(a){for(a=a.firstContext;a!==null;){if(!jn(a.context._currentValue,a.memoizedValue))return!0;a=a.next}return!1}function ci(a){si=a,kr=null,a=a.dependencies,a!==null&&(a.firstContext=null)}function Yt(a){return nx(si,a)}function Ds(a,i){return si===null&&ci(a),nx(a,i)}function nx(a,i){var u=i._currentValue;if(i={context:i,memoizedValue:u,next:null},kr===null){if(a===null)throw Error(r(308));kr=i,a.dependencies={lanes:0,firstContext:i},a.flags|=524288}else kr=kr.next=i;return u}var fk=typeof AbortController<"u"?AbortController:function(){var a=[],i=this.signal={aborted:!1,addEventListener:function(u,c){a.push(c)}};this.abort=function(){i.aborted=!0,a.forEach(function(u){return u()})}},dk=e.unstable_scheduleCallback,hk=e.unstable_NormalPriority,mt={$$typeof:C,Consumer:null,Provider:null,_currentValue:null,_currentValue2:null,_threadCount:0};function Mh(){return{controller:new fk,data:new Map,refCount:0}}function Mo(a){a.refCount--,a.refCount===0&&dk(hk,function(){a.controller.abort()})}var Do=null,Dh=0,ol=0,ul=null;function mk(a,i){if(Do===null){var u=Do=[];Dh=0,ol=Pm(),ul={status:"pending",value:void 0,then:function(c){u.push(c)}}}return Dh++,i.then(rx,rx),i}function rx(){if(--Dh===0&&Do!==null){ul!==null&&(ul.status="fulfilled");var a=Do;Do=null,ol=0,ul=null;for(var i=0;i<a.length;i++)(0,a[i])()}}function vk(a,i){var u=[],c={status:"pending",value:null,reason:null,then:function(v){u.push(v)}};return a.then(function(){c.status="fulfilled",c.value=i;for(var v=0;v<u.length;v++)(0,u[v])(i)},function(v){for(c.status="rejected",c.reason=v,v=0;v<u.length;v++)(0,u[v])(void 0)}),c}var ax=q.S;q.S=function(a,i){q1=xn(),typeof i=="object"&&i!==null&&typeof i.then=="function"&&mk(a,i),ax!==null&&ax(a,i)};var fi=R(null);function kh(){var a=fi.current;return a!==null?a:Ge.pooledCache}function ks(a,i){i===null?ee(fi,fi.current):ee(fi,i.pool)}function ix(){var a=kh();return a===null?null:{parent:mt._currentValue,pool:a}}var sl=Error(r(460)),Rh=Error(r(474)),Rs=Error(r(542)),Ps={then:function(){}};function lx(a){return a=a.status,a==="fulfilled"||a==="rejected"}function ox(a,i,u){switch(u=a[u],u===void 0?a.push(i):u!==i&&(i.then(_r,_r),i=u),i.status){case"fulfilled":return i.value;case"rejected":throw a=i.reason,sx(a),a;default:if(typeof i.status=="string")i.then(_r,_r);else{if(a=Ge,a!==null&&100<a.shellSuspendCounter)throw Error(r(482));a=i,a.status="pending",a.then(function(c){if(i.status==="pending"){var v=i;v.status="fulfilled",v.value=c}},function(c){if(i.status==="pending"){var v=i;v.status="rejected",v.reason=c}})}switch(i.status){case"fulfilled":return i.value;case"rejected":throw a=i.reason,sx(a),a}throw hi=i,sl}}function di(a){try{var i=a._init;return i(a._payload)}catch(u){throw u!==null&&typeof u=="object"&&typeof u.then=="function"?(hi=u,sl):u}}var hi=null;function ux(){if(hi===null)throw Error(r(459));var a=hi;return hi=null,a}function sx(a){if(a===sl||a===Rs)throw Error(r(483))}var cl=null,ko=0;function zs(a){var i=ko;return ko+=1,cl===null&&(cl=[]),ox(cl,a,i)}function Ro(a,i){i=i.props.ref,a.ref=i!==void 0?i:null}function Ls(a,i){throw i.$$typeof===x?Error(r(525)):(a=Object.prototype.toString.call(i),Error(r(31,a==="[object Object]"?"object with keys {"+Object.keys(i).join(", ")+"}":a)))}function cx(a){function i(L,z){if(a){var B=L.deletions;B===null?(L.deletions=[z],L.flags|=16):B.push(z)}}function u(L,z){if(!a)return null;for(;z!==null;)i(L,z),z=z.sibling;return null}function c(L){for(var z=new Map;L!==null;)L.key!==null?z.set(L.key,L):z.set(L.index,L),L=L.sibling;return z}function v(L,z){return L=Mr(L,z),L.index=0,L.sibling=null,L}function g(L,z,B){return L.index=B,a?(B=L.alternate,B!==null?(B=B.index,B<z?(L.flags|=67108866,z):B):(L.flags|=67108866,z)):(L.flags|=1048576,z)}function S(L){return a&&L.alternate===null&&(L.flags|=67108866),L}function N(L,z,B,F){return z===null||z.tag!==6?(z=Sh(B,L.mode,F),z.return=L,z):(z=v(z,B),z.return=L,z)}function M(L,z,B,F){var me=B.type;return me===A?G(L,z,B.props.children,F,B.key):z!==null&&(z.elementType===me||typeof me=="object"&&me!==null&&me.$$typeof===I&&di(me)===z.type)?(z=v(z,B.props),Ro(z,B),z.return=L,z):(z=_s(B.type,B.key,B.props,null,L.mode,F),Ro(z,B),z.return=L,z)}function U(L,z,B,F){return z===null||z.tag!==4||z.stateNode.containerInfo!==B.containerInfo||z.stateNode.implementation!==B.implementation?(z=jh(B,L.mode,F),z.return=L,z):(z=v(z,B.children||[]),z.return=L,z)}function G(L,z,B,F,me){return z===null||z.tag!==7?(z=oi(B,L.mode,F,me),z.return=L,z):(z=v(z,B),z.return=L,z)}function Z(L,z,B){if(typeof z=="string"&&z!==""||typeof z=="number"||typeof z=="bigint")return z=Sh(""+z,L.mode,B),z.return=L,z;if(typeof z=="object"&&z!==null){switch(z.$$typeof){case w:return B=_s(z.type,z.key,z.props,null,L.mode,B),Ro(B,z),B.return=L,B;case E:return z=jh(z,L.mode,B),z.return=L,z;case I:return z=di(z),Z(L,z,B)}if(xe(z)||J(z))return z=oi(z,L.mode,B,null),z.return=L,z;if(typeof z.then=="function")return Z(L,zs(z),B);if(z.$$typeof===C)return Z(L,Ds(L,z),B);Ls(L,z)}return null}function H(L,z,B,F){var me=z!==null?z.key:null;if(typeof B=="string"&&B!==""||typeof B=="number"||typeof B=="bigint")return me!==null?null:N(L,z,""+B,F);if(typeof B=="object"&&B!==null){switch(B.$$typeof){case w:return B.key===me?M(L,z,B,F):null;case E:return B.key===me?U(L,z,B,F):null;case I:return B=di(B),H(L,z,B,F)}if(xe(B)||J(B))return me!==null?null:G(L,z,B,F,null);if(typeof B.then=="function")return H(L,z,zs(B),F);if(B.$$typeof===C)return H(L,z,Ds(L,B),F);Ls(L,B)}return null}function $(L,z,B,F,me){if(typeof F=="string"&&F!==""||typeof F=="number"||typeof F=="bigint")return L=L.get(B)||null,N(z,L,""+F,me);if(typeof F=="object"&&F!==null){switch(F.$$typeof){case w:return L=L.get(F.key===null?B:F.key)||null,M(z,L,F,me);case E:return L=L.get(F.key===null?B:F.key)||null,U(z,L,F,me);case I:return F=di(F),$(L,z,B,F,me)}if(xe(F)||J(F))return L=L.get(B)||null,G(z,L,F,me,null);if(typeof F.then=="function")return $(L,z,B,zs(F),me);if(F.$$typeof===C)return $(L,z,B,Ds(z,F),me);Ls(z,F)}return null}function oe(L,z,B,F){for(var me=null,Re=null,fe=z,Oe=z=0,Me=null;fe!==null&&Oe<B.length;Oe++){fe.index>Oe?(Me=fe,fe=null):Me=fe.sibling;var Pe=H(L,fe,B[Oe],F);if(Pe===null){fe===null&&(fe=Me);break}a&&fe&&Pe.alternate===null&&i(L,fe),z=g(Pe,z,Oe),Re===null?me=Pe:Re.sibling=Pe,Re=Pe,fe=Me}if(Oe===B.length)return u(L,fe),De&&Dr(L,Oe),me;if(fe===null){for(;Oe<B.length;Oe++)fe=Z(L,B[Oe],F),fe!==null&&(z=g(fe,z,Oe),Re===null?me=fe:Re.sibling=fe,Re=fe);return De&&Dr(L,Oe),me}for(fe=c(fe);Oe<B.length;Oe++)Me=$(fe,L,Oe,B[Oe],F),Me!==null&&(a&&Me.alternate!==null&&fe.delete(Me.key===null?Oe:Me.key),z=g(Me,z,Oe),Re===null?me=Me:Re.sibling=Me,Re=Me);return a&&fe.forEach(function(Ha){return i(L,Ha)}),De&&Dr(L,Oe),me}function ye(L,z,B,F){if(B==null)throw Error(r(151));for(var me=null,Re=null,fe=z,Oe=z=0,Me=null,Pe=B.next();fe!==null&&!Pe.done;Oe++,Pe=B.next()){fe.index>Oe?(Me=fe,fe=null):Me=fe.sibling;var Ha=H(L,fe,Pe.value,F);if(Ha===null){fe===null&&(fe=Me);break}a&&fe&&Ha.alternate===null&&i(L,fe),z=g(Ha,z,Oe),Re===null?me=Ha:Re.sibling=Ha,Re=Ha,fe=Me}if(Pe.done)return u(L,fe),De&&Dr(L,Oe),me;if(fe===null){for(;!Pe.done;Oe++,Pe=B.next())Pe=Z(L,Pe.value,F),Pe!==null&&(z=g(Pe,z,Oe),Re===null?me=Pe:Re.sibling=Pe,Re=Pe);return De&&Dr(L,Oe),me}for(fe=c(fe);!Pe.done;Oe++,Pe=B.next())Pe=$(fe,L,Oe,Pe.value,F),Pe!==null&&(a&&Pe.alternate!==null&&fe.delete(Pe.key===null?Oe:Pe.key),z=g(Pe,z,Oe),Re===null?me=Pe:Re.sibling=Pe,Re=Pe);return a&&fe.forEach(function(OR){return i(L,OR)}),De&&Dr(L,Oe),me}function Ye(L,z,B,F){if(typeof B=="object"&&B!==null&&B.type===A&&B.key===null&&(B=B.props.children),typeof B=="object"&&B!==null){switch(B.$$typeof){case w:e:{for(var me=B.key;z!==null;){if(z.key===me){if(me=B.type,me===A){if(z.tag===7){u(L,z.sibling),F=v(z,B.props.children),F.return=L,L=F;break e}}else if(z.elementType===me||typeof me=="object"&&me!==null&&me.$$typeof===I&&di(me)===z.type){u(L,z.sibling),F=v(z,B.props),Ro(F,B),F.return=L,L=F;break e}u(L,z);break}else i(L,z);z=z.sibling}B.type===A?(F=oi(B.props.children,L.mode,F,B.key),F.return=L,L=F):(F=_s(B.type,B.key,B.props,null,L.mode,F),Ro(F,B),F.return=L,L=F)}return S(L);case E:e:{for(me=B.key;z!==null;){if(z.key===me)if(z.tag===4&&z.stateNode.containerInfo===B.containerInfo&&z.stateNode.implementation===B.implementation){u(L,z.sibling),F=v(z,B.children||[]),F.return=L,L=F;break e}else{u(L,z);break}else i(L,z);z=z.sibling}F=jh(B,L.mode,F),F.return=L,L=F}return S(L);case I:return B=di(B),Ye(L,z,B,F)}if(xe(B))return oe(L,z,B,F);if(J(B)){if(me=J(B),typeof me!="function")throw Error(r(150));return B=me.call(B),ye(L,z,B,F)}if(typeof B.then=="function")return Ye(L,z,zs(B),F);if(B.$$typeof===C)return Ye(L,z,Ds(L,B),F);Ls(L,B)}return typeof B=="string"&&B!==""||typeof B=="number"||typeof B=="bigint"?(B=""+B,z!==null&&z.tag===6?(u(L,z.sibling),F=v(z,B),F.return=L,L=F):(u(L,z),F=Sh(B,L.mode,F),F.return=L,L=F),S(L)):u(L,z)}return function(L,z,B,F){try{ko=0;var me=Ye(L,z,B,F);return cl=null,me}catch(fe){if(fe===sl||fe===Rs)throw fe;var Re=En(29,fe,null,L.mode);return Re.lanes=F,Re.return=L,Re}finally{}}}var mi=cx(!0),fx=cx(!1),Aa=!1;function Ph(a){a.updateQueue={baseState:a.memoizedState,firstBaseUpdate:null,lastBaseUpdate:null,shared:{pending:null,lanes:0,hiddenCallbacks:null},callbacks:null}}function zh(a,i){a=a.updateQueue,i.updateQueue===a&&(i.updateQueue={baseState:a.baseState,firstBaseUpdate:a.firstBaseUpdate,lastBaseUpdate:a.lastBaseUpdate,shared:a.shared,callbacks:null})}function Oa(a){return{lane:a,tag:0,payload:null,callback:null,next:null}}function Na(a,i,u){var c=a.updateQueue;if(c===null)return null;if(c=c.shared,(Le&2)!==0){var v=c.pending;return v===null?i.next=i:(i.next=v.next,v.next=i),c.pending=i,i=Cs(a),Xb(a,null,u),i}return Ns(a,c,i,u),Cs(a)}function Po(a,i,u){if(i=i.updateQueue,i!==null&&(i=i.shared,(u&4194048)!==0)){var c=i.lanes;c&=a.pendingLanes,u|=c,i.lanes=u,nb(a,u)}}function Lh(a,i){var u=a.updateQueue,c=a.alternate;if(c!==null&&(c=c.updateQueue,u===c)){var v=null,g=null;if(u=u.firstBaseUpdate,u!==null){do{var S={lane:u.lane,tag:u.tag,payload:u.payload,callback:null,next:null};g===null?v=g=S:g=g.next=S,u=u.next}while(u!==null);g===null?v=g=i:g=g.next=i}else v=g=i;u={baseState:c.baseState,firstBaseUpdate:v,lastBaseUpdate:g,shared:c.shared,callbacks:c.callbacks},a.updateQueue=u;return}a=u.lastBaseUpdate,a===null?u.firstBaseUpdate=i:a.next=i,u.lastBaseUpdate=i}var Bh=!1;function zo(){if(Bh){var a=ul;if(a!==null)throw a}}function Lo(a,i,u,c){Bh=!1;var v=a.updateQueue;Aa=!1;var g=v.firstBaseUpdate,S=v.lastBaseUpdate,N=v.shared.pending;if(N!==null){v.shared.pending=null;var M=N,U=M.next;M.next=null,S===null?g=U:S.next=U,S=M;var G=a.alternate;G!==null&&(G=G.updateQueue,N=G.lastBaseUpdate,N!==S&&(N===null?G.firstBaseUpdate=U:N.next=U,G.lastBaseUpdate=M))}if(g!==null){var Z=v.baseState;S=0,G=U=M=null,N=g;do{var H=N.lane&-536870913,$=H!==N.lane;if($?(Te&H)===H:(c&H)===H){H!==0&&H===ol&&(Bh=!0),G!==null&&(G=G.next={lane:0,tag:N.tag,payload:N.payload,callback:null,next:null});e:{var oe=a,ye=N;H=i;var Ye=u;switch(ye.tag){case 1:if(oe=ye.payload,typeof oe=="function"){Z=oe.call(Ye,Z,H);break e}Z=oe;break e;case 3:oe.flags=oe.flags&-65537|128;case 0:if(oe=ye.payload,H=typeof oe=="function"?oe.call(Ye,Z,H):oe,H==null)break e;Z=p({},Z,H);break e;case 2:Aa=!0}}H=N.callback,H!==null&&(a.flags|=64,$&&(a.flags|=8192),$=v.callbacks,$===null?v.callbacks=[H]:$.push(H))}else $={lane:H,tag:N.tag,payload:N.payload,callback:N.callback,next:null},G===null?(U=G=$,M=Z):G=G.next=$,S|=H;if(N=N.next,N===null){if(N=v.shared.pending,N===null)break;$=N,N=$.next,$.next=null,v.lastBaseUpdate=$,v.shared.pending=null}}while(!0);G===null&&(M=Z),v.baseState=M,v.firstBaseUpdate=U,v.lastBaseUpdate=G,g===null&&(v.shared.lanes=0),Da|=S,a.lanes=S,a.memoizedState=Z}}function dx(a,i){if(typeof a!="function")throw Error(r(191,a));a.call(i)}function hx(a,i){var u=a.callbacks;if(u!==null)for(a.callbacks=null,a=0;a<u.length;a++)dx(u[a],i)}var fl=R(null),Bs=R(0);function mx(a,i){a=$r,ee(Bs,a),ee(fl,i),$r=a|i.baseLanes}function Uh(){ee(Bs,$r),ee(fl,fl.current)}function Ih(){$r=Bs.current,Y(fl),Y(Bs)}var An=R(null),Yn=null;function Ca(a){var i=a.alternate;ee(ft,ft.current&1),ee(An,a),Yn===null&&(i===null||fl.current!==null||i.memoizedState!==null)&&(Yn=a)}function qh(a){ee(ft,ft.current),ee(An,a),Yn===null&&(Yn=a)}function vx(a){a.tag===22?(ee(ft,ft.current),ee(An,a),Yn===null&&(Yn=a)):_a()}function _a(){ee(ft,ft.current),ee(An,An.current)}function On(a){Y(An),Yn===a&&(Yn=null),Y(ft)}var ft=R(0);function Us(a){for(var i=a;i!==null;){if(i.tag===13){var u=i.memoizedState;if(u!==null&&(u=u.dehydrated,u===null||Vm(u)||Xm(u)))return i}else if(i.tag===19&&(i.memoizedProps.revealOrder==="forwards"||i.memoizedProps.revealOrder==="backwards"||i.memoizedProps.revealOrder==="unstable_legacy-backwards"||i.memoizedProps.revealOrder==="together")){if((i.flags&128)!==0)return i}else if(i.child!==null){i.child.return=i,i=i.child;continue}if(i===a)break;for(;i.sibling===null;){if(i.return===null||i.return===a)return null;i=i.return}i.sibling.return=i.return,i=i.sibling}return null}var Pr=0,je=null,$e=null,vt=null,Is=!1,dl=!1,vi=!1,qs=0,Bo=0,hl=null,pk=0;function ot(){throw Error(r(321))}function Hh(a,i){if(i===null)return!1;for(var u=0;u<i.length&&u<a.length;u++)if(!jn(a[u],i[u]))return!1;return!0}function $h(a,i,u,c,v,g){return Pr=g,je=i,i.memoizedState=null,i.updateQueue=null,i.lanes=0,q.H=a===null||a.memoizedState===null?Qx:am,vi=!1,g=u(c,v),vi=!1,dl&&(g=yx(i,u,c,v)),px(a),g}function px(a){q.H=qo;var i=$e!==null&&$e.next!==null;if(Pr=0,vt=$e=je=null,Is=!1,Bo=0,hl=null,i)throw Error(r(300));a===null||pt||(a=a.dependencies,a!==null&&Ms(a)&&(pt=!0))}function yx(a,i,u,c){je=a;var v=0;do{if(dl&&(hl=null),Bo=0,dl=!1,25<=v)throw Error(r(301));if(v+=1,vt=$e=null,a.updateQueue!=null){var g=a.updateQueue;g.lastEffect=null,g.events=null,g.stores=null,g.memoCache!=null&&(g.memoCache.index=0)}q.H=Jx,g=i(u,c)}while(dl);return g}function yk(){var a=q.H,i=a.useState()[0];return i=typeof i.then=="function"?Uo(i):i,a=a.useState()[0],($e!==null?$e.memoizedState:null)!==a&&(je.flags|=1024),i}function Kh(){var a=qs!==0;return qs=0,a}function Yh(a,i,u){i.updateQueue=a.updateQueue,i.flags&=-2053,a.lanes&=~u}function Gh(a){if(Is){for(a=a.memoizedState;a!==null;){var i=a.queue;i!==null&&(i.pending=null),a=a.next}Is=!1}Pr=0,vt=$e=je=null,dl=!1,Bo=qs=0,hl=null}function rn(){var a={memoizedState:null,baseState:null,baseQueue:null,queue:null,next:null};return vt===null?je.memoizedState=vt=a:vt=vt.next=a,vt}function dt(){if($e===null){var a=je.alternate;a=a!==null?a.memoizedState:null}else a=$e.next;var i=vt===null?je.memoizedState:vt.next;if(i!==null)vt=i,$e=a;else{if(a===null)throw je.alternate===null?Error(r(467)):Error(r(310));$e=a,a={memoizedState:$e.memoizedState,baseState:$e.baseState,baseQueue:$e.baseQueue,queue:$e.queue,next:null},vt===null?je.memoizedState=vt=a:vt=vt.next=a}return vt}function Hs(){return{lastEffect:null,events:null,stores:null,memoCache:null}}function Uo(a){var i=Bo;return Bo+=1,hl===null&&(hl=[]),a=ox(hl,a,i),i=je,(vt===null?i.memoizedState:vt.next)===null&&(i=i.alternate,q.H=i===null||i.memoizedState===null?Qx:am),a}function $s(a){if(a!==null&&typeof a=="object"){if(typeof a.then=="function")return Uo(a);if(a.$$typeof===C)return Yt(a)}throw Error(r(438,String(a)))}function Vh(a){var i=null,u=je.updateQueue;if(u!==null&&(i=u.memoCache),i==null){var c=je.alternate;c!==null&&(c=c.updateQueue,c!==null&&(c=c.memoCache,c!=null&&(i={data:c.data.map(function(v){return v.slice()}),index:0})))}if(i==null&&(i={data:[],index:0}),u===null&&(u=Hs(),je.updateQueue=u),u.memoCache=i,u=i.data[i.index],u===void 0)for(u=i.data[i.index]=Array(a),c=0;c<a;c++)u[c]=ae;return i.index++,u}function zr(a,i){return typeof i=="function"?i(a):i}function Ks(a){var i=dt();return Xh(i,$e,a)}function Xh(a,i,u){var c=a.queue;if(c===null)throw Error(r(311));c.lastRenderedReducer=u;var v=a.baseQueue,g=c.pending;if(g!==null){if(v!==null){var S=v.next;v.next=g.next,g.next=S}i.baseQueue=v=g,c.pending=null}if(g=a.baseState,v===null)a.memoizedState=g;else{i=v.next;var N=S=null,M=null,U=i,G=!1;do{var Z=U.lane&-536870913;if(Z!==U.lane?(Te&Z)===Z:(Pr&Z)===Z){var H=U.revertLane;if(H===0)M!==null&&(M=M.next={lane:0,revertLane:0,gesture:null,action:U.action,hasEagerState:U.hasEagerState,eagerState:U.eagerState,next:null}),Z===ol&&(G=!0);else if((Pr&H)===H){U=U.next,H===ol&&(G=!0);continue}else Z={lane:0,revertLane:U.revertLane,gesture:null,action:U.action,hasEagerState:U.hasEagerState,eagerState:U.eagerState,next:null},M===null?(N=M=Z,S=g):M=M.next=Z,je.lanes|=H,Da|=H;Z=U.action,vi&&u(g,Z),g=U.hasEagerState?U.eagerState:u(g,Z)}else H={lane:Z,revertLane:U.revertLane,gesture:U.gesture,action:U.action,hasEagerState:U.hasEagerState,eagerState:U.eagerState,next:null},M===null?(N=M=H,S=g):M=M.next=H,je.lanes|=Z,Da|=Z;U=U.next}while(U!==null&&U!==i);if(M===null?S=g:M.next=N,!jn(g,a.memoizedState)&&(pt=!0,G&&(u=ul,u!==null)))throw u;a.memoizedState=g,a.baseState=S,a.baseQueue=M,c.lastRenderedState=g}return v===null&&(c.lanes=0),[a.memoizedState,c.dispatch]}function Fh(a){var i=dt(),u=i.queue;if(u===null)throw Error(r(311));u.lastRenderedReducer=a;var c=u.dispatch,v=u.pending,g=i.memoizedState;if(v!==null){u.pending=null;var S=v=v.next;do g=a(g,S.action),S=S.next;while(S!==v);jn(g,i.memoizedState)||(pt=!0),i.memoizedState=g,i.baseQueue===null&&(i.baseState=g),u.lastRenderedState=g}return[g,c]}function gx(a,i,u){var c=je,v=dt(),g=De;if(g){if(u===void 0)throw Error(r(407));u=u()}else u=i();var S=!jn(($e||v).memoizedState,u);if(S&&(v.memoizedState=u,pt=!0),v=v.queue,Qh(wx.bind(null,c,v,a),[a]),v.getSnapshot!==i||S||vt!==null&&vt.memoizedState.tag&1){if(c.flags|=2048,ml(9,{destroy:void 0},xx.bind(null,c,v,u,i),null),Ge===null)throw Error(r(349));g||(Pr&127)!==0||bx(c,i,u)}return u}function bx(a,i,u){a.flags|=16384,a={getSnapshot:i,value:u},i=je.updateQueue,i===null?(i=Hs(),je.updateQueue=i,i.stores=[a]):(u=i.stores,u===null?i.stores=[a]:u.push(a))}function xx(a,i,u,c){i.value=u,i.getSnapshot=c,Sx(i)&&jx(a)}function wx(a,i,u){return u(function(){Sx(i)&&jx(a)})}function Sx(a){var i=a.getSnapshot;a=a.value;try{var u=i();return!jn(a,u)}catch{return!0}}function jx(a){var i=li(a,2);i!==null&&vn(i,a,2)}function Wh(a){var i=rn();if(typeof a=="function"){var u=a;if(a=u(),vi){ga(!0);try{u()}finally{ga(!1)}}}return i.memoizedState=i.baseState=a,i.queue={pending:null,lanes:0,dispatch:null,lastRenderedReducer:zr,lastRenderedState:a},i}function Ex(a,i,u,c){return a.baseState=u,Xh(a,$e,typeof c=="function"?c:zr)}function gk(a,i,u,c,v){if(Vs(a))throw Error(r(485));if(a=i.action,a!==null){var g={payload:v,action:a,next:null,isTransition:!0,status:"pending",value:null,reason:null,listeners:[],then:function(S){g.listeners.push(S)}};q.T!==null?u(!0):g.isTransition=!1,c(g),u=i.pending,u===null?(g.next=i.pending=g,Ax(i,g)):(g.next=u.next,i.pending=u.next=g)}}function Ax(a,i){var u=i.action,c=i.payload,v=a.state;if(i.isTransition){var g=q.T,S={};q.T=S;try{var N=u(v,c),M=q.S;M!==null&&M(S,N),Ox(a,i,N)}catch(U){Zh(a,i,U)}finally{g!==null&&S.types!==null&&(g.types=S.types),q.T=g}}else try{g=u(v,c),Ox(a,i,g)}catch(U){Zh(a,i,U)}}function Ox(a,i,u){u!==null&&typeof u=="object"&&typeof u.then=="function"?u.then(function(c){Nx(a,i,c)},function(c){return Zh(a,i,c)}):Nx(a,i,u)}function Nx(a,i,u){i.status="fulfilled",i.value=u,Cx(i),a.state=u,i=a.pending,i!==null&&(u=i.next,u===i?a.pending=null:(u=u.next,i.next=u,Ax(a,u)))}function Zh(a,i,u){var c=a.pending;if(a.pending=null,c!==null){c=c.next;do i.status="rejected",i.reason=u,Cx(i),i=i.next;while(i!==c)}a.action=null}function Cx(a){a=a.listeners;for(var i=0;i<a.length;i++)(0,a[i])()}function _x(a,i){return i}function Tx(a,i){if(De){var u=Ge.formState;if(u!==null){e:{var c=je;if(De){if(Qe){t:{for(var v=Qe,g=Kn;v.nodeType!==8;){if(!g){v=null;break t}if(v=Gn(v.nextSibling),v===null){v=null;break t}}g=v.data,v=g==="F!"||g==="F"?v:null}if(v){Qe=Gn(v.nextSibling),c=v.data==="F!";break e}}ja(c)}c=!1}c&&(i=u[0])}}return u=rn(),u.memoizedState=u.baseState=i,c={pending:null,lanes:0,dispatch:null,lastRenderedReducer:_x,lastRenderedState:i},u.queue=c,u=Fx.bind(null,je,c),c.dispatch=u,c=Wh(!1),g=rm.bind(null,je,!1,c.queue),c=rn(),v={state:i,dispatch:null,action:a,pending:null},c.queue=v,u=gk.bind(null,je,v,g,u),v.dispatch=u,c.memoizedState=a,[i,u,!1]}function Mx(a){var i=dt();return Dx(i,$e,a)}function Dx(a,i,u){if(i=Xh(a,i,_x)[0],a=Ks(zr)[0],typeof i=="object"&&i!==null&&typeof i.then=="function")try{var c=Uo(i)}catch(S){throw S===sl?Rs:S}else c=i;i=dt();var v=i.queue,g=v.dispatch;return u!==i.memoizedState&&(je.flags|=2048,ml(9,{destroy:void 0},bk.bind(null,v,u),null)),[c,g,a]}function bk(a,i){a.action=i}function kx(a){var i=dt(),u=$e;if(u!==null)return Dx(i,u,a);dt(),i=i.memoizedState,u=dt();var c=u.queue.dispatch;return u.memoizedState=a,[i,c,!1]}function ml(a,i,u,c){return a={tag:a,create:u,deps:c,inst:i,next:null},i=je.updateQueue,i===null&&(i=Hs(),je.updateQueue=i),u=i.lastEffect,u===null?i.lastEffect=a.next=a:(c=u.next,u.next=a,a.next=c,i.lastEffect=a),a}function Rx(){return dt().memoizedState}function Ys(a,i,u,c){var v=rn();je.flags|=a,v.memoizedState=ml(1|i,{destroy:void 0},u,c===void 0?null:c)}function Gs(a,i,u,c){var v=dt();c=c===void 0?null:c;var g=v.memoizedState.inst;$e!==null&&c!==null&&Hh(c,$e.memoizedState.deps)?v.memoizedState=ml(i,g,u,c):(je.flags|=a,v.memoizedState=ml(1|i,g,u,c))}function Px(a,i){Ys(8390656,8,a,i)}function Qh(a,i){Gs(2048,8,a,i)}function xk(a){je.flags|=4;var i=je.updateQueue;if(i===null)i=Hs(),je.updateQueue=i,i.events=[a];else{var u=i.events;u===null?i.events=[a]:u.push(a)}}function zx(a){var i=dt().memoizedState;return xk({ref:i,nextImpl:a}),function(){if((Le&2)!==0)throw Error(r(440));return i.impl.apply(void 0,arguments)}}function Lx(a,i){return Gs(4,2,a,i)}function Bx(a,i){return Gs(4,4,a,i)}function Ux(a,i){if(typeof i=="function"){a=a();var u=i(a);return function(){typeof u=="function"?u():i(null)}}if(i!=null)return a=a(),i.current=a,function(){i.current=null}}function Ix(a,i,u){u=u!=null?u.concat([a]):null,Gs(4,4,Ux.bind(null,i,a),u)}function Jh(){}function qx(a,i){var u=dt();i=i===void 0?null:i;var c=u.memoizedState;return i!==null&&Hh(i,c[1])?c[0]:(u.memoizedState=[a,i],a)}function Hx(a,i){var u=dt();i=i===void 0?null:i;var c=u.memoizedState;if(i!==null&&Hh(i,c[1]))return c[0];if(c=a(),vi){ga(!0);try{a()}finally{ga(!1)}}return u.memoizedState=[c,i],c}function em(a,i,u){return u===void 0||(Pr&1073741824)!==0&&(Te&261930)===0?a.memoizedState=i:(a.memoizedState=u,a=$1(),je.lanes|=a,Da|=a,u)}function $x(a,i,u,c){return jn(u,i)?u:fl.current!==null?(a=em(a,u,c),jn(a,i)||(pt=!0),a):(Pr&42)===0||(Pr&1073741824)!==0&&(Te&261930)===0?(pt=!0,a.memoizedState=u):(a=$1(),je.lanes|=a,Da|=a,i)}function Kx(a,i,u,c,v){var g=Q.p;Q.p=g!==0&&8>g?g:8;var S=q.T,N={};q.T=N,rm(a,!1,i,u);try{var M=v(),U=q.S;if(U!==null&&U(N,M),M!==null&&typeof M=="object"&&typeof M.then=="function"){var G=vk(M,c);Io(a,i,G,_n(a))}else Io(a,i,c,_n(a))}catch(Z){Io(a,i,{then:function(){},status:"rejected",reason:Z},_n())}finally{Q.p=g,S!==null&&N.types!==null&&(S.types=N.types),q.T=S}}function wk(){}function tm(a,i,u,c){if(a.tag!==5)throw Error(r(476));var v=Yx(a).queue;Kx(a,v,i,X,u===null?wk:function(){return Gx(a),u(c)})}function Yx(a){var i=a.memoizedState;if(i!==null)return i;i={memoizedState:X,baseState:X,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:zr,lastRenderedState:X},next:null};var u={};return i.next={memoizedState:u,baseState:u,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:zr,lastRenderedState:u},next:null},a.memoizedState=i,a=a.alternate,a!==null&&(a.memoizedState=i),i}function Gx(a){var i=Yx(a);i.next===null&&(i=a.alternate.memoizedState),Io(a,i.next.queue,{},_n())}function nm(){return Yt(ru)}function Vx(){return dt().memoizedState}function Xx(){return dt().memoizedState}function Sk(a){for(var i=a.return;i!==null;){switch(i.tag){case 24:case 3:var u=_n();a=Oa(u);var c=Na(i,a,u);c!==null&&(vn(c,i,u),Po(c,i,u)),i={cache:Mh()},a.payload=i;return}i=i.return}}function jk(a,i,u){var c=_n();u={lane:c,revertLane:0,gesture:null,action:u,hasEagerState:!1,eagerState:null,next:null},Vs(a)?Wx(i,u):(u=xh(a,i,u,c),u!==null&&(vn(u,a,c),Zx(u,i,c)))}function Fx(a,i,u){var c=_n();Io(a,i,u,c)}function Io(a,i,u,c){var v={lane:c,revertLane:0,gesture:null,action:u,hasEagerState:!1,eagerState:null,next:null};if(Vs(a))Wx(i,v);else{var g=a.alternate;if(a.lanes===0&&(g===null||g.lanes===0)&&(g=i.lastRenderedReducer,g!==null))try{var S=i.lastRenderedState,N=g(S,u);if(v.hasEagerState=!0,v.eagerState=N,jn(N,S))return Ns(a,i,v,0),Ge===null&&Os(),!1}catch{}finally{}if(u=xh(a,i,v,c),u!==null)return vn(u,a,c),Zx(u,i,c),!0}return!1}function rm(a,i,u,c){if(c={lane:2,revertLane:Pm(),gesture:null,action:c,hasEagerState:!1,eagerState:null,next:null},Vs(a)){if(i)throw Error(r(479))}else i=xh(a,u,c,2),i!==null&&vn(i,a,2)}function Vs(a){var i=a.alternate;return a===je||i!==null&&i===je}function Wx(a,i){dl=Is=!0;var u=a.pending;u===null?i.next=i:(i.next=u.next,u.next=i),a.pending=i}function Zx(a,i,u){if((u&4194048)!==0){var c=i.lanes;c&=a.pendingLanes,u|=c,i.lanes=u,nb(a,u)}}var qo={readContext:Yt,use:$s,useCallback:ot,useContext:ot,useEffect:ot,useImperativeHandle:ot,useLayoutEffect:ot,useInsertionEffect:ot,useMemo:ot,useReducer:ot,useRef:ot,useState:ot,useDebugValue:ot,useDeferredValue:ot,useTransition:ot,useSyncExternalStore:ot,useId:ot,useHostTransitionStatus:ot,useFormState:ot,useActionState:ot,useOptimistic:ot,useMemoCache:ot,useCacheRefresh:ot};qo.useEffectEvent=ot;var Qx={readContext:Yt,use:$s,useCallback:function(a,i){return rn().memoizedState=[a,i===void 0?null:i],a},useContext:Yt,useEffect:Px,useImperativeHandle:function(a,i,u){u=u!=null?u.concat([a]):null,Ys(4194308,4,Ux.bind(null,i,a),u)},useLayoutEffect:function(a,i){return Ys(4194308,4,a,i)},useInsertionEffect:function(a,i){Ys(4,2,a,i)},useMemo:function(a,i){var u=rn();i=i===void 0?null:i;var c=a();if(vi){ga(!0);try{a()}finally{ga(!1)}}return u.memoizedState=[c,i],c},useReducer:function(a,i,u){var c=rn();if(u!==void 0){var v=u(i);if(vi){ga(!0);try{u(i)}finally{ga(!1)}}}else v=i;return c.memoizedState=c.baseState=v,a={pending:null,lanes:0,dispatch:null,lastRenderedReducer:a,lastRenderedState:v},c.queue=a,a=a.dispatch=jk.bind(null,je,a),[c.memoizedState,a]},useRef:function(a){var i=rn();return a={current:a},i.memoizedState=a},useState:function(a){a=Wh(a);var i=a.queue,u=Fx.bind(null,je,i);return i.dispatch=u,[a.memoizedState,u]},useDebugValue:Jh,useDeferredValue:function(a,i){var u=rn();return em(u,a,i)},useTransition:function(){var a=Wh(!1);return a=Kx.bind(null,je,a.queue,!0,!1),rn().memoizedState=a,[!1,a]},useSyncExternalStore:function(a,i,u){var c=je,v=rn();if(De){if(u===void 0)throw Error(r(407));u=u()}else{if(u=i(),Ge===null)throw Error(r(349));(Te&127)!==0||bx(c,i,u)}v.memoizedState=u;var g={value:u,getSnapshot:i};return v.queue=g,Px(wx.bind(null,c,g,a),[a]),c.flags|=2048,ml(9,{destroy:void 0},xx.bind(null,c,g,u,i),null),u},useId:function(){var a=rn(),i=Ge.identifierPrefix;if(De){var u=vr,c=mr;u=(c&~(1<<32-Sn(c)-1)).toString(32)+u,i="_"+i+"R_"+u,u=qs++,0<u&&(i+="H"+u.toString(32)),i+="_"}else u=pk++,i="_"+i+"r_"+u.toString(32)+"_";return a.memoizedState=i},useHostTransitionStatus:nm,useFormState:Tx,useActionState:Tx,useOptimistic:function(a){var i=rn();i.memoizedState=i.baseState=a;var u={pending:null,lanes:0,dispatch:null,lastRenderedReducer:null,lastRenderedState:null};return i.queue=u,i=rm.bind(null,je,!0,u),u.dispatch=i,[a,i]},useMemoCache:Vh,useCacheRefresh:function(){return rn().memoizedState=Sk.bind(null,je)},useEffectEvent:function(a){var i=rn(),u={impl:a};return i.memoizedState=u,function(){if((Le&2)!==0)throw Error(r(440));return u.impl.apply(void 0,arguments)}}},am={readContext:Yt,use:$s,useCallback:qx,useContext:Yt,useEffect:Qh,useImperativeHandle:Ix,useInsertionEffect:Lx,useLayoutEffect:Bx,useMemo:Hx,useReducer:Ks,useRef:Rx,useState:function(){return Ks(zr)},useDebugValue:Jh,useDeferredValue:function(a,i){var u=dt();return $x(u,$e.memoizedState,a,i)},useTransition:function(){var a=Ks(zr)[0],i=dt().memoizedState;return[typeof a=="boolean"?a:Uo(a),i]},useSyncExternalStore:gx,useId:Vx,useHostTransitionStatus:nm,useFormState:Mx,useActionState:Mx,useOptimistic:function(a,i){var u=dt();return Ex(u,$e,a,i)},useMemoCache:Vh,useCacheRefresh:Xx};am.useEffectEvent=zx;var Jx={readContext:Yt,use:$s,useCallback:qx,useContext:Yt,useEffect:Qh,useImperativeHandle:Ix,useInsertionEffect:Lx,useLayoutEffect:Bx,useMemo:Hx,useReducer:Fh,useRef:Rx,useState:function(){return Fh(zr)},useDebugValue:Jh,useDeferredValue:function(a,i){var u=dt();return $e===null?em(u,a,i):$x(u,$e.memoizedState,a,i)},useTransition:function(){var a=Fh(zr)[0],i=dt().memoizedState;return[typeof a=="boolean"?a:Uo(a),i]},useSyncExternalStore:gx,useId:Vx,useHostTransitionStatus:nm,useFormState:kx,useActionState:kx,useOptimistic:function(a,i){var u=dt();return $e!==null?Ex(u,$e,a,i):(u.baseState=a,[a,u.queue.dispatch])},useMemoCache:Vh,useCacheRefresh:Xx};Jx.useEffectEvent=zx;function im(a,i,u,c){i=a.memoizedState,u=u(c,i),u=u==null?i:p({},i,u),a.memoizedState=u,a.lanes===0&&(a.updateQueue.baseState=u)}var lm={enqueueSetState:function(a,i,u){a=a._reactInternals;var c=_n(),v=Oa(c);v.payload=i,u!=null&&(v.callback=u),i=Na(a,v,c),i!==null&&(vn(i,a,c),Po(i,a,c))},enqueueReplaceState:function(a,i,u){a=a._reactInternals;var c=_n(),v=Oa(c);v.tag=1,v.payload=i,u!=null&&(v.callback=u),i=Na(a,v,c),i!==null&&(vn(i,a,c),Po(i,a,c))},enqueueForceUpdate:function(a,i){a=a._reactInternals;var u=_n(),c=Oa(u);c.tag=2,i!=null&&(c.callback=i),i=Na(a,c,u),i!==null&&(vn(i,a,u),Po(i,a,u))}};function e1(a,i,u,c,v,g,S){return a=a.stateNode,typeof a.shouldComponentUpdate=="function"?a.shouldComponentUpdate(c,g,S):i.prototype&&i.prototype.isPureReactComponent?!No(u,c)||!No(v,g):!0}function t1(a,i,u,c){a=i.state,typeof i.componentWillReceiveProps=="function"&&i.componentWillReceiveProps(u,c),typeof i.UNSAFE_componentWillReceiveProps=="function"&&i.UNSAFE_componentWillReceiveProps(u,c),i.state!==a&&lm.enqueueReplaceState(i,i.state,null)}function pi(a,i){var u=i;if("ref"in i){u={};for(var c in i)c!=="ref"&&(u[c]=i[c])}if(a=a.defaultProps){u===i&&(u=p({},u));for(var v in a)u[v]===void 0&&(u[v]=a[v])}return u}function n1(a){As(a)}function r1(a){console.error(a)}function a1(a){As(a)}function Xs(a,i){try{var u=a.onUncaughtError;u(i.value,{componentStack:i.stack})}catch(c){setTimeout(function(){throw c})}}function i1(a,i,u){try{var c=a.onCaughtError;c(u.value,{componentStack:u.stack,errorBoundary:i.tag===1?i.stateNode:null})}catch(v){setTimeout(function(){throw v})}}function om(a,i,u){return u=Oa(u),u.tag=3,u.payload={element:null},u.callback=function(){Xs(a,i)},u}function l1(a){return a=Oa(a),a.tag=3,a}function o1(a,i,u,c){var v=u.type.getDerivedStateFromError;if(typeof v=="function"){var g=c.value;a.payload=function(){return v(g)},a.callback=function(){i1(i,u,c)}}var S=u.stateNode;S!==null&&typeof S.componentDidCatch=="function"&&(a.callback=function(){i1(i,u,c),typeof v!="function"&&(ka===null?ka=new Set([this]):ka.add(this));var N=c.stack;this.componentDidCatch(c.value,{componentStack:N!==null?N:""})})}function Ek(a,i,u,c,v){if(u.flags|=32768,c!==null&&typeof c=="object"&&typeof c.then=="function"){if(i=u.alternate,i!==null&&ll(i,u,v,!0),u=An.current,u!==null){switch(u.tag){case 31:case 13:return Yn===null?lc():u.alternate===null&&ut===0&&(ut=3),u.flags&=-257,u.flags|=65536,u.lanes=v,c===Ps?u.flags|=16384:(i=u.updateQueue,i===null?u.updateQueue=new Set([c]):i.add(c),Dm(a,c,v)),!1;case 22:return u.flags|=65536,c===Ps?u.flags|=16384:(i=u.updateQueue,i===null?(i={transitions:null,markerInstances:null,retryQueue:new Set([c])},u.updateQueue=i):(u=i.retryQueue,u===null?i.retryQueue=new Set([c]):u.add(c)),Dm(a,c,v)),!1}throw Error(r(435,u.tag))}return Dm(a,c,v),lc(),!1}if(De)return i=An.current,i!==null?((i.flags&65536)===0&&(i.flags|=256),i.flags|=65536,i.lanes=v,c!==Oh&&(a=Error(r(422),{cause:c}),To(qn(a,u)))):(c!==Oh&&(i=Error(r(423),{cause:c}),To(qn(i,u))),a=a.current.alternate,a.flags|=65536,v&=-v,a.lanes|=v,c=qn(c,u),v=om(a.stateNode,c,v),Lh(a,v),ut!==4&&(ut=2)),!1;var g=Error(r(520),{cause:c});if(g=qn(g,u),Fo===null?Fo=[g]:Fo.push(g),ut!==4&&(ut=2),i===null)return!0;c=qn(c,u),u=i;do{switch(u.tag){case 3:return u.flags|=65536,a=v&-v,u.lanes|=a,a=om(u.stateNode,c,a),Lh(u,a),!1;case 1:if(i=u.type,g=u.stateNode,(u.flags&128)===0&&(typeof i.getDerivedStateFromError=="function"||g!==null&&typeof g.componentDidCatch=="function"&&(ka===null||!ka.has(g))))return u.flags|=65536,v&=-v,u.lanes|=v,v=l1(v),o1(v,a,u,c),Lh(u,v),!1}u=u.return}while(u!==null);return!1}var um=Error(r(461)),pt=!1;function Gt(a,i,u,c){i.child=a===null?fx(i,null,u,c):mi(i,a.child,u,c)}function u1(a,i,u,c,v){u=u.render;var g=i.ref;if("ref"in c){var S={};for(var N in c)N!=="ref"&&(S[N]=c[N])}else S=c;return ci(i),c=$h(a,i,u,S,g,v),N=Kh(),a!==null&&!pt?(Yh(a,i,v),Lr(a,i,v)):(De&&N&&Eh(i),i.flags|=1,Gt(a,i,c,v),i.child)}function s1(a,i,u,c,v){if(a===null){var g=u.type;return typeof g=="function"&&!wh(g)&&g.defaultProps===void 0&&u.compare===null?(i.tag=15,i.type=g,c1(a,i,g,c,v)):(a=_s(u.type,null,c,i,i.mode,v),a.ref=i.ref,a.return=i,i.child=a)}if(g=a.child,!pm(a,v)){var S=g.memoizedProps;if(u=u.compare,u=u!==null?u:No,u(S,c)&&a.ref===i.ref)return Lr(a,i,v)}return i.flags|=1,a=Mr(g,c),a.ref=i.ref,a.return=i,i.child=a}function c1(a,i,u,c,v){if(a!==null){var g=a.memoizedProps;if(No(g,c)&&a.ref===i.ref)if(pt=!1,i.pendingProps=c=g,pm(a,v))(a.flags&131072)!==0&&(pt=!0);else return i.lanes=a.lanes,Lr(a,i,v)}return sm(a,i,u,c,v)}function f1(a,i,u,c){var v=c.children,g=a!==null?a.memoizedState:null;if(a===null&&i.stateNode===null&&(i.stateNode={_visibility:1,_pendingMarkers:null,_retryCache:null,_transitions:null}),c.mode==="hidden"){if((i.flags&128)!==0){if(g=g!==null?g.baseLanes|u:u,a!==null){for(c=i.child=a.child,v=0;c!==null;)v=v|c.lanes|c.childLanes,c=c.sibling;c=v&~g}else c=0,i.child=null;return d1(a,i,g,u,c)}if((u&536870912)!==0)i.memoizedState={baseLanes:0,cachePool:null},a!==null&&ks(i,g!==null?g.cachePool:null),g!==null?mx(i,g):Uh(),vx(i);else return c=i.lanes=536870912,d1(a,i,g!==null?g.baseLanes|u:u,u,c)}else g!==null?(ks(i,g.cachePool),mx(i,g),_a(),i.memoizedState=null):(a!==null&&ks(i,null),Uh(),_a());return Gt(a,i,v,u),i.child}function Ho(a,i){return a!==null&&a.tag===22||i.stateNode!==null||(i.stateNode={_visibility:1,_pendingMarkers:null,_retryCache:null,_transitions:null}),i.sibling}function d1(a,i,u,c,v){var g=kh();return g=g===null?null:{parent:mt._currentValue,pool:g},i.memoizedState={baseLanes:u,cachePool:g},a!==null&&ks(i,null),Uh(),vx(i),a!==null&&ll(a,i,c,!0),i.childLanes=v,null}function Fs(a,i){return i=Zs({mode:i.mode,children:i.children},a.mode),i.ref=a.ref,a.child=i,i.return=a,i}function h1(a,i,u){return mi(i,a.child,null,u),a=Fs(i,i.pendingProps),a.flags|=2,On(i),i.memoizedState=null,a}function Ak(a,i,u){var c=i.pendingProps,v=(i.flags&128)!==0;if(i.flags&=-129,a===null){if(De){if(c.mode==="hidden")return a=Fs(i,c),i.lanes=536870912,Ho(null,a);if(qh(i),(a=Qe)?(a=Aw(a,Kn),a=a!==null&&a.data==="&"?a:null,a!==null&&(i.memoizedState={dehydrated:a,treeContext:wa!==null?{id:mr,overflow:vr}:null,retryLane:536870912,hydrationErrors:null},u=Wb(a),u.return=i,i.child=u,Kt=i,Qe=null)):a=null,a===null)throw ja(i);return i.lanes=536870912,null}return Fs(i,c)}var g=a.memoizedState;if(g!==null){var S=g.dehydrated;if(qh(i),v)if(i.flags&256)i.flags&=-257,i=h1(a,i,u);else if(i.memoizedState!==null)i.child=a.child,i.flags|=128,i=null;else throw Error(r(558));else if(pt||ll(a,i,u,!1),v=(u&a.childLanes)!==0,pt||v){if(c=Ge,c!==null&&(S=rb(c,u),S!==0&&S!==g.retryLane))throw g.retryLane=S,li(a,S),vn(c,a,S),um;lc(),i=h1(a,i,u)}else a=g.treeContext,Qe=Gn(S.nextSibling),Kt=i,De=!0,Sa=null,Kn=!1,a!==null&&Jb(i,a),i=Fs(i,c),i.flags|=4096;return i}return a=Mr(a.child,{mode:c.mode,children:c.children}),a.ref=i.ref,i.child=a,a.return=i,a}function Ws(a,i){var u=i.ref;if(u===null)a!==null&&a.ref!==null&&(i.flags|=4194816);else{if(typeof u!="function"&&typeof u!="object")throw Error(r(284));(a===null||a.ref!==u)&&(i.flags|=4194816)}}function sm(a,i,u,c,v){return ci(i),u=$h(a,i,u,c,void 0,v),c=Kh(),a!==null&&!pt?(Yh(a,i,v),Lr(a,i,v)):(De&&c&&Eh(i),i.flags|=1,Gt(a,i,u,v),i.child)}function m1(a,i,u,c,v,g){return ci(i),i.updateQueue=null,u=yx(i,c,u,v),px(a),c=Kh(),a!==null&&!pt?(Yh(a,i,g),Lr(a,i,g)):(De&&c&&Eh(i),i.flags|=1,Gt(a,i,u,g),i.child)}function v1(a,i,u,c,v){if(ci(i),i.stateNode===null){var g=nl,S=u.contextType;typeof S=="object"&&S!==null&&(g=Yt(S)),g=new u(c,g),i.memoizedState=g.state!==null&&g.state!==void 0?g.state:null,g.updater=lm,i.stateNode=g,g._reactInternals=i,g=i.stateNode,g.props=c,g.state=i.memoizedState,g.refs={},Ph(i),S=u.contextType,g.context=typeof S=="object"&&S!==null?Yt(S):nl,g.state=i.memoizedState,S=u.getDerivedStateFromProps,typeof S=="function"&&(im(i,u,S,c),g.state=i.memoizedState),typeof u.getDerivedStateFromProps=="function"||typeof g.getSnapshotBeforeUpdate=="function"||typeof g.UNSAFE_componentWillMount!="function"&&typeof g.componentWillMount!="function"||(S=g.state,typeof g.componentWillMount=="function"&&g.componentWillMount(),typeof g.UNSAFE_componentWillMount=="function"&&g.UNSAFE_componentWillMount(),S!==g.state&&lm.enqueueReplaceState(g,g.state,null),Lo(i,c,g,v),zo(),g.state=i.memoizedState),typeof g.componentDidMount=="function"&&(i.flags|=4194308),c=!0}else if(a===null){g=i.stateNode;var N=i.memoizedProps,M=pi(u,N);g.props=M;var U=g.context,G=u.contextType;S=nl,typeof G=="object"&&G!==null&&(S=Yt(G));var Z=u.getDerivedStateFromProps;G=typeof Z=="function"||typeof g.getSnapshotBeforeUpdate=="function",N=i.pendingProps!==N,G||typeof g.UNSAFE_componentWillReceiveProps!="function"&&typeof g.componentWillReceiveProps!="function"||(N||U!==S)&&t1(i,g,c,S),Aa=!1;var H=i.memoizedState;g.state=H,Lo(i,c,g,v),zo(),U=i.memoizedState,N||H!==U||Aa?(typeof Z=="function"&&(im(i,u,Z,c),U=i.memoizedState),(M=Aa||e1(i,u,M,c,H,U,S))?(G||typeof g.UNSAFE_componentWillMount!="function"&&typeof g.componentWillMount!="function"||(typeof g.componentWillMount=="function"&&g.componentWillMount(),typeof g.UNSAFE_componentWillMount=="function"&&g.UNSAFE_componentWillMount()),typeof g.componentDidMount=="function"&&(i.flags|=4194308)):(typeof g.componentDidMount=="function"&&(i.flags|=4194308),i.memoizedProps=c,i.memoizedState=U),g.props=c,g.state=U,g.context=S,c=M):(typeof g.componentDidMount=="function"&&(i.flags|=4194308),c=!1)}else{g=i.stateNode,zh(a,i),S=i.memoizedProps,G=pi(u,S),g.props=G,Z=i.pendingProps,H=g.context,U=u.contextType,M=nl,typeof U=="object"&&U!==null&&(M=Yt(U)),N=u.getDerivedStateFromProps,(U=typeof N=="function"||typeof g.getSnapshotBeforeUpdate=="function")||typeof g.UNSAFE_componentWillReceiveProps!="function"&&typeof g.componentWillReceiveProps!="function"||(S!==Z||H!==M)&&t1(i,g,c,M),Aa=!1,H=i.memoizedState,g.state=H,Lo(i,c,g,v),zo();var $=i.memoizedState;S!==Z||H!==$||Aa||a!==null&&a.dependencies!==null&&Ms(a.dependencies)?(typeof N=="function"&&(im(i,u,N,c),$=i.memoizedState),(G=Aa||e1(i,u,G,c,H,$,M)||a!==null&&a.dependencies!==null&&Ms(a.dependencies))?(U||typeof g.UNSAFE_componentWillUpdate!="function"&&typeof g.componentWillUpdate!="function"||(typeof g.componentWillUpdate=="function"&&g.componentWillUpdate(c,$,M),typeof g.UNSAFE_componentWillUpdate=="function"&&g.UNSAFE_componentWillUpdate(c,$,M)),typeof g.componentDidUpdate=="function"&&(i.flags|=4),typeof g.getSnapshotBeforeUpdate=="function"&&(i.flags|=1024)):(typeof g.componentDidUpdate!="function"||S===a.memoizedProps&&H===a.memoizedState||(i.flags|=4),typeof g.getSnapshotBeforeUpdate!="function"||S===a.memoizedProps&&H===a.memoizedState||(i.flags|=1024),i.memoizedProps=c,i.memoizedState=$),g.props=c,g.state=$,g.context=M,c=G):(typeof g.componentDidUpdate!="function"||S===a.memoizedProps&&H===a.memoizedState||(i.flags|=4),typeof g.getSnapshotBeforeUpdate!="function"||S===a.memoizedProps&&H===a.memoizedState||(i.flags|=1024),c=!1)}return g=c,Ws(a,i),c=(i.flags&128)!==0,g||c?(g=i.stateNode,u=c&&typeof u.getDerivedStateFromError!="function"?null:g.render(),i.flags|=1,a!==null&&c?(i.child=mi(i,a.child,null,v),i.child=mi(i,null,u,v)):Gt(a,i,u,v),i.memoizedState=g.state,a=i.child):a=Lr(a,i,v),a}function p1(a,i,u,c){return ui(),i.flags|=256,Gt(a,i,u,c),i.child}var cm={dehydrated:null,treeContext:null,retryLane:0,hydrationErrors:null};function fm(a){return{baseLanes:a,cachePool:ix()}}function dm(a,i,u){return a=a!==null?a.childLanes&~u:0,i&&(a|=Cn),a}function y1(a,i,u){var c=i.pendingProps,v=!1,g=(i.flags&128)!==0,S;if((S=g)||(S=a!==null&&a.memoizedState===null?!1:(ft.current&2)!==0),S&&(v=!0,i.flags&=-129),S=(i.flags&32)!==0,i.flags&=-33,a===null){if(De){if(v?Ca(i):_a(),(a=Qe)?(a=Aw(a,Kn),a=a!==null&&a.data!=="&"?a:null,a!==null&&(i.memoizedState={dehydrated:a,treeContext:wa!==null?{id:mr,overflow:vr}:null,retryLane:536870912,hydrationErrors:null},u=Wb(a),u.return=i,i.child=u,Kt=i,Qe=null)):a=null,a===null)throw ja(i);return Xm(a)?i.lanes=32:i.lanes=536870912,null}var N=c.children;return c=c.fallback,v?(_a(),v=i.mode,N=Zs({mode:"hidden",children:N},v),c=oi(c,v,u,null),N.return=i,c.return=i,N.sibling=c,i.child=N,c=i.child,c.memoizedState=fm(u),c.childLanes=dm(a,S,u),i.memoizedState=cm,Ho(null,c)):(Ca(i),hm(i,N))}var M=a.memoizedState;if(M!==null&&(N=M.dehydrated,N!==null)){if(g)i.flags&256?(Ca(i),i.flags&=-257,i=mm(a,i,u)):i.memoizedState!==null?(_a(),i.child=a.child,i.flags|=128,i=null):(_a(),N=c.fallback,v=i.mode,c=Zs({mode:"visible",children:c.children},v),N=oi(N,v,u,null),N.flags|=2,c.return=i,N.return=i,c.sibling=N,i.child=c,mi(i,a.child,null,u),c=i.child,c.memoizedState=fm(u),c.childLanes=dm(a,S,u),i.memoizedState=cm,i=Ho(null,c));else if(Ca(i),Xm(N)){if(S=N.nextSibling&&N.nextSibling.dataset,S)var U=S.dgst;S=U,c=Error(r(419)),c.stack="",c.digest=S,To({value:c,source:null,stack:null}),i=mm(a,i,u)}else if(pt||ll(a,i,u,!1),S=(u&a.childLanes)!==0,pt||S){if(S=Ge,S!==null&&(c=rb(S,u),c!==0&&c!==M.retryLane))throw M.retryLane=c,li(a,c),vn(S,a,c),um;Vm(N)||lc(),i=mm(a,i,u)}else Vm(N)?(i.flags|=192,i.child=a.child,i=null):(a=M.treeContext,Qe=Gn(N.nextSibling),Kt=i,De=!0,Sa=null,Kn=!1,a!==null&&Jb(i,a),i=hm(i,c.children),i.flags|=4096);return i}return v?(_a(),N=c.fallback,v=i.mode,M=a.child,U=M.sibling,c=Mr(M,{mode:"hidden",children:c.children}),c.subtreeFlags=M.subtreeFlags&65011712,U!==null?N=Mr(U,N):(N=oi(N,v,u,null),N.flags|=2),N.return=i,c.return=i,c.sibling=N,i.child=c,Ho(null,c),c=i.child,N=a.child.memoizedState,N===null?N=fm(u):(v=N.cachePool,v!==null?(M=mt._currentValue,v=v.parent!==M?{parent:M,pool:M}:v):v=ix(),N={baseLanes:N.baseLanes|u,cachePool:v}),c.memoizedState=N,c.childLanes=dm(a,S,u),i.memoizedState=cm,Ho(a.child,c)):(Ca(i),u=a.child,a=u.sibling,u=Mr(u,{mode:"visible",children:c.children}),u.return=i,u.sibling=null,a!==null&&(S=i.deletions,S===null?(i.deletions=[a],i.flags|=16):S.push(a)),i.child=u,i.memoizedState=null,u)}function hm(a,i){return i=Zs({mode:"visible",children:i},a.mode),i.return=a,a.child=i}function Zs(a,i){return a=En(22,a,null,i),a.lanes=0,a}function mm(a,i,u){return mi(i,a.child,null,u),a=hm(i,i.pendingProps.children),a.flags|=2,i.memoizedState=null,a}function g1(a,i,u){a.lanes|=i;var c=a.alternate;c!==null&&(c.lanes|=i),_h(a.return,i,u)}function vm(a,i,u,c,v,g){var S=a.memoizedState;S===null?a.memoizedState={isBackwards:i,rendering:null,renderingStartTime:0,last:c,tail:u,tailMode:v,treeForkCount:g}:(S.isBackwards=i,S.rendering=null,S.renderingStartTime=0,S.last=c,S.tail=u,S.tailMode=v,S.treeForkCount=g)}function b1(a,i,u){var c=i.pendingProps,v=c.revealOrder,g=c.tail;c=c.children;var S=ft.current,N=(S&2)!==0;if(N?(S=S&1|2,i.flags|=128):S&=1,ee(ft,S),Gt(a,i,c,u),c=De?_o:0,!N&&a!==null&&(a.flags&128)!==0)e:for(a=i.child;a!==null;){if(a.tag===13)a.memoizedState!==null&&g1(a,u,i);else if(a.tag===19)g1(a,u,i);else if(a.child!==null){a.child.return=a,a=a.child;continue}if(a===i)break e;for(;a.sibling===null;){if(a.return===null||a.return===i)break e;a=a.return}a.sibling.return=a.return,a=a.sibling}switch(v){case"forwards":for(u=i.child,v=null;u!==null;)a=u.alternate,a!==null&&Us(a)===null&&(v=u),u=u.sibling;u=v,u===null?(v=i.child,i.child=null):(v=u.sibling,u.sibling=null),vm(i,!1,v,u,g,c);break;case"backwards":case"unstable_legacy-backwards":for(u=null,v=i.child,i.child=null;v!==null;){if(a=v.alternate,a!==null&&Us(a)===null){i.child=v;break}a=v.sibling,v.sibling=u,u=v,v=a}vm(i,!0,u,null,g,c);break;case"together":vm(i,!1,null,null,void 0,c);break;default:i.memoizedState=null}return i.child}function Lr(a,i,u){if(a!==null&&(i.dependencies=a.dependencies),Da|=i.lanes,(u&i.childLanes)===0)if(a!==null){if(ll(a,i,u,!1),(u&i.childLanes)===0)return null}else return null;if(a!==null&&i.child!==a.child)throw Error(r(153));if(i.child!==null){for(a=i.child,u=Mr(a,a.pendingProps),i.child=u,u.return=i;a.sibling!==null;)a=a.sibling,u=u.sibling=Mr(a,a.pendingProps),u.return=i;u.sibling=null}return i.child}function pm(a,i){return(a.lanes&i)!==0?!0:(a=a.dependencies,!!(a!==null&&Ms(a)))}function Ok(a,i,u){switch(i.tag){case 3:lt(i,i.stateNode.containerInfo),Ea(i,mt,a.memoizedState.cache),ui();break;case 27:case 5:be(i);break;case 4:lt(i,i.stateNode.containerInfo);break;case 10:Ea(i,i.type,i.memoizedProps.value);break;case 31:if(i.memoizedState!==null)return i.flags|=128,qh(i),null;break;case 13:var c=i.memoizedState;if(c!==null)return c.dehydrated!==null?(Ca(i),i.flags|=128,null):(u&i.child.childLanes)!==0?y1(a,i,u):(Ca(i),a=Lr(a,i,u),a!==null?a.sibling:null);Ca(i);break;case 19:var v=(a.flags&128)!==0;if(c=(u&i.childLanes)!==0,c||(ll(a,i,u,!1),c=(u&i.childLanes)!==0),v){if(c)return b1(a,i,u);i.flags|=128}if(v=i.memoizedState,v!==null&&(v.rendering=null,v.tail=null,v.lastEffect=null),ee(ft,ft.current),c)break;return null;case 22:return i.lanes=0,f1(a,i,u,i.pendingProps);case 24:Ea(i,mt,a.memoizedState.cache)}return Lr(a,i,u)}function x1(a,i,u){if(a!==null)if(a.memoizedProps!==i.pendingProps)pt=!0;else{if(!pm(a,u)&&(i.flags&128)===0)return pt=!1,Ok(a,i,u);pt=(a.flags&131072)!==0}else pt=!1,De&&(i.flags&1048576)!==0&&Qb(i,_o,i.index);switch(i.lanes=0,i.tag){case 16:e:{var c=i.pendingProps;if(a=di(i.elementType),i.type=a,typeof a=="function")wh(a)?(c=pi(a,c),i.tag=1,i=v1(null,i,a,c,u)):(i.tag=0,i=sm(null,i,a,c,u));else{if(a!=null){var v=a.$$typeof;if(v===D){i.tag=11,i=u1(null,i,a,c,u);break e}else if(v===k){i.tag=14,i=s1(null,i,a,c,u);break e}}throw i=ge(a)||a,Error(r(306,i,""))}}return i;case 0:return sm(a,i,i.type,i.pendingProps,u);case 1:return c=i.type,v=pi(c,i.pendingProps),v1(a,i,c,v,u);case 3:e:{if(lt(i,i.stateNode.containerInfo),a===null)throw Error(r(387));c=i.pendingProps;var g=i.memoizedState;v=g.element,zh(a,i),Lo(i,c,null,u);var S=i.memoizedState;if(c=S.cache,Ea(i,mt,c),c!==g.cache&&Th(i,[mt],u,!0),zo(),c=S.element,g.isDehydrated)if(g={element:c,isDehydrated:!1,cache:S.cache},i.updateQueue.baseState=g,i.memoizedState=g,i.flags&256){i=p1(a,i,c,u);break e}else if(c!==v){v=qn(Error(r(424)),i),To(v),i=p1(a,i,c,u);break e}else{switch(a=i.stateNode.containerInfo,a.nodeType){case 9:a=a.body;break;default:a=a.nodeName==="HTML"?a.ownerDocument.body:a}for(Qe=Gn(a.firstChild),Kt=i,De=!0,Sa=null,Kn=!0,u=fx(i,null,c,u),i.child=u;u;)u.flags=u.flags&-3|4096,u=u.sibling}else{if(ui(),c===v){i=Lr(a,i,u);break e}Gt(a,i,c,u)}i=i.child}return i;case 26:return Ws(a,i),a===null?(u=Mw(i.type,null,i.pendingProps,null))?i.memoizedState=u:De||(u=i.type,a=i.pendingProps,c=hc(we.current).createElement(u),c[$t]=i,c[sn]=a,Vt(c,u,a),Mt(c),i.stateNode=c):i.memoizedState=Mw(i.type,a.memoizedProps,i.pendingProps,a.memoizedState),null;case 27:return be(i),a===null&&De&&(c=i.stateNode=Cw(i.type,i.pendingProps,we.current),Kt=i,Kn=!0,v=Qe,La(i.type)?(Fm=v,Qe=Gn(c.firstChild)):Qe=v),Gt(a,i,i.pendingProps.children,u),Ws(a,i),a===null&&(i.flags|=4194304),i.child;case 5:return a===null&&De&&((v=c=Qe)&&(c=nR(c,i.type,i.pendingProps,Kn),c!==null?(i.stateNode=c,Kt=i,Qe=Gn(c.firstChild),Kn=!1,v=!0):v=!1),v||ja(i)),be(i),v=i.type,g=i.pendingProps,S=a!==null?a.memoizedProps:null,c=g.children,Km(v,g)?c=null:S!==null&&Km(v,S)&&(i.flags|=32),i.memoizedState!==null&&(v=$h(a,i,yk,null,null,u),ru._currentValue=v),Ws(a,i),Gt(a,i,c,u),i.child;case 6:return a===null&&De&&((a=u=Qe)&&(u=rR(u,i.pendingProps,Kn),u!==null?(i.stateNode=u,Kt=i,Qe=null,a=!0):a=!1),a||ja(i)),null;case 13:return y1(a,i,u);case 4:return lt(i,i.stateNode.containerInfo),c=i.pendingProps,a===null?i.child=mi(i,null,c,u):Gt(a,i,c,u),i.child;case 11:return u1(a,i,i.type,i.pendingProps,u);case 7:return Gt(a,i,i.pendingProps,u),i.child;case 8:return Gt(a,i,i.pendingProps.children,u),i.child;case 12:return Gt(a,i,i.pendingProps.children,u),i.child;case 10:return c=i.pendingProps,Ea(i,i.type,c.value),Gt(a,i,c.children,u),i.child;case 9:return v=i.type._context,c=i.pendingProps.children,ci(i),v=Yt(v),c=c(v),i.flags|=1,Gt(a,i,c,u),i.child;case 14:return s1(a,i,i.type,i.pendingProps,u);case 15:return c1(a,i,i.type,i.pendingProps,u);case 19:return b1(a,i,u);case 31:return Ak(a,i,u);case 22:return f1(a,i,u,i.pendingProps);case 24:return ci(i),c=Yt(mt),a===null?(v=kh(),v===null&&(v=Ge,g=Mh(),v.pooledCache=g,g.refCount++,g!==null&&(v.pooledCacheLanes|=u),v=g),i.memoizedState={parent:c,cache:v},Ph(i),Ea(i,mt,v)):((a.lanes&u)!==0&&(zh(a,i),Lo(i,null,null,u),zo()),v=a.memoizedState,g=i.memoizedState,v.parent!==c?(v={parent:c,cache:c},i.memoizedState=v,i.lanes===0&&(i.memoizedState=i.updateQueue.baseState=v),Ea(i,mt,c)):(c=g.cache,Ea(i,mt,c),c!==v.cache&&Th(i,[mt],u,!0))),Gt(a,i,i.pendingProps.children,u),i.child;case 29:throw i.pendingProps}throw Error(r(156,i.tag))}function Br(a){a.flags|=4}function ym(a,i,u,c,v){if((i=(a.mode&32)!==0)&&(i=!1),i){if(a.flags|=16777216,(v&335544128)===v)if(a.stateNode.complete)a.flags|=8192;else if(V1())a.flags|=8192;else throw hi=Ps,Rh}else a.flags&=-16777217}function w1(a,i){if(i.type!=="stylesheet"||(i.state.loading&4)!==0)a.flags&=-16777217;else if(a.flags|=16777216,!zw(i))if(V1())a.flags|=8192;else throw hi=Ps,Rh}function Qs(a,i){i!==null&&(a.flags|=4),a.flags&16384&&(i=a.tag!==22?eb():536870912,a.lanes|=i,gl|=i)}function $o(a,i){if(!De)switch(a.tailMode){case"hidden":i=a.tail;for(var u=null;i!==null;)i.alternate!==null&&(u=i),i=i.sibling;u===null?a.tail=null:u.sibling=null;break;case"collapsed":u=a.tail;for(var c=null;u!==null;)u.alternate!==null&&(c=u),u=u.sibling;c===null?i||a.tail===null?a.tail=null:a.tail.sibling=null:c.sibling=null}}function Je(a){var i=a.alternate!==null&&a.alternate.child===a.child,u=0,c=0;if(i)for(var v=a.child;v!==null;)u|=v.lanes|v.childLanes,c|=v.subtreeFlags&65011712,c|=v.flags&65011712,v.return=a,v=v.sibling;else for(v=a.child;v!==null;)u|=v.lanes|v.childLanes,c|=v.subtreeFlags,c|=v.flags,v.return=a,v=v.sibling;return a.subtreeFlags|=c,a.childLanes=u,i}function Nk(a,i,u){var c=i.pendingProps;switch(Ah(i),i.tag){case 16:case 15:case 0:case 11:case 7:case 8:case 12:case 9:case 14:return Je(i),null;case 1:return Je(i),null;case 3:return u=i.stateNode,c=null,a!==null&&(c=a.memoizedState.cache),i.memoizedState.cache!==c&&(i.flags|=2048),Rr(mt),V(),u.pendingContext&&(u.context=u.pendingContext,u.pendingContext=null),(a===null||a.child===null)&&(il(i)?Br(i):a===null||a.memoizedState.isDehydrated&&(i.flags&256)===0||(i.flags|=1024,Nh())),Je(i),null;case 26:var v=i.type,g=i.memoizedState;return a===null?(Br(i),g!==null?(Je(i),w1(i,g)):(Je(i),ym(i,v,null,c,u))):g?g!==a.memoizedState?(Br(i),Je(i),w1(i,g)):(Je(i),i.flags&=-16777217):(a=a.memoizedProps,a!==c&&Br(i),Je(i),ym(i,v,a,c,u)),null;case 27:if(Ae(i),u=we.current,v=i.type,a!==null&&i.stateNode!=null)a.memoizedProps!==c&&Br(i);else{if(!c){if(i.stateNode===null)throw Error(r(166));return Je(i),null}a=ne.current,il(i)?ex(i):(a=Cw(v,c,u),i.stateNode=a,Br(i))}return Je(i),null;case 5:if(Ae(i),v=i.type,a!==null&&i.stateNode!=null)a.memoizedProps!==c&&Br(i);else{if(!c){if(i.stateNode===null)throw Error(r(166));return Je(i),null}if(g=ne.current,il(i))ex(i);else{var S=hc(we.current);switch(g){case 1:g=S.createElementNS("http://www.w3.org/2000/svg",v);break;case 2:g=S.createElementNS("http://www.w3.org/1998/Math/MathML",v);break;default:switch(v){case"svg":g=S.createElementNS("http://www.w3.org/2000/svg",v);break;case"math":g=S.createElementNS("http://www.w3.org/1998/Math/MathML",v);break;case"script":g=S.createElement("div"),g.innerHTML="<script><\/script>",g=g.removeChild(g.firstChild);break;case"select":g=typeof c.is=="string"?S.createElement("select",{is:c.is}):S.createElement("select"),c.multiple?g.multiple=!0:c.size&&(g.size=c.size);break;default:g=typeof c.is=="string"?S.createElement(v,{is:c.is}):S.createElement(v)}}g[$t]=i,g[sn]=c;e:for(S=i.child;S!==null;){if(S.tag===5||S.tag===6)g.appendChild(S.stateNode);else if(S.tag!==4&&S.tag!==27&&S.child!==null){S.child.return=S,S=S.child;continue}if(S===i)break e;for(;S.sibling===null;){if(S.return===null||S.return===i)break e;S=S.return}S.sibling.return=S.return,S=S.sibling}i.stateNode=g;e:switch(Vt(g,v,c),v){case"button":case"input":case"select":case"textarea":c=!!c.autoFocus;break e;case"img":c=!0;break e;default:c=!1}c&&Br(i)}}return Je(i),ym(i,i.type,a===null?null:a.memoizedProps,i.pendingProps,u),null;case 6:if(a&&i.stateNode!=null)a.memoizedProps!==c&&Br(i);else{if(typeof c!="string"&&i.stateNode===null)throw Error(r(166));if(a=we.current,il(i)){if(a=i.stateNode,u=i.memoizedProps,c=null,v=Kt,v!==null)switch(v.tag){case 27:case 5:c=v.memoizedProps}a[$t]=i,a=!!(a.nodeValue===u||c!==null&&c.suppressHydrationWarning===!0||yw(a.nodeValue,u)),a||ja(i,!0)}else a=hc(a).createTextNode(c),a[$t]=i,i.stateNode=a}return Je(i),null;case 31:if(u=i.memoizedState,a===null||a.memoizedState!==null){if(c=il(i),u!==null){if(a===null){if(!c)throw Error(r(318));if(a=i.memoizedState,a=a!==null?a.dehydrated:null,!a)throw Error(r(557));a[$t]=i}else ui(),(i.flags&128)===0&&(i.memoizedState=null),i.flags|=4;Je(i),a=!1}else u=Nh(),a!==null&&a.memoizedState!==null&&(a.memoizedState.hydrationErrors=u),a=!0;if(!a)return i.flags&256?(On(i),i):(On(i),null);if((i.flags&128)!==0)throw Error(r(558))}return Je(i),null;case 13:if(c=i.memoizedState,a===null||a.memoizedState!==null&&a.memoizedState.dehydrated!==null){if(v=il(i),c!==null&&c.dehydrated!==null){if(a===null){if(!v)throw Error(r(318));if(v=i.memoizedState,v=v!==null?v.dehydrated:null,!v)throw Error(r(317));v[$t]=i}else ui(),(i.flags&128)===0&&(i.memoizedState=null),i.flags|=4;Je(i),v=!1}else v=Nh(),a!==null&&a.memoizedState!==null&&(a.memoizedState.hydrationErrors=v),v=!0;if(!v)return i.flags&256?(On(i),i):(On(i),null)}return On(i),(i.flags&128)!==0?(i.lanes=u,i):(u=c!==null,a=a!==null&&a.memoizedState!==null,u&&(c=i.child,v=null,c.alternate!==null&&c.alternate.memoizedState!==null&&c.alternate.memoizedState.cachePool!==null&&(v=c.alternate.memoizedState.cachePool.pool),g=null,c.memoizedState!==null&&c.memoizedState.cachePool!==null&&(g=c.memoizedState.cachePool.pool),g!==v&&(c.flags|=2048)),u!==a&&u&&(i.child.flags|=8192),Qs(i,i.updateQueue),Je(i),null);case 4:return V(),a===null&&Um(i.stateNode.containerInfo),Je(i),null;case 10:return Rr(i.type),Je(i),null;case 19:if(Y(ft),c=i.memoizedState,c===null)return Je(i),null;if(v=(i.flags&128)!==0,g=c.rendering,g===null)if(v)$o(c,!1);else{if(ut!==0||a!==null&&(a.flags&128)!==0)for(a=i.child;a!==null;){if(g=Us(a),g!==null){for(i.flags|=128,$o(c,!1),a=g.updateQueue,i.updateQueue=a,Qs(i,a),i.subtreeFlags=0,a=u,u=i.child;u!==null;)Fb(u,a),u=u.sibling;return ee(ft,ft.current&1|2),De&&Dr(i,c.treeForkCount),i.child}a=a.sibling}c.tail!==null&&xn()>rc&&(i.flags|=128,v=!0,$o(c,!1),i.lanes=4194304)}else{if(!v)if(a=Us(g),a!==null){if(i.flags|=128,v=!0,a=a.updateQueue,i.updateQueue=a,Qs(i,a),$o(c,!0),c.tail===null&&c.tailMode==="hidden"&&!g.alternate&&!De)return Je(i),null}else 2*xn()-c.renderingStartTime>rc&&u!==536870912&&(i.flags|=128,v=!0,$o(c,!1),i.lanes=4194304);c.isBackwards?(g.sibling=i.child,i.child=g):(a=c.last,a!==null?a.sibling=g:i.child=g,c.last=g)}return c.tail!==null?(a=c.tail,c.rendering=a,c.tail=a.sibling,c.renderingStartTime=xn(),a.sibling=null,u=ft.current,ee(ft,v?u&1|2:u&1),De&&Dr(i,c.treeForkCount),a):(Je(i),null);case 22:case 23:return On(i),Ih(),c=i.memoizedState!==null,a!==null?a.memoizedState!==null!==c&&(i.flags|=8192):c&&(i.flags|=8192),c?(u&536870912)!==0&&(i.flags&128)===0&&(Je(i),i.subtreeFlags&6&&(i.flags|=8192)):Je(i),u=i.updateQueue,u!==null&&Qs(i,u.retryQueue),u=null,a!==null&&a.memoizedState!==null&&a.memoizedState.cachePool!==null&&(u=a.memoizedState.cachePool.pool),c=null,i.memoizedState!==null&&i.memoizedState.cachePool!==null&&(c=i.memoizedState.cachePool.pool),c!==u&&(i.flags|=2048),a!==null&&Y(fi),null;case 24:return u=null,a!==null&&(u=a.memoizedState.cache),i.memoizedState.cache!==u&&(i.flags|=2048),Rr(mt),Je(i),null;case 25:return null;case 30:return null}throw Error(r(156,i.tag))}function Ck(a,i){switch(Ah(i),i.tag){case 1:return a=i.flags,a&65536?(i.flags=a&-65537|128,i):null;case 3:return Rr(mt),V(),a=i.flags,(a&65536)!==0&&(a&128)===0?(i.flags=a&-65537|128,i):null;case 26:case 27:case 5:return Ae(i),null;case 31:if(i.memoizedState!==null){if(On(i),i.alternate===null)throw Error(r(340));ui()}return a=i.flags,a&65536?(i.flags=a&-65537|128,i):null;case 13:if(On(i),a=i.memoizedState,a!==null&&a.dehydrated!==null){if(i.alternate===null)throw Error(r(340));ui()}return a=i.flags,a&65536?(i.flags=a&-65537|128,i):null;case 19:return Y(ft),null;case 4:return V(),null;case 10:return Rr(i.type),null;case 22:case 23:return On(i),Ih(),a!==null&&Y(fi),a=i.flags,a&65536?(i.flags=a&-65537|128,i):null;case 24:return Rr(mt),null;case 25:return null;default:return null}}function S1(a,i){switch(Ah(i),i.tag){case 3:Rr(mt),V();break;case 26:case 27:case 5:Ae(i);break;case 4:V();break;case 31:i.memoizedState!==null&&On(i);break;case 13:On(i);break;case 19:Y(ft);break;case 10:Rr(i.type);break;case 22:case 23:On(i),Ih(),a!==null&&Y(fi);break;case 24:Rr(mt)}}function Ko(a,i){try{var u=i.updateQueue,c=u!==null?u.lastEffect:null;if(c!==null){var v=c.next;u=v;do{if((u.tag&a)===a){c=void 0;var g=u.create,S=u.inst;c=g(),S.destroy=c}u=u.next}while(u!==v)}}catch(N){Ie(i,i.return,N)}}function Ta(a,i,u){try{var c=i.updateQueue,v=c!==null?c.lastEffect:null;if(v!==null){var g=v.next;c=g;do{if((c.tag&a)===a){var S=c.inst,N=S.destroy;if(N!==void 0){S.destroy=void 0,v=i;var M=u,U=N;try{U()}catch(G){Ie(v,M,G)}}}c=c.next}while(c!==g)}}catch(G){Ie(i,i.return,G)}}function j1(a){var i=a.updateQueue;if(i!==null){var u=a.stateNode;try{hx(i,u)}catch(c){Ie(a,a.return,c)}}}function E1(a,i,u){u.props=pi(a.type,a.memoizedProps),u.state=a.memoizedState;try{u.componentWillUnmount()}catch(c){Ie(a,i,c)}}function Yo(a,i){try{var u=a.ref;if(u!==null){switch(a.tag){case 26:case 27:case 5:var c=a.stateNode;break;case 30:c=a.stateNode;break;default:c=a.stateNode}typeof u=="function"?a.refCleanup=u(c):u.current=c}}catch(v){Ie(a,i,v)}}function pr(a,i){var u=a.ref,c=a.refCleanup;if(u!==null)if(typeof c=="function")try{c()}catch(v){Ie(a,i,v)}finally{a.refCleanup=null,a=a.alternate,a!=null&&(a.refCleanup=null)}else if(typeof u=="function")try{u(null)}catch(v){Ie(a,i,v)}else u.current=null}function A1(a){var i=a.type,u=a.memoizedProps,c=a.stateNode;try{e:switch(i){case"button":case"input":case"select":case"textarea":u.autoFocus&&c.focus();break e;case"img":u.src?c.src=u.src:u.srcSet&&(c.srcset=u.srcSet)}}catch(v){Ie(a,a.return,v)}}function gm(a,i,u){try{var c=a.stateNode;Wk(c,a.type,u,i),c[sn]=i}catch(v){Ie(a,a.return,v)}}function O1(a){return a.tag===5||a.tag===3||a.tag===26||a.tag===27&&La(a.type)||a.tag===4}function bm(a){e:for(;;){for(;a.sibling===null;){if(a.return===null||O1(a.return))return null;a=a.return}for(a.sibling.return=a.return,a=a.sibling;a.tag!==5&&a.tag!==6&&a.tag!==18;){if(a.tag===27&&La(a.type)||a.flags&2||a.child===null||a.tag===4)continue e;a.child.return=a,a=a.child}if(!(a.flags&2))return a.stateNode}}function xm(a,i,u){var c=a.tag;if(c===5||c===6)a=a.stateNode,i?(u.nodeType===9?u.body:u.nodeName==="HTML"?u.ownerDocument.body:u).insertBefore(a,i):(i=u.nodeType===9?u.body:u.nodeName==="HTML"?u.ownerDocument.body:u,i.appendChild(a),u=u._reactRootContainer,u!=null||i.onclick!==null||(i.onclick=_r));else if(c!==4&&(c===27&&La(a.type)&&(u=a.stateNode,i=null),a=a.child,a!==null))for(xm(a,i,u),a=a.sibling;a!==null;)xm(a,i,u),a=a.sibling}function Js(a,i,u){var c=a.tag;if(c===5||c===6)a=a.stateNode,i?u.insertBefore(a,i):u.appendChild(a);else if(c!==4&&(c===27&&La(a.type)&&(u=a.stateNode),a=a.child,a!==null))for(Js(a,i,u),a=a.sibling;a!==null;)Js(a,i,u),a=a.sibling}function N1(a){var i=a.stateNode,u=a.memoizedProps;try{for(var c=a.type,v=i.attributes;v.length;)i.removeAttributeNode(v[0]);Vt(i,c,u),i[$t]=a,i[sn]=u}catch(g){Ie(a,a.return,g)}}var Ur=!1,yt=!1,wm=!1,C1=typeof WeakSet=="function"?WeakSet:Set,Dt=null;function _k(a,i){if(a=a.containerInfo,Hm=xc,a=Ib(a),mh(a)){if("selectionStart"in a)var u={start:a.selectionStart,end:a.selectionEnd};else e:{u=(u=a.ownerDocument)&&u.defaultView||window;var c=u.getSelection&&u.getSelection();if(c&&c.rangeCount!==0){u=c.anchorNode;var v=c.anchorOffset,g=c.focusNode;c=c.focusOffset;try{u.nodeType,g.nodeType}catch{u=null;break e}var S=0,N=-1,M=-1,U=0,G=0,Z=a,H=null;t:for(;;){for(var $;Z!==u||v!==0&&Z.nodeType!==3||(N=S+v),Z!==g||c!==0&&Z.nodeType!==3||(M=S+c),Z.nodeType===3&&(S+=Z.nodeValue.length),($=Z.firstChild)!==null;)H=Z,Z=$;for(;;){if(Z===a)break t;if(H===u&&++U===v&&(N=S),H===g&&++G===c&&(M=S),($=Z.nextSibling)!==null)break;Z=H,H=Z.parentNode}Z=$}u=N===-1||M===-1?null:{start:N,end:M}}else u=null}u=u||{start:0,end:0}}else u=null;for($m={focusedElem:a,selectionRange:u},xc=!1,Dt=i;Dt!==null;)if(i=Dt,a=i.child,(i.subtreeFlags&1028)!==0&&a!==null)a.return=i,Dt=a;else for(;Dt!==null;){switch(i=Dt,g=i.alternate,a=i.flags,i.tag){case 0:if((a&4)!==0&&(a=i.updateQueue,a=a!==null?a.events:null,a!==null))for(u=0;u<a.length;u++)v=a[u],v.ref.impl=v.nextImpl;break;case 11:case 15:break;case 1:if((a&1024)!==0&&g!==null){a=void 0,u=i,v=g.memoizedProps,g=g.memoizedState,c=u.stateNode;try{var oe=pi(u.type,v);a=c.getSnapshotBeforeUpdate(oe,g),c.__reactInternalSnapshotBeforeUpdate=a}catch(ye){Ie(u,u.return,ye)}}break;case 3:if((a&1024)!==0){if(a=i.stateNode.containerInfo,u=a.nodeType,u===9)Gm(a);else if(u===1)switch(a.nodeName){case"HEAD":case"HTML":case"BODY":Gm(a);break;default:a.textContent=""}}break;case 5:case 26:case 27:case 6:case 4:case 17:break;default:if((a&1024)!==0)throw Error(r(163))}if(a=i.sibling,a!==null){a.return=i.return,Dt=a;break}Dt=i.return}}function _1(a,i,u){var c=u.flags;switch(u.tag){case 0:case 11:case 15:qr(a,u),c&4&&Ko(5,u);break;case 1:if(qr(a,u),c&4)if(a=u.stateNode,i===null)try{a.componentDidMount()}catch(S){Ie(u,u.return,S)}else{var v=pi(u.type,i.memoizedProps);i=i.memoizedState;try{a.componentDidUpdate(v,i,a.__reactInternalSnapshotBeforeUpdate)}catch(S){Ie(u,u.return,S)}}c&64&&j1(u),c&512&&Yo(u,u.return);break;case 3:if(qr(a,u),c&64&&(a=u.updateQueue,a!==null)){if(i=null,u.child!==null)switch(u.child.tag){case 27:case 5:i=u.child.stateNode;break;case 1:i=u.child.stateNode}try{hx(a,i)}catch(S){Ie(u,u.return,S)}}break;case 27:i===null&&c&4&&N1(u);case 26:case 5:qr(a,u),i===null&&c&4&&A1(u),c&512&&Yo(u,u.return);break;case 12:qr(a,u);break;case 31:qr(a,u),c&4&&D1(a,u);break;case 13:qr(a,u),c&4&&k1(a,u),c&64&&(a=u.memoizedState,a!==null&&(a=a.dehydrated,a!==null&&(u=Bk.bind(null,u),aR(a,u))));break;case 22:if(c=u.memoizedState!==null||Ur,!c){i=i!==null&&i.memoizedState!==null||yt,v=Ur;var g=yt;Ur=c,(yt=i)&&!g?Hr(a,u,(u.subtreeFlags&8772)!==0):qr(a,u),Ur=v,yt=g}break;case 30:break;default:qr(a,u)}}function T1(a){var i=a.alternate;i!==null&&(a.alternate=null,T1(i)),a.child=null,a.deletions=null,a.sibling=null,a.tag===5&&(i=a.stateNode,i!==null&&Zd(i)),a.stateNode=null,a.return=null,a.dependencies=null,a.memoizedProps=null,a.memoizedState=null,a.pendingProps=null,a.stateNode=null,a.updateQueue=null}var tt=null,fn=!1;function Ir(a,i,u){for(u=u.child;u!==null;)M1(a,i,u),u=u.sibling}function M1(a,i,u){if(wn&&typeof wn.onCommitFiberUnmount=="function")try{wn.onCommitFiberUnmount(vo,u)}catch{}switch(u.tag){case 26:yt||pr(u,i),Ir(a,i,u),u.memoizedState?u.memoizedState.count--:u.stateNode&&(u=u.stateNode,u.parentNode.removeChild(u));break;case 27:yt||pr(u,i);var c=tt,v=fn;La(u.type)&&(tt=u.stateNode,fn=!1),Ir(a,i,u),eu(u.stateNode),tt=c,fn=v;break;case 5:yt||pr(u,i);case 6:if(c=tt,v=fn,tt=null,Ir(a,i,u),tt=c,fn=v,tt!==null)if(fn)try{(tt.nodeType===9?tt.body:tt.nodeName==="HTML"?tt.ownerDocument.body:tt).removeChild(u.stateNode)}catch(g){Ie(u,i,g)}else try{tt.removeChild(u.stateNode)}catch(g){Ie(u,i,g)}break;case 18:tt!==null&&(fn?(a=tt,jw(a.nodeType===9?a.body:a.nodeName==="HTML"?a.ownerDocument.body:a,u.stateNode),Ol(a)):jw(tt,u.stateNode));break;case 4:c=tt,v=fn,tt=u.stateNode.containerInfo,fn=!0,Ir(a,i,u),tt=c,fn=v;break;case 0:case 11:case 14:case 15:Ta(2,u,i),yt||Ta(4,u,i),Ir(a,i,u);break;case 1:yt||(pr(u,i),c=u.stateNode,typeof c.componentWillUnmount=="function"&&E1(u,i,c)),Ir(a,i,u);break;case 21:Ir(a,i,u);break;case 22:yt=(c=yt)||u.memoizedState!==null,Ir(a,i,u),yt=c;break;default:Ir(a,i,u)}}function D1(a,i){if(i.memoizedState===null&&(a=i.alternate,a!==null&&(a=a.memoizedState,a!==null))){a=a.dehydrated;try{Ol(a)}catch(u){Ie(i,i.return,u)}}}function k1(a,i){if(i.memoizedState===null&&(a=i.alternate,a!==null&&(a=a.memoizedState,a!==null&&(a=a.dehydrated,a!==null))))try{Ol(a)}catch(u){Ie(i,i.return,u)}}function Tk(a){switch(a.tag){case 31:case 13:case 19:var i=a.stateNode;return i===null&&(i=a.stateNode=new C1),i;case 22:return a=a.stateNode,i=a._retryCache,i===null&&(i=a._retryCache=new C1),i;default:throw Error(r(435,a.tag))}}function ec(a,i){var u=Tk(a);i.forEach(function(c){if(!u.has(c)){u.add(c);var v=Uk.bind(null,a,c);c.then(v,v)}})}function dn(a,i){var u=i.deletions;if(u!==null)for(var c=0;c<u.length;c++){var v=u[c],g=a,S=i,N=S;e:for(;N!==null;){switch(N.tag){case 27:if(La(N.type)){tt=N.stateNode,fn=!1;break e}break;case 5:tt=N.stateNode,fn=!1;break e;case 3:case 4:tt=N.stateNode.containerInfo,fn=!0;break e}N=N.return}if(tt===null)throw Error(r(160));M1(g,S,v),tt=null,fn=!1,g=v.alternate,g!==null&&(g.return=null),v.return=null}if(i.subtreeFlags&13886)for(i=i.child;i!==null;)R1(i,a),i=i.sibling}var ar=null;function R1(a,i){var u=a.alternate,c=a.flags;switch(a.tag){case 0:case 11:case 14:case 15:dn(i,a),hn(a),c&4&&(Ta(3,a,a.return),Ko(3,a),Ta(5,a,a.return));break;case 1:dn(i,a),hn(a),c&512&&(yt||u===null||pr(u,u.return)),c&64&&Ur&&(a=a.updateQueue,a!==null&&(c=a.callbacks,c!==null&&(u=a.shared.hiddenCallbacks,a.shared.hiddenCallbacks=u===null?c:u.concat(c))));break;case 26:var v=ar;if(dn(i,a),hn(a),c&512&&(yt||u===null||pr(u,u.return)),c&4){var g=u!==null?u.memoizedState:null;if(c=a.memoizedState,u===null)if(c===null)if(a.stateNode===null){e:{c=a.type,u=a.memoizedProps,v=v.ownerDocument||v;t:switch(c){case"title":g=v.getElementsByTagName("title")[0],(!g||g[go]||g[$t]||g.namespaceURI==="http://www.w3.org/2000/svg"||g.hasAttribute("itemprop"))&&(g=v.createElement(c),v.head.insertBefore(g,v.querySelector("head > title"))),Vt(g,c,u),g[$t]=a,Mt(g),c=g;break e;case"link":var S=Rw("link","href",v).get(c+(u.href||""));if(S){for(var N=0;N<S.length;N++)if(g=S[N],g.getAttribute("href")===(u.href==null||u.href===""?null:u.href)&&g.getAttribute("rel")===(u.rel==null?null:u.rel)&&g.getAttribute("title")===(u.title==null?null:u.title)&&g.getAttribute("crossorigin")===(u.crossOrigin==null?null:u.crossOrigin)){S.splice(N,1);break t}}g=v.createElement(c),Vt(g,c,u),v.head.appendChild(g);break;case"meta":if(S=Rw("meta","content",v).get(c+(u.content||""))){for(N=0;N<S.length;N++)if(g=S[N],g.getAttribute("content")===(u.content==null?null:""+u.content)&&g.getAttribute("name")===(u.name==null?null:u.name)&&g.getAttribute("property")===(u.property==null?null:u.property)&&g.getAttribute("http-equiv")===(u.httpEquiv==null?null:u.httpEquiv)&&g.getAttribute("charset")===(u.charSet==null?null:u.charSet)){S.splice(N,1);break t}}g=v.createElement(c),Vt(g,c,u),v.head.appendChild(g);break;default:throw Error(r(468,c))}g[$t]=a,Mt(g),c=g}a.stateNode=c}else Pw(v,a.type,a.stateNode);else a.stateNode=kw(v,c,a.memoizedProps);else g!==c?(g===null?u.stateNode!==null&&(u=u.stateNode,u.parentNode.removeChild(u)):g.count--,c===null?Pw(v,a.type,a.stateNode):kw(v,c,a.memoizedProps)):c===null&&a.stateNode!==null&&gm(a,a.memoizedProps,u.memoizedProps)}break;case 27:dn(i,a),hn(a),c&512&&(yt||u===null||pr(u,u.return)),u!==null&&c&4&&gm(a,a.memoizedProps,u.memoizedProps);break;case 5:if(dn(i,a),hn(a),c&512&&(yt||u===null||pr(u,u.return)),a.flags&32){v=a.stateNode;try{Fi(v,"")}catch(oe){Ie(a,a.return,oe)}}c&4&&a.stateNode!=null&&(v=a.memoizedProps,gm(a,v,u!==null?u.memoizedProps:v)),c&1024&&(wm=!0);break;case 6:if(dn(i,a),hn(a),c&4){if(a.stateNode===null)throw Error(r(162));c=a.memoizedProps,u=a.stateNode;try{u.nodeValue=c}catch(oe){Ie(a,a.return,oe)}}break;case 3:if(pc=null,v=ar,ar=mc(i.containerInfo),dn(i,a),ar=v,hn(a),c&4&&u!==null&&u.memoizedState.isDehydrated)try{Ol(i.containerInfo)}catch(oe){Ie(a,a.return,oe)}wm&&(wm=!1,P1(a));break;case 4:c=ar,ar=mc(a.stateNode.containerInfo),dn(i,a),hn(a),ar=c;break;case 12:dn(i,a),hn(a);break;case 31:dn(i,a),hn(a),c&4&&(c=a.updateQueue,c!==null&&(a.updateQueue=null,ec(a,c)));break;case 13:dn(i,a),hn(a),a.child.flags&8192&&a.memoizedState!==null!=(u!==null&&u.memoizedState!==null)&&(nc=xn()),c&4&&(c=a.updateQueue,c!==null&&(a.updateQueue=null,ec(a,c)));break;case 22:v=a.memoizedState!==null;var M=u!==null&&u.memoizedState!==null,U=Ur,G=yt;if(Ur=U||v,yt=G||M,dn(i,a),yt=G,Ur=U,hn(a),c&8192)e:for(i=a.stateNode,i._visibility=v?i._visibility&-2:i._visibility|1,v&&(u===null||M||Ur||yt||yi(a)),u=null,i=a;;){if(i.tag===5||i.tag===26){if(u===null){M=u=i;try{if(g=M.stateNode,v)S=g.style,typeof S.setProperty=="function"?S.setProperty("display","none","important"):S.display="none";else{N=M.stateNode;var Z=M.memoizedProps.style,H=Z!=null&&Z.hasOwnProperty("display")?Z.display:null;N.style.display=H==null||typeof H=="boolean"?"":(""+H).trim()}}catch(oe){Ie(M,M.return,oe)}}}else if(i.tag===6){if(u===null){M=i;try{M.stateNode.nodeValue=v?"":M.memoizedProps}catch(oe){Ie(M,M.return,oe)}}}else if(i.tag===18){if(u===null){M=i;try{var $=M.stateNode;v?Ew($,!0):Ew(M.stateNode,!1)}catch(oe){Ie(M,M.return,oe)}}}else if((i.tag!==22&&i.tag!==23||i.memoizedState===null||i===a)&&i.child!==null){i.child.return=i,i=i.child;continue}if(i===a)break e;for(;i.sibling===null;){if(i.return===null||i.return===a)break e;u===i&&(u=null),i=i.return}u===i&&(u=null),i.sibling.return=i.return,i=i.sibling}c&4&&(c=a.updateQueue,c!==null&&(u=c.retryQueue,u!==null&&(c.retryQueue=null,ec(a,u))));break;case 19:dn(i,a),hn(a),c&4&&(c=a.updateQueue,c!==null&&(a.updateQueue=null,ec(a,c)));break;case 30:break;case 21:break;default:dn(i,a),hn(a)}}function hn(a){var i=a.flags;if(i&2){try{for(var u,c=a.return;c!==null;){if(O1(c)){u=c;break}c=c.return}if(u==null)throw Error(r(160));switch(u.tag){case 27:var v=u.stateNode,g=bm(a);Js(a,g,v);break;case 5:var S=u.stateNode;u.flags&32&&(Fi(S,""),u.flags&=-33);var N=bm(a);Js(a,N,S);break;case 3:case 4:var M=u.stateNode.containerInfo,U=bm(a);xm(a,U,M);break;default:throw Error(r(161))}}catch(G){Ie(a,a.return,G)}a.flags&=-3}i&4096&&(a.flags&=-4097)}function P1(a){if(a.subtreeFlags&1024)for(a=a.child;a!==null;){var i=a;P1(i),i.tag===5&&i.flags&1024&&i.stateNode.reset(),a=a.sibling}}function qr(a,i){if(i.subtreeFlags&8772)for(i=i.child;i!==null;)_1(a,i.alternate,i),i=i.sibling}function yi(a){for(a=a.child;a!==null;){var i=a;switch(i.tag){case 0:case 11:case 14:case 15:Ta(4,i,i.return),yi(i);break;case 1:pr(i,i.return);var u=i.stateNode;typeof u.componentWillUnmount=="function"&&E1(i,i.return,u),yi(i);break;case 27:eu(i.stateNode);case 26:case 5:pr(i,i.return),yi(i);break;case 22:i.memoizedState===null&&yi(i);break;case 30:yi(i);break;default:yi(i)}a=a.sibling}}function Hr(a,i,u){for(u=u&&(i.subtreeFlags&8772)!==0,i=i.child;i!==null;){var c=i.alternate,v=a,g=i,S=g.flags;switch(g.tag){case 0:case 11:case 15:Hr(v,g,u),Ko(4,g);break;case 1:if(Hr(v,g,u),c=g,v=c.stateNode,typeof v.componentDidMount=="function")try{v.componentDidMount()}catch(U){Ie(c,c.return,U)}if(c=g,v=c.updateQueue,v!==null){var N=c.stateNode;try{var M=v.shared.hiddenCallbacks;if(M!==null)for(v.shared.hiddenCallbacks=null,v=0;v<M.length;v++)dx(M[v],N)}catch(U){Ie(c,c.return,U)}}u&&S&64&&j1(g),Yo(g,g.return);break;case 27:N1(g);case 26:case 5:Hr(v,g,u),u&&c===null&&S&4&&A1(g),Yo(g,g.return);break;case 12:Hr(v,g,u);break;case 31:Hr(v,g,u),u&&S&4&&D1(v,g);break;case 13:Hr(v,g,u),u&&S&4&&k1(v,g);break;case 22:g.memoizedState===null&&Hr(v,g,u),Yo(g,g.return);break;case 30:break;default:Hr(v,g,u)}i=i.sibling}}function Sm(a,i){var u=null;a!==null&&a.memoizedState!==null&&a.memoizedState.cachePool!==null&&(u=a.memoizedState.cachePool.pool),a=null,i.memoizedState!==null&&i.memoizedState.cachePool!==null&&(a=i.memoizedState.cachePool.pool),a!==u&&(a!=null&&a.refCount++,u!=null&&Mo(u))}function jm(a,i){a=null,i.alternate!==null&&(a=i.alternate.memoizedState.cache),i=i.memoizedState.cache,i!==a&&(i.refCount++,a!=null&&Mo(a))}function ir(a,i,u,c){if(i.subtreeFlags&10256)for(i=i.child;i!==null;)z1(a,i,u,c),i=i.sibling}function z1(a,i,u,c){var v=i.flags;switch(i.tag){case 0:case 11:case 15:ir(a,i,u,c),v&2048&&Ko(9,i);break;case 1:ir(a,i,u,c);break;case 3:ir(a,i,u,c),v&2048&&(a=null,i.alternate!==null&&(a=i.alternate.memoizedState.cache),i=i.memoizedState.cache,i!==a&&(i.refCount++,a!=null&&Mo(a)));break;case 12:if(v&2048){ir(a,i,u,c),a=i.stateNode;try{var g=i.memoizedProps,S=g.id,N=g.onPostCommit;typeof N=="function"&&N(S,i.alternate===null?"mount":"update",a.passiveEffectDuration,-0)}catch(M){Ie(i,i.return,M)}}else ir(a,i,u,c);break;case 31:ir(a,i,u,c);break;case 13:ir(a,i,u,c);break;case 23:break;case 22:g=i.stateNode,S=i.alternate,i.memoizedState!==null?g._visibility&2?ir(a,i,u,c):Go(a,i):g._visibility&2?ir(a,i,u,c):(g._visibility|=2,vl(a,i,u,c,(i.subtreeFlags&10256)!==0||!1)),v&2048&&Sm(S,i);break;case 24:ir(a,i,u,c),v&2048&&jm(i.alternate,i);break;default:ir(a,i,u,c)}}function vl(a,i,u,c,v){for(v=v&&((i.subtreeFlags&10256)!==0||!1),i=i.child;i!==null;){var g=a,S=i,N=u,M=c,U=S.flags;switch(S.tag){case 0:case 11:case 15:vl(g,S,N,M,v),Ko(8,S);break;case 23:break;case 22:var G=S.stateNode;S.memoizedState!==null?G._visibility&2?vl(g,S,N,M,v):Go(g,S):(G._visibility|=2,vl(g,S,N,M,v)),v&&U&2048&&Sm(S.alternate,S);break;case 24:vl(g,S,N,M,v),v&&U&2048&&jm(S.alternate,S);break;default:vl(g,S,N,M,v)}i=i.sibling}}function Go(a,i){if(i.subtreeFlags&10256)for(i=i.child;i!==null;){var u=a,c=i,v=c.flags;switch(c.tag){case 22:Go(u,c),v&2048&&Sm(c.alternate,c);break;case 24:Go(u,c),v&2048&&jm(c.alternate,c);break;default:Go(u,c)}i=i.sibling}}var Vo=8192;function pl(a,i,u){if(a.subtreeFlags&Vo)for(a=a.child;a!==null;)L1(a,i,u),a=a.sibling}function L1(a,i,u){switch(a.tag){case 26:pl(a,i,u),a.flags&Vo&&a.memoizedState!==null&&pR(u,ar,a.memoizedState,a.memoizedProps);break;case 5:pl(a,i,u);break;case 3:case 4:var c=ar;ar=mc(a.stateNode.containerInfo),pl(a,i,u),ar=c;break;case 22:a.memoizedState===null&&(c=a.alternate,c!==null&&c.memoizedState!==null?(c=Vo,Vo=16777216,pl(a,i,u),Vo=c):pl(a,i,u));break;default:pl(a,i,u)}}function B1(a){var i=a.alternate;if(i!==null&&(a=i.child,a!==null)){i.child=null;do i=a.sibling,a.sibling=null,a=i;while(a!==null)}}function Xo(a){var i=a.deletions;if((a.flags&16)!==0){if(i!==null)for(var u=0;u<i.length;u++){var c=i[u];Dt=c,I1(c,a)}B1(a)}if(a.subtreeFlags&10256)for(a=a.child;a!==null;)U1(a),a=a.sibling}function U1(a){switch(a.tag){case 0:case 11:case 15:Xo(a),a.flags&2048&&Ta(9,a,a.return);break;case 3:Xo(a);break;case 12:Xo(a);break;case 22:var i=a.stateNode;a.memoizedState!==null&&i._visibility&2&&(a.return===null||a.return.tag!==13)?(i._visibility&=-3,tc(a)):Xo(a);break;default:Xo(a)}}function tc(a){var i=a.deletions;if((a.flags&16)!==0){if(i!==null)for(var u=0;u<i.length;u++){var c=i[u];Dt=c,I1(c,a)}B1(a)}for(a=a.child;a!==null;){switch(i=a,i.tag){case 0:case 11:case 15:Ta(8,i,i.return),tc(i);break;case 22:u=i.stateNode,u._visibility&2&&(u._visibility&=-3,tc(i));break;default:tc(i)}a=a.sibling}}function I1(a,i){for(;Dt!==null;){var u=Dt;switch(u.tag){case 0:case 11:case 15:Ta(8,u,i);break;case 23:case 22:if(u.memoizedState!==null&&u.memoizedState.cachePool!==null){var c=u.memoizedState.cachePool.pool;c!=null&&c.refCount++}break;case 24:Mo(u.memoizedState.cache)}if(c=u.child,c!==null)c.return=u,Dt=c;else e:for(u=a;Dt!==null;){c=Dt;var v=c.sibling,g=c.return;if(T1(c),c===u){Dt=null;break e}if(v!==null){v.return=g,Dt=v;break e}Dt=g}}}var Mk={getCacheForType:function(a){var i=Yt(mt),u=i.data.get(a);return u===void 0&&(u=a(),i.data.set(a,u)),u},cacheSignal:function(){return Yt(mt).controller.signal}},Dk=typeof WeakMap=="function"?WeakMap:Map,Le=0,Ge=null,Ce=null,Te=0,Ue=0,Nn=null,Ma=!1,yl=!1,Em=!1,$r=0,ut=0,Da=0,gi=0,Am=0,Cn=0,gl=0,Fo=null,mn=null,Om=!1,nc=0,q1=0,rc=1/0,ac=null,ka=null,wt=0,Ra=null,bl=null,Kr=0,Nm=0,Cm=null,H1=null,Wo=0,_m=null;function _n(){return(Le&2)!==0&&Te!==0?Te&-Te:q.T!==null?Pm():ab()}function $1(){if(Cn===0)if((Te&536870912)===0||De){var a=ds;ds<<=1,(ds&3932160)===0&&(ds=262144),Cn=a}else Cn=536870912;return a=An.current,a!==null&&(a.flags|=32),Cn}function vn(a,i,u){(a===Ge&&(Ue===2||Ue===9)||a.cancelPendingCommit!==null)&&(xl(a,0),Pa(a,Te,Cn,!1)),yo(a,u),((Le&2)===0||a!==Ge)&&(a===Ge&&((Le&2)===0&&(gi|=u),ut===4&&Pa(a,Te,Cn,!1)),yr(a))}function K1(a,i,u){if((Le&6)!==0)throw Error(r(327));var c=!u&&(i&127)===0&&(i&a.expiredLanes)===0||po(a,i),v=c?Pk(a,i):Mm(a,i,!0),g=c;do{if(v===0){yl&&!c&&Pa(a,i,0,!1);break}else{if(u=a.current.alternate,g&&!kk(u)){v=Mm(a,i,!1),g=!1;continue}if(v===2){if(g=i,a.errorRecoveryDisabledLanes&g)var S=0;else S=a.pendingLanes&-536870913,S=S!==0?S:S&536870912?536870912:0;if(S!==0){i=S;e:{var N=a;v=Fo;var M=N.current.memoizedState.isDehydrated;if(M&&(xl(N,S).flags|=256),S=Mm(N,S,!1),S!==2){if(Em&&!M){N.errorRecoveryDisabledLanes|=g,gi|=g,v=4;break e}g=mn,mn=v,g!==null&&(mn===null?mn=g:mn.push.apply(mn,g))}v=S}if(g=!1,v!==2)continue}}if(v===1){xl(a,0),Pa(a,i,0,!0);break}e:{switch(c=a,g=v,g){case 0:case 1:throw Error(r(345));case 4:if((i&4194048)!==i)break;case 6:Pa(c,i,Cn,!Ma);break e;case 2:mn=null;break;case 3:case 5:break;default:throw Error(r(329))}if((i&62914560)===i&&(v=nc+300-xn(),10<v)){if(Pa(c,i,Cn,!Ma),ms(c,0,!0)!==0)break e;Kr=i,c.timeoutHandle=ww(Y1.bind(null,c,u,mn,ac,Om,i,Cn,gi,gl,Ma,g,"Throttled",-0,0),v);break e}Y1(c,u,mn,ac,Om,i,Cn,gi,gl,Ma,g,null,-0,0)}}break}while(!0);yr(a)}function Y1(a,i,u,c,v,g,S,N,M,U,G,Z,H,$){if(a.timeoutHandle=-1,Z=i.subtreeFlags,Z&8192||(Z&16785408)===16785408){Z={stylesheets:null,count:0,imgCount:0,imgBytes:0,suspenseyImages:[],waitingForImages:!0,waitingForViewTransition:!1,unsuspend:_r},L1(i,g,Z);var oe=(g&62914560)===g?nc-xn():(g&4194048)===g?q1-xn():0;if(oe=yR(Z,oe),oe!==null){Kr=g,a.cancelPendingCommit=oe(J1.bind(null,a,i,g,u,c,v,S,N,M,G,Z,null,H,$)),Pa(a,g,S,!U);return}}J1(a,i,g,u,c,v,S,N,M)}function kk(a){for(var i=a;;){var u=i.tag;if((u===0||u===11||u===15)&&i.flags&16384&&(u=i.updateQueue,u!==null&&(u=u.stores,u!==null)))for(var c=0;c<u.length;c++){var v=u[c],g=v.getSnapshot;v=v.value;try{if(!jn(g(),v))return!1}catch{return!1}}if(u=i.child,i.subtreeFlags&16384&&u!==null)u.return=i,i=u;else{if(i===a)break;for(;i.sibling===null;){if(i.return===null||i.return===a)return!0;i=i.return}i.sibling.return=i.return,i=i.sibling}}return!0}function Pa(a,i,u,c){i&=~Am,i&=~gi,a.suspendedLanes|=i,a.pingedLanes&=~i,c&&(a.warmLanes|=i),c=a.expirationTimes;for(var v=i;0<v;){var g=31-Sn(v),S=1<<g;c[g]=-1,v&=~S}u!==0&&tb(a,u,i)}function ic(){return(Le&6)===0?(Zo(0),!1):!0}function Tm(){if(Ce!==null){if(Ue===0)var a=Ce.return;else a=Ce,kr=si=null,Gh(a),cl=null,ko=0,a=Ce;for(;a!==null;)S1(a.alternate,a),a=a.return;Ce=null}}function xl(a,i){var u=a.timeoutHandle;u!==-1&&(a.timeoutHandle=-1,Jk(u)),u=a.cancelPendingCommit,u!==null&&(a.cancelPendingCommit=null,u()),Kr=0,Tm(),Ge=a,Ce=u=Mr(a.current,null),Te=i,Ue=0,Nn=null,Ma=!1,yl=po(a,i),Em=!1,gl=Cn=Am=gi=Da=ut=0,mn=Fo=null,Om=!1,(i&8)!==0&&(i|=i&32);var c=a.entangledLanes;if(c!==0)for(a=a.entanglements,c&=i;0<c;){var v=31-Sn(c),g=1<<v;i|=a[v],c&=~g}return $r=i,Os(),u}function G1(a,i){je=null,q.H=qo,i===sl||i===Rs?(i=ux(),Ue=3):i===Rh?(i=ux(),Ue=4):Ue=i===um?8:i!==null&&typeof i=="object"&&typeof i.then=="function"?6:1,Nn=i,Ce===null&&(ut=1,Xs(a,qn(i,a.current)))}function V1(){var a=An.current;return a===null?!0:(Te&4194048)===Te?Yn===null:(Te&62914560)===Te||(Te&536870912)!==0?a===Yn:!1}function X1(){var a=q.H;return q.H=qo,a===null?qo:a}function F1(){var a=q.A;return q.A=Mk,a}function lc(){ut=4,Ma||(Te&4194048)!==Te&&An.current!==null||(yl=!0),(Da&134217727)===0&&(gi&134217727)===0||Ge===null||Pa(Ge,Te,Cn,!1)}function Mm(a,i,u){var c=Le;Le|=2;var v=X1(),g=F1();(Ge!==a||Te!==i)&&(ac=null,xl(a,i)),i=!1;var S=ut;e:do try{if(Ue!==0&&Ce!==null){var N=Ce,M=Nn;switch(Ue){case 8:Tm(),S=6;break e;case 3:case 2:case 9:case 6:An.current===null&&(i=!0);var U=Ue;if(Ue=0,Nn=null,wl(a,N,M,U),u&&yl){S=0;break e}break;default:U=Ue,Ue=0,Nn=null,wl(a,N,M,U)}}Rk(),S=ut;break}catch(G){G1(a,G)}while(!0);return i&&a.shellSuspendCounter++,kr=si=null,Le=c,q.H=v,q.A=g,Ce===null&&(Ge=null,Te=0,Os()),S}function Rk(){for(;Ce!==null;)W1(Ce)}function Pk(a,i){var u=Le;Le|=2;var c=X1(),v=F1();Ge!==a||Te!==i?(ac=null,rc=xn()+500,xl(a,i)):yl=po(a,i);e:do try{if(Ue!==0&&Ce!==null){i=Ce;var g=Nn;t:switch(Ue){case 1:Ue=0,Nn=null,wl(a,i,g,1);break;case 2:case 9:if(lx(g)){Ue=0,Nn=null,Z1(i);break}i=function(){Ue!==2&&Ue!==9||Ge!==a||(Ue=7),yr(a)},g.then(i,i);break e;case 3:Ue=7;break e;case 4:Ue=5;break e;case 7:lx(g)?(Ue=0,Nn=null,Z1(i)):(Ue=0,Nn=null,wl(a,i,g,7));break;case 5:var S=null;switch(Ce.tag){case 26:S=Ce.memoizedState;case 5:case 27:var N=Ce;if(S?zw(S):N.stateNode.complete){Ue=0,Nn=null;var M=N.sibling;if(M!==null)Ce=M;else{var U=N.return;U!==null?(Ce=U,oc(U)):Ce=null}break t}}Ue=0,Nn=null,wl(a,i,g,5);break;case 6:Ue=0,Nn=null,wl(a,i,g,6);break;case 8:Tm(),ut=6;break e;default:throw Error(r(462))}}zk();break}catch(G){G1(a,G)}while(!0);return kr=si=null,q.H=c,q.A=v,Le=u,Ce!==null?0:(Ge=null,Te=0,Os(),ut)}function zk(){for(;Ce!==null&&!iD();)W1(Ce)}function W1(a){var i=x1(a.alternate,a,$r);a.memoizedProps=a.pendingProps,i===null?oc(a):Ce=i}function Z1(a){var i=a,u=i.alternate;switch(i.tag){case 15:case 0:i=m1(u,i,i.pendingProps,i.type,void 0,Te);break;case 11:i=m1(u,i,i.pendingProps,i.type.render,i.ref,Te);break;case 5:Gh(i);default:S1(u,i),i=Ce=Fb(i,$r),i=x1(u,i,$r)}a.memoizedProps=a.pendingProps,i===null?oc(a):Ce=i}function wl(a,i,u,c){kr=si=null,Gh(i),cl=null,ko=0;var v=i.return;try{if(Ek(a,v,i,u,Te)){ut=1,Xs(a,qn(u,a.current)),Ce=null;return}}catch(g){if(v!==null)throw Ce=v,g;ut=1,Xs(a,qn(u,a.current)),Ce=null;return}i.flags&32768?(De||c===1?a=!0:yl||(Te&536870912)!==0?a=!1:(Ma=a=!0,(c===2||c===9||c===3||c===6)&&(c=An.current,c!==null&&c.tag===13&&(c.flags|=16384))),Q1(i,a)):oc(i)}function oc(a){var i=a;do{if((i.flags&32768)!==0){Q1(i,Ma);return}a=i.return;var u=Nk(i.alternate,i,$r);if(u!==null){Ce=u;return}if(i=i.sibling,i!==null){Ce=i;return}Ce=i=a}while(i!==null);ut===0&&(ut=5)}function Q1(a,i){do{var u=Ck(a.alternate,a);if(u!==null){u.flags&=32767,Ce=u;return}if(u=a.return,u!==null&&(u.flags|=32768,u.subtreeFlags=0,u.deletions=null),!i&&(a=a.sibling,a!==null)){Ce=a;return}Ce=a=u}while(a!==null);ut=6,Ce=null}function J1(a,i,u,c,v,g,S,N,M){a.cancelPendingCommit=null;do uc();while(wt!==0);if((Le&6)!==0)throw Error(r(327));if(i!==null){if(i===a.current)throw Error(r(177));if(g=i.lanes|i.childLanes,g|=bh,vD(a,u,g,S,N,M),a===Ge&&(Ce=Ge=null,Te=0),bl=i,Ra=a,Kr=u,Nm=g,Cm=v,H1=c,(i.subtreeFlags&10256)!==0||(i.flags&10256)!==0?(a.callbackNode=null,a.callbackPriority=0,Ik(cs,function(){return aw(),null})):(a.callbackNode=null,a.callbackPriority=0),c=(i.flags&13878)!==0,(i.subtreeFlags&13878)!==0||c){c=q.T,q.T=null,v=Q.p,Q.p=2,S=Le,Le|=4;try{_k(a,i,u)}finally{Le=S,Q.p=v,q.T=c}}wt=1,ew(),tw(),nw()}}function ew(){if(wt===1){wt=0;var a=Ra,i=bl,u=(i.flags&13878)!==0;if((i.subtreeFlags&13878)!==0||u){u=q.T,q.T=null;var c=Q.p;Q.p=2;var v=Le;Le|=4;try{R1(i,a);var g=$m,S=Ib(a.containerInfo),N=g.focusedElem,M=g.selectionRange;if(S!==N&&N&&N.ownerDocument&&Ub(N.ownerDocument.documentElement,N)){if(M!==null&&mh(N)){var U=M.start,G=M.end;if(G===void 0&&(G=U),"selectionStart"in N)N.selectionStart=U,N.selectionEnd=Math.min(G,N.value.length);else{var Z=N.ownerDocument||document,H=Z&&Z.defaultView||window;if(H.getSelection){var $=H.getSelection(),oe=N.textContent.length,ye=Math.min(M.start,oe),Ye=M.end===void 0?ye:Math.min(M.end,oe);!$.extend&&ye>Ye&&(S=Ye,Ye=ye,ye=S);var L=Bb(N,ye),z=Bb(N,Ye);if(L&&z&&($.rangeCount!==1||$.anchorNode!==L.node||$.anchorOffset!==L.offset||$.focusNode!==z.node||$.focusOffset!==z.offset)){var B=Z.createRange();B.setStart(L.node,L.offset),$.removeAllRanges(),ye>Ye?($.addRange(B),$.extend(z.node,z.offset)):(B.setEnd(z.node,z.offset),$.addRange(B))}}}}for(Z=[],$=N;$=$.parentNode;)$.nodeType===1&&Z.push({element:$,left:$.scrollLeft,top:$.scrollTop});for(typeof N.focus=="function"&&N.focus(),N=0;N<Z.length;N++){var F=Z[N];F.element.scrollLeft=F.left,F.element.scrollTop=F.top}}xc=!!Hm,$m=Hm=null}finally{Le=v,Q.p=c,q.T=u}}a.current=i,wt=2}}function tw(){if(wt===2){wt=0;var a=Ra,i=bl,u=(i.flags&8772)!==0;if((i.subtreeFlags&8772)!==0||u){u=q.T,q.T=null;var c=Q.p;Q.p=2;var v=Le;Le|=4;try{_1(a,i.alternate,i)}finally{Le=v,Q.p=c,q.T=u}}wt=3}}function nw(){if(wt===4||wt===3){wt=0,lD();var a=Ra,i=bl,u=Kr,c=H1;(i.subtreeFlags&10256)!==0||(i.flags&10256)!==0?wt=5:(wt=0,bl=Ra=null,rw(a,a.pendingLanes));var v=a.pendingLanes;if(v===0&&(ka=null),Fd(u),i=i.stateNode,wn&&typeof wn.onCommitFiberRoot=="function")try{wn.onCommitFiberRoot(vo,i,void 0,(i.current.flags&128)===128)}catch{}if(c!==null){i=q.T,v=Q.p,Q.p=2,q.T=null;try{for(var g=a.onRecoverableError,S=0;S<c.length;S++){var N=c[S];g(N.value,{componentStack:N.stack})}}finally{q.T=i,Q.p=v}}(Kr&3)!==0&&uc(),yr(a),v=a.pendingLanes,(u&261930)!==0&&(v&42)!==0?a===_m?Wo++:(Wo=0,_m=a):Wo=0,Zo(0)}}function rw(a,i){(a.pooledCacheLanes&=i)===0&&(i=a.pooledCache,i!=null&&(a.pooledCache=null,Mo(i)))}function uc(){return ew(),tw(),nw(),aw()}function aw(){if(wt!==5)return!1;var a=Ra,i=Nm;Nm=0;var u=Fd(Kr),c=q.T,v=Q.p;try{Q.p=32>u?32:u,q.T=null,u=Cm,Cm=null;var g=Ra,S=Kr;if(wt=0,bl=Ra=null,Kr=0,(Le&6)!==0)throw Error(r(331));var N=Le;if(Le|=4,U1(g.current),z1(g,g.current,S,u),Le=N,Zo(0,!1),wn&&typeof wn.onPostCommitFiberRoot=="function")try{wn.onPostCommitFiberRoot(vo,g)}catch{}return!0}finally{Q.p=v,q.T=c,rw(a,i)}}function iw(a,i,u){i=qn(u,i),i=om(a.stateNode,i,2),a=Na(a,i,2),a!==null&&(yo(a,2),yr(a))}function Ie(a,i,u){if(a.tag===3)iw(a,a,u);else for(;i!==null;){if(i.tag===3){iw(i,a,u);break}else if(i.tag===1){var c=i.stateNode;if(typeof i.type.getDerivedStateFromError=="function"||typeof c.componentDidCatch=="function"&&(ka===null||!ka.has(c))){a=qn(u,a),u=l1(2),c=Na(i,u,2),c!==null&&(o1(u,c,i,a),yo(c,2),yr(c));break}}i=i.return}}function Dm(a,i,u){var c=a.pingCache;if(c===null){c=a.pingCache=new Dk;var v=new Set;c.set(i,v)}else v=c.get(i),v===void 0&&(v=new Set,c.set(i,v));v.has(u)||(Em=!0,v.add(u),a=Lk.bind(null,a,i,u),i.then(a,a))}function Lk(a,i,u){var c=a.pingCache;c!==null&&c.delete(i),a.pingedLanes|=a.suspendedLanes&u,a.warmLanes&=~u,Ge===a&&(Te&u)===u&&(ut===4||ut===3&&(Te&62914560)===Te&&300>xn()-nc?(Le&2)===0&&xl(a,0):Am|=u,gl===Te&&(gl=0)),yr(a)}function lw(a,i){i===0&&(i=eb()),a=li(a,i),a!==null&&(yo(a,i),yr(a))}function Bk(a){var i=a.memoizedState,u=0;i!==null&&(u=i.retryLane),lw(a,u)}function Uk(a,i){var u=0;switch(a.tag){case 31:case 13:var c=a.stateNode,v=a.memoizedState;v!==null&&(u=v.retryLane);break;case 19:c=a.stateNode;break;case 22:c=a.stateNode._retryCache;break;default:throw Error(r(314))}c!==null&&c.delete(i),lw(a,u)}function Ik(a,i){return Yd(a,i)}var sc=null,Sl=null,km=!1,cc=!1,Rm=!1,za=0;function yr(a){a!==Sl&&a.next===null&&(Sl===null?sc=Sl=a:Sl=Sl.next=a),cc=!0,km||(km=!0,Hk())}function Zo(a,i){if(!Rm&&cc){Rm=!0;do for(var u=!1,c=sc;c!==null;){if(a!==0){var v=c.pendingLanes;if(v===0)var g=0;else{var S=c.suspendedLanes,N=c.pingedLanes;g=(1<<31-Sn(42|a)+1)-1,g&=v&~(S&~N),g=g&201326741?g&201326741|1:g?g|2:0}g!==0&&(u=!0,cw(c,g))}else g=Te,g=ms(c,c===Ge?g:0,c.cancelPendingCommit!==null||c.timeoutHandle!==-1),(g&3)===0||po(c,g)||(u=!0,cw(c,g));c=c.next}while(u);Rm=!1}}function qk(){ow()}function ow(){cc=km=!1;var a=0;za!==0&&Qk()&&(a=za);for(var i=xn(),u=null,c=sc;c!==null;){var v=c.next,g=uw(c,i);g===0?(c.next=null,u===null?sc=v:u.next=v,v===null&&(Sl=u)):(u=c,(a!==0||(g&3)!==0)&&(cc=!0)),c=v}wt!==0&&wt!==5||Zo(a),za!==0&&(za=0)}function uw(a,i){for(var u=a.suspendedLanes,c=a.pingedLanes,v=a.expirationTimes,g=a.pendingLanes&-62914561;0<g;){var S=31-Sn(g),N=1<<S,M=v[S];M===-1?((N&u)===0||(N&c)!==0)&&(v[S]=mD(N,i)):M<=i&&(a.expiredLanes|=N),g&=~N}if(i=Ge,u=Te,u=ms(a,a===i?u:0,a.cancelPendingCommit!==null||a.timeoutHandle!==-1),c=a.callbackNode,u===0||a===i&&(Ue===2||Ue===9)||a.cancelPendingCommit!==null)return c!==null&&c!==null&&Gd(c),a.callbackNode=null,a.callbackPriority=0;if((u&3)===0||po(a,u)){if(i=u&-u,i===a.callbackPriority)return i;switch(c!==null&&Gd(c),Fd(u)){case 2:case 8:u=Q0;break;case 32:u=cs;break;case 268435456:u=J0;break;default:u=cs}return c=sw.bind(null,a),u=Yd(u,c),a.callbackPriority=i,a.callbackNode=u,i}return c!==null&&c!==null&&Gd(c),a.callbackPriority=2,a.callbackNode=null,2}function sw(a,i){if(wt!==0&&wt!==5)return a.callbackNode=null,a.callbackPriority=0,null;var u=a.callbackNode;if(uc()&&a.callbackNode!==u)return null;var c=Te;return c=ms(a,a===Ge?c:0,a.cancelPendingCommit!==null||a.timeoutHandle!==-1),c===0?null:(K1(a,c,i),uw(a,xn()),a.callbackNode!=null&&a.callbackNode===u?sw.bind(null,a):null)}function cw(a,i){if(uc())return null;K1(a,i,!0)}function Hk(){eR(function(){(Le&6)!==0?Yd(Z0,qk):ow()})}function Pm(){if(za===0){var a=ol;a===0&&(a=fs,fs<<=1,(fs&261888)===0&&(fs=256)),za=a}return za}function fw(a){return a==null||typeof a=="symbol"||typeof a=="boolean"?null:typeof a=="function"?a:gs(""+a)}function dw(a,i){var u=i.ownerDocument.createElement("input");return u.name=i.name,u.value=i.value,a.id&&u.setAttribute("form",a.id),i.parentNode.insertBefore(u,i),a=new FormData(a),u.parentNode.removeChild(u),a}function $k(a,i,u,c,v){if(i==="submit"&&u&&u.stateNode===v){var g=fw((v[sn]||null).action),S=c.submitter;S&&(i=(i=S[sn]||null)?fw(i.formAction):S.getAttribute("formAction"),i!==null&&(g=i,S=null));var N=new Ss("action","action",null,c,v);a.push({event:N,listeners:[{instance:null,listener:function(){if(c.defaultPrevented){if(za!==0){var M=S?dw(v,S):new FormData(v);tm(u,{pending:!0,data:M,method:v.method,action:g},null,M)}}else typeof g=="function"&&(N.preventDefault(),M=S?dw(v,S):new FormData(v),tm(u,{pending:!0,data:M,method:v.method,action:g},g,M))},currentTarget:v}]})}}for(var zm=0;zm<gh.length;zm++){var Lm=gh[zm],Kk=Lm.toLowerCase(),Yk=Lm[0].toUpperCase()+Lm.slice(1);rr(Kk,"on"+Yk)}rr($b,"onAnimationEnd"),rr(Kb,"onAnimationIteration"),rr(Yb,"onAnimationStart"),rr("dblclick","onDoubleClick"),rr("focusin","onFocus"),rr("focusout","onBlur"),rr(ok,"onTransitionRun"),rr(uk,"onTransitionStart"),rr(sk,"onTransitionCancel"),rr(Gb,"onTransitionEnd"),Vi("onMouseEnter",["mouseout","mouseover"]),Vi("onMouseLeave",["mouseout","mouseover"]),Vi("onPointerEnter",["pointerout","pointerover"]),Vi("onPointerLeave",["pointerout","pointerover"]),ni("onChange","change click focusin focusout input keydown keyup selectionchange".split(" ")),ni("onSelect","focusout contextmenu dragend focusin keydown keyup mousedown mouseup selectionchange".split(" ")),ni("onBeforeInput",["compositionend","keypress","textInput","paste"]),ni("onCompositionEnd","compositionend focusout keydown keypress keyup mousedown".split(" ")),ni("onCompositionStart","compositionstart focusout keydown keypress keyup mousedown".split(" ")),ni("onCompositionUpdate","compositionupdate focusout keydown keypress keyup mousedown".split(" "));var Qo="abort canplay canplaythrough durationchange emptied encrypted ended error loadeddata loadedmetadata loadstart pause play playing progress ratechange resize seeked seeking stalled suspend timeupdate volumechange waiting".split(" "),Gk=new Set("beforetoggle cancel close invalid load scroll scrollend toggle".split(" ").concat(Qo));function hw(a,i){i=(i&4)!==0;for(var u=0;u<a.length;u++){var c=a[u],v=c.event;c=c.listeners;e:{var g=void 0;if(i)for(var S=c.length-1;0<=S;S--){var N=c[S],M=N.instance,U=N.currentTarget;if(N=N.listener,M!==g&&v.isPropagationStopped())break e;g=N,v.currentTarget=U;try{g(v)}catch(G){As(G)}v.currentTarget=null,g=M}else for(S=0;S<c.length;S++){if(N=c[S],M=N.instance,U=N.currentTarget,N=N.listener,M!==g&&v.isPropagationStopped())break e;g=N,v.currentTarget=U;try{g(v)}catch(G){As(G)}v.currentTarget=null,g=M}}}}function _e(a,i){var u=i[Wd];u===void 0&&(u=i[Wd]=new Set);var c=a+"__bubble";u.has(c)||(mw(i,a,2,!1),u.add(c))}function Bm(a,i,u){var c=0;i&&(c|=4),mw(u,a,c,i)}var fc="_reactListening"+Math.random().toString(36).slice(2);function Um(a){if(!a[fc]){a[fc]=!0,ob.forEach(function(u){u!=="selectionchange"&&(Gk.has(u)||Bm(u,!1,a),Bm(u,!0,a))});var i=a.nodeType===9?a:a.ownerDocument;i===null||i[fc]||(i[fc]=!0,Bm("selectionchange",!1,i))}}function mw(a,i,u,c){switch($w(i)){case 2:var v=xR;break;case 8:v=wR;break;default:v=ev}u=v.bind(null,i,u,a),v=void 0,!ih||i!=="touchstart"&&i!=="touchmove"&&i!=="wheel"||(v=!0),c?v!==void 0?a.addEventListener(i,u,{capture:!0,passive:v}):a.addEventListener(i,u,!0):v!==void 0?a.addEventListener(i,u,{passive:v}):a.addEventListener(i,u,!1)}function Im(a,i,u,c,v){var g=c;if((i&1)===0&&(i&2)===0&&c!==null)e:for(;;){if(c===null)return;var S=c.tag;if(S===3||S===4){var N=c.stateNode.containerInfo;if(N===v)break;if(S===4)for(S=c.return;S!==null;){var M=S.tag;if((M===3||M===4)&&S.stateNode.containerInfo===v)return;S=S.return}for(;N!==null;){if(S=Ki(N),S===null)return;if(M=S.tag,M===5||M===6||M===26||M===27){c=g=S;continue e}N=N.parentNode}}c=c.return}bb(function(){var U=g,G=rh(u),Z=[];e:{var H=Vb.get(a);if(H!==void 0){var $=Ss,oe=a;switch(a){case"keypress":if(xs(u)===0)break e;case"keydown":case"keyup":$=UD;break;case"focusin":oe="focus",$=sh;break;case"focusout":oe="blur",$=sh;break;case"beforeblur":case"afterblur":$=sh;break;case"click":if(u.button===2)break e;case"auxclick":case"dblclick":case"mousedown":case"mousemove":case"mouseup":case"mouseout":case"mouseover":case"contextmenu":$=Sb;break;case"drag":case"dragend":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"dragstart":case"drop":$=ND;break;case"touchcancel":case"touchend":case"touchmove":case"touchstart":$=HD;break;case $b:case Kb:case Yb:$=TD;break;case Gb:$=KD;break;case"scroll":case"scrollend":$=AD;break;case"wheel":$=GD;break;case"copy":case"cut":case"paste":$=DD;break;case"gotpointercapture":case"lostpointercapture":case"pointercancel":case"pointerdown":case"pointermove":case"pointerout":case"pointerover":case"pointerup":$=Eb;break;case"toggle":case"beforetoggle":$=XD}var ye=(i&4)!==0,Ye=!ye&&(a==="scroll"||a==="scrollend"),L=ye?H!==null?H+"Capture":null:H;ye=[];for(var z=U,B;z!==null;){var F=z;if(B=F.stateNode,F=F.tag,F!==5&&F!==26&&F!==27||B===null||L===null||(F=xo(z,L),F!=null&&ye.push(Jo(z,F,B))),Ye)break;z=z.return}0<ye.length&&(H=new $(H,oe,null,u,G),Z.push({event:H,listeners:ye}))}}if((i&7)===0){e:{if(H=a==="mouseover"||a==="pointerover",$=a==="mouseout"||a==="pointerout",H&&u!==nh&&(oe=u.relatedTarget||u.fromElement)&&(Ki(oe)||oe[$i]))break e;if(($||H)&&(H=G.window===G?G:(H=G.ownerDocument)?H.defaultView||H.parentWindow:window,$?(oe=u.relatedTarget||u.toElement,$=U,oe=oe?Ki(oe):null,oe!==null&&(Ye=o(oe),ye=oe.tag,oe!==Ye||ye!==5&&ye!==27&&ye!==6)&&(oe=null)):($=null,oe=U),$!==oe)){if(ye=Sb,F="onMouseLeave",L="onMouseEnter",z="mouse",(a==="pointerout"||a==="pointerover")&&(ye=Eb,F="onPointerLeave",L="onPointerEnter",z="pointer"),Ye=$==null?H:bo($),B=oe==null?H:bo(oe),H=new ye(F,z+"leave",$,u,G),H.target=Ye,H.relatedTarget=B,F=null,Ki(G)===U&&(ye=new ye(L,z+"enter",oe,u,G),ye.target=B,ye.relatedTarget=Ye,F=ye),Ye=F,$&&oe)t:{for(ye=Vk,L=$,z=oe,B=0,F=L;F;F=ye(F))B++;F=0;for(var me=z;me;me=ye(me))F++;for(;0<B-F;)L=ye(L),B--;for(;0<F-B;)z=ye(z),F--;for(;B--;){if(L===z||z!==null&&L===z.alternate){ye=L;break t}L=ye(L),z=ye(z)}ye=null}else ye=null;$!==null&&vw(Z,H,$,ye,!1),oe!==null&&Ye!==null&&vw(Z,Ye,oe,ye,!0)}}e:{if(H=U?bo(U):window,$=H.nodeName&&H.nodeName.toLowerCase(),$==="select"||$==="input"&&H.type==="file")var Re=Db;else if(Tb(H))if(kb)Re=ak;else{Re=nk;var fe=tk}else $=H.nodeName,!$||$.toLowerCase()!=="input"||H.type!=="checkbox"&&H.type!=="radio"?U&&th(U.elementType)&&(Re=Db):Re=rk;if(Re&&(Re=Re(a,U))){Mb(Z,Re,u,G);break e}fe&&fe(a,H,U),a==="focusout"&&U&&H.type==="number"&&U.memoizedProps.value!=null&&eh(H,"number",H.value)}switch(fe=U?bo(U):window,a){case"focusin":(Tb(fe)||fe.contentEditable==="true")&&(Ji=fe,vh=U,Co=null);break;case"focusout":Co=vh=Ji=null;break;case"mousedown":ph=!0;break;case"contextmenu":case"mouseup":case"dragend":ph=!1,qb(Z,u,G);break;case"selectionchange":if(lk)break;case"keydown":case"keyup":qb(Z,u,G)}var Oe;if(fh)e:{switch(a){case"compositionstart":var Me="onCompositionStart";break e;case"compositionend":Me="onCompositionEnd";break e;case"compositionupdate":Me="onCompositionUpdate";break e}Me=void 0}else Qi?Cb(a,u)&&(Me="onCompositionEnd"):a==="keydown"&&u.keyCode===229&&(Me="onCompositionStart");Me&&(Ab&&u.locale!=="ko"&&(Qi||Me!=="onCompositionStart"?Me==="onCompositionEnd"&&Qi&&(Oe=xb()):(xa=G,lh="value"in xa?xa.value:xa.textContent,Qi=!0)),fe=dc(U,Me),0<fe.length&&(Me=new jb(Me,a,null,u,G),Z.push({event:Me,listeners:fe}),Oe?Me.data=Oe:(Oe=_b(u),Oe!==null&&(Me.data=Oe)))),(Oe=WD?ZD(a,u):QD(a,u))&&(Me=dc(U,"onBeforeInput"),0<Me.length&&(fe=new jb("onBeforeInput","beforeinput",null,u,G),Z.push({event:fe,listeners:Me}),fe.data=Oe)),$k(Z,a,U,u,G)}hw(Z,i)})}function Jo(a,i,u){return{instance:a,listener:i,currentTarget:u}}function dc(a,i){for(var u=i+"Capture",c=[];a!==null;){var v=a,g=v.stateNode;if(v=v.tag,v!==5&&v!==26&&v!==27||g===null||(v=xo(a,u),v!=null&&c.unshift(Jo(a,v,g)),v=xo(a,i),v!=null&&c.push(Jo(a,v,g))),a.tag===3)return c;a=a.return}return[]}function Vk(a){if(a===null)return null;do a=a.return;while(a&&a.tag!==5&&a.tag!==27);return a||null}function vw(a,i,u,c,v){for(var g=i._reactName,S=[];u!==null&&u!==c;){var N=u,M=N.alternate,U=N.stateNode;if(N=N.tag,M!==null&&M===c)break;N!==5&&N!==26&&N!==27||U===null||(M=U,v?(U=xo(u,g),U!=null&&S.unshift(Jo(u,U,M))):v||(U=xo(u,g),U!=null&&S.push(Jo(u,U,M)))),u=u.return}S.length!==0&&a.push({event:i,listeners:S})}var Xk=/\r\n?/g,Fk=/\u0000|\uFFFD/g;function pw(a){return(typeof a=="string"?a:""+a).replace(Xk,`
-`).replace(Fk,"")}function yw(a,i){return i=pw(i),pw(a)===i}function Ke(a,i,u,c,v,g){switch(u){case"children":typeof c=="string"?i==="body"||i==="textarea"&&c===""||Fi(a,c):(typeof c=="number"||typeof c=="bigint")&&i!=="body"&&Fi(a,""+c);break;case"className":ps(a,"class",c);break;case"tabIndex":ps(a,"tabindex",c);break;case"dir":case"role":case"viewBox":case"width":case"height":ps(a,u,c);break;case"style":yb(a,c,g);break;case"data":if(i!=="object"){ps(a,"data",c);break}case"src":case"href":if(c===""&&(i!=="a"||u!=="href")){a.removeAttribute(u);break}if(c==null||typeof c=="function"||typeof c=="symbol"||typeof c=="boolean"){a.removeAttribute(u);break}c=gs(""+c),a.setAttribute(u,c);break;case"action":case"formAction":if(typeof c=="function"){a.setAttribute(u,"javascript:throw new Error('A React form was unexpectedly submitted. If you called form.submit() manually, consider using form.requestSubmit() instead. If you\\'re trying to use event.stopPropagation() in a submit event handler, consider also calling event.preventDefault().')");break}else typeof g=="function"&&(u==="formAction"?(i!=="input"&&Ke(a,i,"name",v.name,v,null),Ke(a,i,"formEncType",v.formEncType,v,null),Ke(a,i,"formMethod",v.formMethod,v,null),Ke(a,i,"formTarget",v.formTarget,v,null)):(Ke(a,i,"encType",v.encType,v,null),Ke(a,i,"method",v.method,v,null),Ke(a,i,"target",v.target,v,null)));if(c==null||typeof c=="symbol"||typeof c=="boolean"){a.removeAttribute(u);break}c=gs(""+c),a.setAttribute(u,c);break;case"onClick":c!=null&&(a.onclick=_r);break;case"onScroll":c!=null&&_e("scroll",a);break;case"onScrollEnd":c!=null&&_e("scrollend",a);break;case"dangerouslySetInnerHTML":if(c!=null){if(typeof c!="object"||!("__html"in c))throw Error(r(61));if(u=c.__html,u!=null){if(v.children!=null)throw Error(r(60));a.innerHTML=u}}break;case"multiple":a.multiple=c&&typeof c!="function"&&typeof c!="symbol";break;case"muted":a.muted=c&&typeof c!="function"&&typeof c!="symbol";break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"defaultValue":case"defaultChecked":case"innerHTML":case"ref":break;case"autoFocus":break;case"xlinkHref":if(c==null||typeof c=="function"||typeof c=="boolean"||typeof c=="symbol"){a.removeAttribute("xlink:href");break}u=gs(""+c),a.setAttributeNS("http://www.w3.org/1999/xlink","xlink:href",u);break;case"contentEditable":case"spellCheck":case"draggable":case"value":case"autoReverse":case"externalResourcesRequired":case"focusable":case"preserveAlpha":c!=null&&typeof c!="function"&&typeof c!="symbol"?a.setAttribute(u,""+c):a.removeAttribute(u);break;case"inert":case"allowFullScreen":case"async":case"autoPlay":case"controls":case"default":case"defer":case"disabled":case"disablePictureInPicture":case"disableRemotePlayback":case"formNoValidate":case"hidden":case"loop":case"noModule":case"noValidate":case"open":case"playsInline":case"readOnly":case"required":case"reversed":case"scoped":case"seamless":case"itemScope":c&&typeof c!="function"&&typeof c!="symbol"?a.setAttribute(u,""):a.removeAttribute(u);break;case"capture":case"download":c===!0?a.setAttribute(u,""):c!==!1&&c!=null&&typeof c!="function"&&typeof c!="symbol"?a.setAttribute(u,c):a.removeAttribute(u);break;case"cols":case"rows":case"size":case"span":c!=null&&typeof c!="function"&&typeof c!="symbol"&&!isNaN(c)&&1<=c?a.setAttribute(u,c):a.removeAttribute(u);break;case"rowSpan":case"start":c==null||typeof c=="function"||typeof c=="symbol"||isNaN(c)?a.removeAttribute(u):a.setAttribute(u,c);break;case"popover":_e("beforetoggle",a),_e("toggle",a),vs(a,"popover",c);break;case"xlinkActuate":Cr(a,"http://www.w3.org/1999/xlink","xlink:actuate",c);break;case"xlinkArcrole":Cr(a,"http://www.w3.org/1999/xlink","xlink:arcrole",c);break;case"xlinkRole":Cr(a,"http://www.w3.org/1999/xlink","xlink:role",c);break;case"xlinkShow":Cr(a,"http://www.w3.org/1999/xlink","xlink:show",c);break;case"xlinkTitle":Cr(a,"http://www.w3.org/1999/xlink","xlink:title",c);break;case"xlinkType":Cr(a,"http://www.w3.org/1999/xlink","xlink:type",c);break;case"xmlBase":Cr(a,"http://www.w3.org/XML/1998/namespace","xml:base",c);break;case"xmlLang":Cr(a,"http://www.w3.org/XML/1998/namespace","xml:lang",c);break;case"xmlSpace":Cr(a,"http://www.w3.org/XML/1998/namespace","xml:space",c);break;case"is":vs(a,"is",c);break;case"innerText":case"textContent":break;default:(!(2<u.length)||u[0]!=="o"&&u[0]!=="O"||u[1]!=="n"&&u[1]!=="N")&&(u=jD.get(u)||u,vs(a,u,c))}}function qm(a,i,u,c,v,g){switch(u){case"style":yb(a,c,g);break;case"dangerouslySetInnerHTML":if(c!=null){if(typeof c!="object"||!("__html"in c))throw Error(r(61));if(u=c.__html,u!=null){if(v.children!=null)throw Error(r(60));a.innerHTML=u}}break;case"children":typeof c=="string"?Fi(a,c):(typeof c=="number"||typeof c=="bigint")&&Fi(a,""+c);break;case"onScroll":c!=null&&_e("scroll",a);break;case"onScrollEnd":c!=null&&_e("scrollend",a);break;case"onClick":c!=null&&(a.onclick=_r);break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"innerHTML":case"ref":break;case"innerText":case"textContent":break;default:if(!ub.hasOwnProperty(u))e:{if(u[0]==="o"&&u[1]==="n"&&(v=u.endsWith("Capture"),i=u.slice(2,v?u.length-7:void 0),g=a[sn]||null,g=g!=null?g[u]:null,typeof g=="function"&&a.removeEventListener(i,g,v),typeof c=="function")){typeof g!="function"&&g!==null&&(u in a?a[u]=null:a.hasAttribute(u)&&a.removeAttribute(u)),a.addEventListener(i,c,v);break e}u in a?a[u]=c:c===!0?a.setAttribute(u,""):vs(a,u,c)}}}function Vt(a,i,u){switch(i){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"img":_e("error",a),_e("load",a);var c=!1,v=!1,g;for(g in u)if(u.hasOwnProperty(g)){var S=u[g];if(S!=null)switch(g){case"src":c=!0;break;case"srcSet":v=!0;break;case"children":case"dangerouslySetInnerHTML":throw Error(r(137,i));default:Ke(a,i,g,S,u,null)}}v&&Ke(a,i,"srcSet",u.srcSet,u,null),c&&Ke(a,i,"src",u.src,u,null);return;case"input":_e("invalid",a);var N=g=S=v=null,M=null,U=null;for(c in u)if(u.hasOwnProperty(c)){var G=u[c];if(G!=null)switch(c){case"name":v=G;break;case"type":S=G;break;case"checked":M=G;break;case"defaultChecked":U=G;break;case"value":g=G;break;case"defaultValue":N=G;break;case"children":case"dangerouslySetInnerHTML":if(G!=null)throw Error(r(137,i));break;default:Ke(a,i,c,G,u,null)}}hb(a,g,N,M,U,S,v,!1);return;case"select":_e("invalid",a),c=S=g=null;for(v in u)if(u.hasOwnProperty(v)&&(N=u[v],N!=null))switch(v){case"value":g=N;break;case"defaultValue":S=N;break;case"multiple":c=N;default:Ke(a,i,v,N,u,null)}i=g,u=S,a.multiple=!!c,i!=null?Xi(a,!!c,i,!1):u!=null&&Xi(a,!!c,u,!0);return;case"textarea":_e("invalid",a),g=v=c=null;for(S in u)if(u.hasOwnProperty(S)&&(N=u[S],N!=null))switch(S){case"value":c=N;break;case"defaultValue":v=N;break;case"children":g=N;break;case"dangerouslySetInnerHTML":if(N!=null)throw Error(r(91));break;default:Ke(a,i,S,N,u,null)}vb(a,c,v,g);return;case"option":for(M in u)if(u.hasOwnProperty(M)&&(c=u[M],c!=null))switch(M){case"selected":a.selected=c&&typeof c!="function"&&typeof c!="symbol";break;default:Ke(a,i,M,c,u,null)}return;case"dialog":_e("beforetoggle",a),_e("toggle",a),_e("cancel",a),_e("close",a);break;case"iframe":case"object":_e("load",a);break;case"video":case"audio":for(c=0;c<Qo.length;c++)_e(Qo[c],a);break;case"image":_e("error",a),_e("load",a);break;case"details":_e("toggle",a);break;case"embed":case"source":case"link":_e("error",a),_e("load",a);case"area":case"base":case"br":case"col":case"hr":case"keygen":case"meta":case"param":case"track":case"wbr":case"menuitem":for(U in u)if(u.hasOwnProperty(U)&&(c=u[U],c!=null))switch(U){case"children":case"dangerouslySetInnerHTML":throw Error(r(137,i));default:Ke(a,i,U,c,u,null)}return;default:if(th(i)){for(G in u)u.hasOwnProperty(G)&&(c=u[G],c!==void 0&&qm(a,i,G,c,u,void 0));return}}for(N in u)u.hasOwnProperty(N)&&(c=u[N],c!=null&&Ke(a,i,N,c,u,null))}function Wk(a,i,u,c){switch(i){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"input":var v=null,g=null,S=null,N=null,M=null,U=null,G=null;for($ in u){var Z=u[$];if(u.hasOwnProperty($)&&Z!=null)switch($){case"checked":break;case"value":break;case"defaultValue":M=Z;default:c.hasOwnProperty($)||Ke(a,i,$,null,c,Z)}}for(var H in c){var $=c[H];if(Z=u[H],c.hasOwnProperty(H)&&($!=null||Z!=null))switch(H){case"type":g=$;break;case"name":v=$;break;case"checked":U=$;break;case"defaultChecked":G=$;break;case"value":S=$;break;case"defaultValue":N=$;break;case"children":case"dangerouslySetInnerHTML":if($!=null)throw Error(r(137,i));break;default:$!==Z&&Ke(a,i,H,$,c,Z)}}Jd(a,S,N,M,U,G,g,v);return;case"select":$=S=N=H=null;for(g in u)if(M=u[g],u.hasOwnProperty(g)&&M!=null)switch(g){case"value":break;case"multiple":$=M;default:c.hasOwnProperty(g)||Ke(a,i,g,null,c,M)}for(v in c)if(g=c[v],M=u[v],c.hasOwnProperty(v)&&(g!=null||M!=null))switch(v){case"value":H=g;break;case"defaultValue":N=g;break;case"multiple":S=g;default:g!==M&&Ke(a,i,v,g,c,M)}i=N,u=S,c=$,H!=null?Xi(a,!!u,H,!1):!!c!=!!u&&(i!=null?Xi(a,!!u,i,!0):Xi(a,!!u,u?[]:"",!1));return;case"textarea":$=H=null;for(N in u)if(v=u[N],u.hasOwnProperty(N)&&v!=null&&!c.hasOwnProperty(N))switch(N){case"value":break;case"children":break;default:Ke(a,i,N,null,c,v)}for(S in c)if(v=c[S],g=u[S],c.hasOwnProperty(S)&&(v!=null||g!=null))switch(S){case"value":H=v;break;case"defaultValue":$=v;break;case"children":break;case"dangerouslySetInnerHTML":if(v!=null)throw Error(r(91));break;default:v!==g&&Ke(a,i,S,v,c,g)}mb(a,H,$);return;case"option":for(var oe in u)if(H=u[oe],u.hasOwnProperty(oe)&&H!=null&&!c.hasOwnProperty(oe))switch(oe){case"selected":a.selected=!1;break;default:Ke(a,i,oe,null,c,H)}for(M in c)if(H=c[M],$=u[M],c.hasOwnProperty(M)&&H!==$&&(H!=null||$!=null))switch(M){case"selected":a.selected=H&&typeof H!="function"&&typeof H!="symbol";break;default:Ke(a,i,M,H,c,$)}return;case"img":case"link":case"area":case"base":case"br":case"col":case"embed":case"hr":case"keygen":case"meta":case"param":case"source":case"track":case"wbr":case"menuitem":for(var ye in u)H=u[ye],u.hasOwnProperty(ye)&&H!=null&&!c.hasOwnProperty(ye)&&Ke(a,i,ye,null,c,H);for(U in c)if(H=c[U],$=u[U],c.hasOwnProperty(U)&&H!==$&&(H!=null||$!=null))switch(U){case"children":case"dangerouslySetInnerHTML":if(H!=null)throw Error(r(137,i));break;default:Ke(a,i,U,H,c,$)}return;default:if(th(i)){for(var Ye in u)H=u[Ye],u.hasOwnProperty(Ye)&&H!==void 0&&!c.hasOwnProperty(Ye)&&qm(a,i,Ye,void 0,c,H);for(G in c)H=c[G],$=u[G],!c.hasOwnProperty(G)||H===$||H===void 0&&$===void 0||qm(a,i,G,H,c,$);return}}for(var L in u)H=u[L],u.hasOwnProperty(L)&&H!=null&&!c.hasOwnProperty(L)&&Ke(a,i,L,null,c,H);for(Z in c)H=c[Z],$=u[Z],!c.hasOwnProperty(Z)||H===$||H==null&&$==null||Ke(a,i,Z,H,c,$)}function gw(a){switch(a){case"css":case"script":case"font":case"img":case"image":case"input":case"link":return!0;default:return!1}}function Zk(){if(typeof performance.getEntriesByType=="function"){for(var a=0,i=0,u=performance.getEntriesByType("resource"),c=0;c<u.length;c++){var v=u[c],g=v.transferSize,S=v.initiatorType,N=v.duration;if(g&&N&&gw(S)){for(S=0,N=v.responseEnd,c+=1;c<u.length;c++){var M=u[c],U=M.startTime;if(U>N)break;var G=M.transferSize,Z=M.initiatorType;G&&gw(Z)&&(M=M.responseEnd,S+=G*(M<N?1:(N-U)/(M-U)))}if(--c,i+=8*(g+S)/(v.duration/1e3),a++,10<a)break}}if(0<a)return i/a/1e6}return navigator.connection&&(a=navigator.connection.downlink,typeof a=="number")?a:5}var Hm=null,$m=null;function hc(a){return a.nodeType===9?a:a.ownerDocument}function bw(a){switch(a){case"http://www.w3.org/2000/svg":return 1;case"http://www.w3.org/1998/Math/MathML":return 2;default:return 0}}function xw(a,i){if(a===0)switch(i){case"svg":return 1;case"math":return 2;default:return 0}return a===1&&i==="foreignObject"?0:a}function Km(a,i){return a==="textarea"||a==="noscript"||typeof i.children=="string"||typeof i.children=="number"||typeof i.children=="bigint"||typeof i.dangerouslySetInnerHTML=="object"&&i.dangerouslySetInnerHTML!==null&&i.dangerouslySetInnerHTML.__html!=null}var Ym=null;function Qk(){var a=window.event;return a&&a.type==="popstate"?a===Ym?!1:(Ym=a,!0):(Ym=null,!1)}var ww=typeof setTimeout=="function"?setTimeout:void 0,Jk=typeof clearTimeout=="function"?clearTimeout:void 0,Sw=typeof Promise=="function"?Promise:void 0,eR=typeof queueMicrotask=="function"?queueMicrotask:typeof Sw<"u"?function(a){return Sw.resolve(null).then(a).catch(tR)}:ww;function tR(a){setTimeout(function(){throw a})}function La(a){return a==="head"}function jw(a,i){var u=i,c=0;do{var v=u.nextSibling;if(a.removeChild(u),v&&v.nodeType===8)if(u=v.data,u==="/$"||u==="/&"){if(c===0){a.removeChild(v),Ol(i);return}c--}else if(u==="$"||u==="$?"||u==="$~"||u==="$!"||u==="&")c++;else if(u==="html")eu(a.ownerDocument.documentElement);else if(u==="head"){u=a.ownerDocument.head,eu(u);for(var g=u.firstChild;g;){var S=g.nextSibling,N=g.nodeName;g[go]||N==="SCRIPT"||N==="STYLE"||N==="LINK"&&g.rel.toLowerCase()==="stylesheet"||u.removeChild(g),g=S}}else u==="body"&&eu(a.ownerDocument.body);u=v}while(u);Ol(i)}function Ew(a,i){var u=a;a=0;do{var c=u.nextSibling;if(u.nodeType===1?i?(u._stashedDisplay=u.style.display,u.style.display="none"):(u.style.display=u._stashedDisplay||"",u.getAttribute("style")===""&&u.removeAttribute("style")):u.nodeType===3&&(i?(u._stashedText=u.nodeValue,u.nodeValue=""):u.nodeValue=u._stashedText||""),c&&c.nodeType===8)if(u=c.data,u==="/$"){if(a===0)break;a--}else u!=="$"&&u!=="$?"&&u!=="$~"&&u!=="$!"||a++;u=c}while(u)}function Gm(a){var i=a.firstChild;for(i&&i.nodeType===10&&(i=i.nextSibling);i;){var u=i;switch(i=i.nextSibling,u.nodeName){case"HTML":case"HEAD":case"BODY":Gm(u),Zd(u);continue;case"SCRIPT":case"STYLE":continue;case"LINK":if(u.rel.toLowerCase()==="stylesheet")continue}a.removeChild(u)}}function nR(a,i,u,c){for(;a.nodeType===1;){var v=u;if(a.nodeName.toLowerCase()!==i.toLowerCase()){if(!c&&(a.nodeName!=="INPUT"||a.type!=="hidden"))break}else if(c){if(!a[go])switch(i){case"meta":if(!a.hasAttribute("itemprop"))break;return a;case"link":if(g=a.getAttribute("rel"),g==="stylesheet"&&a.hasAttribute("data-precedence"))break;if(g!==v.rel||a.getAttribute("href")!==(v.href==null||v.href===""?null:v.href)||a.getAttribute("crossorigin")!==(v.crossOrigin==null?null:v.crossOrigin)||a.getAttribute("title")!==(v.title==null?null:v.title))break;return a;case"style":if(a.hasAttribute("data-precedence"))break;return a;case"script":if(g=a.getAttribute("src"),(g!==(v.src==null?null:v.src)||a.getAttribute("type")!==(v.type==null?null:v.type)||a.getAttribute("crossorigin")!==(v.crossOrigin==null?null:v.crossOrigin))&&g&&a.hasAttribute("async")&&!a.hasAttribute("itemprop"))break;return a;default:return a}}else if(i==="input"&&a.type==="hidden"){var g=v.name==null?null:""+v.name;if(v.type==="hidden"&&a.getAttribute("name")===g)return a}else return a;if(a=Gn(a.nextSibling),a===null)break}return null}function rR(a,i,u){if(i==="")return null;for(;a.nodeType!==3;)if((a.nodeType!==1||a.nodeName!=="INPUT"||a.type!=="hidden")&&!u||(a=Gn(a.nextSibling),a===null))return null;return a}function Aw(a,i){for(;a.nodeType!==8;)if((a.nodeType!==1||a.nodeName!=="INPUT"||a.type!=="hidden")&&!i||(a=Gn(a.nextSibling),a===null))return null;return a}function Vm(a){return a.data==="$?"||a.data==="$~"}function Xm(a){return a.data==="$!"||a.data==="$?"&&a.ownerDocument.readyState!=="loading"}function aR(a,i){var u=a.ownerDocument;if(a.data==="$~")a._reactRetry=i;else if(a.data!=="$?"||u.readyState!=="loading")i();else{var c=function(){i(),u.removeEventListener("DOMContentLoaded",c)};u.addEventListener("DOMContentLoaded",c),a._reactRetry=c}}function Gn(a){for(;a!=null;a=a.nextSibling){var i=a.nodeType;if(i===1||i===3)break;if(i===8){if(i=a.data,i==="$"||i==="$!"||i==="$?"||i==="$~"||i==="&"||i==="F!"||i==="F")break;if(i==="/$"||i==="/&")return null}}return a}var Fm=null;function Ow(a){a=a.nextSibling;for(var i=0;a;){if(a.nodeType===8){var u=a.data;if(u==="/$"||u==="/&"){if(i===0)return Gn(a.nextSibling);i--}else u!=="$"&&u!=="$!"&&u!=="$?"&&u!=="$~"&&u!=="&"||i++}a=a.nextSibling}return null}function Nw(a){a=a.previousSibling;for(var i=0;a;){if(a.nodeType===8){var u=a.data;if(u==="$"||u==="$!"||u==="$?"||u==="$~"||u==="&"){if(i===0)return a;i--}else u!=="/$"&&u!=="/&"||i++}a=a.previousSibling}return null}function Cw(a,i,u){switch(i=hc(u),a){case"html":if(a=i.documentElement,!a)throw Error(r(452));return a;case"head":if(a=i.head,!a)throw Error(r(453));return a;case"body":if(a=i.body,!a)throw Error(r(454));return a;default:throw Error(r(451))}}function eu(a){for(var i=a.attributes;i.length;)a.removeAttributeNode(i[0]);Zd(a)}var Vn=new Map,_w=new Set;function mc(a){return typeof a.getRootNode=="function"?a.getRootNode():a.nodeType===9?a:a.ownerDocument}var Yr=Q.d;Q.d={f:iR,r:lR,D:oR,C:uR,L:sR,m:cR,X:dR,S:fR,M:hR};function iR(){var a=Yr.f(),i=ic();return a||i}function lR(a){var i=Yi(a);i!==null&&i.tag===5&&i.type==="form"?Gx(i):Yr.r(a)}var jl=typeof document>"u"?null:document;function Tw(a,i,u){var c=jl;if(c&&typeof i=="string"&&i){var v=Un(i);v='link[rel="'+a+'"][href="'+v+'"]',typeof u=="string"&&(v+='[crossorigin="'+u+'"]'),_w.has(v)||(_w.add(v),a={rel:a,crossOrigin:u,href:i},c.querySelector(v)===null&&(i=c.createElement("link"),Vt(i,"link",a),Mt(i),c.head.appendChild(i)))}}function oR(a){Yr.D(a),Tw("dns-prefetch",a,null)}function uR(a,i){Yr.C(a,i),Tw("preconnect",a,i)}function sR(a,i,u){Yr.L(a,i,u);var c=jl;if(c&&a&&i){var v='link[rel="preload"][as="'+Un(i)+'"]';i==="image"&&u&&u.imageSrcSet?(v+='[imagesrcset="'+Un(u.imageSrcSet)+'"]',typeof u.imageSizes=="string"&&(v+='[imagesizes="'+Un(u.imageSizes)+'"]')):v+='[href="'+Un(a)+'"]';var g=v;switch(i){case"style":g=El(a);break;case"script":g=Al(a)}Vn.has(g)||(a=p({rel:"preload",href:i==="image"&&u&&u.imageSrcSet?void 0:a,as:i},u),Vn.set(g,a),c.querySelector(v)!==null||i==="style"&&c.querySelector(tu(g))||i==="script"&&c.querySelector(nu(g))||(i=c.createElement("link"),Vt(i,"link",a),Mt(i),c.head.appendChild(i)))}}function cR(a,i){Yr.m(a,i);var u=jl;if(u&&a){var c=i&&typeof i.as=="string"?i.as:"script",v='link[rel="modulepreload"][as="'+Un(c)+'"][href="'+Un(a)+'"]',g=v;switch(c){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":g=Al(a)}if(!Vn.has(g)&&(a=p({rel:"modulepreload",href:a},i),Vn.set(g,a),u.querySelector(v)===null)){switch(c){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":if(u.querySelector(nu(g)))return}c=u.createElement("link"),Vt(c,"link",a),Mt(c),u.head.appendChild(c)}}}function fR(a,i,u){Yr.S(a,i,u);var c=jl;if(c&&a){var v=Gi(c).hoistableStyles,g=El(a);i=i||"default";var S=v.get(g);if(!S){var N={loading:0,preload:null};if(S=c.querySelector(tu(g)))N.loading=5;else{a=p({rel:"stylesheet",href:a,"data-precedence":i},u),(u=Vn.get(g))&&Wm(a,u);var M=S=c.createElement("link");Mt(M),Vt(M,"link",a),M._p=new Promise(function(U,G){M.onload=U,M.onerror=G}),M.addEventListener("load",function(){N.loading|=1}),M.addEventListener("error",function(){N.loading|=2}),N.loading|=4,vc(S,i,c)}S={type:"stylesheet",instance:S,count:1,state:N},v.set(g,S)}}}function dR(a,i){Yr.X(a,i);var u=jl;if(u&&a){var c=Gi(u).hoistableScripts,v=Al(a),g=c.get(v);g||(g=u.querySelector(nu(v)),g||(a=p({src:a,async:!0},i),(i=Vn.get(v))&&Zm(a,i),g=u.createElement("script"),Mt(g),Vt(g,"link",a),u.head.appendChild(g)),g={type:"script",instance:g,count:1,state:null},c.set(v,g))}}function hR(a,i){Yr.M(a,i);var u=jl;if(u&&a){var c=Gi(u).hoistableScripts,v=Al(a),g=c.get(v);g||(g=u.querySelector(nu(v)),g||(a=p({src:a,async:!0,type:"module"},i),(i=Vn.get(v))&&Zm(a,i),g=u.createElement("script"),Mt(g),Vt(g,"link",a),u.head.appendChild(g)),g={type:"script",instance:g,count:1,state:null},c.set(v,g))}}function Mw(a,i,u,c){var v=(v=we.current)?mc(v):null;if(!v)throw Error(r(446));switch(a){case"meta":case"title":return null;case"style":return typeof u.precedence=="string"&&typeof u.href=="string"?(i=El(u.href),u=Gi(v).hoistableStyles,c=u.get(i),c||(c={type:"style",instance:null,count:0,state:null},u.set(i,c)),c):{type:"void",instance:null,count:0,state:null};case"link":if(u.rel==="stylesheet"&&typeof u.href=="string"&&typeof u.precedence=="string"){a=El(u.href);var g=Gi(v).hoistableStyles,S=g.get(a);if(S||(v=v.ownerDocument||v,S={type:"stylesheet",instance:null,count:0,state:{loading:0,preload:null}},g.set(a,S),(g=v.querySelector(tu(a)))&&!g._p&&(S.instance=g,S.state.loading=5),Vn.has(a)||(u={rel:"preload",as:"style",href:u.href,crossOrigin:u.crossOrigin,integrity:u.integrity,media:u.media,hrefLang:u.hrefLang,referrerPolicy:u.referrerPolicy},Vn.set(a,u),g||mR(v,a,u,S.state))),i&&c===null)throw Error(r(528,""));return S}if(i&&c!==null)throw Error(r(529,""));return null;case"script":return i=u.async,u=u.src,typeof u=="string"&&i&&typeof i!="function"&&typeof i!="symbol"?(i=Al(u),u=Gi(v).hoistableScripts,c=u.get(i),c||(c={type:"script",instance:null,count:0,state:null},u.set(i,c)),c):{type:"void",instance:null,count:0,state:null};default:throw Error(r(444,a))}}function El(a){return'href="'+Un(a)+'"'}function tu(a){return'link[rel="stylesheet"]['+a+"]"}function Dw(a){return p({},a,{"data-precedence":a.precedence,precedence:null})}function mR(a,i,u,c){a.querySelector('link[rel="preload"][as="style"]['+i+"]")?c.loading=1:(i=a.createElement("link"),c.preload=i,i.addEventListener("load",function(){return c.loading|=1}),i.addEventListener("error",function(){return c.loading|=2}),Vt(i,"link",u),Mt(i),a.head.appendChild(i))}function Al(a){return'[src="'+Un(a)+'"]'}function nu(a){return"script[async]"+a}function kw(a,i,u){if(i.count++,i.instance===null)switch(i.type){case"style":var c=a.querySelector('style[data-href~="'+Un(u.href)+'"]');if(c)return i.instance=c,Mt(c),c;var v=p({},u,{"data-href":u.href,"data-precedence":u.precedence,href:null,precedence:null});return c=(a.ownerDocument||a).createElement("style"),Mt(c),Vt(c,"style",v),vc(c,u.precedence,a),i.instance=c;case"stylesheet":v=El(u.href);var g=a.querySelector(tu(v));if(g)return i.state.loading|=4,i.instance=g,Mt(g),g;c=Dw(u),(v=Vn.get(v))&&Wm(c,v),g=(a.ownerDocument||a).createElement("link"),Mt(g);var S=g;return S._p=new Promise(function(N,M){S.onload=N,S.onerror=M}),Vt(g,"link",c),i.state.loading|=4,vc(g,u.precedence,a),i.instance=g;case"script":return g=Al(u.src),(v=a.querySelector(nu(g)))?(i.instance=v,Mt(v),v):(c=u,(v=Vn.get(g))&&(c=p({},u),Zm(c,v)),a=a.ownerDocument||a,v=a.createElement("script"),Mt(v),Vt(v,"link",c),a.head.appendChild(v),i.instance=v);case"void":return null;default:throw Error(r(443,i.type))}else i.type==="stylesheet"&&(i.state.loading&4)===0&&(c=i.instance,i.state.loading|=4,vc(c,u.precedence,a));return i.instance}function vc(a,i,u){for(var c=u.querySelectorAll('link[rel="stylesheet"][data-precedence],style[data-precedence]'),v=c.length?c[c.length-1]:null,g=v,S=0;S<c.length;S++){var N=c[S];if(N.dataset.precedence===i)g=N;else if(g!==v)break}g?g.parentNode.insertBefore(a,g.nextSibling):(i=u.nodeType===9?u.head:u,i.insertBefore(a,i.firstChild))}function Wm(a,i){a.crossOrigin==null&&(a.crossOrigin=i.crossOrigin),a.referrerPolicy==null&&(a.referrerPolicy=i.referrerPolicy),a.title==null&&(a.title=i.title)}function Zm(a,i){a.crossOrigin==null&&(a.crossOrigin=i.crossOrigin),a.referrerPolicy==null&&(a.referrerPolicy=i.referrerPolicy),a.integrity==null&&(a.integrity=i.integrity)}var pc=null;function Rw(a,i,u){if(pc===null){var c=new Map,v=pc=new Map;v.set(u,c)}else v=pc,c=v.get(u),c||(c=new Map,v.set(u,c));if(c.has(a))return c;for(c.set(a,null),u=u.getElementsByTagName(a),v=0;v<u.length;v++){var g=u[v];if(!(g[go]||g[$t]||a==="link"&&g.getAttribute("rel")==="stylesheet")&&g.namespaceURI!=="http://www.w3.org/2000/svg"){var S=g.getAttribute(i)||"";S=a+S;var N=c.get(S);N?N.push(g):c.set(S,[g])}}return c}function Pw(a,i,u){a=a.ownerDocument||a,a.head.insertBefore(u,i==="title"?a.querySelector("head > title"):null)}function vR(a,i,u){if(u===1||i.itemProp!=null)return!1;switch(a){case"meta":case"title":return!0;case"style":if(typeof i.precedence!="string"||typeof i.href!="string"||i.href==="")break;return!0;case"link":if(typeof i.rel!="string"||typeof i.href!="string"||i.href===""||i.onLoad||i.onError)break;switch(i.rel){case"stylesheet":return a=i.disabled,typeof i.precedence=="string"&&a==null;default:return!0}case"script":if(i.async&&typeof i.async!="function"&&typeof i.async!="symbol"&&!i.onLoad&&!i.onError&&i.src&&typeof i.src=="string")return!0}return!1}function zw(a){return!(a.type==="stylesheet"&&(a.state.loading&3)===0)}function pR(a,i,u,c){if(u.type==="stylesheet"&&(typeof c.media!="string"||matchMedia(c.media).matches!==!1)&&(u.state.loading&4)===0){if(u.instance===null){var v=El(c.href),g=i.querySelector(tu(v));if(g){i=g._p,i!==null&&typeof i=="object"&&typeof i.then=="function"&&(a.count++,a=yc.bind(a),i.then(a,a)),u.state.loading|=4,u.instance=g,Mt(g);return}g=i.ownerDocument||i,c=Dw(c),(v=Vn.get(v))&&Wm(c,v),g=g.createElement("link"),Mt(g);var S=g;S._p=new Promise(function(N,M){S.onload=N,S.onerror=M}),Vt(g,"link",c),u.instance=g}a.stylesheets===null&&(a.stylesheets=new Map),a.stylesheets.set(u,i),(i=u.state.preload)&&(u.state.loading&3)===0&&(a.count++,u=yc.bind(a),i.addEventListener("load",u),i.addEventListener("error",u))}}var Qm=0;function yR(a,i){return a.stylesheets&&a.count===0&&bc(a,a.stylesheets),0<a.count||0<a.imgCount?function(u){var c=setTimeout(function(){if(a.stylesheets&&bc(a,a.stylesheets),a.unsuspend){var g=a.unsuspend;a.unsuspend=null,g()}},6e4+i);0<a.imgBytes&&Qm===0&&(Qm=62500*Zk());var v=setTimeout(function(){if(a.waitingForImages=!1,a.count===0&&(a.stylesheets&&bc(a,a.stylesheets),a.unsuspend)){var g=a.unsuspend;a.unsuspend=null,g()}},(a.imgBytes>Qm?50:800)+i);return a.unsuspend=u,function(){a.unsuspend=null,clearTimeout(c),clearTimeout(v)}}:null}function yc(){if(this.count--,this.count===0&&(this.imgCount===0||!this.waitingForImages)){if(this.stylesheets)bc(this,this.stylesheets);else if(this.unsuspend){var a=this.unsuspend;this.unsuspend=null,a()}}}var gc=null;function bc(a,i){a.stylesheets=null,a.unsuspend!==null&&(a.count++,gc=new Map,i.forEach(gR,a),gc=null,yc.call(a))}function gR(a,i){if(!(i.state.loading&4)){var u=gc.get(a);if(u)var c=u.get(null);else{u=new Map,gc.set(a,u);for(var v=a.querySelectorAll("link[data-precedence],style[data-precedence]"),g=0;g<v.length;g++){var S=v[g];(S.nodeName==="LINK"||S.getAttribute("media")!=="not all")&&(u.set(S.dataset.precedence,S),c=S)}c&&u.set(null,c)}v=i.instance,S=v.getAttribute("data-precedence"),g=u.get(S)||c,g===c&&u.set(null,v),u.set(S,v),this.count++,c=yc.bind(this),v.addEventListener("load",c),v.addEventListener("error",c),g?g.parentNode.insertBefore(v,g.nextSibling):(a=a.nodeType===9?a.head:a,a.insertBefore(v,a.firstChild)),i.state.loading|=4}}var ru={$$typeof:C,Provider:null,Consumer:null,_currentValue:X,_currentValue2:X,_threadCount:0};function bR(a,i,u,c,v,g,S,N,M){this.tag=1,this.containerInfo=a,this.pingCache=this.current=this.pendingChildren=null,this.timeoutHandle=-1,this.callbackNode=this.next=this.pendingContext=this.context=this.cancelPendingCommit=null,this.callbackPriority=0,this.expirationTimes=Vd(-1),this.entangledLanes=this.shellSuspendCounter=this.errorRecoveryDisabledLanes=this.expiredLanes=this.warmLanes=this.pingedLanes=this.suspendedLanes=this.pendingLanes=0,this.entanglements=Vd(0),this.hiddenUpdates=Vd(null),this.identifierPrefix=c,this.onUncaughtError=v,this.onCaughtError=g,this.onRecoverableError=S,this.pooledCache=null,this.pooledCacheLanes=0,this.formState=M,this.incompleteTransitions=new Map}function Lw(a,i,u,c,v,g,S,N,M,U,G,Z){return a=new bR(a,i,u,S,M,U,G,Z,N),i=1,g===!0&&(i|=24),g=En(3,null,null,i),a.current=g,g.stateNode=a,i=Mh(),i.refCount++,a.pooledCache=i,i.refCount++,g.memoizedState={element:c,isDehydrated:u,cache:i},Ph(g),a}function Bw(a){return a?(a=nl,a):nl}function Uw(a,i,u,c,v,g){v=Bw(v),c.context===null?c.context=v:c.pendingContext=v,c=Oa(i),c.payload={element:u},g=g===void 0?null:g,g!==null&&(c.callback=g),u=Na(a,c,i),u!==null&&(vn(u,a,i),Po(u,a,i))}function Iw(a,i){if(a=a.memoizedState,a!==null&&a.dehydrated!==null){var u=a.retryLane;a.retryLane=u!==0&&u<i?u:i}}function Jm(a,i){Iw(a,i),(a=a.alternate)&&Iw(a,i)}function qw(a){if(a.tag===13||a.tag===31){var i=li(a,67108864);i!==null&&vn(i,a,67108864),Jm(a,67108864)}}function Hw(a){if(a.tag===13||a.tag===31){var i=_n();i=Xd(i);var u=li(a,i);u!==null&&vn(u,a,i),Jm(a,i)}}var xc=!0;function xR(a,i,u,c){var v=q.T;q.T=null;var g=Q.p;try{Q.p=2,ev(a,i,u,c)}finally{Q.p=g,q.T=v}}function wR(a,i,u,c){var v=q.T;q.T=null;var g=Q.p;try{Q.p=8,ev(a,i,u,c)}finally{Q.p=g,q.T=v}}function ev(a,i,u,c){if(xc){var v=tv(c);if(v===null)Im(a,i,c,wc,u),Kw(a,c);else if(jR(v,a,i,u,c))c.stopPropagation();else if(Kw(a,c),i&4&&-1<SR.indexOf(a)){for(;v!==null;){var g=Yi(v);if(g!==null)switch(g.tag){case 3:if(g=g.stateNode,g.current.memoizedState.isDehydrated){var S=ti(g.pendingLanes);if(S!==0){var N=g;for(N.pendingLanes|=2,N.entangledLanes|=2;S;){var M=1<<31-Sn(S);N.entanglements[1]|=M,S&=~M}yr(g),(Le&6)===0&&(rc=xn()+500,Zo(0))}}break;case 31:case 13:N=li(g,2),N!==null&&vn(N,g,2),ic(),Jm(g,2)}if(g=tv(c),g===null&&Im(a,i,c,wc,u),g===v)break;v=g}v!==null&&c.stopPropagation()}else Im(a,i,c,null,u)}}function tv(a){return a=rh(a),nv(a)}var wc=null;function nv(a){if(wc=null,a=Ki(a),a!==null){var i=o(a);if(i===null)a=null;else{var u=i.tag;if(u===13){if(a=s(i),a!==null)return a;a=null}else if(u===31){if(a=f(i),a!==null)return a;a=null}else if(u===3){if(i.stateNode.current.memoizedState.isDehydrated)return i.tag===3?i.stateNode.containerInfo:null;a=null}else i!==a&&(a=null)}}return wc=a,null}function $w(a){switch(a){case"beforetoggle":case"cancel":case"click":case"close":case"contextmenu":case"copy":case"cut":case"auxclick":case"dblclick":case"dragend":case"dragstart":case"drop":case"focusin":case"focusout":case"input":case"invalid":case"keydown":case"keypress":case"keyup":case"mousedown":case"mouseup":case"paste":case"pause":case"play":case"pointercancel":case"pointerdown":case"pointerup":case"ratechange":case"reset":case"resize":case"seeked":case"submit":case"toggle":case"touchcancel":case"touchend":case"touchstart":case"volumechange":case"change":case"selectionchange":case"textInput":case"compositionstart":case"compositionend":case"compositionupdate":case"beforeblur":case"afterblur":case"beforeinput":case"blur":case"fullscreenchange":case"focus":case"hashchange":case"popstate":case"select":case"selectstart":return 2;case"drag":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"mousemove":case"mouseout":case"mouseover":case"pointermove":case"pointerout":case"pointerover":case"scroll":case"touchmove":case"wheel":case"mouseenter":case"mouseleave":case"pointerenter":case"pointerleave":return 8;case"message":switch(oD()){case Z0:return 2;case Q0:return 8;case cs:case uD:return 32;case J0:return 268435456;default:return 32}default:return 32}}var rv=!1,Ba=null,Ua=null,Ia=null,au=new Map,iu=new Map,qa=[],SR="mousedown mouseup touchcancel touchend touchstart auxclick dblclick pointercancel pointerdown pointerup dragend dragstart drop compositionend compositionstart keydown keypress keyup input textInput copy cut paste click change contextmenu reset".split(" ");function Kw(a,i){switch(a){case"focusin":case"focusout":Ba=null;break;case"dragenter":case"dragleave":Ua=null;break;case"mouseover":case"mouseout":Ia=null;break;case"pointerover":case"pointerout":au.delete(i.pointerId);break;case"gotpointercapture":case"lostpointercapture":iu.delete(i.pointerId)}}function lu(a,i,u,c,v,g){return a===null||a.nativeEvent!==g?(a={blockedOn:i,domEventName:u,eventSystemFlags:c,nativeEvent:g,targetContainers:[v]},i!==null&&(i=Yi(i),i!==null&&qw(i)),a):(a.eventSystemFlags|=c,i=a.targetContainers,v!==null&&i.indexOf(v)===-1&&i.push(v),a)}function jR(a,i,u,c,v){switch(i){case"focusin":return Ba=lu(Ba,a,i,u,c,v),!0;case"dragenter":return Ua=lu(Ua,a,i,u,c,v),!0;case"mouseover":return Ia=lu(Ia,a,i,u,c,v),!0;case"pointerover":var g=v.pointerId;return au.set(g,lu(au.get(g)||null,a,i,u,c,v)),!0;case"gotpointercapture":return g=v.pointerId,iu.set(g,lu(iu.get(g)||null,a,i,u,c,v)),!0}return!1}function Yw(a){var i=Ki(a.target);if(i!==null){var u=o(i);if(u!==null){if(i=u.tag,i===13){if(i=s(u),i!==null){a.blockedOn=i,ib(a.priority,function(){Hw(u)});return}}else if(i===31){if(i=f(u),i!==null){a.blockedOn=i,ib(a.priority,function(){Hw(u)});return}}else if(i===3&&u.stateNode.current.memoizedState.isDehydrated){a.blockedOn=u.tag===3?u.stateNode.containerInfo:null;return}}}a.blockedOn=null}function Sc(a){if(a.blockedOn!==null)return!1;for(var i=a.targetContainers;0<i.length;){var u=tv(a.nativeEvent);if(u===null){u=a.nativeEvent;var c=new u.constructor(u.type,u);nh=c,u.target.dispatchEvent(c),nh=null}else return i=Yi(u),i!==null&&qw(i),a.blockedOn=u,!1;i.shift()}return!0}function Gw(a,i,u){Sc(a)&&u.delete(i)}function ER(){rv=!1,Ba!==null&&Sc(Ba)&&(Ba=null),Ua!==null&&Sc(Ua)&&(Ua=null),Ia!==null&&Sc(Ia)&&(Ia=null),au.forEach(Gw),iu.forEach(Gw)}function jc(a,i){a.blockedOn===i&&(a.blockedOn=null,rv||(rv=!0,e.unstable_scheduleCallback(e.unstable_NormalPriority,ER)))}var Ec=null;function Vw(a){Ec!==a&&(Ec=a,e.unstable_scheduleCallback(e.unstable_NormalPriority,function(){Ec===a&&(Ec=null);for(var i=0;i<a.length;i+=3){var u=a[i],c=a[i+1],v=a[i+2];if(typeof c!="function"){if(nv(c||u)===null)continue;break}var g=Yi(u);g!==null&&(a.splice(i,3),i-=3,tm(g,{pending:!0,data:v,method:u.method,action:c},c,v))}}))}function Ol(a){function i(M){return jc(M,a)}Ba!==null&&jc(Ba,a),Ua!==null&&jc(Ua,a),Ia!==null&&jc(Ia,a),au.forEach(i),iu.forEach(i);for(var u=0;u<qa.length;u++){var c=qa[u];c.blockedOn===a&&(c.blockedOn=null)}for(;0<qa.length&&(u=qa[0],u.blockedOn===null);)Yw(u),u.blockedOn===null&&qa.shift();if(u=(a.ownerDocument||a).$$reactFormReplay,u!=null)for(c=0;c<u.length;c+=3){var v=u[c],g=u[c+1],S=v[sn]||null;if(typeof g=="function")S||Vw(u);else if(S){var N=null;if(g&&g.hasAttribute("formAction")){if(v=g,S=g[sn]||null)N=S.formAction;else if(nv(v)!==null)continue}else N=S.action;typeof N=="function"?u[c+1]=N:(u.splice(c,3),c-=3),Vw(u)}}}function Xw(){function a(g){g.canIntercept&&g.info==="react-transition"&&g.intercept({handler:function(){return new Promise(function(S){return v=S})},focusReset:"manual",scroll:"manual"})}function i(){v!==null&&(v(),v=null),c||setTimeout(u,20)}function u(){if(!c&&!navigation.transition){var g=navigation.currentEntry;g&&g.url!=null&&navigation.navigate(g.url,{state:g.getState(),info:"react-transition",history:"replace"})}}if(typeof navigation=="object"){var c=!1,v=null;return navigation.addEventListener("navigate",a),navigation.addEventListener("navigatesuccess",i),navigation.addEventListener("navigateerror",i),setTimeout(u,100),function(){c=!0,navigation.removeEventListener("navigate",a),navigation.removeEventListener("navigatesuccess",i),navigation.removeEventListener("navigateerror",i),v!==null&&(v(),v=null)}}}function av(a){this._internalRoot=a}Ac.prototype.render=av.prototype.render=function(a){var i=this._internalRoot;if(i===null)throw Error(r(409));var u=i.current,c=_n();Uw(u,c,a,i,null,null)},Ac.prototype.unmount=av.prototype.unmount=function(){var a=this._internalRoot;if(a!==null){this._internalRoot=null;var i=a.containerInfo;Uw(a.current,2,null,a,null,null),ic(),i[$i]=null}};function Ac(a){this._internalRoot=a}Ac.prototype.unstable_scheduleHydration=function(a){if(a){var i=ab();a={blockedOn:null,target:a,priority:i};for(var u=0;u<qa.length&&i!==0&&i<qa[u].priority;u++);qa.splice(u,0,a),u===0&&Yw(a)}};var Fw=t.version;if(Fw!=="19.2.1")throw Error(r(527,Fw,"19.2.1"));Q.findDOMNode=function(a){var i=a._reactInternals;if(i===void 0)throw typeof a.render=="function"?Error(r(188)):(a=Object.keys(a).join(","),Error(r(268,a)));return a=h(i),a=a!==null?m(a):null,a=a===null?null:a.stateNode,a};var AR={bundleType:0,version:"19.2.1",rendererPackageName:"react-dom",currentDispatcherRef:q,reconcilerVersion:"19.2.1"};if(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__<"u"){var Oc=__REACT_DEVTOOLS_GLOBAL_HOOK__;if(!Oc.isDisabled&&Oc.supportsFiber)try{vo=Oc.inject(AR),wn=Oc}catch{}}return uu.createRoot=function(a,i){if(!l(a))throw Error(r(299));var u=!1,c="",v=n1,g=r1,S=a1;return i!=null&&(i.unstable_strictMode===!0&&(u=!0),i.identifierPrefix!==void 0&&(c=i.identifierPrefix),i.onUncaughtError!==void 0&&(v=i.onUncaughtError),i.onCaughtError!==void 0&&(g=i.onCaughtError),i.onRecoverableError!==void 0&&(S=i.onRecoverableError)),i=Lw(a,1,!1,null,null,u,c,null,v,g,S,Xw),a[$i]=i.current,Um(a),new av(i)},uu.hydrateRoot=function(a,i,u){if(!l(a))throw Error(r(299));var c=!1,v="",g=n1,S=r1,N=a1,M=null;return u!=null&&(u.unstable_strictMode===!0&&(c=!0),u.identifierPrefix!==void 0&&(v=u.identifierPrefix),u.onUncaughtError!==void 0&&(g=u.onUncaughtError),u.onCaughtError!==void 0&&(S=u.onCaughtError),u.onRecoverableError!==void 0&&(N=u.onRecoverableError),u.formState!==void 0&&(M=u.formState)),i=Lw(a,1,!0,i,u??null,c,v,M,g,S,N,Xw),i.context=Bw(null),u=i.current,c=_n(),c=Xd(c),v=Oa(c),v.callback=null,Na(u,v,c),u=c,i.current.lanes=u,yo(i,u),yr(i),a[$i]=i.current,Um(a),new Ac(i)},uu.version="19.2.1",uu}var iS;function PR(){if(iS)return ov.exports;iS=1;function e(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(e)}catch(t){console.error(t)}}return e(),ov.exports=RR(),ov.exports}var zR=PR();var lS="popstate";function LR(e={}){function t(r,l){let{pathname:o,search:s,hash:f}=r.location;return Jp("",{pathname:o,search:s,hash:f},l.state&&l.state.usr||null,l.state&&l.state.key||"default")}function n(r,l){return typeof l=="string"?l:Su(l)}return UR(t,n,null,e)}function at(e,t){if(e===!1||e===null||typeof e>"u")throw new Error(t)}function Zn(e,t){if(!e){typeof console<"u"&&console.warn(t);try{throw new Error(t)}catch{}}}function BR(){return Math.random().toString(36).substring(2,10)}function oS(e,t){return{usr:e.state,key:e.key,idx:t}}function Jp(e,t,n=null,r){return{pathname:typeof e=="string"?e:e.pathname,search:"",hash:"",...typeof t=="string"?Fl(t):t,state:n,key:t&&t.key||r||BR()}}function Su({pathname:e="/",search:t="",hash:n=""}){return t&&t!=="?"&&(e+=t.charAt(0)==="?"?t:"?"+t),n&&n!=="#"&&(e+=n.charAt(0)==="#"?n:"#"+n),e}function Fl(e){let t={};if(e){let n=e.indexOf("#");n>=0&&(t.hash=e.substring(n),e=e.substring(0,n));let r=e.indexOf("?");r>=0&&(t.search=e.substring(r),e=e.substring(0,r)),e&&(t.pathname=e)}return t}function UR(e,t,n,r={}){let{window:l=document.defaultView,v5Compat:o=!1}=r,s=l.history,f="POP",d=null,h=m();h==null&&(h=0,s.replaceState({...s.state,idx:h},""));function m(){return(s.state||{idx:null}).idx}function p(){f="POP";let j=m(),O=j==null?null:j-h;h=j,d&&d({action:f,location:A.location,delta:O})}function x(j,O){f="PUSH";let _=Jp(A.location,j,O);h=m()+1;let C=oS(_,h),D=A.createHref(_);try{s.pushState(C,"",D)}catch(T){if(T instanceof DOMException&&T.name==="DataCloneError")throw T;l.location.assign(D)}o&&d&&d({action:f,location:A.location,delta:1})}function w(j,O){f="REPLACE";let _=Jp(A.location,j,O);h=m();let C=oS(_,h),D=A.createHref(_);s.replaceState(C,"",D),o&&d&&d({action:f,location:A.location,delta:0})}function E(j){return IR(j)}let A={get action(){return f},get location(){return e(l,s)},listen(j){if(d)throw new Error("A history only accepts one active listener");return l.addEventListener(lS,p),d=j,()=>{l.removeEventListener(lS,p),d=null}},createHref(j){return t(l,j)},createURL:E,encodeLocation(j){let O=E(j);return{pathname:O.pathname,search:O.search,hash:O.hash}},push:x,replace:w,go(j){return s.go(j)}};return A}function IR(e,t=!1){let n="http://localhost";typeof window<"u"&&(n=window.location.origin!=="null"?window.location.origin:window.location.href),at(n,"No window.location.(origin|href) available to create URL");let r=typeof e=="string"?e:Su(e);return r=r.replace(/ $/,"%20"),!t&&r.startsWith("//")&&(r=n+r),new URL(r,n)}function BA(e,t,n="/"){return qR(e,t,n,!1)}function qR(e,t,n,r){let l=typeof t=="string"?Fl(t):t,o=ta(l.pathname||"/",n);if(o==null)return null;let s=UA(e);HR(s);let f=null;for(let d=0;f==null&&d<s.length;++d){let h=JR(o);f=ZR(s[d],h,r)}return f}function UA(e,t=[],n=[],r="",l=!1){let o=(s,f,d=l,h)=>{let m={relativePath:h===void 0?s.path||"":h,caseSensitive:s.caseSensitive===!0,childrenIndex:f,route:s};if(m.relativePath.startsWith("/")){if(!m.relativePath.startsWith(r)&&d)return;at(m.relativePath.startsWith(r),`Absolute route path "${m.relativePath}" nested under path "${r}" is not valid. An absolute child route path must start with the combined path of all its parent routes.`),m.relativePath=m.relativePath.slice(r.length)}let p=Qr([r,m.relativePath]),x=n.concat(m);s.children&&s.children.length>0&&(at(s.index!==!0,`Index routes must not have child routes. Please remove all child routes from route path "${p}".`),UA(s.children,t,x,p,d)),!(s.path==null&&!s.index)&&t.push({path:p,score:FR(p,s.index),routesMeta:x})};return e.forEach((s,f)=>{if(s.path===""||!s.path?.includes("?"))o(s,f);else for(let d of IA(s.path))o(s,f,!0,d)}),t}function IA(e){let t=e.split("/");if(t.length===0)return[];let[n,...r]=t,l=n.endsWith("?"),o=n.replace(/\?$/,"");if(r.length===0)return l?[o,""]:[o];let s=IA(r.join("/")),f=[];return f.push(...s.map(d=>d===""?o:[o,d].join("/"))),l&&f.push(...s),f.map(d=>e.startsWith("/")&&d===""?"/":d)}function HR(e){e.sort((t,n)=>t.score!==n.score?n.score-t.score:WR(t.routesMeta.map(r=>r.childrenIndex),n.routesMeta.map(r=>r.childrenIndex)))}var $R=/^:[\w-]+$/,KR=3,YR=2,GR=1,VR=10,XR=-2,uS=e=>e==="*";function FR(e,t){let n=e.split("/"),r=n.length;return n.some(uS)&&(r+=XR),t&&(r+=YR),n.filter(l=>!uS(l)).reduce((l,o)=>l+($R.test(o)?KR:o===""?GR:VR),r)}function WR(e,t){return e.length===t.length&&e.slice(0,-1).every((r,l)=>r===t[l])?e[e.length-1]-t[t.length-1]:0}function ZR(e,t,n=!1){let{routesMeta:r}=e,l={},o="/",s=[];for(let f=0;f<r.length;++f){let d=r[f],h=f===r.length-1,m=o==="/"?t:t.slice(o.length)||"/",p=uf({path:d.relativePath,caseSensitive:d.caseSensitive,end:h},m),x=d.route;if(!p&&h&&n&&!r[r.length-1].route.index&&(p=uf({path:d.relativePath,caseSensitive:d.caseSensitive,end:!1},m)),!p)return null;Object.assign(l,p.params),s.push({params:l,pathname:Qr([o,p.pathname]),pathnameBase:aP(Qr([o,p.pathnameBase])),route:x}),p.pathnameBase!=="/"&&(o=Qr([o,p.pathnameBase]))}return s}function uf(e,t){typeof e=="string"&&(e={path:e,caseSensitive:!1,end:!0});let[n,r]=QR(e.path,e.caseSensitive,e.end),l=t.match(n);if(!l)return null;let o=l[0],s=o.replace(/(.)\/+$/,"$1"),f=l.slice(1);return{params:r.reduce((h,{paramName:m,isOptional:p},x)=>{if(m==="*"){let E=f[x]||"";s=o.slice(0,o.length-E.length).replace(/(.)\/+$/,"$1")}const w=f[x];return p&&!w?h[m]=void 0:h[m]=(w||"").replace(/%2F/g,"/"),h},{}),pathname:o,pathnameBase:s,pattern:e}}function QR(e,t=!1,n=!0){Zn(e==="*"||!e.endsWith("*")||e.endsWith("/*"),`Route path "${e}" will be treated as if it were "${e.replace(/\*$/,"/*")}" because the \`*\` character must always follow a \`/\` in the pattern. To get rid of this warning, please change the route path to "${e.replace(/\*$/,"/*")}".`);let r=[],l="^"+e.replace(/\/*\*?$/,"").replace(/^\/*/,"/").replace(/[\\.*+^${}|()[\]]/g,"\\$&").replace(/\/:([\w-]+)(\?)?/g,(s,f,d)=>(r.push({paramName:f,isOptional:d!=null}),d?"/?([^\\/]+)?":"/([^\\/]+)")).replace(/\/([\w-]+)\?(\/|$)/g,"(/$1)?$2");return e.endsWith("*")?(r.push({paramName:"*"}),l+=e==="*"||e==="/*"?"(.*)$":"(?:\\/(.+)|\\/*)$"):n?l+="\\/*$":e!==""&&e!=="/"&&(l+="(?:(?=\\/|$))"),[new RegExp(l,t?void 0:"i"),r]}function JR(e){try{return e.split("/").map(t=>decodeURIComponent(t).replace(/\//g,"%2F")).join("/")}catch(t){return Zn(!1,`The URL path "${e}" could not be decoded because it is a malformed URL segment. This is probably due to a bad percent encoding (${t}).`),e}}function ta(e,t){if(t==="/")return e;if(!e.toLowerCase().startsWith(t.toLowerCase()))return null;let n=t.endsWith("/")?t.length-1:t.length,r=e.charAt(n);return r&&r!=="/"?null:e.slice(n)||"/"}var eP=/^(?:[a-z][a-z0-9+.-]*:|\/\/)/i,tP=e=>eP.test(e);function nP(e,t="/"){let{pathname:n,search:r="",hash:l=""}=typeof e=="string"?Fl(e):e,o;if(n)if(tP(n))o=n;else{if(n.includes("//")){let s=n;n=n.replace(/\/\/+/g,"/"),Zn(!1,`Pathnames cannot have embedded double slashes - normalizing ${s} -> ${n}`)}n.startsWith("/")?o=sS(n.substring(1),"/"):o=sS(n,t)}else o=t;return{pathname:o,search:iP(r),hash:lP(l)}}function sS(e,t){let n=t.replace(/\/+$/,"").split("/");return e.split("/").forEach(l=>{l===".."?n.length>1&&n.pop():l!=="."&&n.push(l)}),n.length>1?n.join("/"):"/"}function fv(e,t,n,r){return`Cannot include a '${e}' character in a manually specified \`to.${t}\` field [${JSON.stringify(r)}].  Please separate it out to the \`to.${n}\` field. Alternatively you may provide the full path as a string in <Link to="..."> and the router will parse it for you.`}function rP(e){return e.filter((t,n)=>n===0||t.route.path&&t.route.path.length>0)}function eg(e){let t=rP(e);return t.map((n,r)=>r===t.length-1?n.pathname:n.pathnameBase)}function tg(e,t,n,r=!1){let l;typeof e=="string"?l=Fl(e):(l={...e},at(!l.pathname||!l.pathname.includes("?"),fv("?","pathname","search",l)),at(!l.pathname||!l.pathname.includes("#"),fv("#","pathname","hash",l)),at(!l.search||!l.search.includes("#"),fv("#","search","hash",l)));let o=e===""||l.pathname==="",s=o?"/":l.pathname,f;if(s==null)f=n;else{let p=t.length-1;if(!r&&s.startsWith("..")){let x=s.split("/");for(;x[0]==="..";)x.shift(),p-=1;l.pathname=x.join("/")}f=p>=0?t[p]:"/"}let d=nP(l,f),h=s&&s!=="/"&&s.endsWith("/"),m=(o||s===".")&&n.endsWith("/");return!d.pathname.endsWith("/")&&(h||m)&&(d.pathname+="/"),d}var Qr=e=>e.join("/").replace(/\/\/+/g,"/"),aP=e=>e.replace(/\/+$/,"").replace(/^\/*/,"/"),iP=e=>!e||e==="?"?"":e.startsWith("?")?e:"?"+e,lP=e=>!e||e==="#"?"":e.startsWith("#")?e:"#"+e;function oP(e){return e!=null&&typeof e.status=="number"&&typeof e.statusText=="string"&&typeof e.internal=="boolean"&&"data"in e}function uP(e){return e.map(t=>t.route.path).filter(Boolean).join("/").replace(/\/\/*/g,"/")||"/"}Object.getOwnPropertyNames(Object.prototype).sort().join("\0");var qA=["POST","PUT","PATCH","DELETE"];new Set(qA);var sP=["GET",...qA];new Set(sP);var Wl=b.createContext(null);Wl.displayName="DataRouter";var td=b.createContext(null);td.displayName="DataRouterState";b.createContext(!1);var HA=b.createContext({isTransitioning:!1});HA.displayName="ViewTransition";var cP=b.createContext(new Map);cP.displayName="Fetchers";var fP=b.createContext(null);fP.displayName="Await";var tr=b.createContext(null);tr.displayName="Navigation";var Iu=b.createContext(null);Iu.displayName="Location";var Or=b.createContext({outlet:null,matches:[],isDataRoute:!1});Or.displayName="Route";var ng=b.createContext(null);ng.displayName="RouteError";function dP(e,{relative:t}={}){at(Zl(),"useHref() may be used only in the context of a <Router> component.");let{basename:n,navigator:r}=b.useContext(tr),{hash:l,pathname:o,search:s}=Hu(e,{relative:t}),f=o;return n!=="/"&&(f=o==="/"?n:Qr([n,o])),r.createHref({pathname:f,search:s,hash:l})}function Zl(){return b.useContext(Iu)!=null}function sa(){return at(Zl(),"useLocation() may be used only in the context of a <Router> component."),b.useContext(Iu).location}var $A="You should call navigate() in a React.useEffect(), not when your component is first rendered.";function KA(e){b.useContext(tr).static||b.useLayoutEffect(e)}function qu(){let{isDataRoute:e}=b.useContext(Or);return e?AP():hP()}function hP(){at(Zl(),"useNavigate() may be used only in the context of a <Router> component.");let e=b.useContext(Wl),{basename:t,navigator:n}=b.useContext(tr),{matches:r}=b.useContext(Or),{pathname:l}=sa(),o=JSON.stringify(eg(r)),s=b.useRef(!1);return KA(()=>{s.current=!0}),b.useCallback((d,h={})=>{if(Zn(s.current,$A),!s.current)return;if(typeof d=="number"){n.go(d);return}let m=tg(d,JSON.parse(o),l,h.relative==="path");e==null&&t!=="/"&&(m.pathname=m.pathname==="/"?t:Qr([t,m.pathname])),(h.replace?n.replace:n.push)(m,h.state,h)},[t,n,o,l,e])}b.createContext(null);function Hu(e,{relative:t}={}){let{matches:n}=b.useContext(Or),{pathname:r}=sa(),l=JSON.stringify(eg(n));return b.useMemo(()=>tg(e,JSON.parse(l),r,t==="path"),[e,l,r,t])}function mP(e,t){return YA(e,t)}function YA(e,t,n,r,l){at(Zl(),"useRoutes() may be used only in the context of a <Router> component.");let{navigator:o}=b.useContext(tr),{matches:s}=b.useContext(Or),f=s[s.length-1],d=f?f.params:{},h=f?f.pathname:"/",m=f?f.pathnameBase:"/",p=f&&f.route;{let _=p&&p.path||"";GA(h,!p||_.endsWith("*")||_.endsWith("*?"),`You rendered descendant <Routes> (or called \`useRoutes()\`) at "${h}" (under <Route path="${_}">) but the parent route path has no trailing "*". This means if you navigate deeper, the parent won't match anymore and therefore the child routes will never render.
-
-Please change the parent <Route path="${_}"> to <Route path="${_==="/"?"*":`${_}/*`}">.`)}let x=sa(),w;if(t){let _=typeof t=="string"?Fl(t):t;at(m==="/"||_.pathname?.startsWith(m),`When overriding the location using \`<Routes location>\` or \`useRoutes(routes, location)\`, the location pathname must begin with the portion of the URL pathname that was matched by all parent routes. The current pathname base is "${m}" but pathname "${_.pathname}" was given in the \`location\` prop.`),w=_}else w=x;let E=w.pathname||"/",A=E;if(m!=="/"){let _=m.replace(/^\//,"").split("/");A="/"+E.replace(/^\//,"").split("/").slice(_.length).join("/")}let j=BA(e,{pathname:A});Zn(p||j!=null,`No routes matched location "${w.pathname}${w.search}${w.hash}" `),Zn(j==null||j[j.length-1].route.element!==void 0||j[j.length-1].route.Component!==void 0||j[j.length-1].route.lazy!==void 0,`Matched leaf route at location "${w.pathname}${w.search}${w.hash}" does not have an element or Component. This means it will render an <Outlet /> with a null value by default resulting in an "empty" page.`);let O=bP(j&&j.map(_=>Object.assign({},_,{params:Object.assign({},d,_.params),pathname:Qr([m,o.encodeLocation?o.encodeLocation(_.pathname.replace(/\?/g,"%3F").replace(/#/g,"%23")).pathname:_.pathname]),pathnameBase:_.pathnameBase==="/"?m:Qr([m,o.encodeLocation?o.encodeLocation(_.pathnameBase.replace(/\?/g,"%3F").replace(/#/g,"%23")).pathname:_.pathnameBase])})),s,n,r,l);return t&&O?b.createElement(Iu.Provider,{value:{location:{pathname:"/",search:"",hash:"",state:null,key:"default",...w},navigationType:"POP"}},O):O}function vP(){let e=EP(),t=oP(e)?`${e.status} ${e.statusText}`:e instanceof Error?e.message:JSON.stringify(e),n=e instanceof Error?e.stack:null,r="rgba(200,200,200, 0.5)",l={padding:"0.5rem",backgroundColor:r},o={padding:"2px 4px",backgroundColor:r},s=null;return console.error("Error handled by React Router default ErrorBoundary:",e),s=b.createElement(b.Fragment,null,b.createElement("p",null,"💿 Hey developer 👋"),b.createElement("p",null,"You can provide a way better UX than this when your app throws errors by providing your own ",b.createElement("code",{style:o},"ErrorBoundary")," or"," ",b.createElement("code",{style:o},"errorElement")," prop on your route.")),b.createElement(b.Fragment,null,b.createElement("h2",null,"Unexpected Application Error!"),b.createElement("h3",{style:{fontStyle:"italic"}},t),n?b.createElement("pre",{style:l},n):null,s)}var pP=b.createElement(vP,null),yP=class extends b.Component{constructor(e){super(e),this.state={location:e.location,revalidation:e.revalidation,error:e.error}}static getDerivedStateFromError(e){return{error:e}}static getDerivedStateFromProps(e,t){return t.location!==e.location||t.revalidation!=="idle"&&e.revalidation==="idle"?{error:e.error,location:e.location,revalidation:e.revalidation}:{error:e.error!==void 0?e.error:t.error,location:t.location,revalidation:e.revalidation||t.revalidation}}componentDidCatch(e,t){this.props.onError?this.props.onError(e,t):console.error("React Router caught the following error during render",e)}render(){return this.state.error!==void 0?b.createElement(Or.Provider,{value:this.props.routeContext},b.createElement(ng.Provider,{value:this.state.error,children:this.props.component})):this.props.children}};function gP({routeContext:e,match:t,children:n}){let r=b.useContext(Wl);return r&&r.static&&r.staticContext&&(t.route.errorElement||t.route.ErrorBoundary)&&(r.staticContext._deepestRenderedBoundaryId=t.route.id),b.createElement(Or.Provider,{value:e},n)}function bP(e,t=[],n=null,r=null,l=null){if(e==null){if(!n)return null;if(n.errors)e=n.matches;else if(t.length===0&&!n.initialized&&n.matches.length>0)e=n.matches;else return null}let o=e,s=n?.errors;if(s!=null){let m=o.findIndex(p=>p.route.id&&s?.[p.route.id]!==void 0);at(m>=0,`Could not find a matching route for errors on route IDs: ${Object.keys(s).join(",")}`),o=o.slice(0,Math.min(o.length,m+1))}let f=!1,d=-1;if(n)for(let m=0;m<o.length;m++){let p=o[m];if((p.route.HydrateFallback||p.route.hydrateFallbackElement)&&(d=m),p.route.id){let{loaderData:x,errors:w}=n,E=p.route.loader&&!x.hasOwnProperty(p.route.id)&&(!w||w[p.route.id]===void 0);if(p.route.lazy||E){f=!0,d>=0?o=o.slice(0,d+1):o=[o[0]];break}}}let h=n&&r?(m,p)=>{r(m,{location:n.location,params:n.matches?.[0]?.params??{},unstable_pattern:uP(n.matches),errorInfo:p})}:void 0;return o.reduceRight((m,p,x)=>{let w,E=!1,A=null,j=null;n&&(w=s&&p.route.id?s[p.route.id]:void 0,A=p.route.errorElement||pP,f&&(d<0&&x===0?(GA("route-fallback",!1,"No `HydrateFallback` element provided to render during initial hydration"),E=!0,j=null):d===x&&(E=!0,j=p.route.hydrateFallbackElement||null)));let O=t.concat(o.slice(0,x+1)),_=()=>{let C;return w?C=A:E?C=j:p.route.Component?C=b.createElement(p.route.Component,null):p.route.element?C=p.route.element:C=m,b.createElement(gP,{match:p,routeContext:{outlet:m,matches:O,isDataRoute:n!=null},children:C})};return n&&(p.route.ErrorBoundary||p.route.errorElement||x===0)?b.createElement(yP,{location:n.location,revalidation:n.revalidation,component:A,error:w,children:_(),routeContext:{outlet:null,matches:O,isDataRoute:!0},onError:h}):_()},null)}function rg(e){return`${e} must be used within a data router.  See https://reactrouter.com/en/main/routers/picking-a-router.`}function xP(e){let t=b.useContext(Wl);return at(t,rg(e)),t}function wP(e){let t=b.useContext(td);return at(t,rg(e)),t}function SP(e){let t=b.useContext(Or);return at(t,rg(e)),t}function ag(e){let t=SP(e),n=t.matches[t.matches.length-1];return at(n.route.id,`${e} can only be used on routes that contain a unique "id"`),n.route.id}function jP(){return ag("useRouteId")}function EP(){let e=b.useContext(ng),t=wP("useRouteError"),n=ag("useRouteError");return e!==void 0?e:t.errors?.[n]}function AP(){let{router:e}=xP("useNavigate"),t=ag("useNavigate"),n=b.useRef(!1);return KA(()=>{n.current=!0}),b.useCallback(async(l,o={})=>{Zn(n.current,$A),n.current&&(typeof l=="number"?await e.navigate(l):await e.navigate(l,{fromRouteId:t,...o}))},[e,t])}var cS={};function GA(e,t,n){!t&&!cS[e]&&(cS[e]=!0,Zn(!1,n))}b.memo(OP);function OP({routes:e,future:t,state:n,unstable_onError:r}){return YA(e,void 0,n,r,t)}function NP({to:e,replace:t,state:n,relative:r}){at(Zl(),"<Navigate> may be used only in the context of a <Router> component.");let{static:l}=b.useContext(tr);Zn(!l,"<Navigate> must not be used on the initial render in a <StaticRouter>. This is a no-op, but you should modify your code so the <Navigate> is only ever rendered in response to some user interaction or state change.");let{matches:o}=b.useContext(Or),{pathname:s}=sa(),f=qu(),d=tg(e,eg(o),s,r==="path"),h=JSON.stringify(d);return b.useEffect(()=>{f(JSON.parse(h),{replace:t,state:n,relative:r})},[f,h,r,t,n]),null}function Tn(e){at(!1,"A <Route> is only ever to be used as the child of <Routes> element, never rendered directly. Please wrap your <Route> in a <Routes>.")}function CP({basename:e="/",children:t=null,location:n,navigationType:r="POP",navigator:l,static:o=!1,unstable_useTransitions:s}){at(!Zl(),"You cannot render a <Router> inside another <Router>. You should never have more than one in your app.");let f=e.replace(/^\/*/,"/"),d=b.useMemo(()=>({basename:f,navigator:l,static:o,unstable_useTransitions:s,future:{}}),[f,l,o,s]);typeof n=="string"&&(n=Fl(n));let{pathname:h="/",search:m="",hash:p="",state:x=null,key:w="default"}=n,E=b.useMemo(()=>{let A=ta(h,f);return A==null?null:{location:{pathname:A,search:m,hash:p,state:x,key:w},navigationType:r}},[f,h,m,p,x,w,r]);return Zn(E!=null,`<Router basename="${f}"> is not able to match the URL "${h}${m}${p}" because it does not start with the basename, so the <Router> won't render anything.`),E==null?null:b.createElement(tr.Provider,{value:d},b.createElement(Iu.Provider,{children:t,value:E}))}function _P({children:e,location:t}){return mP(ey(e),t)}function ey(e,t=[]){let n=[];return b.Children.forEach(e,(r,l)=>{if(!b.isValidElement(r))return;let o=[...t,l];if(r.type===b.Fragment){n.push.apply(n,ey(r.props.children,o));return}at(r.type===Tn,`[${typeof r.type=="string"?r.type:r.type.name}] is not a <Route> component. All component children of <Routes> must be a <Route> or <React.Fragment>`),at(!r.props.index||!r.props.children,"An index route cannot have child routes.");let s={id:r.props.id||o.join("-"),caseSensitive:r.props.caseSensitive,element:r.props.element,Component:r.props.Component,index:r.props.index,path:r.props.path,middleware:r.props.middleware,loader:r.props.loader,action:r.props.action,hydrateFallbackElement:r.props.hydrateFallbackElement,HydrateFallback:r.props.HydrateFallback,errorElement:r.props.errorElement,ErrorBoundary:r.props.ErrorBoundary,hasErrorBoundary:r.props.hasErrorBoundary===!0||r.props.ErrorBoundary!=null||r.props.errorElement!=null,shouldRevalidate:r.props.shouldRevalidate,handle:r.props.handle,lazy:r.props.lazy};r.props.children&&(s.children=ey(r.props.children,o)),n.push(s)}),n}var Zc="get",Qc="application/x-www-form-urlencoded";function nd(e){return typeof HTMLElement<"u"&&e instanceof HTMLElement}function TP(e){return nd(e)&&e.tagName.toLowerCase()==="button"}function MP(e){return nd(e)&&e.tagName.toLowerCase()==="form"}function DP(e){return nd(e)&&e.tagName.toLowerCase()==="input"}function kP(e){return!!(e.metaKey||e.altKey||e.ctrlKey||e.shiftKey)}function RP(e,t){return e.button===0&&(!t||t==="_self")&&!kP(e)}var Nc=null;function PP(){if(Nc===null)try{new FormData(document.createElement("form"),0),Nc=!1}catch{Nc=!0}return Nc}var zP=new Set(["application/x-www-form-urlencoded","multipart/form-data","text/plain"]);function dv(e){return e!=null&&!zP.has(e)?(Zn(!1,`"${e}" is not a valid \`encType\` for \`<Form>\`/\`<fetcher.Form>\` and will default to "${Qc}"`),null):e}function LP(e,t){let n,r,l,o,s;if(MP(e)){let f=e.getAttribute("action");r=f?ta(f,t):null,n=e.getAttribute("method")||Zc,l=dv(e.getAttribute("enctype"))||Qc,o=new FormData(e)}else if(TP(e)||DP(e)&&(e.type==="submit"||e.type==="image")){let f=e.form;if(f==null)throw new Error('Cannot submit a <button> or <input type="submit"> without a <form>');let d=e.getAttribute("formaction")||f.getAttribute("action");if(r=d?ta(d,t):null,n=e.getAttribute("formmethod")||f.getAttribute("method")||Zc,l=dv(e.getAttribute("formenctype"))||dv(f.getAttribute("enctype"))||Qc,o=new FormData(f,e),!PP()){let{name:h,type:m,value:p}=e;if(m==="image"){let x=h?`${h}.`:"";o.append(`${x}x`,"0"),o.append(`${x}y`,"0")}else h&&o.append(h,p)}}else{if(nd(e))throw new Error('Cannot submit element that is not <form>, <button>, or <input type="submit|image">');n=Zc,r=null,l=Qc,s=e}return o&&l==="text/plain"&&(s=o,o=void 0),{action:r,method:n.toLowerCase(),encType:l,formData:o,body:s}}Object.getOwnPropertyNames(Object.prototype).sort().join("\0");function ig(e,t){if(e===!1||e===null||typeof e>"u")throw new Error(t)}function BP(e,t,n){let r=typeof e=="string"?new URL(e,typeof window>"u"?"server://singlefetch/":window.location.origin):e;return r.pathname==="/"?r.pathname=`_root.${n}`:t&&ta(r.pathname,t)==="/"?r.pathname=`${t.replace(/\/$/,"")}/_root.${n}`:r.pathname=`${r.pathname.replace(/\/$/,"")}.${n}`,r}async function UP(e,t){if(e.id in t)return t[e.id];try{let n=await import(e.module);return t[e.id]=n,n}catch(n){return console.error(`Error loading route module \`${e.module}\`, reloading page...`),console.error(n),window.__reactRouterContext&&window.__reactRouterContext.isSpaMode,window.location.reload(),new Promise(()=>{})}}function IP(e){return e==null?!1:e.href==null?e.rel==="preload"&&typeof e.imageSrcSet=="string"&&typeof e.imageSizes=="string":typeof e.rel=="string"&&typeof e.href=="string"}async function qP(e,t,n){let r=await Promise.all(e.map(async l=>{let o=t.routes[l.route.id];if(o){let s=await UP(o,n);return s.links?s.links():[]}return[]}));return YP(r.flat(1).filter(IP).filter(l=>l.rel==="stylesheet"||l.rel==="preload").map(l=>l.rel==="stylesheet"?{...l,rel:"prefetch",as:"style"}:{...l,rel:"prefetch"}))}function fS(e,t,n,r,l,o){let s=(d,h)=>n[h]?d.route.id!==n[h].route.id:!0,f=(d,h)=>n[h].pathname!==d.pathname||n[h].route.path?.endsWith("*")&&n[h].params["*"]!==d.params["*"];return o==="assets"?t.filter((d,h)=>s(d,h)||f(d,h)):o==="data"?t.filter((d,h)=>{let m=r.routes[d.route.id];if(!m||!m.hasLoader)return!1;if(s(d,h)||f(d,h))return!0;if(d.route.shouldRevalidate){let p=d.route.shouldRevalidate({currentUrl:new URL(l.pathname+l.search+l.hash,window.origin),currentParams:n[0]?.params||{},nextUrl:new URL(e,window.origin),nextParams:d.params,defaultShouldRevalidate:!0});if(typeof p=="boolean")return p}return!0}):[]}function HP(e,t,{includeHydrateFallback:n}={}){return $P(e.map(r=>{let l=t.routes[r.route.id];if(!l)return[];let o=[l.module];return l.clientActionModule&&(o=o.concat(l.clientActionModule)),l.clientLoaderModule&&(o=o.concat(l.clientLoaderModule)),n&&l.hydrateFallbackModule&&(o=o.concat(l.hydrateFallbackModule)),l.imports&&(o=o.concat(l.imports)),o}).flat(1))}function $P(e){return[...new Set(e)]}function KP(e){let t={},n=Object.keys(e).sort();for(let r of n)t[r]=e[r];return t}function YP(e,t){let n=new Set;return new Set(t),e.reduce((r,l)=>{let o=JSON.stringify(KP(l));return n.has(o)||(n.add(o),r.push({key:o,link:l})),r},[])}function VA(){let e=b.useContext(Wl);return ig(e,"You must render this element inside a <DataRouterContext.Provider> element"),e}function GP(){let e=b.useContext(td);return ig(e,"You must render this element inside a <DataRouterStateContext.Provider> element"),e}var lg=b.createContext(void 0);lg.displayName="FrameworkContext";function XA(){let e=b.useContext(lg);return ig(e,"You must render this element inside a <HydratedRouter> element"),e}function VP(e,t){let n=b.useContext(lg),[r,l]=b.useState(!1),[o,s]=b.useState(!1),{onFocus:f,onBlur:d,onMouseEnter:h,onMouseLeave:m,onTouchStart:p}=t,x=b.useRef(null);b.useEffect(()=>{if(e==="render"&&s(!0),e==="viewport"){let A=O=>{O.forEach(_=>{s(_.isIntersecting)})},j=new IntersectionObserver(A,{threshold:.5});return x.current&&j.observe(x.current),()=>{j.disconnect()}}},[e]),b.useEffect(()=>{if(r){let A=setTimeout(()=>{s(!0)},100);return()=>{clearTimeout(A)}}},[r]);let w=()=>{l(!0)},E=()=>{l(!1),s(!1)};return n?e!=="intent"?[o,x,{}]:[o,x,{onFocus:su(f,w),onBlur:su(d,E),onMouseEnter:su(h,w),onMouseLeave:su(m,E),onTouchStart:su(p,w)}]:[!1,x,{}]}function su(e,t){return n=>{e&&e(n),n.defaultPrevented||t(n)}}function XP({page:e,...t}){let{router:n}=VA(),r=b.useMemo(()=>BA(n.routes,e,n.basename),[n.routes,e,n.basename]);return r?b.createElement(WP,{page:e,matches:r,...t}):null}function FP(e){let{manifest:t,routeModules:n}=XA(),[r,l]=b.useState([]);return b.useEffect(()=>{let o=!1;return qP(e,t,n).then(s=>{o||l(s)}),()=>{o=!0}},[e,t,n]),r}function WP({page:e,matches:t,...n}){let r=sa(),{manifest:l,routeModules:o}=XA(),{basename:s}=VA(),{loaderData:f,matches:d}=GP(),h=b.useMemo(()=>fS(e,t,d,l,r,"data"),[e,t,d,l,r]),m=b.useMemo(()=>fS(e,t,d,l,r,"assets"),[e,t,d,l,r]),p=b.useMemo(()=>{if(e===r.pathname+r.search+r.hash)return[];let E=new Set,A=!1;if(t.forEach(O=>{let _=l.routes[O.route.id];!_||!_.hasLoader||(!h.some(C=>C.route.id===O.route.id)&&O.route.id in f&&o[O.route.id]?.shouldRevalidate||_.hasClientLoader?A=!0:E.add(O.route.id))}),E.size===0)return[];let j=BP(e,s,"data");return A&&E.size>0&&j.searchParams.set("_routes",t.filter(O=>E.has(O.route.id)).map(O=>O.route.id).join(",")),[j.pathname+j.search]},[s,f,r,l,h,t,e,o]),x=b.useMemo(()=>HP(m,l),[m,l]),w=FP(m);return b.createElement(b.Fragment,null,p.map(E=>b.createElement("link",{key:E,rel:"prefetch",as:"fetch",href:E,...n})),x.map(E=>b.createElement("link",{key:E,rel:"modulepreload",href:E,...n})),w.map(({key:E,link:A})=>b.createElement("link",{key:E,nonce:n.nonce,...A})))}function ZP(...e){return t=>{e.forEach(n=>{typeof n=="function"?n(t):n!=null&&(n.current=t)})}}var FA=typeof window<"u"&&typeof window.document<"u"&&typeof window.document.createElement<"u";try{FA&&(window.__reactRouterVersion="7.10.1")}catch{}function QP({basename:e,children:t,unstable_useTransitions:n,window:r}){let l=b.useRef();l.current==null&&(l.current=LR({window:r,v5Compat:!0}));let o=l.current,[s,f]=b.useState({action:o.action,location:o.location}),d=b.useCallback(h=>{n===!1?f(h):b.startTransition(()=>f(h))},[n]);return b.useLayoutEffect(()=>o.listen(d),[o,d]),b.createElement(CP,{basename:e,children:t,location:s.location,navigationType:s.action,navigator:o,unstable_useTransitions:n===!0})}var WA=/^(?:[a-z][a-z0-9+.-]*:|\/\/)/i,kn=b.forwardRef(function({onClick:t,discover:n="render",prefetch:r="none",relative:l,reloadDocument:o,replace:s,state:f,target:d,to:h,preventScrollReset:m,viewTransition:p,...x},w){let{basename:E,unstable_useTransitions:A}=b.useContext(tr),j=typeof h=="string"&&WA.test(h),O,_=!1;if(typeof h=="string"&&j&&(O=h,FA))try{let ae=new URL(window.location.href),W=h.startsWith("//")?new URL(ae.protocol+h):new URL(h),J=ta(W.pathname,E);W.origin===ae.origin&&J!=null?h=J+W.search+W.hash:_=!0}catch{Zn(!1,`<Link to="${h}"> contains an invalid URL which will probably break when clicked - please update to a valid URL path.`)}let C=dP(h,{relative:l}),[D,T,P]=VP(r,x),k=n3(h,{replace:s,state:f,target:d,preventScrollReset:m,relative:l,viewTransition:p,unstable_useTransitions:A});function I(ae){t&&t(ae),ae.defaultPrevented||k(ae)}let re=b.createElement("a",{...x,...P,href:O||C,onClick:_||o?t:I,ref:ZP(w,T),target:d,"data-discover":!j&&n==="render"?"true":void 0});return D&&!j?b.createElement(b.Fragment,null,re,b.createElement(XP,{page:C})):re});kn.displayName="Link";var JP=b.forwardRef(function({"aria-current":t="page",caseSensitive:n=!1,className:r="",end:l=!1,style:o,to:s,viewTransition:f,children:d,...h},m){let p=Hu(s,{relative:h.relative}),x=sa(),w=b.useContext(td),{navigator:E,basename:A}=b.useContext(tr),j=w!=null&&o3(p)&&f===!0,O=E.encodeLocation?E.encodeLocation(p).pathname:p.pathname,_=x.pathname,C=w&&w.navigation&&w.navigation.location?w.navigation.location.pathname:null;n||(_=_.toLowerCase(),C=C?C.toLowerCase():null,O=O.toLowerCase()),C&&A&&(C=ta(C,A)||C);const D=O!=="/"&&O.endsWith("/")?O.length-1:O.length;let T=_===O||!l&&_.startsWith(O)&&_.charAt(D)==="/",P=C!=null&&(C===O||!l&&C.startsWith(O)&&C.charAt(O.length)==="/"),k={isActive:T,isPending:P,isTransitioning:j},I=T?t:void 0,re;typeof r=="function"?re=r(k):re=[r,T?"active":null,P?"pending":null,j?"transitioning":null].filter(Boolean).join(" ");let ae=typeof o=="function"?o(k):o;return b.createElement(kn,{...h,"aria-current":I,className:re,ref:m,style:ae,to:s,viewTransition:f},typeof d=="function"?d(k):d)});JP.displayName="NavLink";var e3=b.forwardRef(({discover:e="render",fetcherKey:t,navigate:n,reloadDocument:r,replace:l,state:o,method:s=Zc,action:f,onSubmit:d,relative:h,preventScrollReset:m,viewTransition:p,...x},w)=>{let{unstable_useTransitions:E}=b.useContext(tr),A=i3(),j=l3(f,{relative:h}),O=s.toLowerCase()==="get"?"get":"post",_=typeof f=="string"&&WA.test(f),C=D=>{if(d&&d(D),D.defaultPrevented)return;D.preventDefault();let T=D.nativeEvent.submitter,P=T?.getAttribute("formmethod")||s,k=()=>A(T||D.currentTarget,{fetcherKey:t,method:P,navigate:n,replace:l,state:o,relative:h,preventScrollReset:m,viewTransition:p});E&&n!==!1?b.startTransition(()=>k()):k()};return b.createElement("form",{ref:w,method:O,action:j,onSubmit:r?d:C,...x,"data-discover":!_&&e==="render"?"true":void 0})});e3.displayName="Form";function t3(e){return`${e} must be used within a data router.  See https://reactrouter.com/en/main/routers/picking-a-router.`}function ZA(e){let t=b.useContext(Wl);return at(t,t3(e)),t}function n3(e,{target:t,replace:n,state:r,preventScrollReset:l,relative:o,viewTransition:s,unstable_useTransitions:f}={}){let d=qu(),h=sa(),m=Hu(e,{relative:o});return b.useCallback(p=>{if(RP(p,t)){p.preventDefault();let x=n!==void 0?n:Su(h)===Su(m),w=()=>d(e,{replace:x,state:r,preventScrollReset:l,relative:o,viewTransition:s});f?b.startTransition(()=>w()):w()}},[h,d,m,n,r,t,e,l,o,s,f])}var r3=0,a3=()=>`__${String(++r3)}__`;function i3(){let{router:e}=ZA("useSubmit"),{basename:t}=b.useContext(tr),n=jP(),r=e.fetch,l=e.navigate;return b.useCallback(async(o,s={})=>{let{action:f,method:d,encType:h,formData:m,body:p}=LP(o,t);if(s.navigate===!1){let x=s.fetcherKey||a3();await r(x,n,s.action||f,{preventScrollReset:s.preventScrollReset,formData:m,body:p,formMethod:s.method||d,formEncType:s.encType||h,flushSync:s.flushSync})}else await l(s.action||f,{preventScrollReset:s.preventScrollReset,formData:m,body:p,formMethod:s.method||d,formEncType:s.encType||h,replace:s.replace,state:s.state,fromRouteId:n,flushSync:s.flushSync,viewTransition:s.viewTransition})},[r,l,t,n])}function l3(e,{relative:t}={}){let{basename:n}=b.useContext(tr),r=b.useContext(Or);at(r,"useFormAction must be used inside a RouteContext");let[l]=r.matches.slice(-1),o={...Hu(e||".",{relative:t})},s=sa();if(e==null){o.search=s.search;let f=new URLSearchParams(o.search),d=f.getAll("index");if(d.some(m=>m==="")){f.delete("index"),d.filter(p=>p).forEach(p=>f.append("index",p));let m=f.toString();o.search=m?`?${m}`:""}}return(!e||e===".")&&l.route.index&&(o.search=o.search?o.search.replace(/^\?/,"?index&"):"?index"),n!=="/"&&(o.pathname=o.pathname==="/"?n:Qr([n,o.pathname])),Su(o)}function o3(e,{relative:t}={}){let n=b.useContext(HA);at(n!=null,"`useViewTransitionState` must be used within `react-router-dom`'s `RouterProvider`.  Did you accidentally import `RouterProvider` from `react-router`?");let{basename:r}=ZA("useViewTransitionState"),l=Hu(e,{relative:t});if(!n.isTransitioning)return!1;let o=ta(n.currentLocation.pathname,r)||n.currentLocation.pathname,s=ta(n.nextLocation.pathname,r)||n.nextLocation.pathname;return uf(l.pathname,s)!=null||uf(l.pathname,o)!=null}var rd=LA();const u3=ua(rd);function dS(e,t){if(typeof e=="function")return e(t);e!=null&&(e.current=t)}function Ql(...e){return t=>{let n=!1;const r=e.map(l=>{const o=dS(l,t);return!n&&typeof o=="function"&&(n=!0),o});if(n)return()=>{for(let l=0;l<r.length;l++){const o=r[l];typeof o=="function"?o():dS(e[l],null)}}}}function Ii(...e){return b.useCallback(Ql(...e),e)}var s3=Symbol.for("react.lazy"),sf=ed[" use ".trim().toString()];function c3(e){return typeof e=="object"&&e!==null&&"then"in e}function QA(e){return e!=null&&typeof e=="object"&&"$$typeof"in e&&e.$$typeof===s3&&"_payload"in e&&c3(e._payload)}function JA(e){const t=d3(e),n=b.forwardRef((r,l)=>{let{children:o,...s}=r;QA(o)&&typeof sf=="function"&&(o=sf(o._payload));const f=b.Children.toArray(o),d=f.find(m3);if(d){const h=d.props.children,m=f.map(p=>p===d?b.Children.count(h)>1?b.Children.only(null):b.isValidElement(h)?h.props.children:null:p);return y.jsx(t,{...s,ref:l,children:b.isValidElement(h)?b.cloneElement(h,void 0,m):null})}return y.jsx(t,{...s,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}var f3=JA("Slot");function d3(e){const t=b.forwardRef((n,r)=>{let{children:l,...o}=n;if(QA(l)&&typeof sf=="function"&&(l=sf(l._payload)),b.isValidElement(l)){const s=p3(l),f=v3(o,l.props);return l.type!==b.Fragment&&(f.ref=r?Ql(r,s):s),b.cloneElement(l,f)}return b.Children.count(l)>1?b.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var h3=Symbol("radix.slottable");function m3(e){return b.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===h3}function v3(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function p3(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}function eO(e){var t,n,r="";if(typeof e=="string"||typeof e=="number")r+=e;else if(typeof e=="object")if(Array.isArray(e)){var l=e.length;for(t=0;t<l;t++)e[t]&&(n=eO(e[t]))&&(r&&(r+=" "),r+=n)}else for(n in e)e[n]&&(r&&(r+=" "),r+=n);return r}function Xe(){for(var e,t,n=0,r="",l=arguments.length;n<l;n++)(e=arguments[n])&&(t=eO(e))&&(r&&(r+=" "),r+=t);return r}const hS=e=>typeof e=="boolean"?`${e}`:e===0?"0":e,mS=Xe,tO=(e,t)=>n=>{var r;if(t?.variants==null)return mS(e,n?.class,n?.className);const{variants:l,defaultVariants:o}=t,s=Object.keys(l).map(h=>{const m=n?.[h],p=o?.[h];if(m===null)return null;const x=hS(m)||hS(p);return l[h][x]}),f=n&&Object.entries(n).reduce((h,m)=>{let[p,x]=m;return x===void 0||(h[p]=x),h},{}),d=t==null||(r=t.compoundVariants)===null||r===void 0?void 0:r.reduce((h,m)=>{let{class:p,className:x,...w}=m;return Object.entries(w).every(E=>{let[A,j]=E;return Array.isArray(j)?j.includes({...o,...f}[A]):{...o,...f}[A]===j})?[...h,p,x]:h},[]);return mS(e,s,d,n?.class,n?.className)},y3=(e,t)=>{const n=new Array(e.length+t.length);for(let r=0;r<e.length;r++)n[r]=e[r];for(let r=0;r<t.length;r++)n[e.length+r]=t[r];return n},g3=(e,t)=>({classGroupId:e,validator:t}),nO=(e=new Map,t=null,n)=>({nextPart:e,validators:t,classGroupId:n}),cf="-",vS=[],b3="arbitrary..",x3=e=>{const t=S3(e),{conflictingClassGroups:n,conflictingClassGroupModifiers:r}=e;return{getClassGroupId:s=>{if(s.startsWith("[")&&s.endsWith("]"))return w3(s);const f=s.split(cf),d=f[0]===""&&f.length>1?1:0;return rO(f,d,t)},getConflictingClassGroupIds:(s,f)=>{if(f){const d=r[s],h=n[s];return d?h?y3(h,d):d:h||vS}return n[s]||vS}}},rO=(e,t,n)=>{if(e.length-t===0)return n.classGroupId;const l=e[t],o=n.nextPart.get(l);if(o){const h=rO(e,t+1,o);if(h)return h}const s=n.validators;if(s===null)return;const f=t===0?e.join(cf):e.slice(t).join(cf),d=s.length;for(let h=0;h<d;h++){const m=s[h];if(m.validator(f))return m.classGroupId}},w3=e=>e.slice(1,-1).indexOf(":")===-1?void 0:(()=>{const t=e.slice(1,-1),n=t.indexOf(":"),r=t.slice(0,n);return r?b3+r:void 0})(),S3=e=>{const{theme:t,classGroups:n}=e;return j3(n,t)},j3=(e,t)=>{const n=nO();for(const r in e){const l=e[r];og(l,n,r,t)}return n},og=(e,t,n,r)=>{const l=e.length;for(let o=0;o<l;o++){const s=e[o];E3(s,t,n,r)}},E3=(e,t,n,r)=>{if(typeof e=="string"){A3(e,t,n);return}if(typeof e=="function"){O3(e,t,n,r);return}N3(e,t,n,r)},A3=(e,t,n)=>{const r=e===""?t:aO(t,e);r.classGroupId=n},O3=(e,t,n,r)=>{if(C3(e)){og(e(r),t,n,r);return}t.validators===null&&(t.validators=[]),t.validators.push(g3(n,e))},N3=(e,t,n,r)=>{const l=Object.entries(e),o=l.length;for(let s=0;s<o;s++){const[f,d]=l[s];og(d,aO(t,f),n,r)}},aO=(e,t)=>{let n=e;const r=t.split(cf),l=r.length;for(let o=0;o<l;o++){const s=r[o];let f=n.nextPart.get(s);f||(f=nO(),n.nextPart.set(s,f)),n=f}return n},C3=e=>"isThemeGetter"in e&&e.isThemeGetter===!0,_3=e=>{if(e<1)return{get:()=>{},set:()=>{}};let t=0,n=Object.create(null),r=Object.create(null);const l=(o,s)=>{n[o]=s,t++,t>e&&(t=0,r=n,n=Object.create(null))};return{get(o){let s=n[o];if(s!==void 0)return s;if((s=r[o])!==void 0)return l(o,s),s},set(o,s){o in n?n[o]=s:l(o,s)}}},ty="!",pS=":",T3=[],yS=(e,t,n,r,l)=>({modifiers:e,hasImportantModifier:t,baseClassName:n,maybePostfixModifierPosition:r,isExternal:l}),M3=e=>{const{prefix:t,experimentalParseClassName:n}=e;let r=l=>{const o=[];let s=0,f=0,d=0,h;const m=l.length;for(let A=0;A<m;A++){const j=l[A];if(s===0&&f===0){if(j===pS){o.push(l.slice(d,A)),d=A+1;continue}if(j==="/"){h=A;continue}}j==="["?s++:j==="]"?s--:j==="("?f++:j===")"&&f--}const p=o.length===0?l:l.slice(d);let x=p,w=!1;p.endsWith(ty)?(x=p.slice(0,-1),w=!0):p.startsWith(ty)&&(x=p.slice(1),w=!0);const E=h&&h>d?h-d:void 0;return yS(o,w,x,E)};if(t){const l=t+pS,o=r;r=s=>s.startsWith(l)?o(s.slice(l.length)):yS(T3,!1,s,void 0,!0)}if(n){const l=r;r=o=>n({className:o,parseClassName:l})}return r},D3=e=>{const t=new Map;return e.orderSensitiveModifiers.forEach((n,r)=>{t.set(n,1e6+r)}),n=>{const r=[];let l=[];for(let o=0;o<n.length;o++){const s=n[o],f=s[0]==="[",d=t.has(s);f||d?(l.length>0&&(l.sort(),r.push(...l),l=[]),r.push(s)):l.push(s)}return l.length>0&&(l.sort(),r.push(...l)),r}},k3=e=>({cache:_3(e.cacheSize),parseClassName:M3(e),sortModifiers:D3(e),...x3(e)}),R3=/\s+/,P3=(e,t)=>{const{parseClassName:n,getClassGroupId:r,getConflictingClassGroupIds:l,sortModifiers:o}=t,s=[],f=e.trim().split(R3);let d="";for(let h=f.length-1;h>=0;h-=1){const m=f[h],{isExternal:p,modifiers:x,hasImportantModifier:w,baseClassName:E,maybePostfixModifierPosition:A}=n(m);if(p){d=m+(d.length>0?" "+d:d);continue}let j=!!A,O=r(j?E.substring(0,A):E);if(!O){if(!j){d=m+(d.length>0?" "+d:d);continue}if(O=r(E),!O){d=m+(d.length>0?" "+d:d);continue}j=!1}const _=x.length===0?"":x.length===1?x[0]:o(x).join(":"),C=w?_+ty:_,D=C+O;if(s.indexOf(D)>-1)continue;s.push(D);const T=l(O,j);for(let P=0;P<T.length;++P){const k=T[P];s.push(C+k)}d=m+(d.length>0?" "+d:d)}return d},z3=(...e)=>{let t=0,n,r,l="";for(;t<e.length;)(n=e[t++])&&(r=iO(n))&&(l&&(l+=" "),l+=r);return l},iO=e=>{if(typeof e=="string")return e;let t,n="";for(let r=0;r<e.length;r++)e[r]&&(t=iO(e[r]))&&(n&&(n+=" "),n+=t);return n},L3=(e,...t)=>{let n,r,l,o;const s=d=>{const h=t.reduce((m,p)=>p(m),e());return n=k3(h),r=n.cache.get,l=n.cache.set,o=f,f(d)},f=d=>{const h=r(d);if(h)return h;const m=P3(d,n);return l(d,m),m};return o=s,(...d)=>o(z3(...d))},B3=[],St=e=>{const t=n=>n[e]||B3;return t.isThemeGetter=!0,t},lO=/^\[(?:(\w[\w-]*):)?(.+)\]$/i,oO=/^\((?:(\w[\w-]*):)?(.+)\)$/i,U3=/^\d+\/\d+$/,I3=/^(\d+(\.\d+)?)?(xs|sm|md|lg|xl)$/,q3=/\d+(%|px|r?em|[sdl]?v([hwib]|min|max)|pt|pc|in|cm|mm|cap|ch|ex|r?lh|cq(w|h|i|b|min|max))|\b(calc|min|max|clamp)\(.+\)|^0$/,H3=/^(rgba?|hsla?|hwb|(ok)?(lab|lch)|color-mix)\(.+\)$/,$3=/^(inset_)?-?((\d+)?\.?(\d+)[a-z]+|0)_-?((\d+)?\.?(\d+)[a-z]+|0)/,K3=/^(url|image|image-set|cross-fade|element|(repeating-)?(linear|radial|conic)-gradient)\(.+\)$/,Nl=e=>U3.test(e),Ne=e=>!!e&&!Number.isNaN(Number(e)),$a=e=>!!e&&Number.isInteger(Number(e)),hv=e=>e.endsWith("%")&&Ne(e.slice(0,-1)),Gr=e=>I3.test(e),Y3=()=>!0,G3=e=>q3.test(e)&&!H3.test(e),uO=()=>!1,V3=e=>$3.test(e),X3=e=>K3.test(e),F3=e=>!se(e)&&!ce(e),W3=e=>Jl(e,fO,uO),se=e=>lO.test(e),bi=e=>Jl(e,dO,G3),mv=e=>Jl(e,t4,Ne),gS=e=>Jl(e,sO,uO),Z3=e=>Jl(e,cO,X3),Cc=e=>Jl(e,hO,V3),ce=e=>oO.test(e),cu=e=>eo(e,dO),Q3=e=>eo(e,n4),bS=e=>eo(e,sO),J3=e=>eo(e,fO),e4=e=>eo(e,cO),_c=e=>eo(e,hO,!0),Jl=(e,t,n)=>{const r=lO.exec(e);return r?r[1]?t(r[1]):n(r[2]):!1},eo=(e,t,n=!1)=>{const r=oO.exec(e);return r?r[1]?t(r[1]):n:!1},sO=e=>e==="position"||e==="percentage",cO=e=>e==="image"||e==="url",fO=e=>e==="length"||e==="size"||e==="bg-size",dO=e=>e==="length",t4=e=>e==="number",n4=e=>e==="family-name",hO=e=>e==="shadow",r4=()=>{const e=St("color"),t=St("font"),n=St("text"),r=St("font-weight"),l=St("tracking"),o=St("leading"),s=St("breakpoint"),f=St("container"),d=St("spacing"),h=St("radius"),m=St("shadow"),p=St("inset-shadow"),x=St("text-shadow"),w=St("drop-shadow"),E=St("blur"),A=St("perspective"),j=St("aspect"),O=St("ease"),_=St("animate"),C=()=>["auto","avoid","all","avoid-page","page","left","right","column"],D=()=>["center","top","bottom","left","right","top-left","left-top","top-right","right-top","bottom-right","right-bottom","bottom-left","left-bottom"],T=()=>[...D(),ce,se],P=()=>["auto","hidden","clip","visible","scroll"],k=()=>["auto","contain","none"],I=()=>[ce,se,d],re=()=>[Nl,"full","auto",...I()],ae=()=>[$a,"none","subgrid",ce,se],W=()=>["auto",{span:["full",$a,ce,se]},$a,ce,se],J=()=>[$a,"auto",ce,se],pe=()=>["auto","min","max","fr",ce,se],ge=()=>["start","end","center","between","around","evenly","stretch","baseline","center-safe","end-safe"],xe=()=>["start","end","center","stretch","center-safe","end-safe"],q=()=>["auto",...I()],Q=()=>[Nl,"auto","full","dvw","dvh","lvw","lvh","svw","svh","min","max","fit",...I()],X=()=>[e,ce,se],le=()=>[...D(),bS,gS,{position:[ce,se]}],Ee=()=>["no-repeat",{repeat:["","x","y","space","round"]}],R=()=>["auto","cover","contain",J3,W3,{size:[ce,se]}],Y=()=>[hv,cu,bi],ee=()=>["","none","full",h,ce,se],ne=()=>["",Ne,cu,bi],he=()=>["solid","dashed","dotted","double"],we=()=>["normal","multiply","screen","overlay","darken","lighten","color-dodge","color-burn","hard-light","soft-light","difference","exclusion","hue","saturation","color","luminosity"],ue=()=>[Ne,hv,bS,gS],lt=()=>["","none",E,ce,se],V=()=>["none",Ne,ce,se],be=()=>["none",Ne,ce,se],Ae=()=>[Ne,ce,se],te=()=>[Nl,"full",...I()];return{cacheSize:500,theme:{animate:["spin","ping","pulse","bounce"],aspect:["video"],blur:[Gr],breakpoint:[Gr],color:[Y3],container:[Gr],"drop-shadow":[Gr],ease:["in","out","in-out"],font:[F3],"font-weight":["thin","extralight","light","normal","medium","semibold","bold","extrabold","black"],"inset-shadow":[Gr],leading:["none","tight","snug","normal","relaxed","loose"],perspective:["dramatic","near","normal","midrange","distant","none"],radius:[Gr],shadow:[Gr],spacing:["px",Ne],text:[Gr],"text-shadow":[Gr],tracking:["tighter","tight","normal","wide","wider","widest"]},classGroups:{aspect:[{aspect:["auto","square",Nl,se,ce,j]}],container:["container"],columns:[{columns:[Ne,se,ce,f]}],"break-after":[{"break-after":C()}],"break-before":[{"break-before":C()}],"break-inside":[{"break-inside":["auto","avoid","avoid-page","avoid-column"]}],"box-decoration":[{"box-decoration":["slice","clone"]}],box:[{box:["border","content"]}],display:["block","inline-block","inline","flex","inline-flex","table","inline-table","table-caption","table-cell","table-column","table-column-group","table-footer-group","table-header-group","table-row-group","table-row","flow-root","grid","inline-grid","contents","list-item","hidden"],sr:["sr-only","not-sr-only"],float:[{float:["right","left","none","start","end"]}],clear:[{clear:["left","right","both","none","start","end"]}],isolation:["isolate","isolation-auto"],"object-fit":[{object:["contain","cover","fill","none","scale-down"]}],"object-position":[{object:T()}],overflow:[{overflow:P()}],"overflow-x":[{"overflow-x":P()}],"overflow-y":[{"overflow-y":P()}],overscroll:[{overscroll:k()}],"overscroll-x":[{"overscroll-x":k()}],"overscroll-y":[{"overscroll-y":k()}],position:["static","fixed","absolute","relative","sticky"],inset:[{inset:re()}],"inset-x":[{"inset-x":re()}],"inset-y":[{"inset-y":re()}],start:[{start:re()}],end:[{end:re()}],top:[{top:re()}],right:[{right:re()}],bottom:[{bottom:re()}],left:[{left:re()}],visibility:["visible","invisible","collapse"],z:[{z:[$a,"auto",ce,se]}],basis:[{basis:[Nl,"full","auto",f,...I()]}],"flex-direction":[{flex:["row","row-reverse","col","col-reverse"]}],"flex-wrap":[{flex:["nowrap","wrap","wrap-reverse"]}],flex:[{flex:[Ne,Nl,"auto","initial","none",se]}],grow:[{grow:["",Ne,ce,se]}],shrink:[{shrink:["",Ne,ce,se]}],order:[{order:[$a,"first","last","none",ce,se]}],"grid-cols":[{"grid-cols":ae()}],"col-start-end":[{col:W()}],"col-start":[{"col-start":J()}],"col-end":[{"col-end":J()}],"grid-rows":[{"grid-rows":ae()}],"row-start-end":[{row:W()}],"row-start":[{"row-start":J()}],"row-end":[{"row-end":J()}],"grid-flow":[{"grid-flow":["row","col","dense","row-dense","col-dense"]}],"auto-cols":[{"auto-cols":pe()}],"auto-rows":[{"auto-rows":pe()}],gap:[{gap:I()}],"gap-x":[{"gap-x":I()}],"gap-y":[{"gap-y":I()}],"justify-content":[{justify:[...ge(),"normal"]}],"justify-items":[{"justify-items":[...xe(),"normal"]}],"justify-self":[{"justify-self":["auto",...xe()]}],"align-content":[{content:["normal",...ge()]}],"align-items":[{items:[...xe(),{baseline:["","last"]}]}],"align-self":[{self:["auto",...xe(),{baseline:["","last"]}]}],"place-content":[{"place-content":ge()}],"place-items":[{"place-items":[...xe(),"baseline"]}],"place-self":[{"place-self":["auto",...xe()]}],p:[{p:I()}],px:[{px:I()}],py:[{py:I()}],ps:[{ps:I()}],pe:[{pe:I()}],pt:[{pt:I()}],pr:[{pr:I()}],pb:[{pb:I()}],pl:[{pl:I()}],m:[{m:q()}],mx:[{mx:q()}],my:[{my:q()}],ms:[{ms:q()}],me:[{me:q()}],mt:[{mt:q()}],mr:[{mr:q()}],mb:[{mb:q()}],ml:[{ml:q()}],"space-x":[{"space-x":I()}],"space-x-reverse":["space-x-reverse"],"space-y":[{"space-y":I()}],"space-y-reverse":["space-y-reverse"],size:[{size:Q()}],w:[{w:[f,"screen",...Q()]}],"min-w":[{"min-w":[f,"screen","none",...Q()]}],"max-w":[{"max-w":[f,"screen","none","prose",{screen:[s]},...Q()]}],h:[{h:["screen","lh",...Q()]}],"min-h":[{"min-h":["screen","lh","none",...Q()]}],"max-h":[{"max-h":["screen","lh",...Q()]}],"font-size":[{text:["base",n,cu,bi]}],"font-smoothing":["antialiased","subpixel-antialiased"],"font-style":["italic","not-italic"],"font-weight":[{font:[r,ce,mv]}],"font-stretch":[{"font-stretch":["ultra-condensed","extra-condensed","condensed","semi-condensed","normal","semi-expanded","expanded","extra-expanded","ultra-expanded",hv,se]}],"font-family":[{font:[Q3,se,t]}],"fvn-normal":["normal-nums"],"fvn-ordinal":["ordinal"],"fvn-slashed-zero":["slashed-zero"],"fvn-figure":["lining-nums","oldstyle-nums"],"fvn-spacing":["proportional-nums","tabular-nums"],"fvn-fraction":["diagonal-fractions","stacked-fractions"],tracking:[{tracking:[l,ce,se]}],"line-clamp":[{"line-clamp":[Ne,"none",ce,mv]}],leading:[{leading:[o,...I()]}],"list-image":[{"list-image":["none",ce,se]}],"list-style-position":[{list:["inside","outside"]}],"list-style-type":[{list:["disc","decimal","none",ce,se]}],"text-alignment":[{text:["left","center","right","justify","start","end"]}],"placeholder-color":[{placeholder:X()}],"text-color":[{text:X()}],"text-decoration":["underline","overline","line-through","no-underline"],"text-decoration-style":[{decoration:[...he(),"wavy"]}],"text-decoration-thickness":[{decoration:[Ne,"from-font","auto",ce,bi]}],"text-decoration-color":[{decoration:X()}],"underline-offset":[{"underline-offset":[Ne,"auto",ce,se]}],"text-transform":["uppercase","lowercase","capitalize","normal-case"],"text-overflow":["truncate","text-ellipsis","text-clip"],"text-wrap":[{text:["wrap","nowrap","balance","pretty"]}],indent:[{indent:I()}],"vertical-align":[{align:["baseline","top","middle","bottom","text-top","text-bottom","sub","super",ce,se]}],whitespace:[{whitespace:["normal","nowrap","pre","pre-line","pre-wrap","break-spaces"]}],break:[{break:["normal","words","all","keep"]}],wrap:[{wrap:["break-word","anywhere","normal"]}],hyphens:[{hyphens:["none","manual","auto"]}],content:[{content:["none",ce,se]}],"bg-attachment":[{bg:["fixed","local","scroll"]}],"bg-clip":[{"bg-clip":["border","padding","content","text"]}],"bg-origin":[{"bg-origin":["border","padding","content"]}],"bg-position":[{bg:le()}],"bg-repeat":[{bg:Ee()}],"bg-size":[{bg:R()}],"bg-image":[{bg:["none",{linear:[{to:["t","tr","r","br","b","bl","l","tl"]},$a,ce,se],radial:["",ce,se],conic:[$a,ce,se]},e4,Z3]}],"bg-color":[{bg:X()}],"gradient-from-pos":[{from:Y()}],"gradient-via-pos":[{via:Y()}],"gradient-to-pos":[{to:Y()}],"gradient-from":[{from:X()}],"gradient-via":[{via:X()}],"gradient-to":[{to:X()}],rounded:[{rounded:ee()}],"rounded-s":[{"rounded-s":ee()}],"rounded-e":[{"rounded-e":ee()}],"rounded-t":[{"rounded-t":ee()}],"rounded-r":[{"rounded-r":ee()}],"rounded-b":[{"rounded-b":ee()}],"rounded-l":[{"rounded-l":ee()}],"rounded-ss":[{"rounded-ss":ee()}],"rounded-se":[{"rounded-se":ee()}],"rounded-ee":[{"rounded-ee":ee()}],"rounded-es":[{"rounded-es":ee()}],"rounded-tl":[{"rounded-tl":ee()}],"rounded-tr":[{"rounded-tr":ee()}],"rounded-br":[{"rounded-br":ee()}],"rounded-bl":[{"rounded-bl":ee()}],"border-w":[{border:ne()}],"border-w-x":[{"border-x":ne()}],"border-w-y":[{"border-y":ne()}],"border-w-s":[{"border-s":ne()}],"border-w-e":[{"border-e":ne()}],"border-w-t":[{"border-t":ne()}],"border-w-r":[{"border-r":ne()}],"border-w-b":[{"border-b":ne()}],"border-w-l":[{"border-l":ne()}],"divide-x":[{"divide-x":ne()}],"divide-x-reverse":["divide-x-reverse"],"divide-y":[{"divide-y":ne()}],"divide-y-reverse":["divide-y-reverse"],"border-style":[{border:[...he(),"hidden","none"]}],"divide-style":[{divide:[...he(),"hidden","none"]}],"border-color":[{border:X()}],"border-color-x":[{"border-x":X()}],"border-color-y":[{"border-y":X()}],"border-color-s":[{"border-s":X()}],"border-color-e":[{"border-e":X()}],"border-color-t":[{"border-t":X()}],"border-color-r":[{"border-r":X()}],"border-color-b":[{"border-b":X()}],"border-color-l":[{"border-l":X()}],"divide-color":[{divide:X()}],"outline-style":[{outline:[...he(),"none","hidden"]}],"outline-offset":[{"outline-offset":[Ne,ce,se]}],"outline-w":[{outline:["",Ne,cu,bi]}],"outline-color":[{outline:X()}],shadow:[{shadow:["","none",m,_c,Cc]}],"shadow-color":[{shadow:X()}],"inset-shadow":[{"inset-shadow":["none",p,_c,Cc]}],"inset-shadow-color":[{"inset-shadow":X()}],"ring-w":[{ring:ne()}],"ring-w-inset":["ring-inset"],"ring-color":[{ring:X()}],"ring-offset-w":[{"ring-offset":[Ne,bi]}],"ring-offset-color":[{"ring-offset":X()}],"inset-ring-w":[{"inset-ring":ne()}],"inset-ring-color":[{"inset-ring":X()}],"text-shadow":[{"text-shadow":["none",x,_c,Cc]}],"text-shadow-color":[{"text-shadow":X()}],opacity:[{opacity:[Ne,ce,se]}],"mix-blend":[{"mix-blend":[...we(),"plus-darker","plus-lighter"]}],"bg-blend":[{"bg-blend":we()}],"mask-clip":[{"mask-clip":["border","padding","content","fill","stroke","view"]},"mask-no-clip"],"mask-composite":[{mask:["add","subtract","intersect","exclude"]}],"mask-image-linear-pos":[{"mask-linear":[Ne]}],"mask-image-linear-from-pos":[{"mask-linear-from":ue()}],"mask-image-linear-to-pos":[{"mask-linear-to":ue()}],"mask-image-linear-from-color":[{"mask-linear-from":X()}],"mask-image-linear-to-color":[{"mask-linear-to":X()}],"mask-image-t-from-pos":[{"mask-t-from":ue()}],"mask-image-t-to-pos":[{"mask-t-to":ue()}],"mask-image-t-from-color":[{"mask-t-from":X()}],"mask-image-t-to-color":[{"mask-t-to":X()}],"mask-image-r-from-pos":[{"mask-r-from":ue()}],"mask-image-r-to-pos":[{"mask-r-to":ue()}],"mask-image-r-from-color":[{"mask-r-from":X()}],"mask-image-r-to-color":[{"mask-r-to":X()}],"mask-image-b-from-pos":[{"mask-b-from":ue()}],"mask-image-b-to-pos":[{"mask-b-to":ue()}],"mask-image-b-from-color":[{"mask-b-from":X()}],"mask-image-b-to-color":[{"mask-b-to":X()}],"mask-image-l-from-pos":[{"mask-l-from":ue()}],"mask-image-l-to-pos":[{"mask-l-to":ue()}],"mask-image-l-from-color":[{"mask-l-from":X()}],"mask-image-l-to-color":[{"mask-l-to":X()}],"mask-image-x-from-pos":[{"mask-x-from":ue()}],"mask-image-x-to-pos":[{"mask-x-to":ue()}],"mask-image-x-from-color":[{"mask-x-from":X()}],"mask-image-x-to-color":[{"mask-x-to":X()}],"mask-image-y-from-pos":[{"mask-y-from":ue()}],"mask-image-y-to-pos":[{"mask-y-to":ue()}],"mask-image-y-from-color":[{"mask-y-from":X()}],"mask-image-y-to-color":[{"mask-y-to":X()}],"mask-image-radial":[{"mask-radial":[ce,se]}],"mask-image-radial-from-pos":[{"mask-radial-from":ue()}],"mask-image-radial-to-pos":[{"mask-radial-to":ue()}],"mask-image-radial-from-color":[{"mask-radial-from":X()}],"mask-image-radial-to-color":[{"mask-radial-to":X()}],"mask-image-radial-shape":[{"mask-radial":["circle","ellipse"]}],"mask-image-radial-size":[{"mask-radial":[{closest:["side","corner"],farthest:["side","corner"]}]}],"mask-image-radial-pos":[{"mask-radial-at":D()}],"mask-image-conic-pos":[{"mask-conic":[Ne]}],"mask-image-conic-from-pos":[{"mask-conic-from":ue()}],"mask-image-conic-to-pos":[{"mask-conic-to":ue()}],"mask-image-conic-from-color":[{"mask-conic-from":X()}],"mask-image-conic-to-color":[{"mask-conic-to":X()}],"mask-mode":[{mask:["alpha","luminance","match"]}],"mask-origin":[{"mask-origin":["border","padding","content","fill","stroke","view"]}],"mask-position":[{mask:le()}],"mask-repeat":[{mask:Ee()}],"mask-size":[{mask:R()}],"mask-type":[{"mask-type":["alpha","luminance"]}],"mask-image":[{mask:["none",ce,se]}],filter:[{filter:["","none",ce,se]}],blur:[{blur:lt()}],brightness:[{brightness:[Ne,ce,se]}],contrast:[{contrast:[Ne,ce,se]}],"drop-shadow":[{"drop-shadow":["","none",w,_c,Cc]}],"drop-shadow-color":[{"drop-shadow":X()}],grayscale:[{grayscale:["",Ne,ce,se]}],"hue-rotate":[{"hue-rotate":[Ne,ce,se]}],invert:[{invert:["",Ne,ce,se]}],saturate:[{saturate:[Ne,ce,se]}],sepia:[{sepia:["",Ne,ce,se]}],"backdrop-filter":[{"backdrop-filter":["","none",ce,se]}],"backdrop-blur":[{"backdrop-blur":lt()}],"backdrop-brightness":[{"backdrop-brightness":[Ne,ce,se]}],"backdrop-contrast":[{"backdrop-contrast":[Ne,ce,se]}],"backdrop-grayscale":[{"backdrop-grayscale":["",Ne,ce,se]}],"backdrop-hue-rotate":[{"backdrop-hue-rotate":[Ne,ce,se]}],"backdrop-invert":[{"backdrop-invert":["",Ne,ce,se]}],"backdrop-opacity":[{"backdrop-opacity":[Ne,ce,se]}],"backdrop-saturate":[{"backdrop-saturate":[Ne,ce,se]}],"backdrop-sepia":[{"backdrop-sepia":["",Ne,ce,se]}],"border-collapse":[{border:["collapse","separate"]}],"border-spacing":[{"border-spacing":I()}],"border-spacing-x":[{"border-spacing-x":I()}],"border-spacing-y":[{"border-spacing-y":I()}],"table-layout":[{table:["auto","fixed"]}],caption:[{caption:["top","bottom"]}],transition:[{transition:["","all","colors","opacity","shadow","transform","none",ce,se]}],"transition-behavior":[{transition:["normal","discrete"]}],duration:[{duration:[Ne,"initial",ce,se]}],ease:[{ease:["linear","initial",O,ce,se]}],delay:[{delay:[Ne,ce,se]}],animate:[{animate:["none",_,ce,se]}],backface:[{backface:["hidden","visible"]}],perspective:[{perspective:[A,ce,se]}],"perspective-origin":[{"perspective-origin":T()}],rotate:[{rotate:V()}],"rotate-x":[{"rotate-x":V()}],"rotate-y":[{"rotate-y":V()}],"rotate-z":[{"rotate-z":V()}],scale:[{scale:be()}],"scale-x":[{"scale-x":be()}],"scale-y":[{"scale-y":be()}],"scale-z":[{"scale-z":be()}],"scale-3d":["scale-3d"],skew:[{skew:Ae()}],"skew-x":[{"skew-x":Ae()}],"skew-y":[{"skew-y":Ae()}],transform:[{transform:[ce,se,"","none","gpu","cpu"]}],"transform-origin":[{origin:T()}],"transform-style":[{transform:["3d","flat"]}],translate:[{translate:te()}],"translate-x":[{"translate-x":te()}],"translate-y":[{"translate-y":te()}],"translate-z":[{"translate-z":te()}],"translate-none":["translate-none"],accent:[{accent:X()}],appearance:[{appearance:["none","auto"]}],"caret-color":[{caret:X()}],"color-scheme":[{scheme:["normal","dark","light","light-dark","only-dark","only-light"]}],cursor:[{cursor:["auto","default","pointer","wait","text","move","help","not-allowed","none","context-menu","progress","cell","crosshair","vertical-text","alias","copy","no-drop","grab","grabbing","all-scroll","col-resize","row-resize","n-resize","e-resize","s-resize","w-resize","ne-resize","nw-resize","se-resize","sw-resize","ew-resize","ns-resize","nesw-resize","nwse-resize","zoom-in","zoom-out",ce,se]}],"field-sizing":[{"field-sizing":["fixed","content"]}],"pointer-events":[{"pointer-events":["auto","none"]}],resize:[{resize:["none","","y","x"]}],"scroll-behavior":[{scroll:["auto","smooth"]}],"scroll-m":[{"scroll-m":I()}],"scroll-mx":[{"scroll-mx":I()}],"scroll-my":[{"scroll-my":I()}],"scroll-ms":[{"scroll-ms":I()}],"scroll-me":[{"scroll-me":I()}],"scroll-mt":[{"scroll-mt":I()}],"scroll-mr":[{"scroll-mr":I()}],"scroll-mb":[{"scroll-mb":I()}],"scroll-ml":[{"scroll-ml":I()}],"scroll-p":[{"scroll-p":I()}],"scroll-px":[{"scroll-px":I()}],"scroll-py":[{"scroll-py":I()}],"scroll-ps":[{"scroll-ps":I()}],"scroll-pe":[{"scroll-pe":I()}],"scroll-pt":[{"scroll-pt":I()}],"scroll-pr":[{"scroll-pr":I()}],"scroll-pb":[{"scroll-pb":I()}],"scroll-pl":[{"scroll-pl":I()}],"snap-align":[{snap:["start","end","center","align-none"]}],"snap-stop":[{snap:["normal","always"]}],"snap-type":[{snap:["none","x","y","both"]}],"snap-strictness":[{snap:["mandatory","proximity"]}],touch:[{touch:["auto","none","manipulation"]}],"touch-x":[{"touch-pan":["x","left","right"]}],"touch-y":[{"touch-pan":["y","up","down"]}],"touch-pz":["touch-pinch-zoom"],select:[{select:["none","text","all","auto"]}],"will-change":[{"will-change":["auto","scroll","contents","transform",ce,se]}],fill:[{fill:["none",...X()]}],"stroke-w":[{stroke:[Ne,cu,bi,mv]}],stroke:[{stroke:["none",...X()]}],"forced-color-adjust":[{"forced-color-adjust":["auto","none"]}]},conflictingClassGroups:{overflow:["overflow-x","overflow-y"],overscroll:["overscroll-x","overscroll-y"],inset:["inset-x","inset-y","start","end","top","right","bottom","left"],"inset-x":["right","left"],"inset-y":["top","bottom"],flex:["basis","grow","shrink"],gap:["gap-x","gap-y"],p:["px","py","ps","pe","pt","pr","pb","pl"],px:["pr","pl"],py:["pt","pb"],m:["mx","my","ms","me","mt","mr","mb","ml"],mx:["mr","ml"],my:["mt","mb"],size:["w","h"],"font-size":["leading"],"fvn-normal":["fvn-ordinal","fvn-slashed-zero","fvn-figure","fvn-spacing","fvn-fraction"],"fvn-ordinal":["fvn-normal"],"fvn-slashed-zero":["fvn-normal"],"fvn-figure":["fvn-normal"],"fvn-spacing":["fvn-normal"],"fvn-fraction":["fvn-normal"],"line-clamp":["display","overflow"],rounded:["rounded-s","rounded-e","rounded-t","rounded-r","rounded-b","rounded-l","rounded-ss","rounded-se","rounded-ee","rounded-es","rounded-tl","rounded-tr","rounded-br","rounded-bl"],"rounded-s":["rounded-ss","rounded-es"],"rounded-e":["rounded-se","rounded-ee"],"rounded-t":["rounded-tl","rounded-tr"],"rounded-r":["rounded-tr","rounded-br"],"rounded-b":["rounded-br","rounded-bl"],"rounded-l":["rounded-tl","rounded-bl"],"border-spacing":["border-spacing-x","border-spacing-y"],"border-w":["border-w-x","border-w-y","border-w-s","border-w-e","border-w-t","border-w-r","border-w-b","border-w-l"],"border-w-x":["border-w-r","border-w-l"],"border-w-y":["border-w-t","border-w-b"],"border-color":["border-color-x","border-color-y","border-color-s","border-color-e","border-color-t","border-color-r","border-color-b","border-color-l"],"border-color-x":["border-color-r","border-color-l"],"border-color-y":["border-color-t","border-color-b"],translate:["translate-x","translate-y","translate-none"],"translate-none":["translate","translate-x","translate-y","translate-z"],"scroll-m":["scroll-mx","scroll-my","scroll-ms","scroll-me","scroll-mt","scroll-mr","scroll-mb","scroll-ml"],"scroll-mx":["scroll-mr","scroll-ml"],"scroll-my":["scroll-mt","scroll-mb"],"scroll-p":["scroll-px","scroll-py","scroll-ps","scroll-pe","scroll-pt","scroll-pr","scroll-pb","scroll-pl"],"scroll-px":["scroll-pr","scroll-pl"],"scroll-py":["scroll-pt","scroll-pb"],touch:["touch-x","touch-y","touch-pz"],"touch-x":["touch"],"touch-y":["touch"],"touch-pz":["touch"]},conflictingClassGroupModifiers:{"font-size":["leading"]},orderSensitiveModifiers:["*","**","after","backdrop","before","details-content","file","first-letter","first-line","marker","placeholder","selection"]}},a4=L3(r4);function Fe(...e){return a4(Xe(e))}const i4=tO("inline-flex items-center justify-center whitespace-nowrap rounded-md text-sm font-medium ring-offset-background transition-colors focus-visible:outline-none focus-visible:ring-2 focus-visible:ring-ring focus-visible:ring-offset-2 disabled:pointer-events-none disabled:opacity-50",{variants:{variant:{default:"bg-primary text-primary-foreground hover:bg-primary/90",destructive:"bg-destructive text-destructive-foreground hover:bg-destructive/90",outline:"border border-input bg-background hover:bg-accent hover:text-accent-foreground",secondary:"bg-secondary text-secondary-foreground hover:bg-secondary/80",ghost:"hover:bg-accent hover:text-accent-foreground",link:"text-primary underline-offset-4 hover:underline"},size:{default:"h-10 px-4 py-2",sm:"h-9 rounded-md px-3",lg:"h-11 rounded-md px-8",icon:"h-10 w-10"}},defaultVariants:{variant:"default",size:"default"}}),it=b.forwardRef(({className:e,variant:t,size:n,asChild:r=!1,...l},o)=>{const s=r?f3:"button";return y.jsx(s,{className:Fe(i4({variant:t,size:n,className:e})),ref:o,...l})});it.displayName="Button";const jt=b.forwardRef(({className:e,type:t,...n},r)=>y.jsx("input",{type:t,className:Fe("flex h-10 w-full rounded-md border border-input bg-background px-3 py-2 text-sm ring-offset-background file:border-0 file:bg-transparent file:text-sm file:font-medium placeholder:text-muted-foreground focus-visible:outline-none focus-visible:ring-2 focus-visible:ring-ring focus-visible:ring-offset-2 disabled:cursor-not-allowed disabled:opacity-50",e),ref:r,...n}));jt.displayName="Input";var l4=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],ug=l4.reduce((e,t)=>{const n=JA(`Primitive.${t}`),r=b.forwardRef((l,o)=>{const{asChild:s,...f}=l,d=s?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),y.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{}),o4="Label",mO=b.forwardRef((e,t)=>y.jsx(ug.label,{...e,ref:t,onMouseDown:n=>{n.target.closest("button, input, select, textarea")||(e.onMouseDown?.(n),!n.defaultPrevented&&n.detail>1&&n.preventDefault())}}));mO.displayName=o4;var vO=mO;const u4=tO("text-sm font-medium leading-none peer-disabled:cursor-not-allowed peer-disabled:opacity-70"),bt=b.forwardRef(({className:e,...t},n)=>y.jsx(vO,{ref:n,className:Fe(u4(),e),...t}));bt.displayName=vO.displayName;const At=b.forwardRef(({className:e,...t},n)=>y.jsx("div",{ref:n,className:Fe("rounded-lg border bg-card text-card-foreground shadow-sm",e),...t}));At.displayName="Card";const zt=b.forwardRef(({className:e,...t},n)=>y.jsx("div",{ref:n,className:Fe("flex flex-col space-y-1.5 p-6",e),...t}));zt.displayName="CardHeader";const Lt=b.forwardRef(({className:e,...t},n)=>y.jsx("h3",{ref:n,className:Fe("text-2xl font-semibold leading-none tracking-tight",e),...t}));Lt.displayName="CardTitle";const to=b.forwardRef(({className:e,...t},n)=>y.jsx("p",{ref:n,className:Fe("text-sm text-muted-foreground",e),...t}));to.displayName="CardDescription";const Ot=b.forwardRef(({className:e,...t},n)=>y.jsx("div",{ref:n,className:Fe("p-6 pt-0",e),...t}));Ot.displayName="CardContent";const pO=b.forwardRef(({className:e,...t},n)=>y.jsx("div",{ref:n,className:Fe("flex items-center p-6 pt-0",e),...t}));pO.displayName="CardFooter";const s4="/api";async function no(e,t={}){const n={headers:{"Content-Type":"application/json"}},r={...n,...t,headers:{...n.headers,...t.headers}};let l;try{l=await fetch(`${s4}${e}`,r)}catch{throw new Error("Network error")}if(!l.ok){let o="An error occurred";try{o=(await l.json()).message||o}catch{o=await l.text()}throw new Error(o)}if(l.status===204)return null;try{return await l.json()}catch{return null}}const xS=(e,t)=>no("/auth/login",{method:"POST",body:JSON.stringify({email:e,sifre:t})}),c4=e=>no("/auth/register",{method:"POST",body:JSON.stringify(e)}),yO=e=>no(`/accounts/summary/${e}`),gO=e=>no(`/transactions/history/${e}`),f4=e=>no("/transactions/transfer",{method:"POST",body:JSON.stringify(e)});const d4=e=>e.replace(/([a-z0-9])([A-Z])/g,"$1-$2").toLowerCase(),h4=e=>e.replace(/^([A-Z])|[\s-_]+(\w)/g,(t,n,r)=>r?r.toUpperCase():n.toLowerCase()),wS=e=>{const t=h4(e);return t.charAt(0).toUpperCase()+t.slice(1)},bO=(...e)=>e.filter((t,n,r)=>!!t&&t.trim()!==""&&r.indexOf(t)===n).join(" ").trim(),m4=e=>{for(const t in e)if(t.startsWith("aria-")||t==="role"||t==="title")return!0};var v4={xmlns:"http://www.w3.org/2000/svg",width:24,height:24,viewBox:"0 0 24 24",fill:"none",stroke:"currentColor",strokeWidth:2,strokeLinecap:"round",strokeLinejoin:"round"};const p4=b.forwardRef(({color:e="currentColor",size:t=24,strokeWidth:n=2,absoluteStrokeWidth:r,className:l="",children:o,iconNode:s,...f},d)=>b.createElement("svg",{ref:d,...v4,width:t,height:t,stroke:e,strokeWidth:r?Number(n)*24/Number(t):n,className:bO("lucide",l),...!o&&!m4(f)&&{"aria-hidden":"true"},...f},[...s.map(([h,m])=>b.createElement(h,m)),...Array.isArray(o)?o:[o]]));const He=(e,t)=>{const n=b.forwardRef(({className:r,...l},o)=>b.createElement(p4,{ref:o,iconNode:t,className:bO(`lucide-${d4(wS(e))}`,`lucide-${e}`,r),...l}));return n.displayName=wS(e),n};const y4=[["path",{d:"M22 12h-2.48a2 2 0 0 0-1.93 1.46l-2.35 8.36a.25.25 0 0 1-.48 0L9.24 2.18a.25.25 0 0 0-.48 0l-2.35 8.36A2 2 0 0 1 4.49 12H2",key:"169zse"}]],g4=He("activity",y4);const b4=[["path",{d:"m12 19-7-7 7-7",key:"1l729n"}],["path",{d:"M19 12H5",key:"x3x0zl"}]],sg=He("arrow-left",b4);const x4=[["rect",{width:"20",height:"12",x:"2",y:"6",rx:"2",key:"9lu3g6"}],["circle",{cx:"12",cy:"12",r:"2",key:"1c9p78"}],["path",{d:"M6 12h.01M18 12h.01",key:"113zkx"}]],xO=He("banknote",x4);const w4=[["path",{d:"M11.767 19.089c4.924.868 6.14-6.025 1.216-6.894m-1.216 6.894L5.86 18.047m5.908 1.042-.347 1.97m1.563-8.864c4.924.869 6.14-6.025 1.215-6.893m-1.215 6.893-3.94-.694m5.155-6.2L8.29 4.26m5.908 1.042.348-1.97M7.48 20.364l3.126-17.727",key:"yr8idg"}]],S4=He("bitcoin",w4);const j4=[["circle",{cx:"12",cy:"12",r:"10",key:"1mglay"}],["line",{x1:"12",x2:"12",y1:"8",y2:"12",key:"1pkeuh"}],["line",{x1:"12",x2:"12.01",y1:"16",y2:"16",key:"4dfq90"}]],E4=He("circle-alert",j4);const A4=[["path",{d:"M21.801 10A10 10 0 1 1 17 3.335",key:"yps3ct"}],["path",{d:"m9 11 3 3L22 4",key:"1pflzl"}]],O4=He("circle-check-big",A4);const N4=[["circle",{cx:"12",cy:"12",r:"10",key:"1mglay"}],["path",{d:"m15 9-6 6",key:"1uzhvr"}],["path",{d:"m9 9 6 6",key:"z0biqf"}]],C4=He("circle-x",N4);const _4=[["path",{d:"M12 20v2",key:"1lh1kg"}],["path",{d:"M12 2v2",key:"tus03m"}],["path",{d:"M17 20v2",key:"1rnc9c"}],["path",{d:"M17 2v2",key:"11trls"}],["path",{d:"M2 12h2",key:"1t8f8n"}],["path",{d:"M2 17h2",key:"7oei6x"}],["path",{d:"M2 7h2",key:"asdhe0"}],["path",{d:"M20 12h2",key:"1q8mjw"}],["path",{d:"M20 17h2",key:"1fpfkl"}],["path",{d:"M20 7h2",key:"1o8tra"}],["path",{d:"M7 20v2",key:"4gnj0m"}],["path",{d:"M7 2v2",key:"1i4yhu"}],["rect",{x:"4",y:"4",width:"16",height:"16",rx:"2",key:"1vbyd7"}],["rect",{x:"8",y:"8",width:"8",height:"8",rx:"1",key:"z9xiuo"}]],T4=He("cpu",_4);const M4=[["rect",{width:"20",height:"14",x:"2",y:"5",rx:"2",key:"ynyp8z"}],["line",{x1:"2",x2:"22",y1:"10",y2:"10",key:"1b3vmo"}]],wO=He("credit-card",M4);const D4=[["ellipse",{cx:"12",cy:"5",rx:"9",ry:"3",key:"msslwz"}],["path",{d:"M3 5V19A9 3 0 0 0 21 19V5",key:"1wlel7"}],["path",{d:"M3 12A9 3 0 0 0 21 12",key:"mv7ke4"}]],k4=He("database",D4);const R4=[["line",{x1:"12",x2:"12",y1:"2",y2:"22",key:"7eqyqh"}],["path",{d:"M17 5H9.5a3.5 3.5 0 0 0 0 7h5a3.5 3.5 0 0 1 0 7H6",key:"1b0p4s"}]],P4=He("dollar-sign",R4);const z4=[["line",{x1:"6",x2:"6",y1:"3",y2:"15",key:"17qcm7"}],["circle",{cx:"18",cy:"6",r:"3",key:"1h7g24"}],["circle",{cx:"6",cy:"18",r:"3",key:"fqmcym"}],["path",{d:"M18 9a9 9 0 0 1-9 9",key:"n2h4wq"}]],L4=He("git-branch",z4);const B4=[["path",{d:"M3 12a9 9 0 1 0 9-9 9.75 9.75 0 0 0-6.74 2.74L3 8",key:"1357e3"}],["path",{d:"M3 3v5h5",key:"1xhq8a"}],["path",{d:"M12 7v5l4 2",key:"1fdv2h"}]],U4=He("history",B4);const I4=[["rect",{width:"7",height:"9",x:"3",y:"3",rx:"1",key:"10lvy0"}],["rect",{width:"7",height:"5",x:"14",y:"3",rx:"1",key:"16une8"}],["rect",{width:"7",height:"9",x:"14",y:"12",rx:"1",key:"1hutg5"}],["rect",{width:"7",height:"5",x:"3",y:"16",rx:"1",key:"ldoo1y"}]],q4=He("layout-dashboard",I4);const H4=[["path",{d:"M21 12a9 9 0 1 1-6.219-8.56",key:"13zald"}]],cg=He("loader-circle",H4);const $4=[["rect",{width:"18",height:"11",x:"3",y:"11",rx:"2",ry:"2",key:"1w4ew1"}],["path",{d:"M7 11V7a5 5 0 0 1 10 0v4",key:"fwvmzm"}]],SO=He("lock",$4);const K4=[["path",{d:"m16 17 5-5-5-5",key:"1bji2h"}],["path",{d:"M21 12H9",key:"dn1m92"}],["path",{d:"M9 21H5a2 2 0 0 1-2-2V5a2 2 0 0 1 2-2h4",key:"1uf3rs"}]],Y4=He("log-out",K4);const G4=[["path",{d:"m22 7-8.991 5.727a2 2 0 0 1-2.009 0L2 7",key:"132q7q"}],["rect",{x:"2",y:"4",width:"20",height:"16",rx:"2",key:"izxlao"}]],V4=He("mail",G4);const X4=[["rect",{width:"18",height:"18",x:"3",y:"3",rx:"2",key:"afitv7"}],["path",{d:"M3 9h18",key:"1pudct"}],["path",{d:"M9 21V9",key:"1oto5p"}]],SS=He("panels-top-left",X4);const F4=[["path",{d:"M5 12h14",key:"1ays0h"}],["path",{d:"M12 5v14",key:"s699le"}]],W4=He("plus",F4);const Z4=[["rect",{width:"20",height:"8",x:"2",y:"2",rx:"2",ry:"2",key:"ngkwjq"}],["rect",{width:"20",height:"8",x:"2",y:"14",rx:"2",ry:"2",key:"iecqi9"}],["line",{x1:"6",x2:"6.01",y1:"6",y2:"6",key:"16zg32"}],["line",{x1:"6",x2:"6.01",y1:"18",y2:"18",key:"nzw8ys"}]],jS=He("server",Z4);const Q4=[["path",{d:"M9.671 4.136a2.34 2.34 0 0 1 4.659 0 2.34 2.34 0 0 0 3.319 1.915 2.34 2.34 0 0 1 2.33 4.033 2.34 2.34 0 0 0 0 3.831 2.34 2.34 0 0 1-2.33 4.033 2.34 2.34 0 0 0-3.319 1.915 2.34 2.34 0 0 1-4.659 0 2.34 2.34 0 0 0-3.32-1.915 2.34 2.34 0 0 1-2.33-4.033 2.34 2.34 0 0 0 0-3.831A2.34 2.34 0 0 1 6.35 6.051a2.34 2.34 0 0 0 3.319-1.915",key:"1i5ecw"}],["circle",{cx:"12",cy:"12",r:"3",key:"1v7zrd"}]],J4=He("settings",Q4);const ez=[["path",{d:"M20 13c0 5-3.5 7.5-7.66 8.95a1 1 0 0 1-.67-.01C7.5 20.5 4 18 4 13V6a1 1 0 0 1 1-1c2 0 4.5-1.2 6.24-2.72a1.17 1.17 0 0 1 1.52 0C14.51 3.81 17 5 19 5a1 1 0 0 1 1 1z",key:"oel41y"}]],fg=He("shield",ez);const tz=[["path",{d:"M16 17h6v-6",key:"t6n2it"}],["path",{d:"m22 17-8.5-8.5-5 5L2 7",key:"x473p"}]],ES=He("trending-down",tz);const nz=[["path",{d:"M16 7h6v6",key:"box55l"}],["path",{d:"m22 7-8.5 8.5-5-5L2 17",key:"1t1m79"}]],dg=He("trending-up",nz);const rz=[["path",{d:"M19 21v-2a4 4 0 0 0-4-4H9a4 4 0 0 0-4 4v2",key:"975kel"}],["circle",{cx:"12",cy:"7",r:"4",key:"17ys0d"}]],jO=He("user",rz);const az=[["path",{d:"M19 7V4a1 1 0 0 0-1-1H5a2 2 0 0 0 0 4h15a1 1 0 0 1 1 1v4h-3a2 2 0 0 0 0 4h3a1 1 0 0 0 1-1v-2a1 1 0 0 0-1-1",key:"18etb6"}],["path",{d:"M3 5v14a2 2 0 0 0 2 2h15a1 1 0 0 0 1-1v-4",key:"xoc0q4"}]],AS=He("wallet",az);const iz=[["path",{d:"M18 6 6 18",key:"1bl5f8"}],["path",{d:"m6 6 12 12",key:"d8bk6v"}]],lz=He("x",iz);const oz=[["path",{d:"M4 14a1 1 0 0 1-.78-1.63l9.9-10.2a.5.5 0 0 1 .86.46l-1.92 6.02A1 1 0 0 0 13 10h7a1 1 0 0 1 .78 1.63l-9.9 10.2a.5.5 0 0 1-.86-.46l1.92-6.02A1 1 0 0 0 11 14z",key:"1xq2db"}]],uz=He("zap",oz);function sz(){const[e,t]=b.useState(""),[n,r]=b.useState(""),[l,o]=b.useState(!1),[s,f]=b.useState(""),d=qu(),h=async p=>{p.preventDefault(),o(!0);try{const x=await xS(e,n);localStorage.setItem("dinoUser",JSON.stringify(x)),d("/dashboard")}catch(x){f(x.message)}finally{o(!1)}},m=async(p,x)=>{t(p),r(x),o(!0);try{const w=await xS(p,x);localStorage.setItem("dinoUser",JSON.stringify(w)),d("/dashboard")}catch(w){f("Demo login failed: "+w.message),o(!1)}};return y.jsxs("div",{className:"min-h-screen flex items-center justify-center p-4 relative overflow-hidden",children:[y.jsx("div",{className:"absolute top-[-10%] left-[-10%] w-[500px] h-[500px] bg-primary/20 rounded-full blur-[100px]"}),y.jsx("div",{className:"absolute bottom-[-10%] right-[-10%] w-[500px] h-[500px] bg-blue-500/10 rounded-full blur-[100px]"}),y.jsx("div",{className:"absolute top-6 left-6 z-50",children:y.jsx(kn,{to:"/",children:y.jsxs(it,{variant:"ghost",className:"text-slate-400 hover:text-white hover:bg-white/10 gap-2",children:[y.jsx(sg,{className:"h-4 w-4"})," Ana Sayfaya Dön"]})})}),y.jsxs(At,{className:"w-full max-w-md glass border-white/10 shadow-2xl relative z-10",children:[y.jsxs(zt,{className:"space-y-2 text-center pb-8",children:[y.jsx("div",{className:"mx-auto w-16 h-16 bg-primary/20 rounded-2xl flex items-center justify-center mb-4 border border-primary/20",children:y.jsx("span",{className:"text-3xl",children:"🦖"})}),y.jsx(Lt,{className:"text-3xl font-bold tracking-tight bg-gradient-to-r from-white to-white/60 bg-clip-text text-transparent",children:"DinoBank"}),y.jsx(to,{className:"text-slate-400 text-base",children:"Tarih öncesi güven, modern hız."})]}),y.jsx(Ot,{children:y.jsxs("form",{onSubmit:h,className:"space-y-5",children:[y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"email",className:"text-slate-300",children:"E-posta"}),y.jsxs("div",{className:"relative group",children:[y.jsx(V4,{className:"absolute left-3 top-3 h-4 w-4 text-slate-500 group-focus-within:text-primary transition-colors"}),y.jsx(jt,{id:"email",type:"email",placeholder:"m@ornek.com",className:"pl-10 bg-black/20 border-white/10 focus:border-primary/50 focus:ring-primary/20 h-11 transition-all",value:e,onChange:p=>t(p.target.value),required:!0})]})]}),y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"password",className:"text-slate-300",children:"Şifre"}),y.jsxs("div",{className:"relative group",children:[y.jsx(SO,{className:"absolute left-3 top-3 h-4 w-4 text-slate-500 group-focus-within:text-primary transition-colors"}),y.jsx(jt,{id:"password",type:"password",className:"pl-10 bg-black/20 border-white/10 focus:border-primary/50 focus:ring-primary/20 h-11 transition-all",value:n,onChange:p=>r(p.target.value),required:!0})]})]}),s&&y.jsx("p",{className:"text-sm text-red-400 font-medium bg-red-900/20 p-3 rounded-lg border border-red-900/50",children:s}),y.jsx(it,{type:"submit",className:"w-full h-11 bg-primary hover:bg-primary/90 text-black font-bold text-base shadow-lg shadow-primary/20 transition-all hover:scale-[1.02]",disabled:l,children:l?y.jsx(cg,{className:"mr-2 h-5 w-5 animate-spin"}):"Giriş Yap"}),y.jsxs("div",{className:"relative py-2",children:[y.jsx("div",{className:"absolute inset-0 flex items-center",children:y.jsx("span",{className:"w-full border-t border-white/10"})}),y.jsx("div",{className:"relative flex justify-center text-xs uppercase",children:y.jsx("span",{className:"bg-transparent px-2 text-slate-500 font-medium",children:"Hızlı Demo Girişi"})})]}),y.jsxs("div",{className:"grid grid-cols-3 gap-2",children:[y.jsx(it,{type:"button",variant:"outline",className:"h-10 border-white/10 bg-white/5 hover:bg-white/10 hover:text-white text-slate-300 text-xs",onClick:()=>m("osman@dino.com","123"),children:"🦖 Osman"}),y.jsx(it,{type:"button",variant:"outline",className:"h-10 border-white/10 bg-white/5 hover:bg-white/10 hover:text-white text-slate-300 text-xs",onClick:()=>m("kursat@dino.com","123"),children:"🦕 Kürşat"}),y.jsx(it,{type:"button",variant:"outline",className:"h-10 border-white/10 bg-white/5 hover:bg-white/10 hover:text-white text-slate-300 text-xs",onClick:()=>m("ilkmert@dino.com","123"),children:"🥚 İlkmert"})]})]})}),y.jsx(pO,{className:"flex justify-center pb-8",children:y.jsxs("p",{className:"text-sm text-slate-500",children:["Hesabınız yok mu?"," ",y.jsx(kn,{to:"/register",className:"text-primary hover:text-primary/80 font-semibold transition-colors",children:"Kayıt Ol"})]})})]})]})}const cz="/assets/dino-skeleton-BEOsi9OW.png";function fz(){const[e,t]=b.useState({ad:"",soyad:"",email:"",tcKimlikNo:"",telefon:"",dogumTarihi:"",sifre:"",adres:""}),[n,r]=b.useState(!1),[l,o]=b.useState(""),s=qu(),f=h=>{t({...e,[h.target.id]:h.target.value})},d=async h=>{h.preventDefault(),r(!0),o("");try{await c4(e),localStorage.removeItem("token"),localStorage.removeItem("dinoUser"),s("/login")}catch(m){o(m.message)}finally{r(!1)}};return y.jsxs("div",{className:"min-h-screen flex bg-slate-950 text-white relative overflow-hidden",children:[y.jsx("div",{className:"absolute top-6 left-6 z-50",children:y.jsx(kn,{to:"/",children:y.jsxs(it,{variant:"ghost",className:"text-white hover:bg-white/10 gap-2",children:[y.jsx(sg,{className:"h-4 w-4"})," Ana Sayfaya Dön"]})})}),y.jsxs("div",{className:"hidden lg:flex w-1/2 relative items-center justify-center bg-black/40 backdrop-blur-sm border-r border-white/5",children:[y.jsx("div",{className:"absolute inset-0 bg-gradient-to-br from-primary/20 via-transparent to-purple-500/20 opacity-50"}),y.jsxs("div",{className:"relative z-10 p-12 text-center",children:[y.jsx("img",{src:cz,alt:"Dino Skeleton",className:"w-full max-w-lg mx-auto opacity-80 drop-shadow-[0_0_50px_rgba(255,255,255,0.2)] animate-pulse-slow"}),y.jsxs("h2",{className:"mt-8 text-4xl font-black tracking-tighter bg-gradient-to-r from-primary to-emerald-400 bg-clip-text text-transparent",children:["Jurassic Çağında",y.jsx("br",{}),"Modern Bankacılık"]}),y.jsx("p",{className:"mt-4 text-slate-400 max-w-md mx-auto",children:"Hesabını oluştur, fosil yakıt hızında işlemlerin keyfini çıkar. DinoBank ile paran güvende, geleceğin ellerinde."})]})]}),y.jsx("div",{className:"w-full lg:w-1/2 flex items-center justify-center p-8 overflow-y-auto",children:y.jsxs("div",{className:"w-full max-w-md space-y-8",children:[y.jsxs("div",{className:"text-center lg:text-left",children:[y.jsx("h1",{className:"text-3xl font-bold",children:"Aramıza Katıl 🦖"}),y.jsx("p",{className:"text-slate-400 mt-2",children:"Finansal evrimini bugün başlat."})]}),y.jsxs("form",{onSubmit:d,className:"space-y-4",children:[y.jsxs("div",{className:"grid grid-cols-2 gap-4",children:[y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"ad",className:"text-slate-300",children:"Ad"}),y.jsx(jt,{id:"ad",placeholder:"Ahmet",onChange:f,required:!0,className:"bg-white/5 border-white/10 focus:border-primary/50"})]}),y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"soyad",className:"text-slate-300",children:"Soyad"}),y.jsx(jt,{id:"soyad",placeholder:"Yılmaz",onChange:f,required:!0,className:"bg-white/5 border-white/10 focus:border-primary/50"})]})]}),y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"email",className:"text-slate-300",children:"E-posta"}),y.jsx(jt,{id:"email",type:"email",placeholder:"m@ornek.com",onChange:f,required:!0,className:"bg-white/5 border-white/10 focus:border-primary/50"})]}),y.jsxs("div",{className:"grid grid-cols-2 gap-4",children:[y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"tcKimlikNo",className:"text-slate-300",children:"TC Kimlik No"}),y.jsx(jt,{id:"tcKimlikNo",placeholder:"11111111111",onChange:f,required:!0,className:"bg-white/5 border-white/10 focus:border-primary/50"})]}),y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"telefon",className:"text-slate-300",children:"Telefon"}),y.jsx(jt,{id:"telefon",placeholder:"555...",onChange:f,required:!0,className:"bg-white/5 border-white/10 focus:border-primary/50"})]})]}),y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"dogumTarihi",className:"text-slate-300",children:"Doğum Tarihi"}),y.jsx(jt,{id:"dogumTarihi",type:"date",onChange:f,required:!0,className:"bg-white/5 border-white/10 text-white focus:border-primary/50"})]}),y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"sifre",className:"text-slate-300",children:"Şifre"}),y.jsx(jt,{id:"sifre",type:"password",onChange:f,required:!0,className:"bg-white/5 border-white/10 focus:border-primary/50"})]}),y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"adres",className:"text-slate-300",children:"Adres"}),y.jsx(jt,{id:"adres",placeholder:"İstanbul...",onChange:f,required:!0,className:"bg-white/5 border-white/10 focus:border-primary/50"})]}),l&&y.jsx("p",{className:"text-sm text-red-400 bg-red-900/20 p-3 rounded border border-red-900/50",children:l}),y.jsx(it,{type:"submit",className:"w-full bg-gradient-to-r from-primary to-emerald-500 hover:from-primary/90 hover:to-emerald-600 text-black font-bold h-11 shadow-lg shadow-primary/20",disabled:n,children:n?y.jsx(cg,{className:"mr-2 h-4 w-4 animate-spin"}):"Hesap Oluştur"})]}),y.jsx("div",{className:"text-center pt-4 border-t border-white/10",children:y.jsxs("p",{className:"text-sm text-slate-500",children:["Zaten bir hesabın var mı?"," ",y.jsx(kn,{to:"/login",className:"text-primary hover:text-emerald-400 font-bold transition-colors",children:"Giriş Yap"})]})})]})})]})}function dz(e,t=[]){let n=[];function r(o,s){const f=b.createContext(s);f.displayName=o+"Context";const d=n.length;n=[...n,s];const h=p=>{const{scope:x,children:w,...E}=p,A=x?.[e]?.[d]||f,j=b.useMemo(()=>E,Object.values(E));return y.jsx(A.Provider,{value:j,children:w})};h.displayName=o+"Provider";function m(p,x){const w=x?.[e]?.[d]||f,E=b.useContext(w);if(E)return E;if(s!==void 0)return s;throw new Error(`\`${p}\` must be used within \`${o}\``)}return[h,m]}const l=()=>{const o=n.map(s=>b.createContext(s));return function(f){const d=f?.[e]||o;return b.useMemo(()=>({[`__scope${e}`]:{...f,[e]:d}}),[f,d])}};return l.scopeName=e,[r,hz(l,...t)]}function hz(...e){const t=e[0];if(e.length===1)return t;const n=()=>{const r=e.map(l=>({useScope:l(),scopeName:l.scopeName}));return function(o){const s=r.reduce((f,{useScope:d,scopeName:h})=>{const p=d(o)[`__scope${h}`];return{...f,...p}},{});return b.useMemo(()=>({[`__scope${t.scopeName}`]:s}),[s])}};return n.scopeName=t.scopeName,n}var hg="Progress",mg=100,[mz]=dz(hg),[vz,pz]=mz(hg),EO=b.forwardRef((e,t)=>{const{__scopeProgress:n,value:r=null,max:l,getValueLabel:o=yz,...s}=e;(l||l===0)&&!OS(l)&&console.error(gz(`${l}`,"Progress"));const f=OS(l)?l:mg;r!==null&&!NS(r,f)&&console.error(bz(`${r}`,"Progress"));const d=NS(r,f)?r:null,h=ff(d)?o(d,f):void 0;return y.jsx(vz,{scope:n,value:d,max:f,children:y.jsx(ug.div,{"aria-valuemax":f,"aria-valuemin":0,"aria-valuenow":ff(d)?d:void 0,"aria-valuetext":h,role:"progressbar","data-state":NO(d,f),"data-value":d??void 0,"data-max":f,...s,ref:t})})});EO.displayName=hg;var AO="ProgressIndicator",OO=b.forwardRef((e,t)=>{const{__scopeProgress:n,...r}=e,l=pz(AO,n);return y.jsx(ug.div,{"data-state":NO(l.value,l.max),"data-value":l.value??void 0,"data-max":l.max,...r,ref:t})});OO.displayName=AO;function yz(e,t){return`${Math.round(e/t*100)}%`}function NO(e,t){return e==null?"indeterminate":e===t?"complete":"loading"}function ff(e){return typeof e=="number"}function OS(e){return ff(e)&&!isNaN(e)&&e>0}function NS(e,t){return ff(e)&&!isNaN(e)&&e<=t&&e>=0}function gz(e,t){return`Invalid prop \`max\` of value \`${e}\` supplied to \`${t}\`. Only numbers greater than 0 are valid max values. Defaulting to \`${mg}\`.`}function bz(e,t){return`Invalid prop \`value\` of value \`${e}\` supplied to \`${t}\`. The \`value\` prop must be:
-  - a positive number
-  - less than the value passed to \`max\` (or ${mg} if no \`max\` prop is set)
-  - \`null\` or \`undefined\` if the progress is indeterminate.
-
-Defaulting to \`null\`.`}var CO=EO,xz=OO;const xu=b.forwardRef(({className:e,value:t,...n},r)=>y.jsx(CO,{ref:r,className:Fe("relative h-4 w-full overflow-hidden rounded-full bg-secondary",e),...n,children:y.jsx(xz,{className:"h-full w-full flex-1 bg-primary transition-all",style:{transform:`translateX(-${100-(t||0)}%)`}})}));xu.displayName=CO.displayName;const Oi=b.forwardRef(({className:e,...t},n)=>y.jsx("div",{className:"relative w-full overflow-auto",children:y.jsx("table",{ref:n,className:Fe("w-full caption-bottom text-sm",e),...t})}));Oi.displayName="Table";const Ni=b.forwardRef(({className:e,...t},n)=>y.jsx("thead",{ref:n,className:Fe("[&_tr]:border-b",e),...t}));Ni.displayName="TableHeader";const Ci=b.forwardRef(({className:e,...t},n)=>y.jsx("tbody",{ref:n,className:Fe("[&_tr:last-child]:border-0",e),...t}));Ci.displayName="TableBody";const wz=b.forwardRef(({className:e,...t},n)=>y.jsx("tfoot",{ref:n,className:Fe("border-t bg-muted/50 font-medium [&>tr]:last:border-b-0",e),...t}));wz.displayName="TableFooter";const Ft=b.forwardRef(({className:e,...t},n)=>y.jsx("tr",{ref:n,className:Fe("border-b transition-colors hover:bg-muted/50 data-[state=selected]:bg-muted",e),...t}));Ft.displayName="TableRow";const We=b.forwardRef(({className:e,...t},n)=>y.jsx("th",{ref:n,className:Fe("h-12 px-4 text-left align-middle font-medium text-muted-foreground [&:has([role=checkbox])]:pr-0",e),...t}));We.displayName="TableHead";const Be=b.forwardRef(({className:e,...t},n)=>y.jsx("td",{ref:n,className:Fe("p-4 align-middle [&:has([role=checkbox])]:pr-0",e),...t}));Be.displayName="TableCell";const Sz=b.forwardRef(({className:e,...t},n)=>y.jsx("caption",{ref:n,className:Fe("mt-4 text-sm text-muted-foreground",e),...t}));Sz.displayName="TableCaption";var jz=["dangerouslySetInnerHTML","onCopy","onCopyCapture","onCut","onCutCapture","onPaste","onPasteCapture","onCompositionEnd","onCompositionEndCapture","onCompositionStart","onCompositionStartCapture","onCompositionUpdate","onCompositionUpdateCapture","onFocus","onFocusCapture","onBlur","onBlurCapture","onChange","onChangeCapture","onBeforeInput","onBeforeInputCapture","onInput","onInputCapture","onReset","onResetCapture","onSubmit","onSubmitCapture","onInvalid","onInvalidCapture","onLoad","onLoadCapture","onError","onErrorCapture","onKeyDown","onKeyDownCapture","onKeyPress","onKeyPressCapture","onKeyUp","onKeyUpCapture","onAbort","onAbortCapture","onCanPlay","onCanPlayCapture","onCanPlayThrough","onCanPlayThroughCapture","onDurationChange","onDurationChangeCapture","onEmptied","onEmptiedCapture","onEncrypted","onEncryptedCapture","onEnded","onEndedCapture","onLoadedData","onLoadedDataCapture","onLoadedMetadata","onLoadedMetadataCapture","onLoadStart","onLoadStartCapture","onPause","onPauseCapture","onPlay","onPlayCapture","onPlaying","onPlayingCapture","onProgress","onProgressCapture","onRateChange","onRateChangeCapture","onSeeked","onSeekedCapture","onSeeking","onSeekingCapture","onStalled","onStalledCapture","onSuspend","onSuspendCapture","onTimeUpdate","onTimeUpdateCapture","onVolumeChange","onVolumeChangeCapture","onWaiting","onWaitingCapture","onAuxClick","onAuxClickCapture","onClick","onClickCapture","onContextMenu","onContextMenuCapture","onDoubleClick","onDoubleClickCapture","onDrag","onDragCapture","onDragEnd","onDragEndCapture","onDragEnter","onDragEnterCapture","onDragExit","onDragExitCapture","onDragLeave","onDragLeaveCapture","onDragOver","onDragOverCapture","onDragStart","onDragStartCapture","onDrop","onDropCapture","onMouseDown","onMouseDownCapture","onMouseEnter","onMouseLeave","onMouseMove","onMouseMoveCapture","onMouseOut","onMouseOutCapture","onMouseOver","onMouseOverCapture","onMouseUp","onMouseUpCapture","onSelect","onSelectCapture","onTouchCancel","onTouchCancelCapture","onTouchEnd","onTouchEndCapture","onTouchMove","onTouchMoveCapture","onTouchStart","onTouchStartCapture","onPointerDown","onPointerDownCapture","onPointerMove","onPointerMoveCapture","onPointerUp","onPointerUpCapture","onPointerCancel","onPointerCancelCapture","onPointerEnter","onPointerEnterCapture","onPointerLeave","onPointerLeaveCapture","onPointerOver","onPointerOverCapture","onPointerOut","onPointerOutCapture","onGotPointerCapture","onGotPointerCaptureCapture","onLostPointerCapture","onLostPointerCaptureCapture","onScroll","onScrollCapture","onWheel","onWheelCapture","onAnimationStart","onAnimationStartCapture","onAnimationEnd","onAnimationEndCapture","onAnimationIteration","onAnimationIterationCapture","onTransitionEnd","onTransitionEndCapture"];function vg(e){if(typeof e!="string")return!1;var t=jz;return t.includes(e)}var Ez=["aria-activedescendant","aria-atomic","aria-autocomplete","aria-busy","aria-checked","aria-colcount","aria-colindex","aria-colspan","aria-controls","aria-current","aria-describedby","aria-details","aria-disabled","aria-errormessage","aria-expanded","aria-flowto","aria-haspopup","aria-hidden","aria-invalid","aria-keyshortcuts","aria-label","aria-labelledby","aria-level","aria-live","aria-modal","aria-multiline","aria-multiselectable","aria-orientation","aria-owns","aria-placeholder","aria-posinset","aria-pressed","aria-readonly","aria-relevant","aria-required","aria-roledescription","aria-rowcount","aria-rowindex","aria-rowspan","aria-selected","aria-setsize","aria-sort","aria-valuemax","aria-valuemin","aria-valuenow","aria-valuetext","className","color","height","id","lang","max","media","method","min","name","style","target","width","role","tabIndex","accentHeight","accumulate","additive","alignmentBaseline","allowReorder","alphabetic","amplitude","arabicForm","ascent","attributeName","attributeType","autoReverse","azimuth","baseFrequency","baselineShift","baseProfile","bbox","begin","bias","by","calcMode","capHeight","clip","clipPath","clipPathUnits","clipRule","colorInterpolation","colorInterpolationFilters","colorProfile","colorRendering","contentScriptType","contentStyleType","cursor","cx","cy","d","decelerate","descent","diffuseConstant","direction","display","divisor","dominantBaseline","dur","dx","dy","edgeMode","elevation","enableBackground","end","exponent","externalResourcesRequired","fill","fillOpacity","fillRule","filter","filterRes","filterUnits","floodColor","floodOpacity","focusable","fontFamily","fontSize","fontSizeAdjust","fontStretch","fontStyle","fontVariant","fontWeight","format","from","fx","fy","g1","g2","glyphName","glyphOrientationHorizontal","glyphOrientationVertical","glyphRef","gradientTransform","gradientUnits","hanging","horizAdvX","horizOriginX","href","ideographic","imageRendering","in2","in","intercept","k1","k2","k3","k4","k","kernelMatrix","kernelUnitLength","kerning","keyPoints","keySplines","keyTimes","lengthAdjust","letterSpacing","lightingColor","limitingConeAngle","local","markerEnd","markerHeight","markerMid","markerStart","markerUnits","markerWidth","mask","maskContentUnits","maskUnits","mathematical","mode","numOctaves","offset","opacity","operator","order","orient","orientation","origin","overflow","overlinePosition","overlineThickness","paintOrder","panose1","pathLength","patternContentUnits","patternTransform","patternUnits","pointerEvents","pointsAtX","pointsAtY","pointsAtZ","preserveAlpha","preserveAspectRatio","primitiveUnits","r","radius","refX","refY","renderingIntent","repeatCount","repeatDur","requiredExtensions","requiredFeatures","restart","result","rotate","rx","ry","seed","shapeRendering","slope","spacing","specularConstant","specularExponent","speed","spreadMethod","startOffset","stdDeviation","stemh","stemv","stitchTiles","stopColor","stopOpacity","strikethroughPosition","strikethroughThickness","string","stroke","strokeDasharray","strokeDashoffset","strokeLinecap","strokeLinejoin","strokeMiterlimit","strokeOpacity","strokeWidth","surfaceScale","systemLanguage","tableValues","targetX","targetY","textAnchor","textDecoration","textLength","textRendering","to","transform","u1","u2","underlinePosition","underlineThickness","unicode","unicodeBidi","unicodeRange","unitsPerEm","vAlphabetic","values","vectorEffect","version","vertAdvY","vertOriginX","vertOriginY","vHanging","vIdeographic","viewTarget","visibility","vMathematical","widths","wordSpacing","writingMode","x1","x2","x","xChannelSelector","xHeight","xlinkActuate","xlinkArcrole","xlinkHref","xlinkRole","xlinkShow","xlinkTitle","xlinkType","xmlBase","xmlLang","xmlns","xmlnsXlink","xmlSpace","y1","y2","y","yChannelSelector","z","zoomAndPan","ref","key","angle"],Az=new Set(Ez);function _O(e){return typeof e!="string"?!1:Az.has(e)}function TO(e){return typeof e=="string"&&e.startsWith("data-")}function cr(e){if(typeof e!="object"||e===null)return{};var t={};for(var n in e)Object.prototype.hasOwnProperty.call(e,n)&&(_O(n)||TO(n))&&(t[n]=e[n]);return t}function ad(e){if(e==null)return null;if(b.isValidElement(e)&&typeof e.props=="object"&&e.props!==null){var t=e.props;return cr(t)}return typeof e=="object"&&!Array.isArray(e)?cr(e):null}function Qn(e){var t={};for(var n in e)Object.prototype.hasOwnProperty.call(e,n)&&(_O(n)||TO(n)||vg(n))&&(t[n]=e[n]);return t}function Oz(e){return e==null?null:b.isValidElement(e)?Qn(e.props):typeof e=="object"&&!Array.isArray(e)?Qn(e):null}var Nz=["children","width","height","viewBox","className","style","title","desc"];function ny(){return ny=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},ny.apply(null,arguments)}function Cz(e,t){if(e==null)return{};var n,r,l=_z(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function _z(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var MO=b.forwardRef((e,t)=>{var{children:n,width:r,height:l,viewBox:o,className:s,style:f,title:d,desc:h}=e,m=Cz(e,Nz),p=o||{width:r,height:l,x:0,y:0},x=Xe("recharts-surface",s);return b.createElement("svg",ny({},Qn(m),{className:x,width:r,height:l,style:f,viewBox:"".concat(p.x," ").concat(p.y," ").concat(p.width," ").concat(p.height),ref:t}),b.createElement("title",null,d),b.createElement("desc",null,h),n)}),Tz=["children","className"];function ry(){return ry=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},ry.apply(null,arguments)}function Mz(e,t){if(e==null)return{};var n,r,l=Dz(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function Dz(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var Sr=b.forwardRef((e,t)=>{var{children:n,className:r}=e,l=Mz(e,Tz),o=Xe("recharts-layer",r);return b.createElement("g",ry({className:o},Qn(l),{ref:t}),n)}),kz=b.createContext(null);function st(e){return function(){return e}}const ay=Math.PI,iy=2*ay,xi=1e-6,Rz=iy-xi;function DO(e){this._+=e[0];for(let t=1,n=e.length;t<n;++t)this._+=arguments[t]+e[t]}function Pz(e){let t=Math.floor(e);if(!(t>=0))throw new Error(`invalid digits: ${e}`);if(t>15)return DO;const n=10**t;return function(r){this._+=r[0];for(let l=1,o=r.length;l<o;++l)this._+=Math.round(arguments[l]*n)/n+r[l]}}class zz{constructor(t){this._x0=this._y0=this._x1=this._y1=null,this._="",this._append=t==null?DO:Pz(t)}moveTo(t,n){this._append`M${this._x0=this._x1=+t},${this._y0=this._y1=+n}`}closePath(){this._x1!==null&&(this._x1=this._x0,this._y1=this._y0,this._append`Z`)}lineTo(t,n){this._append`L${this._x1=+t},${this._y1=+n}`}quadraticCurveTo(t,n,r,l){this._append`Q${+t},${+n},${this._x1=+r},${this._y1=+l}`}bezierCurveTo(t,n,r,l,o,s){this._append`C${+t},${+n},${+r},${+l},${this._x1=+o},${this._y1=+s}`}arcTo(t,n,r,l,o){if(t=+t,n=+n,r=+r,l=+l,o=+o,o<0)throw new Error(`negative radius: ${o}`);let s=this._x1,f=this._y1,d=r-t,h=l-n,m=s-t,p=f-n,x=m*m+p*p;if(this._x1===null)this._append`M${this._x1=t},${this._y1=n}`;else if(x>xi)if(!(Math.abs(p*d-h*m)>xi)||!o)this._append`L${this._x1=t},${this._y1=n}`;else{let w=r-s,E=l-f,A=d*d+h*h,j=w*w+E*E,O=Math.sqrt(A),_=Math.sqrt(x),C=o*Math.tan((ay-Math.acos((A+x-j)/(2*O*_)))/2),D=C/_,T=C/O;Math.abs(D-1)>xi&&this._append`L${t+D*m},${n+D*p}`,this._append`A${o},${o},0,0,${+(p*w>m*E)},${this._x1=t+T*d},${this._y1=n+T*h}`}}arc(t,n,r,l,o,s){if(t=+t,n=+n,r=+r,s=!!s,r<0)throw new Error(`negative radius: ${r}`);let f=r*Math.cos(l),d=r*Math.sin(l),h=t+f,m=n+d,p=1^s,x=s?l-o:o-l;this._x1===null?this._append`M${h},${m}`:(Math.abs(this._x1-h)>xi||Math.abs(this._y1-m)>xi)&&this._append`L${h},${m}`,r&&(x<0&&(x=x%iy+iy),x>Rz?this._append`A${r},${r},0,1,${p},${t-f},${n-d}A${r},${r},0,1,${p},${this._x1=h},${this._y1=m}`:x>xi&&this._append`A${r},${r},0,${+(x>=ay)},${p},${this._x1=t+r*Math.cos(o)},${this._y1=n+r*Math.sin(o)}`)}rect(t,n,r,l){this._append`M${this._x0=this._x1=+t},${this._y0=this._y1=+n}h${r=+r}v${+l}h${-r}Z`}toString(){return this._}}function kO(e){let t=3;return e.digits=function(n){if(!arguments.length)return t;if(n==null)t=null;else{const r=Math.floor(n);if(!(r>=0))throw new RangeError(`invalid digits: ${n}`);t=r}return e},()=>new zz(t)}function pg(e){return typeof e=="object"&&"length"in e?e:Array.from(e)}function RO(e){this._context=e}RO.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._point=0},lineEnd:function(){(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line=1-this._line},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1,this._line?this._context.lineTo(e,t):this._context.moveTo(e,t);break;case 1:this._point=2;default:this._context.lineTo(e,t);break}}};function id(e){return new RO(e)}function PO(e){return e[0]}function zO(e){return e[1]}function LO(e,t){var n=st(!0),r=null,l=id,o=null,s=kO(f);e=typeof e=="function"?e:e===void 0?PO:st(e),t=typeof t=="function"?t:t===void 0?zO:st(t);function f(d){var h,m=(d=pg(d)).length,p,x=!1,w;for(r==null&&(o=l(w=s())),h=0;h<=m;++h)!(h<m&&n(p=d[h],h,d))===x&&((x=!x)?o.lineStart():o.lineEnd()),x&&o.point(+e(p,h,d),+t(p,h,d));if(w)return o=null,w+""||null}return f.x=function(d){return arguments.length?(e=typeof d=="function"?d:st(+d),f):e},f.y=function(d){return arguments.length?(t=typeof d=="function"?d:st(+d),f):t},f.defined=function(d){return arguments.length?(n=typeof d=="function"?d:st(!!d),f):n},f.curve=function(d){return arguments.length?(l=d,r!=null&&(o=l(r)),f):l},f.context=function(d){return arguments.length?(d==null?r=o=null:o=l(r=d),f):r},f}function Tc(e,t,n){var r=null,l=st(!0),o=null,s=id,f=null,d=kO(h);e=typeof e=="function"?e:e===void 0?PO:st(+e),t=typeof t=="function"?t:st(t===void 0?0:+t),n=typeof n=="function"?n:n===void 0?zO:st(+n);function h(p){var x,w,E,A=(p=pg(p)).length,j,O=!1,_,C=new Array(A),D=new Array(A);for(o==null&&(f=s(_=d())),x=0;x<=A;++x){if(!(x<A&&l(j=p[x],x,p))===O)if(O=!O)w=x,f.areaStart(),f.lineStart();else{for(f.lineEnd(),f.lineStart(),E=x-1;E>=w;--E)f.point(C[E],D[E]);f.lineEnd(),f.areaEnd()}O&&(C[x]=+e(j,x,p),D[x]=+t(j,x,p),f.point(r?+r(j,x,p):C[x],n?+n(j,x,p):D[x]))}if(_)return f=null,_+""||null}function m(){return LO().defined(l).curve(s).context(o)}return h.x=function(p){return arguments.length?(e=typeof p=="function"?p:st(+p),r=null,h):e},h.x0=function(p){return arguments.length?(e=typeof p=="function"?p:st(+p),h):e},h.x1=function(p){return arguments.length?(r=p==null?null:typeof p=="function"?p:st(+p),h):r},h.y=function(p){return arguments.length?(t=typeof p=="function"?p:st(+p),n=null,h):t},h.y0=function(p){return arguments.length?(t=typeof p=="function"?p:st(+p),h):t},h.y1=function(p){return arguments.length?(n=p==null?null:typeof p=="function"?p:st(+p),h):n},h.lineX0=h.lineY0=function(){return m().x(e).y(t)},h.lineY1=function(){return m().x(e).y(n)},h.lineX1=function(){return m().x(r).y(t)},h.defined=function(p){return arguments.length?(l=typeof p=="function"?p:st(!!p),h):l},h.curve=function(p){return arguments.length?(s=p,o!=null&&(f=s(o)),h):s},h.context=function(p){return arguments.length?(p==null?o=f=null:f=s(o=p),h):o},h}class BO{constructor(t,n){this._context=t,this._x=n}areaStart(){this._line=0}areaEnd(){this._line=NaN}lineStart(){this._point=0}lineEnd(){(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line=1-this._line}point(t,n){switch(t=+t,n=+n,this._point){case 0:{this._point=1,this._line?this._context.lineTo(t,n):this._context.moveTo(t,n);break}case 1:this._point=2;default:{this._x?this._context.bezierCurveTo(this._x0=(this._x0+t)/2,this._y0,this._x0,n,t,n):this._context.bezierCurveTo(this._x0,this._y0=(this._y0+n)/2,t,this._y0,t,n);break}}this._x0=t,this._y0=n}}function Lz(e){return new BO(e,!0)}function Bz(e){return new BO(e,!1)}function df(){}function hf(e,t,n){e._context.bezierCurveTo((2*e._x0+e._x1)/3,(2*e._y0+e._y1)/3,(e._x0+2*e._x1)/3,(e._y0+2*e._y1)/3,(e._x0+4*e._x1+t)/6,(e._y0+4*e._y1+n)/6)}function UO(e){this._context=e}UO.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x0=this._x1=this._y0=this._y1=NaN,this._point=0},lineEnd:function(){switch(this._point){case 3:hf(this,this._x1,this._y1);case 2:this._context.lineTo(this._x1,this._y1);break}(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line=1-this._line},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1,this._line?this._context.lineTo(e,t):this._context.moveTo(e,t);break;case 1:this._point=2;break;case 2:this._point=3,this._context.lineTo((5*this._x0+this._x1)/6,(5*this._y0+this._y1)/6);default:hf(this,e,t);break}this._x0=this._x1,this._x1=e,this._y0=this._y1,this._y1=t}};function Uz(e){return new UO(e)}function IO(e){this._context=e}IO.prototype={areaStart:df,areaEnd:df,lineStart:function(){this._x0=this._x1=this._x2=this._x3=this._x4=this._y0=this._y1=this._y2=this._y3=this._y4=NaN,this._point=0},lineEnd:function(){switch(this._point){case 1:{this._context.moveTo(this._x2,this._y2),this._context.closePath();break}case 2:{this._context.moveTo((this._x2+2*this._x3)/3,(this._y2+2*this._y3)/3),this._context.lineTo((this._x3+2*this._x2)/3,(this._y3+2*this._y2)/3),this._context.closePath();break}case 3:{this.point(this._x2,this._y2),this.point(this._x3,this._y3),this.point(this._x4,this._y4);break}}},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1,this._x2=e,this._y2=t;break;case 1:this._point=2,this._x3=e,this._y3=t;break;case 2:this._point=3,this._x4=e,this._y4=t,this._context.moveTo((this._x0+4*this._x1+e)/6,(this._y0+4*this._y1+t)/6);break;default:hf(this,e,t);break}this._x0=this._x1,this._x1=e,this._y0=this._y1,this._y1=t}};function Iz(e){return new IO(e)}function qO(e){this._context=e}qO.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x0=this._x1=this._y0=this._y1=NaN,this._point=0},lineEnd:function(){(this._line||this._line!==0&&this._point===3)&&this._context.closePath(),this._line=1-this._line},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1;break;case 1:this._point=2;break;case 2:this._point=3;var n=(this._x0+4*this._x1+e)/6,r=(this._y0+4*this._y1+t)/6;this._line?this._context.lineTo(n,r):this._context.moveTo(n,r);break;case 3:this._point=4;default:hf(this,e,t);break}this._x0=this._x1,this._x1=e,this._y0=this._y1,this._y1=t}};function qz(e){return new qO(e)}function HO(e){this._context=e}HO.prototype={areaStart:df,areaEnd:df,lineStart:function(){this._point=0},lineEnd:function(){this._point&&this._context.closePath()},point:function(e,t){e=+e,t=+t,this._point?this._context.lineTo(e,t):(this._point=1,this._context.moveTo(e,t))}};function Hz(e){return new HO(e)}function CS(e){return e<0?-1:1}function _S(e,t,n){var r=e._x1-e._x0,l=t-e._x1,o=(e._y1-e._y0)/(r||l<0&&-0),s=(n-e._y1)/(l||r<0&&-0),f=(o*l+s*r)/(r+l);return(CS(o)+CS(s))*Math.min(Math.abs(o),Math.abs(s),.5*Math.abs(f))||0}function TS(e,t){var n=e._x1-e._x0;return n?(3*(e._y1-e._y0)/n-t)/2:t}function vv(e,t,n){var r=e._x0,l=e._y0,o=e._x1,s=e._y1,f=(o-r)/3;e._context.bezierCurveTo(r+f,l+f*t,o-f,s-f*n,o,s)}function mf(e){this._context=e}mf.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x0=this._x1=this._y0=this._y1=this._t0=NaN,this._point=0},lineEnd:function(){switch(this._point){case 2:this._context.lineTo(this._x1,this._y1);break;case 3:vv(this,this._t0,TS(this,this._t0));break}(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line=1-this._line},point:function(e,t){var n=NaN;if(e=+e,t=+t,!(e===this._x1&&t===this._y1)){switch(this._point){case 0:this._point=1,this._line?this._context.lineTo(e,t):this._context.moveTo(e,t);break;case 1:this._point=2;break;case 2:this._point=3,vv(this,TS(this,n=_S(this,e,t)),n);break;default:vv(this,this._t0,n=_S(this,e,t));break}this._x0=this._x1,this._x1=e,this._y0=this._y1,this._y1=t,this._t0=n}}};function $O(e){this._context=new KO(e)}($O.prototype=Object.create(mf.prototype)).point=function(e,t){mf.prototype.point.call(this,t,e)};function KO(e){this._context=e}KO.prototype={moveTo:function(e,t){this._context.moveTo(t,e)},closePath:function(){this._context.closePath()},lineTo:function(e,t){this._context.lineTo(t,e)},bezierCurveTo:function(e,t,n,r,l,o){this._context.bezierCurveTo(t,e,r,n,o,l)}};function $z(e){return new mf(e)}function Kz(e){return new $O(e)}function YO(e){this._context=e}YO.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x=[],this._y=[]},lineEnd:function(){var e=this._x,t=this._y,n=e.length;if(n)if(this._line?this._context.lineTo(e[0],t[0]):this._context.moveTo(e[0],t[0]),n===2)this._context.lineTo(e[1],t[1]);else for(var r=MS(e),l=MS(t),o=0,s=1;s<n;++o,++s)this._context.bezierCurveTo(r[0][o],l[0][o],r[1][o],l[1][o],e[s],t[s]);(this._line||this._line!==0&&n===1)&&this._context.closePath(),this._line=1-this._line,this._x=this._y=null},point:function(e,t){this._x.push(+e),this._y.push(+t)}};function MS(e){var t,n=e.length-1,r,l=new Array(n),o=new Array(n),s=new Array(n);for(l[0]=0,o[0]=2,s[0]=e[0]+2*e[1],t=1;t<n-1;++t)l[t]=1,o[t]=4,s[t]=4*e[t]+2*e[t+1];for(l[n-1]=2,o[n-1]=7,s[n-1]=8*e[n-1]+e[n],t=1;t<n;++t)r=l[t]/o[t-1],o[t]-=r,s[t]-=r*s[t-1];for(l[n-1]=s[n-1]/o[n-1],t=n-2;t>=0;--t)l[t]=(s[t]-l[t+1])/o[t];for(o[n-1]=(e[n]+l[n-1])/2,t=0;t<n-1;++t)o[t]=2*e[t+1]-l[t+1];return[l,o]}function Yz(e){return new YO(e)}function ld(e,t){this._context=e,this._t=t}ld.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x=this._y=NaN,this._point=0},lineEnd:function(){0<this._t&&this._t<1&&this._point===2&&this._context.lineTo(this._x,this._y),(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line>=0&&(this._t=1-this._t,this._line=1-this._line)},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1,this._line?this._context.lineTo(e,t):this._context.moveTo(e,t);break;case 1:this._point=2;default:{if(this._t<=0)this._context.lineTo(this._x,t),this._context.lineTo(e,t);else{var n=this._x*(1-this._t)+e*this._t;this._context.lineTo(n,this._y),this._context.lineTo(n,t)}break}}this._x=e,this._y=t}};function Gz(e){return new ld(e,.5)}function Vz(e){return new ld(e,0)}function Xz(e){return new ld(e,1)}function ql(e,t){if((s=e.length)>1)for(var n=1,r,l,o=e[t[0]],s,f=o.length;n<s;++n)for(l=o,o=e[t[n]],r=0;r<f;++r)o[r][1]+=o[r][0]=isNaN(l[r][1])?l[r][0]:l[r][1]}function ly(e){for(var t=e.length,n=new Array(t);--t>=0;)n[t]=t;return n}function Fz(e,t){return e[t]}function Wz(e){const t=[];return t.key=e,t}function Zz(){var e=st([]),t=ly,n=ql,r=Fz;function l(o){var s=Array.from(e.apply(this,arguments),Wz),f,d=s.length,h=-1,m;for(const p of o)for(f=0,++h;f<d;++f)(s[f][h]=[0,+r(p,s[f].key,h,o)]).data=p;for(f=0,m=pg(t(s));f<d;++f)s[m[f]].index=f;return n(s,m),s}return l.keys=function(o){return arguments.length?(e=typeof o=="function"?o:st(Array.from(o)),l):e},l.value=function(o){return arguments.length?(r=typeof o=="function"?o:st(+o),l):r},l.order=function(o){return arguments.length?(t=o==null?ly:typeof o=="function"?o:st(Array.from(o)),l):t},l.offset=function(o){return arguments.length?(n=o??ql,l):n},l}function Qz(e,t){if((r=e.length)>0){for(var n,r,l=0,o=e[0].length,s;l<o;++l){for(s=n=0;n<r;++n)s+=e[n][l][1]||0;if(s)for(n=0;n<r;++n)e[n][l][1]/=s}ql(e,t)}}function Jz(e,t){if((l=e.length)>0){for(var n=0,r=e[t[0]],l,o=r.length;n<o;++n){for(var s=0,f=0;s<l;++s)f+=e[s][n][1]||0;r[n][1]+=r[n][0]=-f/2}ql(e,t)}}function e5(e,t){if(!(!((s=e.length)>0)||!((o=(l=e[t[0]]).length)>0))){for(var n=0,r=1,l,o,s;r<o;++r){for(var f=0,d=0,h=0;f<s;++f){for(var m=e[t[f]],p=m[r][1]||0,x=m[r-1][1]||0,w=(p-x)/2,E=0;E<f;++E){var A=e[t[E]],j=A[r][1]||0,O=A[r-1][1]||0;w+=j-O}d+=p,h+=w*p}l[r-1][1]+=l[r-1][0]=n,d&&(n-=h/d)}l[r-1][1]+=l[r-1][0]=n,ql(e,t)}}var pv={},yv={},DS;function t5(){return DS||(DS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n==="__proto__"}e.isUnsafeProperty=t})(yv)),yv}var gv={},kS;function GO(){return kS||(kS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){switch(typeof n){case"number":case"symbol":return!1;case"string":return n.includes(".")||n.includes("[")||n.includes("]")}}e.isDeepKey=t})(gv)),gv}var bv={},RS;function yg(){return RS||(RS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return typeof n=="string"||typeof n=="symbol"?n:Object.is(n?.valueOf?.(),-0)?"-0":String(n)}e.toKey=t})(bv)),bv}var xv={},wv={},PS;function n5(){return PS||(PS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){if(n==null)return"";if(typeof n=="string")return n;if(Array.isArray(n))return n.map(t).join(",");const r=String(n);return r==="0"&&Object.is(Number(n),-0)?"-0":r}e.toString=t})(wv)),wv}var zS;function gg(){return zS||(zS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=n5(),n=yg();function r(l){if(Array.isArray(l))return l.map(n.toKey);if(typeof l=="symbol")return[l];l=t.toString(l);const o=[],s=l.length;if(s===0)return o;let f=0,d="",h="",m=!1;for(l.charCodeAt(0)===46&&(o.push(""),f++);f<s;){const p=l[f];h?p==="\\"&&f+1<s?(f++,d+=l[f]):p===h?h="":d+=p:m?p==='"'||p==="'"?h=p:p==="]"?(m=!1,o.push(d),d=""):d+=p:p==="["?(m=!0,d&&(o.push(d),d="")):p==="."?d&&(o.push(d),d=""):d+=p,f++}return d&&o.push(d),o}e.toPath=r})(xv)),xv}var LS;function bg(){return LS||(LS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=t5(),n=GO(),r=yg(),l=gg();function o(f,d,h){if(f==null)return h;switch(typeof d){case"string":{if(t.isUnsafeProperty(d))return h;const m=f[d];return m===void 0?n.isDeepKey(d)?o(f,l.toPath(d),h):h:m}case"number":case"symbol":{typeof d=="number"&&(d=r.toKey(d));const m=f[d];return m===void 0?h:m}default:{if(Array.isArray(d))return s(f,d,h);if(Object.is(d?.valueOf(),-0)?d="-0":d=String(d),t.isUnsafeProperty(d))return h;const m=f[d];return m===void 0?h:m}}}function s(f,d,h){if(d.length===0)return h;let m=f;for(let p=0;p<d.length;p++){if(m==null||t.isUnsafeProperty(d[p]))return h;m=m[d[p]]}return m===void 0?h:m}e.get=o})(pv)),pv}var Sv,BS;function r5(){return BS||(BS=1,Sv=bg().get),Sv}var a5=r5();const od=ua(a5);var Fn=e=>e===0?0:e>0?1:-1,fr=e=>typeof e=="number"&&e!=+e,na=e=>typeof e=="string"&&e.indexOf("%")===e.length-1,de=e=>(typeof e=="number"||e instanceof Number)&&!fr(e),jr=e=>de(e)||typeof e=="string",i5=0,ju=e=>{var t=++i5;return"".concat(e||"").concat(t)},Wa=function(t,n){var r=arguments.length>2&&arguments[2]!==void 0?arguments[2]:0,l=arguments.length>3&&arguments[3]!==void 0?arguments[3]:!1;if(!de(t)&&typeof t!="string")return r;var o;if(na(t)){if(n==null)return r;var s=t.indexOf("%");o=n*parseFloat(t.slice(0,s))/100}else o=+t;return fr(o)&&(o=r),l&&n!=null&&o>n&&(o=n),o},VO=e=>{if(!Array.isArray(e))return!1;for(var t=e.length,n={},r=0;r<t;r++)if(!n[e[r]])n[e[r]]=!0;else return!0;return!1};function gr(e,t,n){return de(e)&&de(t)?e+n*(t-e):t}function XO(e,t,n){if(!(!e||!e.length))return e.find(r=>r&&(typeof t=="function"?t(r):od(r,t))===n)}var Zt=e=>e===null||typeof e>"u",xg=e=>Zt(e)?e:"".concat(e.charAt(0).toUpperCase()).concat(e.slice(1));function l5(e){return e!=null}function $u(){}var FO=e=>"radius"in e&&"startAngle"in e&&"endAngle"in e,wg=(e,t)=>{if(!e||typeof e=="function"||typeof e=="boolean")return null;var n=e;if(b.isValidElement(e)&&(n=e.props),typeof n!="object"&&typeof n!="function")return null;var r={};return Object.keys(n).forEach(l=>{vg(l)&&(r[l]=(o=>n[l](n,o)))}),r},o5=(e,t,n)=>r=>(e(t,n,r),null),u5=(e,t,n)=>{if(e===null||typeof e!="object"&&typeof e!="function")return null;var r=null;return Object.keys(e).forEach(l=>{var o=e[l];vg(l)&&typeof o=="function"&&(r||(r={}),r[l]=o5(o,t,n))}),r};function US(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function s5(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?US(Object(n),!0).forEach(function(r){c5(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):US(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function c5(e,t,n){return(t=f5(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function f5(e){var t=d5(e,"string");return typeof t=="symbol"?t:t+""}function d5(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Ln(e,t){var n=s5({},e),r=t,l=Object.keys(t),o=l.reduce((s,f)=>(s[f]===void 0&&r[f]!==void 0&&(s[f]=r[f]),s),n);return o}var jv={},Ev={},IS;function h5(){return IS||(IS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n,r){const l=new Map;for(let o=0;o<n.length;o++){const s=n[o],f=r(s);l.has(f)||l.set(f,s)}return Array.from(l.values())}e.uniqBy=t})(Ev)),Ev}var Av={},qS;function WO(){return qS||(qS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n}e.identity=t})(Av)),Av}var Ov={},Nv={},Cv={},HS;function m5(){return HS||(HS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return Number.isSafeInteger(n)&&n>=0}e.isLength=t})(Cv)),Cv}var $S;function Sg(){return $S||($S=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=m5();function n(r){return r!=null&&typeof r!="function"&&t.isLength(r.length)}e.isArrayLike=n})(Nv)),Nv}var _v={},KS;function v5(){return KS||(KS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return typeof n=="object"&&n!==null}e.isObjectLike=t})(_v)),_v}var YS;function p5(){return YS||(YS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Sg(),n=v5();function r(l){return n.isObjectLike(l)&&t.isArrayLike(l)}e.isArrayLikeObject=r})(Ov)),Ov}var Tv={},Mv={},GS;function y5(){return GS||(GS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=bg();function n(r){return function(l){return t.get(l,r)}}e.property=n})(Mv)),Mv}var Dv={},kv={},Rv={},Pv={},VS;function ZO(){return VS||(VS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n!==null&&(typeof n=="object"||typeof n=="function")}e.isObject=t})(Pv)),Pv}var zv={},XS;function QO(){return XS||(XS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n==null||typeof n!="object"&&typeof n!="function"}e.isPrimitive=t})(zv)),zv}var Lv={},FS;function JO(){return FS||(FS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n,r){return n===r||Number.isNaN(n)&&Number.isNaN(r)}e.eq=t})(Lv)),Lv}var WS;function g5(){return WS||(WS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=ZO(),n=QO(),r=JO();function l(m,p,x){return typeof x!="function"?l(m,p,()=>{}):o(m,p,function w(E,A,j,O,_,C){const D=x(E,A,j,O,_,C);return D!==void 0?!!D:o(E,A,w,C)},new Map)}function o(m,p,x,w){if(p===m)return!0;switch(typeof p){case"object":return s(m,p,x,w);case"function":return Object.keys(p).length>0?o(m,{...p},x,w):r.eq(m,p);default:return t.isObject(m)?typeof p=="string"?p==="":!0:r.eq(m,p)}}function s(m,p,x,w){if(p==null)return!0;if(Array.isArray(p))return d(m,p,x,w);if(p instanceof Map)return f(m,p,x,w);if(p instanceof Set)return h(m,p,x,w);const E=Object.keys(p);if(m==null)return E.length===0;if(E.length===0)return!0;if(w?.has(p))return w.get(p)===m;w?.set(p,m);try{for(let A=0;A<E.length;A++){const j=E[A];if(!n.isPrimitive(m)&&!(j in m)||p[j]===void 0&&m[j]!==void 0||p[j]===null&&m[j]!==null||!x(m[j],p[j],j,m,p,w))return!1}return!0}finally{w?.delete(p)}}function f(m,p,x,w){if(p.size===0)return!0;if(!(m instanceof Map))return!1;for(const[E,A]of p.entries()){const j=m.get(E);if(x(j,A,E,m,p,w)===!1)return!1}return!0}function d(m,p,x,w){if(p.length===0)return!0;if(!Array.isArray(m))return!1;const E=new Set;for(let A=0;A<p.length;A++){const j=p[A];let O=!1;for(let _=0;_<m.length;_++){if(E.has(_))continue;const C=m[_];let D=!1;if(x(C,j,A,m,p,w)&&(D=!0),D){E.add(_),O=!0;break}}if(!O)return!1}return!0}function h(m,p,x,w){return p.size===0?!0:m instanceof Set?d([...m],[...p],x,w):!1}e.isMatchWith=l,e.isSetMatch=h})(Rv)),Rv}var ZS;function eN(){return ZS||(ZS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=g5();function n(r,l){return t.isMatchWith(r,l,()=>{})}e.isMatch=n})(kv)),kv}var Bv={},Uv={},Iv={},QS;function b5(){return QS||(QS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return Object.getOwnPropertySymbols(n).filter(r=>Object.prototype.propertyIsEnumerable.call(n,r))}e.getSymbols=t})(Iv)),Iv}var qv={},JS;function tN(){return JS||(JS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n==null?n===void 0?"[object Undefined]":"[object Null]":Object.prototype.toString.call(n)}e.getTag=t})(qv)),qv}var Hv={},ej;function nN(){return ej||(ej=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t="[object RegExp]",n="[object String]",r="[object Number]",l="[object Boolean]",o="[object Arguments]",s="[object Symbol]",f="[object Date]",d="[object Map]",h="[object Set]",m="[object Array]",p="[object Function]",x="[object ArrayBuffer]",w="[object Object]",E="[object Error]",A="[object DataView]",j="[object Uint8Array]",O="[object Uint8ClampedArray]",_="[object Uint16Array]",C="[object Uint32Array]",D="[object BigUint64Array]",T="[object Int8Array]",P="[object Int16Array]",k="[object Int32Array]",I="[object BigInt64Array]",re="[object Float32Array]",ae="[object Float64Array]";e.argumentsTag=o,e.arrayBufferTag=x,e.arrayTag=m,e.bigInt64ArrayTag=I,e.bigUint64ArrayTag=D,e.booleanTag=l,e.dataViewTag=A,e.dateTag=f,e.errorTag=E,e.float32ArrayTag=re,e.float64ArrayTag=ae,e.functionTag=p,e.int16ArrayTag=P,e.int32ArrayTag=k,e.int8ArrayTag=T,e.mapTag=d,e.numberTag=r,e.objectTag=w,e.regexpTag=t,e.setTag=h,e.stringTag=n,e.symbolTag=s,e.uint16ArrayTag=_,e.uint32ArrayTag=C,e.uint8ArrayTag=j,e.uint8ClampedArrayTag=O})(Hv)),Hv}var $v={},tj;function x5(){return tj||(tj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return ArrayBuffer.isView(n)&&!(n instanceof DataView)}e.isTypedArray=t})($v)),$v}var nj;function rN(){return nj||(nj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=b5(),n=tN(),r=nN(),l=QO(),o=x5();function s(m,p){return f(m,void 0,m,new Map,p)}function f(m,p,x,w=new Map,E=void 0){const A=E?.(m,p,x,w);if(A!==void 0)return A;if(l.isPrimitive(m))return m;if(w.has(m))return w.get(m);if(Array.isArray(m)){const j=new Array(m.length);w.set(m,j);for(let O=0;O<m.length;O++)j[O]=f(m[O],O,x,w,E);return Object.hasOwn(m,"index")&&(j.index=m.index),Object.hasOwn(m,"input")&&(j.input=m.input),j}if(m instanceof Date)return new Date(m.getTime());if(m instanceof RegExp){const j=new RegExp(m.source,m.flags);return j.lastIndex=m.lastIndex,j}if(m instanceof Map){const j=new Map;w.set(m,j);for(const[O,_]of m)j.set(O,f(_,O,x,w,E));return j}if(m instanceof Set){const j=new Set;w.set(m,j);for(const O of m)j.add(f(O,void 0,x,w,E));return j}if(typeof Buffer<"u"&&Buffer.isBuffer(m))return m.subarray();if(o.isTypedArray(m)){const j=new(Object.getPrototypeOf(m)).constructor(m.length);w.set(m,j);for(let O=0;O<m.length;O++)j[O]=f(m[O],O,x,w,E);return j}if(m instanceof ArrayBuffer||typeof SharedArrayBuffer<"u"&&m instanceof SharedArrayBuffer)return m.slice(0);if(m instanceof DataView){const j=new DataView(m.buffer.slice(0),m.byteOffset,m.byteLength);return w.set(m,j),d(j,m,x,w,E),j}if(typeof File<"u"&&m instanceof File){const j=new File([m],m.name,{type:m.type});return w.set(m,j),d(j,m,x,w,E),j}if(typeof Blob<"u"&&m instanceof Blob){const j=new Blob([m],{type:m.type});return w.set(m,j),d(j,m,x,w,E),j}if(m instanceof Error){const j=new m.constructor;return w.set(m,j),j.message=m.message,j.name=m.name,j.stack=m.stack,j.cause=m.cause,d(j,m,x,w,E),j}if(m instanceof Boolean){const j=new Boolean(m.valueOf());return w.set(m,j),d(j,m,x,w,E),j}if(m instanceof Number){const j=new Number(m.valueOf());return w.set(m,j),d(j,m,x,w,E),j}if(m instanceof String){const j=new String(m.valueOf());return w.set(m,j),d(j,m,x,w,E),j}if(typeof m=="object"&&h(m)){const j=Object.create(Object.getPrototypeOf(m));return w.set(m,j),d(j,m,x,w,E),j}return m}function d(m,p,x=m,w,E){const A=[...Object.keys(p),...t.getSymbols(p)];for(let j=0;j<A.length;j++){const O=A[j],_=Object.getOwnPropertyDescriptor(m,O);(_==null||_.writable)&&(m[O]=f(p[O],O,x,w,E))}}function h(m){switch(n.getTag(m)){case r.argumentsTag:case r.arrayTag:case r.arrayBufferTag:case r.dataViewTag:case r.booleanTag:case r.dateTag:case r.float32ArrayTag:case r.float64ArrayTag:case r.int8ArrayTag:case r.int16ArrayTag:case r.int32ArrayTag:case r.mapTag:case r.numberTag:case r.objectTag:case r.regexpTag:case r.setTag:case r.stringTag:case r.symbolTag:case r.uint8ArrayTag:case r.uint8ClampedArrayTag:case r.uint16ArrayTag:case r.uint32ArrayTag:return!0;default:return!1}}e.cloneDeepWith=s,e.cloneDeepWithImpl=f,e.copyProperties=d})(Uv)),Uv}var rj;function w5(){return rj||(rj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=rN();function n(r){return t.cloneDeepWithImpl(r,void 0,r,new Map,void 0)}e.cloneDeep=n})(Bv)),Bv}var aj;function S5(){return aj||(aj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=eN(),n=w5();function r(l){return l=n.cloneDeep(l),o=>t.isMatch(o,l)}e.matches=r})(Dv)),Dv}var Kv={},Yv={},Gv={},ij;function j5(){return ij||(ij=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=rN(),n=nN();function r(l,o){return t.cloneDeepWith(l,(s,f,d,h)=>{const m=o?.(s,f,d,h);if(m!==void 0)return m;if(typeof l=="object")switch(Object.prototype.toString.call(l)){case n.numberTag:case n.stringTag:case n.booleanTag:{const p=new l.constructor(l?.valueOf());return t.copyProperties(p,l),p}case n.argumentsTag:{const p={};return t.copyProperties(p,l),p.length=l.length,p[Symbol.iterator]=l[Symbol.iterator],p}default:return}})}e.cloneDeepWith=r})(Gv)),Gv}var lj;function E5(){return lj||(lj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=j5();function n(r){return t.cloneDeepWith(r)}e.cloneDeep=n})(Yv)),Yv}var Vv={},Xv={},oj;function aN(){return oj||(oj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=/^(?:0|[1-9]\d*)$/;function n(r,l=Number.MAX_SAFE_INTEGER){switch(typeof r){case"number":return Number.isInteger(r)&&r>=0&&r<l;case"symbol":return!1;case"string":return t.test(r)}}e.isIndex=n})(Xv)),Xv}var Fv={},uj;function A5(){return uj||(uj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=tN();function n(r){return r!==null&&typeof r=="object"&&t.getTag(r)==="[object Arguments]"}e.isArguments=n})(Fv)),Fv}var sj;function O5(){return sj||(sj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=GO(),n=aN(),r=A5(),l=gg();function o(s,f){let d;if(Array.isArray(f)?d=f:typeof f=="string"&&t.isDeepKey(f)&&s?.[f]==null?d=l.toPath(f):d=[f],d.length===0)return!1;let h=s;for(let m=0;m<d.length;m++){const p=d[m];if((h==null||!Object.hasOwn(h,p))&&!((Array.isArray(h)||r.isArguments(h))&&n.isIndex(p)&&p<h.length))return!1;h=h[p]}return!0}e.has=o})(Vv)),Vv}var cj;function N5(){return cj||(cj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=eN(),n=yg(),r=E5(),l=bg(),o=O5();function s(f,d){switch(typeof f){case"object":{Object.is(f?.valueOf(),-0)&&(f="-0");break}case"number":{f=n.toKey(f);break}}return d=r.cloneDeep(d),function(h){const m=l.get(h,f);return m===void 0?o.has(h,f):d===void 0?m===void 0:t.isMatch(m,d)}}e.matchesProperty=s})(Kv)),Kv}var fj;function C5(){return fj||(fj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=WO(),n=y5(),r=S5(),l=N5();function o(s){if(s==null)return t.identity;switch(typeof s){case"function":return s;case"object":return Array.isArray(s)&&s.length===2?l.matchesProperty(s[0],s[1]):r.matches(s);case"string":case"symbol":case"number":return n.property(s)}}e.iteratee=o})(Tv)),Tv}var dj;function _5(){return dj||(dj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=h5(),n=WO(),r=p5(),l=C5();function o(s,f=n.identity){return r.isArrayLikeObject(s)?t.uniqBy(Array.from(s),l.iteratee(f)):[]}e.uniqBy=o})(jv)),jv}var Wv,hj;function T5(){return hj||(hj=1,Wv=_5().uniqBy),Wv}var M5=T5();const mj=ua(M5);function D5(e,t,n){return t===!0?mj(e,n):typeof t=="function"?mj(e,t):e}var Zv={exports:{}},Qv={},Jv={exports:{}},ep={};var vj;function k5(){if(vj)return ep;vj=1;var e=Xl();function t(p,x){return p===x&&(p!==0||1/p===1/x)||p!==p&&x!==x}var n=typeof Object.is=="function"?Object.is:t,r=e.useState,l=e.useEffect,o=e.useLayoutEffect,s=e.useDebugValue;function f(p,x){var w=x(),E=r({inst:{value:w,getSnapshot:x}}),A=E[0].inst,j=E[1];return o(function(){A.value=w,A.getSnapshot=x,d(A)&&j({inst:A})},[p,w,x]),l(function(){return d(A)&&j({inst:A}),p(function(){d(A)&&j({inst:A})})},[p]),s(w),w}function d(p){var x=p.getSnapshot;p=p.value;try{var w=x();return!n(p,w)}catch{return!0}}function h(p,x){return x()}var m=typeof window>"u"||typeof window.document>"u"||typeof window.document.createElement>"u"?h:f;return ep.useSyncExternalStore=e.useSyncExternalStore!==void 0?e.useSyncExternalStore:m,ep}var pj;function R5(){return pj||(pj=1,Jv.exports=k5()),Jv.exports}var yj;function P5(){if(yj)return Qv;yj=1;var e=Xl(),t=R5();function n(h,m){return h===m&&(h!==0||1/h===1/m)||h!==h&&m!==m}var r=typeof Object.is=="function"?Object.is:n,l=t.useSyncExternalStore,o=e.useRef,s=e.useEffect,f=e.useMemo,d=e.useDebugValue;return Qv.useSyncExternalStoreWithSelector=function(h,m,p,x,w){var E=o(null);if(E.current===null){var A={hasValue:!1,value:null};E.current=A}else A=E.current;E=f(function(){function O(P){if(!_){if(_=!0,C=P,P=x(P),w!==void 0&&A.hasValue){var k=A.value;if(w(k,P))return D=k}return D=P}if(k=D,r(C,P))return k;var I=x(P);return w!==void 0&&w(k,I)?(C=P,k):(C=P,D=I)}var _=!1,C,D,T=p===void 0?null:p;return[function(){return O(m())},T===null?void 0:function(){return O(T())}]},[m,p,x,w]);var j=l(h,E[0],E[1]);return s(function(){A.hasValue=!0,A.value=j},[j]),d(j),j},Qv}var gj;function z5(){return gj||(gj=1,Zv.exports=P5()),Zv.exports}var L5=z5(),jg=b.createContext(null),B5=e=>e,Bt=()=>{var e=b.useContext(jg);return e?e.store.dispatch:B5},Jc=()=>{},U5=()=>Jc,I5=(e,t)=>e===t;function ve(e){var t=b.useContext(jg);return L5.useSyncExternalStoreWithSelector(t?t.subscription.addNestedSub:U5,t?t.store.getState:Jc,t?t.store.getState:Jc,t?e:Jc,I5)}function q5(e,t=`expected a function, instead received ${typeof e}`){if(typeof e!="function")throw new TypeError(t)}function H5(e,t=`expected an object, instead received ${typeof e}`){if(typeof e!="object")throw new TypeError(t)}function $5(e,t="expected all items to be functions, instead received the following types: "){if(!e.every(n=>typeof n=="function")){const n=e.map(r=>typeof r=="function"?`function ${r.name||"unnamed"}()`:typeof r).join(", ");throw new TypeError(`${t}[${n}]`)}}var bj=e=>Array.isArray(e)?e:[e];function K5(e){const t=Array.isArray(e[0])?e[0]:e;return $5(t,"createSelector expects all input-selectors to be functions, but received the following types: "),t}function Y5(e,t){const n=[],{length:r}=e;for(let l=0;l<r;l++)n.push(e[l].apply(null,t));return n}var G5=class{constructor(e){this.value=e}deref(){return this.value}},V5=typeof WeakRef<"u"?WeakRef:G5,X5=0,xj=1;function Mc(){return{s:X5,v:void 0,o:null,p:null}}function iN(e,t={}){let n=Mc();const{resultEqualityCheck:r}=t;let l,o=0;function s(){let f=n;const{length:d}=arguments;for(let p=0,x=d;p<x;p++){const w=arguments[p];if(typeof w=="function"||typeof w=="object"&&w!==null){let E=f.o;E===null&&(f.o=E=new WeakMap);const A=E.get(w);A===void 0?(f=Mc(),E.set(w,f)):f=A}else{let E=f.p;E===null&&(f.p=E=new Map);const A=E.get(w);A===void 0?(f=Mc(),E.set(w,f)):f=A}}const h=f;let m;if(f.s===xj)m=f.v;else if(m=e.apply(null,arguments),o++,r){const p=l?.deref?.()??l;p!=null&&r(p,m)&&(m=p,o!==0&&o--),l=typeof m=="object"&&m!==null||typeof m=="function"?new V5(m):m}return h.s=xj,h.v=m,m}return s.clearCache=()=>{n=Mc(),s.resetResultsCount()},s.resultsCount=()=>o,s.resetResultsCount=()=>{o=0},s}function F5(e,...t){const n=typeof e=="function"?{memoize:e,memoizeOptions:t}:e,r=(...l)=>{let o=0,s=0,f,d={},h=l.pop();typeof h=="object"&&(d=h,h=l.pop()),q5(h,`createSelector expects an output function after the inputs, but received: [${typeof h}]`);const m={...n,...d},{memoize:p,memoizeOptions:x=[],argsMemoize:w=iN,argsMemoizeOptions:E=[]}=m,A=bj(x),j=bj(E),O=K5(l),_=p(function(){return o++,h.apply(null,arguments)},...A),C=w(function(){s++;const T=Y5(O,arguments);return f=_.apply(null,T),f},...j);return Object.assign(C,{resultFunc:h,memoizedResultFunc:_,dependencies:O,dependencyRecomputations:()=>s,resetDependencyRecomputations:()=>{s=0},lastResult:()=>f,recomputations:()=>o,resetRecomputations:()=>{o=0},memoize:p,argsMemoize:w})};return Object.assign(r,{withTypes:()=>r}),r}var K=F5(iN),W5=Object.assign((e,t=K)=>{H5(e,`createStructuredSelector expects first argument to be an object where each property is a selector, instead received a ${typeof e}`);const n=Object.keys(e),r=n.map(o=>e[o]);return t(r,(...o)=>o.reduce((s,f,d)=>(s[n[d]]=f,s),{}))},{withTypes:()=>W5}),tp={},np={},rp={},wj;function Z5(){return wj||(wj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(r){return typeof r=="symbol"?1:r===null?2:r===void 0?3:r!==r?4:0}const n=(r,l,o)=>{if(r!==l){const s=t(r),f=t(l);if(s===f&&s===0){if(r<l)return o==="desc"?1:-1;if(r>l)return o==="desc"?-1:1}return o==="desc"?f-s:s-f}return 0};e.compareValues=n})(rp)),rp}var ap={},ip={},Sj;function lN(){return Sj||(Sj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return typeof n=="symbol"||n instanceof Symbol}e.isSymbol=t})(ip)),ip}var jj;function Q5(){return jj||(jj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=lN(),n=/\.|\[(?:[^[\]]*|(["'])(?:(?!\1)[^\\]|\\.)*?\1)\]/,r=/^\w*$/;function l(o,s){return Array.isArray(o)?!1:typeof o=="number"||typeof o=="boolean"||o==null||t.isSymbol(o)?!0:typeof o=="string"&&(r.test(o)||!n.test(o))||s!=null&&Object.hasOwn(s,o)}e.isKey=l})(ap)),ap}var Ej;function J5(){return Ej||(Ej=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Z5(),n=Q5(),r=gg();function l(o,s,f,d){if(o==null)return[];f=d?void 0:f,Array.isArray(o)||(o=Object.values(o)),Array.isArray(s)||(s=s==null?[null]:[s]),s.length===0&&(s=[null]),Array.isArray(f)||(f=f==null?[]:[f]),f=f.map(w=>String(w));const h=(w,E)=>{let A=w;for(let j=0;j<E.length&&A!=null;++j)A=A[E[j]];return A},m=(w,E)=>E==null||w==null?E:typeof w=="object"&&"key"in w?Object.hasOwn(E,w.key)?E[w.key]:h(E,w.path):typeof w=="function"?w(E):Array.isArray(w)?h(E,w):typeof E=="object"?E[w]:E,p=s.map(w=>(Array.isArray(w)&&w.length===1&&(w=w[0]),w==null||typeof w=="function"||Array.isArray(w)||n.isKey(w)?w:{key:w,path:r.toPath(w)}));return o.map(w=>({original:w,criteria:p.map(E=>m(E,w))})).slice().sort((w,E)=>{for(let A=0;A<p.length;A++){const j=t.compareValues(w.criteria[A],E.criteria[A],f[A]);if(j!==0)return j}return 0}).map(w=>w.original)}e.orderBy=l})(np)),np}var lp={},Aj;function eL(){return Aj||(Aj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n,r=1){const l=[],o=Math.floor(r),s=(f,d)=>{for(let h=0;h<f.length;h++){const m=f[h];Array.isArray(m)&&d<o?s(m,d+1):l.push(m)}};return s(n,0),l}e.flatten=t})(lp)),lp}var op={},Oj;function oN(){return Oj||(Oj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=aN(),n=Sg(),r=ZO(),l=JO();function o(s,f,d){return r.isObject(d)&&(typeof f=="number"&&n.isArrayLike(d)&&t.isIndex(f)&&f<d.length||typeof f=="string"&&f in d)?l.eq(d[f],s):!1}e.isIterateeCall=o})(op)),op}var Nj;function tL(){return Nj||(Nj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=J5(),n=eL(),r=oN();function l(o,...s){const f=s.length;return f>1&&r.isIterateeCall(o,s[0],s[1])?s=[]:f>2&&r.isIterateeCall(s[0],s[1],s[2])&&(s=[s[0]]),t.orderBy(o,n.flatten(s),["asc"])}e.sortBy=l})(tp)),tp}var up,Cj;function nL(){return Cj||(Cj=1,up=tL().sortBy),up}var rL=nL();const ud=ua(rL);var uN=e=>e.legend.settings,aL=e=>e.legend.size,iL=e=>e.legend.payload;K([iL,uN],(e,t)=>{var{itemSorter:n}=t,r=e.flat(1);return n?ud(r,n):r});var Dc=1;function lL(){var e=arguments.length>0&&arguments[0]!==void 0?arguments[0]:[],[t,n]=b.useState({height:0,left:0,top:0,width:0}),r=b.useCallback(l=>{if(l!=null){var o=l.getBoundingClientRect(),s={height:o.height,left:o.left,top:o.top,width:o.width};(Math.abs(s.height-t.height)>Dc||Math.abs(s.left-t.left)>Dc||Math.abs(s.top-t.top)>Dc||Math.abs(s.width-t.width)>Dc)&&n({height:s.height,left:s.left,top:s.top,width:s.width})}},[t.width,t.height,t.top,t.left,...e]);return[t,r]}function Xt(e){return`Minified Redux error #${e}; visit https://redux.js.org/Errors?code=${e} for the full message or use the non-minified dev environment for full errors. `}var oL=typeof Symbol=="function"&&Symbol.observable||"@@observable",_j=oL,sp=()=>Math.random().toString(36).substring(7).split("").join("."),uL={INIT:`@@redux/INIT${sp()}`,REPLACE:`@@redux/REPLACE${sp()}`,PROBE_UNKNOWN_ACTION:()=>`@@redux/PROBE_UNKNOWN_ACTION${sp()}`},vf=uL;function Eg(e){if(typeof e!="object"||e===null)return!1;let t=e;for(;Object.getPrototypeOf(t)!==null;)t=Object.getPrototypeOf(t);return Object.getPrototypeOf(e)===t||Object.getPrototypeOf(e)===null}function sN(e,t,n){if(typeof e!="function")throw new Error(Xt(2));if(typeof t=="function"&&typeof n=="function"||typeof n=="function"&&typeof arguments[3]=="function")throw new Error(Xt(0));if(typeof t=="function"&&typeof n>"u"&&(n=t,t=void 0),typeof n<"u"){if(typeof n!="function")throw new Error(Xt(1));return n(sN)(e,t)}let r=e,l=t,o=new Map,s=o,f=0,d=!1;function h(){s===o&&(s=new Map,o.forEach((j,O)=>{s.set(O,j)}))}function m(){if(d)throw new Error(Xt(3));return l}function p(j){if(typeof j!="function")throw new Error(Xt(4));if(d)throw new Error(Xt(5));let O=!0;h();const _=f++;return s.set(_,j),function(){if(O){if(d)throw new Error(Xt(6));O=!1,h(),s.delete(_),o=null}}}function x(j){if(!Eg(j))throw new Error(Xt(7));if(typeof j.type>"u")throw new Error(Xt(8));if(typeof j.type!="string")throw new Error(Xt(17));if(d)throw new Error(Xt(9));try{d=!0,l=r(l,j)}finally{d=!1}return(o=s).forEach(_=>{_()}),j}function w(j){if(typeof j!="function")throw new Error(Xt(10));r=j,x({type:vf.REPLACE})}function E(){const j=p;return{subscribe(O){if(typeof O!="object"||O===null)throw new Error(Xt(11));function _(){const D=O;D.next&&D.next(m())}return _(),{unsubscribe:j(_)}},[_j](){return this}}}return x({type:vf.INIT}),{dispatch:x,subscribe:p,getState:m,replaceReducer:w,[_j]:E}}function sL(e){Object.keys(e).forEach(t=>{const n=e[t];if(typeof n(void 0,{type:vf.INIT})>"u")throw new Error(Xt(12));if(typeof n(void 0,{type:vf.PROBE_UNKNOWN_ACTION()})>"u")throw new Error(Xt(13))})}function cN(e){const t=Object.keys(e),n={};for(let o=0;o<t.length;o++){const s=t[o];typeof e[s]=="function"&&(n[s]=e[s])}const r=Object.keys(n);let l;try{sL(n)}catch(o){l=o}return function(s={},f){if(l)throw l;let d=!1;const h={};for(let m=0;m<r.length;m++){const p=r[m],x=n[p],w=s[p],E=x(w,f);if(typeof E>"u")throw f&&f.type,new Error(Xt(14));h[p]=E,d=d||E!==w}return d=d||r.length!==Object.keys(s).length,d?h:s}}function pf(...e){return e.length===0?t=>t:e.length===1?e[0]:e.reduce((t,n)=>(...r)=>t(n(...r)))}function cL(...e){return t=>(n,r)=>{const l=t(n,r);let o=()=>{throw new Error(Xt(15))};const s={getState:l.getState,dispatch:(d,...h)=>o(d,...h)},f=e.map(d=>d(s));return o=pf(...f)(l.dispatch),{...l,dispatch:o}}}function fN(e){return Eg(e)&&"type"in e&&typeof e.type=="string"}var dN=Symbol.for("immer-nothing"),Tj=Symbol.for("immer-draftable"),on=Symbol.for("immer-state");function lr(e,...t){throw new Error(`[Immer] minified error nr: ${e}. Full error at: https://bit.ly/3cXEKWf`)}var Rn=Object,Hl=Rn.getPrototypeOf,yf="constructor",sd="prototype",oy="configurable",gf="enumerable",ef="writable",Eu="value",ra=e=>!!e&&!!e[on];function dr(e){return e?hN(e)||cd(e)||!!e[Tj]||!!e[yf]?.[Tj]||fd(e)||dd(e):!1}var fL=Rn[sd][yf].toString(),Mj=new WeakMap;function hN(e){if(!e||!Ag(e))return!1;const t=Hl(e);if(t===null||t===Rn[sd])return!0;const n=Rn.hasOwnProperty.call(t,yf)&&t[yf];if(n===Object)return!0;if(!Rl(n))return!1;let r=Mj.get(n);return r===void 0&&(r=Function.toString.call(n),Mj.set(n,r)),r===fL}function Ku(e,t,n=!0){Yu(e)===0?(n?Reflect.ownKeys(e):Rn.keys(e)).forEach(l=>{t(l,e[l],e)}):e.forEach((r,l)=>t(l,r,e))}function Yu(e){const t=e[on];return t?t.type_:cd(e)?1:fd(e)?2:dd(e)?3:0}var Dj=(e,t,n=Yu(e))=>n===2?e.has(t):Rn[sd].hasOwnProperty.call(e,t),uy=(e,t,n=Yu(e))=>n===2?e.get(t):e[t],bf=(e,t,n,r=Yu(e))=>{r===2?e.set(t,n):r===3?e.add(n):e[t]=n};function dL(e,t){return e===t?e!==0||1/e===1/t:e!==e&&t!==t}var cd=Array.isArray,fd=e=>e instanceof Map,dd=e=>e instanceof Set,Ag=e=>typeof e=="object",Rl=e=>typeof e=="function",cp=e=>typeof e=="boolean",Vr=e=>e.copy_||e.base_,Og=e=>e.modified_?e.copy_:e.base_;function sy(e,t){if(fd(e))return new Map(e);if(dd(e))return new Set(e);if(cd(e))return Array[sd].slice.call(e);const n=hN(e);if(t===!0||t==="class_only"&&!n){const r=Rn.getOwnPropertyDescriptors(e);delete r[on];let l=Reflect.ownKeys(r);for(let o=0;o<l.length;o++){const s=l[o],f=r[s];f[ef]===!1&&(f[ef]=!0,f[oy]=!0),(f.get||f.set)&&(r[s]={[oy]:!0,[ef]:!0,[gf]:f[gf],[Eu]:e[s]})}return Rn.create(Hl(e),r)}else{const r=Hl(e);if(r!==null&&n)return{...e};const l=Rn.create(r);return Rn.assign(l,e)}}function Ng(e,t=!1){return hd(e)||ra(e)||!dr(e)||(Yu(e)>1&&Rn.defineProperties(e,{set:kc,add:kc,clear:kc,delete:kc}),Rn.freeze(e),t&&Ku(e,(n,r)=>{Ng(r,!0)},!1)),e}function hL(){lr(2)}var kc={[Eu]:hL};function hd(e){return e===null||!Ag(e)?!0:Rn.isFrozen(e)}var xf="MapSet",cy="Patches",mN={};function $l(e){const t=mN[e];return t||lr(0,e),t}var mL=e=>!!mN[e],Au,vN=()=>Au,vL=(e,t)=>({drafts_:[],parent_:e,immer_:t,canAutoFreeze_:!0,unfinalizedDrafts_:0,handledSet_:new Set,processedForPatches_:new Set,mapSetPlugin_:mL(xf)?$l(xf):void 0});function kj(e,t){t&&(e.patchPlugin_=$l(cy),e.patches_=[],e.inversePatches_=[],e.patchListener_=t)}function fy(e){dy(e),e.drafts_.forEach(pL),e.drafts_=null}function dy(e){e===Au&&(Au=e.parent_)}var Rj=e=>Au=vL(Au,e);function pL(e){const t=e[on];t.type_===0||t.type_===1?t.revoke_():t.revoked_=!0}function Pj(e,t){t.unfinalizedDrafts_=t.drafts_.length;const n=t.drafts_[0];if(e!==void 0&&e!==n){n[on].modified_&&(fy(t),lr(4)),dr(e)&&(e=zj(t,e));const{patchPlugin_:l}=t;l&&l.generateReplacementPatches_(n[on].base_,e,t)}else e=zj(t,n);return yL(t,e,!0),fy(t),t.patches_&&t.patchListener_(t.patches_,t.inversePatches_),e!==dN?e:void 0}function zj(e,t){if(hd(t))return t;const n=t[on];if(!n)return Cg(t,e.handledSet_,e);if(!md(n,e))return t;if(!n.modified_)return n.base_;if(!n.finalized_){const{callbacks_:r}=n;if(r)for(;r.length>0;)r.pop()(e);gN(n,e)}return n.copy_}function yL(e,t,n=!1){!e.parent_&&e.immer_.autoFreeze_&&e.canAutoFreeze_&&Ng(t,n)}function pN(e){e.finalized_=!0,e.scope_.unfinalizedDrafts_--}var md=(e,t)=>e.scope_===t,gL=[];function yN(e,t,n,r){const l=Vr(e),o=e.type_;if(r!==void 0&&uy(l,r,o)===t){bf(l,r,n,o);return}if(!e.draftLocations_){const f=e.draftLocations_=new Map;Ku(l,(d,h)=>{if(ra(h)){const m=f.get(h)||[];m.push(d),f.set(h,m)}})}const s=e.draftLocations_.get(t)??gL;for(const f of s)bf(l,f,n,o)}function bL(e,t,n){e.callbacks_.push(function(l){const o=t;if(!o||!md(o,l))return;l.mapSetPlugin_?.fixSetContents(o);const s=Og(o);yN(e,o.draft_??o,s,n),gN(o,l)})}function gN(e,t){if(e.modified_&&!e.finalized_&&(e.type_===3||(e.assigned_?.size??0)>0)){const{patchPlugin_:r}=t;if(r){const l=r.getPath(e);l&&r.generatePatches_(e,l,t)}pN(e)}}function xL(e,t,n){const{scope_:r}=e;if(ra(n)){const l=n[on];md(l,r)&&l.callbacks_.push(function(){tf(e);const s=Og(l);yN(e,n,s,t)})}else dr(n)&&e.callbacks_.push(function(){const o=Vr(e);uy(o,t,e.type_)===n&&r.drafts_.length>1&&(e.assigned_.get(t)??!1)===!0&&e.copy_&&Cg(uy(e.copy_,t,e.type_),r.handledSet_,r)})}function Cg(e,t,n){return!n.immer_.autoFreeze_&&n.unfinalizedDrafts_<1||ra(e)||t.has(e)||!dr(e)||hd(e)||(t.add(e),Ku(e,(r,l)=>{if(ra(l)){const o=l[on];if(md(o,n)){const s=Og(o);bf(e,r,s,e.type_),pN(o)}}else dr(l)&&Cg(l,t,n)})),e}function wL(e,t){const n=cd(e),r={type_:n?1:0,scope_:t?t.scope_:vN(),modified_:!1,finalized_:!1,assigned_:void 0,parent_:t,base_:e,draft_:null,copy_:null,revoke_:null,isManual_:!1,callbacks_:void 0};let l=r,o=_g;n&&(l=[r],o=Ou);const{revoke:s,proxy:f}=Proxy.revocable(l,o);return r.draft_=f,r.revoke_=s,[f,r]}var _g={get(e,t){if(t===on)return e;const n=Vr(e);if(!Dj(n,t,e.type_))return SL(e,n,t);const r=n[t];if(e.finalized_||!dr(r))return r;if(r===fp(e.base_,t)){tf(e);const l=e.type_===1?+t:t,o=my(e.scope_,r,e,l);return e.copy_[l]=o}return r},has(e,t){return t in Vr(e)},ownKeys(e){return Reflect.ownKeys(Vr(e))},set(e,t,n){const r=bN(Vr(e),t);if(r?.set)return r.set.call(e.draft_,n),!0;if(!e.modified_){const l=fp(Vr(e),t),o=l?.[on];if(o&&o.base_===n)return e.copy_[t]=n,e.assigned_.set(t,!1),!0;if(dL(n,l)&&(n!==void 0||Dj(e.base_,t,e.type_)))return!0;tf(e),hy(e)}return e.copy_[t]===n&&(n!==void 0||t in e.copy_)||Number.isNaN(n)&&Number.isNaN(e.copy_[t])||(e.copy_[t]=n,e.assigned_.set(t,!0),xL(e,t,n)),!0},deleteProperty(e,t){return tf(e),fp(e.base_,t)!==void 0||t in e.base_?(e.assigned_.set(t,!1),hy(e)):e.assigned_.delete(t),e.copy_&&delete e.copy_[t],!0},getOwnPropertyDescriptor(e,t){const n=Vr(e),r=Reflect.getOwnPropertyDescriptor(n,t);return r&&{[ef]:!0,[oy]:e.type_!==1||t!=="length",[gf]:r[gf],[Eu]:n[t]}},defineProperty(){lr(11)},getPrototypeOf(e){return Hl(e.base_)},setPrototypeOf(){lr(12)}},Ou={};Ku(_g,(e,t)=>{Ou[e]=function(){const n=arguments;return n[0]=n[0][0],t.apply(this,n)}});Ou.deleteProperty=function(e,t){return Ou.set.call(this,e,t,void 0)};Ou.set=function(e,t,n){return _g.set.call(this,e[0],t,n,e[0])};function fp(e,t){const n=e[on];return(n?Vr(n):e)[t]}function SL(e,t,n){const r=bN(t,n);return r?Eu in r?r[Eu]:r.get?.call(e.draft_):void 0}function bN(e,t){if(!(t in e))return;let n=Hl(e);for(;n;){const r=Object.getOwnPropertyDescriptor(n,t);if(r)return r;n=Hl(n)}}function hy(e){e.modified_||(e.modified_=!0,e.parent_&&hy(e.parent_))}function tf(e){e.copy_||(e.assigned_=new Map,e.copy_=sy(e.base_,e.scope_.immer_.useStrictShallowCopy_))}var jL=class{constructor(t){this.autoFreeze_=!0,this.useStrictShallowCopy_=!1,this.useStrictIteration_=!1,this.produce=(n,r,l)=>{if(Rl(n)&&!Rl(r)){const s=r;r=n;const f=this;return function(h=s,...m){return f.produce(h,p=>r.call(this,p,...m))}}Rl(r)||lr(6),l!==void 0&&!Rl(l)&&lr(7);let o;if(dr(n)){const s=Rj(this),f=my(s,n,void 0);let d=!0;try{o=r(f),d=!1}finally{d?fy(s):dy(s)}return kj(s,l),Pj(o,s)}else if(!n||!Ag(n)){if(o=r(n),o===void 0&&(o=n),o===dN&&(o=void 0),this.autoFreeze_&&Ng(o,!0),l){const s=[],f=[];$l(cy).generateReplacementPatches_(n,o,{patches_:s,inversePatches_:f}),l(s,f)}return o}else lr(1,n)},this.produceWithPatches=(n,r)=>{if(Rl(n))return(f,...d)=>this.produceWithPatches(f,h=>n(h,...d));let l,o;return[this.produce(n,r,(f,d)=>{l=f,o=d}),l,o]},cp(t?.autoFreeze)&&this.setAutoFreeze(t.autoFreeze),cp(t?.useStrictShallowCopy)&&this.setUseStrictShallowCopy(t.useStrictShallowCopy),cp(t?.useStrictIteration)&&this.setUseStrictIteration(t.useStrictIteration)}createDraft(t){dr(t)||lr(8),ra(t)&&(t=sr(t));const n=Rj(this),r=my(n,t,void 0);return r[on].isManual_=!0,dy(n),r}finishDraft(t,n){const r=t&&t[on];(!r||!r.isManual_)&&lr(9);const{scope_:l}=r;return kj(l,n),Pj(void 0,l)}setAutoFreeze(t){this.autoFreeze_=t}setUseStrictShallowCopy(t){this.useStrictShallowCopy_=t}setUseStrictIteration(t){this.useStrictIteration_=t}shouldUseStrictIteration(){return this.useStrictIteration_}applyPatches(t,n){let r;for(r=n.length-1;r>=0;r--){const o=n[r];if(o.path.length===0&&o.op==="replace"){t=o.value;break}}r>-1&&(n=n.slice(r+1));const l=$l(cy).applyPatches_;return ra(t)?l(t,n):this.produce(t,o=>l(o,n))}};function my(e,t,n,r){const[l,o]=fd(t)?$l(xf).proxyMap_(t,n):dd(t)?$l(xf).proxySet_(t,n):wL(t,n);return(n?.scope_??vN()).drafts_.push(l),o.callbacks_=n?.callbacks_??[],o.key_=r,n&&r!==void 0?bL(n,o,r):o.callbacks_.push(function(d){d.mapSetPlugin_?.fixSetContents(o);const{patchPlugin_:h}=d;o.modified_&&h&&h.generatePatches_(o,[],d)}),l}function sr(e){return ra(e)||lr(10,e),xN(e)}function xN(e){if(!dr(e)||hd(e))return e;const t=e[on];let n,r=!0;if(t){if(!t.modified_)return t.base_;t.finalized_=!0,n=sy(e,t.scope_.immer_.useStrictShallowCopy_),r=t.scope_.immer_.shouldUseStrictIteration()}else n=sy(e,!0);return Ku(n,(l,o)=>{bf(n,l,xN(o))},r),t&&(t.finalized_=!1),n}var EL=new jL,wN=EL.produce;function SN(e){return({dispatch:n,getState:r})=>l=>o=>typeof o=="function"?o(n,r,e):l(o)}var AL=SN(),OL=SN,NL=typeof window<"u"&&window.__REDUX_DEVTOOLS_EXTENSION_COMPOSE__?window.__REDUX_DEVTOOLS_EXTENSION_COMPOSE__:function(){if(arguments.length!==0)return typeof arguments[0]=="object"?pf:pf.apply(null,arguments)};function Jn(e,t){function n(...r){if(t){let l=t(...r);if(!l)throw new Error(Pn(0));return{type:e,payload:l.payload,..."meta"in l&&{meta:l.meta},..."error"in l&&{error:l.error}}}return{type:e,payload:r[0]}}return n.toString=()=>`${e}`,n.type=e,n.match=r=>fN(r)&&r.type===e,n}var jN=class gu extends Array{constructor(...t){super(...t),Object.setPrototypeOf(this,gu.prototype)}static get[Symbol.species](){return gu}concat(...t){return super.concat.apply(this,t)}prepend(...t){return t.length===1&&Array.isArray(t[0])?new gu(...t[0].concat(this)):new gu(...t.concat(this))}};function Lj(e){return dr(e)?wN(e,()=>{}):e}function Rc(e,t,n){return e.has(t)?e.get(t):e.set(t,n(t)).get(t)}function CL(e){return typeof e=="boolean"}var _L=()=>function(t){const{thunk:n=!0,immutableCheck:r=!0,serializableCheck:l=!0,actionCreatorCheck:o=!0}=t??{};let s=new jN;return n&&(CL(n)?s.push(AL):s.push(OL(n.extraArgument))),s},EN="RTK_autoBatch",nt=()=>e=>({payload:e,meta:{[EN]:!0}}),Bj=e=>t=>{setTimeout(t,e)},AN=(e={type:"raf"})=>t=>(...n)=>{const r=t(...n);let l=!0,o=!1,s=!1;const f=new Set,d=e.type==="tick"?queueMicrotask:e.type==="raf"?typeof window<"u"&&window.requestAnimationFrame?window.requestAnimationFrame:Bj(10):e.type==="callback"?e.queueNotification:Bj(e.timeout),h=()=>{s=!1,o&&(o=!1,f.forEach(m=>m()))};return Object.assign({},r,{subscribe(m){const p=()=>l&&m(),x=r.subscribe(p);return f.add(m),()=>{x(),f.delete(m)}},dispatch(m){try{return l=!m?.meta?.[EN],o=!l,o&&(s||(s=!0,d(h))),r.dispatch(m)}finally{l=!0}}})},TL=e=>function(n){const{autoBatch:r=!0}=n??{};let l=new jN(e);return r&&l.push(AN(typeof r=="object"?r:void 0)),l};function ML(e){const t=_L(),{reducer:n=void 0,middleware:r,devTools:l=!0,preloadedState:o=void 0,enhancers:s=void 0}=e||{};let f;if(typeof n=="function")f=n;else if(Eg(n))f=cN(n);else throw new Error(Pn(1));let d;typeof r=="function"?d=r(t):d=t();let h=pf;l&&(h=NL({trace:!1,...typeof l=="object"&&l}));const m=cL(...d),p=TL(m);let x=typeof s=="function"?s(p):p();const w=h(...x);return sN(f,o,w)}function ON(e){const t={},n=[];let r;const l={addCase(o,s){const f=typeof o=="string"?o:o.type;if(!f)throw new Error(Pn(28));if(f in t)throw new Error(Pn(29));return t[f]=s,l},addAsyncThunk(o,s){return s.pending&&(t[o.pending.type]=s.pending),s.rejected&&(t[o.rejected.type]=s.rejected),s.fulfilled&&(t[o.fulfilled.type]=s.fulfilled),s.settled&&n.push({matcher:o.settled,reducer:s.settled}),l},addMatcher(o,s){return n.push({matcher:o,reducer:s}),l},addDefaultCase(o){return r=o,l}};return e(l),[t,n,r]}function DL(e){return typeof e=="function"}function kL(e,t){let[n,r,l]=ON(t),o;if(DL(e))o=()=>Lj(e());else{const f=Lj(e);o=()=>f}function s(f=o(),d){let h=[n[d.type],...r.filter(({matcher:m})=>m(d)).map(({reducer:m})=>m)];return h.filter(m=>!!m).length===0&&(h=[l]),h.reduce((m,p)=>{if(p)if(ra(m)){const w=p(m,d);return w===void 0?m:w}else{if(dr(m))return wN(m,x=>p(x,d));{const x=p(m,d);if(x===void 0){if(m===null)return m;throw Error("A case reducer on a non-draftable value must not return undefined")}return x}}return m},f)}return s.getInitialState=o,s}var RL="ModuleSymbhasOwnPr-0123456789ABCDEFGHNRVfgctiUvz_KqYTJkLxpZXIjQW",PL=(e=21)=>{let t="",n=e;for(;n--;)t+=RL[Math.random()*64|0];return t},zL=Symbol.for("rtk-slice-createasyncthunk");function LL(e,t){return`${e}/${t}`}function BL({creators:e}={}){const t=e?.asyncThunk?.[zL];return function(r){const{name:l,reducerPath:o=l}=r;if(!l)throw new Error(Pn(11));const s=(typeof r.reducers=="function"?r.reducers(IL()):r.reducers)||{},f=Object.keys(s),d={sliceCaseReducersByName:{},sliceCaseReducersByType:{},actionCreators:{},sliceMatchers:[]},h={addCase(C,D){const T=typeof C=="string"?C:C.type;if(!T)throw new Error(Pn(12));if(T in d.sliceCaseReducersByType)throw new Error(Pn(13));return d.sliceCaseReducersByType[T]=D,h},addMatcher(C,D){return d.sliceMatchers.push({matcher:C,reducer:D}),h},exposeAction(C,D){return d.actionCreators[C]=D,h},exposeCaseReducer(C,D){return d.sliceCaseReducersByName[C]=D,h}};f.forEach(C=>{const D=s[C],T={reducerName:C,type:LL(l,C),createNotation:typeof r.reducers=="function"};HL(D)?KL(T,D,h,t):qL(T,D,h)});function m(){const[C={},D=[],T=void 0]=typeof r.extraReducers=="function"?ON(r.extraReducers):[r.extraReducers],P={...C,...d.sliceCaseReducersByType};return kL(r.initialState,k=>{for(let I in P)k.addCase(I,P[I]);for(let I of d.sliceMatchers)k.addMatcher(I.matcher,I.reducer);for(let I of D)k.addMatcher(I.matcher,I.reducer);T&&k.addDefaultCase(T)})}const p=C=>C,x=new Map,w=new WeakMap;let E;function A(C,D){return E||(E=m()),E(C,D)}function j(){return E||(E=m()),E.getInitialState()}function O(C,D=!1){function T(k){let I=k[C];return typeof I>"u"&&D&&(I=Rc(w,T,j)),I}function P(k=p){const I=Rc(x,D,()=>new WeakMap);return Rc(I,k,()=>{const re={};for(const[ae,W]of Object.entries(r.selectors??{}))re[ae]=UL(W,k,()=>Rc(w,k,j),D);return re})}return{reducerPath:C,getSelectors:P,get selectors(){return P(T)},selectSlice:T}}const _={name:l,reducer:A,actions:d.actionCreators,caseReducers:d.sliceCaseReducersByName,getInitialState:j,...O(o),injectInto(C,{reducerPath:D,...T}={}){const P=D??o;return C.inject({reducerPath:P,reducer:A},T),{..._,...O(P,!0)}}};return _}}function UL(e,t,n,r){function l(o,...s){let f=t(o);return typeof f>"u"&&r&&(f=n()),e(f,...s)}return l.unwrapped=e,l}var gn=BL();function IL(){function e(t,n){return{_reducerDefinitionType:"asyncThunk",payloadCreator:t,...n}}return e.withTypes=()=>e,{reducer(t){return Object.assign({[t.name](...n){return t(...n)}}[t.name],{_reducerDefinitionType:"reducer"})},preparedReducer(t,n){return{_reducerDefinitionType:"reducerWithPrepare",prepare:t,reducer:n}},asyncThunk:e}}function qL({type:e,reducerName:t,createNotation:n},r,l){let o,s;if("reducer"in r){if(n&&!$L(r))throw new Error(Pn(17));o=r.reducer,s=r.prepare}else o=r;l.addCase(e,o).exposeCaseReducer(t,o).exposeAction(t,s?Jn(e,s):Jn(e))}function HL(e){return e._reducerDefinitionType==="asyncThunk"}function $L(e){return e._reducerDefinitionType==="reducerWithPrepare"}function KL({type:e,reducerName:t},n,r,l){if(!l)throw new Error(Pn(18));const{payloadCreator:o,fulfilled:s,pending:f,rejected:d,settled:h,options:m}=n,p=l(e,o,m);r.exposeAction(t,p),s&&r.addCase(p.fulfilled,s),f&&r.addCase(p.pending,f),d&&r.addCase(p.rejected,d),h&&r.addMatcher(p.settled,h),r.exposeCaseReducer(t,{fulfilled:s||Pc,pending:f||Pc,rejected:d||Pc,settled:h||Pc})}function Pc(){}var YL="task",NN="listener",CN="completed",Tg="cancelled",GL=`task-${Tg}`,VL=`task-${CN}`,vy=`${NN}-${Tg}`,XL=`${NN}-${CN}`,vd=class{constructor(e){this.code=e,this.message=`${YL} ${Tg} (reason: ${e})`}name="TaskAbortError";message},Mg=(e,t)=>{if(typeof e!="function")throw new TypeError(Pn(32))},wf=()=>{},_N=(e,t=wf)=>(e.catch(t),e),TN=(e,t)=>(e.addEventListener("abort",t,{once:!0}),()=>e.removeEventListener("abort",t)),_i=(e,t)=>{const n=e.signal;n.aborted||("reason"in n||Object.defineProperty(n,"reason",{enumerable:!0,value:t,configurable:!0,writable:!0}),e.abort(t))},Ti=e=>{if(e.aborted){const{reason:t}=e;throw new vd(t)}};function MN(e,t){let n=wf;return new Promise((r,l)=>{const o=()=>l(new vd(e.reason));if(e.aborted){o();return}n=TN(e,o),t.finally(()=>n()).then(r,l)}).finally(()=>{n=wf})}var FL=async(e,t)=>{try{return await Promise.resolve(),{status:"ok",value:await e()}}catch(n){return{status:n instanceof vd?"cancelled":"rejected",error:n}}finally{t?.()}},Sf=e=>t=>_N(MN(e,t).then(n=>(Ti(e),n))),DN=e=>{const t=Sf(e);return n=>t(new Promise(r=>setTimeout(r,n)))},{assign:Bl}=Object,Uj={},pd="listenerMiddleware",WL=(e,t)=>{const n=r=>TN(e,()=>_i(r,e.reason));return(r,l)=>{Mg(r);const o=new AbortController;n(o);const s=FL(async()=>{Ti(e),Ti(o.signal);const f=await r({pause:Sf(o.signal),delay:DN(o.signal),signal:o.signal});return Ti(o.signal),f},()=>_i(o,VL));return l?.autoJoin&&t.push(s.catch(wf)),{result:Sf(e)(s),cancel(){_i(o,GL)}}}},ZL=(e,t)=>{const n=async(r,l)=>{Ti(t);let o=()=>{};const f=[new Promise((d,h)=>{let m=e({predicate:r,effect:(p,x)=>{x.unsubscribe(),d([p,x.getState(),x.getOriginalState()])}});o=()=>{m(),h()}})];l!=null&&f.push(new Promise(d=>setTimeout(d,l,null)));try{const d=await MN(t,Promise.race(f));return Ti(t),d}finally{o()}};return(r,l)=>_N(n(r,l))},kN=e=>{let{type:t,actionCreator:n,matcher:r,predicate:l,effect:o}=e;if(t)l=Jn(t).match;else if(n)t=n.type,l=n.match;else if(r)l=r;else if(!l)throw new Error(Pn(21));return Mg(o),{predicate:l,type:t,effect:o}},RN=Bl(e=>{const{type:t,predicate:n,effect:r}=kN(e);return{id:PL(),effect:r,type:t,predicate:n,pending:new Set,unsubscribe:()=>{throw new Error(Pn(22))}}},{withTypes:()=>RN}),Ij=(e,t)=>{const{type:n,effect:r,predicate:l}=kN(t);return Array.from(e.values()).find(o=>(typeof n=="string"?o.type===n:o.predicate===l)&&o.effect===r)},py=e=>{e.pending.forEach(t=>{_i(t,vy)})},QL=(e,t)=>()=>{for(const n of t.keys())py(n);e.clear()},qj=(e,t,n)=>{try{e(t,n)}catch(r){setTimeout(()=>{throw r},0)}},PN=Bl(Jn(`${pd}/add`),{withTypes:()=>PN}),JL=Jn(`${pd}/removeAll`),zN=Bl(Jn(`${pd}/remove`),{withTypes:()=>zN}),e6=(...e)=>{console.error(`${pd}/error`,...e)},Gu=(e={})=>{const t=new Map,n=new Map,r=w=>{const E=n.get(w)??0;n.set(w,E+1)},l=w=>{const E=n.get(w)??1;E===1?n.delete(w):n.set(w,E-1)},{extra:o,onError:s=e6}=e;Mg(s);const f=w=>(w.unsubscribe=()=>t.delete(w.id),t.set(w.id,w),E=>{w.unsubscribe(),E?.cancelActive&&py(w)}),d=w=>{const E=Ij(t,w)??RN(w);return f(E)};Bl(d,{withTypes:()=>d});const h=w=>{const E=Ij(t,w);return E&&(E.unsubscribe(),w.cancelActive&&py(E)),!!E};Bl(h,{withTypes:()=>h});const m=async(w,E,A,j)=>{const O=new AbortController,_=ZL(d,O.signal),C=[];try{w.pending.add(O),r(w),await Promise.resolve(w.effect(E,Bl({},A,{getOriginalState:j,condition:(D,T)=>_(D,T).then(Boolean),take:_,delay:DN(O.signal),pause:Sf(O.signal),extra:o,signal:O.signal,fork:WL(O.signal,C),unsubscribe:w.unsubscribe,subscribe:()=>{t.set(w.id,w)},cancelActiveListeners:()=>{w.pending.forEach((D,T,P)=>{D!==O&&(_i(D,vy),P.delete(D))})},cancel:()=>{_i(O,vy),w.pending.delete(O)},throwIfCancelled:()=>{Ti(O.signal)}})))}catch(D){D instanceof vd||qj(s,D,{raisedBy:"effect"})}finally{await Promise.all(C),_i(O,XL),l(w),w.pending.delete(O)}},p=QL(t,n);return{middleware:w=>E=>A=>{if(!fN(A))return E(A);if(PN.match(A))return d(A.payload);if(JL.match(A)){p();return}if(zN.match(A))return h(A.payload);let j=w.getState();const O=()=>{if(j===Uj)throw new Error(Pn(23));return j};let _;try{if(_=E(A),t.size>0){const C=w.getState(),D=Array.from(t.values());for(const T of D){let P=!1;try{P=T.predicate(A,C,j)}catch(k){P=!1,qj(s,k,{raisedBy:"predicate"})}P&&m(T,A,w,O)}}}finally{j=Uj}return _},startListening:d,stopListening:h,clearListeners:p}};function Pn(e){return`Minified Redux Toolkit error #${e}; visit https://redux-toolkit.js.org/Errors?code=${e} for the full message or use the non-minified dev environment for full errors. `}var t6={layoutType:"horizontal",width:0,height:0,margin:{top:5,right:5,bottom:5,left:5},scale:1},LN=gn({name:"chartLayout",initialState:t6,reducers:{setLayout(e,t){e.layoutType=t.payload},setChartSize(e,t){e.width=t.payload.width,e.height=t.payload.height},setMargin(e,t){var n,r,l,o;e.margin.top=(n=t.payload.top)!==null&&n!==void 0?n:0,e.margin.right=(r=t.payload.right)!==null&&r!==void 0?r:0,e.margin.bottom=(l=t.payload.bottom)!==null&&l!==void 0?l:0,e.margin.left=(o=t.payload.left)!==null&&o!==void 0?o:0},setScale(e,t){e.scale=t.payload}}}),{setMargin:n6,setLayout:r6,setChartSize:a6,setScale:i6}=LN.actions,l6=LN.reducer;function BN(e,t,n){return Array.isArray(e)&&e&&t+n!==0?e.slice(t,n+1):e}function Hj(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Pl(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?Hj(Object(n),!0).forEach(function(r){o6(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):Hj(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function o6(e,t,n){return(t=u6(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function u6(e){var t=s6(e,"string");return typeof t=="symbol"?t:t+""}function s6(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function nn(e,t,n){return Zt(e)||Zt(t)?n:jr(t)?od(e,t,n):typeof t=="function"?t(e):n}var c6=(e,t,n)=>{if(t&&n){var{width:r,height:l}=n,{align:o,verticalAlign:s,layout:f}=t;if((f==="vertical"||f==="horizontal"&&s==="middle")&&o!=="center"&&de(e[o]))return Pl(Pl({},e),{},{[o]:e[o]+(r||0)});if((f==="horizontal"||f==="vertical"&&o==="center")&&s!=="middle"&&de(e[s]))return Pl(Pl({},e),{},{[s]:e[s]+(l||0)})}return e},ca=(e,t)=>e==="horizontal"&&t==="xAxis"||e==="vertical"&&t==="yAxis"||e==="centric"&&t==="angleAxis"||e==="radial"&&t==="radiusAxis",UN=(e,t,n,r)=>{if(r)return e.map(f=>f.coordinate);var l,o,s=e.map(f=>(f.coordinate===t&&(l=!0),f.coordinate===n&&(o=!0),f.coordinate));return l||s.push(t),o||s.push(n),s},IN=(e,t,n)=>{if(!e)return null;var{duplicateDomain:r,type:l,range:o,scale:s,realScaleType:f,isCategorical:d,categoricalDomain:h,tickCount:m,ticks:p,niceTicks:x,axisType:w}=e;if(!s)return null;var E=f==="scaleBand"&&s.bandwidth?s.bandwidth()/2:2,A=l==="category"&&s.bandwidth?s.bandwidth()/E:0;if(A=w==="angleAxis"&&o&&o.length>=2?Fn(o[0]-o[1])*2*A:A,p||x){var j=(p||x||[]).map((O,_)=>{var C=r?r.indexOf(O):O;return{coordinate:s(C)+A,value:O,offset:A,index:_}});return j.filter(O=>!fr(O.coordinate))}return d&&h?h.map((O,_)=>({coordinate:s(O)+A,value:O,index:_,offset:A})):s.ticks&&m!=null?s.ticks(m).map((O,_)=>({coordinate:s(O)+A,value:O,offset:A,index:_})):s.domain().map((O,_)=>({coordinate:s(O)+A,value:r?r[O]:O,index:_,offset:A}))},$j=1e-4,f6=e=>{var t=e.domain();if(!(!t||t.length<=2)){var n=t.length,r=e.range(),l=Math.min(r[0],r[1])-$j,o=Math.max(r[0],r[1])+$j,s=e(t[0]),f=e(t[n-1]);(s<l||s>o||f<l||f>o)&&e.domain([t[0],t[n-1]])}},d6=e=>{var t=e.length;if(!(t<=0))for(var n=0,r=e[0].length;n<r;++n)for(var l=0,o=0,s=0;s<t;++s){var f=fr(e[s][n][1])?e[s][n][0]:e[s][n][1];f>=0?(e[s][n][0]=l,e[s][n][1]=l+f,l=e[s][n][1]):(e[s][n][0]=o,e[s][n][1]=o+f,o=e[s][n][1])}},h6=e=>{var t=e.length;if(!(t<=0))for(var n=0,r=e[0].length;n<r;++n)for(var l=0,o=0;o<t;++o){var s=fr(e[o][n][1])?e[o][n][0]:e[o][n][1];s>=0?(e[o][n][0]=l,e[o][n][1]=l+s,l=e[o][n][1]):(e[o][n][0]=0,e[o][n][1]=0)}},m6={sign:d6,expand:Qz,none:ql,silhouette:Jz,wiggle:e5,positive:h6},v6=(e,t,n)=>{var r=m6[n],l=Zz().keys(t).value((o,s)=>Number(nn(o,s,0))).order(ly).offset(r);return l(e)};function p6(e){return e==null?void 0:String(e)}function Kj(e){var{axis:t,ticks:n,bandSize:r,entry:l,index:o,dataKey:s}=e;if(t.type==="category"){if(!t.allowDuplicatedCategory&&t.dataKey&&!Zt(l[t.dataKey])){var f=XO(n,"value",l[t.dataKey]);if(f)return f.coordinate+r/2}return n[o]?n[o].coordinate+r/2:null}var d=nn(l,Zt(s)?t.dataKey:s);return Zt(d)?null:t.scale(d)}var y6=e=>{var t=e.flat(2).filter(de);return[Math.min(...t),Math.max(...t)]},g6=e=>[e[0]===1/0?0:e[0],e[1]===-1/0?0:e[1]],b6=(e,t,n)=>{if(e!=null)return g6(Object.keys(e).reduce((r,l)=>{var o=e[l],{stackedData:s}=o,f=s.reduce((d,h)=>{var m=BN(h,t,n),p=y6(m);return[Math.min(d[0],p[0]),Math.max(d[1],p[1])]},[1/0,-1/0]);return[Math.min(f[0],r[0]),Math.max(f[1],r[1])]},[1/0,-1/0]))},Yj=/^dataMin[\s]*-[\s]*([0-9]+([.]{1}[0-9]+){0,1})$/,Gj=/^dataMax[\s]*\+[\s]*([0-9]+([.]{1}[0-9]+){0,1})$/,jf=(e,t,n)=>{if(e&&e.scale&&e.scale.bandwidth){var r=e.scale.bandwidth();if(!n||r>0)return r}if(e&&t&&t.length>=2){for(var l=ud(t,m=>m.coordinate),o=1/0,s=1,f=l.length;s<f;s++){var d=l[s],h=l[s-1];o=Math.min((d.coordinate||0)-(h.coordinate||0),o)}return o===1/0?0:o}return n?void 0:0};function Vj(e){var{tooltipEntrySettings:t,dataKey:n,payload:r,value:l,name:o}=e;return Pl(Pl({},t),{},{dataKey:n,payload:r,value:l,name:o})}function qN(e,t){if(e)return String(e);if(typeof t=="string")return t}var x6=(e,t)=>{if(t==="horizontal")return e.chartX;if(t==="vertical")return e.chartY},w6=(e,t)=>t==="centric"?e.angle:e.radius,fa=e=>e.layout.width,da=e=>e.layout.height,S6=e=>e.layout.scale,HN=e=>e.layout.margin,yd=K(e=>e.cartesianAxis.xAxis,e=>Object.values(e)),gd=K(e=>e.cartesianAxis.yAxis,e=>Object.values(e)),j6="data-recharts-item-index",E6="data-recharts-item-data-key",Vu=60;function Xj(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function zc(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?Xj(Object(n),!0).forEach(function(r){A6(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):Xj(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function A6(e,t,n){return(t=O6(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function O6(e){var t=N6(e,"string");return typeof t=="symbol"?t:t+""}function N6(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var C6=e=>e.brush.height;function _6(e){var t=gd(e);return t.reduce((n,r)=>{if(r.orientation==="left"&&!r.mirror&&!r.hide){var l=typeof r.width=="number"?r.width:Vu;return n+l}return n},0)}function T6(e){var t=gd(e);return t.reduce((n,r)=>{if(r.orientation==="right"&&!r.mirror&&!r.hide){var l=typeof r.width=="number"?r.width:Vu;return n+l}return n},0)}function M6(e){var t=yd(e);return t.reduce((n,r)=>r.orientation==="top"&&!r.mirror&&!r.hide?n+r.height:n,0)}function D6(e){var t=yd(e);return t.reduce((n,r)=>r.orientation==="bottom"&&!r.mirror&&!r.hide?n+r.height:n,0)}var Qt=K([fa,da,HN,C6,_6,T6,M6,D6,uN,aL],(e,t,n,r,l,o,s,f,d,h)=>{var m={left:(n.left||0)+l,right:(n.right||0)+o},p={top:(n.top||0)+s,bottom:(n.bottom||0)+f},x=zc(zc({},p),m),w=x.bottom;x.bottom+=r,x=c6(x,d,h);var E=e-x.left-x.right,A=t-x.top-x.bottom;return zc(zc({brushBottom:w},x),{},{width:Math.max(E,0),height:Math.max(A,0)})}),k6=K(Qt,e=>({x:e.left,y:e.top,width:e.width,height:e.height})),$N=K(fa,da,(e,t)=>({x:0,y:0,width:e,height:t})),R6=b.createContext(null),bn=()=>b.useContext(R6)!=null,bd=e=>e.brush,xd=K([bd,Qt,HN],(e,t,n)=>({height:e.height,x:de(e.x)?e.x:t.left,y:de(e.y)?e.y:t.top+t.height+t.brushBottom-(n?.bottom||0),width:de(e.width)?e.width:t.width})),dp={},hp={},mp={},Fj;function P6(){return Fj||(Fj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n,r,{signal:l,edges:o}={}){let s,f=null;const d=o!=null&&o.includes("leading"),h=o==null||o.includes("trailing"),m=()=>{f!==null&&(n.apply(s,f),s=void 0,f=null)},p=()=>{h&&m(),A()};let x=null;const w=()=>{x!=null&&clearTimeout(x),x=setTimeout(()=>{x=null,p()},r)},E=()=>{x!==null&&(clearTimeout(x),x=null)},A=()=>{E(),s=void 0,f=null},j=()=>{m()},O=function(..._){if(l?.aborted)return;s=this,f=_;const C=x==null;w(),d&&C&&m()};return O.schedule=w,O.cancel=A,O.flush=j,l?.addEventListener("abort",A,{once:!0}),O}e.debounce=t})(mp)),mp}var Wj;function z6(){return Wj||(Wj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=P6();function n(r,l=0,o={}){typeof o!="object"&&(o={});const{leading:s=!1,trailing:f=!0,maxWait:d}=o,h=Array(2);s&&(h[0]="leading"),f&&(h[1]="trailing");let m,p=null;const x=t.debounce(function(...A){m=r.apply(this,A),p=null},l,{edges:h}),w=function(...A){return d!=null&&(p===null&&(p=Date.now()),Date.now()-p>=d)?(m=r.apply(this,A),p=Date.now(),x.cancel(),x.schedule(),m):(x.apply(this,A),m)},E=()=>(x.flush(),m);return w.cancel=x.cancel,w.flush=E,w}e.debounce=n})(hp)),hp}var Zj;function L6(){return Zj||(Zj=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=z6();function n(r,l=0,o={}){const{leading:s=!0,trailing:f=!0}=o;return t.debounce(r,l,{leading:s,maxWait:l,trailing:f})}e.throttle=n})(dp)),dp}var vp,Qj;function B6(){return Qj||(Qj=1,vp=L6().throttle),vp}var U6=B6();const I6=ua(U6);var Ef=function(t,n){for(var r=arguments.length,l=new Array(r>2?r-2:0),o=2;o<r;o++)l[o-2]=arguments[o];if(typeof console<"u"&&console.warn&&(n===void 0&&console.warn("LogUtils requires an error message argument"),!t))if(n===void 0)console.warn("Minified exception occurred; use the non-minified dev environment for the full error message and additional helpful warnings.");else{var s=0;console.warn(n.replace(/%s/g,()=>l[s++]))}},KN=(e,t,n)=>{var{width:r="100%",height:l="100%",aspect:o,maxHeight:s}=n,f=na(r)?e:Number(r),d=na(l)?t:Number(l);return o&&o>0&&(f?d=f/o:d&&(f=d*o),s&&d!=null&&d>s&&(d=s)),{calculatedWidth:f,calculatedHeight:d}},q6={width:0,height:0,overflow:"visible"},H6={width:0,overflowX:"visible"},$6={height:0,overflowY:"visible"},K6={},Y6=e=>{var{width:t,height:n}=e,r=na(t),l=na(n);return r&&l?q6:r?H6:l?$6:K6};function G6(e){var{width:t,height:n,aspect:r}=e,l=t,o=n;return l===void 0&&o===void 0?(l="100%",o="100%"):l===void 0?l=r&&r>0?void 0:"100%":o===void 0&&(o=r&&r>0?void 0:"100%"),{width:l,height:o}}function ct(e){return Number.isFinite(e)}function Er(e){return typeof e=="number"&&e>0&&Number.isFinite(e)}function yy(){return yy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},yy.apply(null,arguments)}function Jj(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function eE(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?Jj(Object(n),!0).forEach(function(r){V6(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):Jj(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function V6(e,t,n){return(t=X6(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function X6(e){var t=F6(e,"string");return typeof t=="symbol"?t:t+""}function F6(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var YN=b.createContext({width:-1,height:-1});function W6(e){return Er(e.width)&&Er(e.height)}function GN(e){var{children:t,width:n,height:r}=e,l=b.useMemo(()=>({width:n,height:r}),[n,r]);return W6(l)?b.createElement(YN.Provider,{value:l},t):null}var Dg=()=>b.useContext(YN),Z6=b.forwardRef((e,t)=>{var{aspect:n,initialDimension:r={width:-1,height:-1},width:l,height:o,minWidth:s=0,minHeight:f,maxHeight:d,children:h,debounce:m=0,id:p,className:x,onResize:w,style:E={}}=e,A=b.useRef(null),j=b.useRef();j.current=w,b.useImperativeHandle(t,()=>A.current);var[O,_]=b.useState({containerWidth:r.width,containerHeight:r.height}),C=b.useCallback((I,re)=>{_(ae=>{var W=Math.round(I),J=Math.round(re);return ae.containerWidth===W&&ae.containerHeight===J?ae:{containerWidth:W,containerHeight:J}})},[]);b.useEffect(()=>{if(A.current==null||typeof ResizeObserver>"u")return $u;var I=J=>{var pe,{width:ge,height:xe}=J[0].contentRect;C(ge,xe),(pe=j.current)===null||pe===void 0||pe.call(j,ge,xe)};m>0&&(I=I6(I,m,{trailing:!0,leading:!1}));var re=new ResizeObserver(I),{width:ae,height:W}=A.current.getBoundingClientRect();return C(ae,W),re.observe(A.current),()=>{re.disconnect()}},[C,m]);var{containerWidth:D,containerHeight:T}=O;Ef(!n||n>0,"The aspect(%s) must be greater than zero.",n);var{calculatedWidth:P,calculatedHeight:k}=KN(D,T,{width:l,height:o,aspect:n,maxHeight:d});return Ef(P!=null&&P>0||k!=null&&k>0,`The width(%s) and height(%s) of chart should be greater than 0,
-       please check the style of container, or the props width(%s) and height(%s),
-       or add a minWidth(%s) or minHeight(%s) or use aspect(%s) to control the
-       height and width.`,P,k,l,o,s,f,n),b.createElement("div",{id:p?"".concat(p):void 0,className:Xe("recharts-responsive-container",x),style:eE(eE({},E),{},{width:l,height:o,minWidth:s,minHeight:f,maxHeight:d}),ref:A},b.createElement("div",{style:Y6({width:l,height:o})},b.createElement(GN,{width:P,height:k},h)))}),VN=b.forwardRef((e,t)=>{var n=Dg();if(Er(n.width)&&Er(n.height))return e.children;var{width:r,height:l}=G6({width:e.width,height:e.height,aspect:e.aspect}),{calculatedWidth:o,calculatedHeight:s}=KN(void 0,void 0,{width:r,height:l,aspect:e.aspect,maxHeight:e.maxHeight});return de(o)&&de(s)?b.createElement(GN,{width:o,height:s},e.children):b.createElement(Z6,yy({},e,{width:r,height:l,ref:t}))});function XN(e){if(e)return{x:e.x,y:e.y,upperWidth:"upperWidth"in e?e.upperWidth:e.width,lowerWidth:"lowerWidth"in e?e.lowerWidth:e.width,width:e.width,height:e.height}}var wd=()=>{var e,t=bn(),n=ve(k6),r=ve(xd),l=(e=ve(bd))===null||e===void 0?void 0:e.padding;return!t||!r||!l?n:{width:r.width-l.left-l.right,height:r.height-l.top-l.bottom,x:l.left,y:l.top}},Q6={top:0,bottom:0,left:0,right:0,width:0,height:0,brushBottom:0},FN=()=>{var e;return(e=ve(Qt))!==null&&e!==void 0?e:Q6},WN=()=>ve(fa),ZN=()=>ve(da),Ze=e=>e.layout.layoutType,Xu=()=>ve(Ze),J6=()=>{var e=Xu();if(e==="horizontal"||e==="vertical")return e},e8=()=>{var e=Xu();return e!==void 0},Sd=e=>{var t=Bt(),n=bn(),{width:r,height:l}=e,o=Dg(),s=r,f=l;return o&&(s=o.width>0?o.width:r,f=o.height>0?o.height:l),b.useEffect(()=>{!n&&Er(s)&&Er(f)&&t(a6({width:s,height:f}))},[t,n,s,f]),null},QN=Symbol.for("immer-nothing"),tE=Symbol.for("immer-draftable"),zn=Symbol.for("immer-state");function or(e,...t){throw new Error(`[Immer] minified error nr: ${e}. Full error at: https://bit.ly/3cXEKWf`)}var Nu=Object.getPrototypeOf;function Kl(e){return!!e&&!!e[zn]}function Ri(e){return e?JN(e)||Array.isArray(e)||!!e[tE]||!!e.constructor?.[tE]||Fu(e)||Ed(e):!1}var t8=Object.prototype.constructor.toString(),nE=new WeakMap;function JN(e){if(!e||typeof e!="object")return!1;const t=Object.getPrototypeOf(e);if(t===null||t===Object.prototype)return!0;const n=Object.hasOwnProperty.call(t,"constructor")&&t.constructor;if(n===Object)return!0;if(typeof n!="function")return!1;let r=nE.get(n);return r===void 0&&(r=Function.toString.call(n),nE.set(n,r)),r===t8}function Af(e,t,n=!0){jd(e)===0?(n?Reflect.ownKeys(e):Object.keys(e)).forEach(l=>{t(l,e[l],e)}):e.forEach((r,l)=>t(l,r,e))}function jd(e){const t=e[zn];return t?t.type_:Array.isArray(e)?1:Fu(e)?2:Ed(e)?3:0}function gy(e,t){return jd(e)===2?e.has(t):Object.prototype.hasOwnProperty.call(e,t)}function eC(e,t,n){const r=jd(e);r===2?e.set(t,n):r===3?e.add(n):e[t]=n}function n8(e,t){return e===t?e!==0||1/e===1/t:e!==e&&t!==t}function Fu(e){return e instanceof Map}function Ed(e){return e instanceof Set}function wi(e){return e.copy_||e.base_}function by(e,t){if(Fu(e))return new Map(e);if(Ed(e))return new Set(e);if(Array.isArray(e))return Array.prototype.slice.call(e);const n=JN(e);if(t===!0||t==="class_only"&&!n){const r=Object.getOwnPropertyDescriptors(e);delete r[zn];let l=Reflect.ownKeys(r);for(let o=0;o<l.length;o++){const s=l[o],f=r[s];f.writable===!1&&(f.writable=!0,f.configurable=!0),(f.get||f.set)&&(r[s]={configurable:!0,writable:!0,enumerable:f.enumerable,value:e[s]})}return Object.create(Nu(e),r)}else{const r=Nu(e);if(r!==null&&n)return{...e};const l=Object.create(r);return Object.assign(l,e)}}function kg(e,t=!1){return Ad(e)||Kl(e)||!Ri(e)||(jd(e)>1&&Object.defineProperties(e,{set:Lc,add:Lc,clear:Lc,delete:Lc}),Object.freeze(e),t&&Object.values(e).forEach(n=>kg(n,!0))),e}function r8(){or(2)}var Lc={value:r8};function Ad(e){return e===null||typeof e!="object"?!0:Object.isFrozen(e)}var a8={};function Pi(e){const t=a8[e];return t||or(0,e),t}var Cu;function tC(){return Cu}function i8(e,t){return{drafts_:[],parent_:e,immer_:t,canAutoFreeze_:!0,unfinalizedDrafts_:0}}function rE(e,t){t&&(Pi("Patches"),e.patches_=[],e.inversePatches_=[],e.patchListener_=t)}function xy(e){wy(e),e.drafts_.forEach(l8),e.drafts_=null}function wy(e){e===Cu&&(Cu=e.parent_)}function aE(e){return Cu=i8(Cu,e)}function l8(e){const t=e[zn];t.type_===0||t.type_===1?t.revoke_():t.revoked_=!0}function iE(e,t){t.unfinalizedDrafts_=t.drafts_.length;const n=t.drafts_[0];return e!==void 0&&e!==n?(n[zn].modified_&&(xy(t),or(4)),Ri(e)&&(e=Of(t,e),t.parent_||Nf(t,e)),t.patches_&&Pi("Patches").generateReplacementPatches_(n[zn].base_,e,t.patches_,t.inversePatches_)):e=Of(t,n,[]),xy(t),t.patches_&&t.patchListener_(t.patches_,t.inversePatches_),e!==QN?e:void 0}function Of(e,t,n){if(Ad(t))return t;const r=e.immer_.shouldUseStrictIteration(),l=t[zn];if(!l)return Af(t,(o,s)=>lE(e,l,t,o,s,n),r),t;if(l.scope_!==e)return t;if(!l.modified_)return Nf(e,l.base_,!0),l.base_;if(!l.finalized_){l.finalized_=!0,l.scope_.unfinalizedDrafts_--;const o=l.copy_;let s=o,f=!1;l.type_===3&&(s=new Set(o),o.clear(),f=!0),Af(s,(d,h)=>lE(e,l,o,d,h,n,f),r),Nf(e,o,!1),n&&e.patches_&&Pi("Patches").generatePatches_(l,n,e.patches_,e.inversePatches_)}return l.copy_}function lE(e,t,n,r,l,o,s){if(l==null||typeof l!="object"&&!s)return;const f=Ad(l);if(!(f&&!s)){if(Kl(l)){const d=o&&t&&t.type_!==3&&!gy(t.assigned_,r)?o.concat(r):void 0,h=Of(e,l,d);if(eC(n,r,h),Kl(h))e.canAutoFreeze_=!1;else return}else s&&n.add(l);if(Ri(l)&&!f){if(!e.immer_.autoFreeze_&&e.unfinalizedDrafts_<1||t&&t.base_&&t.base_[r]===l&&f)return;Of(e,l),(!t||!t.scope_.parent_)&&typeof r!="symbol"&&(Fu(n)?n.has(r):Object.prototype.propertyIsEnumerable.call(n,r))&&Nf(e,l)}}}function Nf(e,t,n=!1){!e.parent_&&e.immer_.autoFreeze_&&e.canAutoFreeze_&&kg(t,n)}function o8(e,t){const n=Array.isArray(e),r={type_:n?1:0,scope_:t?t.scope_:tC(),modified_:!1,finalized_:!1,assigned_:{},parent_:t,base_:e,draft_:null,copy_:null,revoke_:null,isManual_:!1};let l=r,o=Rg;n&&(l=[r],o=_u);const{revoke:s,proxy:f}=Proxy.revocable(l,o);return r.draft_=f,r.revoke_=s,f}var Rg={get(e,t){if(t===zn)return e;const n=wi(e);if(!gy(n,t))return u8(e,n,t);const r=n[t];return e.finalized_||!Ri(r)?r:r===pp(e.base_,t)?(yp(e),e.copy_[t]=jy(r,e)):r},has(e,t){return t in wi(e)},ownKeys(e){return Reflect.ownKeys(wi(e))},set(e,t,n){const r=nC(wi(e),t);if(r?.set)return r.set.call(e.draft_,n),!0;if(!e.modified_){const l=pp(wi(e),t),o=l?.[zn];if(o&&o.base_===n)return e.copy_[t]=n,e.assigned_[t]=!1,!0;if(n8(n,l)&&(n!==void 0||gy(e.base_,t)))return!0;yp(e),Sy(e)}return e.copy_[t]===n&&(n!==void 0||t in e.copy_)||Number.isNaN(n)&&Number.isNaN(e.copy_[t])||(e.copy_[t]=n,e.assigned_[t]=!0),!0},deleteProperty(e,t){return pp(e.base_,t)!==void 0||t in e.base_?(e.assigned_[t]=!1,yp(e),Sy(e)):delete e.assigned_[t],e.copy_&&delete e.copy_[t],!0},getOwnPropertyDescriptor(e,t){const n=wi(e),r=Reflect.getOwnPropertyDescriptor(n,t);return r&&{writable:!0,configurable:e.type_!==1||t!=="length",enumerable:r.enumerable,value:n[t]}},defineProperty(){or(11)},getPrototypeOf(e){return Nu(e.base_)},setPrototypeOf(){or(12)}},_u={};Af(Rg,(e,t)=>{_u[e]=function(){return arguments[0]=arguments[0][0],t.apply(this,arguments)}});_u.deleteProperty=function(e,t){return _u.set.call(this,e,t,void 0)};_u.set=function(e,t,n){return Rg.set.call(this,e[0],t,n,e[0])};function pp(e,t){const n=e[zn];return(n?wi(n):e)[t]}function u8(e,t,n){const r=nC(t,n);return r?"value"in r?r.value:r.get?.call(e.draft_):void 0}function nC(e,t){if(!(t in e))return;let n=Nu(e);for(;n;){const r=Object.getOwnPropertyDescriptor(n,t);if(r)return r;n=Nu(n)}}function Sy(e){e.modified_||(e.modified_=!0,e.parent_&&Sy(e.parent_))}function yp(e){e.copy_||(e.copy_=by(e.base_,e.scope_.immer_.useStrictShallowCopy_))}var s8=class{constructor(e){this.autoFreeze_=!0,this.useStrictShallowCopy_=!1,this.useStrictIteration_=!0,this.produce=(t,n,r)=>{if(typeof t=="function"&&typeof n!="function"){const o=n;n=t;const s=this;return function(d=o,...h){return s.produce(d,m=>n.call(this,m,...h))}}typeof n!="function"&&or(6),r!==void 0&&typeof r!="function"&&or(7);let l;if(Ri(t)){const o=aE(this),s=jy(t,void 0);let f=!0;try{l=n(s),f=!1}finally{f?xy(o):wy(o)}return rE(o,r),iE(l,o)}else if(!t||typeof t!="object"){if(l=n(t),l===void 0&&(l=t),l===QN&&(l=void 0),this.autoFreeze_&&kg(l,!0),r){const o=[],s=[];Pi("Patches").generateReplacementPatches_(t,l,o,s),r(o,s)}return l}else or(1,t)},this.produceWithPatches=(t,n)=>{if(typeof t=="function")return(s,...f)=>this.produceWithPatches(s,d=>t(d,...f));let r,l;return[this.produce(t,n,(s,f)=>{r=s,l=f}),r,l]},typeof e?.autoFreeze=="boolean"&&this.setAutoFreeze(e.autoFreeze),typeof e?.useStrictShallowCopy=="boolean"&&this.setUseStrictShallowCopy(e.useStrictShallowCopy),typeof e?.useStrictIteration=="boolean"&&this.setUseStrictIteration(e.useStrictIteration)}createDraft(e){Ri(e)||or(8),Kl(e)&&(e=c8(e));const t=aE(this),n=jy(e,void 0);return n[zn].isManual_=!0,wy(t),n}finishDraft(e,t){const n=e&&e[zn];(!n||!n.isManual_)&&or(9);const{scope_:r}=n;return rE(r,t),iE(void 0,r)}setAutoFreeze(e){this.autoFreeze_=e}setUseStrictShallowCopy(e){this.useStrictShallowCopy_=e}setUseStrictIteration(e){this.useStrictIteration_=e}shouldUseStrictIteration(){return this.useStrictIteration_}applyPatches(e,t){let n;for(n=t.length-1;n>=0;n--){const l=t[n];if(l.path.length===0&&l.op==="replace"){e=l.value;break}}n>-1&&(t=t.slice(n+1));const r=Pi("Patches").applyPatches_;return Kl(e)?r(e,t):this.produce(e,l=>r(l,t))}};function jy(e,t){const n=Fu(e)?Pi("MapSet").proxyMap_(e,t):Ed(e)?Pi("MapSet").proxySet_(e,t):o8(e,t);return(t?t.scope_:tC()).drafts_.push(n),n}function c8(e){return Kl(e)||or(10,e),rC(e)}function rC(e){if(!Ri(e)||Ad(e))return e;const t=e[zn];let n,r=!0;if(t){if(!t.modified_)return t.base_;t.finalized_=!0,n=by(e,t.scope_.immer_.useStrictShallowCopy_),r=t.scope_.immer_.shouldUseStrictIteration()}else n=by(e,!0);return Af(n,(l,o)=>{eC(n,l,rC(o))},r),t&&(t.finalized_=!1),n}var f8=new s8;f8.produce;var d8={settings:{layout:"horizontal",align:"center",verticalAlign:"middle",itemSorter:"value"},size:{width:0,height:0},payload:[]},aC=gn({name:"legend",initialState:d8,reducers:{setLegendSize(e,t){e.size.width=t.payload.width,e.size.height=t.payload.height},setLegendSettings(e,t){e.settings.align=t.payload.align,e.settings.layout=t.payload.layout,e.settings.verticalAlign=t.payload.verticalAlign,e.settings.itemSorter=t.payload.itemSorter},addLegendPayload:{reducer(e,t){e.payload.push(t.payload)},prepare:nt()},replaceLegendPayload:{reducer(e,t){var{prev:n,next:r}=t.payload,l=sr(e).payload.indexOf(n);l>-1&&(e.payload[l]=r)},prepare:nt()},removeLegendPayload:{reducer(e,t){var n=sr(e).payload.indexOf(t.payload);n>-1&&e.payload.splice(n,1)},prepare:nt()}}}),{setLegendSize:FF,setLegendSettings:WF,addLegendPayload:h8,replaceLegendPayload:m8,removeLegendPayload:v8}=aC.actions,p8=aC.reducer;function Ey(){return Ey=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Ey.apply(null,arguments)}function oE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function gp(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?oE(Object(n),!0).forEach(function(r){y8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):oE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function y8(e,t,n){return(t=g8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function g8(e){var t=b8(e,"string");return typeof t=="symbol"?t:t+""}function b8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function x8(e){return Array.isArray(e)&&jr(e[0])&&jr(e[1])?e.join(" ~ "):e}var w8=e=>{var{separator:t=" : ",contentStyle:n={},itemStyle:r={},labelStyle:l={},payload:o,formatter:s,itemSorter:f,wrapperClassName:d,labelClassName:h,label:m,labelFormatter:p,accessibilityLayer:x=!1}=e,w=()=>{if(o&&o.length){var T={padding:0,margin:0},P=(f?ud(o,f):o).map((k,I)=>{if(k.type==="none")return null;var re=k.formatter||s||x8,{value:ae,name:W}=k,J=ae,pe=W;if(re){var ge=re(ae,W,k,I,o);if(Array.isArray(ge))[J,pe]=ge;else if(ge!=null)J=ge;else return null}var xe=gp({display:"block",paddingTop:4,paddingBottom:4,color:k.color||"#000"},r);return b.createElement("li",{className:"recharts-tooltip-item",key:"tooltip-item-".concat(I),style:xe},jr(pe)?b.createElement("span",{className:"recharts-tooltip-item-name"},pe):null,jr(pe)?b.createElement("span",{className:"recharts-tooltip-item-separator"},t):null,b.createElement("span",{className:"recharts-tooltip-item-value"},J),b.createElement("span",{className:"recharts-tooltip-item-unit"},k.unit||""))});return b.createElement("ul",{className:"recharts-tooltip-item-list",style:T},P)}return null},E=gp({margin:0,padding:10,backgroundColor:"#fff",border:"1px solid #ccc",whiteSpace:"nowrap"},n),A=gp({margin:0},l),j=!Zt(m),O=j?m:"",_=Xe("recharts-default-tooltip",d),C=Xe("recharts-tooltip-label",h);j&&p&&o!==void 0&&o!==null&&(O=p(m,o));var D=x?{role:"status","aria-live":"assertive"}:{};return b.createElement("div",Ey({className:_,style:E},D),b.createElement("p",{className:C,style:A},b.isValidElement(O)?O:"".concat(O)),w())},fu="recharts-tooltip-wrapper",S8={visibility:"hidden"};function j8(e){var{coordinate:t,translateX:n,translateY:r}=e;return Xe(fu,{["".concat(fu,"-right")]:de(n)&&t&&de(t.x)&&n>=t.x,["".concat(fu,"-left")]:de(n)&&t&&de(t.x)&&n<t.x,["".concat(fu,"-bottom")]:de(r)&&t&&de(t.y)&&r>=t.y,["".concat(fu,"-top")]:de(r)&&t&&de(t.y)&&r<t.y})}function uE(e){var{allowEscapeViewBox:t,coordinate:n,key:r,offsetTopLeft:l,position:o,reverseDirection:s,tooltipDimension:f,viewBox:d,viewBoxDimension:h}=e;if(o&&de(o[r]))return o[r];var m=n[r]-f-(l>0?l:0),p=n[r]+l;if(t[r])return s[r]?m:p;var x=d[r];if(x==null)return 0;if(s[r]){var w=m,E=x;return w<E?Math.max(p,x):Math.max(m,x)}if(h==null)return 0;var A=p+f,j=x+h;return A>j?Math.max(m,x):Math.max(p,x)}function E8(e){var{translateX:t,translateY:n,useTranslate3d:r}=e;return{transform:r?"translate3d(".concat(t,"px, ").concat(n,"px, 0)"):"translate(".concat(t,"px, ").concat(n,"px)")}}function A8(e){var{allowEscapeViewBox:t,coordinate:n,offsetTopLeft:r,position:l,reverseDirection:o,tooltipBox:s,useTranslate3d:f,viewBox:d}=e,h,m,p;return s.height>0&&s.width>0&&n?(m=uE({allowEscapeViewBox:t,coordinate:n,key:"x",offsetTopLeft:r,position:l,reverseDirection:o,tooltipDimension:s.width,viewBox:d,viewBoxDimension:d.width}),p=uE({allowEscapeViewBox:t,coordinate:n,key:"y",offsetTopLeft:r,position:l,reverseDirection:o,tooltipDimension:s.height,viewBox:d,viewBoxDimension:d.height}),h=E8({translateX:m,translateY:p,useTranslate3d:f})):h=S8,{cssProperties:h,cssClasses:j8({translateX:m,translateY:p,coordinate:n})}}function sE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Bc(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?sE(Object(n),!0).forEach(function(r){Ay(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):sE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Ay(e,t,n){return(t=O8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function O8(e){var t=N8(e,"string");return typeof t=="symbol"?t:t+""}function N8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}class C8 extends b.PureComponent{constructor(){super(...arguments),Ay(this,"state",{dismissed:!1,dismissedAtCoordinate:{x:0,y:0}}),Ay(this,"handleKeyDown",t=>{if(t.key==="Escape"){var n,r,l,o;this.setState({dismissed:!0,dismissedAtCoordinate:{x:(n=(r=this.props.coordinate)===null||r===void 0?void 0:r.x)!==null&&n!==void 0?n:0,y:(l=(o=this.props.coordinate)===null||o===void 0?void 0:o.y)!==null&&l!==void 0?l:0}})}})}componentDidMount(){document.addEventListener("keydown",this.handleKeyDown)}componentWillUnmount(){document.removeEventListener("keydown",this.handleKeyDown)}componentDidUpdate(){var t,n;this.state.dismissed&&(((t=this.props.coordinate)===null||t===void 0?void 0:t.x)!==this.state.dismissedAtCoordinate.x||((n=this.props.coordinate)===null||n===void 0?void 0:n.y)!==this.state.dismissedAtCoordinate.y)&&(this.state.dismissed=!1)}render(){var{active:t,allowEscapeViewBox:n,animationDuration:r,animationEasing:l,children:o,coordinate:s,hasPayload:f,isAnimationActive:d,offset:h,position:m,reverseDirection:p,useTranslate3d:x,viewBox:w,wrapperStyle:E,lastBoundingBox:A,innerRef:j,hasPortalFromProps:O}=this.props,{cssClasses:_,cssProperties:C}=A8({allowEscapeViewBox:n,coordinate:s,offsetTopLeft:h,position:m,reverseDirection:p,tooltipBox:{height:A.height,width:A.width},useTranslate3d:x,viewBox:w}),D=O?{}:Bc(Bc({transition:d&&t?"transform ".concat(r,"ms ").concat(l):void 0},C),{},{pointerEvents:"none",visibility:!this.state.dismissed&&t&&f?"visible":"hidden",position:"absolute",top:0,left:0}),T=Bc(Bc({},D),{},{visibility:!this.state.dismissed&&t&&f?"visible":"hidden"},E);return b.createElement("div",{xmlns:"http://www.w3.org/1999/xhtml",tabIndex:-1,className:_,style:T,ref:j},o)}}var iC=()=>{var e;return(e=ve(t=>t.rootProps.accessibilityLayer))!==null&&e!==void 0?e:!0};function Oy(){return Oy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Oy.apply(null,arguments)}function cE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function fE(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?cE(Object(n),!0).forEach(function(r){_8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):cE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function _8(e,t,n){return(t=T8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function T8(e){var t=M8(e,"string");return typeof t=="symbol"?t:t+""}function M8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var dE={curveBasisClosed:Iz,curveBasisOpen:qz,curveBasis:Uz,curveBumpX:Lz,curveBumpY:Bz,curveLinearClosed:Hz,curveLinear:id,curveMonotoneX:$z,curveMonotoneY:Kz,curveNatural:Yz,curveStep:Gz,curveStepAfter:Xz,curveStepBefore:Vz},Cf=e=>ct(e.x)&&ct(e.y),hE=e=>e.base!=null&&Cf(e.base)&&Cf(e),du=e=>e.x,hu=e=>e.y,D8=(e,t)=>{if(typeof e=="function")return e;var n="curve".concat(xg(e));return(n==="curveMonotone"||n==="curveBump")&&t?dE["".concat(n).concat(t==="vertical"?"Y":"X")]:dE[n]||id},k8=e=>{var{type:t="linear",points:n=[],baseLine:r,layout:l,connectNulls:o=!1}=e,s=D8(t,l),f=o?n.filter(Cf):n,d;if(Array.isArray(r)){var h=n.map((w,E)=>fE(fE({},w),{},{base:r[E]}));l==="vertical"?d=Tc().y(hu).x1(du).x0(w=>w.base.x):d=Tc().x(du).y1(hu).y0(w=>w.base.y);var m=d.defined(hE).curve(s),p=o?h.filter(hE):h;return m(p)}l==="vertical"&&de(r)?d=Tc().y(hu).x1(du).x0(r):de(r)?d=Tc().x(du).y1(hu).y0(r):d=LO().x(du).y(hu);var x=d.defined(Cf).curve(s);return x(f)},nf=e=>{var{className:t,points:n,path:r,pathRef:l}=e;if((!n||!n.length)&&!r)return null;var o=n&&n.length?k8(e):r;return b.createElement("path",Oy({},cr(e),wg(e),{className:Xe("recharts-curve",t),d:o===null?void 0:o,ref:l}))},R8=["x","y","top","left","width","height","className"];function Ny(){return Ny=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Ny.apply(null,arguments)}function mE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function P8(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?mE(Object(n),!0).forEach(function(r){z8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):mE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function z8(e,t,n){return(t=L8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function L8(e){var t=B8(e,"string");return typeof t=="symbol"?t:t+""}function B8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function U8(e,t){if(e==null)return{};var n,r,l=I8(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function I8(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var q8=(e,t,n,r,l,o)=>"M".concat(e,",").concat(l,"v").concat(r,"M").concat(o,",").concat(t,"h").concat(n),H8=e=>{var{x:t=0,y:n=0,top:r=0,left:l=0,width:o=0,height:s=0,className:f}=e,d=U8(e,R8),h=P8({x:t,y:n,top:r,left:l,width:o,height:s},d);return!de(t)||!de(n)||!de(o)||!de(s)||!de(r)||!de(l)?null:b.createElement("path",Ny({},Qn(h),{className:Xe("recharts-cross",f),d:q8(t,n,o,s,r,l)}))};function $8(e,t,n,r){var l=r/2;return{stroke:"none",fill:"#ccc",x:e==="horizontal"?t.x-l:n.left+.5,y:e==="horizontal"?n.top+.5:t.y-l,width:e==="horizontal"?r:n.width-1,height:e==="horizontal"?n.height-1:r}}function vE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function pE(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?vE(Object(n),!0).forEach(function(r){K8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):vE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function K8(e,t,n){return(t=Y8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Y8(e){var t=G8(e,"string");return typeof t=="symbol"?t:t+""}function G8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var V8=e=>e.replace(/([A-Z])/g,t=>"-".concat(t.toLowerCase())),X8=(e,t,n)=>e.map(r=>"".concat(V8(r)," ").concat(t,"ms ").concat(n)).join(","),F8=(e,t)=>[Object.keys(e),Object.keys(t)].reduce((n,r)=>n.filter(l=>r.includes(l))),Tu=(e,t)=>Object.keys(t).reduce((n,r)=>pE(pE({},n),{},{[r]:e(r,t[r])}),{});function yE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Et(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?yE(Object(n),!0).forEach(function(r){W8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):yE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function W8(e,t,n){return(t=Z8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Z8(e){var t=Q8(e,"string");return typeof t=="symbol"?t:t+""}function Q8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var _f=(e,t,n)=>e+(t-e)*n,Cy=e=>{var{from:t,to:n}=e;return t!==n},lC=(e,t,n)=>{var r=Tu((l,o)=>{if(Cy(o)){var[s,f]=e(o.from,o.to,o.velocity);return Et(Et({},o),{},{from:s,velocity:f})}return o},t);return n<1?Tu((l,o)=>Cy(o)?Et(Et({},o),{},{velocity:_f(o.velocity,r[l].velocity,n),from:_f(o.from,r[l].from,n)}):o,t):lC(e,r,n-1)};function J8(e,t,n,r,l,o){var s,f=r.reduce((x,w)=>Et(Et({},x),{},{[w]:{from:e[w],velocity:0,to:t[w]}}),{}),d=()=>Tu((x,w)=>w.from,f),h=()=>!Object.values(f).filter(Cy).length,m=null,p=x=>{s||(s=x);var w=x-s,E=w/n.dt;f=lC(n,f,E),l(Et(Et(Et({},e),t),d())),s=x,h()||(m=o.setTimeout(p))};return()=>(m=o.setTimeout(p),()=>{var x;(x=m)===null||x===void 0||x()})}function eB(e,t,n,r,l,o,s){var f=null,d=l.reduce((p,x)=>Et(Et({},p),{},{[x]:[e[x],t[x]]}),{}),h,m=p=>{h||(h=p);var x=(p-h)/r,w=Tu((A,j)=>_f(...j,n(x)),d);if(o(Et(Et(Et({},e),t),w)),x<1)f=s.setTimeout(m);else{var E=Tu((A,j)=>_f(...j,n(1)),d);o(Et(Et(Et({},e),t),E))}};return()=>(f=s.setTimeout(m),()=>{var p;(p=f)===null||p===void 0||p()})}const tB=(e,t,n,r,l,o)=>{var s=F8(e,t);return n==null?()=>(l(Et(Et({},e),t)),()=>{}):n.isStepper===!0?J8(e,t,n,s,l,o):eB(e,t,n,r,s,l,o)};var Tf=1e-4,oC=(e,t)=>[0,3*e,3*t-6*e,3*e-3*t+1],uC=(e,t)=>e.map((n,r)=>n*t**r).reduce((n,r)=>n+r),gE=(e,t)=>n=>{var r=oC(e,t);return uC(r,n)},nB=(e,t)=>n=>{var r=oC(e,t),l=[...r.map((o,s)=>o*s).slice(1),0];return uC(l,n)},rB=function(){for(var t=arguments.length,n=new Array(t),r=0;r<t;r++)n[r]=arguments[r];if(n.length===1)switch(n[0]){case"linear":return[0,0,1,1];case"ease":return[.25,.1,.25,1];case"ease-in":return[.42,0,1,1];case"ease-out":return[.42,0,.58,1];case"ease-in-out":return[0,0,.58,1];default:{var l,o=n[0].split("(");if(o[0]==="cubic-bezier"&&((l=o[1])===null||l===void 0?void 0:l.split(")")[0].split(",").length)===4){var s=o[1].split(")")[0].split(",").map(f=>parseFloat(f));return[s[0],s[1],s[2],s[3]]}}}return n.length===4?n:[0,0,1,1]},aB=(e,t,n,r)=>{var l=gE(e,n),o=gE(t,r),s=nB(e,n),f=h=>h>1?1:h<0?0:h,d=h=>{for(var m=h>1?1:h,p=m,x=0;x<8;++x){var w=l(p)-m,E=s(p);if(Math.abs(w-m)<Tf||E<Tf)return o(p);p=f(p-w/E)}return o(p)};return d.isStepper=!1,d},bE=function(){return aB(...rB(...arguments))},iB=function(){var t=arguments.length>0&&arguments[0]!==void 0?arguments[0]:{},{stiff:n=100,damping:r=8,dt:l=17}=t,o=(s,f,d)=>{var h=-(s-f)*n,m=d*r,p=d+(h-m)*l/1e3,x=d*l/1e3+s;return Math.abs(x-f)<Tf&&Math.abs(p)<Tf?[f,0]:[x,p]};return o.isStepper=!0,o.dt=l,o},lB=e=>{if(typeof e=="string")switch(e){case"ease":case"ease-in-out":case"ease-out":case"ease-in":case"linear":return bE(e);case"spring":return iB();default:if(e.split("(")[0]==="cubic-bezier")return bE(e)}return typeof e=="function"?e:null};function oB(e){var t,n=()=>null,r=!1,l=null,o=s=>{if(!r){if(Array.isArray(s)){if(!s.length)return;var f=s,[d,...h]=f;if(typeof d=="number"){l=e.setTimeout(o.bind(null,h),d);return}o(d),l=e.setTimeout(o.bind(null,h));return}typeof s=="string"&&(t=s,n(t)),typeof s=="object"&&(t=s,n(t)),typeof s=="function"&&s()}};return{stop:()=>{r=!0},start:s=>{r=!1,l&&(l(),l=null),o(s)},subscribe:s=>(n=s,()=>{n=()=>null}),getTimeoutController:()=>e}}class uB{setTimeout(t){var n=arguments.length>1&&arguments[1]!==void 0?arguments[1]:0,r=performance.now(),l=null,o=s=>{s-r>=n?t(s):typeof requestAnimationFrame=="function"&&(l=requestAnimationFrame(o))};return l=requestAnimationFrame(o),()=>{l!=null&&cancelAnimationFrame(l)}}}function sB(){return oB(new uB)}var cB=b.createContext(sB);function fB(e,t){var n=b.useContext(cB);return b.useMemo(()=>t??n(e),[e,t,n])}var dB=()=>!(typeof window<"u"&&window.document&&window.document.createElement&&window.setTimeout),ro={devToolsEnabled:!1,isSsr:dB()},hB={begin:0,duration:1e3,easing:"ease",isActive:!0,canBegin:!0,onAnimationEnd:()=>{},onAnimationStart:()=>{}},xE={t:0},bp={t:1};function sC(e){var t=Ln(e,hB),{isActive:n,canBegin:r,duration:l,easing:o,begin:s,onAnimationEnd:f,onAnimationStart:d,children:h}=t,m=n==="auto"?!ro.isSsr:n,p=fB(t.animationId,t.animationManager),[x,w]=b.useState(m?xE:bp),E=b.useRef(null);return b.useEffect(()=>{m||w(bp)},[m]),b.useEffect(()=>{if(!m||!r)return $u;var A=tB(xE,bp,lB(o),l,w,p.getTimeoutController()),j=()=>{E.current=A()};return p.start([d,s,j,l,f]),()=>{p.stop(),E.current&&E.current(),f()}},[m,r,l,o,s,d,f,p]),h(x.t)}function cC(e){var t=arguments.length>1&&arguments[1]!==void 0?arguments[1]:"animation-",n=b.useRef(ju(t)),r=b.useRef(e);return r.current!==e&&(n.current=ju(t),r.current=e),n.current}var mB=["radius"],vB=["radius"];function wE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function SE(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?wE(Object(n),!0).forEach(function(r){pB(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):wE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function pB(e,t,n){return(t=yB(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function yB(e){var t=gB(e,"string");return typeof t=="symbol"?t:t+""}function gB(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Mf(){return Mf=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Mf.apply(null,arguments)}function jE(e,t){if(e==null)return{};var n,r,l=bB(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function bB(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var EE=(e,t,n,r,l)=>{var o=Math.min(Math.abs(n)/2,Math.abs(r)/2),s=r>=0?1:-1,f=n>=0?1:-1,d=r>=0&&n>=0||r<0&&n<0?1:0,h;if(o>0&&l instanceof Array){for(var m=[0,0,0,0],p=0,x=4;p<x;p++)m[p]=l[p]>o?o:l[p];h="M".concat(e,",").concat(t+s*m[0]),m[0]>0&&(h+="A ".concat(m[0],",").concat(m[0],",0,0,").concat(d,",").concat(e+f*m[0],",").concat(t)),h+="L ".concat(e+n-f*m[1],",").concat(t),m[1]>0&&(h+="A ".concat(m[1],",").concat(m[1],",0,0,").concat(d,`,
-        `).concat(e+n,",").concat(t+s*m[1])),h+="L ".concat(e+n,",").concat(t+r-s*m[2]),m[2]>0&&(h+="A ".concat(m[2],",").concat(m[2],",0,0,").concat(d,`,
-        `).concat(e+n-f*m[2],",").concat(t+r)),h+="L ".concat(e+f*m[3],",").concat(t+r),m[3]>0&&(h+="A ".concat(m[3],",").concat(m[3],",0,0,").concat(d,`,
-        `).concat(e,",").concat(t+r-s*m[3])),h+="Z"}else if(o>0&&l===+l&&l>0){var w=Math.min(o,l);h="M ".concat(e,",").concat(t+s*w,`
-            A `).concat(w,",").concat(w,",0,0,").concat(d,",").concat(e+f*w,",").concat(t,`
-            L `).concat(e+n-f*w,",").concat(t,`
-            A `).concat(w,",").concat(w,",0,0,").concat(d,",").concat(e+n,",").concat(t+s*w,`
-            L `).concat(e+n,",").concat(t+r-s*w,`
-            A `).concat(w,",").concat(w,",0,0,").concat(d,",").concat(e+n-f*w,",").concat(t+r,`
-            L `).concat(e+f*w,",").concat(t+r,`
-            A `).concat(w,",").concat(w,",0,0,").concat(d,",").concat(e,",").concat(t+r-s*w," Z")}else h="M ".concat(e,",").concat(t," h ").concat(n," v ").concat(r," h ").concat(-n," Z");return h},AE={x:0,y:0,width:0,height:0,radius:0,isAnimationActive:!1,isUpdateAnimationActive:!1,animationBegin:0,animationDuration:1500,animationEasing:"ease"},xB=e=>{var t=Ln(e,AE),n=b.useRef(null),[r,l]=b.useState(-1);b.useEffect(()=>{if(n.current&&n.current.getTotalLength)try{var Q=n.current.getTotalLength();Q&&l(Q)}catch{}},[]);var{x:o,y:s,width:f,height:d,radius:h,className:m}=t,{animationEasing:p,animationDuration:x,animationBegin:w,isAnimationActive:E,isUpdateAnimationActive:A}=t,j=b.useRef(f),O=b.useRef(d),_=b.useRef(o),C=b.useRef(s),D=b.useMemo(()=>({x:o,y:s,width:f,height:d,radius:h}),[o,s,f,d,h]),T=cC(D,"rectangle-");if(o!==+o||s!==+s||f!==+f||d!==+d||f===0||d===0)return null;var P=Xe("recharts-rectangle",m);if(!A){var k=Qn(t),{radius:I}=k,re=jE(k,mB);return b.createElement("path",Mf({},re,{radius:typeof h=="number"?h:void 0,className:P,d:EE(o,s,f,d,h)}))}var ae=j.current,W=O.current,J=_.current,pe=C.current,ge="0px ".concat(r===-1?1:r,"px"),xe="".concat(r,"px 0px"),q=X8(["strokeDasharray"],x,typeof p=="string"?p:AE.animationEasing);return b.createElement(sC,{animationId:T,key:T,canBegin:r>0,duration:x,easing:p,isActive:A,begin:w},Q=>{var X=gr(ae,f,Q),le=gr(W,d,Q),Ee=gr(J,o,Q),R=gr(pe,s,Q);n.current&&(j.current=X,O.current=le,_.current=Ee,C.current=R);var Y;E?Q>0?Y={transition:q,strokeDasharray:xe}:Y={strokeDasharray:ge}:Y={strokeDasharray:xe};var ee=Qn(t),{radius:ne}=ee,he=jE(ee,vB);return b.createElement("path",Mf({},he,{radius:typeof h=="number"?h:void 0,className:P,d:EE(Ee,R,X,le,h),ref:n,style:SE(SE({},Y),t.style)}))})};function OE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function NE(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?OE(Object(n),!0).forEach(function(r){wB(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):OE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function wB(e,t,n){return(t=SB(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function SB(e){var t=jB(e,"string");return typeof t=="symbol"?t:t+""}function jB(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Df=Math.PI/180,EB=e=>e*180/Math.PI,Wt=(e,t,n,r)=>({x:e+Math.cos(-Df*r)*n,y:t+Math.sin(-Df*r)*n}),AB=function(t,n){var r=arguments.length>2&&arguments[2]!==void 0?arguments[2]:{top:0,right:0,bottom:0,left:0};return Math.min(Math.abs(t-(r.left||0)-(r.right||0)),Math.abs(n-(r.top||0)-(r.bottom||0)))/2},OB=(e,t)=>{var{x:n,y:r}=e,{x:l,y:o}=t;return Math.sqrt((n-l)**2+(r-o)**2)},NB=(e,t)=>{var{x:n,y:r}=e,{cx:l,cy:o}=t,s=OB({x:n,y:r},{x:l,y:o});if(s<=0)return{radius:s,angle:0};var f=(n-l)/s,d=Math.acos(f);return r>o&&(d=2*Math.PI-d),{radius:s,angle:EB(d),angleInRadian:d}},CB=e=>{var{startAngle:t,endAngle:n}=e,r=Math.floor(t/360),l=Math.floor(n/360),o=Math.min(r,l);return{startAngle:t-o*360,endAngle:n-o*360}},_B=(e,t)=>{var{startAngle:n,endAngle:r}=t,l=Math.floor(n/360),o=Math.floor(r/360),s=Math.min(l,o);return e+s*360},TB=(e,t)=>{var{chartX:n,chartY:r}=e,{radius:l,angle:o}=NB({x:n,y:r},t),{innerRadius:s,outerRadius:f}=t;if(l<s||l>f||l===0)return null;var{startAngle:d,endAngle:h}=CB(t),m=o,p;if(d<=h){for(;m>h;)m-=360;for(;m<d;)m+=360;p=m>=d&&m<=h}else{for(;m>d;)m-=360;for(;m<h;)m+=360;p=m>=h&&m<=d}return p?NE(NE({},t),{},{radius:l,angle:_B(m,t)}):null};function fC(e){var{cx:t,cy:n,radius:r,startAngle:l,endAngle:o}=e,s=Wt(t,n,r,l),f=Wt(t,n,r,o);return{points:[s,f],cx:t,cy:n,radius:r,startAngle:l,endAngle:o}}function _y(){return _y=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},_y.apply(null,arguments)}var MB=(e,t)=>{var n=Fn(t-e),r=Math.min(Math.abs(t-e),359.999);return n*r},Uc=e=>{var{cx:t,cy:n,radius:r,angle:l,sign:o,isExternal:s,cornerRadius:f,cornerIsExternal:d}=e,h=f*(s?1:-1)+r,m=Math.asin(f/h)/Df,p=d?l:l+o*m,x=Wt(t,n,h,p),w=Wt(t,n,r,p),E=d?l-o*m:l,A=Wt(t,n,h*Math.cos(m*Df),E);return{center:x,circleTangency:w,lineTangency:A,theta:m}},dC=e=>{var{cx:t,cy:n,innerRadius:r,outerRadius:l,startAngle:o,endAngle:s}=e,f=MB(o,s),d=o+f,h=Wt(t,n,l,o),m=Wt(t,n,l,d),p="M ".concat(h.x,",").concat(h.y,`
-    A `).concat(l,",").concat(l,`,0,
-    `).concat(+(Math.abs(f)>180),",").concat(+(o>d),`,
-    `).concat(m.x,",").concat(m.y,`
-  `);if(r>0){var x=Wt(t,n,r,o),w=Wt(t,n,r,d);p+="L ".concat(w.x,",").concat(w.y,`
-            A `).concat(r,",").concat(r,`,0,
-            `).concat(+(Math.abs(f)>180),",").concat(+(o<=d),`,
-            `).concat(x.x,",").concat(x.y," Z")}else p+="L ".concat(t,",").concat(n," Z");return p},DB=e=>{var{cx:t,cy:n,innerRadius:r,outerRadius:l,cornerRadius:o,forceCornerRadius:s,cornerIsExternal:f,startAngle:d,endAngle:h}=e,m=Fn(h-d),{circleTangency:p,lineTangency:x,theta:w}=Uc({cx:t,cy:n,radius:l,angle:d,sign:m,cornerRadius:o,cornerIsExternal:f}),{circleTangency:E,lineTangency:A,theta:j}=Uc({cx:t,cy:n,radius:l,angle:h,sign:-m,cornerRadius:o,cornerIsExternal:f}),O=f?Math.abs(d-h):Math.abs(d-h)-w-j;if(O<0)return s?"M ".concat(x.x,",").concat(x.y,`
-        a`).concat(o,",").concat(o,",0,0,1,").concat(o*2,`,0
-        a`).concat(o,",").concat(o,",0,0,1,").concat(-o*2,`,0
-      `):dC({cx:t,cy:n,innerRadius:r,outerRadius:l,startAngle:d,endAngle:h});var _="M ".concat(x.x,",").concat(x.y,`
-    A`).concat(o,",").concat(o,",0,0,").concat(+(m<0),",").concat(p.x,",").concat(p.y,`
-    A`).concat(l,",").concat(l,",0,").concat(+(O>180),",").concat(+(m<0),",").concat(E.x,",").concat(E.y,`
-    A`).concat(o,",").concat(o,",0,0,").concat(+(m<0),",").concat(A.x,",").concat(A.y,`
-  `);if(r>0){var{circleTangency:C,lineTangency:D,theta:T}=Uc({cx:t,cy:n,radius:r,angle:d,sign:m,isExternal:!0,cornerRadius:o,cornerIsExternal:f}),{circleTangency:P,lineTangency:k,theta:I}=Uc({cx:t,cy:n,radius:r,angle:h,sign:-m,isExternal:!0,cornerRadius:o,cornerIsExternal:f}),re=f?Math.abs(d-h):Math.abs(d-h)-T-I;if(re<0&&o===0)return"".concat(_,"L").concat(t,",").concat(n,"Z");_+="L".concat(k.x,",").concat(k.y,`
-      A`).concat(o,",").concat(o,",0,0,").concat(+(m<0),",").concat(P.x,",").concat(P.y,`
-      A`).concat(r,",").concat(r,",0,").concat(+(re>180),",").concat(+(m>0),",").concat(C.x,",").concat(C.y,`
-      A`).concat(o,",").concat(o,",0,0,").concat(+(m<0),",").concat(D.x,",").concat(D.y,"Z")}else _+="L".concat(t,",").concat(n,"Z");return _},kB={cx:0,cy:0,innerRadius:0,outerRadius:0,startAngle:0,endAngle:0,cornerRadius:0,forceCornerRadius:!1,cornerIsExternal:!1},RB=e=>{var t=Ln(e,kB),{cx:n,cy:r,innerRadius:l,outerRadius:o,cornerRadius:s,forceCornerRadius:f,cornerIsExternal:d,startAngle:h,endAngle:m,className:p}=t;if(o<l||h===m)return null;var x=Xe("recharts-sector",p),w=o-l,E=Wa(s,w,0,!0),A;return E>0&&Math.abs(h-m)<360?A=DB({cx:n,cy:r,innerRadius:l,outerRadius:o,cornerRadius:Math.min(E,w/2),forceCornerRadius:f,cornerIsExternal:d,startAngle:h,endAngle:m}):A=dC({cx:n,cy:r,innerRadius:l,outerRadius:o,startAngle:h,endAngle:m}),b.createElement("path",_y({},Qn(t),{className:x,d:A}))};function PB(e,t,n){if(e==="horizontal")return[{x:t.x,y:n.top},{x:t.x,y:n.top+n.height}];if(e==="vertical")return[{x:n.left,y:t.y},{x:n.left+n.width,y:t.y}];if(FO(t)){if(e==="centric"){var{cx:r,cy:l,innerRadius:o,outerRadius:s,angle:f}=t,d=Wt(r,l,o,f),h=Wt(r,l,s,f);return[{x:d.x,y:d.y},{x:h.x,y:h.y}]}return fC(t)}}var xp={},wp={},Sp={},CE;function zB(){return CE||(CE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=lN();function n(r){return t.isSymbol(r)?NaN:Number(r)}e.toNumber=n})(Sp)),Sp}var _E;function LB(){return _E||(_E=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=zB();function n(r){return r?(r=t.toNumber(r),r===1/0||r===-1/0?(r<0?-1:1)*Number.MAX_VALUE:r===r?r:0):r===0?r:0}e.toFinite=n})(wp)),wp}var TE;function BB(){return TE||(TE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=oN(),n=LB();function r(l,o,s){s&&typeof s!="number"&&t.isIterateeCall(l,o,s)&&(o=s=void 0),l=n.toFinite(l),o===void 0?(o=l,l=0):o=n.toFinite(o),s=s===void 0?l<o?1:-1:n.toFinite(s);const f=Math.max(Math.ceil((o-l)/(s||1)),0),d=new Array(f);for(let h=0;h<f;h++)d[h]=l,l+=s;return d}e.range=r})(xp)),xp}var jp,ME;function UB(){return ME||(ME=1,jp=BB().range),jp}var IB=UB();const hC=ua(IB);function Xa(e,t){return e==null||t==null?NaN:e<t?-1:e>t?1:e>=t?0:NaN}function qB(e,t){return e==null||t==null?NaN:t<e?-1:t>e?1:t>=e?0:NaN}function Pg(e){let t,n,r;e.length!==2?(t=Xa,n=(f,d)=>Xa(e(f),d),r=(f,d)=>e(f)-d):(t=e===Xa||e===qB?e:HB,n=e,r=e);function l(f,d,h=0,m=f.length){if(h<m){if(t(d,d)!==0)return m;do{const p=h+m>>>1;n(f[p],d)<0?h=p+1:m=p}while(h<m)}return h}function o(f,d,h=0,m=f.length){if(h<m){if(t(d,d)!==0)return m;do{const p=h+m>>>1;n(f[p],d)<=0?h=p+1:m=p}while(h<m)}return h}function s(f,d,h=0,m=f.length){const p=l(f,d,h,m-1);return p>h&&r(f[p-1],d)>-r(f[p],d)?p-1:p}return{left:l,center:s,right:o}}function HB(){return 0}function mC(e){return e===null?NaN:+e}function*$B(e,t){for(let n of e)n!=null&&(n=+n)>=n&&(yield n)}const KB=Pg(Xa),Wu=KB.right;Pg(mC).center;class DE extends Map{constructor(t,n=VB){if(super(),Object.defineProperties(this,{_intern:{value:new Map},_key:{value:n}}),t!=null)for(const[r,l]of t)this.set(r,l)}get(t){return super.get(kE(this,t))}has(t){return super.has(kE(this,t))}set(t,n){return super.set(YB(this,t),n)}delete(t){return super.delete(GB(this,t))}}function kE({_intern:e,_key:t},n){const r=t(n);return e.has(r)?e.get(r):n}function YB({_intern:e,_key:t},n){const r=t(n);return e.has(r)?e.get(r):(e.set(r,n),n)}function GB({_intern:e,_key:t},n){const r=t(n);return e.has(r)&&(n=e.get(r),e.delete(r)),n}function VB(e){return e!==null&&typeof e=="object"?e.valueOf():e}function XB(e=Xa){if(e===Xa)return vC;if(typeof e!="function")throw new TypeError("compare is not a function");return(t,n)=>{const r=e(t,n);return r||r===0?r:(e(n,n)===0)-(e(t,t)===0)}}function vC(e,t){return(e==null||!(e>=e))-(t==null||!(t>=t))||(e<t?-1:e>t?1:0)}const FB=Math.sqrt(50),WB=Math.sqrt(10),ZB=Math.sqrt(2);function kf(e,t,n){const r=(t-e)/Math.max(0,n),l=Math.floor(Math.log10(r)),o=r/Math.pow(10,l),s=o>=FB?10:o>=WB?5:o>=ZB?2:1;let f,d,h;return l<0?(h=Math.pow(10,-l)/s,f=Math.round(e*h),d=Math.round(t*h),f/h<e&&++f,d/h>t&&--d,h=-h):(h=Math.pow(10,l)*s,f=Math.round(e/h),d=Math.round(t/h),f*h<e&&++f,d*h>t&&--d),d<f&&.5<=n&&n<2?kf(e,t,n*2):[f,d,h]}function Ty(e,t,n){if(t=+t,e=+e,n=+n,!(n>0))return[];if(e===t)return[e];const r=t<e,[l,o,s]=r?kf(t,e,n):kf(e,t,n);if(!(o>=l))return[];const f=o-l+1,d=new Array(f);if(r)if(s<0)for(let h=0;h<f;++h)d[h]=(o-h)/-s;else for(let h=0;h<f;++h)d[h]=(o-h)*s;else if(s<0)for(let h=0;h<f;++h)d[h]=(l+h)/-s;else for(let h=0;h<f;++h)d[h]=(l+h)*s;return d}function My(e,t,n){return t=+t,e=+e,n=+n,kf(e,t,n)[2]}function Dy(e,t,n){t=+t,e=+e,n=+n;const r=t<e,l=r?My(t,e,n):My(e,t,n);return(r?-1:1)*(l<0?1/-l:l)}function RE(e,t){let n;for(const r of e)r!=null&&(n<r||n===void 0&&r>=r)&&(n=r);return n}function PE(e,t){let n;for(const r of e)r!=null&&(n>r||n===void 0&&r>=r)&&(n=r);return n}function pC(e,t,n=0,r=1/0,l){if(t=Math.floor(t),n=Math.floor(Math.max(0,n)),r=Math.floor(Math.min(e.length-1,r)),!(n<=t&&t<=r))return e;for(l=l===void 0?vC:XB(l);r>n;){if(r-n>600){const d=r-n+1,h=t-n+1,m=Math.log(d),p=.5*Math.exp(2*m/3),x=.5*Math.sqrt(m*p*(d-p)/d)*(h-d/2<0?-1:1),w=Math.max(n,Math.floor(t-h*p/d+x)),E=Math.min(r,Math.floor(t+(d-h)*p/d+x));pC(e,t,w,E,l)}const o=e[t];let s=n,f=r;for(mu(e,n,t),l(e[r],o)>0&&mu(e,n,r);s<f;){for(mu(e,s,f),++s,--f;l(e[s],o)<0;)++s;for(;l(e[f],o)>0;)--f}l(e[n],o)===0?mu(e,n,f):(++f,mu(e,f,r)),f<=t&&(n=f+1),t<=f&&(r=f-1)}return e}function mu(e,t,n){const r=e[t];e[t]=e[n],e[n]=r}function QB(e,t,n){if(e=Float64Array.from($B(e)),!(!(r=e.length)||isNaN(t=+t))){if(t<=0||r<2)return PE(e);if(t>=1)return RE(e);var r,l=(r-1)*t,o=Math.floor(l),s=RE(pC(e,o).subarray(0,o+1)),f=PE(e.subarray(o+1));return s+(f-s)*(l-o)}}function JB(e,t,n=mC){if(!(!(r=e.length)||isNaN(t=+t))){if(t<=0||r<2)return+n(e[0],0,e);if(t>=1)return+n(e[r-1],r-1,e);var r,l=(r-1)*t,o=Math.floor(l),s=+n(e[o],o,e),f=+n(e[o+1],o+1,e);return s+(f-s)*(l-o)}}function eU(e,t,n){e=+e,t=+t,n=(l=arguments.length)<2?(t=e,e=0,1):l<3?1:+n;for(var r=-1,l=Math.max(0,Math.ceil((t-e)/n))|0,o=new Array(l);++r<l;)o[r]=e+r*n;return o}function nr(e,t){switch(arguments.length){case 0:break;case 1:this.range(e);break;default:this.range(t).domain(e);break}return this}function ha(e,t){switch(arguments.length){case 0:break;case 1:{typeof e=="function"?this.interpolator(e):this.range(e);break}default:{this.domain(e),typeof t=="function"?this.interpolator(t):this.range(t);break}}return this}const ky=Symbol("implicit");function zg(){var e=new DE,t=[],n=[],r=ky;function l(o){let s=e.get(o);if(s===void 0){if(r!==ky)return r;e.set(o,s=t.push(o)-1)}return n[s%n.length]}return l.domain=function(o){if(!arguments.length)return t.slice();t=[],e=new DE;for(const s of o)e.has(s)||e.set(s,t.push(s)-1);return l},l.range=function(o){return arguments.length?(n=Array.from(o),l):n.slice()},l.unknown=function(o){return arguments.length?(r=o,l):r},l.copy=function(){return zg(t,n).unknown(r)},nr.apply(l,arguments),l}function Lg(){var e=zg().unknown(void 0),t=e.domain,n=e.range,r=0,l=1,o,s,f=!1,d=0,h=0,m=.5;delete e.unknown;function p(){var x=t().length,w=l<r,E=w?l:r,A=w?r:l;o=(A-E)/Math.max(1,x-d+h*2),f&&(o=Math.floor(o)),E+=(A-E-o*(x-d))*m,s=o*(1-d),f&&(E=Math.round(E),s=Math.round(s));var j=eU(x).map(function(O){return E+o*O});return n(w?j.reverse():j)}return e.domain=function(x){return arguments.length?(t(x),p()):t()},e.range=function(x){return arguments.length?([r,l]=x,r=+r,l=+l,p()):[r,l]},e.rangeRound=function(x){return[r,l]=x,r=+r,l=+l,f=!0,p()},e.bandwidth=function(){return s},e.step=function(){return o},e.round=function(x){return arguments.length?(f=!!x,p()):f},e.padding=function(x){return arguments.length?(d=Math.min(1,h=+x),p()):d},e.paddingInner=function(x){return arguments.length?(d=Math.min(1,x),p()):d},e.paddingOuter=function(x){return arguments.length?(h=+x,p()):h},e.align=function(x){return arguments.length?(m=Math.max(0,Math.min(1,x)),p()):m},e.copy=function(){return Lg(t(),[r,l]).round(f).paddingInner(d).paddingOuter(h).align(m)},nr.apply(p(),arguments)}function yC(e){var t=e.copy;return e.padding=e.paddingOuter,delete e.paddingInner,delete e.paddingOuter,e.copy=function(){return yC(t())},e}function tU(){return yC(Lg.apply(null,arguments).paddingInner(1))}function Bg(e,t,n){e.prototype=t.prototype=n,n.constructor=e}function gC(e,t){var n=Object.create(e.prototype);for(var r in t)n[r]=t[r];return n}function Zu(){}var Mu=.7,Rf=1/Mu,Ul="\\s*([+-]?\\d+)\\s*",Du="\\s*([+-]?(?:\\d*\\.)?\\d+(?:[eE][+-]?\\d+)?)\\s*",wr="\\s*([+-]?(?:\\d*\\.)?\\d+(?:[eE][+-]?\\d+)?)%\\s*",nU=/^#([0-9a-f]{3,8})$/,rU=new RegExp(`^rgb\\(${Ul},${Ul},${Ul}\\)$`),aU=new RegExp(`^rgb\\(${wr},${wr},${wr}\\)$`),iU=new RegExp(`^rgba\\(${Ul},${Ul},${Ul},${Du}\\)$`),lU=new RegExp(`^rgba\\(${wr},${wr},${wr},${Du}\\)$`),oU=new RegExp(`^hsl\\(${Du},${wr},${wr}\\)$`),uU=new RegExp(`^hsla\\(${Du},${wr},${wr},${Du}\\)$`),zE={aliceblue:15792383,antiquewhite:16444375,aqua:65535,aquamarine:8388564,azure:15794175,beige:16119260,bisque:16770244,black:0,blanchedalmond:16772045,blue:255,blueviolet:9055202,brown:10824234,burlywood:14596231,cadetblue:6266528,chartreuse:8388352,chocolate:13789470,coral:16744272,cornflowerblue:6591981,cornsilk:16775388,crimson:14423100,cyan:65535,darkblue:139,darkcyan:35723,darkgoldenrod:12092939,darkgray:11119017,darkgreen:25600,darkgrey:11119017,darkkhaki:12433259,darkmagenta:9109643,darkolivegreen:5597999,darkorange:16747520,darkorchid:10040012,darkred:9109504,darksalmon:15308410,darkseagreen:9419919,darkslateblue:4734347,darkslategray:3100495,darkslategrey:3100495,darkturquoise:52945,darkviolet:9699539,deeppink:16716947,deepskyblue:49151,dimgray:6908265,dimgrey:6908265,dodgerblue:2003199,firebrick:11674146,floralwhite:16775920,forestgreen:2263842,fuchsia:16711935,gainsboro:14474460,ghostwhite:16316671,gold:16766720,goldenrod:14329120,gray:8421504,green:32768,greenyellow:11403055,grey:8421504,honeydew:15794160,hotpink:16738740,indianred:13458524,indigo:4915330,ivory:16777200,khaki:15787660,lavender:15132410,lavenderblush:16773365,lawngreen:8190976,lemonchiffon:16775885,lightblue:11393254,lightcoral:15761536,lightcyan:14745599,lightgoldenrodyellow:16448210,lightgray:13882323,lightgreen:9498256,lightgrey:13882323,lightpink:16758465,lightsalmon:16752762,lightseagreen:2142890,lightskyblue:8900346,lightslategray:7833753,lightslategrey:7833753,lightsteelblue:11584734,lightyellow:16777184,lime:65280,limegreen:3329330,linen:16445670,magenta:16711935,maroon:8388608,mediumaquamarine:6737322,mediumblue:205,mediumorchid:12211667,mediumpurple:9662683,mediumseagreen:3978097,mediumslateblue:8087790,mediumspringgreen:64154,mediumturquoise:4772300,mediumvioletred:13047173,midnightblue:1644912,mintcream:16121850,mistyrose:16770273,moccasin:16770229,navajowhite:16768685,navy:128,oldlace:16643558,olive:8421376,olivedrab:7048739,orange:16753920,orangered:16729344,orchid:14315734,palegoldenrod:15657130,palegreen:10025880,paleturquoise:11529966,palevioletred:14381203,papayawhip:16773077,peachpuff:16767673,peru:13468991,pink:16761035,plum:14524637,powderblue:11591910,purple:8388736,rebeccapurple:6697881,red:16711680,rosybrown:12357519,royalblue:4286945,saddlebrown:9127187,salmon:16416882,sandybrown:16032864,seagreen:3050327,seashell:16774638,sienna:10506797,silver:12632256,skyblue:8900331,slateblue:6970061,slategray:7372944,slategrey:7372944,snow:16775930,springgreen:65407,steelblue:4620980,tan:13808780,teal:32896,thistle:14204888,tomato:16737095,turquoise:4251856,violet:15631086,wheat:16113331,white:16777215,whitesmoke:16119285,yellow:16776960,yellowgreen:10145074};Bg(Zu,ku,{copy(e){return Object.assign(new this.constructor,this,e)},displayable(){return this.rgb().displayable()},hex:LE,formatHex:LE,formatHex8:sU,formatHsl:cU,formatRgb:BE,toString:BE});function LE(){return this.rgb().formatHex()}function sU(){return this.rgb().formatHex8()}function cU(){return bC(this).formatHsl()}function BE(){return this.rgb().formatRgb()}function ku(e){var t,n;return e=(e+"").trim().toLowerCase(),(t=nU.exec(e))?(n=t[1].length,t=parseInt(t[1],16),n===6?UE(t):n===3?new yn(t>>8&15|t>>4&240,t>>4&15|t&240,(t&15)<<4|t&15,1):n===8?Ic(t>>24&255,t>>16&255,t>>8&255,(t&255)/255):n===4?Ic(t>>12&15|t>>8&240,t>>8&15|t>>4&240,t>>4&15|t&240,((t&15)<<4|t&15)/255):null):(t=rU.exec(e))?new yn(t[1],t[2],t[3],1):(t=aU.exec(e))?new yn(t[1]*255/100,t[2]*255/100,t[3]*255/100,1):(t=iU.exec(e))?Ic(t[1],t[2],t[3],t[4]):(t=lU.exec(e))?Ic(t[1]*255/100,t[2]*255/100,t[3]*255/100,t[4]):(t=oU.exec(e))?HE(t[1],t[2]/100,t[3]/100,1):(t=uU.exec(e))?HE(t[1],t[2]/100,t[3]/100,t[4]):zE.hasOwnProperty(e)?UE(zE[e]):e==="transparent"?new yn(NaN,NaN,NaN,0):null}function UE(e){return new yn(e>>16&255,e>>8&255,e&255,1)}function Ic(e,t,n,r){return r<=0&&(e=t=n=NaN),new yn(e,t,n,r)}function fU(e){return e instanceof Zu||(e=ku(e)),e?(e=e.rgb(),new yn(e.r,e.g,e.b,e.opacity)):new yn}function Ry(e,t,n,r){return arguments.length===1?fU(e):new yn(e,t,n,r??1)}function yn(e,t,n,r){this.r=+e,this.g=+t,this.b=+n,this.opacity=+r}Bg(yn,Ry,gC(Zu,{brighter(e){return e=e==null?Rf:Math.pow(Rf,e),new yn(this.r*e,this.g*e,this.b*e,this.opacity)},darker(e){return e=e==null?Mu:Math.pow(Mu,e),new yn(this.r*e,this.g*e,this.b*e,this.opacity)},rgb(){return this},clamp(){return new yn(Mi(this.r),Mi(this.g),Mi(this.b),Pf(this.opacity))},displayable(){return-.5<=this.r&&this.r<255.5&&-.5<=this.g&&this.g<255.5&&-.5<=this.b&&this.b<255.5&&0<=this.opacity&&this.opacity<=1},hex:IE,formatHex:IE,formatHex8:dU,formatRgb:qE,toString:qE}));function IE(){return`#${ji(this.r)}${ji(this.g)}${ji(this.b)}`}function dU(){return`#${ji(this.r)}${ji(this.g)}${ji(this.b)}${ji((isNaN(this.opacity)?1:this.opacity)*255)}`}function qE(){const e=Pf(this.opacity);return`${e===1?"rgb(":"rgba("}${Mi(this.r)}, ${Mi(this.g)}, ${Mi(this.b)}${e===1?")":`, ${e})`}`}function Pf(e){return isNaN(e)?1:Math.max(0,Math.min(1,e))}function Mi(e){return Math.max(0,Math.min(255,Math.round(e)||0))}function ji(e){return e=Mi(e),(e<16?"0":"")+e.toString(16)}function HE(e,t,n,r){return r<=0?e=t=n=NaN:n<=0||n>=1?e=t=NaN:t<=0&&(e=NaN),new ur(e,t,n,r)}function bC(e){if(e instanceof ur)return new ur(e.h,e.s,e.l,e.opacity);if(e instanceof Zu||(e=ku(e)),!e)return new ur;if(e instanceof ur)return e;e=e.rgb();var t=e.r/255,n=e.g/255,r=e.b/255,l=Math.min(t,n,r),o=Math.max(t,n,r),s=NaN,f=o-l,d=(o+l)/2;return f?(t===o?s=(n-r)/f+(n<r)*6:n===o?s=(r-t)/f+2:s=(t-n)/f+4,f/=d<.5?o+l:2-o-l,s*=60):f=d>0&&d<1?0:s,new ur(s,f,d,e.opacity)}function hU(e,t,n,r){return arguments.length===1?bC(e):new ur(e,t,n,r??1)}function ur(e,t,n,r){this.h=+e,this.s=+t,this.l=+n,this.opacity=+r}Bg(ur,hU,gC(Zu,{brighter(e){return e=e==null?Rf:Math.pow(Rf,e),new ur(this.h,this.s,this.l*e,this.opacity)},darker(e){return e=e==null?Mu:Math.pow(Mu,e),new ur(this.h,this.s,this.l*e,this.opacity)},rgb(){var e=this.h%360+(this.h<0)*360,t=isNaN(e)||isNaN(this.s)?0:this.s,n=this.l,r=n+(n<.5?n:1-n)*t,l=2*n-r;return new yn(Ep(e>=240?e-240:e+120,l,r),Ep(e,l,r),Ep(e<120?e+240:e-120,l,r),this.opacity)},clamp(){return new ur($E(this.h),qc(this.s),qc(this.l),Pf(this.opacity))},displayable(){return(0<=this.s&&this.s<=1||isNaN(this.s))&&0<=this.l&&this.l<=1&&0<=this.opacity&&this.opacity<=1},formatHsl(){const e=Pf(this.opacity);return`${e===1?"hsl(":"hsla("}${$E(this.h)}, ${qc(this.s)*100}%, ${qc(this.l)*100}%${e===1?")":`, ${e})`}`}}));function $E(e){return e=(e||0)%360,e<0?e+360:e}function qc(e){return Math.max(0,Math.min(1,e||0))}function Ep(e,t,n){return(e<60?t+(n-t)*e/60:e<180?n:e<240?t+(n-t)*(240-e)/60:t)*255}const Ug=e=>()=>e;function mU(e,t){return function(n){return e+n*t}}function vU(e,t,n){return e=Math.pow(e,n),t=Math.pow(t,n)-e,n=1/n,function(r){return Math.pow(e+r*t,n)}}function pU(e){return(e=+e)==1?xC:function(t,n){return n-t?vU(t,n,e):Ug(isNaN(t)?n:t)}}function xC(e,t){var n=t-e;return n?mU(e,n):Ug(isNaN(e)?t:e)}const KE=(function e(t){var n=pU(t);function r(l,o){var s=n((l=Ry(l)).r,(o=Ry(o)).r),f=n(l.g,o.g),d=n(l.b,o.b),h=xC(l.opacity,o.opacity);return function(m){return l.r=s(m),l.g=f(m),l.b=d(m),l.opacity=h(m),l+""}}return r.gamma=e,r})(1);function yU(e,t){t||(t=[]);var n=e?Math.min(t.length,e.length):0,r=t.slice(),l;return function(o){for(l=0;l<n;++l)r[l]=e[l]*(1-o)+t[l]*o;return r}}function gU(e){return ArrayBuffer.isView(e)&&!(e instanceof DataView)}function bU(e,t){var n=t?t.length:0,r=e?Math.min(n,e.length):0,l=new Array(r),o=new Array(n),s;for(s=0;s<r;++s)l[s]=ao(e[s],t[s]);for(;s<n;++s)o[s]=t[s];return function(f){for(s=0;s<r;++s)o[s]=l[s](f);return o}}function xU(e,t){var n=new Date;return e=+e,t=+t,function(r){return n.setTime(e*(1-r)+t*r),n}}function zf(e,t){return e=+e,t=+t,function(n){return e*(1-n)+t*n}}function wU(e,t){var n={},r={},l;(e===null||typeof e!="object")&&(e={}),(t===null||typeof t!="object")&&(t={});for(l in t)l in e?n[l]=ao(e[l],t[l]):r[l]=t[l];return function(o){for(l in n)r[l]=n[l](o);return r}}var Py=/[-+]?(?:\d+\.?\d*|\.?\d+)(?:[eE][-+]?\d+)?/g,Ap=new RegExp(Py.source,"g");function SU(e){return function(){return e}}function jU(e){return function(t){return e(t)+""}}function EU(e,t){var n=Py.lastIndex=Ap.lastIndex=0,r,l,o,s=-1,f=[],d=[];for(e=e+"",t=t+"";(r=Py.exec(e))&&(l=Ap.exec(t));)(o=l.index)>n&&(o=t.slice(n,o),f[s]?f[s]+=o:f[++s]=o),(r=r[0])===(l=l[0])?f[s]?f[s]+=l:f[++s]=l:(f[++s]=null,d.push({i:s,x:zf(r,l)})),n=Ap.lastIndex;return n<t.length&&(o=t.slice(n),f[s]?f[s]+=o:f[++s]=o),f.length<2?d[0]?jU(d[0].x):SU(t):(t=d.length,function(h){for(var m=0,p;m<t;++m)f[(p=d[m]).i]=p.x(h);return f.join("")})}function ao(e,t){var n=typeof t,r;return t==null||n==="boolean"?Ug(t):(n==="number"?zf:n==="string"?(r=ku(t))?(t=r,KE):EU:t instanceof ku?KE:t instanceof Date?xU:gU(t)?yU:Array.isArray(t)?bU:typeof t.valueOf!="function"&&typeof t.toString!="function"||isNaN(t)?wU:zf)(e,t)}function Ig(e,t){return e=+e,t=+t,function(n){return Math.round(e*(1-n)+t*n)}}function AU(e,t){t===void 0&&(t=e,e=ao);for(var n=0,r=t.length-1,l=t[0],o=new Array(r<0?0:r);n<r;)o[n]=e(l,l=t[++n]);return function(s){var f=Math.max(0,Math.min(r-1,Math.floor(s*=r)));return o[f](s-f)}}function OU(e){return function(){return e}}function Lf(e){return+e}var YE=[0,1];function an(e){return e}function zy(e,t){return(t-=e=+e)?function(n){return(n-e)/t}:OU(isNaN(t)?NaN:.5)}function NU(e,t){var n;return e>t&&(n=e,e=t,t=n),function(r){return Math.max(e,Math.min(t,r))}}function CU(e,t,n){var r=e[0],l=e[1],o=t[0],s=t[1];return l<r?(r=zy(l,r),o=n(s,o)):(r=zy(r,l),o=n(o,s)),function(f){return o(r(f))}}function _U(e,t,n){var r=Math.min(e.length,t.length)-1,l=new Array(r),o=new Array(r),s=-1;for(e[r]<e[0]&&(e=e.slice().reverse(),t=t.slice().reverse());++s<r;)l[s]=zy(e[s],e[s+1]),o[s]=n(t[s],t[s+1]);return function(f){var d=Wu(e,f,1,r)-1;return o[d](l[d](f))}}function Qu(e,t){return t.domain(e.domain()).range(e.range()).interpolate(e.interpolate()).clamp(e.clamp()).unknown(e.unknown())}function Od(){var e=YE,t=YE,n=ao,r,l,o,s=an,f,d,h;function m(){var x=Math.min(e.length,t.length);return s!==an&&(s=NU(e[0],e[x-1])),f=x>2?_U:CU,d=h=null,p}function p(x){return x==null||isNaN(x=+x)?o:(d||(d=f(e.map(r),t,n)))(r(s(x)))}return p.invert=function(x){return s(l((h||(h=f(t,e.map(r),zf)))(x)))},p.domain=function(x){return arguments.length?(e=Array.from(x,Lf),m()):e.slice()},p.range=function(x){return arguments.length?(t=Array.from(x),m()):t.slice()},p.rangeRound=function(x){return t=Array.from(x),n=Ig,m()},p.clamp=function(x){return arguments.length?(s=x?!0:an,m()):s!==an},p.interpolate=function(x){return arguments.length?(n=x,m()):n},p.unknown=function(x){return arguments.length?(o=x,p):o},function(x,w){return r=x,l=w,m()}}function qg(){return Od()(an,an)}function TU(e){return Math.abs(e=Math.round(e))>=1e21?e.toLocaleString("en").replace(/,/g,""):e.toString(10)}function Bf(e,t){if((n=(e=t?e.toExponential(t-1):e.toExponential()).indexOf("e"))<0)return null;var n,r=e.slice(0,n);return[r.length>1?r[0]+r.slice(2):r,+e.slice(n+1)]}function Yl(e){return e=Bf(Math.abs(e)),e?e[1]:NaN}function MU(e,t){return function(n,r){for(var l=n.length,o=[],s=0,f=e[0],d=0;l>0&&f>0&&(d+f+1>r&&(f=Math.max(1,r-d)),o.push(n.substring(l-=f,l+f)),!((d+=f+1)>r));)f=e[s=(s+1)%e.length];return o.reverse().join(t)}}function DU(e){return function(t){return t.replace(/[0-9]/g,function(n){return e[+n]})}}var kU=/^(?:(.)?([<>=^]))?([+\-( ])?([$#])?(0)?(\d+)?(,)?(\.\d+)?(~)?([a-z%])?$/i;function Ru(e){if(!(t=kU.exec(e)))throw new Error("invalid format: "+e);var t;return new Hg({fill:t[1],align:t[2],sign:t[3],symbol:t[4],zero:t[5],width:t[6],comma:t[7],precision:t[8]&&t[8].slice(1),trim:t[9],type:t[10]})}Ru.prototype=Hg.prototype;function Hg(e){this.fill=e.fill===void 0?" ":e.fill+"",this.align=e.align===void 0?">":e.align+"",this.sign=e.sign===void 0?"-":e.sign+"",this.symbol=e.symbol===void 0?"":e.symbol+"",this.zero=!!e.zero,this.width=e.width===void 0?void 0:+e.width,this.comma=!!e.comma,this.precision=e.precision===void 0?void 0:+e.precision,this.trim=!!e.trim,this.type=e.type===void 0?"":e.type+""}Hg.prototype.toString=function(){return this.fill+this.align+this.sign+this.symbol+(this.zero?"0":"")+(this.width===void 0?"":Math.max(1,this.width|0))+(this.comma?",":"")+(this.precision===void 0?"":"."+Math.max(0,this.precision|0))+(this.trim?"~":"")+this.type};function RU(e){e:for(var t=e.length,n=1,r=-1,l;n<t;++n)switch(e[n]){case".":r=l=n;break;case"0":r===0&&(r=n),l=n;break;default:if(!+e[n])break e;r>0&&(r=0);break}return r>0?e.slice(0,r)+e.slice(l+1):e}var wC;function PU(e,t){var n=Bf(e,t);if(!n)return e+"";var r=n[0],l=n[1],o=l-(wC=Math.max(-8,Math.min(8,Math.floor(l/3)))*3)+1,s=r.length;return o===s?r:o>s?r+new Array(o-s+1).join("0"):o>0?r.slice(0,o)+"."+r.slice(o):"0."+new Array(1-o).join("0")+Bf(e,Math.max(0,t+o-1))[0]}function GE(e,t){var n=Bf(e,t);if(!n)return e+"";var r=n[0],l=n[1];return l<0?"0."+new Array(-l).join("0")+r:r.length>l+1?r.slice(0,l+1)+"."+r.slice(l+1):r+new Array(l-r.length+2).join("0")}const VE={"%":(e,t)=>(e*100).toFixed(t),b:e=>Math.round(e).toString(2),c:e=>e+"",d:TU,e:(e,t)=>e.toExponential(t),f:(e,t)=>e.toFixed(t),g:(e,t)=>e.toPrecision(t),o:e=>Math.round(e).toString(8),p:(e,t)=>GE(e*100,t),r:GE,s:PU,X:e=>Math.round(e).toString(16).toUpperCase(),x:e=>Math.round(e).toString(16)};function XE(e){return e}var FE=Array.prototype.map,WE=["y","z","a","f","p","n","µ","m","","k","M","G","T","P","E","Z","Y"];function zU(e){var t=e.grouping===void 0||e.thousands===void 0?XE:MU(FE.call(e.grouping,Number),e.thousands+""),n=e.currency===void 0?"":e.currency[0]+"",r=e.currency===void 0?"":e.currency[1]+"",l=e.decimal===void 0?".":e.decimal+"",o=e.numerals===void 0?XE:DU(FE.call(e.numerals,String)),s=e.percent===void 0?"%":e.percent+"",f=e.minus===void 0?"−":e.minus+"",d=e.nan===void 0?"NaN":e.nan+"";function h(p){p=Ru(p);var x=p.fill,w=p.align,E=p.sign,A=p.symbol,j=p.zero,O=p.width,_=p.comma,C=p.precision,D=p.trim,T=p.type;T==="n"?(_=!0,T="g"):VE[T]||(C===void 0&&(C=12),D=!0,T="g"),(j||x==="0"&&w==="=")&&(j=!0,x="0",w="=");var P=A==="$"?n:A==="#"&&/[boxX]/.test(T)?"0"+T.toLowerCase():"",k=A==="$"?r:/[%p]/.test(T)?s:"",I=VE[T],re=/[defgprs%]/.test(T);C=C===void 0?6:/[gprs]/.test(T)?Math.max(1,Math.min(21,C)):Math.max(0,Math.min(20,C));function ae(W){var J=P,pe=k,ge,xe,q;if(T==="c")pe=I(W)+pe,W="";else{W=+W;var Q=W<0||1/W<0;if(W=isNaN(W)?d:I(Math.abs(W),C),D&&(W=RU(W)),Q&&+W==0&&E!=="+"&&(Q=!1),J=(Q?E==="("?E:f:E==="-"||E==="("?"":E)+J,pe=(T==="s"?WE[8+wC/3]:"")+pe+(Q&&E==="("?")":""),re){for(ge=-1,xe=W.length;++ge<xe;)if(q=W.charCodeAt(ge),48>q||q>57){pe=(q===46?l+W.slice(ge+1):W.slice(ge))+pe,W=W.slice(0,ge);break}}}_&&!j&&(W=t(W,1/0));var X=J.length+W.length+pe.length,le=X<O?new Array(O-X+1).join(x):"";switch(_&&j&&(W=t(le+W,le.length?O-pe.length:1/0),le=""),w){case"<":W=J+W+pe+le;break;case"=":W=J+le+W+pe;break;case"^":W=le.slice(0,X=le.length>>1)+J+W+pe+le.slice(X);break;default:W=le+J+W+pe;break}return o(W)}return ae.toString=function(){return p+""},ae}function m(p,x){var w=h((p=Ru(p),p.type="f",p)),E=Math.max(-8,Math.min(8,Math.floor(Yl(x)/3)))*3,A=Math.pow(10,-E),j=WE[8+E/3];return function(O){return w(A*O)+j}}return{format:h,formatPrefix:m}}var Hc,$g,SC;LU({thousands:",",grouping:[3],currency:["$",""]});function LU(e){return Hc=zU(e),$g=Hc.format,SC=Hc.formatPrefix,Hc}function BU(e){return Math.max(0,-Yl(Math.abs(e)))}function UU(e,t){return Math.max(0,Math.max(-8,Math.min(8,Math.floor(Yl(t)/3)))*3-Yl(Math.abs(e)))}function IU(e,t){return e=Math.abs(e),t=Math.abs(t)-e,Math.max(0,Yl(t)-Yl(e))+1}function jC(e,t,n,r){var l=Dy(e,t,n),o;switch(r=Ru(r??",f"),r.type){case"s":{var s=Math.max(Math.abs(e),Math.abs(t));return r.precision==null&&!isNaN(o=UU(l,s))&&(r.precision=o),SC(r,s)}case"":case"e":case"g":case"p":case"r":{r.precision==null&&!isNaN(o=IU(l,Math.max(Math.abs(e),Math.abs(t))))&&(r.precision=o-(r.type==="e"));break}case"f":case"%":{r.precision==null&&!isNaN(o=BU(l))&&(r.precision=o-(r.type==="%")*2);break}}return $g(r)}function Qa(e){var t=e.domain;return e.ticks=function(n){var r=t();return Ty(r[0],r[r.length-1],n??10)},e.tickFormat=function(n,r){var l=t();return jC(l[0],l[l.length-1],n??10,r)},e.nice=function(n){n==null&&(n=10);var r=t(),l=0,o=r.length-1,s=r[l],f=r[o],d,h,m=10;for(f<s&&(h=s,s=f,f=h,h=l,l=o,o=h);m-- >0;){if(h=My(s,f,n),h===d)return r[l]=s,r[o]=f,t(r);if(h>0)s=Math.floor(s/h)*h,f=Math.ceil(f/h)*h;else if(h<0)s=Math.ceil(s*h)/h,f=Math.floor(f*h)/h;else break;d=h}return e},e}function EC(){var e=qg();return e.copy=function(){return Qu(e,EC())},nr.apply(e,arguments),Qa(e)}function AC(e){var t;function n(r){return r==null||isNaN(r=+r)?t:r}return n.invert=n,n.domain=n.range=function(r){return arguments.length?(e=Array.from(r,Lf),n):e.slice()},n.unknown=function(r){return arguments.length?(t=r,n):t},n.copy=function(){return AC(e).unknown(t)},e=arguments.length?Array.from(e,Lf):[0,1],Qa(n)}function OC(e,t){e=e.slice();var n=0,r=e.length-1,l=e[n],o=e[r],s;return o<l&&(s=n,n=r,r=s,s=l,l=o,o=s),e[n]=t.floor(l),e[r]=t.ceil(o),e}function ZE(e){return Math.log(e)}function QE(e){return Math.exp(e)}function qU(e){return-Math.log(-e)}function HU(e){return-Math.exp(-e)}function $U(e){return isFinite(e)?+("1e"+e):e<0?0:e}function KU(e){return e===10?$U:e===Math.E?Math.exp:t=>Math.pow(e,t)}function YU(e){return e===Math.E?Math.log:e===10&&Math.log10||e===2&&Math.log2||(e=Math.log(e),t=>Math.log(t)/e)}function JE(e){return(t,n)=>-e(-t,n)}function Kg(e){const t=e(ZE,QE),n=t.domain;let r=10,l,o;function s(){return l=YU(r),o=KU(r),n()[0]<0?(l=JE(l),o=JE(o),e(qU,HU)):e(ZE,QE),t}return t.base=function(f){return arguments.length?(r=+f,s()):r},t.domain=function(f){return arguments.length?(n(f),s()):n()},t.ticks=f=>{const d=n();let h=d[0],m=d[d.length-1];const p=m<h;p&&([h,m]=[m,h]);let x=l(h),w=l(m),E,A;const j=f==null?10:+f;let O=[];if(!(r%1)&&w-x<j){if(x=Math.floor(x),w=Math.ceil(w),h>0){for(;x<=w;++x)for(E=1;E<r;++E)if(A=x<0?E/o(-x):E*o(x),!(A<h)){if(A>m)break;O.push(A)}}else for(;x<=w;++x)for(E=r-1;E>=1;--E)if(A=x>0?E/o(-x):E*o(x),!(A<h)){if(A>m)break;O.push(A)}O.length*2<j&&(O=Ty(h,m,j))}else O=Ty(x,w,Math.min(w-x,j)).map(o);return p?O.reverse():O},t.tickFormat=(f,d)=>{if(f==null&&(f=10),d==null&&(d=r===10?"s":","),typeof d!="function"&&(!(r%1)&&(d=Ru(d)).precision==null&&(d.trim=!0),d=$g(d)),f===1/0)return d;const h=Math.max(1,r*f/t.ticks().length);return m=>{let p=m/o(Math.round(l(m)));return p*r<r-.5&&(p*=r),p<=h?d(m):""}},t.nice=()=>n(OC(n(),{floor:f=>o(Math.floor(l(f))),ceil:f=>o(Math.ceil(l(f)))})),t}function NC(){const e=Kg(Od()).domain([1,10]);return e.copy=()=>Qu(e,NC()).base(e.base()),nr.apply(e,arguments),e}function e2(e){return function(t){return Math.sign(t)*Math.log1p(Math.abs(t/e))}}function t2(e){return function(t){return Math.sign(t)*Math.expm1(Math.abs(t))*e}}function Yg(e){var t=1,n=e(e2(t),t2(t));return n.constant=function(r){return arguments.length?e(e2(t=+r),t2(t)):t},Qa(n)}function CC(){var e=Yg(Od());return e.copy=function(){return Qu(e,CC()).constant(e.constant())},nr.apply(e,arguments)}function n2(e){return function(t){return t<0?-Math.pow(-t,e):Math.pow(t,e)}}function GU(e){return e<0?-Math.sqrt(-e):Math.sqrt(e)}function VU(e){return e<0?-e*e:e*e}function Gg(e){var t=e(an,an),n=1;function r(){return n===1?e(an,an):n===.5?e(GU,VU):e(n2(n),n2(1/n))}return t.exponent=function(l){return arguments.length?(n=+l,r()):n},Qa(t)}function Vg(){var e=Gg(Od());return e.copy=function(){return Qu(e,Vg()).exponent(e.exponent())},nr.apply(e,arguments),e}function XU(){return Vg.apply(null,arguments).exponent(.5)}function r2(e){return Math.sign(e)*e*e}function FU(e){return Math.sign(e)*Math.sqrt(Math.abs(e))}function _C(){var e=qg(),t=[0,1],n=!1,r;function l(o){var s=FU(e(o));return isNaN(s)?r:n?Math.round(s):s}return l.invert=function(o){return e.invert(r2(o))},l.domain=function(o){return arguments.length?(e.domain(o),l):e.domain()},l.range=function(o){return arguments.length?(e.range((t=Array.from(o,Lf)).map(r2)),l):t.slice()},l.rangeRound=function(o){return l.range(o).round(!0)},l.round=function(o){return arguments.length?(n=!!o,l):n},l.clamp=function(o){return arguments.length?(e.clamp(o),l):e.clamp()},l.unknown=function(o){return arguments.length?(r=o,l):r},l.copy=function(){return _C(e.domain(),t).round(n).clamp(e.clamp()).unknown(r)},nr.apply(l,arguments),Qa(l)}function TC(){var e=[],t=[],n=[],r;function l(){var s=0,f=Math.max(1,t.length);for(n=new Array(f-1);++s<f;)n[s-1]=JB(e,s/f);return o}function o(s){return s==null||isNaN(s=+s)?r:t[Wu(n,s)]}return o.invertExtent=function(s){var f=t.indexOf(s);return f<0?[NaN,NaN]:[f>0?n[f-1]:e[0],f<n.length?n[f]:e[e.length-1]]},o.domain=function(s){if(!arguments.length)return e.slice();e=[];for(let f of s)f!=null&&!isNaN(f=+f)&&e.push(f);return e.sort(Xa),l()},o.range=function(s){return arguments.length?(t=Array.from(s),l()):t.slice()},o.unknown=function(s){return arguments.length?(r=s,o):r},o.quantiles=function(){return n.slice()},o.copy=function(){return TC().domain(e).range(t).unknown(r)},nr.apply(o,arguments)}function MC(){var e=0,t=1,n=1,r=[.5],l=[0,1],o;function s(d){return d!=null&&d<=d?l[Wu(r,d,0,n)]:o}function f(){var d=-1;for(r=new Array(n);++d<n;)r[d]=((d+1)*t-(d-n)*e)/(n+1);return s}return s.domain=function(d){return arguments.length?([e,t]=d,e=+e,t=+t,f()):[e,t]},s.range=function(d){return arguments.length?(n=(l=Array.from(d)).length-1,f()):l.slice()},s.invertExtent=function(d){var h=l.indexOf(d);return h<0?[NaN,NaN]:h<1?[e,r[0]]:h>=n?[r[n-1],t]:[r[h-1],r[h]]},s.unknown=function(d){return arguments.length&&(o=d),s},s.thresholds=function(){return r.slice()},s.copy=function(){return MC().domain([e,t]).range(l).unknown(o)},nr.apply(Qa(s),arguments)}function DC(){var e=[.5],t=[0,1],n,r=1;function l(o){return o!=null&&o<=o?t[Wu(e,o,0,r)]:n}return l.domain=function(o){return arguments.length?(e=Array.from(o),r=Math.min(e.length,t.length-1),l):e.slice()},l.range=function(o){return arguments.length?(t=Array.from(o),r=Math.min(e.length,t.length-1),l):t.slice()},l.invertExtent=function(o){var s=t.indexOf(o);return[e[s-1],e[s]]},l.unknown=function(o){return arguments.length?(n=o,l):n},l.copy=function(){return DC().domain(e).range(t).unknown(n)},nr.apply(l,arguments)}const Op=new Date,Np=new Date;function Nt(e,t,n,r){function l(o){return e(o=arguments.length===0?new Date:new Date(+o)),o}return l.floor=o=>(e(o=new Date(+o)),o),l.ceil=o=>(e(o=new Date(o-1)),t(o,1),e(o),o),l.round=o=>{const s=l(o),f=l.ceil(o);return o-s<f-o?s:f},l.offset=(o,s)=>(t(o=new Date(+o),s==null?1:Math.floor(s)),o),l.range=(o,s,f)=>{const d=[];if(o=l.ceil(o),f=f==null?1:Math.floor(f),!(o<s)||!(f>0))return d;let h;do d.push(h=new Date(+o)),t(o,f),e(o);while(h<o&&o<s);return d},l.filter=o=>Nt(s=>{if(s>=s)for(;e(s),!o(s);)s.setTime(s-1)},(s,f)=>{if(s>=s)if(f<0)for(;++f<=0;)for(;t(s,-1),!o(s););else for(;--f>=0;)for(;t(s,1),!o(s););}),n&&(l.count=(o,s)=>(Op.setTime(+o),Np.setTime(+s),e(Op),e(Np),Math.floor(n(Op,Np))),l.every=o=>(o=Math.floor(o),!isFinite(o)||!(o>0)?null:o>1?l.filter(r?s=>r(s)%o===0:s=>l.count(0,s)%o===0):l)),l}const Uf=Nt(()=>{},(e,t)=>{e.setTime(+e+t)},(e,t)=>t-e);Uf.every=e=>(e=Math.floor(e),!isFinite(e)||!(e>0)?null:e>1?Nt(t=>{t.setTime(Math.floor(t/e)*e)},(t,n)=>{t.setTime(+t+n*e)},(t,n)=>(n-t)/e):Uf);Uf.range;const Wr=1e3,Wn=Wr*60,Zr=Wn*60,aa=Zr*24,Xg=aa*7,a2=aa*30,Cp=aa*365,Ei=Nt(e=>{e.setTime(e-e.getMilliseconds())},(e,t)=>{e.setTime(+e+t*Wr)},(e,t)=>(t-e)/Wr,e=>e.getUTCSeconds());Ei.range;const Fg=Nt(e=>{e.setTime(e-e.getMilliseconds()-e.getSeconds()*Wr)},(e,t)=>{e.setTime(+e+t*Wn)},(e,t)=>(t-e)/Wn,e=>e.getMinutes());Fg.range;const Wg=Nt(e=>{e.setUTCSeconds(0,0)},(e,t)=>{e.setTime(+e+t*Wn)},(e,t)=>(t-e)/Wn,e=>e.getUTCMinutes());Wg.range;const Zg=Nt(e=>{e.setTime(e-e.getMilliseconds()-e.getSeconds()*Wr-e.getMinutes()*Wn)},(e,t)=>{e.setTime(+e+t*Zr)},(e,t)=>(t-e)/Zr,e=>e.getHours());Zg.range;const Qg=Nt(e=>{e.setUTCMinutes(0,0,0)},(e,t)=>{e.setTime(+e+t*Zr)},(e,t)=>(t-e)/Zr,e=>e.getUTCHours());Qg.range;const Ju=Nt(e=>e.setHours(0,0,0,0),(e,t)=>e.setDate(e.getDate()+t),(e,t)=>(t-e-(t.getTimezoneOffset()-e.getTimezoneOffset())*Wn)/aa,e=>e.getDate()-1);Ju.range;const Nd=Nt(e=>{e.setUTCHours(0,0,0,0)},(e,t)=>{e.setUTCDate(e.getUTCDate()+t)},(e,t)=>(t-e)/aa,e=>e.getUTCDate()-1);Nd.range;const kC=Nt(e=>{e.setUTCHours(0,0,0,0)},(e,t)=>{e.setUTCDate(e.getUTCDate()+t)},(e,t)=>(t-e)/aa,e=>Math.floor(e/aa));kC.range;function qi(e){return Nt(t=>{t.setDate(t.getDate()-(t.getDay()+7-e)%7),t.setHours(0,0,0,0)},(t,n)=>{t.setDate(t.getDate()+n*7)},(t,n)=>(n-t-(n.getTimezoneOffset()-t.getTimezoneOffset())*Wn)/Xg)}const Cd=qi(0),If=qi(1),WU=qi(2),ZU=qi(3),Gl=qi(4),QU=qi(5),JU=qi(6);Cd.range;If.range;WU.range;ZU.range;Gl.range;QU.range;JU.range;function Hi(e){return Nt(t=>{t.setUTCDate(t.getUTCDate()-(t.getUTCDay()+7-e)%7),t.setUTCHours(0,0,0,0)},(t,n)=>{t.setUTCDate(t.getUTCDate()+n*7)},(t,n)=>(n-t)/Xg)}const _d=Hi(0),qf=Hi(1),eI=Hi(2),tI=Hi(3),Vl=Hi(4),nI=Hi(5),rI=Hi(6);_d.range;qf.range;eI.range;tI.range;Vl.range;nI.range;rI.range;const Jg=Nt(e=>{e.setDate(1),e.setHours(0,0,0,0)},(e,t)=>{e.setMonth(e.getMonth()+t)},(e,t)=>t.getMonth()-e.getMonth()+(t.getFullYear()-e.getFullYear())*12,e=>e.getMonth());Jg.range;const e0=Nt(e=>{e.setUTCDate(1),e.setUTCHours(0,0,0,0)},(e,t)=>{e.setUTCMonth(e.getUTCMonth()+t)},(e,t)=>t.getUTCMonth()-e.getUTCMonth()+(t.getUTCFullYear()-e.getUTCFullYear())*12,e=>e.getUTCMonth());e0.range;const ia=Nt(e=>{e.setMonth(0,1),e.setHours(0,0,0,0)},(e,t)=>{e.setFullYear(e.getFullYear()+t)},(e,t)=>t.getFullYear()-e.getFullYear(),e=>e.getFullYear());ia.every=e=>!isFinite(e=Math.floor(e))||!(e>0)?null:Nt(t=>{t.setFullYear(Math.floor(t.getFullYear()/e)*e),t.setMonth(0,1),t.setHours(0,0,0,0)},(t,n)=>{t.setFullYear(t.getFullYear()+n*e)});ia.range;const la=Nt(e=>{e.setUTCMonth(0,1),e.setUTCHours(0,0,0,0)},(e,t)=>{e.setUTCFullYear(e.getUTCFullYear()+t)},(e,t)=>t.getUTCFullYear()-e.getUTCFullYear(),e=>e.getUTCFullYear());la.every=e=>!isFinite(e=Math.floor(e))||!(e>0)?null:Nt(t=>{t.setUTCFullYear(Math.floor(t.getUTCFullYear()/e)*e),t.setUTCMonth(0,1),t.setUTCHours(0,0,0,0)},(t,n)=>{t.setUTCFullYear(t.getUTCFullYear()+n*e)});la.range;function RC(e,t,n,r,l,o){const s=[[Ei,1,Wr],[Ei,5,5*Wr],[Ei,15,15*Wr],[Ei,30,30*Wr],[o,1,Wn],[o,5,5*Wn],[o,15,15*Wn],[o,30,30*Wn],[l,1,Zr],[l,3,3*Zr],[l,6,6*Zr],[l,12,12*Zr],[r,1,aa],[r,2,2*aa],[n,1,Xg],[t,1,a2],[t,3,3*a2],[e,1,Cp]];function f(h,m,p){const x=m<h;x&&([h,m]=[m,h]);const w=p&&typeof p.range=="function"?p:d(h,m,p),E=w?w.range(h,+m+1):[];return x?E.reverse():E}function d(h,m,p){const x=Math.abs(m-h)/p,w=Pg(([,,j])=>j).right(s,x);if(w===s.length)return e.every(Dy(h/Cp,m/Cp,p));if(w===0)return Uf.every(Math.max(Dy(h,m,p),1));const[E,A]=s[x/s[w-1][2]<s[w][2]/x?w-1:w];return E.every(A)}return[f,d]}const[aI,iI]=RC(la,e0,_d,kC,Qg,Wg),[lI,oI]=RC(ia,Jg,Cd,Ju,Zg,Fg);function _p(e){if(0<=e.y&&e.y<100){var t=new Date(-1,e.m,e.d,e.H,e.M,e.S,e.L);return t.setFullYear(e.y),t}return new Date(e.y,e.m,e.d,e.H,e.M,e.S,e.L)}function Tp(e){if(0<=e.y&&e.y<100){var t=new Date(Date.UTC(-1,e.m,e.d,e.H,e.M,e.S,e.L));return t.setUTCFullYear(e.y),t}return new Date(Date.UTC(e.y,e.m,e.d,e.H,e.M,e.S,e.L))}function vu(e,t,n){return{y:e,m:t,d:n,H:0,M:0,S:0,L:0}}function uI(e){var t=e.dateTime,n=e.date,r=e.time,l=e.periods,o=e.days,s=e.shortDays,f=e.months,d=e.shortMonths,h=pu(l),m=yu(l),p=pu(o),x=yu(o),w=pu(s),E=yu(s),A=pu(f),j=yu(f),O=pu(d),_=yu(d),C={a:Q,A:X,b:le,B:Ee,c:null,d:c2,e:c2,f:MI,g:qI,G:$I,H:CI,I:_I,j:TI,L:PC,m:DI,M:kI,p:R,q:Y,Q:h2,s:m2,S:RI,u:PI,U:zI,V:LI,w:BI,W:UI,x:null,X:null,y:II,Y:HI,Z:KI,"%":d2},D={a:ee,A:ne,b:he,B:we,c:null,d:f2,e:f2,f:XI,g:a9,G:l9,H:YI,I:GI,j:VI,L:LC,m:FI,M:WI,p:ue,q:lt,Q:h2,s:m2,S:ZI,u:QI,U:JI,V:e9,w:t9,W:n9,x:null,X:null,y:r9,Y:i9,Z:o9,"%":d2},T={a:ae,A:W,b:J,B:pe,c:ge,d:u2,e:u2,f:EI,g:o2,G:l2,H:s2,I:s2,j:xI,L:jI,m:bI,M:wI,p:re,q:gI,Q:OI,s:NI,S:SI,u:hI,U:mI,V:vI,w:dI,W:pI,x:xe,X:q,y:o2,Y:l2,Z:yI,"%":AI};C.x=P(n,C),C.X=P(r,C),C.c=P(t,C),D.x=P(n,D),D.X=P(r,D),D.c=P(t,D);function P(V,be){return function(Ae){var te=[],It=-1,ke=0,qt=V.length,Ht,Nr,mo;for(Ae instanceof Date||(Ae=new Date(+Ae));++It<qt;)V.charCodeAt(It)===37&&(te.push(V.slice(ke,It)),(Nr=i2[Ht=V.charAt(++It)])!=null?Ht=V.charAt(++It):Nr=Ht==="e"?" ":"0",(mo=be[Ht])&&(Ht=mo(Ae,Nr)),te.push(Ht),ke=It+1);return te.push(V.slice(ke,It)),te.join("")}}function k(V,be){return function(Ae){var te=vu(1900,void 0,1),It=I(te,V,Ae+="",0),ke,qt;if(It!=Ae.length)return null;if("Q"in te)return new Date(te.Q);if("s"in te)return new Date(te.s*1e3+("L"in te?te.L:0));if(be&&!("Z"in te)&&(te.Z=0),"p"in te&&(te.H=te.H%12+te.p*12),te.m===void 0&&(te.m="q"in te?te.q:0),"V"in te){if(te.V<1||te.V>53)return null;"w"in te||(te.w=1),"Z"in te?(ke=Tp(vu(te.y,0,1)),qt=ke.getUTCDay(),ke=qt>4||qt===0?qf.ceil(ke):qf(ke),ke=Nd.offset(ke,(te.V-1)*7),te.y=ke.getUTCFullYear(),te.m=ke.getUTCMonth(),te.d=ke.getUTCDate()+(te.w+6)%7):(ke=_p(vu(te.y,0,1)),qt=ke.getDay(),ke=qt>4||qt===0?If.ceil(ke):If(ke),ke=Ju.offset(ke,(te.V-1)*7),te.y=ke.getFullYear(),te.m=ke.getMonth(),te.d=ke.getDate()+(te.w+6)%7)}else("W"in te||"U"in te)&&("w"in te||(te.w="u"in te?te.u%7:"W"in te?1:0),qt="Z"in te?Tp(vu(te.y,0,1)).getUTCDay():_p(vu(te.y,0,1)).getDay(),te.m=0,te.d="W"in te?(te.w+6)%7+te.W*7-(qt+5)%7:te.w+te.U*7-(qt+6)%7);return"Z"in te?(te.H+=te.Z/100|0,te.M+=te.Z%100,Tp(te)):_p(te)}}function I(V,be,Ae,te){for(var It=0,ke=be.length,qt=Ae.length,Ht,Nr;It<ke;){if(te>=qt)return-1;if(Ht=be.charCodeAt(It++),Ht===37){if(Ht=be.charAt(It++),Nr=T[Ht in i2?be.charAt(It++):Ht],!Nr||(te=Nr(V,Ae,te))<0)return-1}else if(Ht!=Ae.charCodeAt(te++))return-1}return te}function re(V,be,Ae){var te=h.exec(be.slice(Ae));return te?(V.p=m.get(te[0].toLowerCase()),Ae+te[0].length):-1}function ae(V,be,Ae){var te=w.exec(be.slice(Ae));return te?(V.w=E.get(te[0].toLowerCase()),Ae+te[0].length):-1}function W(V,be,Ae){var te=p.exec(be.slice(Ae));return te?(V.w=x.get(te[0].toLowerCase()),Ae+te[0].length):-1}function J(V,be,Ae){var te=O.exec(be.slice(Ae));return te?(V.m=_.get(te[0].toLowerCase()),Ae+te[0].length):-1}function pe(V,be,Ae){var te=A.exec(be.slice(Ae));return te?(V.m=j.get(te[0].toLowerCase()),Ae+te[0].length):-1}function ge(V,be,Ae){return I(V,t,be,Ae)}function xe(V,be,Ae){return I(V,n,be,Ae)}function q(V,be,Ae){return I(V,r,be,Ae)}function Q(V){return s[V.getDay()]}function X(V){return o[V.getDay()]}function le(V){return d[V.getMonth()]}function Ee(V){return f[V.getMonth()]}function R(V){return l[+(V.getHours()>=12)]}function Y(V){return 1+~~(V.getMonth()/3)}function ee(V){return s[V.getUTCDay()]}function ne(V){return o[V.getUTCDay()]}function he(V){return d[V.getUTCMonth()]}function we(V){return f[V.getUTCMonth()]}function ue(V){return l[+(V.getUTCHours()>=12)]}function lt(V){return 1+~~(V.getUTCMonth()/3)}return{format:function(V){var be=P(V+="",C);return be.toString=function(){return V},be},parse:function(V){var be=k(V+="",!1);return be.toString=function(){return V},be},utcFormat:function(V){var be=P(V+="",D);return be.toString=function(){return V},be},utcParse:function(V){var be=k(V+="",!0);return be.toString=function(){return V},be}}}var i2={"-":"",_:" ",0:"0"},Ut=/^\s*\d+/,sI=/^%/,cI=/[\\^$*+?|[\]().{}]/g;function ze(e,t,n){var r=e<0?"-":"",l=(r?-e:e)+"",o=l.length;return r+(o<n?new Array(n-o+1).join(t)+l:l)}function fI(e){return e.replace(cI,"\\$&")}function pu(e){return new RegExp("^(?:"+e.map(fI).join("|")+")","i")}function yu(e){return new Map(e.map((t,n)=>[t.toLowerCase(),n]))}function dI(e,t,n){var r=Ut.exec(t.slice(n,n+1));return r?(e.w=+r[0],n+r[0].length):-1}function hI(e,t,n){var r=Ut.exec(t.slice(n,n+1));return r?(e.u=+r[0],n+r[0].length):-1}function mI(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.U=+r[0],n+r[0].length):-1}function vI(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.V=+r[0],n+r[0].length):-1}function pI(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.W=+r[0],n+r[0].length):-1}function l2(e,t,n){var r=Ut.exec(t.slice(n,n+4));return r?(e.y=+r[0],n+r[0].length):-1}function o2(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.y=+r[0]+(+r[0]>68?1900:2e3),n+r[0].length):-1}function yI(e,t,n){var r=/^(Z)|([+-]\d\d)(?::?(\d\d))?/.exec(t.slice(n,n+6));return r?(e.Z=r[1]?0:-(r[2]+(r[3]||"00")),n+r[0].length):-1}function gI(e,t,n){var r=Ut.exec(t.slice(n,n+1));return r?(e.q=r[0]*3-3,n+r[0].length):-1}function bI(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.m=r[0]-1,n+r[0].length):-1}function u2(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.d=+r[0],n+r[0].length):-1}function xI(e,t,n){var r=Ut.exec(t.slice(n,n+3));return r?(e.m=0,e.d=+r[0],n+r[0].length):-1}function s2(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.H=+r[0],n+r[0].length):-1}function wI(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.M=+r[0],n+r[0].length):-1}function SI(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.S=+r[0],n+r[0].length):-1}function jI(e,t,n){var r=Ut.exec(t.slice(n,n+3));return r?(e.L=+r[0],n+r[0].length):-1}function EI(e,t,n){var r=Ut.exec(t.slice(n,n+6));return r?(e.L=Math.floor(r[0]/1e3),n+r[0].length):-1}function AI(e,t,n){var r=sI.exec(t.slice(n,n+1));return r?n+r[0].length:-1}function OI(e,t,n){var r=Ut.exec(t.slice(n));return r?(e.Q=+r[0],n+r[0].length):-1}function NI(e,t,n){var r=Ut.exec(t.slice(n));return r?(e.s=+r[0],n+r[0].length):-1}function c2(e,t){return ze(e.getDate(),t,2)}function CI(e,t){return ze(e.getHours(),t,2)}function _I(e,t){return ze(e.getHours()%12||12,t,2)}function TI(e,t){return ze(1+Ju.count(ia(e),e),t,3)}function PC(e,t){return ze(e.getMilliseconds(),t,3)}function MI(e,t){return PC(e,t)+"000"}function DI(e,t){return ze(e.getMonth()+1,t,2)}function kI(e,t){return ze(e.getMinutes(),t,2)}function RI(e,t){return ze(e.getSeconds(),t,2)}function PI(e){var t=e.getDay();return t===0?7:t}function zI(e,t){return ze(Cd.count(ia(e)-1,e),t,2)}function zC(e){var t=e.getDay();return t>=4||t===0?Gl(e):Gl.ceil(e)}function LI(e,t){return e=zC(e),ze(Gl.count(ia(e),e)+(ia(e).getDay()===4),t,2)}function BI(e){return e.getDay()}function UI(e,t){return ze(If.count(ia(e)-1,e),t,2)}function II(e,t){return ze(e.getFullYear()%100,t,2)}function qI(e,t){return e=zC(e),ze(e.getFullYear()%100,t,2)}function HI(e,t){return ze(e.getFullYear()%1e4,t,4)}function $I(e,t){var n=e.getDay();return e=n>=4||n===0?Gl(e):Gl.ceil(e),ze(e.getFullYear()%1e4,t,4)}function KI(e){var t=e.getTimezoneOffset();return(t>0?"-":(t*=-1,"+"))+ze(t/60|0,"0",2)+ze(t%60,"0",2)}function f2(e,t){return ze(e.getUTCDate(),t,2)}function YI(e,t){return ze(e.getUTCHours(),t,2)}function GI(e,t){return ze(e.getUTCHours()%12||12,t,2)}function VI(e,t){return ze(1+Nd.count(la(e),e),t,3)}function LC(e,t){return ze(e.getUTCMilliseconds(),t,3)}function XI(e,t){return LC(e,t)+"000"}function FI(e,t){return ze(e.getUTCMonth()+1,t,2)}function WI(e,t){return ze(e.getUTCMinutes(),t,2)}function ZI(e,t){return ze(e.getUTCSeconds(),t,2)}function QI(e){var t=e.getUTCDay();return t===0?7:t}function JI(e,t){return ze(_d.count(la(e)-1,e),t,2)}function BC(e){var t=e.getUTCDay();return t>=4||t===0?Vl(e):Vl.ceil(e)}function e9(e,t){return e=BC(e),ze(Vl.count(la(e),e)+(la(e).getUTCDay()===4),t,2)}function t9(e){return e.getUTCDay()}function n9(e,t){return ze(qf.count(la(e)-1,e),t,2)}function r9(e,t){return ze(e.getUTCFullYear()%100,t,2)}function a9(e,t){return e=BC(e),ze(e.getUTCFullYear()%100,t,2)}function i9(e,t){return ze(e.getUTCFullYear()%1e4,t,4)}function l9(e,t){var n=e.getUTCDay();return e=n>=4||n===0?Vl(e):Vl.ceil(e),ze(e.getUTCFullYear()%1e4,t,4)}function o9(){return"+0000"}function d2(){return"%"}function h2(e){return+e}function m2(e){return Math.floor(+e/1e3)}var Cl,UC,IC;u9({dateTime:"%x, %X",date:"%-m/%-d/%Y",time:"%-I:%M:%S %p",periods:["AM","PM"],days:["Sunday","Monday","Tuesday","Wednesday","Thursday","Friday","Saturday"],shortDays:["Sun","Mon","Tue","Wed","Thu","Fri","Sat"],months:["January","February","March","April","May","June","July","August","September","October","November","December"],shortMonths:["Jan","Feb","Mar","Apr","May","Jun","Jul","Aug","Sep","Oct","Nov","Dec"]});function u9(e){return Cl=uI(e),UC=Cl.format,Cl.parse,IC=Cl.utcFormat,Cl.utcParse,Cl}function s9(e){return new Date(e)}function c9(e){return e instanceof Date?+e:+new Date(+e)}function t0(e,t,n,r,l,o,s,f,d,h){var m=qg(),p=m.invert,x=m.domain,w=h(".%L"),E=h(":%S"),A=h("%I:%M"),j=h("%I %p"),O=h("%a %d"),_=h("%b %d"),C=h("%B"),D=h("%Y");function T(P){return(d(P)<P?w:f(P)<P?E:s(P)<P?A:o(P)<P?j:r(P)<P?l(P)<P?O:_:n(P)<P?C:D)(P)}return m.invert=function(P){return new Date(p(P))},m.domain=function(P){return arguments.length?x(Array.from(P,c9)):x().map(s9)},m.ticks=function(P){var k=x();return e(k[0],k[k.length-1],P??10)},m.tickFormat=function(P,k){return k==null?T:h(k)},m.nice=function(P){var k=x();return(!P||typeof P.range!="function")&&(P=t(k[0],k[k.length-1],P??10)),P?x(OC(k,P)):m},m.copy=function(){return Qu(m,t0(e,t,n,r,l,o,s,f,d,h))},m}function f9(){return nr.apply(t0(lI,oI,ia,Jg,Cd,Ju,Zg,Fg,Ei,UC).domain([new Date(2e3,0,1),new Date(2e3,0,2)]),arguments)}function d9(){return nr.apply(t0(aI,iI,la,e0,_d,Nd,Qg,Wg,Ei,IC).domain([Date.UTC(2e3,0,1),Date.UTC(2e3,0,2)]),arguments)}function Td(){var e=0,t=1,n,r,l,o,s=an,f=!1,d;function h(p){return p==null||isNaN(p=+p)?d:s(l===0?.5:(p=(o(p)-n)*l,f?Math.max(0,Math.min(1,p)):p))}h.domain=function(p){return arguments.length?([e,t]=p,n=o(e=+e),r=o(t=+t),l=n===r?0:1/(r-n),h):[e,t]},h.clamp=function(p){return arguments.length?(f=!!p,h):f},h.interpolator=function(p){return arguments.length?(s=p,h):s};function m(p){return function(x){var w,E;return arguments.length?([w,E]=x,s=p(w,E),h):[s(0),s(1)]}}return h.range=m(ao),h.rangeRound=m(Ig),h.unknown=function(p){return arguments.length?(d=p,h):d},function(p){return o=p,n=p(e),r=p(t),l=n===r?0:1/(r-n),h}}function Ja(e,t){return t.domain(e.domain()).interpolator(e.interpolator()).clamp(e.clamp()).unknown(e.unknown())}function qC(){var e=Qa(Td()(an));return e.copy=function(){return Ja(e,qC())},ha.apply(e,arguments)}function HC(){var e=Kg(Td()).domain([1,10]);return e.copy=function(){return Ja(e,HC()).base(e.base())},ha.apply(e,arguments)}function $C(){var e=Yg(Td());return e.copy=function(){return Ja(e,$C()).constant(e.constant())},ha.apply(e,arguments)}function n0(){var e=Gg(Td());return e.copy=function(){return Ja(e,n0()).exponent(e.exponent())},ha.apply(e,arguments)}function h9(){return n0.apply(null,arguments).exponent(.5)}function KC(){var e=[],t=an;function n(r){if(r!=null&&!isNaN(r=+r))return t((Wu(e,r,1)-1)/(e.length-1))}return n.domain=function(r){if(!arguments.length)return e.slice();e=[];for(let l of r)l!=null&&!isNaN(l=+l)&&e.push(l);return e.sort(Xa),n},n.interpolator=function(r){return arguments.length?(t=r,n):t},n.range=function(){return e.map((r,l)=>t(l/(e.length-1)))},n.quantiles=function(r){return Array.from({length:r+1},(l,o)=>QB(e,o/r))},n.copy=function(){return KC(t).domain(e)},ha.apply(n,arguments)}function Md(){var e=0,t=.5,n=1,r=1,l,o,s,f,d,h=an,m,p=!1,x;function w(A){return isNaN(A=+A)?x:(A=.5+((A=+m(A))-o)*(r*A<r*o?f:d),h(p?Math.max(0,Math.min(1,A)):A))}w.domain=function(A){return arguments.length?([e,t,n]=A,l=m(e=+e),o=m(t=+t),s=m(n=+n),f=l===o?0:.5/(o-l),d=o===s?0:.5/(s-o),r=o<l?-1:1,w):[e,t,n]},w.clamp=function(A){return arguments.length?(p=!!A,w):p},w.interpolator=function(A){return arguments.length?(h=A,w):h};function E(A){return function(j){var O,_,C;return arguments.length?([O,_,C]=j,h=AU(A,[O,_,C]),w):[h(0),h(.5),h(1)]}}return w.range=E(ao),w.rangeRound=E(Ig),w.unknown=function(A){return arguments.length?(x=A,w):x},function(A){return m=A,l=A(e),o=A(t),s=A(n),f=l===o?0:.5/(o-l),d=o===s?0:.5/(s-o),r=o<l?-1:1,w}}function YC(){var e=Qa(Md()(an));return e.copy=function(){return Ja(e,YC())},ha.apply(e,arguments)}function GC(){var e=Kg(Md()).domain([.1,1,10]);return e.copy=function(){return Ja(e,GC()).base(e.base())},ha.apply(e,arguments)}function VC(){var e=Yg(Md());return e.copy=function(){return Ja(e,VC()).constant(e.constant())},ha.apply(e,arguments)}function r0(){var e=Gg(Md());return e.copy=function(){return Ja(e,r0()).exponent(e.exponent())},ha.apply(e,arguments)}function m9(){return r0.apply(null,arguments).exponent(.5)}const bu=Object.freeze(Object.defineProperty({__proto__:null,scaleBand:Lg,scaleDiverging:YC,scaleDivergingLog:GC,scaleDivergingPow:r0,scaleDivergingSqrt:m9,scaleDivergingSymlog:VC,scaleIdentity:AC,scaleImplicit:ky,scaleLinear:EC,scaleLog:NC,scaleOrdinal:zg,scalePoint:tU,scalePow:Vg,scaleQuantile:TC,scaleQuantize:MC,scaleRadial:_C,scaleSequential:qC,scaleSequentialLog:HC,scaleSequentialPow:n0,scaleSequentialQuantile:KC,scaleSequentialSqrt:h9,scaleSequentialSymlog:$C,scaleSqrt:XU,scaleSymlog:CC,scaleThreshold:DC,scaleTime:f9,scaleUtc:d9,tickFormat:jC},Symbol.toStringTag,{value:"Module"}));var ei=e=>e.chartData,v9=K([ei],e=>{var t=e.chartData!=null?e.chartData.length-1:0;return{chartData:e.chartData,computedData:e.computedData,dataEndIndex:t,dataStartIndex:0}}),a0=(e,t,n,r)=>r?v9(e):ei(e);function Za(e){if(Array.isArray(e)&&e.length===2){var[t,n]=e;if(ct(t)&&ct(n))return!0}return!1}function v2(e,t,n){return n?e:[Math.min(e[0],t[0]),Math.max(e[1],t[1])]}function XC(e,t){if(t&&typeof e!="function"&&Array.isArray(e)&&e.length===2){var[n,r]=e,l,o;if(ct(n))l=n;else if(typeof n=="function")return;if(ct(r))o=r;else if(typeof r=="function")return;var s=[l,o];if(Za(s))return s}}function p9(e,t,n){if(!(!n&&t==null)){if(typeof e=="function"&&t!=null)try{var r=e(t,n);if(Za(r))return v2(r,t,n)}catch{}if(Array.isArray(e)&&e.length===2){var[l,o]=e,s,f;if(l==="auto")t!=null&&(s=Math.min(...t));else if(de(l))s=l;else if(typeof l=="function")try{t!=null&&(s=l(t?.[0]))}catch{}else if(typeof l=="string"&&Yj.test(l)){var d=Yj.exec(l);if(d==null||t==null)s=void 0;else{var h=+d[1];s=t[0]-h}}else s=t?.[0];if(o==="auto")t!=null&&(f=Math.max(...t));else if(de(o))f=o;else if(typeof o=="function")try{t!=null&&(f=o(t?.[1]))}catch{}else if(typeof o=="string"&&Gj.test(o)){var m=Gj.exec(o);if(m==null||t==null)f=void 0;else{var p=+m[1];f=t[1]+p}}else f=t?.[1];var x=[s,f];if(Za(x))return t==null?x:v2(x,t,n)}}}var io=1e9,y9={precision:20,rounding:4,toExpNeg:-7,toExpPos:21,LN10:"2.302585092994045684017991454684364207601101488628772976033327900967572609677352480235997205089598298341967784042286"},l0,rt=!0,er="[DecimalError] ",Di=er+"Invalid argument: ",i0=er+"Exponent out of range: ",lo=Math.floor,Si=Math.pow,g9=/^(\d+(\.\d*)?|\.\d+)(e[+-]?\d+)?$/i,Dn,Pt=1e7,et=7,FC=9007199254740991,Hf=lo(FC/et),ie={};ie.absoluteValue=ie.abs=function(){var e=new this.constructor(this);return e.s&&(e.s=1),e};ie.comparedTo=ie.cmp=function(e){var t,n,r,l,o=this;if(e=new o.constructor(e),o.s!==e.s)return o.s||-e.s;if(o.e!==e.e)return o.e>e.e^o.s<0?1:-1;for(r=o.d.length,l=e.d.length,t=0,n=r<l?r:l;t<n;++t)if(o.d[t]!==e.d[t])return o.d[t]>e.d[t]^o.s<0?1:-1;return r===l?0:r>l^o.s<0?1:-1};ie.decimalPlaces=ie.dp=function(){var e=this,t=e.d.length-1,n=(t-e.e)*et;if(t=e.d[t],t)for(;t%10==0;t/=10)n--;return n<0?0:n};ie.dividedBy=ie.div=function(e){return Jr(this,new this.constructor(e))};ie.dividedToIntegerBy=ie.idiv=function(e){var t=this,n=t.constructor;return Ve(Jr(t,new n(e),0,1),n.precision)};ie.equals=ie.eq=function(e){return!this.cmp(e)};ie.exponent=function(){return xt(this)};ie.greaterThan=ie.gt=function(e){return this.cmp(e)>0};ie.greaterThanOrEqualTo=ie.gte=function(e){return this.cmp(e)>=0};ie.isInteger=ie.isint=function(){return this.e>this.d.length-2};ie.isNegative=ie.isneg=function(){return this.s<0};ie.isPositive=ie.ispos=function(){return this.s>0};ie.isZero=function(){return this.s===0};ie.lessThan=ie.lt=function(e){return this.cmp(e)<0};ie.lessThanOrEqualTo=ie.lte=function(e){return this.cmp(e)<1};ie.logarithm=ie.log=function(e){var t,n=this,r=n.constructor,l=r.precision,o=l+5;if(e===void 0)e=new r(10);else if(e=new r(e),e.s<1||e.eq(Dn))throw Error(er+"NaN");if(n.s<1)throw Error(er+(n.s?"NaN":"-Infinity"));return n.eq(Dn)?new r(0):(rt=!1,t=Jr(Pu(n,o),Pu(e,o),o),rt=!0,Ve(t,l))};ie.minus=ie.sub=function(e){var t=this;return e=new t.constructor(e),t.s==e.s?QC(t,e):WC(t,(e.s=-e.s,e))};ie.modulo=ie.mod=function(e){var t,n=this,r=n.constructor,l=r.precision;if(e=new r(e),!e.s)throw Error(er+"NaN");return n.s?(rt=!1,t=Jr(n,e,0,1).times(e),rt=!0,n.minus(t)):Ve(new r(n),l)};ie.naturalExponential=ie.exp=function(){return ZC(this)};ie.naturalLogarithm=ie.ln=function(){return Pu(this)};ie.negated=ie.neg=function(){var e=new this.constructor(this);return e.s=-e.s||0,e};ie.plus=ie.add=function(e){var t=this;return e=new t.constructor(e),t.s==e.s?WC(t,e):QC(t,(e.s=-e.s,e))};ie.precision=ie.sd=function(e){var t,n,r,l=this;if(e!==void 0&&e!==!!e&&e!==1&&e!==0)throw Error(Di+e);if(t=xt(l)+1,r=l.d.length-1,n=r*et+1,r=l.d[r],r){for(;r%10==0;r/=10)n--;for(r=l.d[0];r>=10;r/=10)n++}return e&&t>n?t:n};ie.squareRoot=ie.sqrt=function(){var e,t,n,r,l,o,s,f=this,d=f.constructor;if(f.s<1){if(!f.s)return new d(0);throw Error(er+"NaN")}for(e=xt(f),rt=!1,l=Math.sqrt(+f),l==0||l==1/0?(t=xr(f.d),(t.length+e)%2==0&&(t+="0"),l=Math.sqrt(t),e=lo((e+1)/2)-(e<0||e%2),l==1/0?t="5e"+e:(t=l.toExponential(),t=t.slice(0,t.indexOf("e")+1)+e),r=new d(t)):r=new d(l.toString()),n=d.precision,l=s=n+3;;)if(o=r,r=o.plus(Jr(f,o,s+2)).times(.5),xr(o.d).slice(0,s)===(t=xr(r.d)).slice(0,s)){if(t=t.slice(s-3,s+1),l==s&&t=="4999"){if(Ve(o,n+1,0),o.times(o).eq(f)){r=o;break}}else if(t!="9999")break;s+=4}return rt=!0,Ve(r,n)};ie.times=ie.mul=function(e){var t,n,r,l,o,s,f,d,h,m=this,p=m.constructor,x=m.d,w=(e=new p(e)).d;if(!m.s||!e.s)return new p(0);for(e.s*=m.s,n=m.e+e.e,d=x.length,h=w.length,d<h&&(o=x,x=w,w=o,s=d,d=h,h=s),o=[],s=d+h,r=s;r--;)o.push(0);for(r=h;--r>=0;){for(t=0,l=d+r;l>r;)f=o[l]+w[r]*x[l-r-1]+t,o[l--]=f%Pt|0,t=f/Pt|0;o[l]=(o[l]+t)%Pt|0}for(;!o[--s];)o.pop();return t?++n:o.shift(),e.d=o,e.e=n,rt?Ve(e,p.precision):e};ie.toDecimalPlaces=ie.todp=function(e,t){var n=this,r=n.constructor;return n=new r(n),e===void 0?n:(Ar(e,0,io),t===void 0?t=r.rounding:Ar(t,0,8),Ve(n,e+xt(n)+1,t))};ie.toExponential=function(e,t){var n,r=this,l=r.constructor;return e===void 0?n=zi(r,!0):(Ar(e,0,io),t===void 0?t=l.rounding:Ar(t,0,8),r=Ve(new l(r),e+1,t),n=zi(r,!0,e+1)),n};ie.toFixed=function(e,t){var n,r,l=this,o=l.constructor;return e===void 0?zi(l):(Ar(e,0,io),t===void 0?t=o.rounding:Ar(t,0,8),r=Ve(new o(l),e+xt(l)+1,t),n=zi(r.abs(),!1,e+xt(r)+1),l.isneg()&&!l.isZero()?"-"+n:n)};ie.toInteger=ie.toint=function(){var e=this,t=e.constructor;return Ve(new t(e),xt(e)+1,t.rounding)};ie.toNumber=function(){return+this};ie.toPower=ie.pow=function(e){var t,n,r,l,o,s,f=this,d=f.constructor,h=12,m=+(e=new d(e));if(!e.s)return new d(Dn);if(f=new d(f),!f.s){if(e.s<1)throw Error(er+"Infinity");return f}if(f.eq(Dn))return f;if(r=d.precision,e.eq(Dn))return Ve(f,r);if(t=e.e,n=e.d.length-1,s=t>=n,o=f.s,s){if((n=m<0?-m:m)<=FC){for(l=new d(Dn),t=Math.ceil(r/et+4),rt=!1;n%2&&(l=l.times(f),y2(l.d,t)),n=lo(n/2),n!==0;)f=f.times(f),y2(f.d,t);return rt=!0,e.s<0?new d(Dn).div(l):Ve(l,r)}}else if(o<0)throw Error(er+"NaN");return o=o<0&&e.d[Math.max(t,n)]&1?-1:1,f.s=1,rt=!1,l=e.times(Pu(f,r+h)),rt=!0,l=ZC(l),l.s=o,l};ie.toPrecision=function(e,t){var n,r,l=this,o=l.constructor;return e===void 0?(n=xt(l),r=zi(l,n<=o.toExpNeg||n>=o.toExpPos)):(Ar(e,1,io),t===void 0?t=o.rounding:Ar(t,0,8),l=Ve(new o(l),e,t),n=xt(l),r=zi(l,e<=n||n<=o.toExpNeg,e)),r};ie.toSignificantDigits=ie.tosd=function(e,t){var n=this,r=n.constructor;return e===void 0?(e=r.precision,t=r.rounding):(Ar(e,1,io),t===void 0?t=r.rounding:Ar(t,0,8)),Ve(new r(n),e,t)};ie.toString=ie.valueOf=ie.val=ie.toJSON=ie[Symbol.for("nodejs.util.inspect.custom")]=function(){var e=this,t=xt(e),n=e.constructor;return zi(e,t<=n.toExpNeg||t>=n.toExpPos)};function WC(e,t){var n,r,l,o,s,f,d,h,m=e.constructor,p=m.precision;if(!e.s||!t.s)return t.s||(t=new m(e)),rt?Ve(t,p):t;if(d=e.d,h=t.d,s=e.e,l=t.e,d=d.slice(),o=s-l,o){for(o<0?(r=d,o=-o,f=h.length):(r=h,l=s,f=d.length),s=Math.ceil(p/et),f=s>f?s+1:f+1,o>f&&(o=f,r.length=1),r.reverse();o--;)r.push(0);r.reverse()}for(f=d.length,o=h.length,f-o<0&&(o=f,r=h,h=d,d=r),n=0;o;)n=(d[--o]=d[o]+h[o]+n)/Pt|0,d[o]%=Pt;for(n&&(d.unshift(n),++l),f=d.length;d[--f]==0;)d.pop();return t.d=d,t.e=l,rt?Ve(t,p):t}function Ar(e,t,n){if(e!==~~e||e<t||e>n)throw Error(Di+e)}function xr(e){var t,n,r,l=e.length-1,o="",s=e[0];if(l>0){for(o+=s,t=1;t<l;t++)r=e[t]+"",n=et-r.length,n&&(o+=Ya(n)),o+=r;s=e[t],r=s+"",n=et-r.length,n&&(o+=Ya(n))}else if(s===0)return"0";for(;s%10===0;)s/=10;return o+s}var Jr=(function(){function e(r,l){var o,s=0,f=r.length;for(r=r.slice();f--;)o=r[f]*l+s,r[f]=o%Pt|0,s=o/Pt|0;return s&&r.unshift(s),r}function t(r,l,o,s){var f,d;if(o!=s)d=o>s?1:-1;else for(f=d=0;f<o;f++)if(r[f]!=l[f]){d=r[f]>l[f]?1:-1;break}return d}function n(r,l,o){for(var s=0;o--;)r[o]-=s,s=r[o]<l[o]?1:0,r[o]=s*Pt+r[o]-l[o];for(;!r[0]&&r.length>1;)r.shift()}return function(r,l,o,s){var f,d,h,m,p,x,w,E,A,j,O,_,C,D,T,P,k,I,re=r.constructor,ae=r.s==l.s?1:-1,W=r.d,J=l.d;if(!r.s)return new re(r);if(!l.s)throw Error(er+"Division by zero");for(d=r.e-l.e,k=J.length,T=W.length,w=new re(ae),E=w.d=[],h=0;J[h]==(W[h]||0);)++h;if(J[h]>(W[h]||0)&&--d,o==null?_=o=re.precision:s?_=o+(xt(r)-xt(l))+1:_=o,_<0)return new re(0);if(_=_/et+2|0,h=0,k==1)for(m=0,J=J[0],_++;(h<T||m)&&_--;h++)C=m*Pt+(W[h]||0),E[h]=C/J|0,m=C%J|0;else{for(m=Pt/(J[0]+1)|0,m>1&&(J=e(J,m),W=e(W,m),k=J.length,T=W.length),D=k,A=W.slice(0,k),j=A.length;j<k;)A[j++]=0;I=J.slice(),I.unshift(0),P=J[0],J[1]>=Pt/2&&++P;do m=0,f=t(J,A,k,j),f<0?(O=A[0],k!=j&&(O=O*Pt+(A[1]||0)),m=O/P|0,m>1?(m>=Pt&&(m=Pt-1),p=e(J,m),x=p.length,j=A.length,f=t(p,A,x,j),f==1&&(m--,n(p,k<x?I:J,x))):(m==0&&(f=m=1),p=J.slice()),x=p.length,x<j&&p.unshift(0),n(A,p,j),f==-1&&(j=A.length,f=t(J,A,k,j),f<1&&(m++,n(A,k<j?I:J,j))),j=A.length):f===0&&(m++,A=[0]),E[h++]=m,f&&A[0]?A[j++]=W[D]||0:(A=[W[D]],j=1);while((D++<T||A[0]!==void 0)&&_--)}return E[0]||E.shift(),w.e=d,Ve(w,s?o+xt(w)+1:o)}})();function ZC(e,t){var n,r,l,o,s,f,d=0,h=0,m=e.constructor,p=m.precision;if(xt(e)>16)throw Error(i0+xt(e));if(!e.s)return new m(Dn);for(rt=!1,f=p,s=new m(.03125);e.abs().gte(.1);)e=e.times(s),h+=5;for(r=Math.log(Si(2,h))/Math.LN10*2+5|0,f+=r,n=l=o=new m(Dn),m.precision=f;;){if(l=Ve(l.times(e),f),n=n.times(++d),s=o.plus(Jr(l,n,f)),xr(s.d).slice(0,f)===xr(o.d).slice(0,f)){for(;h--;)o=Ve(o.times(o),f);return m.precision=p,t==null?(rt=!0,Ve(o,p)):o}o=s}}function xt(e){for(var t=e.e*et,n=e.d[0];n>=10;n/=10)t++;return t}function Mp(e,t,n){if(t>e.LN10.sd())throw rt=!0,n&&(e.precision=n),Error(er+"LN10 precision limit exceeded");return Ve(new e(e.LN10),t)}function Ya(e){for(var t="";e--;)t+="0";return t}function Pu(e,t){var n,r,l,o,s,f,d,h,m,p=1,x=10,w=e,E=w.d,A=w.constructor,j=A.precision;if(w.s<1)throw Error(er+(w.s?"NaN":"-Infinity"));if(w.eq(Dn))return new A(0);if(t==null?(rt=!1,h=j):h=t,w.eq(10))return t==null&&(rt=!0),Mp(A,h);if(h+=x,A.precision=h,n=xr(E),r=n.charAt(0),o=xt(w),Math.abs(o)<15e14){for(;r<7&&r!=1||r==1&&n.charAt(1)>3;)w=w.times(e),n=xr(w.d),r=n.charAt(0),p++;o=xt(w),r>1?(w=new A("0."+n),o++):w=new A(r+"."+n.slice(1))}else return d=Mp(A,h+2,j).times(o+""),w=Pu(new A(r+"."+n.slice(1)),h-x).plus(d),A.precision=j,t==null?(rt=!0,Ve(w,j)):w;for(f=s=w=Jr(w.minus(Dn),w.plus(Dn),h),m=Ve(w.times(w),h),l=3;;){if(s=Ve(s.times(m),h),d=f.plus(Jr(s,new A(l),h)),xr(d.d).slice(0,h)===xr(f.d).slice(0,h))return f=f.times(2),o!==0&&(f=f.plus(Mp(A,h+2,j).times(o+""))),f=Jr(f,new A(p),h),A.precision=j,t==null?(rt=!0,Ve(f,j)):f;f=d,l+=2}}function p2(e,t){var n,r,l;for((n=t.indexOf("."))>-1&&(t=t.replace(".","")),(r=t.search(/e/i))>0?(n<0&&(n=r),n+=+t.slice(r+1),t=t.substring(0,r)):n<0&&(n=t.length),r=0;t.charCodeAt(r)===48;)++r;for(l=t.length;t.charCodeAt(l-1)===48;)--l;if(t=t.slice(r,l),t){if(l-=r,n=n-r-1,e.e=lo(n/et),e.d=[],r=(n+1)%et,n<0&&(r+=et),r<l){for(r&&e.d.push(+t.slice(0,r)),l-=et;r<l;)e.d.push(+t.slice(r,r+=et));t=t.slice(r),r=et-t.length}else r-=l;for(;r--;)t+="0";if(e.d.push(+t),rt&&(e.e>Hf||e.e<-Hf))throw Error(i0+n)}else e.s=0,e.e=0,e.d=[0];return e}function Ve(e,t,n){var r,l,o,s,f,d,h,m,p=e.d;for(s=1,o=p[0];o>=10;o/=10)s++;if(r=t-s,r<0)r+=et,l=t,h=p[m=0];else{if(m=Math.ceil((r+1)/et),o=p.length,m>=o)return e;for(h=o=p[m],s=1;o>=10;o/=10)s++;r%=et,l=r-et+s}if(n!==void 0&&(o=Si(10,s-l-1),f=h/o%10|0,d=t<0||p[m+1]!==void 0||h%o,d=n<4?(f||d)&&(n==0||n==(e.s<0?3:2)):f>5||f==5&&(n==4||d||n==6&&(r>0?l>0?h/Si(10,s-l):0:p[m-1])%10&1||n==(e.s<0?8:7))),t<1||!p[0])return d?(o=xt(e),p.length=1,t=t-o-1,p[0]=Si(10,(et-t%et)%et),e.e=lo(-t/et)||0):(p.length=1,p[0]=e.e=e.s=0),e;if(r==0?(p.length=m,o=1,m--):(p.length=m+1,o=Si(10,et-r),p[m]=l>0?(h/Si(10,s-l)%Si(10,l)|0)*o:0),d)for(;;)if(m==0){(p[0]+=o)==Pt&&(p[0]=1,++e.e);break}else{if(p[m]+=o,p[m]!=Pt)break;p[m--]=0,o=1}for(r=p.length;p[--r]===0;)p.pop();if(rt&&(e.e>Hf||e.e<-Hf))throw Error(i0+xt(e));return e}function QC(e,t){var n,r,l,o,s,f,d,h,m,p,x=e.constructor,w=x.precision;if(!e.s||!t.s)return t.s?t.s=-t.s:t=new x(e),rt?Ve(t,w):t;if(d=e.d,p=t.d,r=t.e,h=e.e,d=d.slice(),s=h-r,s){for(m=s<0,m?(n=d,s=-s,f=p.length):(n=p,r=h,f=d.length),l=Math.max(Math.ceil(w/et),f)+2,s>l&&(s=l,n.length=1),n.reverse(),l=s;l--;)n.push(0);n.reverse()}else{for(l=d.length,f=p.length,m=l<f,m&&(f=l),l=0;l<f;l++)if(d[l]!=p[l]){m=d[l]<p[l];break}s=0}for(m&&(n=d,d=p,p=n,t.s=-t.s),f=d.length,l=p.length-f;l>0;--l)d[f++]=0;for(l=p.length;l>s;){if(d[--l]<p[l]){for(o=l;o&&d[--o]===0;)d[o]=Pt-1;--d[o],d[l]+=Pt}d[l]-=p[l]}for(;d[--f]===0;)d.pop();for(;d[0]===0;d.shift())--r;return d[0]?(t.d=d,t.e=r,rt?Ve(t,w):t):new x(0)}function zi(e,t,n){var r,l=xt(e),o=xr(e.d),s=o.length;return t?(n&&(r=n-s)>0?o=o.charAt(0)+"."+o.slice(1)+Ya(r):s>1&&(o=o.charAt(0)+"."+o.slice(1)),o=o+(l<0?"e":"e+")+l):l<0?(o="0."+Ya(-l-1)+o,n&&(r=n-s)>0&&(o+=Ya(r))):l>=s?(o+=Ya(l+1-s),n&&(r=n-l-1)>0&&(o=o+"."+Ya(r))):((r=l+1)<s&&(o=o.slice(0,r)+"."+o.slice(r)),n&&(r=n-s)>0&&(l+1===s&&(o+="."),o+=Ya(r))),e.s<0?"-"+o:o}function y2(e,t){if(e.length>t)return e.length=t,!0}function JC(e){var t,n,r;function l(o){var s=this;if(!(s instanceof l))return new l(o);if(s.constructor=l,o instanceof l){s.s=o.s,s.e=o.e,s.d=(o=o.d)?o.slice():o;return}if(typeof o=="number"){if(o*0!==0)throw Error(Di+o);if(o>0)s.s=1;else if(o<0)o=-o,s.s=-1;else{s.s=0,s.e=0,s.d=[0];return}if(o===~~o&&o<1e7){s.e=0,s.d=[o];return}return p2(s,o.toString())}else if(typeof o!="string")throw Error(Di+o);if(o.charCodeAt(0)===45?(o=o.slice(1),s.s=-1):s.s=1,g9.test(o))p2(s,o);else throw Error(Di+o)}if(l.prototype=ie,l.ROUND_UP=0,l.ROUND_DOWN=1,l.ROUND_CEIL=2,l.ROUND_FLOOR=3,l.ROUND_HALF_UP=4,l.ROUND_HALF_DOWN=5,l.ROUND_HALF_EVEN=6,l.ROUND_HALF_CEIL=7,l.ROUND_HALF_FLOOR=8,l.clone=JC,l.config=l.set=b9,e===void 0&&(e={}),e)for(r=["precision","rounding","toExpNeg","toExpPos","LN10"],t=0;t<r.length;)e.hasOwnProperty(n=r[t++])||(e[n]=this[n]);return l.config(e),l}function b9(e){if(!e||typeof e!="object")throw Error(er+"Object expected");var t,n,r,l=["precision",1,io,"rounding",0,8,"toExpNeg",-1/0,0,"toExpPos",0,1/0];for(t=0;t<l.length;t+=3)if((r=e[n=l[t]])!==void 0)if(lo(r)===r&&r>=l[t+1]&&r<=l[t+2])this[n]=r;else throw Error(Di+n+": "+r);if((r=e[n="LN10"])!==void 0)if(r==Math.LN10)this[n]=new this(r);else throw Error(Di+n+": "+r);return this}var l0=JC(y9);Dn=new l0(1);const qe=l0;var x9=e=>e,e_={},t_=e=>e===e_,g2=e=>function t(){return arguments.length===0||arguments.length===1&&t_(arguments.length<=0?void 0:arguments[0])?t:e(...arguments)},n_=(e,t)=>e===1?t:g2(function(){for(var n=arguments.length,r=new Array(n),l=0;l<n;l++)r[l]=arguments[l];var o=r.filter(s=>s!==e_).length;return o>=e?t(...r):n_(e-o,g2(function(){for(var s=arguments.length,f=new Array(s),d=0;d<s;d++)f[d]=arguments[d];var h=r.map(m=>t_(m)?f.shift():m);return t(...h,...f)}))}),w9=e=>n_(e.length,e),Ly=(e,t)=>{for(var n=[],r=e;r<t;++r)n[r-e]=r;return n},S9=w9((e,t)=>Array.isArray(t)?t.map(e):Object.keys(t).map(n=>t[n]).map(e)),j9=function(){for(var t=arguments.length,n=new Array(t),r=0;r<t;r++)n[r]=arguments[r];if(!n.length)return x9;var l=n.reverse(),o=l[0],s=l.slice(1);return function(){return s.reduce((f,d)=>d(f),o(...arguments))}},By=e=>Array.isArray(e)?e.reverse():e.split("").reverse().join("");function r_(e){var t;return e===0?t=1:t=Math.floor(new qe(e).abs().log(10).toNumber())+1,t}function a_(e,t,n){for(var r=new qe(e),l=0,o=[];r.lt(t)&&l<1e5;)o.push(r.toNumber()),r=r.add(n),l++;return o}var i_=e=>{var[t,n]=e,[r,l]=[t,n];return t>n&&([r,l]=[n,t]),[r,l]},l_=(e,t,n)=>{if(e.lte(0))return new qe(0);var r=r_(e.toNumber()),l=new qe(10).pow(r),o=e.div(l),s=r!==1?.05:.1,f=new qe(Math.ceil(o.div(s).toNumber())).add(n).mul(s),d=f.mul(l);return t?new qe(d.toNumber()):new qe(Math.ceil(d.toNumber()))},E9=(e,t,n)=>{var r=new qe(1),l=new qe(e);if(!l.isint()&&n){var o=Math.abs(e);o<1?(r=new qe(10).pow(r_(e)-1),l=new qe(Math.floor(l.div(r).toNumber())).mul(r)):o>1&&(l=new qe(Math.floor(e)))}else e===0?l=new qe(Math.floor((t-1)/2)):n||(l=new qe(Math.floor(e)));var s=Math.floor((t-1)/2),f=j9(S9(d=>l.add(new qe(d-s).mul(r)).toNumber()),Ly);return f(0,t)},o_=function(t,n,r,l){var o=arguments.length>4&&arguments[4]!==void 0?arguments[4]:0;if(!Number.isFinite((n-t)/(r-1)))return{step:new qe(0),tickMin:new qe(0),tickMax:new qe(0)};var s=l_(new qe(n).sub(t).div(r-1),l,o),f;t<=0&&n>=0?f=new qe(0):(f=new qe(t).add(n).div(2),f=f.sub(new qe(f).mod(s)));var d=Math.ceil(f.sub(t).div(s).toNumber()),h=Math.ceil(new qe(n).sub(f).div(s).toNumber()),m=d+h+1;return m>r?o_(t,n,r,l,o+1):(m<r&&(h=n>0?h+(r-m):h,d=n>0?d:d+(r-m)),{step:s,tickMin:f.sub(new qe(d).mul(s)),tickMax:f.add(new qe(h).mul(s))})},A9=function(t){var[n,r]=t,l=arguments.length>1&&arguments[1]!==void 0?arguments[1]:6,o=arguments.length>2&&arguments[2]!==void 0?arguments[2]:!0,s=Math.max(l,2),[f,d]=i_([n,r]);if(f===-1/0||d===1/0){var h=d===1/0?[f,...Ly(0,l-1).map(()=>1/0)]:[...Ly(0,l-1).map(()=>-1/0),d];return n>r?By(h):h}if(f===d)return E9(f,l,o);var{step:m,tickMin:p,tickMax:x}=o_(f,d,s,o,0),w=a_(p,x.add(new qe(.1).mul(m)),m);return n>r?By(w):w},O9=function(t,n){var[r,l]=t,o=arguments.length>2&&arguments[2]!==void 0?arguments[2]:!0,[s,f]=i_([r,l]);if(s===-1/0||f===1/0)return[r,l];if(s===f)return[s];var d=Math.max(n,2),h=l_(new qe(f).sub(s).div(d-1),o,0),m=[...a_(new qe(s),new qe(f),h),f];return o===!1&&(m=m.map(p=>Math.round(p))),r>l?By(m):m},N9=e=>e.rootProps.barCategoryGap,Dd=e=>e.rootProps.stackOffset,u_=e=>e.rootProps.reverseStackOrder,o0=e=>e.options.chartName,u0=e=>e.rootProps.syncId,s_=e=>e.rootProps.syncMethod,s0=e=>e.options.eventEmitter,C9=e=>e.rootProps.baseValue,ln={grid:-100,barBackground:-50,area:100,cursorRectangle:200,bar:300,line:400,axis:500,scatter:600,activeBar:1e3,cursorLine:1100,activeDot:1200,label:2e3},Xr={allowDuplicatedCategory:!0,angleAxisId:0,reversed:!1,scale:"auto",tick:!0,type:"category"},Mn={allowDataOverflow:!1,allowDuplicatedCategory:!0,radiusAxisId:0,scale:"auto",tick:!0,tickCount:5,type:"number"},kd=(e,t)=>{if(!(!e||!t))return e!=null&&e.reversed?[t[1],t[0]]:t},_9={allowDataOverflow:!1,allowDecimals:!1,allowDuplicatedCategory:!1,dataKey:void 0,domain:void 0,id:Xr.angleAxisId,includeHidden:!1,name:void 0,reversed:Xr.reversed,scale:Xr.scale,tick:Xr.tick,tickCount:void 0,ticks:void 0,type:Xr.type,unit:void 0},T9={allowDataOverflow:Mn.allowDataOverflow,allowDecimals:!1,allowDuplicatedCategory:Mn.allowDuplicatedCategory,dataKey:void 0,domain:void 0,id:Mn.radiusAxisId,includeHidden:!1,name:void 0,reversed:!1,scale:Mn.scale,tick:Mn.tick,tickCount:Mn.tickCount,ticks:void 0,type:Mn.type,unit:void 0},M9={allowDataOverflow:!1,allowDecimals:!1,allowDuplicatedCategory:Xr.allowDuplicatedCategory,dataKey:void 0,domain:void 0,id:Xr.angleAxisId,includeHidden:!1,name:void 0,reversed:!1,scale:Xr.scale,tick:Xr.tick,tickCount:void 0,ticks:void 0,type:"number",unit:void 0},D9={allowDataOverflow:Mn.allowDataOverflow,allowDecimals:!1,allowDuplicatedCategory:Mn.allowDuplicatedCategory,dataKey:void 0,domain:void 0,id:Mn.radiusAxisId,includeHidden:!1,name:void 0,reversed:!1,scale:Mn.scale,tick:Mn.tick,tickCount:Mn.tickCount,ticks:void 0,type:"category",unit:void 0},c0=(e,t)=>e.polarAxis.angleAxis[t]!=null?e.polarAxis.angleAxis[t]:e.layout.layoutType==="radial"?M9:_9,f0=(e,t)=>e.polarAxis.radiusAxis[t]!=null?e.polarAxis.radiusAxis[t]:e.layout.layoutType==="radial"?D9:T9,Rd=e=>e.polarOptions,d0=K([fa,da,Qt],AB),c_=K([Rd,d0],(e,t)=>{if(e!=null)return Wa(e.innerRadius,t,0)}),f_=K([Rd,d0],(e,t)=>{if(e!=null)return Wa(e.outerRadius,t,t*.8)}),k9=e=>{if(e==null)return[0,0];var{startAngle:t,endAngle:n}=e;return[t,n]},d_=K([Rd],k9);K([c0,d_],kd);var h_=K([d0,c_,f_],(e,t,n)=>{if(!(e==null||t==null||n==null))return[t,n]});K([f0,h_],kd);var m_=K([Ze,Rd,c_,f_,fa,da],(e,t,n,r,l,o)=>{if(!(e!=="centric"&&e!=="radial"||t==null||n==null||r==null)){var{cx:s,cy:f,startAngle:d,endAngle:h}=t;return{cx:Wa(s,l,l/2),cy:Wa(f,o,o/2),innerRadius:n,outerRadius:r,startAngle:d,endAngle:h,clockWise:!1}}}),Ct=(e,t)=>t,Pd=(e,t,n)=>n;function h0(e){return e?.id}function v_(e,t,n){var{chartData:r=[]}=t,{allowDuplicatedCategory:l,dataKey:o}=n,s=new Map;return e.forEach(f=>{var d,h=(d=f.data)!==null&&d!==void 0?d:r;if(!(h==null||h.length===0)){var m=h0(f);h.forEach((p,x)=>{var w=o==null||l?x:String(nn(p,o,null)),E=nn(p,f.dataKey,0),A;s.has(w)?A=s.get(w):A={},Object.assign(A,{[m]:E}),s.set(w,A)})}}),Array.from(s.values())}function m0(e){return e.stackId!=null&&e.dataKey!=null}var zd=(e,t)=>e===t?!0:e==null||t==null?!1:e[0]===t[0]&&e[1]===t[1];function Ld(e,t){return Array.isArray(e)&&Array.isArray(t)&&e.length===0&&t.length===0?!0:e===t}function R9(e,t){if(e.length===t.length){for(var n=0;n<e.length;n++)if(e[n]!==t[n])return!1;return!0}return!1}var _t=e=>{var t=Ze(e);return t==="horizontal"?"xAxis":t==="vertical"?"yAxis":t==="centric"?"angleAxis":"radiusAxis"},oo=e=>e.tooltip.settings.axisId;function b2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function $f(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?b2(Object(n),!0).forEach(function(r){P9(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):b2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function P9(e,t,n){return(t=z9(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function z9(e){var t=L9(e,"string");return typeof t=="symbol"?t:t+""}function L9(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Uy=[0,"auto"],kt={allowDataOverflow:!1,allowDecimals:!0,allowDuplicatedCategory:!0,angle:0,dataKey:void 0,domain:void 0,height:30,hide:!0,id:0,includeHidden:!1,interval:"preserveEnd",minTickGap:5,mirror:!1,name:void 0,orientation:"bottom",padding:{left:0,right:0},reversed:!1,scale:"auto",tick:!0,tickCount:5,tickFormatter:void 0,ticks:void 0,type:"category",unit:void 0},p_=(e,t)=>e.cartesianAxis.xAxis[t],ma=(e,t)=>{var n=p_(e,t);return n??kt},Rt={allowDataOverflow:!1,allowDecimals:!0,allowDuplicatedCategory:!0,angle:0,dataKey:void 0,domain:Uy,hide:!0,id:0,includeHidden:!1,interval:"preserveEnd",minTickGap:5,mirror:!1,name:void 0,orientation:"left",padding:{top:0,bottom:0},reversed:!1,scale:"auto",tick:!0,tickCount:5,tickFormatter:void 0,ticks:void 0,type:"number",unit:void 0,width:Vu},y_=(e,t)=>e.cartesianAxis.yAxis[t],va=(e,t)=>{var n=y_(e,t);return n??Rt},B9={domain:[0,"auto"],includeHidden:!1,reversed:!1,allowDataOverflow:!1,allowDuplicatedCategory:!1,dataKey:void 0,id:0,name:"",range:[64,64],scale:"auto",type:"number",unit:""},v0=(e,t)=>{var n=e.cartesianAxis.zAxis[t];return n??B9},un=(e,t,n)=>{switch(t){case"xAxis":return ma(e,n);case"yAxis":return va(e,n);case"zAxis":return v0(e,n);case"angleAxis":return c0(e,n);case"radiusAxis":return f0(e,n);default:throw new Error("Unexpected axis type: ".concat(t))}},U9=(e,t,n)=>{switch(t){case"xAxis":return ma(e,n);case"yAxis":return va(e,n);default:throw new Error("Unexpected axis type: ".concat(t))}},es=(e,t,n)=>{switch(t){case"xAxis":return ma(e,n);case"yAxis":return va(e,n);case"angleAxis":return c0(e,n);case"radiusAxis":return f0(e,n);default:throw new Error("Unexpected axis type: ".concat(t))}},g_=e=>e.graphicalItems.cartesianItems.some(t=>t.type==="bar")||e.graphicalItems.polarItems.some(t=>t.type==="radialBar");function b_(e,t){return n=>{switch(e){case"xAxis":return"xAxisId"in n&&n.xAxisId===t;case"yAxis":return"yAxisId"in n&&n.yAxisId===t;case"zAxis":return"zAxisId"in n&&n.zAxisId===t;case"angleAxis":return"angleAxisId"in n&&n.angleAxisId===t;case"radiusAxis":return"radiusAxisId"in n&&n.radiusAxisId===t;default:return!1}}}var x_=e=>e.graphicalItems.cartesianItems,I9=K([Ct,Pd],b_),w_=(e,t,n)=>e.filter(n).filter(r=>t?.includeHidden===!0?!0:!r.hide),ts=K([x_,un,I9],w_,{memoizeOptions:{resultEqualityCheck:Ld}}),S_=K([ts],e=>e.filter(t=>t.type==="area"||t.type==="bar").filter(m0)),j_=e=>e.filter(t=>!("stackId"in t)||t.stackId===void 0),q9=K([ts],j_),E_=e=>e.map(t=>t.data).filter(Boolean).flat(1),H9=K([ts],E_,{memoizeOptions:{resultEqualityCheck:Ld}}),A_=(e,t)=>{var{chartData:n=[],dataStartIndex:r,dataEndIndex:l}=t;return e.length>0?e:n.slice(r,l+1)},p0=K([H9,a0],A_),O_=(e,t,n)=>t?.dataKey!=null?e.map(r=>({value:nn(r,t.dataKey)})):n.length>0?n.map(r=>r.dataKey).flatMap(r=>e.map(l=>({value:nn(l,r)}))):e.map(r=>({value:r})),Bd=K([p0,un,ts],O_);function N_(e,t){switch(e){case"xAxis":return t.direction==="x";case"yAxis":return t.direction==="y";default:return!1}}function rf(e){if(jr(e)||e instanceof Date){var t=Number(e);if(ct(t))return t}}function x2(e){if(Array.isArray(e)){var t=[rf(e[0]),rf(e[1])];return Za(t)?t:void 0}var n=rf(e);if(n!=null)return[n,n]}function oa(e){return e.map(rf).filter(l5)}function $9(e,t,n){return!n||typeof t!="number"||fr(t)?[]:n.length?oa(n.flatMap(r=>{var l=nn(e,r.dataKey),o,s;if(Array.isArray(l)?[o,s]=l:o=s=l,!(!ct(o)||!ct(s)))return[t-o,t+s]})):[]}var Tt=e=>{var t=_t(e),n=oo(e);return es(e,t,n)},ns=K([Tt],e=>e?.dataKey),K9=K([S_,a0,Tt],v_),C_=(e,t,n,r)=>{var l={},o=t.reduce((s,f)=>(f.stackId==null||(s[f.stackId]==null&&(s[f.stackId]=[]),s[f.stackId].push(f)),s),l);return Object.fromEntries(Object.entries(o).map(s=>{var[f,d]=s,h=r?[...d].reverse():d,m=h.map(h0);return[f,{stackedData:v6(e,m,n),graphicalItems:h}]}))},Iy=K([K9,S_,Dd,u_],C_),__=(e,t,n,r)=>{var{dataStartIndex:l,dataEndIndex:o}=t;if(r==null&&n!=="zAxis"){var s=b6(e,l,o);if(!(s!=null&&s[0]===0&&s[1]===0))return s}},Y9=K([un],e=>e.allowDataOverflow),y0=e=>{var t;if(e==null||!("domain"in e))return Uy;if(e.domain!=null)return e.domain;if(e.ticks!=null){if(e.type==="number"){var n=oa(e.ticks);return[Math.min(...n),Math.max(...n)]}if(e.type==="category")return e.ticks.map(String)}return(t=e?.domain)!==null&&t!==void 0?t:Uy},T_=K([un],y0),M_=K([T_,Y9],XC),G9=K([Iy,ei,Ct,M_],__,{memoizeOptions:{resultEqualityCheck:zd}}),g0=e=>e.errorBars,V9=(e,t,n)=>e.flatMap(r=>t[r.id]).filter(Boolean).filter(r=>N_(n,r)),Kf=function(){for(var t=arguments.length,n=new Array(t),r=0;r<t;r++)n[r]=arguments[r];var l=n.filter(Boolean);if(l.length!==0){var o=l.flat(),s=Math.min(...o),f=Math.max(...o);return[s,f]}},D_=(e,t,n,r,l)=>{var o,s;if(n.length>0&&e.forEach(f=>{n.forEach(d=>{var h,m,p=(h=r[d.id])===null||h===void 0?void 0:h.filter(O=>N_(l,O)),x=nn(f,(m=t.dataKey)!==null&&m!==void 0?m:d.dataKey),w=$9(f,x,p);if(w.length>=2){var E=Math.min(...w),A=Math.max(...w);(o==null||E<o)&&(o=E),(s==null||A>s)&&(s=A)}var j=x2(x);j!=null&&(o=o==null?j[0]:Math.min(o,j[0]),s=s==null?j[1]:Math.max(s,j[1]))})}),t?.dataKey!=null&&e.forEach(f=>{var d=x2(nn(f,t.dataKey));d!=null&&(o=o==null?d[0]:Math.min(o,d[0]),s=s==null?d[1]:Math.max(s,d[1]))}),ct(o)&&ct(s))return[o,s]},X9=K([p0,un,q9,g0,Ct],D_,{memoizeOptions:{resultEqualityCheck:zd}});function F9(e){var{value:t}=e;if(jr(t)||t instanceof Date)return t}var W9=(e,t,n)=>{var r=e.map(F9).filter(l=>l!=null);return n&&(t.dataKey==null||t.allowDuplicatedCategory&&VO(r))?hC(0,e.length):t.allowDuplicatedCategory?r:Array.from(new Set(r))},k_=e=>e.referenceElements.dots,uo=(e,t,n)=>e.filter(r=>r.ifOverflow==="extendDomain").filter(r=>t==="xAxis"?r.xAxisId===n:r.yAxisId===n),Z9=K([k_,Ct,Pd],uo),R_=e=>e.referenceElements.areas,Q9=K([R_,Ct,Pd],uo),P_=e=>e.referenceElements.lines,J9=K([P_,Ct,Pd],uo),z_=(e,t)=>{var n=oa(e.map(r=>t==="xAxis"?r.x:r.y));if(n.length!==0)return[Math.min(...n),Math.max(...n)]},e7=K(Z9,Ct,z_),L_=(e,t)=>{var n=oa(e.flatMap(r=>[t==="xAxis"?r.x1:r.y1,t==="xAxis"?r.x2:r.y2]));if(n.length!==0)return[Math.min(...n),Math.max(...n)]},t7=K([Q9,Ct],L_);function n7(e){var t;if(e.x!=null)return oa([e.x]);var n=(t=e.segment)===null||t===void 0?void 0:t.map(r=>r.x);return n==null||n.length===0?[]:oa(n)}function r7(e){var t;if(e.y!=null)return oa([e.y]);var n=(t=e.segment)===null||t===void 0?void 0:t.map(r=>r.y);return n==null||n.length===0?[]:oa(n)}var B_=(e,t)=>{var n=e.flatMap(r=>t==="xAxis"?n7(r):r7(r));if(n.length!==0)return[Math.min(...n),Math.max(...n)]},a7=K([J9,Ct],B_),i7=K(e7,a7,t7,(e,t,n)=>Kf(e,n,t)),U_=(e,t,n,r,l,o,s,f)=>{if(n!=null)return n;var d=s==="vertical"&&f==="xAxis"||s==="horizontal"&&f==="yAxis",h=d?Kf(r,o,l):Kf(o,l);return p9(t,h,e.allowDataOverflow)},l7=K([un,T_,M_,G9,X9,i7,Ze,Ct],U_,{memoizeOptions:{resultEqualityCheck:zd}}),o7=[0,1],I_=(e,t,n,r,l,o,s)=>{if(!((e==null||n==null||n.length===0)&&s===void 0)){var{dataKey:f,type:d}=e,h=ca(t,o);if(h&&f==null){var m;return hC(0,(m=n?.length)!==null&&m!==void 0?m:0)}return d==="category"?W9(r,e,h):l==="expand"?o7:s}},b0=K([un,Ze,p0,Bd,Dd,Ct,l7],I_),q_=(e,t,n,r,l)=>{if(e!=null){var{scale:o,type:s}=e;if(o==="auto")return t==="radial"&&l==="radiusAxis"?"band":t==="radial"&&l==="angleAxis"?"linear":s==="category"&&r&&(r.indexOf("LineChart")>=0||r.indexOf("AreaChart")>=0||r.indexOf("ComposedChart")>=0&&!n)?"point":s==="category"?"band":"linear";if(typeof o=="string"){var f="scale".concat(xg(o));return f in bu?f:"point"}}},rs=K([un,Ze,g_,o0,Ct],q_);function u7(e){if(e!=null){if(e in bu)return bu[e]();var t="scale".concat(xg(e));if(t in bu)return bu[t]()}}function x0(e,t,n,r){if(!(n==null||r==null)){if(typeof e.scale=="function")return e.scale.copy().domain(n).range(r);var l=u7(t);if(l!=null){var o=l.domain(n).range(r);return f6(o),o}}}var H_=(e,t,n)=>{var r=y0(t);if(!(n!=="auto"&&n!=="linear")){if(t!=null&&t.tickCount&&Array.isArray(r)&&(r[0]==="auto"||r[1]==="auto")&&Za(e))return A9(e,t.tickCount,t.allowDecimals);if(t!=null&&t.tickCount&&t.type==="number"&&Za(e))return O9(e,t.tickCount,t.allowDecimals)}},w0=K([b0,es,rs],H_),$_=(e,t,n,r)=>{if(r!=="angleAxis"&&e?.type==="number"&&Za(t)&&Array.isArray(n)&&n.length>0){var l=t[0],o=n[0],s=t[1],f=n[n.length-1];return[Math.min(l,o),Math.max(s,f)]}return t},s7=K([un,b0,w0,Ct],$_),c7=K(Bd,un,(e,t)=>{if(!(!t||t.type!=="number")){var n=1/0,r=Array.from(oa(e.map(f=>f.value))).sort((f,d)=>f-d);if(r.length<2)return 1/0;var l=r[r.length-1]-r[0];if(l===0)return 1/0;for(var o=0;o<r.length-1;o++){var s=r[o+1]-r[o];n=Math.min(n,s)}return n/l}}),K_=K(c7,Ze,N9,Qt,(e,t,n,r)=>r,(e,t,n,r,l)=>{if(!ct(e))return 0;var o=t==="vertical"?r.height:r.width;if(l==="gap")return e*o/2;if(l==="no-gap"){var s=Wa(n,e*o),f=e*o/2;return f-s-(f-s)/o*s}return 0}),f7=(e,t)=>{var n=ma(e,t);return n==null||typeof n.padding!="string"?0:K_(e,"xAxis",t,n.padding)},d7=(e,t)=>{var n=va(e,t);return n==null||typeof n.padding!="string"?0:K_(e,"yAxis",t,n.padding)},h7=K(ma,f7,(e,t)=>{var n,r;if(e==null)return{left:0,right:0};var{padding:l}=e;return typeof l=="string"?{left:t,right:t}:{left:((n=l.left)!==null&&n!==void 0?n:0)+t,right:((r=l.right)!==null&&r!==void 0?r:0)+t}}),m7=K(va,d7,(e,t)=>{var n,r;if(e==null)return{top:0,bottom:0};var{padding:l}=e;return typeof l=="string"?{top:t,bottom:t}:{top:((n=l.top)!==null&&n!==void 0?n:0)+t,bottom:((r=l.bottom)!==null&&r!==void 0?r:0)+t}}),v7=K([Qt,h7,xd,bd,(e,t,n)=>n],(e,t,n,r,l)=>{var{padding:o}=r;return l?[o.left,n.width-o.right]:[e.left+t.left,e.left+e.width-t.right]}),p7=K([Qt,Ze,m7,xd,bd,(e,t,n)=>n],(e,t,n,r,l,o)=>{var{padding:s}=l;return o?[r.height-s.bottom,s.top]:t==="horizontal"?[e.top+e.height-n.bottom,e.top+n.top]:[e.top+n.top,e.top+e.height-n.bottom]}),as=(e,t,n,r)=>{var l;switch(t){case"xAxis":return v7(e,n,r);case"yAxis":return p7(e,n,r);case"zAxis":return(l=v0(e,n))===null||l===void 0?void 0:l.range;case"angleAxis":return d_(e);case"radiusAxis":return h_(e,n);default:return}},Y_=K([un,as],kd),so=K([un,rs,s7,Y_],x0);K([ts,g0,Ct],V9);function G_(e,t){return e.id<t.id?-1:e.id>t.id?1:0}var Ud=(e,t)=>t,Id=(e,t,n)=>n,y7=K(yd,Ud,Id,(e,t,n)=>e.filter(r=>r.orientation===t).filter(r=>r.mirror===n).sort(G_)),g7=K(gd,Ud,Id,(e,t,n)=>e.filter(r=>r.orientation===t).filter(r=>r.mirror===n).sort(G_)),V_=(e,t)=>({width:e.width,height:t.height}),b7=(e,t)=>{var n=typeof t.width=="number"?t.width:Vu;return{width:n,height:e.height}},x7=K(Qt,ma,V_),w7=(e,t,n)=>{switch(t){case"top":return e.top;case"bottom":return n-e.bottom;default:return 0}},S7=(e,t,n)=>{switch(t){case"left":return e.left;case"right":return n-e.right;default:return 0}},j7=K(da,Qt,y7,Ud,Id,(e,t,n,r,l)=>{var o={},s;return n.forEach(f=>{var d=V_(t,f);s==null&&(s=w7(t,r,e));var h=r==="top"&&!l||r==="bottom"&&l;o[f.id]=s-Number(h)*d.height,s+=(h?-1:1)*d.height}),o}),E7=K(fa,Qt,g7,Ud,Id,(e,t,n,r,l)=>{var o={},s;return n.forEach(f=>{var d=b7(t,f);s==null&&(s=S7(t,r,e));var h=r==="left"&&!l||r==="right"&&l;o[f.id]=s-Number(h)*d.width,s+=(h?-1:1)*d.width}),o}),A7=(e,t)=>{var n=ma(e,t);if(n!=null)return j7(e,n.orientation,n.mirror)},O7=K([Qt,ma,A7,(e,t)=>t],(e,t,n,r)=>{if(t!=null){var l=n?.[r];return l==null?{x:e.left,y:0}:{x:e.left,y:l}}}),N7=(e,t)=>{var n=va(e,t);if(n!=null)return E7(e,n.orientation,n.mirror)},C7=K([Qt,va,N7,(e,t)=>t],(e,t,n,r)=>{if(t!=null){var l=n?.[r];return l==null?{x:0,y:e.top}:{x:l,y:e.top}}}),_7=K(Qt,va,(e,t)=>{var n=typeof t.width=="number"?t.width:Vu;return{width:n,height:e.height}}),X_=(e,t,n,r)=>{if(n!=null){var{allowDuplicatedCategory:l,type:o,dataKey:s}=n,f=ca(e,r),d=t.map(h=>h.value);if(s&&f&&o==="category"&&l&&VO(d))return d}},S0=K([Ze,Bd,un,Ct],X_),F_=(e,t,n,r)=>{if(!(n==null||n.dataKey==null)){var{type:l,scale:o}=n,s=ca(e,r);if(s&&(l==="number"||o!=="auto"))return t.map(f=>f.value)}},j0=K([Ze,Bd,es,Ct],F_),w2=K([Ze,U9,rs,so,S0,j0,as,w0,Ct],(e,t,n,r,l,o,s,f,d)=>{if(t!=null){var h=ca(e,d);return{angle:t.angle,interval:t.interval,minTickGap:t.minTickGap,orientation:t.orientation,tick:t.tick,tickCount:t.tickCount,tickFormatter:t.tickFormatter,ticks:t.ticks,type:t.type,unit:t.unit,axisType:d,categoricalDomain:o,duplicateDomain:l,isCategorical:h,niceTicks:f,range:s,realScaleType:n,scale:r}}}),T7=(e,t,n,r,l,o,s,f,d)=>{if(!(t==null||r==null)){var h=ca(e,d),{type:m,ticks:p,tickCount:x}=t,w=n==="scaleBand"&&typeof r.bandwidth=="function"?r.bandwidth()/2:2,E=m==="category"&&r.bandwidth?r.bandwidth()/w:0;E=d==="angleAxis"&&o!=null&&o.length>=2?Fn(o[0]-o[1])*2*E:E;var A=p||l;if(A){var j=A.map((O,_)=>{var C=s?s.indexOf(O):O;return{index:_,coordinate:r(C)+E,value:O,offset:E}});return j.filter(O=>ct(O.coordinate))}return h&&f?f.map((O,_)=>({coordinate:r(O)+E,value:O,index:_,offset:E})).filter(O=>ct(O.coordinate)):r.ticks?r.ticks(x).map(O=>({coordinate:r(O)+E,value:O,offset:E})):r.domain().map((O,_)=>({coordinate:r(O)+E,value:s?s[O]:O,index:_,offset:E}))}},W_=K([Ze,es,rs,so,w0,as,S0,j0,Ct],T7),M7=(e,t,n,r,l,o,s)=>{if(!(t==null||n==null||r==null||r[0]===r[1])){var f=ca(e,s),{tickCount:d}=t,h=0;return h=s==="angleAxis"&&r?.length>=2?Fn(r[0]-r[1])*2*h:h,f&&o?o.map((m,p)=>({coordinate:n(m)+h,value:m,index:p,offset:h})):n.ticks?n.ticks(d).map(m=>({coordinate:n(m)+h,value:m,offset:h})):n.domain().map((m,p)=>({coordinate:n(m)+h,value:l?l[m]:m,index:p,offset:h}))}},Z_=K([Ze,es,so,as,S0,j0,Ct],M7),Q_=K(un,so,(e,t)=>{if(!(e==null||t==null))return $f($f({},e),{},{scale:t})}),D7=K([un,rs,b0,Y_],x0);K((e,t,n)=>v0(e,n),D7,(e,t)=>{if(!(e==null||t==null))return $f($f({},e),{},{scale:t})});var k7=K([Ze,yd,gd],(e,t,n)=>{switch(e){case"horizontal":return t.some(r=>r.reversed)?"right-to-left":"left-to-right";case"vertical":return n.some(r=>r.reversed)?"bottom-to-top":"top-to-bottom";case"centric":case"radial":return"left-to-right";default:return}}),J_=e=>e.options.defaultTooltipEventType,eT=e=>e.options.validateTooltipEventTypes;function tT(e,t,n){if(e==null)return t;var r=e?"axis":"item";return n==null?t:n.includes(r)?r:t}function E0(e,t){var n=J_(e),r=eT(e);return tT(t,n,r)}function R7(e){return ve(t=>E0(t,e))}var nT=(e,t)=>{var n,r=Number(t);if(!(fr(r)||t==null))return r>=0?e==null||(n=e[r])===null||n===void 0?void 0:n.value:void 0},P7=e=>e.tooltip.settings,Va={active:!1,index:null,dataKey:void 0,graphicalItemId:void 0,coordinate:void 0},z7={itemInteraction:{click:Va,hover:Va},axisInteraction:{click:Va,hover:Va},keyboardInteraction:Va,syncInteraction:{active:!1,index:null,dataKey:void 0,label:void 0,coordinate:void 0,sourceViewBox:void 0,graphicalItemId:void 0},tooltipItemPayloads:[],settings:{shared:void 0,trigger:"hover",axisId:0,active:!1,defaultIndex:void 0}},rT=gn({name:"tooltip",initialState:z7,reducers:{addTooltipEntrySettings:{reducer(e,t){e.tooltipItemPayloads.push(t.payload)},prepare:nt()},replaceTooltipEntrySettings:{reducer(e,t){var{prev:n,next:r}=t.payload,l=sr(e).tooltipItemPayloads.indexOf(n);l>-1&&(e.tooltipItemPayloads[l]=r)},prepare:nt()},removeTooltipEntrySettings:{reducer(e,t){var n=sr(e).tooltipItemPayloads.indexOf(t.payload);n>-1&&e.tooltipItemPayloads.splice(n,1)},prepare:nt()},setTooltipSettingsState(e,t){e.settings=t.payload},setActiveMouseOverItemIndex(e,t){e.syncInteraction.active=!1,e.keyboardInteraction.active=!1,e.itemInteraction.hover.active=!0,e.itemInteraction.hover.index=t.payload.activeIndex,e.itemInteraction.hover.dataKey=t.payload.activeDataKey,e.itemInteraction.hover.graphicalItemId=t.payload.activeGraphicalItemId,e.itemInteraction.hover.coordinate=t.payload.activeCoordinate},mouseLeaveChart(e){e.itemInteraction.hover.active=!1,e.axisInteraction.hover.active=!1},mouseLeaveItem(e){e.itemInteraction.hover.active=!1},setActiveClickItemIndex(e,t){e.syncInteraction.active=!1,e.itemInteraction.click.active=!0,e.keyboardInteraction.active=!1,e.itemInteraction.click.index=t.payload.activeIndex,e.itemInteraction.click.dataKey=t.payload.activeDataKey,e.itemInteraction.click.graphicalItemId=t.payload.activeGraphicalItemId,e.itemInteraction.click.coordinate=t.payload.activeCoordinate},setMouseOverAxisIndex(e,t){e.syncInteraction.active=!1,e.axisInteraction.hover.active=!0,e.keyboardInteraction.active=!1,e.axisInteraction.hover.index=t.payload.activeIndex,e.axisInteraction.hover.dataKey=t.payload.activeDataKey,e.axisInteraction.hover.coordinate=t.payload.activeCoordinate},setMouseClickAxisIndex(e,t){e.syncInteraction.active=!1,e.keyboardInteraction.active=!1,e.axisInteraction.click.active=!0,e.axisInteraction.click.index=t.payload.activeIndex,e.axisInteraction.click.dataKey=t.payload.activeDataKey,e.axisInteraction.click.coordinate=t.payload.activeCoordinate},setSyncInteraction(e,t){e.syncInteraction=t.payload},setKeyboardInteraction(e,t){e.keyboardInteraction.active=t.payload.active,e.keyboardInteraction.index=t.payload.activeIndex,e.keyboardInteraction.coordinate=t.payload.activeCoordinate,e.keyboardInteraction.dataKey=t.payload.activeDataKey}}}),{addTooltipEntrySettings:L7,replaceTooltipEntrySettings:B7,removeTooltipEntrySettings:U7,setTooltipSettingsState:I7,setActiveMouseOverItemIndex:q7,mouseLeaveItem:ZF,mouseLeaveChart:aT,setActiveClickItemIndex:QF,setMouseOverAxisIndex:iT,setMouseClickAxisIndex:H7,setSyncInteraction:qy,setKeyboardInteraction:Hy}=rT.actions,$7=rT.reducer;function S2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function $c(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?S2(Object(n),!0).forEach(function(r){K7(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):S2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function K7(e,t,n){return(t=Y7(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Y7(e){var t=G7(e,"string");return typeof t=="symbol"?t:t+""}function G7(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function V7(e,t,n){return t==="axis"?n==="click"?e.axisInteraction.click:e.axisInteraction.hover:n==="click"?e.itemInteraction.click:e.itemInteraction.hover}function X7(e){return e.index!=null}var lT=(e,t,n,r)=>{if(t==null)return Va;var l=V7(e,t,n);if(l==null)return Va;if(l.active)return l;if(e.keyboardInteraction.active)return e.keyboardInteraction;if(e.syncInteraction.active&&e.syncInteraction.index!=null)return e.syncInteraction;var o=e.settings.active===!0;if(X7(l)){if(o)return $c($c({},l),{},{active:!0})}else if(r!=null)return{active:!0,coordinate:void 0,dataKey:void 0,index:r,graphicalItemId:void 0};return $c($c({},Va),{},{coordinate:l.coordinate})};function F7(e){if(typeof e=="number")return Number.isFinite(e)?e:void 0;if(e instanceof Date){var t=e.valueOf();return Number.isFinite(t)?t:void 0}var n=Number(e);return Number.isFinite(n)?n:void 0}function W7(e,t){var n=F7(e),r=t[0],l=t[1];if(n===void 0)return!1;var o=Math.min(r,l),s=Math.max(r,l);return n>=o&&n<=s}function Z7(e,t,n){if(n==null||t==null)return!0;var r=nn(e,t);return r==null||!Za(n)?!0:W7(r,n)}var A0=(e,t,n,r)=>{var l=e?.index;if(l==null)return null;var o=Number(l);if(!ct(o))return l;var s=0,f=1/0;t.length>0&&(f=t.length-1);var d=Math.max(s,Math.min(o,f)),h=t[d];return h==null||Z7(h,n,r)?String(d):null},oT=(e,t,n,r,l,o,s,f)=>{if(!(o==null||f==null)){var d=s[0],h=d==null?void 0:f(d.positions,o);if(h!=null)return h;var m=l?.[Number(o)];if(m)switch(n){case"horizontal":return{x:m.coordinate,y:(r.top+t)/2};default:return{x:(r.left+e)/2,y:m.coordinate}}}},uT=(e,t,n,r)=>{if(t==="axis")return e.tooltipItemPayloads;if(e.tooltipItemPayloads.length===0)return[];var l;return n==="hover"?l=e.itemInteraction.hover.dataKey:l=e.itemInteraction.click.dataKey,l==null&&r!=null?[e.tooltipItemPayloads[0]]:e.tooltipItemPayloads.filter(o=>{var s;return((s=o.settings)===null||s===void 0?void 0:s.dataKey)===l})},is=e=>e.options.tooltipPayloadSearcher,co=e=>e.tooltip;function j2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function E2(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?j2(Object(n),!0).forEach(function(r){Q7(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):j2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Q7(e,t,n){return(t=J7(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function J7(e){var t=eq(e,"string");return typeof t=="symbol"?t:t+""}function eq(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function tq(e,t){return e??t}var sT=(e,t,n,r,l,o,s)=>{if(!(t==null||o==null)){var{chartData:f,computedData:d,dataStartIndex:h,dataEndIndex:m}=n,p=[];return e.reduce((x,w)=>{var E,{dataDefinedOnItem:A,settings:j}=w,O=tq(A,f),_=Array.isArray(O)?BN(O,h,m):O,C=(E=j?.dataKey)!==null&&E!==void 0?E:r,D=j?.nameKey,T;if(r&&Array.isArray(_)&&!Array.isArray(_[0])&&s==="axis"?T=XO(_,r,l):T=o(_,t,d,D),Array.isArray(T))T.forEach(k=>{var I=E2(E2({},j),{},{name:k.name,unit:k.unit,color:void 0,fill:void 0});x.push(Vj({tooltipEntrySettings:I,dataKey:k.dataKey,payload:k.payload,value:nn(k.payload,k.dataKey),name:k.name}))});else{var P;x.push(Vj({tooltipEntrySettings:j,dataKey:C,payload:T,value:nn(T,C),name:(P=nn(T,D))!==null&&P!==void 0?P:j?.name}))}return x},p)}},O0=K([Tt,Ze,g_,o0,_t],q_),nq=K([e=>e.graphicalItems.cartesianItems,e=>e.graphicalItems.polarItems],(e,t)=>[...e,...t]),rq=K([_t,oo],b_),ls=K([nq,Tt,rq],w_,{memoizeOptions:{resultEqualityCheck:Ld}}),aq=K([ls],e=>e.filter(m0)),iq=K([ls],E_,{memoizeOptions:{resultEqualityCheck:Ld}}),fo=K([iq,ei],A_),lq=K([aq,ei,Tt],v_),N0=K([fo,Tt,ls],O_),cT=K([Tt],y0),oq=K([Tt],e=>e.allowDataOverflow),fT=K([cT,oq],XC),uq=K([ls],e=>e.filter(m0)),sq=K([lq,uq,Dd,u_],C_),cq=K([sq,ei,_t,fT],__),fq=K([ls],j_),dq=K([fo,Tt,fq,g0,_t],D_,{memoizeOptions:{resultEqualityCheck:zd}}),hq=K([k_,_t,oo],uo),mq=K([hq,_t],z_),vq=K([R_,_t,oo],uo),pq=K([vq,_t],L_),yq=K([P_,_t,oo],uo),gq=K([yq,_t],B_),bq=K([mq,gq,pq],Kf),xq=K([Tt,cT,fT,cq,dq,bq,Ze,_t],U_),os=K([Tt,Ze,fo,N0,Dd,_t,xq],I_),wq=K([os,Tt,O0],H_),Sq=K([Tt,os,wq,_t],$_),dT=e=>{var t=_t(e),n=oo(e),r=!1;return as(e,t,n,r)},hT=K([Tt,dT],kd),mT=K([Tt,O0,Sq,hT],x0),jq=K([Ze,N0,Tt,_t],X_),Eq=K([Ze,N0,Tt,_t],F_),Aq=(e,t,n,r,l,o,s,f)=>{if(t){var{type:d}=t,h=ca(e,f);if(r){var m=n==="scaleBand"&&r.bandwidth?r.bandwidth()/2:2,p=d==="category"&&r.bandwidth?r.bandwidth()/m:0;return p=f==="angleAxis"&&l!=null&&l?.length>=2?Fn(l[0]-l[1])*2*p:p,h&&s?s.map((x,w)=>({coordinate:r(x)+p,value:x,index:w,offset:p})):r.domain().map((x,w)=>({coordinate:r(x)+p,value:o?o[x]:x,index:w,offset:p}))}}},pa=K([Ze,Tt,O0,mT,dT,jq,Eq,_t],Aq),C0=K([J_,eT,P7],(e,t,n)=>tT(n.shared,e,t)),vT=e=>e.tooltip.settings.trigger,_0=e=>e.tooltip.settings.defaultIndex,us=K([co,C0,vT,_0],lT),zu=K([us,fo,ns,os],A0),pT=K([pa,zu],nT),Oq=K([us],e=>{if(e)return e.dataKey});K([us],e=>{if(e)return e.graphicalItemId});var yT=K([co,C0,vT,_0],uT),Nq=K([fa,da,Ze,Qt,pa,_0,yT,is],oT),Cq=K([us,Nq],(e,t)=>e!=null&&e.coordinate?e.coordinate:t),_q=K([us],e=>e.active),Tq=K([yT,zu,ei,ns,pT,is,C0],sT),Mq=K([Tq],e=>{if(e!=null){var t=e.map(n=>n.payload).filter(n=>n!=null);return Array.from(new Set(t))}});function A2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function O2(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?A2(Object(n),!0).forEach(function(r){Dq(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):A2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Dq(e,t,n){return(t=kq(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function kq(e){var t=Rq(e,"string");return typeof t=="symbol"?t:t+""}function Rq(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Pq=()=>ve(Tt),zq=()=>{var e=Pq(),t=ve(pa),n=ve(mT);return jf(!e||!n?void 0:O2(O2({},e),{},{scale:n}),t)};function N2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function _l(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?N2(Object(n),!0).forEach(function(r){Lq(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):N2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Lq(e,t,n){return(t=Bq(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Bq(e){var t=Uq(e,"string");return typeof t=="symbol"?t:t+""}function Uq(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Iq=(e,t,n,r)=>{var l=t.find(o=>o&&o.index===n);if(l){if(e==="horizontal")return{x:l.coordinate,y:r.chartY};if(e==="vertical")return{x:r.chartX,y:l.coordinate}}return{x:0,y:0}},qq=(e,t,n,r)=>{var l=t.find(h=>h&&h.index===n);if(l){if(e==="centric"){var o=l.coordinate,{radius:s}=r;return _l(_l(_l({},r),Wt(r.cx,r.cy,s,o)),{},{angle:o,radius:s})}var f=l.coordinate,{angle:d}=r;return _l(_l(_l({},r),Wt(r.cx,r.cy,f,d)),{},{angle:d,radius:f})}return{angle:0,clockWise:!1,cx:0,cy:0,endAngle:0,innerRadius:0,outerRadius:0,radius:0,startAngle:0,x:0,y:0}};function Hq(e,t){var{chartX:n,chartY:r}=e;return n>=t.left&&n<=t.left+t.width&&r>=t.top&&r<=t.top+t.height}var gT=(e,t,n,r,l)=>{var o,s=-1,f=(o=t?.length)!==null&&o!==void 0?o:0;if(f<=1||e==null)return 0;if(r==="angleAxis"&&l!=null&&Math.abs(Math.abs(l[1]-l[0])-360)<=1e-6)for(var d=0;d<f;d++){var h=d>0?n[d-1].coordinate:n[f-1].coordinate,m=n[d].coordinate,p=d>=f-1?n[0].coordinate:n[d+1].coordinate,x=void 0;if(Fn(m-h)!==Fn(p-m)){var w=[];if(Fn(p-m)===Fn(l[1]-l[0])){x=p;var E=m+l[1]-l[0];w[0]=Math.min(E,(E+h)/2),w[1]=Math.max(E,(E+h)/2)}else{x=h;var A=p+l[1]-l[0];w[0]=Math.min(m,(A+m)/2),w[1]=Math.max(m,(A+m)/2)}var j=[Math.min(m,(x+m)/2),Math.max(m,(x+m)/2)];if(e>j[0]&&e<=j[1]||e>=w[0]&&e<=w[1]){({index:s}=n[d]);break}}else{var O=Math.min(h,p),_=Math.max(h,p);if(e>(O+m)/2&&e<=(_+m)/2){({index:s}=n[d]);break}}}else if(t){for(var C=0;C<f;C++)if(C===0&&e<=(t[C].coordinate+t[C+1].coordinate)/2||C>0&&C<f-1&&e>(t[C].coordinate+t[C-1].coordinate)/2&&e<=(t[C].coordinate+t[C+1].coordinate)/2||C===f-1&&e>(t[C].coordinate+t[C-1].coordinate)/2){({index:s}=t[C]);break}}return s},bT=()=>ve(o0),T0=(e,t)=>t,xT=(e,t,n)=>n,M0=(e,t,n,r)=>r,$q=K(pa,e=>ud(e,t=>t.coordinate)),D0=K([co,T0,xT,M0],lT),k0=K([D0,fo,ns,os],A0),Kq=(e,t,n)=>{if(t!=null){var r=co(e);return t==="axis"?n==="hover"?r.axisInteraction.hover.dataKey:r.axisInteraction.click.dataKey:n==="hover"?r.itemInteraction.hover.dataKey:r.itemInteraction.click.dataKey}},wT=K([co,T0,xT,M0],uT),Yf=K([fa,da,Ze,Qt,pa,M0,wT,is],oT),Yq=K([D0,Yf],(e,t)=>{var n;return(n=e.coordinate)!==null&&n!==void 0?n:t}),ST=K([pa,k0],nT),Gq=K([wT,k0,ei,ns,ST,is,T0],sT),Vq=K([D0,k0],(e,t)=>({isActive:e.active&&t!=null,activeIndex:t})),Xq=(e,t,n,r,l,o,s)=>{if(!(!e||!n||!r||!l)&&Hq(e,s)){var f=x6(e,t),d=gT(f,o,l,n,r),h=Iq(t,l,d,e);return{activeIndex:String(d),activeCoordinate:h}}},Fq=(e,t,n,r,l,o,s)=>{if(!(!e||!r||!l||!o||!n)){var f=TB(e,n);if(f){var d=w6(f,t),h=gT(d,s,o,r,l),m=qq(t,o,h,f);return{activeIndex:String(h),activeCoordinate:m}}}},Wq=(e,t,n,r,l,o,s,f)=>{if(!(!e||!t||!r||!l||!o))return t==="horizontal"||t==="vertical"?Xq(e,t,r,l,o,s,f):Fq(e,t,n,r,l,o,s)},Zq=K(e=>e.zIndex.zIndexMap,(e,t)=>t,(e,t,n)=>n,(e,t,n)=>{if(t!=null){var r=e[t];if(r!=null)return n?r.panoramaElementId:r.elementId}}),Qq=K(e=>e.zIndex.zIndexMap,e=>{var t=Object.keys(e).map(r=>parseInt(r,10)).concat(Object.values(ln)),n=Array.from(new Set(t));return n.sort((r,l)=>r-l)},{memoizeOptions:{resultEqualityCheck:R9}});function C2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function _2(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?C2(Object(n),!0).forEach(function(r){Jq(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):C2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Jq(e,t,n){return(t=eH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function eH(e){var t=tH(e,"string");return typeof t=="symbol"?t:t+""}function tH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var nH={},rH={zIndexMap:Object.values(ln).reduce((e,t)=>_2(_2({},e),{},{[t]:{elementId:void 0,panoramaElementId:void 0,consumers:0}}),nH)},aH=new Set(Object.values(ln));function iH(e){return aH.has(e)}var jT=gn({name:"zIndex",initialState:rH,reducers:{registerZIndexPortal:{reducer:(e,t)=>{var{zIndex:n}=t.payload;e.zIndexMap[n]?e.zIndexMap[n].consumers+=1:e.zIndexMap[n]={consumers:1,elementId:void 0,panoramaElementId:void 0}},prepare:nt()},unregisterZIndexPortal:{reducer:(e,t)=>{var{zIndex:n}=t.payload;e.zIndexMap[n]&&(e.zIndexMap[n].consumers-=1,e.zIndexMap[n].consumers<=0&&!iH(n)&&delete e.zIndexMap[n])},prepare:nt()},registerZIndexPortalId:{reducer:(e,t)=>{var{zIndex:n,elementId:r,isPanorama:l}=t.payload;e.zIndexMap[n]?l?e.zIndexMap[n].panoramaElementId=r:e.zIndexMap[n].elementId=r:e.zIndexMap[n]={consumers:0,elementId:l?void 0:r,panoramaElementId:l?r:void 0}},prepare:nt()},unregisterZIndexPortalId:{reducer:(e,t)=>{var{zIndex:n}=t.payload;e.zIndexMap[n]&&(t.payload.isPanorama?e.zIndexMap[n].panoramaElementId=void 0:e.zIndexMap[n].elementId=void 0)},prepare:nt()}}}),{registerZIndexPortal:lH,unregisterZIndexPortal:oH,registerZIndexPortalId:uH,unregisterZIndexPortalId:sH}=jT.actions,cH=jT.reducer;function ya(e){var{zIndex:t,children:n}=e,r=e8(),l=r&&t!==void 0&&t!==0,o=bn(),s=Bt();b.useLayoutEffect(()=>l?(s(lH({zIndex:t})),()=>{s(oH({zIndex:t}))}):$u,[s,t,l]);var f=ve(h=>Zq(h,t,o));if(!l)return n;if(!f)return null;var d=document.getElementById(f);return d?rd.createPortal(n,d):null}function $y(){return $y=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},$y.apply(null,arguments)}function T2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Kc(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?T2(Object(n),!0).forEach(function(r){fH(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):T2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function fH(e,t,n){return(t=dH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function dH(e){var t=hH(e,"string");return typeof t=="symbol"?t:t+""}function hH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function mH(e){var{cursor:t,cursorComp:n,cursorProps:r}=e;return b.isValidElement(t)?b.cloneElement(t,r):b.createElement(n,r)}function vH(e){var t,{coordinate:n,payload:r,index:l,offset:o,tooltipAxisBandSize:s,layout:f,cursor:d,tooltipEventType:h,chartName:m}=e,p=n,x=r,w=l;if(!d||!p||m!=="ScatterChart"&&h!=="axis")return null;var E,A,j;if(m==="ScatterChart")E=p,A=H8,j=ln.cursorLine;else if(m==="BarChart")E=$8(f,p,o,s),A=xB,j=ln.cursorRectangle;else if(f==="radial"&&FO(p)){var{cx:O,cy:_,radius:C,startAngle:D,endAngle:T}=fC(p);E={cx:O,cy:_,startAngle:D,endAngle:T,innerRadius:C,outerRadius:C},A=RB,j=ln.cursorLine}else E={points:PB(f,p,o)},A=nf,j=ln.cursorLine;var P=typeof d=="object"&&"className"in d?d.className:void 0,k=Kc(Kc(Kc(Kc({stroke:"#ccc",pointerEvents:"none"},o),E),ad(d)),{},{payload:x,payloadIndex:w,className:Xe("recharts-tooltip-cursor",P)});return b.createElement(ya,{zIndex:(t=e.zIndex)!==null&&t!==void 0?t:j},b.createElement(mH,{cursor:d,cursorComp:A,cursorProps:k}))}function pH(e){var t=zq(),n=FN(),r=Xu(),l=bT();return t==null||n==null||r==null||l==null?null:b.createElement(vH,$y({},e,{offset:n,layout:r,tooltipAxisBandSize:t,chartName:l}))}var ET=b.createContext(null),yH=()=>b.useContext(ET),Dp={exports:{}},M2;function gH(){return M2||(M2=1,(function(e){var t=Object.prototype.hasOwnProperty,n="~";function r(){}Object.create&&(r.prototype=Object.create(null),new r().__proto__||(n=!1));function l(d,h,m){this.fn=d,this.context=h,this.once=m||!1}function o(d,h,m,p,x){if(typeof m!="function")throw new TypeError("The listener must be a function");var w=new l(m,p||d,x),E=n?n+h:h;return d._events[E]?d._events[E].fn?d._events[E]=[d._events[E],w]:d._events[E].push(w):(d._events[E]=w,d._eventsCount++),d}function s(d,h){--d._eventsCount===0?d._events=new r:delete d._events[h]}function f(){this._events=new r,this._eventsCount=0}f.prototype.eventNames=function(){var h=[],m,p;if(this._eventsCount===0)return h;for(p in m=this._events)t.call(m,p)&&h.push(n?p.slice(1):p);return Object.getOwnPropertySymbols?h.concat(Object.getOwnPropertySymbols(m)):h},f.prototype.listeners=function(h){var m=n?n+h:h,p=this._events[m];if(!p)return[];if(p.fn)return[p.fn];for(var x=0,w=p.length,E=new Array(w);x<w;x++)E[x]=p[x].fn;return E},f.prototype.listenerCount=function(h){var m=n?n+h:h,p=this._events[m];return p?p.fn?1:p.length:0},f.prototype.emit=function(h,m,p,x,w,E){var A=n?n+h:h;if(!this._events[A])return!1;var j=this._events[A],O=arguments.length,_,C;if(j.fn){switch(j.once&&this.removeListener(h,j.fn,void 0,!0),O){case 1:return j.fn.call(j.context),!0;case 2:return j.fn.call(j.context,m),!0;case 3:return j.fn.call(j.context,m,p),!0;case 4:return j.fn.call(j.context,m,p,x),!0;case 5:return j.fn.call(j.context,m,p,x,w),!0;case 6:return j.fn.call(j.context,m,p,x,w,E),!0}for(C=1,_=new Array(O-1);C<O;C++)_[C-1]=arguments[C];j.fn.apply(j.context,_)}else{var D=j.length,T;for(C=0;C<D;C++)switch(j[C].once&&this.removeListener(h,j[C].fn,void 0,!0),O){case 1:j[C].fn.call(j[C].context);break;case 2:j[C].fn.call(j[C].context,m);break;case 3:j[C].fn.call(j[C].context,m,p);break;case 4:j[C].fn.call(j[C].context,m,p,x);break;default:if(!_)for(T=1,_=new Array(O-1);T<O;T++)_[T-1]=arguments[T];j[C].fn.apply(j[C].context,_)}}return!0},f.prototype.on=function(h,m,p){return o(this,h,m,p,!1)},f.prototype.once=function(h,m,p){return o(this,h,m,p,!0)},f.prototype.removeListener=function(h,m,p,x){var w=n?n+h:h;if(!this._events[w])return this;if(!m)return s(this,w),this;var E=this._events[w];if(E.fn)E.fn===m&&(!x||E.once)&&(!p||E.context===p)&&s(this,w);else{for(var A=0,j=[],O=E.length;A<O;A++)(E[A].fn!==m||x&&!E[A].once||p&&E[A].context!==p)&&j.push(E[A]);j.length?this._events[w]=j.length===1?j[0]:j:s(this,w)}return this},f.prototype.removeAllListeners=function(h){var m;return h?(m=n?n+h:h,this._events[m]&&s(this,m)):(this._events=new r,this._eventsCount=0),this},f.prototype.off=f.prototype.removeListener,f.prototype.addListener=f.prototype.on,f.prefixed=n,f.EventEmitter=f,e.exports=f})(Dp)),Dp.exports}var bH=gH();const xH=ua(bH);var Lu=new xH,Ky="recharts.syncEvent.tooltip",D2="recharts.syncEvent.brush";function wH(e,t){if(t){var n=Number.parseInt(t,10);if(!fr(n))return e?.[n]}}var SH={chartName:"",tooltipPayloadSearcher:void 0,eventEmitter:void 0,defaultTooltipEventType:"axis"},AT=gn({name:"options",initialState:SH,reducers:{createEventEmitter:e=>{e.eventEmitter==null&&(e.eventEmitter=Symbol("rechartsEventEmitter"))}}}),jH=AT.reducer,{createEventEmitter:EH}=AT.actions;function AH(e){return e.tooltip.syncInteraction}var OH={chartData:void 0,computedData:void 0,dataStartIndex:0,dataEndIndex:0},OT=gn({name:"chartData",initialState:OH,reducers:{setChartData(e,t){if(e.chartData=t.payload,t.payload==null){e.dataStartIndex=0,e.dataEndIndex=0;return}t.payload.length>0&&e.dataEndIndex!==t.payload.length-1&&(e.dataEndIndex=t.payload.length-1)},setComputedData(e,t){e.computedData=t.payload},setDataStartEndIndexes(e,t){var{startIndex:n,endIndex:r}=t.payload;n!=null&&(e.dataStartIndex=n),r!=null&&(e.dataEndIndex=r)}}}),{setChartData:k2,setDataStartEndIndexes:NH,setComputedData:JF}=OT.actions,CH=OT.reducer,_H=["x","y"];function R2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Tl(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?R2(Object(n),!0).forEach(function(r){TH(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):R2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function TH(e,t,n){return(t=MH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function MH(e){var t=DH(e,"string");return typeof t=="symbol"?t:t+""}function DH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function kH(e,t){if(e==null)return{};var n,r,l=RH(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function RH(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function PH(){var e=ve(u0),t=ve(s0),n=Bt(),r=ve(s_),l=ve(pa),o=Xu(),s=wd(),f=ve(d=>d.rootProps.className);b.useEffect(()=>{if(e==null)return $u;var d=(h,m,p)=>{if(t!==p&&e===h){if(r==="index"){var x;if(s&&m!==null&&m!==void 0&&(x=m.payload)!==null&&x!==void 0&&x.coordinate&&m.payload.sourceViewBox){var w=m.payload.coordinate,{x:E,y:A}=w,j=kH(w,_H),{x:O,y:_,width:C,height:D}=m.payload.sourceViewBox,T=Tl(Tl({},j),{},{x:s.x+(C?(E-O)/C:0)*s.width,y:s.y+(D?(A-_)/D:0)*s.height});n(Tl(Tl({},m),{},{payload:Tl(Tl({},m.payload),{},{coordinate:T})}))}else n(m);return}if(l!=null){var P;if(typeof r=="function"){var k={activeTooltipIndex:m.payload.index==null?void 0:Number(m.payload.index),isTooltipActive:m.payload.active,activeIndex:m.payload.index==null?void 0:Number(m.payload.index),activeLabel:m.payload.label,activeDataKey:m.payload.dataKey,activeCoordinate:m.payload.coordinate},I=r(l,k);P=l[I]}else r==="value"&&(P=l.find(q=>String(q.value)===m.payload.label));var{coordinate:re}=m.payload;if(P==null||m.payload.active===!1||re==null||s==null){n(qy({active:!1,coordinate:void 0,dataKey:void 0,index:null,label:void 0,sourceViewBox:void 0,graphicalItemId:void 0}));return}var{x:ae,y:W}=re,J=Math.min(ae,s.x+s.width),pe=Math.min(W,s.y+s.height),ge={x:o==="horizontal"?P.coordinate:J,y:o==="horizontal"?pe:P.coordinate},xe=qy({active:m.payload.active,coordinate:ge,dataKey:m.payload.dataKey,index:String(P.index),label:m.payload.label,sourceViewBox:m.payload.sourceViewBox,graphicalItemId:m.payload.graphicalItemId});n(xe)}}};return Lu.on(Ky,d),()=>{Lu.off(Ky,d)}},[f,n,t,e,r,l,o,s])}function zH(){var e=ve(u0),t=ve(s0),n=Bt();b.useEffect(()=>{if(e==null)return $u;var r=(l,o,s)=>{t!==s&&e===l&&n(NH(o))};return Lu.on(D2,r),()=>{Lu.off(D2,r)}},[n,t,e])}function LH(){var e=Bt();b.useEffect(()=>{e(EH())},[e]),PH(),zH()}function BH(e,t,n,r,l,o){var s=ve(w=>Kq(w,e,t)),f=ve(s0),d=ve(u0),h=ve(s_),m=ve(AH),p=m?.active,x=wd();b.useEffect(()=>{if(!p&&d!=null&&f!=null){var w=qy({active:o,coordinate:n,dataKey:s,index:l,label:typeof r=="number"?String(r):r,sourceViewBox:x,graphicalItemId:void 0});Lu.emit(Ky,d,w,f)}},[p,n,s,l,r,f,d,h,o,x])}function P2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function z2(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?P2(Object(n),!0).forEach(function(r){UH(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):P2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function UH(e,t,n){return(t=IH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function IH(e){var t=qH(e,"string");return typeof t=="symbol"?t:t+""}function qH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function HH(e){return e.dataKey}function $H(e,t){return b.isValidElement(e)?b.cloneElement(e,t):typeof e=="function"?b.createElement(e,t):b.createElement(w8,t)}var L2=[],KH={allowEscapeViewBox:{x:!1,y:!1},animationDuration:400,animationEasing:"ease",axisId:0,contentStyle:{},cursor:!0,filterNull:!0,isAnimationActive:"auto",itemSorter:"name",itemStyle:{},labelStyle:{},offset:10,reverseDirection:{x:!1,y:!1},separator:" : ",trigger:"hover",useTranslate3d:!1,wrapperStyle:{}};function NT(e){var t,n,r=Ln(e,KH),{active:l,allowEscapeViewBox:o,animationDuration:s,animationEasing:f,content:d,filterNull:h,isAnimationActive:m,offset:p,payloadUniqBy:x,position:w,reverseDirection:E,useTranslate3d:A,wrapperStyle:j,cursor:O,shared:_,trigger:C,defaultIndex:D,portal:T,axisId:P}=r,k=Bt(),I=typeof D=="number"?String(D):D;b.useEffect(()=>{k(I7({shared:_,trigger:C,axisId:P,active:l,defaultIndex:I}))},[k,_,C,P,l,I]);var re=wd(),ae=iC(),W=R7(_),{activeIndex:J,isActive:pe}=(t=ve(ue=>Vq(ue,W,C,I)))!==null&&t!==void 0?t:{},ge=ve(ue=>Gq(ue,W,C,I)),xe=ve(ue=>ST(ue,W,C,I)),q=ve(ue=>Yq(ue,W,C,I)),Q=ge,X=yH(),le=(n=l??pe)!==null&&n!==void 0?n:!1,[Ee,R]=lL([Q,le]),Y=W==="axis"?xe:void 0;BH(W,C,q,Y,J,le);var ee=T??X;if(ee==null||re==null||W==null)return null;var ne=Q??L2;le||(ne=L2),h&&ne.length&&(ne=D5(ne.filter(ue=>ue.value!=null&&(ue.hide!==!0||r.includeHidden)),x,HH));var he=ne.length>0,we=b.createElement(C8,{allowEscapeViewBox:o,animationDuration:s,animationEasing:f,isAnimationActive:m,active:le,coordinate:q,hasPayload:he,offset:p,position:w,reverseDirection:E,useTranslate3d:A,viewBox:re,wrapperStyle:j,lastBoundingBox:Ee,innerRef:R,hasPortalFromProps:!!T},$H(d,z2(z2({},r),{},{payload:ne,label:Y,active:le,activeIndex:J,coordinate:q,accessibilityLayer:ae})));return b.createElement(b.Fragment,null,rd.createPortal(we,ee),le&&b.createElement(pH,{cursor:O,tooltipEventType:W,coordinate:q,payload:ne,index:J}))}function YH(e,t,n){return(t=GH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function GH(e){var t=VH(e,"string");return typeof t=="symbol"?t:t+""}function VH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}class XH{constructor(t){YH(this,"cache",new Map),this.maxSize=t}get(t){var n=this.cache.get(t);return n!==void 0&&(this.cache.delete(t),this.cache.set(t,n)),n}set(t,n){if(this.cache.has(t))this.cache.delete(t);else if(this.cache.size>=this.maxSize){var r=this.cache.keys().next().value;r!=null&&this.cache.delete(r)}this.cache.set(t,n)}clear(){this.cache.clear()}size(){return this.cache.size}}function B2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function FH(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?B2(Object(n),!0).forEach(function(r){WH(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):B2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function WH(e,t,n){return(t=ZH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function ZH(e){var t=QH(e,"string");return typeof t=="symbol"?t:t+""}function QH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var JH={cacheSize:2e3,enableCache:!0},CT=FH({},JH),U2=new XH(CT.cacheSize),e$={position:"absolute",top:"-20000px",left:0,padding:0,margin:0,border:"none",whiteSpace:"pre"},I2="recharts_measurement_span";function t$(e,t){var n=t.fontSize||"",r=t.fontFamily||"",l=t.fontWeight||"",o=t.fontStyle||"",s=t.letterSpacing||"",f=t.textTransform||"";return"".concat(e,"|").concat(n,"|").concat(r,"|").concat(l,"|").concat(o,"|").concat(s,"|").concat(f)}var q2=(e,t)=>{try{var n=document.getElementById(I2);n||(n=document.createElement("span"),n.setAttribute("id",I2),n.setAttribute("aria-hidden","true"),document.body.appendChild(n)),Object.assign(n.style,e$,t),n.textContent="".concat(e);var r=n.getBoundingClientRect();return{width:r.width,height:r.height}}catch{return{width:0,height:0}}},wu=function(t){var n=arguments.length>1&&arguments[1]!==void 0?arguments[1]:{};if(t==null||ro.isSsr)return{width:0,height:0};if(!CT.enableCache)return q2(t,n);var r=t$(t,n),l=U2.get(r);if(l)return l;var o=q2(t,n);return U2.set(r,o),o},H2=/(-?\d+(?:\.\d+)?[a-zA-Z%]*)([*/])(-?\d+(?:\.\d+)?[a-zA-Z%]*)/,$2=/(-?\d+(?:\.\d+)?[a-zA-Z%]*)([+-])(-?\d+(?:\.\d+)?[a-zA-Z%]*)/,n$=/^px|cm|vh|vw|em|rem|%|mm|in|pt|pc|ex|ch|vmin|vmax|Q$/,r$=/(-?\d+(?:\.\d+)?)([a-zA-Z%]+)?/,_T={cm:96/2.54,mm:96/25.4,pt:96/72,pc:96/6,in:96,Q:96/(2.54*40),px:1},a$=Object.keys(_T),zl="NaN";function i$(e,t){return e*_T[t]}class pn{static parse(t){var n,[,r,l]=(n=r$.exec(t))!==null&&n!==void 0?n:[];return new pn(parseFloat(r),l??"")}constructor(t,n){this.num=t,this.unit=n,this.num=t,this.unit=n,fr(t)&&(this.unit=""),n!==""&&!n$.test(n)&&(this.num=NaN,this.unit=""),a$.includes(n)&&(this.num=i$(t,n),this.unit="px")}add(t){return this.unit!==t.unit?new pn(NaN,""):new pn(this.num+t.num,this.unit)}subtract(t){return this.unit!==t.unit?new pn(NaN,""):new pn(this.num-t.num,this.unit)}multiply(t){return this.unit!==""&&t.unit!==""&&this.unit!==t.unit?new pn(NaN,""):new pn(this.num*t.num,this.unit||t.unit)}divide(t){return this.unit!==""&&t.unit!==""&&this.unit!==t.unit?new pn(NaN,""):new pn(this.num/t.num,this.unit||t.unit)}toString(){return"".concat(this.num).concat(this.unit)}isNaN(){return fr(this.num)}}function TT(e){if(e.includes(zl))return zl;for(var t=e;t.includes("*")||t.includes("/");){var n,[,r,l,o]=(n=H2.exec(t))!==null&&n!==void 0?n:[],s=pn.parse(r??""),f=pn.parse(o??""),d=l==="*"?s.multiply(f):s.divide(f);if(d.isNaN())return zl;t=t.replace(H2,d.toString())}for(;t.includes("+")||/.-\d+(?:\.\d+)?/.test(t);){var h,[,m,p,x]=(h=$2.exec(t))!==null&&h!==void 0?h:[],w=pn.parse(m??""),E=pn.parse(x??""),A=p==="+"?w.add(E):w.subtract(E);if(A.isNaN())return zl;t=t.replace($2,A.toString())}return t}var K2=/\(([^()]*)\)/;function l$(e){for(var t=e,n;(n=K2.exec(t))!=null;){var[,r]=n;t=t.replace(K2,TT(r))}return t}function o$(e){var t=e.replace(/\s+/g,"");return t=l$(t),t=TT(t),t}function u$(e){try{return o$(e)}catch{return zl}}function kp(e){var t=u$(e.slice(5,-1));return t===zl?"":t}var s$=["x","y","lineHeight","capHeight","fill","scaleToFit","textAnchor","verticalAnchor"],c$=["dx","dy","angle","className","breakAll"];function Yy(){return Yy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Yy.apply(null,arguments)}function Y2(e,t){if(e==null)return{};var n,r,l=f$(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function f$(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var MT=/[ \f\n\r\t\v\u2028\u2029]+/,DT=e=>{var{children:t,breakAll:n,style:r}=e;try{var l=[];Zt(t)||(n?l=t.toString().split(""):l=t.toString().split(MT));var o=l.map(f=>({word:f,width:wu(f,r).width})),s=n?0:wu(" ",r).width;return{wordsWithComputedWidth:o,spaceWidth:s}}catch{return null}};function d$(e){return e==="start"||e==="middle"||e==="end"||e==="inherit"}var kT=(e,t,n,r)=>e.reduce((l,o)=>{var{word:s,width:f}=o,d=l[l.length-1];if(d&&f!=null&&(t==null||r||d.width+f+n<Number(t)))d.words.push(s),d.width+=f+n;else{var h={words:[s],width:f};l.push(h)}return l},[]),RT=e=>e.reduce((t,n)=>t.width>n.width?t:n),h$="…",G2=(e,t,n,r,l,o,s,f)=>{var d=e.slice(0,t),h=DT({breakAll:n,style:r,children:d+h$});if(!h)return[!1,[]];var m=kT(h.wordsWithComputedWidth,o,s,f),p=m.length>l||RT(m).width>Number(o);return[p,m]},m$=(e,t,n,r,l)=>{var{maxLines:o,children:s,style:f,breakAll:d}=e,h=de(o),m=String(s),p=kT(t,r,n,l);if(!h||l)return p;var x=p.length>o||RT(p).width>Number(r);if(!x)return p;for(var w=0,E=m.length-1,A=0,j;w<=E&&A<=m.length-1;){var O=Math.floor((w+E)/2),_=O-1,[C,D]=G2(m,_,d,f,o,r,n,l),[T]=G2(m,O,d,f,o,r,n,l);if(!C&&!T&&(w=O+1),C&&T&&(E=O-1),!C&&T){j=D;break}A++}return j||p},V2=e=>{var t=Zt(e)?[]:e.toString().split(MT);return[{words:t,width:void 0}]},v$=e=>{var{width:t,scaleToFit:n,children:r,style:l,breakAll:o,maxLines:s}=e;if((t||n)&&!ro.isSsr){var f,d,h=DT({breakAll:o,children:r,style:l});if(h){var{wordsWithComputedWidth:m,spaceWidth:p}=h;f=m,d=p}else return V2(r);return m$({breakAll:o,children:r,maxLines:s,style:l},f,d,t,!!n)}return V2(r)},PT="#808080",p$={angle:0,breakAll:!1,capHeight:"0.71em",fill:PT,lineHeight:"1em",scaleToFit:!1,textAnchor:"start",verticalAnchor:"end",x:0,y:0},R0=b.forwardRef((e,t)=>{var n=Ln(e,p$),{x:r,y:l,lineHeight:o,capHeight:s,fill:f,scaleToFit:d,textAnchor:h,verticalAnchor:m}=n,p=Y2(n,s$),x=b.useMemo(()=>v$({breakAll:p.breakAll,children:p.children,maxLines:p.maxLines,scaleToFit:d,style:p.style,width:p.width}),[p.breakAll,p.children,p.maxLines,d,p.style,p.width]),{dx:w,dy:E,angle:A,className:j,breakAll:O}=p,_=Y2(p,c$);if(!jr(r)||!jr(l)||x.length===0)return null;var C=Number(r)+(de(w)?w:0),D=Number(l)+(de(E)?E:0);if(!ct(C)||!ct(D))return null;var T;switch(m){case"start":T=kp("calc(".concat(s,")"));break;case"middle":T=kp("calc(".concat((x.length-1)/2," * -").concat(o," + (").concat(s," / 2))"));break;default:T=kp("calc(".concat(x.length-1," * -").concat(o,")"));break}var P=[];if(d){var k=x[0].width,{width:I}=p;P.push("scale(".concat(de(I)&&de(k)?I/k:1,")"))}return A&&P.push("rotate(".concat(A,", ").concat(C,", ").concat(D,")")),P.length&&(_.transform=P.join(" ")),b.createElement("text",Yy({},Qn(_),{ref:t,x:C,y:D,className:Xe("recharts-text",j),textAnchor:h,fill:f.includes("url")?PT:f}),x.map((re,ae)=>{var W=re.words.join(O?"":" ");return b.createElement("tspan",{x:C,dy:ae===0?T:o,key:"".concat(W,"-").concat(ae)},W)}))});R0.displayName="Text";var y$=["labelRef"];function g$(e,t){if(e==null)return{};var n,r,l=b$(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function b$(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function X2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function ht(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?X2(Object(n),!0).forEach(function(r){x$(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):X2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function x$(e,t,n){return(t=w$(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function w$(e){var t=S$(e,"string");return typeof t=="symbol"?t:t+""}function S$(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Fr(){return Fr=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Fr.apply(null,arguments)}var zT=b.createContext(null),j$=e=>{var{x:t,y:n,upperWidth:r,lowerWidth:l,width:o,height:s,children:f}=e,d=b.useMemo(()=>({x:t,y:n,upperWidth:r,lowerWidth:l,width:o,height:s}),[t,n,r,l,o,s]);return b.createElement(zT.Provider,{value:d},f)},LT=()=>{var e=b.useContext(zT),t=wd();return e||XN(t)},E$=b.createContext(null),A$=()=>{var e=b.useContext(E$),t=ve(m_);return e||t},O$=e=>{var{value:t,formatter:n}=e,r=Zt(e.children)?t:e.children;return typeof n=="function"?n(r):r},P0=e=>e!=null&&typeof e=="function",N$=(e,t)=>{var n=Fn(t-e),r=Math.min(Math.abs(t-e),360);return n*r},C$=(e,t,n,r,l)=>{var{offset:o,className:s}=e,{cx:f,cy:d,innerRadius:h,outerRadius:m,startAngle:p,endAngle:x,clockWise:w}=l,E=(h+m)/2,A=N$(p,x),j=A>=0?1:-1,O,_;switch(t){case"insideStart":O=p+j*o,_=w;break;case"insideEnd":O=x-j*o,_=!w;break;case"end":O=x+j*o,_=w;break;default:throw new Error("Unsupported position ".concat(t))}_=A<=0?_:!_;var C=Wt(f,d,E,O),D=Wt(f,d,E,O+(_?1:-1)*359),T="M".concat(C.x,",").concat(C.y,`
-    A`).concat(E,",").concat(E,",0,1,").concat(_?0:1,`,
-    `).concat(D.x,",").concat(D.y),P=Zt(e.id)?ju("recharts-radial-line-"):e.id;return b.createElement("text",Fr({},r,{dominantBaseline:"central",className:Xe("recharts-radial-bar-label",s)}),b.createElement("defs",null,b.createElement("path",{id:P,d:T})),b.createElement("textPath",{xlinkHref:"#".concat(P)},n))},_$=(e,t,n)=>{var{cx:r,cy:l,innerRadius:o,outerRadius:s,startAngle:f,endAngle:d}=e,h=(f+d)/2;if(n==="outside"){var{x:m,y:p}=Wt(r,l,s+t,h);return{x:m,y:p,textAnchor:m>=r?"start":"end",verticalAnchor:"middle"}}if(n==="center")return{x:r,y:l,textAnchor:"middle",verticalAnchor:"middle"};if(n==="centerTop")return{x:r,y:l,textAnchor:"middle",verticalAnchor:"start"};if(n==="centerBottom")return{x:r,y:l,textAnchor:"middle",verticalAnchor:"end"};var x=(o+s)/2,{x:w,y:E}=Wt(r,l,x,h);return{x:w,y:E,textAnchor:"middle",verticalAnchor:"middle"}},Gy=e=>"cx"in e&&de(e.cx),T$=(e,t)=>{var{parentViewBox:n,offset:r,position:l}=e,o;n!=null&&!Gy(n)&&(o=n);var{x:s,y:f,upperWidth:d,lowerWidth:h,height:m}=t,p=s,x=s+(d-h)/2,w=(p+x)/2,E=(d+h)/2,A=p+d/2,j=m>=0?1:-1,O=j*r,_=j>0?"end":"start",C=j>0?"start":"end",D=d>=0?1:-1,T=D*r,P=D>0?"end":"start",k=D>0?"start":"end";if(l==="top"){var I={x:p+d/2,y:f-O,textAnchor:"middle",verticalAnchor:_};return ht(ht({},I),o?{height:Math.max(f-o.y,0),width:d}:{})}if(l==="bottom"){var re={x:x+h/2,y:f+m+O,textAnchor:"middle",verticalAnchor:C};return ht(ht({},re),o?{height:Math.max(o.y+o.height-(f+m),0),width:h}:{})}if(l==="left"){var ae={x:w-T,y:f+m/2,textAnchor:P,verticalAnchor:"middle"};return ht(ht({},ae),o?{width:Math.max(ae.x-o.x,0),height:m}:{})}if(l==="right"){var W={x:w+E+T,y:f+m/2,textAnchor:k,verticalAnchor:"middle"};return ht(ht({},W),o?{width:Math.max(o.x+o.width-W.x,0),height:m}:{})}var J=o?{width:E,height:m}:{};return l==="insideLeft"?ht({x:w+T,y:f+m/2,textAnchor:k,verticalAnchor:"middle"},J):l==="insideRight"?ht({x:w+E-T,y:f+m/2,textAnchor:P,verticalAnchor:"middle"},J):l==="insideTop"?ht({x:p+d/2,y:f+O,textAnchor:"middle",verticalAnchor:C},J):l==="insideBottom"?ht({x:x+h/2,y:f+m-O,textAnchor:"middle",verticalAnchor:_},J):l==="insideTopLeft"?ht({x:p+T,y:f+O,textAnchor:k,verticalAnchor:C},J):l==="insideTopRight"?ht({x:p+d-T,y:f+O,textAnchor:P,verticalAnchor:C},J):l==="insideBottomLeft"?ht({x:x+T,y:f+m-O,textAnchor:k,verticalAnchor:_},J):l==="insideBottomRight"?ht({x:x+h-T,y:f+m-O,textAnchor:P,verticalAnchor:_},J):l&&typeof l=="object"&&(de(l.x)||na(l.x))&&(de(l.y)||na(l.y))?ht({x:s+Wa(l.x,E),y:f+Wa(l.y,m),textAnchor:"end",verticalAnchor:"end"},J):ht({x:A,y:f+m/2,textAnchor:"middle",verticalAnchor:"middle"},J)},M$={angle:0,offset:5,zIndex:ln.label,position:"middle",textBreakAll:!1};function Ga(e){var t=Ln(e,M$),{viewBox:n,position:r,value:l,children:o,content:s,className:f="",textBreakAll:d,labelRef:h}=t,m=A$(),p=LT(),x=r==="center"?p:m??p,w,E,A;if(n==null?w=x:Gy(n)?w=n:w=XN(n),!w||Zt(l)&&Zt(o)&&!b.isValidElement(s)&&typeof s!="function")return null;var j=ht(ht({},t),{},{viewBox:w});if(b.isValidElement(s)){var{labelRef:O}=j,_=g$(j,y$);return b.cloneElement(s,_)}if(typeof s=="function"){if(E=b.createElement(s,j),b.isValidElement(E))return E}else E=O$(t);var C=Qn(t);if(Gy(w)){if(r==="insideStart"||r==="insideEnd"||r==="end")return C$(t,r,E,C,w);A=_$(w,t.offset,t.position)}else A=T$(t,w);return b.createElement(ya,{zIndex:t.zIndex},b.createElement(R0,Fr({ref:h,className:Xe("recharts-label",f)},C,A,{textAnchor:d$(C.textAnchor)?C.textAnchor:A.textAnchor,breakAll:d}),E))}Ga.displayName="Label";var D$=(e,t,n)=>{if(!e)return null;var r={viewBox:t,labelRef:n};return e===!0?b.createElement(Ga,Fr({key:"label-implicit"},r)):jr(e)?b.createElement(Ga,Fr({key:"label-implicit",value:e},r)):b.isValidElement(e)?e.type===Ga?b.cloneElement(e,ht({key:"label-implicit"},r)):b.createElement(Ga,Fr({key:"label-implicit",content:e},r)):P0(e)?b.createElement(Ga,Fr({key:"label-implicit",content:e},r)):e&&typeof e=="object"?b.createElement(Ga,Fr({},e,{key:"label-implicit"},r)):null};function k$(e){var{label:t,labelRef:n}=e,r=LT();return D$(t,r,n)||null}var Rp={},Pp={},F2;function R$(){return F2||(F2=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n[n.length-1]}e.last=t})(Pp)),Pp}var zp={},W2;function P$(){return W2||(W2=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return Array.isArray(n)?n:Array.from(n)}e.toArray=t})(zp)),zp}var Z2;function z$(){return Z2||(Z2=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=R$(),n=P$(),r=Sg();function l(o){if(r.isArrayLike(o))return t.last(n.toArray(o))}e.last=l})(Rp)),Rp}var Lp,Q2;function L$(){return Q2||(Q2=1,Lp=z$().last),Lp}var B$=L$();const U$=ua(B$);var I$=["valueAccessor"],q$=["dataKey","clockWise","id","textBreakAll","zIndex"];function Gf(){return Gf=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Gf.apply(null,arguments)}function J2(e,t){if(e==null)return{};var n,r,l=H$(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function H$(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var $$=e=>Array.isArray(e.value)?U$(e.value):e.value,BT=b.createContext(void 0),K$=BT.Provider,UT=b.createContext(void 0);UT.Provider;function Y$(){return b.useContext(BT)}function G$(){return b.useContext(UT)}function af(e){var{valueAccessor:t=$$}=e,n=J2(e,I$),{dataKey:r,clockWise:l,id:o,textBreakAll:s,zIndex:f}=n,d=J2(n,q$),h=Y$(),m=G$(),p=h||m;return!p||!p.length?null:b.createElement(ya,{zIndex:f??ln.label},b.createElement(Sr,{className:"recharts-label-list"},p.map((x,w)=>{var E,A=Zt(r)?t(x,w):nn(x&&x.payload,r),j=Zt(o)?{}:{id:"".concat(o,"-").concat(w)};return b.createElement(Ga,Gf({key:"label-".concat(w)},Qn(x),d,j,{fill:(E=n.fill)!==null&&E!==void 0?E:x.fill,parentViewBox:x.parentViewBox,value:A,textBreakAll:s,viewBox:x.viewBox,index:w,zIndex:0}))})))}af.displayName="LabelList";function V$(e){var{label:t}=e;return t?t===!0?b.createElement(af,{key:"labelList-implicit"}):b.isValidElement(t)||P0(t)?b.createElement(af,{key:"labelList-implicit",content:t}):typeof t=="object"?b.createElement(af,Gf({key:"labelList-implicit"},t,{type:String(t.type)})):null:null}function Vy(){return Vy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Vy.apply(null,arguments)}var IT=e=>{var{cx:t,cy:n,r,className:l}=e,o=Xe("recharts-dot",l);return de(t)&&de(n)&&de(r)?b.createElement("circle",Vy({},cr(e),wg(e),{className:o,cx:t,cy:n,r})):null},X$={radiusAxis:{},angleAxis:{}},qT=gn({name:"polarAxis",initialState:X$,reducers:{addRadiusAxis(e,t){e.radiusAxis[t.payload.id]=t.payload},removeRadiusAxis(e,t){delete e.radiusAxis[t.payload.id]},addAngleAxis(e,t){e.angleAxis[t.payload.id]=t.payload},removeAngleAxis(e,t){delete e.angleAxis[t.payload.id]}}}),{addRadiusAxis:eW,removeRadiusAxis:tW,addAngleAxis:nW,removeAngleAxis:rW}=qT.actions,F$=qT.reducer,HT=e=>e&&typeof e=="object"&&"clipDot"in e?!!e.clipDot:!0;function W$(e){var{tooltipEntrySettings:t}=e,n=Bt(),r=bn(),l=b.useRef(null);return b.useLayoutEffect(()=>{r||(l.current===null?n(L7(t)):l.current!==t&&n(B7({prev:l.current,next:t})),l.current=t)},[t,n,r]),b.useLayoutEffect(()=>()=>{l.current&&(n(U7(l.current)),l.current=null)},[n]),null}function Z$(e){var{legendPayload:t}=e,n=Bt(),r=bn(),l=b.useRef(null);return b.useLayoutEffect(()=>{r||(l.current===null?n(h8(t)):l.current!==t&&n(m8({prev:l.current,next:t})),l.current=t)},[n,r,t]),b.useLayoutEffect(()=>()=>{l.current&&(n(v8(l.current)),l.current=null)},[n]),null}var Bp,Q$=()=>{var[e]=b.useState(()=>ju("uid-"));return e},J$=(Bp=ed.useId)!==null&&Bp!==void 0?Bp:Q$;function $T(e,t){var n=J$();return t||(e?"".concat(e,"-").concat(n):n)}var eK=b.createContext(void 0),tK=e=>{var{id:t,type:n,children:r}=e,l=$T("recharts-".concat(n),t);return b.createElement(eK.Provider,{value:l},r(l))},nK={cartesianItems:[],polarItems:[]},KT=gn({name:"graphicalItems",initialState:nK,reducers:{addCartesianGraphicalItem:{reducer(e,t){e.cartesianItems.push(t.payload)},prepare:nt()},replaceCartesianGraphicalItem:{reducer(e,t){var{prev:n,next:r}=t.payload,l=sr(e).cartesianItems.indexOf(n);l>-1&&(e.cartesianItems[l]=r)},prepare:nt()},removeCartesianGraphicalItem:{reducer(e,t){var n=sr(e).cartesianItems.indexOf(t.payload);n>-1&&e.cartesianItems.splice(n,1)},prepare:nt()},addPolarGraphicalItem:{reducer(e,t){e.polarItems.push(t.payload)},prepare:nt()},removePolarGraphicalItem:{reducer(e,t){var n=sr(e).polarItems.indexOf(t.payload);n>-1&&e.polarItems.splice(n,1)},prepare:nt()}}}),{addCartesianGraphicalItem:rK,replaceCartesianGraphicalItem:aK,removeCartesianGraphicalItem:iK,addPolarGraphicalItem:aW,removePolarGraphicalItem:iW}=KT.actions,lK=KT.reducer,oK=e=>{var t=Bt(),n=b.useRef(null);return b.useLayoutEffect(()=>{n.current===null?t(rK(e)):n.current!==e&&t(aK({prev:n.current,next:e})),n.current=e},[t,e]),b.useLayoutEffect(()=>()=>{n.current&&(t(iK(n.current)),n.current=null)},[t]),null},uK=b.memo(oK),sK=["points"];function eA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Up(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?eA(Object(n),!0).forEach(function(r){cK(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):eA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function cK(e,t,n){return(t=fK(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function fK(e){var t=dK(e,"string");return typeof t=="symbol"?t:t+""}function dK(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Vf(){return Vf=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Vf.apply(null,arguments)}function hK(e,t){if(e==null)return{};var n,r,l=mK(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function mK(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function vK(e){var{option:t,dotProps:n,className:r}=e;if(b.isValidElement(t))return b.cloneElement(t,n);if(typeof t=="function")return t(n);var l=Xe(r,typeof t!="boolean"?t.className:""),o=n??{},{points:s}=o,f=hK(o,sK);return b.createElement(IT,Vf({},f,{className:l}))}function pK(e,t){return e==null?!1:t?!0:e.length===1}function yK(e){var{points:t,dot:n,className:r,dotClassName:l,dataKey:o,baseProps:s,needClip:f,clipPathId:d,zIndex:h=ln.scatter}=e;if(!pK(t,n))return null;var m=HT(n),p=Oz(n),x=t.map((E,A)=>{var j,O,_=Up(Up(Up({r:3},s),p),{},{index:A,cx:(j=E.x)!==null&&j!==void 0?j:void 0,cy:(O=E.y)!==null&&O!==void 0?O:void 0,dataKey:o,value:E.value,payload:E.payload,points:t});return b.createElement(vK,{key:"dot-".concat(A),option:n,dotProps:_,className:l})}),w={};return f&&d!=null&&(w.clipPath="url(#clipPath-".concat(m?"":"dots-").concat(d,")")),b.createElement(ya,{zIndex:h},b.createElement(Sr,Vf({className:r},w),x))}function tA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function nA(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?tA(Object(n),!0).forEach(function(r){gK(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):tA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function gK(e,t,n){return(t=bK(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function bK(e){var t=xK(e,"string");return typeof t=="symbol"?t:t+""}function xK(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var wK={xAxis:{},yAxis:{},zAxis:{}},YT=gn({name:"cartesianAxis",initialState:wK,reducers:{addXAxis:{reducer(e,t){e.xAxis[t.payload.id]=t.payload},prepare:nt()},replaceXAxis:{reducer(e,t){var{prev:n,next:r}=t.payload;e.xAxis[n.id]!==void 0&&(n.id!==r.id&&delete e.xAxis[n.id],e.xAxis[r.id]=r)},prepare:nt()},removeXAxis:{reducer(e,t){delete e.xAxis[t.payload.id]},prepare:nt()},addYAxis:{reducer(e,t){e.yAxis[t.payload.id]=t.payload},prepare:nt()},replaceYAxis:{reducer(e,t){var{prev:n,next:r}=t.payload;e.yAxis[n.id]!==void 0&&(n.id!==r.id&&delete e.yAxis[n.id],e.yAxis[r.id]=r)},prepare:nt()},removeYAxis:{reducer(e,t){delete e.yAxis[t.payload.id]},prepare:nt()},addZAxis:{reducer(e,t){e.zAxis[t.payload.id]=t.payload},prepare:nt()},replaceZAxis:{reducer(e,t){var{prev:n,next:r}=t.payload;e.zAxis[n.id]!==void 0&&(n.id!==r.id&&delete e.zAxis[n.id],e.zAxis[r.id]=r)},prepare:nt()},removeZAxis:{reducer(e,t){delete e.zAxis[t.payload.id]},prepare:nt()},updateYAxisWidth(e,t){var{id:n,width:r}=t.payload,l=e.yAxis[n];if(l){var o=l.widthHistory||[];if(o.length===3&&o[0]===o[2]&&r===o[1]&&r!==l.width&&Math.abs(r-o[0])<=1)return;var s=[...o,r].slice(-3);e.yAxis[n]=nA(nA({},e.yAxis[n]),{},{width:r,widthHistory:s})}}}}),{addXAxis:SK,replaceXAxis:jK,removeXAxis:EK,addYAxis:AK,replaceYAxis:OK,removeYAxis:NK,addZAxis:lW,replaceZAxis:oW,removeZAxis:uW,updateYAxisWidth:CK}=YT.actions,_K=YT.reducer,TK=K([Qt],e=>({top:e.top,bottom:e.bottom,left:e.left,right:e.right})),MK=K([TK,fa,da],(e,t,n)=>{if(!(!e||t==null||n==null))return{x:e.left,y:e.top,width:Math.max(0,t-e.left-e.right),height:Math.max(0,n-e.top-e.bottom)}}),z0=()=>ve(MK),DK=()=>ve(Mq);function rA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Ip(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?rA(Object(n),!0).forEach(function(r){kK(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):rA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function kK(e,t,n){return(t=RK(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function RK(e){var t=PK(e,"string");return typeof t=="symbol"?t:t+""}function PK(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var zK=e=>{var{point:t,childIndex:n,mainColor:r,activeDot:l,dataKey:o,clipPath:s}=e;if(l===!1||t.x==null||t.y==null)return null;var f={index:n,dataKey:o,cx:t.x,cy:t.y,r:4,fill:r??"none",strokeWidth:2,stroke:"#fff",payload:t.payload,value:t.value},d=Ip(Ip(Ip({},f),ad(l)),wg(l)),h;return b.isValidElement(l)?h=b.cloneElement(l,d):typeof l=="function"?h=l(d):h=b.createElement(IT,d),b.createElement(Sr,{className:"recharts-active-dot",clipPath:s},h)};function aA(e){var{points:t,mainColor:n,activeDot:r,itemDataKey:l,clipPath:o,zIndex:s=ln.activeDot}=e,f=ve(zu),d=DK();if(t==null||d==null)return null;var h=t.find(m=>d.includes(m.payload));return Zt(h)?null:b.createElement(ya,{zIndex:s},b.createElement(zK,{point:h,childIndex:Number(f),mainColor:n,dataKey:l,activeDot:r,clipPath:o}))}var LK={},GT=gn({name:"errorBars",initialState:LK,reducers:{addErrorBar:(e,t)=>{var{itemId:n,errorBar:r}=t.payload;e[n]||(e[n]=[]),e[n].push(r)},replaceErrorBar:(e,t)=>{var{itemId:n,prev:r,next:l}=t.payload;e[n]&&(e[n]=e[n].map(o=>o.dataKey===r.dataKey&&o.direction===r.direction?l:o))},removeErrorBar:(e,t)=>{var{itemId:n,errorBar:r}=t.payload;e[n]&&(e[n]=e[n].filter(l=>l.dataKey!==r.dataKey||l.direction!==r.direction))}}}),{addErrorBar:sW,replaceErrorBar:cW,removeErrorBar:fW}=GT.actions,BK=GT.reducer;function VT(e,t){var n,r,l=ve(h=>ma(h,e)),o=ve(h=>va(h,t)),s=(n=l?.allowDataOverflow)!==null&&n!==void 0?n:kt.allowDataOverflow,f=(r=o?.allowDataOverflow)!==null&&r!==void 0?r:Rt.allowDataOverflow,d=s||f;return{needClip:d,needClipX:s,needClipY:f}}function UK(e){var{xAxisId:t,yAxisId:n,clipPathId:r}=e,l=z0(),{needClipX:o,needClipY:s,needClip:f}=VT(t,n);if(!f||!l)return null;var{x:d,y:h,width:m,height:p}=l;return b.createElement("clipPath",{id:"clipPath-".concat(r)},b.createElement("rect",{x:o?d:d-m/2,y:s?h:h-p/2,width:o?m:m*2,height:s?p:p*2}))}var qp={exports:{}},Hp={};var iA;function IK(){if(iA)return Hp;iA=1;var e=Xl();function t(d,h){return d===h&&(d!==0||1/d===1/h)||d!==d&&h!==h}var n=typeof Object.is=="function"?Object.is:t,r=e.useSyncExternalStore,l=e.useRef,o=e.useEffect,s=e.useMemo,f=e.useDebugValue;return Hp.useSyncExternalStoreWithSelector=function(d,h,m,p,x){var w=l(null);if(w.current===null){var E={hasValue:!1,value:null};w.current=E}else E=w.current;w=s(function(){function j(T){if(!O){if(O=!0,_=T,T=p(T),x!==void 0&&E.hasValue){var P=E.value;if(x(P,T))return C=P}return C=T}if(P=C,n(_,T))return P;var k=p(T);return x!==void 0&&x(P,k)?(_=T,P):(_=T,C=k)}var O=!1,_,C,D=m===void 0?null:m;return[function(){return j(h())},D===null?void 0:function(){return j(D())}]},[h,m,p,x]);var A=r(d,w[0],w[1]);return o(function(){E.hasValue=!0,E.value=A},[A]),f(A),A},Hp}var lA;function qK(){return lA||(lA=1,qp.exports=IK()),qp.exports}qK();function HK(e){e()}function $K(){let e=null,t=null;return{clear(){e=null,t=null},notify(){HK(()=>{let n=e;for(;n;)n.callback(),n=n.next})},get(){const n=[];let r=e;for(;r;)n.push(r),r=r.next;return n},subscribe(n){let r=!0;const l=t={callback:n,next:null,prev:t};return l.prev?l.prev.next=l:e=l,function(){!r||e===null||(r=!1,l.next?l.next.prev=l.prev:t=l.prev,l.prev?l.prev.next=l.next:e=l.next)}}}}var oA={notify(){},get:()=>[]};function KK(e,t){let n,r=oA,l=0,o=!1;function s(A){m();const j=r.subscribe(A);let O=!1;return()=>{O||(O=!0,j(),p())}}function f(){r.notify()}function d(){E.onStateChange&&E.onStateChange()}function h(){return o}function m(){l++,n||(n=e.subscribe(d),r=$K())}function p(){l--,n&&l===0&&(n(),n=void 0,r.clear(),r=oA)}function x(){o||(o=!0,m())}function w(){o&&(o=!1,p())}const E={addNestedSub:s,notifyNestedSubs:f,handleChangeWrapper:d,isSubscribed:h,trySubscribe:x,tryUnsubscribe:w,getListeners:()=>r};return E}var YK=()=>typeof window<"u"&&typeof window.document<"u"&&typeof window.document.createElement<"u",GK=YK(),VK=()=>typeof navigator<"u"&&navigator.product==="ReactNative",XK=VK(),FK=()=>GK||XK?b.useLayoutEffect:b.useEffect,WK=FK();function uA(e,t){return e===t?e!==0||t!==0||1/e===1/t:e!==e&&t!==t}function ZK(e,t){if(uA(e,t))return!0;if(typeof e!="object"||e===null||typeof t!="object"||t===null)return!1;const n=Object.keys(e),r=Object.keys(t);if(n.length!==r.length)return!1;for(let l=0;l<n.length;l++)if(!Object.prototype.hasOwnProperty.call(t,n[l])||!uA(e[n[l]],t[n[l]]))return!1;return!0}var QK=Symbol.for("react-redux-context"),JK=typeof globalThis<"u"?globalThis:{};function eY(){if(!b.createContext)return{};const e=JK[QK]??=new Map;let t=e.get(b.createContext);return t||(t=b.createContext(null),e.set(b.createContext,t)),t}var tY=eY();function nY(e){const{children:t,context:n,serverState:r,store:l}=e,o=b.useMemo(()=>{const d=KK(l);return{store:l,subscription:d,getServerState:r?()=>r:void 0}},[l,r]),s=b.useMemo(()=>l.getState(),[l]);WK(()=>{const{subscription:d}=o;return d.onStateChange=d.notifyNestedSubs,d.trySubscribe(),s!==l.getState()&&d.notifyNestedSubs(),()=>{d.tryUnsubscribe(),d.onStateChange=void 0}},[o,s]);const f=n||tY;return b.createElement(f.Provider,{value:o},t)}var rY=nY,aY=new Set(["axisLine","tickLine","activeBar","activeDot","activeLabel","activeShape","allowEscapeViewBox","background","cursor","dot","label","line","margin","padding","position","shape","style","tick","wrapperStyle"]);function iY(e,t){return e==null&&t==null?!0:typeof e=="number"&&typeof t=="number"?e===t||e!==e&&t!==t:e===t}function L0(e,t){var n=new Set([...Object.keys(e),...Object.keys(t)]);for(var r of n)if(aY.has(r)){if(e[r]==null&&t[r]==null)continue;if(!ZK(e[r],t[r]))return!1}else if(!iY(e[r],t[r]))return!1;return!0}var lY=e=>{var{chartData:t}=e,n=Bt(),r=bn();return b.useEffect(()=>r?()=>{}:(n(k2(t)),()=>{n(k2(void 0))}),[t,n,r]),null},sA={x:0,y:0,width:0,height:0,padding:{top:0,right:0,bottom:0,left:0}},XT=gn({name:"brush",initialState:sA,reducers:{setBrushSettings(e,t){return t.payload==null?sA:t.payload}}}),{setBrushSettings:dW}=XT.actions,oY=XT.reducer;function uY(e,t,n){return(t=sY(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function sY(e){var t=cY(e,"string");return typeof t=="symbol"?t:t+""}function cY(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}class B0{static create(t){return new B0(t)}constructor(t){this.scale=t}get domain(){return this.scale.domain}get range(){return this.scale.range}get rangeMin(){return this.range()[0]}get rangeMax(){return this.range()[1]}get bandwidth(){return this.scale.bandwidth}apply(t){var{bandAware:n,position:r}=arguments.length>1&&arguments[1]!==void 0?arguments[1]:{};if(t!==void 0){if(r)switch(r){case"start":return this.scale(t);case"middle":{var l=this.bandwidth?this.bandwidth()/2:0;return this.scale(t)+l}case"end":{var o=this.bandwidth?this.bandwidth():0;return this.scale(t)+o}default:return this.scale(t)}if(n){var s=this.bandwidth?this.bandwidth()/2:0;return this.scale(t)+s}return this.scale(t)}}isInRange(t){var n=this.range(),r=n[0],l=n[n.length-1];return r<=l?t>=r&&t<=l:t>=l&&t<=r}}uY(B0,"EPS",1e-4);function fY(e){return(e%180+180)%180}var dY=function(t){var{width:n,height:r}=t,l=arguments.length>1&&arguments[1]!==void 0?arguments[1]:0,o=fY(l),s=o*Math.PI/180,f=Math.atan(r/n),d=s>f&&s<Math.PI-f?r/Math.sin(s):n/Math.cos(s);return Math.abs(d)},hY={dots:[],areas:[],lines:[]},FT=gn({name:"referenceElements",initialState:hY,reducers:{addDot:(e,t)=>{e.dots.push(t.payload)},removeDot:(e,t)=>{var n=sr(e).dots.findIndex(r=>r===t.payload);n!==-1&&e.dots.splice(n,1)},addArea:(e,t)=>{e.areas.push(t.payload)},removeArea:(e,t)=>{var n=sr(e).areas.findIndex(r=>r===t.payload);n!==-1&&e.areas.splice(n,1)},addLine:(e,t)=>{e.lines.push(t.payload)},removeLine:(e,t)=>{var n=sr(e).lines.findIndex(r=>r===t.payload);n!==-1&&e.lines.splice(n,1)}}}),{addDot:hW,removeDot:mW,addArea:vW,removeArea:pW,addLine:yW,removeLine:gW}=FT.actions,mY=FT.reducer,vY=b.createContext(void 0),pY=e=>{var{children:t}=e,[n]=b.useState("".concat(ju("recharts"),"-clip")),r=z0();if(r==null)return null;var{x:l,y:o,width:s,height:f}=r;return b.createElement(vY.Provider,{value:n},b.createElement("defs",null,b.createElement("clipPath",{id:n},b.createElement("rect",{x:l,y:o,height:f,width:s}))),t)};function WT(e,t){if(t<1)return[];if(t===1)return e;for(var n=[],r=0;r<e.length;r+=t)n.push(e[r]);return n}function yY(e,t,n){var r={width:e.width+t.width,height:e.height+t.height};return dY(r,n)}function gY(e,t,n){var r=n==="width",{x:l,y:o,width:s,height:f}=e;return t===1?{start:r?l:o,end:r?l+s:o+f}:{start:r?l+s:o+f,end:r?l:o}}function Xf(e,t,n,r,l){if(e*t<e*r||e*t>e*l)return!1;var o=n();return e*(t-e*o/2-r)>=0&&e*(t+e*o/2-l)<=0}function bY(e,t){return WT(e,t+1)}function xY(e,t,n,r,l){for(var o=(r||[]).slice(),{start:s,end:f}=t,d=0,h=1,m=s,p=function(){var E=r?.[d];if(E===void 0)return{v:WT(r,h)};var A=d,j,O=()=>(j===void 0&&(j=n(E,A)),j),_=E.coordinate,C=d===0||Xf(e,_,O,m,f);C||(d=0,m=s,h+=1),C&&(m=_+e*(O()/2+l),d+=h)},x;h<=o.length;)if(x=p(),x)return x.v;return[]}function cA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function en(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?cA(Object(n),!0).forEach(function(r){wY(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):cA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function wY(e,t,n){return(t=SY(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function SY(e){var t=jY(e,"string");return typeof t=="symbol"?t:t+""}function jY(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function EY(e,t,n,r,l){for(var o=(r||[]).slice(),s=o.length,{start:f}=t,{end:d}=t,h=function(x){var w=o[x],E,A=()=>(E===void 0&&(E=n(w,x)),E);if(x===s-1){var j=e*(w.coordinate+e*A()/2-d);o[x]=w=en(en({},w),{},{tickCoord:j>0?w.coordinate-j*e:w.coordinate})}else o[x]=w=en(en({},w),{},{tickCoord:w.coordinate});if(w.tickCoord!=null){var O=Xf(e,w.tickCoord,A,f,d);O&&(d=w.tickCoord-e*(A()/2+l),o[x]=en(en({},w),{},{isShow:!0}))}},m=s-1;m>=0;m--)h(m);return o}function AY(e,t,n,r,l,o){var s=(r||[]).slice(),f=s.length,{start:d,end:h}=t;if(o){var m=r[f-1],p=n(m,f-1),x=e*(m.coordinate+e*p/2-h);if(s[f-1]=m=en(en({},m),{},{tickCoord:x>0?m.coordinate-x*e:m.coordinate}),m.tickCoord!=null){var w=Xf(e,m.tickCoord,()=>p,d,h);w&&(h=m.tickCoord-e*(p/2+l),s[f-1]=en(en({},m),{},{isShow:!0}))}}for(var E=o?f-1:f,A=function(_){var C=s[_],D,T=()=>(D===void 0&&(D=n(C,_)),D);if(_===0){var P=e*(C.coordinate-e*T()/2-d);s[_]=C=en(en({},C),{},{tickCoord:P<0?C.coordinate-P*e:C.coordinate})}else s[_]=C=en(en({},C),{},{tickCoord:C.coordinate});if(C.tickCoord!=null){var k=Xf(e,C.tickCoord,T,d,h);k&&(d=C.tickCoord+e*(T()/2+l),s[_]=en(en({},C),{},{isShow:!0}))}},j=0;j<E;j++)A(j);return s}function U0(e,t,n){var{tick:r,ticks:l,viewBox:o,minTickGap:s,orientation:f,interval:d,tickFormatter:h,unit:m,angle:p}=e;if(!l||!l.length||!r)return[];if(de(d)||ro.isSsr){var x;return(x=bY(l,de(d)?d:0))!==null&&x!==void 0?x:[]}var w=[],E=f==="top"||f==="bottom"?"width":"height",A=m&&E==="width"?wu(m,{fontSize:t,letterSpacing:n}):{width:0,height:0},j=(C,D)=>{var T=typeof h=="function"?h(C.value,D):C.value;return E==="width"?yY(wu(T,{fontSize:t,letterSpacing:n}),A,p):wu(T,{fontSize:t,letterSpacing:n})[E]},O=l.length>=2?Fn(l[1].coordinate-l[0].coordinate):1,_=gY(o,O,E);return d==="equidistantPreserveStart"?xY(O,_,j,l,s):(d==="preserveStart"||d==="preserveStartEnd"?w=AY(O,_,j,l,s,d==="preserveStartEnd"):w=EY(O,_,j,l,s),w.filter(C=>C.isShow))}var OY=e=>{var{ticks:t,label:n,labelGapWithTick:r=5,tickSize:l=0,tickMargin:o=0}=e,s=0;if(t){Array.from(t).forEach(m=>{if(m){var p=m.getBoundingClientRect();p.width>s&&(s=p.width)}});var f=n?n.getBoundingClientRect().width:0,d=l+o,h=s+d+f+(n?r:0);return Math.round(h)}return 0},NY=["axisLine","width","height","className","hide","ticks","axisType"];function CY(e,t){if(e==null)return{};var n,r,l=_Y(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function _Y(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function Li(){return Li=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Li.apply(null,arguments)}function fA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function gt(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?fA(Object(n),!0).forEach(function(r){TY(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):fA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function TY(e,t,n){return(t=MY(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function MY(e){var t=DY(e,"string");return typeof t=="symbol"?t:t+""}function DY(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var ea={x:0,y:0,width:0,height:0,viewBox:{x:0,y:0,width:0,height:0},orientation:"bottom",ticks:[],stroke:"#666",tickLine:!0,axisLine:!0,tick:!0,mirror:!1,minTickGap:5,tickSize:6,tickMargin:2,interval:"preserveEnd",zIndex:ln.axis};function kY(e){var{x:t,y:n,width:r,height:l,orientation:o,mirror:s,axisLine:f,otherSvgProps:d}=e;if(!f)return null;var h=gt(gt(gt({},d),cr(f)),{},{fill:"none"});if(o==="top"||o==="bottom"){var m=+(o==="top"&&!s||o==="bottom"&&s);h=gt(gt({},h),{},{x1:t,y1:n+m*l,x2:t+r,y2:n+m*l})}else{var p=+(o==="left"&&!s||o==="right"&&s);h=gt(gt({},h),{},{x1:t+p*r,y1:n,x2:t+p*r,y2:n+l})}return b.createElement("line",Li({},h,{className:Xe("recharts-cartesian-axis-line",od(f,"className"))}))}function RY(e,t,n,r,l,o,s,f,d){var h,m,p,x,w,E,A=f?-1:1,j=e.tickSize||s,O=de(e.tickCoord)?e.tickCoord:e.coordinate;switch(o){case"top":h=m=e.coordinate,x=n+ +!f*l,p=x-A*j,E=p-A*d,w=O;break;case"left":p=x=e.coordinate,m=t+ +!f*r,h=m-A*j,w=h-A*d,E=O;break;case"right":p=x=e.coordinate,m=t+ +f*r,h=m+A*j,w=h+A*d,E=O;break;default:h=m=e.coordinate,x=n+ +f*l,p=x+A*j,E=p+A*d,w=O;break}return{line:{x1:h,y1:p,x2:m,y2:x},tick:{x:w,y:E}}}function PY(e,t){switch(e){case"left":return t?"start":"end";case"right":return t?"end":"start";default:return"middle"}}function zY(e,t){switch(e){case"left":case"right":return"middle";case"top":return t?"start":"end";default:return t?"end":"start"}}function LY(e){var{option:t,tickProps:n,value:r}=e,l,o=Xe(n.className,"recharts-cartesian-axis-tick-value");if(b.isValidElement(t))l=b.cloneElement(t,gt(gt({},n),{},{className:o}));else if(typeof t=="function")l=t(gt(gt({},n),{},{className:o}));else{var s="recharts-cartesian-axis-tick-value";typeof t!="boolean"&&(s=Xe(s,t?.className)),l=b.createElement(R0,Li({},n,{className:s}),r)}return l}var BY=b.forwardRef((e,t)=>{var{ticks:n=[],tick:r,tickLine:l,stroke:o,tickFormatter:s,unit:f,padding:d,tickTextProps:h,orientation:m,mirror:p,x,y:w,width:E,height:A,tickSize:j,tickMargin:O,fontSize:_,letterSpacing:C,getTicksConfig:D,events:T,axisType:P}=e,k=U0(gt(gt({},D),{},{ticks:n}),_,C),I=PY(m,p),re=zY(m,p),ae=cr(D),W=ad(r),J={};typeof l=="object"&&(J=l);var pe=gt(gt({},ae),{},{fill:"none"},J),ge=k.map(Q=>gt({entry:Q},RY(Q,x,w,E,A,m,j,p,O))),xe=ge.map(Q=>{var{entry:X,line:le}=Q;return b.createElement(Sr,{className:"recharts-cartesian-axis-tick",key:"tick-".concat(X.value,"-").concat(X.coordinate,"-").concat(X.tickCoord)},l&&b.createElement("line",Li({},pe,le,{className:Xe("recharts-cartesian-axis-tick-line",od(l,"className"))})))}),q=ge.map((Q,X)=>{var{entry:le,tick:Ee}=Q,R=gt(gt(gt(gt({textAnchor:I,verticalAnchor:re},ae),{},{stroke:"none",fill:o},W),Ee),{},{index:X,payload:le,visibleTicksCount:k.length,tickFormatter:s,padding:d},h);return b.createElement(Sr,Li({className:"recharts-cartesian-axis-tick-label",key:"tick-label-".concat(le.value,"-").concat(le.coordinate,"-").concat(le.tickCoord)},u5(T,le,X)),r&&b.createElement(LY,{option:r,tickProps:R,value:"".concat(typeof s=="function"?s(le.value,X):le.value).concat(f||"")}))});return b.createElement("g",{className:"recharts-cartesian-axis-ticks recharts-".concat(P,"-ticks")},q.length>0&&b.createElement(ya,{zIndex:ln.label},b.createElement("g",{className:"recharts-cartesian-axis-tick-labels recharts-".concat(P,"-tick-labels"),ref:t},q)),xe.length>0&&b.createElement("g",{className:"recharts-cartesian-axis-tick-lines recharts-".concat(P,"-tick-lines")},xe))}),UY=b.forwardRef((e,t)=>{var{axisLine:n,width:r,height:l,className:o,hide:s,ticks:f,axisType:d}=e,h=CY(e,NY),[m,p]=b.useState(""),[x,w]=b.useState(""),E=b.useRef(null);b.useImperativeHandle(t,()=>({getCalculatedWidth:()=>{var j;return OY({ticks:E.current,label:(j=e.labelRef)===null||j===void 0?void 0:j.current,labelGapWithTick:5,tickSize:e.tickSize,tickMargin:e.tickMargin})}}));var A=b.useCallback(j=>{if(j){var O=j.getElementsByClassName("recharts-cartesian-axis-tick-value");E.current=O;var _=O[0];if(_){var C=window.getComputedStyle(_),D=C.fontSize,T=C.letterSpacing;(D!==m||T!==x)&&(p(D),w(T))}}},[m,x]);return s||r!=null&&r<=0||l!=null&&l<=0?null:b.createElement(ya,{zIndex:e.zIndex},b.createElement(Sr,{className:Xe("recharts-cartesian-axis",o)},b.createElement(kY,{x:e.x,y:e.y,width:r,height:l,orientation:e.orientation,mirror:e.mirror,axisLine:n,otherSvgProps:cr(e)}),b.createElement(BY,{ref:A,axisType:d,events:h,fontSize:m,getTicksConfig:e,height:e.height,letterSpacing:x,mirror:e.mirror,orientation:e.orientation,padding:e.padding,stroke:e.stroke,tick:e.tick,tickFormatter:e.tickFormatter,tickLine:e.tickLine,tickMargin:e.tickMargin,tickSize:e.tickSize,tickTextProps:e.tickTextProps,ticks:f,unit:e.unit,width:e.width,x:e.x,y:e.y}),b.createElement(j$,{x:e.x,y:e.y,width:e.width,height:e.height,lowerWidth:e.width,upperWidth:e.width},b.createElement(k$,{label:e.label,labelRef:e.labelRef}),e.children)))}),I0=b.forwardRef((e,t)=>{var n=Ln(e,ea);return b.createElement(UY,Li({},n,{ref:t}))});I0.displayName="CartesianAxis";var IY=["x1","y1","x2","y2","key"],qY=["offset"],HY=["xAxisId","yAxisId"],$Y=["xAxisId","yAxisId"];function dA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function tn(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?dA(Object(n),!0).forEach(function(r){KY(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):dA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function KY(e,t,n){return(t=YY(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function YY(e){var t=GY(e,"string");return typeof t=="symbol"?t:t+""}function GY(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Ai(){return Ai=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Ai.apply(null,arguments)}function Ff(e,t){if(e==null)return{};var n,r,l=VY(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function VY(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var XY=e=>{var{fill:t}=e;if(!t||t==="none")return null;var{fillOpacity:n,x:r,y:l,width:o,height:s,ry:f}=e;return b.createElement("rect",{x:r,y:l,ry:f,width:o,height:s,stroke:"none",fill:t,fillOpacity:n,className:"recharts-cartesian-grid-bg"})};function ZT(e){var{option:t,lineItemProps:n}=e,r;if(b.isValidElement(t))r=b.cloneElement(t,n);else if(typeof t=="function")r=t(n);else{var l,{x1:o,y1:s,x2:f,y2:d,key:h}=n,m=Ff(n,IY),p=(l=cr(m))!==null&&l!==void 0?l:{},{offset:x}=p,w=Ff(p,qY);r=b.createElement("line",Ai({},w,{x1:o,y1:s,x2:f,y2:d,fill:"none",key:h}))}return r}function FY(e){var{x:t,width:n,horizontal:r=!0,horizontalPoints:l}=e;if(!r||!l||!l.length)return null;var{xAxisId:o,yAxisId:s}=e,f=Ff(e,HY),d=l.map((h,m)=>{var p=tn(tn({},f),{},{x1:t,y1:h,x2:t+n,y2:h,key:"line-".concat(m),index:m});return b.createElement(ZT,{key:"line-".concat(m),option:r,lineItemProps:p})});return b.createElement("g",{className:"recharts-cartesian-grid-horizontal"},d)}function WY(e){var{y:t,height:n,vertical:r=!0,verticalPoints:l}=e;if(!r||!l||!l.length)return null;var{xAxisId:o,yAxisId:s}=e,f=Ff(e,$Y),d=l.map((h,m)=>{var p=tn(tn({},f),{},{x1:h,y1:t,x2:h,y2:t+n,key:"line-".concat(m),index:m});return b.createElement(ZT,{option:r,lineItemProps:p,key:"line-".concat(m)})});return b.createElement("g",{className:"recharts-cartesian-grid-vertical"},d)}function ZY(e){var{horizontalFill:t,fillOpacity:n,x:r,y:l,width:o,height:s,horizontalPoints:f,horizontal:d=!0}=e;if(!d||!t||!t.length||f==null)return null;var h=f.map(p=>Math.round(p+l-l)).sort((p,x)=>p-x);l!==h[0]&&h.unshift(0);var m=h.map((p,x)=>{var w=!h[x+1],E=w?l+s-p:h[x+1]-p;if(E<=0)return null;var A=x%t.length;return b.createElement("rect",{key:"react-".concat(x),y:p,x:r,height:E,width:o,stroke:"none",fill:t[A],fillOpacity:n,className:"recharts-cartesian-grid-bg"})});return b.createElement("g",{className:"recharts-cartesian-gridstripes-horizontal"},m)}function QY(e){var{vertical:t=!0,verticalFill:n,fillOpacity:r,x:l,y:o,width:s,height:f,verticalPoints:d}=e;if(!t||!n||!n.length)return null;var h=d.map(p=>Math.round(p+l-l)).sort((p,x)=>p-x);l!==h[0]&&h.unshift(0);var m=h.map((p,x)=>{var w=!h[x+1],E=w?l+s-p:h[x+1]-p;if(E<=0)return null;var A=x%n.length;return b.createElement("rect",{key:"react-".concat(x),x:p,y:o,width:E,height:f,stroke:"none",fill:n[A],fillOpacity:r,className:"recharts-cartesian-grid-bg"})});return b.createElement("g",{className:"recharts-cartesian-gridstripes-vertical"},m)}var JY=(e,t)=>{var{xAxis:n,width:r,height:l,offset:o}=e;return UN(U0(tn(tn(tn({},ea),n),{},{ticks:IN(n),viewBox:{x:0,y:0,width:r,height:l}})),o.left,o.left+o.width,t)},eG=(e,t)=>{var{yAxis:n,width:r,height:l,offset:o}=e;return UN(U0(tn(tn(tn({},ea),n),{},{ticks:IN(n),viewBox:{x:0,y:0,width:r,height:l}})),o.top,o.top+o.height,t)},tG={horizontal:!0,vertical:!0,horizontalPoints:[],verticalPoints:[],stroke:"#ccc",fill:"none",verticalFill:[],horizontalFill:[],xAxisId:0,yAxisId:0,syncWithTicks:!1,zIndex:ln.grid};function q0(e){var t=WN(),n=ZN(),r=FN(),l=tn(tn({},Ln(e,tG)),{},{x:de(e.x)?e.x:r.left,y:de(e.y)?e.y:r.top,width:de(e.width)?e.width:r.width,height:de(e.height)?e.height:r.height}),{xAxisId:o,yAxisId:s,x:f,y:d,width:h,height:m,syncWithTicks:p,horizontalValues:x,verticalValues:w}=l,E=bn(),A=ve(re=>w2(re,"xAxis",o,E)),j=ve(re=>w2(re,"yAxis",s,E));if(!Er(h)||!Er(m)||!de(f)||!de(d))return null;var O=l.verticalCoordinatesGenerator||JY,_=l.horizontalCoordinatesGenerator||eG,{horizontalPoints:C,verticalPoints:D}=l;if((!C||!C.length)&&typeof _=="function"){var T=x&&x.length,P=_({yAxis:j?tn(tn({},j),{},{ticks:T?x:j.ticks}):void 0,width:t??h,height:n??m,offset:r},T?!0:p);Ef(Array.isArray(P),"horizontalCoordinatesGenerator should return Array but instead it returned [".concat(typeof P,"]")),Array.isArray(P)&&(C=P)}if((!D||!D.length)&&typeof O=="function"){var k=w&&w.length,I=O({xAxis:A?tn(tn({},A),{},{ticks:k?w:A.ticks}):void 0,width:t??h,height:n??m,offset:r},k?!0:p);Ef(Array.isArray(I),"verticalCoordinatesGenerator should return Array but instead it returned [".concat(typeof I,"]")),Array.isArray(I)&&(D=I)}return b.createElement(ya,{zIndex:l.zIndex},b.createElement("g",{className:"recharts-cartesian-grid"},b.createElement(XY,{fill:l.fill,fillOpacity:l.fillOpacity,x:l.x,y:l.y,width:l.width,height:l.height,ry:l.ry}),b.createElement(ZY,Ai({},l,{horizontalPoints:C})),b.createElement(QY,Ai({},l,{verticalPoints:D})),b.createElement(FY,Ai({},l,{offset:r,horizontalPoints:C,xAxis:A,yAxis:j})),b.createElement(WY,Ai({},l,{offset:r,verticalPoints:D,xAxis:A,yAxis:j}))))}q0.displayName="CartesianGrid";function nG(e){var t=ad(e),n=3,r=2;if(t!=null){var{r:l,strokeWidth:o}=t,s=Number(l),f=Number(o);return(Number.isNaN(s)||s<0)&&(s=n),(Number.isNaN(f)||f<0)&&(f=r),{r:s,strokeWidth:f}}return{r:n,strokeWidth:r}}var QT=(e,t,n,r)=>Q_(e,"xAxis",t,r),JT=(e,t,n,r)=>Z_(e,"xAxis",t,r),eM=(e,t,n,r)=>Q_(e,"yAxis",n,r),tM=(e,t,n,r)=>Z_(e,"yAxis",n,r),rG=K([Ze,QT,eM,JT,tM],(e,t,n,r,l)=>ca(e,"xAxis")?jf(t,r,!1):jf(n,l,!1)),aG=(e,t,n,r,l)=>l,nM=K([x_,aG],(e,t)=>e.filter(n=>n.type==="area").find(n=>n.id===t)),iG=(e,t,n,r,l)=>{var o,s=nM(e,t,n,r,l);if(s!=null){var f=Ze(e),d=ca(f,"xAxis"),h;if(d?h=Iy(e,"yAxis",n,r):h=Iy(e,"xAxis",t,r),h!=null){var{stackId:m}=s,p=h0(s);if(!(m==null||p==null)){var x=(o=h[m])===null||o===void 0?void 0:o.stackedData;return x?.find(w=>w.key===p)}}}},lG=K([Ze,QT,eM,JT,tM,iG,a0,rG,nM,C9],(e,t,n,r,l,o,s,f,d,h)=>{var{chartData:m,dataStartIndex:p,dataEndIndex:x}=s;if(!(d==null||e!=="horizontal"&&e!=="vertical"||t==null||n==null||r==null||l==null||r.length===0||l.length===0||f==null)){var{data:w}=d,E;if(w&&w.length>0?E=w:E=m?.slice(p,x+1),E!=null)return AG({layout:e,xAxis:t,yAxis:n,xAxisTicks:r,yAxisTicks:l,dataStartIndex:p,areaSettings:d,stackedData:o,displayedData:E,chartBaseValue:h,bandSize:f})}}),oG=["id"],uG=["activeDot","animationBegin","animationDuration","animationEasing","connectNulls","dot","fill","fillOpacity","hide","isAnimationActive","legendType","stroke","xAxisId","yAxisId"];function ki(){return ki=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},ki.apply(null,arguments)}function rM(e,t){if(e==null)return{};var n,r,l=sG(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function sG(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function hA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Ll(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?hA(Object(n),!0).forEach(function(r){cG(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):hA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function cG(e,t,n){return(t=fG(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function fG(e){var t=dG(e,"string");return typeof t=="symbol"?t:t+""}function dG(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Wf(e,t){return e&&e!=="none"?e:t}var hG=e=>{var{dataKey:t,name:n,stroke:r,fill:l,legendType:o,hide:s}=e;return[{inactive:s,dataKey:t,type:o,color:Wf(r,l),value:qN(n,t),payload:e}]},mG=b.memo(e=>{var{dataKey:t,data:n,stroke:r,strokeWidth:l,fill:o,name:s,hide:f,unit:d,tooltipType:h}=e,m={dataDefinedOnItem:n,positions:void 0,settings:{stroke:r,strokeWidth:l,fill:o,dataKey:t,nameKey:void 0,name:qN(s,t),hide:f,type:h,color:Wf(r,o),unit:d}};return b.createElement(W$,{tooltipEntrySettings:m})});function vG(e){var{clipPathId:t,points:n,props:r}=e,{needClip:l,dot:o,dataKey:s}=r,f=cr(r);return b.createElement(yK,{points:n,dot:o,className:"recharts-area-dots",dotClassName:"recharts-area-dot",dataKey:s,baseProps:f,needClip:l,clipPathId:t})}function pG(e){var{showLabels:t,children:n,points:r}=e,l=r.map(o=>{var s,f,d={x:(s=o.x)!==null&&s!==void 0?s:0,y:(f=o.y)!==null&&f!==void 0?f:0,width:0,lowerWidth:0,upperWidth:0,height:0};return Ll(Ll({},d),{},{value:o.value,payload:o.payload,parentViewBox:void 0,viewBox:d,fill:void 0})});return b.createElement(K$,{value:t?l:void 0},n)}function mA(e){var{points:t,baseLine:n,needClip:r,clipPathId:l,props:o}=e,{layout:s,type:f,stroke:d,connectNulls:h,isRange:m}=o,{id:p}=o,x=rM(o,oG),w=cr(x),E=Qn(x);return b.createElement(b.Fragment,null,t?.length>1&&b.createElement(Sr,{clipPath:r?"url(#clipPath-".concat(l,")"):void 0},b.createElement(nf,ki({},E,{id:p,points:t,connectNulls:h,type:f,baseLine:n,layout:s,stroke:"none",className:"recharts-area-area"})),d!=="none"&&b.createElement(nf,ki({},w,{className:"recharts-area-curve",layout:s,type:f,connectNulls:h,fill:"none",points:t})),d!=="none"&&m&&b.createElement(nf,ki({},w,{className:"recharts-area-curve",layout:s,type:f,connectNulls:h,fill:"none",points:n}))),b.createElement(vG,{points:t,props:x,clipPathId:l}))}function yG(e){var{alpha:t,baseLine:n,points:r,strokeWidth:l}=e,o=r[0].y,s=r[r.length-1].y;if(!ct(o)||!ct(s))return null;var f=t*Math.abs(o-s),d=Math.max(...r.map(h=>h.x||0));return de(n)?d=Math.max(n,d):n&&Array.isArray(n)&&n.length&&(d=Math.max(...n.map(h=>h.x||0),d)),de(d)?b.createElement("rect",{x:0,y:o<s?o:o-f,width:d+(l?parseInt("".concat(l),10):1),height:Math.floor(f)}):null}function gG(e){var{alpha:t,baseLine:n,points:r,strokeWidth:l}=e,o=r[0].x,s=r[r.length-1].x;if(!ct(o)||!ct(s))return null;var f=t*Math.abs(o-s),d=Math.max(...r.map(h=>h.y||0));return de(n)?d=Math.max(n,d):n&&Array.isArray(n)&&n.length&&(d=Math.max(...n.map(h=>h.y||0),d)),de(d)?b.createElement("rect",{x:o<s?o:o-f,y:0,width:f,height:Math.floor(d+(l?parseInt("".concat(l),10):1))}):null}function bG(e){var{alpha:t,layout:n,points:r,baseLine:l,strokeWidth:o}=e;return n==="vertical"?b.createElement(yG,{alpha:t,points:r,baseLine:l,strokeWidth:o}):b.createElement(gG,{alpha:t,points:r,baseLine:l,strokeWidth:o})}function xG(e){var{needClip:t,clipPathId:n,props:r,previousPointsRef:l,previousBaselineRef:o}=e,{points:s,baseLine:f,isAnimationActive:d,animationBegin:h,animationDuration:m,animationEasing:p,onAnimationStart:x,onAnimationEnd:w}=r,E=b.useMemo(()=>({points:s,baseLine:f}),[s,f]),A=cC(E,"recharts-area-"),j=J6(),[O,_]=b.useState(!1),C=!O,D=b.useCallback(()=>{typeof w=="function"&&w(),_(!1)},[w]),T=b.useCallback(()=>{typeof x=="function"&&x(),_(!0)},[x]);if(j==null)return null;var P=l.current,k=o.current;return b.createElement(pG,{showLabels:C,points:s},r.children,b.createElement(sC,{animationId:A,begin:h,duration:m,isActive:d,easing:p,onAnimationEnd:D,onAnimationStart:T,key:A},I=>{if(P){var re=P.length/s.length,ae=I===1?s:s.map((J,pe)=>{var ge=Math.floor(pe*re);if(P[ge]){var xe=P[ge];return Ll(Ll({},J),{},{x:gr(xe.x,J.x,I),y:gr(xe.y,J.y,I)})}return J}),W;return de(f)?W=gr(k,f,I):Zt(f)||fr(f)?W=gr(k,0,I):W=f.map((J,pe)=>{var ge=Math.floor(pe*re);if(Array.isArray(k)&&k[ge]){var xe=k[ge];return Ll(Ll({},J),{},{x:gr(xe.x,J.x,I),y:gr(xe.y,J.y,I)})}return J}),I>0&&(l.current=ae,o.current=W),b.createElement(mA,{points:ae,baseLine:W,needClip:t,clipPathId:n,props:r})}return I>0&&(l.current=s,o.current=f),b.createElement(Sr,null,d&&b.createElement("defs",null,b.createElement("clipPath",{id:"animationClipPath-".concat(n)},b.createElement(bG,{alpha:I,points:s,baseLine:f,layout:j,strokeWidth:r.strokeWidth}))),b.createElement(Sr,{clipPath:"url(#animationClipPath-".concat(n,")")},b.createElement(mA,{points:s,baseLine:f,needClip:t,clipPathId:n,props:r})))}),b.createElement(V$,{label:r.label}))}function wG(e){var{needClip:t,clipPathId:n,props:r}=e,l=b.useRef(null),o=b.useRef();return b.createElement(xG,{needClip:t,clipPathId:n,props:r,previousPointsRef:l,previousBaselineRef:o})}class SG extends b.PureComponent{render(){var{hide:t,dot:n,points:r,className:l,top:o,left:s,needClip:f,xAxisId:d,yAxisId:h,width:m,height:p,id:x,baseLine:w,zIndex:E}=this.props;if(t)return null;var A=Xe("recharts-area",l),j=x,{r:O,strokeWidth:_}=nG(n),C=HT(n),D=O*2+_,T=f?"url(#clipPath-".concat(C?"":"dots-").concat(j,")"):void 0;return b.createElement(ya,{zIndex:E},b.createElement(Sr,{className:A},f&&b.createElement("defs",null,b.createElement(UK,{clipPathId:j,xAxisId:d,yAxisId:h}),!C&&b.createElement("clipPath",{id:"clipPath-dots-".concat(j)},b.createElement("rect",{x:s-D/2,y:o-D/2,width:m+D,height:p+D}))),b.createElement(wG,{needClip:f,clipPathId:j,props:this.props})),b.createElement(aA,{points:r,mainColor:Wf(this.props.stroke,this.props.fill),itemDataKey:this.props.dataKey,activeDot:this.props.activeDot,clipPath:T}),this.props.isRange&&Array.isArray(w)&&b.createElement(aA,{points:w,mainColor:Wf(this.props.stroke,this.props.fill),itemDataKey:this.props.dataKey,activeDot:this.props.activeDot,clipPath:T}))}}var aM={activeDot:!0,animationBegin:0,animationDuration:1500,animationEasing:"ease",connectNulls:!1,dot:!1,fill:"#3182bd",fillOpacity:.6,hide:!1,isAnimationActive:"auto",legendType:"line",stroke:"#3182bd",strokeWidth:1,type:"linear",label:!1,xAxisId:0,yAxisId:0,zIndex:ln.area};function jG(e){var t,n=Ln(e,aM),{activeDot:r,animationBegin:l,animationDuration:o,animationEasing:s,connectNulls:f,dot:d,fill:h,fillOpacity:m,hide:p,isAnimationActive:x,legendType:w,stroke:E,xAxisId:A,yAxisId:j}=n,O=rM(n,uG),_=Xu(),C=bT(),{needClip:D}=VT(A,j),T=bn(),{points:P,isRange:k,baseLine:I}=(t=ve(ge=>lG(ge,A,j,T,e.id)))!==null&&t!==void 0?t:{},re=z0();if(_!=="horizontal"&&_!=="vertical"||re==null||C!=="AreaChart"&&C!=="ComposedChart")return null;var{height:ae,width:W,x:J,y:pe}=re;return!P||!P.length?null:b.createElement(SG,ki({},O,{activeDot:r,animationBegin:l,animationDuration:o,animationEasing:s,baseLine:I,connectNulls:f,dot:d,fill:h,fillOpacity:m,height:ae,hide:p,layout:_,isAnimationActive:x==="auto"?!ro.isSsr:x,isRange:k,legendType:w,needClip:D,points:P,stroke:E,width:W,left:J,top:pe,xAxisId:A,yAxisId:j}))}var EG=(e,t,n,r,l)=>{var o=n??t;if(de(o))return o;var s=e==="horizontal"?l:r,f=s.scale.domain();if(s.type==="number"){var d=Math.max(f[0],f[1]),h=Math.min(f[0],f[1]);return o==="dataMin"?h:o==="dataMax"||d<0?d:Math.max(Math.min(f[0],f[1]),0)}return o==="dataMin"?f[0]:o==="dataMax"?f[1]:f[0]};function AG(e){var{areaSettings:{connectNulls:t,baseValue:n,dataKey:r},stackedData:l,layout:o,chartBaseValue:s,xAxis:f,yAxis:d,displayedData:h,dataStartIndex:m,xAxisTicks:p,yAxisTicks:x,bandSize:w}=e,E=l&&l.length,A=EG(o,s,n,f,d),j=o==="horizontal",O=!1,_=h.map((D,T)=>{var P;E?P=l[m+T]:(P=nn(D,r),Array.isArray(P)?O=!0:P=[A,P]);var k=P[1]==null||E&&!t&&nn(D,r)==null;return j?{x:Kj({axis:f,ticks:p,bandSize:w,entry:D,index:T}),y:k?null:d.scale(P[1]),value:P,payload:D}:{x:k?null:f.scale(P[1]),y:Kj({axis:d,ticks:x,bandSize:w,entry:D,index:T}),value:P,payload:D}}),C;return E||O?C=_.map(D=>{var T=Array.isArray(D.value)?D.value[0]:null;return j?{x:D.x,y:T!=null&&D.y!=null?d.scale(T):null,payload:D.payload}:{x:T!=null?f.scale(T):null,y:D.y,payload:D.payload}}):C=j?d.scale(A):f.scale(A),{points:_,baseLine:C,isRange:O}}function OG(e){var t=Ln(e,aM),n=bn();return b.createElement(tK,{id:t.id,type:"area"},r=>b.createElement(b.Fragment,null,b.createElement(Z$,{legendPayload:hG(t)}),b.createElement(mG,{dataKey:t.dataKey,data:t.data,stroke:t.stroke,strokeWidth:t.strokeWidth,fill:t.fill,name:t.name,hide:t.hide,unit:t.unit,tooltipType:t.tooltipType}),b.createElement(uK,{type:"area",id:r,data:t.data,dataKey:t.dataKey,xAxisId:t.xAxisId,yAxisId:t.yAxisId,zAxisId:0,stackId:p6(t.stackId),hide:t.hide,barSize:void 0,baseValue:t.baseValue,isPanorama:n,connectNulls:t.connectNulls}),b.createElement(jG,ki({},t,{id:r}))))}var H0=b.memo(OG,L0);H0.displayName="Area";var NG=["domain","range"],CG=["domain","range"];function vA(e,t){if(e==null)return{};var n,r,l=_G(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function _G(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function pA(e,t){return e===t?!0:Array.isArray(e)&&e.length===2&&Array.isArray(t)&&t.length===2?e[0]===t[0]&&e[1]===t[1]:!1}function iM(e,t){if(e===t)return!0;var{domain:n,range:r}=e,l=vA(e,NG),{domain:o,range:s}=t,f=vA(t,CG);return!pA(n,o)||!pA(r,s)?!1:L0(l,f)}var TG=["dangerouslySetInnerHTML","ticks"],MG=["id"];function Xy(){return Xy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Xy.apply(null,arguments)}function yA(e,t){if(e==null)return{};var n,r,l=DG(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function DG(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function kG(e){var t=Bt(),n=b.useRef(null);return b.useLayoutEffect(()=>{n.current===null?t(SK(e)):n.current!==e&&t(jK({prev:n.current,next:e})),n.current=e},[e,t]),b.useLayoutEffect(()=>()=>{n.current&&(t(EK(n.current)),n.current=null)},[t]),null}var RG=e=>{var{xAxisId:t,className:n}=e,r=ve($N),l=bn(),o="xAxis",s=ve(j=>so(j,o,t,l)),f=ve(j=>W_(j,o,t,l)),d=ve(j=>x7(j,t)),h=ve(j=>O7(j,t)),m=ve(j=>p_(j,t));if(d==null||h==null||m==null)return null;var{dangerouslySetInnerHTML:p,ticks:x}=e,w=yA(e,TG),{id:E}=m,A=yA(m,MG);return b.createElement(I0,Xy({},w,A,{scale:s,x:h.x,y:h.y,width:d.width,height:d.height,className:Xe("recharts-".concat(o," ").concat(o),n),viewBox:r,ticks:f,axisType:o}))},PG={allowDataOverflow:kt.allowDataOverflow,allowDecimals:kt.allowDecimals,allowDuplicatedCategory:kt.allowDuplicatedCategory,angle:kt.angle,axisLine:ea.axisLine,height:kt.height,hide:!1,includeHidden:kt.includeHidden,interval:kt.interval,minTickGap:kt.minTickGap,mirror:kt.mirror,orientation:kt.orientation,padding:kt.padding,reversed:kt.reversed,scale:kt.scale,tick:kt.tick,tickCount:kt.tickCount,tickLine:ea.tickLine,tickSize:ea.tickSize,type:kt.type,xAxisId:0},zG=e=>{var t=Ln(e,PG);return b.createElement(b.Fragment,null,b.createElement(kG,{allowDataOverflow:t.allowDataOverflow,allowDecimals:t.allowDecimals,allowDuplicatedCategory:t.allowDuplicatedCategory,angle:t.angle,dataKey:t.dataKey,domain:t.domain,height:t.height,hide:t.hide,id:t.xAxisId,includeHidden:t.includeHidden,interval:t.interval,minTickGap:t.minTickGap,mirror:t.mirror,name:t.name,orientation:t.orientation,padding:t.padding,reversed:t.reversed,scale:t.scale,tick:t.tick,tickCount:t.tickCount,tickFormatter:t.tickFormatter,ticks:t.ticks,type:t.type,unit:t.unit}),b.createElement(RG,t))},$0=b.memo(zG,iM);$0.displayName="XAxis";var LG=["dangerouslySetInnerHTML","ticks"],BG=["id"];function Fy(){return Fy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Fy.apply(null,arguments)}function gA(e,t){if(e==null)return{};var n,r,l=UG(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function UG(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function IG(e){var t=Bt(),n=b.useRef(null);return b.useLayoutEffect(()=>{n.current===null?t(AK(e)):n.current!==e&&t(OK({prev:n.current,next:e})),n.current=e},[e,t]),b.useLayoutEffect(()=>()=>{n.current&&(t(NK(n.current)),n.current=null)},[t]),null}var qG=e=>{var{yAxisId:t,className:n,width:r,label:l}=e,o=b.useRef(null),s=b.useRef(null),f=ve($N),d=bn(),h=Bt(),m="yAxis",p=ve(T=>so(T,m,t,d)),x=ve(T=>_7(T,t)),w=ve(T=>C7(T,t)),E=ve(T=>W_(T,m,t,d)),A=ve(T=>y_(T,t));if(b.useLayoutEffect(()=>{if(!(r!=="auto"||!x||P0(l)||b.isValidElement(l)||A==null)){var T=o.current;if(T){var P=T.getCalculatedWidth();Math.round(x.width)!==Math.round(P)&&h(CK({id:t,width:P}))}}},[E,x,h,l,t,r,A]),x==null||w==null||A==null)return null;var{dangerouslySetInnerHTML:j,ticks:O}=e,_=gA(e,LG),{id:C}=A,D=gA(A,BG);return b.createElement(I0,Fy({},_,D,{ref:o,labelRef:s,scale:p,x:w.x,y:w.y,tickTextProps:r==="auto"?{width:void 0}:{width:r},width:x.width,height:x.height,className:Xe("recharts-".concat(m," ").concat(m),n),viewBox:f,ticks:E,axisType:m}))},HG={allowDataOverflow:Rt.allowDataOverflow,allowDecimals:Rt.allowDecimals,allowDuplicatedCategory:Rt.allowDuplicatedCategory,angle:Rt.angle,axisLine:ea.axisLine,hide:!1,includeHidden:Rt.includeHidden,interval:Rt.interval,minTickGap:Rt.minTickGap,mirror:Rt.mirror,orientation:Rt.orientation,padding:Rt.padding,reversed:Rt.reversed,scale:Rt.scale,tick:Rt.tick,tickCount:Rt.tickCount,tickLine:ea.tickLine,tickSize:ea.tickSize,type:Rt.type,width:Rt.width,yAxisId:0},$G=e=>{var t=Ln(e,HG);return b.createElement(b.Fragment,null,b.createElement(IG,{interval:t.interval,id:t.yAxisId,scale:t.scale,type:t.type,domain:t.domain,allowDataOverflow:t.allowDataOverflow,dataKey:t.dataKey,allowDuplicatedCategory:t.allowDuplicatedCategory,allowDecimals:t.allowDecimals,tickCount:t.tickCount,padding:t.padding,includeHidden:t.includeHidden,reversed:t.reversed,ticks:t.ticks,width:t.width,orientation:t.orientation,mirror:t.mirror,hide:t.hide,unit:t.unit,name:t.name,angle:t.angle,minTickGap:t.minTickGap,tick:t.tick,tickFormatter:t.tickFormatter}),b.createElement(qG,t))},K0=b.memo($G,iM);K0.displayName="YAxis";var KG=(e,t)=>t,Y0=K([KG,Ze,m_,_t,hT,pa,$q,Qt],Wq),G0=e=>{var t=e.currentTarget.getBoundingClientRect(),n=t.width/e.currentTarget.offsetWidth,r=t.height/e.currentTarget.offsetHeight;return{chartX:Math.round((e.clientX-t.left)/n),chartY:Math.round((e.clientY-t.top)/r)}},lM=Jn("mouseClick"),oM=Gu();oM.startListening({actionCreator:lM,effect:(e,t)=>{var n=e.payload,r=Y0(t.getState(),G0(n));r?.activeIndex!=null&&t.dispatch(H7({activeIndex:r.activeIndex,activeDataKey:void 0,activeCoordinate:r.activeCoordinate}))}});var Wy=Jn("mouseMove"),uM=Gu(),Yc=null;uM.startListening({actionCreator:Wy,effect:(e,t)=>{var n=e.payload;Yc!==null&&cancelAnimationFrame(Yc);var r=G0(n);Yc=requestAnimationFrame(()=>{var l=t.getState(),o=E0(l,l.tooltip.settings.shared);if(o==="axis"){var s=Y0(l,r);s?.activeIndex!=null?t.dispatch(iT({activeIndex:s.activeIndex,activeDataKey:void 0,activeCoordinate:s.activeCoordinate})):t.dispatch(aT())}Yc=null})}});var bA={accessibilityLayer:!0,barCategoryGap:"10%",barGap:4,barSize:void 0,className:void 0,maxBarSize:void 0,stackOffset:"none",syncId:void 0,syncMethod:"index",baseValue:void 0,reverseStackOrder:!1},sM=gn({name:"rootProps",initialState:bA,reducers:{updateOptions:(e,t)=>{var n;e.accessibilityLayer=t.payload.accessibilityLayer,e.barCategoryGap=t.payload.barCategoryGap,e.barGap=(n=t.payload.barGap)!==null&&n!==void 0?n:bA.barGap,e.barSize=t.payload.barSize,e.maxBarSize=t.payload.maxBarSize,e.stackOffset=t.payload.stackOffset,e.syncId=t.payload.syncId,e.syncMethod=t.payload.syncMethod,e.className=t.payload.className,e.baseValue=t.payload.baseValue,e.reverseStackOrder=t.payload.reverseStackOrder}}}),YG=sM.reducer,{updateOptions:GG}=sM.actions,cM=gn({name:"polarOptions",initialState:null,reducers:{updatePolarOptions:(e,t)=>t.payload}}),{updatePolarOptions:bW}=cM.actions,VG=cM.reducer,fM=Jn("keyDown"),dM=Jn("focus"),V0=Gu();V0.startListening({actionCreator:fM,effect:(e,t)=>{var n=t.getState(),r=n.rootProps.accessibilityLayer!==!1;if(r){var{keyboardInteraction:l}=n.tooltip,o=e.payload;if(!(o!=="ArrowRight"&&o!=="ArrowLeft"&&o!=="Enter")){var s=A0(l,fo(n),ns(n),os(n)),f=s==null?-1:Number(s);if(!(!Number.isFinite(f)||f<0)){var d=pa(n);if(o==="Enter"){var h=Yf(n,"axis","hover",String(l.index));t.dispatch(Hy({active:!l.active,activeIndex:l.index,activeDataKey:l.dataKey,activeCoordinate:h}));return}var m=k7(n),p=m==="left-to-right"?1:-1,x=o==="ArrowRight"?1:-1,w=f+x*p;if(!(d==null||w>=d.length||w<0)){var E=Yf(n,"axis","hover",String(w));t.dispatch(Hy({active:!0,activeIndex:w.toString(),activeDataKey:void 0,activeCoordinate:E}))}}}}}});V0.startListening({actionCreator:dM,effect:(e,t)=>{var n=t.getState(),r=n.rootProps.accessibilityLayer!==!1;if(r){var{keyboardInteraction:l}=n.tooltip;if(!l.active&&l.index==null){var o="0",s=Yf(n,"axis","hover",String(o));t.dispatch(Hy({activeDataKey:void 0,active:!0,activeIndex:o,activeCoordinate:s}))}}}});var Xn=Jn("externalEvent"),hM=Gu(),$p=new Map;hM.startListening({actionCreator:Xn,effect:(e,t)=>{var{handler:n,reactEvent:r}=e.payload;if(n!=null){r.persist();var l=r.type,o=$p.get(l);o!==void 0&&cancelAnimationFrame(o);var s=requestAnimationFrame(()=>{try{var f=t.getState(),d={activeCoordinate:Cq(f),activeDataKey:Oq(f),activeIndex:zu(f),activeLabel:pT(f),activeTooltipIndex:zu(f),isTooltipActive:_q(f)};n(d,r)}finally{$p.delete(l)}});$p.set(l,s)}}});var XG=K([co],e=>e.tooltipItemPayloads),FG=K([XG,is,(e,t,n)=>t,(e,t,n)=>n],(e,t,n,r)=>{var l=e.find(f=>f.settings.dataKey===r);if(l!=null){var{positions:o}=l;if(o!=null){var s=t(o,n);return s}}}),mM=Jn("touchMove"),vM=Gu();vM.startListening({actionCreator:mM,effect:(e,t)=>{var n=e.payload;if(!(n.touches==null||n.touches.length===0)){var r=t.getState(),l=E0(r,r.tooltip.settings.shared);if(l==="axis"){var o=Y0(r,G0({clientX:n.touches[0].clientX,clientY:n.touches[0].clientY,currentTarget:n.currentTarget}));o?.activeIndex!=null&&t.dispatch(iT({activeIndex:o.activeIndex,activeDataKey:void 0,activeCoordinate:o.activeCoordinate}))}else if(l==="item"){var s,f=n.touches[0];if(document.elementFromPoint==null)return;var d=document.elementFromPoint(f.clientX,f.clientY);if(!d||!d.getAttribute)return;var h=d.getAttribute(j6),m=(s=d.getAttribute(E6))!==null&&s!==void 0?s:void 0,p=FG(t.getState(),h,m);t.dispatch(q7({activeDataKey:m,activeIndex:h,activeCoordinate:p}))}}}});var WG=cN({brush:oY,cartesianAxis:_K,chartData:CH,errorBars:BK,graphicalItems:lK,layout:l6,legend:p8,options:jH,polarAxis:F$,polarOptions:VG,referenceElements:mY,rootProps:YG,tooltip:$7,zIndex:cH}),ZG=function(t){return ML({reducer:WG,preloadedState:t,middleware:n=>{var r;return n({serializableCheck:!1,immutableCheck:!["commonjs","es6","production"].includes((r="es6")!==null&&r!==void 0?r:"")}).concat([oM.middleware,uM.middleware,V0.middleware,hM.middleware,vM.middleware])},enhancers:n=>{var r=n;return typeof n=="function"&&(r=n()),r.concat(AN({type:"raf"}))},devTools:ro.devToolsEnabled})};function QG(e){var{preloadedState:t,children:n,reduxStoreName:r}=e,l=bn(),o=b.useRef(null);if(l)return n;o.current==null&&(o.current=ZG(t));var s=jg;return b.createElement(rY,{context:s,store:o.current},n)}function JG(e){var{layout:t,margin:n}=e,r=Bt(),l=bn();return b.useEffect(()=>{l||(r(r6(t)),r(n6(n)))},[r,l,t,n]),null}var eV=b.memo(JG,L0);function tV(e){var t=Bt();return b.useEffect(()=>{t(GG(e))},[t,e]),null}function xA(e){var{zIndex:t,isPanorama:n}=e,r=n?"recharts-zindex-panorama-":"recharts-zindex-",l=$T("".concat(r).concat(t)),o=Bt();return b.useLayoutEffect(()=>(o(uH({zIndex:t,elementId:l,isPanorama:n})),()=>{o(sH({zIndex:t,isPanorama:n}))}),[o,t,l,n]),b.createElement("g",{tabIndex:-1,id:l})}function wA(e){var{children:t,isPanorama:n}=e,r=ve(Qq);if(!r||r.length===0)return t;var l=r.filter(s=>s<0),o=r.filter(s=>s>0);return b.createElement(b.Fragment,null,l.map(s=>b.createElement(xA,{key:s,zIndex:s,isPanorama:n})),t,o.map(s=>b.createElement(xA,{key:s,zIndex:s,isPanorama:n})))}var nV=["children"];function rV(e,t){if(e==null)return{};var n,r,l=aV(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function aV(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function Zf(){return Zf=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Zf.apply(null,arguments)}var iV={width:"100%",height:"100%",display:"block"},lV=b.forwardRef((e,t)=>{var n=WN(),r=ZN(),l=iC();if(!Er(n)||!Er(r))return null;var{children:o,otherAttributes:s,title:f,desc:d}=e,h,m;return s!=null&&(typeof s.tabIndex=="number"?h=s.tabIndex:h=l?0:void 0,typeof s.role=="string"?m=s.role:m=l?"application":void 0),b.createElement(MO,Zf({},s,{title:f,desc:d,role:m,tabIndex:h,width:n,height:r,style:iV,ref:t}),o)}),oV=e=>{var{children:t}=e,n=ve(xd);if(!n)return null;var{width:r,height:l,y:o,x:s}=n;return b.createElement(MO,{width:r,height:l,x:s,y:o},t)},SA=b.forwardRef((e,t)=>{var{children:n}=e,r=rV(e,nV),l=bn();return l?b.createElement(oV,null,b.createElement(wA,{isPanorama:!0},n)):b.createElement(lV,Zf({ref:t},r),b.createElement(wA,{isPanorama:!1},n))});function uV(){var e=Bt(),[t,n]=b.useState(null),r=ve(S6);return b.useEffect(()=>{if(t!=null){var l=t.getBoundingClientRect(),o=l.width/t.offsetWidth;ct(o)&&o!==r&&e(i6(o))}},[t,e,r]),n}function jA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function sV(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?jA(Object(n),!0).forEach(function(r){cV(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):jA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function cV(e,t,n){return(t=fV(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function fV(e){var t=dV(e,"string");return typeof t=="symbol"?t:t+""}function dV(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Bi(){return Bi=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Bi.apply(null,arguments)}var hV=()=>(LH(),null);function Qf(e){if(typeof e=="number")return e;if(typeof e=="string"){var t=parseFloat(e);if(!Number.isNaN(t))return t}return 0}var mV=b.forwardRef((e,t)=>{var n,r,l=b.useRef(null),[o,s]=b.useState({containerWidth:Qf((n=e.style)===null||n===void 0?void 0:n.width),containerHeight:Qf((r=e.style)===null||r===void 0?void 0:r.height)}),f=b.useCallback((h,m)=>{s(p=>{var x=Math.round(h),w=Math.round(m);return p.containerWidth===x&&p.containerHeight===w?p:{containerWidth:x,containerHeight:w}})},[]),d=b.useCallback(h=>{if(typeof t=="function"&&t(h),h!=null&&typeof ResizeObserver<"u"){var{width:m,height:p}=h.getBoundingClientRect();f(m,p);var x=E=>{var{width:A,height:j}=E[0].contentRect;f(A,j)},w=new ResizeObserver(x);w.observe(h),l.current=w}},[t,f]);return b.useEffect(()=>()=>{var h=l.current;h?.disconnect()},[f]),b.createElement(b.Fragment,null,b.createElement(Sd,{width:o.containerWidth,height:o.containerHeight}),b.createElement("div",Bi({ref:d},e)))}),vV=b.forwardRef((e,t)=>{var{width:n,height:r}=e,[l,o]=b.useState({containerWidth:Qf(n),containerHeight:Qf(r)}),s=b.useCallback((d,h)=>{o(m=>{var p=Math.round(d),x=Math.round(h);return m.containerWidth===p&&m.containerHeight===x?m:{containerWidth:p,containerHeight:x}})},[]),f=b.useCallback(d=>{if(typeof t=="function"&&t(d),d!=null){var{width:h,height:m}=d.getBoundingClientRect();s(h,m)}},[t,s]);return b.createElement(b.Fragment,null,b.createElement(Sd,{width:l.containerWidth,height:l.containerHeight}),b.createElement("div",Bi({ref:f},e)))}),pV=b.forwardRef((e,t)=>{var{width:n,height:r}=e;return b.createElement(b.Fragment,null,b.createElement(Sd,{width:n,height:r}),b.createElement("div",Bi({ref:t},e)))}),yV=b.forwardRef((e,t)=>{var{width:n,height:r}=e;return na(n)||na(r)?b.createElement(vV,Bi({},e,{ref:t})):b.createElement(pV,Bi({},e,{ref:t}))});function gV(e){return e===!0?mV:yV}var bV=b.forwardRef((e,t)=>{var{children:n,className:r,height:l,onClick:o,onContextMenu:s,onDoubleClick:f,onMouseDown:d,onMouseEnter:h,onMouseLeave:m,onMouseMove:p,onMouseUp:x,onTouchEnd:w,onTouchMove:E,onTouchStart:A,style:j,width:O,responsive:_,dispatchTouchEvents:C=!0}=e,D=b.useRef(null),T=Bt(),[P,k]=b.useState(null),[I,re]=b.useState(null),ae=uV(),W=Dg(),J=W?.width>0?W.width:O,pe=W?.height>0?W.height:l,ge=b.useCallback(V=>{ae(V),typeof t=="function"&&t(V),k(V),re(V),V!=null&&(D.current=V)},[ae,t,k,re]),xe=b.useCallback(V=>{T(lM(V)),T(Xn({handler:o,reactEvent:V}))},[T,o]),q=b.useCallback(V=>{T(Wy(V)),T(Xn({handler:h,reactEvent:V}))},[T,h]),Q=b.useCallback(V=>{T(aT()),T(Xn({handler:m,reactEvent:V}))},[T,m]),X=b.useCallback(V=>{T(Wy(V)),T(Xn({handler:p,reactEvent:V}))},[T,p]),le=b.useCallback(()=>{T(dM())},[T]),Ee=b.useCallback(V=>{T(fM(V.key))},[T]),R=b.useCallback(V=>{T(Xn({handler:s,reactEvent:V}))},[T,s]),Y=b.useCallback(V=>{T(Xn({handler:f,reactEvent:V}))},[T,f]),ee=b.useCallback(V=>{T(Xn({handler:d,reactEvent:V}))},[T,d]),ne=b.useCallback(V=>{T(Xn({handler:x,reactEvent:V}))},[T,x]),he=b.useCallback(V=>{T(Xn({handler:A,reactEvent:V}))},[T,A]),we=b.useCallback(V=>{C&&T(mM(V)),T(Xn({handler:E,reactEvent:V}))},[T,C,E]),ue=b.useCallback(V=>{T(Xn({handler:w,reactEvent:V}))},[T,w]),lt=gV(_);return b.createElement(ET.Provider,{value:P},b.createElement(kz.Provider,{value:I},b.createElement(lt,{width:J??j?.width,height:pe??j?.height,className:Xe("recharts-wrapper",r),style:sV({position:"relative",cursor:"default",width:J,height:pe},j),onClick:xe,onContextMenu:R,onDoubleClick:Y,onFocus:le,onKeyDown:Ee,onMouseDown:ee,onMouseEnter:q,onMouseLeave:Q,onMouseMove:X,onMouseUp:ne,onTouchEnd:ue,onTouchMove:we,onTouchStart:he,ref:ge},b.createElement(hV,null),n)))}),xV=["width","height","responsive","children","className","style","compact","title","desc"];function wV(e,t){if(e==null)return{};var n,r,l=SV(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function SV(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var jV=b.forwardRef((e,t)=>{var{width:n,height:r,responsive:l,children:o,className:s,style:f,compact:d,title:h,desc:m}=e,p=wV(e,xV),x=cr(p);return d?b.createElement(b.Fragment,null,b.createElement(Sd,{width:n,height:r}),b.createElement(SA,{otherAttributes:x,title:h,desc:m},o)):b.createElement(bV,{className:s,style:f,width:n,height:r,responsive:l??!1,onClick:e.onClick,onMouseLeave:e.onMouseLeave,onMouseEnter:e.onMouseEnter,onMouseMove:e.onMouseMove,onMouseDown:e.onMouseDown,onMouseUp:e.onMouseUp,onContextMenu:e.onContextMenu,onDoubleClick:e.onDoubleClick,onTouchStart:e.onTouchStart,onTouchMove:e.onTouchMove,onTouchEnd:e.onTouchEnd},b.createElement(SA,{otherAttributes:x,title:h,desc:m,ref:t},b.createElement(pY,null,o)))});function Zy(){return Zy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Zy.apply(null,arguments)}var EV={top:5,right:5,bottom:5,left:5},AV={accessibilityLayer:!0,barCategoryGap:"10%",barGap:4,layout:"horizontal",margin:EV,responsive:!1,reverseStackOrder:!1,stackOffset:"none",syncMethod:"index"},OV=b.forwardRef(function(t,n){var r,l=Ln(t.categoricalChartProps,AV),{chartName:o,defaultTooltipEventType:s,validateTooltipEventTypes:f,tooltipPayloadSearcher:d,categoricalChartProps:h}=t,m={chartName:o,defaultTooltipEventType:s,validateTooltipEventTypes:f,tooltipPayloadSearcher:d,eventEmitter:void 0};return b.createElement(QG,{preloadedState:{options:m},reduxStoreName:(r=h.id)!==null&&r!==void 0?r:o},b.createElement(lY,{chartData:h.data}),b.createElement(eV,{layout:l.layout,margin:l.margin}),b.createElement(tV,{baseValue:l.baseValue,accessibilityLayer:l.accessibilityLayer,barCategoryGap:l.barCategoryGap,maxBarSize:l.maxBarSize,stackOffset:l.stackOffset,barGap:l.barGap,barSize:l.barSize,syncId:l.syncId,syncMethod:l.syncMethod,className:l.className,reverseStackOrder:l.reverseStackOrder}),b.createElement(jV,Zy({},l,{ref:n})))}),NV=["axis"],pM=b.forwardRef((e,t)=>b.createElement(OV,{chartName:"AreaChart",defaultTooltipEventType:"axis",validateTooltipEventTypes:NV,tooltipPayloadSearcher:wH,categoricalChartProps:e,ref:t}));function ho({className:e}){const t=sa(),n=l=>t.pathname===l,r=[{icon:q4,label:"Panel",path:"/dashboard"},{icon:wO,label:"Kartlarım",path:"/cards"},{icon:dg,label:"Yatırımlar",path:"/invest"},{icon:xO,label:"Kredi Başvurusu",path:"/credit-application"},{icon:U4,label:"Geçmiş",path:"/history"},{icon:J4,label:"Ayarlar",path:"/settings"}];return y.jsxs("div",{className:Fe("pb-12 min-h-screen border-r bg-card",e),children:[y.jsx("div",{className:"space-y-4 py-4",children:y.jsxs("div",{className:"px-3 py-2",children:[y.jsx(kn,{to:"/",children:y.jsx("h2",{className:"mb-2 px-4 text-2xl font-bold tracking-tight text-primary flex items-center gap-2 cursor-pointer hover:opacity-80 transition-opacity",children:"DinoBank 🏠"})}),y.jsx("div",{className:"space-y-1",children:r.map(l=>y.jsx(kn,{to:l.path,children:y.jsxs(it,{variant:n(l.path)?"secondary":"ghost",className:"w-full justify-start",children:[y.jsx(l.icon,{className:"mr-2 h-4 w-4"}),l.label]})},l.path))})]})}),y.jsx("div",{className:"px-3 py-2 mt-auto border-t",children:y.jsxs("div",{className:"flex items-center gap-3 px-4 py-4",children:[y.jsx("div",{className:"h-9 w-9 rounded-full bg-primary/20 flex items-center justify-center text-primary",children:y.jsx(jO,{className:"h-5 w-5"})}),y.jsxs("div",{className:"flex-1 overflow-hidden",children:[y.jsx("p",{className:"text-sm font-medium leading-none truncate",children:"T-Rex Admin"}),y.jsx("p",{className:"text-xs text-muted-foreground truncate",children:"admin@dinobank.com"})]}),y.jsx(it,{variant:"ghost",size:"icon",className:"text-destructive hover:text-destructive",onClick:()=>{localStorage.removeItem("token"),window.location.href="/login"},children:y.jsx(Y4,{className:"h-4 w-4"})})]})})]})}function Fa(e,t,{checkForDefaultPrevented:n=!0}={}){return function(l){if(e?.(l),n===!1||!l.defaultPrevented)return t?.(l)}}function CV(e,t){const n=b.createContext(t),r=o=>{const{children:s,...f}=o,d=b.useMemo(()=>f,Object.values(f));return y.jsx(n.Provider,{value:d,children:s})};r.displayName=e+"Provider";function l(o){const s=b.useContext(n);if(s)return s;if(t!==void 0)return t;throw new Error(`\`${o}\` must be used within \`${e}\``)}return[r,l]}function _V(e,t=[]){let n=[];function r(o,s){const f=b.createContext(s),d=n.length;n=[...n,s];const h=p=>{const{scope:x,children:w,...E}=p,A=x?.[e]?.[d]||f,j=b.useMemo(()=>E,Object.values(E));return y.jsx(A.Provider,{value:j,children:w})};h.displayName=o+"Provider";function m(p,x){const w=x?.[e]?.[d]||f,E=b.useContext(w);if(E)return E;if(s!==void 0)return s;throw new Error(`\`${p}\` must be used within \`${o}\``)}return[h,m]}const l=()=>{const o=n.map(s=>b.createContext(s));return function(f){const d=f?.[e]||o;return b.useMemo(()=>({[`__scope${e}`]:{...f,[e]:d}}),[f,d])}};return l.scopeName=e,[r,TV(l,...t)]}function TV(...e){const t=e[0];if(e.length===1)return t;const n=()=>{const r=e.map(l=>({useScope:l(),scopeName:l.scopeName}));return function(o){const s=r.reduce((f,{useScope:d,scopeName:h})=>{const p=d(o)[`__scope${h}`];return{...f,...p}},{});return b.useMemo(()=>({[`__scope${t.scopeName}`]:s}),[s])}};return n.scopeName=t.scopeName,n}var Bu=globalThis?.document?b.useLayoutEffect:()=>{},MV=ed[" useId ".trim().toString()]||(()=>{}),DV=0;function Kp(e){const[t,n]=b.useState(MV());return Bu(()=>{n(r=>r??String(DV++))},[e]),e||(t?`radix-${t}`:"")}var kV=ed[" useInsertionEffect ".trim().toString()]||Bu;function RV({prop:e,defaultProp:t,onChange:n=()=>{},caller:r}){const[l,o,s]=PV({defaultProp:t,onChange:n}),f=e!==void 0,d=f?e:l;{const m=b.useRef(e!==void 0);b.useEffect(()=>{const p=m.current;p!==f&&console.warn(`${r} is changing from ${p?"controlled":"uncontrolled"} to ${f?"controlled":"uncontrolled"}. Components should not switch from controlled to uncontrolled (or vice versa). Decide between using a controlled or uncontrolled value for the lifetime of the component.`),m.current=f},[f,r])}const h=b.useCallback(m=>{if(f){const p=zV(m)?m(e):m;p!==e&&s.current?.(p)}else o(m)},[f,e,o,s]);return[d,h]}function PV({defaultProp:e,onChange:t}){const[n,r]=b.useState(e),l=b.useRef(n),o=b.useRef(t);return kV(()=>{o.current=t},[t]),b.useEffect(()=>{l.current!==n&&(o.current?.(n),l.current=n)},[n,l]),[n,r,o]}function zV(e){return typeof e=="function"}function LV(e){const t=BV(e),n=b.forwardRef((r,l)=>{const{children:o,...s}=r,f=b.Children.toArray(o),d=f.find(IV);if(d){const h=d.props.children,m=f.map(p=>p===d?b.Children.count(h)>1?b.Children.only(null):b.isValidElement(h)?h.props.children:null:p);return y.jsx(t,{...s,ref:l,children:b.isValidElement(h)?b.cloneElement(h,void 0,m):null})}return y.jsx(t,{...s,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}function BV(e){const t=b.forwardRef((n,r)=>{const{children:l,...o}=n;if(b.isValidElement(l)){const s=HV(l),f=qV(o,l.props);return l.type!==b.Fragment&&(f.ref=r?Ql(r,s):s),b.cloneElement(l,f)}return b.Children.count(l)>1?b.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var UV=Symbol("radix.slottable");function IV(e){return b.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===UV}function qV(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function HV(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}var $V=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],yM=$V.reduce((e,t)=>{const n=LV(`Primitive.${t}`),r=b.forwardRef((l,o)=>{const{asChild:s,...f}=l,d=s?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),y.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{});function KV(e,t){e&&rd.flushSync(()=>e.dispatchEvent(t))}function Uu(e){const t=b.useRef(e);return b.useEffect(()=>{t.current=e}),b.useMemo(()=>(...n)=>t.current?.(...n),[])}function YV(e,t=globalThis?.document){const n=Uu(e);b.useEffect(()=>{const r=l=>{l.key==="Escape"&&n(l)};return t.addEventListener("keydown",r,{capture:!0}),()=>t.removeEventListener("keydown",r,{capture:!0})},[n,t])}var GV="DismissableLayer",Qy="dismissableLayer.update",VV="dismissableLayer.pointerDownOutside",XV="dismissableLayer.focusOutside",EA,gM=b.createContext({layers:new Set,layersWithOutsidePointerEventsDisabled:new Set,branches:new Set}),bM=b.forwardRef((e,t)=>{const{disableOutsidePointerEvents:n=!1,onEscapeKeyDown:r,onPointerDownOutside:l,onFocusOutside:o,onInteractOutside:s,onDismiss:f,...d}=e,h=b.useContext(gM),[m,p]=b.useState(null),x=m?.ownerDocument??globalThis?.document,[,w]=b.useState({}),E=Ii(t,k=>p(k)),A=Array.from(h.layers),[j]=[...h.layersWithOutsidePointerEventsDisabled].slice(-1),O=A.indexOf(j),_=m?A.indexOf(m):-1,C=h.layersWithOutsidePointerEventsDisabled.size>0,D=_>=O,T=ZV(k=>{const I=k.target,re=[...h.branches].some(ae=>ae.contains(I));!D||re||(l?.(k),s?.(k),k.defaultPrevented||f?.())},x),P=QV(k=>{const I=k.target;[...h.branches].some(ae=>ae.contains(I))||(o?.(k),s?.(k),k.defaultPrevented||f?.())},x);return YV(k=>{_===h.layers.size-1&&(r?.(k),!k.defaultPrevented&&f&&(k.preventDefault(),f()))},x),b.useEffect(()=>{if(m)return n&&(h.layersWithOutsidePointerEventsDisabled.size===0&&(EA=x.body.style.pointerEvents,x.body.style.pointerEvents="none"),h.layersWithOutsidePointerEventsDisabled.add(m)),h.layers.add(m),AA(),()=>{n&&h.layersWithOutsidePointerEventsDisabled.size===1&&(x.body.style.pointerEvents=EA)}},[m,x,n,h]),b.useEffect(()=>()=>{m&&(h.layers.delete(m),h.layersWithOutsidePointerEventsDisabled.delete(m),AA())},[m,h]),b.useEffect(()=>{const k=()=>w({});return document.addEventListener(Qy,k),()=>document.removeEventListener(Qy,k)},[]),y.jsx(yM.div,{...d,ref:E,style:{pointerEvents:C?D?"auto":"none":void 0,...e.style},onFocusCapture:Fa(e.onFocusCapture,P.onFocusCapture),onBlurCapture:Fa(e.onBlurCapture,P.onBlurCapture),onPointerDownCapture:Fa(e.onPointerDownCapture,T.onPointerDownCapture)})});bM.displayName=GV;var FV="DismissableLayerBranch",WV=b.forwardRef((e,t)=>{const n=b.useContext(gM),r=b.useRef(null),l=Ii(t,r);return b.useEffect(()=>{const o=r.current;if(o)return n.branches.add(o),()=>{n.branches.delete(o)}},[n.branches]),y.jsx(yM.div,{...e,ref:l})});WV.displayName=FV;function ZV(e,t=globalThis?.document){const n=Uu(e),r=b.useRef(!1),l=b.useRef(()=>{});return b.useEffect(()=>{const o=f=>{if(f.target&&!r.current){let d=function(){xM(VV,n,h,{discrete:!0})};const h={originalEvent:f};f.pointerType==="touch"?(t.removeEventListener("click",l.current),l.current=d,t.addEventListener("click",l.current,{once:!0})):d()}else t.removeEventListener("click",l.current);r.current=!1},s=window.setTimeout(()=>{t.addEventListener("pointerdown",o)},0);return()=>{window.clearTimeout(s),t.removeEventListener("pointerdown",o),t.removeEventListener("click",l.current)}},[t,n]),{onPointerDownCapture:()=>r.current=!0}}function QV(e,t=globalThis?.document){const n=Uu(e),r=b.useRef(!1);return b.useEffect(()=>{const l=o=>{o.target&&!r.current&&xM(XV,n,{originalEvent:o},{discrete:!1})};return t.addEventListener("focusin",l),()=>t.removeEventListener("focusin",l)},[t,n]),{onFocusCapture:()=>r.current=!0,onBlurCapture:()=>r.current=!1}}function AA(){const e=new CustomEvent(Qy);document.dispatchEvent(e)}function xM(e,t,n,{discrete:r}){const l=n.originalEvent.target,o=new CustomEvent(e,{bubbles:!1,cancelable:!0,detail:n});t&&l.addEventListener(e,t,{once:!0}),r?KV(l,o):l.dispatchEvent(o)}function JV(e){const t=eX(e),n=b.forwardRef((r,l)=>{const{children:o,...s}=r,f=b.Children.toArray(o),d=f.find(nX);if(d){const h=d.props.children,m=f.map(p=>p===d?b.Children.count(h)>1?b.Children.only(null):b.isValidElement(h)?h.props.children:null:p);return y.jsx(t,{...s,ref:l,children:b.isValidElement(h)?b.cloneElement(h,void 0,m):null})}return y.jsx(t,{...s,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}function eX(e){const t=b.forwardRef((n,r)=>{const{children:l,...o}=n;if(b.isValidElement(l)){const s=aX(l),f=rX(o,l.props);return l.type!==b.Fragment&&(f.ref=r?Ql(r,s):s),b.cloneElement(l,f)}return b.Children.count(l)>1?b.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var tX=Symbol("radix.slottable");function nX(e){return b.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===tX}function rX(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function aX(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}var iX=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],lX=iX.reduce((e,t)=>{const n=JV(`Primitive.${t}`),r=b.forwardRef((l,o)=>{const{asChild:s,...f}=l,d=s?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),y.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{}),Yp="focusScope.autoFocusOnMount",Gp="focusScope.autoFocusOnUnmount",OA={bubbles:!1,cancelable:!0},oX="FocusScope",wM=b.forwardRef((e,t)=>{const{loop:n=!1,trapped:r=!1,onMountAutoFocus:l,onUnmountAutoFocus:o,...s}=e,[f,d]=b.useState(null),h=Uu(l),m=Uu(o),p=b.useRef(null),x=Ii(t,A=>d(A)),w=b.useRef({paused:!1,pause(){this.paused=!0},resume(){this.paused=!1}}).current;b.useEffect(()=>{if(r){let A=function(C){if(w.paused||!f)return;const D=C.target;f.contains(D)?p.current=D:Ka(p.current,{select:!0})},j=function(C){if(w.paused||!f)return;const D=C.relatedTarget;D!==null&&(f.contains(D)||Ka(p.current,{select:!0}))},O=function(C){if(document.activeElement===document.body)for(const T of C)T.removedNodes.length>0&&Ka(f)};document.addEventListener("focusin",A),document.addEventListener("focusout",j);const _=new MutationObserver(O);return f&&_.observe(f,{childList:!0,subtree:!0}),()=>{document.removeEventListener("focusin",A),document.removeEventListener("focusout",j),_.disconnect()}}},[r,f,w.paused]),b.useEffect(()=>{if(f){CA.add(w);const A=document.activeElement;if(!f.contains(A)){const O=new CustomEvent(Yp,OA);f.addEventListener(Yp,h),f.dispatchEvent(O),O.defaultPrevented||(uX(hX(SM(f)),{select:!0}),document.activeElement===A&&Ka(f))}return()=>{f.removeEventListener(Yp,h),setTimeout(()=>{const O=new CustomEvent(Gp,OA);f.addEventListener(Gp,m),f.dispatchEvent(O),O.defaultPrevented||Ka(A??document.body,{select:!0}),f.removeEventListener(Gp,m),CA.remove(w)},0)}}},[f,h,m,w]);const E=b.useCallback(A=>{if(!n&&!r||w.paused)return;const j=A.key==="Tab"&&!A.altKey&&!A.ctrlKey&&!A.metaKey,O=document.activeElement;if(j&&O){const _=A.currentTarget,[C,D]=sX(_);C&&D?!A.shiftKey&&O===D?(A.preventDefault(),n&&Ka(C,{select:!0})):A.shiftKey&&O===C&&(A.preventDefault(),n&&Ka(D,{select:!0})):O===_&&A.preventDefault()}},[n,r,w.paused]);return y.jsx(lX.div,{tabIndex:-1,...s,ref:x,onKeyDown:E})});wM.displayName=oX;function uX(e,{select:t=!1}={}){const n=document.activeElement;for(const r of e)if(Ka(r,{select:t}),document.activeElement!==n)return}function sX(e){const t=SM(e),n=NA(t,e),r=NA(t.reverse(),e);return[n,r]}function SM(e){const t=[],n=document.createTreeWalker(e,NodeFilter.SHOW_ELEMENT,{acceptNode:r=>{const l=r.tagName==="INPUT"&&r.type==="hidden";return r.disabled||r.hidden||l?NodeFilter.FILTER_SKIP:r.tabIndex>=0?NodeFilter.FILTER_ACCEPT:NodeFilter.FILTER_SKIP}});for(;n.nextNode();)t.push(n.currentNode);return t}function NA(e,t){for(const n of e)if(!cX(n,{upTo:t}))return n}function cX(e,{upTo:t}){if(getComputedStyle(e).visibility==="hidden")return!0;for(;e;){if(t!==void 0&&e===t)return!1;if(getComputedStyle(e).display==="none")return!0;e=e.parentElement}return!1}function fX(e){return e instanceof HTMLInputElement&&"select"in e}function Ka(e,{select:t=!1}={}){if(e&&e.focus){const n=document.activeElement;e.focus({preventScroll:!0}),e!==n&&fX(e)&&t&&e.select()}}var CA=dX();function dX(){let e=[];return{add(t){const n=e[0];t!==n&&n?.pause(),e=_A(e,t),e.unshift(t)},remove(t){e=_A(e,t),e[0]?.resume()}}}function _A(e,t){const n=[...e],r=n.indexOf(t);return r!==-1&&n.splice(r,1),n}function hX(e){return e.filter(t=>t.tagName!=="A")}function mX(e){const t=vX(e),n=b.forwardRef((r,l)=>{const{children:o,...s}=r,f=b.Children.toArray(o),d=f.find(yX);if(d){const h=d.props.children,m=f.map(p=>p===d?b.Children.count(h)>1?b.Children.only(null):b.isValidElement(h)?h.props.children:null:p);return y.jsx(t,{...s,ref:l,children:b.isValidElement(h)?b.cloneElement(h,void 0,m):null})}return y.jsx(t,{...s,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}function vX(e){const t=b.forwardRef((n,r)=>{const{children:l,...o}=n;if(b.isValidElement(l)){const s=bX(l),f=gX(o,l.props);return l.type!==b.Fragment&&(f.ref=r?Ql(r,s):s),b.cloneElement(l,f)}return b.Children.count(l)>1?b.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var pX=Symbol("radix.slottable");function yX(e){return b.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===pX}function gX(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function bX(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}var xX=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],wX=xX.reduce((e,t)=>{const n=mX(`Primitive.${t}`),r=b.forwardRef((l,o)=>{const{asChild:s,...f}=l,d=s?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),y.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{}),SX="Portal",jM=b.forwardRef((e,t)=>{const{container:n,...r}=e,[l,o]=b.useState(!1);Bu(()=>o(!0),[]);const s=n||l&&globalThis?.document?.body;return s?u3.createPortal(y.jsx(wX.div,{...r,ref:t}),s):null});jM.displayName=SX;function jX(e,t){return b.useReducer((n,r)=>t[n][r]??n,e)}var qd=e=>{const{present:t,children:n}=e,r=EX(t),l=typeof n=="function"?n({present:r.isPresent}):b.Children.only(n),o=Ii(r.ref,AX(l));return typeof n=="function"||r.isPresent?b.cloneElement(l,{ref:o}):null};qd.displayName="Presence";function EX(e){const[t,n]=b.useState(),r=b.useRef(null),l=b.useRef(e),o=b.useRef("none"),s=e?"mounted":"unmounted",[f,d]=jX(s,{mounted:{UNMOUNT:"unmounted",ANIMATION_OUT:"unmountSuspended"},unmountSuspended:{MOUNT:"mounted",ANIMATION_END:"unmounted"},unmounted:{MOUNT:"mounted"}});return b.useEffect(()=>{const h=Gc(r.current);o.current=f==="mounted"?h:"none"},[f]),Bu(()=>{const h=r.current,m=l.current;if(m!==e){const x=o.current,w=Gc(h);e?d("MOUNT"):w==="none"||h?.display==="none"?d("UNMOUNT"):d(m&&x!==w?"ANIMATION_OUT":"UNMOUNT"),l.current=e}},[e,d]),Bu(()=>{if(t){let h;const m=t.ownerDocument.defaultView??window,p=w=>{const A=Gc(r.current).includes(CSS.escape(w.animationName));if(w.target===t&&A&&(d("ANIMATION_END"),!l.current)){const j=t.style.animationFillMode;t.style.animationFillMode="forwards",h=m.setTimeout(()=>{t.style.animationFillMode==="forwards"&&(t.style.animationFillMode=j)})}},x=w=>{w.target===t&&(o.current=Gc(r.current))};return t.addEventListener("animationstart",x),t.addEventListener("animationcancel",p),t.addEventListener("animationend",p),()=>{m.clearTimeout(h),t.removeEventListener("animationstart",x),t.removeEventListener("animationcancel",p),t.removeEventListener("animationend",p)}}else d("ANIMATION_END")},[t,d]),{isPresent:["mounted","unmountSuspended"].includes(f),ref:b.useCallback(h=>{r.current=h?getComputedStyle(h):null,n(h)},[])}}function Gc(e){return e?.animationName||"none"}function AX(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}function EM(e){const t=OX(e),n=b.forwardRef((r,l)=>{const{children:o,...s}=r,f=b.Children.toArray(o),d=f.find(CX);if(d){const h=d.props.children,m=f.map(p=>p===d?b.Children.count(h)>1?b.Children.only(null):b.isValidElement(h)?h.props.children:null:p);return y.jsx(t,{...s,ref:l,children:b.isValidElement(h)?b.cloneElement(h,void 0,m):null})}return y.jsx(t,{...s,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}function OX(e){const t=b.forwardRef((n,r)=>{const{children:l,...o}=n;if(b.isValidElement(l)){const s=TX(l),f=_X(o,l.props);return l.type!==b.Fragment&&(f.ref=r?Ql(r,s):s),b.cloneElement(l,f)}return b.Children.count(l)>1?b.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var NX=Symbol("radix.slottable");function CX(e){return b.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===NX}function _X(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function TX(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}var MX=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],ss=MX.reduce((e,t)=>{const n=EM(`Primitive.${t}`),r=b.forwardRef((l,o)=>{const{asChild:s,...f}=l,d=s?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),y.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{}),Vp=0;function DX(){b.useEffect(()=>{const e=document.querySelectorAll("[data-radix-focus-guard]");return document.body.insertAdjacentElement("afterbegin",e[0]??TA()),document.body.insertAdjacentElement("beforeend",e[1]??TA()),Vp++,()=>{Vp===1&&document.querySelectorAll("[data-radix-focus-guard]").forEach(t=>t.remove()),Vp--}},[])}function TA(){const e=document.createElement("span");return e.setAttribute("data-radix-focus-guard",""),e.tabIndex=0,e.style.outline="none",e.style.opacity="0",e.style.position="fixed",e.style.pointerEvents="none",e}var br=function(){return br=Object.assign||function(t){for(var n,r=1,l=arguments.length;r<l;r++){n=arguments[r];for(var o in n)Object.prototype.hasOwnProperty.call(n,o)&&(t[o]=n[o])}return t},br.apply(this,arguments)};function AM(e,t){var n={};for(var r in e)Object.prototype.hasOwnProperty.call(e,r)&&t.indexOf(r)<0&&(n[r]=e[r]);if(e!=null&&typeof Object.getOwnPropertySymbols=="function")for(var l=0,r=Object.getOwnPropertySymbols(e);l<r.length;l++)t.indexOf(r[l])<0&&Object.prototype.propertyIsEnumerable.call(e,r[l])&&(n[r[l]]=e[r[l]]);return n}function kX(e,t,n){if(n||arguments.length===2)for(var r=0,l=t.length,o;r<l;r++)(o||!(r in t))&&(o||(o=Array.prototype.slice.call(t,0,r)),o[r]=t[r]);return e.concat(o||Array.prototype.slice.call(t))}var lf="right-scroll-bar-position",of="width-before-scroll-bar",RX="with-scroll-bars-hidden",PX="--removed-body-scroll-bar-size";function Xp(e,t){return typeof e=="function"?e(t):e&&(e.current=t),e}function zX(e,t){var n=b.useState(function(){return{value:e,callback:t,facade:{get current(){return n.value},set current(r){var l=n.value;l!==r&&(n.value=r,n.callback(r,l))}}}})[0];return n.callback=t,n.facade}var LX=typeof window<"u"?b.useLayoutEffect:b.useEffect,MA=new WeakMap;function BX(e,t){var n=zX(null,function(r){return e.forEach(function(l){return Xp(l,r)})});return LX(function(){var r=MA.get(n);if(r){var l=new Set(r),o=new Set(e),s=n.current;l.forEach(function(f){o.has(f)||Xp(f,null)}),o.forEach(function(f){l.has(f)||Xp(f,s)})}MA.set(n,e)},[e]),n}function UX(e){return e}function IX(e,t){t===void 0&&(t=UX);var n=[],r=!1,l={read:function(){if(r)throw new Error("Sidecar: could not `read` from an `assigned` medium. `read` could be used only with `useMedium`.");return n.length?n[n.length-1]:e},useMedium:function(o){var s=t(o,r);return n.push(s),function(){n=n.filter(function(f){return f!==s})}},assignSyncMedium:function(o){for(r=!0;n.length;){var s=n;n=[],s.forEach(o)}n={push:function(f){return o(f)},filter:function(){return n}}},assignMedium:function(o){r=!0;var s=[];if(n.length){var f=n;n=[],f.forEach(o),s=n}var d=function(){var m=s;s=[],m.forEach(o)},h=function(){return Promise.resolve().then(d)};h(),n={push:function(m){s.push(m),h()},filter:function(m){return s=s.filter(m),n}}}};return l}function qX(e){e===void 0&&(e={});var t=IX(null);return t.options=br({async:!0,ssr:!1},e),t}var OM=function(e){var t=e.sideCar,n=AM(e,["sideCar"]);if(!t)throw new Error("Sidecar: please provide `sideCar` property to import the right car");var r=t.read();if(!r)throw new Error("Sidecar medium not found");return b.createElement(r,br({},n))};OM.isSideCarExport=!0;function HX(e,t){return e.useMedium(t),OM}var NM=qX(),Fp=function(){},Hd=b.forwardRef(function(e,t){var n=b.useRef(null),r=b.useState({onScrollCapture:Fp,onWheelCapture:Fp,onTouchMoveCapture:Fp}),l=r[0],o=r[1],s=e.forwardProps,f=e.children,d=e.className,h=e.removeScrollBar,m=e.enabled,p=e.shards,x=e.sideCar,w=e.noRelative,E=e.noIsolation,A=e.inert,j=e.allowPinchZoom,O=e.as,_=O===void 0?"div":O,C=e.gapMode,D=AM(e,["forwardProps","children","className","removeScrollBar","enabled","shards","sideCar","noRelative","noIsolation","inert","allowPinchZoom","as","gapMode"]),T=x,P=BX([n,t]),k=br(br({},D),l);return b.createElement(b.Fragment,null,m&&b.createElement(T,{sideCar:NM,removeScrollBar:h,shards:p,noRelative:w,noIsolation:E,inert:A,setCallbacks:o,allowPinchZoom:!!j,lockRef:n,gapMode:C}),s?b.cloneElement(b.Children.only(f),br(br({},k),{ref:P})):b.createElement(_,br({},k,{className:d,ref:P}),f))});Hd.defaultProps={enabled:!0,removeScrollBar:!0,inert:!1};Hd.classNames={fullWidth:of,zeroRight:lf};var $X=function(){if(typeof __webpack_nonce__<"u")return __webpack_nonce__};function KX(){if(!document)return null;var e=document.createElement("style");e.type="text/css";var t=$X();return t&&e.setAttribute("nonce",t),e}function YX(e,t){e.styleSheet?e.styleSheet.cssText=t:e.appendChild(document.createTextNode(t))}function GX(e){var t=document.head||document.getElementsByTagName("head")[0];t.appendChild(e)}var VX=function(){var e=0,t=null;return{add:function(n){e==0&&(t=KX())&&(YX(t,n),GX(t)),e++},remove:function(){e--,!e&&t&&(t.parentNode&&t.parentNode.removeChild(t),t=null)}}},XX=function(){var e=VX();return function(t,n){b.useEffect(function(){return e.add(t),function(){e.remove()}},[t&&n])}},CM=function(){var e=XX(),t=function(n){var r=n.styles,l=n.dynamic;return e(r,l),null};return t},FX={left:0,top:0,right:0,gap:0},Wp=function(e){return parseInt(e||"",10)||0},WX=function(e){var t=window.getComputedStyle(document.body),n=t[e==="padding"?"paddingLeft":"marginLeft"],r=t[e==="padding"?"paddingTop":"marginTop"],l=t[e==="padding"?"paddingRight":"marginRight"];return[Wp(n),Wp(r),Wp(l)]},ZX=function(e){if(e===void 0&&(e="margin"),typeof window>"u")return FX;var t=WX(e),n=document.documentElement.clientWidth,r=window.innerWidth;return{left:t[0],top:t[1],right:t[2],gap:Math.max(0,r-n+t[2]-t[0])}},QX=CM(),Il="data-scroll-locked",JX=function(e,t,n,r){var l=e.left,o=e.top,s=e.right,f=e.gap;return n===void 0&&(n="margin"),`
-  .`.concat(RX,` {
-   overflow: hidden `).concat(r,`;
-   padding-right: `).concat(f,"px ").concat(r,`;
-  }
-  body[`).concat(Il,`] {
-    overflow: hidden `).concat(r,`;
-    overscroll-behavior: contain;
-    `).concat([t&&"position: relative ".concat(r,";"),n==="margin"&&`
-    padding-left: `.concat(l,`px;
-    padding-top: `).concat(o,`px;
-    padding-right: `).concat(s,`px;
-    margin-left:0;
-    margin-top:0;
-    margin-right: `).concat(f,"px ").concat(r,`;
-    `),n==="padding"&&"padding-right: ".concat(f,"px ").concat(r,";")].filter(Boolean).join(""),`
-  }
-  
-  .`).concat(lf,` {
-    right: `).concat(f,"px ").concat(r,`;
-  }
-  
-  .`).concat(of,` {
-    margin-right: `).concat(f,"px ").concat(r,`;
-  }
-  
-  .`).concat(lf," .").concat(lf,` {
-    right: 0 `).concat(r,`;
-  }
-  
-  .`).concat(of," .").concat(of,` {
-    margin-right: 0 `).concat(r,`;
-  }
-  
-  body[`).concat(Il,`] {
-    `).concat(PX,": ").concat(f,`px;
-  }
-`)},DA=function(){var e=parseInt(document.body.getAttribute(Il)||"0",10);return isFinite(e)?e:0},eF=function(){b.useEffect(function(){return document.body.setAttribute(Il,(DA()+1).toString()),function(){var e=DA()-1;e<=0?document.body.removeAttribute(Il):document.body.setAttribute(Il,e.toString())}},[])},tF=function(e){var t=e.noRelative,n=e.noImportant,r=e.gapMode,l=r===void 0?"margin":r;eF();var o=b.useMemo(function(){return ZX(l)},[l]);return b.createElement(QX,{styles:JX(o,!t,l,n?"":"!important")})},Jy=!1;if(typeof window<"u")try{var Vc=Object.defineProperty({},"passive",{get:function(){return Jy=!0,!0}});window.addEventListener("test",Vc,Vc),window.removeEventListener("test",Vc,Vc)}catch{Jy=!1}var Ml=Jy?{passive:!1}:!1,nF=function(e){return e.tagName==="TEXTAREA"},_M=function(e,t){if(!(e instanceof Element))return!1;var n=window.getComputedStyle(e);return n[t]!=="hidden"&&!(n.overflowY===n.overflowX&&!nF(e)&&n[t]==="visible")},rF=function(e){return _M(e,"overflowY")},aF=function(e){return _M(e,"overflowX")},kA=function(e,t){var n=t.ownerDocument,r=t;do{typeof ShadowRoot<"u"&&r instanceof ShadowRoot&&(r=r.host);var l=TM(e,r);if(l){var o=MM(e,r),s=o[1],f=o[2];if(s>f)return!0}r=r.parentNode}while(r&&r!==n.body);return!1},iF=function(e){var t=e.scrollTop,n=e.scrollHeight,r=e.clientHeight;return[t,n,r]},lF=function(e){var t=e.scrollLeft,n=e.scrollWidth,r=e.clientWidth;return[t,n,r]},TM=function(e,t){return e==="v"?rF(t):aF(t)},MM=function(e,t){return e==="v"?iF(t):lF(t)},oF=function(e,t){return e==="h"&&t==="rtl"?-1:1},uF=function(e,t,n,r,l){var o=oF(e,window.getComputedStyle(t).direction),s=o*r,f=n.target,d=t.contains(f),h=!1,m=s>0,p=0,x=0;do{if(!f)break;var w=MM(e,f),E=w[0],A=w[1],j=w[2],O=A-j-o*E;(E||O)&&TM(e,f)&&(p+=O,x+=E);var _=f.parentNode;f=_&&_.nodeType===Node.DOCUMENT_FRAGMENT_NODE?_.host:_}while(!d&&f!==document.body||d&&(t.contains(f)||t===f));return(m&&Math.abs(p)<1||!m&&Math.abs(x)<1)&&(h=!0),h},Xc=function(e){return"changedTouches"in e?[e.changedTouches[0].clientX,e.changedTouches[0].clientY]:[0,0]},RA=function(e){return[e.deltaX,e.deltaY]},PA=function(e){return e&&"current"in e?e.current:e},sF=function(e,t){return e[0]===t[0]&&e[1]===t[1]},cF=function(e){return`
-  .block-interactivity-`.concat(e,` {pointer-events: none;}
-  .allow-interactivity-`).concat(e,` {pointer-events: all;}
-`)},fF=0,Dl=[];function dF(e){var t=b.useRef([]),n=b.useRef([0,0]),r=b.useRef(),l=b.useState(fF++)[0],o=b.useState(CM)[0],s=b.useRef(e);b.useEffect(function(){s.current=e},[e]),b.useEffect(function(){if(e.inert){document.body.classList.add("block-interactivity-".concat(l));var A=kX([e.lockRef.current],(e.shards||[]).map(PA),!0).filter(Boolean);return A.forEach(function(j){return j.classList.add("allow-interactivity-".concat(l))}),function(){document.body.classList.remove("block-interactivity-".concat(l)),A.forEach(function(j){return j.classList.remove("allow-interactivity-".concat(l))})}}},[e.inert,e.lockRef.current,e.shards]);var f=b.useCallback(function(A,j){if("touches"in A&&A.touches.length===2||A.type==="wheel"&&A.ctrlKey)return!s.current.allowPinchZoom;var O=Xc(A),_=n.current,C="deltaX"in A?A.deltaX:_[0]-O[0],D="deltaY"in A?A.deltaY:_[1]-O[1],T,P=A.target,k=Math.abs(C)>Math.abs(D)?"h":"v";if("touches"in A&&k==="h"&&P.type==="range")return!1;var I=window.getSelection(),re=I&&I.anchorNode,ae=re?re===P||re.contains(P):!1;if(ae)return!1;var W=kA(k,P);if(!W)return!0;if(W?T=k:(T=k==="v"?"h":"v",W=kA(k,P)),!W)return!1;if(!r.current&&"changedTouches"in A&&(C||D)&&(r.current=T),!T)return!0;var J=r.current||T;return uF(J,j,A,J==="h"?C:D)},[]),d=b.useCallback(function(A){var j=A;if(!(!Dl.length||Dl[Dl.length-1]!==o)){var O="deltaY"in j?RA(j):Xc(j),_=t.current.filter(function(T){return T.name===j.type&&(T.target===j.target||j.target===T.shadowParent)&&sF(T.delta,O)})[0];if(_&&_.should){j.cancelable&&j.preventDefault();return}if(!_){var C=(s.current.shards||[]).map(PA).filter(Boolean).filter(function(T){return T.contains(j.target)}),D=C.length>0?f(j,C[0]):!s.current.noIsolation;D&&j.cancelable&&j.preventDefault()}}},[]),h=b.useCallback(function(A,j,O,_){var C={name:A,delta:j,target:O,should:_,shadowParent:hF(O)};t.current.push(C),setTimeout(function(){t.current=t.current.filter(function(D){return D!==C})},1)},[]),m=b.useCallback(function(A){n.current=Xc(A),r.current=void 0},[]),p=b.useCallback(function(A){h(A.type,RA(A),A.target,f(A,e.lockRef.current))},[]),x=b.useCallback(function(A){h(A.type,Xc(A),A.target,f(A,e.lockRef.current))},[]);b.useEffect(function(){return Dl.push(o),e.setCallbacks({onScrollCapture:p,onWheelCapture:p,onTouchMoveCapture:x}),document.addEventListener("wheel",d,Ml),document.addEventListener("touchmove",d,Ml),document.addEventListener("touchstart",m,Ml),function(){Dl=Dl.filter(function(A){return A!==o}),document.removeEventListener("wheel",d,Ml),document.removeEventListener("touchmove",d,Ml),document.removeEventListener("touchstart",m,Ml)}},[]);var w=e.removeScrollBar,E=e.inert;return b.createElement(b.Fragment,null,E?b.createElement(o,{styles:cF(l)}):null,w?b.createElement(tF,{noRelative:e.noRelative,gapMode:e.gapMode}):null)}function hF(e){for(var t=null;e!==null;)e instanceof ShadowRoot&&(t=e.host,e=e.host),e=e.parentNode;return t}const mF=HX(NM,dF);var DM=b.forwardRef(function(e,t){return b.createElement(Hd,br({},e,{ref:t,sideCar:mF}))});DM.classNames=Hd.classNames;var vF=function(e){if(typeof document>"u")return null;var t=Array.isArray(e)?e[0]:e;return t.ownerDocument.body},kl=new WeakMap,Fc=new WeakMap,Wc={},Zp=0,kM=function(e){return e&&(e.host||kM(e.parentNode))},pF=function(e,t){return t.map(function(n){if(e.contains(n))return n;var r=kM(n);return r&&e.contains(r)?r:(console.error("aria-hidden",n,"in not contained inside",e,". Doing nothing"),null)}).filter(function(n){return!!n})},yF=function(e,t,n,r){var l=pF(t,Array.isArray(e)?e:[e]);Wc[n]||(Wc[n]=new WeakMap);var o=Wc[n],s=[],f=new Set,d=new Set(l),h=function(p){!p||f.has(p)||(f.add(p),h(p.parentNode))};l.forEach(h);var m=function(p){!p||d.has(p)||Array.prototype.forEach.call(p.children,function(x){if(f.has(x))m(x);else try{var w=x.getAttribute(r),E=w!==null&&w!=="false",A=(kl.get(x)||0)+1,j=(o.get(x)||0)+1;kl.set(x,A),o.set(x,j),s.push(x),A===1&&E&&Fc.set(x,!0),j===1&&x.setAttribute(n,"true"),E||x.setAttribute(r,"true")}catch(O){console.error("aria-hidden: cannot operate on ",x,O)}})};return m(t),f.clear(),Zp++,function(){s.forEach(function(p){var x=kl.get(p)-1,w=o.get(p)-1;kl.set(p,x),o.set(p,w),x||(Fc.has(p)||p.removeAttribute(r),Fc.delete(p)),w||p.removeAttribute(n)}),Zp--,Zp||(kl=new WeakMap,kl=new WeakMap,Fc=new WeakMap,Wc={})}},gF=function(e,t,n){n===void 0&&(n="data-aria-hidden");var r=Array.from(Array.isArray(e)?e:[e]),l=vF(e);return l?(r.push.apply(r,Array.from(l.querySelectorAll("[aria-live], script"))),yF(r,l,n,"aria-hidden")):function(){return null}},$d="Dialog",[RM]=_V($d),[bF,hr]=RM($d),PM=e=>{const{__scopeDialog:t,children:n,open:r,defaultOpen:l,onOpenChange:o,modal:s=!0}=e,f=b.useRef(null),d=b.useRef(null),[h,m]=RV({prop:r,defaultProp:l??!1,onChange:o,caller:$d});return y.jsx(bF,{scope:t,triggerRef:f,contentRef:d,contentId:Kp(),titleId:Kp(),descriptionId:Kp(),open:h,onOpenChange:m,onOpenToggle:b.useCallback(()=>m(p=>!p),[m]),modal:s,children:n})};PM.displayName=$d;var zM="DialogTrigger",xF=b.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=hr(zM,n),o=Ii(t,l.triggerRef);return y.jsx(ss.button,{type:"button","aria-haspopup":"dialog","aria-expanded":l.open,"aria-controls":l.contentId,"data-state":W0(l.open),...r,ref:o,onClick:Fa(e.onClick,l.onOpenToggle)})});xF.displayName=zM;var X0="DialogPortal",[wF,LM]=RM(X0,{forceMount:void 0}),BM=e=>{const{__scopeDialog:t,forceMount:n,children:r,container:l}=e,o=hr(X0,t);return y.jsx(wF,{scope:t,forceMount:n,children:b.Children.map(r,s=>y.jsx(qd,{present:n||o.open,children:y.jsx(jM,{asChild:!0,container:l,children:s})}))})};BM.displayName=X0;var Jf="DialogOverlay",UM=b.forwardRef((e,t)=>{const n=LM(Jf,e.__scopeDialog),{forceMount:r=n.forceMount,...l}=e,o=hr(Jf,e.__scopeDialog);return o.modal?y.jsx(qd,{present:r||o.open,children:y.jsx(jF,{...l,ref:t})}):null});UM.displayName=Jf;var SF=EM("DialogOverlay.RemoveScroll"),jF=b.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=hr(Jf,n);return y.jsx(DM,{as:SF,allowPinchZoom:!0,shards:[l.contentRef],children:y.jsx(ss.div,{"data-state":W0(l.open),...r,ref:t,style:{pointerEvents:"auto",...r.style}})})}),Ui="DialogContent",IM=b.forwardRef((e,t)=>{const n=LM(Ui,e.__scopeDialog),{forceMount:r=n.forceMount,...l}=e,o=hr(Ui,e.__scopeDialog);return y.jsx(qd,{present:r||o.open,children:o.modal?y.jsx(EF,{...l,ref:t}):y.jsx(AF,{...l,ref:t})})});IM.displayName=Ui;var EF=b.forwardRef((e,t)=>{const n=hr(Ui,e.__scopeDialog),r=b.useRef(null),l=Ii(t,n.contentRef,r);return b.useEffect(()=>{const o=r.current;if(o)return gF(o)},[]),y.jsx(qM,{...e,ref:l,trapFocus:n.open,disableOutsidePointerEvents:!0,onCloseAutoFocus:Fa(e.onCloseAutoFocus,o=>{o.preventDefault(),n.triggerRef.current?.focus()}),onPointerDownOutside:Fa(e.onPointerDownOutside,o=>{const s=o.detail.originalEvent,f=s.button===0&&s.ctrlKey===!0;(s.button===2||f)&&o.preventDefault()}),onFocusOutside:Fa(e.onFocusOutside,o=>o.preventDefault())})}),AF=b.forwardRef((e,t)=>{const n=hr(Ui,e.__scopeDialog),r=b.useRef(!1),l=b.useRef(!1);return y.jsx(qM,{...e,ref:t,trapFocus:!1,disableOutsidePointerEvents:!1,onCloseAutoFocus:o=>{e.onCloseAutoFocus?.(o),o.defaultPrevented||(r.current||n.triggerRef.current?.focus(),o.preventDefault()),r.current=!1,l.current=!1},onInteractOutside:o=>{e.onInteractOutside?.(o),o.defaultPrevented||(r.current=!0,o.detail.originalEvent.type==="pointerdown"&&(l.current=!0));const s=o.target;n.triggerRef.current?.contains(s)&&o.preventDefault(),o.detail.originalEvent.type==="focusin"&&l.current&&o.preventDefault()}})}),qM=b.forwardRef((e,t)=>{const{__scopeDialog:n,trapFocus:r,onOpenAutoFocus:l,onCloseAutoFocus:o,...s}=e,f=hr(Ui,n),d=b.useRef(null),h=Ii(t,d);return DX(),y.jsxs(y.Fragment,{children:[y.jsx(wM,{asChild:!0,loop:!0,trapped:r,onMountAutoFocus:l,onUnmountAutoFocus:o,children:y.jsx(bM,{role:"dialog",id:f.contentId,"aria-describedby":f.descriptionId,"aria-labelledby":f.titleId,"data-state":W0(f.open),...s,ref:h,onDismiss:()=>f.onOpenChange(!1)})}),y.jsxs(y.Fragment,{children:[y.jsx(OF,{titleId:f.titleId}),y.jsx(CF,{contentRef:d,descriptionId:f.descriptionId})]})]})}),F0="DialogTitle",HM=b.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=hr(F0,n);return y.jsx(ss.h2,{id:l.titleId,...r,ref:t})});HM.displayName=F0;var $M="DialogDescription",KM=b.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=hr($M,n);return y.jsx(ss.p,{id:l.descriptionId,...r,ref:t})});KM.displayName=$M;var YM="DialogClose",GM=b.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=hr(YM,n);return y.jsx(ss.button,{type:"button",...r,ref:t,onClick:Fa(e.onClick,()=>l.onOpenChange(!1))})});GM.displayName=YM;function W0(e){return e?"open":"closed"}var VM="DialogTitleWarning",[xW,XM]=CV(VM,{contentName:Ui,titleName:F0,docsSlug:"dialog"}),OF=({titleId:e})=>{const t=XM(VM),n=`\`${t.contentName}\` requires a \`${t.titleName}\` for the component to be accessible for screen reader users.
-
-If you want to hide the \`${t.titleName}\`, you can wrap it with our VisuallyHidden component.
-
-For more information, see https://radix-ui.com/primitives/docs/components/${t.docsSlug}`;return b.useEffect(()=>{e&&(document.getElementById(e)||console.error(n))},[n,e]),null},NF="DialogDescriptionWarning",CF=({contentRef:e,descriptionId:t})=>{const r=`Warning: Missing \`Description\` or \`aria-describedby={undefined}\` for {${XM(NF).contentName}}.`;return b.useEffect(()=>{const l=e.current?.getAttribute("aria-describedby");t&&l&&(document.getElementById(t)||console.warn(r))},[r,e,t]),null},_F=PM,TF=BM,FM=UM,WM=IM,ZM=HM,QM=KM,MF=GM;const DF=_F,kF=TF,JM=b.forwardRef(({className:e,...t},n)=>y.jsx(FM,{ref:n,className:Fe("fixed inset-0 z-50 bg-black/80  data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0",e),...t}));JM.displayName=FM.displayName;const eD=b.forwardRef(({className:e,children:t,...n},r)=>y.jsxs(kF,{children:[y.jsx(JM,{}),y.jsxs(WM,{ref:r,className:Fe("fixed left-[50%] top-[50%] z-50 grid w-full max-w-lg translate-x-[-50%] translate-y-[-50%] gap-4 border bg-background p-6 shadow-lg duration-200 data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 data-[state=closed]:zoom-out-95 data-[state=open]:zoom-in-95 data-[state=closed]:slide-out-to-left-1/2 data-[state=closed]:slide-out-to-top-[48%] data-[state=open]:slide-in-from-left-1/2 data-[state=open]:slide-in-from-top-[48%] sm:rounded-lg",e),...n,children:[t,y.jsxs(MF,{className:"absolute right-4 top-4 rounded-sm opacity-70 ring-offset-background transition-opacity hover:opacity-100 focus:outline-none focus:ring-2 focus:ring-ring focus:ring-offset-2 disabled:pointer-events-none data-[state=open]:bg-accent data-[state=open]:text-muted-foreground",children:[y.jsx(lz,{className:"h-4 w-4"}),y.jsx("span",{className:"sr-only",children:"Close"})]})]})]}));eD.displayName=WM.displayName;const tD=({className:e,...t})=>y.jsx("div",{className:Fe("flex flex-col space-y-1.5 text-center sm:text-left",e),...t});tD.displayName="DialogHeader";const nD=({className:e,...t})=>y.jsx("div",{className:Fe("flex flex-col-reverse sm:flex-row sm:justify-end sm:space-x-2",e),...t});nD.displayName="DialogFooter";const rD=b.forwardRef(({className:e,...t},n)=>y.jsx(ZM,{ref:n,className:Fe("text-lg font-semibold leading-none tracking-tight",e),...t}));rD.displayName=ZM.displayName;const aD=b.forwardRef(({className:e,...t},n)=>y.jsx(QM,{ref:n,className:Fe("text-sm text-muted-foreground",e),...t}));aD.displayName=QM.displayName;function RF({isOpen:e,onClose:t,onSuccess:n,userAccountId:r}){const[l,o]=b.useState(""),[s,f]=b.useState(""),[d,h]=b.useState(""),[m,p]=b.useState(!1),[x,w]=b.useState(""),E=async A=>{if(A.preventDefault(),p(!0),w(""),Number(s)<=0){w("Tutar 0'dan büyük olmalı."),p(!1);return}try{await f4({fromAccountNumber:r,toAccountNumber:l,amount:Number(s),description:d||"Transfer"}),n(),t(),o(""),f(""),h("")}catch(j){w(j.message||"Transfer başarısız.")}finally{p(!1)}};return y.jsx(DF,{open:e,onOpenChange:t,children:y.jsxs(eD,{className:"sm:max-w-[425px] bg-slate-900 text-white border-slate-700",children:[y.jsxs(tD,{children:[y.jsx(rD,{children:"Para Transferi 💸"}),y.jsx(aD,{className:"text-slate-400",children:"Başka bir DinoBank hesabına anında para gönderin."})]}),y.jsxs("form",{onSubmit:E,className:"grid gap-4 py-4",children:[y.jsxs("div",{className:"grid grid-cols-4 items-center gap-4",children:[y.jsx(bt,{htmlFor:"target",className:"text-right text-slate-300",children:"Alıcı Hesap"}),y.jsx(jt,{id:"target",placeholder:"TR...",className:"col-span-3 bg-slate-800 border-slate-700 text-white focus:ring-primary",value:l,onChange:A=>o(A.target.value),required:!0})]}),y.jsxs("div",{className:"grid grid-cols-4 items-center gap-4",children:[y.jsx(bt,{htmlFor:"amount",className:"text-right text-slate-300",children:"Tutar"}),y.jsx(jt,{id:"amount",type:"number",placeholder:"0.00",className:"col-span-3 bg-slate-800 border-slate-700 text-white focus:ring-primary",value:s,onChange:A=>f(A.target.value),required:!0})]}),y.jsxs("div",{className:"grid grid-cols-4 items-center gap-4",children:[y.jsx(bt,{htmlFor:"desc",className:"text-right text-slate-300",children:"Açıklama"}),y.jsx(jt,{id:"desc",placeholder:"Örn: Kira",className:"col-span-3 bg-slate-800 border-slate-700 text-white focus:ring-primary",value:d,onChange:A=>h(A.target.value)})]}),x&&y.jsx("div",{className:"text-red-400 text-sm text-center bg-red-900/20 p-2 rounded",children:x}),y.jsx(nD,{children:y.jsx(it,{type:"submit",disabled:m,className:"w-full bg-primary hover:bg-primary/90 text-black font-bold",children:m?y.jsx(cg,{className:"mr-2 h-4 w-4 animate-spin"}):"Gönder"})})]})]})})}const Qp=[{name:"Dino Egg 🥚",min:0},{name:"Velociraptor 🦖",min:1e4},{name:"Triceratops 🦕",min:5e4},{name:"T-Rex King 👑",min:25e4}];function PF(){const[e,t]=b.useState(null),[n,r]=b.useState(null),[l,o]=b.useState([]),[s,f]=b.useState(!0),[d,h]=b.useState(!1),m=qu(),p=n?Math.floor(n.balance):0,x=Qp.slice().reverse().find(O=>p>=O.min)||Qp[0],w=Qp.find(O=>O.min>p),E=w?(p-x.min)/(w.min-x.min)*100:100,A=[{name:"Pzt",amount:4e3},{name:"Sal",amount:3e3},{name:"Çar",amount:2e3},{name:"Per",amount:2780},{name:"Cum",amount:1890},{name:"Cmt",amount:2390},{name:"Paz",amount:3490}],j=async()=>{const O=localStorage.getItem("dinoUser");if(!O)return;const _=JSON.parse(O);try{const C=await yO(_.id);if(r(C),C&&C.id){const D=await gO(C.id),T=k=>k?Array.isArray(k)?new Date(k[0],k[1]-1,k[2],k[3],k[4],k[5]||0):new Date(k):new Date,P=D.sort((k,I)=>T(I.transactionDate)-T(k.transactionDate));o(P.map(k=>({...k,parsedDate:T(k.transactionDate)})))}}catch(C){console.error("Dashboard data fetch error:",C)}};return b.useEffect(()=>{const O=localStorage.getItem("dinoUser");if(!O){m("/login");return}const _=JSON.parse(O);t(_),(async()=>{await j(),f(!1)})()},[m]),s?y.jsx("div",{className:"flex items-center justify-center h-screen text-white bg-background",children:y.jsxs("div",{className:"flex flex-col items-center",children:[y.jsx("span",{className:"text-4xl animate-bounce",children:"🦖"}),y.jsx("p",{className:"mt-4 text-slate-400",children:"Veriler Yükleniyor..."})]})}):y.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[y.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:y.jsx(ho,{})}),y.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[y.jsxs("header",{className:"flex justify-between items-center mb-10",children:[y.jsxs("div",{children:[y.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-white to-slate-400 bg-clip-text text-transparent",children:"Panel"}),y.jsxs("p",{className:"text-slate-400 mt-1",children:["Tekrar hoşgeldin, ",e?.ad,"!"]})]}),y.jsx("div",{className:"flex items-center gap-4",children:y.jsxs(it,{className:"bg-primary text-black font-bold hover:bg-primary/90 shadow-lg shadow-primary/20",onClick:()=>h(!0),children:[y.jsx(AS,{className:"mr-2 h-4 w-4"})," Yeni Transfer"]})})]}),y.jsx(RF,{isOpen:d,onClose:()=>h(!1),onSuccess:()=>{j()},userAccountId:n?.accountNumber}),y.jsxs("div",{className:"grid gap-6 md:grid-cols-2 lg:grid-cols-7",children:[y.jsxs(At,{className:"col-span-4 bg-gradient-to-br from-primary/20 to-black/40 border-primary/20 backdrop-blur-sm relative overflow-hidden",children:[y.jsx("div",{className:"absolute right-[-20px] bottom-[-20px] text-[150px] opacity-5 rotate-[-10deg]",children:"🦖"}),y.jsxs(zt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[y.jsx(Lt,{className:"text-sm font-medium text-primary-foreground/80",children:"Toplam Bakiye"}),y.jsx(AS,{className:"h-5 w-5 text-primary"})]}),y.jsxs(Ot,{children:[y.jsxs("div",{className:"text-5xl font-black text-white tracking-tight",children:["₺ ",n?.balance?n.balance.toLocaleString("tr-TR",{minimumFractionDigits:2}):"0,00"]}),y.jsx("p",{className:"text-sm text-primary/80 mt-2 font-medium flex items-center",children:y.jsx("span",{className:"opacity-70 text-xs mr-2",children:n?.accountNumber})})]})]}),y.jsxs(At,{className:"col-span-3 bg-black/40 border-white/10 backdrop-blur-md",children:[y.jsxs(zt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[y.jsx(Lt,{className:"text-sm font-medium text-slate-300",children:"Sadakat Durumu"}),y.jsx("div",{className:"h-8 w-8 rounded-full bg-primary/20 flex items-center justify-center text-primary",children:y.jsx(dg,{className:"h-4 w-4"})})]}),y.jsxs(Ot,{children:[y.jsxs("div",{className:"flex justify-between items-end mb-4",children:[y.jsxs("div",{children:[y.jsx("div",{className:"text-3xl font-bold text-white",children:x.name}),y.jsxs("p",{className:"text-sm text-slate-400 font-medium",children:[p," Puan"]})]}),w&&y.jsxs("div",{className:"text-right",children:[y.jsxs("div",{className:"text-sm font-medium text-slate-300",children:["Sonraki: ",w.name]}),y.jsxs("div",{className:"text-xs text-slate-500",children:[w.min-p," puan kaldı"]})]})]}),y.jsx(xu,{value:E,className:"h-3 bg-white/5",indicatorClassName:"bg-gradient-to-r from-primary to-emerald-400"})]})]}),y.jsxs(At,{className:"col-span-4 bg-black/20 border-white/5",children:[y.jsx(zt,{children:y.jsx(Lt,{className:"text-slate-200",children:"Haftalık Özet"})}),y.jsx(Ot,{className:"pl-2",children:y.jsx("div",{className:"h-[250px] w-full",children:y.jsx(VN,{width:"100%",height:"100%",children:y.jsxs(pM,{data:A,children:[y.jsx("defs",{children:y.jsxs("linearGradient",{id:"colorAmount",x1:"0",y1:"0",x2:"0",y2:"1",children:[y.jsx("stop",{offset:"5%",stopColor:"hsl(var(--primary))",stopOpacity:.3}),y.jsx("stop",{offset:"95%",stopColor:"hsl(var(--primary))",stopOpacity:0})]})}),y.jsx(q0,{strokeDasharray:"3 3",vertical:!1,stroke:"rgba(255,255,255,0.05)"}),y.jsx($0,{dataKey:"name",stroke:"#64748b",fontSize:12,tickLine:!1,axisLine:!1}),y.jsx(K0,{stroke:"#64748b",fontSize:12,tickLine:!1,axisLine:!1,tickFormatter:O=>`₺${O}`}),y.jsx(NT,{contentStyle:{backgroundColor:"#0f172a",borderRadius:"12px",border:"1px solid rgba(255,255,255,0.1)",color:"#fff"},itemStyle:{color:"#fff"}}),y.jsx(H0,{type:"monotone",dataKey:"amount",stroke:"hsl(var(--primary))",strokeWidth:3,fillOpacity:1,fill:"url(#colorAmount)"})]})})})})]}),y.jsxs(At,{className:"col-span-3 bg-black/20 border-white/5",children:[y.jsxs(zt,{children:[y.jsx(Lt,{className:"text-slate-200",children:"Son İşlemler"}),y.jsxs(to,{className:"text-slate-500",children:["Bu hafta ",l.length," işlem yaptınız."]})]}),y.jsx(Ot,{children:y.jsxs(Oi,{children:[y.jsx(Ni,{children:y.jsxs(Ft,{className:"border-white/5 hover:bg-transparent",children:[y.jsx(We,{className:"text-slate-400",children:"İşlem"}),y.jsx(We,{className:"text-right text-slate-400",children:"Tutar"})]})}),y.jsx(Ci,{children:l.length===0?y.jsx(Ft,{children:y.jsx(Be,{colSpan:2,className:"text-center text-slate-500 py-4",children:"Henüz işlem yok 🦖"})}):l.slice(0,5).map(O=>{O.amount>0;const _=O.transactionType==="DEPOSIT"||O.transactionType==="INCOMING_TRANSFER";return y.jsxs(Ft,{className:"border-white/5 hover:bg-white/5 transition-colors",children:[y.jsxs(Be,{children:[y.jsx("div",{className:"font-medium text-slate-200",children:O.description||O.transactionType}),y.jsx("div",{className:"text-xs text-slate-500",children:O.parsedDate?O.parsedDate.toLocaleDateString("tr-TR"):"-"})]}),y.jsxs(Be,{className:Fe("text-right font-bold",_?"text-emerald-400":"text-slate-300"),children:[_?"+":"-","₺",Math.abs(O.amount).toLocaleString("tr-TR",{minimumFractionDigits:2})]})]},O.id)})})]})})]})]})]})]})}function zF(){return y.jsxs("div",{className:"min-h-screen bg-slate-950 font-sans text-white scroll-smooth relative overflow-x-hidden",children:[y.jsx("nav",{className:"fixed w-full z-50 top-0 px-4 py-3",children:y.jsxs("div",{className:"bg-white/70 dark:bg-black/70 backdrop-blur-md max-w-7xl mx-auto rounded-2xl px-6 py-3 shadow-sm flex flex-wrap items-center justify-between border border-white/20",children:[y.jsxs(kn,{to:"/",className:"flex items-center space-x-2 group",children:[y.jsx("div",{className:"bg-primary text-primary-foreground p-2 rounded-lg shadow-lg group-hover:rotate-12 transition-transform",children:y.jsx("svg",{className:"h-6 w-6",fill:"currentColor",viewBox:"0 0 24 24",children:y.jsx("path",{d:"M12 2C6.48 2 2 6.48 2 12s4.48 10 10 10 10-4.48 10-10S17.52 2 12 2zm-1 17.93c-3.95-.49-7-3.85-7-7.93 0-.62.08-1.21.21-1.79L9 15v1c0 1.1.9 2 2 2v1.93zm6.9-2.54c-.26-.81-1-1.39-1.9-1.39h-1v-3c0-.55-.45-1-1-1H8v-2h2c.55 0 1-.45 1-1V7h2c1.1 0 2-.9 2-2v-.41c2.93 1.19 5 4.06 5 7.41 0 2.08-.8 3.97-2.1 5.39z"})})}),y.jsx("span",{className:"self-center text-xl font-bold tracking-tight",children:"DinoBank"})]}),y.jsxs("div",{className:"hidden md:flex space-x-8 font-medium text-slate-600 dark:text-slate-300",children:[y.jsx("a",{href:"#features",className:"hover:text-primary transition",children:"Özellikler"}),y.jsx("a",{href:"#cards",className:"hover:text-primary transition",children:"Kartlar"}),y.jsx("a",{href:"#contact",className:"hover:text-primary transition",children:"İletişim"})]}),y.jsx("div",{className:"flex space-x-3",children:y.jsx(kn,{to:"/login",children:y.jsx(it,{className:"bg-primary hover:bg-primary/90 text-primary-foreground font-semibold rounded-xl shadow-lg shadow-primary/20",children:"Giriş Yap"})})})]})}),y.jsxs("section",{id:"home",className:"relative pt-40 pb-20 overflow-hidden",children:[y.jsx("div",{className:"absolute top-20 right-0 w-[600px] h-[600px] bg-primary/10 rounded-full blur-[100px] -z-10"}),y.jsx("div",{className:"absolute bottom-0 left-0 w-[400px] h-[400px] bg-blue-500/10 rounded-full blur-[80px] -z-10"}),y.jsx("div",{className:"container mx-auto px-6 relative z-10",children:y.jsxs("div",{className:"flex flex-col lg:flex-row items-center gap-12",children:[y.jsxs("div",{className:"w-full lg:w-1/2 space-y-8 text-center lg:text-left",children:[y.jsx("div",{className:"inline-block px-4 py-1.5 bg-white dark:bg-white/5 border border-primary/20 rounded-full shadow-sm",children:y.jsxs("span",{className:"text-primary font-bold text-xs uppercase tracking-wider flex items-center gap-2",children:[y.jsx("span",{className:"w-2 h-2 bg-primary rounded-full animate-pulse"}),"Yeni Nesil Finans"]})}),y.jsxs("h1",{className:"text-5xl lg:text-7xl font-extrabold leading-[1.1]",children:["Paranız İçin ",y.jsx("br",{}),y.jsx("span",{className:"text-transparent bg-clip-text bg-gradient-to-r from-primary to-emerald-400",children:"Jurassic Bir Güç."})]}),y.jsx("p",{className:"text-lg text-slate-600 dark:text-slate-400 max-w-xl mx-auto lg:mx-0 leading-relaxed",children:"Fosil bankacılık alışkanlıklarını geride bırakın. DinoBank ile ışık hızında transferler, kaya gibi sağlam güvenlik ve size özel avantajlar dünyasına adım atın."}),y.jsxs("div",{className:"flex flex-col sm:flex-row gap-4 justify-center lg:justify-start",children:[y.jsx(kn,{to:"/register",children:y.jsx(it,{size:"lg",className:"rounded-2xl text-lg px-8 py-6 shadow-xl shadow-primary/20",children:"Hesap Oluştur"})}),y.jsx(kn,{to:"/how-it-works",children:y.jsx(it,{variant:"outline",size:"lg",className:"rounded-2xl text-lg px-8 py-6 bg-white/50 dark:bg-white/5 backdrop-blur-sm",children:"Nasıl Çalışır?"})})]}),y.jsxs("div",{className:"pt-8 flex items-center justify-center lg:justify-start gap-8 border-t border-slate-200 dark:border-slate-800",children:[y.jsxs("div",{children:[y.jsx("p",{className:"text-3xl font-bold",children:"2M+"}),y.jsx("p",{className:"text-sm text-slate-500 font-medium",children:"Kullanıcı"})]}),y.jsx("div",{className:"w-px h-10 bg-slate-300 dark:bg-slate-700"}),y.jsxs("div",{children:[y.jsx("p",{className:"text-3xl font-bold",children:"₺50Mr"}),y.jsx("p",{className:"text-sm text-slate-500 font-medium",children:"Hacim"})]})]})]}),y.jsxs("div",{className:"w-full lg:w-1/2 flex justify-center relative",children:[y.jsx("div",{className:"absolute inset-0 bg-gradient-to-tr from-primary/20 to-transparent rounded-full filter blur-3xl opacity-30 animate-pulse"}),y.jsx("div",{className:"relative w-full max-w-md animate-bounce duration-[3000ms]",children:y.jsx("div",{className:"relative bg-slate-900 rounded-[3rem] p-4 shadow-2xl border-4 border-slate-800 ring-1 ring-slate-700",children:y.jsxs("div",{className:"bg-white dark:bg-slate-950 rounded-[2.5rem] overflow-hidden h-[600px] w-full relative",children:[y.jsxs("div",{className:"bg-primary h-40 p-6 pt-10 text-primary-foreground rounded-b-[3rem] shadow-lg relative z-10",children:[y.jsxs("div",{className:"flex justify-between items-center mb-4",children:[y.jsx("div",{className:"w-8 h-8 bg-white/20 rounded-full flex items-center justify-center text-xs",children:"🦖"}),y.jsx("div",{className:"w-8 h-8 bg-white/20 rounded-full"})]}),y.jsx("p",{className:"text-primary-foreground/80 text-sm",children:"Toplam Bakiye"}),y.jsx("h3",{className:"text-3xl font-bold",children:"₺ 124.500"})]}),y.jsxs("div",{className:"p-6 space-y-4 -mt-6 relative z-0",children:[y.jsxs("div",{className:"bg-white dark:bg-slate-900 p-4 rounded-2xl shadow-lg border border-slate-100 dark:border-slate-800 flex items-center justify-between",children:[y.jsxs("div",{className:"flex items-center gap-3",children:[y.jsx("div",{className:"w-10 h-10 bg-green-50 dark:bg-green-900/20 text-primary rounded-full flex items-center justify-center font-bold",children:"₺"}),y.jsxs("div",{children:[y.jsx("p",{className:"font-bold text-sm",children:"Maaş Yatışı"}),y.jsx("p",{className:"text-xs text-slate-400",children:"DinoCorp A.Ş."})]})]}),y.jsx("span",{className:"font-bold text-emerald-500",children:"+45.000₺"})]}),y.jsxs("div",{className:"bg-white dark:bg-slate-900 p-4 rounded-2xl shadow-sm border border-slate-100 dark:border-slate-800 flex items-center justify-between opacity-80",children:[y.jsxs("div",{className:"flex items-center gap-3",children:[y.jsx("div",{className:"w-10 h-10 bg-red-50 dark:bg-red-900/20 text-red-500 rounded-full flex items-center justify-center",children:"🛒"}),y.jsxs("div",{children:[y.jsx("p",{className:"font-bold text-sm",children:"Market"}),y.jsx("p",{className:"text-xs text-slate-400",children:"Migros"})]})]}),y.jsx("span",{className:"font-bold text-slate-800 dark:text-slate-200",children:"-1.200₺"})]})]})]})})})]})]})})]}),y.jsx("section",{id:"features",className:"py-24 relative bg-slate-900 border-t border-slate-800",children:y.jsxs("div",{className:"container mx-auto px-6",children:[y.jsxs("div",{className:"mb-32 flex flex-col md:flex-row items-center gap-12 bg-slate-800/50 p-12 rounded-[3rem] border border-slate-700 relative overflow-hidden",children:[y.jsx("div",{className:"absolute top-0 right-0 w-64 h-64 bg-primary/20 rounded-full blur-[100px] pointer-events-none"}),y.jsx("div",{className:"w-full md:w-1/3 flex justify-center",children:y.jsx("div",{className:"w-64 h-64 bg-gradient-to-br from-emerald-500 to-primary rounded-full flex items-center justify-center text-[100px] shadow-2xl shadow-emerald-500/20 animate-bounce cursor-pointer hover:rotate-12 transition-transform",children:"🦖"})}),y.jsxs("div",{className:"w-full md:w-2/3 space-y-6 relative z-10",children:[y.jsx("div",{className:"inline-block px-4 py-1.5 bg-emerald-500/20 text-emerald-400 rounded-full text-xs font-bold uppercase tracking-wider",children:"Müşteri Temsilciniz"}),y.jsx("h2",{className:"text-4xl font-extrabold text-white",children:"T-Rex İle Tanışın."}),y.jsx("p",{className:"text-lg text-slate-300 leading-relaxed",children:'"Merhaba! Ben T-Rex. Bankacılık işlemlerinizin fosilleşmesini engellemek için buradayım. Sürpriz ücretleri yiyor, faiz oranlarını ısırıyorum. Size en güçlü finansal desteği sunmak için 65 milyon yıldır bekliyorum!"'}),y.jsx(it,{className:"bg-emerald-600 hover:bg-emerald-700 text-white rounded-xl px-8 h-12",children:"T-Rex İle Konuş (Yakında)"})]})]}),y.jsxs("div",{className:"text-center max-w-3xl mx-auto mb-16",children:[y.jsx("span",{className:"text-primary font-bold tracking-widest uppercase text-xs",children:"Neden Biz?"}),y.jsxs("h2",{className:"text-4xl font-bold mt-2 text-white",children:["Dinozor Kadar Güçlü,",y.jsx("br",{}),"Teknoloji Kadar Hızlı."]})]}),y.jsx("div",{className:"grid grid-cols-1 md:grid-cols-3 gap-8",children:[{icon:"🚀",title:"Işık Hızı",desc:"Havale, EFT ve FAST işlemleriniz saniyeler içinde gerçekleşir. DinoBank ile beklemek tarihe karıştı.",color:"bg-green-50 dark:bg-green-900/20"},{icon:"🛡️",title:"Zırhlı Güvenlik",desc:"Verileriniz, en son şifreleme teknolojileri ve Dinozor gücündeki güvenlik duvarlarıyla korunur.",color:"bg-yellow-50 dark:bg-yellow-900/20"},{icon:"🌍",title:"Evrensel Erişim",desc:"Dünyanın her yerinde geçerli kartlar ve düşük komisyonlu döviz işlemleri ile sınırlar kalktı.",color:"bg-blue-50 dark:bg-blue-900/20"}].map((e,t)=>y.jsxs("div",{className:"group bg-white dark:bg-slate-800 p-8 rounded-[2rem] shadow-lg border border-slate-100 dark:border-slate-700 hover:border-primary/30 transition-all duration-300 relative overflow-hidden",children:[y.jsx("div",{className:`absolute top-0 right-0 w-32 h-32 ${e.color} rounded-bl-[100px] -z-0 transition-transform group-hover:scale-110`}),y.jsxs("div",{className:"relative z-10",children:[y.jsx("div",{className:"w-14 h-14 bg-primary text-primary-foreground rounded-2xl flex items-center justify-center mb-6 shadow-lg shadow-primary/20 text-2xl",children:e.icon}),y.jsx("h3",{className:"text-xl font-bold mb-3",children:e.title}),y.jsx("p",{className:"text-slate-500 dark:text-slate-400 leading-relaxed",children:e.desc})]})]},t))})]})}),y.jsx("section",{id:"cards",className:"py-24 bg-slate-900 border-t border-slate-800 overflow-hidden",children:y.jsxs("div",{className:"container mx-auto px-6",children:[y.jsxs("div",{className:"text-center max-w-3xl mx-auto mb-16",children:[y.jsx("span",{className:"text-primary font-bold tracking-widest uppercase text-xs",children:"Kartlarımız"}),y.jsxs("h2",{className:"text-4xl font-bold mt-2",children:["Cüzdanınıza Yakışan",y.jsx("br",{}),"Dinozor Gücü."]})]}),y.jsxs("div",{className:"flex flex-wrap justify-center gap-8 perspective-1000",children:[y.jsxs("div",{className:"group relative w-80 h-48 bg-gradient-to-br from-blue-600 to-blue-800 rounded-2xl shadow-2xl p-6 text-white transform transition-all duration-500 hover:scale-105 hover:-rotate-2 hover:shadow-blue-500/50",children:[y.jsxs("div",{className:"flex justify-between items-start",children:[y.jsx("span",{className:"font-bold text-lg tracking-widest",children:"DinoBank"}),y.jsx("span",{className:"text-xs opacity-70",children:"Debit"})]}),y.jsxs("div",{className:"mt-8 flex gap-2",children:[y.jsx("div",{className:"w-10 h-7 bg-yellow-400/80 rounded-md"}),y.jsx("div",{className:"w-7 h-7 border-2 border-white/30 rounded-full"})]}),y.jsx("div",{className:"mt-4",children:y.jsx("p",{className:"font-mono text-lg tracking-widest opacity-90",children:"**** **** **** 4242"})}),y.jsxs("div",{className:"mt-4 flex justify-between items-end",children:[y.jsxs("div",{children:[y.jsx("p",{className:"text-[10px] opacity-70 uppercase",children:"Kart Sahibi"}),y.jsx("p",{className:"font-medium text-sm tracking-wide",children:"OSMAN YETKİN"})]}),y.jsx("div",{className:"w-10 h-10 bg-white/20 rounded-full flex items-center justify-center text-xl",children:"🦖"})]})]}),y.jsxs("div",{className:"group relative w-80 h-48 bg-gradient-to-br from-yellow-500 via-amber-500 to-yellow-600 rounded-2xl shadow-2xl p-6 text-white transform transition-all duration-500 hover:scale-110 hover:z-10 hover:shadow-yellow-500/50",children:[y.jsx("div",{className:"absolute inset-0 bg-[url('https://www.transparenttextures.com/patterns/cubes.png')] opacity-10"}),y.jsxs("div",{className:"flex justify-between items-start relative z-10",children:[y.jsx("span",{className:"font-bold text-lg tracking-widest",children:"DinoBank"}),y.jsx("span",{className:"bg-white/20 px-2 py-0.5 rounded text-[10px] font-bold uppercase",children:"Gold"})]}),y.jsxs("div",{className:"mt-8 flex gap-2 relative z-10",children:[y.jsx("div",{className:"w-10 h-7 bg-yellow-200/80 rounded-md"}),y.jsx("span",{className:"text-2xl",children:"📶"})]}),y.jsx("div",{className:"mt-4 relative z-10",children:y.jsx("p",{className:"font-mono text-lg tracking-widest text-shadow-sm",children:"5412 7512 3412 3456"})}),y.jsxs("div",{className:"mt-4 flex justify-between items-end relative z-10",children:[y.jsxs("div",{children:[y.jsx("p",{className:"text-[10px] opacity-70 uppercase",children:"Kart Sahibi"}),y.jsx("p",{className:"font-medium text-sm tracking-wide",children:"KÜRŞAT YILMAZ"})]}),y.jsx("div",{className:"text-2xl",children:"🦕"})]})]}),y.jsxs("div",{className:"group relative w-80 h-48 bg-gradient-to-br from-slate-800 to-black rounded-2xl shadow-2xl p-6 text-white transform transition-all duration-500 hover:scale-105 hover:rotate-2 hover:shadow-primary/50 border border-slate-700",children:[y.jsx("div",{className:"absolute inset-0 bg-gradient-to-r from-transparent via-white/5 to-transparent skew-x-12 opacity-0 group-hover:opacity-100 transition-opacity duration-700"}),y.jsxs("div",{className:"flex justify-between items-start",children:[y.jsx("span",{className:"font-bold text-lg tracking-widest bg-gradient-to-r from-primary to-emerald-400 bg-clip-text text-transparent",children:"DinoBank"}),y.jsx("span",{className:"text-primary text-xs font-bold uppercase tracking-widest",children:"Elite"})]}),y.jsx("div",{className:"mt-8 flex gap-2",children:y.jsx("div",{className:"w-10 h-7 bg-slate-400/80 rounded-md"})}),y.jsx("div",{className:"mt-4",children:y.jsx("p",{className:"font-mono text-lg tracking-widest opacity-90",children:"4000 1234 5678 9010"})}),y.jsxs("div",{className:"mt-4 flex justify-between items-end",children:[y.jsxs("div",{children:[y.jsx("p",{className:"text-[10px] opacity-70 uppercase",children:"Kart Sahibi"}),y.jsx("p",{className:"font-medium text-sm tracking-wide",children:"İLKMERT DEMİR"})]}),y.jsx("div",{className:"text-2xl",children:"🥚"})]})]})]})]})}),y.jsx("footer",{className:"bg-slate-50 dark:bg-slate-950 pt-16 pb-8 border-t border-slate-200 dark:border-slate-800",children:y.jsx("div",{className:"container mx-auto px-6",children:y.jsxs("div",{className:"flex flex-col md:flex-row justify-between items-center text-sm text-slate-500",children:[y.jsx("div",{className:"flex items-center space-x-2 mb-4 md:mb-0",children:y.jsx("span",{className:"text-xl font-bold text-slate-900 dark:text-slate-100",children:"DinoBank"})}),y.jsx("p",{children:"© 2025 DinoBank A.Ş. Tüm hakları saklıdır."})]})})})]})}function LF(){const[e,t]=b.useState("credit");return y.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[y.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:y.jsx(ho,{})}),y.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[y.jsxs("header",{className:"flex justify-between items-center mb-10",children:[y.jsxs("div",{children:[y.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-purple-400 to-pink-600 bg-clip-text text-transparent",children:"Kartlarım"}),y.jsx("p",{className:"text-slate-400 mt-1",children:"Kartlarınızı yönetin ve limitlerinizi kontrol edin."})]}),y.jsxs(it,{className:"bg-white text-black hover:bg-slate-200",children:[y.jsx(W4,{className:"mr-2 h-4 w-4"})," Yeni Kart Başvurusu"]})]}),y.jsxs("div",{className:"grid gap-8 lg:grid-cols-2",children:[y.jsxs("div",{className:"space-y-6",children:[y.jsx("div",{className:"relative group perspective-1000",children:y.jsxs("div",{className:"relative h-56 w-96 rounded-2xl bg-gradient-to-r from-purple-600 to-blue-600 p-6 text-white shadow-2xl transition-transform transform group-hover:scale-105 duration-300",children:[y.jsxs("div",{className:"flex justify-between items-start",children:[y.jsx("div",{className:"text-2xl font-bold",children:"DinoBank"}),y.jsx(wO,{className:"h-8 w-8 opacity-80"})]}),y.jsxs("div",{className:"mt-8 flex items-center gap-2",children:[y.jsx("div",{className:"bg-white/20 px-2 py-1 rounded text-xs backdrop-blur-sm",children:"CHIP"}),y.jsx(uz,{className:"h-4 w-4 text-yellow-300"})]}),y.jsx("div",{className:"mt-4 text-2xl font-mono tracking-widest",children:"4522 **** **** 9832"}),y.jsxs("div",{className:"mt-6 flex justify-between items-end",children:[y.jsxs("div",{children:[y.jsx("div",{className:"text-[10px] opacity-75 mb-1",children:"KART SAHİBİ"}),y.jsx("div",{className:"font-bold tracking-wider text-sm truncate w-40",children:"TEST USER"})]}),y.jsxs("div",{children:[y.jsx("div",{className:"text-xs opacity-75",children:"SKT"}),y.jsx("div",{className:"font-bold",children:"12/28"})]}),y.jsx("div",{className:"text-2xl font-bold italic opacity-50",children:"PLATINUM"})]}),y.jsx("div",{className:"absolute inset-0 rounded-2xl bg-gradient-to-tr from-white/10 to-transparent pointer-events-none"})]})}),y.jsxs("div",{className:"grid grid-cols-2 gap-4 w-96",children:[y.jsxs(it,{variant:"outline",className:"border-white/10 hover:bg-white/5 text-white",children:[y.jsx(SO,{className:"mr-2 h-4 w-4"})," Şifre Değiştir"]}),y.jsxs(it,{variant:"destructive",className:"bg-red-900/50 hover:bg-red-900/80",children:[y.jsx(fg,{className:"mr-2 h-4 w-4"})," Kartı Dondur"]})]})]}),y.jsx("div",{className:"space-y-6",children:y.jsxs(At,{className:"bg-black/40 border-white/10",children:[y.jsxs(zt,{children:[y.jsx(Lt,{className:"text-white",children:"Harcama Limitleri"}),y.jsx(to,{children:"Aylık harcama detaylarınız"})]}),y.jsxs(Ot,{className:"space-y-6",children:[y.jsxs("div",{children:[y.jsxs("div",{className:"flex justify-between text-sm mb-2 text-slate-300",children:[y.jsx("span",{children:"Kredi Kartı Limiti"}),y.jsx("span",{className:"font-bold",children:"₺15,450 / ₺50,000"})]}),y.jsx(xu,{value:33,className:"h-2",indicatorClassName:"bg-purple-500"})]}),y.jsxs("div",{children:[y.jsxs("div",{className:"flex justify-between text-sm mb-2 text-slate-300",children:[y.jsx("span",{children:"İnternet Alışverişi"}),y.jsx("span",{className:"font-bold",children:"₺2,300 / ₺10,000"})]}),y.jsx(xu,{value:23,className:"h-2",indicatorClassName:"bg-blue-500"})]}),y.jsxs("div",{children:[y.jsxs("div",{className:"flex justify-between text-sm mb-2 text-slate-300",children:[y.jsx("span",{children:"Nakit Avans"}),y.jsx("span",{className:"font-bold",children:"₺0 / ₺5,000"})]}),y.jsx(xu,{value:0,className:"h-2",indicatorClassName:"bg-green-500"})]})]})]})})]})]})]})}const BF=[{name:"10:00",value:4e3},{name:"11:00",value:3e3},{name:"12:00",value:5e3},{name:"13:00",value:2780},{name:"14:00",value:1890},{name:"15:00",value:2390},{name:"16:00",value:3490}];function UF(){return y.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[y.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:y.jsx(ho,{})}),y.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[y.jsx("header",{className:"flex justify-between items-center mb-10",children:y.jsxs("div",{children:[y.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-emerald-400 to-cyan-600 bg-clip-text text-transparent",children:"Yatırım Dünyası"}),y.jsx("p",{className:"text-slate-400 mt-1",children:"DinoCoin ve hisse senedi piyasalarını takip edin."})]})}),y.jsxs("div",{className:"grid gap-6 md:grid-cols-2 lg:grid-cols-4 mb-8",children:[y.jsxs(At,{className:"bg-black/40 border-emerald-500/30",children:[y.jsxs(zt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[y.jsx(Lt,{className:"text-sm font-medium text-slate-200",children:"DinoCoin (DNC)"}),y.jsx(S4,{className:"h-4 w-4 text-emerald-500"})]}),y.jsxs(Ot,{children:[y.jsx("div",{className:"text-2xl font-bold text-white",children:"$45,231.89"}),y.jsxs("p",{className:"text-xs text-emerald-500 flex items-center mt-1",children:[y.jsx(dg,{className:"h-3 w-3 mr-1"})," +20.1% bugün"]})]})]}),y.jsxs(At,{className:"bg-black/40 border-white/10",children:[y.jsxs(zt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[y.jsx(Lt,{className:"text-sm font-medium text-slate-200",children:"Portföy Değeri"}),y.jsx(P4,{className:"h-4 w-4 text-purple-500"})]}),y.jsxs(Ot,{children:[y.jsx("div",{className:"text-2xl font-bold text-white",children:"$12,345.00"}),y.jsxs("p",{className:"text-xs text-purple-500 flex items-center mt-1",children:[y.jsx(g4,{className:"h-3 w-3 mr-1"})," Stabil"]})]})]}),y.jsxs(At,{className:"bg-black/40 border-red-500/30",children:[y.jsxs(zt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[y.jsx(Lt,{className:"text-sm font-medium text-slate-200",children:"Meteor Stocks"}),y.jsx(ES,{className:"h-4 w-4 text-red-500"})]}),y.jsxs(Ot,{children:[y.jsx("div",{className:"text-2xl font-bold text-white",children:"$1,203.45"}),y.jsxs("p",{className:"text-xs text-red-500 flex items-center mt-1",children:[y.jsx(ES,{className:"h-3 w-3 mr-1"})," -4.5% bugün"]})]})]})]}),y.jsxs(At,{className:"bg-black/20 border-white/5",children:[y.jsx(zt,{children:y.jsx(Lt,{className:"text-slate-200",children:"DinoCoin Performansı (24s)"})}),y.jsx(Ot,{className:"h-[400px]",children:y.jsx(VN,{width:"100%",height:"100%",children:y.jsxs(pM,{data:BF,children:[y.jsx("defs",{children:y.jsxs("linearGradient",{id:"colorValue",x1:"0",y1:"0",x2:"0",y2:"1",children:[y.jsx("stop",{offset:"5%",stopColor:"#10b981",stopOpacity:.3}),y.jsx("stop",{offset:"95%",stopColor:"#10b981",stopOpacity:0})]})}),y.jsx(q0,{strokeDasharray:"3 3",vertical:!1,stroke:"rgba(255,255,255,0.05)"}),y.jsx($0,{dataKey:"name",stroke:"#64748b"}),y.jsx(K0,{stroke:"#64748b",prefix:"$"}),y.jsx(NT,{contentStyle:{backgroundColor:"#0f172a",border:"1px solid rgba(255,255,255,0.1)"},itemStyle:{color:"#fff"}}),y.jsx(H0,{type:"monotone",dataKey:"value",stroke:"#10b981",fillOpacity:1,fill:"url(#colorValue)"})]})})})]})]})]})}function IF(){const[e,t]=b.useState({ad:"",soyad:"",email:""});return b.useEffect(()=>{const n=localStorage.getItem("dinoUser");n&&t(JSON.parse(n))},[]),y.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[y.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:y.jsx(ho,{})}),y.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[y.jsxs("header",{className:"mb-10",children:[y.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-slate-200 to-slate-500 bg-clip-text text-transparent",children:"Ayarlar"}),y.jsx("p",{className:"text-slate-400 mt-1",children:"Hesap tercihlerinizi ve g??venlik ayarlarınızı yönetin."})]}),y.jsxs("div",{className:"grid gap-6 max-w-2xl",children:[y.jsxs(At,{className:"bg-black/40 border-white/10",children:[y.jsxs(zt,{children:[y.jsxs(Lt,{className:"flex items-center gap-2 text-white",children:[y.jsx(jO,{className:"h-5 w-5"})," Profil Bilgileri"]}),y.jsx(to,{children:"Kişisel bilgilerinizi güncelleyin."})]}),y.jsxs(Ot,{className:"space-y-4",children:[y.jsxs("div",{className:"grid grid-cols-2 gap-4",children:[y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"name",className:"text-slate-300",children:"İsim"}),y.jsx(jt,{id:"name",defaultValue:e.ad,className:"bg-slate-900 border-slate-700 text-white"})]}),y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"surname",className:"text-slate-300",children:"Soyisim"}),y.jsx(jt,{id:"surname",defaultValue:e.soyad,className:"bg-slate-900 border-slate-700 text-white"})]})]}),y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"email",className:"text-slate-300",children:"E-posta"}),y.jsx(jt,{id:"email",defaultValue:e.email,className:"bg-slate-900 border-slate-700 text-white",disabled:!0})]}),y.jsx(it,{className:"w-full bg-primary text-black font-bold hover:bg-primary/90",children:"Değişiklikleri Kaydet"})]})]}),y.jsxs(At,{className:"bg-black/40 border-white/10",children:[y.jsx(zt,{children:y.jsxs(Lt,{className:"flex items-center gap-2 text-white",children:[y.jsx(fg,{className:"h-5 w-5"})," Güvenlik"]})}),y.jsxs(Ot,{className:"space-y-4",children:[y.jsx(it,{variant:"outline",className:"w-full border-slate-700 text-slate-300 hover:bg-slate-800",children:"Şifre Değiştir"}),y.jsx(it,{variant:"outline",className:"w-full border-red-900/50 text-red-400 hover:bg-red-900/20 hover:text-red-300",children:"Hesabı Sil"})]})]})]})]})]})}function qF(){const[e,t]=b.useState([]),[n,r]=b.useState(!0);return b.useEffect(()=>{(async()=>{const o=localStorage.getItem("dinoUser");if(o){const s=JSON.parse(o);try{const f=await yO(s.id);if(f&&f.id){const d=await gO(f.id),h=p=>p?Array.isArray(p)?new Date(p[0],p[1]-1,p[2],p[3],p[4],p[5]||0):new Date(p):new Date,m=d.sort((p,x)=>h(x.transactionDate)-h(p.transactionDate));t(m.map(p=>({...p,parsedDate:h(p.transactionDate)})))}}catch(f){console.error("History fetch error:",f)}finally{r(!1)}}})()},[]),y.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[y.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:y.jsx(ho,{})}),y.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[y.jsxs("header",{className:"mb-10",children:[y.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-orange-400 to-red-600 bg-clip-text text-transparent",children:"Geçmiş İşlemler"}),y.jsx("p",{className:"text-slate-400 mt-1",children:"Hesap hareketlerinizin detaylı dökümü."})]}),y.jsxs(At,{className:"bg-black/40 border-white/10",children:[y.jsx(zt,{children:y.jsx(Lt,{className:"text-white",children:"İşlem Geçmişi"})}),y.jsx(Ot,{children:y.jsxs(Oi,{children:[y.jsx(Ni,{children:y.jsxs(Ft,{className:"border-white/5 hover:bg-transparent",children:[y.jsx(We,{className:"text-slate-400",children:"Tarih"}),y.jsx(We,{className:"text-slate-400",children:"İşlem Tipi"}),y.jsx(We,{className:"text-slate-400",children:"Açıklama"}),y.jsx(We,{className:"text-right text-slate-400",children:"Tutar"}),y.jsx(We,{className:"text-right text-slate-400",children:"Durum"})]})}),y.jsx(Ci,{children:n?y.jsx(Ft,{children:y.jsx(Be,{colSpan:5,className:"text-center py-8",children:"Yükleniyor..."})}):e.length===0?y.jsx(Ft,{children:y.jsx(Be,{colSpan:5,className:"text-center py-8 text-slate-500",children:"İşlem bulunamadı."})}):e.map(l=>{const o=l.transactionType==="DEPOSIT"||l.transactionType==="INCOMING_TRANSFER";return y.jsxs(Ft,{className:"border-white/5 hover:bg-white/5",children:[y.jsx(Be,{className:"text-slate-300",children:l.parsedDate?l.parsedDate.toLocaleDateString("tr-TR")+" "+l.parsedDate.toLocaleTimeString("tr-TR",{hour:"2-digit",minute:"2-digit"}):"-"}),y.jsx(Be,{className:"text-slate-300",children:l.transactionType}),y.jsx(Be,{className:"text-slate-300",children:l.description}),y.jsxs(Be,{className:Fe("text-right font-bold",o?"text-emerald-400":"text-slate-300"),children:[o?"+":"-","₺",Math.abs(l.amount).toLocaleString("tr-TR",{minimumFractionDigits:2})]}),y.jsx(Be,{className:"text-right",children:y.jsx("span",{className:"px-2 py-1 rounded bg-green-900/40 text-green-400 text-xs font-bold",children:l.status})})]},l.id)})})]})})]})]})]})}function HF(){const[e,t]=b.useState(""),[n,r]=b.useState("12"),[l,o]=b.useState(""),[s,f]=b.useState(!1),[d,h]=b.useState(null),[m,p]=b.useState([]),x=async()=>{try{const E=localStorage.getItem("dinoUser");if(!E)return;const A=JSON.parse(E),j=await fetch(`http://localhost:8081/api/credits/history/${A.id}`);if(j.ok){const _=(await j.json()).sort((C,D)=>new Date(D.applicationDate)-new Date(C.applicationDate));p(_)}}catch(E){console.error("Failed to fetch history",E)}};b.useEffect(()=>{x()},[]);const w=async E=>{E.preventDefault(),f(!0),h(null);const A=localStorage.getItem("dinoUser");if(!A){h({status:"ERROR",message:"Kullanıcı oturumu bulunamadı!"}),f(!1);return}const j=JSON.parse(A);try{const O=await fetch("http://localhost:8081/api/credits/apply",{method:"POST",headers:{"Content-Type":"application/json"},body:JSON.stringify({customerId:j.id,requestedAmount:parseFloat(e),installmentCount:parseInt(n),purpose:l})}),_=await O.json();if(!O.ok)throw new Error(_.message||"Başvuru sırasında bir hata oluştu");_.status==="APPROVED"?h({status:"APPROVED",message:`Tebrikler! ${_.requestedAmount} TL tutarındaki krediniz onaylandı ve hesabınıza yatırıldı.`}):_.status==="REJECTED"?h({status:"REJECTED",message:`Üzgünüz, başvurunuz reddedildi. Sebep: ${_.rejectionReason}`}):h({status:"PENDING",message:"Başvurunuz alındı, değerlendirme sürecinde."}),x()}catch(O){console.error("Error applying for credit:",O),h({status:"ERROR",message:O.message||"Bir hata oluştu. Lütfen tekrar deneyiniz."})}finally{f(!1)}};return y.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[y.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:y.jsx(ho,{})}),y.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[y.jsxs("header",{className:"mb-10",children:[y.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-green-400 to-emerald-600 bg-clip-text text-transparent",children:"Kredi Başvurusu"}),y.jsx("p",{className:"text-slate-400 mt-1",children:"Hayallerinize bir adım daha yaklaşın. Anında kredi sonucu."})]}),y.jsxs("div",{className:"max-w-2xl mx-auto",children:[y.jsxs(At,{className:"bg-black/40 border-white/10 backdrop-blur-sm",children:[y.jsxs(zt,{children:[y.jsxs(Lt,{className:"flex items-center gap-2 text-slate-200",children:[y.jsx(xO,{className:"h-6 w-6 text-emerald-500"}),"Hızlı Kredi"]}),y.jsx(to,{children:"Bakiyenize dayalı anında onaylanan kredi sistemi."})]}),y.jsxs(Ot,{children:[y.jsxs("form",{onSubmit:w,className:"space-y-6",children:[y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"amount",children:"Kredi Tutarı (TL)"}),y.jsx(jt,{id:"amount",type:"number",placeholder:"Örn: 20000",value:e,onChange:E=>t(E.target.value),required:!0,className:"bg-black/20 border-white/10 text-white"})]}),y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"installment",children:"Vade (Ay)"}),y.jsxs("select",{id:"installment",value:n,onChange:E=>r(E.target.value),className:"flex h-10 w-full rounded-md border border-white/10 bg-black/20 px-3 py-2 text-sm ring-offset-background focus-visible:outline-none focus-visible:ring-2 focus-visible:ring-ring focus-visible:ring-offset-2 disabled:cursor-not-allowed disabled:opacity-50 text-white",children:[y.jsx("option",{value:"12",children:"12 Ay"}),y.jsx("option",{value:"24",children:"24 Ay"}),y.jsx("option",{value:"36",children:"36 Ay"}),y.jsx("option",{value:"48",children:"48 Ay"})]})]}),y.jsxs("div",{className:"space-y-2",children:[y.jsx(bt,{htmlFor:"purpose",children:"Kullanım Amacı"}),y.jsx(jt,{id:"purpose",placeholder:"Örn: Tatil, Eğitim, Tadilat",value:l,onChange:E=>o(E.target.value),required:!0,className:"bg-black/20 border-white/10 text-white"})]}),y.jsx(it,{type:"submit",className:"w-full bg-emerald-600 hover:bg-emerald-700 text-white font-bold",disabled:s,children:s?"Değerlendiriliyor...":"Başvuruyu Tamamla"})]}),d&&y.jsxs("div",{className:`mt-6 p-4 rounded-lg flex items-start gap-3 border ${d.status==="APPROVED"?"bg-emerald-500/10 border-emerald-500/30 text-emerald-400":d.status==="REJECTED"?"bg-red-500/10 border-red-500/30 text-red-400":"bg-blue-500/10 border-blue-500/30 text-blue-400"}`,children:[d.status==="APPROVED"&&y.jsx(O4,{className:"h-6 w-6 shrink-0"}),d.status==="REJECTED"&&y.jsx(C4,{className:"h-6 w-6 shrink-0"}),d.status==="ERROR"&&y.jsx(E4,{className:"h-6 w-6 shrink-0"}),y.jsxs("div",{children:[y.jsx("h4",{className:"font-bold",children:d.status==="APPROVED"?"Onaylandı!":d.status==="REJECTED"?"Reddedildi":"İşlem Sonucu"}),y.jsx("p",{className:"text-sm mt-1 opacity-90",children:d.message})]})]})]})]}),y.jsxs("div",{className:"mt-8",children:[y.jsx("h2",{className:"text-2xl font-bold mb-4 text-slate-200",children:"Geçmiş Başvurularım"}),y.jsx(At,{className:"bg-black/20 border-white/5",children:y.jsx(Ot,{className:"p-0",children:y.jsxs(Oi,{children:[y.jsx(Ni,{children:y.jsxs(Ft,{className:"border-white/5 hover:bg-transparent",children:[y.jsx(We,{className:"text-slate-400",children:"Tarih"}),y.jsx(We,{className:"text-slate-400",children:"Amaç"}),y.jsx(We,{className:"text-slate-400",children:"Tutar"}),y.jsx(We,{className:"text-slate-400",children:"Durum"}),y.jsx(We,{className:"text-slate-400",children:"Açıklama"})]})}),y.jsx(Ci,{children:m.length===0?y.jsx(Ft,{children:y.jsx(Be,{colSpan:5,className:"text-center py-8 text-slate-500",children:"Henüz kredi başvurunuz bulunmuyor."})}):m.map(E=>y.jsxs(Ft,{className:"border-white/5 hover:bg-white/5",children:[y.jsx(Be,{className:"font-medium text-slate-300",children:new Date(E.applicationDate).toLocaleDateString("tr-TR")}),y.jsx(Be,{className:"text-slate-300",children:E.purpose}),y.jsxs(Be,{className:"text-slate-300",children:["₺",E.requestedAmount.toLocaleString("tr-TR")]}),y.jsx(Be,{children:y.jsx("span",{className:`px-2 py-1 rounded-full text-xs font-bold ${E.status==="APPROVED"?"bg-emerald-500/20 text-emerald-400":E.status==="REJECTED"?"bg-red-500/20 text-red-400":"bg-yellow-500/20 text-yellow-400"}`,children:E.status==="APPROVED"?"ONAYLANDI":E.status==="REJECTED"?"REDDEDİLDİ":"BEKLEMEDE"})}),y.jsx(Be,{className:"text-slate-400 text-sm max-w-[200px] truncate",title:E.rejectionReason,children:E.rejectionReason||"-"})]},E.id))})]})})})]})]})]})]})}function $F(){const[e,t]=b.useState({customers:[],accounts:[]}),[n,r]=b.useState(!0);return b.useEffect(()=>{(async()=>{try{const o=await no("/admin/db");t(o)}catch(o){console.error("Admin fetch error:",o)}finally{r(!1)}})()},[]),n?y.jsx("div",{className:"text-white text-center p-10",children:"Veritabanı Yükleniyor..."}):y.jsxs("div",{className:"min-h-screen bg-slate-950 p-8 text-white",children:[y.jsx("h1",{className:"text-3xl font-bold mb-8 text-primary",children:"Admin Veritabanı Görünümü"}),y.jsxs("div",{className:"grid gap-8",children:[y.jsxs(At,{className:"bg-slate-900 border-slate-800",children:[y.jsx(zt,{children:y.jsx(Lt,{className:"text-xl text-slate-200",children:"Müşteriler (Customers)"})}),y.jsx(Ot,{children:y.jsx("div",{className:"overflow-x-auto",children:y.jsxs(Oi,{children:[y.jsx(Ni,{children:y.jsxs(Ft,{className:"border-slate-800",children:[y.jsx(We,{className:"text-slate-400",children:"ID"}),y.jsx(We,{className:"text-slate-400",children:"Ad Soyad"}),y.jsx(We,{className:"text-slate-400",children:"Email"}),y.jsx(We,{className:"text-slate-400",children:"TCKN"})]})}),y.jsx(Ci,{children:e.customers?.map(l=>y.jsxs(Ft,{className:"border-slate-800",children:[y.jsx(Be,{children:l.id}),y.jsxs(Be,{children:[l.ad," ",l.soyad]}),y.jsx(Be,{children:l.email}),y.jsx(Be,{children:l.tcKimlikNo})]},l.id))})]})})})]}),y.jsxs(At,{className:"bg-slate-900 border-slate-800",children:[y.jsx(zt,{children:y.jsx(Lt,{className:"text-xl text-slate-200",children:"Hesaplar (Accounts)"})}),y.jsx(Ot,{children:y.jsx("div",{className:"overflow-x-auto",children:y.jsxs(Oi,{children:[y.jsx(Ni,{children:y.jsxs(Ft,{className:"border-slate-800",children:[y.jsx(We,{className:"text-slate-400",children:"ID"}),y.jsx(We,{className:"text-slate-400",children:"Hesap No"}),y.jsx(We,{className:"text-slate-400",children:"Müşteri ID"}),y.jsx(We,{className:"text-slate-400 text-right",children:"Bakiye"})]})}),y.jsx(Ci,{children:e.accounts?.map(l=>y.jsxs(Ft,{className:"border-slate-800",children:[y.jsx(Be,{children:l.id}),y.jsx(Be,{children:l.accountNumber}),y.jsx(Be,{children:l.customer?.id||l.customerId}),y.jsxs(Be,{className:"text-right",children:["₺",l.balance]})]},l.id))})]})})})]}),y.jsxs(At,{className:"bg-slate-900 border-slate-800",children:[y.jsx(zt,{children:y.jsx(Lt,{className:"text-xl text-slate-200",children:"İşlemler (Transactions)"})}),y.jsx(Ot,{children:y.jsx("div",{className:"overflow-x-auto",children:y.jsxs(Oi,{children:[y.jsx(Ni,{children:y.jsxs(Ft,{className:"border-slate-800",children:[y.jsx(We,{className:"text-slate-400",children:"ID"}),y.jsx(We,{className:"text-slate-400",children:"Tip"}),y.jsx(We,{className:"text-slate-400",children:"Tutar"}),y.jsx(We,{className:"text-slate-400",children:"Açıklama"}),y.jsx(We,{className:"text-slate-400",children:"Tarih"})]})}),y.jsx(Ci,{children:e.transactions?.map(l=>y.jsxs(Ft,{className:"border-slate-800",children:[y.jsx(Be,{children:l.id}),y.jsx(Be,{children:l.transactionType}),y.jsxs(Be,{children:["₺",l.amount]}),y.jsx(Be,{children:l.description}),y.jsx(Be,{children:l.transactionDate})]},l.id))})]})})})]})]})]})}const KF="/assets/technical-hero-BJDlk6Ia.png";function YF(){return y.jsxs("div",{className:"min-h-screen bg-slate-950 text-slate-300 font-sans selection:bg-primary/20",children:[y.jsx("nav",{className:"border-b border-white/5 bg-black/20 backdrop-blur-md sticky top-0 z-50",children:y.jsxs("div",{className:"container mx-auto px-6 h-16 flex items-center justify-between",children:[y.jsxs(kn,{to:"/",className:"flex items-center gap-2 group",children:[y.jsx("div",{className:"bg-primary/10 p-2 rounded-lg group-hover:bg-primary/20 transition-colors",children:y.jsx(sg,{className:"h-5 w-5 text-primary"})}),y.jsx("span",{className:"font-semibold text-white",children:"Ana Sayfaya Dön"})]}),y.jsx("div",{className:"text-xl font-bold bg-gradient-to-r from-primary to-emerald-400 bg-clip-text text-transparent",children:"DinoBank Teknik Dokümantasyon"})]})}),y.jsxs("main",{className:"container mx-auto px-6 py-12 max-w-5xl",children:[y.jsx("header",{className:"mb-20 text-center",children:y.jsxs("div",{className:"relative group perspective-1000",children:[y.jsx("div",{className:"absolute -inset-1 bg-gradient-to-r from-primary to-emerald-600 rounded-2xl blur opacity-20 group-hover:opacity-40 transition duration-1000 group-hover:duration-200"}),y.jsx("img",{src:KF,alt:"DinoBank Technical Anatomy",className:"relative rounded-2xl shadow-2xl border border-white/10 w-full transform transition-transform duration-500 hover:scale-[1.01]"})]})}),y.jsxs("section",{className:"mb-24",children:[y.jsxs("div",{className:"flex items-center gap-4 mb-8",children:[y.jsx("div",{className:"p-3 bg-blue-500/10 rounded-2xl",children:y.jsx(T4,{className:"h-8 w-8 text-blue-400"})}),y.jsx("h2",{className:"text-3xl font-bold text-white",children:"1. Sistem Mimarisi"})]}),y.jsxs("div",{className:"bg-slate-900/50 border border-white/5 rounded-3xl p-8 mb-8 hover:border-blue-500/30 transition-colors",children:[y.jsxs("p",{className:"mb-6 leading-loose",children:["DinoBank, modern bir ",y.jsx("strong",{children:"Monolitik Mimari"})," üzerine inşa edilmiştir ancak servis tabanlı bir yaklaşımla tasarlanmıştır. Sistem, istemci (Frontend) ve sunucu (Backend) olmak üzere iki ana bileşenden oluşur ve",y.jsx("strong",{children:"RESTful API"})," prensipleriyle haberleşir."]}),y.jsxs("div",{className:"grid grid-cols-1 md:grid-cols-3 gap-6 mt-8",children:[y.jsxs("div",{className:"bg-black/40 p-6 rounded-2xl border border-white/5",children:[y.jsxs("h3",{className:"text-white font-bold mb-2 flex items-center gap-2",children:[y.jsx(SS,{className:"h-4 w-4 text-purple-400"})," Frontend (İstemci)"]}),y.jsxs("ul",{className:"space-y-2 text-sm text-slate-400",children:[y.jsx("li",{children:"• React (Vite)"}),y.jsx("li",{children:"• Tailwind CSS"}),y.jsx("li",{children:"• Radix UI / Shadcn"}),y.jsx("li",{children:"• Single Page App (SPA)"})]})]}),y.jsx("div",{className:"flex items-center justify-center",children:y.jsx("div",{className:"h-0.5 w-full bg-slate-700 relative",children:y.jsx("span",{className:"absolute top-1/2 left-1/2 -translate-x-1/2 -translate-y-1/2 bg-slate-800 px-2 text-xs text-slate-500 font-mono",children:"JSON / HTTP"})})}),y.jsxs("div",{className:"bg-black/40 p-6 rounded-2xl border border-white/5",children:[y.jsxs("h3",{className:"text-white font-bold mb-2 flex items-center gap-2",children:[y.jsx(jS,{className:"h-4 w-4 text-emerald-400"})," Backend (Sunucu)"]}),y.jsxs("ul",{className:"space-y-2 text-sm text-slate-400",children:[y.jsx("li",{children:"• Java 21"}),y.jsx("li",{children:"• Spring Boot 3.x"}),y.jsx("li",{children:"• Spring Security"}),y.jsx("li",{children:"• PostgreSQL"})]})]})]})]})]}),y.jsxs("section",{className:"mb-24",children:[y.jsxs("div",{className:"flex items-center gap-4 mb-8",children:[y.jsx("div",{className:"p-3 bg-purple-500/10 rounded-2xl",children:y.jsx(SS,{className:"h-8 w-8 text-purple-400"})}),y.jsx("h2",{className:"text-3xl font-bold text-white",children:"2. Frontend Detayları"})]}),y.jsx("div",{className:"space-y-6",children:y.jsxs("div",{className:"bg-slate-900/50 border border-white/5 rounded-3xl p-8",children:[y.jsx("h3",{className:"text-xl font-bold text-white mb-4",children:"Teknoloji Yığını & Yapı"}),y.jsxs("p",{className:"mb-6",children:["Kullanıcı arayüzü, ",y.jsx("strong",{children:"React"})," kütüphanesi kullanılarak geliştirilmiştir. Derleme aracı olarak ",y.jsx("strong",{children:"Vite"})," kullanılarak ışık hızında geliştirme deneyimi sağlanmıştır. Tasarım dili olarak ",y.jsx("strong",{children:"Tailwind CSS"}),' benimsenmiş, böylece tutarlı ve özelleştirilebilir bir "Dark Mode" arayüzü oluşturulmuştur.']}),y.jsxs("div",{className:"grid grid-cols-1 md:grid-cols-2 gap-8",children:[y.jsxs("div",{children:[y.jsx("h4",{className:"font-bold text-slate-200 mb-3 border-b border-white/5 pb-2",children:"📂 Dosya Yapısı"}),y.jsxs("code",{className:"text-sm font-mono text-blue-300 block bg-black/40 p-4 rounded-xl",children:["dinoframe/",y.jsx("br",{}),"├── src/",y.jsx("br",{}),"│   ├── components/ (Sidebar, UI kartları)",y.jsx("br",{}),"│   ├── pages/ (Dashboard, Login, Credit)",y.jsx("br",{}),"│   ├── lib/ (Yardımcı fonksiyonlar)",y.jsx("br",{}),"│   └── App.jsx (Ana Rota Yöneticisi)",y.jsx("br",{})]})]}),y.jsxs("div",{children:[y.jsx("h4",{className:"font-bold text-slate-200 mb-3 border-b border-white/5 pb-2",children:"🎨 Temel Bileşenler"}),y.jsxs("ul",{className:"list-disc list-inside space-y-2 text-slate-400 text-sm",children:[y.jsxs("li",{children:[y.jsx("strong",{className:"text-white",children:"Sidebar.jsx:"})," Tüm sayfalarda bulunan navigasyon menüsü. Aktif sayfayı işaretler."]}),y.jsxs("li",{children:[y.jsx("strong",{className:"text-white",children:"DashboardPage.jsx:"}),' Kullanıcı bakiyesini, kartlarını ve işlem geçmişini özetler. "Dino Seviyesi" (Egg, Rex vb.) burada hesaplanır.']}),y.jsxs("li",{children:[y.jsx("strong",{className:"text-white",children:"CreditPage.jsx:"})," Kredi başvurusu formu. Backend ile konuşarak anlık onay/red alır."]})]})]})]})]})})]}),y.jsxs("section",{className:"mb-24",children:[y.jsxs("div",{className:"flex items-center gap-4 mb-8",children:[y.jsx("div",{className:"p-3 bg-emerald-500/10 rounded-2xl",children:y.jsx(jS,{className:"h-8 w-8 text-emerald-400"})}),y.jsx("h2",{className:"text-3xl font-bold text-white",children:"3. Backend Detayları"})]}),y.jsxs("div",{className:"space-y-6",children:[y.jsxs("div",{className:"bg-slate-900/50 border border-white/5 rounded-3xl p-8",children:[y.jsx("h3",{className:"text-xl font-bold text-white mb-4",children:"Spring Boot Mimarisi"}),y.jsx("div",{className:"prose prose-invert max-w-none",children:y.jsxs("p",{children:["Backend, klasik ",y.jsx("strong",{children:"Katmanlı Mimari (Layered Architecture)"})," prensiplerine sadık kalınarak geliştirilmiştir. Bu yapı, kodun bakımını ve test edilebilirliğini kolaylaştırır."]})}),y.jsxs("div",{className:"mt-8 space-y-4",children:[y.jsxs("div",{className:"flex gap-4",children:[y.jsx("div",{className:"w-32 shrink-0 font-mono text-xs text-right pt-1 text-slate-500",children:"KATMAN 1"}),y.jsxs("div",{className:"flex-1 bg-black/40 p-4 rounded-xl border-l-4 border-blue-500",children:[y.jsx("h4",{className:"font-bold text-blue-400",children:"Controller (Denetleyici)"}),y.jsx("p",{className:"text-sm mt-1",children:"HTTP isteklerini karşılar (GET, POST). JSON formatında yanıt döner."}),y.jsx("div",{className:"mt-2 text-xs font-mono text-slate-500",children:"Örnek: CreditController.java, AuthController.java"})]})]}),y.jsxs("div",{className:"flex gap-4",children:[y.jsx("div",{className:"w-32 shrink-0 font-mono text-xs text-right pt-1 text-slate-500",children:"KATMAN 2"}),y.jsxs("div",{className:"flex-1 bg-black/40 p-4 rounded-xl border-l-4 border-purple-500",children:[y.jsx("h4",{className:"font-bold text-purple-400",children:"Service (İş Mantığı)"}),y.jsx("p",{className:"text-sm mt-1",children:"Banka kurallarının işlediği yer. Kredi onayı, faiz hesabı burada yapılır."}),y.jsx("div",{className:"mt-2 text-xs font-mono text-slate-500",children:"Örnek: CreditService.java -> applyForCredit()"})]})]}),y.jsxs("div",{className:"flex gap-4",children:[y.jsx("div",{className:"w-32 shrink-0 font-mono text-xs text-right pt-1 text-slate-500",children:"KATMAN 3"}),y.jsxs("div",{className:"flex-1 bg-black/40 p-4 rounded-xl border-l-4 border-emerald-500",children:[y.jsx("h4",{className:"font-bold text-emerald-400",children:"Repository (Veri Erişimi)"}),y.jsx("p",{className:"text-sm mt-1",children:"Veritabanı ile konuşan katman. SQL sorguları yerine JPA metodları kullanılır."}),y.jsx("div",{className:"mt-2 text-xs font-mono text-slate-500",children:"Örnek: CustomerRepository.java, AccountRepository.java"})]})]})]})]}),y.jsxs("div",{className:"grid grid-cols-1 md:grid-cols-2 gap-6",children:[y.jsxs("div",{className:"bg-slate-900/50 border border-white/5 rounded-3xl p-8",children:[y.jsxs("h3",{className:"text-xl font-bold text-white mb-4 flex items-center gap-2",children:[y.jsx(fg,{className:"h-5 w-5 text-red-400"})," Güvenlik (Security)"]}),y.jsxs("p",{className:"text-sm text-slate-400 mb-4",children:[y.jsx("strong",{children:"Spring Security"})," kullanılarak uçtan uca koruma sağlanmıştır."]}),y.jsxs("ul",{className:"space-y-3 text-sm",children:[y.jsxs("li",{className:"flex gap-2",children:[y.jsx("span",{className:"bg-red-500/20 text-red-300 px-2 py-0.5 rounded text-xs",children:"BCrypt"}),y.jsx("span",{children:"Şifreler veritabanında asla açık metin olarak saklanmaz, hashlenir."})]}),y.jsxs("li",{className:"flex gap-2",children:[y.jsx("span",{className:"bg-red-500/20 text-red-300 px-2 py-0.5 rounded text-xs",children:"CORS"}),y.jsx("span",{children:"Frontend ve Backend farklı portlarda çalışsa bile güvenli iletişim ayarlandı."})]}),y.jsxs("li",{className:"flex gap-2",children:[y.jsx("span",{className:"bg-red-500/20 text-red-300 px-2 py-0.5 rounded text-xs",children:"Session"}),y.jsx("span",{children:"Kullanıcı oturumları sunucu tarafında yönetilir."})]})]})]}),y.jsxs("div",{className:"bg-slate-900/50 border border-white/5 rounded-3xl p-8",children:[y.jsxs("h3",{className:"text-xl font-bold text-white mb-4 flex items-center gap-2",children:[y.jsx(L4,{className:"h-5 w-5 text-yellow-400"})," Otomatik Veri (Seeding)"]}),y.jsxs("p",{className:"text-sm text-slate-400 mb-4",children:["Proje her başlatıldığında testlerin kolay yapılabilmesi için ",y.jsx("strong",{children:"DataSeeder.java"})," devreye girer."]}),y.jsxs("ul",{className:"space-y-2 text-sm text-slate-400",children:[y.jsx("li",{children:"1. Osman, Kürşat vb. kullanıcıları var mı diye kontrol eder."}),y.jsx("li",{children:"2. Yoksa oluşturur ve hesaplarına varsayılan bakiye ekler."}),y.jsx("li",{children:"3. Örnek işlemler (Netflix, Kira, Maaş) ekleyerek Dashboard'u doldurur."})]})]})]})]})]}),y.jsxs("section",{className:"mb-24",children:[y.jsxs("div",{className:"flex items-center gap-4 mb-8",children:[y.jsx("div",{className:"p-3 bg-yellow-500/10 rounded-2xl",children:y.jsx(k4,{className:"h-8 w-8 text-yellow-400"})}),y.jsx("h2",{className:"text-3xl font-bold text-white",children:"4. Veritabanı Şeması"})]}),y.jsx("div",{className:"bg-slate-900/50 border border-white/5 rounded-3xl p-8 overflow-hidden",children:y.jsxs("div",{className:"flex flex-col md:flex-row gap-12",children:[y.jsxs("div",{className:"flex-1 space-y-4",children:[y.jsx("h3",{className:"text-xl font-bold text-white",children:"Tablolar & İlişkiler"}),y.jsx("p",{className:"text-sm text-slate-400",children:"PostgreSQL üzerinde koşan ilişkisel veritabanı yapımız 4 ana tablodan oluşur."}),y.jsxs("div",{className:"space-y-3 mt-6",children:[y.jsxs("div",{className:"p-4 bg-black/40 rounded-lg border border-white/5",children:[y.jsx("div",{className:"font-mono text-yellow-400 font-bold",children:"customers"}),y.jsx("div",{className:"text-xs text-slate-500 mt-1",children:"id, ad, soyad, email, sifre, tc_kimlik"})]}),y.jsx("div",{className:"flex justify-center -my-2",children:y.jsx("div",{className:"h-4 w-0.5 bg-slate-600"})}),y.jsxs("div",{className:"p-4 bg-black/40 rounded-lg border border-white/5",children:[y.jsx("div",{className:"font-mono text-yellow-400 font-bold",children:"accounts"}),y.jsx("div",{className:"text-xs text-slate-500 mt-1",children:"id, customer_id (FK), balance, currency"})]}),y.jsx("div",{className:"flex justify-center -my-2",children:y.jsx("div",{className:"h-4 w-0.5 bg-slate-600"})}),y.jsxs("div",{className:"grid grid-cols-2 gap-4",children:[y.jsxs("div",{className:"p-4 bg-black/40 rounded-lg border border-white/5",children:[y.jsx("div",{className:"font-mono text-yellow-400 font-bold",children:"transactions"}),y.jsx("div",{className:"text-xs text-slate-500 mt-1",children:"from_account, to_account, amount"})]}),y.jsxs("div",{className:"p-4 bg-black/40 rounded-lg border border-white/5",children:[y.jsx("div",{className:"font-mono text-yellow-400 font-bold",children:"credit_apps"}),y.jsx("div",{className:"text-xs text-slate-500 mt-1",children:"customer_id, amount, status"})]})]})]})]}),y.jsxs("div",{className:"flex-1 bg-black/20 p-6 rounded-2xl border border-white/5",children:[y.jsx("h3",{className:"text-lg font-bold text-white mb-4",children:"Örnek SQL Sorgusu"}),y.jsx("pre",{className:"font-mono text-xs text-blue-300 overflow-x-auto",children:`-- Kredi Başvurusu Onay Mantığı
-SELECT sum(balance) 
-FROM accounts 
-WHERE customer_id = 1;
-
--- Eğer (Toplam Bakiye * 4) >= İstenen Kredi
--- Kredi ONAYLANIR.
--- Para hesaba yatırılır:
-UPDATE accounts 
-SET balance = balance + 20000 
-WHERE id = 5;`})]})]})})]}),y.jsxs("div",{className:"text-center py-20 border-t border-white/5",children:[y.jsx("p",{className:"text-2xl font-bold bg-gradient-to-r from-slate-200 to-slate-500 bg-clip-text text-transparent",children:'"Kodlamak bir sanat değil, modern bir hayatta kalma biçimidir."'}),y.jsx("p",{className:"text-sm text-slate-600 mt-4",children:"- DinoBank Geliştirici Ekibi"})]})]})]})}class GF extends zA.Component{constructor(t){super(t),this.state={hasError:!1,error:null,errorInfo:null}}static getDerivedStateFromError(t){return{hasError:!0}}componentDidCatch(t,n){this.setState({error:t,errorInfo:n}),console.error("Uncaught error:",t,n)}render(){return this.state.hasError?y.jsxs("div",{style:{padding:"20px",color:"red",backgroundColor:"#fff"},children:[y.jsx("h1",{children:"Something went wrong."}),y.jsxs("details",{style:{whiteSpace:"pre-wrap"},children:[this.state.error&&this.state.error.toString(),y.jsx("br",{}),this.state.errorInfo&&this.state.errorInfo.componentStack]})]}):this.props.children}}function VF(){return y.jsx(GF,{children:y.jsx(QP,{children:y.jsx("div",{className:"min-h-screen bg-background font-sans antialiased",children:y.jsxs(_P,{children:[y.jsx(Tn,{path:"/",element:y.jsx(zF,{})}),y.jsx(Tn,{path:"/login",element:y.jsx(sz,{})}),y.jsx(Tn,{path:"/register",element:y.jsx(fz,{})}),y.jsx(Tn,{path:"/dashboard",element:y.jsx(PF,{})}),y.jsx(Tn,{path:"/cards",element:y.jsx(LF,{})}),y.jsx(Tn,{path:"/invest",element:y.jsx(UF,{})}),y.jsx(Tn,{path:"/credit-application",element:y.jsx(HF,{})}),y.jsx(Tn,{path:"/settings",element:y.jsx(IF,{})}),y.jsx(Tn,{path:"/history",element:y.jsx(qF,{})}),y.jsx(Tn,{path:"/admin",element:y.jsx($F,{})}),y.jsx(Tn,{path:"/how-it-works",element:y.jsx(YF,{})}),y.jsx(Tn,{path:"*",element:y.jsx(NP,{to:"/",replace:!0})})]})})})})}console.log("Main.jsx is running");zR.createRoot(document.getElementById("root")).render(y.jsx(b.StrictMode,{children:y.jsx(VF,{})}));
@@ -1,92 +0,0 @@
-function OP(e,t){for(var n=0;n<t.length;n++){const r=t[n];if(typeof r!="string"&&!Array.isArray(r)){for(const l in r)if(l!=="default"&&!(l in e)){const o=Object.getOwnPropertyDescriptor(r,l);o&&Object.defineProperty(e,l,o.get?o:{enumerable:!0,get:()=>r[l]})}}}return Object.freeze(Object.defineProperty(e,Symbol.toStringTag,{value:"Module"}))}(function(){const t=document.createElement("link").relList;if(t&&t.supports&&t.supports("modulepreload"))return;for(const l of document.querySelectorAll('link[rel="modulepreload"]'))r(l);new MutationObserver(l=>{for(const o of l)if(o.type==="childList")for(const s of o.addedNodes)s.tagName==="LINK"&&s.rel==="modulepreload"&&r(s)}).observe(document,{childList:!0,subtree:!0});function n(l){const o={};return l.integrity&&(o.integrity=l.integrity),l.referrerPolicy&&(o.referrerPolicy=l.referrerPolicy),l.crossOrigin==="use-credentials"?o.credentials="include":l.crossOrigin==="anonymous"?o.credentials="omit":o.credentials="same-origin",o}function r(l){if(l.ep)return;l.ep=!0;const o=n(l);fetch(l.href,o)}})();function oa(e){return e&&e.__esModule&&Object.prototype.hasOwnProperty.call(e,"default")?e.default:e}var iv={exports:{}},ou={};var Fw;function AP(){if(Fw)return ou;Fw=1;var e=Symbol.for("react.transitional.element"),t=Symbol.for("react.fragment");function n(r,l,o){var s=null;if(o!==void 0&&(s=""+o),l.key!==void 0&&(s=""+l.key),"key"in l){o={};for(var f in l)f!=="key"&&(o[f]=l[f])}else o=l;return l=o.ref,{$$typeof:e,type:r,key:s,ref:l!==void 0?l:null,props:o}}return ou.Fragment=t,ou.jsx=n,ou.jsxs=n,ou}var Ww;function jP(){return Ww||(Ww=1,iv.exports=AP()),iv.exports}var b=jP(),lv={exports:{}},Se={};var Zw;function NP(){if(Zw)return Se;Zw=1;var e=Symbol.for("react.transitional.element"),t=Symbol.for("react.portal"),n=Symbol.for("react.fragment"),r=Symbol.for("react.strict_mode"),l=Symbol.for("react.profiler"),o=Symbol.for("react.consumer"),s=Symbol.for("react.context"),f=Symbol.for("react.forward_ref"),d=Symbol.for("react.suspense"),h=Symbol.for("react.memo"),m=Symbol.for("react.lazy"),p=Symbol.for("react.activity"),x=Symbol.iterator;function w(P){return P===null||typeof P!="object"?null:(P=x&&P[x]||P["@@iterator"],typeof P=="function"?P:null)}var O={isMounted:function(){return!1},enqueueForceUpdate:function(){},enqueueReplaceState:function(){},enqueueSetState:function(){}},A=Object.assign,S={};function j(P,K,ee){this.props=P,this.context=K,this.refs=S,this.updater=ee||O}j.prototype.isReactComponent={},j.prototype.setState=function(P,K){if(typeof P!="object"&&typeof P!="function"&&P!=null)throw Error("takes an object of state variables to update or a function which returns an object of state variables.");this.updater.enqueueSetState(this,P,K,"setState")},j.prototype.forceUpdate=function(P){this.updater.enqueueForceUpdate(this,P,"forceUpdate")};function _(){}_.prototype=j.prototype;function C(P,K,ee){this.props=P,this.context=K,this.refs=S,this.updater=ee||O}var D=C.prototype=new _;D.constructor=C,A(D,j.prototype),D.isPureReactComponent=!0;var T=Array.isArray;function R(){}var k={H:null,A:null,T:null,S:null},I=Object.prototype.hasOwnProperty;function re(P,K,ee){var ne=ee.ref;return{$$typeof:e,type:P,key:K,ref:ne!==void 0?ne:null,props:ee}}function ae(P,K){return re(P.type,K,P.props)}function W(P){return typeof P=="object"&&P!==null&&P.$$typeof===e}function J(P){var K={"=":"=0",":":"=2"};return"$"+P.replace(/[=:]/g,function(ee){return K[ee]})}var pe=/\/+/g;function ge(P,K){return typeof P=="object"&&P!==null&&P.key!=null?J(""+P.key):K.toString(36)}function xe(P){switch(P.status){case"fulfilled":return P.value;case"rejected":throw P.reason;default:switch(typeof P.status=="string"?P.then(R,R):(P.status="pending",P.then(function(K){P.status==="pending"&&(P.status="fulfilled",P.value=K)},function(K){P.status==="pending"&&(P.status="rejected",P.reason=K)})),P.status){case"fulfilled":return P.value;case"rejected":throw P.reason}}throw P}function q(P,K,ee,ne,he){var we=typeof P;(we==="undefined"||we==="boolean")&&(P=null);var ue=!1;if(P===null)ue=!0;else switch(we){case"bigint":case"string":case"number":ue=!0;break;case"object":switch(P.$$typeof){case e:case t:ue=!0;break;case m:return ue=P._init,q(ue(P._payload),K,ee,ne,he)}}if(ue)return he=he(P),ue=ne===""?"."+ge(P,0):ne,T(he)?(ee="",ue!=null&&(ee=ue.replace(pe,"$&/")+"/"),q(he,K,ee,"",function(be){return be})):he!=null&&(W(he)&&(he=ae(he,ee+(he.key==null||P&&P.key===he.key?"":(""+he.key).replace(pe,"$&/")+"/")+ue)),K.push(he)),1;ue=0;var it=ne===""?".":ne+":";if(T(P))for(var V=0;V<P.length;V++)ne=P[V],we=it+ge(ne,V),ue+=q(ne,K,ee,we,he);else if(V=w(P),typeof V=="function")for(P=V.call(P),V=0;!(ne=P.next()).done;)ne=ne.value,we=it+ge(ne,V++),ue+=q(ne,K,ee,we,he);else if(we==="object"){if(typeof P.then=="function")return q(xe(P),K,ee,ne,he);throw K=String(P),Error("Objects are not valid as a React child (found: "+(K==="[object Object]"?"object with keys {"+Object.keys(P).join(", ")+"}":K)+"). If you meant to render a collection of children, use an array instead.")}return ue}function Q(P,K,ee){if(P==null)return P;var ne=[],he=0;return q(P,ne,"","",function(we){return K.call(ee,we,he++)}),ne}function X(P){if(P._status===-1){var K=P._result;K=K(),K.then(function(ee){(P._status===0||P._status===-1)&&(P._status=1,P._result=ee)},function(ee){(P._status===0||P._status===-1)&&(P._status=2,P._result=ee)}),P._status===-1&&(P._status=0,P._result=K)}if(P._status===1)return P._result.default;throw P._result}var le=typeof reportError=="function"?reportError:function(P){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var K=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof P=="object"&&P!==null&&typeof P.message=="string"?String(P.message):String(P),error:P});if(!window.dispatchEvent(K))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",P);return}console.error(P)},Oe={map:Q,forEach:function(P,K,ee){Q(P,function(){K.apply(this,arguments)},ee)},count:function(P){var K=0;return Q(P,function(){K++}),K},toArray:function(P){return Q(P,function(K){return K})||[]},only:function(P){if(!W(P))throw Error("React.Children.only expected to receive a single React element child.");return P}};return Se.Activity=p,Se.Children=Oe,Se.Component=j,Se.Fragment=n,Se.Profiler=l,Se.PureComponent=C,Se.StrictMode=r,Se.Suspense=d,Se.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE=k,Se.__COMPILER_RUNTIME={__proto__:null,c:function(P){return k.H.useMemoCache(P)}},Se.cache=function(P){return function(){return P.apply(null,arguments)}},Se.cacheSignal=function(){return null},Se.cloneElement=function(P,K,ee){if(P==null)throw Error("The argument must be a React element, but you passed "+P+".");var ne=A({},P.props),he=P.key;if(K!=null)for(we in K.key!==void 0&&(he=""+K.key),K)!I.call(K,we)||we==="key"||we==="__self"||we==="__source"||we==="ref"&&K.ref===void 0||(ne[we]=K[we]);var we=arguments.length-2;if(we===1)ne.children=ee;else if(1<we){for(var ue=Array(we),it=0;it<we;it++)ue[it]=arguments[it+2];ne.children=ue}return re(P.type,he,ne)},Se.createContext=function(P){return P={$$typeof:s,_currentValue:P,_currentValue2:P,_threadCount:0,Provider:null,Consumer:null},P.Provider=P,P.Consumer={$$typeof:o,_context:P},P},Se.createElement=function(P,K,ee){var ne,he={},we=null;if(K!=null)for(ne in K.key!==void 0&&(we=""+K.key),K)I.call(K,ne)&&ne!=="key"&&ne!=="__self"&&ne!=="__source"&&(he[ne]=K[ne]);var ue=arguments.length-2;if(ue===1)he.children=ee;else if(1<ue){for(var it=Array(ue),V=0;V<ue;V++)it[V]=arguments[V+2];he.children=it}if(P&&P.defaultProps)for(ne in ue=P.defaultProps,ue)he[ne]===void 0&&(he[ne]=ue[ne]);return re(P,we,he)},Se.createRef=function(){return{current:null}},Se.forwardRef=function(P){return{$$typeof:f,render:P}},Se.isValidElement=W,Se.lazy=function(P){return{$$typeof:m,_payload:{_status:-1,_result:P},_init:X}},Se.memo=function(P,K){return{$$typeof:h,type:P,compare:K===void 0?null:K}},Se.startTransition=function(P){var K=k.T,ee={};k.T=ee;try{var ne=P(),he=k.S;he!==null&&he(ee,ne),typeof ne=="object"&&ne!==null&&typeof ne.then=="function"&&ne.then(R,le)}catch(we){le(we)}finally{K!==null&&ee.types!==null&&(K.types=ee.types),k.T=K}},Se.unstable_useCacheRefresh=function(){return k.H.useCacheRefresh()},Se.use=function(P){return k.H.use(P)},Se.useActionState=function(P,K,ee){return k.H.useActionState(P,K,ee)},Se.useCallback=function(P,K){return k.H.useCallback(P,K)},Se.useContext=function(P){return k.H.useContext(P)},Se.useDebugValue=function(){},Se.useDeferredValue=function(P,K){return k.H.useDeferredValue(P,K)},Se.useEffect=function(P,K){return k.H.useEffect(P,K)},Se.useEffectEvent=function(P){return k.H.useEffectEvent(P)},Se.useId=function(){return k.H.useId()},Se.useImperativeHandle=function(P,K,ee){return k.H.useImperativeHandle(P,K,ee)},Se.useInsertionEffect=function(P,K){return k.H.useInsertionEffect(P,K)},Se.useLayoutEffect=function(P,K){return k.H.useLayoutEffect(P,K)},Se.useMemo=function(P,K){return k.H.useMemo(P,K)},Se.useOptimistic=function(P,K){return k.H.useOptimistic(P,K)},Se.useReducer=function(P,K,ee){return k.H.useReducer(P,K,ee)},Se.useRef=function(P){return k.H.useRef(P)},Se.useState=function(P){return k.H.useState(P)},Se.useSyncExternalStore=function(P,K,ee){return k.H.useSyncExternalStore(P,K,ee)},Se.useTransition=function(){return k.H.useTransition()},Se.version="19.2.1",Se}var Qw;function Fl(){return Qw||(Qw=1,lv.exports=NP()),lv.exports}var g=Fl();const k2=oa(g),ed=OP({__proto__:null,default:k2},[g]);var ov={exports:{}},uu={},uv={exports:{}},sv={};var Jw;function CP(){return Jw||(Jw=1,(function(e){function t(q,Q){var X=q.length;q.push(Q);e:for(;0<X;){var le=X-1>>>1,Oe=q[le];if(0<l(Oe,Q))q[le]=Q,q[X]=Oe,X=le;else break e}}function n(q){return q.length===0?null:q[0]}function r(q){if(q.length===0)return null;var Q=q[0],X=q.pop();if(X!==Q){q[0]=X;e:for(var le=0,Oe=q.length,P=Oe>>>1;le<P;){var K=2*(le+1)-1,ee=q[K],ne=K+1,he=q[ne];if(0>l(ee,X))ne<Oe&&0>l(he,ee)?(q[le]=he,q[ne]=X,le=ne):(q[le]=ee,q[K]=X,le=K);else if(ne<Oe&&0>l(he,X))q[le]=he,q[ne]=X,le=ne;else break e}}return Q}function l(q,Q){var X=q.sortIndex-Q.sortIndex;return X!==0?X:q.id-Q.id}if(e.unstable_now=void 0,typeof performance=="object"&&typeof performance.now=="function"){var o=performance;e.unstable_now=function(){return o.now()}}else{var s=Date,f=s.now();e.unstable_now=function(){return s.now()-f}}var d=[],h=[],m=1,p=null,x=3,w=!1,O=!1,A=!1,S=!1,j=typeof setTimeout=="function"?setTimeout:null,_=typeof clearTimeout=="function"?clearTimeout:null,C=typeof setImmediate<"u"?setImmediate:null;function D(q){for(var Q=n(h);Q!==null;){if(Q.callback===null)r(h);else if(Q.startTime<=q)r(h),Q.sortIndex=Q.expirationTime,t(d,Q);else break;Q=n(h)}}function T(q){if(A=!1,D(q),!O)if(n(d)!==null)O=!0,R||(R=!0,J());else{var Q=n(h);Q!==null&&xe(T,Q.startTime-q)}}var R=!1,k=-1,I=5,re=-1;function ae(){return S?!0:!(e.unstable_now()-re<I)}function W(){if(S=!1,R){var q=e.unstable_now();re=q;var Q=!0;try{e:{O=!1,A&&(A=!1,_(k),k=-1),w=!0;var X=x;try{t:{for(D(q),p=n(d);p!==null&&!(p.expirationTime>q&&ae());){var le=p.callback;if(typeof le=="function"){p.callback=null,x=p.priorityLevel;var Oe=le(p.expirationTime<=q);if(q=e.unstable_now(),typeof Oe=="function"){p.callback=Oe,D(q),Q=!0;break t}p===n(d)&&r(d),D(q)}else r(d);p=n(d)}if(p!==null)Q=!0;else{var P=n(h);P!==null&&xe(T,P.startTime-q),Q=!1}}break e}finally{p=null,x=X,w=!1}Q=void 0}}finally{Q?J():R=!1}}}var J;if(typeof C=="function")J=function(){C(W)};else if(typeof MessageChannel<"u"){var pe=new MessageChannel,ge=pe.port2;pe.port1.onmessage=W,J=function(){ge.postMessage(null)}}else J=function(){j(W,0)};function xe(q,Q){k=j(function(){q(e.unstable_now())},Q)}e.unstable_IdlePriority=5,e.unstable_ImmediatePriority=1,e.unstable_LowPriority=4,e.unstable_NormalPriority=3,e.unstable_Profiling=null,e.unstable_UserBlockingPriority=2,e.unstable_cancelCallback=function(q){q.callback=null},e.unstable_forceFrameRate=function(q){0>q||125<q?console.error("forceFrameRate takes a positive int between 0 and 125, forcing frame rates higher than 125 fps is not supported"):I=0<q?Math.floor(1e3/q):5},e.unstable_getCurrentPriorityLevel=function(){return x},e.unstable_next=function(q){switch(x){case 1:case 2:case 3:var Q=3;break;default:Q=x}var X=x;x=Q;try{return q()}finally{x=X}},e.unstable_requestPaint=function(){S=!0},e.unstable_runWithPriority=function(q,Q){switch(q){case 1:case 2:case 3:case 4:case 5:break;default:q=3}var X=x;x=q;try{return Q()}finally{x=X}},e.unstable_scheduleCallback=function(q,Q,X){var le=e.unstable_now();switch(typeof X=="object"&&X!==null?(X=X.delay,X=typeof X=="number"&&0<X?le+X:le):X=le,q){case 1:var Oe=-1;break;case 2:Oe=250;break;case 5:Oe=1073741823;break;case 4:Oe=1e4;break;default:Oe=5e3}return Oe=X+Oe,q={id:m++,callback:Q,priorityLevel:q,startTime:X,expirationTime:Oe,sortIndex:-1},X>le?(q.sortIndex=X,t(h,q),n(d)===null&&q===n(h)&&(A?(_(k),k=-1):A=!0,xe(T,X-le))):(q.sortIndex=Oe,t(d,q),O||w||(O=!0,R||(R=!0,J()))),q},e.unstable_shouldYield=ae,e.unstable_wrapCallback=function(q){var Q=x;return function(){var X=x;x=Q;try{return q.apply(this,arguments)}finally{x=X}}}})(sv)),sv}var eS;function _P(){return eS||(eS=1,uv.exports=CP()),uv.exports}var cv={exports:{}},Jt={};var tS;function TP(){if(tS)return Jt;tS=1;var e=Fl();function t(d){var h="https://react.dev/errors/"+d;if(1<arguments.length){h+="?args[]="+encodeURIComponent(arguments[1]);for(var m=2;m<arguments.length;m++)h+="&args[]="+encodeURIComponent(arguments[m])}return"Minified React error #"+d+"; visit "+h+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}function n(){}var r={d:{f:n,r:function(){throw Error(t(522))},D:n,C:n,L:n,m:n,X:n,S:n,M:n},p:0,findDOMNode:null},l=Symbol.for("react.portal");function o(d,h,m){var p=3<arguments.length&&arguments[3]!==void 0?arguments[3]:null;return{$$typeof:l,key:p==null?null:""+p,children:d,containerInfo:h,implementation:m}}var s=e.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE;function f(d,h){if(d==="font")return"";if(typeof h=="string")return h==="use-credentials"?h:""}return Jt.__DOM_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE=r,Jt.createPortal=function(d,h){var m=2<arguments.length&&arguments[2]!==void 0?arguments[2]:null;if(!h||h.nodeType!==1&&h.nodeType!==9&&h.nodeType!==11)throw Error(t(299));return o(d,h,null,m)},Jt.flushSync=function(d){var h=s.T,m=r.p;try{if(s.T=null,r.p=2,d)return d()}finally{s.T=h,r.p=m,r.d.f()}},Jt.preconnect=function(d,h){typeof d=="string"&&(h?(h=h.crossOrigin,h=typeof h=="string"?h==="use-credentials"?h:"":void 0):h=null,r.d.C(d,h))},Jt.prefetchDNS=function(d){typeof d=="string"&&r.d.D(d)},Jt.preinit=function(d,h){if(typeof d=="string"&&h&&typeof h.as=="string"){var m=h.as,p=f(m,h.crossOrigin),x=typeof h.integrity=="string"?h.integrity:void 0,w=typeof h.fetchPriority=="string"?h.fetchPriority:void 0;m==="style"?r.d.S(d,typeof h.precedence=="string"?h.precedence:void 0,{crossOrigin:p,integrity:x,fetchPriority:w}):m==="script"&&r.d.X(d,{crossOrigin:p,integrity:x,fetchPriority:w,nonce:typeof h.nonce=="string"?h.nonce:void 0})}},Jt.preinitModule=function(d,h){if(typeof d=="string")if(typeof h=="object"&&h!==null){if(h.as==null||h.as==="script"){var m=f(h.as,h.crossOrigin);r.d.M(d,{crossOrigin:m,integrity:typeof h.integrity=="string"?h.integrity:void 0,nonce:typeof h.nonce=="string"?h.nonce:void 0})}}else h==null&&r.d.M(d)},Jt.preload=function(d,h){if(typeof d=="string"&&typeof h=="object"&&h!==null&&typeof h.as=="string"){var m=h.as,p=f(m,h.crossOrigin);r.d.L(d,m,{crossOrigin:p,integrity:typeof h.integrity=="string"?h.integrity:void 0,nonce:typeof h.nonce=="string"?h.nonce:void 0,type:typeof h.type=="string"?h.type:void 0,fetchPriority:typeof h.fetchPriority=="string"?h.fetchPriority:void 0,referrerPolicy:typeof h.referrerPolicy=="string"?h.referrerPolicy:void 0,imageSrcSet:typeof h.imageSrcSet=="string"?h.imageSrcSet:void 0,imageSizes:typeof h.imageSizes=="string"?h.imageSizes:void 0,media:typeof h.media=="string"?h.media:void 0})}},Jt.preloadModule=function(d,h){if(typeof d=="string")if(h){var m=f(h.as,h.crossOrigin);r.d.m(d,{as:typeof h.as=="string"&&h.as!=="script"?h.as:void 0,crossOrigin:m,integrity:typeof h.integrity=="string"?h.integrity:void 0})}else r.d.m(d)},Jt.requestFormReset=function(d){r.d.r(d)},Jt.unstable_batchedUpdates=function(d,h){return d(h)},Jt.useFormState=function(d,h,m){return s.H.useFormState(d,h,m)},Jt.useFormStatus=function(){return s.H.useHostTransitionStatus()},Jt.version="19.2.1",Jt}var nS;function P2(){if(nS)return cv.exports;nS=1;function e(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(e)}catch(t){console.error(t)}}return e(),cv.exports=TP(),cv.exports}var rS;function MP(){if(rS)return uu;rS=1;var e=_P(),t=Fl(),n=P2();function r(a){var i="https://react.dev/errors/"+a;if(1<arguments.length){i+="?args[]="+encodeURIComponent(arguments[1]);for(var u=2;u<arguments.length;u++)i+="&args[]="+encodeURIComponent(arguments[u])}return"Minified React error #"+a+"; visit "+i+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}function l(a){return!(!a||a.nodeType!==1&&a.nodeType!==9&&a.nodeType!==11)}function o(a){var i=a,u=a;if(a.alternate)for(;i.return;)i=i.return;else{a=i;do i=a,(i.flags&4098)!==0&&(u=i.return),a=i.return;while(a)}return i.tag===3?u:null}function s(a){if(a.tag===13){var i=a.memoizedState;if(i===null&&(a=a.alternate,a!==null&&(i=a.memoizedState)),i!==null)return i.dehydrated}return null}function f(a){if(a.tag===31){var i=a.memoizedState;if(i===null&&(a=a.alternate,a!==null&&(i=a.memoizedState)),i!==null)return i.dehydrated}return null}function d(a){if(o(a)!==a)throw Error(r(188))}function h(a){var i=a.alternate;if(!i){if(i=o(a),i===null)throw Error(r(188));return i!==a?null:a}for(var u=a,c=i;;){var v=u.return;if(v===null)break;var y=v.alternate;if(y===null){if(c=v.return,c!==null){u=c;continue}break}if(v.child===y.child){for(y=v.child;y;){if(y===u)return d(v),a;if(y===c)return d(v),i;y=y.sibling}throw Error(r(188))}if(u.return!==c.return)u=v,c=y;else{for(var E=!1,N=v.child;N;){if(N===u){E=!0,u=v,c=y;break}if(N===c){E=!0,c=v,u=y;break}N=N.sibling}if(!E){for(N=y.child;N;){if(N===u){E=!0,u=y,c=v;break}if(N===c){E=!0,c=y,u=v;break}N=N.sibling}if(!E)throw Error(r(189))}}if(u.alternate!==c)throw Error(r(190))}if(u.tag!==3)throw Error(r(188));return u.stateNode.current===u?a:i}function m(a){var i=a.tag;if(i===5||i===26||i===27||i===6)return a;for(a=a.child;a!==null;){if(i=m(a),i!==null)return i;a=a.sibling}return null}var p=Object.assign,x=Symbol.for("react.element"),w=Symbol.for("react.transitional.element"),O=Symbol.for("react.portal"),A=Symbol.for("react.fragment"),S=Symbol.for("react.strict_mode"),j=Symbol.for("react.profiler"),_=Symbol.for("react.consumer"),C=Symbol.for("react.context"),D=Symbol.for("react.forward_ref"),T=Symbol.for("react.suspense"),R=Symbol.for("react.suspense_list"),k=Symbol.for("react.memo"),I=Symbol.for("react.lazy"),re=Symbol.for("react.activity"),ae=Symbol.for("react.memo_cache_sentinel"),W=Symbol.iterator;function J(a){return a===null||typeof a!="object"?null:(a=W&&a[W]||a["@@iterator"],typeof a=="function"?a:null)}var pe=Symbol.for("react.client.reference");function ge(a){if(a==null)return null;if(typeof a=="function")return a.$$typeof===pe?null:a.displayName||a.name||null;if(typeof a=="string")return a;switch(a){case A:return"Fragment";case j:return"Profiler";case S:return"StrictMode";case T:return"Suspense";case R:return"SuspenseList";case re:return"Activity"}if(typeof a=="object")switch(a.$$typeof){case O:return"Portal";case C:return a.displayName||"Context";case _:return(a._context.displayName||"Context")+".Consumer";case D:var i=a.render;return a=a.displayName,a||(a=i.displayName||i.name||"",a=a!==""?"ForwardRef("+a+")":"ForwardRef"),a;case k:return i=a.displayName||null,i!==null?i:ge(a.type)||"Memo";case I:i=a._payload,a=a._init;try{return ge(a(i))}catch{}}return null}var xe=Array.isArray,q=t.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE,Q=n.__DOM_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE,X={pending:!1,data:null,method:null,action:null},le=[],Oe=-1;function P(a){return{current:a}}function K(a){0>Oe||(a.current=le[Oe],le[Oe]=null,Oe--)}function ee(a,i){Oe++,le[Oe]=a.current,a.current=i}var ne=P(null),he=P(null),we=P(null),ue=P(null);function it(a,i){switch(ee(we,i),ee(he,a),ee(ne,null),i.nodeType){case 9:case 11:a=(a=i.documentElement)&&(a=a.namespaceURI)?gw(a):0;break;default:if(a=i.tagName,i=i.namespaceURI)i=gw(i),a=bw(i,a);else switch(a){case"svg":a=1;break;case"math":a=2;break;default:a=0}}K(ne),ee(ne,a)}function V(){K(ne),K(he),K(we)}function be(a){a.memoizedState!==null&&ee(ue,a);var i=ne.current,u=bw(i,a.type);i!==u&&(ee(he,a),ee(ne,u))}function Ae(a){he.current===a&&(K(ne),K(he)),ue.current===a&&(K(ue),ru._currentValue=X)}var te,It;function ke(a){if(te===void 0)try{throw Error()}catch(u){var i=u.stack.trim().match(/\n( *(at )?)/);te=i&&i[1]||"",It=-1<u.stack.indexOf(`
-    at`)?" (<anonymous>)":-1<u.stack.indexOf("@")?"@unknown:0:0":""}return`
-`+te+a+It}var qt=!1;function Ht(a,i){if(!a||qt)return"";qt=!0;var u=Error.prepareStackTrace;Error.prepareStackTrace=void 0;try{var c={DetermineComponentFrameRoot:function(){try{if(i){var Z=function(){throw Error()};if(Object.defineProperty(Z.prototype,"props",{set:function(){throw Error()}}),typeof Reflect=="object"&&Reflect.construct){try{Reflect.construct(Z,[])}catch($){var H=$}Reflect.construct(a,[],Z)}else{try{Z.call()}catch($){H=$}a.call(Z.prototype)}}else{try{throw Error()}catch($){H=$}(Z=a())&&typeof Z.catch=="function"&&Z.catch(function(){})}}catch($){if($&&H&&typeof $.stack=="string")return[$.stack,H.stack]}return[null,null]}};c.DetermineComponentFrameRoot.displayName="DetermineComponentFrameRoot";var v=Object.getOwnPropertyDescriptor(c.DetermineComponentFrameRoot,"name");v&&v.configurable&&Object.defineProperty(c.DetermineComponentFrameRoot,"name",{value:"DetermineComponentFrameRoot"});var y=c.DetermineComponentFrameRoot(),E=y[0],N=y[1];if(E&&N){var M=E.split(`
-`),U=N.split(`
-`);for(v=c=0;c<M.length&&!M[c].includes("DetermineComponentFrameRoot");)c++;for(;v<U.length&&!U[v].includes("DetermineComponentFrameRoot");)v++;if(c===M.length||v===U.length)for(c=M.length-1,v=U.length-1;1<=c&&0<=v&&M[c]!==U[v];)v--;for(;1<=c&&0<=v;c--,v--)if(M[c]!==U[v]){if(c!==1||v!==1)do if(c--,v--,0>v||M[c]!==U[v]){var G=`
-`+M[c].replace(" at new "," at ");return a.displayName&&G.includes("<anonymous>")&&(G=G.replace("<anonymous>",a.displayName)),G}while(1<=c&&0<=v);break}}}finally{qt=!1,Error.prepareStackTrace=u}return(u=a?a.displayName||a.name:"")?ke(u):""}function jr(a,i){switch(a.tag){case 26:case 27:case 5:return ke(a.type);case 16:return ke("Lazy");case 13:return a.child!==i&&i!==null?ke("Suspense Fallback"):ke("Suspense");case 19:return ke("SuspenseList");case 0:case 15:return Ht(a.type,!1);case 11:return Ht(a.type.render,!1);case 1:return Ht(a.type,!0);case 31:return ke("Activity");default:return""}}function mo(a){try{var i="",u=null;do i+=jr(a,u),u=a,a=a.return;while(a);return i}catch(c){return`
-Error generating stack: `+c.message+`
-`+c.stack}}var Yd=Object.prototype.hasOwnProperty,Kd=e.unstable_scheduleCallback,Gd=e.unstable_cancelCallback,nD=e.unstable_shouldYield,rD=e.unstable_requestPaint,xn=e.unstable_now,aD=e.unstable_getCurrentPriorityLevel,W0=e.unstable_ImmediatePriority,Z0=e.unstable_UserBlockingPriority,cs=e.unstable_NormalPriority,iD=e.unstable_LowPriority,Q0=e.unstable_IdlePriority,lD=e.log,oD=e.unstable_setDisableYieldValue,vo=null,wn=null;function ya(a){if(typeof lD=="function"&&oD(a),wn&&typeof wn.setStrictMode=="function")try{wn.setStrictMode(vo,a)}catch{}}var Sn=Math.clz32?Math.clz32:cD,uD=Math.log,sD=Math.LN2;function cD(a){return a>>>=0,a===0?32:31-(uD(a)/sD|0)|0}var fs=256,ds=262144,hs=4194304;function ti(a){var i=a&42;if(i!==0)return i;switch(a&-a){case 1:return 1;case 2:return 2;case 4:return 4;case 8:return 8;case 16:return 16;case 32:return 32;case 64:return 64;case 128:return 128;case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:return a&261888;case 262144:case 524288:case 1048576:case 2097152:return a&3932160;case 4194304:case 8388608:case 16777216:case 33554432:return a&62914560;case 67108864:return 67108864;case 134217728:return 134217728;case 268435456:return 268435456;case 536870912:return 536870912;case 1073741824:return 0;default:return a}}function ms(a,i,u){var c=a.pendingLanes;if(c===0)return 0;var v=0,y=a.suspendedLanes,E=a.pingedLanes;a=a.warmLanes;var N=c&134217727;return N!==0?(c=N&~y,c!==0?v=ti(c):(E&=N,E!==0?v=ti(E):u||(u=N&~a,u!==0&&(v=ti(u))))):(N=c&~y,N!==0?v=ti(N):E!==0?v=ti(E):u||(u=c&~a,u!==0&&(v=ti(u)))),v===0?0:i!==0&&i!==v&&(i&y)===0&&(y=v&-v,u=i&-i,y>=u||y===32&&(u&4194048)!==0)?i:v}function po(a,i){return(a.pendingLanes&~(a.suspendedLanes&~a.pingedLanes)&i)===0}function fD(a,i){switch(a){case 1:case 2:case 4:case 8:case 64:return i+250;case 16:case 32:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return i+5e3;case 4194304:case 8388608:case 16777216:case 33554432:return-1;case 67108864:case 134217728:case 268435456:case 536870912:case 1073741824:return-1;default:return-1}}function J0(){var a=hs;return hs<<=1,(hs&62914560)===0&&(hs=4194304),a}function Vd(a){for(var i=[],u=0;31>u;u++)i.push(a);return i}function yo(a,i){a.pendingLanes|=i,i!==268435456&&(a.suspendedLanes=0,a.pingedLanes=0,a.warmLanes=0)}function dD(a,i,u,c,v,y){var E=a.pendingLanes;a.pendingLanes=u,a.suspendedLanes=0,a.pingedLanes=0,a.warmLanes=0,a.expiredLanes&=u,a.entangledLanes&=u,a.errorRecoveryDisabledLanes&=u,a.shellSuspendCounter=0;var N=a.entanglements,M=a.expirationTimes,U=a.hiddenUpdates;for(u=E&~u;0<u;){var G=31-Sn(u),Z=1<<G;N[G]=0,M[G]=-1;var H=U[G];if(H!==null)for(U[G]=null,G=0;G<H.length;G++){var $=H[G];$!==null&&($.lane&=-536870913)}u&=~Z}c!==0&&eb(a,c,0),y!==0&&v===0&&a.tag!==0&&(a.suspendedLanes|=y&~(E&~i))}function eb(a,i,u){a.pendingLanes|=i,a.suspendedLanes&=~i;var c=31-Sn(i);a.entangledLanes|=i,a.entanglements[c]=a.entanglements[c]|1073741824|u&261930}function tb(a,i){var u=a.entangledLanes|=i;for(a=a.entanglements;u;){var c=31-Sn(u),v=1<<c;v&i|a[c]&i&&(a[c]|=i),u&=~v}}function nb(a,i){var u=i&-i;return u=(u&42)!==0?1:Xd(u),(u&(a.suspendedLanes|i))!==0?0:u}function Xd(a){switch(a){case 2:a=1;break;case 8:a=4;break;case 32:a=16;break;case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:case 4194304:case 8388608:case 16777216:case 33554432:a=128;break;case 268435456:a=134217728;break;default:a=0}return a}function Fd(a){return a&=-a,2<a?8<a?(a&134217727)!==0?32:268435456:8:2}function rb(){var a=Q.p;return a!==0?a:(a=window.event,a===void 0?32:Hw(a.type))}function ab(a,i){var u=Q.p;try{return Q.p=a,i()}finally{Q.p=u}}var ga=Math.random().toString(36).slice(2),$t="__reactFiber$"+ga,sn="__reactProps$"+ga,Yi="__reactContainer$"+ga,Wd="__reactEvents$"+ga,hD="__reactListeners$"+ga,mD="__reactHandles$"+ga,ib="__reactResources$"+ga,go="__reactMarker$"+ga;function Zd(a){delete a[$t],delete a[sn],delete a[Wd],delete a[hD],delete a[mD]}function Ki(a){var i=a[$t];if(i)return i;for(var u=a.parentNode;u;){if(i=u[Yi]||u[$t]){if(u=i.alternate,i.child!==null||u!==null&&u.child!==null)for(a=jw(a);a!==null;){if(u=a[$t])return u;a=jw(a)}return i}a=u,u=a.parentNode}return null}function Gi(a){if(a=a[$t]||a[Yi]){var i=a.tag;if(i===5||i===6||i===13||i===31||i===26||i===27||i===3)return a}return null}function bo(a){var i=a.tag;if(i===5||i===26||i===27||i===6)return a.stateNode;throw Error(r(33))}function Vi(a){var i=a[ib];return i||(i=a[ib]={hoistableStyles:new Map,hoistableScripts:new Map}),i}function kt(a){a[go]=!0}var lb=new Set,ob={};function ni(a,i){Xi(a,i),Xi(a+"Capture",i)}function Xi(a,i){for(ob[a]=i,a=0;a<i.length;a++)lb.add(i[a])}var vD=RegExp("^[:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD][:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD\\-.0-9\\u00B7\\u0300-\\u036F\\u203F-\\u2040]*$"),ub={},sb={};function pD(a){return Yd.call(sb,a)?!0:Yd.call(ub,a)?!1:vD.test(a)?sb[a]=!0:(ub[a]=!0,!1)}function vs(a,i,u){if(pD(i))if(u===null)a.removeAttribute(i);else{switch(typeof u){case"undefined":case"function":case"symbol":a.removeAttribute(i);return;case"boolean":var c=i.toLowerCase().slice(0,5);if(c!=="data-"&&c!=="aria-"){a.removeAttribute(i);return}}a.setAttribute(i,""+u)}}function ps(a,i,u){if(u===null)a.removeAttribute(i);else{switch(typeof u){case"undefined":case"function":case"symbol":case"boolean":a.removeAttribute(i);return}a.setAttribute(i,""+u)}}function Nr(a,i,u,c){if(c===null)a.removeAttribute(u);else{switch(typeof c){case"undefined":case"function":case"symbol":case"boolean":a.removeAttribute(u);return}a.setAttributeNS(i,u,""+c)}}function zn(a){switch(typeof a){case"bigint":case"boolean":case"number":case"string":case"undefined":return a;case"object":return a;default:return""}}function cb(a){var i=a.type;return(a=a.nodeName)&&a.toLowerCase()==="input"&&(i==="checkbox"||i==="radio")}function yD(a,i,u){var c=Object.getOwnPropertyDescriptor(a.constructor.prototype,i);if(!a.hasOwnProperty(i)&&typeof c<"u"&&typeof c.get=="function"&&typeof c.set=="function"){var v=c.get,y=c.set;return Object.defineProperty(a,i,{configurable:!0,get:function(){return v.call(this)},set:function(E){u=""+E,y.call(this,E)}}),Object.defineProperty(a,i,{enumerable:c.enumerable}),{getValue:function(){return u},setValue:function(E){u=""+E},stopTracking:function(){a._valueTracker=null,delete a[i]}}}}function Qd(a){if(!a._valueTracker){var i=cb(a)?"checked":"value";a._valueTracker=yD(a,i,""+a[i])}}function fb(a){if(!a)return!1;var i=a._valueTracker;if(!i)return!0;var u=i.getValue(),c="";return a&&(c=cb(a)?a.checked?"true":"false":a.value),a=c,a!==u?(i.setValue(a),!0):!1}function ys(a){if(a=a||(typeof document<"u"?document:void 0),typeof a>"u")return null;try{return a.activeElement||a.body}catch{return a.body}}var gD=/[\n"\\]/g;function Ln(a){return a.replace(gD,function(i){return"\\"+i.charCodeAt(0).toString(16)+" "})}function Jd(a,i,u,c,v,y,E,N){a.name="",E!=null&&typeof E!="function"&&typeof E!="symbol"&&typeof E!="boolean"?a.type=E:a.removeAttribute("type"),i!=null?E==="number"?(i===0&&a.value===""||a.value!=i)&&(a.value=""+zn(i)):a.value!==""+zn(i)&&(a.value=""+zn(i)):E!=="submit"&&E!=="reset"||a.removeAttribute("value"),i!=null?eh(a,E,zn(i)):u!=null?eh(a,E,zn(u)):c!=null&&a.removeAttribute("value"),v==null&&y!=null&&(a.defaultChecked=!!y),v!=null&&(a.checked=v&&typeof v!="function"&&typeof v!="symbol"),N!=null&&typeof N!="function"&&typeof N!="symbol"&&typeof N!="boolean"?a.name=""+zn(N):a.removeAttribute("name")}function db(a,i,u,c,v,y,E,N){if(y!=null&&typeof y!="function"&&typeof y!="symbol"&&typeof y!="boolean"&&(a.type=y),i!=null||u!=null){if(!(y!=="submit"&&y!=="reset"||i!=null)){Qd(a);return}u=u!=null?""+zn(u):"",i=i!=null?""+zn(i):u,N||i===a.value||(a.value=i),a.defaultValue=i}c=c??v,c=typeof c!="function"&&typeof c!="symbol"&&!!c,a.checked=N?a.checked:!!c,a.defaultChecked=!!c,E!=null&&typeof E!="function"&&typeof E!="symbol"&&typeof E!="boolean"&&(a.name=E),Qd(a)}function eh(a,i,u){i==="number"&&ys(a.ownerDocument)===a||a.defaultValue===""+u||(a.defaultValue=""+u)}function Fi(a,i,u,c){if(a=a.options,i){i={};for(var v=0;v<u.length;v++)i["$"+u[v]]=!0;for(u=0;u<a.length;u++)v=i.hasOwnProperty("$"+a[u].value),a[u].selected!==v&&(a[u].selected=v),v&&c&&(a[u].defaultSelected=!0)}else{for(u=""+zn(u),i=null,v=0;v<a.length;v++){if(a[v].value===u){a[v].selected=!0,c&&(a[v].defaultSelected=!0);return}i!==null||a[v].disabled||(i=a[v])}i!==null&&(i.selected=!0)}}function hb(a,i,u){if(i!=null&&(i=""+zn(i),i!==a.value&&(a.value=i),u==null)){a.defaultValue!==i&&(a.defaultValue=i);return}a.defaultValue=u!=null?""+zn(u):""}function mb(a,i,u,c){if(i==null){if(c!=null){if(u!=null)throw Error(r(92));if(xe(c)){if(1<c.length)throw Error(r(93));c=c[0]}u=c}u==null&&(u=""),i=u}u=zn(i),a.defaultValue=u,c=a.textContent,c===u&&c!==""&&c!==null&&(a.value=c),Qd(a)}function Wi(a,i){if(i){var u=a.firstChild;if(u&&u===a.lastChild&&u.nodeType===3){u.nodeValue=i;return}}a.textContent=i}var bD=new Set("animationIterationCount aspectRatio borderImageOutset borderImageSlice borderImageWidth boxFlex boxFlexGroup boxOrdinalGroup columnCount columns flex flexGrow flexPositive flexShrink flexNegative flexOrder gridArea gridRow gridRowEnd gridRowSpan gridRowStart gridColumn gridColumnEnd gridColumnSpan gridColumnStart fontWeight lineClamp lineHeight opacity order orphans scale tabSize widows zIndex zoom fillOpacity floodOpacity stopOpacity strokeDasharray strokeDashoffset strokeMiterlimit strokeOpacity strokeWidth MozAnimationIterationCount MozBoxFlex MozBoxFlexGroup MozLineClamp msAnimationIterationCount msFlex msZoom msFlexGrow msFlexNegative msFlexOrder msFlexPositive msFlexShrink msGridColumn msGridColumnSpan msGridRow msGridRowSpan WebkitAnimationIterationCount WebkitBoxFlex WebKitBoxFlexGroup WebkitBoxOrdinalGroup WebkitColumnCount WebkitColumns WebkitFlex WebkitFlexGrow WebkitFlexPositive WebkitFlexShrink WebkitLineClamp".split(" "));function vb(a,i,u){var c=i.indexOf("--")===0;u==null||typeof u=="boolean"||u===""?c?a.setProperty(i,""):i==="float"?a.cssFloat="":a[i]="":c?a.setProperty(i,u):typeof u!="number"||u===0||bD.has(i)?i==="float"?a.cssFloat=u:a[i]=(""+u).trim():a[i]=u+"px"}function pb(a,i,u){if(i!=null&&typeof i!="object")throw Error(r(62));if(a=a.style,u!=null){for(var c in u)!u.hasOwnProperty(c)||i!=null&&i.hasOwnProperty(c)||(c.indexOf("--")===0?a.setProperty(c,""):c==="float"?a.cssFloat="":a[c]="");for(var v in i)c=i[v],i.hasOwnProperty(v)&&u[v]!==c&&vb(a,v,c)}else for(var y in i)i.hasOwnProperty(y)&&vb(a,y,i[y])}function th(a){if(a.indexOf("-")===-1)return!1;switch(a){case"annotation-xml":case"color-profile":case"font-face":case"font-face-src":case"font-face-uri":case"font-face-format":case"font-face-name":case"missing-glyph":return!1;default:return!0}}var xD=new Map([["acceptCharset","accept-charset"],["htmlFor","for"],["httpEquiv","http-equiv"],["crossOrigin","crossorigin"],["accentHeight","accent-height"],["alignmentBaseline","alignment-baseline"],["arabicForm","arabic-form"],["baselineShift","baseline-shift"],["capHeight","cap-height"],["clipPath","clip-path"],["clipRule","clip-rule"],["colorInterpolation","color-interpolation"],["colorInterpolationFilters","color-interpolation-filters"],["colorProfile","color-profile"],["colorRendering","color-rendering"],["dominantBaseline","dominant-baseline"],["enableBackground","enable-background"],["fillOpacity","fill-opacity"],["fillRule","fill-rule"],["floodColor","flood-color"],["floodOpacity","flood-opacity"],["fontFamily","font-family"],["fontSize","font-size"],["fontSizeAdjust","font-size-adjust"],["fontStretch","font-stretch"],["fontStyle","font-style"],["fontVariant","font-variant"],["fontWeight","font-weight"],["glyphName","glyph-name"],["glyphOrientationHorizontal","glyph-orientation-horizontal"],["glyphOrientationVertical","glyph-orientation-vertical"],["horizAdvX","horiz-adv-x"],["horizOriginX","horiz-origin-x"],["imageRendering","image-rendering"],["letterSpacing","letter-spacing"],["lightingColor","lighting-color"],["markerEnd","marker-end"],["markerMid","marker-mid"],["markerStart","marker-start"],["overlinePosition","overline-position"],["overlineThickness","overline-thickness"],["paintOrder","paint-order"],["panose-1","panose-1"],["pointerEvents","pointer-events"],["renderingIntent","rendering-intent"],["shapeRendering","shape-rendering"],["stopColor","stop-color"],["stopOpacity","stop-opacity"],["strikethroughPosition","strikethrough-position"],["strikethroughThickness","strikethrough-thickness"],["strokeDasharray","stroke-dasharray"],["strokeDashoffset","stroke-dashoffset"],["strokeLinecap","stroke-linecap"],["strokeLinejoin","stroke-linejoin"],["strokeMiterlimit","stroke-miterlimit"],["strokeOpacity","stroke-opacity"],["strokeWidth","stroke-width"],["textAnchor","text-anchor"],["textDecoration","text-decoration"],["textRendering","text-rendering"],["transformOrigin","transform-origin"],["underlinePosition","underline-position"],["underlineThickness","underline-thickness"],["unicodeBidi","unicode-bidi"],["unicodeRange","unicode-range"],["unitsPerEm","units-per-em"],["vAlphabetic","v-alphabetic"],["vHanging","v-hanging"],["vIdeographic","v-ideographic"],["vMathematical","v-mathematical"],["vectorEffect","vector-effect"],["vertAdvY","vert-adv-y"],["vertOriginX","vert-origin-x"],["vertOriginY","vert-origin-y"],["wordSpacing","word-spacing"],["writingMode","writing-mode"],["xmlnsXlink","xmlns:xlink"],["xHeight","x-height"]]),wD=/^[\u0000-\u001F ]*j[\r\n\t]*a[\r\n\t]*v[\r\n\t]*a[\r\n\t]*s[\r\n\t]*c[\r\n\t]*r[\r\n\t]*i[\r\n\t]*p[\r\n\t]*t[\r\n\t]*:/i;function gs(a){return wD.test(""+a)?"javascript:throw new Error('React has blocked a javascript: URL as a security precaution.')":a}function Cr(){}var nh=null;function rh(a){return a=a.target||a.srcElement||window,a.correspondingUseElement&&(a=a.correspondingUseElement),a.nodeType===3?a.parentNode:a}var Zi=null,Qi=null;function yb(a){var i=Gi(a);if(i&&(a=i.stateNode)){var u=a[sn]||null;e:switch(a=i.stateNode,i.type){case"input":if(Jd(a,u.value,u.defaultValue,u.defaultValue,u.checked,u.defaultChecked,u.type,u.name),i=u.name,u.type==="radio"&&i!=null){for(u=a;u.parentNode;)u=u.parentNode;for(u=u.querySelectorAll('input[name="'+Ln(""+i)+'"][type="radio"]'),i=0;i<u.length;i++){var c=u[i];if(c!==a&&c.form===a.form){var v=c[sn]||null;if(!v)throw Error(r(90));Jd(c,v.value,v.defaultValue,v.defaultValue,v.checked,v.defaultChecked,v.type,v.name)}}for(i=0;i<u.length;i++)c=u[i],c.form===a.form&&fb(c)}break e;case"textarea":hb(a,u.value,u.defaultValue);break e;case"select":i=u.value,i!=null&&Fi(a,!!u.multiple,i,!1)}}}var ah=!1;function gb(a,i,u){if(ah)return a(i,u);ah=!0;try{var c=a(i);return c}finally{if(ah=!1,(Zi!==null||Qi!==null)&&(ic(),Zi&&(i=Zi,a=Qi,Qi=Zi=null,yb(i),a)))for(i=0;i<a.length;i++)yb(a[i])}}function xo(a,i){var u=a.stateNode;if(u===null)return null;var c=u[sn]||null;if(c===null)return null;u=c[i];e:switch(i){case"onClick":case"onClickCapture":case"onDoubleClick":case"onDoubleClickCapture":case"onMouseDown":case"onMouseDownCapture":case"onMouseMove":case"onMouseMoveCapture":case"onMouseUp":case"onMouseUpCapture":case"onMouseEnter":(c=!c.disabled)||(a=a.type,c=!(a==="button"||a==="input"||a==="select"||a==="textarea")),a=!c;break e;default:a=!1}if(a)return null;if(u&&typeof u!="function")throw Error(r(231,i,typeof u));return u}var _r=!(typeof window>"u"||typeof window.document>"u"||typeof window.document.createElement>"u"),ih=!1;if(_r)try{var wo={};Object.defineProperty(wo,"passive",{get:function(){ih=!0}}),window.addEventListener("test",wo,wo),window.removeEventListener("test",wo,wo)}catch{ih=!1}var ba=null,lh=null,bs=null;function bb(){if(bs)return bs;var a,i=lh,u=i.length,c,v="value"in ba?ba.value:ba.textContent,y=v.length;for(a=0;a<u&&i[a]===v[a];a++);var E=u-a;for(c=1;c<=E&&i[u-c]===v[y-c];c++);return bs=v.slice(a,1<c?1-c:void 0)}function xs(a){var i=a.keyCode;return"charCode"in a?(a=a.charCode,a===0&&i===13&&(a=13)):a=i,a===10&&(a=13),32<=a||a===13?a:0}function ws(){return!0}function xb(){return!1}function cn(a){function i(u,c,v,y,E){this._reactName=u,this._targetInst=v,this.type=c,this.nativeEvent=y,this.target=E,this.currentTarget=null;for(var N in a)a.hasOwnProperty(N)&&(u=a[N],this[N]=u?u(y):y[N]);return this.isDefaultPrevented=(y.defaultPrevented!=null?y.defaultPrevented:y.returnValue===!1)?ws:xb,this.isPropagationStopped=xb,this}return p(i.prototype,{preventDefault:function(){this.defaultPrevented=!0;var u=this.nativeEvent;u&&(u.preventDefault?u.preventDefault():typeof u.returnValue!="unknown"&&(u.returnValue=!1),this.isDefaultPrevented=ws)},stopPropagation:function(){var u=this.nativeEvent;u&&(u.stopPropagation?u.stopPropagation():typeof u.cancelBubble!="unknown"&&(u.cancelBubble=!0),this.isPropagationStopped=ws)},persist:function(){},isPersistent:ws}),i}var ri={eventPhase:0,bubbles:0,cancelable:0,timeStamp:function(a){return a.timeStamp||Date.now()},defaultPrevented:0,isTrusted:0},Ss=cn(ri),So=p({},ri,{view:0,detail:0}),SD=cn(So),oh,uh,Eo,Es=p({},So,{screenX:0,screenY:0,clientX:0,clientY:0,pageX:0,pageY:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,getModifierState:ch,button:0,buttons:0,relatedTarget:function(a){return a.relatedTarget===void 0?a.fromElement===a.srcElement?a.toElement:a.fromElement:a.relatedTarget},movementX:function(a){return"movementX"in a?a.movementX:(a!==Eo&&(Eo&&a.type==="mousemove"?(oh=a.screenX-Eo.screenX,uh=a.screenY-Eo.screenY):uh=oh=0,Eo=a),oh)},movementY:function(a){return"movementY"in a?a.movementY:uh}}),wb=cn(Es),ED=p({},Es,{dataTransfer:0}),OD=cn(ED),AD=p({},So,{relatedTarget:0}),sh=cn(AD),jD=p({},ri,{animationName:0,elapsedTime:0,pseudoElement:0}),ND=cn(jD),CD=p({},ri,{clipboardData:function(a){return"clipboardData"in a?a.clipboardData:window.clipboardData}}),_D=cn(CD),TD=p({},ri,{data:0}),Sb=cn(TD),MD={Esc:"Escape",Spacebar:" ",Left:"ArrowLeft",Up:"ArrowUp",Right:"ArrowRight",Down:"ArrowDown",Del:"Delete",Win:"OS",Menu:"ContextMenu",Apps:"ContextMenu",Scroll:"ScrollLock",MozPrintableKey:"Unidentified"},DD={8:"Backspace",9:"Tab",12:"Clear",13:"Enter",16:"Shift",17:"Control",18:"Alt",19:"Pause",20:"CapsLock",27:"Escape",32:" ",33:"PageUp",34:"PageDown",35:"End",36:"Home",37:"ArrowLeft",38:"ArrowUp",39:"ArrowRight",40:"ArrowDown",45:"Insert",46:"Delete",112:"F1",113:"F2",114:"F3",115:"F4",116:"F5",117:"F6",118:"F7",119:"F8",120:"F9",121:"F10",122:"F11",123:"F12",144:"NumLock",145:"ScrollLock",224:"Meta"},kD={Alt:"altKey",Control:"ctrlKey",Meta:"metaKey",Shift:"shiftKey"};function PD(a){var i=this.nativeEvent;return i.getModifierState?i.getModifierState(a):(a=kD[a])?!!i[a]:!1}function ch(){return PD}var RD=p({},So,{key:function(a){if(a.key){var i=MD[a.key]||a.key;if(i!=="Unidentified")return i}return a.type==="keypress"?(a=xs(a),a===13?"Enter":String.fromCharCode(a)):a.type==="keydown"||a.type==="keyup"?DD[a.keyCode]||"Unidentified":""},code:0,location:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,repeat:0,locale:0,getModifierState:ch,charCode:function(a){return a.type==="keypress"?xs(a):0},keyCode:function(a){return a.type==="keydown"||a.type==="keyup"?a.keyCode:0},which:function(a){return a.type==="keypress"?xs(a):a.type==="keydown"||a.type==="keyup"?a.keyCode:0}}),zD=cn(RD),LD=p({},Es,{pointerId:0,width:0,height:0,pressure:0,tangentialPressure:0,tiltX:0,tiltY:0,twist:0,pointerType:0,isPrimary:0}),Eb=cn(LD),BD=p({},So,{touches:0,targetTouches:0,changedTouches:0,altKey:0,metaKey:0,ctrlKey:0,shiftKey:0,getModifierState:ch}),UD=cn(BD),ID=p({},ri,{propertyName:0,elapsedTime:0,pseudoElement:0}),qD=cn(ID),HD=p({},Es,{deltaX:function(a){return"deltaX"in a?a.deltaX:"wheelDeltaX"in a?-a.wheelDeltaX:0},deltaY:function(a){return"deltaY"in a?a.deltaY:"wheelDeltaY"in a?-a.wheelDeltaY:"wheelDelta"in a?-a.wheelDelta:0},deltaZ:0,deltaMode:0}),$D=cn(HD),YD=p({},ri,{newState:0,oldState:0}),KD=cn(YD),GD=[9,13,27,32],fh=_r&&"CompositionEvent"in window,Oo=null;_r&&"documentMode"in document&&(Oo=document.documentMode);var VD=_r&&"TextEvent"in window&&!Oo,Ob=_r&&(!fh||Oo&&8<Oo&&11>=Oo),Ab=" ",jb=!1;function Nb(a,i){switch(a){case"keyup":return GD.indexOf(i.keyCode)!==-1;case"keydown":return i.keyCode!==229;case"keypress":case"mousedown":case"focusout":return!0;default:return!1}}function Cb(a){return a=a.detail,typeof a=="object"&&"data"in a?a.data:null}var Ji=!1;function XD(a,i){switch(a){case"compositionend":return Cb(i);case"keypress":return i.which!==32?null:(jb=!0,Ab);case"textInput":return a=i.data,a===Ab&&jb?null:a;default:return null}}function FD(a,i){if(Ji)return a==="compositionend"||!fh&&Nb(a,i)?(a=bb(),bs=lh=ba=null,Ji=!1,a):null;switch(a){case"paste":return null;case"keypress":if(!(i.ctrlKey||i.altKey||i.metaKey)||i.ctrlKey&&i.altKey){if(i.char&&1<i.char.length)return i.char;if(i.which)return String.fromCharCode(i.which)}return null;case"compositionend":return Ob&&i.locale!=="ko"?null:i.data;default:return null}}var WD={color:!0,date:!0,datetime:!0,"datetime-local":!0,email:!0,month:!0,number:!0,password:!0,range:!0,search:!0,tel:!0,text:!0,time:!0,url:!0,week:!0};function _b(a){var i=a&&a.nodeName&&a.nodeName.toLowerCase();return i==="input"?!!WD[a.type]:i==="textarea"}function Tb(a,i,u,c){Zi?Qi?Qi.push(c):Qi=[c]:Zi=c,i=dc(i,"onChange"),0<i.length&&(u=new Ss("onChange","change",null,u,c),a.push({event:u,listeners:i}))}var Ao=null,jo=null;function ZD(a){dw(a,0)}function Os(a){var i=bo(a);if(fb(i))return a}function Mb(a,i){if(a==="change")return i}var Db=!1;if(_r){var dh;if(_r){var hh="oninput"in document;if(!hh){var kb=document.createElement("div");kb.setAttribute("oninput","return;"),hh=typeof kb.oninput=="function"}dh=hh}else dh=!1;Db=dh&&(!document.documentMode||9<document.documentMode)}function Pb(){Ao&&(Ao.detachEvent("onpropertychange",Rb),jo=Ao=null)}function Rb(a){if(a.propertyName==="value"&&Os(jo)){var i=[];Tb(i,jo,a,rh(a)),gb(ZD,i)}}function QD(a,i,u){a==="focusin"?(Pb(),Ao=i,jo=u,Ao.attachEvent("onpropertychange",Rb)):a==="focusout"&&Pb()}function JD(a){if(a==="selectionchange"||a==="keyup"||a==="keydown")return Os(jo)}function ek(a,i){if(a==="click")return Os(i)}function tk(a,i){if(a==="input"||a==="change")return Os(i)}function nk(a,i){return a===i&&(a!==0||1/a===1/i)||a!==a&&i!==i}var En=typeof Object.is=="function"?Object.is:nk;function No(a,i){if(En(a,i))return!0;if(typeof a!="object"||a===null||typeof i!="object"||i===null)return!1;var u=Object.keys(a),c=Object.keys(i);if(u.length!==c.length)return!1;for(c=0;c<u.length;c++){var v=u[c];if(!Yd.call(i,v)||!En(a[v],i[v]))return!1}return!0}function zb(a){for(;a&&a.firstChild;)a=a.firstChild;return a}function Lb(a,i){var u=zb(a);a=0;for(var c;u;){if(u.nodeType===3){if(c=a+u.textContent.length,a<=i&&c>=i)return{node:u,offset:i-a};a=c}e:{for(;u;){if(u.nextSibling){u=u.nextSibling;break e}u=u.parentNode}u=void 0}u=zb(u)}}function Bb(a,i){return a&&i?a===i?!0:a&&a.nodeType===3?!1:i&&i.nodeType===3?Bb(a,i.parentNode):"contains"in a?a.contains(i):a.compareDocumentPosition?!!(a.compareDocumentPosition(i)&16):!1:!1}function Ub(a){a=a!=null&&a.ownerDocument!=null&&a.ownerDocument.defaultView!=null?a.ownerDocument.defaultView:window;for(var i=ys(a.document);i instanceof a.HTMLIFrameElement;){try{var u=typeof i.contentWindow.location.href=="string"}catch{u=!1}if(u)a=i.contentWindow;else break;i=ys(a.document)}return i}function mh(a){var i=a&&a.nodeName&&a.nodeName.toLowerCase();return i&&(i==="input"&&(a.type==="text"||a.type==="search"||a.type==="tel"||a.type==="url"||a.type==="password")||i==="textarea"||a.contentEditable==="true")}var rk=_r&&"documentMode"in document&&11>=document.documentMode,el=null,vh=null,Co=null,ph=!1;function Ib(a,i,u){var c=u.window===u?u.document:u.nodeType===9?u:u.ownerDocument;ph||el==null||el!==ys(c)||(c=el,"selectionStart"in c&&mh(c)?c={start:c.selectionStart,end:c.selectionEnd}:(c=(c.ownerDocument&&c.ownerDocument.defaultView||window).getSelection(),c={anchorNode:c.anchorNode,anchorOffset:c.anchorOffset,focusNode:c.focusNode,focusOffset:c.focusOffset}),Co&&No(Co,c)||(Co=c,c=dc(vh,"onSelect"),0<c.length&&(i=new Ss("onSelect","select",null,i,u),a.push({event:i,listeners:c}),i.target=el)))}function ai(a,i){var u={};return u[a.toLowerCase()]=i.toLowerCase(),u["Webkit"+a]="webkit"+i,u["Moz"+a]="moz"+i,u}var tl={animationend:ai("Animation","AnimationEnd"),animationiteration:ai("Animation","AnimationIteration"),animationstart:ai("Animation","AnimationStart"),transitionrun:ai("Transition","TransitionRun"),transitionstart:ai("Transition","TransitionStart"),transitioncancel:ai("Transition","TransitionCancel"),transitionend:ai("Transition","TransitionEnd")},yh={},qb={};_r&&(qb=document.createElement("div").style,"AnimationEvent"in window||(delete tl.animationend.animation,delete tl.animationiteration.animation,delete tl.animationstart.animation),"TransitionEvent"in window||delete tl.transitionend.transition);function ii(a){if(yh[a])return yh[a];if(!tl[a])return a;var i=tl[a],u;for(u in i)if(i.hasOwnProperty(u)&&u in qb)return yh[a]=i[u];return a}var Hb=ii("animationend"),$b=ii("animationiteration"),Yb=ii("animationstart"),ak=ii("transitionrun"),ik=ii("transitionstart"),lk=ii("transitioncancel"),Kb=ii("transitionend"),Gb=new Map,gh="abort auxClick beforeToggle cancel canPlay canPlayThrough click close contextMenu copy cut drag dragEnd dragEnter dragExit dragLeave dragOver dragStart drop durationChange emptied encrypted ended error gotPointerCapture input invalid keyDown keyPress keyUp load loadedData loadedMetadata loadStart lostPointerCapture mouseDown mouseMove mouseOut mouseOver mouseUp paste pause play playing pointerCancel pointerDown pointerMove pointerOut pointerOver pointerUp progress rateChange reset resize seeked seeking stalled submit suspend timeUpdate touchCancel touchEnd touchStart volumeChange scroll toggle touchMove waiting wheel".split(" ");gh.push("scrollEnd");function nr(a,i){Gb.set(a,i),ni(i,[a])}var As=typeof reportError=="function"?reportError:function(a){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var i=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof a=="object"&&a!==null&&typeof a.message=="string"?String(a.message):String(a),error:a});if(!window.dispatchEvent(i))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",a);return}console.error(a)},Bn=[],nl=0,bh=0;function js(){for(var a=nl,i=bh=nl=0;i<a;){var u=Bn[i];Bn[i++]=null;var c=Bn[i];Bn[i++]=null;var v=Bn[i];Bn[i++]=null;var y=Bn[i];if(Bn[i++]=null,c!==null&&v!==null){var E=c.pending;E===null?v.next=v:(v.next=E.next,E.next=v),c.pending=v}y!==0&&Vb(u,v,y)}}function Ns(a,i,u,c){Bn[nl++]=a,Bn[nl++]=i,Bn[nl++]=u,Bn[nl++]=c,bh|=c,a.lanes|=c,a=a.alternate,a!==null&&(a.lanes|=c)}function xh(a,i,u,c){return Ns(a,i,u,c),Cs(a)}function li(a,i){return Ns(a,null,null,i),Cs(a)}function Vb(a,i,u){a.lanes|=u;var c=a.alternate;c!==null&&(c.lanes|=u);for(var v=!1,y=a.return;y!==null;)y.childLanes|=u,c=y.alternate,c!==null&&(c.childLanes|=u),y.tag===22&&(a=y.stateNode,a===null||a._visibility&1||(v=!0)),a=y,y=y.return;return a.tag===3?(y=a.stateNode,v&&i!==null&&(v=31-Sn(u),a=y.hiddenUpdates,c=a[v],c===null?a[v]=[i]:c.push(i),i.lane=u|536870912),y):null}function Cs(a){if(50<Wo)throw Wo=0,_m=null,Error(r(185));for(var i=a.return;i!==null;)a=i,i=a.return;return a.tag===3?a.stateNode:null}var rl={};function ok(a,i,u,c){this.tag=a,this.key=u,this.sibling=this.child=this.return=this.stateNode=this.type=this.elementType=null,this.index=0,this.refCleanup=this.ref=null,this.pendingProps=i,this.dependencies=this.memoizedState=this.updateQueue=this.memoizedProps=null,this.mode=c,this.subtreeFlags=this.flags=0,this.deletions=null,this.childLanes=this.lanes=0,this.alternate=null}function On(a,i,u,c){return new ok(a,i,u,c)}function wh(a){return a=a.prototype,!(!a||!a.isReactComponent)}function Tr(a,i){var u=a.alternate;return u===null?(u=On(a.tag,i,a.key,a.mode),u.elementType=a.elementType,u.type=a.type,u.stateNode=a.stateNode,u.alternate=a,a.alternate=u):(u.pendingProps=i,u.type=a.type,u.flags=0,u.subtreeFlags=0,u.deletions=null),u.flags=a.flags&65011712,u.childLanes=a.childLanes,u.lanes=a.lanes,u.child=a.child,u.memoizedProps=a.memoizedProps,u.memoizedState=a.memoizedState,u.updateQueue=a.updateQueue,i=a.dependencies,u.dependencies=i===null?null:{lanes:i.lanes,firstContext:i.firstContext},u.sibling=a.sibling,u.index=a.index,u.ref=a.ref,u.refCleanup=a.refCleanup,u}function Xb(a,i){a.flags&=65011714;var u=a.alternate;return u===null?(a.childLanes=0,a.lanes=i,a.child=null,a.subtreeFlags=0,a.memoizedProps=null,a.memoizedState=null,a.updateQueue=null,a.dependencies=null,a.stateNode=null):(a.childLanes=u.childLanes,a.lanes=u.lanes,a.child=u.child,a.subtreeFlags=0,a.deletions=null,a.memoizedProps=u.memoizedProps,a.memoizedState=u.memoizedState,a.updateQueue=u.updateQueue,a.type=u.type,i=u.dependencies,a.dependencies=i===null?null:{lanes:i.lanes,firstContext:i.firstContext}),a}function _s(a,i,u,c,v,y){var E=0;if(c=a,typeof a=="function")wh(a)&&(E=1);else if(typeof a=="string")E=dP(a,u,ne.current)?26:a==="html"||a==="head"||a==="body"?27:5;else e:switch(a){case re:return a=On(31,u,i,v),a.elementType=re,a.lanes=y,a;case A:return oi(u.children,v,y,i);case S:E=8,v|=24;break;case j:return a=On(12,u,i,v|2),a.elementType=j,a.lanes=y,a;case T:return a=On(13,u,i,v),a.elementType=T,a.lanes=y,a;case R:return a=On(19,u,i,v),a.elementType=R,a.lanes=y,a;default:if(typeof a=="object"&&a!==null)switch(a.$$typeof){case C:E=10;break e;case _:E=9;break e;case D:E=11;break e;case k:E=14;break e;case I:E=16,c=null;break e}E=29,u=Error(r(130,a===null?"null":typeof a,"")),c=null}return i=On(E,u,i,v),i.elementType=a,i.type=c,i.lanes=y,i}function oi(a,i,u,c){return a=On(7,a,c,i),a.lanes=u,a}function Sh(a,i,u){return a=On(6,a,null,i),a.lanes=u,a}function Fb(a){var i=On(18,null,null,0);return i.stateNode=a,i}function Eh(a,i,u){return i=On(4,a.children!==null?a.children:[],a.key,i),i.lanes=u,i.stateNode={containerInfo:a.containerInfo,pendingChildren:null,implementation:a.implementation},i}var Wb=new WeakMap;function Un(a,i){if(typeof a=="object"&&a!==null){var u=Wb.get(a);return u!==void 0?u:(i={value:a,source:i,stack:mo(i)},Wb.set(a,i),i)}return{value:a,source:i,stack:mo(i)}}var al=[],il=0,Ts=null,_o=0,In=[],qn=0,xa=null,hr=1,mr="";function Mr(a,i){al[il++]=_o,al[il++]=Ts,Ts=a,_o=i}function Zb(a,i,u){In[qn++]=hr,In[qn++]=mr,In[qn++]=xa,xa=a;var c=hr;a=mr;var v=32-Sn(c)-1;c&=~(1<<v),u+=1;var y=32-Sn(i)+v;if(30<y){var E=v-v%5;y=(c&(1<<E)-1).toString(32),c>>=E,v-=E,hr=1<<32-Sn(i)+v|u<<v|c,mr=y+a}else hr=1<<y|u<<v|c,mr=a}function Oh(a){a.return!==null&&(Mr(a,1),Zb(a,1,0))}function Ah(a){for(;a===Ts;)Ts=al[--il],al[il]=null,_o=al[--il],al[il]=null;for(;a===xa;)xa=In[--qn],In[qn]=null,mr=In[--qn],In[qn]=null,hr=In[--qn],In[qn]=null}function Qb(a,i){In[qn++]=hr,In[qn++]=mr,In[qn++]=xa,hr=i.id,mr=i.overflow,xa=a}var Yt=null,Ze=null,De=!1,wa=null,Hn=!1,jh=Error(r(519));function Sa(a){var i=Error(r(418,1<arguments.length&&arguments[1]!==void 0&&arguments[1]?"text":"HTML",""));throw To(Un(i,a)),jh}function Jb(a){var i=a.stateNode,u=a.type,c=a.memoizedProps;switch(i[$t]=a,i[sn]=c,u){case"dialog":_e("cancel",i),_e("close",i);break;case"iframe":case"object":case"embed":_e("load",i);break;case"video":case"audio":for(u=0;u<Qo.length;u++)_e(Qo[u],i);break;case"source":_e("error",i);break;case"img":case"image":case"link":_e("error",i),_e("load",i);break;case"details":_e("toggle",i);break;case"input":_e("invalid",i),db(i,c.value,c.defaultValue,c.checked,c.defaultChecked,c.type,c.name,!0);break;case"select":_e("invalid",i);break;case"textarea":_e("invalid",i),mb(i,c.value,c.defaultValue,c.children)}u=c.children,typeof u!="string"&&typeof u!="number"&&typeof u!="bigint"||i.textContent===""+u||c.suppressHydrationWarning===!0||pw(i.textContent,u)?(c.popover!=null&&(_e("beforetoggle",i),_e("toggle",i)),c.onScroll!=null&&_e("scroll",i),c.onScrollEnd!=null&&_e("scrollend",i),c.onClick!=null&&(i.onclick=Cr),i=!0):i=!1,i||Sa(a,!0)}function ex(a){for(Yt=a.return;Yt;)switch(Yt.tag){case 5:case 31:case 13:Hn=!1;return;case 27:case 3:Hn=!0;return;default:Yt=Yt.return}}function ll(a){if(a!==Yt)return!1;if(!De)return ex(a),De=!0,!1;var i=a.tag,u;if((u=i!==3&&i!==27)&&((u=i===5)&&(u=a.type,u=!(u!=="form"&&u!=="button")||Ym(a.type,a.memoizedProps)),u=!u),u&&Ze&&Sa(a),ex(a),i===13){if(a=a.memoizedState,a=a!==null?a.dehydrated:null,!a)throw Error(r(317));Ze=Aw(a)}else if(i===31){if(a=a.memoizedState,a=a!==null?a.dehydrated:null,!a)throw Error(r(317));Ze=Aw(a)}else i===27?(i=Ze,za(a.type)?(a=Fm,Fm=null,Ze=a):Ze=i):Ze=Yt?Yn(a.stateNode.nextSibling):null;return!0}function ui(){Ze=Yt=null,De=!1}function Nh(){var a=wa;return a!==null&&(mn===null?mn=a:mn.push.apply(mn,a),wa=null),a}function To(a){wa===null?wa=[a]:wa.push(a)}var Ch=P(null),si=null,Dr=null;function Ea(a,i,u){ee(Ch,i._currentValue),i._currentValue=u}function kr(a){a._currentValue=Ch.current,K(Ch)}function _h(a,i,u){for(;a!==null;){var c=a.alternate;if((a.childLanes&i)!==i?(a.childLanes|=i,c!==null&&(c.childLanes|=i)):c!==null&&(c.childLanes&i)!==i&&(c.childLanes|=i),a===u)break;a=a.return}}function Th(a,i,u,c){var v=a.child;for(v!==null&&(v.return=a);v!==null;){var y=v.dependencies;if(y!==null){var E=v.child;y=y.firstContext;e:for(;y!==null;){var N=y;y=v;for(var M=0;M<i.length;M++)if(N.context===i[M]){y.lanes|=u,N=y.alternate,N!==null&&(N.lanes|=u),_h(y.return,u,a),c||(E=null);break e}y=N.next}}else if(v.tag===18){if(E=v.return,E===null)throw Error(r(341));E.lanes|=u,y=E.alternate,y!==null&&(y.lanes|=u),_h(E,u,a),E=null}else E=v.child;if(E!==null)E.return=v;else for(E=v;E!==null;){if(E===a){E=null;break}if(v=E.sibling,v!==null){v.return=E.return,E=v;break}E=E.return}v=E}}function ol(a,i,u,c){a=null;for(var v=i,y=!1;v!==null;){if(!y){if((v.flags&524288)!==0)y=!0;else if((v.flags&262144)!==0)break}if(v.tag===10){var E=v.alternate;if(E===null)throw Error(r(387));if(E=E.memoizedProps,E!==null){var N=v.type;En(v.pendingProps.value,E.value)||(a!==null?a.push(N):a=[N])}}else if(v===ue.current){if(E=v.alternate,E===null)throw Error(r(387));E.memoizedState.memoizedState!==v.memoizedState.memoizedState&&(a!==null?a.push(ru):a=[ru])}v=v.return}a!==null&&Th(i,a,u,c),i.flags|=262144}function Ms(a){for(a=a.firstContext;a!==null;){if(!En(a.context._currentValue,a.memoizedValue))return!0;a=a.next}return!1}function ci(a){si=a,Dr=null,a=a.dependencies,a!==null&&(a.firstContext=null)}function Kt(a){return tx(si,a)}function Ds(a,i){return si===null&&ci(a),tx(a,i)}function tx(a,i){var u=i._currentValue;if(i={context:i,memoizedValue:u,next:null},Dr===null){if(a===null)throw Error(r(308));Dr=i,a.dependencies={lanes:0,firstContext:i},a.flags|=524288}else Dr=Dr.next=i;return u}var uk=typeof AbortController<"u"?AbortController:function(){var a=[],i=this.signal={aborted:!1,addEventListener:function(u,c){a.push(c)}};this.abort=function(){i.aborted=!0,a.forEach(function(u){return u()})}},sk=e.unstable_scheduleCallback,ck=e.unstable_NormalPriority,mt={$$typeof:C,Consumer:null,Provider:null,_currentValue:null,_currentValue2:null,_threadCount:0};function Mh(){return{controller:new uk,data:new Map,refCount:0}}function Mo(a){a.refCount--,a.refCount===0&&sk(ck,function(){a.controller.abort()})}var Do=null,Dh=0,ul=0,sl=null;function fk(a,i){if(Do===null){var u=Do=[];Dh=0,ul=Rm(),sl={status:"pending",value:void 0,then:function(c){u.push(c)}}}return Dh++,i.then(nx,nx),i}function nx(){if(--Dh===0&&Do!==null){sl!==null&&(sl.status="fulfilled");var a=Do;Do=null,ul=0,sl=null;for(var i=0;i<a.length;i++)(0,a[i])()}}function dk(a,i){var u=[],c={status:"pending",value:null,reason:null,then:function(v){u.push(v)}};return a.then(function(){c.status="fulfilled",c.value=i;for(var v=0;v<u.length;v++)(0,u[v])(i)},function(v){for(c.status="rejected",c.reason=v,v=0;v<u.length;v++)(0,u[v])(void 0)}),c}var rx=q.S;q.S=function(a,i){I1=xn(),typeof i=="object"&&i!==null&&typeof i.then=="function"&&fk(a,i),rx!==null&&rx(a,i)};var fi=P(null);function kh(){var a=fi.current;return a!==null?a:Ke.pooledCache}function ks(a,i){i===null?ee(fi,fi.current):ee(fi,i.pool)}function ax(){var a=kh();return a===null?null:{parent:mt._currentValue,pool:a}}var cl=Error(r(460)),Ph=Error(r(474)),Ps=Error(r(542)),Rs={then:function(){}};function ix(a){return a=a.status,a==="fulfilled"||a==="rejected"}function lx(a,i,u){switch(u=a[u],u===void 0?a.push(i):u!==i&&(i.then(Cr,Cr),i=u),i.status){case"fulfilled":return i.value;case"rejected":throw a=i.reason,ux(a),a;default:if(typeof i.status=="string")i.then(Cr,Cr);else{if(a=Ke,a!==null&&100<a.shellSuspendCounter)throw Error(r(482));a=i,a.status="pending",a.then(function(c){if(i.status==="pending"){var v=i;v.status="fulfilled",v.value=c}},function(c){if(i.status==="pending"){var v=i;v.status="rejected",v.reason=c}})}switch(i.status){case"fulfilled":return i.value;case"rejected":throw a=i.reason,ux(a),a}throw hi=i,cl}}function di(a){try{var i=a._init;return i(a._payload)}catch(u){throw u!==null&&typeof u=="object"&&typeof u.then=="function"?(hi=u,cl):u}}var hi=null;function ox(){if(hi===null)throw Error(r(459));var a=hi;return hi=null,a}function ux(a){if(a===cl||a===Ps)throw Error(r(483))}var fl=null,ko=0;function zs(a){var i=ko;return ko+=1,fl===null&&(fl=[]),lx(fl,a,i)}function Po(a,i){i=i.props.ref,a.ref=i!==void 0?i:null}function Ls(a,i){throw i.$$typeof===x?Error(r(525)):(a=Object.prototype.toString.call(i),Error(r(31,a==="[object Object]"?"object with keys {"+Object.keys(i).join(", ")+"}":a)))}function sx(a){function i(L,z){if(a){var B=L.deletions;B===null?(L.deletions=[z],L.flags|=16):B.push(z)}}function u(L,z){if(!a)return null;for(;z!==null;)i(L,z),z=z.sibling;return null}function c(L){for(var z=new Map;L!==null;)L.key!==null?z.set(L.key,L):z.set(L.index,L),L=L.sibling;return z}function v(L,z){return L=Tr(L,z),L.index=0,L.sibling=null,L}function y(L,z,B){return L.index=B,a?(B=L.alternate,B!==null?(B=B.index,B<z?(L.flags|=67108866,z):B):(L.flags|=67108866,z)):(L.flags|=1048576,z)}function E(L){return a&&L.alternate===null&&(L.flags|=67108866),L}function N(L,z,B,F){return z===null||z.tag!==6?(z=Sh(B,L.mode,F),z.return=L,z):(z=v(z,B),z.return=L,z)}function M(L,z,B,F){var me=B.type;return me===A?G(L,z,B.props.children,F,B.key):z!==null&&(z.elementType===me||typeof me=="object"&&me!==null&&me.$$typeof===I&&di(me)===z.type)?(z=v(z,B.props),Po(z,B),z.return=L,z):(z=_s(B.type,B.key,B.props,null,L.mode,F),Po(z,B),z.return=L,z)}function U(L,z,B,F){return z===null||z.tag!==4||z.stateNode.containerInfo!==B.containerInfo||z.stateNode.implementation!==B.implementation?(z=Eh(B,L.mode,F),z.return=L,z):(z=v(z,B.children||[]),z.return=L,z)}function G(L,z,B,F,me){return z===null||z.tag!==7?(z=oi(B,L.mode,F,me),z.return=L,z):(z=v(z,B),z.return=L,z)}function Z(L,z,B){if(typeof z=="string"&&z!==""||typeof z=="number"||typeof z=="bigint")return z=Sh(""+z,L.mode,B),z.return=L,z;if(typeof z=="object"&&z!==null){switch(z.$$typeof){case w:return B=_s(z.type,z.key,z.props,null,L.mode,B),Po(B,z),B.return=L,B;case O:return z=Eh(z,L.mode,B),z.return=L,z;case I:return z=di(z),Z(L,z,B)}if(xe(z)||J(z))return z=oi(z,L.mode,B,null),z.return=L,z;if(typeof z.then=="function")return Z(L,zs(z),B);if(z.$$typeof===C)return Z(L,Ds(L,z),B);Ls(L,z)}return null}function H(L,z,B,F){var me=z!==null?z.key:null;if(typeof B=="string"&&B!==""||typeof B=="number"||typeof B=="bigint")return me!==null?null:N(L,z,""+B,F);if(typeof B=="object"&&B!==null){switch(B.$$typeof){case w:return B.key===me?M(L,z,B,F):null;case O:return B.key===me?U(L,z,B,F):null;case I:return B=di(B),H(L,z,B,F)}if(xe(B)||J(B))return me!==null?null:G(L,z,B,F,null);if(typeof B.then=="function")return H(L,z,zs(B),F);if(B.$$typeof===C)return H(L,z,Ds(L,B),F);Ls(L,B)}return null}function $(L,z,B,F,me){if(typeof F=="string"&&F!==""||typeof F=="number"||typeof F=="bigint")return L=L.get(B)||null,N(z,L,""+F,me);if(typeof F=="object"&&F!==null){switch(F.$$typeof){case w:return L=L.get(F.key===null?B:F.key)||null,M(z,L,F,me);case O:return L=L.get(F.key===null?B:F.key)||null,U(z,L,F,me);case I:return F=di(F),$(L,z,B,F,me)}if(xe(F)||J(F))return L=L.get(B)||null,G(z,L,F,me,null);if(typeof F.then=="function")return $(L,z,B,zs(F),me);if(F.$$typeof===C)return $(L,z,B,Ds(z,F),me);Ls(z,F)}return null}function oe(L,z,B,F){for(var me=null,Pe=null,fe=z,je=z=0,Me=null;fe!==null&&je<B.length;je++){fe.index>je?(Me=fe,fe=null):Me=fe.sibling;var Re=H(L,fe,B[je],F);if(Re===null){fe===null&&(fe=Me);break}a&&fe&&Re.alternate===null&&i(L,fe),z=y(Re,z,je),Pe===null?me=Re:Pe.sibling=Re,Pe=Re,fe=Me}if(je===B.length)return u(L,fe),De&&Mr(L,je),me;if(fe===null){for(;je<B.length;je++)fe=Z(L,B[je],F),fe!==null&&(z=y(fe,z,je),Pe===null?me=fe:Pe.sibling=fe,Pe=fe);return De&&Mr(L,je),me}for(fe=c(fe);je<B.length;je++)Me=$(fe,L,je,B[je],F),Me!==null&&(a&&Me.alternate!==null&&fe.delete(Me.key===null?je:Me.key),z=y(Me,z,je),Pe===null?me=Me:Pe.sibling=Me,Pe=Me);return a&&fe.forEach(function(qa){return i(L,qa)}),De&&Mr(L,je),me}function ye(L,z,B,F){if(B==null)throw Error(r(151));for(var me=null,Pe=null,fe=z,je=z=0,Me=null,Re=B.next();fe!==null&&!Re.done;je++,Re=B.next()){fe.index>je?(Me=fe,fe=null):Me=fe.sibling;var qa=H(L,fe,Re.value,F);if(qa===null){fe===null&&(fe=Me);break}a&&fe&&qa.alternate===null&&i(L,fe),z=y(qa,z,je),Pe===null?me=qa:Pe.sibling=qa,Pe=qa,fe=Me}if(Re.done)return u(L,fe),De&&Mr(L,je),me;if(fe===null){for(;!Re.done;je++,Re=B.next())Re=Z(L,Re.value,F),Re!==null&&(z=y(Re,z,je),Pe===null?me=Re:Pe.sibling=Re,Pe=Re);return De&&Mr(L,je),me}for(fe=c(fe);!Re.done;je++,Re=B.next())Re=$(fe,L,je,Re.value,F),Re!==null&&(a&&Re.alternate!==null&&fe.delete(Re.key===null?je:Re.key),z=y(Re,z,je),Pe===null?me=Re:Pe.sibling=Re,Pe=Re);return a&&fe.forEach(function(EP){return i(L,EP)}),De&&Mr(L,je),me}function Ye(L,z,B,F){if(typeof B=="object"&&B!==null&&B.type===A&&B.key===null&&(B=B.props.children),typeof B=="object"&&B!==null){switch(B.$$typeof){case w:e:{for(var me=B.key;z!==null;){if(z.key===me){if(me=B.type,me===A){if(z.tag===7){u(L,z.sibling),F=v(z,B.props.children),F.return=L,L=F;break e}}else if(z.elementType===me||typeof me=="object"&&me!==null&&me.$$typeof===I&&di(me)===z.type){u(L,z.sibling),F=v(z,B.props),Po(F,B),F.return=L,L=F;break e}u(L,z);break}else i(L,z);z=z.sibling}B.type===A?(F=oi(B.props.children,L.mode,F,B.key),F.return=L,L=F):(F=_s(B.type,B.key,B.props,null,L.mode,F),Po(F,B),F.return=L,L=F)}return E(L);case O:e:{for(me=B.key;z!==null;){if(z.key===me)if(z.tag===4&&z.stateNode.containerInfo===B.containerInfo&&z.stateNode.implementation===B.implementation){u(L,z.sibling),F=v(z,B.children||[]),F.return=L,L=F;break e}else{u(L,z);break}else i(L,z);z=z.sibling}F=Eh(B,L.mode,F),F.return=L,L=F}return E(L);case I:return B=di(B),Ye(L,z,B,F)}if(xe(B))return oe(L,z,B,F);if(J(B)){if(me=J(B),typeof me!="function")throw Error(r(150));return B=me.call(B),ye(L,z,B,F)}if(typeof B.then=="function")return Ye(L,z,zs(B),F);if(B.$$typeof===C)return Ye(L,z,Ds(L,B),F);Ls(L,B)}return typeof B=="string"&&B!==""||typeof B=="number"||typeof B=="bigint"?(B=""+B,z!==null&&z.tag===6?(u(L,z.sibling),F=v(z,B),F.return=L,L=F):(u(L,z),F=Sh(B,L.mode,F),F.return=L,L=F),E(L)):u(L,z)}return function(L,z,B,F){try{ko=0;var me=Ye(L,z,B,F);return fl=null,me}catch(fe){if(fe===cl||fe===Ps)throw fe;var Pe=On(29,fe,null,L.mode);return Pe.lanes=F,Pe.return=L,Pe}finally{}}}var mi=sx(!0),cx=sx(!1),Oa=!1;function Rh(a){a.updateQueue={baseState:a.memoizedState,firstBaseUpdate:null,lastBaseUpdate:null,shared:{pending:null,lanes:0,hiddenCallbacks:null},callbacks:null}}function zh(a,i){a=a.updateQueue,i.updateQueue===a&&(i.updateQueue={baseState:a.baseState,firstBaseUpdate:a.firstBaseUpdate,lastBaseUpdate:a.lastBaseUpdate,shared:a.shared,callbacks:null})}function Aa(a){return{lane:a,tag:0,payload:null,callback:null,next:null}}function ja(a,i,u){var c=a.updateQueue;if(c===null)return null;if(c=c.shared,(Le&2)!==0){var v=c.pending;return v===null?i.next=i:(i.next=v.next,v.next=i),c.pending=i,i=Cs(a),Vb(a,null,u),i}return Ns(a,c,i,u),Cs(a)}function Ro(a,i,u){if(i=i.updateQueue,i!==null&&(i=i.shared,(u&4194048)!==0)){var c=i.lanes;c&=a.pendingLanes,u|=c,i.lanes=u,tb(a,u)}}function Lh(a,i){var u=a.updateQueue,c=a.alternate;if(c!==null&&(c=c.updateQueue,u===c)){var v=null,y=null;if(u=u.firstBaseUpdate,u!==null){do{var E={lane:u.lane,tag:u.tag,payload:u.payload,callback:null,next:null};y===null?v=y=E:y=y.next=E,u=u.next}while(u!==null);y===null?v=y=i:y=y.next=i}else v=y=i;u={baseState:c.baseState,firstBaseUpdate:v,lastBaseUpdate:y,shared:c.shared,callbacks:c.callbacks},a.updateQueue=u;return}a=u.lastBaseUpdate,a===null?u.firstBaseUpdate=i:a.next=i,u.lastBaseUpdate=i}var Bh=!1;function zo(){if(Bh){var a=sl;if(a!==null)throw a}}function Lo(a,i,u,c){Bh=!1;var v=a.updateQueue;Oa=!1;var y=v.firstBaseUpdate,E=v.lastBaseUpdate,N=v.shared.pending;if(N!==null){v.shared.pending=null;var M=N,U=M.next;M.next=null,E===null?y=U:E.next=U,E=M;var G=a.alternate;G!==null&&(G=G.updateQueue,N=G.lastBaseUpdate,N!==E&&(N===null?G.firstBaseUpdate=U:N.next=U,G.lastBaseUpdate=M))}if(y!==null){var Z=v.baseState;E=0,G=U=M=null,N=y;do{var H=N.lane&-536870913,$=H!==N.lane;if($?(Te&H)===H:(c&H)===H){H!==0&&H===ul&&(Bh=!0),G!==null&&(G=G.next={lane:0,tag:N.tag,payload:N.payload,callback:null,next:null});e:{var oe=a,ye=N;H=i;var Ye=u;switch(ye.tag){case 1:if(oe=ye.payload,typeof oe=="function"){Z=oe.call(Ye,Z,H);break e}Z=oe;break e;case 3:oe.flags=oe.flags&-65537|128;case 0:if(oe=ye.payload,H=typeof oe=="function"?oe.call(Ye,Z,H):oe,H==null)break e;Z=p({},Z,H);break e;case 2:Oa=!0}}H=N.callback,H!==null&&(a.flags|=64,$&&(a.flags|=8192),$=v.callbacks,$===null?v.callbacks=[H]:$.push(H))}else $={lane:H,tag:N.tag,payload:N.payload,callback:N.callback,next:null},G===null?(U=G=$,M=Z):G=G.next=$,E|=H;if(N=N.next,N===null){if(N=v.shared.pending,N===null)break;$=N,N=$.next,$.next=null,v.lastBaseUpdate=$,v.shared.pending=null}}while(!0);G===null&&(M=Z),v.baseState=M,v.firstBaseUpdate=U,v.lastBaseUpdate=G,y===null&&(v.shared.lanes=0),Ma|=E,a.lanes=E,a.memoizedState=Z}}function fx(a,i){if(typeof a!="function")throw Error(r(191,a));a.call(i)}function dx(a,i){var u=a.callbacks;if(u!==null)for(a.callbacks=null,a=0;a<u.length;a++)fx(u[a],i)}var dl=P(null),Bs=P(0);function hx(a,i){a=Hr,ee(Bs,a),ee(dl,i),Hr=a|i.baseLanes}function Uh(){ee(Bs,Hr),ee(dl,dl.current)}function Ih(){Hr=Bs.current,K(dl),K(Bs)}var An=P(null),$n=null;function Na(a){var i=a.alternate;ee(ct,ct.current&1),ee(An,a),$n===null&&(i===null||dl.current!==null||i.memoizedState!==null)&&($n=a)}function qh(a){ee(ct,ct.current),ee(An,a),$n===null&&($n=a)}function mx(a){a.tag===22?(ee(ct,ct.current),ee(An,a),$n===null&&($n=a)):Ca()}function Ca(){ee(ct,ct.current),ee(An,An.current)}function jn(a){K(An),$n===a&&($n=null),K(ct)}var ct=P(0);function Us(a){for(var i=a;i!==null;){if(i.tag===13){var u=i.memoizedState;if(u!==null&&(u=u.dehydrated,u===null||Vm(u)||Xm(u)))return i}else if(i.tag===19&&(i.memoizedProps.revealOrder==="forwards"||i.memoizedProps.revealOrder==="backwards"||i.memoizedProps.revealOrder==="unstable_legacy-backwards"||i.memoizedProps.revealOrder==="together")){if((i.flags&128)!==0)return i}else if(i.child!==null){i.child.return=i,i=i.child;continue}if(i===a)break;for(;i.sibling===null;){if(i.return===null||i.return===a)return null;i=i.return}i.sibling.return=i.return,i=i.sibling}return null}var Pr=0,Ee=null,He=null,vt=null,Is=!1,hl=!1,vi=!1,qs=0,Bo=0,ml=null,hk=0;function lt(){throw Error(r(321))}function Hh(a,i){if(i===null)return!1;for(var u=0;u<i.length&&u<a.length;u++)if(!En(a[u],i[u]))return!1;return!0}function $h(a,i,u,c,v,y){return Pr=y,Ee=i,i.memoizedState=null,i.updateQueue=null,i.lanes=0,q.H=a===null||a.memoizedState===null?Zx:am,vi=!1,y=u(c,v),vi=!1,hl&&(y=px(i,u,c,v)),vx(a),y}function vx(a){q.H=qo;var i=He!==null&&He.next!==null;if(Pr=0,vt=He=Ee=null,Is=!1,Bo=0,ml=null,i)throw Error(r(300));a===null||pt||(a=a.dependencies,a!==null&&Ms(a)&&(pt=!0))}function px(a,i,u,c){Ee=a;var v=0;do{if(hl&&(ml=null),Bo=0,hl=!1,25<=v)throw Error(r(301));if(v+=1,vt=He=null,a.updateQueue!=null){var y=a.updateQueue;y.lastEffect=null,y.events=null,y.stores=null,y.memoCache!=null&&(y.memoCache.index=0)}q.H=Qx,y=i(u,c)}while(hl);return y}function mk(){var a=q.H,i=a.useState()[0];return i=typeof i.then=="function"?Uo(i):i,a=a.useState()[0],(He!==null?He.memoizedState:null)!==a&&(Ee.flags|=1024),i}function Yh(){var a=qs!==0;return qs=0,a}function Kh(a,i,u){i.updateQueue=a.updateQueue,i.flags&=-2053,a.lanes&=~u}function Gh(a){if(Is){for(a=a.memoizedState;a!==null;){var i=a.queue;i!==null&&(i.pending=null),a=a.next}Is=!1}Pr=0,vt=He=Ee=null,hl=!1,Bo=qs=0,ml=null}function rn(){var a={memoizedState:null,baseState:null,baseQueue:null,queue:null,next:null};return vt===null?Ee.memoizedState=vt=a:vt=vt.next=a,vt}function ft(){if(He===null){var a=Ee.alternate;a=a!==null?a.memoizedState:null}else a=He.next;var i=vt===null?Ee.memoizedState:vt.next;if(i!==null)vt=i,He=a;else{if(a===null)throw Ee.alternate===null?Error(r(467)):Error(r(310));He=a,a={memoizedState:He.memoizedState,baseState:He.baseState,baseQueue:He.baseQueue,queue:He.queue,next:null},vt===null?Ee.memoizedState=vt=a:vt=vt.next=a}return vt}function Hs(){return{lastEffect:null,events:null,stores:null,memoCache:null}}function Uo(a){var i=Bo;return Bo+=1,ml===null&&(ml=[]),a=lx(ml,a,i),i=Ee,(vt===null?i.memoizedState:vt.next)===null&&(i=i.alternate,q.H=i===null||i.memoizedState===null?Zx:am),a}function $s(a){if(a!==null&&typeof a=="object"){if(typeof a.then=="function")return Uo(a);if(a.$$typeof===C)return Kt(a)}throw Error(r(438,String(a)))}function Vh(a){var i=null,u=Ee.updateQueue;if(u!==null&&(i=u.memoCache),i==null){var c=Ee.alternate;c!==null&&(c=c.updateQueue,c!==null&&(c=c.memoCache,c!=null&&(i={data:c.data.map(function(v){return v.slice()}),index:0})))}if(i==null&&(i={data:[],index:0}),u===null&&(u=Hs(),Ee.updateQueue=u),u.memoCache=i,u=i.data[i.index],u===void 0)for(u=i.data[i.index]=Array(a),c=0;c<a;c++)u[c]=ae;return i.index++,u}function Rr(a,i){return typeof i=="function"?i(a):i}function Ys(a){var i=ft();return Xh(i,He,a)}function Xh(a,i,u){var c=a.queue;if(c===null)throw Error(r(311));c.lastRenderedReducer=u;var v=a.baseQueue,y=c.pending;if(y!==null){if(v!==null){var E=v.next;v.next=y.next,y.next=E}i.baseQueue=v=y,c.pending=null}if(y=a.baseState,v===null)a.memoizedState=y;else{i=v.next;var N=E=null,M=null,U=i,G=!1;do{var Z=U.lane&-536870913;if(Z!==U.lane?(Te&Z)===Z:(Pr&Z)===Z){var H=U.revertLane;if(H===0)M!==null&&(M=M.next={lane:0,revertLane:0,gesture:null,action:U.action,hasEagerState:U.hasEagerState,eagerState:U.eagerState,next:null}),Z===ul&&(G=!0);else if((Pr&H)===H){U=U.next,H===ul&&(G=!0);continue}else Z={lane:0,revertLane:U.revertLane,gesture:null,action:U.action,hasEagerState:U.hasEagerState,eagerState:U.eagerState,next:null},M===null?(N=M=Z,E=y):M=M.next=Z,Ee.lanes|=H,Ma|=H;Z=U.action,vi&&u(y,Z),y=U.hasEagerState?U.eagerState:u(y,Z)}else H={lane:Z,revertLane:U.revertLane,gesture:U.gesture,action:U.action,hasEagerState:U.hasEagerState,eagerState:U.eagerState,next:null},M===null?(N=M=H,E=y):M=M.next=H,Ee.lanes|=Z,Ma|=Z;U=U.next}while(U!==null&&U!==i);if(M===null?E=y:M.next=N,!En(y,a.memoizedState)&&(pt=!0,G&&(u=sl,u!==null)))throw u;a.memoizedState=y,a.baseState=E,a.baseQueue=M,c.lastRenderedState=y}return v===null&&(c.lanes=0),[a.memoizedState,c.dispatch]}function Fh(a){var i=ft(),u=i.queue;if(u===null)throw Error(r(311));u.lastRenderedReducer=a;var c=u.dispatch,v=u.pending,y=i.memoizedState;if(v!==null){u.pending=null;var E=v=v.next;do y=a(y,E.action),E=E.next;while(E!==v);En(y,i.memoizedState)||(pt=!0),i.memoizedState=y,i.baseQueue===null&&(i.baseState=y),u.lastRenderedState=y}return[y,c]}function yx(a,i,u){var c=Ee,v=ft(),y=De;if(y){if(u===void 0)throw Error(r(407));u=u()}else u=i();var E=!En((He||v).memoizedState,u);if(E&&(v.memoizedState=u,pt=!0),v=v.queue,Qh(xx.bind(null,c,v,a),[a]),v.getSnapshot!==i||E||vt!==null&&vt.memoizedState.tag&1){if(c.flags|=2048,vl(9,{destroy:void 0},bx.bind(null,c,v,u,i),null),Ke===null)throw Error(r(349));y||(Pr&127)!==0||gx(c,i,u)}return u}function gx(a,i,u){a.flags|=16384,a={getSnapshot:i,value:u},i=Ee.updateQueue,i===null?(i=Hs(),Ee.updateQueue=i,i.stores=[a]):(u=i.stores,u===null?i.stores=[a]:u.push(a))}function bx(a,i,u,c){i.value=u,i.getSnapshot=c,wx(i)&&Sx(a)}function xx(a,i,u){return u(function(){wx(i)&&Sx(a)})}function wx(a){var i=a.getSnapshot;a=a.value;try{var u=i();return!En(a,u)}catch{return!0}}function Sx(a){var i=li(a,2);i!==null&&vn(i,a,2)}function Wh(a){var i=rn();if(typeof a=="function"){var u=a;if(a=u(),vi){ya(!0);try{u()}finally{ya(!1)}}}return i.memoizedState=i.baseState=a,i.queue={pending:null,lanes:0,dispatch:null,lastRenderedReducer:Rr,lastRenderedState:a},i}function Ex(a,i,u,c){return a.baseState=u,Xh(a,He,typeof c=="function"?c:Rr)}function vk(a,i,u,c,v){if(Vs(a))throw Error(r(485));if(a=i.action,a!==null){var y={payload:v,action:a,next:null,isTransition:!0,status:"pending",value:null,reason:null,listeners:[],then:function(E){y.listeners.push(E)}};q.T!==null?u(!0):y.isTransition=!1,c(y),u=i.pending,u===null?(y.next=i.pending=y,Ox(i,y)):(y.next=u.next,i.pending=u.next=y)}}function Ox(a,i){var u=i.action,c=i.payload,v=a.state;if(i.isTransition){var y=q.T,E={};q.T=E;try{var N=u(v,c),M=q.S;M!==null&&M(E,N),Ax(a,i,N)}catch(U){Zh(a,i,U)}finally{y!==null&&E.types!==null&&(y.types=E.types),q.T=y}}else try{y=u(v,c),Ax(a,i,y)}catch(U){Zh(a,i,U)}}function Ax(a,i,u){u!==null&&typeof u=="object"&&typeof u.then=="function"?u.then(function(c){jx(a,i,c)},function(c){return Zh(a,i,c)}):jx(a,i,u)}function jx(a,i,u){i.status="fulfilled",i.value=u,Nx(i),a.state=u,i=a.pending,i!==null&&(u=i.next,u===i?a.pending=null:(u=u.next,i.next=u,Ox(a,u)))}function Zh(a,i,u){var c=a.pending;if(a.pending=null,c!==null){c=c.next;do i.status="rejected",i.reason=u,Nx(i),i=i.next;while(i!==c)}a.action=null}function Nx(a){a=a.listeners;for(var i=0;i<a.length;i++)(0,a[i])()}function Cx(a,i){return i}function _x(a,i){if(De){var u=Ke.formState;if(u!==null){e:{var c=Ee;if(De){if(Ze){t:{for(var v=Ze,y=Hn;v.nodeType!==8;){if(!y){v=null;break t}if(v=Yn(v.nextSibling),v===null){v=null;break t}}y=v.data,v=y==="F!"||y==="F"?v:null}if(v){Ze=Yn(v.nextSibling),c=v.data==="F!";break e}}Sa(c)}c=!1}c&&(i=u[0])}}return u=rn(),u.memoizedState=u.baseState=i,c={pending:null,lanes:0,dispatch:null,lastRenderedReducer:Cx,lastRenderedState:i},u.queue=c,u=Xx.bind(null,Ee,c),c.dispatch=u,c=Wh(!1),y=rm.bind(null,Ee,!1,c.queue),c=rn(),v={state:i,dispatch:null,action:a,pending:null},c.queue=v,u=vk.bind(null,Ee,v,y,u),v.dispatch=u,c.memoizedState=a,[i,u,!1]}function Tx(a){var i=ft();return Mx(i,He,a)}function Mx(a,i,u){if(i=Xh(a,i,Cx)[0],a=Ys(Rr)[0],typeof i=="object"&&i!==null&&typeof i.then=="function")try{var c=Uo(i)}catch(E){throw E===cl?Ps:E}else c=i;i=ft();var v=i.queue,y=v.dispatch;return u!==i.memoizedState&&(Ee.flags|=2048,vl(9,{destroy:void 0},pk.bind(null,v,u),null)),[c,y,a]}function pk(a,i){a.action=i}function Dx(a){var i=ft(),u=He;if(u!==null)return Mx(i,u,a);ft(),i=i.memoizedState,u=ft();var c=u.queue.dispatch;return u.memoizedState=a,[i,c,!1]}function vl(a,i,u,c){return a={tag:a,create:u,deps:c,inst:i,next:null},i=Ee.updateQueue,i===null&&(i=Hs(),Ee.updateQueue=i),u=i.lastEffect,u===null?i.lastEffect=a.next=a:(c=u.next,u.next=a,a.next=c,i.lastEffect=a),a}function kx(){return ft().memoizedState}function Ks(a,i,u,c){var v=rn();Ee.flags|=a,v.memoizedState=vl(1|i,{destroy:void 0},u,c===void 0?null:c)}function Gs(a,i,u,c){var v=ft();c=c===void 0?null:c;var y=v.memoizedState.inst;He!==null&&c!==null&&Hh(c,He.memoizedState.deps)?v.memoizedState=vl(i,y,u,c):(Ee.flags|=a,v.memoizedState=vl(1|i,y,u,c))}function Px(a,i){Ks(8390656,8,a,i)}function Qh(a,i){Gs(2048,8,a,i)}function yk(a){Ee.flags|=4;var i=Ee.updateQueue;if(i===null)i=Hs(),Ee.updateQueue=i,i.events=[a];else{var u=i.events;u===null?i.events=[a]:u.push(a)}}function Rx(a){var i=ft().memoizedState;return yk({ref:i,nextImpl:a}),function(){if((Le&2)!==0)throw Error(r(440));return i.impl.apply(void 0,arguments)}}function zx(a,i){return Gs(4,2,a,i)}function Lx(a,i){return Gs(4,4,a,i)}function Bx(a,i){if(typeof i=="function"){a=a();var u=i(a);return function(){typeof u=="function"?u():i(null)}}if(i!=null)return a=a(),i.current=a,function(){i.current=null}}function Ux(a,i,u){u=u!=null?u.concat([a]):null,Gs(4,4,Bx.bind(null,i,a),u)}function Jh(){}function Ix(a,i){var u=ft();i=i===void 0?null:i;var c=u.memoizedState;return i!==null&&Hh(i,c[1])?c[0]:(u.memoizedState=[a,i],a)}function qx(a,i){var u=ft();i=i===void 0?null:i;var c=u.memoizedState;if(i!==null&&Hh(i,c[1]))return c[0];if(c=a(),vi){ya(!0);try{a()}finally{ya(!1)}}return u.memoizedState=[c,i],c}function em(a,i,u){return u===void 0||(Pr&1073741824)!==0&&(Te&261930)===0?a.memoizedState=i:(a.memoizedState=u,a=H1(),Ee.lanes|=a,Ma|=a,u)}function Hx(a,i,u,c){return En(u,i)?u:dl.current!==null?(a=em(a,u,c),En(a,i)||(pt=!0),a):(Pr&42)===0||(Pr&1073741824)!==0&&(Te&261930)===0?(pt=!0,a.memoizedState=u):(a=H1(),Ee.lanes|=a,Ma|=a,i)}function $x(a,i,u,c,v){var y=Q.p;Q.p=y!==0&&8>y?y:8;var E=q.T,N={};q.T=N,rm(a,!1,i,u);try{var M=v(),U=q.S;if(U!==null&&U(N,M),M!==null&&typeof M=="object"&&typeof M.then=="function"){var G=dk(M,c);Io(a,i,G,_n(a))}else Io(a,i,c,_n(a))}catch(Z){Io(a,i,{then:function(){},status:"rejected",reason:Z},_n())}finally{Q.p=y,E!==null&&N.types!==null&&(E.types=N.types),q.T=E}}function gk(){}function tm(a,i,u,c){if(a.tag!==5)throw Error(r(476));var v=Yx(a).queue;$x(a,v,i,X,u===null?gk:function(){return Kx(a),u(c)})}function Yx(a){var i=a.memoizedState;if(i!==null)return i;i={memoizedState:X,baseState:X,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:Rr,lastRenderedState:X},next:null};var u={};return i.next={memoizedState:u,baseState:u,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:Rr,lastRenderedState:u},next:null},a.memoizedState=i,a=a.alternate,a!==null&&(a.memoizedState=i),i}function Kx(a){var i=Yx(a);i.next===null&&(i=a.alternate.memoizedState),Io(a,i.next.queue,{},_n())}function nm(){return Kt(ru)}function Gx(){return ft().memoizedState}function Vx(){return ft().memoizedState}function bk(a){for(var i=a.return;i!==null;){switch(i.tag){case 24:case 3:var u=_n();a=Aa(u);var c=ja(i,a,u);c!==null&&(vn(c,i,u),Ro(c,i,u)),i={cache:Mh()},a.payload=i;return}i=i.return}}function xk(a,i,u){var c=_n();u={lane:c,revertLane:0,gesture:null,action:u,hasEagerState:!1,eagerState:null,next:null},Vs(a)?Fx(i,u):(u=xh(a,i,u,c),u!==null&&(vn(u,a,c),Wx(u,i,c)))}function Xx(a,i,u){var c=_n();Io(a,i,u,c)}function Io(a,i,u,c){var v={lane:c,revertLane:0,gesture:null,action:u,hasEagerState:!1,eagerState:null,next:null};if(Vs(a))Fx(i,v);else{var y=a.alternate;if(a.lanes===0&&(y===null||y.lanes===0)&&(y=i.lastRenderedReducer,y!==null))try{var E=i.lastRenderedState,N=y(E,u);if(v.hasEagerState=!0,v.eagerState=N,En(N,E))return Ns(a,i,v,0),Ke===null&&js(),!1}catch{}finally{}if(u=xh(a,i,v,c),u!==null)return vn(u,a,c),Wx(u,i,c),!0}return!1}function rm(a,i,u,c){if(c={lane:2,revertLane:Rm(),gesture:null,action:c,hasEagerState:!1,eagerState:null,next:null},Vs(a)){if(i)throw Error(r(479))}else i=xh(a,u,c,2),i!==null&&vn(i,a,2)}function Vs(a){var i=a.alternate;return a===Ee||i!==null&&i===Ee}function Fx(a,i){hl=Is=!0;var u=a.pending;u===null?i.next=i:(i.next=u.next,u.next=i),a.pending=i}function Wx(a,i,u){if((u&4194048)!==0){var c=i.lanes;c&=a.pendingLanes,u|=c,i.lanes=u,tb(a,u)}}var qo={readContext:Kt,use:$s,useCallback:lt,useContext:lt,useEffect:lt,useImperativeHandle:lt,useLayoutEffect:lt,useInsertionEffect:lt,useMemo:lt,useReducer:lt,useRef:lt,useState:lt,useDebugValue:lt,useDeferredValue:lt,useTransition:lt,useSyncExternalStore:lt,useId:lt,useHostTransitionStatus:lt,useFormState:lt,useActionState:lt,useOptimistic:lt,useMemoCache:lt,useCacheRefresh:lt};qo.useEffectEvent=lt;var Zx={readContext:Kt,use:$s,useCallback:function(a,i){return rn().memoizedState=[a,i===void 0?null:i],a},useContext:Kt,useEffect:Px,useImperativeHandle:function(a,i,u){u=u!=null?u.concat([a]):null,Ks(4194308,4,Bx.bind(null,i,a),u)},useLayoutEffect:function(a,i){return Ks(4194308,4,a,i)},useInsertionEffect:function(a,i){Ks(4,2,a,i)},useMemo:function(a,i){var u=rn();i=i===void 0?null:i;var c=a();if(vi){ya(!0);try{a()}finally{ya(!1)}}return u.memoizedState=[c,i],c},useReducer:function(a,i,u){var c=rn();if(u!==void 0){var v=u(i);if(vi){ya(!0);try{u(i)}finally{ya(!1)}}}else v=i;return c.memoizedState=c.baseState=v,a={pending:null,lanes:0,dispatch:null,lastRenderedReducer:a,lastRenderedState:v},c.queue=a,a=a.dispatch=xk.bind(null,Ee,a),[c.memoizedState,a]},useRef:function(a){var i=rn();return a={current:a},i.memoizedState=a},useState:function(a){a=Wh(a);var i=a.queue,u=Xx.bind(null,Ee,i);return i.dispatch=u,[a.memoizedState,u]},useDebugValue:Jh,useDeferredValue:function(a,i){var u=rn();return em(u,a,i)},useTransition:function(){var a=Wh(!1);return a=$x.bind(null,Ee,a.queue,!0,!1),rn().memoizedState=a,[!1,a]},useSyncExternalStore:function(a,i,u){var c=Ee,v=rn();if(De){if(u===void 0)throw Error(r(407));u=u()}else{if(u=i(),Ke===null)throw Error(r(349));(Te&127)!==0||gx(c,i,u)}v.memoizedState=u;var y={value:u,getSnapshot:i};return v.queue=y,Px(xx.bind(null,c,y,a),[a]),c.flags|=2048,vl(9,{destroy:void 0},bx.bind(null,c,y,u,i),null),u},useId:function(){var a=rn(),i=Ke.identifierPrefix;if(De){var u=mr,c=hr;u=(c&~(1<<32-Sn(c)-1)).toString(32)+u,i="_"+i+"R_"+u,u=qs++,0<u&&(i+="H"+u.toString(32)),i+="_"}else u=hk++,i="_"+i+"r_"+u.toString(32)+"_";return a.memoizedState=i},useHostTransitionStatus:nm,useFormState:_x,useActionState:_x,useOptimistic:function(a){var i=rn();i.memoizedState=i.baseState=a;var u={pending:null,lanes:0,dispatch:null,lastRenderedReducer:null,lastRenderedState:null};return i.queue=u,i=rm.bind(null,Ee,!0,u),u.dispatch=i,[a,i]},useMemoCache:Vh,useCacheRefresh:function(){return rn().memoizedState=bk.bind(null,Ee)},useEffectEvent:function(a){var i=rn(),u={impl:a};return i.memoizedState=u,function(){if((Le&2)!==0)throw Error(r(440));return u.impl.apply(void 0,arguments)}}},am={readContext:Kt,use:$s,useCallback:Ix,useContext:Kt,useEffect:Qh,useImperativeHandle:Ux,useInsertionEffect:zx,useLayoutEffect:Lx,useMemo:qx,useReducer:Ys,useRef:kx,useState:function(){return Ys(Rr)},useDebugValue:Jh,useDeferredValue:function(a,i){var u=ft();return Hx(u,He.memoizedState,a,i)},useTransition:function(){var a=Ys(Rr)[0],i=ft().memoizedState;return[typeof a=="boolean"?a:Uo(a),i]},useSyncExternalStore:yx,useId:Gx,useHostTransitionStatus:nm,useFormState:Tx,useActionState:Tx,useOptimistic:function(a,i){var u=ft();return Ex(u,He,a,i)},useMemoCache:Vh,useCacheRefresh:Vx};am.useEffectEvent=Rx;var Qx={readContext:Kt,use:$s,useCallback:Ix,useContext:Kt,useEffect:Qh,useImperativeHandle:Ux,useInsertionEffect:zx,useLayoutEffect:Lx,useMemo:qx,useReducer:Fh,useRef:kx,useState:function(){return Fh(Rr)},useDebugValue:Jh,useDeferredValue:function(a,i){var u=ft();return He===null?em(u,a,i):Hx(u,He.memoizedState,a,i)},useTransition:function(){var a=Fh(Rr)[0],i=ft().memoizedState;return[typeof a=="boolean"?a:Uo(a),i]},useSyncExternalStore:yx,useId:Gx,useHostTransitionStatus:nm,useFormState:Dx,useActionState:Dx,useOptimistic:function(a,i){var u=ft();return He!==null?Ex(u,He,a,i):(u.baseState=a,[a,u.queue.dispatch])},useMemoCache:Vh,useCacheRefresh:Vx};Qx.useEffectEvent=Rx;function im(a,i,u,c){i=a.memoizedState,u=u(c,i),u=u==null?i:p({},i,u),a.memoizedState=u,a.lanes===0&&(a.updateQueue.baseState=u)}var lm={enqueueSetState:function(a,i,u){a=a._reactInternals;var c=_n(),v=Aa(c);v.payload=i,u!=null&&(v.callback=u),i=ja(a,v,c),i!==null&&(vn(i,a,c),Ro(i,a,c))},enqueueReplaceState:function(a,i,u){a=a._reactInternals;var c=_n(),v=Aa(c);v.tag=1,v.payload=i,u!=null&&(v.callback=u),i=ja(a,v,c),i!==null&&(vn(i,a,c),Ro(i,a,c))},enqueueForceUpdate:function(a,i){a=a._reactInternals;var u=_n(),c=Aa(u);c.tag=2,i!=null&&(c.callback=i),i=ja(a,c,u),i!==null&&(vn(i,a,u),Ro(i,a,u))}};function Jx(a,i,u,c,v,y,E){return a=a.stateNode,typeof a.shouldComponentUpdate=="function"?a.shouldComponentUpdate(c,y,E):i.prototype&&i.prototype.isPureReactComponent?!No(u,c)||!No(v,y):!0}function e1(a,i,u,c){a=i.state,typeof i.componentWillReceiveProps=="function"&&i.componentWillReceiveProps(u,c),typeof i.UNSAFE_componentWillReceiveProps=="function"&&i.UNSAFE_componentWillReceiveProps(u,c),i.state!==a&&lm.enqueueReplaceState(i,i.state,null)}function pi(a,i){var u=i;if("ref"in i){u={};for(var c in i)c!=="ref"&&(u[c]=i[c])}if(a=a.defaultProps){u===i&&(u=p({},u));for(var v in a)u[v]===void 0&&(u[v]=a[v])}return u}function t1(a){As(a)}function n1(a){console.error(a)}function r1(a){As(a)}function Xs(a,i){try{var u=a.onUncaughtError;u(i.value,{componentStack:i.stack})}catch(c){setTimeout(function(){throw c})}}function a1(a,i,u){try{var c=a.onCaughtError;c(u.value,{componentStack:u.stack,errorBoundary:i.tag===1?i.stateNode:null})}catch(v){setTimeout(function(){throw v})}}function om(a,i,u){return u=Aa(u),u.tag=3,u.payload={element:null},u.callback=function(){Xs(a,i)},u}function i1(a){return a=Aa(a),a.tag=3,a}function l1(a,i,u,c){var v=u.type.getDerivedStateFromError;if(typeof v=="function"){var y=c.value;a.payload=function(){return v(y)},a.callback=function(){a1(i,u,c)}}var E=u.stateNode;E!==null&&typeof E.componentDidCatch=="function"&&(a.callback=function(){a1(i,u,c),typeof v!="function"&&(Da===null?Da=new Set([this]):Da.add(this));var N=c.stack;this.componentDidCatch(c.value,{componentStack:N!==null?N:""})})}function wk(a,i,u,c,v){if(u.flags|=32768,c!==null&&typeof c=="object"&&typeof c.then=="function"){if(i=u.alternate,i!==null&&ol(i,u,v,!0),u=An.current,u!==null){switch(u.tag){case 31:case 13:return $n===null?lc():u.alternate===null&&ot===0&&(ot=3),u.flags&=-257,u.flags|=65536,u.lanes=v,c===Rs?u.flags|=16384:(i=u.updateQueue,i===null?u.updateQueue=new Set([c]):i.add(c),Dm(a,c,v)),!1;case 22:return u.flags|=65536,c===Rs?u.flags|=16384:(i=u.updateQueue,i===null?(i={transitions:null,markerInstances:null,retryQueue:new Set([c])},u.updateQueue=i):(u=i.retryQueue,u===null?i.retryQueue=new Set([c]):u.add(c)),Dm(a,c,v)),!1}throw Error(r(435,u.tag))}return Dm(a,c,v),lc(),!1}if(De)return i=An.current,i!==null?((i.flags&65536)===0&&(i.flags|=256),i.flags|=65536,i.lanes=v,c!==jh&&(a=Error(r(422),{cause:c}),To(Un(a,u)))):(c!==jh&&(i=Error(r(423),{cause:c}),To(Un(i,u))),a=a.current.alternate,a.flags|=65536,v&=-v,a.lanes|=v,c=Un(c,u),v=om(a.stateNode,c,v),Lh(a,v),ot!==4&&(ot=2)),!1;var y=Error(r(520),{cause:c});if(y=Un(y,u),Fo===null?Fo=[y]:Fo.push(y),ot!==4&&(ot=2),i===null)return!0;c=Un(c,u),u=i;do{switch(u.tag){case 3:return u.flags|=65536,a=v&-v,u.lanes|=a,a=om(u.stateNode,c,a),Lh(u,a),!1;case 1:if(i=u.type,y=u.stateNode,(u.flags&128)===0&&(typeof i.getDerivedStateFromError=="function"||y!==null&&typeof y.componentDidCatch=="function"&&(Da===null||!Da.has(y))))return u.flags|=65536,v&=-v,u.lanes|=v,v=i1(v),l1(v,a,u,c),Lh(u,v),!1}u=u.return}while(u!==null);return!1}var um=Error(r(461)),pt=!1;function Gt(a,i,u,c){i.child=a===null?cx(i,null,u,c):mi(i,a.child,u,c)}function o1(a,i,u,c,v){u=u.render;var y=i.ref;if("ref"in c){var E={};for(var N in c)N!=="ref"&&(E[N]=c[N])}else E=c;return ci(i),c=$h(a,i,u,E,y,v),N=Yh(),a!==null&&!pt?(Kh(a,i,v),zr(a,i,v)):(De&&N&&Oh(i),i.flags|=1,Gt(a,i,c,v),i.child)}function u1(a,i,u,c,v){if(a===null){var y=u.type;return typeof y=="function"&&!wh(y)&&y.defaultProps===void 0&&u.compare===null?(i.tag=15,i.type=y,s1(a,i,y,c,v)):(a=_s(u.type,null,c,i,i.mode,v),a.ref=i.ref,a.return=i,i.child=a)}if(y=a.child,!pm(a,v)){var E=y.memoizedProps;if(u=u.compare,u=u!==null?u:No,u(E,c)&&a.ref===i.ref)return zr(a,i,v)}return i.flags|=1,a=Tr(y,c),a.ref=i.ref,a.return=i,i.child=a}function s1(a,i,u,c,v){if(a!==null){var y=a.memoizedProps;if(No(y,c)&&a.ref===i.ref)if(pt=!1,i.pendingProps=c=y,pm(a,v))(a.flags&131072)!==0&&(pt=!0);else return i.lanes=a.lanes,zr(a,i,v)}return sm(a,i,u,c,v)}function c1(a,i,u,c){var v=c.children,y=a!==null?a.memoizedState:null;if(a===null&&i.stateNode===null&&(i.stateNode={_visibility:1,_pendingMarkers:null,_retryCache:null,_transitions:null}),c.mode==="hidden"){if((i.flags&128)!==0){if(y=y!==null?y.baseLanes|u:u,a!==null){for(c=i.child=a.child,v=0;c!==null;)v=v|c.lanes|c.childLanes,c=c.sibling;c=v&~y}else c=0,i.child=null;return f1(a,i,y,u,c)}if((u&536870912)!==0)i.memoizedState={baseLanes:0,cachePool:null},a!==null&&ks(i,y!==null?y.cachePool:null),y!==null?hx(i,y):Uh(),mx(i);else return c=i.lanes=536870912,f1(a,i,y!==null?y.baseLanes|u:u,u,c)}else y!==null?(ks(i,y.cachePool),hx(i,y),Ca(),i.memoizedState=null):(a!==null&&ks(i,null),Uh(),Ca());return Gt(a,i,v,u),i.child}function Ho(a,i){return a!==null&&a.tag===22||i.stateNode!==null||(i.stateNode={_visibility:1,_pendingMarkers:null,_retryCache:null,_transitions:null}),i.sibling}function f1(a,i,u,c,v){var y=kh();return y=y===null?null:{parent:mt._currentValue,pool:y},i.memoizedState={baseLanes:u,cachePool:y},a!==null&&ks(i,null),Uh(),mx(i),a!==null&&ol(a,i,c,!0),i.childLanes=v,null}function Fs(a,i){return i=Zs({mode:i.mode,children:i.children},a.mode),i.ref=a.ref,a.child=i,i.return=a,i}function d1(a,i,u){return mi(i,a.child,null,u),a=Fs(i,i.pendingProps),a.flags|=2,jn(i),i.memoizedState=null,a}function Sk(a,i,u){var c=i.pendingProps,v=(i.flags&128)!==0;if(i.flags&=-129,a===null){if(De){if(c.mode==="hidden")return a=Fs(i,c),i.lanes=536870912,Ho(null,a);if(qh(i),(a=Ze)?(a=Ow(a,Hn),a=a!==null&&a.data==="&"?a:null,a!==null&&(i.memoizedState={dehydrated:a,treeContext:xa!==null?{id:hr,overflow:mr}:null,retryLane:536870912,hydrationErrors:null},u=Fb(a),u.return=i,i.child=u,Yt=i,Ze=null)):a=null,a===null)throw Sa(i);return i.lanes=536870912,null}return Fs(i,c)}var y=a.memoizedState;if(y!==null){var E=y.dehydrated;if(qh(i),v)if(i.flags&256)i.flags&=-257,i=d1(a,i,u);else if(i.memoizedState!==null)i.child=a.child,i.flags|=128,i=null;else throw Error(r(558));else if(pt||ol(a,i,u,!1),v=(u&a.childLanes)!==0,pt||v){if(c=Ke,c!==null&&(E=nb(c,u),E!==0&&E!==y.retryLane))throw y.retryLane=E,li(a,E),vn(c,a,E),um;lc(),i=d1(a,i,u)}else a=y.treeContext,Ze=Yn(E.nextSibling),Yt=i,De=!0,wa=null,Hn=!1,a!==null&&Qb(i,a),i=Fs(i,c),i.flags|=4096;return i}return a=Tr(a.child,{mode:c.mode,children:c.children}),a.ref=i.ref,i.child=a,a.return=i,a}function Ws(a,i){var u=i.ref;if(u===null)a!==null&&a.ref!==null&&(i.flags|=4194816);else{if(typeof u!="function"&&typeof u!="object")throw Error(r(284));(a===null||a.ref!==u)&&(i.flags|=4194816)}}function sm(a,i,u,c,v){return ci(i),u=$h(a,i,u,c,void 0,v),c=Yh(),a!==null&&!pt?(Kh(a,i,v),zr(a,i,v)):(De&&c&&Oh(i),i.flags|=1,Gt(a,i,u,v),i.child)}function h1(a,i,u,c,v,y){return ci(i),i.updateQueue=null,u=px(i,c,u,v),vx(a),c=Yh(),a!==null&&!pt?(Kh(a,i,y),zr(a,i,y)):(De&&c&&Oh(i),i.flags|=1,Gt(a,i,u,y),i.child)}function m1(a,i,u,c,v){if(ci(i),i.stateNode===null){var y=rl,E=u.contextType;typeof E=="object"&&E!==null&&(y=Kt(E)),y=new u(c,y),i.memoizedState=y.state!==null&&y.state!==void 0?y.state:null,y.updater=lm,i.stateNode=y,y._reactInternals=i,y=i.stateNode,y.props=c,y.state=i.memoizedState,y.refs={},Rh(i),E=u.contextType,y.context=typeof E=="object"&&E!==null?Kt(E):rl,y.state=i.memoizedState,E=u.getDerivedStateFromProps,typeof E=="function"&&(im(i,u,E,c),y.state=i.memoizedState),typeof u.getDerivedStateFromProps=="function"||typeof y.getSnapshotBeforeUpdate=="function"||typeof y.UNSAFE_componentWillMount!="function"&&typeof y.componentWillMount!="function"||(E=y.state,typeof y.componentWillMount=="function"&&y.componentWillMount(),typeof y.UNSAFE_componentWillMount=="function"&&y.UNSAFE_componentWillMount(),E!==y.state&&lm.enqueueReplaceState(y,y.state,null),Lo(i,c,y,v),zo(),y.state=i.memoizedState),typeof y.componentDidMount=="function"&&(i.flags|=4194308),c=!0}else if(a===null){y=i.stateNode;var N=i.memoizedProps,M=pi(u,N);y.props=M;var U=y.context,G=u.contextType;E=rl,typeof G=="object"&&G!==null&&(E=Kt(G));var Z=u.getDerivedStateFromProps;G=typeof Z=="function"||typeof y.getSnapshotBeforeUpdate=="function",N=i.pendingProps!==N,G||typeof y.UNSAFE_componentWillReceiveProps!="function"&&typeof y.componentWillReceiveProps!="function"||(N||U!==E)&&e1(i,y,c,E),Oa=!1;var H=i.memoizedState;y.state=H,Lo(i,c,y,v),zo(),U=i.memoizedState,N||H!==U||Oa?(typeof Z=="function"&&(im(i,u,Z,c),U=i.memoizedState),(M=Oa||Jx(i,u,M,c,H,U,E))?(G||typeof y.UNSAFE_componentWillMount!="function"&&typeof y.componentWillMount!="function"||(typeof y.componentWillMount=="function"&&y.componentWillMount(),typeof y.UNSAFE_componentWillMount=="function"&&y.UNSAFE_componentWillMount()),typeof y.componentDidMount=="function"&&(i.flags|=4194308)):(typeof y.componentDidMount=="function"&&(i.flags|=4194308),i.memoizedProps=c,i.memoizedState=U),y.props=c,y.state=U,y.context=E,c=M):(typeof y.componentDidMount=="function"&&(i.flags|=4194308),c=!1)}else{y=i.stateNode,zh(a,i),E=i.memoizedProps,G=pi(u,E),y.props=G,Z=i.pendingProps,H=y.context,U=u.contextType,M=rl,typeof U=="object"&&U!==null&&(M=Kt(U)),N=u.getDerivedStateFromProps,(U=typeof N=="function"||typeof y.getSnapshotBeforeUpdate=="function")||typeof y.UNSAFE_componentWillReceiveProps!="function"&&typeof y.componentWillReceiveProps!="function"||(E!==Z||H!==M)&&e1(i,y,c,M),Oa=!1,H=i.memoizedState,y.state=H,Lo(i,c,y,v),zo();var $=i.memoizedState;E!==Z||H!==$||Oa||a!==null&&a.dependencies!==null&&Ms(a.dependencies)?(typeof N=="function"&&(im(i,u,N,c),$=i.memoizedState),(G=Oa||Jx(i,u,G,c,H,$,M)||a!==null&&a.dependencies!==null&&Ms(a.dependencies))?(U||typeof y.UNSAFE_componentWillUpdate!="function"&&typeof y.componentWillUpdate!="function"||(typeof y.componentWillUpdate=="function"&&y.componentWillUpdate(c,$,M),typeof y.UNSAFE_componentWillUpdate=="function"&&y.UNSAFE_componentWillUpdate(c,$,M)),typeof y.componentDidUpdate=="function"&&(i.flags|=4),typeof y.getSnapshotBeforeUpdate=="function"&&(i.flags|=1024)):(typeof y.componentDidUpdate!="function"||E===a.memoizedProps&&H===a.memoizedState||(i.flags|=4),typeof y.getSnapshotBeforeUpdate!="function"||E===a.memoizedProps&&H===a.memoizedState||(i.flags|=1024),i.memoizedProps=c,i.memoizedState=$),y.props=c,y.state=$,y.context=M,c=G):(typeof y.componentDidUpdate!="function"||E===a.memoizedProps&&H===a.memoizedState||(i.flags|=4),typeof y.getSnapshotBeforeUpdate!="function"||E===a.memoizedProps&&H===a.memoizedState||(i.flags|=1024),c=!1)}return y=c,Ws(a,i),c=(i.flags&128)!==0,y||c?(y=i.stateNode,u=c&&typeof u.getDerivedStateFromError!="function"?null:y.render(),i.flags|=1,a!==null&&c?(i.child=mi(i,a.child,null,v),i.child=mi(i,null,u,v)):Gt(a,i,u,v),i.memoizedState=y.state,a=i.child):a=zr(a,i,v),a}function v1(a,i,u,c){return ui(),i.flags|=256,Gt(a,i,u,c),i.child}var cm={dehydrated:null,treeContext:null,retryLane:0,hydrationErrors:null};function fm(a){return{baseLanes:a,cachePool:ax()}}function dm(a,i,u){return a=a!==null?a.childLanes&~u:0,i&&(a|=Cn),a}function p1(a,i,u){var c=i.pendingProps,v=!1,y=(i.flags&128)!==0,E;if((E=y)||(E=a!==null&&a.memoizedState===null?!1:(ct.current&2)!==0),E&&(v=!0,i.flags&=-129),E=(i.flags&32)!==0,i.flags&=-33,a===null){if(De){if(v?Na(i):Ca(),(a=Ze)?(a=Ow(a,Hn),a=a!==null&&a.data!=="&"?a:null,a!==null&&(i.memoizedState={dehydrated:a,treeContext:xa!==null?{id:hr,overflow:mr}:null,retryLane:536870912,hydrationErrors:null},u=Fb(a),u.return=i,i.child=u,Yt=i,Ze=null)):a=null,a===null)throw Sa(i);return Xm(a)?i.lanes=32:i.lanes=536870912,null}var N=c.children;return c=c.fallback,v?(Ca(),v=i.mode,N=Zs({mode:"hidden",children:N},v),c=oi(c,v,u,null),N.return=i,c.return=i,N.sibling=c,i.child=N,c=i.child,c.memoizedState=fm(u),c.childLanes=dm(a,E,u),i.memoizedState=cm,Ho(null,c)):(Na(i),hm(i,N))}var M=a.memoizedState;if(M!==null&&(N=M.dehydrated,N!==null)){if(y)i.flags&256?(Na(i),i.flags&=-257,i=mm(a,i,u)):i.memoizedState!==null?(Ca(),i.child=a.child,i.flags|=128,i=null):(Ca(),N=c.fallback,v=i.mode,c=Zs({mode:"visible",children:c.children},v),N=oi(N,v,u,null),N.flags|=2,c.return=i,N.return=i,c.sibling=N,i.child=c,mi(i,a.child,null,u),c=i.child,c.memoizedState=fm(u),c.childLanes=dm(a,E,u),i.memoizedState=cm,i=Ho(null,c));else if(Na(i),Xm(N)){if(E=N.nextSibling&&N.nextSibling.dataset,E)var U=E.dgst;E=U,c=Error(r(419)),c.stack="",c.digest=E,To({value:c,source:null,stack:null}),i=mm(a,i,u)}else if(pt||ol(a,i,u,!1),E=(u&a.childLanes)!==0,pt||E){if(E=Ke,E!==null&&(c=nb(E,u),c!==0&&c!==M.retryLane))throw M.retryLane=c,li(a,c),vn(E,a,c),um;Vm(N)||lc(),i=mm(a,i,u)}else Vm(N)?(i.flags|=192,i.child=a.child,i=null):(a=M.treeContext,Ze=Yn(N.nextSibling),Yt=i,De=!0,wa=null,Hn=!1,a!==null&&Qb(i,a),i=hm(i,c.children),i.flags|=4096);return i}return v?(Ca(),N=c.fallback,v=i.mode,M=a.child,U=M.sibling,c=Tr(M,{mode:"hidden",children:c.children}),c.subtreeFlags=M.subtreeFlags&65011712,U!==null?N=Tr(U,N):(N=oi(N,v,u,null),N.flags|=2),N.return=i,c.return=i,c.sibling=N,i.child=c,Ho(null,c),c=i.child,N=a.child.memoizedState,N===null?N=fm(u):(v=N.cachePool,v!==null?(M=mt._currentValue,v=v.parent!==M?{parent:M,pool:M}:v):v=ax(),N={baseLanes:N.baseLanes|u,cachePool:v}),c.memoizedState=N,c.childLanes=dm(a,E,u),i.memoizedState=cm,Ho(a.child,c)):(Na(i),u=a.child,a=u.sibling,u=Tr(u,{mode:"visible",children:c.children}),u.return=i,u.sibling=null,a!==null&&(E=i.deletions,E===null?(i.deletions=[a],i.flags|=16):E.push(a)),i.child=u,i.memoizedState=null,u)}function hm(a,i){return i=Zs({mode:"visible",children:i},a.mode),i.return=a,a.child=i}function Zs(a,i){return a=On(22,a,null,i),a.lanes=0,a}function mm(a,i,u){return mi(i,a.child,null,u),a=hm(i,i.pendingProps.children),a.flags|=2,i.memoizedState=null,a}function y1(a,i,u){a.lanes|=i;var c=a.alternate;c!==null&&(c.lanes|=i),_h(a.return,i,u)}function vm(a,i,u,c,v,y){var E=a.memoizedState;E===null?a.memoizedState={isBackwards:i,rendering:null,renderingStartTime:0,last:c,tail:u,tailMode:v,treeForkCount:y}:(E.isBackwards=i,E.rendering=null,E.renderingStartTime=0,E.last=c,E.tail=u,E.tailMode=v,E.treeForkCount=y)}function g1(a,i,u){var c=i.pendingProps,v=c.revealOrder,y=c.tail;c=c.children;var E=ct.current,N=(E&2)!==0;if(N?(E=E&1|2,i.flags|=128):E&=1,ee(ct,E),Gt(a,i,c,u),c=De?_o:0,!N&&a!==null&&(a.flags&128)!==0)e:for(a=i.child;a!==null;){if(a.tag===13)a.memoizedState!==null&&y1(a,u,i);else if(a.tag===19)y1(a,u,i);else if(a.child!==null){a.child.return=a,a=a.child;continue}if(a===i)break e;for(;a.sibling===null;){if(a.return===null||a.return===i)break e;a=a.return}a.sibling.return=a.return,a=a.sibling}switch(v){case"forwards":for(u=i.child,v=null;u!==null;)a=u.alternate,a!==null&&Us(a)===null&&(v=u),u=u.sibling;u=v,u===null?(v=i.child,i.child=null):(v=u.sibling,u.sibling=null),vm(i,!1,v,u,y,c);break;case"backwards":case"unstable_legacy-backwards":for(u=null,v=i.child,i.child=null;v!==null;){if(a=v.alternate,a!==null&&Us(a)===null){i.child=v;break}a=v.sibling,v.sibling=u,u=v,v=a}vm(i,!0,u,null,y,c);break;case"together":vm(i,!1,null,null,void 0,c);break;default:i.memoizedState=null}return i.child}function zr(a,i,u){if(a!==null&&(i.dependencies=a.dependencies),Ma|=i.lanes,(u&i.childLanes)===0)if(a!==null){if(ol(a,i,u,!1),(u&i.childLanes)===0)return null}else return null;if(a!==null&&i.child!==a.child)throw Error(r(153));if(i.child!==null){for(a=i.child,u=Tr(a,a.pendingProps),i.child=u,u.return=i;a.sibling!==null;)a=a.sibling,u=u.sibling=Tr(a,a.pendingProps),u.return=i;u.sibling=null}return i.child}function pm(a,i){return(a.lanes&i)!==0?!0:(a=a.dependencies,!!(a!==null&&Ms(a)))}function Ek(a,i,u){switch(i.tag){case 3:it(i,i.stateNode.containerInfo),Ea(i,mt,a.memoizedState.cache),ui();break;case 27:case 5:be(i);break;case 4:it(i,i.stateNode.containerInfo);break;case 10:Ea(i,i.type,i.memoizedProps.value);break;case 31:if(i.memoizedState!==null)return i.flags|=128,qh(i),null;break;case 13:var c=i.memoizedState;if(c!==null)return c.dehydrated!==null?(Na(i),i.flags|=128,null):(u&i.child.childLanes)!==0?p1(a,i,u):(Na(i),a=zr(a,i,u),a!==null?a.sibling:null);Na(i);break;case 19:var v=(a.flags&128)!==0;if(c=(u&i.childLanes)!==0,c||(ol(a,i,u,!1),c=(u&i.childLanes)!==0),v){if(c)return g1(a,i,u);i.flags|=128}if(v=i.memoizedState,v!==null&&(v.rendering=null,v.tail=null,v.lastEffect=null),ee(ct,ct.current),c)break;return null;case 22:return i.lanes=0,c1(a,i,u,i.pendingProps);case 24:Ea(i,mt,a.memoizedState.cache)}return zr(a,i,u)}function b1(a,i,u){if(a!==null)if(a.memoizedProps!==i.pendingProps)pt=!0;else{if(!pm(a,u)&&(i.flags&128)===0)return pt=!1,Ek(a,i,u);pt=(a.flags&131072)!==0}else pt=!1,De&&(i.flags&1048576)!==0&&Zb(i,_o,i.index);switch(i.lanes=0,i.tag){case 16:e:{var c=i.pendingProps;if(a=di(i.elementType),i.type=a,typeof a=="function")wh(a)?(c=pi(a,c),i.tag=1,i=m1(null,i,a,c,u)):(i.tag=0,i=sm(null,i,a,c,u));else{if(a!=null){var v=a.$$typeof;if(v===D){i.tag=11,i=o1(null,i,a,c,u);break e}else if(v===k){i.tag=14,i=u1(null,i,a,c,u);break e}}throw i=ge(a)||a,Error(r(306,i,""))}}return i;case 0:return sm(a,i,i.type,i.pendingProps,u);case 1:return c=i.type,v=pi(c,i.pendingProps),m1(a,i,c,v,u);case 3:e:{if(it(i,i.stateNode.containerInfo),a===null)throw Error(r(387));c=i.pendingProps;var y=i.memoizedState;v=y.element,zh(a,i),Lo(i,c,null,u);var E=i.memoizedState;if(c=E.cache,Ea(i,mt,c),c!==y.cache&&Th(i,[mt],u,!0),zo(),c=E.element,y.isDehydrated)if(y={element:c,isDehydrated:!1,cache:E.cache},i.updateQueue.baseState=y,i.memoizedState=y,i.flags&256){i=v1(a,i,c,u);break e}else if(c!==v){v=Un(Error(r(424)),i),To(v),i=v1(a,i,c,u);break e}else{switch(a=i.stateNode.containerInfo,a.nodeType){case 9:a=a.body;break;default:a=a.nodeName==="HTML"?a.ownerDocument.body:a}for(Ze=Yn(a.firstChild),Yt=i,De=!0,wa=null,Hn=!0,u=cx(i,null,c,u),i.child=u;u;)u.flags=u.flags&-3|4096,u=u.sibling}else{if(ui(),c===v){i=zr(a,i,u);break e}Gt(a,i,c,u)}i=i.child}return i;case 26:return Ws(a,i),a===null?(u=Tw(i.type,null,i.pendingProps,null))?i.memoizedState=u:De||(u=i.type,a=i.pendingProps,c=hc(we.current).createElement(u),c[$t]=i,c[sn]=a,Vt(c,u,a),kt(c),i.stateNode=c):i.memoizedState=Tw(i.type,a.memoizedProps,i.pendingProps,a.memoizedState),null;case 27:return be(i),a===null&&De&&(c=i.stateNode=Nw(i.type,i.pendingProps,we.current),Yt=i,Hn=!0,v=Ze,za(i.type)?(Fm=v,Ze=Yn(c.firstChild)):Ze=v),Gt(a,i,i.pendingProps.children,u),Ws(a,i),a===null&&(i.flags|=4194304),i.child;case 5:return a===null&&De&&((v=c=Ze)&&(c=Jk(c,i.type,i.pendingProps,Hn),c!==null?(i.stateNode=c,Yt=i,Ze=Yn(c.firstChild),Hn=!1,v=!0):v=!1),v||Sa(i)),be(i),v=i.type,y=i.pendingProps,E=a!==null?a.memoizedProps:null,c=y.children,Ym(v,y)?c=null:E!==null&&Ym(v,E)&&(i.flags|=32),i.memoizedState!==null&&(v=$h(a,i,mk,null,null,u),ru._currentValue=v),Ws(a,i),Gt(a,i,c,u),i.child;case 6:return a===null&&De&&((a=u=Ze)&&(u=eP(u,i.pendingProps,Hn),u!==null?(i.stateNode=u,Yt=i,Ze=null,a=!0):a=!1),a||Sa(i)),null;case 13:return p1(a,i,u);case 4:return it(i,i.stateNode.containerInfo),c=i.pendingProps,a===null?i.child=mi(i,null,c,u):Gt(a,i,c,u),i.child;case 11:return o1(a,i,i.type,i.pendingProps,u);case 7:return Gt(a,i,i.pendingProps,u),i.child;case 8:return Gt(a,i,i.pendingProps.children,u),i.child;case 12:return Gt(a,i,i.pendingProps.children,u),i.child;case 10:return c=i.pendingProps,Ea(i,i.type,c.value),Gt(a,i,c.children,u),i.child;case 9:return v=i.type._context,c=i.pendingProps.children,ci(i),v=Kt(v),c=c(v),i.flags|=1,Gt(a,i,c,u),i.child;case 14:return u1(a,i,i.type,i.pendingProps,u);case 15:return s1(a,i,i.type,i.pendingProps,u);case 19:return g1(a,i,u);case 31:return Sk(a,i,u);case 22:return c1(a,i,u,i.pendingProps);case 24:return ci(i),c=Kt(mt),a===null?(v=kh(),v===null&&(v=Ke,y=Mh(),v.pooledCache=y,y.refCount++,y!==null&&(v.pooledCacheLanes|=u),v=y),i.memoizedState={parent:c,cache:v},Rh(i),Ea(i,mt,v)):((a.lanes&u)!==0&&(zh(a,i),Lo(i,null,null,u),zo()),v=a.memoizedState,y=i.memoizedState,v.parent!==c?(v={parent:c,cache:c},i.memoizedState=v,i.lanes===0&&(i.memoizedState=i.updateQueue.baseState=v),Ea(i,mt,c)):(c=y.cache,Ea(i,mt,c),c!==v.cache&&Th(i,[mt],u,!0))),Gt(a,i,i.pendingProps.children,u),i.child;case 29:throw i.pendingProps}throw Error(r(156,i.tag))}function Lr(a){a.flags|=4}function ym(a,i,u,c,v){if((i=(a.mode&32)!==0)&&(i=!1),i){if(a.flags|=16777216,(v&335544128)===v)if(a.stateNode.complete)a.flags|=8192;else if(G1())a.flags|=8192;else throw hi=Rs,Ph}else a.flags&=-16777217}function x1(a,i){if(i.type!=="stylesheet"||(i.state.loading&4)!==0)a.flags&=-16777217;else if(a.flags|=16777216,!Rw(i))if(G1())a.flags|=8192;else throw hi=Rs,Ph}function Qs(a,i){i!==null&&(a.flags|=4),a.flags&16384&&(i=a.tag!==22?J0():536870912,a.lanes|=i,bl|=i)}function $o(a,i){if(!De)switch(a.tailMode){case"hidden":i=a.tail;for(var u=null;i!==null;)i.alternate!==null&&(u=i),i=i.sibling;u===null?a.tail=null:u.sibling=null;break;case"collapsed":u=a.tail;for(var c=null;u!==null;)u.alternate!==null&&(c=u),u=u.sibling;c===null?i||a.tail===null?a.tail=null:a.tail.sibling=null:c.sibling=null}}function Qe(a){var i=a.alternate!==null&&a.alternate.child===a.child,u=0,c=0;if(i)for(var v=a.child;v!==null;)u|=v.lanes|v.childLanes,c|=v.subtreeFlags&65011712,c|=v.flags&65011712,v.return=a,v=v.sibling;else for(v=a.child;v!==null;)u|=v.lanes|v.childLanes,c|=v.subtreeFlags,c|=v.flags,v.return=a,v=v.sibling;return a.subtreeFlags|=c,a.childLanes=u,i}function Ok(a,i,u){var c=i.pendingProps;switch(Ah(i),i.tag){case 16:case 15:case 0:case 11:case 7:case 8:case 12:case 9:case 14:return Qe(i),null;case 1:return Qe(i),null;case 3:return u=i.stateNode,c=null,a!==null&&(c=a.memoizedState.cache),i.memoizedState.cache!==c&&(i.flags|=2048),kr(mt),V(),u.pendingContext&&(u.context=u.pendingContext,u.pendingContext=null),(a===null||a.child===null)&&(ll(i)?Lr(i):a===null||a.memoizedState.isDehydrated&&(i.flags&256)===0||(i.flags|=1024,Nh())),Qe(i),null;case 26:var v=i.type,y=i.memoizedState;return a===null?(Lr(i),y!==null?(Qe(i),x1(i,y)):(Qe(i),ym(i,v,null,c,u))):y?y!==a.memoizedState?(Lr(i),Qe(i),x1(i,y)):(Qe(i),i.flags&=-16777217):(a=a.memoizedProps,a!==c&&Lr(i),Qe(i),ym(i,v,a,c,u)),null;case 27:if(Ae(i),u=we.current,v=i.type,a!==null&&i.stateNode!=null)a.memoizedProps!==c&&Lr(i);else{if(!c){if(i.stateNode===null)throw Error(r(166));return Qe(i),null}a=ne.current,ll(i)?Jb(i):(a=Nw(v,c,u),i.stateNode=a,Lr(i))}return Qe(i),null;case 5:if(Ae(i),v=i.type,a!==null&&i.stateNode!=null)a.memoizedProps!==c&&Lr(i);else{if(!c){if(i.stateNode===null)throw Error(r(166));return Qe(i),null}if(y=ne.current,ll(i))Jb(i);else{var E=hc(we.current);switch(y){case 1:y=E.createElementNS("http://www.w3.org/2000/svg",v);break;case 2:y=E.createElementNS("http://www.w3.org/1998/Math/MathML",v);break;default:switch(v){case"svg":y=E.createElementNS("http://www.w3.org/2000/svg",v);break;case"math":y=E.createElementNS("http://www.w3.org/1998/Math/MathML",v);break;case"script":y=E.createElement("div"),y.innerHTML="<script><\/script>",y=y.removeChild(y.firstChild);break;case"select":y=typeof c.is=="string"?E.createElement("select",{is:c.is}):E.createElement("select"),c.multiple?y.multiple=!0:c.size&&(y.size=c.size);break;default:y=typeof c.is=="string"?E.createElement(v,{is:c.is}):E.createElement(v)}}y[$t]=i,y[sn]=c;e:for(E=i.child;E!==null;){if(E.tag===5||E.tag===6)y.appendChild(E.stateNode);else if(E.tag!==4&&E.tag!==27&&E.child!==null){E.child.return=E,E=E.child;continue}if(E===i)break e;for(;E.sibling===null;){if(E.return===null||E.return===i)break e;E=E.return}E.sibling.return=E.return,E=E.sibling}i.stateNode=y;e:switch(Vt(y,v,c),v){case"button":case"input":case"select":case"textarea":c=!!c.autoFocus;break e;case"img":c=!0;break e;default:c=!1}c&&Lr(i)}}return Qe(i),ym(i,i.type,a===null?null:a.memoizedProps,i.pendingProps,u),null;case 6:if(a&&i.stateNode!=null)a.memoizedProps!==c&&Lr(i);else{if(typeof c!="string"&&i.stateNode===null)throw Error(r(166));if(a=we.current,ll(i)){if(a=i.stateNode,u=i.memoizedProps,c=null,v=Yt,v!==null)switch(v.tag){case 27:case 5:c=v.memoizedProps}a[$t]=i,a=!!(a.nodeValue===u||c!==null&&c.suppressHydrationWarning===!0||pw(a.nodeValue,u)),a||Sa(i,!0)}else a=hc(a).createTextNode(c),a[$t]=i,i.stateNode=a}return Qe(i),null;case 31:if(u=i.memoizedState,a===null||a.memoizedState!==null){if(c=ll(i),u!==null){if(a===null){if(!c)throw Error(r(318));if(a=i.memoizedState,a=a!==null?a.dehydrated:null,!a)throw Error(r(557));a[$t]=i}else ui(),(i.flags&128)===0&&(i.memoizedState=null),i.flags|=4;Qe(i),a=!1}else u=Nh(),a!==null&&a.memoizedState!==null&&(a.memoizedState.hydrationErrors=u),a=!0;if(!a)return i.flags&256?(jn(i),i):(jn(i),null);if((i.flags&128)!==0)throw Error(r(558))}return Qe(i),null;case 13:if(c=i.memoizedState,a===null||a.memoizedState!==null&&a.memoizedState.dehydrated!==null){if(v=ll(i),c!==null&&c.dehydrated!==null){if(a===null){if(!v)throw Error(r(318));if(v=i.memoizedState,v=v!==null?v.dehydrated:null,!v)throw Error(r(317));v[$t]=i}else ui(),(i.flags&128)===0&&(i.memoizedState=null),i.flags|=4;Qe(i),v=!1}else v=Nh(),a!==null&&a.memoizedState!==null&&(a.memoizedState.hydrationErrors=v),v=!0;if(!v)return i.flags&256?(jn(i),i):(jn(i),null)}return jn(i),(i.flags&128)!==0?(i.lanes=u,i):(u=c!==null,a=a!==null&&a.memoizedState!==null,u&&(c=i.child,v=null,c.alternate!==null&&c.alternate.memoizedState!==null&&c.alternate.memoizedState.cachePool!==null&&(v=c.alternate.memoizedState.cachePool.pool),y=null,c.memoizedState!==null&&c.memoizedState.cachePool!==null&&(y=c.memoizedState.cachePool.pool),y!==v&&(c.flags|=2048)),u!==a&&u&&(i.child.flags|=8192),Qs(i,i.updateQueue),Qe(i),null);case 4:return V(),a===null&&Um(i.stateNode.containerInfo),Qe(i),null;case 10:return kr(i.type),Qe(i),null;case 19:if(K(ct),c=i.memoizedState,c===null)return Qe(i),null;if(v=(i.flags&128)!==0,y=c.rendering,y===null)if(v)$o(c,!1);else{if(ot!==0||a!==null&&(a.flags&128)!==0)for(a=i.child;a!==null;){if(y=Us(a),y!==null){for(i.flags|=128,$o(c,!1),a=y.updateQueue,i.updateQueue=a,Qs(i,a),i.subtreeFlags=0,a=u,u=i.child;u!==null;)Xb(u,a),u=u.sibling;return ee(ct,ct.current&1|2),De&&Mr(i,c.treeForkCount),i.child}a=a.sibling}c.tail!==null&&xn()>rc&&(i.flags|=128,v=!0,$o(c,!1),i.lanes=4194304)}else{if(!v)if(a=Us(y),a!==null){if(i.flags|=128,v=!0,a=a.updateQueue,i.updateQueue=a,Qs(i,a),$o(c,!0),c.tail===null&&c.tailMode==="hidden"&&!y.alternate&&!De)return Qe(i),null}else 2*xn()-c.renderingStartTime>rc&&u!==536870912&&(i.flags|=128,v=!0,$o(c,!1),i.lanes=4194304);c.isBackwards?(y.sibling=i.child,i.child=y):(a=c.last,a!==null?a.sibling=y:i.child=y,c.last=y)}return c.tail!==null?(a=c.tail,c.rendering=a,c.tail=a.sibling,c.renderingStartTime=xn(),a.sibling=null,u=ct.current,ee(ct,v?u&1|2:u&1),De&&Mr(i,c.treeForkCount),a):(Qe(i),null);case 22:case 23:return jn(i),Ih(),c=i.memoizedState!==null,a!==null?a.memoizedState!==null!==c&&(i.flags|=8192):c&&(i.flags|=8192),c?(u&536870912)!==0&&(i.flags&128)===0&&(Qe(i),i.subtreeFlags&6&&(i.flags|=8192)):Qe(i),u=i.updateQueue,u!==null&&Qs(i,u.retryQueue),u=null,a!==null&&a.memoizedState!==null&&a.memoizedState.cachePool!==null&&(u=a.memoizedState.cachePool.pool),c=null,i.memoizedState!==null&&i.memoizedState.cachePool!==null&&(c=i.memoizedState.cachePool.pool),c!==u&&(i.flags|=2048),a!==null&&K(fi),null;case 24:return u=null,a!==null&&(u=a.memoizedState.cache),i.memoizedState.cache!==u&&(i.flags|=2048),kr(mt),Qe(i),null;case 25:return null;case 30:return null}throw Error(r(156,i.tag))}function Ak(a,i){switch(Ah(i),i.tag){case 1:return a=i.flags,a&65536?(i.flags=a&-65537|128,i):null;case 3:return kr(mt),V(),a=i.flags,(a&65536)!==0&&(a&128)===0?(i.flags=a&-65537|128,i):null;case 26:case 27:case 5:return Ae(i),null;case 31:if(i.memoizedState!==null){if(jn(i),i.alternate===null)throw Error(r(340));ui()}return a=i.flags,a&65536?(i.flags=a&-65537|128,i):null;case 13:if(jn(i),a=i.memoizedState,a!==null&&a.dehydrated!==null){if(i.alternate===null)throw Error(r(340));ui()}return a=i.flags,a&65536?(i.flags=a&-65537|128,i):null;case 19:return K(ct),null;case 4:return V(),null;case 10:return kr(i.type),null;case 22:case 23:return jn(i),Ih(),a!==null&&K(fi),a=i.flags,a&65536?(i.flags=a&-65537|128,i):null;case 24:return kr(mt),null;case 25:return null;default:return null}}function w1(a,i){switch(Ah(i),i.tag){case 3:kr(mt),V();break;case 26:case 27:case 5:Ae(i);break;case 4:V();break;case 31:i.memoizedState!==null&&jn(i);break;case 13:jn(i);break;case 19:K(ct);break;case 10:kr(i.type);break;case 22:case 23:jn(i),Ih(),a!==null&&K(fi);break;case 24:kr(mt)}}function Yo(a,i){try{var u=i.updateQueue,c=u!==null?u.lastEffect:null;if(c!==null){var v=c.next;u=v;do{if((u.tag&a)===a){c=void 0;var y=u.create,E=u.inst;c=y(),E.destroy=c}u=u.next}while(u!==v)}}catch(N){Ie(i,i.return,N)}}function _a(a,i,u){try{var c=i.updateQueue,v=c!==null?c.lastEffect:null;if(v!==null){var y=v.next;c=y;do{if((c.tag&a)===a){var E=c.inst,N=E.destroy;if(N!==void 0){E.destroy=void 0,v=i;var M=u,U=N;try{U()}catch(G){Ie(v,M,G)}}}c=c.next}while(c!==y)}}catch(G){Ie(i,i.return,G)}}function S1(a){var i=a.updateQueue;if(i!==null){var u=a.stateNode;try{dx(i,u)}catch(c){Ie(a,a.return,c)}}}function E1(a,i,u){u.props=pi(a.type,a.memoizedProps),u.state=a.memoizedState;try{u.componentWillUnmount()}catch(c){Ie(a,i,c)}}function Ko(a,i){try{var u=a.ref;if(u!==null){switch(a.tag){case 26:case 27:case 5:var c=a.stateNode;break;case 30:c=a.stateNode;break;default:c=a.stateNode}typeof u=="function"?a.refCleanup=u(c):u.current=c}}catch(v){Ie(a,i,v)}}function vr(a,i){var u=a.ref,c=a.refCleanup;if(u!==null)if(typeof c=="function")try{c()}catch(v){Ie(a,i,v)}finally{a.refCleanup=null,a=a.alternate,a!=null&&(a.refCleanup=null)}else if(typeof u=="function")try{u(null)}catch(v){Ie(a,i,v)}else u.current=null}function O1(a){var i=a.type,u=a.memoizedProps,c=a.stateNode;try{e:switch(i){case"button":case"input":case"select":case"textarea":u.autoFocus&&c.focus();break e;case"img":u.src?c.src=u.src:u.srcSet&&(c.srcset=u.srcSet)}}catch(v){Ie(a,a.return,v)}}function gm(a,i,u){try{var c=a.stateNode;Vk(c,a.type,u,i),c[sn]=i}catch(v){Ie(a,a.return,v)}}function A1(a){return a.tag===5||a.tag===3||a.tag===26||a.tag===27&&za(a.type)||a.tag===4}function bm(a){e:for(;;){for(;a.sibling===null;){if(a.return===null||A1(a.return))return null;a=a.return}for(a.sibling.return=a.return,a=a.sibling;a.tag!==5&&a.tag!==6&&a.tag!==18;){if(a.tag===27&&za(a.type)||a.flags&2||a.child===null||a.tag===4)continue e;a.child.return=a,a=a.child}if(!(a.flags&2))return a.stateNode}}function xm(a,i,u){var c=a.tag;if(c===5||c===6)a=a.stateNode,i?(u.nodeType===9?u.body:u.nodeName==="HTML"?u.ownerDocument.body:u).insertBefore(a,i):(i=u.nodeType===9?u.body:u.nodeName==="HTML"?u.ownerDocument.body:u,i.appendChild(a),u=u._reactRootContainer,u!=null||i.onclick!==null||(i.onclick=Cr));else if(c!==4&&(c===27&&za(a.type)&&(u=a.stateNode,i=null),a=a.child,a!==null))for(xm(a,i,u),a=a.sibling;a!==null;)xm(a,i,u),a=a.sibling}function Js(a,i,u){var c=a.tag;if(c===5||c===6)a=a.stateNode,i?u.insertBefore(a,i):u.appendChild(a);else if(c!==4&&(c===27&&za(a.type)&&(u=a.stateNode),a=a.child,a!==null))for(Js(a,i,u),a=a.sibling;a!==null;)Js(a,i,u),a=a.sibling}function j1(a){var i=a.stateNode,u=a.memoizedProps;try{for(var c=a.type,v=i.attributes;v.length;)i.removeAttributeNode(v[0]);Vt(i,c,u),i[$t]=a,i[sn]=u}catch(y){Ie(a,a.return,y)}}var Br=!1,yt=!1,wm=!1,N1=typeof WeakSet=="function"?WeakSet:Set,Pt=null;function jk(a,i){if(a=a.containerInfo,Hm=xc,a=Ub(a),mh(a)){if("selectionStart"in a)var u={start:a.selectionStart,end:a.selectionEnd};else e:{u=(u=a.ownerDocument)&&u.defaultView||window;var c=u.getSelection&&u.getSelection();if(c&&c.rangeCount!==0){u=c.anchorNode;var v=c.anchorOffset,y=c.focusNode;c=c.focusOffset;try{u.nodeType,y.nodeType}catch{u=null;break e}var E=0,N=-1,M=-1,U=0,G=0,Z=a,H=null;t:for(;;){for(var $;Z!==u||v!==0&&Z.nodeType!==3||(N=E+v),Z!==y||c!==0&&Z.nodeType!==3||(M=E+c),Z.nodeType===3&&(E+=Z.nodeValue.length),($=Z.firstChild)!==null;)H=Z,Z=$;for(;;){if(Z===a)break t;if(H===u&&++U===v&&(N=E),H===y&&++G===c&&(M=E),($=Z.nextSibling)!==null)break;Z=H,H=Z.parentNode}Z=$}u=N===-1||M===-1?null:{start:N,end:M}}else u=null}u=u||{start:0,end:0}}else u=null;for($m={focusedElem:a,selectionRange:u},xc=!1,Pt=i;Pt!==null;)if(i=Pt,a=i.child,(i.subtreeFlags&1028)!==0&&a!==null)a.return=i,Pt=a;else for(;Pt!==null;){switch(i=Pt,y=i.alternate,a=i.flags,i.tag){case 0:if((a&4)!==0&&(a=i.updateQueue,a=a!==null?a.events:null,a!==null))for(u=0;u<a.length;u++)v=a[u],v.ref.impl=v.nextImpl;break;case 11:case 15:break;case 1:if((a&1024)!==0&&y!==null){a=void 0,u=i,v=y.memoizedProps,y=y.memoizedState,c=u.stateNode;try{var oe=pi(u.type,v);a=c.getSnapshotBeforeUpdate(oe,y),c.__reactInternalSnapshotBeforeUpdate=a}catch(ye){Ie(u,u.return,ye)}}break;case 3:if((a&1024)!==0){if(a=i.stateNode.containerInfo,u=a.nodeType,u===9)Gm(a);else if(u===1)switch(a.nodeName){case"HEAD":case"HTML":case"BODY":Gm(a);break;default:a.textContent=""}}break;case 5:case 26:case 27:case 6:case 4:case 17:break;default:if((a&1024)!==0)throw Error(r(163))}if(a=i.sibling,a!==null){a.return=i.return,Pt=a;break}Pt=i.return}}function C1(a,i,u){var c=u.flags;switch(u.tag){case 0:case 11:case 15:Ir(a,u),c&4&&Yo(5,u);break;case 1:if(Ir(a,u),c&4)if(a=u.stateNode,i===null)try{a.componentDidMount()}catch(E){Ie(u,u.return,E)}else{var v=pi(u.type,i.memoizedProps);i=i.memoizedState;try{a.componentDidUpdate(v,i,a.__reactInternalSnapshotBeforeUpdate)}catch(E){Ie(u,u.return,E)}}c&64&&S1(u),c&512&&Ko(u,u.return);break;case 3:if(Ir(a,u),c&64&&(a=u.updateQueue,a!==null)){if(i=null,u.child!==null)switch(u.child.tag){case 27:case 5:i=u.child.stateNode;break;case 1:i=u.child.stateNode}try{dx(a,i)}catch(E){Ie(u,u.return,E)}}break;case 27:i===null&&c&4&&j1(u);case 26:case 5:Ir(a,u),i===null&&c&4&&O1(u),c&512&&Ko(u,u.return);break;case 12:Ir(a,u);break;case 31:Ir(a,u),c&4&&M1(a,u);break;case 13:Ir(a,u),c&4&&D1(a,u),c&64&&(a=u.memoizedState,a!==null&&(a=a.dehydrated,a!==null&&(u=Rk.bind(null,u),tP(a,u))));break;case 22:if(c=u.memoizedState!==null||Br,!c){i=i!==null&&i.memoizedState!==null||yt,v=Br;var y=yt;Br=c,(yt=i)&&!y?qr(a,u,(u.subtreeFlags&8772)!==0):Ir(a,u),Br=v,yt=y}break;case 30:break;default:Ir(a,u)}}function _1(a){var i=a.alternate;i!==null&&(a.alternate=null,_1(i)),a.child=null,a.deletions=null,a.sibling=null,a.tag===5&&(i=a.stateNode,i!==null&&Zd(i)),a.stateNode=null,a.return=null,a.dependencies=null,a.memoizedProps=null,a.memoizedState=null,a.pendingProps=null,a.stateNode=null,a.updateQueue=null}var et=null,fn=!1;function Ur(a,i,u){for(u=u.child;u!==null;)T1(a,i,u),u=u.sibling}function T1(a,i,u){if(wn&&typeof wn.onCommitFiberUnmount=="function")try{wn.onCommitFiberUnmount(vo,u)}catch{}switch(u.tag){case 26:yt||vr(u,i),Ur(a,i,u),u.memoizedState?u.memoizedState.count--:u.stateNode&&(u=u.stateNode,u.parentNode.removeChild(u));break;case 27:yt||vr(u,i);var c=et,v=fn;za(u.type)&&(et=u.stateNode,fn=!1),Ur(a,i,u),eu(u.stateNode),et=c,fn=v;break;case 5:yt||vr(u,i);case 6:if(c=et,v=fn,et=null,Ur(a,i,u),et=c,fn=v,et!==null)if(fn)try{(et.nodeType===9?et.body:et.nodeName==="HTML"?et.ownerDocument.body:et).removeChild(u.stateNode)}catch(y){Ie(u,i,y)}else try{et.removeChild(u.stateNode)}catch(y){Ie(u,i,y)}break;case 18:et!==null&&(fn?(a=et,Sw(a.nodeType===9?a.body:a.nodeName==="HTML"?a.ownerDocument.body:a,u.stateNode),Nl(a)):Sw(et,u.stateNode));break;case 4:c=et,v=fn,et=u.stateNode.containerInfo,fn=!0,Ur(a,i,u),et=c,fn=v;break;case 0:case 11:case 14:case 15:_a(2,u,i),yt||_a(4,u,i),Ur(a,i,u);break;case 1:yt||(vr(u,i),c=u.stateNode,typeof c.componentWillUnmount=="function"&&E1(u,i,c)),Ur(a,i,u);break;case 21:Ur(a,i,u);break;case 22:yt=(c=yt)||u.memoizedState!==null,Ur(a,i,u),yt=c;break;default:Ur(a,i,u)}}function M1(a,i){if(i.memoizedState===null&&(a=i.alternate,a!==null&&(a=a.memoizedState,a!==null))){a=a.dehydrated;try{Nl(a)}catch(u){Ie(i,i.return,u)}}}function D1(a,i){if(i.memoizedState===null&&(a=i.alternate,a!==null&&(a=a.memoizedState,a!==null&&(a=a.dehydrated,a!==null))))try{Nl(a)}catch(u){Ie(i,i.return,u)}}function Nk(a){switch(a.tag){case 31:case 13:case 19:var i=a.stateNode;return i===null&&(i=a.stateNode=new N1),i;case 22:return a=a.stateNode,i=a._retryCache,i===null&&(i=a._retryCache=new N1),i;default:throw Error(r(435,a.tag))}}function ec(a,i){var u=Nk(a);i.forEach(function(c){if(!u.has(c)){u.add(c);var v=zk.bind(null,a,c);c.then(v,v)}})}function dn(a,i){var u=i.deletions;if(u!==null)for(var c=0;c<u.length;c++){var v=u[c],y=a,E=i,N=E;e:for(;N!==null;){switch(N.tag){case 27:if(za(N.type)){et=N.stateNode,fn=!1;break e}break;case 5:et=N.stateNode,fn=!1;break e;case 3:case 4:et=N.stateNode.containerInfo,fn=!0;break e}N=N.return}if(et===null)throw Error(r(160));T1(y,E,v),et=null,fn=!1,y=v.alternate,y!==null&&(y.return=null),v.return=null}if(i.subtreeFlags&13886)for(i=i.child;i!==null;)k1(i,a),i=i.sibling}var rr=null;function k1(a,i){var u=a.alternate,c=a.flags;switch(a.tag){case 0:case 11:case 14:case 15:dn(i,a),hn(a),c&4&&(_a(3,a,a.return),Yo(3,a),_a(5,a,a.return));break;case 1:dn(i,a),hn(a),c&512&&(yt||u===null||vr(u,u.return)),c&64&&Br&&(a=a.updateQueue,a!==null&&(c=a.callbacks,c!==null&&(u=a.shared.hiddenCallbacks,a.shared.hiddenCallbacks=u===null?c:u.concat(c))));break;case 26:var v=rr;if(dn(i,a),hn(a),c&512&&(yt||u===null||vr(u,u.return)),c&4){var y=u!==null?u.memoizedState:null;if(c=a.memoizedState,u===null)if(c===null)if(a.stateNode===null){e:{c=a.type,u=a.memoizedProps,v=v.ownerDocument||v;t:switch(c){case"title":y=v.getElementsByTagName("title")[0],(!y||y[go]||y[$t]||y.namespaceURI==="http://www.w3.org/2000/svg"||y.hasAttribute("itemprop"))&&(y=v.createElement(c),v.head.insertBefore(y,v.querySelector("head > title"))),Vt(y,c,u),y[$t]=a,kt(y),c=y;break e;case"link":var E=kw("link","href",v).get(c+(u.href||""));if(E){for(var N=0;N<E.length;N++)if(y=E[N],y.getAttribute("href")===(u.href==null||u.href===""?null:u.href)&&y.getAttribute("rel")===(u.rel==null?null:u.rel)&&y.getAttribute("title")===(u.title==null?null:u.title)&&y.getAttribute("crossorigin")===(u.crossOrigin==null?null:u.crossOrigin)){E.splice(N,1);break t}}y=v.createElement(c),Vt(y,c,u),v.head.appendChild(y);break;case"meta":if(E=kw("meta","content",v).get(c+(u.content||""))){for(N=0;N<E.length;N++)if(y=E[N],y.getAttribute("content")===(u.content==null?null:""+u.content)&&y.getAttribute("name")===(u.name==null?null:u.name)&&y.getAttribute("property")===(u.property==null?null:u.property)&&y.getAttribute("http-equiv")===(u.httpEquiv==null?null:u.httpEquiv)&&y.getAttribute("charset")===(u.charSet==null?null:u.charSet)){E.splice(N,1);break t}}y=v.createElement(c),Vt(y,c,u),v.head.appendChild(y);break;default:throw Error(r(468,c))}y[$t]=a,kt(y),c=y}a.stateNode=c}else Pw(v,a.type,a.stateNode);else a.stateNode=Dw(v,c,a.memoizedProps);else y!==c?(y===null?u.stateNode!==null&&(u=u.stateNode,u.parentNode.removeChild(u)):y.count--,c===null?Pw(v,a.type,a.stateNode):Dw(v,c,a.memoizedProps)):c===null&&a.stateNode!==null&&gm(a,a.memoizedProps,u.memoizedProps)}break;case 27:dn(i,a),hn(a),c&512&&(yt||u===null||vr(u,u.return)),u!==null&&c&4&&gm(a,a.memoizedProps,u.memoizedProps);break;case 5:if(dn(i,a),hn(a),c&512&&(yt||u===null||vr(u,u.return)),a.flags&32){v=a.stateNode;try{Wi(v,"")}catch(oe){Ie(a,a.return,oe)}}c&4&&a.stateNode!=null&&(v=a.memoizedProps,gm(a,v,u!==null?u.memoizedProps:v)),c&1024&&(wm=!0);break;case 6:if(dn(i,a),hn(a),c&4){if(a.stateNode===null)throw Error(r(162));c=a.memoizedProps,u=a.stateNode;try{u.nodeValue=c}catch(oe){Ie(a,a.return,oe)}}break;case 3:if(pc=null,v=rr,rr=mc(i.containerInfo),dn(i,a),rr=v,hn(a),c&4&&u!==null&&u.memoizedState.isDehydrated)try{Nl(i.containerInfo)}catch(oe){Ie(a,a.return,oe)}wm&&(wm=!1,P1(a));break;case 4:c=rr,rr=mc(a.stateNode.containerInfo),dn(i,a),hn(a),rr=c;break;case 12:dn(i,a),hn(a);break;case 31:dn(i,a),hn(a),c&4&&(c=a.updateQueue,c!==null&&(a.updateQueue=null,ec(a,c)));break;case 13:dn(i,a),hn(a),a.child.flags&8192&&a.memoizedState!==null!=(u!==null&&u.memoizedState!==null)&&(nc=xn()),c&4&&(c=a.updateQueue,c!==null&&(a.updateQueue=null,ec(a,c)));break;case 22:v=a.memoizedState!==null;var M=u!==null&&u.memoizedState!==null,U=Br,G=yt;if(Br=U||v,yt=G||M,dn(i,a),yt=G,Br=U,hn(a),c&8192)e:for(i=a.stateNode,i._visibility=v?i._visibility&-2:i._visibility|1,v&&(u===null||M||Br||yt||yi(a)),u=null,i=a;;){if(i.tag===5||i.tag===26){if(u===null){M=u=i;try{if(y=M.stateNode,v)E=y.style,typeof E.setProperty=="function"?E.setProperty("display","none","important"):E.display="none";else{N=M.stateNode;var Z=M.memoizedProps.style,H=Z!=null&&Z.hasOwnProperty("display")?Z.display:null;N.style.display=H==null||typeof H=="boolean"?"":(""+H).trim()}}catch(oe){Ie(M,M.return,oe)}}}else if(i.tag===6){if(u===null){M=i;try{M.stateNode.nodeValue=v?"":M.memoizedProps}catch(oe){Ie(M,M.return,oe)}}}else if(i.tag===18){if(u===null){M=i;try{var $=M.stateNode;v?Ew($,!0):Ew(M.stateNode,!1)}catch(oe){Ie(M,M.return,oe)}}}else if((i.tag!==22&&i.tag!==23||i.memoizedState===null||i===a)&&i.child!==null){i.child.return=i,i=i.child;continue}if(i===a)break e;for(;i.sibling===null;){if(i.return===null||i.return===a)break e;u===i&&(u=null),i=i.return}u===i&&(u=null),i.sibling.return=i.return,i=i.sibling}c&4&&(c=a.updateQueue,c!==null&&(u=c.retryQueue,u!==null&&(c.retryQueue=null,ec(a,u))));break;case 19:dn(i,a),hn(a),c&4&&(c=a.updateQueue,c!==null&&(a.updateQueue=null,ec(a,c)));break;case 30:break;case 21:break;default:dn(i,a),hn(a)}}function hn(a){var i=a.flags;if(i&2){try{for(var u,c=a.return;c!==null;){if(A1(c)){u=c;break}c=c.return}if(u==null)throw Error(r(160));switch(u.tag){case 27:var v=u.stateNode,y=bm(a);Js(a,y,v);break;case 5:var E=u.stateNode;u.flags&32&&(Wi(E,""),u.flags&=-33);var N=bm(a);Js(a,N,E);break;case 3:case 4:var M=u.stateNode.containerInfo,U=bm(a);xm(a,U,M);break;default:throw Error(r(161))}}catch(G){Ie(a,a.return,G)}a.flags&=-3}i&4096&&(a.flags&=-4097)}function P1(a){if(a.subtreeFlags&1024)for(a=a.child;a!==null;){var i=a;P1(i),i.tag===5&&i.flags&1024&&i.stateNode.reset(),a=a.sibling}}function Ir(a,i){if(i.subtreeFlags&8772)for(i=i.child;i!==null;)C1(a,i.alternate,i),i=i.sibling}function yi(a){for(a=a.child;a!==null;){var i=a;switch(i.tag){case 0:case 11:case 14:case 15:_a(4,i,i.return),yi(i);break;case 1:vr(i,i.return);var u=i.stateNode;typeof u.componentWillUnmount=="function"&&E1(i,i.return,u),yi(i);break;case 27:eu(i.stateNode);case 26:case 5:vr(i,i.return),yi(i);break;case 22:i.memoizedState===null&&yi(i);break;case 30:yi(i);break;default:yi(i)}a=a.sibling}}function qr(a,i,u){for(u=u&&(i.subtreeFlags&8772)!==0,i=i.child;i!==null;){var c=i.alternate,v=a,y=i,E=y.flags;switch(y.tag){case 0:case 11:case 15:qr(v,y,u),Yo(4,y);break;case 1:if(qr(v,y,u),c=y,v=c.stateNode,typeof v.componentDidMount=="function")try{v.componentDidMount()}catch(U){Ie(c,c.return,U)}if(c=y,v=c.updateQueue,v!==null){var N=c.stateNode;try{var M=v.shared.hiddenCallbacks;if(M!==null)for(v.shared.hiddenCallbacks=null,v=0;v<M.length;v++)fx(M[v],N)}catch(U){Ie(c,c.return,U)}}u&&E&64&&S1(y),Ko(y,y.return);break;case 27:j1(y);case 26:case 5:qr(v,y,u),u&&c===null&&E&4&&O1(y),Ko(y,y.return);break;case 12:qr(v,y,u);break;case 31:qr(v,y,u),u&&E&4&&M1(v,y);break;case 13:qr(v,y,u),u&&E&4&&D1(v,y);break;case 22:y.memoizedState===null&&qr(v,y,u),Ko(y,y.return);break;case 30:break;default:qr(v,y,u)}i=i.sibling}}function Sm(a,i){var u=null;a!==null&&a.memoizedState!==null&&a.memoizedState.cachePool!==null&&(u=a.memoizedState.cachePool.pool),a=null,i.memoizedState!==null&&i.memoizedState.cachePool!==null&&(a=i.memoizedState.cachePool.pool),a!==u&&(a!=null&&a.refCount++,u!=null&&Mo(u))}function Em(a,i){a=null,i.alternate!==null&&(a=i.alternate.memoizedState.cache),i=i.memoizedState.cache,i!==a&&(i.refCount++,a!=null&&Mo(a))}function ar(a,i,u,c){if(i.subtreeFlags&10256)for(i=i.child;i!==null;)R1(a,i,u,c),i=i.sibling}function R1(a,i,u,c){var v=i.flags;switch(i.tag){case 0:case 11:case 15:ar(a,i,u,c),v&2048&&Yo(9,i);break;case 1:ar(a,i,u,c);break;case 3:ar(a,i,u,c),v&2048&&(a=null,i.alternate!==null&&(a=i.alternate.memoizedState.cache),i=i.memoizedState.cache,i!==a&&(i.refCount++,a!=null&&Mo(a)));break;case 12:if(v&2048){ar(a,i,u,c),a=i.stateNode;try{var y=i.memoizedProps,E=y.id,N=y.onPostCommit;typeof N=="function"&&N(E,i.alternate===null?"mount":"update",a.passiveEffectDuration,-0)}catch(M){Ie(i,i.return,M)}}else ar(a,i,u,c);break;case 31:ar(a,i,u,c);break;case 13:ar(a,i,u,c);break;case 23:break;case 22:y=i.stateNode,E=i.alternate,i.memoizedState!==null?y._visibility&2?ar(a,i,u,c):Go(a,i):y._visibility&2?ar(a,i,u,c):(y._visibility|=2,pl(a,i,u,c,(i.subtreeFlags&10256)!==0||!1)),v&2048&&Sm(E,i);break;case 24:ar(a,i,u,c),v&2048&&Em(i.alternate,i);break;default:ar(a,i,u,c)}}function pl(a,i,u,c,v){for(v=v&&((i.subtreeFlags&10256)!==0||!1),i=i.child;i!==null;){var y=a,E=i,N=u,M=c,U=E.flags;switch(E.tag){case 0:case 11:case 15:pl(y,E,N,M,v),Yo(8,E);break;case 23:break;case 22:var G=E.stateNode;E.memoizedState!==null?G._visibility&2?pl(y,E,N,M,v):Go(y,E):(G._visibility|=2,pl(y,E,N,M,v)),v&&U&2048&&Sm(E.alternate,E);break;case 24:pl(y,E,N,M,v),v&&U&2048&&Em(E.alternate,E);break;default:pl(y,E,N,M,v)}i=i.sibling}}function Go(a,i){if(i.subtreeFlags&10256)for(i=i.child;i!==null;){var u=a,c=i,v=c.flags;switch(c.tag){case 22:Go(u,c),v&2048&&Sm(c.alternate,c);break;case 24:Go(u,c),v&2048&&Em(c.alternate,c);break;default:Go(u,c)}i=i.sibling}}var Vo=8192;function yl(a,i,u){if(a.subtreeFlags&Vo)for(a=a.child;a!==null;)z1(a,i,u),a=a.sibling}function z1(a,i,u){switch(a.tag){case 26:yl(a,i,u),a.flags&Vo&&a.memoizedState!==null&&hP(u,rr,a.memoizedState,a.memoizedProps);break;case 5:yl(a,i,u);break;case 3:case 4:var c=rr;rr=mc(a.stateNode.containerInfo),yl(a,i,u),rr=c;break;case 22:a.memoizedState===null&&(c=a.alternate,c!==null&&c.memoizedState!==null?(c=Vo,Vo=16777216,yl(a,i,u),Vo=c):yl(a,i,u));break;default:yl(a,i,u)}}function L1(a){var i=a.alternate;if(i!==null&&(a=i.child,a!==null)){i.child=null;do i=a.sibling,a.sibling=null,a=i;while(a!==null)}}function Xo(a){var i=a.deletions;if((a.flags&16)!==0){if(i!==null)for(var u=0;u<i.length;u++){var c=i[u];Pt=c,U1(c,a)}L1(a)}if(a.subtreeFlags&10256)for(a=a.child;a!==null;)B1(a),a=a.sibling}function B1(a){switch(a.tag){case 0:case 11:case 15:Xo(a),a.flags&2048&&_a(9,a,a.return);break;case 3:Xo(a);break;case 12:Xo(a);break;case 22:var i=a.stateNode;a.memoizedState!==null&&i._visibility&2&&(a.return===null||a.return.tag!==13)?(i._visibility&=-3,tc(a)):Xo(a);break;default:Xo(a)}}function tc(a){var i=a.deletions;if((a.flags&16)!==0){if(i!==null)for(var u=0;u<i.length;u++){var c=i[u];Pt=c,U1(c,a)}L1(a)}for(a=a.child;a!==null;){switch(i=a,i.tag){case 0:case 11:case 15:_a(8,i,i.return),tc(i);break;case 22:u=i.stateNode,u._visibility&2&&(u._visibility&=-3,tc(i));break;default:tc(i)}a=a.sibling}}function U1(a,i){for(;Pt!==null;){var u=Pt;switch(u.tag){case 0:case 11:case 15:_a(8,u,i);break;case 23:case 22:if(u.memoizedState!==null&&u.memoizedState.cachePool!==null){var c=u.memoizedState.cachePool.pool;c!=null&&c.refCount++}break;case 24:Mo(u.memoizedState.cache)}if(c=u.child,c!==null)c.return=u,Pt=c;else e:for(u=a;Pt!==null;){c=Pt;var v=c.sibling,y=c.return;if(_1(c),c===u){Pt=null;break e}if(v!==null){v.return=y,Pt=v;break e}Pt=y}}}var Ck={getCacheForType:function(a){var i=Kt(mt),u=i.data.get(a);return u===void 0&&(u=a(),i.data.set(a,u)),u},cacheSignal:function(){return Kt(mt).controller.signal}},_k=typeof WeakMap=="function"?WeakMap:Map,Le=0,Ke=null,Ce=null,Te=0,Ue=0,Nn=null,Ta=!1,gl=!1,Om=!1,Hr=0,ot=0,Ma=0,gi=0,Am=0,Cn=0,bl=0,Fo=null,mn=null,jm=!1,nc=0,I1=0,rc=1/0,ac=null,Da=null,Et=0,ka=null,xl=null,$r=0,Nm=0,Cm=null,q1=null,Wo=0,_m=null;function _n(){return(Le&2)!==0&&Te!==0?Te&-Te:q.T!==null?Rm():rb()}function H1(){if(Cn===0)if((Te&536870912)===0||De){var a=ds;ds<<=1,(ds&3932160)===0&&(ds=262144),Cn=a}else Cn=536870912;return a=An.current,a!==null&&(a.flags|=32),Cn}function vn(a,i,u){(a===Ke&&(Ue===2||Ue===9)||a.cancelPendingCommit!==null)&&(wl(a,0),Pa(a,Te,Cn,!1)),yo(a,u),((Le&2)===0||a!==Ke)&&(a===Ke&&((Le&2)===0&&(gi|=u),ot===4&&Pa(a,Te,Cn,!1)),pr(a))}function $1(a,i,u){if((Le&6)!==0)throw Error(r(327));var c=!u&&(i&127)===0&&(i&a.expiredLanes)===0||po(a,i),v=c?Dk(a,i):Mm(a,i,!0),y=c;do{if(v===0){gl&&!c&&Pa(a,i,0,!1);break}else{if(u=a.current.alternate,y&&!Tk(u)){v=Mm(a,i,!1),y=!1;continue}if(v===2){if(y=i,a.errorRecoveryDisabledLanes&y)var E=0;else E=a.pendingLanes&-536870913,E=E!==0?E:E&536870912?536870912:0;if(E!==0){i=E;e:{var N=a;v=Fo;var M=N.current.memoizedState.isDehydrated;if(M&&(wl(N,E).flags|=256),E=Mm(N,E,!1),E!==2){if(Om&&!M){N.errorRecoveryDisabledLanes|=y,gi|=y,v=4;break e}y=mn,mn=v,y!==null&&(mn===null?mn=y:mn.push.apply(mn,y))}v=E}if(y=!1,v!==2)continue}}if(v===1){wl(a,0),Pa(a,i,0,!0);break}e:{switch(c=a,y=v,y){case 0:case 1:throw Error(r(345));case 4:if((i&4194048)!==i)break;case 6:Pa(c,i,Cn,!Ta);break e;case 2:mn=null;break;case 3:case 5:break;default:throw Error(r(329))}if((i&62914560)===i&&(v=nc+300-xn(),10<v)){if(Pa(c,i,Cn,!Ta),ms(c,0,!0)!==0)break e;$r=i,c.timeoutHandle=xw(Y1.bind(null,c,u,mn,ac,jm,i,Cn,gi,bl,Ta,y,"Throttled",-0,0),v);break e}Y1(c,u,mn,ac,jm,i,Cn,gi,bl,Ta,y,null,-0,0)}}break}while(!0);pr(a)}function Y1(a,i,u,c,v,y,E,N,M,U,G,Z,H,$){if(a.timeoutHandle=-1,Z=i.subtreeFlags,Z&8192||(Z&16785408)===16785408){Z={stylesheets:null,count:0,imgCount:0,imgBytes:0,suspenseyImages:[],waitingForImages:!0,waitingForViewTransition:!1,unsuspend:Cr},z1(i,y,Z);var oe=(y&62914560)===y?nc-xn():(y&4194048)===y?I1-xn():0;if(oe=mP(Z,oe),oe!==null){$r=y,a.cancelPendingCommit=oe(Q1.bind(null,a,i,y,u,c,v,E,N,M,G,Z,null,H,$)),Pa(a,y,E,!U);return}}Q1(a,i,y,u,c,v,E,N,M)}function Tk(a){for(var i=a;;){var u=i.tag;if((u===0||u===11||u===15)&&i.flags&16384&&(u=i.updateQueue,u!==null&&(u=u.stores,u!==null)))for(var c=0;c<u.length;c++){var v=u[c],y=v.getSnapshot;v=v.value;try{if(!En(y(),v))return!1}catch{return!1}}if(u=i.child,i.subtreeFlags&16384&&u!==null)u.return=i,i=u;else{if(i===a)break;for(;i.sibling===null;){if(i.return===null||i.return===a)return!0;i=i.return}i.sibling.return=i.return,i=i.sibling}}return!0}function Pa(a,i,u,c){i&=~Am,i&=~gi,a.suspendedLanes|=i,a.pingedLanes&=~i,c&&(a.warmLanes|=i),c=a.expirationTimes;for(var v=i;0<v;){var y=31-Sn(v),E=1<<y;c[y]=-1,v&=~E}u!==0&&eb(a,u,i)}function ic(){return(Le&6)===0?(Zo(0),!1):!0}function Tm(){if(Ce!==null){if(Ue===0)var a=Ce.return;else a=Ce,Dr=si=null,Gh(a),fl=null,ko=0,a=Ce;for(;a!==null;)w1(a.alternate,a),a=a.return;Ce=null}}function wl(a,i){var u=a.timeoutHandle;u!==-1&&(a.timeoutHandle=-1,Wk(u)),u=a.cancelPendingCommit,u!==null&&(a.cancelPendingCommit=null,u()),$r=0,Tm(),Ke=a,Ce=u=Tr(a.current,null),Te=i,Ue=0,Nn=null,Ta=!1,gl=po(a,i),Om=!1,bl=Cn=Am=gi=Ma=ot=0,mn=Fo=null,jm=!1,(i&8)!==0&&(i|=i&32);var c=a.entangledLanes;if(c!==0)for(a=a.entanglements,c&=i;0<c;){var v=31-Sn(c),y=1<<v;i|=a[v],c&=~y}return Hr=i,js(),u}function K1(a,i){Ee=null,q.H=qo,i===cl||i===Ps?(i=ox(),Ue=3):i===Ph?(i=ox(),Ue=4):Ue=i===um?8:i!==null&&typeof i=="object"&&typeof i.then=="function"?6:1,Nn=i,Ce===null&&(ot=1,Xs(a,Un(i,a.current)))}function G1(){var a=An.current;return a===null?!0:(Te&4194048)===Te?$n===null:(Te&62914560)===Te||(Te&536870912)!==0?a===$n:!1}function V1(){var a=q.H;return q.H=qo,a===null?qo:a}function X1(){var a=q.A;return q.A=Ck,a}function lc(){ot=4,Ta||(Te&4194048)!==Te&&An.current!==null||(gl=!0),(Ma&134217727)===0&&(gi&134217727)===0||Ke===null||Pa(Ke,Te,Cn,!1)}function Mm(a,i,u){var c=Le;Le|=2;var v=V1(),y=X1();(Ke!==a||Te!==i)&&(ac=null,wl(a,i)),i=!1;var E=ot;e:do try{if(Ue!==0&&Ce!==null){var N=Ce,M=Nn;switch(Ue){case 8:Tm(),E=6;break e;case 3:case 2:case 9:case 6:An.current===null&&(i=!0);var U=Ue;if(Ue=0,Nn=null,Sl(a,N,M,U),u&&gl){E=0;break e}break;default:U=Ue,Ue=0,Nn=null,Sl(a,N,M,U)}}Mk(),E=ot;break}catch(G){K1(a,G)}while(!0);return i&&a.shellSuspendCounter++,Dr=si=null,Le=c,q.H=v,q.A=y,Ce===null&&(Ke=null,Te=0,js()),E}function Mk(){for(;Ce!==null;)F1(Ce)}function Dk(a,i){var u=Le;Le|=2;var c=V1(),v=X1();Ke!==a||Te!==i?(ac=null,rc=xn()+500,wl(a,i)):gl=po(a,i);e:do try{if(Ue!==0&&Ce!==null){i=Ce;var y=Nn;t:switch(Ue){case 1:Ue=0,Nn=null,Sl(a,i,y,1);break;case 2:case 9:if(ix(y)){Ue=0,Nn=null,W1(i);break}i=function(){Ue!==2&&Ue!==9||Ke!==a||(Ue=7),pr(a)},y.then(i,i);break e;case 3:Ue=7;break e;case 4:Ue=5;break e;case 7:ix(y)?(Ue=0,Nn=null,W1(i)):(Ue=0,Nn=null,Sl(a,i,y,7));break;case 5:var E=null;switch(Ce.tag){case 26:E=Ce.memoizedState;case 5:case 27:var N=Ce;if(E?Rw(E):N.stateNode.complete){Ue=0,Nn=null;var M=N.sibling;if(M!==null)Ce=M;else{var U=N.return;U!==null?(Ce=U,oc(U)):Ce=null}break t}}Ue=0,Nn=null,Sl(a,i,y,5);break;case 6:Ue=0,Nn=null,Sl(a,i,y,6);break;case 8:Tm(),ot=6;break e;default:throw Error(r(462))}}kk();break}catch(G){K1(a,G)}while(!0);return Dr=si=null,q.H=c,q.A=v,Le=u,Ce!==null?0:(Ke=null,Te=0,js(),ot)}function kk(){for(;Ce!==null&&!nD();)F1(Ce)}function F1(a){var i=b1(a.alternate,a,Hr);a.memoizedProps=a.pendingProps,i===null?oc(a):Ce=i}function W1(a){var i=a,u=i.alternate;switch(i.tag){case 15:case 0:i=h1(u,i,i.pendingProps,i.type,void 0,Te);break;case 11:i=h1(u,i,i.pendingProps,i.type.render,i.ref,Te);break;case 5:Gh(i);default:w1(u,i),i=Ce=Xb(i,Hr),i=b1(u,i,Hr)}a.memoizedProps=a.pendingProps,i===null?oc(a):Ce=i}function Sl(a,i,u,c){Dr=si=null,Gh(i),fl=null,ko=0;var v=i.return;try{if(wk(a,v,i,u,Te)){ot=1,Xs(a,Un(u,a.current)),Ce=null;return}}catch(y){if(v!==null)throw Ce=v,y;ot=1,Xs(a,Un(u,a.current)),Ce=null;return}i.flags&32768?(De||c===1?a=!0:gl||(Te&536870912)!==0?a=!1:(Ta=a=!0,(c===2||c===9||c===3||c===6)&&(c=An.current,c!==null&&c.tag===13&&(c.flags|=16384))),Z1(i,a)):oc(i)}function oc(a){var i=a;do{if((i.flags&32768)!==0){Z1(i,Ta);return}a=i.return;var u=Ok(i.alternate,i,Hr);if(u!==null){Ce=u;return}if(i=i.sibling,i!==null){Ce=i;return}Ce=i=a}while(i!==null);ot===0&&(ot=5)}function Z1(a,i){do{var u=Ak(a.alternate,a);if(u!==null){u.flags&=32767,Ce=u;return}if(u=a.return,u!==null&&(u.flags|=32768,u.subtreeFlags=0,u.deletions=null),!i&&(a=a.sibling,a!==null)){Ce=a;return}Ce=a=u}while(a!==null);ot=6,Ce=null}function Q1(a,i,u,c,v,y,E,N,M){a.cancelPendingCommit=null;do uc();while(Et!==0);if((Le&6)!==0)throw Error(r(327));if(i!==null){if(i===a.current)throw Error(r(177));if(y=i.lanes|i.childLanes,y|=bh,dD(a,u,y,E,N,M),a===Ke&&(Ce=Ke=null,Te=0),xl=i,ka=a,$r=u,Nm=y,Cm=v,q1=c,(i.subtreeFlags&10256)!==0||(i.flags&10256)!==0?(a.callbackNode=null,a.callbackPriority=0,Lk(cs,function(){return rw(),null})):(a.callbackNode=null,a.callbackPriority=0),c=(i.flags&13878)!==0,(i.subtreeFlags&13878)!==0||c){c=q.T,q.T=null,v=Q.p,Q.p=2,E=Le,Le|=4;try{jk(a,i,u)}finally{Le=E,Q.p=v,q.T=c}}Et=1,J1(),ew(),tw()}}function J1(){if(Et===1){Et=0;var a=ka,i=xl,u=(i.flags&13878)!==0;if((i.subtreeFlags&13878)!==0||u){u=q.T,q.T=null;var c=Q.p;Q.p=2;var v=Le;Le|=4;try{k1(i,a);var y=$m,E=Ub(a.containerInfo),N=y.focusedElem,M=y.selectionRange;if(E!==N&&N&&N.ownerDocument&&Bb(N.ownerDocument.documentElement,N)){if(M!==null&&mh(N)){var U=M.start,G=M.end;if(G===void 0&&(G=U),"selectionStart"in N)N.selectionStart=U,N.selectionEnd=Math.min(G,N.value.length);else{var Z=N.ownerDocument||document,H=Z&&Z.defaultView||window;if(H.getSelection){var $=H.getSelection(),oe=N.textContent.length,ye=Math.min(M.start,oe),Ye=M.end===void 0?ye:Math.min(M.end,oe);!$.extend&&ye>Ye&&(E=Ye,Ye=ye,ye=E);var L=Lb(N,ye),z=Lb(N,Ye);if(L&&z&&($.rangeCount!==1||$.anchorNode!==L.node||$.anchorOffset!==L.offset||$.focusNode!==z.node||$.focusOffset!==z.offset)){var B=Z.createRange();B.setStart(L.node,L.offset),$.removeAllRanges(),ye>Ye?($.addRange(B),$.extend(z.node,z.offset)):(B.setEnd(z.node,z.offset),$.addRange(B))}}}}for(Z=[],$=N;$=$.parentNode;)$.nodeType===1&&Z.push({element:$,left:$.scrollLeft,top:$.scrollTop});for(typeof N.focus=="function"&&N.focus(),N=0;N<Z.length;N++){var F=Z[N];F.element.scrollLeft=F.left,F.element.scrollTop=F.top}}xc=!!Hm,$m=Hm=null}finally{Le=v,Q.p=c,q.T=u}}a.current=i,Et=2}}function ew(){if(Et===2){Et=0;var a=ka,i=xl,u=(i.flags&8772)!==0;if((i.subtreeFlags&8772)!==0||u){u=q.T,q.T=null;var c=Q.p;Q.p=2;var v=Le;Le|=4;try{C1(a,i.alternate,i)}finally{Le=v,Q.p=c,q.T=u}}Et=3}}function tw(){if(Et===4||Et===3){Et=0,rD();var a=ka,i=xl,u=$r,c=q1;(i.subtreeFlags&10256)!==0||(i.flags&10256)!==0?Et=5:(Et=0,xl=ka=null,nw(a,a.pendingLanes));var v=a.pendingLanes;if(v===0&&(Da=null),Fd(u),i=i.stateNode,wn&&typeof wn.onCommitFiberRoot=="function")try{wn.onCommitFiberRoot(vo,i,void 0,(i.current.flags&128)===128)}catch{}if(c!==null){i=q.T,v=Q.p,Q.p=2,q.T=null;try{for(var y=a.onRecoverableError,E=0;E<c.length;E++){var N=c[E];y(N.value,{componentStack:N.stack})}}finally{q.T=i,Q.p=v}}($r&3)!==0&&uc(),pr(a),v=a.pendingLanes,(u&261930)!==0&&(v&42)!==0?a===_m?Wo++:(Wo=0,_m=a):Wo=0,Zo(0)}}function nw(a,i){(a.pooledCacheLanes&=i)===0&&(i=a.pooledCache,i!=null&&(a.pooledCache=null,Mo(i)))}function uc(){return J1(),ew(),tw(),rw()}function rw(){if(Et!==5)return!1;var a=ka,i=Nm;Nm=0;var u=Fd($r),c=q.T,v=Q.p;try{Q.p=32>u?32:u,q.T=null,u=Cm,Cm=null;var y=ka,E=$r;if(Et=0,xl=ka=null,$r=0,(Le&6)!==0)throw Error(r(331));var N=Le;if(Le|=4,B1(y.current),R1(y,y.current,E,u),Le=N,Zo(0,!1),wn&&typeof wn.onPostCommitFiberRoot=="function")try{wn.onPostCommitFiberRoot(vo,y)}catch{}return!0}finally{Q.p=v,q.T=c,nw(a,i)}}function aw(a,i,u){i=Un(u,i),i=om(a.stateNode,i,2),a=ja(a,i,2),a!==null&&(yo(a,2),pr(a))}function Ie(a,i,u){if(a.tag===3)aw(a,a,u);else for(;i!==null;){if(i.tag===3){aw(i,a,u);break}else if(i.tag===1){var c=i.stateNode;if(typeof i.type.getDerivedStateFromError=="function"||typeof c.componentDidCatch=="function"&&(Da===null||!Da.has(c))){a=Un(u,a),u=i1(2),c=ja(i,u,2),c!==null&&(l1(u,c,i,a),yo(c,2),pr(c));break}}i=i.return}}function Dm(a,i,u){var c=a.pingCache;if(c===null){c=a.pingCache=new _k;var v=new Set;c.set(i,v)}else v=c.get(i),v===void 0&&(v=new Set,c.set(i,v));v.has(u)||(Om=!0,v.add(u),a=Pk.bind(null,a,i,u),i.then(a,a))}function Pk(a,i,u){var c=a.pingCache;c!==null&&c.delete(i),a.pingedLanes|=a.suspendedLanes&u,a.warmLanes&=~u,Ke===a&&(Te&u)===u&&(ot===4||ot===3&&(Te&62914560)===Te&&300>xn()-nc?(Le&2)===0&&wl(a,0):Am|=u,bl===Te&&(bl=0)),pr(a)}function iw(a,i){i===0&&(i=J0()),a=li(a,i),a!==null&&(yo(a,i),pr(a))}function Rk(a){var i=a.memoizedState,u=0;i!==null&&(u=i.retryLane),iw(a,u)}function zk(a,i){var u=0;switch(a.tag){case 31:case 13:var c=a.stateNode,v=a.memoizedState;v!==null&&(u=v.retryLane);break;case 19:c=a.stateNode;break;case 22:c=a.stateNode._retryCache;break;default:throw Error(r(314))}c!==null&&c.delete(i),iw(a,u)}function Lk(a,i){return Kd(a,i)}var sc=null,El=null,km=!1,cc=!1,Pm=!1,Ra=0;function pr(a){a!==El&&a.next===null&&(El===null?sc=El=a:El=El.next=a),cc=!0,km||(km=!0,Uk())}function Zo(a,i){if(!Pm&&cc){Pm=!0;do for(var u=!1,c=sc;c!==null;){if(a!==0){var v=c.pendingLanes;if(v===0)var y=0;else{var E=c.suspendedLanes,N=c.pingedLanes;y=(1<<31-Sn(42|a)+1)-1,y&=v&~(E&~N),y=y&201326741?y&201326741|1:y?y|2:0}y!==0&&(u=!0,sw(c,y))}else y=Te,y=ms(c,c===Ke?y:0,c.cancelPendingCommit!==null||c.timeoutHandle!==-1),(y&3)===0||po(c,y)||(u=!0,sw(c,y));c=c.next}while(u);Pm=!1}}function Bk(){lw()}function lw(){cc=km=!1;var a=0;Ra!==0&&Fk()&&(a=Ra);for(var i=xn(),u=null,c=sc;c!==null;){var v=c.next,y=ow(c,i);y===0?(c.next=null,u===null?sc=v:u.next=v,v===null&&(El=u)):(u=c,(a!==0||(y&3)!==0)&&(cc=!0)),c=v}Et!==0&&Et!==5||Zo(a),Ra!==0&&(Ra=0)}function ow(a,i){for(var u=a.suspendedLanes,c=a.pingedLanes,v=a.expirationTimes,y=a.pendingLanes&-62914561;0<y;){var E=31-Sn(y),N=1<<E,M=v[E];M===-1?((N&u)===0||(N&c)!==0)&&(v[E]=fD(N,i)):M<=i&&(a.expiredLanes|=N),y&=~N}if(i=Ke,u=Te,u=ms(a,a===i?u:0,a.cancelPendingCommit!==null||a.timeoutHandle!==-1),c=a.callbackNode,u===0||a===i&&(Ue===2||Ue===9)||a.cancelPendingCommit!==null)return c!==null&&c!==null&&Gd(c),a.callbackNode=null,a.callbackPriority=0;if((u&3)===0||po(a,u)){if(i=u&-u,i===a.callbackPriority)return i;switch(c!==null&&Gd(c),Fd(u)){case 2:case 8:u=Z0;break;case 32:u=cs;break;case 268435456:u=Q0;break;default:u=cs}return c=uw.bind(null,a),u=Kd(u,c),a.callbackPriority=i,a.callbackNode=u,i}return c!==null&&c!==null&&Gd(c),a.callbackPriority=2,a.callbackNode=null,2}function uw(a,i){if(Et!==0&&Et!==5)return a.callbackNode=null,a.callbackPriority=0,null;var u=a.callbackNode;if(uc()&&a.callbackNode!==u)return null;var c=Te;return c=ms(a,a===Ke?c:0,a.cancelPendingCommit!==null||a.timeoutHandle!==-1),c===0?null:($1(a,c,i),ow(a,xn()),a.callbackNode!=null&&a.callbackNode===u?uw.bind(null,a):null)}function sw(a,i){if(uc())return null;$1(a,i,!0)}function Uk(){Zk(function(){(Le&6)!==0?Kd(W0,Bk):lw()})}function Rm(){if(Ra===0){var a=ul;a===0&&(a=fs,fs<<=1,(fs&261888)===0&&(fs=256)),Ra=a}return Ra}function cw(a){return a==null||typeof a=="symbol"||typeof a=="boolean"?null:typeof a=="function"?a:gs(""+a)}function fw(a,i){var u=i.ownerDocument.createElement("input");return u.name=i.name,u.value=i.value,a.id&&u.setAttribute("form",a.id),i.parentNode.insertBefore(u,i),a=new FormData(a),u.parentNode.removeChild(u),a}function Ik(a,i,u,c,v){if(i==="submit"&&u&&u.stateNode===v){var y=cw((v[sn]||null).action),E=c.submitter;E&&(i=(i=E[sn]||null)?cw(i.formAction):E.getAttribute("formAction"),i!==null&&(y=i,E=null));var N=new Ss("action","action",null,c,v);a.push({event:N,listeners:[{instance:null,listener:function(){if(c.defaultPrevented){if(Ra!==0){var M=E?fw(v,E):new FormData(v);tm(u,{pending:!0,data:M,method:v.method,action:y},null,M)}}else typeof y=="function"&&(N.preventDefault(),M=E?fw(v,E):new FormData(v),tm(u,{pending:!0,data:M,method:v.method,action:y},y,M))},currentTarget:v}]})}}for(var zm=0;zm<gh.length;zm++){var Lm=gh[zm],qk=Lm.toLowerCase(),Hk=Lm[0].toUpperCase()+Lm.slice(1);nr(qk,"on"+Hk)}nr(Hb,"onAnimationEnd"),nr($b,"onAnimationIteration"),nr(Yb,"onAnimationStart"),nr("dblclick","onDoubleClick"),nr("focusin","onFocus"),nr("focusout","onBlur"),nr(ak,"onTransitionRun"),nr(ik,"onTransitionStart"),nr(lk,"onTransitionCancel"),nr(Kb,"onTransitionEnd"),Xi("onMouseEnter",["mouseout","mouseover"]),Xi("onMouseLeave",["mouseout","mouseover"]),Xi("onPointerEnter",["pointerout","pointerover"]),Xi("onPointerLeave",["pointerout","pointerover"]),ni("onChange","change click focusin focusout input keydown keyup selectionchange".split(" ")),ni("onSelect","focusout contextmenu dragend focusin keydown keyup mousedown mouseup selectionchange".split(" ")),ni("onBeforeInput",["compositionend","keypress","textInput","paste"]),ni("onCompositionEnd","compositionend focusout keydown keypress keyup mousedown".split(" ")),ni("onCompositionStart","compositionstart focusout keydown keypress keyup mousedown".split(" ")),ni("onCompositionUpdate","compositionupdate focusout keydown keypress keyup mousedown".split(" "));var Qo="abort canplay canplaythrough durationchange emptied encrypted ended error loadeddata loadedmetadata loadstart pause play playing progress ratechange resize seeked seeking stalled suspend timeupdate volumechange waiting".split(" "),$k=new Set("beforetoggle cancel close invalid load scroll scrollend toggle".split(" ").concat(Qo));function dw(a,i){i=(i&4)!==0;for(var u=0;u<a.length;u++){var c=a[u],v=c.event;c=c.listeners;e:{var y=void 0;if(i)for(var E=c.length-1;0<=E;E--){var N=c[E],M=N.instance,U=N.currentTarget;if(N=N.listener,M!==y&&v.isPropagationStopped())break e;y=N,v.currentTarget=U;try{y(v)}catch(G){As(G)}v.currentTarget=null,y=M}else for(E=0;E<c.length;E++){if(N=c[E],M=N.instance,U=N.currentTarget,N=N.listener,M!==y&&v.isPropagationStopped())break e;y=N,v.currentTarget=U;try{y(v)}catch(G){As(G)}v.currentTarget=null,y=M}}}}function _e(a,i){var u=i[Wd];u===void 0&&(u=i[Wd]=new Set);var c=a+"__bubble";u.has(c)||(hw(i,a,2,!1),u.add(c))}function Bm(a,i,u){var c=0;i&&(c|=4),hw(u,a,c,i)}var fc="_reactListening"+Math.random().toString(36).slice(2);function Um(a){if(!a[fc]){a[fc]=!0,lb.forEach(function(u){u!=="selectionchange"&&($k.has(u)||Bm(u,!1,a),Bm(u,!0,a))});var i=a.nodeType===9?a:a.ownerDocument;i===null||i[fc]||(i[fc]=!0,Bm("selectionchange",!1,i))}}function hw(a,i,u,c){switch(Hw(i)){case 2:var v=yP;break;case 8:v=gP;break;default:v=ev}u=v.bind(null,i,u,a),v=void 0,!ih||i!=="touchstart"&&i!=="touchmove"&&i!=="wheel"||(v=!0),c?v!==void 0?a.addEventListener(i,u,{capture:!0,passive:v}):a.addEventListener(i,u,!0):v!==void 0?a.addEventListener(i,u,{passive:v}):a.addEventListener(i,u,!1)}function Im(a,i,u,c,v){var y=c;if((i&1)===0&&(i&2)===0&&c!==null)e:for(;;){if(c===null)return;var E=c.tag;if(E===3||E===4){var N=c.stateNode.containerInfo;if(N===v)break;if(E===4)for(E=c.return;E!==null;){var M=E.tag;if((M===3||M===4)&&E.stateNode.containerInfo===v)return;E=E.return}for(;N!==null;){if(E=Ki(N),E===null)return;if(M=E.tag,M===5||M===6||M===26||M===27){c=y=E;continue e}N=N.parentNode}}c=c.return}gb(function(){var U=y,G=rh(u),Z=[];e:{var H=Gb.get(a);if(H!==void 0){var $=Ss,oe=a;switch(a){case"keypress":if(xs(u)===0)break e;case"keydown":case"keyup":$=zD;break;case"focusin":oe="focus",$=sh;break;case"focusout":oe="blur",$=sh;break;case"beforeblur":case"afterblur":$=sh;break;case"click":if(u.button===2)break e;case"auxclick":case"dblclick":case"mousedown":case"mousemove":case"mouseup":case"mouseout":case"mouseover":case"contextmenu":$=wb;break;case"drag":case"dragend":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"dragstart":case"drop":$=OD;break;case"touchcancel":case"touchend":case"touchmove":case"touchstart":$=UD;break;case Hb:case $b:case Yb:$=ND;break;case Kb:$=qD;break;case"scroll":case"scrollend":$=SD;break;case"wheel":$=$D;break;case"copy":case"cut":case"paste":$=_D;break;case"gotpointercapture":case"lostpointercapture":case"pointercancel":case"pointerdown":case"pointermove":case"pointerout":case"pointerover":case"pointerup":$=Eb;break;case"toggle":case"beforetoggle":$=KD}var ye=(i&4)!==0,Ye=!ye&&(a==="scroll"||a==="scrollend"),L=ye?H!==null?H+"Capture":null:H;ye=[];for(var z=U,B;z!==null;){var F=z;if(B=F.stateNode,F=F.tag,F!==5&&F!==26&&F!==27||B===null||L===null||(F=xo(z,L),F!=null&&ye.push(Jo(z,F,B))),Ye)break;z=z.return}0<ye.length&&(H=new $(H,oe,null,u,G),Z.push({event:H,listeners:ye}))}}if((i&7)===0){e:{if(H=a==="mouseover"||a==="pointerover",$=a==="mouseout"||a==="pointerout",H&&u!==nh&&(oe=u.relatedTarget||u.fromElement)&&(Ki(oe)||oe[Yi]))break e;if(($||H)&&(H=G.window===G?G:(H=G.ownerDocument)?H.defaultView||H.parentWindow:window,$?(oe=u.relatedTarget||u.toElement,$=U,oe=oe?Ki(oe):null,oe!==null&&(Ye=o(oe),ye=oe.tag,oe!==Ye||ye!==5&&ye!==27&&ye!==6)&&(oe=null)):($=null,oe=U),$!==oe)){if(ye=wb,F="onMouseLeave",L="onMouseEnter",z="mouse",(a==="pointerout"||a==="pointerover")&&(ye=Eb,F="onPointerLeave",L="onPointerEnter",z="pointer"),Ye=$==null?H:bo($),B=oe==null?H:bo(oe),H=new ye(F,z+"leave",$,u,G),H.target=Ye,H.relatedTarget=B,F=null,Ki(G)===U&&(ye=new ye(L,z+"enter",oe,u,G),ye.target=B,ye.relatedTarget=Ye,F=ye),Ye=F,$&&oe)t:{for(ye=Yk,L=$,z=oe,B=0,F=L;F;F=ye(F))B++;F=0;for(var me=z;me;me=ye(me))F++;for(;0<B-F;)L=ye(L),B--;for(;0<F-B;)z=ye(z),F--;for(;B--;){if(L===z||z!==null&&L===z.alternate){ye=L;break t}L=ye(L),z=ye(z)}ye=null}else ye=null;$!==null&&mw(Z,H,$,ye,!1),oe!==null&&Ye!==null&&mw(Z,Ye,oe,ye,!0)}}e:{if(H=U?bo(U):window,$=H.nodeName&&H.nodeName.toLowerCase(),$==="select"||$==="input"&&H.type==="file")var Pe=Mb;else if(_b(H))if(Db)Pe=tk;else{Pe=JD;var fe=QD}else $=H.nodeName,!$||$.toLowerCase()!=="input"||H.type!=="checkbox"&&H.type!=="radio"?U&&th(U.elementType)&&(Pe=Mb):Pe=ek;if(Pe&&(Pe=Pe(a,U))){Tb(Z,Pe,u,G);break e}fe&&fe(a,H,U),a==="focusout"&&U&&H.type==="number"&&U.memoizedProps.value!=null&&eh(H,"number",H.value)}switch(fe=U?bo(U):window,a){case"focusin":(_b(fe)||fe.contentEditable==="true")&&(el=fe,vh=U,Co=null);break;case"focusout":Co=vh=el=null;break;case"mousedown":ph=!0;break;case"contextmenu":case"mouseup":case"dragend":ph=!1,Ib(Z,u,G);break;case"selectionchange":if(rk)break;case"keydown":case"keyup":Ib(Z,u,G)}var je;if(fh)e:{switch(a){case"compositionstart":var Me="onCompositionStart";break e;case"compositionend":Me="onCompositionEnd";break e;case"compositionupdate":Me="onCompositionUpdate";break e}Me=void 0}else Ji?Nb(a,u)&&(Me="onCompositionEnd"):a==="keydown"&&u.keyCode===229&&(Me="onCompositionStart");Me&&(Ob&&u.locale!=="ko"&&(Ji||Me!=="onCompositionStart"?Me==="onCompositionEnd"&&Ji&&(je=bb()):(ba=G,lh="value"in ba?ba.value:ba.textContent,Ji=!0)),fe=dc(U,Me),0<fe.length&&(Me=new Sb(Me,a,null,u,G),Z.push({event:Me,listeners:fe}),je?Me.data=je:(je=Cb(u),je!==null&&(Me.data=je)))),(je=VD?XD(a,u):FD(a,u))&&(Me=dc(U,"onBeforeInput"),0<Me.length&&(fe=new Sb("onBeforeInput","beforeinput",null,u,G),Z.push({event:fe,listeners:Me}),fe.data=je)),Ik(Z,a,U,u,G)}dw(Z,i)})}function Jo(a,i,u){return{instance:a,listener:i,currentTarget:u}}function dc(a,i){for(var u=i+"Capture",c=[];a!==null;){var v=a,y=v.stateNode;if(v=v.tag,v!==5&&v!==26&&v!==27||y===null||(v=xo(a,u),v!=null&&c.unshift(Jo(a,v,y)),v=xo(a,i),v!=null&&c.push(Jo(a,v,y))),a.tag===3)return c;a=a.return}return[]}function Yk(a){if(a===null)return null;do a=a.return;while(a&&a.tag!==5&&a.tag!==27);return a||null}function mw(a,i,u,c,v){for(var y=i._reactName,E=[];u!==null&&u!==c;){var N=u,M=N.alternate,U=N.stateNode;if(N=N.tag,M!==null&&M===c)break;N!==5&&N!==26&&N!==27||U===null||(M=U,v?(U=xo(u,y),U!=null&&E.unshift(Jo(u,U,M))):v||(U=xo(u,y),U!=null&&E.push(Jo(u,U,M)))),u=u.return}E.length!==0&&a.push({event:i,listeners:E})}var Kk=/\r\n?/g,Gk=/\u0000|\uFFFD/g;function vw(a){return(typeof a=="string"?a:""+a).replace(Kk,`
-`).replace(Gk,"")}function pw(a,i){return i=vw(i),vw(a)===i}function $e(a,i,u,c,v,y){switch(u){case"children":typeof c=="string"?i==="body"||i==="textarea"&&c===""||Wi(a,c):(typeof c=="number"||typeof c=="bigint")&&i!=="body"&&Wi(a,""+c);break;case"className":ps(a,"class",c);break;case"tabIndex":ps(a,"tabindex",c);break;case"dir":case"role":case"viewBox":case"width":case"height":ps(a,u,c);break;case"style":pb(a,c,y);break;case"data":if(i!=="object"){ps(a,"data",c);break}case"src":case"href":if(c===""&&(i!=="a"||u!=="href")){a.removeAttribute(u);break}if(c==null||typeof c=="function"||typeof c=="symbol"||typeof c=="boolean"){a.removeAttribute(u);break}c=gs(""+c),a.setAttribute(u,c);break;case"action":case"formAction":if(typeof c=="function"){a.setAttribute(u,"javascript:throw new Error('A React form was unexpectedly submitted. If you called form.submit() manually, consider using form.requestSubmit() instead. If you\\'re trying to use event.stopPropagation() in a submit event handler, consider also calling event.preventDefault().')");break}else typeof y=="function"&&(u==="formAction"?(i!=="input"&&$e(a,i,"name",v.name,v,null),$e(a,i,"formEncType",v.formEncType,v,null),$e(a,i,"formMethod",v.formMethod,v,null),$e(a,i,"formTarget",v.formTarget,v,null)):($e(a,i,"encType",v.encType,v,null),$e(a,i,"method",v.method,v,null),$e(a,i,"target",v.target,v,null)));if(c==null||typeof c=="symbol"||typeof c=="boolean"){a.removeAttribute(u);break}c=gs(""+c),a.setAttribute(u,c);break;case"onClick":c!=null&&(a.onclick=Cr);break;case"onScroll":c!=null&&_e("scroll",a);break;case"onScrollEnd":c!=null&&_e("scrollend",a);break;case"dangerouslySetInnerHTML":if(c!=null){if(typeof c!="object"||!("__html"in c))throw Error(r(61));if(u=c.__html,u!=null){if(v.children!=null)throw Error(r(60));a.innerHTML=u}}break;case"multiple":a.multiple=c&&typeof c!="function"&&typeof c!="symbol";break;case"muted":a.muted=c&&typeof c!="function"&&typeof c!="symbol";break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"defaultValue":case"defaultChecked":case"innerHTML":case"ref":break;case"autoFocus":break;case"xlinkHref":if(c==null||typeof c=="function"||typeof c=="boolean"||typeof c=="symbol"){a.removeAttribute("xlink:href");break}u=gs(""+c),a.setAttributeNS("http://www.w3.org/1999/xlink","xlink:href",u);break;case"contentEditable":case"spellCheck":case"draggable":case"value":case"autoReverse":case"externalResourcesRequired":case"focusable":case"preserveAlpha":c!=null&&typeof c!="function"&&typeof c!="symbol"?a.setAttribute(u,""+c):a.removeAttribute(u);break;case"inert":case"allowFullScreen":case"async":case"autoPlay":case"controls":case"default":case"defer":case"disabled":case"disablePictureInPicture":case"disableRemotePlayback":case"formNoValidate":case"hidden":case"loop":case"noModule":case"noValidate":case"open":case"playsInline":case"readOnly":case"required":case"reversed":case"scoped":case"seamless":case"itemScope":c&&typeof c!="function"&&typeof c!="symbol"?a.setAttribute(u,""):a.removeAttribute(u);break;case"capture":case"download":c===!0?a.setAttribute(u,""):c!==!1&&c!=null&&typeof c!="function"&&typeof c!="symbol"?a.setAttribute(u,c):a.removeAttribute(u);break;case"cols":case"rows":case"size":case"span":c!=null&&typeof c!="function"&&typeof c!="symbol"&&!isNaN(c)&&1<=c?a.setAttribute(u,c):a.removeAttribute(u);break;case"rowSpan":case"start":c==null||typeof c=="function"||typeof c=="symbol"||isNaN(c)?a.removeAttribute(u):a.setAttribute(u,c);break;case"popover":_e("beforetoggle",a),_e("toggle",a),vs(a,"popover",c);break;case"xlinkActuate":Nr(a,"http://www.w3.org/1999/xlink","xlink:actuate",c);break;case"xlinkArcrole":Nr(a,"http://www.w3.org/1999/xlink","xlink:arcrole",c);break;case"xlinkRole":Nr(a,"http://www.w3.org/1999/xlink","xlink:role",c);break;case"xlinkShow":Nr(a,"http://www.w3.org/1999/xlink","xlink:show",c);break;case"xlinkTitle":Nr(a,"http://www.w3.org/1999/xlink","xlink:title",c);break;case"xlinkType":Nr(a,"http://www.w3.org/1999/xlink","xlink:type",c);break;case"xmlBase":Nr(a,"http://www.w3.org/XML/1998/namespace","xml:base",c);break;case"xmlLang":Nr(a,"http://www.w3.org/XML/1998/namespace","xml:lang",c);break;case"xmlSpace":Nr(a,"http://www.w3.org/XML/1998/namespace","xml:space",c);break;case"is":vs(a,"is",c);break;case"innerText":case"textContent":break;default:(!(2<u.length)||u[0]!=="o"&&u[0]!=="O"||u[1]!=="n"&&u[1]!=="N")&&(u=xD.get(u)||u,vs(a,u,c))}}function qm(a,i,u,c,v,y){switch(u){case"style":pb(a,c,y);break;case"dangerouslySetInnerHTML":if(c!=null){if(typeof c!="object"||!("__html"in c))throw Error(r(61));if(u=c.__html,u!=null){if(v.children!=null)throw Error(r(60));a.innerHTML=u}}break;case"children":typeof c=="string"?Wi(a,c):(typeof c=="number"||typeof c=="bigint")&&Wi(a,""+c);break;case"onScroll":c!=null&&_e("scroll",a);break;case"onScrollEnd":c!=null&&_e("scrollend",a);break;case"onClick":c!=null&&(a.onclick=Cr);break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"innerHTML":case"ref":break;case"innerText":case"textContent":break;default:if(!ob.hasOwnProperty(u))e:{if(u[0]==="o"&&u[1]==="n"&&(v=u.endsWith("Capture"),i=u.slice(2,v?u.length-7:void 0),y=a[sn]||null,y=y!=null?y[u]:null,typeof y=="function"&&a.removeEventListener(i,y,v),typeof c=="function")){typeof y!="function"&&y!==null&&(u in a?a[u]=null:a.hasAttribute(u)&&a.removeAttribute(u)),a.addEventListener(i,c,v);break e}u in a?a[u]=c:c===!0?a.setAttribute(u,""):vs(a,u,c)}}}function Vt(a,i,u){switch(i){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"img":_e("error",a),_e("load",a);var c=!1,v=!1,y;for(y in u)if(u.hasOwnProperty(y)){var E=u[y];if(E!=null)switch(y){case"src":c=!0;break;case"srcSet":v=!0;break;case"children":case"dangerouslySetInnerHTML":throw Error(r(137,i));default:$e(a,i,y,E,u,null)}}v&&$e(a,i,"srcSet",u.srcSet,u,null),c&&$e(a,i,"src",u.src,u,null);return;case"input":_e("invalid",a);var N=y=E=v=null,M=null,U=null;for(c in u)if(u.hasOwnProperty(c)){var G=u[c];if(G!=null)switch(c){case"name":v=G;break;case"type":E=G;break;case"checked":M=G;break;case"defaultChecked":U=G;break;case"value":y=G;break;case"defaultValue":N=G;break;case"children":case"dangerouslySetInnerHTML":if(G!=null)throw Error(r(137,i));break;default:$e(a,i,c,G,u,null)}}db(a,y,N,M,U,E,v,!1);return;case"select":_e("invalid",a),c=E=y=null;for(v in u)if(u.hasOwnProperty(v)&&(N=u[v],N!=null))switch(v){case"value":y=N;break;case"defaultValue":E=N;break;case"multiple":c=N;default:$e(a,i,v,N,u,null)}i=y,u=E,a.multiple=!!c,i!=null?Fi(a,!!c,i,!1):u!=null&&Fi(a,!!c,u,!0);return;case"textarea":_e("invalid",a),y=v=c=null;for(E in u)if(u.hasOwnProperty(E)&&(N=u[E],N!=null))switch(E){case"value":c=N;break;case"defaultValue":v=N;break;case"children":y=N;break;case"dangerouslySetInnerHTML":if(N!=null)throw Error(r(91));break;default:$e(a,i,E,N,u,null)}mb(a,c,v,y);return;case"option":for(M in u)if(u.hasOwnProperty(M)&&(c=u[M],c!=null))switch(M){case"selected":a.selected=c&&typeof c!="function"&&typeof c!="symbol";break;default:$e(a,i,M,c,u,null)}return;case"dialog":_e("beforetoggle",a),_e("toggle",a),_e("cancel",a),_e("close",a);break;case"iframe":case"object":_e("load",a);break;case"video":case"audio":for(c=0;c<Qo.length;c++)_e(Qo[c],a);break;case"image":_e("error",a),_e("load",a);break;case"details":_e("toggle",a);break;case"embed":case"source":case"link":_e("error",a),_e("load",a);case"area":case"base":case"br":case"col":case"hr":case"keygen":case"meta":case"param":case"track":case"wbr":case"menuitem":for(U in u)if(u.hasOwnProperty(U)&&(c=u[U],c!=null))switch(U){case"children":case"dangerouslySetInnerHTML":throw Error(r(137,i));default:$e(a,i,U,c,u,null)}return;default:if(th(i)){for(G in u)u.hasOwnProperty(G)&&(c=u[G],c!==void 0&&qm(a,i,G,c,u,void 0));return}}for(N in u)u.hasOwnProperty(N)&&(c=u[N],c!=null&&$e(a,i,N,c,u,null))}function Vk(a,i,u,c){switch(i){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"input":var v=null,y=null,E=null,N=null,M=null,U=null,G=null;for($ in u){var Z=u[$];if(u.hasOwnProperty($)&&Z!=null)switch($){case"checked":break;case"value":break;case"defaultValue":M=Z;default:c.hasOwnProperty($)||$e(a,i,$,null,c,Z)}}for(var H in c){var $=c[H];if(Z=u[H],c.hasOwnProperty(H)&&($!=null||Z!=null))switch(H){case"type":y=$;break;case"name":v=$;break;case"checked":U=$;break;case"defaultChecked":G=$;break;case"value":E=$;break;case"defaultValue":N=$;break;case"children":case"dangerouslySetInnerHTML":if($!=null)throw Error(r(137,i));break;default:$!==Z&&$e(a,i,H,$,c,Z)}}Jd(a,E,N,M,U,G,y,v);return;case"select":$=E=N=H=null;for(y in u)if(M=u[y],u.hasOwnProperty(y)&&M!=null)switch(y){case"value":break;case"multiple":$=M;default:c.hasOwnProperty(y)||$e(a,i,y,null,c,M)}for(v in c)if(y=c[v],M=u[v],c.hasOwnProperty(v)&&(y!=null||M!=null))switch(v){case"value":H=y;break;case"defaultValue":N=y;break;case"multiple":E=y;default:y!==M&&$e(a,i,v,y,c,M)}i=N,u=E,c=$,H!=null?Fi(a,!!u,H,!1):!!c!=!!u&&(i!=null?Fi(a,!!u,i,!0):Fi(a,!!u,u?[]:"",!1));return;case"textarea":$=H=null;for(N in u)if(v=u[N],u.hasOwnProperty(N)&&v!=null&&!c.hasOwnProperty(N))switch(N){case"value":break;case"children":break;default:$e(a,i,N,null,c,v)}for(E in c)if(v=c[E],y=u[E],c.hasOwnProperty(E)&&(v!=null||y!=null))switch(E){case"value":H=v;break;case"defaultValue":$=v;break;case"children":break;case"dangerouslySetInnerHTML":if(v!=null)throw Error(r(91));break;default:v!==y&&$e(a,i,E,v,c,y)}hb(a,H,$);return;case"option":for(var oe in u)if(H=u[oe],u.hasOwnProperty(oe)&&H!=null&&!c.hasOwnProperty(oe))switch(oe){case"selected":a.selected=!1;break;default:$e(a,i,oe,null,c,H)}for(M in c)if(H=c[M],$=u[M],c.hasOwnProperty(M)&&H!==$&&(H!=null||$!=null))switch(M){case"selected":a.selected=H&&typeof H!="function"&&typeof H!="symbol";break;default:$e(a,i,M,H,c,$)}return;case"img":case"link":case"area":case"base":case"br":case"col":case"embed":case"hr":case"keygen":case"meta":case"param":case"source":case"track":case"wbr":case"menuitem":for(var ye in u)H=u[ye],u.hasOwnProperty(ye)&&H!=null&&!c.hasOwnProperty(ye)&&$e(a,i,ye,null,c,H);for(U in c)if(H=c[U],$=u[U],c.hasOwnProperty(U)&&H!==$&&(H!=null||$!=null))switch(U){case"children":case"dangerouslySetInnerHTML":if(H!=null)throw Error(r(137,i));break;default:$e(a,i,U,H,c,$)}return;default:if(th(i)){for(var Ye in u)H=u[Ye],u.hasOwnProperty(Ye)&&H!==void 0&&!c.hasOwnProperty(Ye)&&qm(a,i,Ye,void 0,c,H);for(G in c)H=c[G],$=u[G],!c.hasOwnProperty(G)||H===$||H===void 0&&$===void 0||qm(a,i,G,H,c,$);return}}for(var L in u)H=u[L],u.hasOwnProperty(L)&&H!=null&&!c.hasOwnProperty(L)&&$e(a,i,L,null,c,H);for(Z in c)H=c[Z],$=u[Z],!c.hasOwnProperty(Z)||H===$||H==null&&$==null||$e(a,i,Z,H,c,$)}function yw(a){switch(a){case"css":case"script":case"font":case"img":case"image":case"input":case"link":return!0;default:return!1}}function Xk(){if(typeof performance.getEntriesByType=="function"){for(var a=0,i=0,u=performance.getEntriesByType("resource"),c=0;c<u.length;c++){var v=u[c],y=v.transferSize,E=v.initiatorType,N=v.duration;if(y&&N&&yw(E)){for(E=0,N=v.responseEnd,c+=1;c<u.length;c++){var M=u[c],U=M.startTime;if(U>N)break;var G=M.transferSize,Z=M.initiatorType;G&&yw(Z)&&(M=M.responseEnd,E+=G*(M<N?1:(N-U)/(M-U)))}if(--c,i+=8*(y+E)/(v.duration/1e3),a++,10<a)break}}if(0<a)return i/a/1e6}return navigator.connection&&(a=navigator.connection.downlink,typeof a=="number")?a:5}var Hm=null,$m=null;function hc(a){return a.nodeType===9?a:a.ownerDocument}function gw(a){switch(a){case"http://www.w3.org/2000/svg":return 1;case"http://www.w3.org/1998/Math/MathML":return 2;default:return 0}}function bw(a,i){if(a===0)switch(i){case"svg":return 1;case"math":return 2;default:return 0}return a===1&&i==="foreignObject"?0:a}function Ym(a,i){return a==="textarea"||a==="noscript"||typeof i.children=="string"||typeof i.children=="number"||typeof i.children=="bigint"||typeof i.dangerouslySetInnerHTML=="object"&&i.dangerouslySetInnerHTML!==null&&i.dangerouslySetInnerHTML.__html!=null}var Km=null;function Fk(){var a=window.event;return a&&a.type==="popstate"?a===Km?!1:(Km=a,!0):(Km=null,!1)}var xw=typeof setTimeout=="function"?setTimeout:void 0,Wk=typeof clearTimeout=="function"?clearTimeout:void 0,ww=typeof Promise=="function"?Promise:void 0,Zk=typeof queueMicrotask=="function"?queueMicrotask:typeof ww<"u"?function(a){return ww.resolve(null).then(a).catch(Qk)}:xw;function Qk(a){setTimeout(function(){throw a})}function za(a){return a==="head"}function Sw(a,i){var u=i,c=0;do{var v=u.nextSibling;if(a.removeChild(u),v&&v.nodeType===8)if(u=v.data,u==="/$"||u==="/&"){if(c===0){a.removeChild(v),Nl(i);return}c--}else if(u==="$"||u==="$?"||u==="$~"||u==="$!"||u==="&")c++;else if(u==="html")eu(a.ownerDocument.documentElement);else if(u==="head"){u=a.ownerDocument.head,eu(u);for(var y=u.firstChild;y;){var E=y.nextSibling,N=y.nodeName;y[go]||N==="SCRIPT"||N==="STYLE"||N==="LINK"&&y.rel.toLowerCase()==="stylesheet"||u.removeChild(y),y=E}}else u==="body"&&eu(a.ownerDocument.body);u=v}while(u);Nl(i)}function Ew(a,i){var u=a;a=0;do{var c=u.nextSibling;if(u.nodeType===1?i?(u._stashedDisplay=u.style.display,u.style.display="none"):(u.style.display=u._stashedDisplay||"",u.getAttribute("style")===""&&u.removeAttribute("style")):u.nodeType===3&&(i?(u._stashedText=u.nodeValue,u.nodeValue=""):u.nodeValue=u._stashedText||""),c&&c.nodeType===8)if(u=c.data,u==="/$"){if(a===0)break;a--}else u!=="$"&&u!=="$?"&&u!=="$~"&&u!=="$!"||a++;u=c}while(u)}function Gm(a){var i=a.firstChild;for(i&&i.nodeType===10&&(i=i.nextSibling);i;){var u=i;switch(i=i.nextSibling,u.nodeName){case"HTML":case"HEAD":case"BODY":Gm(u),Zd(u);continue;case"SCRIPT":case"STYLE":continue;case"LINK":if(u.rel.toLowerCase()==="stylesheet")continue}a.removeChild(u)}}function Jk(a,i,u,c){for(;a.nodeType===1;){var v=u;if(a.nodeName.toLowerCase()!==i.toLowerCase()){if(!c&&(a.nodeName!=="INPUT"||a.type!=="hidden"))break}else if(c){if(!a[go])switch(i){case"meta":if(!a.hasAttribute("itemprop"))break;return a;case"link":if(y=a.getAttribute("rel"),y==="stylesheet"&&a.hasAttribute("data-precedence"))break;if(y!==v.rel||a.getAttribute("href")!==(v.href==null||v.href===""?null:v.href)||a.getAttribute("crossorigin")!==(v.crossOrigin==null?null:v.crossOrigin)||a.getAttribute("title")!==(v.title==null?null:v.title))break;return a;case"style":if(a.hasAttribute("data-precedence"))break;return a;case"script":if(y=a.getAttribute("src"),(y!==(v.src==null?null:v.src)||a.getAttribute("type")!==(v.type==null?null:v.type)||a.getAttribute("crossorigin")!==(v.crossOrigin==null?null:v.crossOrigin))&&y&&a.hasAttribute("async")&&!a.hasAttribute("itemprop"))break;return a;default:return a}}else if(i==="input"&&a.type==="hidden"){var y=v.name==null?null:""+v.name;if(v.type==="hidden"&&a.getAttribute("name")===y)return a}else return a;if(a=Yn(a.nextSibling),a===null)break}return null}function eP(a,i,u){if(i==="")return null;for(;a.nodeType!==3;)if((a.nodeType!==1||a.nodeName!=="INPUT"||a.type!=="hidden")&&!u||(a=Yn(a.nextSibling),a===null))return null;return a}function Ow(a,i){for(;a.nodeType!==8;)if((a.nodeType!==1||a.nodeName!=="INPUT"||a.type!=="hidden")&&!i||(a=Yn(a.nextSibling),a===null))return null;return a}function Vm(a){return a.data==="$?"||a.data==="$~"}function Xm(a){return a.data==="$!"||a.data==="$?"&&a.ownerDocument.readyState!=="loading"}function tP(a,i){var u=a.ownerDocument;if(a.data==="$~")a._reactRetry=i;else if(a.data!=="$?"||u.readyState!=="loading")i();else{var c=function(){i(),u.removeEventListener("DOMContentLoaded",c)};u.addEventListener("DOMContentLoaded",c),a._reactRetry=c}}function Yn(a){for(;a!=null;a=a.nextSibling){var i=a.nodeType;if(i===1||i===3)break;if(i===8){if(i=a.data,i==="$"||i==="$!"||i==="$?"||i==="$~"||i==="&"||i==="F!"||i==="F")break;if(i==="/$"||i==="/&")return null}}return a}var Fm=null;function Aw(a){a=a.nextSibling;for(var i=0;a;){if(a.nodeType===8){var u=a.data;if(u==="/$"||u==="/&"){if(i===0)return Yn(a.nextSibling);i--}else u!=="$"&&u!=="$!"&&u!=="$?"&&u!=="$~"&&u!=="&"||i++}a=a.nextSibling}return null}function jw(a){a=a.previousSibling;for(var i=0;a;){if(a.nodeType===8){var u=a.data;if(u==="$"||u==="$!"||u==="$?"||u==="$~"||u==="&"){if(i===0)return a;i--}else u!=="/$"&&u!=="/&"||i++}a=a.previousSibling}return null}function Nw(a,i,u){switch(i=hc(u),a){case"html":if(a=i.documentElement,!a)throw Error(r(452));return a;case"head":if(a=i.head,!a)throw Error(r(453));return a;case"body":if(a=i.body,!a)throw Error(r(454));return a;default:throw Error(r(451))}}function eu(a){for(var i=a.attributes;i.length;)a.removeAttributeNode(i[0]);Zd(a)}var Kn=new Map,Cw=new Set;function mc(a){return typeof a.getRootNode=="function"?a.getRootNode():a.nodeType===9?a:a.ownerDocument}var Yr=Q.d;Q.d={f:nP,r:rP,D:aP,C:iP,L:lP,m:oP,X:sP,S:uP,M:cP};function nP(){var a=Yr.f(),i=ic();return a||i}function rP(a){var i=Gi(a);i!==null&&i.tag===5&&i.type==="form"?Kx(i):Yr.r(a)}var Ol=typeof document>"u"?null:document;function _w(a,i,u){var c=Ol;if(c&&typeof i=="string"&&i){var v=Ln(i);v='link[rel="'+a+'"][href="'+v+'"]',typeof u=="string"&&(v+='[crossorigin="'+u+'"]'),Cw.has(v)||(Cw.add(v),a={rel:a,crossOrigin:u,href:i},c.querySelector(v)===null&&(i=c.createElement("link"),Vt(i,"link",a),kt(i),c.head.appendChild(i)))}}function aP(a){Yr.D(a),_w("dns-prefetch",a,null)}function iP(a,i){Yr.C(a,i),_w("preconnect",a,i)}function lP(a,i,u){Yr.L(a,i,u);var c=Ol;if(c&&a&&i){var v='link[rel="preload"][as="'+Ln(i)+'"]';i==="image"&&u&&u.imageSrcSet?(v+='[imagesrcset="'+Ln(u.imageSrcSet)+'"]',typeof u.imageSizes=="string"&&(v+='[imagesizes="'+Ln(u.imageSizes)+'"]')):v+='[href="'+Ln(a)+'"]';var y=v;switch(i){case"style":y=Al(a);break;case"script":y=jl(a)}Kn.has(y)||(a=p({rel:"preload",href:i==="image"&&u&&u.imageSrcSet?void 0:a,as:i},u),Kn.set(y,a),c.querySelector(v)!==null||i==="style"&&c.querySelector(tu(y))||i==="script"&&c.querySelector(nu(y))||(i=c.createElement("link"),Vt(i,"link",a),kt(i),c.head.appendChild(i)))}}function oP(a,i){Yr.m(a,i);var u=Ol;if(u&&a){var c=i&&typeof i.as=="string"?i.as:"script",v='link[rel="modulepreload"][as="'+Ln(c)+'"][href="'+Ln(a)+'"]',y=v;switch(c){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":y=jl(a)}if(!Kn.has(y)&&(a=p({rel:"modulepreload",href:a},i),Kn.set(y,a),u.querySelector(v)===null)){switch(c){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":if(u.querySelector(nu(y)))return}c=u.createElement("link"),Vt(c,"link",a),kt(c),u.head.appendChild(c)}}}function uP(a,i,u){Yr.S(a,i,u);var c=Ol;if(c&&a){var v=Vi(c).hoistableStyles,y=Al(a);i=i||"default";var E=v.get(y);if(!E){var N={loading:0,preload:null};if(E=c.querySelector(tu(y)))N.loading=5;else{a=p({rel:"stylesheet",href:a,"data-precedence":i},u),(u=Kn.get(y))&&Wm(a,u);var M=E=c.createElement("link");kt(M),Vt(M,"link",a),M._p=new Promise(function(U,G){M.onload=U,M.onerror=G}),M.addEventListener("load",function(){N.loading|=1}),M.addEventListener("error",function(){N.loading|=2}),N.loading|=4,vc(E,i,c)}E={type:"stylesheet",instance:E,count:1,state:N},v.set(y,E)}}}function sP(a,i){Yr.X(a,i);var u=Ol;if(u&&a){var c=Vi(u).hoistableScripts,v=jl(a),y=c.get(v);y||(y=u.querySelector(nu(v)),y||(a=p({src:a,async:!0},i),(i=Kn.get(v))&&Zm(a,i),y=u.createElement("script"),kt(y),Vt(y,"link",a),u.head.appendChild(y)),y={type:"script",instance:y,count:1,state:null},c.set(v,y))}}function cP(a,i){Yr.M(a,i);var u=Ol;if(u&&a){var c=Vi(u).hoistableScripts,v=jl(a),y=c.get(v);y||(y=u.querySelector(nu(v)),y||(a=p({src:a,async:!0,type:"module"},i),(i=Kn.get(v))&&Zm(a,i),y=u.createElement("script"),kt(y),Vt(y,"link",a),u.head.appendChild(y)),y={type:"script",instance:y,count:1,state:null},c.set(v,y))}}function Tw(a,i,u,c){var v=(v=we.current)?mc(v):null;if(!v)throw Error(r(446));switch(a){case"meta":case"title":return null;case"style":return typeof u.precedence=="string"&&typeof u.href=="string"?(i=Al(u.href),u=Vi(v).hoistableStyles,c=u.get(i),c||(c={type:"style",instance:null,count:0,state:null},u.set(i,c)),c):{type:"void",instance:null,count:0,state:null};case"link":if(u.rel==="stylesheet"&&typeof u.href=="string"&&typeof u.precedence=="string"){a=Al(u.href);var y=Vi(v).hoistableStyles,E=y.get(a);if(E||(v=v.ownerDocument||v,E={type:"stylesheet",instance:null,count:0,state:{loading:0,preload:null}},y.set(a,E),(y=v.querySelector(tu(a)))&&!y._p&&(E.instance=y,E.state.loading=5),Kn.has(a)||(u={rel:"preload",as:"style",href:u.href,crossOrigin:u.crossOrigin,integrity:u.integrity,media:u.media,hrefLang:u.hrefLang,referrerPolicy:u.referrerPolicy},Kn.set(a,u),y||fP(v,a,u,E.state))),i&&c===null)throw Error(r(528,""));return E}if(i&&c!==null)throw Error(r(529,""));return null;case"script":return i=u.async,u=u.src,typeof u=="string"&&i&&typeof i!="function"&&typeof i!="symbol"?(i=jl(u),u=Vi(v).hoistableScripts,c=u.get(i),c||(c={type:"script",instance:null,count:0,state:null},u.set(i,c)),c):{type:"void",instance:null,count:0,state:null};default:throw Error(r(444,a))}}function Al(a){return'href="'+Ln(a)+'"'}function tu(a){return'link[rel="stylesheet"]['+a+"]"}function Mw(a){return p({},a,{"data-precedence":a.precedence,precedence:null})}function fP(a,i,u,c){a.querySelector('link[rel="preload"][as="style"]['+i+"]")?c.loading=1:(i=a.createElement("link"),c.preload=i,i.addEventListener("load",function(){return c.loading|=1}),i.addEventListener("error",function(){return c.loading|=2}),Vt(i,"link",u),kt(i),a.head.appendChild(i))}function jl(a){return'[src="'+Ln(a)+'"]'}function nu(a){return"script[async]"+a}function Dw(a,i,u){if(i.count++,i.instance===null)switch(i.type){case"style":var c=a.querySelector('style[data-href~="'+Ln(u.href)+'"]');if(c)return i.instance=c,kt(c),c;var v=p({},u,{"data-href":u.href,"data-precedence":u.precedence,href:null,precedence:null});return c=(a.ownerDocument||a).createElement("style"),kt(c),Vt(c,"style",v),vc(c,u.precedence,a),i.instance=c;case"stylesheet":v=Al(u.href);var y=a.querySelector(tu(v));if(y)return i.state.loading|=4,i.instance=y,kt(y),y;c=Mw(u),(v=Kn.get(v))&&Wm(c,v),y=(a.ownerDocument||a).createElement("link"),kt(y);var E=y;return E._p=new Promise(function(N,M){E.onload=N,E.onerror=M}),Vt(y,"link",c),i.state.loading|=4,vc(y,u.precedence,a),i.instance=y;case"script":return y=jl(u.src),(v=a.querySelector(nu(y)))?(i.instance=v,kt(v),v):(c=u,(v=Kn.get(y))&&(c=p({},u),Zm(c,v)),a=a.ownerDocument||a,v=a.createElement("script"),kt(v),Vt(v,"link",c),a.head.appendChild(v),i.instance=v);case"void":return null;default:throw Error(r(443,i.type))}else i.type==="stylesheet"&&(i.state.loading&4)===0&&(c=i.instance,i.state.loading|=4,vc(c,u.precedence,a));return i.instance}function vc(a,i,u){for(var c=u.querySelectorAll('link[rel="stylesheet"][data-precedence],style[data-precedence]'),v=c.length?c[c.length-1]:null,y=v,E=0;E<c.length;E++){var N=c[E];if(N.dataset.precedence===i)y=N;else if(y!==v)break}y?y.parentNode.insertBefore(a,y.nextSibling):(i=u.nodeType===9?u.head:u,i.insertBefore(a,i.firstChild))}function Wm(a,i){a.crossOrigin==null&&(a.crossOrigin=i.crossOrigin),a.referrerPolicy==null&&(a.referrerPolicy=i.referrerPolicy),a.title==null&&(a.title=i.title)}function Zm(a,i){a.crossOrigin==null&&(a.crossOrigin=i.crossOrigin),a.referrerPolicy==null&&(a.referrerPolicy=i.referrerPolicy),a.integrity==null&&(a.integrity=i.integrity)}var pc=null;function kw(a,i,u){if(pc===null){var c=new Map,v=pc=new Map;v.set(u,c)}else v=pc,c=v.get(u),c||(c=new Map,v.set(u,c));if(c.has(a))return c;for(c.set(a,null),u=u.getElementsByTagName(a),v=0;v<u.length;v++){var y=u[v];if(!(y[go]||y[$t]||a==="link"&&y.getAttribute("rel")==="stylesheet")&&y.namespaceURI!=="http://www.w3.org/2000/svg"){var E=y.getAttribute(i)||"";E=a+E;var N=c.get(E);N?N.push(y):c.set(E,[y])}}return c}function Pw(a,i,u){a=a.ownerDocument||a,a.head.insertBefore(u,i==="title"?a.querySelector("head > title"):null)}function dP(a,i,u){if(u===1||i.itemProp!=null)return!1;switch(a){case"meta":case"title":return!0;case"style":if(typeof i.precedence!="string"||typeof i.href!="string"||i.href==="")break;return!0;case"link":if(typeof i.rel!="string"||typeof i.href!="string"||i.href===""||i.onLoad||i.onError)break;switch(i.rel){case"stylesheet":return a=i.disabled,typeof i.precedence=="string"&&a==null;default:return!0}case"script":if(i.async&&typeof i.async!="function"&&typeof i.async!="symbol"&&!i.onLoad&&!i.onError&&i.src&&typeof i.src=="string")return!0}return!1}function Rw(a){return!(a.type==="stylesheet"&&(a.state.loading&3)===0)}function hP(a,i,u,c){if(u.type==="stylesheet"&&(typeof c.media!="string"||matchMedia(c.media).matches!==!1)&&(u.state.loading&4)===0){if(u.instance===null){var v=Al(c.href),y=i.querySelector(tu(v));if(y){i=y._p,i!==null&&typeof i=="object"&&typeof i.then=="function"&&(a.count++,a=yc.bind(a),i.then(a,a)),u.state.loading|=4,u.instance=y,kt(y);return}y=i.ownerDocument||i,c=Mw(c),(v=Kn.get(v))&&Wm(c,v),y=y.createElement("link"),kt(y);var E=y;E._p=new Promise(function(N,M){E.onload=N,E.onerror=M}),Vt(y,"link",c),u.instance=y}a.stylesheets===null&&(a.stylesheets=new Map),a.stylesheets.set(u,i),(i=u.state.preload)&&(u.state.loading&3)===0&&(a.count++,u=yc.bind(a),i.addEventListener("load",u),i.addEventListener("error",u))}}var Qm=0;function mP(a,i){return a.stylesheets&&a.count===0&&bc(a,a.stylesheets),0<a.count||0<a.imgCount?function(u){var c=setTimeout(function(){if(a.stylesheets&&bc(a,a.stylesheets),a.unsuspend){var y=a.unsuspend;a.unsuspend=null,y()}},6e4+i);0<a.imgBytes&&Qm===0&&(Qm=62500*Xk());var v=setTimeout(function(){if(a.waitingForImages=!1,a.count===0&&(a.stylesheets&&bc(a,a.stylesheets),a.unsuspend)){var y=a.unsuspend;a.unsuspend=null,y()}},(a.imgBytes>Qm?50:800)+i);return a.unsuspend=u,function(){a.unsuspend=null,clearTimeout(c),clearTimeout(v)}}:null}function yc(){if(this.count--,this.count===0&&(this.imgCount===0||!this.waitingForImages)){if(this.stylesheets)bc(this,this.stylesheets);else if(this.unsuspend){var a=this.unsuspend;this.unsuspend=null,a()}}}var gc=null;function bc(a,i){a.stylesheets=null,a.unsuspend!==null&&(a.count++,gc=new Map,i.forEach(vP,a),gc=null,yc.call(a))}function vP(a,i){if(!(i.state.loading&4)){var u=gc.get(a);if(u)var c=u.get(null);else{u=new Map,gc.set(a,u);for(var v=a.querySelectorAll("link[data-precedence],style[data-precedence]"),y=0;y<v.length;y++){var E=v[y];(E.nodeName==="LINK"||E.getAttribute("media")!=="not all")&&(u.set(E.dataset.precedence,E),c=E)}c&&u.set(null,c)}v=i.instance,E=v.getAttribute("data-precedence"),y=u.get(E)||c,y===c&&u.set(null,v),u.set(E,v),this.count++,c=yc.bind(this),v.addEventListener("load",c),v.addEventListener("error",c),y?y.parentNode.insertBefore(v,y.nextSibling):(a=a.nodeType===9?a.head:a,a.insertBefore(v,a.firstChild)),i.state.loading|=4}}var ru={$$typeof:C,Provider:null,Consumer:null,_currentValue:X,_currentValue2:X,_threadCount:0};function pP(a,i,u,c,v,y,E,N,M){this.tag=1,this.containerInfo=a,this.pingCache=this.current=this.pendingChildren=null,this.timeoutHandle=-1,this.callbackNode=this.next=this.pendingContext=this.context=this.cancelPendingCommit=null,this.callbackPriority=0,this.expirationTimes=Vd(-1),this.entangledLanes=this.shellSuspendCounter=this.errorRecoveryDisabledLanes=this.expiredLanes=this.warmLanes=this.pingedLanes=this.suspendedLanes=this.pendingLanes=0,this.entanglements=Vd(0),this.hiddenUpdates=Vd(null),this.identifierPrefix=c,this.onUncaughtError=v,this.onCaughtError=y,this.onRecoverableError=E,this.pooledCache=null,this.pooledCacheLanes=0,this.formState=M,this.incompleteTransitions=new Map}function zw(a,i,u,c,v,y,E,N,M,U,G,Z){return a=new pP(a,i,u,E,M,U,G,Z,N),i=1,y===!0&&(i|=24),y=On(3,null,null,i),a.current=y,y.stateNode=a,i=Mh(),i.refCount++,a.pooledCache=i,i.refCount++,y.memoizedState={element:c,isDehydrated:u,cache:i},Rh(y),a}function Lw(a){return a?(a=rl,a):rl}function Bw(a,i,u,c,v,y){v=Lw(v),c.context===null?c.context=v:c.pendingContext=v,c=Aa(i),c.payload={element:u},y=y===void 0?null:y,y!==null&&(c.callback=y),u=ja(a,c,i),u!==null&&(vn(u,a,i),Ro(u,a,i))}function Uw(a,i){if(a=a.memoizedState,a!==null&&a.dehydrated!==null){var u=a.retryLane;a.retryLane=u!==0&&u<i?u:i}}function Jm(a,i){Uw(a,i),(a=a.alternate)&&Uw(a,i)}function Iw(a){if(a.tag===13||a.tag===31){var i=li(a,67108864);i!==null&&vn(i,a,67108864),Jm(a,67108864)}}function qw(a){if(a.tag===13||a.tag===31){var i=_n();i=Xd(i);var u=li(a,i);u!==null&&vn(u,a,i),Jm(a,i)}}var xc=!0;function yP(a,i,u,c){var v=q.T;q.T=null;var y=Q.p;try{Q.p=2,ev(a,i,u,c)}finally{Q.p=y,q.T=v}}function gP(a,i,u,c){var v=q.T;q.T=null;var y=Q.p;try{Q.p=8,ev(a,i,u,c)}finally{Q.p=y,q.T=v}}function ev(a,i,u,c){if(xc){var v=tv(c);if(v===null)Im(a,i,c,wc,u),$w(a,c);else if(xP(v,a,i,u,c))c.stopPropagation();else if($w(a,c),i&4&&-1<bP.indexOf(a)){for(;v!==null;){var y=Gi(v);if(y!==null)switch(y.tag){case 3:if(y=y.stateNode,y.current.memoizedState.isDehydrated){var E=ti(y.pendingLanes);if(E!==0){var N=y;for(N.pendingLanes|=2,N.entangledLanes|=2;E;){var M=1<<31-Sn(E);N.entanglements[1]|=M,E&=~M}pr(y),(Le&6)===0&&(rc=xn()+500,Zo(0))}}break;case 31:case 13:N=li(y,2),N!==null&&vn(N,y,2),ic(),Jm(y,2)}if(y=tv(c),y===null&&Im(a,i,c,wc,u),y===v)break;v=y}v!==null&&c.stopPropagation()}else Im(a,i,c,null,u)}}function tv(a){return a=rh(a),nv(a)}var wc=null;function nv(a){if(wc=null,a=Ki(a),a!==null){var i=o(a);if(i===null)a=null;else{var u=i.tag;if(u===13){if(a=s(i),a!==null)return a;a=null}else if(u===31){if(a=f(i),a!==null)return a;a=null}else if(u===3){if(i.stateNode.current.memoizedState.isDehydrated)return i.tag===3?i.stateNode.containerInfo:null;a=null}else i!==a&&(a=null)}}return wc=a,null}function Hw(a){switch(a){case"beforetoggle":case"cancel":case"click":case"close":case"contextmenu":case"copy":case"cut":case"auxclick":case"dblclick":case"dragend":case"dragstart":case"drop":case"focusin":case"focusout":case"input":case"invalid":case"keydown":case"keypress":case"keyup":case"mousedown":case"mouseup":case"paste":case"pause":case"play":case"pointercancel":case"pointerdown":case"pointerup":case"ratechange":case"reset":case"resize":case"seeked":case"submit":case"toggle":case"touchcancel":case"touchend":case"touchstart":case"volumechange":case"change":case"selectionchange":case"textInput":case"compositionstart":case"compositionend":case"compositionupdate":case"beforeblur":case"afterblur":case"beforeinput":case"blur":case"fullscreenchange":case"focus":case"hashchange":case"popstate":case"select":case"selectstart":return 2;case"drag":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"mousemove":case"mouseout":case"mouseover":case"pointermove":case"pointerout":case"pointerover":case"scroll":case"touchmove":case"wheel":case"mouseenter":case"mouseleave":case"pointerenter":case"pointerleave":return 8;case"message":switch(aD()){case W0:return 2;case Z0:return 8;case cs:case iD:return 32;case Q0:return 268435456;default:return 32}default:return 32}}var rv=!1,La=null,Ba=null,Ua=null,au=new Map,iu=new Map,Ia=[],bP="mousedown mouseup touchcancel touchend touchstart auxclick dblclick pointercancel pointerdown pointerup dragend dragstart drop compositionend compositionstart keydown keypress keyup input textInput copy cut paste click change contextmenu reset".split(" ");function $w(a,i){switch(a){case"focusin":case"focusout":La=null;break;case"dragenter":case"dragleave":Ba=null;break;case"mouseover":case"mouseout":Ua=null;break;case"pointerover":case"pointerout":au.delete(i.pointerId);break;case"gotpointercapture":case"lostpointercapture":iu.delete(i.pointerId)}}function lu(a,i,u,c,v,y){return a===null||a.nativeEvent!==y?(a={blockedOn:i,domEventName:u,eventSystemFlags:c,nativeEvent:y,targetContainers:[v]},i!==null&&(i=Gi(i),i!==null&&Iw(i)),a):(a.eventSystemFlags|=c,i=a.targetContainers,v!==null&&i.indexOf(v)===-1&&i.push(v),a)}function xP(a,i,u,c,v){switch(i){case"focusin":return La=lu(La,a,i,u,c,v),!0;case"dragenter":return Ba=lu(Ba,a,i,u,c,v),!0;case"mouseover":return Ua=lu(Ua,a,i,u,c,v),!0;case"pointerover":var y=v.pointerId;return au.set(y,lu(au.get(y)||null,a,i,u,c,v)),!0;case"gotpointercapture":return y=v.pointerId,iu.set(y,lu(iu.get(y)||null,a,i,u,c,v)),!0}return!1}function Yw(a){var i=Ki(a.target);if(i!==null){var u=o(i);if(u!==null){if(i=u.tag,i===13){if(i=s(u),i!==null){a.blockedOn=i,ab(a.priority,function(){qw(u)});return}}else if(i===31){if(i=f(u),i!==null){a.blockedOn=i,ab(a.priority,function(){qw(u)});return}}else if(i===3&&u.stateNode.current.memoizedState.isDehydrated){a.blockedOn=u.tag===3?u.stateNode.containerInfo:null;return}}}a.blockedOn=null}function Sc(a){if(a.blockedOn!==null)return!1;for(var i=a.targetContainers;0<i.length;){var u=tv(a.nativeEvent);if(u===null){u=a.nativeEvent;var c=new u.constructor(u.type,u);nh=c,u.target.dispatchEvent(c),nh=null}else return i=Gi(u),i!==null&&Iw(i),a.blockedOn=u,!1;i.shift()}return!0}function Kw(a,i,u){Sc(a)&&u.delete(i)}function wP(){rv=!1,La!==null&&Sc(La)&&(La=null),Ba!==null&&Sc(Ba)&&(Ba=null),Ua!==null&&Sc(Ua)&&(Ua=null),au.forEach(Kw),iu.forEach(Kw)}function Ec(a,i){a.blockedOn===i&&(a.blockedOn=null,rv||(rv=!0,e.unstable_scheduleCallback(e.unstable_NormalPriority,wP)))}var Oc=null;function Gw(a){Oc!==a&&(Oc=a,e.unstable_scheduleCallback(e.unstable_NormalPriority,function(){Oc===a&&(Oc=null);for(var i=0;i<a.length;i+=3){var u=a[i],c=a[i+1],v=a[i+2];if(typeof c!="function"){if(nv(c||u)===null)continue;break}var y=Gi(u);y!==null&&(a.splice(i,3),i-=3,tm(y,{pending:!0,data:v,method:u.method,action:c},c,v))}}))}function Nl(a){function i(M){return Ec(M,a)}La!==null&&Ec(La,a),Ba!==null&&Ec(Ba,a),Ua!==null&&Ec(Ua,a),au.forEach(i),iu.forEach(i);for(var u=0;u<Ia.length;u++){var c=Ia[u];c.blockedOn===a&&(c.blockedOn=null)}for(;0<Ia.length&&(u=Ia[0],u.blockedOn===null);)Yw(u),u.blockedOn===null&&Ia.shift();if(u=(a.ownerDocument||a).$$reactFormReplay,u!=null)for(c=0;c<u.length;c+=3){var v=u[c],y=u[c+1],E=v[sn]||null;if(typeof y=="function")E||Gw(u);else if(E){var N=null;if(y&&y.hasAttribute("formAction")){if(v=y,E=y[sn]||null)N=E.formAction;else if(nv(v)!==null)continue}else N=E.action;typeof N=="function"?u[c+1]=N:(u.splice(c,3),c-=3),Gw(u)}}}function Vw(){function a(y){y.canIntercept&&y.info==="react-transition"&&y.intercept({handler:function(){return new Promise(function(E){return v=E})},focusReset:"manual",scroll:"manual"})}function i(){v!==null&&(v(),v=null),c||setTimeout(u,20)}function u(){if(!c&&!navigation.transition){var y=navigation.currentEntry;y&&y.url!=null&&navigation.navigate(y.url,{state:y.getState(),info:"react-transition",history:"replace"})}}if(typeof navigation=="object"){var c=!1,v=null;return navigation.addEventListener("navigate",a),navigation.addEventListener("navigatesuccess",i),navigation.addEventListener("navigateerror",i),setTimeout(u,100),function(){c=!0,navigation.removeEventListener("navigate",a),navigation.removeEventListener("navigatesuccess",i),navigation.removeEventListener("navigateerror",i),v!==null&&(v(),v=null)}}}function av(a){this._internalRoot=a}Ac.prototype.render=av.prototype.render=function(a){var i=this._internalRoot;if(i===null)throw Error(r(409));var u=i.current,c=_n();Bw(u,c,a,i,null,null)},Ac.prototype.unmount=av.prototype.unmount=function(){var a=this._internalRoot;if(a!==null){this._internalRoot=null;var i=a.containerInfo;Bw(a.current,2,null,a,null,null),ic(),i[Yi]=null}};function Ac(a){this._internalRoot=a}Ac.prototype.unstable_scheduleHydration=function(a){if(a){var i=rb();a={blockedOn:null,target:a,priority:i};for(var u=0;u<Ia.length&&i!==0&&i<Ia[u].priority;u++);Ia.splice(u,0,a),u===0&&Yw(a)}};var Xw=t.version;if(Xw!=="19.2.1")throw Error(r(527,Xw,"19.2.1"));Q.findDOMNode=function(a){var i=a._reactInternals;if(i===void 0)throw typeof a.render=="function"?Error(r(188)):(a=Object.keys(a).join(","),Error(r(268,a)));return a=h(i),a=a!==null?m(a):null,a=a===null?null:a.stateNode,a};var SP={bundleType:0,version:"19.2.1",rendererPackageName:"react-dom",currentDispatcherRef:q,reconcilerVersion:"19.2.1"};if(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__<"u"){var jc=__REACT_DEVTOOLS_GLOBAL_HOOK__;if(!jc.isDisabled&&jc.supportsFiber)try{vo=jc.inject(SP),wn=jc}catch{}}return uu.createRoot=function(a,i){if(!l(a))throw Error(r(299));var u=!1,c="",v=t1,y=n1,E=r1;return i!=null&&(i.unstable_strictMode===!0&&(u=!0),i.identifierPrefix!==void 0&&(c=i.identifierPrefix),i.onUncaughtError!==void 0&&(v=i.onUncaughtError),i.onCaughtError!==void 0&&(y=i.onCaughtError),i.onRecoverableError!==void 0&&(E=i.onRecoverableError)),i=zw(a,1,!1,null,null,u,c,null,v,y,E,Vw),a[Yi]=i.current,Um(a),new av(i)},uu.hydrateRoot=function(a,i,u){if(!l(a))throw Error(r(299));var c=!1,v="",y=t1,E=n1,N=r1,M=null;return u!=null&&(u.unstable_strictMode===!0&&(c=!0),u.identifierPrefix!==void 0&&(v=u.identifierPrefix),u.onUncaughtError!==void 0&&(y=u.onUncaughtError),u.onCaughtError!==void 0&&(E=u.onCaughtError),u.onRecoverableError!==void 0&&(N=u.onRecoverableError),u.formState!==void 0&&(M=u.formState)),i=zw(a,1,!0,i,u??null,c,v,M,y,E,N,Vw),i.context=Lw(null),u=i.current,c=_n(),c=Xd(c),v=Aa(c),v.callback=null,ja(u,v,c),u=c,i.current.lanes=u,yo(i,u),pr(i),a[Yi]=i.current,Um(a),new Ac(i)},uu.version="19.2.1",uu}var aS;function DP(){if(aS)return ov.exports;aS=1;function e(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(e)}catch(t){console.error(t)}}return e(),ov.exports=MP(),ov.exports}var kP=DP();var iS="popstate";function PP(e={}){function t(r,l){let{pathname:o,search:s,hash:f}=r.location;return Jp("",{pathname:o,search:s,hash:f},l.state&&l.state.usr||null,l.state&&l.state.key||"default")}function n(r,l){return typeof l=="string"?l:Su(l)}return zP(t,n,null,e)}function rt(e,t){if(e===!1||e===null||typeof e>"u")throw new Error(t)}function Wn(e,t){if(!e){typeof console<"u"&&console.warn(t);try{throw new Error(t)}catch{}}}function RP(){return Math.random().toString(36).substring(2,10)}function lS(e,t){return{usr:e.state,key:e.key,idx:t}}function Jp(e,t,n=null,r){return{pathname:typeof e=="string"?e:e.pathname,search:"",hash:"",...typeof t=="string"?Wl(t):t,state:n,key:t&&t.key||r||RP()}}function Su({pathname:e="/",search:t="",hash:n=""}){return t&&t!=="?"&&(e+=t.charAt(0)==="?"?t:"?"+t),n&&n!=="#"&&(e+=n.charAt(0)==="#"?n:"#"+n),e}function Wl(e){let t={};if(e){let n=e.indexOf("#");n>=0&&(t.hash=e.substring(n),e=e.substring(0,n));let r=e.indexOf("?");r>=0&&(t.search=e.substring(r),e=e.substring(0,r)),e&&(t.pathname=e)}return t}function zP(e,t,n,r={}){let{window:l=document.defaultView,v5Compat:o=!1}=r,s=l.history,f="POP",d=null,h=m();h==null&&(h=0,s.replaceState({...s.state,idx:h},""));function m(){return(s.state||{idx:null}).idx}function p(){f="POP";let S=m(),j=S==null?null:S-h;h=S,d&&d({action:f,location:A.location,delta:j})}function x(S,j){f="PUSH";let _=Jp(A.location,S,j);h=m()+1;let C=lS(_,h),D=A.createHref(_);try{s.pushState(C,"",D)}catch(T){if(T instanceof DOMException&&T.name==="DataCloneError")throw T;l.location.assign(D)}o&&d&&d({action:f,location:A.location,delta:1})}function w(S,j){f="REPLACE";let _=Jp(A.location,S,j);h=m();let C=lS(_,h),D=A.createHref(_);s.replaceState(C,"",D),o&&d&&d({action:f,location:A.location,delta:0})}function O(S){return LP(S)}let A={get action(){return f},get location(){return e(l,s)},listen(S){if(d)throw new Error("A history only accepts one active listener");return l.addEventListener(iS,p),d=S,()=>{l.removeEventListener(iS,p),d=null}},createHref(S){return t(l,S)},createURL:O,encodeLocation(S){let j=O(S);return{pathname:j.pathname,search:j.search,hash:j.hash}},push:x,replace:w,go(S){return s.go(S)}};return A}function LP(e,t=!1){let n="http://localhost";typeof window<"u"&&(n=window.location.origin!=="null"?window.location.origin:window.location.href),rt(n,"No window.location.(origin|href) available to create URL");let r=typeof e=="string"?e:Su(e);return r=r.replace(/ $/,"%20"),!t&&r.startsWith("//")&&(r=n+r),new URL(r,n)}function R2(e,t,n="/"){return BP(e,t,n,!1)}function BP(e,t,n,r){let l=typeof t=="string"?Wl(t):t,o=ea(l.pathname||"/",n);if(o==null)return null;let s=z2(e);UP(s);let f=null;for(let d=0;f==null&&d<s.length;++d){let h=WP(o);f=XP(s[d],h,r)}return f}function z2(e,t=[],n=[],r="",l=!1){let o=(s,f,d=l,h)=>{let m={relativePath:h===void 0?s.path||"":h,caseSensitive:s.caseSensitive===!0,childrenIndex:f,route:s};if(m.relativePath.startsWith("/")){if(!m.relativePath.startsWith(r)&&d)return;rt(m.relativePath.startsWith(r),`Absolute route path "${m.relativePath}" nested under path "${r}" is not valid. An absolute child route path must start with the combined path of all its parent routes.`),m.relativePath=m.relativePath.slice(r.length)}let p=Zr([r,m.relativePath]),x=n.concat(m);s.children&&s.children.length>0&&(rt(s.index!==!0,`Index routes must not have child routes. Please remove all child routes from route path "${p}".`),z2(s.children,t,x,p,d)),!(s.path==null&&!s.index)&&t.push({path:p,score:GP(p,s.index),routesMeta:x})};return e.forEach((s,f)=>{if(s.path===""||!s.path?.includes("?"))o(s,f);else for(let d of L2(s.path))o(s,f,!0,d)}),t}function L2(e){let t=e.split("/");if(t.length===0)return[];let[n,...r]=t,l=n.endsWith("?"),o=n.replace(/\?$/,"");if(r.length===0)return l?[o,""]:[o];let s=L2(r.join("/")),f=[];return f.push(...s.map(d=>d===""?o:[o,d].join("/"))),l&&f.push(...s),f.map(d=>e.startsWith("/")&&d===""?"/":d)}function UP(e){e.sort((t,n)=>t.score!==n.score?n.score-t.score:VP(t.routesMeta.map(r=>r.childrenIndex),n.routesMeta.map(r=>r.childrenIndex)))}var IP=/^:[\w-]+$/,qP=3,HP=2,$P=1,YP=10,KP=-2,oS=e=>e==="*";function GP(e,t){let n=e.split("/"),r=n.length;return n.some(oS)&&(r+=KP),t&&(r+=HP),n.filter(l=>!oS(l)).reduce((l,o)=>l+(IP.test(o)?qP:o===""?$P:YP),r)}function VP(e,t){return e.length===t.length&&e.slice(0,-1).every((r,l)=>r===t[l])?e[e.length-1]-t[t.length-1]:0}function XP(e,t,n=!1){let{routesMeta:r}=e,l={},o="/",s=[];for(let f=0;f<r.length;++f){let d=r[f],h=f===r.length-1,m=o==="/"?t:t.slice(o.length)||"/",p=uf({path:d.relativePath,caseSensitive:d.caseSensitive,end:h},m),x=d.route;if(!p&&h&&n&&!r[r.length-1].route.index&&(p=uf({path:d.relativePath,caseSensitive:d.caseSensitive,end:!1},m)),!p)return null;Object.assign(l,p.params),s.push({params:l,pathname:Zr([o,p.pathname]),pathnameBase:tR(Zr([o,p.pathnameBase])),route:x}),p.pathnameBase!=="/"&&(o=Zr([o,p.pathnameBase]))}return s}function uf(e,t){typeof e=="string"&&(e={path:e,caseSensitive:!1,end:!0});let[n,r]=FP(e.path,e.caseSensitive,e.end),l=t.match(n);if(!l)return null;let o=l[0],s=o.replace(/(.)\/+$/,"$1"),f=l.slice(1);return{params:r.reduce((h,{paramName:m,isOptional:p},x)=>{if(m==="*"){let O=f[x]||"";s=o.slice(0,o.length-O.length).replace(/(.)\/+$/,"$1")}const w=f[x];return p&&!w?h[m]=void 0:h[m]=(w||"").replace(/%2F/g,"/"),h},{}),pathname:o,pathnameBase:s,pattern:e}}function FP(e,t=!1,n=!0){Wn(e==="*"||!e.endsWith("*")||e.endsWith("/*"),`Route path "${e}" will be treated as if it were "${e.replace(/\*$/,"/*")}" because the \`*\` character must always follow a \`/\` in the pattern. To get rid of this warning, please change the route path to "${e.replace(/\*$/,"/*")}".`);let r=[],l="^"+e.replace(/\/*\*?$/,"").replace(/^\/*/,"/").replace(/[\\.*+^${}|()[\]]/g,"\\$&").replace(/\/:([\w-]+)(\?)?/g,(s,f,d)=>(r.push({paramName:f,isOptional:d!=null}),d?"/?([^\\/]+)?":"/([^\\/]+)")).replace(/\/([\w-]+)\?(\/|$)/g,"(/$1)?$2");return e.endsWith("*")?(r.push({paramName:"*"}),l+=e==="*"||e==="/*"?"(.*)$":"(?:\\/(.+)|\\/*)$"):n?l+="\\/*$":e!==""&&e!=="/"&&(l+="(?:(?=\\/|$))"),[new RegExp(l,t?void 0:"i"),r]}function WP(e){try{return e.split("/").map(t=>decodeURIComponent(t).replace(/\//g,"%2F")).join("/")}catch(t){return Wn(!1,`The URL path "${e}" could not be decoded because it is a malformed URL segment. This is probably due to a bad percent encoding (${t}).`),e}}function ea(e,t){if(t==="/")return e;if(!e.toLowerCase().startsWith(t.toLowerCase()))return null;let n=t.endsWith("/")?t.length-1:t.length,r=e.charAt(n);return r&&r!=="/"?null:e.slice(n)||"/"}var ZP=/^(?:[a-z][a-z0-9+.-]*:|\/\/)/i,QP=e=>ZP.test(e);function JP(e,t="/"){let{pathname:n,search:r="",hash:l=""}=typeof e=="string"?Wl(e):e,o;if(n)if(QP(n))o=n;else{if(n.includes("//")){let s=n;n=n.replace(/\/\/+/g,"/"),Wn(!1,`Pathnames cannot have embedded double slashes - normalizing ${s} -> ${n}`)}n.startsWith("/")?o=uS(n.substring(1),"/"):o=uS(n,t)}else o=t;return{pathname:o,search:nR(r),hash:rR(l)}}function uS(e,t){let n=t.replace(/\/+$/,"").split("/");return e.split("/").forEach(l=>{l===".."?n.length>1&&n.pop():l!=="."&&n.push(l)}),n.length>1?n.join("/"):"/"}function fv(e,t,n,r){return`Cannot include a '${e}' character in a manually specified \`to.${t}\` field [${JSON.stringify(r)}].  Please separate it out to the \`to.${n}\` field. Alternatively you may provide the full path as a string in <Link to="..."> and the router will parse it for you.`}function eR(e){return e.filter((t,n)=>n===0||t.route.path&&t.route.path.length>0)}function eg(e){let t=eR(e);return t.map((n,r)=>r===t.length-1?n.pathname:n.pathnameBase)}function tg(e,t,n,r=!1){let l;typeof e=="string"?l=Wl(e):(l={...e},rt(!l.pathname||!l.pathname.includes("?"),fv("?","pathname","search",l)),rt(!l.pathname||!l.pathname.includes("#"),fv("#","pathname","hash",l)),rt(!l.search||!l.search.includes("#"),fv("#","search","hash",l)));let o=e===""||l.pathname==="",s=o?"/":l.pathname,f;if(s==null)f=n;else{let p=t.length-1;if(!r&&s.startsWith("..")){let x=s.split("/");for(;x[0]==="..";)x.shift(),p-=1;l.pathname=x.join("/")}f=p>=0?t[p]:"/"}let d=JP(l,f),h=s&&s!=="/"&&s.endsWith("/"),m=(o||s===".")&&n.endsWith("/");return!d.pathname.endsWith("/")&&(h||m)&&(d.pathname+="/"),d}var Zr=e=>e.join("/").replace(/\/\/+/g,"/"),tR=e=>e.replace(/\/+$/,"").replace(/^\/*/,"/"),nR=e=>!e||e==="?"?"":e.startsWith("?")?e:"?"+e,rR=e=>!e||e==="#"?"":e.startsWith("#")?e:"#"+e;function aR(e){return e!=null&&typeof e.status=="number"&&typeof e.statusText=="string"&&typeof e.internal=="boolean"&&"data"in e}function iR(e){return e.map(t=>t.route.path).filter(Boolean).join("/").replace(/\/\/*/g,"/")||"/"}Object.getOwnPropertyNames(Object.prototype).sort().join("\0");var B2=["POST","PUT","PATCH","DELETE"];new Set(B2);var lR=["GET",...B2];new Set(lR);var Zl=g.createContext(null);Zl.displayName="DataRouter";var td=g.createContext(null);td.displayName="DataRouterState";g.createContext(!1);var U2=g.createContext({isTransitioning:!1});U2.displayName="ViewTransition";var oR=g.createContext(new Map);oR.displayName="Fetchers";var uR=g.createContext(null);uR.displayName="Await";var er=g.createContext(null);er.displayName="Navigation";var Iu=g.createContext(null);Iu.displayName="Location";var Ar=g.createContext({outlet:null,matches:[],isDataRoute:!1});Ar.displayName="Route";var ng=g.createContext(null);ng.displayName="RouteError";function sR(e,{relative:t}={}){rt(Ql(),"useHref() may be used only in the context of a <Router> component.");let{basename:n,navigator:r}=g.useContext(er),{hash:l,pathname:o,search:s}=Hu(e,{relative:t}),f=o;return n!=="/"&&(f=o==="/"?n:Zr([n,o])),r.createHref({pathname:f,search:s,hash:l})}function Ql(){return g.useContext(Iu)!=null}function ua(){return rt(Ql(),"useLocation() may be used only in the context of a <Router> component."),g.useContext(Iu).location}var I2="You should call navigate() in a React.useEffect(), not when your component is first rendered.";function q2(e){g.useContext(er).static||g.useLayoutEffect(e)}function qu(){let{isDataRoute:e}=g.useContext(Ar);return e?SR():cR()}function cR(){rt(Ql(),"useNavigate() may be used only in the context of a <Router> component.");let e=g.useContext(Zl),{basename:t,navigator:n}=g.useContext(er),{matches:r}=g.useContext(Ar),{pathname:l}=ua(),o=JSON.stringify(eg(r)),s=g.useRef(!1);return q2(()=>{s.current=!0}),g.useCallback((d,h={})=>{if(Wn(s.current,I2),!s.current)return;if(typeof d=="number"){n.go(d);return}let m=tg(d,JSON.parse(o),l,h.relative==="path");e==null&&t!=="/"&&(m.pathname=m.pathname==="/"?t:Zr([t,m.pathname])),(h.replace?n.replace:n.push)(m,h.state,h)},[t,n,o,l,e])}g.createContext(null);function Hu(e,{relative:t}={}){let{matches:n}=g.useContext(Ar),{pathname:r}=ua(),l=JSON.stringify(eg(n));return g.useMemo(()=>tg(e,JSON.parse(l),r,t==="path"),[e,l,r,t])}function fR(e,t){return H2(e,t)}function H2(e,t,n,r,l){rt(Ql(),"useRoutes() may be used only in the context of a <Router> component.");let{navigator:o}=g.useContext(er),{matches:s}=g.useContext(Ar),f=s[s.length-1],d=f?f.params:{},h=f?f.pathname:"/",m=f?f.pathnameBase:"/",p=f&&f.route;{let _=p&&p.path||"";$2(h,!p||_.endsWith("*")||_.endsWith("*?"),`You rendered descendant <Routes> (or called \`useRoutes()\`) at "${h}" (under <Route path="${_}">) but the parent route path has no trailing "*". This means if you navigate deeper, the parent won't match anymore and therefore the child routes will never render.
-
-Please change the parent <Route path="${_}"> to <Route path="${_==="/"?"*":`${_}/*`}">.`)}let x=ua(),w;if(t){let _=typeof t=="string"?Wl(t):t;rt(m==="/"||_.pathname?.startsWith(m),`When overriding the location using \`<Routes location>\` or \`useRoutes(routes, location)\`, the location pathname must begin with the portion of the URL pathname that was matched by all parent routes. The current pathname base is "${m}" but pathname "${_.pathname}" was given in the \`location\` prop.`),w=_}else w=x;let O=w.pathname||"/",A=O;if(m!=="/"){let _=m.replace(/^\//,"").split("/");A="/"+O.replace(/^\//,"").split("/").slice(_.length).join("/")}let S=R2(e,{pathname:A});Wn(p||S!=null,`No routes matched location "${w.pathname}${w.search}${w.hash}" `),Wn(S==null||S[S.length-1].route.element!==void 0||S[S.length-1].route.Component!==void 0||S[S.length-1].route.lazy!==void 0,`Matched leaf route at location "${w.pathname}${w.search}${w.hash}" does not have an element or Component. This means it will render an <Outlet /> with a null value by default resulting in an "empty" page.`);let j=pR(S&&S.map(_=>Object.assign({},_,{params:Object.assign({},d,_.params),pathname:Zr([m,o.encodeLocation?o.encodeLocation(_.pathname.replace(/\?/g,"%3F").replace(/#/g,"%23")).pathname:_.pathname]),pathnameBase:_.pathnameBase==="/"?m:Zr([m,o.encodeLocation?o.encodeLocation(_.pathnameBase.replace(/\?/g,"%3F").replace(/#/g,"%23")).pathname:_.pathnameBase])})),s,n,r,l);return t&&j?g.createElement(Iu.Provider,{value:{location:{pathname:"/",search:"",hash:"",state:null,key:"default",...w},navigationType:"POP"}},j):j}function dR(){let e=wR(),t=aR(e)?`${e.status} ${e.statusText}`:e instanceof Error?e.message:JSON.stringify(e),n=e instanceof Error?e.stack:null,r="rgba(200,200,200, 0.5)",l={padding:"0.5rem",backgroundColor:r},o={padding:"2px 4px",backgroundColor:r},s=null;return console.error("Error handled by React Router default ErrorBoundary:",e),s=g.createElement(g.Fragment,null,g.createElement("p",null,"💿 Hey developer 👋"),g.createElement("p",null,"You can provide a way better UX than this when your app throws errors by providing your own ",g.createElement("code",{style:o},"ErrorBoundary")," or"," ",g.createElement("code",{style:o},"errorElement")," prop on your route.")),g.createElement(g.Fragment,null,g.createElement("h2",null,"Unexpected Application Error!"),g.createElement("h3",{style:{fontStyle:"italic"}},t),n?g.createElement("pre",{style:l},n):null,s)}var hR=g.createElement(dR,null),mR=class extends g.Component{constructor(e){super(e),this.state={location:e.location,revalidation:e.revalidation,error:e.error}}static getDerivedStateFromError(e){return{error:e}}static getDerivedStateFromProps(e,t){return t.location!==e.location||t.revalidation!=="idle"&&e.revalidation==="idle"?{error:e.error,location:e.location,revalidation:e.revalidation}:{error:e.error!==void 0?e.error:t.error,location:t.location,revalidation:e.revalidation||t.revalidation}}componentDidCatch(e,t){this.props.onError?this.props.onError(e,t):console.error("React Router caught the following error during render",e)}render(){return this.state.error!==void 0?g.createElement(Ar.Provider,{value:this.props.routeContext},g.createElement(ng.Provider,{value:this.state.error,children:this.props.component})):this.props.children}};function vR({routeContext:e,match:t,children:n}){let r=g.useContext(Zl);return r&&r.static&&r.staticContext&&(t.route.errorElement||t.route.ErrorBoundary)&&(r.staticContext._deepestRenderedBoundaryId=t.route.id),g.createElement(Ar.Provider,{value:e},n)}function pR(e,t=[],n=null,r=null,l=null){if(e==null){if(!n)return null;if(n.errors)e=n.matches;else if(t.length===0&&!n.initialized&&n.matches.length>0)e=n.matches;else return null}let o=e,s=n?.errors;if(s!=null){let m=o.findIndex(p=>p.route.id&&s?.[p.route.id]!==void 0);rt(m>=0,`Could not find a matching route for errors on route IDs: ${Object.keys(s).join(",")}`),o=o.slice(0,Math.min(o.length,m+1))}let f=!1,d=-1;if(n)for(let m=0;m<o.length;m++){let p=o[m];if((p.route.HydrateFallback||p.route.hydrateFallbackElement)&&(d=m),p.route.id){let{loaderData:x,errors:w}=n,O=p.route.loader&&!x.hasOwnProperty(p.route.id)&&(!w||w[p.route.id]===void 0);if(p.route.lazy||O){f=!0,d>=0?o=o.slice(0,d+1):o=[o[0]];break}}}let h=n&&r?(m,p)=>{r(m,{location:n.location,params:n.matches?.[0]?.params??{},unstable_pattern:iR(n.matches),errorInfo:p})}:void 0;return o.reduceRight((m,p,x)=>{let w,O=!1,A=null,S=null;n&&(w=s&&p.route.id?s[p.route.id]:void 0,A=p.route.errorElement||hR,f&&(d<0&&x===0?($2("route-fallback",!1,"No `HydrateFallback` element provided to render during initial hydration"),O=!0,S=null):d===x&&(O=!0,S=p.route.hydrateFallbackElement||null)));let j=t.concat(o.slice(0,x+1)),_=()=>{let C;return w?C=A:O?C=S:p.route.Component?C=g.createElement(p.route.Component,null):p.route.element?C=p.route.element:C=m,g.createElement(vR,{match:p,routeContext:{outlet:m,matches:j,isDataRoute:n!=null},children:C})};return n&&(p.route.ErrorBoundary||p.route.errorElement||x===0)?g.createElement(mR,{location:n.location,revalidation:n.revalidation,component:A,error:w,children:_(),routeContext:{outlet:null,matches:j,isDataRoute:!0},onError:h}):_()},null)}function rg(e){return`${e} must be used within a data router.  See https://reactrouter.com/en/main/routers/picking-a-router.`}function yR(e){let t=g.useContext(Zl);return rt(t,rg(e)),t}function gR(e){let t=g.useContext(td);return rt(t,rg(e)),t}function bR(e){let t=g.useContext(Ar);return rt(t,rg(e)),t}function ag(e){let t=bR(e),n=t.matches[t.matches.length-1];return rt(n.route.id,`${e} can only be used on routes that contain a unique "id"`),n.route.id}function xR(){return ag("useRouteId")}function wR(){let e=g.useContext(ng),t=gR("useRouteError"),n=ag("useRouteError");return e!==void 0?e:t.errors?.[n]}function SR(){let{router:e}=yR("useNavigate"),t=ag("useNavigate"),n=g.useRef(!1);return q2(()=>{n.current=!0}),g.useCallback(async(l,o={})=>{Wn(n.current,I2),n.current&&(typeof l=="number"?await e.navigate(l):await e.navigate(l,{fromRouteId:t,...o}))},[e,t])}var sS={};function $2(e,t,n){!t&&!sS[e]&&(sS[e]=!0,Wn(!1,n))}g.memo(ER);function ER({routes:e,future:t,state:n,unstable_onError:r}){return H2(e,void 0,n,r,t)}function OR({to:e,replace:t,state:n,relative:r}){rt(Ql(),"<Navigate> may be used only in the context of a <Router> component.");let{static:l}=g.useContext(er);Wn(!l,"<Navigate> must not be used on the initial render in a <StaticRouter>. This is a no-op, but you should modify your code so the <Navigate> is only ever rendered in response to some user interaction or state change.");let{matches:o}=g.useContext(Ar),{pathname:s}=ua(),f=qu(),d=tg(e,eg(o),s,r==="path"),h=JSON.stringify(d);return g.useEffect(()=>{f(JSON.parse(h),{replace:t,state:n,relative:r})},[f,h,r,t,n]),null}function Gn(e){rt(!1,"A <Route> is only ever to be used as the child of <Routes> element, never rendered directly. Please wrap your <Route> in a <Routes>.")}function AR({basename:e="/",children:t=null,location:n,navigationType:r="POP",navigator:l,static:o=!1,unstable_useTransitions:s}){rt(!Ql(),"You cannot render a <Router> inside another <Router>. You should never have more than one in your app.");let f=e.replace(/^\/*/,"/"),d=g.useMemo(()=>({basename:f,navigator:l,static:o,unstable_useTransitions:s,future:{}}),[f,l,o,s]);typeof n=="string"&&(n=Wl(n));let{pathname:h="/",search:m="",hash:p="",state:x=null,key:w="default"}=n,O=g.useMemo(()=>{let A=ea(h,f);return A==null?null:{location:{pathname:A,search:m,hash:p,state:x,key:w},navigationType:r}},[f,h,m,p,x,w,r]);return Wn(O!=null,`<Router basename="${f}"> is not able to match the URL "${h}${m}${p}" because it does not start with the basename, so the <Router> won't render anything.`),O==null?null:g.createElement(er.Provider,{value:d},g.createElement(Iu.Provider,{children:t,value:O}))}function jR({children:e,location:t}){return fR(ey(e),t)}function ey(e,t=[]){let n=[];return g.Children.forEach(e,(r,l)=>{if(!g.isValidElement(r))return;let o=[...t,l];if(r.type===g.Fragment){n.push.apply(n,ey(r.props.children,o));return}rt(r.type===Gn,`[${typeof r.type=="string"?r.type:r.type.name}] is not a <Route> component. All component children of <Routes> must be a <Route> or <React.Fragment>`),rt(!r.props.index||!r.props.children,"An index route cannot have child routes.");let s={id:r.props.id||o.join("-"),caseSensitive:r.props.caseSensitive,element:r.props.element,Component:r.props.Component,index:r.props.index,path:r.props.path,middleware:r.props.middleware,loader:r.props.loader,action:r.props.action,hydrateFallbackElement:r.props.hydrateFallbackElement,HydrateFallback:r.props.HydrateFallback,errorElement:r.props.errorElement,ErrorBoundary:r.props.ErrorBoundary,hasErrorBoundary:r.props.hasErrorBoundary===!0||r.props.ErrorBoundary!=null||r.props.errorElement!=null,shouldRevalidate:r.props.shouldRevalidate,handle:r.props.handle,lazy:r.props.lazy};r.props.children&&(s.children=ey(r.props.children,o)),n.push(s)}),n}var Zc="get",Qc="application/x-www-form-urlencoded";function nd(e){return typeof HTMLElement<"u"&&e instanceof HTMLElement}function NR(e){return nd(e)&&e.tagName.toLowerCase()==="button"}function CR(e){return nd(e)&&e.tagName.toLowerCase()==="form"}function _R(e){return nd(e)&&e.tagName.toLowerCase()==="input"}function TR(e){return!!(e.metaKey||e.altKey||e.ctrlKey||e.shiftKey)}function MR(e,t){return e.button===0&&(!t||t==="_self")&&!TR(e)}var Nc=null;function DR(){if(Nc===null)try{new FormData(document.createElement("form"),0),Nc=!1}catch{Nc=!0}return Nc}var kR=new Set(["application/x-www-form-urlencoded","multipart/form-data","text/plain"]);function dv(e){return e!=null&&!kR.has(e)?(Wn(!1,`"${e}" is not a valid \`encType\` for \`<Form>\`/\`<fetcher.Form>\` and will default to "${Qc}"`),null):e}function PR(e,t){let n,r,l,o,s;if(CR(e)){let f=e.getAttribute("action");r=f?ea(f,t):null,n=e.getAttribute("method")||Zc,l=dv(e.getAttribute("enctype"))||Qc,o=new FormData(e)}else if(NR(e)||_R(e)&&(e.type==="submit"||e.type==="image")){let f=e.form;if(f==null)throw new Error('Cannot submit a <button> or <input type="submit"> without a <form>');let d=e.getAttribute("formaction")||f.getAttribute("action");if(r=d?ea(d,t):null,n=e.getAttribute("formmethod")||f.getAttribute("method")||Zc,l=dv(e.getAttribute("formenctype"))||dv(f.getAttribute("enctype"))||Qc,o=new FormData(f,e),!DR()){let{name:h,type:m,value:p}=e;if(m==="image"){let x=h?`${h}.`:"";o.append(`${x}x`,"0"),o.append(`${x}y`,"0")}else h&&o.append(h,p)}}else{if(nd(e))throw new Error('Cannot submit element that is not <form>, <button>, or <input type="submit|image">');n=Zc,r=null,l=Qc,s=e}return o&&l==="text/plain"&&(s=o,o=void 0),{action:r,method:n.toLowerCase(),encType:l,formData:o,body:s}}Object.getOwnPropertyNames(Object.prototype).sort().join("\0");function ig(e,t){if(e===!1||e===null||typeof e>"u")throw new Error(t)}function RR(e,t,n){let r=typeof e=="string"?new URL(e,typeof window>"u"?"server://singlefetch/":window.location.origin):e;return r.pathname==="/"?r.pathname=`_root.${n}`:t&&ea(r.pathname,t)==="/"?r.pathname=`${t.replace(/\/$/,"")}/_root.${n}`:r.pathname=`${r.pathname.replace(/\/$/,"")}.${n}`,r}async function zR(e,t){if(e.id in t)return t[e.id];try{let n=await import(e.module);return t[e.id]=n,n}catch(n){return console.error(`Error loading route module \`${e.module}\`, reloading page...`),console.error(n),window.__reactRouterContext&&window.__reactRouterContext.isSpaMode,window.location.reload(),new Promise(()=>{})}}function LR(e){return e==null?!1:e.href==null?e.rel==="preload"&&typeof e.imageSrcSet=="string"&&typeof e.imageSizes=="string":typeof e.rel=="string"&&typeof e.href=="string"}async function BR(e,t,n){let r=await Promise.all(e.map(async l=>{let o=t.routes[l.route.id];if(o){let s=await zR(o,n);return s.links?s.links():[]}return[]}));return HR(r.flat(1).filter(LR).filter(l=>l.rel==="stylesheet"||l.rel==="preload").map(l=>l.rel==="stylesheet"?{...l,rel:"prefetch",as:"style"}:{...l,rel:"prefetch"}))}function cS(e,t,n,r,l,o){let s=(d,h)=>n[h]?d.route.id!==n[h].route.id:!0,f=(d,h)=>n[h].pathname!==d.pathname||n[h].route.path?.endsWith("*")&&n[h].params["*"]!==d.params["*"];return o==="assets"?t.filter((d,h)=>s(d,h)||f(d,h)):o==="data"?t.filter((d,h)=>{let m=r.routes[d.route.id];if(!m||!m.hasLoader)return!1;if(s(d,h)||f(d,h))return!0;if(d.route.shouldRevalidate){let p=d.route.shouldRevalidate({currentUrl:new URL(l.pathname+l.search+l.hash,window.origin),currentParams:n[0]?.params||{},nextUrl:new URL(e,window.origin),nextParams:d.params,defaultShouldRevalidate:!0});if(typeof p=="boolean")return p}return!0}):[]}function UR(e,t,{includeHydrateFallback:n}={}){return IR(e.map(r=>{let l=t.routes[r.route.id];if(!l)return[];let o=[l.module];return l.clientActionModule&&(o=o.concat(l.clientActionModule)),l.clientLoaderModule&&(o=o.concat(l.clientLoaderModule)),n&&l.hydrateFallbackModule&&(o=o.concat(l.hydrateFallbackModule)),l.imports&&(o=o.concat(l.imports)),o}).flat(1))}function IR(e){return[...new Set(e)]}function qR(e){let t={},n=Object.keys(e).sort();for(let r of n)t[r]=e[r];return t}function HR(e,t){let n=new Set;return new Set(t),e.reduce((r,l)=>{let o=JSON.stringify(qR(l));return n.has(o)||(n.add(o),r.push({key:o,link:l})),r},[])}function Y2(){let e=g.useContext(Zl);return ig(e,"You must render this element inside a <DataRouterContext.Provider> element"),e}function $R(){let e=g.useContext(td);return ig(e,"You must render this element inside a <DataRouterStateContext.Provider> element"),e}var lg=g.createContext(void 0);lg.displayName="FrameworkContext";function K2(){let e=g.useContext(lg);return ig(e,"You must render this element inside a <HydratedRouter> element"),e}function YR(e,t){let n=g.useContext(lg),[r,l]=g.useState(!1),[o,s]=g.useState(!1),{onFocus:f,onBlur:d,onMouseEnter:h,onMouseLeave:m,onTouchStart:p}=t,x=g.useRef(null);g.useEffect(()=>{if(e==="render"&&s(!0),e==="viewport"){let A=j=>{j.forEach(_=>{s(_.isIntersecting)})},S=new IntersectionObserver(A,{threshold:.5});return x.current&&S.observe(x.current),()=>{S.disconnect()}}},[e]),g.useEffect(()=>{if(r){let A=setTimeout(()=>{s(!0)},100);return()=>{clearTimeout(A)}}},[r]);let w=()=>{l(!0)},O=()=>{l(!1),s(!1)};return n?e!=="intent"?[o,x,{}]:[o,x,{onFocus:su(f,w),onBlur:su(d,O),onMouseEnter:su(h,w),onMouseLeave:su(m,O),onTouchStart:su(p,w)}]:[!1,x,{}]}function su(e,t){return n=>{e&&e(n),n.defaultPrevented||t(n)}}function KR({page:e,...t}){let{router:n}=Y2(),r=g.useMemo(()=>R2(n.routes,e,n.basename),[n.routes,e,n.basename]);return r?g.createElement(VR,{page:e,matches:r,...t}):null}function GR(e){let{manifest:t,routeModules:n}=K2(),[r,l]=g.useState([]);return g.useEffect(()=>{let o=!1;return BR(e,t,n).then(s=>{o||l(s)}),()=>{o=!0}},[e,t,n]),r}function VR({page:e,matches:t,...n}){let r=ua(),{manifest:l,routeModules:o}=K2(),{basename:s}=Y2(),{loaderData:f,matches:d}=$R(),h=g.useMemo(()=>cS(e,t,d,l,r,"data"),[e,t,d,l,r]),m=g.useMemo(()=>cS(e,t,d,l,r,"assets"),[e,t,d,l,r]),p=g.useMemo(()=>{if(e===r.pathname+r.search+r.hash)return[];let O=new Set,A=!1;if(t.forEach(j=>{let _=l.routes[j.route.id];!_||!_.hasLoader||(!h.some(C=>C.route.id===j.route.id)&&j.route.id in f&&o[j.route.id]?.shouldRevalidate||_.hasClientLoader?A=!0:O.add(j.route.id))}),O.size===0)return[];let S=RR(e,s,"data");return A&&O.size>0&&S.searchParams.set("_routes",t.filter(j=>O.has(j.route.id)).map(j=>j.route.id).join(",")),[S.pathname+S.search]},[s,f,r,l,h,t,e,o]),x=g.useMemo(()=>UR(m,l),[m,l]),w=GR(m);return g.createElement(g.Fragment,null,p.map(O=>g.createElement("link",{key:O,rel:"prefetch",as:"fetch",href:O,...n})),x.map(O=>g.createElement("link",{key:O,rel:"modulepreload",href:O,...n})),w.map(({key:O,link:A})=>g.createElement("link",{key:O,nonce:n.nonce,...A})))}function XR(...e){return t=>{e.forEach(n=>{typeof n=="function"?n(t):n!=null&&(n.current=t)})}}var G2=typeof window<"u"&&typeof window.document<"u"&&typeof window.document.createElement<"u";try{G2&&(window.__reactRouterVersion="7.10.1")}catch{}function FR({basename:e,children:t,unstable_useTransitions:n,window:r}){let l=g.useRef();l.current==null&&(l.current=PP({window:r,v5Compat:!0}));let o=l.current,[s,f]=g.useState({action:o.action,location:o.location}),d=g.useCallback(h=>{n===!1?f(h):g.startTransition(()=>f(h))},[n]);return g.useLayoutEffect(()=>o.listen(d),[o,d]),g.createElement(AR,{basename:e,children:t,location:s.location,navigationType:s.action,navigator:o,unstable_useTransitions:n===!0})}var V2=/^(?:[a-z][a-z0-9+.-]*:|\/\/)/i,Va=g.forwardRef(function({onClick:t,discover:n="render",prefetch:r="none",relative:l,reloadDocument:o,replace:s,state:f,target:d,to:h,preventScrollReset:m,viewTransition:p,...x},w){let{basename:O,unstable_useTransitions:A}=g.useContext(er),S=typeof h=="string"&&V2.test(h),j,_=!1;if(typeof h=="string"&&S&&(j=h,G2))try{let ae=new URL(window.location.href),W=h.startsWith("//")?new URL(ae.protocol+h):new URL(h),J=ea(W.pathname,O);W.origin===ae.origin&&J!=null?h=J+W.search+W.hash:_=!0}catch{Wn(!1,`<Link to="${h}"> contains an invalid URL which will probably break when clicked - please update to a valid URL path.`)}let C=sR(h,{relative:l}),[D,T,R]=YR(r,x),k=JR(h,{replace:s,state:f,target:d,preventScrollReset:m,relative:l,viewTransition:p,unstable_useTransitions:A});function I(ae){t&&t(ae),ae.defaultPrevented||k(ae)}let re=g.createElement("a",{...x,...R,href:j||C,onClick:_||o?t:I,ref:XR(w,T),target:d,"data-discover":!S&&n==="render"?"true":void 0});return D&&!S?g.createElement(g.Fragment,null,re,g.createElement(KR,{page:C})):re});Va.displayName="Link";var WR=g.forwardRef(function({"aria-current":t="page",caseSensitive:n=!1,className:r="",end:l=!1,style:o,to:s,viewTransition:f,children:d,...h},m){let p=Hu(s,{relative:h.relative}),x=ua(),w=g.useContext(td),{navigator:O,basename:A}=g.useContext(er),S=w!=null&&a3(p)&&f===!0,j=O.encodeLocation?O.encodeLocation(p).pathname:p.pathname,_=x.pathname,C=w&&w.navigation&&w.navigation.location?w.navigation.location.pathname:null;n||(_=_.toLowerCase(),C=C?C.toLowerCase():null,j=j.toLowerCase()),C&&A&&(C=ea(C,A)||C);const D=j!=="/"&&j.endsWith("/")?j.length-1:j.length;let T=_===j||!l&&_.startsWith(j)&&_.charAt(D)==="/",R=C!=null&&(C===j||!l&&C.startsWith(j)&&C.charAt(j.length)==="/"),k={isActive:T,isPending:R,isTransitioning:S},I=T?t:void 0,re;typeof r=="function"?re=r(k):re=[r,T?"active":null,R?"pending":null,S?"transitioning":null].filter(Boolean).join(" ");let ae=typeof o=="function"?o(k):o;return g.createElement(Va,{...h,"aria-current":I,className:re,ref:m,style:ae,to:s,viewTransition:f},typeof d=="function"?d(k):d)});WR.displayName="NavLink";var ZR=g.forwardRef(({discover:e="render",fetcherKey:t,navigate:n,reloadDocument:r,replace:l,state:o,method:s=Zc,action:f,onSubmit:d,relative:h,preventScrollReset:m,viewTransition:p,...x},w)=>{let{unstable_useTransitions:O}=g.useContext(er),A=n3(),S=r3(f,{relative:h}),j=s.toLowerCase()==="get"?"get":"post",_=typeof f=="string"&&V2.test(f),C=D=>{if(d&&d(D),D.defaultPrevented)return;D.preventDefault();let T=D.nativeEvent.submitter,R=T?.getAttribute("formmethod")||s,k=()=>A(T||D.currentTarget,{fetcherKey:t,method:R,navigate:n,replace:l,state:o,relative:h,preventScrollReset:m,viewTransition:p});O&&n!==!1?g.startTransition(()=>k()):k()};return g.createElement("form",{ref:w,method:j,action:S,onSubmit:r?d:C,...x,"data-discover":!_&&e==="render"?"true":void 0})});ZR.displayName="Form";function QR(e){return`${e} must be used within a data router.  See https://reactrouter.com/en/main/routers/picking-a-router.`}function X2(e){let t=g.useContext(Zl);return rt(t,QR(e)),t}function JR(e,{target:t,replace:n,state:r,preventScrollReset:l,relative:o,viewTransition:s,unstable_useTransitions:f}={}){let d=qu(),h=ua(),m=Hu(e,{relative:o});return g.useCallback(p=>{if(MR(p,t)){p.preventDefault();let x=n!==void 0?n:Su(h)===Su(m),w=()=>d(e,{replace:x,state:r,preventScrollReset:l,relative:o,viewTransition:s});f?g.startTransition(()=>w()):w()}},[h,d,m,n,r,t,e,l,o,s,f])}var e3=0,t3=()=>`__${String(++e3)}__`;function n3(){let{router:e}=X2("useSubmit"),{basename:t}=g.useContext(er),n=xR(),r=e.fetch,l=e.navigate;return g.useCallback(async(o,s={})=>{let{action:f,method:d,encType:h,formData:m,body:p}=PR(o,t);if(s.navigate===!1){let x=s.fetcherKey||t3();await r(x,n,s.action||f,{preventScrollReset:s.preventScrollReset,formData:m,body:p,formMethod:s.method||d,formEncType:s.encType||h,flushSync:s.flushSync})}else await l(s.action||f,{preventScrollReset:s.preventScrollReset,formData:m,body:p,formMethod:s.method||d,formEncType:s.encType||h,replace:s.replace,state:s.state,fromRouteId:n,flushSync:s.flushSync,viewTransition:s.viewTransition})},[r,l,t,n])}function r3(e,{relative:t}={}){let{basename:n}=g.useContext(er),r=g.useContext(Ar);rt(r,"useFormAction must be used inside a RouteContext");let[l]=r.matches.slice(-1),o={...Hu(e||".",{relative:t})},s=ua();if(e==null){o.search=s.search;let f=new URLSearchParams(o.search),d=f.getAll("index");if(d.some(m=>m==="")){f.delete("index"),d.filter(p=>p).forEach(p=>f.append("index",p));let m=f.toString();o.search=m?`?${m}`:""}}return(!e||e===".")&&l.route.index&&(o.search=o.search?o.search.replace(/^\?/,"?index&"):"?index"),n!=="/"&&(o.pathname=o.pathname==="/"?n:Zr([n,o.pathname])),Su(o)}function a3(e,{relative:t}={}){let n=g.useContext(U2);rt(n!=null,"`useViewTransitionState` must be used within `react-router-dom`'s `RouterProvider`.  Did you accidentally import `RouterProvider` from `react-router`?");let{basename:r}=X2("useViewTransitionState"),l=Hu(e,{relative:t});if(!n.isTransitioning)return!1;let o=ea(n.currentLocation.pathname,r)||n.currentLocation.pathname,s=ea(n.nextLocation.pathname,r)||n.nextLocation.pathname;return uf(l.pathname,s)!=null||uf(l.pathname,o)!=null}var rd=P2();const i3=oa(rd);function fS(e,t){if(typeof e=="function")return e(t);e!=null&&(e.current=t)}function Jl(...e){return t=>{let n=!1;const r=e.map(l=>{const o=fS(l,t);return!n&&typeof o=="function"&&(n=!0),o});if(n)return()=>{for(let l=0;l<r.length;l++){const o=r[l];typeof o=="function"?o():fS(e[l],null)}}}}function Ii(...e){return g.useCallback(Jl(...e),e)}var l3=Symbol.for("react.lazy"),sf=ed[" use ".trim().toString()];function o3(e){return typeof e=="object"&&e!==null&&"then"in e}function F2(e){return e!=null&&typeof e=="object"&&"$$typeof"in e&&e.$$typeof===l3&&"_payload"in e&&o3(e._payload)}function W2(e){const t=s3(e),n=g.forwardRef((r,l)=>{let{children:o,...s}=r;F2(o)&&typeof sf=="function"&&(o=sf(o._payload));const f=g.Children.toArray(o),d=f.find(f3);if(d){const h=d.props.children,m=f.map(p=>p===d?g.Children.count(h)>1?g.Children.only(null):g.isValidElement(h)?h.props.children:null:p);return b.jsx(t,{...s,ref:l,children:g.isValidElement(h)?g.cloneElement(h,void 0,m):null})}return b.jsx(t,{...s,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}var u3=W2("Slot");function s3(e){const t=g.forwardRef((n,r)=>{let{children:l,...o}=n;if(F2(l)&&typeof sf=="function"&&(l=sf(l._payload)),g.isValidElement(l)){const s=h3(l),f=d3(o,l.props);return l.type!==g.Fragment&&(f.ref=r?Jl(r,s):s),g.cloneElement(l,f)}return g.Children.count(l)>1?g.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var c3=Symbol("radix.slottable");function f3(e){return g.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===c3}function d3(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function h3(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}function Z2(e){var t,n,r="";if(typeof e=="string"||typeof e=="number")r+=e;else if(typeof e=="object")if(Array.isArray(e)){var l=e.length;for(t=0;t<l;t++)e[t]&&(n=Z2(e[t]))&&(r&&(r+=" "),r+=n)}else for(n in e)e[n]&&(r&&(r+=" "),r+=n);return r}function Ve(){for(var e,t,n=0,r="",l=arguments.length;n<l;n++)(e=arguments[n])&&(t=Z2(e))&&(r&&(r+=" "),r+=t);return r}const dS=e=>typeof e=="boolean"?`${e}`:e===0?"0":e,hS=Ve,Q2=(e,t)=>n=>{var r;if(t?.variants==null)return hS(e,n?.class,n?.className);const{variants:l,defaultVariants:o}=t,s=Object.keys(l).map(h=>{const m=n?.[h],p=o?.[h];if(m===null)return null;const x=dS(m)||dS(p);return l[h][x]}),f=n&&Object.entries(n).reduce((h,m)=>{let[p,x]=m;return x===void 0||(h[p]=x),h},{}),d=t==null||(r=t.compoundVariants)===null||r===void 0?void 0:r.reduce((h,m)=>{let{class:p,className:x,...w}=m;return Object.entries(w).every(O=>{let[A,S]=O;return Array.isArray(S)?S.includes({...o,...f}[A]):{...o,...f}[A]===S})?[...h,p,x]:h},[]);return hS(e,s,d,n?.class,n?.className)},m3=(e,t)=>{const n=new Array(e.length+t.length);for(let r=0;r<e.length;r++)n[r]=e[r];for(let r=0;r<t.length;r++)n[e.length+r]=t[r];return n},v3=(e,t)=>({classGroupId:e,validator:t}),J2=(e=new Map,t=null,n)=>({nextPart:e,validators:t,classGroupId:n}),cf="-",mS=[],p3="arbitrary..",y3=e=>{const t=b3(e),{conflictingClassGroups:n,conflictingClassGroupModifiers:r}=e;return{getClassGroupId:s=>{if(s.startsWith("[")&&s.endsWith("]"))return g3(s);const f=s.split(cf),d=f[0]===""&&f.length>1?1:0;return ej(f,d,t)},getConflictingClassGroupIds:(s,f)=>{if(f){const d=r[s],h=n[s];return d?h?m3(h,d):d:h||mS}return n[s]||mS}}},ej=(e,t,n)=>{if(e.length-t===0)return n.classGroupId;const l=e[t],o=n.nextPart.get(l);if(o){const h=ej(e,t+1,o);if(h)return h}const s=n.validators;if(s===null)return;const f=t===0?e.join(cf):e.slice(t).join(cf),d=s.length;for(let h=0;h<d;h++){const m=s[h];if(m.validator(f))return m.classGroupId}},g3=e=>e.slice(1,-1).indexOf(":")===-1?void 0:(()=>{const t=e.slice(1,-1),n=t.indexOf(":"),r=t.slice(0,n);return r?p3+r:void 0})(),b3=e=>{const{theme:t,classGroups:n}=e;return x3(n,t)},x3=(e,t)=>{const n=J2();for(const r in e){const l=e[r];og(l,n,r,t)}return n},og=(e,t,n,r)=>{const l=e.length;for(let o=0;o<l;o++){const s=e[o];w3(s,t,n,r)}},w3=(e,t,n,r)=>{if(typeof e=="string"){S3(e,t,n);return}if(typeof e=="function"){E3(e,t,n,r);return}O3(e,t,n,r)},S3=(e,t,n)=>{const r=e===""?t:tj(t,e);r.classGroupId=n},E3=(e,t,n,r)=>{if(A3(e)){og(e(r),t,n,r);return}t.validators===null&&(t.validators=[]),t.validators.push(v3(n,e))},O3=(e,t,n,r)=>{const l=Object.entries(e),o=l.length;for(let s=0;s<o;s++){const[f,d]=l[s];og(d,tj(t,f),n,r)}},tj=(e,t)=>{let n=e;const r=t.split(cf),l=r.length;for(let o=0;o<l;o++){const s=r[o];let f=n.nextPart.get(s);f||(f=J2(),n.nextPart.set(s,f)),n=f}return n},A3=e=>"isThemeGetter"in e&&e.isThemeGetter===!0,j3=e=>{if(e<1)return{get:()=>{},set:()=>{}};let t=0,n=Object.create(null),r=Object.create(null);const l=(o,s)=>{n[o]=s,t++,t>e&&(t=0,r=n,n=Object.create(null))};return{get(o){let s=n[o];if(s!==void 0)return s;if((s=r[o])!==void 0)return l(o,s),s},set(o,s){o in n?n[o]=s:l(o,s)}}},ty="!",vS=":",N3=[],pS=(e,t,n,r,l)=>({modifiers:e,hasImportantModifier:t,baseClassName:n,maybePostfixModifierPosition:r,isExternal:l}),C3=e=>{const{prefix:t,experimentalParseClassName:n}=e;let r=l=>{const o=[];let s=0,f=0,d=0,h;const m=l.length;for(let A=0;A<m;A++){const S=l[A];if(s===0&&f===0){if(S===vS){o.push(l.slice(d,A)),d=A+1;continue}if(S==="/"){h=A;continue}}S==="["?s++:S==="]"?s--:S==="("?f++:S===")"&&f--}const p=o.length===0?l:l.slice(d);let x=p,w=!1;p.endsWith(ty)?(x=p.slice(0,-1),w=!0):p.startsWith(ty)&&(x=p.slice(1),w=!0);const O=h&&h>d?h-d:void 0;return pS(o,w,x,O)};if(t){const l=t+vS,o=r;r=s=>s.startsWith(l)?o(s.slice(l.length)):pS(N3,!1,s,void 0,!0)}if(n){const l=r;r=o=>n({className:o,parseClassName:l})}return r},_3=e=>{const t=new Map;return e.orderSensitiveModifiers.forEach((n,r)=>{t.set(n,1e6+r)}),n=>{const r=[];let l=[];for(let o=0;o<n.length;o++){const s=n[o],f=s[0]==="[",d=t.has(s);f||d?(l.length>0&&(l.sort(),r.push(...l),l=[]),r.push(s)):l.push(s)}return l.length>0&&(l.sort(),r.push(...l)),r}},T3=e=>({cache:j3(e.cacheSize),parseClassName:C3(e),sortModifiers:_3(e),...y3(e)}),M3=/\s+/,D3=(e,t)=>{const{parseClassName:n,getClassGroupId:r,getConflictingClassGroupIds:l,sortModifiers:o}=t,s=[],f=e.trim().split(M3);let d="";for(let h=f.length-1;h>=0;h-=1){const m=f[h],{isExternal:p,modifiers:x,hasImportantModifier:w,baseClassName:O,maybePostfixModifierPosition:A}=n(m);if(p){d=m+(d.length>0?" "+d:d);continue}let S=!!A,j=r(S?O.substring(0,A):O);if(!j){if(!S){d=m+(d.length>0?" "+d:d);continue}if(j=r(O),!j){d=m+(d.length>0?" "+d:d);continue}S=!1}const _=x.length===0?"":x.length===1?x[0]:o(x).join(":"),C=w?_+ty:_,D=C+j;if(s.indexOf(D)>-1)continue;s.push(D);const T=l(j,S);for(let R=0;R<T.length;++R){const k=T[R];s.push(C+k)}d=m+(d.length>0?" "+d:d)}return d},k3=(...e)=>{let t=0,n,r,l="";for(;t<e.length;)(n=e[t++])&&(r=nj(n))&&(l&&(l+=" "),l+=r);return l},nj=e=>{if(typeof e=="string")return e;let t,n="";for(let r=0;r<e.length;r++)e[r]&&(t=nj(e[r]))&&(n&&(n+=" "),n+=t);return n},P3=(e,...t)=>{let n,r,l,o;const s=d=>{const h=t.reduce((m,p)=>p(m),e());return n=T3(h),r=n.cache.get,l=n.cache.set,o=f,f(d)},f=d=>{const h=r(d);if(h)return h;const m=D3(d,n);return l(d,m),m};return o=s,(...d)=>o(k3(...d))},R3=[],Ot=e=>{const t=n=>n[e]||R3;return t.isThemeGetter=!0,t},rj=/^\[(?:(\w[\w-]*):)?(.+)\]$/i,aj=/^\((?:(\w[\w-]*):)?(.+)\)$/i,z3=/^\d+\/\d+$/,L3=/^(\d+(\.\d+)?)?(xs|sm|md|lg|xl)$/,B3=/\d+(%|px|r?em|[sdl]?v([hwib]|min|max)|pt|pc|in|cm|mm|cap|ch|ex|r?lh|cq(w|h|i|b|min|max))|\b(calc|min|max|clamp)\(.+\)|^0$/,U3=/^(rgba?|hsla?|hwb|(ok)?(lab|lch)|color-mix)\(.+\)$/,I3=/^(inset_)?-?((\d+)?\.?(\d+)[a-z]+|0)_-?((\d+)?\.?(\d+)[a-z]+|0)/,q3=/^(url|image|image-set|cross-fade|element|(repeating-)?(linear|radial|conic)-gradient)\(.+\)$/,Cl=e=>z3.test(e),Ne=e=>!!e&&!Number.isNaN(Number(e)),Ha=e=>!!e&&Number.isInteger(Number(e)),hv=e=>e.endsWith("%")&&Ne(e.slice(0,-1)),Kr=e=>L3.test(e),H3=()=>!0,$3=e=>B3.test(e)&&!U3.test(e),ij=()=>!1,Y3=e=>I3.test(e),K3=e=>q3.test(e),G3=e=>!se(e)&&!ce(e),V3=e=>eo(e,uj,ij),se=e=>rj.test(e),bi=e=>eo(e,sj,$3),mv=e=>eo(e,Q3,Ne),yS=e=>eo(e,lj,ij),X3=e=>eo(e,oj,K3),Cc=e=>eo(e,cj,Y3),ce=e=>aj.test(e),cu=e=>to(e,sj),F3=e=>to(e,J3),gS=e=>to(e,lj),W3=e=>to(e,uj),Z3=e=>to(e,oj),_c=e=>to(e,cj,!0),eo=(e,t,n)=>{const r=rj.exec(e);return r?r[1]?t(r[1]):n(r[2]):!1},to=(e,t,n=!1)=>{const r=aj.exec(e);return r?r[1]?t(r[1]):n:!1},lj=e=>e==="position"||e==="percentage",oj=e=>e==="image"||e==="url",uj=e=>e==="length"||e==="size"||e==="bg-size",sj=e=>e==="length",Q3=e=>e==="number",J3=e=>e==="family-name",cj=e=>e==="shadow",ez=()=>{const e=Ot("color"),t=Ot("font"),n=Ot("text"),r=Ot("font-weight"),l=Ot("tracking"),o=Ot("leading"),s=Ot("breakpoint"),f=Ot("container"),d=Ot("spacing"),h=Ot("radius"),m=Ot("shadow"),p=Ot("inset-shadow"),x=Ot("text-shadow"),w=Ot("drop-shadow"),O=Ot("blur"),A=Ot("perspective"),S=Ot("aspect"),j=Ot("ease"),_=Ot("animate"),C=()=>["auto","avoid","all","avoid-page","page","left","right","column"],D=()=>["center","top","bottom","left","right","top-left","left-top","top-right","right-top","bottom-right","right-bottom","bottom-left","left-bottom"],T=()=>[...D(),ce,se],R=()=>["auto","hidden","clip","visible","scroll"],k=()=>["auto","contain","none"],I=()=>[ce,se,d],re=()=>[Cl,"full","auto",...I()],ae=()=>[Ha,"none","subgrid",ce,se],W=()=>["auto",{span:["full",Ha,ce,se]},Ha,ce,se],J=()=>[Ha,"auto",ce,se],pe=()=>["auto","min","max","fr",ce,se],ge=()=>["start","end","center","between","around","evenly","stretch","baseline","center-safe","end-safe"],xe=()=>["start","end","center","stretch","center-safe","end-safe"],q=()=>["auto",...I()],Q=()=>[Cl,"auto","full","dvw","dvh","lvw","lvh","svw","svh","min","max","fit",...I()],X=()=>[e,ce,se],le=()=>[...D(),gS,yS,{position:[ce,se]}],Oe=()=>["no-repeat",{repeat:["","x","y","space","round"]}],P=()=>["auto","cover","contain",W3,V3,{size:[ce,se]}],K=()=>[hv,cu,bi],ee=()=>["","none","full",h,ce,se],ne=()=>["",Ne,cu,bi],he=()=>["solid","dashed","dotted","double"],we=()=>["normal","multiply","screen","overlay","darken","lighten","color-dodge","color-burn","hard-light","soft-light","difference","exclusion","hue","saturation","color","luminosity"],ue=()=>[Ne,hv,gS,yS],it=()=>["","none",O,ce,se],V=()=>["none",Ne,ce,se],be=()=>["none",Ne,ce,se],Ae=()=>[Ne,ce,se],te=()=>[Cl,"full",...I()];return{cacheSize:500,theme:{animate:["spin","ping","pulse","bounce"],aspect:["video"],blur:[Kr],breakpoint:[Kr],color:[H3],container:[Kr],"drop-shadow":[Kr],ease:["in","out","in-out"],font:[G3],"font-weight":["thin","extralight","light","normal","medium","semibold","bold","extrabold","black"],"inset-shadow":[Kr],leading:["none","tight","snug","normal","relaxed","loose"],perspective:["dramatic","near","normal","midrange","distant","none"],radius:[Kr],shadow:[Kr],spacing:["px",Ne],text:[Kr],"text-shadow":[Kr],tracking:["tighter","tight","normal","wide","wider","widest"]},classGroups:{aspect:[{aspect:["auto","square",Cl,se,ce,S]}],container:["container"],columns:[{columns:[Ne,se,ce,f]}],"break-after":[{"break-after":C()}],"break-before":[{"break-before":C()}],"break-inside":[{"break-inside":["auto","avoid","avoid-page","avoid-column"]}],"box-decoration":[{"box-decoration":["slice","clone"]}],box:[{box:["border","content"]}],display:["block","inline-block","inline","flex","inline-flex","table","inline-table","table-caption","table-cell","table-column","table-column-group","table-footer-group","table-header-group","table-row-group","table-row","flow-root","grid","inline-grid","contents","list-item","hidden"],sr:["sr-only","not-sr-only"],float:[{float:["right","left","none","start","end"]}],clear:[{clear:["left","right","both","none","start","end"]}],isolation:["isolate","isolation-auto"],"object-fit":[{object:["contain","cover","fill","none","scale-down"]}],"object-position":[{object:T()}],overflow:[{overflow:R()}],"overflow-x":[{"overflow-x":R()}],"overflow-y":[{"overflow-y":R()}],overscroll:[{overscroll:k()}],"overscroll-x":[{"overscroll-x":k()}],"overscroll-y":[{"overscroll-y":k()}],position:["static","fixed","absolute","relative","sticky"],inset:[{inset:re()}],"inset-x":[{"inset-x":re()}],"inset-y":[{"inset-y":re()}],start:[{start:re()}],end:[{end:re()}],top:[{top:re()}],right:[{right:re()}],bottom:[{bottom:re()}],left:[{left:re()}],visibility:["visible","invisible","collapse"],z:[{z:[Ha,"auto",ce,se]}],basis:[{basis:[Cl,"full","auto",f,...I()]}],"flex-direction":[{flex:["row","row-reverse","col","col-reverse"]}],"flex-wrap":[{flex:["nowrap","wrap","wrap-reverse"]}],flex:[{flex:[Ne,Cl,"auto","initial","none",se]}],grow:[{grow:["",Ne,ce,se]}],shrink:[{shrink:["",Ne,ce,se]}],order:[{order:[Ha,"first","last","none",ce,se]}],"grid-cols":[{"grid-cols":ae()}],"col-start-end":[{col:W()}],"col-start":[{"col-start":J()}],"col-end":[{"col-end":J()}],"grid-rows":[{"grid-rows":ae()}],"row-start-end":[{row:W()}],"row-start":[{"row-start":J()}],"row-end":[{"row-end":J()}],"grid-flow":[{"grid-flow":["row","col","dense","row-dense","col-dense"]}],"auto-cols":[{"auto-cols":pe()}],"auto-rows":[{"auto-rows":pe()}],gap:[{gap:I()}],"gap-x":[{"gap-x":I()}],"gap-y":[{"gap-y":I()}],"justify-content":[{justify:[...ge(),"normal"]}],"justify-items":[{"justify-items":[...xe(),"normal"]}],"justify-self":[{"justify-self":["auto",...xe()]}],"align-content":[{content:["normal",...ge()]}],"align-items":[{items:[...xe(),{baseline:["","last"]}]}],"align-self":[{self:["auto",...xe(),{baseline:["","last"]}]}],"place-content":[{"place-content":ge()}],"place-items":[{"place-items":[...xe(),"baseline"]}],"place-self":[{"place-self":["auto",...xe()]}],p:[{p:I()}],px:[{px:I()}],py:[{py:I()}],ps:[{ps:I()}],pe:[{pe:I()}],pt:[{pt:I()}],pr:[{pr:I()}],pb:[{pb:I()}],pl:[{pl:I()}],m:[{m:q()}],mx:[{mx:q()}],my:[{my:q()}],ms:[{ms:q()}],me:[{me:q()}],mt:[{mt:q()}],mr:[{mr:q()}],mb:[{mb:q()}],ml:[{ml:q()}],"space-x":[{"space-x":I()}],"space-x-reverse":["space-x-reverse"],"space-y":[{"space-y":I()}],"space-y-reverse":["space-y-reverse"],size:[{size:Q()}],w:[{w:[f,"screen",...Q()]}],"min-w":[{"min-w":[f,"screen","none",...Q()]}],"max-w":[{"max-w":[f,"screen","none","prose",{screen:[s]},...Q()]}],h:[{h:["screen","lh",...Q()]}],"min-h":[{"min-h":["screen","lh","none",...Q()]}],"max-h":[{"max-h":["screen","lh",...Q()]}],"font-size":[{text:["base",n,cu,bi]}],"font-smoothing":["antialiased","subpixel-antialiased"],"font-style":["italic","not-italic"],"font-weight":[{font:[r,ce,mv]}],"font-stretch":[{"font-stretch":["ultra-condensed","extra-condensed","condensed","semi-condensed","normal","semi-expanded","expanded","extra-expanded","ultra-expanded",hv,se]}],"font-family":[{font:[F3,se,t]}],"fvn-normal":["normal-nums"],"fvn-ordinal":["ordinal"],"fvn-slashed-zero":["slashed-zero"],"fvn-figure":["lining-nums","oldstyle-nums"],"fvn-spacing":["proportional-nums","tabular-nums"],"fvn-fraction":["diagonal-fractions","stacked-fractions"],tracking:[{tracking:[l,ce,se]}],"line-clamp":[{"line-clamp":[Ne,"none",ce,mv]}],leading:[{leading:[o,...I()]}],"list-image":[{"list-image":["none",ce,se]}],"list-style-position":[{list:["inside","outside"]}],"list-style-type":[{list:["disc","decimal","none",ce,se]}],"text-alignment":[{text:["left","center","right","justify","start","end"]}],"placeholder-color":[{placeholder:X()}],"text-color":[{text:X()}],"text-decoration":["underline","overline","line-through","no-underline"],"text-decoration-style":[{decoration:[...he(),"wavy"]}],"text-decoration-thickness":[{decoration:[Ne,"from-font","auto",ce,bi]}],"text-decoration-color":[{decoration:X()}],"underline-offset":[{"underline-offset":[Ne,"auto",ce,se]}],"text-transform":["uppercase","lowercase","capitalize","normal-case"],"text-overflow":["truncate","text-ellipsis","text-clip"],"text-wrap":[{text:["wrap","nowrap","balance","pretty"]}],indent:[{indent:I()}],"vertical-align":[{align:["baseline","top","middle","bottom","text-top","text-bottom","sub","super",ce,se]}],whitespace:[{whitespace:["normal","nowrap","pre","pre-line","pre-wrap","break-spaces"]}],break:[{break:["normal","words","all","keep"]}],wrap:[{wrap:["break-word","anywhere","normal"]}],hyphens:[{hyphens:["none","manual","auto"]}],content:[{content:["none",ce,se]}],"bg-attachment":[{bg:["fixed","local","scroll"]}],"bg-clip":[{"bg-clip":["border","padding","content","text"]}],"bg-origin":[{"bg-origin":["border","padding","content"]}],"bg-position":[{bg:le()}],"bg-repeat":[{bg:Oe()}],"bg-size":[{bg:P()}],"bg-image":[{bg:["none",{linear:[{to:["t","tr","r","br","b","bl","l","tl"]},Ha,ce,se],radial:["",ce,se],conic:[Ha,ce,se]},Z3,X3]}],"bg-color":[{bg:X()}],"gradient-from-pos":[{from:K()}],"gradient-via-pos":[{via:K()}],"gradient-to-pos":[{to:K()}],"gradient-from":[{from:X()}],"gradient-via":[{via:X()}],"gradient-to":[{to:X()}],rounded:[{rounded:ee()}],"rounded-s":[{"rounded-s":ee()}],"rounded-e":[{"rounded-e":ee()}],"rounded-t":[{"rounded-t":ee()}],"rounded-r":[{"rounded-r":ee()}],"rounded-b":[{"rounded-b":ee()}],"rounded-l":[{"rounded-l":ee()}],"rounded-ss":[{"rounded-ss":ee()}],"rounded-se":[{"rounded-se":ee()}],"rounded-ee":[{"rounded-ee":ee()}],"rounded-es":[{"rounded-es":ee()}],"rounded-tl":[{"rounded-tl":ee()}],"rounded-tr":[{"rounded-tr":ee()}],"rounded-br":[{"rounded-br":ee()}],"rounded-bl":[{"rounded-bl":ee()}],"border-w":[{border:ne()}],"border-w-x":[{"border-x":ne()}],"border-w-y":[{"border-y":ne()}],"border-w-s":[{"border-s":ne()}],"border-w-e":[{"border-e":ne()}],"border-w-t":[{"border-t":ne()}],"border-w-r":[{"border-r":ne()}],"border-w-b":[{"border-b":ne()}],"border-w-l":[{"border-l":ne()}],"divide-x":[{"divide-x":ne()}],"divide-x-reverse":["divide-x-reverse"],"divide-y":[{"divide-y":ne()}],"divide-y-reverse":["divide-y-reverse"],"border-style":[{border:[...he(),"hidden","none"]}],"divide-style":[{divide:[...he(),"hidden","none"]}],"border-color":[{border:X()}],"border-color-x":[{"border-x":X()}],"border-color-y":[{"border-y":X()}],"border-color-s":[{"border-s":X()}],"border-color-e":[{"border-e":X()}],"border-color-t":[{"border-t":X()}],"border-color-r":[{"border-r":X()}],"border-color-b":[{"border-b":X()}],"border-color-l":[{"border-l":X()}],"divide-color":[{divide:X()}],"outline-style":[{outline:[...he(),"none","hidden"]}],"outline-offset":[{"outline-offset":[Ne,ce,se]}],"outline-w":[{outline:["",Ne,cu,bi]}],"outline-color":[{outline:X()}],shadow:[{shadow:["","none",m,_c,Cc]}],"shadow-color":[{shadow:X()}],"inset-shadow":[{"inset-shadow":["none",p,_c,Cc]}],"inset-shadow-color":[{"inset-shadow":X()}],"ring-w":[{ring:ne()}],"ring-w-inset":["ring-inset"],"ring-color":[{ring:X()}],"ring-offset-w":[{"ring-offset":[Ne,bi]}],"ring-offset-color":[{"ring-offset":X()}],"inset-ring-w":[{"inset-ring":ne()}],"inset-ring-color":[{"inset-ring":X()}],"text-shadow":[{"text-shadow":["none",x,_c,Cc]}],"text-shadow-color":[{"text-shadow":X()}],opacity:[{opacity:[Ne,ce,se]}],"mix-blend":[{"mix-blend":[...we(),"plus-darker","plus-lighter"]}],"bg-blend":[{"bg-blend":we()}],"mask-clip":[{"mask-clip":["border","padding","content","fill","stroke","view"]},"mask-no-clip"],"mask-composite":[{mask:["add","subtract","intersect","exclude"]}],"mask-image-linear-pos":[{"mask-linear":[Ne]}],"mask-image-linear-from-pos":[{"mask-linear-from":ue()}],"mask-image-linear-to-pos":[{"mask-linear-to":ue()}],"mask-image-linear-from-color":[{"mask-linear-from":X()}],"mask-image-linear-to-color":[{"mask-linear-to":X()}],"mask-image-t-from-pos":[{"mask-t-from":ue()}],"mask-image-t-to-pos":[{"mask-t-to":ue()}],"mask-image-t-from-color":[{"mask-t-from":X()}],"mask-image-t-to-color":[{"mask-t-to":X()}],"mask-image-r-from-pos":[{"mask-r-from":ue()}],"mask-image-r-to-pos":[{"mask-r-to":ue()}],"mask-image-r-from-color":[{"mask-r-from":X()}],"mask-image-r-to-color":[{"mask-r-to":X()}],"mask-image-b-from-pos":[{"mask-b-from":ue()}],"mask-image-b-to-pos":[{"mask-b-to":ue()}],"mask-image-b-from-color":[{"mask-b-from":X()}],"mask-image-b-to-color":[{"mask-b-to":X()}],"mask-image-l-from-pos":[{"mask-l-from":ue()}],"mask-image-l-to-pos":[{"mask-l-to":ue()}],"mask-image-l-from-color":[{"mask-l-from":X()}],"mask-image-l-to-color":[{"mask-l-to":X()}],"mask-image-x-from-pos":[{"mask-x-from":ue()}],"mask-image-x-to-pos":[{"mask-x-to":ue()}],"mask-image-x-from-color":[{"mask-x-from":X()}],"mask-image-x-to-color":[{"mask-x-to":X()}],"mask-image-y-from-pos":[{"mask-y-from":ue()}],"mask-image-y-to-pos":[{"mask-y-to":ue()}],"mask-image-y-from-color":[{"mask-y-from":X()}],"mask-image-y-to-color":[{"mask-y-to":X()}],"mask-image-radial":[{"mask-radial":[ce,se]}],"mask-image-radial-from-pos":[{"mask-radial-from":ue()}],"mask-image-radial-to-pos":[{"mask-radial-to":ue()}],"mask-image-radial-from-color":[{"mask-radial-from":X()}],"mask-image-radial-to-color":[{"mask-radial-to":X()}],"mask-image-radial-shape":[{"mask-radial":["circle","ellipse"]}],"mask-image-radial-size":[{"mask-radial":[{closest:["side","corner"],farthest:["side","corner"]}]}],"mask-image-radial-pos":[{"mask-radial-at":D()}],"mask-image-conic-pos":[{"mask-conic":[Ne]}],"mask-image-conic-from-pos":[{"mask-conic-from":ue()}],"mask-image-conic-to-pos":[{"mask-conic-to":ue()}],"mask-image-conic-from-color":[{"mask-conic-from":X()}],"mask-image-conic-to-color":[{"mask-conic-to":X()}],"mask-mode":[{mask:["alpha","luminance","match"]}],"mask-origin":[{"mask-origin":["border","padding","content","fill","stroke","view"]}],"mask-position":[{mask:le()}],"mask-repeat":[{mask:Oe()}],"mask-size":[{mask:P()}],"mask-type":[{"mask-type":["alpha","luminance"]}],"mask-image":[{mask:["none",ce,se]}],filter:[{filter:["","none",ce,se]}],blur:[{blur:it()}],brightness:[{brightness:[Ne,ce,se]}],contrast:[{contrast:[Ne,ce,se]}],"drop-shadow":[{"drop-shadow":["","none",w,_c,Cc]}],"drop-shadow-color":[{"drop-shadow":X()}],grayscale:[{grayscale:["",Ne,ce,se]}],"hue-rotate":[{"hue-rotate":[Ne,ce,se]}],invert:[{invert:["",Ne,ce,se]}],saturate:[{saturate:[Ne,ce,se]}],sepia:[{sepia:["",Ne,ce,se]}],"backdrop-filter":[{"backdrop-filter":["","none",ce,se]}],"backdrop-blur":[{"backdrop-blur":it()}],"backdrop-brightness":[{"backdrop-brightness":[Ne,ce,se]}],"backdrop-contrast":[{"backdrop-contrast":[Ne,ce,se]}],"backdrop-grayscale":[{"backdrop-grayscale":["",Ne,ce,se]}],"backdrop-hue-rotate":[{"backdrop-hue-rotate":[Ne,ce,se]}],"backdrop-invert":[{"backdrop-invert":["",Ne,ce,se]}],"backdrop-opacity":[{"backdrop-opacity":[Ne,ce,se]}],"backdrop-saturate":[{"backdrop-saturate":[Ne,ce,se]}],"backdrop-sepia":[{"backdrop-sepia":["",Ne,ce,se]}],"border-collapse":[{border:["collapse","separate"]}],"border-spacing":[{"border-spacing":I()}],"border-spacing-x":[{"border-spacing-x":I()}],"border-spacing-y":[{"border-spacing-y":I()}],"table-layout":[{table:["auto","fixed"]}],caption:[{caption:["top","bottom"]}],transition:[{transition:["","all","colors","opacity","shadow","transform","none",ce,se]}],"transition-behavior":[{transition:["normal","discrete"]}],duration:[{duration:[Ne,"initial",ce,se]}],ease:[{ease:["linear","initial",j,ce,se]}],delay:[{delay:[Ne,ce,se]}],animate:[{animate:["none",_,ce,se]}],backface:[{backface:["hidden","visible"]}],perspective:[{perspective:[A,ce,se]}],"perspective-origin":[{"perspective-origin":T()}],rotate:[{rotate:V()}],"rotate-x":[{"rotate-x":V()}],"rotate-y":[{"rotate-y":V()}],"rotate-z":[{"rotate-z":V()}],scale:[{scale:be()}],"scale-x":[{"scale-x":be()}],"scale-y":[{"scale-y":be()}],"scale-z":[{"scale-z":be()}],"scale-3d":["scale-3d"],skew:[{skew:Ae()}],"skew-x":[{"skew-x":Ae()}],"skew-y":[{"skew-y":Ae()}],transform:[{transform:[ce,se,"","none","gpu","cpu"]}],"transform-origin":[{origin:T()}],"transform-style":[{transform:["3d","flat"]}],translate:[{translate:te()}],"translate-x":[{"translate-x":te()}],"translate-y":[{"translate-y":te()}],"translate-z":[{"translate-z":te()}],"translate-none":["translate-none"],accent:[{accent:X()}],appearance:[{appearance:["none","auto"]}],"caret-color":[{caret:X()}],"color-scheme":[{scheme:["normal","dark","light","light-dark","only-dark","only-light"]}],cursor:[{cursor:["auto","default","pointer","wait","text","move","help","not-allowed","none","context-menu","progress","cell","crosshair","vertical-text","alias","copy","no-drop","grab","grabbing","all-scroll","col-resize","row-resize","n-resize","e-resize","s-resize","w-resize","ne-resize","nw-resize","se-resize","sw-resize","ew-resize","ns-resize","nesw-resize","nwse-resize","zoom-in","zoom-out",ce,se]}],"field-sizing":[{"field-sizing":["fixed","content"]}],"pointer-events":[{"pointer-events":["auto","none"]}],resize:[{resize:["none","","y","x"]}],"scroll-behavior":[{scroll:["auto","smooth"]}],"scroll-m":[{"scroll-m":I()}],"scroll-mx":[{"scroll-mx":I()}],"scroll-my":[{"scroll-my":I()}],"scroll-ms":[{"scroll-ms":I()}],"scroll-me":[{"scroll-me":I()}],"scroll-mt":[{"scroll-mt":I()}],"scroll-mr":[{"scroll-mr":I()}],"scroll-mb":[{"scroll-mb":I()}],"scroll-ml":[{"scroll-ml":I()}],"scroll-p":[{"scroll-p":I()}],"scroll-px":[{"scroll-px":I()}],"scroll-py":[{"scroll-py":I()}],"scroll-ps":[{"scroll-ps":I()}],"scroll-pe":[{"scroll-pe":I()}],"scroll-pt":[{"scroll-pt":I()}],"scroll-pr":[{"scroll-pr":I()}],"scroll-pb":[{"scroll-pb":I()}],"scroll-pl":[{"scroll-pl":I()}],"snap-align":[{snap:["start","end","center","align-none"]}],"snap-stop":[{snap:["normal","always"]}],"snap-type":[{snap:["none","x","y","both"]}],"snap-strictness":[{snap:["mandatory","proximity"]}],touch:[{touch:["auto","none","manipulation"]}],"touch-x":[{"touch-pan":["x","left","right"]}],"touch-y":[{"touch-pan":["y","up","down"]}],"touch-pz":["touch-pinch-zoom"],select:[{select:["none","text","all","auto"]}],"will-change":[{"will-change":["auto","scroll","contents","transform",ce,se]}],fill:[{fill:["none",...X()]}],"stroke-w":[{stroke:[Ne,cu,bi,mv]}],stroke:[{stroke:["none",...X()]}],"forced-color-adjust":[{"forced-color-adjust":["auto","none"]}]},conflictingClassGroups:{overflow:["overflow-x","overflow-y"],overscroll:["overscroll-x","overscroll-y"],inset:["inset-x","inset-y","start","end","top","right","bottom","left"],"inset-x":["right","left"],"inset-y":["top","bottom"],flex:["basis","grow","shrink"],gap:["gap-x","gap-y"],p:["px","py","ps","pe","pt","pr","pb","pl"],px:["pr","pl"],py:["pt","pb"],m:["mx","my","ms","me","mt","mr","mb","ml"],mx:["mr","ml"],my:["mt","mb"],size:["w","h"],"font-size":["leading"],"fvn-normal":["fvn-ordinal","fvn-slashed-zero","fvn-figure","fvn-spacing","fvn-fraction"],"fvn-ordinal":["fvn-normal"],"fvn-slashed-zero":["fvn-normal"],"fvn-figure":["fvn-normal"],"fvn-spacing":["fvn-normal"],"fvn-fraction":["fvn-normal"],"line-clamp":["display","overflow"],rounded:["rounded-s","rounded-e","rounded-t","rounded-r","rounded-b","rounded-l","rounded-ss","rounded-se","rounded-ee","rounded-es","rounded-tl","rounded-tr","rounded-br","rounded-bl"],"rounded-s":["rounded-ss","rounded-es"],"rounded-e":["rounded-se","rounded-ee"],"rounded-t":["rounded-tl","rounded-tr"],"rounded-r":["rounded-tr","rounded-br"],"rounded-b":["rounded-br","rounded-bl"],"rounded-l":["rounded-tl","rounded-bl"],"border-spacing":["border-spacing-x","border-spacing-y"],"border-w":["border-w-x","border-w-y","border-w-s","border-w-e","border-w-t","border-w-r","border-w-b","border-w-l"],"border-w-x":["border-w-r","border-w-l"],"border-w-y":["border-w-t","border-w-b"],"border-color":["border-color-x","border-color-y","border-color-s","border-color-e","border-color-t","border-color-r","border-color-b","border-color-l"],"border-color-x":["border-color-r","border-color-l"],"border-color-y":["border-color-t","border-color-b"],translate:["translate-x","translate-y","translate-none"],"translate-none":["translate","translate-x","translate-y","translate-z"],"scroll-m":["scroll-mx","scroll-my","scroll-ms","scroll-me","scroll-mt","scroll-mr","scroll-mb","scroll-ml"],"scroll-mx":["scroll-mr","scroll-ml"],"scroll-my":["scroll-mt","scroll-mb"],"scroll-p":["scroll-px","scroll-py","scroll-ps","scroll-pe","scroll-pt","scroll-pr","scroll-pb","scroll-pl"],"scroll-px":["scroll-pr","scroll-pl"],"scroll-py":["scroll-pt","scroll-pb"],touch:["touch-x","touch-y","touch-pz"],"touch-x":["touch"],"touch-y":["touch"],"touch-pz":["touch"]},conflictingClassGroupModifiers:{"font-size":["leading"]},orderSensitiveModifiers:["*","**","after","backdrop","before","details-content","file","first-letter","first-line","marker","placeholder","selection"]}},tz=P3(ez);function Xe(...e){return tz(Ve(e))}const nz=Q2("inline-flex items-center justify-center whitespace-nowrap rounded-md text-sm font-medium ring-offset-background transition-colors focus-visible:outline-none focus-visible:ring-2 focus-visible:ring-ring focus-visible:ring-offset-2 disabled:pointer-events-none disabled:opacity-50",{variants:{variant:{default:"bg-primary text-primary-foreground hover:bg-primary/90",destructive:"bg-destructive text-destructive-foreground hover:bg-destructive/90",outline:"border border-input bg-background hover:bg-accent hover:text-accent-foreground",secondary:"bg-secondary text-secondary-foreground hover:bg-secondary/80",ghost:"hover:bg-accent hover:text-accent-foreground",link:"text-primary underline-offset-4 hover:underline"},size:{default:"h-10 px-4 py-2",sm:"h-9 rounded-md px-3",lg:"h-11 rounded-md px-8",icon:"h-10 w-10"}},defaultVariants:{variant:"default",size:"default"}}),ht=g.forwardRef(({className:e,variant:t,size:n,asChild:r=!1,...l},o)=>{const s=r?u3:"button";return b.jsx(s,{className:Xe(nz({variant:t,size:n,className:e})),ref:o,...l})});ht.displayName="Button";const At=g.forwardRef(({className:e,type:t,...n},r)=>b.jsx("input",{type:t,className:Xe("flex h-10 w-full rounded-md border border-input bg-background px-3 py-2 text-sm ring-offset-background file:border-0 file:bg-transparent file:text-sm file:font-medium placeholder:text-muted-foreground focus-visible:outline-none focus-visible:ring-2 focus-visible:ring-ring focus-visible:ring-offset-2 disabled:cursor-not-allowed disabled:opacity-50",e),ref:r,...n}));At.displayName="Input";var rz=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],ug=rz.reduce((e,t)=>{const n=W2(`Primitive.${t}`),r=g.forwardRef((l,o)=>{const{asChild:s,...f}=l,d=s?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),b.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{}),az="Label",fj=g.forwardRef((e,t)=>b.jsx(ug.label,{...e,ref:t,onMouseDown:n=>{n.target.closest("button, input, select, textarea")||(e.onMouseDown?.(n),!n.defaultPrevented&&n.detail>1&&n.preventDefault())}}));fj.displayName=az;var dj=fj;const iz=Q2("text-sm font-medium leading-none peer-disabled:cursor-not-allowed peer-disabled:opacity-70"),bt=g.forwardRef(({className:e,...t},n)=>b.jsx(dj,{ref:n,className:Xe(iz(),e),...t}));bt.displayName=dj.displayName;const xt=g.forwardRef(({className:e,...t},n)=>b.jsx("div",{ref:n,className:Xe("rounded-lg border bg-card text-card-foreground shadow-sm",e),...t}));xt.displayName="Card";const Nt=g.forwardRef(({className:e,...t},n)=>b.jsx("div",{ref:n,className:Xe("flex flex-col space-y-1.5 p-6",e),...t}));Nt.displayName="CardHeader";const Ct=g.forwardRef(({className:e,...t},n)=>b.jsx("h3",{ref:n,className:Xe("text-2xl font-semibold leading-none tracking-tight",e),...t}));Ct.displayName="CardTitle";const qi=g.forwardRef(({className:e,...t},n)=>b.jsx("p",{ref:n,className:Xe("text-sm text-muted-foreground",e),...t}));qi.displayName="CardDescription";const wt=g.forwardRef(({className:e,...t},n)=>b.jsx("div",{ref:n,className:Xe("p-6 pt-0",e),...t}));wt.displayName="CardContent";const sg=g.forwardRef(({className:e,...t},n)=>b.jsx("div",{ref:n,className:Xe("flex items-center p-6 pt-0",e),...t}));sg.displayName="CardFooter";const lz="/api";async function no(e,t={}){const n={headers:{"Content-Type":"application/json"}},r={...n,...t,headers:{...n.headers,...t.headers}};let l;try{l=await fetch(`${lz}${e}`,r)}catch{throw new Error("Network error")}if(!l.ok){let o="An error occurred";try{o=(await l.json()).message||o}catch{o=await l.text()}throw new Error(o)}if(l.status===204)return null;try{return await l.json()}catch{return null}}const bS=(e,t)=>no("/auth/login",{method:"POST",body:JSON.stringify({email:e,sifre:t})}),oz=e=>no("/auth/register",{method:"POST",body:JSON.stringify(e)}),hj=e=>no(`/accounts/summary/${e}`),mj=e=>no(`/transactions/history/${e}`),uz=e=>no("/transactions/transfer",{method:"POST",body:JSON.stringify(e)});const sz=e=>e.replace(/([a-z0-9])([A-Z])/g,"$1-$2").toLowerCase(),cz=e=>e.replace(/^([A-Z])|[\s-_]+(\w)/g,(t,n,r)=>r?r.toUpperCase():n.toLowerCase()),xS=e=>{const t=cz(e);return t.charAt(0).toUpperCase()+t.slice(1)},vj=(...e)=>e.filter((t,n,r)=>!!t&&t.trim()!==""&&r.indexOf(t)===n).join(" ").trim(),fz=e=>{for(const t in e)if(t.startsWith("aria-")||t==="role"||t==="title")return!0};var dz={xmlns:"http://www.w3.org/2000/svg",width:24,height:24,viewBox:"0 0 24 24",fill:"none",stroke:"currentColor",strokeWidth:2,strokeLinecap:"round",strokeLinejoin:"round"};const hz=g.forwardRef(({color:e="currentColor",size:t=24,strokeWidth:n=2,absoluteStrokeWidth:r,className:l="",children:o,iconNode:s,...f},d)=>g.createElement("svg",{ref:d,...dz,width:t,height:t,stroke:e,strokeWidth:r?Number(n)*24/Number(t):n,className:vj("lucide",l),...!o&&!fz(f)&&{"aria-hidden":"true"},...f},[...s.map(([h,m])=>g.createElement(h,m)),...Array.isArray(o)?o:[o]]));const at=(e,t)=>{const n=g.forwardRef(({className:r,...l},o)=>g.createElement(hz,{ref:o,iconNode:t,className:vj(`lucide-${sz(xS(e))}`,`lucide-${e}`,r),...l}));return n.displayName=xS(e),n};const mz=[["path",{d:"M22 12h-2.48a2 2 0 0 0-1.93 1.46l-2.35 8.36a.25.25 0 0 1-.48 0L9.24 2.18a.25.25 0 0 0-.48 0l-2.35 8.36A2 2 0 0 1 4.49 12H2",key:"169zse"}]],vz=at("activity",mz);const pz=[["rect",{width:"20",height:"12",x:"2",y:"6",rx:"2",key:"9lu3g6"}],["circle",{cx:"12",cy:"12",r:"2",key:"1c9p78"}],["path",{d:"M6 12h.01M18 12h.01",key:"113zkx"}]],pj=at("banknote",pz);const yz=[["path",{d:"M11.767 19.089c4.924.868 6.14-6.025 1.216-6.894m-1.216 6.894L5.86 18.047m5.908 1.042-.347 1.97m1.563-8.864c4.924.869 6.14-6.025 1.215-6.893m-1.215 6.893-3.94-.694m5.155-6.2L8.29 4.26m5.908 1.042.348-1.97M7.48 20.364l3.126-17.727",key:"yr8idg"}]],gz=at("bitcoin",yz);const bz=[["circle",{cx:"12",cy:"12",r:"10",key:"1mglay"}],["line",{x1:"12",x2:"12",y1:"8",y2:"12",key:"1pkeuh"}],["line",{x1:"12",x2:"12.01",y1:"16",y2:"16",key:"4dfq90"}]],xz=at("circle-alert",bz);const wz=[["path",{d:"M21.801 10A10 10 0 1 1 17 3.335",key:"yps3ct"}],["path",{d:"m9 11 3 3L22 4",key:"1pflzl"}]],Sz=at("circle-check-big",wz);const Ez=[["circle",{cx:"12",cy:"12",r:"10",key:"1mglay"}],["path",{d:"m15 9-6 6",key:"1uzhvr"}],["path",{d:"m9 9 6 6",key:"z0biqf"}]],Oz=at("circle-x",Ez);const Az=[["rect",{width:"20",height:"14",x:"2",y:"5",rx:"2",key:"ynyp8z"}],["line",{x1:"2",x2:"22",y1:"10",y2:"10",key:"1b3vmo"}]],yj=at("credit-card",Az);const jz=[["line",{x1:"12",x2:"12",y1:"2",y2:"22",key:"7eqyqh"}],["path",{d:"M17 5H9.5a3.5 3.5 0 0 0 0 7h5a3.5 3.5 0 0 1 0 7H6",key:"1b0p4s"}]],Nz=at("dollar-sign",jz);const Cz=[["path",{d:"M3 12a9 9 0 1 0 9-9 9.75 9.75 0 0 0-6.74 2.74L3 8",key:"1357e3"}],["path",{d:"M3 3v5h5",key:"1xhq8a"}],["path",{d:"M12 7v5l4 2",key:"1fdv2h"}]],_z=at("history",Cz);const Tz=[["rect",{width:"7",height:"9",x:"3",y:"3",rx:"1",key:"10lvy0"}],["rect",{width:"7",height:"5",x:"14",y:"3",rx:"1",key:"16une8"}],["rect",{width:"7",height:"9",x:"14",y:"12",rx:"1",key:"1hutg5"}],["rect",{width:"7",height:"5",x:"3",y:"16",rx:"1",key:"ldoo1y"}]],Mz=at("layout-dashboard",Tz);const Dz=[["path",{d:"M21 12a9 9 0 1 1-6.219-8.56",key:"13zald"}]],cg=at("loader-circle",Dz);const kz=[["rect",{width:"18",height:"11",x:"3",y:"11",rx:"2",ry:"2",key:"1w4ew1"}],["path",{d:"M7 11V7a5 5 0 0 1 10 0v4",key:"fwvmzm"}]],gj=at("lock",kz);const Pz=[["path",{d:"m16 17 5-5-5-5",key:"1bji2h"}],["path",{d:"M21 12H9",key:"dn1m92"}],["path",{d:"M9 21H5a2 2 0 0 1-2-2V5a2 2 0 0 1 2-2h4",key:"1uf3rs"}]],Rz=at("log-out",Pz);const zz=[["path",{d:"m22 7-8.991 5.727a2 2 0 0 1-2.009 0L2 7",key:"132q7q"}],["rect",{x:"2",y:"4",width:"20",height:"16",rx:"2",key:"izxlao"}]],Lz=at("mail",zz);const Bz=[["path",{d:"M5 12h14",key:"1ays0h"}],["path",{d:"M12 5v14",key:"s699le"}]],Uz=at("plus",Bz);const Iz=[["path",{d:"M9.671 4.136a2.34 2.34 0 0 1 4.659 0 2.34 2.34 0 0 0 3.319 1.915 2.34 2.34 0 0 1 2.33 4.033 2.34 2.34 0 0 0 0 3.831 2.34 2.34 0 0 1-2.33 4.033 2.34 2.34 0 0 0-3.319 1.915 2.34 2.34 0 0 1-4.659 0 2.34 2.34 0 0 0-3.32-1.915 2.34 2.34 0 0 1-2.33-4.033 2.34 2.34 0 0 0 0-3.831A2.34 2.34 0 0 1 6.35 6.051a2.34 2.34 0 0 0 3.319-1.915",key:"1i5ecw"}],["circle",{cx:"12",cy:"12",r:"3",key:"1v7zrd"}]],qz=at("settings",Iz);const Hz=[["path",{d:"M20 13c0 5-3.5 7.5-7.66 8.95a1 1 0 0 1-.67-.01C7.5 20.5 4 18 4 13V6a1 1 0 0 1 1-1c2 0 4.5-1.2 6.24-2.72a1.17 1.17 0 0 1 1.52 0C14.51 3.81 17 5 19 5a1 1 0 0 1 1 1z",key:"oel41y"}]],bj=at("shield",Hz);const $z=[["path",{d:"M16 17h6v-6",key:"t6n2it"}],["path",{d:"m22 17-8.5-8.5-5 5L2 7",key:"x473p"}]],wS=at("trending-down",$z);const Yz=[["path",{d:"M16 7h6v6",key:"box55l"}],["path",{d:"m22 7-8.5 8.5-5-5L2 17",key:"1t1m79"}]],fg=at("trending-up",Yz);const Kz=[["path",{d:"M19 21v-2a4 4 0 0 0-4-4H9a4 4 0 0 0-4 4v2",key:"975kel"}],["circle",{cx:"12",cy:"7",r:"4",key:"17ys0d"}]],xj=at("user",Kz);const Gz=[["path",{d:"M19 7V4a1 1 0 0 0-1-1H5a2 2 0 0 0 0 4h15a1 1 0 0 1 1 1v4h-3a2 2 0 0 0 0 4h3a1 1 0 0 0 1-1v-2a1 1 0 0 0-1-1",key:"18etb6"}],["path",{d:"M3 5v14a2 2 0 0 0 2 2h15a1 1 0 0 0 1-1v-4",key:"xoc0q4"}]],SS=at("wallet",Gz);const Vz=[["path",{d:"M18 6 6 18",key:"1bl5f8"}],["path",{d:"m6 6 12 12",key:"d8bk6v"}]],Xz=at("x",Vz);const Fz=[["path",{d:"M4 14a1 1 0 0 1-.78-1.63l9.9-10.2a.5.5 0 0 1 .86.46l-1.92 6.02A1 1 0 0 0 13 10h7a1 1 0 0 1 .78 1.63l-9.9 10.2a.5.5 0 0 1-.86-.46l1.92-6.02A1 1 0 0 0 11 14z",key:"1xq2db"}]],Wz=at("zap",Fz);function Zz(){const[e,t]=g.useState(""),[n,r]=g.useState(""),[l,o]=g.useState(!1),[s,f]=g.useState(""),d=qu(),h=async p=>{p.preventDefault(),o(!0),f("");try{const x=await bS(e,n);localStorage.setItem("dinoUser",JSON.stringify(x)),d("/dashboard")}catch(x){f(x.message)}finally{o(!1)}},m=async(p,x)=>{t(p),r(x),o(!0);try{const w=await bS(p,x);localStorage.setItem("dinoUser",JSON.stringify(w)),d("/dashboard")}catch(w){f("Demo login failed: "+w.message),o(!1)}};return b.jsxs("div",{className:"min-h-screen flex items-center justify-center p-4 relative overflow-hidden",children:[b.jsx("div",{className:"absolute top-[-10%] left-[-10%] w-[500px] h-[500px] bg-primary/20 rounded-full blur-[100px]"}),b.jsx("div",{className:"absolute bottom-[-10%] right-[-10%] w-[500px] h-[500px] bg-blue-500/10 rounded-full blur-[100px]"}),b.jsxs(xt,{className:"w-full max-w-md glass border-white/10 shadow-2xl relative z-10",children:[b.jsxs(Nt,{className:"space-y-2 text-center pb-8",children:[b.jsx("div",{className:"mx-auto w-16 h-16 bg-primary/20 rounded-2xl flex items-center justify-center mb-4 border border-primary/20",children:b.jsx("span",{className:"text-3xl",children:"🦖"})}),b.jsx(Ct,{className:"text-3xl font-bold tracking-tight bg-gradient-to-r from-white to-white/60 bg-clip-text text-transparent",children:"DinoBank"}),b.jsx(qi,{className:"text-slate-400 text-base",children:"Tarih öncesi güven, modern hız."})]}),b.jsx(wt,{children:b.jsxs("form",{onSubmit:h,className:"space-y-5",children:[b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"email",className:"text-slate-300",children:"E-posta"}),b.jsxs("div",{className:"relative group",children:[b.jsx(Lz,{className:"absolute left-3 top-3 h-4 w-4 text-slate-500 group-focus-within:text-primary transition-colors"}),b.jsx(At,{id:"email",type:"email",placeholder:"m@ornek.com",className:"pl-10 bg-black/20 border-white/10 focus:border-primary/50 focus:ring-primary/20 h-11 transition-all",value:e,onChange:p=>t(p.target.value),required:!0})]})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"password",className:"text-slate-300",children:"Şifre"}),b.jsxs("div",{className:"relative group",children:[b.jsx(gj,{className:"absolute left-3 top-3 h-4 w-4 text-slate-500 group-focus-within:text-primary transition-colors"}),b.jsx(At,{id:"password",type:"password",className:"pl-10 bg-black/20 border-white/10 focus:border-primary/50 focus:ring-primary/20 h-11 transition-all",value:n,onChange:p=>r(p.target.value),required:!0})]})]}),s&&b.jsx("p",{className:"text-sm text-red-400 font-medium bg-red-900/20 p-3 rounded-lg border border-red-900/50",children:s}),b.jsx(ht,{type:"submit",className:"w-full h-11 bg-primary hover:bg-primary/90 text-black font-bold text-base shadow-lg shadow-primary/20 transition-all hover:scale-[1.02]",disabled:l,children:l?b.jsx(cg,{className:"mr-2 h-5 w-5 animate-spin"}):"Giriş Yap"}),b.jsxs("div",{className:"relative py-2",children:[b.jsx("div",{className:"absolute inset-0 flex items-center",children:b.jsx("span",{className:"w-full border-t border-white/10"})}),b.jsx("div",{className:"relative flex justify-center text-xs uppercase",children:b.jsx("span",{className:"bg-transparent px-2 text-slate-500 font-medium",children:"Hızlı Demo Girişi"})})]}),b.jsxs("div",{className:"grid grid-cols-3 gap-2",children:[b.jsx(ht,{type:"button",variant:"outline",className:"h-10 border-white/10 bg-white/5 hover:bg-white/10 hover:text-white text-slate-300 text-xs",onClick:()=>m("osman@dino.com","123"),children:"🦖 Osman"}),b.jsx(ht,{type:"button",variant:"outline",className:"h-10 border-white/10 bg-white/5 hover:bg-white/10 hover:text-white text-slate-300 text-xs",onClick:()=>m("kursat@dino.com","123"),children:"🦕 Kürşat"}),b.jsx(ht,{type:"button",variant:"outline",className:"h-10 border-white/10 bg-white/5 hover:bg-white/10 hover:text-white text-slate-300 text-xs",onClick:()=>m("ilkmert@dino.com","123"),children:"🥚 İlkmert"})]})]})}),b.jsx(sg,{className:"flex justify-center pb-8",children:b.jsxs("p",{className:"text-sm text-slate-500",children:["Hesabınız yok mu?"," ",b.jsx(Va,{to:"/register",className:"text-primary hover:text-primary/80 font-semibold transition-colors",children:"Kayıt Ol"})]})})]})]})}function Qz(){const[e,t]=g.useState({ad:"",soyad:"",email:"",tcKimlikNo:"",telefon:"",dogumTarihi:"",sifre:"",adres:""}),[n,r]=g.useState(!1),[l,o]=g.useState(""),s=qu(),f=h=>{t({...e,[h.target.id]:h.target.value})},d=async h=>{h.preventDefault(),r(!0),o("");try{await oz(e),localStorage.removeItem("token"),localStorage.removeItem("dinoUser"),s("/login")}catch(m){o(m.message)}finally{r(!1)}};return b.jsxs("div",{className:"min-h-screen flex items-center justify-center bg-slate-50 dark:bg-slate-950 p-4 py-8 relative overflow-hidden",children:[b.jsx("div",{className:"absolute top-[-10%] right-[-10%] w-[500px] h-[500px] bg-primary/20 rounded-full blur-[100px]"}),b.jsx("div",{className:"absolute bottom-[-10%] left-[-10%] w-[500px] h-[500px] bg-blue-500/10 rounded-full blur-[100px]"}),b.jsxs(xt,{className:"w-full max-w-lg glass border-white/10 shadow-2xl relative z-10",children:[b.jsxs(Nt,{className:"space-y-1",children:[b.jsx(Ct,{className:"text-2xl font-bold text-center text-primary",children:"DinoBank'a Katıl"}),b.jsx(qi,{className:"text-center text-slate-400",children:"Başlamak için hesabınızı oluşturun"})]}),b.jsx(wt,{children:b.jsxs("form",{onSubmit:d,className:"space-y-4",children:[b.jsxs("div",{className:"grid grid-cols-2 gap-4",children:[b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"ad",className:"text-slate-300",children:"Ad"}),b.jsx(At,{id:"ad",placeholder:"Ahmet",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"soyad",className:"text-slate-300",children:"Soyad"}),b.jsx(At,{id:"soyad",placeholder:"Yılmaz",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"email",className:"text-slate-300",children:"E-posta"}),b.jsx(At,{id:"email",type:"email",placeholder:"m@ornek.com",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]}),b.jsxs("div",{className:"grid grid-cols-2 gap-4",children:[b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"tcKimlikNo",className:"text-slate-300",children:"TC Kimlik No"}),b.jsx(At,{id:"tcKimlikNo",placeholder:"11111111111",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"telefon",className:"text-slate-300",children:"Telefon"}),b.jsx(At,{id:"telefon",placeholder:"5551234567",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"dogumTarihi",className:"text-slate-300",children:"Doğum Tarihi"}),b.jsx(At,{id:"dogumTarihi",type:"date",onChange:f,required:!0,className:"bg-black/20 border-white/10 text-white"})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"sifre",className:"text-slate-300",children:"Şifre"}),b.jsx(At,{id:"sifre",type:"password",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"adres",className:"text-slate-300",children:"Adres"}),b.jsx(At,{id:"adres",placeholder:"Tam adresiniz...",onChange:f,required:!0,className:"bg-black/20 border-white/10"})]}),l&&b.jsx("p",{className:"text-sm text-red-400 font-medium",children:l}),b.jsx(ht,{type:"submit",className:"w-full bg-primary hover:bg-primary/90 text-black font-bold",disabled:n,children:n?b.jsx(cg,{className:"mr-2 h-4 w-4 animate-spin"}):"Hesap Oluştur"})]})}),b.jsx(sg,{className:"flex justify-center",children:b.jsxs("p",{className:"text-sm text-slate-500",children:["Zaten hesabınız var mı?"," ",b.jsx(Va,{to:"/login",className:"text-primary hover:underline font-medium",children:"Giriş Yap"})]})})]})]})}function Jz(e,t=[]){let n=[];function r(o,s){const f=g.createContext(s);f.displayName=o+"Context";const d=n.length;n=[...n,s];const h=p=>{const{scope:x,children:w,...O}=p,A=x?.[e]?.[d]||f,S=g.useMemo(()=>O,Object.values(O));return b.jsx(A.Provider,{value:S,children:w})};h.displayName=o+"Provider";function m(p,x){const w=x?.[e]?.[d]||f,O=g.useContext(w);if(O)return O;if(s!==void 0)return s;throw new Error(`\`${p}\` must be used within \`${o}\``)}return[h,m]}const l=()=>{const o=n.map(s=>g.createContext(s));return function(f){const d=f?.[e]||o;return g.useMemo(()=>({[`__scope${e}`]:{...f,[e]:d}}),[f,d])}};return l.scopeName=e,[r,e4(l,...t)]}function e4(...e){const t=e[0];if(e.length===1)return t;const n=()=>{const r=e.map(l=>({useScope:l(),scopeName:l.scopeName}));return function(o){const s=r.reduce((f,{useScope:d,scopeName:h})=>{const p=d(o)[`__scope${h}`];return{...f,...p}},{});return g.useMemo(()=>({[`__scope${t.scopeName}`]:s}),[s])}};return n.scopeName=t.scopeName,n}var dg="Progress",hg=100,[t4]=Jz(dg),[n4,r4]=t4(dg),wj=g.forwardRef((e,t)=>{const{__scopeProgress:n,value:r=null,max:l,getValueLabel:o=a4,...s}=e;(l||l===0)&&!ES(l)&&console.error(i4(`${l}`,"Progress"));const f=ES(l)?l:hg;r!==null&&!OS(r,f)&&console.error(l4(`${r}`,"Progress"));const d=OS(r,f)?r:null,h=ff(d)?o(d,f):void 0;return b.jsx(n4,{scope:n,value:d,max:f,children:b.jsx(ug.div,{"aria-valuemax":f,"aria-valuemin":0,"aria-valuenow":ff(d)?d:void 0,"aria-valuetext":h,role:"progressbar","data-state":Oj(d,f),"data-value":d??void 0,"data-max":f,...s,ref:t})})});wj.displayName=dg;var Sj="ProgressIndicator",Ej=g.forwardRef((e,t)=>{const{__scopeProgress:n,...r}=e,l=r4(Sj,n);return b.jsx(ug.div,{"data-state":Oj(l.value,l.max),"data-value":l.value??void 0,"data-max":l.max,...r,ref:t})});Ej.displayName=Sj;function a4(e,t){return`${Math.round(e/t*100)}%`}function Oj(e,t){return e==null?"indeterminate":e===t?"complete":"loading"}function ff(e){return typeof e=="number"}function ES(e){return ff(e)&&!isNaN(e)&&e>0}function OS(e,t){return ff(e)&&!isNaN(e)&&e<=t&&e>=0}function i4(e,t){return`Invalid prop \`max\` of value \`${e}\` supplied to \`${t}\`. Only numbers greater than 0 are valid max values. Defaulting to \`${hg}\`.`}function l4(e,t){return`Invalid prop \`value\` of value \`${e}\` supplied to \`${t}\`. The \`value\` prop must be:
-  - a positive number
-  - less than the value passed to \`max\` (or ${hg} if no \`max\` prop is set)
-  - \`null\` or \`undefined\` if the progress is indeterminate.
-
-Defaulting to \`null\`.`}var Aj=wj,o4=Ej;const xu=g.forwardRef(({className:e,value:t,...n},r)=>b.jsx(Aj,{ref:r,className:Xe("relative h-4 w-full overflow-hidden rounded-full bg-secondary",e),...n,children:b.jsx(o4,{className:"h-full w-full flex-1 bg-primary transition-all",style:{transform:`translateX(-${100-(t||0)}%)`}})}));xu.displayName=Aj.displayName;const ji=g.forwardRef(({className:e,...t},n)=>b.jsx("div",{className:"relative w-full overflow-auto",children:b.jsx("table",{ref:n,className:Xe("w-full caption-bottom text-sm",e),...t})}));ji.displayName="Table";const Ni=g.forwardRef(({className:e,...t},n)=>b.jsx("thead",{ref:n,className:Xe("[&_tr]:border-b",e),...t}));Ni.displayName="TableHeader";const Ci=g.forwardRef(({className:e,...t},n)=>b.jsx("tbody",{ref:n,className:Xe("[&_tr:last-child]:border-0",e),...t}));Ci.displayName="TableBody";const u4=g.forwardRef(({className:e,...t},n)=>b.jsx("tfoot",{ref:n,className:Xe("border-t bg-muted/50 font-medium [&>tr]:last:border-b-0",e),...t}));u4.displayName="TableFooter";const Ft=g.forwardRef(({className:e,...t},n)=>b.jsx("tr",{ref:n,className:Xe("border-b transition-colors hover:bg-muted/50 data-[state=selected]:bg-muted",e),...t}));Ft.displayName="TableRow";const Fe=g.forwardRef(({className:e,...t},n)=>b.jsx("th",{ref:n,className:Xe("h-12 px-4 text-left align-middle font-medium text-muted-foreground [&:has([role=checkbox])]:pr-0",e),...t}));Fe.displayName="TableHead";const Be=g.forwardRef(({className:e,...t},n)=>b.jsx("td",{ref:n,className:Xe("p-4 align-middle [&:has([role=checkbox])]:pr-0",e),...t}));Be.displayName="TableCell";const s4=g.forwardRef(({className:e,...t},n)=>b.jsx("caption",{ref:n,className:Xe("mt-4 text-sm text-muted-foreground",e),...t}));s4.displayName="TableCaption";var c4=["dangerouslySetInnerHTML","onCopy","onCopyCapture","onCut","onCutCapture","onPaste","onPasteCapture","onCompositionEnd","onCompositionEndCapture","onCompositionStart","onCompositionStartCapture","onCompositionUpdate","onCompositionUpdateCapture","onFocus","onFocusCapture","onBlur","onBlurCapture","onChange","onChangeCapture","onBeforeInput","onBeforeInputCapture","onInput","onInputCapture","onReset","onResetCapture","onSubmit","onSubmitCapture","onInvalid","onInvalidCapture","onLoad","onLoadCapture","onError","onErrorCapture","onKeyDown","onKeyDownCapture","onKeyPress","onKeyPressCapture","onKeyUp","onKeyUpCapture","onAbort","onAbortCapture","onCanPlay","onCanPlayCapture","onCanPlayThrough","onCanPlayThroughCapture","onDurationChange","onDurationChangeCapture","onEmptied","onEmptiedCapture","onEncrypted","onEncryptedCapture","onEnded","onEndedCapture","onLoadedData","onLoadedDataCapture","onLoadedMetadata","onLoadedMetadataCapture","onLoadStart","onLoadStartCapture","onPause","onPauseCapture","onPlay","onPlayCapture","onPlaying","onPlayingCapture","onProgress","onProgressCapture","onRateChange","onRateChangeCapture","onSeeked","onSeekedCapture","onSeeking","onSeekingCapture","onStalled","onStalledCapture","onSuspend","onSuspendCapture","onTimeUpdate","onTimeUpdateCapture","onVolumeChange","onVolumeChangeCapture","onWaiting","onWaitingCapture","onAuxClick","onAuxClickCapture","onClick","onClickCapture","onContextMenu","onContextMenuCapture","onDoubleClick","onDoubleClickCapture","onDrag","onDragCapture","onDragEnd","onDragEndCapture","onDragEnter","onDragEnterCapture","onDragExit","onDragExitCapture","onDragLeave","onDragLeaveCapture","onDragOver","onDragOverCapture","onDragStart","onDragStartCapture","onDrop","onDropCapture","onMouseDown","onMouseDownCapture","onMouseEnter","onMouseLeave","onMouseMove","onMouseMoveCapture","onMouseOut","onMouseOutCapture","onMouseOver","onMouseOverCapture","onMouseUp","onMouseUpCapture","onSelect","onSelectCapture","onTouchCancel","onTouchCancelCapture","onTouchEnd","onTouchEndCapture","onTouchMove","onTouchMoveCapture","onTouchStart","onTouchStartCapture","onPointerDown","onPointerDownCapture","onPointerMove","onPointerMoveCapture","onPointerUp","onPointerUpCapture","onPointerCancel","onPointerCancelCapture","onPointerEnter","onPointerEnterCapture","onPointerLeave","onPointerLeaveCapture","onPointerOver","onPointerOverCapture","onPointerOut","onPointerOutCapture","onGotPointerCapture","onGotPointerCaptureCapture","onLostPointerCapture","onLostPointerCaptureCapture","onScroll","onScrollCapture","onWheel","onWheelCapture","onAnimationStart","onAnimationStartCapture","onAnimationEnd","onAnimationEndCapture","onAnimationIteration","onAnimationIterationCapture","onTransitionEnd","onTransitionEndCapture"];function mg(e){if(typeof e!="string")return!1;var t=c4;return t.includes(e)}var f4=["aria-activedescendant","aria-atomic","aria-autocomplete","aria-busy","aria-checked","aria-colcount","aria-colindex","aria-colspan","aria-controls","aria-current","aria-describedby","aria-details","aria-disabled","aria-errormessage","aria-expanded","aria-flowto","aria-haspopup","aria-hidden","aria-invalid","aria-keyshortcuts","aria-label","aria-labelledby","aria-level","aria-live","aria-modal","aria-multiline","aria-multiselectable","aria-orientation","aria-owns","aria-placeholder","aria-posinset","aria-pressed","aria-readonly","aria-relevant","aria-required","aria-roledescription","aria-rowcount","aria-rowindex","aria-rowspan","aria-selected","aria-setsize","aria-sort","aria-valuemax","aria-valuemin","aria-valuenow","aria-valuetext","className","color","height","id","lang","max","media","method","min","name","style","target","width","role","tabIndex","accentHeight","accumulate","additive","alignmentBaseline","allowReorder","alphabetic","amplitude","arabicForm","ascent","attributeName","attributeType","autoReverse","azimuth","baseFrequency","baselineShift","baseProfile","bbox","begin","bias","by","calcMode","capHeight","clip","clipPath","clipPathUnits","clipRule","colorInterpolation","colorInterpolationFilters","colorProfile","colorRendering","contentScriptType","contentStyleType","cursor","cx","cy","d","decelerate","descent","diffuseConstant","direction","display","divisor","dominantBaseline","dur","dx","dy","edgeMode","elevation","enableBackground","end","exponent","externalResourcesRequired","fill","fillOpacity","fillRule","filter","filterRes","filterUnits","floodColor","floodOpacity","focusable","fontFamily","fontSize","fontSizeAdjust","fontStretch","fontStyle","fontVariant","fontWeight","format","from","fx","fy","g1","g2","glyphName","glyphOrientationHorizontal","glyphOrientationVertical","glyphRef","gradientTransform","gradientUnits","hanging","horizAdvX","horizOriginX","href","ideographic","imageRendering","in2","in","intercept","k1","k2","k3","k4","k","kernelMatrix","kernelUnitLength","kerning","keyPoints","keySplines","keyTimes","lengthAdjust","letterSpacing","lightingColor","limitingConeAngle","local","markerEnd","markerHeight","markerMid","markerStart","markerUnits","markerWidth","mask","maskContentUnits","maskUnits","mathematical","mode","numOctaves","offset","opacity","operator","order","orient","orientation","origin","overflow","overlinePosition","overlineThickness","paintOrder","panose1","pathLength","patternContentUnits","patternTransform","patternUnits","pointerEvents","pointsAtX","pointsAtY","pointsAtZ","preserveAlpha","preserveAspectRatio","primitiveUnits","r","radius","refX","refY","renderingIntent","repeatCount","repeatDur","requiredExtensions","requiredFeatures","restart","result","rotate","rx","ry","seed","shapeRendering","slope","spacing","specularConstant","specularExponent","speed","spreadMethod","startOffset","stdDeviation","stemh","stemv","stitchTiles","stopColor","stopOpacity","strikethroughPosition","strikethroughThickness","string","stroke","strokeDasharray","strokeDashoffset","strokeLinecap","strokeLinejoin","strokeMiterlimit","strokeOpacity","strokeWidth","surfaceScale","systemLanguage","tableValues","targetX","targetY","textAnchor","textDecoration","textLength","textRendering","to","transform","u1","u2","underlinePosition","underlineThickness","unicode","unicodeBidi","unicodeRange","unitsPerEm","vAlphabetic","values","vectorEffect","version","vertAdvY","vertOriginX","vertOriginY","vHanging","vIdeographic","viewTarget","visibility","vMathematical","widths","wordSpacing","writingMode","x1","x2","x","xChannelSelector","xHeight","xlinkActuate","xlinkArcrole","xlinkHref","xlinkRole","xlinkShow","xlinkTitle","xlinkType","xmlBase","xmlLang","xmlns","xmlnsXlink","xmlSpace","y1","y2","y","yChannelSelector","z","zoomAndPan","ref","key","angle"],d4=new Set(f4);function jj(e){return typeof e!="string"?!1:d4.has(e)}function Nj(e){return typeof e=="string"&&e.startsWith("data-")}function sr(e){if(typeof e!="object"||e===null)return{};var t={};for(var n in e)Object.prototype.hasOwnProperty.call(e,n)&&(jj(n)||Nj(n))&&(t[n]=e[n]);return t}function ad(e){if(e==null)return null;if(g.isValidElement(e)&&typeof e.props=="object"&&e.props!==null){var t=e.props;return sr(t)}return typeof e=="object"&&!Array.isArray(e)?sr(e):null}function Zn(e){var t={};for(var n in e)Object.prototype.hasOwnProperty.call(e,n)&&(jj(n)||Nj(n)||mg(n))&&(t[n]=e[n]);return t}function h4(e){return e==null?null:g.isValidElement(e)?Zn(e.props):typeof e=="object"&&!Array.isArray(e)?Zn(e):null}var m4=["children","width","height","viewBox","className","style","title","desc"];function ny(){return ny=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},ny.apply(null,arguments)}function v4(e,t){if(e==null)return{};var n,r,l=p4(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function p4(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var Cj=g.forwardRef((e,t)=>{var{children:n,width:r,height:l,viewBox:o,className:s,style:f,title:d,desc:h}=e,m=v4(e,m4),p=o||{width:r,height:l,x:0,y:0},x=Ve("recharts-surface",s);return g.createElement("svg",ny({},Zn(m),{className:x,width:r,height:l,style:f,viewBox:"".concat(p.x," ").concat(p.y," ").concat(p.width," ").concat(p.height),ref:t}),g.createElement("title",null,d),g.createElement("desc",null,h),n)}),y4=["children","className"];function ry(){return ry=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},ry.apply(null,arguments)}function g4(e,t){if(e==null)return{};var n,r,l=b4(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function b4(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var wr=g.forwardRef((e,t)=>{var{children:n,className:r}=e,l=g4(e,y4),o=Ve("recharts-layer",r);return g.createElement("g",ry({className:o},Zn(l),{ref:t}),n)}),x4=g.createContext(null);function ut(e){return function(){return e}}const ay=Math.PI,iy=2*ay,xi=1e-6,w4=iy-xi;function _j(e){this._+=e[0];for(let t=1,n=e.length;t<n;++t)this._+=arguments[t]+e[t]}function S4(e){let t=Math.floor(e);if(!(t>=0))throw new Error(`invalid digits: ${e}`);if(t>15)return _j;const n=10**t;return function(r){this._+=r[0];for(let l=1,o=r.length;l<o;++l)this._+=Math.round(arguments[l]*n)/n+r[l]}}class E4{constructor(t){this._x0=this._y0=this._x1=this._y1=null,this._="",this._append=t==null?_j:S4(t)}moveTo(t,n){this._append`M${this._x0=this._x1=+t},${this._y0=this._y1=+n}`}closePath(){this._x1!==null&&(this._x1=this._x0,this._y1=this._y0,this._append`Z`)}lineTo(t,n){this._append`L${this._x1=+t},${this._y1=+n}`}quadraticCurveTo(t,n,r,l){this._append`Q${+t},${+n},${this._x1=+r},${this._y1=+l}`}bezierCurveTo(t,n,r,l,o,s){this._append`C${+t},${+n},${+r},${+l},${this._x1=+o},${this._y1=+s}`}arcTo(t,n,r,l,o){if(t=+t,n=+n,r=+r,l=+l,o=+o,o<0)throw new Error(`negative radius: ${o}`);let s=this._x1,f=this._y1,d=r-t,h=l-n,m=s-t,p=f-n,x=m*m+p*p;if(this._x1===null)this._append`M${this._x1=t},${this._y1=n}`;else if(x>xi)if(!(Math.abs(p*d-h*m)>xi)||!o)this._append`L${this._x1=t},${this._y1=n}`;else{let w=r-s,O=l-f,A=d*d+h*h,S=w*w+O*O,j=Math.sqrt(A),_=Math.sqrt(x),C=o*Math.tan((ay-Math.acos((A+x-S)/(2*j*_)))/2),D=C/_,T=C/j;Math.abs(D-1)>xi&&this._append`L${t+D*m},${n+D*p}`,this._append`A${o},${o},0,0,${+(p*w>m*O)},${this._x1=t+T*d},${this._y1=n+T*h}`}}arc(t,n,r,l,o,s){if(t=+t,n=+n,r=+r,s=!!s,r<0)throw new Error(`negative radius: ${r}`);let f=r*Math.cos(l),d=r*Math.sin(l),h=t+f,m=n+d,p=1^s,x=s?l-o:o-l;this._x1===null?this._append`M${h},${m}`:(Math.abs(this._x1-h)>xi||Math.abs(this._y1-m)>xi)&&this._append`L${h},${m}`,r&&(x<0&&(x=x%iy+iy),x>w4?this._append`A${r},${r},0,1,${p},${t-f},${n-d}A${r},${r},0,1,${p},${this._x1=h},${this._y1=m}`:x>xi&&this._append`A${r},${r},0,${+(x>=ay)},${p},${this._x1=t+r*Math.cos(o)},${this._y1=n+r*Math.sin(o)}`)}rect(t,n,r,l){this._append`M${this._x0=this._x1=+t},${this._y0=this._y1=+n}h${r=+r}v${+l}h${-r}Z`}toString(){return this._}}function Tj(e){let t=3;return e.digits=function(n){if(!arguments.length)return t;if(n==null)t=null;else{const r=Math.floor(n);if(!(r>=0))throw new RangeError(`invalid digits: ${n}`);t=r}return e},()=>new E4(t)}function vg(e){return typeof e=="object"&&"length"in e?e:Array.from(e)}function Mj(e){this._context=e}Mj.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._point=0},lineEnd:function(){(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line=1-this._line},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1,this._line?this._context.lineTo(e,t):this._context.moveTo(e,t);break;case 1:this._point=2;default:this._context.lineTo(e,t);break}}};function id(e){return new Mj(e)}function Dj(e){return e[0]}function kj(e){return e[1]}function Pj(e,t){var n=ut(!0),r=null,l=id,o=null,s=Tj(f);e=typeof e=="function"?e:e===void 0?Dj:ut(e),t=typeof t=="function"?t:t===void 0?kj:ut(t);function f(d){var h,m=(d=vg(d)).length,p,x=!1,w;for(r==null&&(o=l(w=s())),h=0;h<=m;++h)!(h<m&&n(p=d[h],h,d))===x&&((x=!x)?o.lineStart():o.lineEnd()),x&&o.point(+e(p,h,d),+t(p,h,d));if(w)return o=null,w+""||null}return f.x=function(d){return arguments.length?(e=typeof d=="function"?d:ut(+d),f):e},f.y=function(d){return arguments.length?(t=typeof d=="function"?d:ut(+d),f):t},f.defined=function(d){return arguments.length?(n=typeof d=="function"?d:ut(!!d),f):n},f.curve=function(d){return arguments.length?(l=d,r!=null&&(o=l(r)),f):l},f.context=function(d){return arguments.length?(d==null?r=o=null:o=l(r=d),f):r},f}function Tc(e,t,n){var r=null,l=ut(!0),o=null,s=id,f=null,d=Tj(h);e=typeof e=="function"?e:e===void 0?Dj:ut(+e),t=typeof t=="function"?t:ut(t===void 0?0:+t),n=typeof n=="function"?n:n===void 0?kj:ut(+n);function h(p){var x,w,O,A=(p=vg(p)).length,S,j=!1,_,C=new Array(A),D=new Array(A);for(o==null&&(f=s(_=d())),x=0;x<=A;++x){if(!(x<A&&l(S=p[x],x,p))===j)if(j=!j)w=x,f.areaStart(),f.lineStart();else{for(f.lineEnd(),f.lineStart(),O=x-1;O>=w;--O)f.point(C[O],D[O]);f.lineEnd(),f.areaEnd()}j&&(C[x]=+e(S,x,p),D[x]=+t(S,x,p),f.point(r?+r(S,x,p):C[x],n?+n(S,x,p):D[x]))}if(_)return f=null,_+""||null}function m(){return Pj().defined(l).curve(s).context(o)}return h.x=function(p){return arguments.length?(e=typeof p=="function"?p:ut(+p),r=null,h):e},h.x0=function(p){return arguments.length?(e=typeof p=="function"?p:ut(+p),h):e},h.x1=function(p){return arguments.length?(r=p==null?null:typeof p=="function"?p:ut(+p),h):r},h.y=function(p){return arguments.length?(t=typeof p=="function"?p:ut(+p),n=null,h):t},h.y0=function(p){return arguments.length?(t=typeof p=="function"?p:ut(+p),h):t},h.y1=function(p){return arguments.length?(n=p==null?null:typeof p=="function"?p:ut(+p),h):n},h.lineX0=h.lineY0=function(){return m().x(e).y(t)},h.lineY1=function(){return m().x(e).y(n)},h.lineX1=function(){return m().x(r).y(t)},h.defined=function(p){return arguments.length?(l=typeof p=="function"?p:ut(!!p),h):l},h.curve=function(p){return arguments.length?(s=p,o!=null&&(f=s(o)),h):s},h.context=function(p){return arguments.length?(p==null?o=f=null:f=s(o=p),h):o},h}class Rj{constructor(t,n){this._context=t,this._x=n}areaStart(){this._line=0}areaEnd(){this._line=NaN}lineStart(){this._point=0}lineEnd(){(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line=1-this._line}point(t,n){switch(t=+t,n=+n,this._point){case 0:{this._point=1,this._line?this._context.lineTo(t,n):this._context.moveTo(t,n);break}case 1:this._point=2;default:{this._x?this._context.bezierCurveTo(this._x0=(this._x0+t)/2,this._y0,this._x0,n,t,n):this._context.bezierCurveTo(this._x0,this._y0=(this._y0+n)/2,t,this._y0,t,n);break}}this._x0=t,this._y0=n}}function O4(e){return new Rj(e,!0)}function A4(e){return new Rj(e,!1)}function df(){}function hf(e,t,n){e._context.bezierCurveTo((2*e._x0+e._x1)/3,(2*e._y0+e._y1)/3,(e._x0+2*e._x1)/3,(e._y0+2*e._y1)/3,(e._x0+4*e._x1+t)/6,(e._y0+4*e._y1+n)/6)}function zj(e){this._context=e}zj.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x0=this._x1=this._y0=this._y1=NaN,this._point=0},lineEnd:function(){switch(this._point){case 3:hf(this,this._x1,this._y1);case 2:this._context.lineTo(this._x1,this._y1);break}(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line=1-this._line},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1,this._line?this._context.lineTo(e,t):this._context.moveTo(e,t);break;case 1:this._point=2;break;case 2:this._point=3,this._context.lineTo((5*this._x0+this._x1)/6,(5*this._y0+this._y1)/6);default:hf(this,e,t);break}this._x0=this._x1,this._x1=e,this._y0=this._y1,this._y1=t}};function j4(e){return new zj(e)}function Lj(e){this._context=e}Lj.prototype={areaStart:df,areaEnd:df,lineStart:function(){this._x0=this._x1=this._x2=this._x3=this._x4=this._y0=this._y1=this._y2=this._y3=this._y4=NaN,this._point=0},lineEnd:function(){switch(this._point){case 1:{this._context.moveTo(this._x2,this._y2),this._context.closePath();break}case 2:{this._context.moveTo((this._x2+2*this._x3)/3,(this._y2+2*this._y3)/3),this._context.lineTo((this._x3+2*this._x2)/3,(this._y3+2*this._y2)/3),this._context.closePath();break}case 3:{this.point(this._x2,this._y2),this.point(this._x3,this._y3),this.point(this._x4,this._y4);break}}},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1,this._x2=e,this._y2=t;break;case 1:this._point=2,this._x3=e,this._y3=t;break;case 2:this._point=3,this._x4=e,this._y4=t,this._context.moveTo((this._x0+4*this._x1+e)/6,(this._y0+4*this._y1+t)/6);break;default:hf(this,e,t);break}this._x0=this._x1,this._x1=e,this._y0=this._y1,this._y1=t}};function N4(e){return new Lj(e)}function Bj(e){this._context=e}Bj.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x0=this._x1=this._y0=this._y1=NaN,this._point=0},lineEnd:function(){(this._line||this._line!==0&&this._point===3)&&this._context.closePath(),this._line=1-this._line},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1;break;case 1:this._point=2;break;case 2:this._point=3;var n=(this._x0+4*this._x1+e)/6,r=(this._y0+4*this._y1+t)/6;this._line?this._context.lineTo(n,r):this._context.moveTo(n,r);break;case 3:this._point=4;default:hf(this,e,t);break}this._x0=this._x1,this._x1=e,this._y0=this._y1,this._y1=t}};function C4(e){return new Bj(e)}function Uj(e){this._context=e}Uj.prototype={areaStart:df,areaEnd:df,lineStart:function(){this._point=0},lineEnd:function(){this._point&&this._context.closePath()},point:function(e,t){e=+e,t=+t,this._point?this._context.lineTo(e,t):(this._point=1,this._context.moveTo(e,t))}};function _4(e){return new Uj(e)}function AS(e){return e<0?-1:1}function jS(e,t,n){var r=e._x1-e._x0,l=t-e._x1,o=(e._y1-e._y0)/(r||l<0&&-0),s=(n-e._y1)/(l||r<0&&-0),f=(o*l+s*r)/(r+l);return(AS(o)+AS(s))*Math.min(Math.abs(o),Math.abs(s),.5*Math.abs(f))||0}function NS(e,t){var n=e._x1-e._x0;return n?(3*(e._y1-e._y0)/n-t)/2:t}function vv(e,t,n){var r=e._x0,l=e._y0,o=e._x1,s=e._y1,f=(o-r)/3;e._context.bezierCurveTo(r+f,l+f*t,o-f,s-f*n,o,s)}function mf(e){this._context=e}mf.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x0=this._x1=this._y0=this._y1=this._t0=NaN,this._point=0},lineEnd:function(){switch(this._point){case 2:this._context.lineTo(this._x1,this._y1);break;case 3:vv(this,this._t0,NS(this,this._t0));break}(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line=1-this._line},point:function(e,t){var n=NaN;if(e=+e,t=+t,!(e===this._x1&&t===this._y1)){switch(this._point){case 0:this._point=1,this._line?this._context.lineTo(e,t):this._context.moveTo(e,t);break;case 1:this._point=2;break;case 2:this._point=3,vv(this,NS(this,n=jS(this,e,t)),n);break;default:vv(this,this._t0,n=jS(this,e,t));break}this._x0=this._x1,this._x1=e,this._y0=this._y1,this._y1=t,this._t0=n}}};function Ij(e){this._context=new qj(e)}(Ij.prototype=Object.create(mf.prototype)).point=function(e,t){mf.prototype.point.call(this,t,e)};function qj(e){this._context=e}qj.prototype={moveTo:function(e,t){this._context.moveTo(t,e)},closePath:function(){this._context.closePath()},lineTo:function(e,t){this._context.lineTo(t,e)},bezierCurveTo:function(e,t,n,r,l,o){this._context.bezierCurveTo(t,e,r,n,o,l)}};function T4(e){return new mf(e)}function M4(e){return new Ij(e)}function Hj(e){this._context=e}Hj.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x=[],this._y=[]},lineEnd:function(){var e=this._x,t=this._y,n=e.length;if(n)if(this._line?this._context.lineTo(e[0],t[0]):this._context.moveTo(e[0],t[0]),n===2)this._context.lineTo(e[1],t[1]);else for(var r=CS(e),l=CS(t),o=0,s=1;s<n;++o,++s)this._context.bezierCurveTo(r[0][o],l[0][o],r[1][o],l[1][o],e[s],t[s]);(this._line||this._line!==0&&n===1)&&this._context.closePath(),this._line=1-this._line,this._x=this._y=null},point:function(e,t){this._x.push(+e),this._y.push(+t)}};function CS(e){var t,n=e.length-1,r,l=new Array(n),o=new Array(n),s=new Array(n);for(l[0]=0,o[0]=2,s[0]=e[0]+2*e[1],t=1;t<n-1;++t)l[t]=1,o[t]=4,s[t]=4*e[t]+2*e[t+1];for(l[n-1]=2,o[n-1]=7,s[n-1]=8*e[n-1]+e[n],t=1;t<n;++t)r=l[t]/o[t-1],o[t]-=r,s[t]-=r*s[t-1];for(l[n-1]=s[n-1]/o[n-1],t=n-2;t>=0;--t)l[t]=(s[t]-l[t+1])/o[t];for(o[n-1]=(e[n]+l[n-1])/2,t=0;t<n-1;++t)o[t]=2*e[t+1]-l[t+1];return[l,o]}function D4(e){return new Hj(e)}function ld(e,t){this._context=e,this._t=t}ld.prototype={areaStart:function(){this._line=0},areaEnd:function(){this._line=NaN},lineStart:function(){this._x=this._y=NaN,this._point=0},lineEnd:function(){0<this._t&&this._t<1&&this._point===2&&this._context.lineTo(this._x,this._y),(this._line||this._line!==0&&this._point===1)&&this._context.closePath(),this._line>=0&&(this._t=1-this._t,this._line=1-this._line)},point:function(e,t){switch(e=+e,t=+t,this._point){case 0:this._point=1,this._line?this._context.lineTo(e,t):this._context.moveTo(e,t);break;case 1:this._point=2;default:{if(this._t<=0)this._context.lineTo(this._x,t),this._context.lineTo(e,t);else{var n=this._x*(1-this._t)+e*this._t;this._context.lineTo(n,this._y),this._context.lineTo(n,t)}break}}this._x=e,this._y=t}};function k4(e){return new ld(e,.5)}function P4(e){return new ld(e,0)}function R4(e){return new ld(e,1)}function Hl(e,t){if((s=e.length)>1)for(var n=1,r,l,o=e[t[0]],s,f=o.length;n<s;++n)for(l=o,o=e[t[n]],r=0;r<f;++r)o[r][1]+=o[r][0]=isNaN(l[r][1])?l[r][0]:l[r][1]}function ly(e){for(var t=e.length,n=new Array(t);--t>=0;)n[t]=t;return n}function z4(e,t){return e[t]}function L4(e){const t=[];return t.key=e,t}function B4(){var e=ut([]),t=ly,n=Hl,r=z4;function l(o){var s=Array.from(e.apply(this,arguments),L4),f,d=s.length,h=-1,m;for(const p of o)for(f=0,++h;f<d;++f)(s[f][h]=[0,+r(p,s[f].key,h,o)]).data=p;for(f=0,m=vg(t(s));f<d;++f)s[m[f]].index=f;return n(s,m),s}return l.keys=function(o){return arguments.length?(e=typeof o=="function"?o:ut(Array.from(o)),l):e},l.value=function(o){return arguments.length?(r=typeof o=="function"?o:ut(+o),l):r},l.order=function(o){return arguments.length?(t=o==null?ly:typeof o=="function"?o:ut(Array.from(o)),l):t},l.offset=function(o){return arguments.length?(n=o??Hl,l):n},l}function U4(e,t){if((r=e.length)>0){for(var n,r,l=0,o=e[0].length,s;l<o;++l){for(s=n=0;n<r;++n)s+=e[n][l][1]||0;if(s)for(n=0;n<r;++n)e[n][l][1]/=s}Hl(e,t)}}function I4(e,t){if((l=e.length)>0){for(var n=0,r=e[t[0]],l,o=r.length;n<o;++n){for(var s=0,f=0;s<l;++s)f+=e[s][n][1]||0;r[n][1]+=r[n][0]=-f/2}Hl(e,t)}}function q4(e,t){if(!(!((s=e.length)>0)||!((o=(l=e[t[0]]).length)>0))){for(var n=0,r=1,l,o,s;r<o;++r){for(var f=0,d=0,h=0;f<s;++f){for(var m=e[t[f]],p=m[r][1]||0,x=m[r-1][1]||0,w=(p-x)/2,O=0;O<f;++O){var A=e[t[O]],S=A[r][1]||0,j=A[r-1][1]||0;w+=S-j}d+=p,h+=w*p}l[r-1][1]+=l[r-1][0]=n,d&&(n-=h/d)}l[r-1][1]+=l[r-1][0]=n,Hl(e,t)}}var pv={},yv={},_S;function H4(){return _S||(_S=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n==="__proto__"}e.isUnsafeProperty=t})(yv)),yv}var gv={},TS;function $j(){return TS||(TS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){switch(typeof n){case"number":case"symbol":return!1;case"string":return n.includes(".")||n.includes("[")||n.includes("]")}}e.isDeepKey=t})(gv)),gv}var bv={},MS;function pg(){return MS||(MS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return typeof n=="string"||typeof n=="symbol"?n:Object.is(n?.valueOf?.(),-0)?"-0":String(n)}e.toKey=t})(bv)),bv}var xv={},wv={},DS;function $4(){return DS||(DS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){if(n==null)return"";if(typeof n=="string")return n;if(Array.isArray(n))return n.map(t).join(",");const r=String(n);return r==="0"&&Object.is(Number(n),-0)?"-0":r}e.toString=t})(wv)),wv}var kS;function yg(){return kS||(kS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=$4(),n=pg();function r(l){if(Array.isArray(l))return l.map(n.toKey);if(typeof l=="symbol")return[l];l=t.toString(l);const o=[],s=l.length;if(s===0)return o;let f=0,d="",h="",m=!1;for(l.charCodeAt(0)===46&&(o.push(""),f++);f<s;){const p=l[f];h?p==="\\"&&f+1<s?(f++,d+=l[f]):p===h?h="":d+=p:m?p==='"'||p==="'"?h=p:p==="]"?(m=!1,o.push(d),d=""):d+=p:p==="["?(m=!0,d&&(o.push(d),d="")):p==="."?d&&(o.push(d),d=""):d+=p,f++}return d&&o.push(d),o}e.toPath=r})(xv)),xv}var PS;function gg(){return PS||(PS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=H4(),n=$j(),r=pg(),l=yg();function o(f,d,h){if(f==null)return h;switch(typeof d){case"string":{if(t.isUnsafeProperty(d))return h;const m=f[d];return m===void 0?n.isDeepKey(d)?o(f,l.toPath(d),h):h:m}case"number":case"symbol":{typeof d=="number"&&(d=r.toKey(d));const m=f[d];return m===void 0?h:m}default:{if(Array.isArray(d))return s(f,d,h);if(Object.is(d?.valueOf(),-0)?d="-0":d=String(d),t.isUnsafeProperty(d))return h;const m=f[d];return m===void 0?h:m}}}function s(f,d,h){if(d.length===0)return h;let m=f;for(let p=0;p<d.length;p++){if(m==null||t.isUnsafeProperty(d[p]))return h;m=m[d[p]]}return m===void 0?h:m}e.get=o})(pv)),pv}var Sv,RS;function Y4(){return RS||(RS=1,Sv=gg().get),Sv}var K4=Y4();const od=oa(K4);var Xn=e=>e===0?0:e>0?1:-1,cr=e=>typeof e=="number"&&e!=+e,ta=e=>typeof e=="string"&&e.indexOf("%")===e.length-1,de=e=>(typeof e=="number"||e instanceof Number)&&!cr(e),Sr=e=>de(e)||typeof e=="string",G4=0,Eu=e=>{var t=++G4;return"".concat(e||"").concat(t)},Wa=function(t,n){var r=arguments.length>2&&arguments[2]!==void 0?arguments[2]:0,l=arguments.length>3&&arguments[3]!==void 0?arguments[3]:!1;if(!de(t)&&typeof t!="string")return r;var o;if(ta(t)){if(n==null)return r;var s=t.indexOf("%");o=n*parseFloat(t.slice(0,s))/100}else o=+t;return cr(o)&&(o=r),l&&n!=null&&o>n&&(o=n),o},Yj=e=>{if(!Array.isArray(e))return!1;for(var t=e.length,n={},r=0;r<t;r++)if(!n[e[r]])n[e[r]]=!0;else return!0;return!1};function yr(e,t,n){return de(e)&&de(t)?e+n*(t-e):t}function Kj(e,t,n){if(!(!e||!e.length))return e.find(r=>r&&(typeof t=="function"?t(r):od(r,t))===n)}var Zt=e=>e===null||typeof e>"u",bg=e=>Zt(e)?e:"".concat(e.charAt(0).toUpperCase()).concat(e.slice(1));function V4(e){return e!=null}function $u(){}var Gj=e=>"radius"in e&&"startAngle"in e&&"endAngle"in e,xg=(e,t)=>{if(!e||typeof e=="function"||typeof e=="boolean")return null;var n=e;if(g.isValidElement(e)&&(n=e.props),typeof n!="object"&&typeof n!="function")return null;var r={};return Object.keys(n).forEach(l=>{mg(l)&&(r[l]=(o=>n[l](n,o)))}),r},X4=(e,t,n)=>r=>(e(t,n,r),null),F4=(e,t,n)=>{if(e===null||typeof e!="object"&&typeof e!="function")return null;var r=null;return Object.keys(e).forEach(l=>{var o=e[l];mg(l)&&typeof o=="function"&&(r||(r={}),r[l]=X4(o,t,n))}),r};function zS(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function W4(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?zS(Object(n),!0).forEach(function(r){Z4(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):zS(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Z4(e,t,n){return(t=Q4(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Q4(e){var t=J4(e,"string");return typeof t=="symbol"?t:t+""}function J4(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Rn(e,t){var n=W4({},e),r=t,l=Object.keys(t),o=l.reduce((s,f)=>(s[f]===void 0&&r[f]!==void 0&&(s[f]=r[f]),s),n);return o}var Ev={},Ov={},LS;function e5(){return LS||(LS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n,r){const l=new Map;for(let o=0;o<n.length;o++){const s=n[o],f=r(s);l.has(f)||l.set(f,s)}return Array.from(l.values())}e.uniqBy=t})(Ov)),Ov}var Av={},BS;function Vj(){return BS||(BS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n}e.identity=t})(Av)),Av}var jv={},Nv={},Cv={},US;function t5(){return US||(US=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return Number.isSafeInteger(n)&&n>=0}e.isLength=t})(Cv)),Cv}var IS;function wg(){return IS||(IS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=t5();function n(r){return r!=null&&typeof r!="function"&&t.isLength(r.length)}e.isArrayLike=n})(Nv)),Nv}var _v={},qS;function n5(){return qS||(qS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return typeof n=="object"&&n!==null}e.isObjectLike=t})(_v)),_v}var HS;function r5(){return HS||(HS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=wg(),n=n5();function r(l){return n.isObjectLike(l)&&t.isArrayLike(l)}e.isArrayLikeObject=r})(jv)),jv}var Tv={},Mv={},$S;function a5(){return $S||($S=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=gg();function n(r){return function(l){return t.get(l,r)}}e.property=n})(Mv)),Mv}var Dv={},kv={},Pv={},Rv={},YS;function Xj(){return YS||(YS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n!==null&&(typeof n=="object"||typeof n=="function")}e.isObject=t})(Rv)),Rv}var zv={},KS;function Fj(){return KS||(KS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n==null||typeof n!="object"&&typeof n!="function"}e.isPrimitive=t})(zv)),zv}var Lv={},GS;function Wj(){return GS||(GS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n,r){return n===r||Number.isNaN(n)&&Number.isNaN(r)}e.eq=t})(Lv)),Lv}var VS;function i5(){return VS||(VS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Xj(),n=Fj(),r=Wj();function l(m,p,x){return typeof x!="function"?l(m,p,()=>{}):o(m,p,function w(O,A,S,j,_,C){const D=x(O,A,S,j,_,C);return D!==void 0?!!D:o(O,A,w,C)},new Map)}function o(m,p,x,w){if(p===m)return!0;switch(typeof p){case"object":return s(m,p,x,w);case"function":return Object.keys(p).length>0?o(m,{...p},x,w):r.eq(m,p);default:return t.isObject(m)?typeof p=="string"?p==="":!0:r.eq(m,p)}}function s(m,p,x,w){if(p==null)return!0;if(Array.isArray(p))return d(m,p,x,w);if(p instanceof Map)return f(m,p,x,w);if(p instanceof Set)return h(m,p,x,w);const O=Object.keys(p);if(m==null)return O.length===0;if(O.length===0)return!0;if(w?.has(p))return w.get(p)===m;w?.set(p,m);try{for(let A=0;A<O.length;A++){const S=O[A];if(!n.isPrimitive(m)&&!(S in m)||p[S]===void 0&&m[S]!==void 0||p[S]===null&&m[S]!==null||!x(m[S],p[S],S,m,p,w))return!1}return!0}finally{w?.delete(p)}}function f(m,p,x,w){if(p.size===0)return!0;if(!(m instanceof Map))return!1;for(const[O,A]of p.entries()){const S=m.get(O);if(x(S,A,O,m,p,w)===!1)return!1}return!0}function d(m,p,x,w){if(p.length===0)return!0;if(!Array.isArray(m))return!1;const O=new Set;for(let A=0;A<p.length;A++){const S=p[A];let j=!1;for(let _=0;_<m.length;_++){if(O.has(_))continue;const C=m[_];let D=!1;if(x(C,S,A,m,p,w)&&(D=!0),D){O.add(_),j=!0;break}}if(!j)return!1}return!0}function h(m,p,x,w){return p.size===0?!0:m instanceof Set?d([...m],[...p],x,w):!1}e.isMatchWith=l,e.isSetMatch=h})(Pv)),Pv}var XS;function Zj(){return XS||(XS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=i5();function n(r,l){return t.isMatchWith(r,l,()=>{})}e.isMatch=n})(kv)),kv}var Bv={},Uv={},Iv={},FS;function l5(){return FS||(FS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return Object.getOwnPropertySymbols(n).filter(r=>Object.prototype.propertyIsEnumerable.call(n,r))}e.getSymbols=t})(Iv)),Iv}var qv={},WS;function Qj(){return WS||(WS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n==null?n===void 0?"[object Undefined]":"[object Null]":Object.prototype.toString.call(n)}e.getTag=t})(qv)),qv}var Hv={},ZS;function Jj(){return ZS||(ZS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t="[object RegExp]",n="[object String]",r="[object Number]",l="[object Boolean]",o="[object Arguments]",s="[object Symbol]",f="[object Date]",d="[object Map]",h="[object Set]",m="[object Array]",p="[object Function]",x="[object ArrayBuffer]",w="[object Object]",O="[object Error]",A="[object DataView]",S="[object Uint8Array]",j="[object Uint8ClampedArray]",_="[object Uint16Array]",C="[object Uint32Array]",D="[object BigUint64Array]",T="[object Int8Array]",R="[object Int16Array]",k="[object Int32Array]",I="[object BigInt64Array]",re="[object Float32Array]",ae="[object Float64Array]";e.argumentsTag=o,e.arrayBufferTag=x,e.arrayTag=m,e.bigInt64ArrayTag=I,e.bigUint64ArrayTag=D,e.booleanTag=l,e.dataViewTag=A,e.dateTag=f,e.errorTag=O,e.float32ArrayTag=re,e.float64ArrayTag=ae,e.functionTag=p,e.int16ArrayTag=R,e.int32ArrayTag=k,e.int8ArrayTag=T,e.mapTag=d,e.numberTag=r,e.objectTag=w,e.regexpTag=t,e.setTag=h,e.stringTag=n,e.symbolTag=s,e.uint16ArrayTag=_,e.uint32ArrayTag=C,e.uint8ArrayTag=S,e.uint8ClampedArrayTag=j})(Hv)),Hv}var $v={},QS;function o5(){return QS||(QS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return ArrayBuffer.isView(n)&&!(n instanceof DataView)}e.isTypedArray=t})($v)),$v}var JS;function eN(){return JS||(JS=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=l5(),n=Qj(),r=Jj(),l=Fj(),o=o5();function s(m,p){return f(m,void 0,m,new Map,p)}function f(m,p,x,w=new Map,O=void 0){const A=O?.(m,p,x,w);if(A!==void 0)return A;if(l.isPrimitive(m))return m;if(w.has(m))return w.get(m);if(Array.isArray(m)){const S=new Array(m.length);w.set(m,S);for(let j=0;j<m.length;j++)S[j]=f(m[j],j,x,w,O);return Object.hasOwn(m,"index")&&(S.index=m.index),Object.hasOwn(m,"input")&&(S.input=m.input),S}if(m instanceof Date)return new Date(m.getTime());if(m instanceof RegExp){const S=new RegExp(m.source,m.flags);return S.lastIndex=m.lastIndex,S}if(m instanceof Map){const S=new Map;w.set(m,S);for(const[j,_]of m)S.set(j,f(_,j,x,w,O));return S}if(m instanceof Set){const S=new Set;w.set(m,S);for(const j of m)S.add(f(j,void 0,x,w,O));return S}if(typeof Buffer<"u"&&Buffer.isBuffer(m))return m.subarray();if(o.isTypedArray(m)){const S=new(Object.getPrototypeOf(m)).constructor(m.length);w.set(m,S);for(let j=0;j<m.length;j++)S[j]=f(m[j],j,x,w,O);return S}if(m instanceof ArrayBuffer||typeof SharedArrayBuffer<"u"&&m instanceof SharedArrayBuffer)return m.slice(0);if(m instanceof DataView){const S=new DataView(m.buffer.slice(0),m.byteOffset,m.byteLength);return w.set(m,S),d(S,m,x,w,O),S}if(typeof File<"u"&&m instanceof File){const S=new File([m],m.name,{type:m.type});return w.set(m,S),d(S,m,x,w,O),S}if(typeof Blob<"u"&&m instanceof Blob){const S=new Blob([m],{type:m.type});return w.set(m,S),d(S,m,x,w,O),S}if(m instanceof Error){const S=new m.constructor;return w.set(m,S),S.message=m.message,S.name=m.name,S.stack=m.stack,S.cause=m.cause,d(S,m,x,w,O),S}if(m instanceof Boolean){const S=new Boolean(m.valueOf());return w.set(m,S),d(S,m,x,w,O),S}if(m instanceof Number){const S=new Number(m.valueOf());return w.set(m,S),d(S,m,x,w,O),S}if(m instanceof String){const S=new String(m.valueOf());return w.set(m,S),d(S,m,x,w,O),S}if(typeof m=="object"&&h(m)){const S=Object.create(Object.getPrototypeOf(m));return w.set(m,S),d(S,m,x,w,O),S}return m}function d(m,p,x=m,w,O){const A=[...Object.keys(p),...t.getSymbols(p)];for(let S=0;S<A.length;S++){const j=A[S],_=Object.getOwnPropertyDescriptor(m,j);(_==null||_.writable)&&(m[j]=f(p[j],j,x,w,O))}}function h(m){switch(n.getTag(m)){case r.argumentsTag:case r.arrayTag:case r.arrayBufferTag:case r.dataViewTag:case r.booleanTag:case r.dateTag:case r.float32ArrayTag:case r.float64ArrayTag:case r.int8ArrayTag:case r.int16ArrayTag:case r.int32ArrayTag:case r.mapTag:case r.numberTag:case r.objectTag:case r.regexpTag:case r.setTag:case r.stringTag:case r.symbolTag:case r.uint8ArrayTag:case r.uint8ClampedArrayTag:case r.uint16ArrayTag:case r.uint32ArrayTag:return!0;default:return!1}}e.cloneDeepWith=s,e.cloneDeepWithImpl=f,e.copyProperties=d})(Uv)),Uv}var eE;function u5(){return eE||(eE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=eN();function n(r){return t.cloneDeepWithImpl(r,void 0,r,new Map,void 0)}e.cloneDeep=n})(Bv)),Bv}var tE;function s5(){return tE||(tE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Zj(),n=u5();function r(l){return l=n.cloneDeep(l),o=>t.isMatch(o,l)}e.matches=r})(Dv)),Dv}var Yv={},Kv={},Gv={},nE;function c5(){return nE||(nE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=eN(),n=Jj();function r(l,o){return t.cloneDeepWith(l,(s,f,d,h)=>{const m=o?.(s,f,d,h);if(m!==void 0)return m;if(typeof l=="object")switch(Object.prototype.toString.call(l)){case n.numberTag:case n.stringTag:case n.booleanTag:{const p=new l.constructor(l?.valueOf());return t.copyProperties(p,l),p}case n.argumentsTag:{const p={};return t.copyProperties(p,l),p.length=l.length,p[Symbol.iterator]=l[Symbol.iterator],p}default:return}})}e.cloneDeepWith=r})(Gv)),Gv}var rE;function f5(){return rE||(rE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=c5();function n(r){return t.cloneDeepWith(r)}e.cloneDeep=n})(Kv)),Kv}var Vv={},Xv={},aE;function tN(){return aE||(aE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=/^(?:0|[1-9]\d*)$/;function n(r,l=Number.MAX_SAFE_INTEGER){switch(typeof r){case"number":return Number.isInteger(r)&&r>=0&&r<l;case"symbol":return!1;case"string":return t.test(r)}}e.isIndex=n})(Xv)),Xv}var Fv={},iE;function d5(){return iE||(iE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Qj();function n(r){return r!==null&&typeof r=="object"&&t.getTag(r)==="[object Arguments]"}e.isArguments=n})(Fv)),Fv}var lE;function h5(){return lE||(lE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=$j(),n=tN(),r=d5(),l=yg();function o(s,f){let d;if(Array.isArray(f)?d=f:typeof f=="string"&&t.isDeepKey(f)&&s?.[f]==null?d=l.toPath(f):d=[f],d.length===0)return!1;let h=s;for(let m=0;m<d.length;m++){const p=d[m];if((h==null||!Object.hasOwn(h,p))&&!((Array.isArray(h)||r.isArguments(h))&&n.isIndex(p)&&p<h.length))return!1;h=h[p]}return!0}e.has=o})(Vv)),Vv}var oE;function m5(){return oE||(oE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Zj(),n=pg(),r=f5(),l=gg(),o=h5();function s(f,d){switch(typeof f){case"object":{Object.is(f?.valueOf(),-0)&&(f="-0");break}case"number":{f=n.toKey(f);break}}return d=r.cloneDeep(d),function(h){const m=l.get(h,f);return m===void 0?o.has(h,f):d===void 0?m===void 0:t.isMatch(m,d)}}e.matchesProperty=s})(Yv)),Yv}var uE;function v5(){return uE||(uE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=Vj(),n=a5(),r=s5(),l=m5();function o(s){if(s==null)return t.identity;switch(typeof s){case"function":return s;case"object":return Array.isArray(s)&&s.length===2?l.matchesProperty(s[0],s[1]):r.matches(s);case"string":case"symbol":case"number":return n.property(s)}}e.iteratee=o})(Tv)),Tv}var sE;function p5(){return sE||(sE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=e5(),n=Vj(),r=r5(),l=v5();function o(s,f=n.identity){return r.isArrayLikeObject(s)?t.uniqBy(Array.from(s),l.iteratee(f)):[]}e.uniqBy=o})(Ev)),Ev}var Wv,cE;function y5(){return cE||(cE=1,Wv=p5().uniqBy),Wv}var g5=y5();const fE=oa(g5);function b5(e,t,n){return t===!0?fE(e,n):typeof t=="function"?fE(e,t):e}var Zv={exports:{}},Qv={},Jv={exports:{}},ep={};var dE;function x5(){if(dE)return ep;dE=1;var e=Fl();function t(p,x){return p===x&&(p!==0||1/p===1/x)||p!==p&&x!==x}var n=typeof Object.is=="function"?Object.is:t,r=e.useState,l=e.useEffect,o=e.useLayoutEffect,s=e.useDebugValue;function f(p,x){var w=x(),O=r({inst:{value:w,getSnapshot:x}}),A=O[0].inst,S=O[1];return o(function(){A.value=w,A.getSnapshot=x,d(A)&&S({inst:A})},[p,w,x]),l(function(){return d(A)&&S({inst:A}),p(function(){d(A)&&S({inst:A})})},[p]),s(w),w}function d(p){var x=p.getSnapshot;p=p.value;try{var w=x();return!n(p,w)}catch{return!0}}function h(p,x){return x()}var m=typeof window>"u"||typeof window.document>"u"||typeof window.document.createElement>"u"?h:f;return ep.useSyncExternalStore=e.useSyncExternalStore!==void 0?e.useSyncExternalStore:m,ep}var hE;function w5(){return hE||(hE=1,Jv.exports=x5()),Jv.exports}var mE;function S5(){if(mE)return Qv;mE=1;var e=Fl(),t=w5();function n(h,m){return h===m&&(h!==0||1/h===1/m)||h!==h&&m!==m}var r=typeof Object.is=="function"?Object.is:n,l=t.useSyncExternalStore,o=e.useRef,s=e.useEffect,f=e.useMemo,d=e.useDebugValue;return Qv.useSyncExternalStoreWithSelector=function(h,m,p,x,w){var O=o(null);if(O.current===null){var A={hasValue:!1,value:null};O.current=A}else A=O.current;O=f(function(){function j(R){if(!_){if(_=!0,C=R,R=x(R),w!==void 0&&A.hasValue){var k=A.value;if(w(k,R))return D=k}return D=R}if(k=D,r(C,R))return k;var I=x(R);return w!==void 0&&w(k,I)?(C=R,k):(C=R,D=I)}var _=!1,C,D,T=p===void 0?null:p;return[function(){return j(m())},T===null?void 0:function(){return j(T())}]},[m,p,x,w]);var S=l(h,O[0],O[1]);return s(function(){A.hasValue=!0,A.value=S},[S]),d(S),S},Qv}var vE;function E5(){return vE||(vE=1,Zv.exports=S5()),Zv.exports}var O5=E5(),Sg=g.createContext(null),A5=e=>e,Bt=()=>{var e=g.useContext(Sg);return e?e.store.dispatch:A5},Jc=()=>{},j5=()=>Jc,N5=(e,t)=>e===t;function ve(e){var t=g.useContext(Sg);return O5.useSyncExternalStoreWithSelector(t?t.subscription.addNestedSub:j5,t?t.store.getState:Jc,t?t.store.getState:Jc,t?e:Jc,N5)}function C5(e,t=`expected a function, instead received ${typeof e}`){if(typeof e!="function")throw new TypeError(t)}function _5(e,t=`expected an object, instead received ${typeof e}`){if(typeof e!="object")throw new TypeError(t)}function T5(e,t="expected all items to be functions, instead received the following types: "){if(!e.every(n=>typeof n=="function")){const n=e.map(r=>typeof r=="function"?`function ${r.name||"unnamed"}()`:typeof r).join(", ");throw new TypeError(`${t}[${n}]`)}}var pE=e=>Array.isArray(e)?e:[e];function M5(e){const t=Array.isArray(e[0])?e[0]:e;return T5(t,"createSelector expects all input-selectors to be functions, but received the following types: "),t}function D5(e,t){const n=[],{length:r}=e;for(let l=0;l<r;l++)n.push(e[l].apply(null,t));return n}var k5=class{constructor(e){this.value=e}deref(){return this.value}},P5=typeof WeakRef<"u"?WeakRef:k5,R5=0,yE=1;function Mc(){return{s:R5,v:void 0,o:null,p:null}}function nN(e,t={}){let n=Mc();const{resultEqualityCheck:r}=t;let l,o=0;function s(){let f=n;const{length:d}=arguments;for(let p=0,x=d;p<x;p++){const w=arguments[p];if(typeof w=="function"||typeof w=="object"&&w!==null){let O=f.o;O===null&&(f.o=O=new WeakMap);const A=O.get(w);A===void 0?(f=Mc(),O.set(w,f)):f=A}else{let O=f.p;O===null&&(f.p=O=new Map);const A=O.get(w);A===void 0?(f=Mc(),O.set(w,f)):f=A}}const h=f;let m;if(f.s===yE)m=f.v;else if(m=e.apply(null,arguments),o++,r){const p=l?.deref?.()??l;p!=null&&r(p,m)&&(m=p,o!==0&&o--),l=typeof m=="object"&&m!==null||typeof m=="function"?new P5(m):m}return h.s=yE,h.v=m,m}return s.clearCache=()=>{n=Mc(),s.resetResultsCount()},s.resultsCount=()=>o,s.resetResultsCount=()=>{o=0},s}function z5(e,...t){const n=typeof e=="function"?{memoize:e,memoizeOptions:t}:e,r=(...l)=>{let o=0,s=0,f,d={},h=l.pop();typeof h=="object"&&(d=h,h=l.pop()),C5(h,`createSelector expects an output function after the inputs, but received: [${typeof h}]`);const m={...n,...d},{memoize:p,memoizeOptions:x=[],argsMemoize:w=nN,argsMemoizeOptions:O=[]}=m,A=pE(x),S=pE(O),j=M5(l),_=p(function(){return o++,h.apply(null,arguments)},...A),C=w(function(){s++;const T=D5(j,arguments);return f=_.apply(null,T),f},...S);return Object.assign(C,{resultFunc:h,memoizedResultFunc:_,dependencies:j,dependencyRecomputations:()=>s,resetDependencyRecomputations:()=>{s=0},lastResult:()=>f,recomputations:()=>o,resetRecomputations:()=>{o=0},memoize:p,argsMemoize:w})};return Object.assign(r,{withTypes:()=>r}),r}var Y=z5(nN),L5=Object.assign((e,t=Y)=>{_5(e,`createStructuredSelector expects first argument to be an object where each property is a selector, instead received a ${typeof e}`);const n=Object.keys(e),r=n.map(o=>e[o]);return t(r,(...o)=>o.reduce((s,f,d)=>(s[n[d]]=f,s),{}))},{withTypes:()=>L5}),tp={},np={},rp={},gE;function B5(){return gE||(gE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(r){return typeof r=="symbol"?1:r===null?2:r===void 0?3:r!==r?4:0}const n=(r,l,o)=>{if(r!==l){const s=t(r),f=t(l);if(s===f&&s===0){if(r<l)return o==="desc"?1:-1;if(r>l)return o==="desc"?-1:1}return o==="desc"?f-s:s-f}return 0};e.compareValues=n})(rp)),rp}var ap={},ip={},bE;function rN(){return bE||(bE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return typeof n=="symbol"||n instanceof Symbol}e.isSymbol=t})(ip)),ip}var xE;function U5(){return xE||(xE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=rN(),n=/\.|\[(?:[^[\]]*|(["'])(?:(?!\1)[^\\]|\\.)*?\1)\]/,r=/^\w*$/;function l(o,s){return Array.isArray(o)?!1:typeof o=="number"||typeof o=="boolean"||o==null||t.isSymbol(o)?!0:typeof o=="string"&&(r.test(o)||!n.test(o))||s!=null&&Object.hasOwn(s,o)}e.isKey=l})(ap)),ap}var wE;function I5(){return wE||(wE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=B5(),n=U5(),r=yg();function l(o,s,f,d){if(o==null)return[];f=d?void 0:f,Array.isArray(o)||(o=Object.values(o)),Array.isArray(s)||(s=s==null?[null]:[s]),s.length===0&&(s=[null]),Array.isArray(f)||(f=f==null?[]:[f]),f=f.map(w=>String(w));const h=(w,O)=>{let A=w;for(let S=0;S<O.length&&A!=null;++S)A=A[O[S]];return A},m=(w,O)=>O==null||w==null?O:typeof w=="object"&&"key"in w?Object.hasOwn(O,w.key)?O[w.key]:h(O,w.path):typeof w=="function"?w(O):Array.isArray(w)?h(O,w):typeof O=="object"?O[w]:O,p=s.map(w=>(Array.isArray(w)&&w.length===1&&(w=w[0]),w==null||typeof w=="function"||Array.isArray(w)||n.isKey(w)?w:{key:w,path:r.toPath(w)}));return o.map(w=>({original:w,criteria:p.map(O=>m(O,w))})).slice().sort((w,O)=>{for(let A=0;A<p.length;A++){const S=t.compareValues(w.criteria[A],O.criteria[A],f[A]);if(S!==0)return S}return 0}).map(w=>w.original)}e.orderBy=l})(np)),np}var lp={},SE;function q5(){return SE||(SE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n,r=1){const l=[],o=Math.floor(r),s=(f,d)=>{for(let h=0;h<f.length;h++){const m=f[h];Array.isArray(m)&&d<o?s(m,d+1):l.push(m)}};return s(n,0),l}e.flatten=t})(lp)),lp}var op={},EE;function aN(){return EE||(EE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=tN(),n=wg(),r=Xj(),l=Wj();function o(s,f,d){return r.isObject(d)&&(typeof f=="number"&&n.isArrayLike(d)&&t.isIndex(f)&&f<d.length||typeof f=="string"&&f in d)?l.eq(d[f],s):!1}e.isIterateeCall=o})(op)),op}var OE;function H5(){return OE||(OE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=I5(),n=q5(),r=aN();function l(o,...s){const f=s.length;return f>1&&r.isIterateeCall(o,s[0],s[1])?s=[]:f>2&&r.isIterateeCall(s[0],s[1],s[2])&&(s=[s[0]]),t.orderBy(o,n.flatten(s),["asc"])}e.sortBy=l})(tp)),tp}var up,AE;function $5(){return AE||(AE=1,up=H5().sortBy),up}var Y5=$5();const ud=oa(Y5);var iN=e=>e.legend.settings,K5=e=>e.legend.size,G5=e=>e.legend.payload;Y([G5,iN],(e,t)=>{var{itemSorter:n}=t,r=e.flat(1);return n?ud(r,n):r});var Dc=1;function V5(){var e=arguments.length>0&&arguments[0]!==void 0?arguments[0]:[],[t,n]=g.useState({height:0,left:0,top:0,width:0}),r=g.useCallback(l=>{if(l!=null){var o=l.getBoundingClientRect(),s={height:o.height,left:o.left,top:o.top,width:o.width};(Math.abs(s.height-t.height)>Dc||Math.abs(s.left-t.left)>Dc||Math.abs(s.top-t.top)>Dc||Math.abs(s.width-t.width)>Dc)&&n({height:s.height,left:s.left,top:s.top,width:s.width})}},[t.width,t.height,t.top,t.left,...e]);return[t,r]}function Xt(e){return`Minified Redux error #${e}; visit https://redux.js.org/Errors?code=${e} for the full message or use the non-minified dev environment for full errors. `}var X5=typeof Symbol=="function"&&Symbol.observable||"@@observable",jE=X5,sp=()=>Math.random().toString(36).substring(7).split("").join("."),F5={INIT:`@@redux/INIT${sp()}`,REPLACE:`@@redux/REPLACE${sp()}`,PROBE_UNKNOWN_ACTION:()=>`@@redux/PROBE_UNKNOWN_ACTION${sp()}`},vf=F5;function Eg(e){if(typeof e!="object"||e===null)return!1;let t=e;for(;Object.getPrototypeOf(t)!==null;)t=Object.getPrototypeOf(t);return Object.getPrototypeOf(e)===t||Object.getPrototypeOf(e)===null}function lN(e,t,n){if(typeof e!="function")throw new Error(Xt(2));if(typeof t=="function"&&typeof n=="function"||typeof n=="function"&&typeof arguments[3]=="function")throw new Error(Xt(0));if(typeof t=="function"&&typeof n>"u"&&(n=t,t=void 0),typeof n<"u"){if(typeof n!="function")throw new Error(Xt(1));return n(lN)(e,t)}let r=e,l=t,o=new Map,s=o,f=0,d=!1;function h(){s===o&&(s=new Map,o.forEach((S,j)=>{s.set(j,S)}))}function m(){if(d)throw new Error(Xt(3));return l}function p(S){if(typeof S!="function")throw new Error(Xt(4));if(d)throw new Error(Xt(5));let j=!0;h();const _=f++;return s.set(_,S),function(){if(j){if(d)throw new Error(Xt(6));j=!1,h(),s.delete(_),o=null}}}function x(S){if(!Eg(S))throw new Error(Xt(7));if(typeof S.type>"u")throw new Error(Xt(8));if(typeof S.type!="string")throw new Error(Xt(17));if(d)throw new Error(Xt(9));try{d=!0,l=r(l,S)}finally{d=!1}return(o=s).forEach(_=>{_()}),S}function w(S){if(typeof S!="function")throw new Error(Xt(10));r=S,x({type:vf.REPLACE})}function O(){const S=p;return{subscribe(j){if(typeof j!="object"||j===null)throw new Error(Xt(11));function _(){const D=j;D.next&&D.next(m())}return _(),{unsubscribe:S(_)}},[jE](){return this}}}return x({type:vf.INIT}),{dispatch:x,subscribe:p,getState:m,replaceReducer:w,[jE]:O}}function W5(e){Object.keys(e).forEach(t=>{const n=e[t];if(typeof n(void 0,{type:vf.INIT})>"u")throw new Error(Xt(12));if(typeof n(void 0,{type:vf.PROBE_UNKNOWN_ACTION()})>"u")throw new Error(Xt(13))})}function oN(e){const t=Object.keys(e),n={};for(let o=0;o<t.length;o++){const s=t[o];typeof e[s]=="function"&&(n[s]=e[s])}const r=Object.keys(n);let l;try{W5(n)}catch(o){l=o}return function(s={},f){if(l)throw l;let d=!1;const h={};for(let m=0;m<r.length;m++){const p=r[m],x=n[p],w=s[p],O=x(w,f);if(typeof O>"u")throw f&&f.type,new Error(Xt(14));h[p]=O,d=d||O!==w}return d=d||r.length!==Object.keys(s).length,d?h:s}}function pf(...e){return e.length===0?t=>t:e.length===1?e[0]:e.reduce((t,n)=>(...r)=>t(n(...r)))}function Z5(...e){return t=>(n,r)=>{const l=t(n,r);let o=()=>{throw new Error(Xt(15))};const s={getState:l.getState,dispatch:(d,...h)=>o(d,...h)},f=e.map(d=>d(s));return o=pf(...f)(l.dispatch),{...l,dispatch:o}}}function uN(e){return Eg(e)&&"type"in e&&typeof e.type=="string"}var sN=Symbol.for("immer-nothing"),NE=Symbol.for("immer-draftable"),on=Symbol.for("immer-state");function ir(e,...t){throw new Error(`[Immer] minified error nr: ${e}. Full error at: https://bit.ly/3cXEKWf`)}var Dn=Object,$l=Dn.getPrototypeOf,yf="constructor",sd="prototype",oy="configurable",gf="enumerable",ef="writable",Ou="value",na=e=>!!e&&!!e[on];function fr(e){return e?cN(e)||cd(e)||!!e[NE]||!!e[yf]?.[NE]||fd(e)||dd(e):!1}var Q5=Dn[sd][yf].toString(),CE=new WeakMap;function cN(e){if(!e||!Og(e))return!1;const t=$l(e);if(t===null||t===Dn[sd])return!0;const n=Dn.hasOwnProperty.call(t,yf)&&t[yf];if(n===Object)return!0;if(!Rl(n))return!1;let r=CE.get(n);return r===void 0&&(r=Function.toString.call(n),CE.set(n,r)),r===Q5}function Yu(e,t,n=!0){Ku(e)===0?(n?Reflect.ownKeys(e):Dn.keys(e)).forEach(l=>{t(l,e[l],e)}):e.forEach((r,l)=>t(l,r,e))}function Ku(e){const t=e[on];return t?t.type_:cd(e)?1:fd(e)?2:dd(e)?3:0}var _E=(e,t,n=Ku(e))=>n===2?e.has(t):Dn[sd].hasOwnProperty.call(e,t),uy=(e,t,n=Ku(e))=>n===2?e.get(t):e[t],bf=(e,t,n,r=Ku(e))=>{r===2?e.set(t,n):r===3?e.add(n):e[t]=n};function J5(e,t){return e===t?e!==0||1/e===1/t:e!==e&&t!==t}var cd=Array.isArray,fd=e=>e instanceof Map,dd=e=>e instanceof Set,Og=e=>typeof e=="object",Rl=e=>typeof e=="function",cp=e=>typeof e=="boolean",Gr=e=>e.copy_||e.base_,Ag=e=>e.modified_?e.copy_:e.base_;function sy(e,t){if(fd(e))return new Map(e);if(dd(e))return new Set(e);if(cd(e))return Array[sd].slice.call(e);const n=cN(e);if(t===!0||t==="class_only"&&!n){const r=Dn.getOwnPropertyDescriptors(e);delete r[on];let l=Reflect.ownKeys(r);for(let o=0;o<l.length;o++){const s=l[o],f=r[s];f[ef]===!1&&(f[ef]=!0,f[oy]=!0),(f.get||f.set)&&(r[s]={[oy]:!0,[ef]:!0,[gf]:f[gf],[Ou]:e[s]})}return Dn.create($l(e),r)}else{const r=$l(e);if(r!==null&&n)return{...e};const l=Dn.create(r);return Dn.assign(l,e)}}function jg(e,t=!1){return hd(e)||na(e)||!fr(e)||(Ku(e)>1&&Dn.defineProperties(e,{set:kc,add:kc,clear:kc,delete:kc}),Dn.freeze(e),t&&Yu(e,(n,r)=>{jg(r,!0)},!1)),e}function eL(){ir(2)}var kc={[Ou]:eL};function hd(e){return e===null||!Og(e)?!0:Dn.isFrozen(e)}var xf="MapSet",cy="Patches",fN={};function Yl(e){const t=fN[e];return t||ir(0,e),t}var tL=e=>!!fN[e],Au,dN=()=>Au,nL=(e,t)=>({drafts_:[],parent_:e,immer_:t,canAutoFreeze_:!0,unfinalizedDrafts_:0,handledSet_:new Set,processedForPatches_:new Set,mapSetPlugin_:tL(xf)?Yl(xf):void 0});function TE(e,t){t&&(e.patchPlugin_=Yl(cy),e.patches_=[],e.inversePatches_=[],e.patchListener_=t)}function fy(e){dy(e),e.drafts_.forEach(rL),e.drafts_=null}function dy(e){e===Au&&(Au=e.parent_)}var ME=e=>Au=nL(Au,e);function rL(e){const t=e[on];t.type_===0||t.type_===1?t.revoke_():t.revoked_=!0}function DE(e,t){t.unfinalizedDrafts_=t.drafts_.length;const n=t.drafts_[0];if(e!==void 0&&e!==n){n[on].modified_&&(fy(t),ir(4)),fr(e)&&(e=kE(t,e));const{patchPlugin_:l}=t;l&&l.generateReplacementPatches_(n[on].base_,e,t)}else e=kE(t,n);return aL(t,e,!0),fy(t),t.patches_&&t.patchListener_(t.patches_,t.inversePatches_),e!==sN?e:void 0}function kE(e,t){if(hd(t))return t;const n=t[on];if(!n)return Ng(t,e.handledSet_,e);if(!md(n,e))return t;if(!n.modified_)return n.base_;if(!n.finalized_){const{callbacks_:r}=n;if(r)for(;r.length>0;)r.pop()(e);vN(n,e)}return n.copy_}function aL(e,t,n=!1){!e.parent_&&e.immer_.autoFreeze_&&e.canAutoFreeze_&&jg(t,n)}function hN(e){e.finalized_=!0,e.scope_.unfinalizedDrafts_--}var md=(e,t)=>e.scope_===t,iL=[];function mN(e,t,n,r){const l=Gr(e),o=e.type_;if(r!==void 0&&uy(l,r,o)===t){bf(l,r,n,o);return}if(!e.draftLocations_){const f=e.draftLocations_=new Map;Yu(l,(d,h)=>{if(na(h)){const m=f.get(h)||[];m.push(d),f.set(h,m)}})}const s=e.draftLocations_.get(t)??iL;for(const f of s)bf(l,f,n,o)}function lL(e,t,n){e.callbacks_.push(function(l){const o=t;if(!o||!md(o,l))return;l.mapSetPlugin_?.fixSetContents(o);const s=Ag(o);mN(e,o.draft_??o,s,n),vN(o,l)})}function vN(e,t){if(e.modified_&&!e.finalized_&&(e.type_===3||(e.assigned_?.size??0)>0)){const{patchPlugin_:r}=t;if(r){const l=r.getPath(e);l&&r.generatePatches_(e,l,t)}hN(e)}}function oL(e,t,n){const{scope_:r}=e;if(na(n)){const l=n[on];md(l,r)&&l.callbacks_.push(function(){tf(e);const s=Ag(l);mN(e,n,s,t)})}else fr(n)&&e.callbacks_.push(function(){const o=Gr(e);uy(o,t,e.type_)===n&&r.drafts_.length>1&&(e.assigned_.get(t)??!1)===!0&&e.copy_&&Ng(uy(e.copy_,t,e.type_),r.handledSet_,r)})}function Ng(e,t,n){return!n.immer_.autoFreeze_&&n.unfinalizedDrafts_<1||na(e)||t.has(e)||!fr(e)||hd(e)||(t.add(e),Yu(e,(r,l)=>{if(na(l)){const o=l[on];if(md(o,n)){const s=Ag(o);bf(e,r,s,e.type_),hN(o)}}else fr(l)&&Ng(l,t,n)})),e}function uL(e,t){const n=cd(e),r={type_:n?1:0,scope_:t?t.scope_:dN(),modified_:!1,finalized_:!1,assigned_:void 0,parent_:t,base_:e,draft_:null,copy_:null,revoke_:null,isManual_:!1,callbacks_:void 0};let l=r,o=Cg;n&&(l=[r],o=ju);const{revoke:s,proxy:f}=Proxy.revocable(l,o);return r.draft_=f,r.revoke_=s,[f,r]}var Cg={get(e,t){if(t===on)return e;const n=Gr(e);if(!_E(n,t,e.type_))return sL(e,n,t);const r=n[t];if(e.finalized_||!fr(r))return r;if(r===fp(e.base_,t)){tf(e);const l=e.type_===1?+t:t,o=my(e.scope_,r,e,l);return e.copy_[l]=o}return r},has(e,t){return t in Gr(e)},ownKeys(e){return Reflect.ownKeys(Gr(e))},set(e,t,n){const r=pN(Gr(e),t);if(r?.set)return r.set.call(e.draft_,n),!0;if(!e.modified_){const l=fp(Gr(e),t),o=l?.[on];if(o&&o.base_===n)return e.copy_[t]=n,e.assigned_.set(t,!1),!0;if(J5(n,l)&&(n!==void 0||_E(e.base_,t,e.type_)))return!0;tf(e),hy(e)}return e.copy_[t]===n&&(n!==void 0||t in e.copy_)||Number.isNaN(n)&&Number.isNaN(e.copy_[t])||(e.copy_[t]=n,e.assigned_.set(t,!0),oL(e,t,n)),!0},deleteProperty(e,t){return tf(e),fp(e.base_,t)!==void 0||t in e.base_?(e.assigned_.set(t,!1),hy(e)):e.assigned_.delete(t),e.copy_&&delete e.copy_[t],!0},getOwnPropertyDescriptor(e,t){const n=Gr(e),r=Reflect.getOwnPropertyDescriptor(n,t);return r&&{[ef]:!0,[oy]:e.type_!==1||t!=="length",[gf]:r[gf],[Ou]:n[t]}},defineProperty(){ir(11)},getPrototypeOf(e){return $l(e.base_)},setPrototypeOf(){ir(12)}},ju={};Yu(Cg,(e,t)=>{ju[e]=function(){const n=arguments;return n[0]=n[0][0],t.apply(this,n)}});ju.deleteProperty=function(e,t){return ju.set.call(this,e,t,void 0)};ju.set=function(e,t,n){return Cg.set.call(this,e[0],t,n,e[0])};function fp(e,t){const n=e[on];return(n?Gr(n):e)[t]}function sL(e,t,n){const r=pN(t,n);return r?Ou in r?r[Ou]:r.get?.call(e.draft_):void 0}function pN(e,t){if(!(t in e))return;let n=$l(e);for(;n;){const r=Object.getOwnPropertyDescriptor(n,t);if(r)return r;n=$l(n)}}function hy(e){e.modified_||(e.modified_=!0,e.parent_&&hy(e.parent_))}function tf(e){e.copy_||(e.assigned_=new Map,e.copy_=sy(e.base_,e.scope_.immer_.useStrictShallowCopy_))}var cL=class{constructor(t){this.autoFreeze_=!0,this.useStrictShallowCopy_=!1,this.useStrictIteration_=!1,this.produce=(n,r,l)=>{if(Rl(n)&&!Rl(r)){const s=r;r=n;const f=this;return function(h=s,...m){return f.produce(h,p=>r.call(this,p,...m))}}Rl(r)||ir(6),l!==void 0&&!Rl(l)&&ir(7);let o;if(fr(n)){const s=ME(this),f=my(s,n,void 0);let d=!0;try{o=r(f),d=!1}finally{d?fy(s):dy(s)}return TE(s,l),DE(o,s)}else if(!n||!Og(n)){if(o=r(n),o===void 0&&(o=n),o===sN&&(o=void 0),this.autoFreeze_&&jg(o,!0),l){const s=[],f=[];Yl(cy).generateReplacementPatches_(n,o,{patches_:s,inversePatches_:f}),l(s,f)}return o}else ir(1,n)},this.produceWithPatches=(n,r)=>{if(Rl(n))return(f,...d)=>this.produceWithPatches(f,h=>n(h,...d));let l,o;return[this.produce(n,r,(f,d)=>{l=f,o=d}),l,o]},cp(t?.autoFreeze)&&this.setAutoFreeze(t.autoFreeze),cp(t?.useStrictShallowCopy)&&this.setUseStrictShallowCopy(t.useStrictShallowCopy),cp(t?.useStrictIteration)&&this.setUseStrictIteration(t.useStrictIteration)}createDraft(t){fr(t)||ir(8),na(t)&&(t=ur(t));const n=ME(this),r=my(n,t,void 0);return r[on].isManual_=!0,dy(n),r}finishDraft(t,n){const r=t&&t[on];(!r||!r.isManual_)&&ir(9);const{scope_:l}=r;return TE(l,n),DE(void 0,l)}setAutoFreeze(t){this.autoFreeze_=t}setUseStrictShallowCopy(t){this.useStrictShallowCopy_=t}setUseStrictIteration(t){this.useStrictIteration_=t}shouldUseStrictIteration(){return this.useStrictIteration_}applyPatches(t,n){let r;for(r=n.length-1;r>=0;r--){const o=n[r];if(o.path.length===0&&o.op==="replace"){t=o.value;break}}r>-1&&(n=n.slice(r+1));const l=Yl(cy).applyPatches_;return na(t)?l(t,n):this.produce(t,o=>l(o,n))}};function my(e,t,n,r){const[l,o]=fd(t)?Yl(xf).proxyMap_(t,n):dd(t)?Yl(xf).proxySet_(t,n):uL(t,n);return(n?.scope_??dN()).drafts_.push(l),o.callbacks_=n?.callbacks_??[],o.key_=r,n&&r!==void 0?lL(n,o,r):o.callbacks_.push(function(d){d.mapSetPlugin_?.fixSetContents(o);const{patchPlugin_:h}=d;o.modified_&&h&&h.generatePatches_(o,[],d)}),l}function ur(e){return na(e)||ir(10,e),yN(e)}function yN(e){if(!fr(e)||hd(e))return e;const t=e[on];let n,r=!0;if(t){if(!t.modified_)return t.base_;t.finalized_=!0,n=sy(e,t.scope_.immer_.useStrictShallowCopy_),r=t.scope_.immer_.shouldUseStrictIteration()}else n=sy(e,!0);return Yu(n,(l,o)=>{bf(n,l,yN(o))},r),t&&(t.finalized_=!1),n}var fL=new cL,gN=fL.produce;function bN(e){return({dispatch:n,getState:r})=>l=>o=>typeof o=="function"?o(n,r,e):l(o)}var dL=bN(),hL=bN,mL=typeof window<"u"&&window.__REDUX_DEVTOOLS_EXTENSION_COMPOSE__?window.__REDUX_DEVTOOLS_EXTENSION_COMPOSE__:function(){if(arguments.length!==0)return typeof arguments[0]=="object"?pf:pf.apply(null,arguments)};function Qn(e,t){function n(...r){if(t){let l=t(...r);if(!l)throw new Error(kn(0));return{type:e,payload:l.payload,..."meta"in l&&{meta:l.meta},..."error"in l&&{error:l.error}}}return{type:e,payload:r[0]}}return n.toString=()=>`${e}`,n.type=e,n.match=r=>uN(r)&&r.type===e,n}var xN=class gu extends Array{constructor(...t){super(...t),Object.setPrototypeOf(this,gu.prototype)}static get[Symbol.species](){return gu}concat(...t){return super.concat.apply(this,t)}prepend(...t){return t.length===1&&Array.isArray(t[0])?new gu(...t[0].concat(this)):new gu(...t.concat(this))}};function PE(e){return fr(e)?gN(e,()=>{}):e}function Pc(e,t,n){return e.has(t)?e.get(t):e.set(t,n(t)).get(t)}function vL(e){return typeof e=="boolean"}var pL=()=>function(t){const{thunk:n=!0,immutableCheck:r=!0,serializableCheck:l=!0,actionCreatorCheck:o=!0}=t??{};let s=new xN;return n&&(vL(n)?s.push(dL):s.push(hL(n.extraArgument))),s},wN="RTK_autoBatch",tt=()=>e=>({payload:e,meta:{[wN]:!0}}),RE=e=>t=>{setTimeout(t,e)},SN=(e={type:"raf"})=>t=>(...n)=>{const r=t(...n);let l=!0,o=!1,s=!1;const f=new Set,d=e.type==="tick"?queueMicrotask:e.type==="raf"?typeof window<"u"&&window.requestAnimationFrame?window.requestAnimationFrame:RE(10):e.type==="callback"?e.queueNotification:RE(e.timeout),h=()=>{s=!1,o&&(o=!1,f.forEach(m=>m()))};return Object.assign({},r,{subscribe(m){const p=()=>l&&m(),x=r.subscribe(p);return f.add(m),()=>{x(),f.delete(m)}},dispatch(m){try{return l=!m?.meta?.[wN],o=!l,o&&(s||(s=!0,d(h))),r.dispatch(m)}finally{l=!0}}})},yL=e=>function(n){const{autoBatch:r=!0}=n??{};let l=new xN(e);return r&&l.push(SN(typeof r=="object"?r:void 0)),l};function gL(e){const t=pL(),{reducer:n=void 0,middleware:r,devTools:l=!0,preloadedState:o=void 0,enhancers:s=void 0}=e||{};let f;if(typeof n=="function")f=n;else if(Eg(n))f=oN(n);else throw new Error(kn(1));let d;typeof r=="function"?d=r(t):d=t();let h=pf;l&&(h=mL({trace:!1,...typeof l=="object"&&l}));const m=Z5(...d),p=yL(m);let x=typeof s=="function"?s(p):p();const w=h(...x);return lN(f,o,w)}function EN(e){const t={},n=[];let r;const l={addCase(o,s){const f=typeof o=="string"?o:o.type;if(!f)throw new Error(kn(28));if(f in t)throw new Error(kn(29));return t[f]=s,l},addAsyncThunk(o,s){return s.pending&&(t[o.pending.type]=s.pending),s.rejected&&(t[o.rejected.type]=s.rejected),s.fulfilled&&(t[o.fulfilled.type]=s.fulfilled),s.settled&&n.push({matcher:o.settled,reducer:s.settled}),l},addMatcher(o,s){return n.push({matcher:o,reducer:s}),l},addDefaultCase(o){return r=o,l}};return e(l),[t,n,r]}function bL(e){return typeof e=="function"}function xL(e,t){let[n,r,l]=EN(t),o;if(bL(e))o=()=>PE(e());else{const f=PE(e);o=()=>f}function s(f=o(),d){let h=[n[d.type],...r.filter(({matcher:m})=>m(d)).map(({reducer:m})=>m)];return h.filter(m=>!!m).length===0&&(h=[l]),h.reduce((m,p)=>{if(p)if(na(m)){const w=p(m,d);return w===void 0?m:w}else{if(fr(m))return gN(m,x=>p(x,d));{const x=p(m,d);if(x===void 0){if(m===null)return m;throw Error("A case reducer on a non-draftable value must not return undefined")}return x}}return m},f)}return s.getInitialState=o,s}var wL="ModuleSymbhasOwnPr-0123456789ABCDEFGHNRVfgctiUvz_KqYTJkLxpZXIjQW",SL=(e=21)=>{let t="",n=e;for(;n--;)t+=wL[Math.random()*64|0];return t},EL=Symbol.for("rtk-slice-createasyncthunk");function OL(e,t){return`${e}/${t}`}function AL({creators:e}={}){const t=e?.asyncThunk?.[EL];return function(r){const{name:l,reducerPath:o=l}=r;if(!l)throw new Error(kn(11));const s=(typeof r.reducers=="function"?r.reducers(NL()):r.reducers)||{},f=Object.keys(s),d={sliceCaseReducersByName:{},sliceCaseReducersByType:{},actionCreators:{},sliceMatchers:[]},h={addCase(C,D){const T=typeof C=="string"?C:C.type;if(!T)throw new Error(kn(12));if(T in d.sliceCaseReducersByType)throw new Error(kn(13));return d.sliceCaseReducersByType[T]=D,h},addMatcher(C,D){return d.sliceMatchers.push({matcher:C,reducer:D}),h},exposeAction(C,D){return d.actionCreators[C]=D,h},exposeCaseReducer(C,D){return d.sliceCaseReducersByName[C]=D,h}};f.forEach(C=>{const D=s[C],T={reducerName:C,type:OL(l,C),createNotation:typeof r.reducers=="function"};_L(D)?ML(T,D,h,t):CL(T,D,h)});function m(){const[C={},D=[],T=void 0]=typeof r.extraReducers=="function"?EN(r.extraReducers):[r.extraReducers],R={...C,...d.sliceCaseReducersByType};return xL(r.initialState,k=>{for(let I in R)k.addCase(I,R[I]);for(let I of d.sliceMatchers)k.addMatcher(I.matcher,I.reducer);for(let I of D)k.addMatcher(I.matcher,I.reducer);T&&k.addDefaultCase(T)})}const p=C=>C,x=new Map,w=new WeakMap;let O;function A(C,D){return O||(O=m()),O(C,D)}function S(){return O||(O=m()),O.getInitialState()}function j(C,D=!1){function T(k){let I=k[C];return typeof I>"u"&&D&&(I=Pc(w,T,S)),I}function R(k=p){const I=Pc(x,D,()=>new WeakMap);return Pc(I,k,()=>{const re={};for(const[ae,W]of Object.entries(r.selectors??{}))re[ae]=jL(W,k,()=>Pc(w,k,S),D);return re})}return{reducerPath:C,getSelectors:R,get selectors(){return R(T)},selectSlice:T}}const _={name:l,reducer:A,actions:d.actionCreators,caseReducers:d.sliceCaseReducersByName,getInitialState:S,...j(o),injectInto(C,{reducerPath:D,...T}={}){const R=D??o;return C.inject({reducerPath:R,reducer:A},T),{..._,...j(R,!0)}}};return _}}function jL(e,t,n,r){function l(o,...s){let f=t(o);return typeof f>"u"&&r&&(f=n()),e(f,...s)}return l.unwrapped=e,l}var gn=AL();function NL(){function e(t,n){return{_reducerDefinitionType:"asyncThunk",payloadCreator:t,...n}}return e.withTypes=()=>e,{reducer(t){return Object.assign({[t.name](...n){return t(...n)}}[t.name],{_reducerDefinitionType:"reducer"})},preparedReducer(t,n){return{_reducerDefinitionType:"reducerWithPrepare",prepare:t,reducer:n}},asyncThunk:e}}function CL({type:e,reducerName:t,createNotation:n},r,l){let o,s;if("reducer"in r){if(n&&!TL(r))throw new Error(kn(17));o=r.reducer,s=r.prepare}else o=r;l.addCase(e,o).exposeCaseReducer(t,o).exposeAction(t,s?Qn(e,s):Qn(e))}function _L(e){return e._reducerDefinitionType==="asyncThunk"}function TL(e){return e._reducerDefinitionType==="reducerWithPrepare"}function ML({type:e,reducerName:t},n,r,l){if(!l)throw new Error(kn(18));const{payloadCreator:o,fulfilled:s,pending:f,rejected:d,settled:h,options:m}=n,p=l(e,o,m);r.exposeAction(t,p),s&&r.addCase(p.fulfilled,s),f&&r.addCase(p.pending,f),d&&r.addCase(p.rejected,d),h&&r.addMatcher(p.settled,h),r.exposeCaseReducer(t,{fulfilled:s||Rc,pending:f||Rc,rejected:d||Rc,settled:h||Rc})}function Rc(){}var DL="task",ON="listener",AN="completed",_g="cancelled",kL=`task-${_g}`,PL=`task-${AN}`,vy=`${ON}-${_g}`,RL=`${ON}-${AN}`,vd=class{constructor(e){this.code=e,this.message=`${DL} ${_g} (reason: ${e})`}name="TaskAbortError";message},Tg=(e,t)=>{if(typeof e!="function")throw new TypeError(kn(32))},wf=()=>{},jN=(e,t=wf)=>(e.catch(t),e),NN=(e,t)=>(e.addEventListener("abort",t,{once:!0}),()=>e.removeEventListener("abort",t)),_i=(e,t)=>{const n=e.signal;n.aborted||("reason"in n||Object.defineProperty(n,"reason",{enumerable:!0,value:t,configurable:!0,writable:!0}),e.abort(t))},Ti=e=>{if(e.aborted){const{reason:t}=e;throw new vd(t)}};function CN(e,t){let n=wf;return new Promise((r,l)=>{const o=()=>l(new vd(e.reason));if(e.aborted){o();return}n=NN(e,o),t.finally(()=>n()).then(r,l)}).finally(()=>{n=wf})}var zL=async(e,t)=>{try{return await Promise.resolve(),{status:"ok",value:await e()}}catch(n){return{status:n instanceof vd?"cancelled":"rejected",error:n}}finally{t?.()}},Sf=e=>t=>jN(CN(e,t).then(n=>(Ti(e),n))),_N=e=>{const t=Sf(e);return n=>t(new Promise(r=>setTimeout(r,n)))},{assign:Ul}=Object,zE={},pd="listenerMiddleware",LL=(e,t)=>{const n=r=>NN(e,()=>_i(r,e.reason));return(r,l)=>{Tg(r);const o=new AbortController;n(o);const s=zL(async()=>{Ti(e),Ti(o.signal);const f=await r({pause:Sf(o.signal),delay:_N(o.signal),signal:o.signal});return Ti(o.signal),f},()=>_i(o,PL));return l?.autoJoin&&t.push(s.catch(wf)),{result:Sf(e)(s),cancel(){_i(o,kL)}}}},BL=(e,t)=>{const n=async(r,l)=>{Ti(t);let o=()=>{};const f=[new Promise((d,h)=>{let m=e({predicate:r,effect:(p,x)=>{x.unsubscribe(),d([p,x.getState(),x.getOriginalState()])}});o=()=>{m(),h()}})];l!=null&&f.push(new Promise(d=>setTimeout(d,l,null)));try{const d=await CN(t,Promise.race(f));return Ti(t),d}finally{o()}};return(r,l)=>jN(n(r,l))},TN=e=>{let{type:t,actionCreator:n,matcher:r,predicate:l,effect:o}=e;if(t)l=Qn(t).match;else if(n)t=n.type,l=n.match;else if(r)l=r;else if(!l)throw new Error(kn(21));return Tg(o),{predicate:l,type:t,effect:o}},MN=Ul(e=>{const{type:t,predicate:n,effect:r}=TN(e);return{id:SL(),effect:r,type:t,predicate:n,pending:new Set,unsubscribe:()=>{throw new Error(kn(22))}}},{withTypes:()=>MN}),LE=(e,t)=>{const{type:n,effect:r,predicate:l}=TN(t);return Array.from(e.values()).find(o=>(typeof n=="string"?o.type===n:o.predicate===l)&&o.effect===r)},py=e=>{e.pending.forEach(t=>{_i(t,vy)})},UL=(e,t)=>()=>{for(const n of t.keys())py(n);e.clear()},BE=(e,t,n)=>{try{e(t,n)}catch(r){setTimeout(()=>{throw r},0)}},DN=Ul(Qn(`${pd}/add`),{withTypes:()=>DN}),IL=Qn(`${pd}/removeAll`),kN=Ul(Qn(`${pd}/remove`),{withTypes:()=>kN}),qL=(...e)=>{console.error(`${pd}/error`,...e)},Gu=(e={})=>{const t=new Map,n=new Map,r=w=>{const O=n.get(w)??0;n.set(w,O+1)},l=w=>{const O=n.get(w)??1;O===1?n.delete(w):n.set(w,O-1)},{extra:o,onError:s=qL}=e;Tg(s);const f=w=>(w.unsubscribe=()=>t.delete(w.id),t.set(w.id,w),O=>{w.unsubscribe(),O?.cancelActive&&py(w)}),d=w=>{const O=LE(t,w)??MN(w);return f(O)};Ul(d,{withTypes:()=>d});const h=w=>{const O=LE(t,w);return O&&(O.unsubscribe(),w.cancelActive&&py(O)),!!O};Ul(h,{withTypes:()=>h});const m=async(w,O,A,S)=>{const j=new AbortController,_=BL(d,j.signal),C=[];try{w.pending.add(j),r(w),await Promise.resolve(w.effect(O,Ul({},A,{getOriginalState:S,condition:(D,T)=>_(D,T).then(Boolean),take:_,delay:_N(j.signal),pause:Sf(j.signal),extra:o,signal:j.signal,fork:LL(j.signal,C),unsubscribe:w.unsubscribe,subscribe:()=>{t.set(w.id,w)},cancelActiveListeners:()=>{w.pending.forEach((D,T,R)=>{D!==j&&(_i(D,vy),R.delete(D))})},cancel:()=>{_i(j,vy),w.pending.delete(j)},throwIfCancelled:()=>{Ti(j.signal)}})))}catch(D){D instanceof vd||BE(s,D,{raisedBy:"effect"})}finally{await Promise.all(C),_i(j,RL),l(w),w.pending.delete(j)}},p=UL(t,n);return{middleware:w=>O=>A=>{if(!uN(A))return O(A);if(DN.match(A))return d(A.payload);if(IL.match(A)){p();return}if(kN.match(A))return h(A.payload);let S=w.getState();const j=()=>{if(S===zE)throw new Error(kn(23));return S};let _;try{if(_=O(A),t.size>0){const C=w.getState(),D=Array.from(t.values());for(const T of D){let R=!1;try{R=T.predicate(A,C,S)}catch(k){R=!1,BE(s,k,{raisedBy:"predicate"})}R&&m(T,A,w,j)}}}finally{S=zE}return _},startListening:d,stopListening:h,clearListeners:p}};function kn(e){return`Minified Redux Toolkit error #${e}; visit https://redux-toolkit.js.org/Errors?code=${e} for the full message or use the non-minified dev environment for full errors. `}var HL={layoutType:"horizontal",width:0,height:0,margin:{top:5,right:5,bottom:5,left:5},scale:1},PN=gn({name:"chartLayout",initialState:HL,reducers:{setLayout(e,t){e.layoutType=t.payload},setChartSize(e,t){e.width=t.payload.width,e.height=t.payload.height},setMargin(e,t){var n,r,l,o;e.margin.top=(n=t.payload.top)!==null&&n!==void 0?n:0,e.margin.right=(r=t.payload.right)!==null&&r!==void 0?r:0,e.margin.bottom=(l=t.payload.bottom)!==null&&l!==void 0?l:0,e.margin.left=(o=t.payload.left)!==null&&o!==void 0?o:0},setScale(e,t){e.scale=t.payload}}}),{setMargin:$L,setLayout:YL,setChartSize:KL,setScale:GL}=PN.actions,VL=PN.reducer;function RN(e,t,n){return Array.isArray(e)&&e&&t+n!==0?e.slice(t,n+1):e}function UE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function zl(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?UE(Object(n),!0).forEach(function(r){XL(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):UE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function XL(e,t,n){return(t=FL(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function FL(e){var t=WL(e,"string");return typeof t=="symbol"?t:t+""}function WL(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function nn(e,t,n){return Zt(e)||Zt(t)?n:Sr(t)?od(e,t,n):typeof t=="function"?t(e):n}var ZL=(e,t,n)=>{if(t&&n){var{width:r,height:l}=n,{align:o,verticalAlign:s,layout:f}=t;if((f==="vertical"||f==="horizontal"&&s==="middle")&&o!=="center"&&de(e[o]))return zl(zl({},e),{},{[o]:e[o]+(r||0)});if((f==="horizontal"||f==="vertical"&&o==="center")&&s!=="middle"&&de(e[s]))return zl(zl({},e),{},{[s]:e[s]+(l||0)})}return e},sa=(e,t)=>e==="horizontal"&&t==="xAxis"||e==="vertical"&&t==="yAxis"||e==="centric"&&t==="angleAxis"||e==="radial"&&t==="radiusAxis",zN=(e,t,n,r)=>{if(r)return e.map(f=>f.coordinate);var l,o,s=e.map(f=>(f.coordinate===t&&(l=!0),f.coordinate===n&&(o=!0),f.coordinate));return l||s.push(t),o||s.push(n),s},LN=(e,t,n)=>{if(!e)return null;var{duplicateDomain:r,type:l,range:o,scale:s,realScaleType:f,isCategorical:d,categoricalDomain:h,tickCount:m,ticks:p,niceTicks:x,axisType:w}=e;if(!s)return null;var O=f==="scaleBand"&&s.bandwidth?s.bandwidth()/2:2,A=l==="category"&&s.bandwidth?s.bandwidth()/O:0;if(A=w==="angleAxis"&&o&&o.length>=2?Xn(o[0]-o[1])*2*A:A,p||x){var S=(p||x||[]).map((j,_)=>{var C=r?r.indexOf(j):j;return{coordinate:s(C)+A,value:j,offset:A,index:_}});return S.filter(j=>!cr(j.coordinate))}return d&&h?h.map((j,_)=>({coordinate:s(j)+A,value:j,index:_,offset:A})):s.ticks&&m!=null?s.ticks(m).map((j,_)=>({coordinate:s(j)+A,value:j,offset:A,index:_})):s.domain().map((j,_)=>({coordinate:s(j)+A,value:r?r[j]:j,index:_,offset:A}))},IE=1e-4,QL=e=>{var t=e.domain();if(!(!t||t.length<=2)){var n=t.length,r=e.range(),l=Math.min(r[0],r[1])-IE,o=Math.max(r[0],r[1])+IE,s=e(t[0]),f=e(t[n-1]);(s<l||s>o||f<l||f>o)&&e.domain([t[0],t[n-1]])}},JL=e=>{var t=e.length;if(!(t<=0))for(var n=0,r=e[0].length;n<r;++n)for(var l=0,o=0,s=0;s<t;++s){var f=cr(e[s][n][1])?e[s][n][0]:e[s][n][1];f>=0?(e[s][n][0]=l,e[s][n][1]=l+f,l=e[s][n][1]):(e[s][n][0]=o,e[s][n][1]=o+f,o=e[s][n][1])}},e6=e=>{var t=e.length;if(!(t<=0))for(var n=0,r=e[0].length;n<r;++n)for(var l=0,o=0;o<t;++o){var s=cr(e[o][n][1])?e[o][n][0]:e[o][n][1];s>=0?(e[o][n][0]=l,e[o][n][1]=l+s,l=e[o][n][1]):(e[o][n][0]=0,e[o][n][1]=0)}},t6={sign:JL,expand:U4,none:Hl,silhouette:I4,wiggle:q4,positive:e6},n6=(e,t,n)=>{var r=t6[n],l=B4().keys(t).value((o,s)=>Number(nn(o,s,0))).order(ly).offset(r);return l(e)};function r6(e){return e==null?void 0:String(e)}function qE(e){var{axis:t,ticks:n,bandSize:r,entry:l,index:o,dataKey:s}=e;if(t.type==="category"){if(!t.allowDuplicatedCategory&&t.dataKey&&!Zt(l[t.dataKey])){var f=Kj(n,"value",l[t.dataKey]);if(f)return f.coordinate+r/2}return n[o]?n[o].coordinate+r/2:null}var d=nn(l,Zt(s)?t.dataKey:s);return Zt(d)?null:t.scale(d)}var a6=e=>{var t=e.flat(2).filter(de);return[Math.min(...t),Math.max(...t)]},i6=e=>[e[0]===1/0?0:e[0],e[1]===-1/0?0:e[1]],l6=(e,t,n)=>{if(e!=null)return i6(Object.keys(e).reduce((r,l)=>{var o=e[l],{stackedData:s}=o,f=s.reduce((d,h)=>{var m=RN(h,t,n),p=a6(m);return[Math.min(d[0],p[0]),Math.max(d[1],p[1])]},[1/0,-1/0]);return[Math.min(f[0],r[0]),Math.max(f[1],r[1])]},[1/0,-1/0]))},HE=/^dataMin[\s]*-[\s]*([0-9]+([.]{1}[0-9]+){0,1})$/,$E=/^dataMax[\s]*\+[\s]*([0-9]+([.]{1}[0-9]+){0,1})$/,Ef=(e,t,n)=>{if(e&&e.scale&&e.scale.bandwidth){var r=e.scale.bandwidth();if(!n||r>0)return r}if(e&&t&&t.length>=2){for(var l=ud(t,m=>m.coordinate),o=1/0,s=1,f=l.length;s<f;s++){var d=l[s],h=l[s-1];o=Math.min((d.coordinate||0)-(h.coordinate||0),o)}return o===1/0?0:o}return n?void 0:0};function YE(e){var{tooltipEntrySettings:t,dataKey:n,payload:r,value:l,name:o}=e;return zl(zl({},t),{},{dataKey:n,payload:r,value:l,name:o})}function BN(e,t){if(e)return String(e);if(typeof t=="string")return t}var o6=(e,t)=>{if(t==="horizontal")return e.chartX;if(t==="vertical")return e.chartY},u6=(e,t)=>t==="centric"?e.angle:e.radius,ca=e=>e.layout.width,fa=e=>e.layout.height,s6=e=>e.layout.scale,UN=e=>e.layout.margin,yd=Y(e=>e.cartesianAxis.xAxis,e=>Object.values(e)),gd=Y(e=>e.cartesianAxis.yAxis,e=>Object.values(e)),c6="data-recharts-item-index",f6="data-recharts-item-data-key",Vu=60;function KE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function zc(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?KE(Object(n),!0).forEach(function(r){d6(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):KE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function d6(e,t,n){return(t=h6(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function h6(e){var t=m6(e,"string");return typeof t=="symbol"?t:t+""}function m6(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var v6=e=>e.brush.height;function p6(e){var t=gd(e);return t.reduce((n,r)=>{if(r.orientation==="left"&&!r.mirror&&!r.hide){var l=typeof r.width=="number"?r.width:Vu;return n+l}return n},0)}function y6(e){var t=gd(e);return t.reduce((n,r)=>{if(r.orientation==="right"&&!r.mirror&&!r.hide){var l=typeof r.width=="number"?r.width:Vu;return n+l}return n},0)}function g6(e){var t=yd(e);return t.reduce((n,r)=>r.orientation==="top"&&!r.mirror&&!r.hide?n+r.height:n,0)}function b6(e){var t=yd(e);return t.reduce((n,r)=>r.orientation==="bottom"&&!r.mirror&&!r.hide?n+r.height:n,0)}var Qt=Y([ca,fa,UN,v6,p6,y6,g6,b6,iN,K5],(e,t,n,r,l,o,s,f,d,h)=>{var m={left:(n.left||0)+l,right:(n.right||0)+o},p={top:(n.top||0)+s,bottom:(n.bottom||0)+f},x=zc(zc({},p),m),w=x.bottom;x.bottom+=r,x=ZL(x,d,h);var O=e-x.left-x.right,A=t-x.top-x.bottom;return zc(zc({brushBottom:w},x),{},{width:Math.max(O,0),height:Math.max(A,0)})}),x6=Y(Qt,e=>({x:e.left,y:e.top,width:e.width,height:e.height})),IN=Y(ca,fa,(e,t)=>({x:0,y:0,width:e,height:t})),w6=g.createContext(null),bn=()=>g.useContext(w6)!=null,bd=e=>e.brush,xd=Y([bd,Qt,UN],(e,t,n)=>({height:e.height,x:de(e.x)?e.x:t.left,y:de(e.y)?e.y:t.top+t.height+t.brushBottom-(n?.bottom||0),width:de(e.width)?e.width:t.width})),dp={},hp={},mp={},GE;function S6(){return GE||(GE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n,r,{signal:l,edges:o}={}){let s,f=null;const d=o!=null&&o.includes("leading"),h=o==null||o.includes("trailing"),m=()=>{f!==null&&(n.apply(s,f),s=void 0,f=null)},p=()=>{h&&m(),A()};let x=null;const w=()=>{x!=null&&clearTimeout(x),x=setTimeout(()=>{x=null,p()},r)},O=()=>{x!==null&&(clearTimeout(x),x=null)},A=()=>{O(),s=void 0,f=null},S=()=>{m()},j=function(..._){if(l?.aborted)return;s=this,f=_;const C=x==null;w(),d&&C&&m()};return j.schedule=w,j.cancel=A,j.flush=S,l?.addEventListener("abort",A,{once:!0}),j}e.debounce=t})(mp)),mp}var VE;function E6(){return VE||(VE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=S6();function n(r,l=0,o={}){typeof o!="object"&&(o={});const{leading:s=!1,trailing:f=!0,maxWait:d}=o,h=Array(2);s&&(h[0]="leading"),f&&(h[1]="trailing");let m,p=null;const x=t.debounce(function(...A){m=r.apply(this,A),p=null},l,{edges:h}),w=function(...A){return d!=null&&(p===null&&(p=Date.now()),Date.now()-p>=d)?(m=r.apply(this,A),p=Date.now(),x.cancel(),x.schedule(),m):(x.apply(this,A),m)},O=()=>(x.flush(),m);return w.cancel=x.cancel,w.flush=O,w}e.debounce=n})(hp)),hp}var XE;function O6(){return XE||(XE=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=E6();function n(r,l=0,o={}){const{leading:s=!0,trailing:f=!0}=o;return t.debounce(r,l,{leading:s,maxWait:l,trailing:f})}e.throttle=n})(dp)),dp}var vp,FE;function A6(){return FE||(FE=1,vp=O6().throttle),vp}var j6=A6();const N6=oa(j6);var Of=function(t,n){for(var r=arguments.length,l=new Array(r>2?r-2:0),o=2;o<r;o++)l[o-2]=arguments[o];if(typeof console<"u"&&console.warn&&(n===void 0&&console.warn("LogUtils requires an error message argument"),!t))if(n===void 0)console.warn("Minified exception occurred; use the non-minified dev environment for the full error message and additional helpful warnings.");else{var s=0;console.warn(n.replace(/%s/g,()=>l[s++]))}},qN=(e,t,n)=>{var{width:r="100%",height:l="100%",aspect:o,maxHeight:s}=n,f=ta(r)?e:Number(r),d=ta(l)?t:Number(l);return o&&o>0&&(f?d=f/o:d&&(f=d*o),s&&d!=null&&d>s&&(d=s)),{calculatedWidth:f,calculatedHeight:d}},C6={width:0,height:0,overflow:"visible"},_6={width:0,overflowX:"visible"},T6={height:0,overflowY:"visible"},M6={},D6=e=>{var{width:t,height:n}=e,r=ta(t),l=ta(n);return r&&l?C6:r?_6:l?T6:M6};function k6(e){var{width:t,height:n,aspect:r}=e,l=t,o=n;return l===void 0&&o===void 0?(l="100%",o="100%"):l===void 0?l=r&&r>0?void 0:"100%":o===void 0&&(o=r&&r>0?void 0:"100%"),{width:l,height:o}}function st(e){return Number.isFinite(e)}function Er(e){return typeof e=="number"&&e>0&&Number.isFinite(e)}function yy(){return yy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},yy.apply(null,arguments)}function WE(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function ZE(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?WE(Object(n),!0).forEach(function(r){P6(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):WE(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function P6(e,t,n){return(t=R6(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function R6(e){var t=z6(e,"string");return typeof t=="symbol"?t:t+""}function z6(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var HN=g.createContext({width:-1,height:-1});function L6(e){return Er(e.width)&&Er(e.height)}function $N(e){var{children:t,width:n,height:r}=e,l=g.useMemo(()=>({width:n,height:r}),[n,r]);return L6(l)?g.createElement(HN.Provider,{value:l},t):null}var Mg=()=>g.useContext(HN),B6=g.forwardRef((e,t)=>{var{aspect:n,initialDimension:r={width:-1,height:-1},width:l,height:o,minWidth:s=0,minHeight:f,maxHeight:d,children:h,debounce:m=0,id:p,className:x,onResize:w,style:O={}}=e,A=g.useRef(null),S=g.useRef();S.current=w,g.useImperativeHandle(t,()=>A.current);var[j,_]=g.useState({containerWidth:r.width,containerHeight:r.height}),C=g.useCallback((I,re)=>{_(ae=>{var W=Math.round(I),J=Math.round(re);return ae.containerWidth===W&&ae.containerHeight===J?ae:{containerWidth:W,containerHeight:J}})},[]);g.useEffect(()=>{if(A.current==null||typeof ResizeObserver>"u")return $u;var I=J=>{var pe,{width:ge,height:xe}=J[0].contentRect;C(ge,xe),(pe=S.current)===null||pe===void 0||pe.call(S,ge,xe)};m>0&&(I=N6(I,m,{trailing:!0,leading:!1}));var re=new ResizeObserver(I),{width:ae,height:W}=A.current.getBoundingClientRect();return C(ae,W),re.observe(A.current),()=>{re.disconnect()}},[C,m]);var{containerWidth:D,containerHeight:T}=j;Of(!n||n>0,"The aspect(%s) must be greater than zero.",n);var{calculatedWidth:R,calculatedHeight:k}=qN(D,T,{width:l,height:o,aspect:n,maxHeight:d});return Of(R!=null&&R>0||k!=null&&k>0,`The width(%s) and height(%s) of chart should be greater than 0,
-       please check the style of container, or the props width(%s) and height(%s),
-       or add a minWidth(%s) or minHeight(%s) or use aspect(%s) to control the
-       height and width.`,R,k,l,o,s,f,n),g.createElement("div",{id:p?"".concat(p):void 0,className:Ve("recharts-responsive-container",x),style:ZE(ZE({},O),{},{width:l,height:o,minWidth:s,minHeight:f,maxHeight:d}),ref:A},g.createElement("div",{style:D6({width:l,height:o})},g.createElement($N,{width:R,height:k},h)))}),YN=g.forwardRef((e,t)=>{var n=Mg();if(Er(n.width)&&Er(n.height))return e.children;var{width:r,height:l}=k6({width:e.width,height:e.height,aspect:e.aspect}),{calculatedWidth:o,calculatedHeight:s}=qN(void 0,void 0,{width:r,height:l,aspect:e.aspect,maxHeight:e.maxHeight});return de(o)&&de(s)?g.createElement($N,{width:o,height:s},e.children):g.createElement(B6,yy({},e,{width:r,height:l,ref:t}))});function KN(e){if(e)return{x:e.x,y:e.y,upperWidth:"upperWidth"in e?e.upperWidth:e.width,lowerWidth:"lowerWidth"in e?e.lowerWidth:e.width,width:e.width,height:e.height}}var wd=()=>{var e,t=bn(),n=ve(x6),r=ve(xd),l=(e=ve(bd))===null||e===void 0?void 0:e.padding;return!t||!r||!l?n:{width:r.width-l.left-l.right,height:r.height-l.top-l.bottom,x:l.left,y:l.top}},U6={top:0,bottom:0,left:0,right:0,width:0,height:0,brushBottom:0},GN=()=>{var e;return(e=ve(Qt))!==null&&e!==void 0?e:U6},VN=()=>ve(ca),XN=()=>ve(fa),We=e=>e.layout.layoutType,Xu=()=>ve(We),I6=()=>{var e=Xu();if(e==="horizontal"||e==="vertical")return e},q6=()=>{var e=Xu();return e!==void 0},Sd=e=>{var t=Bt(),n=bn(),{width:r,height:l}=e,o=Mg(),s=r,f=l;return o&&(s=o.width>0?o.width:r,f=o.height>0?o.height:l),g.useEffect(()=>{!n&&Er(s)&&Er(f)&&t(KL({width:s,height:f}))},[t,n,s,f]),null},FN=Symbol.for("immer-nothing"),QE=Symbol.for("immer-draftable"),Pn=Symbol.for("immer-state");function lr(e,...t){throw new Error(`[Immer] minified error nr: ${e}. Full error at: https://bit.ly/3cXEKWf`)}var Nu=Object.getPrototypeOf;function Kl(e){return!!e&&!!e[Pn]}function Pi(e){return e?WN(e)||Array.isArray(e)||!!e[QE]||!!e.constructor?.[QE]||Fu(e)||Od(e):!1}var H6=Object.prototype.constructor.toString(),JE=new WeakMap;function WN(e){if(!e||typeof e!="object")return!1;const t=Object.getPrototypeOf(e);if(t===null||t===Object.prototype)return!0;const n=Object.hasOwnProperty.call(t,"constructor")&&t.constructor;if(n===Object)return!0;if(typeof n!="function")return!1;let r=JE.get(n);return r===void 0&&(r=Function.toString.call(n),JE.set(n,r)),r===H6}function Af(e,t,n=!0){Ed(e)===0?(n?Reflect.ownKeys(e):Object.keys(e)).forEach(l=>{t(l,e[l],e)}):e.forEach((r,l)=>t(l,r,e))}function Ed(e){const t=e[Pn];return t?t.type_:Array.isArray(e)?1:Fu(e)?2:Od(e)?3:0}function gy(e,t){return Ed(e)===2?e.has(t):Object.prototype.hasOwnProperty.call(e,t)}function ZN(e,t,n){const r=Ed(e);r===2?e.set(t,n):r===3?e.add(n):e[t]=n}function $6(e,t){return e===t?e!==0||1/e===1/t:e!==e&&t!==t}function Fu(e){return e instanceof Map}function Od(e){return e instanceof Set}function wi(e){return e.copy_||e.base_}function by(e,t){if(Fu(e))return new Map(e);if(Od(e))return new Set(e);if(Array.isArray(e))return Array.prototype.slice.call(e);const n=WN(e);if(t===!0||t==="class_only"&&!n){const r=Object.getOwnPropertyDescriptors(e);delete r[Pn];let l=Reflect.ownKeys(r);for(let o=0;o<l.length;o++){const s=l[o],f=r[s];f.writable===!1&&(f.writable=!0,f.configurable=!0),(f.get||f.set)&&(r[s]={configurable:!0,writable:!0,enumerable:f.enumerable,value:e[s]})}return Object.create(Nu(e),r)}else{const r=Nu(e);if(r!==null&&n)return{...e};const l=Object.create(r);return Object.assign(l,e)}}function Dg(e,t=!1){return Ad(e)||Kl(e)||!Pi(e)||(Ed(e)>1&&Object.defineProperties(e,{set:Lc,add:Lc,clear:Lc,delete:Lc}),Object.freeze(e),t&&Object.values(e).forEach(n=>Dg(n,!0))),e}function Y6(){lr(2)}var Lc={value:Y6};function Ad(e){return e===null||typeof e!="object"?!0:Object.isFrozen(e)}var K6={};function Ri(e){const t=K6[e];return t||lr(0,e),t}var Cu;function QN(){return Cu}function G6(e,t){return{drafts_:[],parent_:e,immer_:t,canAutoFreeze_:!0,unfinalizedDrafts_:0}}function eO(e,t){t&&(Ri("Patches"),e.patches_=[],e.inversePatches_=[],e.patchListener_=t)}function xy(e){wy(e),e.drafts_.forEach(V6),e.drafts_=null}function wy(e){e===Cu&&(Cu=e.parent_)}function tO(e){return Cu=G6(Cu,e)}function V6(e){const t=e[Pn];t.type_===0||t.type_===1?t.revoke_():t.revoked_=!0}function nO(e,t){t.unfinalizedDrafts_=t.drafts_.length;const n=t.drafts_[0];return e!==void 0&&e!==n?(n[Pn].modified_&&(xy(t),lr(4)),Pi(e)&&(e=jf(t,e),t.parent_||Nf(t,e)),t.patches_&&Ri("Patches").generateReplacementPatches_(n[Pn].base_,e,t.patches_,t.inversePatches_)):e=jf(t,n,[]),xy(t),t.patches_&&t.patchListener_(t.patches_,t.inversePatches_),e!==FN?e:void 0}function jf(e,t,n){if(Ad(t))return t;const r=e.immer_.shouldUseStrictIteration(),l=t[Pn];if(!l)return Af(t,(o,s)=>rO(e,l,t,o,s,n),r),t;if(l.scope_!==e)return t;if(!l.modified_)return Nf(e,l.base_,!0),l.base_;if(!l.finalized_){l.finalized_=!0,l.scope_.unfinalizedDrafts_--;const o=l.copy_;let s=o,f=!1;l.type_===3&&(s=new Set(o),o.clear(),f=!0),Af(s,(d,h)=>rO(e,l,o,d,h,n,f),r),Nf(e,o,!1),n&&e.patches_&&Ri("Patches").generatePatches_(l,n,e.patches_,e.inversePatches_)}return l.copy_}function rO(e,t,n,r,l,o,s){if(l==null||typeof l!="object"&&!s)return;const f=Ad(l);if(!(f&&!s)){if(Kl(l)){const d=o&&t&&t.type_!==3&&!gy(t.assigned_,r)?o.concat(r):void 0,h=jf(e,l,d);if(ZN(n,r,h),Kl(h))e.canAutoFreeze_=!1;else return}else s&&n.add(l);if(Pi(l)&&!f){if(!e.immer_.autoFreeze_&&e.unfinalizedDrafts_<1||t&&t.base_&&t.base_[r]===l&&f)return;jf(e,l),(!t||!t.scope_.parent_)&&typeof r!="symbol"&&(Fu(n)?n.has(r):Object.prototype.propertyIsEnumerable.call(n,r))&&Nf(e,l)}}}function Nf(e,t,n=!1){!e.parent_&&e.immer_.autoFreeze_&&e.canAutoFreeze_&&Dg(t,n)}function X6(e,t){const n=Array.isArray(e),r={type_:n?1:0,scope_:t?t.scope_:QN(),modified_:!1,finalized_:!1,assigned_:{},parent_:t,base_:e,draft_:null,copy_:null,revoke_:null,isManual_:!1};let l=r,o=kg;n&&(l=[r],o=_u);const{revoke:s,proxy:f}=Proxy.revocable(l,o);return r.draft_=f,r.revoke_=s,f}var kg={get(e,t){if(t===Pn)return e;const n=wi(e);if(!gy(n,t))return F6(e,n,t);const r=n[t];return e.finalized_||!Pi(r)?r:r===pp(e.base_,t)?(yp(e),e.copy_[t]=Ey(r,e)):r},has(e,t){return t in wi(e)},ownKeys(e){return Reflect.ownKeys(wi(e))},set(e,t,n){const r=JN(wi(e),t);if(r?.set)return r.set.call(e.draft_,n),!0;if(!e.modified_){const l=pp(wi(e),t),o=l?.[Pn];if(o&&o.base_===n)return e.copy_[t]=n,e.assigned_[t]=!1,!0;if($6(n,l)&&(n!==void 0||gy(e.base_,t)))return!0;yp(e),Sy(e)}return e.copy_[t]===n&&(n!==void 0||t in e.copy_)||Number.isNaN(n)&&Number.isNaN(e.copy_[t])||(e.copy_[t]=n,e.assigned_[t]=!0),!0},deleteProperty(e,t){return pp(e.base_,t)!==void 0||t in e.base_?(e.assigned_[t]=!1,yp(e),Sy(e)):delete e.assigned_[t],e.copy_&&delete e.copy_[t],!0},getOwnPropertyDescriptor(e,t){const n=wi(e),r=Reflect.getOwnPropertyDescriptor(n,t);return r&&{writable:!0,configurable:e.type_!==1||t!=="length",enumerable:r.enumerable,value:n[t]}},defineProperty(){lr(11)},getPrototypeOf(e){return Nu(e.base_)},setPrototypeOf(){lr(12)}},_u={};Af(kg,(e,t)=>{_u[e]=function(){return arguments[0]=arguments[0][0],t.apply(this,arguments)}});_u.deleteProperty=function(e,t){return _u.set.call(this,e,t,void 0)};_u.set=function(e,t,n){return kg.set.call(this,e[0],t,n,e[0])};function pp(e,t){const n=e[Pn];return(n?wi(n):e)[t]}function F6(e,t,n){const r=JN(t,n);return r?"value"in r?r.value:r.get?.call(e.draft_):void 0}function JN(e,t){if(!(t in e))return;let n=Nu(e);for(;n;){const r=Object.getOwnPropertyDescriptor(n,t);if(r)return r;n=Nu(n)}}function Sy(e){e.modified_||(e.modified_=!0,e.parent_&&Sy(e.parent_))}function yp(e){e.copy_||(e.copy_=by(e.base_,e.scope_.immer_.useStrictShallowCopy_))}var W6=class{constructor(e){this.autoFreeze_=!0,this.useStrictShallowCopy_=!1,this.useStrictIteration_=!0,this.produce=(t,n,r)=>{if(typeof t=="function"&&typeof n!="function"){const o=n;n=t;const s=this;return function(d=o,...h){return s.produce(d,m=>n.call(this,m,...h))}}typeof n!="function"&&lr(6),r!==void 0&&typeof r!="function"&&lr(7);let l;if(Pi(t)){const o=tO(this),s=Ey(t,void 0);let f=!0;try{l=n(s),f=!1}finally{f?xy(o):wy(o)}return eO(o,r),nO(l,o)}else if(!t||typeof t!="object"){if(l=n(t),l===void 0&&(l=t),l===FN&&(l=void 0),this.autoFreeze_&&Dg(l,!0),r){const o=[],s=[];Ri("Patches").generateReplacementPatches_(t,l,o,s),r(o,s)}return l}else lr(1,t)},this.produceWithPatches=(t,n)=>{if(typeof t=="function")return(s,...f)=>this.produceWithPatches(s,d=>t(d,...f));let r,l;return[this.produce(t,n,(s,f)=>{r=s,l=f}),r,l]},typeof e?.autoFreeze=="boolean"&&this.setAutoFreeze(e.autoFreeze),typeof e?.useStrictShallowCopy=="boolean"&&this.setUseStrictShallowCopy(e.useStrictShallowCopy),typeof e?.useStrictIteration=="boolean"&&this.setUseStrictIteration(e.useStrictIteration)}createDraft(e){Pi(e)||lr(8),Kl(e)&&(e=Z6(e));const t=tO(this),n=Ey(e,void 0);return n[Pn].isManual_=!0,wy(t),n}finishDraft(e,t){const n=e&&e[Pn];(!n||!n.isManual_)&&lr(9);const{scope_:r}=n;return eO(r,t),nO(void 0,r)}setAutoFreeze(e){this.autoFreeze_=e}setUseStrictShallowCopy(e){this.useStrictShallowCopy_=e}setUseStrictIteration(e){this.useStrictIteration_=e}shouldUseStrictIteration(){return this.useStrictIteration_}applyPatches(e,t){let n;for(n=t.length-1;n>=0;n--){const l=t[n];if(l.path.length===0&&l.op==="replace"){e=l.value;break}}n>-1&&(t=t.slice(n+1));const r=Ri("Patches").applyPatches_;return Kl(e)?r(e,t):this.produce(e,l=>r(l,t))}};function Ey(e,t){const n=Fu(e)?Ri("MapSet").proxyMap_(e,t):Od(e)?Ri("MapSet").proxySet_(e,t):X6(e,t);return(t?t.scope_:QN()).drafts_.push(n),n}function Z6(e){return Kl(e)||lr(10,e),eC(e)}function eC(e){if(!Pi(e)||Ad(e))return e;const t=e[Pn];let n,r=!0;if(t){if(!t.modified_)return t.base_;t.finalized_=!0,n=by(e,t.scope_.immer_.useStrictShallowCopy_),r=t.scope_.immer_.shouldUseStrictIteration()}else n=by(e,!0);return Af(n,(l,o)=>{ZN(n,l,eC(o))},r),t&&(t.finalized_=!1),n}var Q6=new W6;Q6.produce;var J6={settings:{layout:"horizontal",align:"center",verticalAlign:"middle",itemSorter:"value"},size:{width:0,height:0},payload:[]},tC=gn({name:"legend",initialState:J6,reducers:{setLegendSize(e,t){e.size.width=t.payload.width,e.size.height=t.payload.height},setLegendSettings(e,t){e.settings.align=t.payload.align,e.settings.layout=t.payload.layout,e.settings.verticalAlign=t.payload.verticalAlign,e.settings.itemSorter=t.payload.itemSorter},addLegendPayload:{reducer(e,t){e.payload.push(t.payload)},prepare:tt()},replaceLegendPayload:{reducer(e,t){var{prev:n,next:r}=t.payload,l=ur(e).payload.indexOf(n);l>-1&&(e.payload[l]=r)},prepare:tt()},removeLegendPayload:{reducer(e,t){var n=ur(e).payload.indexOf(t.payload);n>-1&&e.payload.splice(n,1)},prepare:tt()}}}),{setLegendSize:PF,setLegendSettings:RF,addLegendPayload:e8,replaceLegendPayload:t8,removeLegendPayload:n8}=tC.actions,r8=tC.reducer;function Oy(){return Oy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Oy.apply(null,arguments)}function aO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function gp(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?aO(Object(n),!0).forEach(function(r){a8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):aO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function a8(e,t,n){return(t=i8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function i8(e){var t=l8(e,"string");return typeof t=="symbol"?t:t+""}function l8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function o8(e){return Array.isArray(e)&&Sr(e[0])&&Sr(e[1])?e.join(" ~ "):e}var u8=e=>{var{separator:t=" : ",contentStyle:n={},itemStyle:r={},labelStyle:l={},payload:o,formatter:s,itemSorter:f,wrapperClassName:d,labelClassName:h,label:m,labelFormatter:p,accessibilityLayer:x=!1}=e,w=()=>{if(o&&o.length){var T={padding:0,margin:0},R=(f?ud(o,f):o).map((k,I)=>{if(k.type==="none")return null;var re=k.formatter||s||o8,{value:ae,name:W}=k,J=ae,pe=W;if(re){var ge=re(ae,W,k,I,o);if(Array.isArray(ge))[J,pe]=ge;else if(ge!=null)J=ge;else return null}var xe=gp({display:"block",paddingTop:4,paddingBottom:4,color:k.color||"#000"},r);return g.createElement("li",{className:"recharts-tooltip-item",key:"tooltip-item-".concat(I),style:xe},Sr(pe)?g.createElement("span",{className:"recharts-tooltip-item-name"},pe):null,Sr(pe)?g.createElement("span",{className:"recharts-tooltip-item-separator"},t):null,g.createElement("span",{className:"recharts-tooltip-item-value"},J),g.createElement("span",{className:"recharts-tooltip-item-unit"},k.unit||""))});return g.createElement("ul",{className:"recharts-tooltip-item-list",style:T},R)}return null},O=gp({margin:0,padding:10,backgroundColor:"#fff",border:"1px solid #ccc",whiteSpace:"nowrap"},n),A=gp({margin:0},l),S=!Zt(m),j=S?m:"",_=Ve("recharts-default-tooltip",d),C=Ve("recharts-tooltip-label",h);S&&p&&o!==void 0&&o!==null&&(j=p(m,o));var D=x?{role:"status","aria-live":"assertive"}:{};return g.createElement("div",Oy({className:_,style:O},D),g.createElement("p",{className:C,style:A},g.isValidElement(j)?j:"".concat(j)),w())},fu="recharts-tooltip-wrapper",s8={visibility:"hidden"};function c8(e){var{coordinate:t,translateX:n,translateY:r}=e;return Ve(fu,{["".concat(fu,"-right")]:de(n)&&t&&de(t.x)&&n>=t.x,["".concat(fu,"-left")]:de(n)&&t&&de(t.x)&&n<t.x,["".concat(fu,"-bottom")]:de(r)&&t&&de(t.y)&&r>=t.y,["".concat(fu,"-top")]:de(r)&&t&&de(t.y)&&r<t.y})}function iO(e){var{allowEscapeViewBox:t,coordinate:n,key:r,offsetTopLeft:l,position:o,reverseDirection:s,tooltipDimension:f,viewBox:d,viewBoxDimension:h}=e;if(o&&de(o[r]))return o[r];var m=n[r]-f-(l>0?l:0),p=n[r]+l;if(t[r])return s[r]?m:p;var x=d[r];if(x==null)return 0;if(s[r]){var w=m,O=x;return w<O?Math.max(p,x):Math.max(m,x)}if(h==null)return 0;var A=p+f,S=x+h;return A>S?Math.max(m,x):Math.max(p,x)}function f8(e){var{translateX:t,translateY:n,useTranslate3d:r}=e;return{transform:r?"translate3d(".concat(t,"px, ").concat(n,"px, 0)"):"translate(".concat(t,"px, ").concat(n,"px)")}}function d8(e){var{allowEscapeViewBox:t,coordinate:n,offsetTopLeft:r,position:l,reverseDirection:o,tooltipBox:s,useTranslate3d:f,viewBox:d}=e,h,m,p;return s.height>0&&s.width>0&&n?(m=iO({allowEscapeViewBox:t,coordinate:n,key:"x",offsetTopLeft:r,position:l,reverseDirection:o,tooltipDimension:s.width,viewBox:d,viewBoxDimension:d.width}),p=iO({allowEscapeViewBox:t,coordinate:n,key:"y",offsetTopLeft:r,position:l,reverseDirection:o,tooltipDimension:s.height,viewBox:d,viewBoxDimension:d.height}),h=f8({translateX:m,translateY:p,useTranslate3d:f})):h=s8,{cssProperties:h,cssClasses:c8({translateX:m,translateY:p,coordinate:n})}}function lO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Bc(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?lO(Object(n),!0).forEach(function(r){Ay(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):lO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Ay(e,t,n){return(t=h8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function h8(e){var t=m8(e,"string");return typeof t=="symbol"?t:t+""}function m8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}class v8 extends g.PureComponent{constructor(){super(...arguments),Ay(this,"state",{dismissed:!1,dismissedAtCoordinate:{x:0,y:0}}),Ay(this,"handleKeyDown",t=>{if(t.key==="Escape"){var n,r,l,o;this.setState({dismissed:!0,dismissedAtCoordinate:{x:(n=(r=this.props.coordinate)===null||r===void 0?void 0:r.x)!==null&&n!==void 0?n:0,y:(l=(o=this.props.coordinate)===null||o===void 0?void 0:o.y)!==null&&l!==void 0?l:0}})}})}componentDidMount(){document.addEventListener("keydown",this.handleKeyDown)}componentWillUnmount(){document.removeEventListener("keydown",this.handleKeyDown)}componentDidUpdate(){var t,n;this.state.dismissed&&(((t=this.props.coordinate)===null||t===void 0?void 0:t.x)!==this.state.dismissedAtCoordinate.x||((n=this.props.coordinate)===null||n===void 0?void 0:n.y)!==this.state.dismissedAtCoordinate.y)&&(this.state.dismissed=!1)}render(){var{active:t,allowEscapeViewBox:n,animationDuration:r,animationEasing:l,children:o,coordinate:s,hasPayload:f,isAnimationActive:d,offset:h,position:m,reverseDirection:p,useTranslate3d:x,viewBox:w,wrapperStyle:O,lastBoundingBox:A,innerRef:S,hasPortalFromProps:j}=this.props,{cssClasses:_,cssProperties:C}=d8({allowEscapeViewBox:n,coordinate:s,offsetTopLeft:h,position:m,reverseDirection:p,tooltipBox:{height:A.height,width:A.width},useTranslate3d:x,viewBox:w}),D=j?{}:Bc(Bc({transition:d&&t?"transform ".concat(r,"ms ").concat(l):void 0},C),{},{pointerEvents:"none",visibility:!this.state.dismissed&&t&&f?"visible":"hidden",position:"absolute",top:0,left:0}),T=Bc(Bc({},D),{},{visibility:!this.state.dismissed&&t&&f?"visible":"hidden"},O);return g.createElement("div",{xmlns:"http://www.w3.org/1999/xhtml",tabIndex:-1,className:_,style:T,ref:S},o)}}var nC=()=>{var e;return(e=ve(t=>t.rootProps.accessibilityLayer))!==null&&e!==void 0?e:!0};function jy(){return jy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},jy.apply(null,arguments)}function oO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function uO(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?oO(Object(n),!0).forEach(function(r){p8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):oO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function p8(e,t,n){return(t=y8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function y8(e){var t=g8(e,"string");return typeof t=="symbol"?t:t+""}function g8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var sO={curveBasisClosed:N4,curveBasisOpen:C4,curveBasis:j4,curveBumpX:O4,curveBumpY:A4,curveLinearClosed:_4,curveLinear:id,curveMonotoneX:T4,curveMonotoneY:M4,curveNatural:D4,curveStep:k4,curveStepAfter:R4,curveStepBefore:P4},Cf=e=>st(e.x)&&st(e.y),cO=e=>e.base!=null&&Cf(e.base)&&Cf(e),du=e=>e.x,hu=e=>e.y,b8=(e,t)=>{if(typeof e=="function")return e;var n="curve".concat(bg(e));return(n==="curveMonotone"||n==="curveBump")&&t?sO["".concat(n).concat(t==="vertical"?"Y":"X")]:sO[n]||id},x8=e=>{var{type:t="linear",points:n=[],baseLine:r,layout:l,connectNulls:o=!1}=e,s=b8(t,l),f=o?n.filter(Cf):n,d;if(Array.isArray(r)){var h=n.map((w,O)=>uO(uO({},w),{},{base:r[O]}));l==="vertical"?d=Tc().y(hu).x1(du).x0(w=>w.base.x):d=Tc().x(du).y1(hu).y0(w=>w.base.y);var m=d.defined(cO).curve(s),p=o?h.filter(cO):h;return m(p)}l==="vertical"&&de(r)?d=Tc().y(hu).x1(du).x0(r):de(r)?d=Tc().x(du).y1(hu).y0(r):d=Pj().x(du).y(hu);var x=d.defined(Cf).curve(s);return x(f)},nf=e=>{var{className:t,points:n,path:r,pathRef:l}=e;if((!n||!n.length)&&!r)return null;var o=n&&n.length?x8(e):r;return g.createElement("path",jy({},sr(e),xg(e),{className:Ve("recharts-curve",t),d:o===null?void 0:o,ref:l}))},w8=["x","y","top","left","width","height","className"];function Ny(){return Ny=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Ny.apply(null,arguments)}function fO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function S8(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?fO(Object(n),!0).forEach(function(r){E8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):fO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function E8(e,t,n){return(t=O8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function O8(e){var t=A8(e,"string");return typeof t=="symbol"?t:t+""}function A8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function j8(e,t){if(e==null)return{};var n,r,l=N8(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function N8(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var C8=(e,t,n,r,l,o)=>"M".concat(e,",").concat(l,"v").concat(r,"M").concat(o,",").concat(t,"h").concat(n),_8=e=>{var{x:t=0,y:n=0,top:r=0,left:l=0,width:o=0,height:s=0,className:f}=e,d=j8(e,w8),h=S8({x:t,y:n,top:r,left:l,width:o,height:s},d);return!de(t)||!de(n)||!de(o)||!de(s)||!de(r)||!de(l)?null:g.createElement("path",Ny({},Zn(h),{className:Ve("recharts-cross",f),d:C8(t,n,o,s,r,l)}))};function T8(e,t,n,r){var l=r/2;return{stroke:"none",fill:"#ccc",x:e==="horizontal"?t.x-l:n.left+.5,y:e==="horizontal"?n.top+.5:t.y-l,width:e==="horizontal"?r:n.width-1,height:e==="horizontal"?n.height-1:r}}function dO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function hO(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?dO(Object(n),!0).forEach(function(r){M8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):dO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function M8(e,t,n){return(t=D8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function D8(e){var t=k8(e,"string");return typeof t=="symbol"?t:t+""}function k8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var P8=e=>e.replace(/([A-Z])/g,t=>"-".concat(t.toLowerCase())),R8=(e,t,n)=>e.map(r=>"".concat(P8(r)," ").concat(t,"ms ").concat(n)).join(","),z8=(e,t)=>[Object.keys(e),Object.keys(t)].reduce((n,r)=>n.filter(l=>r.includes(l))),Tu=(e,t)=>Object.keys(t).reduce((n,r)=>hO(hO({},n),{},{[r]:e(r,t[r])}),{});function mO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function jt(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?mO(Object(n),!0).forEach(function(r){L8(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):mO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function L8(e,t,n){return(t=B8(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function B8(e){var t=U8(e,"string");return typeof t=="symbol"?t:t+""}function U8(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var _f=(e,t,n)=>e+(t-e)*n,Cy=e=>{var{from:t,to:n}=e;return t!==n},rC=(e,t,n)=>{var r=Tu((l,o)=>{if(Cy(o)){var[s,f]=e(o.from,o.to,o.velocity);return jt(jt({},o),{},{from:s,velocity:f})}return o},t);return n<1?Tu((l,o)=>Cy(o)?jt(jt({},o),{},{velocity:_f(o.velocity,r[l].velocity,n),from:_f(o.from,r[l].from,n)}):o,t):rC(e,r,n-1)};function I8(e,t,n,r,l,o){var s,f=r.reduce((x,w)=>jt(jt({},x),{},{[w]:{from:e[w],velocity:0,to:t[w]}}),{}),d=()=>Tu((x,w)=>w.from,f),h=()=>!Object.values(f).filter(Cy).length,m=null,p=x=>{s||(s=x);var w=x-s,O=w/n.dt;f=rC(n,f,O),l(jt(jt(jt({},e),t),d())),s=x,h()||(m=o.setTimeout(p))};return()=>(m=o.setTimeout(p),()=>{var x;(x=m)===null||x===void 0||x()})}function q8(e,t,n,r,l,o,s){var f=null,d=l.reduce((p,x)=>jt(jt({},p),{},{[x]:[e[x],t[x]]}),{}),h,m=p=>{h||(h=p);var x=(p-h)/r,w=Tu((A,S)=>_f(...S,n(x)),d);if(o(jt(jt(jt({},e),t),w)),x<1)f=s.setTimeout(m);else{var O=Tu((A,S)=>_f(...S,n(1)),d);o(jt(jt(jt({},e),t),O))}};return()=>(f=s.setTimeout(m),()=>{var p;(p=f)===null||p===void 0||p()})}const H8=(e,t,n,r,l,o)=>{var s=z8(e,t);return n==null?()=>(l(jt(jt({},e),t)),()=>{}):n.isStepper===!0?I8(e,t,n,s,l,o):q8(e,t,n,r,s,l,o)};var Tf=1e-4,aC=(e,t)=>[0,3*e,3*t-6*e,3*e-3*t+1],iC=(e,t)=>e.map((n,r)=>n*t**r).reduce((n,r)=>n+r),vO=(e,t)=>n=>{var r=aC(e,t);return iC(r,n)},$8=(e,t)=>n=>{var r=aC(e,t),l=[...r.map((o,s)=>o*s).slice(1),0];return iC(l,n)},Y8=function(){for(var t=arguments.length,n=new Array(t),r=0;r<t;r++)n[r]=arguments[r];if(n.length===1)switch(n[0]){case"linear":return[0,0,1,1];case"ease":return[.25,.1,.25,1];case"ease-in":return[.42,0,1,1];case"ease-out":return[.42,0,.58,1];case"ease-in-out":return[0,0,.58,1];default:{var l,o=n[0].split("(");if(o[0]==="cubic-bezier"&&((l=o[1])===null||l===void 0?void 0:l.split(")")[0].split(",").length)===4){var s=o[1].split(")")[0].split(",").map(f=>parseFloat(f));return[s[0],s[1],s[2],s[3]]}}}return n.length===4?n:[0,0,1,1]},K8=(e,t,n,r)=>{var l=vO(e,n),o=vO(t,r),s=$8(e,n),f=h=>h>1?1:h<0?0:h,d=h=>{for(var m=h>1?1:h,p=m,x=0;x<8;++x){var w=l(p)-m,O=s(p);if(Math.abs(w-m)<Tf||O<Tf)return o(p);p=f(p-w/O)}return o(p)};return d.isStepper=!1,d},pO=function(){return K8(...Y8(...arguments))},G8=function(){var t=arguments.length>0&&arguments[0]!==void 0?arguments[0]:{},{stiff:n=100,damping:r=8,dt:l=17}=t,o=(s,f,d)=>{var h=-(s-f)*n,m=d*r,p=d+(h-m)*l/1e3,x=d*l/1e3+s;return Math.abs(x-f)<Tf&&Math.abs(p)<Tf?[f,0]:[x,p]};return o.isStepper=!0,o.dt=l,o},V8=e=>{if(typeof e=="string")switch(e){case"ease":case"ease-in-out":case"ease-out":case"ease-in":case"linear":return pO(e);case"spring":return G8();default:if(e.split("(")[0]==="cubic-bezier")return pO(e)}return typeof e=="function"?e:null};function X8(e){var t,n=()=>null,r=!1,l=null,o=s=>{if(!r){if(Array.isArray(s)){if(!s.length)return;var f=s,[d,...h]=f;if(typeof d=="number"){l=e.setTimeout(o.bind(null,h),d);return}o(d),l=e.setTimeout(o.bind(null,h));return}typeof s=="string"&&(t=s,n(t)),typeof s=="object"&&(t=s,n(t)),typeof s=="function"&&s()}};return{stop:()=>{r=!0},start:s=>{r=!1,l&&(l(),l=null),o(s)},subscribe:s=>(n=s,()=>{n=()=>null}),getTimeoutController:()=>e}}class F8{setTimeout(t){var n=arguments.length>1&&arguments[1]!==void 0?arguments[1]:0,r=performance.now(),l=null,o=s=>{s-r>=n?t(s):typeof requestAnimationFrame=="function"&&(l=requestAnimationFrame(o))};return l=requestAnimationFrame(o),()=>{l!=null&&cancelAnimationFrame(l)}}}function W8(){return X8(new F8)}var Z8=g.createContext(W8);function Q8(e,t){var n=g.useContext(Z8);return g.useMemo(()=>t??n(e),[e,t,n])}var J8=()=>!(typeof window<"u"&&window.document&&window.document.createElement&&window.setTimeout),ro={devToolsEnabled:!1,isSsr:J8()},eB={begin:0,duration:1e3,easing:"ease",isActive:!0,canBegin:!0,onAnimationEnd:()=>{},onAnimationStart:()=>{}},yO={t:0},bp={t:1};function lC(e){var t=Rn(e,eB),{isActive:n,canBegin:r,duration:l,easing:o,begin:s,onAnimationEnd:f,onAnimationStart:d,children:h}=t,m=n==="auto"?!ro.isSsr:n,p=Q8(t.animationId,t.animationManager),[x,w]=g.useState(m?yO:bp),O=g.useRef(null);return g.useEffect(()=>{m||w(bp)},[m]),g.useEffect(()=>{if(!m||!r)return $u;var A=H8(yO,bp,V8(o),l,w,p.getTimeoutController()),S=()=>{O.current=A()};return p.start([d,s,S,l,f]),()=>{p.stop(),O.current&&O.current(),f()}},[m,r,l,o,s,d,f,p]),h(x.t)}function oC(e){var t=arguments.length>1&&arguments[1]!==void 0?arguments[1]:"animation-",n=g.useRef(Eu(t)),r=g.useRef(e);return r.current!==e&&(n.current=Eu(t),r.current=e),n.current}var tB=["radius"],nB=["radius"];function gO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function bO(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?gO(Object(n),!0).forEach(function(r){rB(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):gO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function rB(e,t,n){return(t=aB(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function aB(e){var t=iB(e,"string");return typeof t=="symbol"?t:t+""}function iB(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Mf(){return Mf=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Mf.apply(null,arguments)}function xO(e,t){if(e==null)return{};var n,r,l=lB(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function lB(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var wO=(e,t,n,r,l)=>{var o=Math.min(Math.abs(n)/2,Math.abs(r)/2),s=r>=0?1:-1,f=n>=0?1:-1,d=r>=0&&n>=0||r<0&&n<0?1:0,h;if(o>0&&l instanceof Array){for(var m=[0,0,0,0],p=0,x=4;p<x;p++)m[p]=l[p]>o?o:l[p];h="M".concat(e,",").concat(t+s*m[0]),m[0]>0&&(h+="A ".concat(m[0],",").concat(m[0],",0,0,").concat(d,",").concat(e+f*m[0],",").concat(t)),h+="L ".concat(e+n-f*m[1],",").concat(t),m[1]>0&&(h+="A ".concat(m[1],",").concat(m[1],",0,0,").concat(d,`,
-        `).concat(e+n,",").concat(t+s*m[1])),h+="L ".concat(e+n,",").concat(t+r-s*m[2]),m[2]>0&&(h+="A ".concat(m[2],",").concat(m[2],",0,0,").concat(d,`,
-        `).concat(e+n-f*m[2],",").concat(t+r)),h+="L ".concat(e+f*m[3],",").concat(t+r),m[3]>0&&(h+="A ".concat(m[3],",").concat(m[3],",0,0,").concat(d,`,
-        `).concat(e,",").concat(t+r-s*m[3])),h+="Z"}else if(o>0&&l===+l&&l>0){var w=Math.min(o,l);h="M ".concat(e,",").concat(t+s*w,`
-            A `).concat(w,",").concat(w,",0,0,").concat(d,",").concat(e+f*w,",").concat(t,`
-            L `).concat(e+n-f*w,",").concat(t,`
-            A `).concat(w,",").concat(w,",0,0,").concat(d,",").concat(e+n,",").concat(t+s*w,`
-            L `).concat(e+n,",").concat(t+r-s*w,`
-            A `).concat(w,",").concat(w,",0,0,").concat(d,",").concat(e+n-f*w,",").concat(t+r,`
-            L `).concat(e+f*w,",").concat(t+r,`
-            A `).concat(w,",").concat(w,",0,0,").concat(d,",").concat(e,",").concat(t+r-s*w," Z")}else h="M ".concat(e,",").concat(t," h ").concat(n," v ").concat(r," h ").concat(-n," Z");return h},SO={x:0,y:0,width:0,height:0,radius:0,isAnimationActive:!1,isUpdateAnimationActive:!1,animationBegin:0,animationDuration:1500,animationEasing:"ease"},oB=e=>{var t=Rn(e,SO),n=g.useRef(null),[r,l]=g.useState(-1);g.useEffect(()=>{if(n.current&&n.current.getTotalLength)try{var Q=n.current.getTotalLength();Q&&l(Q)}catch{}},[]);var{x:o,y:s,width:f,height:d,radius:h,className:m}=t,{animationEasing:p,animationDuration:x,animationBegin:w,isAnimationActive:O,isUpdateAnimationActive:A}=t,S=g.useRef(f),j=g.useRef(d),_=g.useRef(o),C=g.useRef(s),D=g.useMemo(()=>({x:o,y:s,width:f,height:d,radius:h}),[o,s,f,d,h]),T=oC(D,"rectangle-");if(o!==+o||s!==+s||f!==+f||d!==+d||f===0||d===0)return null;var R=Ve("recharts-rectangle",m);if(!A){var k=Zn(t),{radius:I}=k,re=xO(k,tB);return g.createElement("path",Mf({},re,{radius:typeof h=="number"?h:void 0,className:R,d:wO(o,s,f,d,h)}))}var ae=S.current,W=j.current,J=_.current,pe=C.current,ge="0px ".concat(r===-1?1:r,"px"),xe="".concat(r,"px 0px"),q=R8(["strokeDasharray"],x,typeof p=="string"?p:SO.animationEasing);return g.createElement(lC,{animationId:T,key:T,canBegin:r>0,duration:x,easing:p,isActive:A,begin:w},Q=>{var X=yr(ae,f,Q),le=yr(W,d,Q),Oe=yr(J,o,Q),P=yr(pe,s,Q);n.current&&(S.current=X,j.current=le,_.current=Oe,C.current=P);var K;O?Q>0?K={transition:q,strokeDasharray:xe}:K={strokeDasharray:ge}:K={strokeDasharray:xe};var ee=Zn(t),{radius:ne}=ee,he=xO(ee,nB);return g.createElement("path",Mf({},he,{radius:typeof h=="number"?h:void 0,className:R,d:wO(Oe,P,X,le,h),ref:n,style:bO(bO({},K),t.style)}))})};function EO(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function OO(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?EO(Object(n),!0).forEach(function(r){uB(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):EO(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function uB(e,t,n){return(t=sB(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function sB(e){var t=cB(e,"string");return typeof t=="symbol"?t:t+""}function cB(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Df=Math.PI/180,fB=e=>e*180/Math.PI,Wt=(e,t,n,r)=>({x:e+Math.cos(-Df*r)*n,y:t+Math.sin(-Df*r)*n}),dB=function(t,n){var r=arguments.length>2&&arguments[2]!==void 0?arguments[2]:{top:0,right:0,bottom:0,left:0};return Math.min(Math.abs(t-(r.left||0)-(r.right||0)),Math.abs(n-(r.top||0)-(r.bottom||0)))/2},hB=(e,t)=>{var{x:n,y:r}=e,{x:l,y:o}=t;return Math.sqrt((n-l)**2+(r-o)**2)},mB=(e,t)=>{var{x:n,y:r}=e,{cx:l,cy:o}=t,s=hB({x:n,y:r},{x:l,y:o});if(s<=0)return{radius:s,angle:0};var f=(n-l)/s,d=Math.acos(f);return r>o&&(d=2*Math.PI-d),{radius:s,angle:fB(d),angleInRadian:d}},vB=e=>{var{startAngle:t,endAngle:n}=e,r=Math.floor(t/360),l=Math.floor(n/360),o=Math.min(r,l);return{startAngle:t-o*360,endAngle:n-o*360}},pB=(e,t)=>{var{startAngle:n,endAngle:r}=t,l=Math.floor(n/360),o=Math.floor(r/360),s=Math.min(l,o);return e+s*360},yB=(e,t)=>{var{chartX:n,chartY:r}=e,{radius:l,angle:o}=mB({x:n,y:r},t),{innerRadius:s,outerRadius:f}=t;if(l<s||l>f||l===0)return null;var{startAngle:d,endAngle:h}=vB(t),m=o,p;if(d<=h){for(;m>h;)m-=360;for(;m<d;)m+=360;p=m>=d&&m<=h}else{for(;m>d;)m-=360;for(;m<h;)m+=360;p=m>=h&&m<=d}return p?OO(OO({},t),{},{radius:l,angle:pB(m,t)}):null};function uC(e){var{cx:t,cy:n,radius:r,startAngle:l,endAngle:o}=e,s=Wt(t,n,r,l),f=Wt(t,n,r,o);return{points:[s,f],cx:t,cy:n,radius:r,startAngle:l,endAngle:o}}function _y(){return _y=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},_y.apply(null,arguments)}var gB=(e,t)=>{var n=Xn(t-e),r=Math.min(Math.abs(t-e),359.999);return n*r},Uc=e=>{var{cx:t,cy:n,radius:r,angle:l,sign:o,isExternal:s,cornerRadius:f,cornerIsExternal:d}=e,h=f*(s?1:-1)+r,m=Math.asin(f/h)/Df,p=d?l:l+o*m,x=Wt(t,n,h,p),w=Wt(t,n,r,p),O=d?l-o*m:l,A=Wt(t,n,h*Math.cos(m*Df),O);return{center:x,circleTangency:w,lineTangency:A,theta:m}},sC=e=>{var{cx:t,cy:n,innerRadius:r,outerRadius:l,startAngle:o,endAngle:s}=e,f=gB(o,s),d=o+f,h=Wt(t,n,l,o),m=Wt(t,n,l,d),p="M ".concat(h.x,",").concat(h.y,`
-    A `).concat(l,",").concat(l,`,0,
-    `).concat(+(Math.abs(f)>180),",").concat(+(o>d),`,
-    `).concat(m.x,",").concat(m.y,`
-  `);if(r>0){var x=Wt(t,n,r,o),w=Wt(t,n,r,d);p+="L ".concat(w.x,",").concat(w.y,`
-            A `).concat(r,",").concat(r,`,0,
-            `).concat(+(Math.abs(f)>180),",").concat(+(o<=d),`,
-            `).concat(x.x,",").concat(x.y," Z")}else p+="L ".concat(t,",").concat(n," Z");return p},bB=e=>{var{cx:t,cy:n,innerRadius:r,outerRadius:l,cornerRadius:o,forceCornerRadius:s,cornerIsExternal:f,startAngle:d,endAngle:h}=e,m=Xn(h-d),{circleTangency:p,lineTangency:x,theta:w}=Uc({cx:t,cy:n,radius:l,angle:d,sign:m,cornerRadius:o,cornerIsExternal:f}),{circleTangency:O,lineTangency:A,theta:S}=Uc({cx:t,cy:n,radius:l,angle:h,sign:-m,cornerRadius:o,cornerIsExternal:f}),j=f?Math.abs(d-h):Math.abs(d-h)-w-S;if(j<0)return s?"M ".concat(x.x,",").concat(x.y,`
-        a`).concat(o,",").concat(o,",0,0,1,").concat(o*2,`,0
-        a`).concat(o,",").concat(o,",0,0,1,").concat(-o*2,`,0
-      `):sC({cx:t,cy:n,innerRadius:r,outerRadius:l,startAngle:d,endAngle:h});var _="M ".concat(x.x,",").concat(x.y,`
-    A`).concat(o,",").concat(o,",0,0,").concat(+(m<0),",").concat(p.x,",").concat(p.y,`
-    A`).concat(l,",").concat(l,",0,").concat(+(j>180),",").concat(+(m<0),",").concat(O.x,",").concat(O.y,`
-    A`).concat(o,",").concat(o,",0,0,").concat(+(m<0),",").concat(A.x,",").concat(A.y,`
-  `);if(r>0){var{circleTangency:C,lineTangency:D,theta:T}=Uc({cx:t,cy:n,radius:r,angle:d,sign:m,isExternal:!0,cornerRadius:o,cornerIsExternal:f}),{circleTangency:R,lineTangency:k,theta:I}=Uc({cx:t,cy:n,radius:r,angle:h,sign:-m,isExternal:!0,cornerRadius:o,cornerIsExternal:f}),re=f?Math.abs(d-h):Math.abs(d-h)-T-I;if(re<0&&o===0)return"".concat(_,"L").concat(t,",").concat(n,"Z");_+="L".concat(k.x,",").concat(k.y,`
-      A`).concat(o,",").concat(o,",0,0,").concat(+(m<0),",").concat(R.x,",").concat(R.y,`
-      A`).concat(r,",").concat(r,",0,").concat(+(re>180),",").concat(+(m>0),",").concat(C.x,",").concat(C.y,`
-      A`).concat(o,",").concat(o,",0,0,").concat(+(m<0),",").concat(D.x,",").concat(D.y,"Z")}else _+="L".concat(t,",").concat(n,"Z");return _},xB={cx:0,cy:0,innerRadius:0,outerRadius:0,startAngle:0,endAngle:0,cornerRadius:0,forceCornerRadius:!1,cornerIsExternal:!1},wB=e=>{var t=Rn(e,xB),{cx:n,cy:r,innerRadius:l,outerRadius:o,cornerRadius:s,forceCornerRadius:f,cornerIsExternal:d,startAngle:h,endAngle:m,className:p}=t;if(o<l||h===m)return null;var x=Ve("recharts-sector",p),w=o-l,O=Wa(s,w,0,!0),A;return O>0&&Math.abs(h-m)<360?A=bB({cx:n,cy:r,innerRadius:l,outerRadius:o,cornerRadius:Math.min(O,w/2),forceCornerRadius:f,cornerIsExternal:d,startAngle:h,endAngle:m}):A=sC({cx:n,cy:r,innerRadius:l,outerRadius:o,startAngle:h,endAngle:m}),g.createElement("path",_y({},Zn(t),{className:x,d:A}))};function SB(e,t,n){if(e==="horizontal")return[{x:t.x,y:n.top},{x:t.x,y:n.top+n.height}];if(e==="vertical")return[{x:n.left,y:t.y},{x:n.left+n.width,y:t.y}];if(Gj(t)){if(e==="centric"){var{cx:r,cy:l,innerRadius:o,outerRadius:s,angle:f}=t,d=Wt(r,l,o,f),h=Wt(r,l,s,f);return[{x:d.x,y:d.y},{x:h.x,y:h.y}]}return uC(t)}}var xp={},wp={},Sp={},AO;function EB(){return AO||(AO=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=rN();function n(r){return t.isSymbol(r)?NaN:Number(r)}e.toNumber=n})(Sp)),Sp}var jO;function OB(){return jO||(jO=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=EB();function n(r){return r?(r=t.toNumber(r),r===1/0||r===-1/0?(r<0?-1:1)*Number.MAX_VALUE:r===r?r:0):r===0?r:0}e.toFinite=n})(wp)),wp}var NO;function AB(){return NO||(NO=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=aN(),n=OB();function r(l,o,s){s&&typeof s!="number"&&t.isIterateeCall(l,o,s)&&(o=s=void 0),l=n.toFinite(l),o===void 0?(o=l,l=0):o=n.toFinite(o),s=s===void 0?l<o?1:-1:n.toFinite(s);const f=Math.max(Math.ceil((o-l)/(s||1)),0),d=new Array(f);for(let h=0;h<f;h++)d[h]=l,l+=s;return d}e.range=r})(xp)),xp}var Ep,CO;function jB(){return CO||(CO=1,Ep=AB().range),Ep}var NB=jB();const cC=oa(NB);function Xa(e,t){return e==null||t==null?NaN:e<t?-1:e>t?1:e>=t?0:NaN}function CB(e,t){return e==null||t==null?NaN:t<e?-1:t>e?1:t>=e?0:NaN}function Pg(e){let t,n,r;e.length!==2?(t=Xa,n=(f,d)=>Xa(e(f),d),r=(f,d)=>e(f)-d):(t=e===Xa||e===CB?e:_B,n=e,r=e);function l(f,d,h=0,m=f.length){if(h<m){if(t(d,d)!==0)return m;do{const p=h+m>>>1;n(f[p],d)<0?h=p+1:m=p}while(h<m)}return h}function o(f,d,h=0,m=f.length){if(h<m){if(t(d,d)!==0)return m;do{const p=h+m>>>1;n(f[p],d)<=0?h=p+1:m=p}while(h<m)}return h}function s(f,d,h=0,m=f.length){const p=l(f,d,h,m-1);return p>h&&r(f[p-1],d)>-r(f[p],d)?p-1:p}return{left:l,center:s,right:o}}function _B(){return 0}function fC(e){return e===null?NaN:+e}function*TB(e,t){for(let n of e)n!=null&&(n=+n)>=n&&(yield n)}const MB=Pg(Xa),Wu=MB.right;Pg(fC).center;class _O extends Map{constructor(t,n=PB){if(super(),Object.defineProperties(this,{_intern:{value:new Map},_key:{value:n}}),t!=null)for(const[r,l]of t)this.set(r,l)}get(t){return super.get(TO(this,t))}has(t){return super.has(TO(this,t))}set(t,n){return super.set(DB(this,t),n)}delete(t){return super.delete(kB(this,t))}}function TO({_intern:e,_key:t},n){const r=t(n);return e.has(r)?e.get(r):n}function DB({_intern:e,_key:t},n){const r=t(n);return e.has(r)?e.get(r):(e.set(r,n),n)}function kB({_intern:e,_key:t},n){const r=t(n);return e.has(r)&&(n=e.get(r),e.delete(r)),n}function PB(e){return e!==null&&typeof e=="object"?e.valueOf():e}function RB(e=Xa){if(e===Xa)return dC;if(typeof e!="function")throw new TypeError("compare is not a function");return(t,n)=>{const r=e(t,n);return r||r===0?r:(e(n,n)===0)-(e(t,t)===0)}}function dC(e,t){return(e==null||!(e>=e))-(t==null||!(t>=t))||(e<t?-1:e>t?1:0)}const zB=Math.sqrt(50),LB=Math.sqrt(10),BB=Math.sqrt(2);function kf(e,t,n){const r=(t-e)/Math.max(0,n),l=Math.floor(Math.log10(r)),o=r/Math.pow(10,l),s=o>=zB?10:o>=LB?5:o>=BB?2:1;let f,d,h;return l<0?(h=Math.pow(10,-l)/s,f=Math.round(e*h),d=Math.round(t*h),f/h<e&&++f,d/h>t&&--d,h=-h):(h=Math.pow(10,l)*s,f=Math.round(e/h),d=Math.round(t/h),f*h<e&&++f,d*h>t&&--d),d<f&&.5<=n&&n<2?kf(e,t,n*2):[f,d,h]}function Ty(e,t,n){if(t=+t,e=+e,n=+n,!(n>0))return[];if(e===t)return[e];const r=t<e,[l,o,s]=r?kf(t,e,n):kf(e,t,n);if(!(o>=l))return[];const f=o-l+1,d=new Array(f);if(r)if(s<0)for(let h=0;h<f;++h)d[h]=(o-h)/-s;else for(let h=0;h<f;++h)d[h]=(o-h)*s;else if(s<0)for(let h=0;h<f;++h)d[h]=(l+h)/-s;else for(let h=0;h<f;++h)d[h]=(l+h)*s;return d}function My(e,t,n){return t=+t,e=+e,n=+n,kf(e,t,n)[2]}function Dy(e,t,n){t=+t,e=+e,n=+n;const r=t<e,l=r?My(t,e,n):My(e,t,n);return(r?-1:1)*(l<0?1/-l:l)}function MO(e,t){let n;for(const r of e)r!=null&&(n<r||n===void 0&&r>=r)&&(n=r);return n}function DO(e,t){let n;for(const r of e)r!=null&&(n>r||n===void 0&&r>=r)&&(n=r);return n}function hC(e,t,n=0,r=1/0,l){if(t=Math.floor(t),n=Math.floor(Math.max(0,n)),r=Math.floor(Math.min(e.length-1,r)),!(n<=t&&t<=r))return e;for(l=l===void 0?dC:RB(l);r>n;){if(r-n>600){const d=r-n+1,h=t-n+1,m=Math.log(d),p=.5*Math.exp(2*m/3),x=.5*Math.sqrt(m*p*(d-p)/d)*(h-d/2<0?-1:1),w=Math.max(n,Math.floor(t-h*p/d+x)),O=Math.min(r,Math.floor(t+(d-h)*p/d+x));hC(e,t,w,O,l)}const o=e[t];let s=n,f=r;for(mu(e,n,t),l(e[r],o)>0&&mu(e,n,r);s<f;){for(mu(e,s,f),++s,--f;l(e[s],o)<0;)++s;for(;l(e[f],o)>0;)--f}l(e[n],o)===0?mu(e,n,f):(++f,mu(e,f,r)),f<=t&&(n=f+1),t<=f&&(r=f-1)}return e}function mu(e,t,n){const r=e[t];e[t]=e[n],e[n]=r}function UB(e,t,n){if(e=Float64Array.from(TB(e)),!(!(r=e.length)||isNaN(t=+t))){if(t<=0||r<2)return DO(e);if(t>=1)return MO(e);var r,l=(r-1)*t,o=Math.floor(l),s=MO(hC(e,o).subarray(0,o+1)),f=DO(e.subarray(o+1));return s+(f-s)*(l-o)}}function IB(e,t,n=fC){if(!(!(r=e.length)||isNaN(t=+t))){if(t<=0||r<2)return+n(e[0],0,e);if(t>=1)return+n(e[r-1],r-1,e);var r,l=(r-1)*t,o=Math.floor(l),s=+n(e[o],o,e),f=+n(e[o+1],o+1,e);return s+(f-s)*(l-o)}}function qB(e,t,n){e=+e,t=+t,n=(l=arguments.length)<2?(t=e,e=0,1):l<3?1:+n;for(var r=-1,l=Math.max(0,Math.ceil((t-e)/n))|0,o=new Array(l);++r<l;)o[r]=e+r*n;return o}function tr(e,t){switch(arguments.length){case 0:break;case 1:this.range(e);break;default:this.range(t).domain(e);break}return this}function da(e,t){switch(arguments.length){case 0:break;case 1:{typeof e=="function"?this.interpolator(e):this.range(e);break}default:{this.domain(e),typeof t=="function"?this.interpolator(t):this.range(t);break}}return this}const ky=Symbol("implicit");function Rg(){var e=new _O,t=[],n=[],r=ky;function l(o){let s=e.get(o);if(s===void 0){if(r!==ky)return r;e.set(o,s=t.push(o)-1)}return n[s%n.length]}return l.domain=function(o){if(!arguments.length)return t.slice();t=[],e=new _O;for(const s of o)e.has(s)||e.set(s,t.push(s)-1);return l},l.range=function(o){return arguments.length?(n=Array.from(o),l):n.slice()},l.unknown=function(o){return arguments.length?(r=o,l):r},l.copy=function(){return Rg(t,n).unknown(r)},tr.apply(l,arguments),l}function zg(){var e=Rg().unknown(void 0),t=e.domain,n=e.range,r=0,l=1,o,s,f=!1,d=0,h=0,m=.5;delete e.unknown;function p(){var x=t().length,w=l<r,O=w?l:r,A=w?r:l;o=(A-O)/Math.max(1,x-d+h*2),f&&(o=Math.floor(o)),O+=(A-O-o*(x-d))*m,s=o*(1-d),f&&(O=Math.round(O),s=Math.round(s));var S=qB(x).map(function(j){return O+o*j});return n(w?S.reverse():S)}return e.domain=function(x){return arguments.length?(t(x),p()):t()},e.range=function(x){return arguments.length?([r,l]=x,r=+r,l=+l,p()):[r,l]},e.rangeRound=function(x){return[r,l]=x,r=+r,l=+l,f=!0,p()},e.bandwidth=function(){return s},e.step=function(){return o},e.round=function(x){return arguments.length?(f=!!x,p()):f},e.padding=function(x){return arguments.length?(d=Math.min(1,h=+x),p()):d},e.paddingInner=function(x){return arguments.length?(d=Math.min(1,x),p()):d},e.paddingOuter=function(x){return arguments.length?(h=+x,p()):h},e.align=function(x){return arguments.length?(m=Math.max(0,Math.min(1,x)),p()):m},e.copy=function(){return zg(t(),[r,l]).round(f).paddingInner(d).paddingOuter(h).align(m)},tr.apply(p(),arguments)}function mC(e){var t=e.copy;return e.padding=e.paddingOuter,delete e.paddingInner,delete e.paddingOuter,e.copy=function(){return mC(t())},e}function HB(){return mC(zg.apply(null,arguments).paddingInner(1))}function Lg(e,t,n){e.prototype=t.prototype=n,n.constructor=e}function vC(e,t){var n=Object.create(e.prototype);for(var r in t)n[r]=t[r];return n}function Zu(){}var Mu=.7,Pf=1/Mu,Il="\\s*([+-]?\\d+)\\s*",Du="\\s*([+-]?(?:\\d*\\.)?\\d+(?:[eE][+-]?\\d+)?)\\s*",xr="\\s*([+-]?(?:\\d*\\.)?\\d+(?:[eE][+-]?\\d+)?)%\\s*",$B=/^#([0-9a-f]{3,8})$/,YB=new RegExp(`^rgb\\(${Il},${Il},${Il}\\)$`),KB=new RegExp(`^rgb\\(${xr},${xr},${xr}\\)$`),GB=new RegExp(`^rgba\\(${Il},${Il},${Il},${Du}\\)$`),VB=new RegExp(`^rgba\\(${xr},${xr},${xr},${Du}\\)$`),XB=new RegExp(`^hsl\\(${Du},${xr},${xr}\\)$`),FB=new RegExp(`^hsla\\(${Du},${xr},${xr},${Du}\\)$`),kO={aliceblue:15792383,antiquewhite:16444375,aqua:65535,aquamarine:8388564,azure:15794175,beige:16119260,bisque:16770244,black:0,blanchedalmond:16772045,blue:255,blueviolet:9055202,brown:10824234,burlywood:14596231,cadetblue:6266528,chartreuse:8388352,chocolate:13789470,coral:16744272,cornflowerblue:6591981,cornsilk:16775388,crimson:14423100,cyan:65535,darkblue:139,darkcyan:35723,darkgoldenrod:12092939,darkgray:11119017,darkgreen:25600,darkgrey:11119017,darkkhaki:12433259,darkmagenta:9109643,darkolivegreen:5597999,darkorange:16747520,darkorchid:10040012,darkred:9109504,darksalmon:15308410,darkseagreen:9419919,darkslateblue:4734347,darkslategray:3100495,darkslategrey:3100495,darkturquoise:52945,darkviolet:9699539,deeppink:16716947,deepskyblue:49151,dimgray:6908265,dimgrey:6908265,dodgerblue:2003199,firebrick:11674146,floralwhite:16775920,forestgreen:2263842,fuchsia:16711935,gainsboro:14474460,ghostwhite:16316671,gold:16766720,goldenrod:14329120,gray:8421504,green:32768,greenyellow:11403055,grey:8421504,honeydew:15794160,hotpink:16738740,indianred:13458524,indigo:4915330,ivory:16777200,khaki:15787660,lavender:15132410,lavenderblush:16773365,lawngreen:8190976,lemonchiffon:16775885,lightblue:11393254,lightcoral:15761536,lightcyan:14745599,lightgoldenrodyellow:16448210,lightgray:13882323,lightgreen:9498256,lightgrey:13882323,lightpink:16758465,lightsalmon:16752762,lightseagreen:2142890,lightskyblue:8900346,lightslategray:7833753,lightslategrey:7833753,lightsteelblue:11584734,lightyellow:16777184,lime:65280,limegreen:3329330,linen:16445670,magenta:16711935,maroon:8388608,mediumaquamarine:6737322,mediumblue:205,mediumorchid:12211667,mediumpurple:9662683,mediumseagreen:3978097,mediumslateblue:8087790,mediumspringgreen:64154,mediumturquoise:4772300,mediumvioletred:13047173,midnightblue:1644912,mintcream:16121850,mistyrose:16770273,moccasin:16770229,navajowhite:16768685,navy:128,oldlace:16643558,olive:8421376,olivedrab:7048739,orange:16753920,orangered:16729344,orchid:14315734,palegoldenrod:15657130,palegreen:10025880,paleturquoise:11529966,palevioletred:14381203,papayawhip:16773077,peachpuff:16767673,peru:13468991,pink:16761035,plum:14524637,powderblue:11591910,purple:8388736,rebeccapurple:6697881,red:16711680,rosybrown:12357519,royalblue:4286945,saddlebrown:9127187,salmon:16416882,sandybrown:16032864,seagreen:3050327,seashell:16774638,sienna:10506797,silver:12632256,skyblue:8900331,slateblue:6970061,slategray:7372944,slategrey:7372944,snow:16775930,springgreen:65407,steelblue:4620980,tan:13808780,teal:32896,thistle:14204888,tomato:16737095,turquoise:4251856,violet:15631086,wheat:16113331,white:16777215,whitesmoke:16119285,yellow:16776960,yellowgreen:10145074};Lg(Zu,ku,{copy(e){return Object.assign(new this.constructor,this,e)},displayable(){return this.rgb().displayable()},hex:PO,formatHex:PO,formatHex8:WB,formatHsl:ZB,formatRgb:RO,toString:RO});function PO(){return this.rgb().formatHex()}function WB(){return this.rgb().formatHex8()}function ZB(){return pC(this).formatHsl()}function RO(){return this.rgb().formatRgb()}function ku(e){var t,n;return e=(e+"").trim().toLowerCase(),(t=$B.exec(e))?(n=t[1].length,t=parseInt(t[1],16),n===6?zO(t):n===3?new yn(t>>8&15|t>>4&240,t>>4&15|t&240,(t&15)<<4|t&15,1):n===8?Ic(t>>24&255,t>>16&255,t>>8&255,(t&255)/255):n===4?Ic(t>>12&15|t>>8&240,t>>8&15|t>>4&240,t>>4&15|t&240,((t&15)<<4|t&15)/255):null):(t=YB.exec(e))?new yn(t[1],t[2],t[3],1):(t=KB.exec(e))?new yn(t[1]*255/100,t[2]*255/100,t[3]*255/100,1):(t=GB.exec(e))?Ic(t[1],t[2],t[3],t[4]):(t=VB.exec(e))?Ic(t[1]*255/100,t[2]*255/100,t[3]*255/100,t[4]):(t=XB.exec(e))?UO(t[1],t[2]/100,t[3]/100,1):(t=FB.exec(e))?UO(t[1],t[2]/100,t[3]/100,t[4]):kO.hasOwnProperty(e)?zO(kO[e]):e==="transparent"?new yn(NaN,NaN,NaN,0):null}function zO(e){return new yn(e>>16&255,e>>8&255,e&255,1)}function Ic(e,t,n,r){return r<=0&&(e=t=n=NaN),new yn(e,t,n,r)}function QB(e){return e instanceof Zu||(e=ku(e)),e?(e=e.rgb(),new yn(e.r,e.g,e.b,e.opacity)):new yn}function Py(e,t,n,r){return arguments.length===1?QB(e):new yn(e,t,n,r??1)}function yn(e,t,n,r){this.r=+e,this.g=+t,this.b=+n,this.opacity=+r}Lg(yn,Py,vC(Zu,{brighter(e){return e=e==null?Pf:Math.pow(Pf,e),new yn(this.r*e,this.g*e,this.b*e,this.opacity)},darker(e){return e=e==null?Mu:Math.pow(Mu,e),new yn(this.r*e,this.g*e,this.b*e,this.opacity)},rgb(){return this},clamp(){return new yn(Mi(this.r),Mi(this.g),Mi(this.b),Rf(this.opacity))},displayable(){return-.5<=this.r&&this.r<255.5&&-.5<=this.g&&this.g<255.5&&-.5<=this.b&&this.b<255.5&&0<=this.opacity&&this.opacity<=1},hex:LO,formatHex:LO,formatHex8:JB,formatRgb:BO,toString:BO}));function LO(){return`#${Ei(this.r)}${Ei(this.g)}${Ei(this.b)}`}function JB(){return`#${Ei(this.r)}${Ei(this.g)}${Ei(this.b)}${Ei((isNaN(this.opacity)?1:this.opacity)*255)}`}function BO(){const e=Rf(this.opacity);return`${e===1?"rgb(":"rgba("}${Mi(this.r)}, ${Mi(this.g)}, ${Mi(this.b)}${e===1?")":`, ${e})`}`}function Rf(e){return isNaN(e)?1:Math.max(0,Math.min(1,e))}function Mi(e){return Math.max(0,Math.min(255,Math.round(e)||0))}function Ei(e){return e=Mi(e),(e<16?"0":"")+e.toString(16)}function UO(e,t,n,r){return r<=0?e=t=n=NaN:n<=0||n>=1?e=t=NaN:t<=0&&(e=NaN),new or(e,t,n,r)}function pC(e){if(e instanceof or)return new or(e.h,e.s,e.l,e.opacity);if(e instanceof Zu||(e=ku(e)),!e)return new or;if(e instanceof or)return e;e=e.rgb();var t=e.r/255,n=e.g/255,r=e.b/255,l=Math.min(t,n,r),o=Math.max(t,n,r),s=NaN,f=o-l,d=(o+l)/2;return f?(t===o?s=(n-r)/f+(n<r)*6:n===o?s=(r-t)/f+2:s=(t-n)/f+4,f/=d<.5?o+l:2-o-l,s*=60):f=d>0&&d<1?0:s,new or(s,f,d,e.opacity)}function eU(e,t,n,r){return arguments.length===1?pC(e):new or(e,t,n,r??1)}function or(e,t,n,r){this.h=+e,this.s=+t,this.l=+n,this.opacity=+r}Lg(or,eU,vC(Zu,{brighter(e){return e=e==null?Pf:Math.pow(Pf,e),new or(this.h,this.s,this.l*e,this.opacity)},darker(e){return e=e==null?Mu:Math.pow(Mu,e),new or(this.h,this.s,this.l*e,this.opacity)},rgb(){var e=this.h%360+(this.h<0)*360,t=isNaN(e)||isNaN(this.s)?0:this.s,n=this.l,r=n+(n<.5?n:1-n)*t,l=2*n-r;return new yn(Op(e>=240?e-240:e+120,l,r),Op(e,l,r),Op(e<120?e+240:e-120,l,r),this.opacity)},clamp(){return new or(IO(this.h),qc(this.s),qc(this.l),Rf(this.opacity))},displayable(){return(0<=this.s&&this.s<=1||isNaN(this.s))&&0<=this.l&&this.l<=1&&0<=this.opacity&&this.opacity<=1},formatHsl(){const e=Rf(this.opacity);return`${e===1?"hsl(":"hsla("}${IO(this.h)}, ${qc(this.s)*100}%, ${qc(this.l)*100}%${e===1?")":`, ${e})`}`}}));function IO(e){return e=(e||0)%360,e<0?e+360:e}function qc(e){return Math.max(0,Math.min(1,e||0))}function Op(e,t,n){return(e<60?t+(n-t)*e/60:e<180?n:e<240?t+(n-t)*(240-e)/60:t)*255}const Bg=e=>()=>e;function tU(e,t){return function(n){return e+n*t}}function nU(e,t,n){return e=Math.pow(e,n),t=Math.pow(t,n)-e,n=1/n,function(r){return Math.pow(e+r*t,n)}}function rU(e){return(e=+e)==1?yC:function(t,n){return n-t?nU(t,n,e):Bg(isNaN(t)?n:t)}}function yC(e,t){var n=t-e;return n?tU(e,n):Bg(isNaN(e)?t:e)}const qO=(function e(t){var n=rU(t);function r(l,o){var s=n((l=Py(l)).r,(o=Py(o)).r),f=n(l.g,o.g),d=n(l.b,o.b),h=yC(l.opacity,o.opacity);return function(m){return l.r=s(m),l.g=f(m),l.b=d(m),l.opacity=h(m),l+""}}return r.gamma=e,r})(1);function aU(e,t){t||(t=[]);var n=e?Math.min(t.length,e.length):0,r=t.slice(),l;return function(o){for(l=0;l<n;++l)r[l]=e[l]*(1-o)+t[l]*o;return r}}function iU(e){return ArrayBuffer.isView(e)&&!(e instanceof DataView)}function lU(e,t){var n=t?t.length:0,r=e?Math.min(n,e.length):0,l=new Array(r),o=new Array(n),s;for(s=0;s<r;++s)l[s]=ao(e[s],t[s]);for(;s<n;++s)o[s]=t[s];return function(f){for(s=0;s<r;++s)o[s]=l[s](f);return o}}function oU(e,t){var n=new Date;return e=+e,t=+t,function(r){return n.setTime(e*(1-r)+t*r),n}}function zf(e,t){return e=+e,t=+t,function(n){return e*(1-n)+t*n}}function uU(e,t){var n={},r={},l;(e===null||typeof e!="object")&&(e={}),(t===null||typeof t!="object")&&(t={});for(l in t)l in e?n[l]=ao(e[l],t[l]):r[l]=t[l];return function(o){for(l in n)r[l]=n[l](o);return r}}var Ry=/[-+]?(?:\d+\.?\d*|\.?\d+)(?:[eE][-+]?\d+)?/g,Ap=new RegExp(Ry.source,"g");function sU(e){return function(){return e}}function cU(e){return function(t){return e(t)+""}}function fU(e,t){var n=Ry.lastIndex=Ap.lastIndex=0,r,l,o,s=-1,f=[],d=[];for(e=e+"",t=t+"";(r=Ry.exec(e))&&(l=Ap.exec(t));)(o=l.index)>n&&(o=t.slice(n,o),f[s]?f[s]+=o:f[++s]=o),(r=r[0])===(l=l[0])?f[s]?f[s]+=l:f[++s]=l:(f[++s]=null,d.push({i:s,x:zf(r,l)})),n=Ap.lastIndex;return n<t.length&&(o=t.slice(n),f[s]?f[s]+=o:f[++s]=o),f.length<2?d[0]?cU(d[0].x):sU(t):(t=d.length,function(h){for(var m=0,p;m<t;++m)f[(p=d[m]).i]=p.x(h);return f.join("")})}function ao(e,t){var n=typeof t,r;return t==null||n==="boolean"?Bg(t):(n==="number"?zf:n==="string"?(r=ku(t))?(t=r,qO):fU:t instanceof ku?qO:t instanceof Date?oU:iU(t)?aU:Array.isArray(t)?lU:typeof t.valueOf!="function"&&typeof t.toString!="function"||isNaN(t)?uU:zf)(e,t)}function Ug(e,t){return e=+e,t=+t,function(n){return Math.round(e*(1-n)+t*n)}}function dU(e,t){t===void 0&&(t=e,e=ao);for(var n=0,r=t.length-1,l=t[0],o=new Array(r<0?0:r);n<r;)o[n]=e(l,l=t[++n]);return function(s){var f=Math.max(0,Math.min(r-1,Math.floor(s*=r)));return o[f](s-f)}}function hU(e){return function(){return e}}function Lf(e){return+e}var HO=[0,1];function an(e){return e}function zy(e,t){return(t-=e=+e)?function(n){return(n-e)/t}:hU(isNaN(t)?NaN:.5)}function mU(e,t){var n;return e>t&&(n=e,e=t,t=n),function(r){return Math.max(e,Math.min(t,r))}}function vU(e,t,n){var r=e[0],l=e[1],o=t[0],s=t[1];return l<r?(r=zy(l,r),o=n(s,o)):(r=zy(r,l),o=n(o,s)),function(f){return o(r(f))}}function pU(e,t,n){var r=Math.min(e.length,t.length)-1,l=new Array(r),o=new Array(r),s=-1;for(e[r]<e[0]&&(e=e.slice().reverse(),t=t.slice().reverse());++s<r;)l[s]=zy(e[s],e[s+1]),o[s]=n(t[s],t[s+1]);return function(f){var d=Wu(e,f,1,r)-1;return o[d](l[d](f))}}function Qu(e,t){return t.domain(e.domain()).range(e.range()).interpolate(e.interpolate()).clamp(e.clamp()).unknown(e.unknown())}function jd(){var e=HO,t=HO,n=ao,r,l,o,s=an,f,d,h;function m(){var x=Math.min(e.length,t.length);return s!==an&&(s=mU(e[0],e[x-1])),f=x>2?pU:vU,d=h=null,p}function p(x){return x==null||isNaN(x=+x)?o:(d||(d=f(e.map(r),t,n)))(r(s(x)))}return p.invert=function(x){return s(l((h||(h=f(t,e.map(r),zf)))(x)))},p.domain=function(x){return arguments.length?(e=Array.from(x,Lf),m()):e.slice()},p.range=function(x){return arguments.length?(t=Array.from(x),m()):t.slice()},p.rangeRound=function(x){return t=Array.from(x),n=Ug,m()},p.clamp=function(x){return arguments.length?(s=x?!0:an,m()):s!==an},p.interpolate=function(x){return arguments.length?(n=x,m()):n},p.unknown=function(x){return arguments.length?(o=x,p):o},function(x,w){return r=x,l=w,m()}}function Ig(){return jd()(an,an)}function yU(e){return Math.abs(e=Math.round(e))>=1e21?e.toLocaleString("en").replace(/,/g,""):e.toString(10)}function Bf(e,t){if((n=(e=t?e.toExponential(t-1):e.toExponential()).indexOf("e"))<0)return null;var n,r=e.slice(0,n);return[r.length>1?r[0]+r.slice(2):r,+e.slice(n+1)]}function Gl(e){return e=Bf(Math.abs(e)),e?e[1]:NaN}function gU(e,t){return function(n,r){for(var l=n.length,o=[],s=0,f=e[0],d=0;l>0&&f>0&&(d+f+1>r&&(f=Math.max(1,r-d)),o.push(n.substring(l-=f,l+f)),!((d+=f+1)>r));)f=e[s=(s+1)%e.length];return o.reverse().join(t)}}function bU(e){return function(t){return t.replace(/[0-9]/g,function(n){return e[+n]})}}var xU=/^(?:(.)?([<>=^]))?([+\-( ])?([$#])?(0)?(\d+)?(,)?(\.\d+)?(~)?([a-z%])?$/i;function Pu(e){if(!(t=xU.exec(e)))throw new Error("invalid format: "+e);var t;return new qg({fill:t[1],align:t[2],sign:t[3],symbol:t[4],zero:t[5],width:t[6],comma:t[7],precision:t[8]&&t[8].slice(1),trim:t[9],type:t[10]})}Pu.prototype=qg.prototype;function qg(e){this.fill=e.fill===void 0?" ":e.fill+"",this.align=e.align===void 0?">":e.align+"",this.sign=e.sign===void 0?"-":e.sign+"",this.symbol=e.symbol===void 0?"":e.symbol+"",this.zero=!!e.zero,this.width=e.width===void 0?void 0:+e.width,this.comma=!!e.comma,this.precision=e.precision===void 0?void 0:+e.precision,this.trim=!!e.trim,this.type=e.type===void 0?"":e.type+""}qg.prototype.toString=function(){return this.fill+this.align+this.sign+this.symbol+(this.zero?"0":"")+(this.width===void 0?"":Math.max(1,this.width|0))+(this.comma?",":"")+(this.precision===void 0?"":"."+Math.max(0,this.precision|0))+(this.trim?"~":"")+this.type};function wU(e){e:for(var t=e.length,n=1,r=-1,l;n<t;++n)switch(e[n]){case".":r=l=n;break;case"0":r===0&&(r=n),l=n;break;default:if(!+e[n])break e;r>0&&(r=0);break}return r>0?e.slice(0,r)+e.slice(l+1):e}var gC;function SU(e,t){var n=Bf(e,t);if(!n)return e+"";var r=n[0],l=n[1],o=l-(gC=Math.max(-8,Math.min(8,Math.floor(l/3)))*3)+1,s=r.length;return o===s?r:o>s?r+new Array(o-s+1).join("0"):o>0?r.slice(0,o)+"."+r.slice(o):"0."+new Array(1-o).join("0")+Bf(e,Math.max(0,t+o-1))[0]}function $O(e,t){var n=Bf(e,t);if(!n)return e+"";var r=n[0],l=n[1];return l<0?"0."+new Array(-l).join("0")+r:r.length>l+1?r.slice(0,l+1)+"."+r.slice(l+1):r+new Array(l-r.length+2).join("0")}const YO={"%":(e,t)=>(e*100).toFixed(t),b:e=>Math.round(e).toString(2),c:e=>e+"",d:yU,e:(e,t)=>e.toExponential(t),f:(e,t)=>e.toFixed(t),g:(e,t)=>e.toPrecision(t),o:e=>Math.round(e).toString(8),p:(e,t)=>$O(e*100,t),r:$O,s:SU,X:e=>Math.round(e).toString(16).toUpperCase(),x:e=>Math.round(e).toString(16)};function KO(e){return e}var GO=Array.prototype.map,VO=["y","z","a","f","p","n","µ","m","","k","M","G","T","P","E","Z","Y"];function EU(e){var t=e.grouping===void 0||e.thousands===void 0?KO:gU(GO.call(e.grouping,Number),e.thousands+""),n=e.currency===void 0?"":e.currency[0]+"",r=e.currency===void 0?"":e.currency[1]+"",l=e.decimal===void 0?".":e.decimal+"",o=e.numerals===void 0?KO:bU(GO.call(e.numerals,String)),s=e.percent===void 0?"%":e.percent+"",f=e.minus===void 0?"−":e.minus+"",d=e.nan===void 0?"NaN":e.nan+"";function h(p){p=Pu(p);var x=p.fill,w=p.align,O=p.sign,A=p.symbol,S=p.zero,j=p.width,_=p.comma,C=p.precision,D=p.trim,T=p.type;T==="n"?(_=!0,T="g"):YO[T]||(C===void 0&&(C=12),D=!0,T="g"),(S||x==="0"&&w==="=")&&(S=!0,x="0",w="=");var R=A==="$"?n:A==="#"&&/[boxX]/.test(T)?"0"+T.toLowerCase():"",k=A==="$"?r:/[%p]/.test(T)?s:"",I=YO[T],re=/[defgprs%]/.test(T);C=C===void 0?6:/[gprs]/.test(T)?Math.max(1,Math.min(21,C)):Math.max(0,Math.min(20,C));function ae(W){var J=R,pe=k,ge,xe,q;if(T==="c")pe=I(W)+pe,W="";else{W=+W;var Q=W<0||1/W<0;if(W=isNaN(W)?d:I(Math.abs(W),C),D&&(W=wU(W)),Q&&+W==0&&O!=="+"&&(Q=!1),J=(Q?O==="("?O:f:O==="-"||O==="("?"":O)+J,pe=(T==="s"?VO[8+gC/3]:"")+pe+(Q&&O==="("?")":""),re){for(ge=-1,xe=W.length;++ge<xe;)if(q=W.charCodeAt(ge),48>q||q>57){pe=(q===46?l+W.slice(ge+1):W.slice(ge))+pe,W=W.slice(0,ge);break}}}_&&!S&&(W=t(W,1/0));var X=J.length+W.length+pe.length,le=X<j?new Array(j-X+1).join(x):"";switch(_&&S&&(W=t(le+W,le.length?j-pe.length:1/0),le=""),w){case"<":W=J+W+pe+le;break;case"=":W=J+le+W+pe;break;case"^":W=le.slice(0,X=le.length>>1)+J+W+pe+le.slice(X);break;default:W=le+J+W+pe;break}return o(W)}return ae.toString=function(){return p+""},ae}function m(p,x){var w=h((p=Pu(p),p.type="f",p)),O=Math.max(-8,Math.min(8,Math.floor(Gl(x)/3)))*3,A=Math.pow(10,-O),S=VO[8+O/3];return function(j){return w(A*j)+S}}return{format:h,formatPrefix:m}}var Hc,Hg,bC;OU({thousands:",",grouping:[3],currency:["$",""]});function OU(e){return Hc=EU(e),Hg=Hc.format,bC=Hc.formatPrefix,Hc}function AU(e){return Math.max(0,-Gl(Math.abs(e)))}function jU(e,t){return Math.max(0,Math.max(-8,Math.min(8,Math.floor(Gl(t)/3)))*3-Gl(Math.abs(e)))}function NU(e,t){return e=Math.abs(e),t=Math.abs(t)-e,Math.max(0,Gl(t)-Gl(e))+1}function xC(e,t,n,r){var l=Dy(e,t,n),o;switch(r=Pu(r??",f"),r.type){case"s":{var s=Math.max(Math.abs(e),Math.abs(t));return r.precision==null&&!isNaN(o=jU(l,s))&&(r.precision=o),bC(r,s)}case"":case"e":case"g":case"p":case"r":{r.precision==null&&!isNaN(o=NU(l,Math.max(Math.abs(e),Math.abs(t))))&&(r.precision=o-(r.type==="e"));break}case"f":case"%":{r.precision==null&&!isNaN(o=AU(l))&&(r.precision=o-(r.type==="%")*2);break}}return Hg(r)}function Qa(e){var t=e.domain;return e.ticks=function(n){var r=t();return Ty(r[0],r[r.length-1],n??10)},e.tickFormat=function(n,r){var l=t();return xC(l[0],l[l.length-1],n??10,r)},e.nice=function(n){n==null&&(n=10);var r=t(),l=0,o=r.length-1,s=r[l],f=r[o],d,h,m=10;for(f<s&&(h=s,s=f,f=h,h=l,l=o,o=h);m-- >0;){if(h=My(s,f,n),h===d)return r[l]=s,r[o]=f,t(r);if(h>0)s=Math.floor(s/h)*h,f=Math.ceil(f/h)*h;else if(h<0)s=Math.ceil(s*h)/h,f=Math.floor(f*h)/h;else break;d=h}return e},e}function wC(){var e=Ig();return e.copy=function(){return Qu(e,wC())},tr.apply(e,arguments),Qa(e)}function SC(e){var t;function n(r){return r==null||isNaN(r=+r)?t:r}return n.invert=n,n.domain=n.range=function(r){return arguments.length?(e=Array.from(r,Lf),n):e.slice()},n.unknown=function(r){return arguments.length?(t=r,n):t},n.copy=function(){return SC(e).unknown(t)},e=arguments.length?Array.from(e,Lf):[0,1],Qa(n)}function EC(e,t){e=e.slice();var n=0,r=e.length-1,l=e[n],o=e[r],s;return o<l&&(s=n,n=r,r=s,s=l,l=o,o=s),e[n]=t.floor(l),e[r]=t.ceil(o),e}function XO(e){return Math.log(e)}function FO(e){return Math.exp(e)}function CU(e){return-Math.log(-e)}function _U(e){return-Math.exp(-e)}function TU(e){return isFinite(e)?+("1e"+e):e<0?0:e}function MU(e){return e===10?TU:e===Math.E?Math.exp:t=>Math.pow(e,t)}function DU(e){return e===Math.E?Math.log:e===10&&Math.log10||e===2&&Math.log2||(e=Math.log(e),t=>Math.log(t)/e)}function WO(e){return(t,n)=>-e(-t,n)}function $g(e){const t=e(XO,FO),n=t.domain;let r=10,l,o;function s(){return l=DU(r),o=MU(r),n()[0]<0?(l=WO(l),o=WO(o),e(CU,_U)):e(XO,FO),t}return t.base=function(f){return arguments.length?(r=+f,s()):r},t.domain=function(f){return arguments.length?(n(f),s()):n()},t.ticks=f=>{const d=n();let h=d[0],m=d[d.length-1];const p=m<h;p&&([h,m]=[m,h]);let x=l(h),w=l(m),O,A;const S=f==null?10:+f;let j=[];if(!(r%1)&&w-x<S){if(x=Math.floor(x),w=Math.ceil(w),h>0){for(;x<=w;++x)for(O=1;O<r;++O)if(A=x<0?O/o(-x):O*o(x),!(A<h)){if(A>m)break;j.push(A)}}else for(;x<=w;++x)for(O=r-1;O>=1;--O)if(A=x>0?O/o(-x):O*o(x),!(A<h)){if(A>m)break;j.push(A)}j.length*2<S&&(j=Ty(h,m,S))}else j=Ty(x,w,Math.min(w-x,S)).map(o);return p?j.reverse():j},t.tickFormat=(f,d)=>{if(f==null&&(f=10),d==null&&(d=r===10?"s":","),typeof d!="function"&&(!(r%1)&&(d=Pu(d)).precision==null&&(d.trim=!0),d=Hg(d)),f===1/0)return d;const h=Math.max(1,r*f/t.ticks().length);return m=>{let p=m/o(Math.round(l(m)));return p*r<r-.5&&(p*=r),p<=h?d(m):""}},t.nice=()=>n(EC(n(),{floor:f=>o(Math.floor(l(f))),ceil:f=>o(Math.ceil(l(f)))})),t}function OC(){const e=$g(jd()).domain([1,10]);return e.copy=()=>Qu(e,OC()).base(e.base()),tr.apply(e,arguments),e}function ZO(e){return function(t){return Math.sign(t)*Math.log1p(Math.abs(t/e))}}function QO(e){return function(t){return Math.sign(t)*Math.expm1(Math.abs(t))*e}}function Yg(e){var t=1,n=e(ZO(t),QO(t));return n.constant=function(r){return arguments.length?e(ZO(t=+r),QO(t)):t},Qa(n)}function AC(){var e=Yg(jd());return e.copy=function(){return Qu(e,AC()).constant(e.constant())},tr.apply(e,arguments)}function JO(e){return function(t){return t<0?-Math.pow(-t,e):Math.pow(t,e)}}function kU(e){return e<0?-Math.sqrt(-e):Math.sqrt(e)}function PU(e){return e<0?-e*e:e*e}function Kg(e){var t=e(an,an),n=1;function r(){return n===1?e(an,an):n===.5?e(kU,PU):e(JO(n),JO(1/n))}return t.exponent=function(l){return arguments.length?(n=+l,r()):n},Qa(t)}function Gg(){var e=Kg(jd());return e.copy=function(){return Qu(e,Gg()).exponent(e.exponent())},tr.apply(e,arguments),e}function RU(){return Gg.apply(null,arguments).exponent(.5)}function eA(e){return Math.sign(e)*e*e}function zU(e){return Math.sign(e)*Math.sqrt(Math.abs(e))}function jC(){var e=Ig(),t=[0,1],n=!1,r;function l(o){var s=zU(e(o));return isNaN(s)?r:n?Math.round(s):s}return l.invert=function(o){return e.invert(eA(o))},l.domain=function(o){return arguments.length?(e.domain(o),l):e.domain()},l.range=function(o){return arguments.length?(e.range((t=Array.from(o,Lf)).map(eA)),l):t.slice()},l.rangeRound=function(o){return l.range(o).round(!0)},l.round=function(o){return arguments.length?(n=!!o,l):n},l.clamp=function(o){return arguments.length?(e.clamp(o),l):e.clamp()},l.unknown=function(o){return arguments.length?(r=o,l):r},l.copy=function(){return jC(e.domain(),t).round(n).clamp(e.clamp()).unknown(r)},tr.apply(l,arguments),Qa(l)}function NC(){var e=[],t=[],n=[],r;function l(){var s=0,f=Math.max(1,t.length);for(n=new Array(f-1);++s<f;)n[s-1]=IB(e,s/f);return o}function o(s){return s==null||isNaN(s=+s)?r:t[Wu(n,s)]}return o.invertExtent=function(s){var f=t.indexOf(s);return f<0?[NaN,NaN]:[f>0?n[f-1]:e[0],f<n.length?n[f]:e[e.length-1]]},o.domain=function(s){if(!arguments.length)return e.slice();e=[];for(let f of s)f!=null&&!isNaN(f=+f)&&e.push(f);return e.sort(Xa),l()},o.range=function(s){return arguments.length?(t=Array.from(s),l()):t.slice()},o.unknown=function(s){return arguments.length?(r=s,o):r},o.quantiles=function(){return n.slice()},o.copy=function(){return NC().domain(e).range(t).unknown(r)},tr.apply(o,arguments)}function CC(){var e=0,t=1,n=1,r=[.5],l=[0,1],o;function s(d){return d!=null&&d<=d?l[Wu(r,d,0,n)]:o}function f(){var d=-1;for(r=new Array(n);++d<n;)r[d]=((d+1)*t-(d-n)*e)/(n+1);return s}return s.domain=function(d){return arguments.length?([e,t]=d,e=+e,t=+t,f()):[e,t]},s.range=function(d){return arguments.length?(n=(l=Array.from(d)).length-1,f()):l.slice()},s.invertExtent=function(d){var h=l.indexOf(d);return h<0?[NaN,NaN]:h<1?[e,r[0]]:h>=n?[r[n-1],t]:[r[h-1],r[h]]},s.unknown=function(d){return arguments.length&&(o=d),s},s.thresholds=function(){return r.slice()},s.copy=function(){return CC().domain([e,t]).range(l).unknown(o)},tr.apply(Qa(s),arguments)}function _C(){var e=[.5],t=[0,1],n,r=1;function l(o){return o!=null&&o<=o?t[Wu(e,o,0,r)]:n}return l.domain=function(o){return arguments.length?(e=Array.from(o),r=Math.min(e.length,t.length-1),l):e.slice()},l.range=function(o){return arguments.length?(t=Array.from(o),r=Math.min(e.length,t.length-1),l):t.slice()},l.invertExtent=function(o){var s=t.indexOf(o);return[e[s-1],e[s]]},l.unknown=function(o){return arguments.length?(n=o,l):n},l.copy=function(){return _C().domain(e).range(t).unknown(n)},tr.apply(l,arguments)}const jp=new Date,Np=new Date;function _t(e,t,n,r){function l(o){return e(o=arguments.length===0?new Date:new Date(+o)),o}return l.floor=o=>(e(o=new Date(+o)),o),l.ceil=o=>(e(o=new Date(o-1)),t(o,1),e(o),o),l.round=o=>{const s=l(o),f=l.ceil(o);return o-s<f-o?s:f},l.offset=(o,s)=>(t(o=new Date(+o),s==null?1:Math.floor(s)),o),l.range=(o,s,f)=>{const d=[];if(o=l.ceil(o),f=f==null?1:Math.floor(f),!(o<s)||!(f>0))return d;let h;do d.push(h=new Date(+o)),t(o,f),e(o);while(h<o&&o<s);return d},l.filter=o=>_t(s=>{if(s>=s)for(;e(s),!o(s);)s.setTime(s-1)},(s,f)=>{if(s>=s)if(f<0)for(;++f<=0;)for(;t(s,-1),!o(s););else for(;--f>=0;)for(;t(s,1),!o(s););}),n&&(l.count=(o,s)=>(jp.setTime(+o),Np.setTime(+s),e(jp),e(Np),Math.floor(n(jp,Np))),l.every=o=>(o=Math.floor(o),!isFinite(o)||!(o>0)?null:o>1?l.filter(r?s=>r(s)%o===0:s=>l.count(0,s)%o===0):l)),l}const Uf=_t(()=>{},(e,t)=>{e.setTime(+e+t)},(e,t)=>t-e);Uf.every=e=>(e=Math.floor(e),!isFinite(e)||!(e>0)?null:e>1?_t(t=>{t.setTime(Math.floor(t/e)*e)},(t,n)=>{t.setTime(+t+n*e)},(t,n)=>(n-t)/e):Uf);Uf.range;const Fr=1e3,Fn=Fr*60,Wr=Fn*60,ra=Wr*24,Vg=ra*7,tA=ra*30,Cp=ra*365,Oi=_t(e=>{e.setTime(e-e.getMilliseconds())},(e,t)=>{e.setTime(+e+t*Fr)},(e,t)=>(t-e)/Fr,e=>e.getUTCSeconds());Oi.range;const Xg=_t(e=>{e.setTime(e-e.getMilliseconds()-e.getSeconds()*Fr)},(e,t)=>{e.setTime(+e+t*Fn)},(e,t)=>(t-e)/Fn,e=>e.getMinutes());Xg.range;const Fg=_t(e=>{e.setUTCSeconds(0,0)},(e,t)=>{e.setTime(+e+t*Fn)},(e,t)=>(t-e)/Fn,e=>e.getUTCMinutes());Fg.range;const Wg=_t(e=>{e.setTime(e-e.getMilliseconds()-e.getSeconds()*Fr-e.getMinutes()*Fn)},(e,t)=>{e.setTime(+e+t*Wr)},(e,t)=>(t-e)/Wr,e=>e.getHours());Wg.range;const Zg=_t(e=>{e.setUTCMinutes(0,0,0)},(e,t)=>{e.setTime(+e+t*Wr)},(e,t)=>(t-e)/Wr,e=>e.getUTCHours());Zg.range;const Ju=_t(e=>e.setHours(0,0,0,0),(e,t)=>e.setDate(e.getDate()+t),(e,t)=>(t-e-(t.getTimezoneOffset()-e.getTimezoneOffset())*Fn)/ra,e=>e.getDate()-1);Ju.range;const Nd=_t(e=>{e.setUTCHours(0,0,0,0)},(e,t)=>{e.setUTCDate(e.getUTCDate()+t)},(e,t)=>(t-e)/ra,e=>e.getUTCDate()-1);Nd.range;const TC=_t(e=>{e.setUTCHours(0,0,0,0)},(e,t)=>{e.setUTCDate(e.getUTCDate()+t)},(e,t)=>(t-e)/ra,e=>Math.floor(e/ra));TC.range;function Hi(e){return _t(t=>{t.setDate(t.getDate()-(t.getDay()+7-e)%7),t.setHours(0,0,0,0)},(t,n)=>{t.setDate(t.getDate()+n*7)},(t,n)=>(n-t-(n.getTimezoneOffset()-t.getTimezoneOffset())*Fn)/Vg)}const Cd=Hi(0),If=Hi(1),LU=Hi(2),BU=Hi(3),Vl=Hi(4),UU=Hi(5),IU=Hi(6);Cd.range;If.range;LU.range;BU.range;Vl.range;UU.range;IU.range;function $i(e){return _t(t=>{t.setUTCDate(t.getUTCDate()-(t.getUTCDay()+7-e)%7),t.setUTCHours(0,0,0,0)},(t,n)=>{t.setUTCDate(t.getUTCDate()+n*7)},(t,n)=>(n-t)/Vg)}const _d=$i(0),qf=$i(1),qU=$i(2),HU=$i(3),Xl=$i(4),$U=$i(5),YU=$i(6);_d.range;qf.range;qU.range;HU.range;Xl.range;$U.range;YU.range;const Qg=_t(e=>{e.setDate(1),e.setHours(0,0,0,0)},(e,t)=>{e.setMonth(e.getMonth()+t)},(e,t)=>t.getMonth()-e.getMonth()+(t.getFullYear()-e.getFullYear())*12,e=>e.getMonth());Qg.range;const Jg=_t(e=>{e.setUTCDate(1),e.setUTCHours(0,0,0,0)},(e,t)=>{e.setUTCMonth(e.getUTCMonth()+t)},(e,t)=>t.getUTCMonth()-e.getUTCMonth()+(t.getUTCFullYear()-e.getUTCFullYear())*12,e=>e.getUTCMonth());Jg.range;const aa=_t(e=>{e.setMonth(0,1),e.setHours(0,0,0,0)},(e,t)=>{e.setFullYear(e.getFullYear()+t)},(e,t)=>t.getFullYear()-e.getFullYear(),e=>e.getFullYear());aa.every=e=>!isFinite(e=Math.floor(e))||!(e>0)?null:_t(t=>{t.setFullYear(Math.floor(t.getFullYear()/e)*e),t.setMonth(0,1),t.setHours(0,0,0,0)},(t,n)=>{t.setFullYear(t.getFullYear()+n*e)});aa.range;const ia=_t(e=>{e.setUTCMonth(0,1),e.setUTCHours(0,0,0,0)},(e,t)=>{e.setUTCFullYear(e.getUTCFullYear()+t)},(e,t)=>t.getUTCFullYear()-e.getUTCFullYear(),e=>e.getUTCFullYear());ia.every=e=>!isFinite(e=Math.floor(e))||!(e>0)?null:_t(t=>{t.setUTCFullYear(Math.floor(t.getUTCFullYear()/e)*e),t.setUTCMonth(0,1),t.setUTCHours(0,0,0,0)},(t,n)=>{t.setUTCFullYear(t.getUTCFullYear()+n*e)});ia.range;function MC(e,t,n,r,l,o){const s=[[Oi,1,Fr],[Oi,5,5*Fr],[Oi,15,15*Fr],[Oi,30,30*Fr],[o,1,Fn],[o,5,5*Fn],[o,15,15*Fn],[o,30,30*Fn],[l,1,Wr],[l,3,3*Wr],[l,6,6*Wr],[l,12,12*Wr],[r,1,ra],[r,2,2*ra],[n,1,Vg],[t,1,tA],[t,3,3*tA],[e,1,Cp]];function f(h,m,p){const x=m<h;x&&([h,m]=[m,h]);const w=p&&typeof p.range=="function"?p:d(h,m,p),O=w?w.range(h,+m+1):[];return x?O.reverse():O}function d(h,m,p){const x=Math.abs(m-h)/p,w=Pg(([,,S])=>S).right(s,x);if(w===s.length)return e.every(Dy(h/Cp,m/Cp,p));if(w===0)return Uf.every(Math.max(Dy(h,m,p),1));const[O,A]=s[x/s[w-1][2]<s[w][2]/x?w-1:w];return O.every(A)}return[f,d]}const[KU,GU]=MC(ia,Jg,_d,TC,Zg,Fg),[VU,XU]=MC(aa,Qg,Cd,Ju,Wg,Xg);function _p(e){if(0<=e.y&&e.y<100){var t=new Date(-1,e.m,e.d,e.H,e.M,e.S,e.L);return t.setFullYear(e.y),t}return new Date(e.y,e.m,e.d,e.H,e.M,e.S,e.L)}function Tp(e){if(0<=e.y&&e.y<100){var t=new Date(Date.UTC(-1,e.m,e.d,e.H,e.M,e.S,e.L));return t.setUTCFullYear(e.y),t}return new Date(Date.UTC(e.y,e.m,e.d,e.H,e.M,e.S,e.L))}function vu(e,t,n){return{y:e,m:t,d:n,H:0,M:0,S:0,L:0}}function FU(e){var t=e.dateTime,n=e.date,r=e.time,l=e.periods,o=e.days,s=e.shortDays,f=e.months,d=e.shortMonths,h=pu(l),m=yu(l),p=pu(o),x=yu(o),w=pu(s),O=yu(s),A=pu(f),S=yu(f),j=pu(d),_=yu(d),C={a:Q,A:X,b:le,B:Oe,c:null,d:oA,e:oA,f:gI,g:CI,G:TI,H:vI,I:pI,j:yI,L:DC,m:bI,M:xI,p:P,q:K,Q:cA,s:fA,S:wI,u:SI,U:EI,V:OI,w:AI,W:jI,x:null,X:null,y:NI,Y:_I,Z:MI,"%":sA},D={a:ee,A:ne,b:he,B:we,c:null,d:uA,e:uA,f:RI,g:KI,G:VI,H:DI,I:kI,j:PI,L:PC,m:zI,M:LI,p:ue,q:it,Q:cA,s:fA,S:BI,u:UI,U:II,V:qI,w:HI,W:$I,x:null,X:null,y:YI,Y:GI,Z:XI,"%":sA},T={a:ae,A:W,b:J,B:pe,c:ge,d:iA,e:iA,f:fI,g:aA,G:rA,H:lA,I:lA,j:oI,L:cI,m:lI,M:uI,p:re,q:iI,Q:hI,s:mI,S:sI,u:eI,U:tI,V:nI,w:JU,W:rI,x:xe,X:q,y:aA,Y:rA,Z:aI,"%":dI};C.x=R(n,C),C.X=R(r,C),C.c=R(t,C),D.x=R(n,D),D.X=R(r,D),D.c=R(t,D);function R(V,be){return function(Ae){var te=[],It=-1,ke=0,qt=V.length,Ht,jr,mo;for(Ae instanceof Date||(Ae=new Date(+Ae));++It<qt;)V.charCodeAt(It)===37&&(te.push(V.slice(ke,It)),(jr=nA[Ht=V.charAt(++It)])!=null?Ht=V.charAt(++It):jr=Ht==="e"?" ":"0",(mo=be[Ht])&&(Ht=mo(Ae,jr)),te.push(Ht),ke=It+1);return te.push(V.slice(ke,It)),te.join("")}}function k(V,be){return function(Ae){var te=vu(1900,void 0,1),It=I(te,V,Ae+="",0),ke,qt;if(It!=Ae.length)return null;if("Q"in te)return new Date(te.Q);if("s"in te)return new Date(te.s*1e3+("L"in te?te.L:0));if(be&&!("Z"in te)&&(te.Z=0),"p"in te&&(te.H=te.H%12+te.p*12),te.m===void 0&&(te.m="q"in te?te.q:0),"V"in te){if(te.V<1||te.V>53)return null;"w"in te||(te.w=1),"Z"in te?(ke=Tp(vu(te.y,0,1)),qt=ke.getUTCDay(),ke=qt>4||qt===0?qf.ceil(ke):qf(ke),ke=Nd.offset(ke,(te.V-1)*7),te.y=ke.getUTCFullYear(),te.m=ke.getUTCMonth(),te.d=ke.getUTCDate()+(te.w+6)%7):(ke=_p(vu(te.y,0,1)),qt=ke.getDay(),ke=qt>4||qt===0?If.ceil(ke):If(ke),ke=Ju.offset(ke,(te.V-1)*7),te.y=ke.getFullYear(),te.m=ke.getMonth(),te.d=ke.getDate()+(te.w+6)%7)}else("W"in te||"U"in te)&&("w"in te||(te.w="u"in te?te.u%7:"W"in te?1:0),qt="Z"in te?Tp(vu(te.y,0,1)).getUTCDay():_p(vu(te.y,0,1)).getDay(),te.m=0,te.d="W"in te?(te.w+6)%7+te.W*7-(qt+5)%7:te.w+te.U*7-(qt+6)%7);return"Z"in te?(te.H+=te.Z/100|0,te.M+=te.Z%100,Tp(te)):_p(te)}}function I(V,be,Ae,te){for(var It=0,ke=be.length,qt=Ae.length,Ht,jr;It<ke;){if(te>=qt)return-1;if(Ht=be.charCodeAt(It++),Ht===37){if(Ht=be.charAt(It++),jr=T[Ht in nA?be.charAt(It++):Ht],!jr||(te=jr(V,Ae,te))<0)return-1}else if(Ht!=Ae.charCodeAt(te++))return-1}return te}function re(V,be,Ae){var te=h.exec(be.slice(Ae));return te?(V.p=m.get(te[0].toLowerCase()),Ae+te[0].length):-1}function ae(V,be,Ae){var te=w.exec(be.slice(Ae));return te?(V.w=O.get(te[0].toLowerCase()),Ae+te[0].length):-1}function W(V,be,Ae){var te=p.exec(be.slice(Ae));return te?(V.w=x.get(te[0].toLowerCase()),Ae+te[0].length):-1}function J(V,be,Ae){var te=j.exec(be.slice(Ae));return te?(V.m=_.get(te[0].toLowerCase()),Ae+te[0].length):-1}function pe(V,be,Ae){var te=A.exec(be.slice(Ae));return te?(V.m=S.get(te[0].toLowerCase()),Ae+te[0].length):-1}function ge(V,be,Ae){return I(V,t,be,Ae)}function xe(V,be,Ae){return I(V,n,be,Ae)}function q(V,be,Ae){return I(V,r,be,Ae)}function Q(V){return s[V.getDay()]}function X(V){return o[V.getDay()]}function le(V){return d[V.getMonth()]}function Oe(V){return f[V.getMonth()]}function P(V){return l[+(V.getHours()>=12)]}function K(V){return 1+~~(V.getMonth()/3)}function ee(V){return s[V.getUTCDay()]}function ne(V){return o[V.getUTCDay()]}function he(V){return d[V.getUTCMonth()]}function we(V){return f[V.getUTCMonth()]}function ue(V){return l[+(V.getUTCHours()>=12)]}function it(V){return 1+~~(V.getUTCMonth()/3)}return{format:function(V){var be=R(V+="",C);return be.toString=function(){return V},be},parse:function(V){var be=k(V+="",!1);return be.toString=function(){return V},be},utcFormat:function(V){var be=R(V+="",D);return be.toString=function(){return V},be},utcParse:function(V){var be=k(V+="",!0);return be.toString=function(){return V},be}}}var nA={"-":"",_:" ",0:"0"},Ut=/^\s*\d+/,WU=/^%/,ZU=/[\\^$*+?|[\]().{}]/g;function ze(e,t,n){var r=e<0?"-":"",l=(r?-e:e)+"",o=l.length;return r+(o<n?new Array(n-o+1).join(t)+l:l)}function QU(e){return e.replace(ZU,"\\$&")}function pu(e){return new RegExp("^(?:"+e.map(QU).join("|")+")","i")}function yu(e){return new Map(e.map((t,n)=>[t.toLowerCase(),n]))}function JU(e,t,n){var r=Ut.exec(t.slice(n,n+1));return r?(e.w=+r[0],n+r[0].length):-1}function eI(e,t,n){var r=Ut.exec(t.slice(n,n+1));return r?(e.u=+r[0],n+r[0].length):-1}function tI(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.U=+r[0],n+r[0].length):-1}function nI(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.V=+r[0],n+r[0].length):-1}function rI(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.W=+r[0],n+r[0].length):-1}function rA(e,t,n){var r=Ut.exec(t.slice(n,n+4));return r?(e.y=+r[0],n+r[0].length):-1}function aA(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.y=+r[0]+(+r[0]>68?1900:2e3),n+r[0].length):-1}function aI(e,t,n){var r=/^(Z)|([+-]\d\d)(?::?(\d\d))?/.exec(t.slice(n,n+6));return r?(e.Z=r[1]?0:-(r[2]+(r[3]||"00")),n+r[0].length):-1}function iI(e,t,n){var r=Ut.exec(t.slice(n,n+1));return r?(e.q=r[0]*3-3,n+r[0].length):-1}function lI(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.m=r[0]-1,n+r[0].length):-1}function iA(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.d=+r[0],n+r[0].length):-1}function oI(e,t,n){var r=Ut.exec(t.slice(n,n+3));return r?(e.m=0,e.d=+r[0],n+r[0].length):-1}function lA(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.H=+r[0],n+r[0].length):-1}function uI(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.M=+r[0],n+r[0].length):-1}function sI(e,t,n){var r=Ut.exec(t.slice(n,n+2));return r?(e.S=+r[0],n+r[0].length):-1}function cI(e,t,n){var r=Ut.exec(t.slice(n,n+3));return r?(e.L=+r[0],n+r[0].length):-1}function fI(e,t,n){var r=Ut.exec(t.slice(n,n+6));return r?(e.L=Math.floor(r[0]/1e3),n+r[0].length):-1}function dI(e,t,n){var r=WU.exec(t.slice(n,n+1));return r?n+r[0].length:-1}function hI(e,t,n){var r=Ut.exec(t.slice(n));return r?(e.Q=+r[0],n+r[0].length):-1}function mI(e,t,n){var r=Ut.exec(t.slice(n));return r?(e.s=+r[0],n+r[0].length):-1}function oA(e,t){return ze(e.getDate(),t,2)}function vI(e,t){return ze(e.getHours(),t,2)}function pI(e,t){return ze(e.getHours()%12||12,t,2)}function yI(e,t){return ze(1+Ju.count(aa(e),e),t,3)}function DC(e,t){return ze(e.getMilliseconds(),t,3)}function gI(e,t){return DC(e,t)+"000"}function bI(e,t){return ze(e.getMonth()+1,t,2)}function xI(e,t){return ze(e.getMinutes(),t,2)}function wI(e,t){return ze(e.getSeconds(),t,2)}function SI(e){var t=e.getDay();return t===0?7:t}function EI(e,t){return ze(Cd.count(aa(e)-1,e),t,2)}function kC(e){var t=e.getDay();return t>=4||t===0?Vl(e):Vl.ceil(e)}function OI(e,t){return e=kC(e),ze(Vl.count(aa(e),e)+(aa(e).getDay()===4),t,2)}function AI(e){return e.getDay()}function jI(e,t){return ze(If.count(aa(e)-1,e),t,2)}function NI(e,t){return ze(e.getFullYear()%100,t,2)}function CI(e,t){return e=kC(e),ze(e.getFullYear()%100,t,2)}function _I(e,t){return ze(e.getFullYear()%1e4,t,4)}function TI(e,t){var n=e.getDay();return e=n>=4||n===0?Vl(e):Vl.ceil(e),ze(e.getFullYear()%1e4,t,4)}function MI(e){var t=e.getTimezoneOffset();return(t>0?"-":(t*=-1,"+"))+ze(t/60|0,"0",2)+ze(t%60,"0",2)}function uA(e,t){return ze(e.getUTCDate(),t,2)}function DI(e,t){return ze(e.getUTCHours(),t,2)}function kI(e,t){return ze(e.getUTCHours()%12||12,t,2)}function PI(e,t){return ze(1+Nd.count(ia(e),e),t,3)}function PC(e,t){return ze(e.getUTCMilliseconds(),t,3)}function RI(e,t){return PC(e,t)+"000"}function zI(e,t){return ze(e.getUTCMonth()+1,t,2)}function LI(e,t){return ze(e.getUTCMinutes(),t,2)}function BI(e,t){return ze(e.getUTCSeconds(),t,2)}function UI(e){var t=e.getUTCDay();return t===0?7:t}function II(e,t){return ze(_d.count(ia(e)-1,e),t,2)}function RC(e){var t=e.getUTCDay();return t>=4||t===0?Xl(e):Xl.ceil(e)}function qI(e,t){return e=RC(e),ze(Xl.count(ia(e),e)+(ia(e).getUTCDay()===4),t,2)}function HI(e){return e.getUTCDay()}function $I(e,t){return ze(qf.count(ia(e)-1,e),t,2)}function YI(e,t){return ze(e.getUTCFullYear()%100,t,2)}function KI(e,t){return e=RC(e),ze(e.getUTCFullYear()%100,t,2)}function GI(e,t){return ze(e.getUTCFullYear()%1e4,t,4)}function VI(e,t){var n=e.getUTCDay();return e=n>=4||n===0?Xl(e):Xl.ceil(e),ze(e.getUTCFullYear()%1e4,t,4)}function XI(){return"+0000"}function sA(){return"%"}function cA(e){return+e}function fA(e){return Math.floor(+e/1e3)}var _l,zC,LC;FI({dateTime:"%x, %X",date:"%-m/%-d/%Y",time:"%-I:%M:%S %p",periods:["AM","PM"],days:["Sunday","Monday","Tuesday","Wednesday","Thursday","Friday","Saturday"],shortDays:["Sun","Mon","Tue","Wed","Thu","Fri","Sat"],months:["January","February","March","April","May","June","July","August","September","October","November","December"],shortMonths:["Jan","Feb","Mar","Apr","May","Jun","Jul","Aug","Sep","Oct","Nov","Dec"]});function FI(e){return _l=FU(e),zC=_l.format,_l.parse,LC=_l.utcFormat,_l.utcParse,_l}function WI(e){return new Date(e)}function ZI(e){return e instanceof Date?+e:+new Date(+e)}function e0(e,t,n,r,l,o,s,f,d,h){var m=Ig(),p=m.invert,x=m.domain,w=h(".%L"),O=h(":%S"),A=h("%I:%M"),S=h("%I %p"),j=h("%a %d"),_=h("%b %d"),C=h("%B"),D=h("%Y");function T(R){return(d(R)<R?w:f(R)<R?O:s(R)<R?A:o(R)<R?S:r(R)<R?l(R)<R?j:_:n(R)<R?C:D)(R)}return m.invert=function(R){return new Date(p(R))},m.domain=function(R){return arguments.length?x(Array.from(R,ZI)):x().map(WI)},m.ticks=function(R){var k=x();return e(k[0],k[k.length-1],R??10)},m.tickFormat=function(R,k){return k==null?T:h(k)},m.nice=function(R){var k=x();return(!R||typeof R.range!="function")&&(R=t(k[0],k[k.length-1],R??10)),R?x(EC(k,R)):m},m.copy=function(){return Qu(m,e0(e,t,n,r,l,o,s,f,d,h))},m}function QI(){return tr.apply(e0(VU,XU,aa,Qg,Cd,Ju,Wg,Xg,Oi,zC).domain([new Date(2e3,0,1),new Date(2e3,0,2)]),arguments)}function JI(){return tr.apply(e0(KU,GU,ia,Jg,_d,Nd,Zg,Fg,Oi,LC).domain([Date.UTC(2e3,0,1),Date.UTC(2e3,0,2)]),arguments)}function Td(){var e=0,t=1,n,r,l,o,s=an,f=!1,d;function h(p){return p==null||isNaN(p=+p)?d:s(l===0?.5:(p=(o(p)-n)*l,f?Math.max(0,Math.min(1,p)):p))}h.domain=function(p){return arguments.length?([e,t]=p,n=o(e=+e),r=o(t=+t),l=n===r?0:1/(r-n),h):[e,t]},h.clamp=function(p){return arguments.length?(f=!!p,h):f},h.interpolator=function(p){return arguments.length?(s=p,h):s};function m(p){return function(x){var w,O;return arguments.length?([w,O]=x,s=p(w,O),h):[s(0),s(1)]}}return h.range=m(ao),h.rangeRound=m(Ug),h.unknown=function(p){return arguments.length?(d=p,h):d},function(p){return o=p,n=p(e),r=p(t),l=n===r?0:1/(r-n),h}}function Ja(e,t){return t.domain(e.domain()).interpolator(e.interpolator()).clamp(e.clamp()).unknown(e.unknown())}function BC(){var e=Qa(Td()(an));return e.copy=function(){return Ja(e,BC())},da.apply(e,arguments)}function UC(){var e=$g(Td()).domain([1,10]);return e.copy=function(){return Ja(e,UC()).base(e.base())},da.apply(e,arguments)}function IC(){var e=Yg(Td());return e.copy=function(){return Ja(e,IC()).constant(e.constant())},da.apply(e,arguments)}function t0(){var e=Kg(Td());return e.copy=function(){return Ja(e,t0()).exponent(e.exponent())},da.apply(e,arguments)}function e9(){return t0.apply(null,arguments).exponent(.5)}function qC(){var e=[],t=an;function n(r){if(r!=null&&!isNaN(r=+r))return t((Wu(e,r,1)-1)/(e.length-1))}return n.domain=function(r){if(!arguments.length)return e.slice();e=[];for(let l of r)l!=null&&!isNaN(l=+l)&&e.push(l);return e.sort(Xa),n},n.interpolator=function(r){return arguments.length?(t=r,n):t},n.range=function(){return e.map((r,l)=>t(l/(e.length-1)))},n.quantiles=function(r){return Array.from({length:r+1},(l,o)=>UB(e,o/r))},n.copy=function(){return qC(t).domain(e)},da.apply(n,arguments)}function Md(){var e=0,t=.5,n=1,r=1,l,o,s,f,d,h=an,m,p=!1,x;function w(A){return isNaN(A=+A)?x:(A=.5+((A=+m(A))-o)*(r*A<r*o?f:d),h(p?Math.max(0,Math.min(1,A)):A))}w.domain=function(A){return arguments.length?([e,t,n]=A,l=m(e=+e),o=m(t=+t),s=m(n=+n),f=l===o?0:.5/(o-l),d=o===s?0:.5/(s-o),r=o<l?-1:1,w):[e,t,n]},w.clamp=function(A){return arguments.length?(p=!!A,w):p},w.interpolator=function(A){return arguments.length?(h=A,w):h};function O(A){return function(S){var j,_,C;return arguments.length?([j,_,C]=S,h=dU(A,[j,_,C]),w):[h(0),h(.5),h(1)]}}return w.range=O(ao),w.rangeRound=O(Ug),w.unknown=function(A){return arguments.length?(x=A,w):x},function(A){return m=A,l=A(e),o=A(t),s=A(n),f=l===o?0:.5/(o-l),d=o===s?0:.5/(s-o),r=o<l?-1:1,w}}function HC(){var e=Qa(Md()(an));return e.copy=function(){return Ja(e,HC())},da.apply(e,arguments)}function $C(){var e=$g(Md()).domain([.1,1,10]);return e.copy=function(){return Ja(e,$C()).base(e.base())},da.apply(e,arguments)}function YC(){var e=Yg(Md());return e.copy=function(){return Ja(e,YC()).constant(e.constant())},da.apply(e,arguments)}function n0(){var e=Kg(Md());return e.copy=function(){return Ja(e,n0()).exponent(e.exponent())},da.apply(e,arguments)}function t9(){return n0.apply(null,arguments).exponent(.5)}const bu=Object.freeze(Object.defineProperty({__proto__:null,scaleBand:zg,scaleDiverging:HC,scaleDivergingLog:$C,scaleDivergingPow:n0,scaleDivergingSqrt:t9,scaleDivergingSymlog:YC,scaleIdentity:SC,scaleImplicit:ky,scaleLinear:wC,scaleLog:OC,scaleOrdinal:Rg,scalePoint:HB,scalePow:Gg,scaleQuantile:NC,scaleQuantize:CC,scaleRadial:jC,scaleSequential:BC,scaleSequentialLog:UC,scaleSequentialPow:t0,scaleSequentialQuantile:qC,scaleSequentialSqrt:e9,scaleSequentialSymlog:IC,scaleSqrt:RU,scaleSymlog:AC,scaleThreshold:_C,scaleTime:QI,scaleUtc:JI,tickFormat:xC},Symbol.toStringTag,{value:"Module"}));var ei=e=>e.chartData,n9=Y([ei],e=>{var t=e.chartData!=null?e.chartData.length-1:0;return{chartData:e.chartData,computedData:e.computedData,dataEndIndex:t,dataStartIndex:0}}),r0=(e,t,n,r)=>r?n9(e):ei(e);function Za(e){if(Array.isArray(e)&&e.length===2){var[t,n]=e;if(st(t)&&st(n))return!0}return!1}function dA(e,t,n){return n?e:[Math.min(e[0],t[0]),Math.max(e[1],t[1])]}function KC(e,t){if(t&&typeof e!="function"&&Array.isArray(e)&&e.length===2){var[n,r]=e,l,o;if(st(n))l=n;else if(typeof n=="function")return;if(st(r))o=r;else if(typeof r=="function")return;var s=[l,o];if(Za(s))return s}}function r9(e,t,n){if(!(!n&&t==null)){if(typeof e=="function"&&t!=null)try{var r=e(t,n);if(Za(r))return dA(r,t,n)}catch{}if(Array.isArray(e)&&e.length===2){var[l,o]=e,s,f;if(l==="auto")t!=null&&(s=Math.min(...t));else if(de(l))s=l;else if(typeof l=="function")try{t!=null&&(s=l(t?.[0]))}catch{}else if(typeof l=="string"&&HE.test(l)){var d=HE.exec(l);if(d==null||t==null)s=void 0;else{var h=+d[1];s=t[0]-h}}else s=t?.[0];if(o==="auto")t!=null&&(f=Math.max(...t));else if(de(o))f=o;else if(typeof o=="function")try{t!=null&&(f=o(t?.[1]))}catch{}else if(typeof o=="string"&&$E.test(o)){var m=$E.exec(o);if(m==null||t==null)f=void 0;else{var p=+m[1];f=t[1]+p}}else f=t?.[1];var x=[s,f];if(Za(x))return t==null?x:dA(x,t,n)}}}var io=1e9,a9={precision:20,rounding:4,toExpNeg:-7,toExpPos:21,LN10:"2.302585092994045684017991454684364207601101488628772976033327900967572609677352480235997205089598298341967784042286"},i0,nt=!0,Jn="[DecimalError] ",Di=Jn+"Invalid argument: ",a0=Jn+"Exponent out of range: ",lo=Math.floor,Si=Math.pow,i9=/^(\d+(\.\d*)?|\.\d+)(e[+-]?\d+)?$/i,Mn,Lt=1e7,Je=7,GC=9007199254740991,Hf=lo(GC/Je),ie={};ie.absoluteValue=ie.abs=function(){var e=new this.constructor(this);return e.s&&(e.s=1),e};ie.comparedTo=ie.cmp=function(e){var t,n,r,l,o=this;if(e=new o.constructor(e),o.s!==e.s)return o.s||-e.s;if(o.e!==e.e)return o.e>e.e^o.s<0?1:-1;for(r=o.d.length,l=e.d.length,t=0,n=r<l?r:l;t<n;++t)if(o.d[t]!==e.d[t])return o.d[t]>e.d[t]^o.s<0?1:-1;return r===l?0:r>l^o.s<0?1:-1};ie.decimalPlaces=ie.dp=function(){var e=this,t=e.d.length-1,n=(t-e.e)*Je;if(t=e.d[t],t)for(;t%10==0;t/=10)n--;return n<0?0:n};ie.dividedBy=ie.div=function(e){return Qr(this,new this.constructor(e))};ie.dividedToIntegerBy=ie.idiv=function(e){var t=this,n=t.constructor;return Ge(Qr(t,new n(e),0,1),n.precision)};ie.equals=ie.eq=function(e){return!this.cmp(e)};ie.exponent=function(){return St(this)};ie.greaterThan=ie.gt=function(e){return this.cmp(e)>0};ie.greaterThanOrEqualTo=ie.gte=function(e){return this.cmp(e)>=0};ie.isInteger=ie.isint=function(){return this.e>this.d.length-2};ie.isNegative=ie.isneg=function(){return this.s<0};ie.isPositive=ie.ispos=function(){return this.s>0};ie.isZero=function(){return this.s===0};ie.lessThan=ie.lt=function(e){return this.cmp(e)<0};ie.lessThanOrEqualTo=ie.lte=function(e){return this.cmp(e)<1};ie.logarithm=ie.log=function(e){var t,n=this,r=n.constructor,l=r.precision,o=l+5;if(e===void 0)e=new r(10);else if(e=new r(e),e.s<1||e.eq(Mn))throw Error(Jn+"NaN");if(n.s<1)throw Error(Jn+(n.s?"NaN":"-Infinity"));return n.eq(Mn)?new r(0):(nt=!1,t=Qr(Ru(n,o),Ru(e,o),o),nt=!0,Ge(t,l))};ie.minus=ie.sub=function(e){var t=this;return e=new t.constructor(e),t.s==e.s?FC(t,e):VC(t,(e.s=-e.s,e))};ie.modulo=ie.mod=function(e){var t,n=this,r=n.constructor,l=r.precision;if(e=new r(e),!e.s)throw Error(Jn+"NaN");return n.s?(nt=!1,t=Qr(n,e,0,1).times(e),nt=!0,n.minus(t)):Ge(new r(n),l)};ie.naturalExponential=ie.exp=function(){return XC(this)};ie.naturalLogarithm=ie.ln=function(){return Ru(this)};ie.negated=ie.neg=function(){var e=new this.constructor(this);return e.s=-e.s||0,e};ie.plus=ie.add=function(e){var t=this;return e=new t.constructor(e),t.s==e.s?VC(t,e):FC(t,(e.s=-e.s,e))};ie.precision=ie.sd=function(e){var t,n,r,l=this;if(e!==void 0&&e!==!!e&&e!==1&&e!==0)throw Error(Di+e);if(t=St(l)+1,r=l.d.length-1,n=r*Je+1,r=l.d[r],r){for(;r%10==0;r/=10)n--;for(r=l.d[0];r>=10;r/=10)n++}return e&&t>n?t:n};ie.squareRoot=ie.sqrt=function(){var e,t,n,r,l,o,s,f=this,d=f.constructor;if(f.s<1){if(!f.s)return new d(0);throw Error(Jn+"NaN")}for(e=St(f),nt=!1,l=Math.sqrt(+f),l==0||l==1/0?(t=br(f.d),(t.length+e)%2==0&&(t+="0"),l=Math.sqrt(t),e=lo((e+1)/2)-(e<0||e%2),l==1/0?t="5e"+e:(t=l.toExponential(),t=t.slice(0,t.indexOf("e")+1)+e),r=new d(t)):r=new d(l.toString()),n=d.precision,l=s=n+3;;)if(o=r,r=o.plus(Qr(f,o,s+2)).times(.5),br(o.d).slice(0,s)===(t=br(r.d)).slice(0,s)){if(t=t.slice(s-3,s+1),l==s&&t=="4999"){if(Ge(o,n+1,0),o.times(o).eq(f)){r=o;break}}else if(t!="9999")break;s+=4}return nt=!0,Ge(r,n)};ie.times=ie.mul=function(e){var t,n,r,l,o,s,f,d,h,m=this,p=m.constructor,x=m.d,w=(e=new p(e)).d;if(!m.s||!e.s)return new p(0);for(e.s*=m.s,n=m.e+e.e,d=x.length,h=w.length,d<h&&(o=x,x=w,w=o,s=d,d=h,h=s),o=[],s=d+h,r=s;r--;)o.push(0);for(r=h;--r>=0;){for(t=0,l=d+r;l>r;)f=o[l]+w[r]*x[l-r-1]+t,o[l--]=f%Lt|0,t=f/Lt|0;o[l]=(o[l]+t)%Lt|0}for(;!o[--s];)o.pop();return t?++n:o.shift(),e.d=o,e.e=n,nt?Ge(e,p.precision):e};ie.toDecimalPlaces=ie.todp=function(e,t){var n=this,r=n.constructor;return n=new r(n),e===void 0?n:(Or(e,0,io),t===void 0?t=r.rounding:Or(t,0,8),Ge(n,e+St(n)+1,t))};ie.toExponential=function(e,t){var n,r=this,l=r.constructor;return e===void 0?n=zi(r,!0):(Or(e,0,io),t===void 0?t=l.rounding:Or(t,0,8),r=Ge(new l(r),e+1,t),n=zi(r,!0,e+1)),n};ie.toFixed=function(e,t){var n,r,l=this,o=l.constructor;return e===void 0?zi(l):(Or(e,0,io),t===void 0?t=o.rounding:Or(t,0,8),r=Ge(new o(l),e+St(l)+1,t),n=zi(r.abs(),!1,e+St(r)+1),l.isneg()&&!l.isZero()?"-"+n:n)};ie.toInteger=ie.toint=function(){var e=this,t=e.constructor;return Ge(new t(e),St(e)+1,t.rounding)};ie.toNumber=function(){return+this};ie.toPower=ie.pow=function(e){var t,n,r,l,o,s,f=this,d=f.constructor,h=12,m=+(e=new d(e));if(!e.s)return new d(Mn);if(f=new d(f),!f.s){if(e.s<1)throw Error(Jn+"Infinity");return f}if(f.eq(Mn))return f;if(r=d.precision,e.eq(Mn))return Ge(f,r);if(t=e.e,n=e.d.length-1,s=t>=n,o=f.s,s){if((n=m<0?-m:m)<=GC){for(l=new d(Mn),t=Math.ceil(r/Je+4),nt=!1;n%2&&(l=l.times(f),mA(l.d,t)),n=lo(n/2),n!==0;)f=f.times(f),mA(f.d,t);return nt=!0,e.s<0?new d(Mn).div(l):Ge(l,r)}}else if(o<0)throw Error(Jn+"NaN");return o=o<0&&e.d[Math.max(t,n)]&1?-1:1,f.s=1,nt=!1,l=e.times(Ru(f,r+h)),nt=!0,l=XC(l),l.s=o,l};ie.toPrecision=function(e,t){var n,r,l=this,o=l.constructor;return e===void 0?(n=St(l),r=zi(l,n<=o.toExpNeg||n>=o.toExpPos)):(Or(e,1,io),t===void 0?t=o.rounding:Or(t,0,8),l=Ge(new o(l),e,t),n=St(l),r=zi(l,e<=n||n<=o.toExpNeg,e)),r};ie.toSignificantDigits=ie.tosd=function(e,t){var n=this,r=n.constructor;return e===void 0?(e=r.precision,t=r.rounding):(Or(e,1,io),t===void 0?t=r.rounding:Or(t,0,8)),Ge(new r(n),e,t)};ie.toString=ie.valueOf=ie.val=ie.toJSON=ie[Symbol.for("nodejs.util.inspect.custom")]=function(){var e=this,t=St(e),n=e.constructor;return zi(e,t<=n.toExpNeg||t>=n.toExpPos)};function VC(e,t){var n,r,l,o,s,f,d,h,m=e.constructor,p=m.precision;if(!e.s||!t.s)return t.s||(t=new m(e)),nt?Ge(t,p):t;if(d=e.d,h=t.d,s=e.e,l=t.e,d=d.slice(),o=s-l,o){for(o<0?(r=d,o=-o,f=h.length):(r=h,l=s,f=d.length),s=Math.ceil(p/Je),f=s>f?s+1:f+1,o>f&&(o=f,r.length=1),r.reverse();o--;)r.push(0);r.reverse()}for(f=d.length,o=h.length,f-o<0&&(o=f,r=h,h=d,d=r),n=0;o;)n=(d[--o]=d[o]+h[o]+n)/Lt|0,d[o]%=Lt;for(n&&(d.unshift(n),++l),f=d.length;d[--f]==0;)d.pop();return t.d=d,t.e=l,nt?Ge(t,p):t}function Or(e,t,n){if(e!==~~e||e<t||e>n)throw Error(Di+e)}function br(e){var t,n,r,l=e.length-1,o="",s=e[0];if(l>0){for(o+=s,t=1;t<l;t++)r=e[t]+"",n=Je-r.length,n&&(o+=Ya(n)),o+=r;s=e[t],r=s+"",n=Je-r.length,n&&(o+=Ya(n))}else if(s===0)return"0";for(;s%10===0;)s/=10;return o+s}var Qr=(function(){function e(r,l){var o,s=0,f=r.length;for(r=r.slice();f--;)o=r[f]*l+s,r[f]=o%Lt|0,s=o/Lt|0;return s&&r.unshift(s),r}function t(r,l,o,s){var f,d;if(o!=s)d=o>s?1:-1;else for(f=d=0;f<o;f++)if(r[f]!=l[f]){d=r[f]>l[f]?1:-1;break}return d}function n(r,l,o){for(var s=0;o--;)r[o]-=s,s=r[o]<l[o]?1:0,r[o]=s*Lt+r[o]-l[o];for(;!r[0]&&r.length>1;)r.shift()}return function(r,l,o,s){var f,d,h,m,p,x,w,O,A,S,j,_,C,D,T,R,k,I,re=r.constructor,ae=r.s==l.s?1:-1,W=r.d,J=l.d;if(!r.s)return new re(r);if(!l.s)throw Error(Jn+"Division by zero");for(d=r.e-l.e,k=J.length,T=W.length,w=new re(ae),O=w.d=[],h=0;J[h]==(W[h]||0);)++h;if(J[h]>(W[h]||0)&&--d,o==null?_=o=re.precision:s?_=o+(St(r)-St(l))+1:_=o,_<0)return new re(0);if(_=_/Je+2|0,h=0,k==1)for(m=0,J=J[0],_++;(h<T||m)&&_--;h++)C=m*Lt+(W[h]||0),O[h]=C/J|0,m=C%J|0;else{for(m=Lt/(J[0]+1)|0,m>1&&(J=e(J,m),W=e(W,m),k=J.length,T=W.length),D=k,A=W.slice(0,k),S=A.length;S<k;)A[S++]=0;I=J.slice(),I.unshift(0),R=J[0],J[1]>=Lt/2&&++R;do m=0,f=t(J,A,k,S),f<0?(j=A[0],k!=S&&(j=j*Lt+(A[1]||0)),m=j/R|0,m>1?(m>=Lt&&(m=Lt-1),p=e(J,m),x=p.length,S=A.length,f=t(p,A,x,S),f==1&&(m--,n(p,k<x?I:J,x))):(m==0&&(f=m=1),p=J.slice()),x=p.length,x<S&&p.unshift(0),n(A,p,S),f==-1&&(S=A.length,f=t(J,A,k,S),f<1&&(m++,n(A,k<S?I:J,S))),S=A.length):f===0&&(m++,A=[0]),O[h++]=m,f&&A[0]?A[S++]=W[D]||0:(A=[W[D]],S=1);while((D++<T||A[0]!==void 0)&&_--)}return O[0]||O.shift(),w.e=d,Ge(w,s?o+St(w)+1:o)}})();function XC(e,t){var n,r,l,o,s,f,d=0,h=0,m=e.constructor,p=m.precision;if(St(e)>16)throw Error(a0+St(e));if(!e.s)return new m(Mn);for(nt=!1,f=p,s=new m(.03125);e.abs().gte(.1);)e=e.times(s),h+=5;for(r=Math.log(Si(2,h))/Math.LN10*2+5|0,f+=r,n=l=o=new m(Mn),m.precision=f;;){if(l=Ge(l.times(e),f),n=n.times(++d),s=o.plus(Qr(l,n,f)),br(s.d).slice(0,f)===br(o.d).slice(0,f)){for(;h--;)o=Ge(o.times(o),f);return m.precision=p,t==null?(nt=!0,Ge(o,p)):o}o=s}}function St(e){for(var t=e.e*Je,n=e.d[0];n>=10;n/=10)t++;return t}function Mp(e,t,n){if(t>e.LN10.sd())throw nt=!0,n&&(e.precision=n),Error(Jn+"LN10 precision limit exceeded");return Ge(new e(e.LN10),t)}function Ya(e){for(var t="";e--;)t+="0";return t}function Ru(e,t){var n,r,l,o,s,f,d,h,m,p=1,x=10,w=e,O=w.d,A=w.constructor,S=A.precision;if(w.s<1)throw Error(Jn+(w.s?"NaN":"-Infinity"));if(w.eq(Mn))return new A(0);if(t==null?(nt=!1,h=S):h=t,w.eq(10))return t==null&&(nt=!0),Mp(A,h);if(h+=x,A.precision=h,n=br(O),r=n.charAt(0),o=St(w),Math.abs(o)<15e14){for(;r<7&&r!=1||r==1&&n.charAt(1)>3;)w=w.times(e),n=br(w.d),r=n.charAt(0),p++;o=St(w),r>1?(w=new A("0."+n),o++):w=new A(r+"."+n.slice(1))}else return d=Mp(A,h+2,S).times(o+""),w=Ru(new A(r+"."+n.slice(1)),h-x).plus(d),A.precision=S,t==null?(nt=!0,Ge(w,S)):w;for(f=s=w=Qr(w.minus(Mn),w.plus(Mn),h),m=Ge(w.times(w),h),l=3;;){if(s=Ge(s.times(m),h),d=f.plus(Qr(s,new A(l),h)),br(d.d).slice(0,h)===br(f.d).slice(0,h))return f=f.times(2),o!==0&&(f=f.plus(Mp(A,h+2,S).times(o+""))),f=Qr(f,new A(p),h),A.precision=S,t==null?(nt=!0,Ge(f,S)):f;f=d,l+=2}}function hA(e,t){var n,r,l;for((n=t.indexOf("."))>-1&&(t=t.replace(".","")),(r=t.search(/e/i))>0?(n<0&&(n=r),n+=+t.slice(r+1),t=t.substring(0,r)):n<0&&(n=t.length),r=0;t.charCodeAt(r)===48;)++r;for(l=t.length;t.charCodeAt(l-1)===48;)--l;if(t=t.slice(r,l),t){if(l-=r,n=n-r-1,e.e=lo(n/Je),e.d=[],r=(n+1)%Je,n<0&&(r+=Je),r<l){for(r&&e.d.push(+t.slice(0,r)),l-=Je;r<l;)e.d.push(+t.slice(r,r+=Je));t=t.slice(r),r=Je-t.length}else r-=l;for(;r--;)t+="0";if(e.d.push(+t),nt&&(e.e>Hf||e.e<-Hf))throw Error(a0+n)}else e.s=0,e.e=0,e.d=[0];return e}function Ge(e,t,n){var r,l,o,s,f,d,h,m,p=e.d;for(s=1,o=p[0];o>=10;o/=10)s++;if(r=t-s,r<0)r+=Je,l=t,h=p[m=0];else{if(m=Math.ceil((r+1)/Je),o=p.length,m>=o)return e;for(h=o=p[m],s=1;o>=10;o/=10)s++;r%=Je,l=r-Je+s}if(n!==void 0&&(o=Si(10,s-l-1),f=h/o%10|0,d=t<0||p[m+1]!==void 0||h%o,d=n<4?(f||d)&&(n==0||n==(e.s<0?3:2)):f>5||f==5&&(n==4||d||n==6&&(r>0?l>0?h/Si(10,s-l):0:p[m-1])%10&1||n==(e.s<0?8:7))),t<1||!p[0])return d?(o=St(e),p.length=1,t=t-o-1,p[0]=Si(10,(Je-t%Je)%Je),e.e=lo(-t/Je)||0):(p.length=1,p[0]=e.e=e.s=0),e;if(r==0?(p.length=m,o=1,m--):(p.length=m+1,o=Si(10,Je-r),p[m]=l>0?(h/Si(10,s-l)%Si(10,l)|0)*o:0),d)for(;;)if(m==0){(p[0]+=o)==Lt&&(p[0]=1,++e.e);break}else{if(p[m]+=o,p[m]!=Lt)break;p[m--]=0,o=1}for(r=p.length;p[--r]===0;)p.pop();if(nt&&(e.e>Hf||e.e<-Hf))throw Error(a0+St(e));return e}function FC(e,t){var n,r,l,o,s,f,d,h,m,p,x=e.constructor,w=x.precision;if(!e.s||!t.s)return t.s?t.s=-t.s:t=new x(e),nt?Ge(t,w):t;if(d=e.d,p=t.d,r=t.e,h=e.e,d=d.slice(),s=h-r,s){for(m=s<0,m?(n=d,s=-s,f=p.length):(n=p,r=h,f=d.length),l=Math.max(Math.ceil(w/Je),f)+2,s>l&&(s=l,n.length=1),n.reverse(),l=s;l--;)n.push(0);n.reverse()}else{for(l=d.length,f=p.length,m=l<f,m&&(f=l),l=0;l<f;l++)if(d[l]!=p[l]){m=d[l]<p[l];break}s=0}for(m&&(n=d,d=p,p=n,t.s=-t.s),f=d.length,l=p.length-f;l>0;--l)d[f++]=0;for(l=p.length;l>s;){if(d[--l]<p[l]){for(o=l;o&&d[--o]===0;)d[o]=Lt-1;--d[o],d[l]+=Lt}d[l]-=p[l]}for(;d[--f]===0;)d.pop();for(;d[0]===0;d.shift())--r;return d[0]?(t.d=d,t.e=r,nt?Ge(t,w):t):new x(0)}function zi(e,t,n){var r,l=St(e),o=br(e.d),s=o.length;return t?(n&&(r=n-s)>0?o=o.charAt(0)+"."+o.slice(1)+Ya(r):s>1&&(o=o.charAt(0)+"."+o.slice(1)),o=o+(l<0?"e":"e+")+l):l<0?(o="0."+Ya(-l-1)+o,n&&(r=n-s)>0&&(o+=Ya(r))):l>=s?(o+=Ya(l+1-s),n&&(r=n-l-1)>0&&(o=o+"."+Ya(r))):((r=l+1)<s&&(o=o.slice(0,r)+"."+o.slice(r)),n&&(r=n-s)>0&&(l+1===s&&(o+="."),o+=Ya(r))),e.s<0?"-"+o:o}function mA(e,t){if(e.length>t)return e.length=t,!0}function WC(e){var t,n,r;function l(o){var s=this;if(!(s instanceof l))return new l(o);if(s.constructor=l,o instanceof l){s.s=o.s,s.e=o.e,s.d=(o=o.d)?o.slice():o;return}if(typeof o=="number"){if(o*0!==0)throw Error(Di+o);if(o>0)s.s=1;else if(o<0)o=-o,s.s=-1;else{s.s=0,s.e=0,s.d=[0];return}if(o===~~o&&o<1e7){s.e=0,s.d=[o];return}return hA(s,o.toString())}else if(typeof o!="string")throw Error(Di+o);if(o.charCodeAt(0)===45?(o=o.slice(1),s.s=-1):s.s=1,i9.test(o))hA(s,o);else throw Error(Di+o)}if(l.prototype=ie,l.ROUND_UP=0,l.ROUND_DOWN=1,l.ROUND_CEIL=2,l.ROUND_FLOOR=3,l.ROUND_HALF_UP=4,l.ROUND_HALF_DOWN=5,l.ROUND_HALF_EVEN=6,l.ROUND_HALF_CEIL=7,l.ROUND_HALF_FLOOR=8,l.clone=WC,l.config=l.set=l9,e===void 0&&(e={}),e)for(r=["precision","rounding","toExpNeg","toExpPos","LN10"],t=0;t<r.length;)e.hasOwnProperty(n=r[t++])||(e[n]=this[n]);return l.config(e),l}function l9(e){if(!e||typeof e!="object")throw Error(Jn+"Object expected");var t,n,r,l=["precision",1,io,"rounding",0,8,"toExpNeg",-1/0,0,"toExpPos",0,1/0];for(t=0;t<l.length;t+=3)if((r=e[n=l[t]])!==void 0)if(lo(r)===r&&r>=l[t+1]&&r<=l[t+2])this[n]=r;else throw Error(Di+n+": "+r);if((r=e[n="LN10"])!==void 0)if(r==Math.LN10)this[n]=new this(r);else throw Error(Di+n+": "+r);return this}var i0=WC(a9);Mn=new i0(1);const qe=i0;var o9=e=>e,ZC={},QC=e=>e===ZC,vA=e=>function t(){return arguments.length===0||arguments.length===1&&QC(arguments.length<=0?void 0:arguments[0])?t:e(...arguments)},JC=(e,t)=>e===1?t:vA(function(){for(var n=arguments.length,r=new Array(n),l=0;l<n;l++)r[l]=arguments[l];var o=r.filter(s=>s!==ZC).length;return o>=e?t(...r):JC(e-o,vA(function(){for(var s=arguments.length,f=new Array(s),d=0;d<s;d++)f[d]=arguments[d];var h=r.map(m=>QC(m)?f.shift():m);return t(...h,...f)}))}),u9=e=>JC(e.length,e),Ly=(e,t)=>{for(var n=[],r=e;r<t;++r)n[r-e]=r;return n},s9=u9((e,t)=>Array.isArray(t)?t.map(e):Object.keys(t).map(n=>t[n]).map(e)),c9=function(){for(var t=arguments.length,n=new Array(t),r=0;r<t;r++)n[r]=arguments[r];if(!n.length)return o9;var l=n.reverse(),o=l[0],s=l.slice(1);return function(){return s.reduce((f,d)=>d(f),o(...arguments))}},By=e=>Array.isArray(e)?e.reverse():e.split("").reverse().join("");function e_(e){var t;return e===0?t=1:t=Math.floor(new qe(e).abs().log(10).toNumber())+1,t}function t_(e,t,n){for(var r=new qe(e),l=0,o=[];r.lt(t)&&l<1e5;)o.push(r.toNumber()),r=r.add(n),l++;return o}var n_=e=>{var[t,n]=e,[r,l]=[t,n];return t>n&&([r,l]=[n,t]),[r,l]},r_=(e,t,n)=>{if(e.lte(0))return new qe(0);var r=e_(e.toNumber()),l=new qe(10).pow(r),o=e.div(l),s=r!==1?.05:.1,f=new qe(Math.ceil(o.div(s).toNumber())).add(n).mul(s),d=f.mul(l);return t?new qe(d.toNumber()):new qe(Math.ceil(d.toNumber()))},f9=(e,t,n)=>{var r=new qe(1),l=new qe(e);if(!l.isint()&&n){var o=Math.abs(e);o<1?(r=new qe(10).pow(e_(e)-1),l=new qe(Math.floor(l.div(r).toNumber())).mul(r)):o>1&&(l=new qe(Math.floor(e)))}else e===0?l=new qe(Math.floor((t-1)/2)):n||(l=new qe(Math.floor(e)));var s=Math.floor((t-1)/2),f=c9(s9(d=>l.add(new qe(d-s).mul(r)).toNumber()),Ly);return f(0,t)},a_=function(t,n,r,l){var o=arguments.length>4&&arguments[4]!==void 0?arguments[4]:0;if(!Number.isFinite((n-t)/(r-1)))return{step:new qe(0),tickMin:new qe(0),tickMax:new qe(0)};var s=r_(new qe(n).sub(t).div(r-1),l,o),f;t<=0&&n>=0?f=new qe(0):(f=new qe(t).add(n).div(2),f=f.sub(new qe(f).mod(s)));var d=Math.ceil(f.sub(t).div(s).toNumber()),h=Math.ceil(new qe(n).sub(f).div(s).toNumber()),m=d+h+1;return m>r?a_(t,n,r,l,o+1):(m<r&&(h=n>0?h+(r-m):h,d=n>0?d:d+(r-m)),{step:s,tickMin:f.sub(new qe(d).mul(s)),tickMax:f.add(new qe(h).mul(s))})},d9=function(t){var[n,r]=t,l=arguments.length>1&&arguments[1]!==void 0?arguments[1]:6,o=arguments.length>2&&arguments[2]!==void 0?arguments[2]:!0,s=Math.max(l,2),[f,d]=n_([n,r]);if(f===-1/0||d===1/0){var h=d===1/0?[f,...Ly(0,l-1).map(()=>1/0)]:[...Ly(0,l-1).map(()=>-1/0),d];return n>r?By(h):h}if(f===d)return f9(f,l,o);var{step:m,tickMin:p,tickMax:x}=a_(f,d,s,o,0),w=t_(p,x.add(new qe(.1).mul(m)),m);return n>r?By(w):w},h9=function(t,n){var[r,l]=t,o=arguments.length>2&&arguments[2]!==void 0?arguments[2]:!0,[s,f]=n_([r,l]);if(s===-1/0||f===1/0)return[r,l];if(s===f)return[s];var d=Math.max(n,2),h=r_(new qe(f).sub(s).div(d-1),o,0),m=[...t_(new qe(s),new qe(f),h),f];return o===!1&&(m=m.map(p=>Math.round(p))),r>l?By(m):m},m9=e=>e.rootProps.barCategoryGap,Dd=e=>e.rootProps.stackOffset,i_=e=>e.rootProps.reverseStackOrder,l0=e=>e.options.chartName,o0=e=>e.rootProps.syncId,l_=e=>e.rootProps.syncMethod,u0=e=>e.options.eventEmitter,v9=e=>e.rootProps.baseValue,ln={grid:-100,barBackground:-50,area:100,cursorRectangle:200,bar:300,line:400,axis:500,scatter:600,activeBar:1e3,cursorLine:1100,activeDot:1200,label:2e3},Vr={allowDuplicatedCategory:!0,angleAxisId:0,reversed:!1,scale:"auto",tick:!0,type:"category"},Tn={allowDataOverflow:!1,allowDuplicatedCategory:!0,radiusAxisId:0,scale:"auto",tick:!0,tickCount:5,type:"number"},kd=(e,t)=>{if(!(!e||!t))return e!=null&&e.reversed?[t[1],t[0]]:t},p9={allowDataOverflow:!1,allowDecimals:!1,allowDuplicatedCategory:!1,dataKey:void 0,domain:void 0,id:Vr.angleAxisId,includeHidden:!1,name:void 0,reversed:Vr.reversed,scale:Vr.scale,tick:Vr.tick,tickCount:void 0,ticks:void 0,type:Vr.type,unit:void 0},y9={allowDataOverflow:Tn.allowDataOverflow,allowDecimals:!1,allowDuplicatedCategory:Tn.allowDuplicatedCategory,dataKey:void 0,domain:void 0,id:Tn.radiusAxisId,includeHidden:!1,name:void 0,reversed:!1,scale:Tn.scale,tick:Tn.tick,tickCount:Tn.tickCount,ticks:void 0,type:Tn.type,unit:void 0},g9={allowDataOverflow:!1,allowDecimals:!1,allowDuplicatedCategory:Vr.allowDuplicatedCategory,dataKey:void 0,domain:void 0,id:Vr.angleAxisId,includeHidden:!1,name:void 0,reversed:!1,scale:Vr.scale,tick:Vr.tick,tickCount:void 0,ticks:void 0,type:"number",unit:void 0},b9={allowDataOverflow:Tn.allowDataOverflow,allowDecimals:!1,allowDuplicatedCategory:Tn.allowDuplicatedCategory,dataKey:void 0,domain:void 0,id:Tn.radiusAxisId,includeHidden:!1,name:void 0,reversed:!1,scale:Tn.scale,tick:Tn.tick,tickCount:Tn.tickCount,ticks:void 0,type:"category",unit:void 0},s0=(e,t)=>e.polarAxis.angleAxis[t]!=null?e.polarAxis.angleAxis[t]:e.layout.layoutType==="radial"?g9:p9,c0=(e,t)=>e.polarAxis.radiusAxis[t]!=null?e.polarAxis.radiusAxis[t]:e.layout.layoutType==="radial"?b9:y9,Pd=e=>e.polarOptions,f0=Y([ca,fa,Qt],dB),o_=Y([Pd,f0],(e,t)=>{if(e!=null)return Wa(e.innerRadius,t,0)}),u_=Y([Pd,f0],(e,t)=>{if(e!=null)return Wa(e.outerRadius,t,t*.8)}),x9=e=>{if(e==null)return[0,0];var{startAngle:t,endAngle:n}=e;return[t,n]},s_=Y([Pd],x9);Y([s0,s_],kd);var c_=Y([f0,o_,u_],(e,t,n)=>{if(!(e==null||t==null||n==null))return[t,n]});Y([c0,c_],kd);var f_=Y([We,Pd,o_,u_,ca,fa],(e,t,n,r,l,o)=>{if(!(e!=="centric"&&e!=="radial"||t==null||n==null||r==null)){var{cx:s,cy:f,startAngle:d,endAngle:h}=t;return{cx:Wa(s,l,l/2),cy:Wa(f,o,o/2),innerRadius:n,outerRadius:r,startAngle:d,endAngle:h,clockWise:!1}}}),Tt=(e,t)=>t,Rd=(e,t,n)=>n;function d0(e){return e?.id}function d_(e,t,n){var{chartData:r=[]}=t,{allowDuplicatedCategory:l,dataKey:o}=n,s=new Map;return e.forEach(f=>{var d,h=(d=f.data)!==null&&d!==void 0?d:r;if(!(h==null||h.length===0)){var m=d0(f);h.forEach((p,x)=>{var w=o==null||l?x:String(nn(p,o,null)),O=nn(p,f.dataKey,0),A;s.has(w)?A=s.get(w):A={},Object.assign(A,{[m]:O}),s.set(w,A)})}}),Array.from(s.values())}function h0(e){return e.stackId!=null&&e.dataKey!=null}var zd=(e,t)=>e===t?!0:e==null||t==null?!1:e[0]===t[0]&&e[1]===t[1];function Ld(e,t){return Array.isArray(e)&&Array.isArray(t)&&e.length===0&&t.length===0?!0:e===t}function w9(e,t){if(e.length===t.length){for(var n=0;n<e.length;n++)if(e[n]!==t[n])return!1;return!0}return!1}var Mt=e=>{var t=We(e);return t==="horizontal"?"xAxis":t==="vertical"?"yAxis":t==="centric"?"angleAxis":"radiusAxis"},oo=e=>e.tooltip.settings.axisId;function pA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function $f(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?pA(Object(n),!0).forEach(function(r){S9(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):pA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function S9(e,t,n){return(t=E9(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function E9(e){var t=O9(e,"string");return typeof t=="symbol"?t:t+""}function O9(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Uy=[0,"auto"],Rt={allowDataOverflow:!1,allowDecimals:!0,allowDuplicatedCategory:!0,angle:0,dataKey:void 0,domain:void 0,height:30,hide:!0,id:0,includeHidden:!1,interval:"preserveEnd",minTickGap:5,mirror:!1,name:void 0,orientation:"bottom",padding:{left:0,right:0},reversed:!1,scale:"auto",tick:!0,tickCount:5,tickFormatter:void 0,ticks:void 0,type:"category",unit:void 0},h_=(e,t)=>e.cartesianAxis.xAxis[t],ha=(e,t)=>{var n=h_(e,t);return n??Rt},zt={allowDataOverflow:!1,allowDecimals:!0,allowDuplicatedCategory:!0,angle:0,dataKey:void 0,domain:Uy,hide:!0,id:0,includeHidden:!1,interval:"preserveEnd",minTickGap:5,mirror:!1,name:void 0,orientation:"left",padding:{top:0,bottom:0},reversed:!1,scale:"auto",tick:!0,tickCount:5,tickFormatter:void 0,ticks:void 0,type:"number",unit:void 0,width:Vu},m_=(e,t)=>e.cartesianAxis.yAxis[t],ma=(e,t)=>{var n=m_(e,t);return n??zt},A9={domain:[0,"auto"],includeHidden:!1,reversed:!1,allowDataOverflow:!1,allowDuplicatedCategory:!1,dataKey:void 0,id:0,name:"",range:[64,64],scale:"auto",type:"number",unit:""},m0=(e,t)=>{var n=e.cartesianAxis.zAxis[t];return n??A9},un=(e,t,n)=>{switch(t){case"xAxis":return ha(e,n);case"yAxis":return ma(e,n);case"zAxis":return m0(e,n);case"angleAxis":return s0(e,n);case"radiusAxis":return c0(e,n);default:throw new Error("Unexpected axis type: ".concat(t))}},j9=(e,t,n)=>{switch(t){case"xAxis":return ha(e,n);case"yAxis":return ma(e,n);default:throw new Error("Unexpected axis type: ".concat(t))}},es=(e,t,n)=>{switch(t){case"xAxis":return ha(e,n);case"yAxis":return ma(e,n);case"angleAxis":return s0(e,n);case"radiusAxis":return c0(e,n);default:throw new Error("Unexpected axis type: ".concat(t))}},v_=e=>e.graphicalItems.cartesianItems.some(t=>t.type==="bar")||e.graphicalItems.polarItems.some(t=>t.type==="radialBar");function p_(e,t){return n=>{switch(e){case"xAxis":return"xAxisId"in n&&n.xAxisId===t;case"yAxis":return"yAxisId"in n&&n.yAxisId===t;case"zAxis":return"zAxisId"in n&&n.zAxisId===t;case"angleAxis":return"angleAxisId"in n&&n.angleAxisId===t;case"radiusAxis":return"radiusAxisId"in n&&n.radiusAxisId===t;default:return!1}}}var y_=e=>e.graphicalItems.cartesianItems,N9=Y([Tt,Rd],p_),g_=(e,t,n)=>e.filter(n).filter(r=>t?.includeHidden===!0?!0:!r.hide),ts=Y([y_,un,N9],g_,{memoizeOptions:{resultEqualityCheck:Ld}}),b_=Y([ts],e=>e.filter(t=>t.type==="area"||t.type==="bar").filter(h0)),x_=e=>e.filter(t=>!("stackId"in t)||t.stackId===void 0),C9=Y([ts],x_),w_=e=>e.map(t=>t.data).filter(Boolean).flat(1),_9=Y([ts],w_,{memoizeOptions:{resultEqualityCheck:Ld}}),S_=(e,t)=>{var{chartData:n=[],dataStartIndex:r,dataEndIndex:l}=t;return e.length>0?e:n.slice(r,l+1)},v0=Y([_9,r0],S_),E_=(e,t,n)=>t?.dataKey!=null?e.map(r=>({value:nn(r,t.dataKey)})):n.length>0?n.map(r=>r.dataKey).flatMap(r=>e.map(l=>({value:nn(l,r)}))):e.map(r=>({value:r})),Bd=Y([v0,un,ts],E_);function O_(e,t){switch(e){case"xAxis":return t.direction==="x";case"yAxis":return t.direction==="y";default:return!1}}function rf(e){if(Sr(e)||e instanceof Date){var t=Number(e);if(st(t))return t}}function yA(e){if(Array.isArray(e)){var t=[rf(e[0]),rf(e[1])];return Za(t)?t:void 0}var n=rf(e);if(n!=null)return[n,n]}function la(e){return e.map(rf).filter(V4)}function T9(e,t,n){return!n||typeof t!="number"||cr(t)?[]:n.length?la(n.flatMap(r=>{var l=nn(e,r.dataKey),o,s;if(Array.isArray(l)?[o,s]=l:o=s=l,!(!st(o)||!st(s)))return[t-o,t+s]})):[]}var Dt=e=>{var t=Mt(e),n=oo(e);return es(e,t,n)},ns=Y([Dt],e=>e?.dataKey),M9=Y([b_,r0,Dt],d_),A_=(e,t,n,r)=>{var l={},o=t.reduce((s,f)=>(f.stackId==null||(s[f.stackId]==null&&(s[f.stackId]=[]),s[f.stackId].push(f)),s),l);return Object.fromEntries(Object.entries(o).map(s=>{var[f,d]=s,h=r?[...d].reverse():d,m=h.map(d0);return[f,{stackedData:n6(e,m,n),graphicalItems:h}]}))},Iy=Y([M9,b_,Dd,i_],A_),j_=(e,t,n,r)=>{var{dataStartIndex:l,dataEndIndex:o}=t;if(r==null&&n!=="zAxis"){var s=l6(e,l,o);if(!(s!=null&&s[0]===0&&s[1]===0))return s}},D9=Y([un],e=>e.allowDataOverflow),p0=e=>{var t;if(e==null||!("domain"in e))return Uy;if(e.domain!=null)return e.domain;if(e.ticks!=null){if(e.type==="number"){var n=la(e.ticks);return[Math.min(...n),Math.max(...n)]}if(e.type==="category")return e.ticks.map(String)}return(t=e?.domain)!==null&&t!==void 0?t:Uy},N_=Y([un],p0),C_=Y([N_,D9],KC),k9=Y([Iy,ei,Tt,C_],j_,{memoizeOptions:{resultEqualityCheck:zd}}),y0=e=>e.errorBars,P9=(e,t,n)=>e.flatMap(r=>t[r.id]).filter(Boolean).filter(r=>O_(n,r)),Yf=function(){for(var t=arguments.length,n=new Array(t),r=0;r<t;r++)n[r]=arguments[r];var l=n.filter(Boolean);if(l.length!==0){var o=l.flat(),s=Math.min(...o),f=Math.max(...o);return[s,f]}},__=(e,t,n,r,l)=>{var o,s;if(n.length>0&&e.forEach(f=>{n.forEach(d=>{var h,m,p=(h=r[d.id])===null||h===void 0?void 0:h.filter(j=>O_(l,j)),x=nn(f,(m=t.dataKey)!==null&&m!==void 0?m:d.dataKey),w=T9(f,x,p);if(w.length>=2){var O=Math.min(...w),A=Math.max(...w);(o==null||O<o)&&(o=O),(s==null||A>s)&&(s=A)}var S=yA(x);S!=null&&(o=o==null?S[0]:Math.min(o,S[0]),s=s==null?S[1]:Math.max(s,S[1]))})}),t?.dataKey!=null&&e.forEach(f=>{var d=yA(nn(f,t.dataKey));d!=null&&(o=o==null?d[0]:Math.min(o,d[0]),s=s==null?d[1]:Math.max(s,d[1]))}),st(o)&&st(s))return[o,s]},R9=Y([v0,un,C9,y0,Tt],__,{memoizeOptions:{resultEqualityCheck:zd}});function z9(e){var{value:t}=e;if(Sr(t)||t instanceof Date)return t}var L9=(e,t,n)=>{var r=e.map(z9).filter(l=>l!=null);return n&&(t.dataKey==null||t.allowDuplicatedCategory&&Yj(r))?cC(0,e.length):t.allowDuplicatedCategory?r:Array.from(new Set(r))},T_=e=>e.referenceElements.dots,uo=(e,t,n)=>e.filter(r=>r.ifOverflow==="extendDomain").filter(r=>t==="xAxis"?r.xAxisId===n:r.yAxisId===n),B9=Y([T_,Tt,Rd],uo),M_=e=>e.referenceElements.areas,U9=Y([M_,Tt,Rd],uo),D_=e=>e.referenceElements.lines,I9=Y([D_,Tt,Rd],uo),k_=(e,t)=>{var n=la(e.map(r=>t==="xAxis"?r.x:r.y));if(n.length!==0)return[Math.min(...n),Math.max(...n)]},q9=Y(B9,Tt,k_),P_=(e,t)=>{var n=la(e.flatMap(r=>[t==="xAxis"?r.x1:r.y1,t==="xAxis"?r.x2:r.y2]));if(n.length!==0)return[Math.min(...n),Math.max(...n)]},H9=Y([U9,Tt],P_);function $9(e){var t;if(e.x!=null)return la([e.x]);var n=(t=e.segment)===null||t===void 0?void 0:t.map(r=>r.x);return n==null||n.length===0?[]:la(n)}function Y9(e){var t;if(e.y!=null)return la([e.y]);var n=(t=e.segment)===null||t===void 0?void 0:t.map(r=>r.y);return n==null||n.length===0?[]:la(n)}var R_=(e,t)=>{var n=e.flatMap(r=>t==="xAxis"?$9(r):Y9(r));if(n.length!==0)return[Math.min(...n),Math.max(...n)]},K9=Y([I9,Tt],R_),G9=Y(q9,K9,H9,(e,t,n)=>Yf(e,n,t)),z_=(e,t,n,r,l,o,s,f)=>{if(n!=null)return n;var d=s==="vertical"&&f==="xAxis"||s==="horizontal"&&f==="yAxis",h=d?Yf(r,o,l):Yf(o,l);return r9(t,h,e.allowDataOverflow)},V9=Y([un,N_,C_,k9,R9,G9,We,Tt],z_,{memoizeOptions:{resultEqualityCheck:zd}}),X9=[0,1],L_=(e,t,n,r,l,o,s)=>{if(!((e==null||n==null||n.length===0)&&s===void 0)){var{dataKey:f,type:d}=e,h=sa(t,o);if(h&&f==null){var m;return cC(0,(m=n?.length)!==null&&m!==void 0?m:0)}return d==="category"?L9(r,e,h):l==="expand"?X9:s}},g0=Y([un,We,v0,Bd,Dd,Tt,V9],L_),B_=(e,t,n,r,l)=>{if(e!=null){var{scale:o,type:s}=e;if(o==="auto")return t==="radial"&&l==="radiusAxis"?"band":t==="radial"&&l==="angleAxis"?"linear":s==="category"&&r&&(r.indexOf("LineChart")>=0||r.indexOf("AreaChart")>=0||r.indexOf("ComposedChart")>=0&&!n)?"point":s==="category"?"band":"linear";if(typeof o=="string"){var f="scale".concat(bg(o));return f in bu?f:"point"}}},rs=Y([un,We,v_,l0,Tt],B_);function F9(e){if(e!=null){if(e in bu)return bu[e]();var t="scale".concat(bg(e));if(t in bu)return bu[t]()}}function b0(e,t,n,r){if(!(n==null||r==null)){if(typeof e.scale=="function")return e.scale.copy().domain(n).range(r);var l=F9(t);if(l!=null){var o=l.domain(n).range(r);return QL(o),o}}}var U_=(e,t,n)=>{var r=p0(t);if(!(n!=="auto"&&n!=="linear")){if(t!=null&&t.tickCount&&Array.isArray(r)&&(r[0]==="auto"||r[1]==="auto")&&Za(e))return d9(e,t.tickCount,t.allowDecimals);if(t!=null&&t.tickCount&&t.type==="number"&&Za(e))return h9(e,t.tickCount,t.allowDecimals)}},x0=Y([g0,es,rs],U_),I_=(e,t,n,r)=>{if(r!=="angleAxis"&&e?.type==="number"&&Za(t)&&Array.isArray(n)&&n.length>0){var l=t[0],o=n[0],s=t[1],f=n[n.length-1];return[Math.min(l,o),Math.max(s,f)]}return t},W9=Y([un,g0,x0,Tt],I_),Z9=Y(Bd,un,(e,t)=>{if(!(!t||t.type!=="number")){var n=1/0,r=Array.from(la(e.map(f=>f.value))).sort((f,d)=>f-d);if(r.length<2)return 1/0;var l=r[r.length-1]-r[0];if(l===0)return 1/0;for(var o=0;o<r.length-1;o++){var s=r[o+1]-r[o];n=Math.min(n,s)}return n/l}}),q_=Y(Z9,We,m9,Qt,(e,t,n,r)=>r,(e,t,n,r,l)=>{if(!st(e))return 0;var o=t==="vertical"?r.height:r.width;if(l==="gap")return e*o/2;if(l==="no-gap"){var s=Wa(n,e*o),f=e*o/2;return f-s-(f-s)/o*s}return 0}),Q9=(e,t)=>{var n=ha(e,t);return n==null||typeof n.padding!="string"?0:q_(e,"xAxis",t,n.padding)},J9=(e,t)=>{var n=ma(e,t);return n==null||typeof n.padding!="string"?0:q_(e,"yAxis",t,n.padding)},e7=Y(ha,Q9,(e,t)=>{var n,r;if(e==null)return{left:0,right:0};var{padding:l}=e;return typeof l=="string"?{left:t,right:t}:{left:((n=l.left)!==null&&n!==void 0?n:0)+t,right:((r=l.right)!==null&&r!==void 0?r:0)+t}}),t7=Y(ma,J9,(e,t)=>{var n,r;if(e==null)return{top:0,bottom:0};var{padding:l}=e;return typeof l=="string"?{top:t,bottom:t}:{top:((n=l.top)!==null&&n!==void 0?n:0)+t,bottom:((r=l.bottom)!==null&&r!==void 0?r:0)+t}}),n7=Y([Qt,e7,xd,bd,(e,t,n)=>n],(e,t,n,r,l)=>{var{padding:o}=r;return l?[o.left,n.width-o.right]:[e.left+t.left,e.left+e.width-t.right]}),r7=Y([Qt,We,t7,xd,bd,(e,t,n)=>n],(e,t,n,r,l,o)=>{var{padding:s}=l;return o?[r.height-s.bottom,s.top]:t==="horizontal"?[e.top+e.height-n.bottom,e.top+n.top]:[e.top+n.top,e.top+e.height-n.bottom]}),as=(e,t,n,r)=>{var l;switch(t){case"xAxis":return n7(e,n,r);case"yAxis":return r7(e,n,r);case"zAxis":return(l=m0(e,n))===null||l===void 0?void 0:l.range;case"angleAxis":return s_(e);case"radiusAxis":return c_(e,n);default:return}},H_=Y([un,as],kd),so=Y([un,rs,W9,H_],b0);Y([ts,y0,Tt],P9);function $_(e,t){return e.id<t.id?-1:e.id>t.id?1:0}var Ud=(e,t)=>t,Id=(e,t,n)=>n,a7=Y(yd,Ud,Id,(e,t,n)=>e.filter(r=>r.orientation===t).filter(r=>r.mirror===n).sort($_)),i7=Y(gd,Ud,Id,(e,t,n)=>e.filter(r=>r.orientation===t).filter(r=>r.mirror===n).sort($_)),Y_=(e,t)=>({width:e.width,height:t.height}),l7=(e,t)=>{var n=typeof t.width=="number"?t.width:Vu;return{width:n,height:e.height}},o7=Y(Qt,ha,Y_),u7=(e,t,n)=>{switch(t){case"top":return e.top;case"bottom":return n-e.bottom;default:return 0}},s7=(e,t,n)=>{switch(t){case"left":return e.left;case"right":return n-e.right;default:return 0}},c7=Y(fa,Qt,a7,Ud,Id,(e,t,n,r,l)=>{var o={},s;return n.forEach(f=>{var d=Y_(t,f);s==null&&(s=u7(t,r,e));var h=r==="top"&&!l||r==="bottom"&&l;o[f.id]=s-Number(h)*d.height,s+=(h?-1:1)*d.height}),o}),f7=Y(ca,Qt,i7,Ud,Id,(e,t,n,r,l)=>{var o={},s;return n.forEach(f=>{var d=l7(t,f);s==null&&(s=s7(t,r,e));var h=r==="left"&&!l||r==="right"&&l;o[f.id]=s-Number(h)*d.width,s+=(h?-1:1)*d.width}),o}),d7=(e,t)=>{var n=ha(e,t);if(n!=null)return c7(e,n.orientation,n.mirror)},h7=Y([Qt,ha,d7,(e,t)=>t],(e,t,n,r)=>{if(t!=null){var l=n?.[r];return l==null?{x:e.left,y:0}:{x:e.left,y:l}}}),m7=(e,t)=>{var n=ma(e,t);if(n!=null)return f7(e,n.orientation,n.mirror)},v7=Y([Qt,ma,m7,(e,t)=>t],(e,t,n,r)=>{if(t!=null){var l=n?.[r];return l==null?{x:0,y:e.top}:{x:l,y:e.top}}}),p7=Y(Qt,ma,(e,t)=>{var n=typeof t.width=="number"?t.width:Vu;return{width:n,height:e.height}}),K_=(e,t,n,r)=>{if(n!=null){var{allowDuplicatedCategory:l,type:o,dataKey:s}=n,f=sa(e,r),d=t.map(h=>h.value);if(s&&f&&o==="category"&&l&&Yj(d))return d}},w0=Y([We,Bd,un,Tt],K_),G_=(e,t,n,r)=>{if(!(n==null||n.dataKey==null)){var{type:l,scale:o}=n,s=sa(e,r);if(s&&(l==="number"||o!=="auto"))return t.map(f=>f.value)}},S0=Y([We,Bd,es,Tt],G_),gA=Y([We,j9,rs,so,w0,S0,as,x0,Tt],(e,t,n,r,l,o,s,f,d)=>{if(t!=null){var h=sa(e,d);return{angle:t.angle,interval:t.interval,minTickGap:t.minTickGap,orientation:t.orientation,tick:t.tick,tickCount:t.tickCount,tickFormatter:t.tickFormatter,ticks:t.ticks,type:t.type,unit:t.unit,axisType:d,categoricalDomain:o,duplicateDomain:l,isCategorical:h,niceTicks:f,range:s,realScaleType:n,scale:r}}}),y7=(e,t,n,r,l,o,s,f,d)=>{if(!(t==null||r==null)){var h=sa(e,d),{type:m,ticks:p,tickCount:x}=t,w=n==="scaleBand"&&typeof r.bandwidth=="function"?r.bandwidth()/2:2,O=m==="category"&&r.bandwidth?r.bandwidth()/w:0;O=d==="angleAxis"&&o!=null&&o.length>=2?Xn(o[0]-o[1])*2*O:O;var A=p||l;if(A){var S=A.map((j,_)=>{var C=s?s.indexOf(j):j;return{index:_,coordinate:r(C)+O,value:j,offset:O}});return S.filter(j=>st(j.coordinate))}return h&&f?f.map((j,_)=>({coordinate:r(j)+O,value:j,index:_,offset:O})).filter(j=>st(j.coordinate)):r.ticks?r.ticks(x).map(j=>({coordinate:r(j)+O,value:j,offset:O})):r.domain().map((j,_)=>({coordinate:r(j)+O,value:s?s[j]:j,index:_,offset:O}))}},V_=Y([We,es,rs,so,x0,as,w0,S0,Tt],y7),g7=(e,t,n,r,l,o,s)=>{if(!(t==null||n==null||r==null||r[0]===r[1])){var f=sa(e,s),{tickCount:d}=t,h=0;return h=s==="angleAxis"&&r?.length>=2?Xn(r[0]-r[1])*2*h:h,f&&o?o.map((m,p)=>({coordinate:n(m)+h,value:m,index:p,offset:h})):n.ticks?n.ticks(d).map(m=>({coordinate:n(m)+h,value:m,offset:h})):n.domain().map((m,p)=>({coordinate:n(m)+h,value:l?l[m]:m,index:p,offset:h}))}},X_=Y([We,es,so,as,w0,S0,Tt],g7),F_=Y(un,so,(e,t)=>{if(!(e==null||t==null))return $f($f({},e),{},{scale:t})}),b7=Y([un,rs,g0,H_],b0);Y((e,t,n)=>m0(e,n),b7,(e,t)=>{if(!(e==null||t==null))return $f($f({},e),{},{scale:t})});var x7=Y([We,yd,gd],(e,t,n)=>{switch(e){case"horizontal":return t.some(r=>r.reversed)?"right-to-left":"left-to-right";case"vertical":return n.some(r=>r.reversed)?"bottom-to-top":"top-to-bottom";case"centric":case"radial":return"left-to-right";default:return}}),W_=e=>e.options.defaultTooltipEventType,Z_=e=>e.options.validateTooltipEventTypes;function Q_(e,t,n){if(e==null)return t;var r=e?"axis":"item";return n==null?t:n.includes(r)?r:t}function E0(e,t){var n=W_(e),r=Z_(e);return Q_(t,n,r)}function w7(e){return ve(t=>E0(t,e))}var J_=(e,t)=>{var n,r=Number(t);if(!(cr(r)||t==null))return r>=0?e==null||(n=e[r])===null||n===void 0?void 0:n.value:void 0},S7=e=>e.tooltip.settings,Ga={active:!1,index:null,dataKey:void 0,graphicalItemId:void 0,coordinate:void 0},E7={itemInteraction:{click:Ga,hover:Ga},axisInteraction:{click:Ga,hover:Ga},keyboardInteraction:Ga,syncInteraction:{active:!1,index:null,dataKey:void 0,label:void 0,coordinate:void 0,sourceViewBox:void 0,graphicalItemId:void 0},tooltipItemPayloads:[],settings:{shared:void 0,trigger:"hover",axisId:0,active:!1,defaultIndex:void 0}},eT=gn({name:"tooltip",initialState:E7,reducers:{addTooltipEntrySettings:{reducer(e,t){e.tooltipItemPayloads.push(t.payload)},prepare:tt()},replaceTooltipEntrySettings:{reducer(e,t){var{prev:n,next:r}=t.payload,l=ur(e).tooltipItemPayloads.indexOf(n);l>-1&&(e.tooltipItemPayloads[l]=r)},prepare:tt()},removeTooltipEntrySettings:{reducer(e,t){var n=ur(e).tooltipItemPayloads.indexOf(t.payload);n>-1&&e.tooltipItemPayloads.splice(n,1)},prepare:tt()},setTooltipSettingsState(e,t){e.settings=t.payload},setActiveMouseOverItemIndex(e,t){e.syncInteraction.active=!1,e.keyboardInteraction.active=!1,e.itemInteraction.hover.active=!0,e.itemInteraction.hover.index=t.payload.activeIndex,e.itemInteraction.hover.dataKey=t.payload.activeDataKey,e.itemInteraction.hover.graphicalItemId=t.payload.activeGraphicalItemId,e.itemInteraction.hover.coordinate=t.payload.activeCoordinate},mouseLeaveChart(e){e.itemInteraction.hover.active=!1,e.axisInteraction.hover.active=!1},mouseLeaveItem(e){e.itemInteraction.hover.active=!1},setActiveClickItemIndex(e,t){e.syncInteraction.active=!1,e.itemInteraction.click.active=!0,e.keyboardInteraction.active=!1,e.itemInteraction.click.index=t.payload.activeIndex,e.itemInteraction.click.dataKey=t.payload.activeDataKey,e.itemInteraction.click.graphicalItemId=t.payload.activeGraphicalItemId,e.itemInteraction.click.coordinate=t.payload.activeCoordinate},setMouseOverAxisIndex(e,t){e.syncInteraction.active=!1,e.axisInteraction.hover.active=!0,e.keyboardInteraction.active=!1,e.axisInteraction.hover.index=t.payload.activeIndex,e.axisInteraction.hover.dataKey=t.payload.activeDataKey,e.axisInteraction.hover.coordinate=t.payload.activeCoordinate},setMouseClickAxisIndex(e,t){e.syncInteraction.active=!1,e.keyboardInteraction.active=!1,e.axisInteraction.click.active=!0,e.axisInteraction.click.index=t.payload.activeIndex,e.axisInteraction.click.dataKey=t.payload.activeDataKey,e.axisInteraction.click.coordinate=t.payload.activeCoordinate},setSyncInteraction(e,t){e.syncInteraction=t.payload},setKeyboardInteraction(e,t){e.keyboardInteraction.active=t.payload.active,e.keyboardInteraction.index=t.payload.activeIndex,e.keyboardInteraction.coordinate=t.payload.activeCoordinate,e.keyboardInteraction.dataKey=t.payload.activeDataKey}}}),{addTooltipEntrySettings:O7,replaceTooltipEntrySettings:A7,removeTooltipEntrySettings:j7,setTooltipSettingsState:N7,setActiveMouseOverItemIndex:C7,mouseLeaveItem:zF,mouseLeaveChart:tT,setActiveClickItemIndex:LF,setMouseOverAxisIndex:nT,setMouseClickAxisIndex:_7,setSyncInteraction:qy,setKeyboardInteraction:Hy}=eT.actions,T7=eT.reducer;function bA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function $c(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?bA(Object(n),!0).forEach(function(r){M7(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):bA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function M7(e,t,n){return(t=D7(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function D7(e){var t=k7(e,"string");return typeof t=="symbol"?t:t+""}function k7(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function P7(e,t,n){return t==="axis"?n==="click"?e.axisInteraction.click:e.axisInteraction.hover:n==="click"?e.itemInteraction.click:e.itemInteraction.hover}function R7(e){return e.index!=null}var rT=(e,t,n,r)=>{if(t==null)return Ga;var l=P7(e,t,n);if(l==null)return Ga;if(l.active)return l;if(e.keyboardInteraction.active)return e.keyboardInteraction;if(e.syncInteraction.active&&e.syncInteraction.index!=null)return e.syncInteraction;var o=e.settings.active===!0;if(R7(l)){if(o)return $c($c({},l),{},{active:!0})}else if(r!=null)return{active:!0,coordinate:void 0,dataKey:void 0,index:r,graphicalItemId:void 0};return $c($c({},Ga),{},{coordinate:l.coordinate})};function z7(e){if(typeof e=="number")return Number.isFinite(e)?e:void 0;if(e instanceof Date){var t=e.valueOf();return Number.isFinite(t)?t:void 0}var n=Number(e);return Number.isFinite(n)?n:void 0}function L7(e,t){var n=z7(e),r=t[0],l=t[1];if(n===void 0)return!1;var o=Math.min(r,l),s=Math.max(r,l);return n>=o&&n<=s}function B7(e,t,n){if(n==null||t==null)return!0;var r=nn(e,t);return r==null||!Za(n)?!0:L7(r,n)}var O0=(e,t,n,r)=>{var l=e?.index;if(l==null)return null;var o=Number(l);if(!st(o))return l;var s=0,f=1/0;t.length>0&&(f=t.length-1);var d=Math.max(s,Math.min(o,f)),h=t[d];return h==null||B7(h,n,r)?String(d):null},aT=(e,t,n,r,l,o,s,f)=>{if(!(o==null||f==null)){var d=s[0],h=d==null?void 0:f(d.positions,o);if(h!=null)return h;var m=l?.[Number(o)];if(m)switch(n){case"horizontal":return{x:m.coordinate,y:(r.top+t)/2};default:return{x:(r.left+e)/2,y:m.coordinate}}}},iT=(e,t,n,r)=>{if(t==="axis")return e.tooltipItemPayloads;if(e.tooltipItemPayloads.length===0)return[];var l;return n==="hover"?l=e.itemInteraction.hover.dataKey:l=e.itemInteraction.click.dataKey,l==null&&r!=null?[e.tooltipItemPayloads[0]]:e.tooltipItemPayloads.filter(o=>{var s;return((s=o.settings)===null||s===void 0?void 0:s.dataKey)===l})},is=e=>e.options.tooltipPayloadSearcher,co=e=>e.tooltip;function xA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function wA(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?xA(Object(n),!0).forEach(function(r){U7(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):xA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function U7(e,t,n){return(t=I7(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function I7(e){var t=q7(e,"string");return typeof t=="symbol"?t:t+""}function q7(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function H7(e,t){return e??t}var lT=(e,t,n,r,l,o,s)=>{if(!(t==null||o==null)){var{chartData:f,computedData:d,dataStartIndex:h,dataEndIndex:m}=n,p=[];return e.reduce((x,w)=>{var O,{dataDefinedOnItem:A,settings:S}=w,j=H7(A,f),_=Array.isArray(j)?RN(j,h,m):j,C=(O=S?.dataKey)!==null&&O!==void 0?O:r,D=S?.nameKey,T;if(r&&Array.isArray(_)&&!Array.isArray(_[0])&&s==="axis"?T=Kj(_,r,l):T=o(_,t,d,D),Array.isArray(T))T.forEach(k=>{var I=wA(wA({},S),{},{name:k.name,unit:k.unit,color:void 0,fill:void 0});x.push(YE({tooltipEntrySettings:I,dataKey:k.dataKey,payload:k.payload,value:nn(k.payload,k.dataKey),name:k.name}))});else{var R;x.push(YE({tooltipEntrySettings:S,dataKey:C,payload:T,value:nn(T,C),name:(R=nn(T,D))!==null&&R!==void 0?R:S?.name}))}return x},p)}},A0=Y([Dt,We,v_,l0,Mt],B_),$7=Y([e=>e.graphicalItems.cartesianItems,e=>e.graphicalItems.polarItems],(e,t)=>[...e,...t]),Y7=Y([Mt,oo],p_),ls=Y([$7,Dt,Y7],g_,{memoizeOptions:{resultEqualityCheck:Ld}}),K7=Y([ls],e=>e.filter(h0)),G7=Y([ls],w_,{memoizeOptions:{resultEqualityCheck:Ld}}),fo=Y([G7,ei],S_),V7=Y([K7,ei,Dt],d_),j0=Y([fo,Dt,ls],E_),oT=Y([Dt],p0),X7=Y([Dt],e=>e.allowDataOverflow),uT=Y([oT,X7],KC),F7=Y([ls],e=>e.filter(h0)),W7=Y([V7,F7,Dd,i_],A_),Z7=Y([W7,ei,Mt,uT],j_),Q7=Y([ls],x_),J7=Y([fo,Dt,Q7,y0,Mt],__,{memoizeOptions:{resultEqualityCheck:zd}}),eq=Y([T_,Mt,oo],uo),tq=Y([eq,Mt],k_),nq=Y([M_,Mt,oo],uo),rq=Y([nq,Mt],P_),aq=Y([D_,Mt,oo],uo),iq=Y([aq,Mt],R_),lq=Y([tq,iq,rq],Yf),oq=Y([Dt,oT,uT,Z7,J7,lq,We,Mt],z_),os=Y([Dt,We,fo,j0,Dd,Mt,oq],L_),uq=Y([os,Dt,A0],U_),sq=Y([Dt,os,uq,Mt],I_),sT=e=>{var t=Mt(e),n=oo(e),r=!1;return as(e,t,n,r)},cT=Y([Dt,sT],kd),fT=Y([Dt,A0,sq,cT],b0),cq=Y([We,j0,Dt,Mt],K_),fq=Y([We,j0,Dt,Mt],G_),dq=(e,t,n,r,l,o,s,f)=>{if(t){var{type:d}=t,h=sa(e,f);if(r){var m=n==="scaleBand"&&r.bandwidth?r.bandwidth()/2:2,p=d==="category"&&r.bandwidth?r.bandwidth()/m:0;return p=f==="angleAxis"&&l!=null&&l?.length>=2?Xn(l[0]-l[1])*2*p:p,h&&s?s.map((x,w)=>({coordinate:r(x)+p,value:x,index:w,offset:p})):r.domain().map((x,w)=>({coordinate:r(x)+p,value:o?o[x]:x,index:w,offset:p}))}}},va=Y([We,Dt,A0,fT,sT,cq,fq,Mt],dq),N0=Y([W_,Z_,S7],(e,t,n)=>Q_(n.shared,e,t)),dT=e=>e.tooltip.settings.trigger,C0=e=>e.tooltip.settings.defaultIndex,us=Y([co,N0,dT,C0],rT),zu=Y([us,fo,ns,os],O0),hT=Y([va,zu],J_),hq=Y([us],e=>{if(e)return e.dataKey});Y([us],e=>{if(e)return e.graphicalItemId});var mT=Y([co,N0,dT,C0],iT),mq=Y([ca,fa,We,Qt,va,C0,mT,is],aT),vq=Y([us,mq],(e,t)=>e!=null&&e.coordinate?e.coordinate:t),pq=Y([us],e=>e.active),yq=Y([mT,zu,ei,ns,hT,is,N0],lT),gq=Y([yq],e=>{if(e!=null){var t=e.map(n=>n.payload).filter(n=>n!=null);return Array.from(new Set(t))}});function SA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function EA(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?SA(Object(n),!0).forEach(function(r){bq(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):SA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function bq(e,t,n){return(t=xq(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function xq(e){var t=wq(e,"string");return typeof t=="symbol"?t:t+""}function wq(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Sq=()=>ve(Dt),Eq=()=>{var e=Sq(),t=ve(va),n=ve(fT);return Ef(!e||!n?void 0:EA(EA({},e),{},{scale:n}),t)};function OA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Tl(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?OA(Object(n),!0).forEach(function(r){Oq(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):OA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Oq(e,t,n){return(t=Aq(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Aq(e){var t=jq(e,"string");return typeof t=="symbol"?t:t+""}function jq(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Nq=(e,t,n,r)=>{var l=t.find(o=>o&&o.index===n);if(l){if(e==="horizontal")return{x:l.coordinate,y:r.chartY};if(e==="vertical")return{x:r.chartX,y:l.coordinate}}return{x:0,y:0}},Cq=(e,t,n,r)=>{var l=t.find(h=>h&&h.index===n);if(l){if(e==="centric"){var o=l.coordinate,{radius:s}=r;return Tl(Tl(Tl({},r),Wt(r.cx,r.cy,s,o)),{},{angle:o,radius:s})}var f=l.coordinate,{angle:d}=r;return Tl(Tl(Tl({},r),Wt(r.cx,r.cy,f,d)),{},{angle:d,radius:f})}return{angle:0,clockWise:!1,cx:0,cy:0,endAngle:0,innerRadius:0,outerRadius:0,radius:0,startAngle:0,x:0,y:0}};function _q(e,t){var{chartX:n,chartY:r}=e;return n>=t.left&&n<=t.left+t.width&&r>=t.top&&r<=t.top+t.height}var vT=(e,t,n,r,l)=>{var o,s=-1,f=(o=t?.length)!==null&&o!==void 0?o:0;if(f<=1||e==null)return 0;if(r==="angleAxis"&&l!=null&&Math.abs(Math.abs(l[1]-l[0])-360)<=1e-6)for(var d=0;d<f;d++){var h=d>0?n[d-1].coordinate:n[f-1].coordinate,m=n[d].coordinate,p=d>=f-1?n[0].coordinate:n[d+1].coordinate,x=void 0;if(Xn(m-h)!==Xn(p-m)){var w=[];if(Xn(p-m)===Xn(l[1]-l[0])){x=p;var O=m+l[1]-l[0];w[0]=Math.min(O,(O+h)/2),w[1]=Math.max(O,(O+h)/2)}else{x=h;var A=p+l[1]-l[0];w[0]=Math.min(m,(A+m)/2),w[1]=Math.max(m,(A+m)/2)}var S=[Math.min(m,(x+m)/2),Math.max(m,(x+m)/2)];if(e>S[0]&&e<=S[1]||e>=w[0]&&e<=w[1]){({index:s}=n[d]);break}}else{var j=Math.min(h,p),_=Math.max(h,p);if(e>(j+m)/2&&e<=(_+m)/2){({index:s}=n[d]);break}}}else if(t){for(var C=0;C<f;C++)if(C===0&&e<=(t[C].coordinate+t[C+1].coordinate)/2||C>0&&C<f-1&&e>(t[C].coordinate+t[C-1].coordinate)/2&&e<=(t[C].coordinate+t[C+1].coordinate)/2||C===f-1&&e>(t[C].coordinate+t[C-1].coordinate)/2){({index:s}=t[C]);break}}return s},pT=()=>ve(l0),_0=(e,t)=>t,yT=(e,t,n)=>n,T0=(e,t,n,r)=>r,Tq=Y(va,e=>ud(e,t=>t.coordinate)),M0=Y([co,_0,yT,T0],rT),D0=Y([M0,fo,ns,os],O0),Mq=(e,t,n)=>{if(t!=null){var r=co(e);return t==="axis"?n==="hover"?r.axisInteraction.hover.dataKey:r.axisInteraction.click.dataKey:n==="hover"?r.itemInteraction.hover.dataKey:r.itemInteraction.click.dataKey}},gT=Y([co,_0,yT,T0],iT),Kf=Y([ca,fa,We,Qt,va,T0,gT,is],aT),Dq=Y([M0,Kf],(e,t)=>{var n;return(n=e.coordinate)!==null&&n!==void 0?n:t}),bT=Y([va,D0],J_),kq=Y([gT,D0,ei,ns,bT,is,_0],lT),Pq=Y([M0,D0],(e,t)=>({isActive:e.active&&t!=null,activeIndex:t})),Rq=(e,t,n,r,l,o,s)=>{if(!(!e||!n||!r||!l)&&_q(e,s)){var f=o6(e,t),d=vT(f,o,l,n,r),h=Nq(t,l,d,e);return{activeIndex:String(d),activeCoordinate:h}}},zq=(e,t,n,r,l,o,s)=>{if(!(!e||!r||!l||!o||!n)){var f=yB(e,n);if(f){var d=u6(f,t),h=vT(d,s,o,r,l),m=Cq(t,o,h,f);return{activeIndex:String(h),activeCoordinate:m}}}},Lq=(e,t,n,r,l,o,s,f)=>{if(!(!e||!t||!r||!l||!o))return t==="horizontal"||t==="vertical"?Rq(e,t,r,l,o,s,f):zq(e,t,n,r,l,o,s)},Bq=Y(e=>e.zIndex.zIndexMap,(e,t)=>t,(e,t,n)=>n,(e,t,n)=>{if(t!=null){var r=e[t];if(r!=null)return n?r.panoramaElementId:r.elementId}}),Uq=Y(e=>e.zIndex.zIndexMap,e=>{var t=Object.keys(e).map(r=>parseInt(r,10)).concat(Object.values(ln)),n=Array.from(new Set(t));return n.sort((r,l)=>r-l)},{memoizeOptions:{resultEqualityCheck:w9}});function AA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function jA(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?AA(Object(n),!0).forEach(function(r){Iq(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):AA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Iq(e,t,n){return(t=qq(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function qq(e){var t=Hq(e,"string");return typeof t=="symbol"?t:t+""}function Hq(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var $q={},Yq={zIndexMap:Object.values(ln).reduce((e,t)=>jA(jA({},e),{},{[t]:{elementId:void 0,panoramaElementId:void 0,consumers:0}}),$q)},Kq=new Set(Object.values(ln));function Gq(e){return Kq.has(e)}var xT=gn({name:"zIndex",initialState:Yq,reducers:{registerZIndexPortal:{reducer:(e,t)=>{var{zIndex:n}=t.payload;e.zIndexMap[n]?e.zIndexMap[n].consumers+=1:e.zIndexMap[n]={consumers:1,elementId:void 0,panoramaElementId:void 0}},prepare:tt()},unregisterZIndexPortal:{reducer:(e,t)=>{var{zIndex:n}=t.payload;e.zIndexMap[n]&&(e.zIndexMap[n].consumers-=1,e.zIndexMap[n].consumers<=0&&!Gq(n)&&delete e.zIndexMap[n])},prepare:tt()},registerZIndexPortalId:{reducer:(e,t)=>{var{zIndex:n,elementId:r,isPanorama:l}=t.payload;e.zIndexMap[n]?l?e.zIndexMap[n].panoramaElementId=r:e.zIndexMap[n].elementId=r:e.zIndexMap[n]={consumers:0,elementId:l?void 0:r,panoramaElementId:l?r:void 0}},prepare:tt()},unregisterZIndexPortalId:{reducer:(e,t)=>{var{zIndex:n}=t.payload;e.zIndexMap[n]&&(t.payload.isPanorama?e.zIndexMap[n].panoramaElementId=void 0:e.zIndexMap[n].elementId=void 0)},prepare:tt()}}}),{registerZIndexPortal:Vq,unregisterZIndexPortal:Xq,registerZIndexPortalId:Fq,unregisterZIndexPortalId:Wq}=xT.actions,Zq=xT.reducer;function pa(e){var{zIndex:t,children:n}=e,r=q6(),l=r&&t!==void 0&&t!==0,o=bn(),s=Bt();g.useLayoutEffect(()=>l?(s(Vq({zIndex:t})),()=>{s(Xq({zIndex:t}))}):$u,[s,t,l]);var f=ve(h=>Bq(h,t,o));if(!l)return n;if(!f)return null;var d=document.getElementById(f);return d?rd.createPortal(n,d):null}function $y(){return $y=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},$y.apply(null,arguments)}function NA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Yc(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?NA(Object(n),!0).forEach(function(r){Qq(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):NA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Qq(e,t,n){return(t=Jq(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Jq(e){var t=eH(e,"string");return typeof t=="symbol"?t:t+""}function eH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function tH(e){var{cursor:t,cursorComp:n,cursorProps:r}=e;return g.isValidElement(t)?g.cloneElement(t,r):g.createElement(n,r)}function nH(e){var t,{coordinate:n,payload:r,index:l,offset:o,tooltipAxisBandSize:s,layout:f,cursor:d,tooltipEventType:h,chartName:m}=e,p=n,x=r,w=l;if(!d||!p||m!=="ScatterChart"&&h!=="axis")return null;var O,A,S;if(m==="ScatterChart")O=p,A=_8,S=ln.cursorLine;else if(m==="BarChart")O=T8(f,p,o,s),A=oB,S=ln.cursorRectangle;else if(f==="radial"&&Gj(p)){var{cx:j,cy:_,radius:C,startAngle:D,endAngle:T}=uC(p);O={cx:j,cy:_,startAngle:D,endAngle:T,innerRadius:C,outerRadius:C},A=wB,S=ln.cursorLine}else O={points:SB(f,p,o)},A=nf,S=ln.cursorLine;var R=typeof d=="object"&&"className"in d?d.className:void 0,k=Yc(Yc(Yc(Yc({stroke:"#ccc",pointerEvents:"none"},o),O),ad(d)),{},{payload:x,payloadIndex:w,className:Ve("recharts-tooltip-cursor",R)});return g.createElement(pa,{zIndex:(t=e.zIndex)!==null&&t!==void 0?t:S},g.createElement(tH,{cursor:d,cursorComp:A,cursorProps:k}))}function rH(e){var t=Eq(),n=GN(),r=Xu(),l=pT();return t==null||n==null||r==null||l==null?null:g.createElement(nH,$y({},e,{offset:n,layout:r,tooltipAxisBandSize:t,chartName:l}))}var wT=g.createContext(null),aH=()=>g.useContext(wT),Dp={exports:{}},CA;function iH(){return CA||(CA=1,(function(e){var t=Object.prototype.hasOwnProperty,n="~";function r(){}Object.create&&(r.prototype=Object.create(null),new r().__proto__||(n=!1));function l(d,h,m){this.fn=d,this.context=h,this.once=m||!1}function o(d,h,m,p,x){if(typeof m!="function")throw new TypeError("The listener must be a function");var w=new l(m,p||d,x),O=n?n+h:h;return d._events[O]?d._events[O].fn?d._events[O]=[d._events[O],w]:d._events[O].push(w):(d._events[O]=w,d._eventsCount++),d}function s(d,h){--d._eventsCount===0?d._events=new r:delete d._events[h]}function f(){this._events=new r,this._eventsCount=0}f.prototype.eventNames=function(){var h=[],m,p;if(this._eventsCount===0)return h;for(p in m=this._events)t.call(m,p)&&h.push(n?p.slice(1):p);return Object.getOwnPropertySymbols?h.concat(Object.getOwnPropertySymbols(m)):h},f.prototype.listeners=function(h){var m=n?n+h:h,p=this._events[m];if(!p)return[];if(p.fn)return[p.fn];for(var x=0,w=p.length,O=new Array(w);x<w;x++)O[x]=p[x].fn;return O},f.prototype.listenerCount=function(h){var m=n?n+h:h,p=this._events[m];return p?p.fn?1:p.length:0},f.prototype.emit=function(h,m,p,x,w,O){var A=n?n+h:h;if(!this._events[A])return!1;var S=this._events[A],j=arguments.length,_,C;if(S.fn){switch(S.once&&this.removeListener(h,S.fn,void 0,!0),j){case 1:return S.fn.call(S.context),!0;case 2:return S.fn.call(S.context,m),!0;case 3:return S.fn.call(S.context,m,p),!0;case 4:return S.fn.call(S.context,m,p,x),!0;case 5:return S.fn.call(S.context,m,p,x,w),!0;case 6:return S.fn.call(S.context,m,p,x,w,O),!0}for(C=1,_=new Array(j-1);C<j;C++)_[C-1]=arguments[C];S.fn.apply(S.context,_)}else{var D=S.length,T;for(C=0;C<D;C++)switch(S[C].once&&this.removeListener(h,S[C].fn,void 0,!0),j){case 1:S[C].fn.call(S[C].context);break;case 2:S[C].fn.call(S[C].context,m);break;case 3:S[C].fn.call(S[C].context,m,p);break;case 4:S[C].fn.call(S[C].context,m,p,x);break;default:if(!_)for(T=1,_=new Array(j-1);T<j;T++)_[T-1]=arguments[T];S[C].fn.apply(S[C].context,_)}}return!0},f.prototype.on=function(h,m,p){return o(this,h,m,p,!1)},f.prototype.once=function(h,m,p){return o(this,h,m,p,!0)},f.prototype.removeListener=function(h,m,p,x){var w=n?n+h:h;if(!this._events[w])return this;if(!m)return s(this,w),this;var O=this._events[w];if(O.fn)O.fn===m&&(!x||O.once)&&(!p||O.context===p)&&s(this,w);else{for(var A=0,S=[],j=O.length;A<j;A++)(O[A].fn!==m||x&&!O[A].once||p&&O[A].context!==p)&&S.push(O[A]);S.length?this._events[w]=S.length===1?S[0]:S:s(this,w)}return this},f.prototype.removeAllListeners=function(h){var m;return h?(m=n?n+h:h,this._events[m]&&s(this,m)):(this._events=new r,this._eventsCount=0),this},f.prototype.off=f.prototype.removeListener,f.prototype.addListener=f.prototype.on,f.prefixed=n,f.EventEmitter=f,e.exports=f})(Dp)),Dp.exports}var lH=iH();const oH=oa(lH);var Lu=new oH,Yy="recharts.syncEvent.tooltip",_A="recharts.syncEvent.brush";function uH(e,t){if(t){var n=Number.parseInt(t,10);if(!cr(n))return e?.[n]}}var sH={chartName:"",tooltipPayloadSearcher:void 0,eventEmitter:void 0,defaultTooltipEventType:"axis"},ST=gn({name:"options",initialState:sH,reducers:{createEventEmitter:e=>{e.eventEmitter==null&&(e.eventEmitter=Symbol("rechartsEventEmitter"))}}}),cH=ST.reducer,{createEventEmitter:fH}=ST.actions;function dH(e){return e.tooltip.syncInteraction}var hH={chartData:void 0,computedData:void 0,dataStartIndex:0,dataEndIndex:0},ET=gn({name:"chartData",initialState:hH,reducers:{setChartData(e,t){if(e.chartData=t.payload,t.payload==null){e.dataStartIndex=0,e.dataEndIndex=0;return}t.payload.length>0&&e.dataEndIndex!==t.payload.length-1&&(e.dataEndIndex=t.payload.length-1)},setComputedData(e,t){e.computedData=t.payload},setDataStartEndIndexes(e,t){var{startIndex:n,endIndex:r}=t.payload;n!=null&&(e.dataStartIndex=n),r!=null&&(e.dataEndIndex=r)}}}),{setChartData:TA,setDataStartEndIndexes:mH,setComputedData:BF}=ET.actions,vH=ET.reducer,pH=["x","y"];function MA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Ml(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?MA(Object(n),!0).forEach(function(r){yH(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):MA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function yH(e,t,n){return(t=gH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function gH(e){var t=bH(e,"string");return typeof t=="symbol"?t:t+""}function bH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function xH(e,t){if(e==null)return{};var n,r,l=wH(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function wH(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function SH(){var e=ve(o0),t=ve(u0),n=Bt(),r=ve(l_),l=ve(va),o=Xu(),s=wd(),f=ve(d=>d.rootProps.className);g.useEffect(()=>{if(e==null)return $u;var d=(h,m,p)=>{if(t!==p&&e===h){if(r==="index"){var x;if(s&&m!==null&&m!==void 0&&(x=m.payload)!==null&&x!==void 0&&x.coordinate&&m.payload.sourceViewBox){var w=m.payload.coordinate,{x:O,y:A}=w,S=xH(w,pH),{x:j,y:_,width:C,height:D}=m.payload.sourceViewBox,T=Ml(Ml({},S),{},{x:s.x+(C?(O-j)/C:0)*s.width,y:s.y+(D?(A-_)/D:0)*s.height});n(Ml(Ml({},m),{},{payload:Ml(Ml({},m.payload),{},{coordinate:T})}))}else n(m);return}if(l!=null){var R;if(typeof r=="function"){var k={activeTooltipIndex:m.payload.index==null?void 0:Number(m.payload.index),isTooltipActive:m.payload.active,activeIndex:m.payload.index==null?void 0:Number(m.payload.index),activeLabel:m.payload.label,activeDataKey:m.payload.dataKey,activeCoordinate:m.payload.coordinate},I=r(l,k);R=l[I]}else r==="value"&&(R=l.find(q=>String(q.value)===m.payload.label));var{coordinate:re}=m.payload;if(R==null||m.payload.active===!1||re==null||s==null){n(qy({active:!1,coordinate:void 0,dataKey:void 0,index:null,label:void 0,sourceViewBox:void 0,graphicalItemId:void 0}));return}var{x:ae,y:W}=re,J=Math.min(ae,s.x+s.width),pe=Math.min(W,s.y+s.height),ge={x:o==="horizontal"?R.coordinate:J,y:o==="horizontal"?pe:R.coordinate},xe=qy({active:m.payload.active,coordinate:ge,dataKey:m.payload.dataKey,index:String(R.index),label:m.payload.label,sourceViewBox:m.payload.sourceViewBox,graphicalItemId:m.payload.graphicalItemId});n(xe)}}};return Lu.on(Yy,d),()=>{Lu.off(Yy,d)}},[f,n,t,e,r,l,o,s])}function EH(){var e=ve(o0),t=ve(u0),n=Bt();g.useEffect(()=>{if(e==null)return $u;var r=(l,o,s)=>{t!==s&&e===l&&n(mH(o))};return Lu.on(_A,r),()=>{Lu.off(_A,r)}},[n,t,e])}function OH(){var e=Bt();g.useEffect(()=>{e(fH())},[e]),SH(),EH()}function AH(e,t,n,r,l,o){var s=ve(w=>Mq(w,e,t)),f=ve(u0),d=ve(o0),h=ve(l_),m=ve(dH),p=m?.active,x=wd();g.useEffect(()=>{if(!p&&d!=null&&f!=null){var w=qy({active:o,coordinate:n,dataKey:s,index:l,label:typeof r=="number"?String(r):r,sourceViewBox:x,graphicalItemId:void 0});Lu.emit(Yy,d,w,f)}},[p,n,s,l,r,f,d,h,o,x])}function DA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function kA(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?DA(Object(n),!0).forEach(function(r){jH(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):DA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function jH(e,t,n){return(t=NH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function NH(e){var t=CH(e,"string");return typeof t=="symbol"?t:t+""}function CH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function _H(e){return e.dataKey}function TH(e,t){return g.isValidElement(e)?g.cloneElement(e,t):typeof e=="function"?g.createElement(e,t):g.createElement(u8,t)}var PA=[],MH={allowEscapeViewBox:{x:!1,y:!1},animationDuration:400,animationEasing:"ease",axisId:0,contentStyle:{},cursor:!0,filterNull:!0,isAnimationActive:"auto",itemSorter:"name",itemStyle:{},labelStyle:{},offset:10,reverseDirection:{x:!1,y:!1},separator:" : ",trigger:"hover",useTranslate3d:!1,wrapperStyle:{}};function OT(e){var t,n,r=Rn(e,MH),{active:l,allowEscapeViewBox:o,animationDuration:s,animationEasing:f,content:d,filterNull:h,isAnimationActive:m,offset:p,payloadUniqBy:x,position:w,reverseDirection:O,useTranslate3d:A,wrapperStyle:S,cursor:j,shared:_,trigger:C,defaultIndex:D,portal:T,axisId:R}=r,k=Bt(),I=typeof D=="number"?String(D):D;g.useEffect(()=>{k(N7({shared:_,trigger:C,axisId:R,active:l,defaultIndex:I}))},[k,_,C,R,l,I]);var re=wd(),ae=nC(),W=w7(_),{activeIndex:J,isActive:pe}=(t=ve(ue=>Pq(ue,W,C,I)))!==null&&t!==void 0?t:{},ge=ve(ue=>kq(ue,W,C,I)),xe=ve(ue=>bT(ue,W,C,I)),q=ve(ue=>Dq(ue,W,C,I)),Q=ge,X=aH(),le=(n=l??pe)!==null&&n!==void 0?n:!1,[Oe,P]=V5([Q,le]),K=W==="axis"?xe:void 0;AH(W,C,q,K,J,le);var ee=T??X;if(ee==null||re==null||W==null)return null;var ne=Q??PA;le||(ne=PA),h&&ne.length&&(ne=b5(ne.filter(ue=>ue.value!=null&&(ue.hide!==!0||r.includeHidden)),x,_H));var he=ne.length>0,we=g.createElement(v8,{allowEscapeViewBox:o,animationDuration:s,animationEasing:f,isAnimationActive:m,active:le,coordinate:q,hasPayload:he,offset:p,position:w,reverseDirection:O,useTranslate3d:A,viewBox:re,wrapperStyle:S,lastBoundingBox:Oe,innerRef:P,hasPortalFromProps:!!T},TH(d,kA(kA({},r),{},{payload:ne,label:K,active:le,activeIndex:J,coordinate:q,accessibilityLayer:ae})));return g.createElement(g.Fragment,null,rd.createPortal(we,ee),le&&g.createElement(rH,{cursor:j,tooltipEventType:W,coordinate:q,payload:ne,index:J}))}function DH(e,t,n){return(t=kH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function kH(e){var t=PH(e,"string");return typeof t=="symbol"?t:t+""}function PH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}class RH{constructor(t){DH(this,"cache",new Map),this.maxSize=t}get(t){var n=this.cache.get(t);return n!==void 0&&(this.cache.delete(t),this.cache.set(t,n)),n}set(t,n){if(this.cache.has(t))this.cache.delete(t);else if(this.cache.size>=this.maxSize){var r=this.cache.keys().next().value;r!=null&&this.cache.delete(r)}this.cache.set(t,n)}clear(){this.cache.clear()}size(){return this.cache.size}}function RA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function zH(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?RA(Object(n),!0).forEach(function(r){LH(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):RA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function LH(e,t,n){return(t=BH(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function BH(e){var t=UH(e,"string");return typeof t=="symbol"?t:t+""}function UH(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var IH={cacheSize:2e3,enableCache:!0},AT=zH({},IH),zA=new RH(AT.cacheSize),qH={position:"absolute",top:"-20000px",left:0,padding:0,margin:0,border:"none",whiteSpace:"pre"},LA="recharts_measurement_span";function HH(e,t){var n=t.fontSize||"",r=t.fontFamily||"",l=t.fontWeight||"",o=t.fontStyle||"",s=t.letterSpacing||"",f=t.textTransform||"";return"".concat(e,"|").concat(n,"|").concat(r,"|").concat(l,"|").concat(o,"|").concat(s,"|").concat(f)}var BA=(e,t)=>{try{var n=document.getElementById(LA);n||(n=document.createElement("span"),n.setAttribute("id",LA),n.setAttribute("aria-hidden","true"),document.body.appendChild(n)),Object.assign(n.style,qH,t),n.textContent="".concat(e);var r=n.getBoundingClientRect();return{width:r.width,height:r.height}}catch{return{width:0,height:0}}},wu=function(t){var n=arguments.length>1&&arguments[1]!==void 0?arguments[1]:{};if(t==null||ro.isSsr)return{width:0,height:0};if(!AT.enableCache)return BA(t,n);var r=HH(t,n),l=zA.get(r);if(l)return l;var o=BA(t,n);return zA.set(r,o),o},UA=/(-?\d+(?:\.\d+)?[a-zA-Z%]*)([*/])(-?\d+(?:\.\d+)?[a-zA-Z%]*)/,IA=/(-?\d+(?:\.\d+)?[a-zA-Z%]*)([+-])(-?\d+(?:\.\d+)?[a-zA-Z%]*)/,$H=/^px|cm|vh|vw|em|rem|%|mm|in|pt|pc|ex|ch|vmin|vmax|Q$/,YH=/(-?\d+(?:\.\d+)?)([a-zA-Z%]+)?/,jT={cm:96/2.54,mm:96/25.4,pt:96/72,pc:96/6,in:96,Q:96/(2.54*40),px:1},KH=Object.keys(jT),Ll="NaN";function GH(e,t){return e*jT[t]}class pn{static parse(t){var n,[,r,l]=(n=YH.exec(t))!==null&&n!==void 0?n:[];return new pn(parseFloat(r),l??"")}constructor(t,n){this.num=t,this.unit=n,this.num=t,this.unit=n,cr(t)&&(this.unit=""),n!==""&&!$H.test(n)&&(this.num=NaN,this.unit=""),KH.includes(n)&&(this.num=GH(t,n),this.unit="px")}add(t){return this.unit!==t.unit?new pn(NaN,""):new pn(this.num+t.num,this.unit)}subtract(t){return this.unit!==t.unit?new pn(NaN,""):new pn(this.num-t.num,this.unit)}multiply(t){return this.unit!==""&&t.unit!==""&&this.unit!==t.unit?new pn(NaN,""):new pn(this.num*t.num,this.unit||t.unit)}divide(t){return this.unit!==""&&t.unit!==""&&this.unit!==t.unit?new pn(NaN,""):new pn(this.num/t.num,this.unit||t.unit)}toString(){return"".concat(this.num).concat(this.unit)}isNaN(){return cr(this.num)}}function NT(e){if(e.includes(Ll))return Ll;for(var t=e;t.includes("*")||t.includes("/");){var n,[,r,l,o]=(n=UA.exec(t))!==null&&n!==void 0?n:[],s=pn.parse(r??""),f=pn.parse(o??""),d=l==="*"?s.multiply(f):s.divide(f);if(d.isNaN())return Ll;t=t.replace(UA,d.toString())}for(;t.includes("+")||/.-\d+(?:\.\d+)?/.test(t);){var h,[,m,p,x]=(h=IA.exec(t))!==null&&h!==void 0?h:[],w=pn.parse(m??""),O=pn.parse(x??""),A=p==="+"?w.add(O):w.subtract(O);if(A.isNaN())return Ll;t=t.replace(IA,A.toString())}return t}var qA=/\(([^()]*)\)/;function VH(e){for(var t=e,n;(n=qA.exec(t))!=null;){var[,r]=n;t=t.replace(qA,NT(r))}return t}function XH(e){var t=e.replace(/\s+/g,"");return t=VH(t),t=NT(t),t}function FH(e){try{return XH(e)}catch{return Ll}}function kp(e){var t=FH(e.slice(5,-1));return t===Ll?"":t}var WH=["x","y","lineHeight","capHeight","fill","scaleToFit","textAnchor","verticalAnchor"],ZH=["dx","dy","angle","className","breakAll"];function Ky(){return Ky=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Ky.apply(null,arguments)}function HA(e,t){if(e==null)return{};var n,r,l=QH(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function QH(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var CT=/[ \f\n\r\t\v\u2028\u2029]+/,_T=e=>{var{children:t,breakAll:n,style:r}=e;try{var l=[];Zt(t)||(n?l=t.toString().split(""):l=t.toString().split(CT));var o=l.map(f=>({word:f,width:wu(f,r).width})),s=n?0:wu(" ",r).width;return{wordsWithComputedWidth:o,spaceWidth:s}}catch{return null}};function JH(e){return e==="start"||e==="middle"||e==="end"||e==="inherit"}var TT=(e,t,n,r)=>e.reduce((l,o)=>{var{word:s,width:f}=o,d=l[l.length-1];if(d&&f!=null&&(t==null||r||d.width+f+n<Number(t)))d.words.push(s),d.width+=f+n;else{var h={words:[s],width:f};l.push(h)}return l},[]),MT=e=>e.reduce((t,n)=>t.width>n.width?t:n),e$="…",$A=(e,t,n,r,l,o,s,f)=>{var d=e.slice(0,t),h=_T({breakAll:n,style:r,children:d+e$});if(!h)return[!1,[]];var m=TT(h.wordsWithComputedWidth,o,s,f),p=m.length>l||MT(m).width>Number(o);return[p,m]},t$=(e,t,n,r,l)=>{var{maxLines:o,children:s,style:f,breakAll:d}=e,h=de(o),m=String(s),p=TT(t,r,n,l);if(!h||l)return p;var x=p.length>o||MT(p).width>Number(r);if(!x)return p;for(var w=0,O=m.length-1,A=0,S;w<=O&&A<=m.length-1;){var j=Math.floor((w+O)/2),_=j-1,[C,D]=$A(m,_,d,f,o,r,n,l),[T]=$A(m,j,d,f,o,r,n,l);if(!C&&!T&&(w=j+1),C&&T&&(O=j-1),!C&&T){S=D;break}A++}return S||p},YA=e=>{var t=Zt(e)?[]:e.toString().split(CT);return[{words:t,width:void 0}]},n$=e=>{var{width:t,scaleToFit:n,children:r,style:l,breakAll:o,maxLines:s}=e;if((t||n)&&!ro.isSsr){var f,d,h=_T({breakAll:o,children:r,style:l});if(h){var{wordsWithComputedWidth:m,spaceWidth:p}=h;f=m,d=p}else return YA(r);return t$({breakAll:o,children:r,maxLines:s,style:l},f,d,t,!!n)}return YA(r)},DT="#808080",r$={angle:0,breakAll:!1,capHeight:"0.71em",fill:DT,lineHeight:"1em",scaleToFit:!1,textAnchor:"start",verticalAnchor:"end",x:0,y:0},k0=g.forwardRef((e,t)=>{var n=Rn(e,r$),{x:r,y:l,lineHeight:o,capHeight:s,fill:f,scaleToFit:d,textAnchor:h,verticalAnchor:m}=n,p=HA(n,WH),x=g.useMemo(()=>n$({breakAll:p.breakAll,children:p.children,maxLines:p.maxLines,scaleToFit:d,style:p.style,width:p.width}),[p.breakAll,p.children,p.maxLines,d,p.style,p.width]),{dx:w,dy:O,angle:A,className:S,breakAll:j}=p,_=HA(p,ZH);if(!Sr(r)||!Sr(l)||x.length===0)return null;var C=Number(r)+(de(w)?w:0),D=Number(l)+(de(O)?O:0);if(!st(C)||!st(D))return null;var T;switch(m){case"start":T=kp("calc(".concat(s,")"));break;case"middle":T=kp("calc(".concat((x.length-1)/2," * -").concat(o," + (").concat(s," / 2))"));break;default:T=kp("calc(".concat(x.length-1," * -").concat(o,")"));break}var R=[];if(d){var k=x[0].width,{width:I}=p;R.push("scale(".concat(de(I)&&de(k)?I/k:1,")"))}return A&&R.push("rotate(".concat(A,", ").concat(C,", ").concat(D,")")),R.length&&(_.transform=R.join(" ")),g.createElement("text",Ky({},Zn(_),{ref:t,x:C,y:D,className:Ve("recharts-text",S),textAnchor:h,fill:f.includes("url")?DT:f}),x.map((re,ae)=>{var W=re.words.join(j?"":" ");return g.createElement("tspan",{x:C,dy:ae===0?T:o,key:"".concat(W,"-").concat(ae)},W)}))});k0.displayName="Text";var a$=["labelRef"];function i$(e,t){if(e==null)return{};var n,r,l=l$(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function l$(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function KA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function dt(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?KA(Object(n),!0).forEach(function(r){o$(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):KA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function o$(e,t,n){return(t=u$(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function u$(e){var t=s$(e,"string");return typeof t=="symbol"?t:t+""}function s$(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Xr(){return Xr=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Xr.apply(null,arguments)}var kT=g.createContext(null),c$=e=>{var{x:t,y:n,upperWidth:r,lowerWidth:l,width:o,height:s,children:f}=e,d=g.useMemo(()=>({x:t,y:n,upperWidth:r,lowerWidth:l,width:o,height:s}),[t,n,r,l,o,s]);return g.createElement(kT.Provider,{value:d},f)},PT=()=>{var e=g.useContext(kT),t=wd();return e||KN(t)},f$=g.createContext(null),d$=()=>{var e=g.useContext(f$),t=ve(f_);return e||t},h$=e=>{var{value:t,formatter:n}=e,r=Zt(e.children)?t:e.children;return typeof n=="function"?n(r):r},P0=e=>e!=null&&typeof e=="function",m$=(e,t)=>{var n=Xn(t-e),r=Math.min(Math.abs(t-e),360);return n*r},v$=(e,t,n,r,l)=>{var{offset:o,className:s}=e,{cx:f,cy:d,innerRadius:h,outerRadius:m,startAngle:p,endAngle:x,clockWise:w}=l,O=(h+m)/2,A=m$(p,x),S=A>=0?1:-1,j,_;switch(t){case"insideStart":j=p+S*o,_=w;break;case"insideEnd":j=x-S*o,_=!w;break;case"end":j=x+S*o,_=w;break;default:throw new Error("Unsupported position ".concat(t))}_=A<=0?_:!_;var C=Wt(f,d,O,j),D=Wt(f,d,O,j+(_?1:-1)*359),T="M".concat(C.x,",").concat(C.y,`
-    A`).concat(O,",").concat(O,",0,1,").concat(_?0:1,`,
-    `).concat(D.x,",").concat(D.y),R=Zt(e.id)?Eu("recharts-radial-line-"):e.id;return g.createElement("text",Xr({},r,{dominantBaseline:"central",className:Ve("recharts-radial-bar-label",s)}),g.createElement("defs",null,g.createElement("path",{id:R,d:T})),g.createElement("textPath",{xlinkHref:"#".concat(R)},n))},p$=(e,t,n)=>{var{cx:r,cy:l,innerRadius:o,outerRadius:s,startAngle:f,endAngle:d}=e,h=(f+d)/2;if(n==="outside"){var{x:m,y:p}=Wt(r,l,s+t,h);return{x:m,y:p,textAnchor:m>=r?"start":"end",verticalAnchor:"middle"}}if(n==="center")return{x:r,y:l,textAnchor:"middle",verticalAnchor:"middle"};if(n==="centerTop")return{x:r,y:l,textAnchor:"middle",verticalAnchor:"start"};if(n==="centerBottom")return{x:r,y:l,textAnchor:"middle",verticalAnchor:"end"};var x=(o+s)/2,{x:w,y:O}=Wt(r,l,x,h);return{x:w,y:O,textAnchor:"middle",verticalAnchor:"middle"}},Gy=e=>"cx"in e&&de(e.cx),y$=(e,t)=>{var{parentViewBox:n,offset:r,position:l}=e,o;n!=null&&!Gy(n)&&(o=n);var{x:s,y:f,upperWidth:d,lowerWidth:h,height:m}=t,p=s,x=s+(d-h)/2,w=(p+x)/2,O=(d+h)/2,A=p+d/2,S=m>=0?1:-1,j=S*r,_=S>0?"end":"start",C=S>0?"start":"end",D=d>=0?1:-1,T=D*r,R=D>0?"end":"start",k=D>0?"start":"end";if(l==="top"){var I={x:p+d/2,y:f-j,textAnchor:"middle",verticalAnchor:_};return dt(dt({},I),o?{height:Math.max(f-o.y,0),width:d}:{})}if(l==="bottom"){var re={x:x+h/2,y:f+m+j,textAnchor:"middle",verticalAnchor:C};return dt(dt({},re),o?{height:Math.max(o.y+o.height-(f+m),0),width:h}:{})}if(l==="left"){var ae={x:w-T,y:f+m/2,textAnchor:R,verticalAnchor:"middle"};return dt(dt({},ae),o?{width:Math.max(ae.x-o.x,0),height:m}:{})}if(l==="right"){var W={x:w+O+T,y:f+m/2,textAnchor:k,verticalAnchor:"middle"};return dt(dt({},W),o?{width:Math.max(o.x+o.width-W.x,0),height:m}:{})}var J=o?{width:O,height:m}:{};return l==="insideLeft"?dt({x:w+T,y:f+m/2,textAnchor:k,verticalAnchor:"middle"},J):l==="insideRight"?dt({x:w+O-T,y:f+m/2,textAnchor:R,verticalAnchor:"middle"},J):l==="insideTop"?dt({x:p+d/2,y:f+j,textAnchor:"middle",verticalAnchor:C},J):l==="insideBottom"?dt({x:x+h/2,y:f+m-j,textAnchor:"middle",verticalAnchor:_},J):l==="insideTopLeft"?dt({x:p+T,y:f+j,textAnchor:k,verticalAnchor:C},J):l==="insideTopRight"?dt({x:p+d-T,y:f+j,textAnchor:R,verticalAnchor:C},J):l==="insideBottomLeft"?dt({x:x+T,y:f+m-j,textAnchor:k,verticalAnchor:_},J):l==="insideBottomRight"?dt({x:x+h-T,y:f+m-j,textAnchor:R,verticalAnchor:_},J):l&&typeof l=="object"&&(de(l.x)||ta(l.x))&&(de(l.y)||ta(l.y))?dt({x:s+Wa(l.x,O),y:f+Wa(l.y,m),textAnchor:"end",verticalAnchor:"end"},J):dt({x:A,y:f+m/2,textAnchor:"middle",verticalAnchor:"middle"},J)},g$={angle:0,offset:5,zIndex:ln.label,position:"middle",textBreakAll:!1};function Ka(e){var t=Rn(e,g$),{viewBox:n,position:r,value:l,children:o,content:s,className:f="",textBreakAll:d,labelRef:h}=t,m=d$(),p=PT(),x=r==="center"?p:m??p,w,O,A;if(n==null?w=x:Gy(n)?w=n:w=KN(n),!w||Zt(l)&&Zt(o)&&!g.isValidElement(s)&&typeof s!="function")return null;var S=dt(dt({},t),{},{viewBox:w});if(g.isValidElement(s)){var{labelRef:j}=S,_=i$(S,a$);return g.cloneElement(s,_)}if(typeof s=="function"){if(O=g.createElement(s,S),g.isValidElement(O))return O}else O=h$(t);var C=Zn(t);if(Gy(w)){if(r==="insideStart"||r==="insideEnd"||r==="end")return v$(t,r,O,C,w);A=p$(w,t.offset,t.position)}else A=y$(t,w);return g.createElement(pa,{zIndex:t.zIndex},g.createElement(k0,Xr({ref:h,className:Ve("recharts-label",f)},C,A,{textAnchor:JH(C.textAnchor)?C.textAnchor:A.textAnchor,breakAll:d}),O))}Ka.displayName="Label";var b$=(e,t,n)=>{if(!e)return null;var r={viewBox:t,labelRef:n};return e===!0?g.createElement(Ka,Xr({key:"label-implicit"},r)):Sr(e)?g.createElement(Ka,Xr({key:"label-implicit",value:e},r)):g.isValidElement(e)?e.type===Ka?g.cloneElement(e,dt({key:"label-implicit"},r)):g.createElement(Ka,Xr({key:"label-implicit",content:e},r)):P0(e)?g.createElement(Ka,Xr({key:"label-implicit",content:e},r)):e&&typeof e=="object"?g.createElement(Ka,Xr({},e,{key:"label-implicit"},r)):null};function x$(e){var{label:t,labelRef:n}=e,r=PT();return b$(t,r,n)||null}var Pp={},Rp={},GA;function w$(){return GA||(GA=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return n[n.length-1]}e.last=t})(Rp)),Rp}var zp={},VA;function S$(){return VA||(VA=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});function t(n){return Array.isArray(n)?n:Array.from(n)}e.toArray=t})(zp)),zp}var XA;function E$(){return XA||(XA=1,(function(e){Object.defineProperty(e,Symbol.toStringTag,{value:"Module"});const t=w$(),n=S$(),r=wg();function l(o){if(r.isArrayLike(o))return t.last(n.toArray(o))}e.last=l})(Pp)),Pp}var Lp,FA;function O$(){return FA||(FA=1,Lp=E$().last),Lp}var A$=O$();const j$=oa(A$);var N$=["valueAccessor"],C$=["dataKey","clockWise","id","textBreakAll","zIndex"];function Gf(){return Gf=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Gf.apply(null,arguments)}function WA(e,t){if(e==null)return{};var n,r,l=_$(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function _$(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var T$=e=>Array.isArray(e.value)?j$(e.value):e.value,RT=g.createContext(void 0),M$=RT.Provider,zT=g.createContext(void 0);zT.Provider;function D$(){return g.useContext(RT)}function k$(){return g.useContext(zT)}function af(e){var{valueAccessor:t=T$}=e,n=WA(e,N$),{dataKey:r,clockWise:l,id:o,textBreakAll:s,zIndex:f}=n,d=WA(n,C$),h=D$(),m=k$(),p=h||m;return!p||!p.length?null:g.createElement(pa,{zIndex:f??ln.label},g.createElement(wr,{className:"recharts-label-list"},p.map((x,w)=>{var O,A=Zt(r)?t(x,w):nn(x&&x.payload,r),S=Zt(o)?{}:{id:"".concat(o,"-").concat(w)};return g.createElement(Ka,Gf({key:"label-".concat(w)},Zn(x),d,S,{fill:(O=n.fill)!==null&&O!==void 0?O:x.fill,parentViewBox:x.parentViewBox,value:A,textBreakAll:s,viewBox:x.viewBox,index:w,zIndex:0}))})))}af.displayName="LabelList";function P$(e){var{label:t}=e;return t?t===!0?g.createElement(af,{key:"labelList-implicit"}):g.isValidElement(t)||P0(t)?g.createElement(af,{key:"labelList-implicit",content:t}):typeof t=="object"?g.createElement(af,Gf({key:"labelList-implicit"},t,{type:String(t.type)})):null:null}function Vy(){return Vy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Vy.apply(null,arguments)}var LT=e=>{var{cx:t,cy:n,r,className:l}=e,o=Ve("recharts-dot",l);return de(t)&&de(n)&&de(r)?g.createElement("circle",Vy({},sr(e),xg(e),{className:o,cx:t,cy:n,r})):null},R$={radiusAxis:{},angleAxis:{}},BT=gn({name:"polarAxis",initialState:R$,reducers:{addRadiusAxis(e,t){e.radiusAxis[t.payload.id]=t.payload},removeRadiusAxis(e,t){delete e.radiusAxis[t.payload.id]},addAngleAxis(e,t){e.angleAxis[t.payload.id]=t.payload},removeAngleAxis(e,t){delete e.angleAxis[t.payload.id]}}}),{addRadiusAxis:UF,removeRadiusAxis:IF,addAngleAxis:qF,removeAngleAxis:HF}=BT.actions,z$=BT.reducer,UT=e=>e&&typeof e=="object"&&"clipDot"in e?!!e.clipDot:!0;function L$(e){var{tooltipEntrySettings:t}=e,n=Bt(),r=bn(),l=g.useRef(null);return g.useLayoutEffect(()=>{r||(l.current===null?n(O7(t)):l.current!==t&&n(A7({prev:l.current,next:t})),l.current=t)},[t,n,r]),g.useLayoutEffect(()=>()=>{l.current&&(n(j7(l.current)),l.current=null)},[n]),null}function B$(e){var{legendPayload:t}=e,n=Bt(),r=bn(),l=g.useRef(null);return g.useLayoutEffect(()=>{r||(l.current===null?n(e8(t)):l.current!==t&&n(t8({prev:l.current,next:t})),l.current=t)},[n,r,t]),g.useLayoutEffect(()=>()=>{l.current&&(n(n8(l.current)),l.current=null)},[n]),null}var Bp,U$=()=>{var[e]=g.useState(()=>Eu("uid-"));return e},I$=(Bp=ed.useId)!==null&&Bp!==void 0?Bp:U$;function IT(e,t){var n=I$();return t||(e?"".concat(e,"-").concat(n):n)}var q$=g.createContext(void 0),H$=e=>{var{id:t,type:n,children:r}=e,l=IT("recharts-".concat(n),t);return g.createElement(q$.Provider,{value:l},r(l))},$$={cartesianItems:[],polarItems:[]},qT=gn({name:"graphicalItems",initialState:$$,reducers:{addCartesianGraphicalItem:{reducer(e,t){e.cartesianItems.push(t.payload)},prepare:tt()},replaceCartesianGraphicalItem:{reducer(e,t){var{prev:n,next:r}=t.payload,l=ur(e).cartesianItems.indexOf(n);l>-1&&(e.cartesianItems[l]=r)},prepare:tt()},removeCartesianGraphicalItem:{reducer(e,t){var n=ur(e).cartesianItems.indexOf(t.payload);n>-1&&e.cartesianItems.splice(n,1)},prepare:tt()},addPolarGraphicalItem:{reducer(e,t){e.polarItems.push(t.payload)},prepare:tt()},removePolarGraphicalItem:{reducer(e,t){var n=ur(e).polarItems.indexOf(t.payload);n>-1&&e.polarItems.splice(n,1)},prepare:tt()}}}),{addCartesianGraphicalItem:Y$,replaceCartesianGraphicalItem:K$,removeCartesianGraphicalItem:G$,addPolarGraphicalItem:$F,removePolarGraphicalItem:YF}=qT.actions,V$=qT.reducer,X$=e=>{var t=Bt(),n=g.useRef(null);return g.useLayoutEffect(()=>{n.current===null?t(Y$(e)):n.current!==e&&t(K$({prev:n.current,next:e})),n.current=e},[t,e]),g.useLayoutEffect(()=>()=>{n.current&&(t(G$(n.current)),n.current=null)},[t]),null},F$=g.memo(X$),W$=["points"];function ZA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Up(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?ZA(Object(n),!0).forEach(function(r){Z$(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):ZA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function Z$(e,t,n){return(t=Q$(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function Q$(e){var t=J$(e,"string");return typeof t=="symbol"?t:t+""}function J$(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Vf(){return Vf=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Vf.apply(null,arguments)}function eY(e,t){if(e==null)return{};var n,r,l=tY(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function tY(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function nY(e){var{option:t,dotProps:n,className:r}=e;if(g.isValidElement(t))return g.cloneElement(t,n);if(typeof t=="function")return t(n);var l=Ve(r,typeof t!="boolean"?t.className:""),o=n??{},{points:s}=o,f=eY(o,W$);return g.createElement(LT,Vf({},f,{className:l}))}function rY(e,t){return e==null?!1:t?!0:e.length===1}function aY(e){var{points:t,dot:n,className:r,dotClassName:l,dataKey:o,baseProps:s,needClip:f,clipPathId:d,zIndex:h=ln.scatter}=e;if(!rY(t,n))return null;var m=UT(n),p=h4(n),x=t.map((O,A)=>{var S,j,_=Up(Up(Up({r:3},s),p),{},{index:A,cx:(S=O.x)!==null&&S!==void 0?S:void 0,cy:(j=O.y)!==null&&j!==void 0?j:void 0,dataKey:o,value:O.value,payload:O.payload,points:t});return g.createElement(nY,{key:"dot-".concat(A),option:n,dotProps:_,className:l})}),w={};return f&&d!=null&&(w.clipPath="url(#clipPath-".concat(m?"":"dots-").concat(d,")")),g.createElement(pa,{zIndex:h},g.createElement(wr,Vf({className:r},w),x))}function QA(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function JA(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?QA(Object(n),!0).forEach(function(r){iY(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):QA(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function iY(e,t,n){return(t=lY(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function lY(e){var t=oY(e,"string");return typeof t=="symbol"?t:t+""}function oY(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var uY={xAxis:{},yAxis:{},zAxis:{}},HT=gn({name:"cartesianAxis",initialState:uY,reducers:{addXAxis:{reducer(e,t){e.xAxis[t.payload.id]=t.payload},prepare:tt()},replaceXAxis:{reducer(e,t){var{prev:n,next:r}=t.payload;e.xAxis[n.id]!==void 0&&(n.id!==r.id&&delete e.xAxis[n.id],e.xAxis[r.id]=r)},prepare:tt()},removeXAxis:{reducer(e,t){delete e.xAxis[t.payload.id]},prepare:tt()},addYAxis:{reducer(e,t){e.yAxis[t.payload.id]=t.payload},prepare:tt()},replaceYAxis:{reducer(e,t){var{prev:n,next:r}=t.payload;e.yAxis[n.id]!==void 0&&(n.id!==r.id&&delete e.yAxis[n.id],e.yAxis[r.id]=r)},prepare:tt()},removeYAxis:{reducer(e,t){delete e.yAxis[t.payload.id]},prepare:tt()},addZAxis:{reducer(e,t){e.zAxis[t.payload.id]=t.payload},prepare:tt()},replaceZAxis:{reducer(e,t){var{prev:n,next:r}=t.payload;e.zAxis[n.id]!==void 0&&(n.id!==r.id&&delete e.zAxis[n.id],e.zAxis[r.id]=r)},prepare:tt()},removeZAxis:{reducer(e,t){delete e.zAxis[t.payload.id]},prepare:tt()},updateYAxisWidth(e,t){var{id:n,width:r}=t.payload,l=e.yAxis[n];if(l){var o=l.widthHistory||[];if(o.length===3&&o[0]===o[2]&&r===o[1]&&r!==l.width&&Math.abs(r-o[0])<=1)return;var s=[...o,r].slice(-3);e.yAxis[n]=JA(JA({},e.yAxis[n]),{},{width:r,widthHistory:s})}}}}),{addXAxis:sY,replaceXAxis:cY,removeXAxis:fY,addYAxis:dY,replaceYAxis:hY,removeYAxis:mY,addZAxis:KF,replaceZAxis:GF,removeZAxis:VF,updateYAxisWidth:vY}=HT.actions,pY=HT.reducer,yY=Y([Qt],e=>({top:e.top,bottom:e.bottom,left:e.left,right:e.right})),gY=Y([yY,ca,fa],(e,t,n)=>{if(!(!e||t==null||n==null))return{x:e.left,y:e.top,width:Math.max(0,t-e.left-e.right),height:Math.max(0,n-e.top-e.bottom)}}),R0=()=>ve(gY),bY=()=>ve(gq);function e2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Ip(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?e2(Object(n),!0).forEach(function(r){xY(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):e2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function xY(e,t,n){return(t=wY(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function wY(e){var t=SY(e,"string");return typeof t=="symbol"?t:t+""}function SY(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var EY=e=>{var{point:t,childIndex:n,mainColor:r,activeDot:l,dataKey:o,clipPath:s}=e;if(l===!1||t.x==null||t.y==null)return null;var f={index:n,dataKey:o,cx:t.x,cy:t.y,r:4,fill:r??"none",strokeWidth:2,stroke:"#fff",payload:t.payload,value:t.value},d=Ip(Ip(Ip({},f),ad(l)),xg(l)),h;return g.isValidElement(l)?h=g.cloneElement(l,d):typeof l=="function"?h=l(d):h=g.createElement(LT,d),g.createElement(wr,{className:"recharts-active-dot",clipPath:s},h)};function t2(e){var{points:t,mainColor:n,activeDot:r,itemDataKey:l,clipPath:o,zIndex:s=ln.activeDot}=e,f=ve(zu),d=bY();if(t==null||d==null)return null;var h=t.find(m=>d.includes(m.payload));return Zt(h)?null:g.createElement(pa,{zIndex:s},g.createElement(EY,{point:h,childIndex:Number(f),mainColor:n,dataKey:l,activeDot:r,clipPath:o}))}var OY={},$T=gn({name:"errorBars",initialState:OY,reducers:{addErrorBar:(e,t)=>{var{itemId:n,errorBar:r}=t.payload;e[n]||(e[n]=[]),e[n].push(r)},replaceErrorBar:(e,t)=>{var{itemId:n,prev:r,next:l}=t.payload;e[n]&&(e[n]=e[n].map(o=>o.dataKey===r.dataKey&&o.direction===r.direction?l:o))},removeErrorBar:(e,t)=>{var{itemId:n,errorBar:r}=t.payload;e[n]&&(e[n]=e[n].filter(l=>l.dataKey!==r.dataKey||l.direction!==r.direction))}}}),{addErrorBar:XF,replaceErrorBar:FF,removeErrorBar:WF}=$T.actions,AY=$T.reducer;function YT(e,t){var n,r,l=ve(h=>ha(h,e)),o=ve(h=>ma(h,t)),s=(n=l?.allowDataOverflow)!==null&&n!==void 0?n:Rt.allowDataOverflow,f=(r=o?.allowDataOverflow)!==null&&r!==void 0?r:zt.allowDataOverflow,d=s||f;return{needClip:d,needClipX:s,needClipY:f}}function jY(e){var{xAxisId:t,yAxisId:n,clipPathId:r}=e,l=R0(),{needClipX:o,needClipY:s,needClip:f}=YT(t,n);if(!f||!l)return null;var{x:d,y:h,width:m,height:p}=l;return g.createElement("clipPath",{id:"clipPath-".concat(r)},g.createElement("rect",{x:o?d:d-m/2,y:s?h:h-p/2,width:o?m:m*2,height:s?p:p*2}))}var qp={exports:{}},Hp={};var n2;function NY(){if(n2)return Hp;n2=1;var e=Fl();function t(d,h){return d===h&&(d!==0||1/d===1/h)||d!==d&&h!==h}var n=typeof Object.is=="function"?Object.is:t,r=e.useSyncExternalStore,l=e.useRef,o=e.useEffect,s=e.useMemo,f=e.useDebugValue;return Hp.useSyncExternalStoreWithSelector=function(d,h,m,p,x){var w=l(null);if(w.current===null){var O={hasValue:!1,value:null};w.current=O}else O=w.current;w=s(function(){function S(T){if(!j){if(j=!0,_=T,T=p(T),x!==void 0&&O.hasValue){var R=O.value;if(x(R,T))return C=R}return C=T}if(R=C,n(_,T))return R;var k=p(T);return x!==void 0&&x(R,k)?(_=T,R):(_=T,C=k)}var j=!1,_,C,D=m===void 0?null:m;return[function(){return S(h())},D===null?void 0:function(){return S(D())}]},[h,m,p,x]);var A=r(d,w[0],w[1]);return o(function(){O.hasValue=!0,O.value=A},[A]),f(A),A},Hp}var r2;function CY(){return r2||(r2=1,qp.exports=NY()),qp.exports}CY();function _Y(e){e()}function TY(){let e=null,t=null;return{clear(){e=null,t=null},notify(){_Y(()=>{let n=e;for(;n;)n.callback(),n=n.next})},get(){const n=[];let r=e;for(;r;)n.push(r),r=r.next;return n},subscribe(n){let r=!0;const l=t={callback:n,next:null,prev:t};return l.prev?l.prev.next=l:e=l,function(){!r||e===null||(r=!1,l.next?l.next.prev=l.prev:t=l.prev,l.prev?l.prev.next=l.next:e=l.next)}}}}var a2={notify(){},get:()=>[]};function MY(e,t){let n,r=a2,l=0,o=!1;function s(A){m();const S=r.subscribe(A);let j=!1;return()=>{j||(j=!0,S(),p())}}function f(){r.notify()}function d(){O.onStateChange&&O.onStateChange()}function h(){return o}function m(){l++,n||(n=e.subscribe(d),r=TY())}function p(){l--,n&&l===0&&(n(),n=void 0,r.clear(),r=a2)}function x(){o||(o=!0,m())}function w(){o&&(o=!1,p())}const O={addNestedSub:s,notifyNestedSubs:f,handleChangeWrapper:d,isSubscribed:h,trySubscribe:x,tryUnsubscribe:w,getListeners:()=>r};return O}var DY=()=>typeof window<"u"&&typeof window.document<"u"&&typeof window.document.createElement<"u",kY=DY(),PY=()=>typeof navigator<"u"&&navigator.product==="ReactNative",RY=PY(),zY=()=>kY||RY?g.useLayoutEffect:g.useEffect,LY=zY();function i2(e,t){return e===t?e!==0||t!==0||1/e===1/t:e!==e&&t!==t}function BY(e,t){if(i2(e,t))return!0;if(typeof e!="object"||e===null||typeof t!="object"||t===null)return!1;const n=Object.keys(e),r=Object.keys(t);if(n.length!==r.length)return!1;for(let l=0;l<n.length;l++)if(!Object.prototype.hasOwnProperty.call(t,n[l])||!i2(e[n[l]],t[n[l]]))return!1;return!0}var UY=Symbol.for("react-redux-context"),IY=typeof globalThis<"u"?globalThis:{};function qY(){if(!g.createContext)return{};const e=IY[UY]??=new Map;let t=e.get(g.createContext);return t||(t=g.createContext(null),e.set(g.createContext,t)),t}var HY=qY();function $Y(e){const{children:t,context:n,serverState:r,store:l}=e,o=g.useMemo(()=>{const d=MY(l);return{store:l,subscription:d,getServerState:r?()=>r:void 0}},[l,r]),s=g.useMemo(()=>l.getState(),[l]);LY(()=>{const{subscription:d}=o;return d.onStateChange=d.notifyNestedSubs,d.trySubscribe(),s!==l.getState()&&d.notifyNestedSubs(),()=>{d.tryUnsubscribe(),d.onStateChange=void 0}},[o,s]);const f=n||HY;return g.createElement(f.Provider,{value:o},t)}var YY=$Y,KY=new Set(["axisLine","tickLine","activeBar","activeDot","activeLabel","activeShape","allowEscapeViewBox","background","cursor","dot","label","line","margin","padding","position","shape","style","tick","wrapperStyle"]);function GY(e,t){return e==null&&t==null?!0:typeof e=="number"&&typeof t=="number"?e===t||e!==e&&t!==t:e===t}function z0(e,t){var n=new Set([...Object.keys(e),...Object.keys(t)]);for(var r of n)if(KY.has(r)){if(e[r]==null&&t[r]==null)continue;if(!BY(e[r],t[r]))return!1}else if(!GY(e[r],t[r]))return!1;return!0}var VY=e=>{var{chartData:t}=e,n=Bt(),r=bn();return g.useEffect(()=>r?()=>{}:(n(TA(t)),()=>{n(TA(void 0))}),[t,n,r]),null},l2={x:0,y:0,width:0,height:0,padding:{top:0,right:0,bottom:0,left:0}},KT=gn({name:"brush",initialState:l2,reducers:{setBrushSettings(e,t){return t.payload==null?l2:t.payload}}}),{setBrushSettings:ZF}=KT.actions,XY=KT.reducer;function FY(e,t,n){return(t=WY(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function WY(e){var t=ZY(e,"string");return typeof t=="symbol"?t:t+""}function ZY(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}class L0{static create(t){return new L0(t)}constructor(t){this.scale=t}get domain(){return this.scale.domain}get range(){return this.scale.range}get rangeMin(){return this.range()[0]}get rangeMax(){return this.range()[1]}get bandwidth(){return this.scale.bandwidth}apply(t){var{bandAware:n,position:r}=arguments.length>1&&arguments[1]!==void 0?arguments[1]:{};if(t!==void 0){if(r)switch(r){case"start":return this.scale(t);case"middle":{var l=this.bandwidth?this.bandwidth()/2:0;return this.scale(t)+l}case"end":{var o=this.bandwidth?this.bandwidth():0;return this.scale(t)+o}default:return this.scale(t)}if(n){var s=this.bandwidth?this.bandwidth()/2:0;return this.scale(t)+s}return this.scale(t)}}isInRange(t){var n=this.range(),r=n[0],l=n[n.length-1];return r<=l?t>=r&&t<=l:t>=l&&t<=r}}FY(L0,"EPS",1e-4);function QY(e){return(e%180+180)%180}var JY=function(t){var{width:n,height:r}=t,l=arguments.length>1&&arguments[1]!==void 0?arguments[1]:0,o=QY(l),s=o*Math.PI/180,f=Math.atan(r/n),d=s>f&&s<Math.PI-f?r/Math.sin(s):n/Math.cos(s);return Math.abs(d)},eK={dots:[],areas:[],lines:[]},GT=gn({name:"referenceElements",initialState:eK,reducers:{addDot:(e,t)=>{e.dots.push(t.payload)},removeDot:(e,t)=>{var n=ur(e).dots.findIndex(r=>r===t.payload);n!==-1&&e.dots.splice(n,1)},addArea:(e,t)=>{e.areas.push(t.payload)},removeArea:(e,t)=>{var n=ur(e).areas.findIndex(r=>r===t.payload);n!==-1&&e.areas.splice(n,1)},addLine:(e,t)=>{e.lines.push(t.payload)},removeLine:(e,t)=>{var n=ur(e).lines.findIndex(r=>r===t.payload);n!==-1&&e.lines.splice(n,1)}}}),{addDot:QF,removeDot:JF,addArea:eW,removeArea:tW,addLine:nW,removeLine:rW}=GT.actions,tK=GT.reducer,nK=g.createContext(void 0),rK=e=>{var{children:t}=e,[n]=g.useState("".concat(Eu("recharts"),"-clip")),r=R0();if(r==null)return null;var{x:l,y:o,width:s,height:f}=r;return g.createElement(nK.Provider,{value:n},g.createElement("defs",null,g.createElement("clipPath",{id:n},g.createElement("rect",{x:l,y:o,height:f,width:s}))),t)};function VT(e,t){if(t<1)return[];if(t===1)return e;for(var n=[],r=0;r<e.length;r+=t)n.push(e[r]);return n}function aK(e,t,n){var r={width:e.width+t.width,height:e.height+t.height};return JY(r,n)}function iK(e,t,n){var r=n==="width",{x:l,y:o,width:s,height:f}=e;return t===1?{start:r?l:o,end:r?l+s:o+f}:{start:r?l+s:o+f,end:r?l:o}}function Xf(e,t,n,r,l){if(e*t<e*r||e*t>e*l)return!1;var o=n();return e*(t-e*o/2-r)>=0&&e*(t+e*o/2-l)<=0}function lK(e,t){return VT(e,t+1)}function oK(e,t,n,r,l){for(var o=(r||[]).slice(),{start:s,end:f}=t,d=0,h=1,m=s,p=function(){var O=r?.[d];if(O===void 0)return{v:VT(r,h)};var A=d,S,j=()=>(S===void 0&&(S=n(O,A)),S),_=O.coordinate,C=d===0||Xf(e,_,j,m,f);C||(d=0,m=s,h+=1),C&&(m=_+e*(j()/2+l),d+=h)},x;h<=o.length;)if(x=p(),x)return x.v;return[]}function o2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function en(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?o2(Object(n),!0).forEach(function(r){uK(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):o2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function uK(e,t,n){return(t=sK(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function sK(e){var t=cK(e,"string");return typeof t=="symbol"?t:t+""}function cK(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function fK(e,t,n,r,l){for(var o=(r||[]).slice(),s=o.length,{start:f}=t,{end:d}=t,h=function(x){var w=o[x],O,A=()=>(O===void 0&&(O=n(w,x)),O);if(x===s-1){var S=e*(w.coordinate+e*A()/2-d);o[x]=w=en(en({},w),{},{tickCoord:S>0?w.coordinate-S*e:w.coordinate})}else o[x]=w=en(en({},w),{},{tickCoord:w.coordinate});if(w.tickCoord!=null){var j=Xf(e,w.tickCoord,A,f,d);j&&(d=w.tickCoord-e*(A()/2+l),o[x]=en(en({},w),{},{isShow:!0}))}},m=s-1;m>=0;m--)h(m);return o}function dK(e,t,n,r,l,o){var s=(r||[]).slice(),f=s.length,{start:d,end:h}=t;if(o){var m=r[f-1],p=n(m,f-1),x=e*(m.coordinate+e*p/2-h);if(s[f-1]=m=en(en({},m),{},{tickCoord:x>0?m.coordinate-x*e:m.coordinate}),m.tickCoord!=null){var w=Xf(e,m.tickCoord,()=>p,d,h);w&&(h=m.tickCoord-e*(p/2+l),s[f-1]=en(en({},m),{},{isShow:!0}))}}for(var O=o?f-1:f,A=function(_){var C=s[_],D,T=()=>(D===void 0&&(D=n(C,_)),D);if(_===0){var R=e*(C.coordinate-e*T()/2-d);s[_]=C=en(en({},C),{},{tickCoord:R<0?C.coordinate-R*e:C.coordinate})}else s[_]=C=en(en({},C),{},{tickCoord:C.coordinate});if(C.tickCoord!=null){var k=Xf(e,C.tickCoord,T,d,h);k&&(d=C.tickCoord+e*(T()/2+l),s[_]=en(en({},C),{},{isShow:!0}))}},S=0;S<O;S++)A(S);return s}function B0(e,t,n){var{tick:r,ticks:l,viewBox:o,minTickGap:s,orientation:f,interval:d,tickFormatter:h,unit:m,angle:p}=e;if(!l||!l.length||!r)return[];if(de(d)||ro.isSsr){var x;return(x=lK(l,de(d)?d:0))!==null&&x!==void 0?x:[]}var w=[],O=f==="top"||f==="bottom"?"width":"height",A=m&&O==="width"?wu(m,{fontSize:t,letterSpacing:n}):{width:0,height:0},S=(C,D)=>{var T=typeof h=="function"?h(C.value,D):C.value;return O==="width"?aK(wu(T,{fontSize:t,letterSpacing:n}),A,p):wu(T,{fontSize:t,letterSpacing:n})[O]},j=l.length>=2?Xn(l[1].coordinate-l[0].coordinate):1,_=iK(o,j,O);return d==="equidistantPreserveStart"?oK(j,_,S,l,s):(d==="preserveStart"||d==="preserveStartEnd"?w=dK(j,_,S,l,s,d==="preserveStartEnd"):w=fK(j,_,S,l,s),w.filter(C=>C.isShow))}var hK=e=>{var{ticks:t,label:n,labelGapWithTick:r=5,tickSize:l=0,tickMargin:o=0}=e,s=0;if(t){Array.from(t).forEach(m=>{if(m){var p=m.getBoundingClientRect();p.width>s&&(s=p.width)}});var f=n?n.getBoundingClientRect().width:0,d=l+o,h=s+d+f+(n?r:0);return Math.round(h)}return 0},mK=["axisLine","width","height","className","hide","ticks","axisType"];function vK(e,t){if(e==null)return{};var n,r,l=pK(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function pK(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function Li(){return Li=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Li.apply(null,arguments)}function u2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function gt(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?u2(Object(n),!0).forEach(function(r){yK(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):u2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function yK(e,t,n){return(t=gK(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function gK(e){var t=bK(e,"string");return typeof t=="symbol"?t:t+""}function bK(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}var Jr={x:0,y:0,width:0,height:0,viewBox:{x:0,y:0,width:0,height:0},orientation:"bottom",ticks:[],stroke:"#666",tickLine:!0,axisLine:!0,tick:!0,mirror:!1,minTickGap:5,tickSize:6,tickMargin:2,interval:"preserveEnd",zIndex:ln.axis};function xK(e){var{x:t,y:n,width:r,height:l,orientation:o,mirror:s,axisLine:f,otherSvgProps:d}=e;if(!f)return null;var h=gt(gt(gt({},d),sr(f)),{},{fill:"none"});if(o==="top"||o==="bottom"){var m=+(o==="top"&&!s||o==="bottom"&&s);h=gt(gt({},h),{},{x1:t,y1:n+m*l,x2:t+r,y2:n+m*l})}else{var p=+(o==="left"&&!s||o==="right"&&s);h=gt(gt({},h),{},{x1:t+p*r,y1:n,x2:t+p*r,y2:n+l})}return g.createElement("line",Li({},h,{className:Ve("recharts-cartesian-axis-line",od(f,"className"))}))}function wK(e,t,n,r,l,o,s,f,d){var h,m,p,x,w,O,A=f?-1:1,S=e.tickSize||s,j=de(e.tickCoord)?e.tickCoord:e.coordinate;switch(o){case"top":h=m=e.coordinate,x=n+ +!f*l,p=x-A*S,O=p-A*d,w=j;break;case"left":p=x=e.coordinate,m=t+ +!f*r,h=m-A*S,w=h-A*d,O=j;break;case"right":p=x=e.coordinate,m=t+ +f*r,h=m+A*S,w=h+A*d,O=j;break;default:h=m=e.coordinate,x=n+ +f*l,p=x+A*S,O=p+A*d,w=j;break}return{line:{x1:h,y1:p,x2:m,y2:x},tick:{x:w,y:O}}}function SK(e,t){switch(e){case"left":return t?"start":"end";case"right":return t?"end":"start";default:return"middle"}}function EK(e,t){switch(e){case"left":case"right":return"middle";case"top":return t?"start":"end";default:return t?"end":"start"}}function OK(e){var{option:t,tickProps:n,value:r}=e,l,o=Ve(n.className,"recharts-cartesian-axis-tick-value");if(g.isValidElement(t))l=g.cloneElement(t,gt(gt({},n),{},{className:o}));else if(typeof t=="function")l=t(gt(gt({},n),{},{className:o}));else{var s="recharts-cartesian-axis-tick-value";typeof t!="boolean"&&(s=Ve(s,t?.className)),l=g.createElement(k0,Li({},n,{className:s}),r)}return l}var AK=g.forwardRef((e,t)=>{var{ticks:n=[],tick:r,tickLine:l,stroke:o,tickFormatter:s,unit:f,padding:d,tickTextProps:h,orientation:m,mirror:p,x,y:w,width:O,height:A,tickSize:S,tickMargin:j,fontSize:_,letterSpacing:C,getTicksConfig:D,events:T,axisType:R}=e,k=B0(gt(gt({},D),{},{ticks:n}),_,C),I=SK(m,p),re=EK(m,p),ae=sr(D),W=ad(r),J={};typeof l=="object"&&(J=l);var pe=gt(gt({},ae),{},{fill:"none"},J),ge=k.map(Q=>gt({entry:Q},wK(Q,x,w,O,A,m,S,p,j))),xe=ge.map(Q=>{var{entry:X,line:le}=Q;return g.createElement(wr,{className:"recharts-cartesian-axis-tick",key:"tick-".concat(X.value,"-").concat(X.coordinate,"-").concat(X.tickCoord)},l&&g.createElement("line",Li({},pe,le,{className:Ve("recharts-cartesian-axis-tick-line",od(l,"className"))})))}),q=ge.map((Q,X)=>{var{entry:le,tick:Oe}=Q,P=gt(gt(gt(gt({textAnchor:I,verticalAnchor:re},ae),{},{stroke:"none",fill:o},W),Oe),{},{index:X,payload:le,visibleTicksCount:k.length,tickFormatter:s,padding:d},h);return g.createElement(wr,Li({className:"recharts-cartesian-axis-tick-label",key:"tick-label-".concat(le.value,"-").concat(le.coordinate,"-").concat(le.tickCoord)},F4(T,le,X)),r&&g.createElement(OK,{option:r,tickProps:P,value:"".concat(typeof s=="function"?s(le.value,X):le.value).concat(f||"")}))});return g.createElement("g",{className:"recharts-cartesian-axis-ticks recharts-".concat(R,"-ticks")},q.length>0&&g.createElement(pa,{zIndex:ln.label},g.createElement("g",{className:"recharts-cartesian-axis-tick-labels recharts-".concat(R,"-tick-labels"),ref:t},q)),xe.length>0&&g.createElement("g",{className:"recharts-cartesian-axis-tick-lines recharts-".concat(R,"-tick-lines")},xe))}),jK=g.forwardRef((e,t)=>{var{axisLine:n,width:r,height:l,className:o,hide:s,ticks:f,axisType:d}=e,h=vK(e,mK),[m,p]=g.useState(""),[x,w]=g.useState(""),O=g.useRef(null);g.useImperativeHandle(t,()=>({getCalculatedWidth:()=>{var S;return hK({ticks:O.current,label:(S=e.labelRef)===null||S===void 0?void 0:S.current,labelGapWithTick:5,tickSize:e.tickSize,tickMargin:e.tickMargin})}}));var A=g.useCallback(S=>{if(S){var j=S.getElementsByClassName("recharts-cartesian-axis-tick-value");O.current=j;var _=j[0];if(_){var C=window.getComputedStyle(_),D=C.fontSize,T=C.letterSpacing;(D!==m||T!==x)&&(p(D),w(T))}}},[m,x]);return s||r!=null&&r<=0||l!=null&&l<=0?null:g.createElement(pa,{zIndex:e.zIndex},g.createElement(wr,{className:Ve("recharts-cartesian-axis",o)},g.createElement(xK,{x:e.x,y:e.y,width:r,height:l,orientation:e.orientation,mirror:e.mirror,axisLine:n,otherSvgProps:sr(e)}),g.createElement(AK,{ref:A,axisType:d,events:h,fontSize:m,getTicksConfig:e,height:e.height,letterSpacing:x,mirror:e.mirror,orientation:e.orientation,padding:e.padding,stroke:e.stroke,tick:e.tick,tickFormatter:e.tickFormatter,tickLine:e.tickLine,tickMargin:e.tickMargin,tickSize:e.tickSize,tickTextProps:e.tickTextProps,ticks:f,unit:e.unit,width:e.width,x:e.x,y:e.y}),g.createElement(c$,{x:e.x,y:e.y,width:e.width,height:e.height,lowerWidth:e.width,upperWidth:e.width},g.createElement(x$,{label:e.label,labelRef:e.labelRef}),e.children)))}),U0=g.forwardRef((e,t)=>{var n=Rn(e,Jr);return g.createElement(jK,Li({},n,{ref:t}))});U0.displayName="CartesianAxis";var NK=["x1","y1","x2","y2","key"],CK=["offset"],_K=["xAxisId","yAxisId"],TK=["xAxisId","yAxisId"];function s2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function tn(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?s2(Object(n),!0).forEach(function(r){MK(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):s2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function MK(e,t,n){return(t=DK(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function DK(e){var t=kK(e,"string");return typeof t=="symbol"?t:t+""}function kK(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Ai(){return Ai=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Ai.apply(null,arguments)}function Ff(e,t){if(e==null)return{};var n,r,l=PK(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function PK(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var RK=e=>{var{fill:t}=e;if(!t||t==="none")return null;var{fillOpacity:n,x:r,y:l,width:o,height:s,ry:f}=e;return g.createElement("rect",{x:r,y:l,ry:f,width:o,height:s,stroke:"none",fill:t,fillOpacity:n,className:"recharts-cartesian-grid-bg"})};function XT(e){var{option:t,lineItemProps:n}=e,r;if(g.isValidElement(t))r=g.cloneElement(t,n);else if(typeof t=="function")r=t(n);else{var l,{x1:o,y1:s,x2:f,y2:d,key:h}=n,m=Ff(n,NK),p=(l=sr(m))!==null&&l!==void 0?l:{},{offset:x}=p,w=Ff(p,CK);r=g.createElement("line",Ai({},w,{x1:o,y1:s,x2:f,y2:d,fill:"none",key:h}))}return r}function zK(e){var{x:t,width:n,horizontal:r=!0,horizontalPoints:l}=e;if(!r||!l||!l.length)return null;var{xAxisId:o,yAxisId:s}=e,f=Ff(e,_K),d=l.map((h,m)=>{var p=tn(tn({},f),{},{x1:t,y1:h,x2:t+n,y2:h,key:"line-".concat(m),index:m});return g.createElement(XT,{key:"line-".concat(m),option:r,lineItemProps:p})});return g.createElement("g",{className:"recharts-cartesian-grid-horizontal"},d)}function LK(e){var{y:t,height:n,vertical:r=!0,verticalPoints:l}=e;if(!r||!l||!l.length)return null;var{xAxisId:o,yAxisId:s}=e,f=Ff(e,TK),d=l.map((h,m)=>{var p=tn(tn({},f),{},{x1:h,y1:t,x2:h,y2:t+n,key:"line-".concat(m),index:m});return g.createElement(XT,{option:r,lineItemProps:p,key:"line-".concat(m)})});return g.createElement("g",{className:"recharts-cartesian-grid-vertical"},d)}function BK(e){var{horizontalFill:t,fillOpacity:n,x:r,y:l,width:o,height:s,horizontalPoints:f,horizontal:d=!0}=e;if(!d||!t||!t.length||f==null)return null;var h=f.map(p=>Math.round(p+l-l)).sort((p,x)=>p-x);l!==h[0]&&h.unshift(0);var m=h.map((p,x)=>{var w=!h[x+1],O=w?l+s-p:h[x+1]-p;if(O<=0)return null;var A=x%t.length;return g.createElement("rect",{key:"react-".concat(x),y:p,x:r,height:O,width:o,stroke:"none",fill:t[A],fillOpacity:n,className:"recharts-cartesian-grid-bg"})});return g.createElement("g",{className:"recharts-cartesian-gridstripes-horizontal"},m)}function UK(e){var{vertical:t=!0,verticalFill:n,fillOpacity:r,x:l,y:o,width:s,height:f,verticalPoints:d}=e;if(!t||!n||!n.length)return null;var h=d.map(p=>Math.round(p+l-l)).sort((p,x)=>p-x);l!==h[0]&&h.unshift(0);var m=h.map((p,x)=>{var w=!h[x+1],O=w?l+s-p:h[x+1]-p;if(O<=0)return null;var A=x%n.length;return g.createElement("rect",{key:"react-".concat(x),x:p,y:o,width:O,height:f,stroke:"none",fill:n[A],fillOpacity:r,className:"recharts-cartesian-grid-bg"})});return g.createElement("g",{className:"recharts-cartesian-gridstripes-vertical"},m)}var IK=(e,t)=>{var{xAxis:n,width:r,height:l,offset:o}=e;return zN(B0(tn(tn(tn({},Jr),n),{},{ticks:LN(n),viewBox:{x:0,y:0,width:r,height:l}})),o.left,o.left+o.width,t)},qK=(e,t)=>{var{yAxis:n,width:r,height:l,offset:o}=e;return zN(B0(tn(tn(tn({},Jr),n),{},{ticks:LN(n),viewBox:{x:0,y:0,width:r,height:l}})),o.top,o.top+o.height,t)},HK={horizontal:!0,vertical:!0,horizontalPoints:[],verticalPoints:[],stroke:"#ccc",fill:"none",verticalFill:[],horizontalFill:[],xAxisId:0,yAxisId:0,syncWithTicks:!1,zIndex:ln.grid};function I0(e){var t=VN(),n=XN(),r=GN(),l=tn(tn({},Rn(e,HK)),{},{x:de(e.x)?e.x:r.left,y:de(e.y)?e.y:r.top,width:de(e.width)?e.width:r.width,height:de(e.height)?e.height:r.height}),{xAxisId:o,yAxisId:s,x:f,y:d,width:h,height:m,syncWithTicks:p,horizontalValues:x,verticalValues:w}=l,O=bn(),A=ve(re=>gA(re,"xAxis",o,O)),S=ve(re=>gA(re,"yAxis",s,O));if(!Er(h)||!Er(m)||!de(f)||!de(d))return null;var j=l.verticalCoordinatesGenerator||IK,_=l.horizontalCoordinatesGenerator||qK,{horizontalPoints:C,verticalPoints:D}=l;if((!C||!C.length)&&typeof _=="function"){var T=x&&x.length,R=_({yAxis:S?tn(tn({},S),{},{ticks:T?x:S.ticks}):void 0,width:t??h,height:n??m,offset:r},T?!0:p);Of(Array.isArray(R),"horizontalCoordinatesGenerator should return Array but instead it returned [".concat(typeof R,"]")),Array.isArray(R)&&(C=R)}if((!D||!D.length)&&typeof j=="function"){var k=w&&w.length,I=j({xAxis:A?tn(tn({},A),{},{ticks:k?w:A.ticks}):void 0,width:t??h,height:n??m,offset:r},k?!0:p);Of(Array.isArray(I),"verticalCoordinatesGenerator should return Array but instead it returned [".concat(typeof I,"]")),Array.isArray(I)&&(D=I)}return g.createElement(pa,{zIndex:l.zIndex},g.createElement("g",{className:"recharts-cartesian-grid"},g.createElement(RK,{fill:l.fill,fillOpacity:l.fillOpacity,x:l.x,y:l.y,width:l.width,height:l.height,ry:l.ry}),g.createElement(BK,Ai({},l,{horizontalPoints:C})),g.createElement(UK,Ai({},l,{verticalPoints:D})),g.createElement(zK,Ai({},l,{offset:r,horizontalPoints:C,xAxis:A,yAxis:S})),g.createElement(LK,Ai({},l,{offset:r,verticalPoints:D,xAxis:A,yAxis:S}))))}I0.displayName="CartesianGrid";function $K(e){var t=ad(e),n=3,r=2;if(t!=null){var{r:l,strokeWidth:o}=t,s=Number(l),f=Number(o);return(Number.isNaN(s)||s<0)&&(s=n),(Number.isNaN(f)||f<0)&&(f=r),{r:s,strokeWidth:f}}return{r:n,strokeWidth:r}}var FT=(e,t,n,r)=>F_(e,"xAxis",t,r),WT=(e,t,n,r)=>X_(e,"xAxis",t,r),ZT=(e,t,n,r)=>F_(e,"yAxis",n,r),QT=(e,t,n,r)=>X_(e,"yAxis",n,r),YK=Y([We,FT,ZT,WT,QT],(e,t,n,r,l)=>sa(e,"xAxis")?Ef(t,r,!1):Ef(n,l,!1)),KK=(e,t,n,r,l)=>l,JT=Y([y_,KK],(e,t)=>e.filter(n=>n.type==="area").find(n=>n.id===t)),GK=(e,t,n,r,l)=>{var o,s=JT(e,t,n,r,l);if(s!=null){var f=We(e),d=sa(f,"xAxis"),h;if(d?h=Iy(e,"yAxis",n,r):h=Iy(e,"xAxis",t,r),h!=null){var{stackId:m}=s,p=d0(s);if(!(m==null||p==null)){var x=(o=h[m])===null||o===void 0?void 0:o.stackedData;return x?.find(w=>w.key===p)}}}},VK=Y([We,FT,ZT,WT,QT,GK,r0,YK,JT,v9],(e,t,n,r,l,o,s,f,d,h)=>{var{chartData:m,dataStartIndex:p,dataEndIndex:x}=s;if(!(d==null||e!=="horizontal"&&e!=="vertical"||t==null||n==null||r==null||l==null||r.length===0||l.length===0||f==null)){var{data:w}=d,O;if(w&&w.length>0?O=w:O=m?.slice(p,x+1),O!=null)return dG({layout:e,xAxis:t,yAxis:n,xAxisTicks:r,yAxisTicks:l,dataStartIndex:p,areaSettings:d,stackedData:o,displayedData:O,chartBaseValue:h,bandSize:f})}}),XK=["id"],FK=["activeDot","animationBegin","animationDuration","animationEasing","connectNulls","dot","fill","fillOpacity","hide","isAnimationActive","legendType","stroke","xAxisId","yAxisId"];function ki(){return ki=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},ki.apply(null,arguments)}function eM(e,t){if(e==null)return{};var n,r,l=WK(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function WK(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function c2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function Bl(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?c2(Object(n),!0).forEach(function(r){ZK(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):c2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function ZK(e,t,n){return(t=QK(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function QK(e){var t=JK(e,"string");return typeof t=="symbol"?t:t+""}function JK(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Wf(e,t){return e&&e!=="none"?e:t}var eG=e=>{var{dataKey:t,name:n,stroke:r,fill:l,legendType:o,hide:s}=e;return[{inactive:s,dataKey:t,type:o,color:Wf(r,l),value:BN(n,t),payload:e}]},tG=g.memo(e=>{var{dataKey:t,data:n,stroke:r,strokeWidth:l,fill:o,name:s,hide:f,unit:d,tooltipType:h}=e,m={dataDefinedOnItem:n,positions:void 0,settings:{stroke:r,strokeWidth:l,fill:o,dataKey:t,nameKey:void 0,name:BN(s,t),hide:f,type:h,color:Wf(r,o),unit:d}};return g.createElement(L$,{tooltipEntrySettings:m})});function nG(e){var{clipPathId:t,points:n,props:r}=e,{needClip:l,dot:o,dataKey:s}=r,f=sr(r);return g.createElement(aY,{points:n,dot:o,className:"recharts-area-dots",dotClassName:"recharts-area-dot",dataKey:s,baseProps:f,needClip:l,clipPathId:t})}function rG(e){var{showLabels:t,children:n,points:r}=e,l=r.map(o=>{var s,f,d={x:(s=o.x)!==null&&s!==void 0?s:0,y:(f=o.y)!==null&&f!==void 0?f:0,width:0,lowerWidth:0,upperWidth:0,height:0};return Bl(Bl({},d),{},{value:o.value,payload:o.payload,parentViewBox:void 0,viewBox:d,fill:void 0})});return g.createElement(M$,{value:t?l:void 0},n)}function f2(e){var{points:t,baseLine:n,needClip:r,clipPathId:l,props:o}=e,{layout:s,type:f,stroke:d,connectNulls:h,isRange:m}=o,{id:p}=o,x=eM(o,XK),w=sr(x),O=Zn(x);return g.createElement(g.Fragment,null,t?.length>1&&g.createElement(wr,{clipPath:r?"url(#clipPath-".concat(l,")"):void 0},g.createElement(nf,ki({},O,{id:p,points:t,connectNulls:h,type:f,baseLine:n,layout:s,stroke:"none",className:"recharts-area-area"})),d!=="none"&&g.createElement(nf,ki({},w,{className:"recharts-area-curve",layout:s,type:f,connectNulls:h,fill:"none",points:t})),d!=="none"&&m&&g.createElement(nf,ki({},w,{className:"recharts-area-curve",layout:s,type:f,connectNulls:h,fill:"none",points:n}))),g.createElement(nG,{points:t,props:x,clipPathId:l}))}function aG(e){var{alpha:t,baseLine:n,points:r,strokeWidth:l}=e,o=r[0].y,s=r[r.length-1].y;if(!st(o)||!st(s))return null;var f=t*Math.abs(o-s),d=Math.max(...r.map(h=>h.x||0));return de(n)?d=Math.max(n,d):n&&Array.isArray(n)&&n.length&&(d=Math.max(...n.map(h=>h.x||0),d)),de(d)?g.createElement("rect",{x:0,y:o<s?o:o-f,width:d+(l?parseInt("".concat(l),10):1),height:Math.floor(f)}):null}function iG(e){var{alpha:t,baseLine:n,points:r,strokeWidth:l}=e,o=r[0].x,s=r[r.length-1].x;if(!st(o)||!st(s))return null;var f=t*Math.abs(o-s),d=Math.max(...r.map(h=>h.y||0));return de(n)?d=Math.max(n,d):n&&Array.isArray(n)&&n.length&&(d=Math.max(...n.map(h=>h.y||0),d)),de(d)?g.createElement("rect",{x:o<s?o:o-f,y:0,width:f,height:Math.floor(d+(l?parseInt("".concat(l),10):1))}):null}function lG(e){var{alpha:t,layout:n,points:r,baseLine:l,strokeWidth:o}=e;return n==="vertical"?g.createElement(aG,{alpha:t,points:r,baseLine:l,strokeWidth:o}):g.createElement(iG,{alpha:t,points:r,baseLine:l,strokeWidth:o})}function oG(e){var{needClip:t,clipPathId:n,props:r,previousPointsRef:l,previousBaselineRef:o}=e,{points:s,baseLine:f,isAnimationActive:d,animationBegin:h,animationDuration:m,animationEasing:p,onAnimationStart:x,onAnimationEnd:w}=r,O=g.useMemo(()=>({points:s,baseLine:f}),[s,f]),A=oC(O,"recharts-area-"),S=I6(),[j,_]=g.useState(!1),C=!j,D=g.useCallback(()=>{typeof w=="function"&&w(),_(!1)},[w]),T=g.useCallback(()=>{typeof x=="function"&&x(),_(!0)},[x]);if(S==null)return null;var R=l.current,k=o.current;return g.createElement(rG,{showLabels:C,points:s},r.children,g.createElement(lC,{animationId:A,begin:h,duration:m,isActive:d,easing:p,onAnimationEnd:D,onAnimationStart:T,key:A},I=>{if(R){var re=R.length/s.length,ae=I===1?s:s.map((J,pe)=>{var ge=Math.floor(pe*re);if(R[ge]){var xe=R[ge];return Bl(Bl({},J),{},{x:yr(xe.x,J.x,I),y:yr(xe.y,J.y,I)})}return J}),W;return de(f)?W=yr(k,f,I):Zt(f)||cr(f)?W=yr(k,0,I):W=f.map((J,pe)=>{var ge=Math.floor(pe*re);if(Array.isArray(k)&&k[ge]){var xe=k[ge];return Bl(Bl({},J),{},{x:yr(xe.x,J.x,I),y:yr(xe.y,J.y,I)})}return J}),I>0&&(l.current=ae,o.current=W),g.createElement(f2,{points:ae,baseLine:W,needClip:t,clipPathId:n,props:r})}return I>0&&(l.current=s,o.current=f),g.createElement(wr,null,d&&g.createElement("defs",null,g.createElement("clipPath",{id:"animationClipPath-".concat(n)},g.createElement(lG,{alpha:I,points:s,baseLine:f,layout:S,strokeWidth:r.strokeWidth}))),g.createElement(wr,{clipPath:"url(#animationClipPath-".concat(n,")")},g.createElement(f2,{points:s,baseLine:f,needClip:t,clipPathId:n,props:r})))}),g.createElement(P$,{label:r.label}))}function uG(e){var{needClip:t,clipPathId:n,props:r}=e,l=g.useRef(null),o=g.useRef();return g.createElement(oG,{needClip:t,clipPathId:n,props:r,previousPointsRef:l,previousBaselineRef:o})}class sG extends g.PureComponent{render(){var{hide:t,dot:n,points:r,className:l,top:o,left:s,needClip:f,xAxisId:d,yAxisId:h,width:m,height:p,id:x,baseLine:w,zIndex:O}=this.props;if(t)return null;var A=Ve("recharts-area",l),S=x,{r:j,strokeWidth:_}=$K(n),C=UT(n),D=j*2+_,T=f?"url(#clipPath-".concat(C?"":"dots-").concat(S,")"):void 0;return g.createElement(pa,{zIndex:O},g.createElement(wr,{className:A},f&&g.createElement("defs",null,g.createElement(jY,{clipPathId:S,xAxisId:d,yAxisId:h}),!C&&g.createElement("clipPath",{id:"clipPath-dots-".concat(S)},g.createElement("rect",{x:s-D/2,y:o-D/2,width:m+D,height:p+D}))),g.createElement(uG,{needClip:f,clipPathId:S,props:this.props})),g.createElement(t2,{points:r,mainColor:Wf(this.props.stroke,this.props.fill),itemDataKey:this.props.dataKey,activeDot:this.props.activeDot,clipPath:T}),this.props.isRange&&Array.isArray(w)&&g.createElement(t2,{points:w,mainColor:Wf(this.props.stroke,this.props.fill),itemDataKey:this.props.dataKey,activeDot:this.props.activeDot,clipPath:T}))}}var tM={activeDot:!0,animationBegin:0,animationDuration:1500,animationEasing:"ease",connectNulls:!1,dot:!1,fill:"#3182bd",fillOpacity:.6,hide:!1,isAnimationActive:"auto",legendType:"line",stroke:"#3182bd",strokeWidth:1,type:"linear",label:!1,xAxisId:0,yAxisId:0,zIndex:ln.area};function cG(e){var t,n=Rn(e,tM),{activeDot:r,animationBegin:l,animationDuration:o,animationEasing:s,connectNulls:f,dot:d,fill:h,fillOpacity:m,hide:p,isAnimationActive:x,legendType:w,stroke:O,xAxisId:A,yAxisId:S}=n,j=eM(n,FK),_=Xu(),C=pT(),{needClip:D}=YT(A,S),T=bn(),{points:R,isRange:k,baseLine:I}=(t=ve(ge=>VK(ge,A,S,T,e.id)))!==null&&t!==void 0?t:{},re=R0();if(_!=="horizontal"&&_!=="vertical"||re==null||C!=="AreaChart"&&C!=="ComposedChart")return null;var{height:ae,width:W,x:J,y:pe}=re;return!R||!R.length?null:g.createElement(sG,ki({},j,{activeDot:r,animationBegin:l,animationDuration:o,animationEasing:s,baseLine:I,connectNulls:f,dot:d,fill:h,fillOpacity:m,height:ae,hide:p,layout:_,isAnimationActive:x==="auto"?!ro.isSsr:x,isRange:k,legendType:w,needClip:D,points:R,stroke:O,width:W,left:J,top:pe,xAxisId:A,yAxisId:S}))}var fG=(e,t,n,r,l)=>{var o=n??t;if(de(o))return o;var s=e==="horizontal"?l:r,f=s.scale.domain();if(s.type==="number"){var d=Math.max(f[0],f[1]),h=Math.min(f[0],f[1]);return o==="dataMin"?h:o==="dataMax"||d<0?d:Math.max(Math.min(f[0],f[1]),0)}return o==="dataMin"?f[0]:o==="dataMax"?f[1]:f[0]};function dG(e){var{areaSettings:{connectNulls:t,baseValue:n,dataKey:r},stackedData:l,layout:o,chartBaseValue:s,xAxis:f,yAxis:d,displayedData:h,dataStartIndex:m,xAxisTicks:p,yAxisTicks:x,bandSize:w}=e,O=l&&l.length,A=fG(o,s,n,f,d),S=o==="horizontal",j=!1,_=h.map((D,T)=>{var R;O?R=l[m+T]:(R=nn(D,r),Array.isArray(R)?j=!0:R=[A,R]);var k=R[1]==null||O&&!t&&nn(D,r)==null;return S?{x:qE({axis:f,ticks:p,bandSize:w,entry:D,index:T}),y:k?null:d.scale(R[1]),value:R,payload:D}:{x:k?null:f.scale(R[1]),y:qE({axis:d,ticks:x,bandSize:w,entry:D,index:T}),value:R,payload:D}}),C;return O||j?C=_.map(D=>{var T=Array.isArray(D.value)?D.value[0]:null;return S?{x:D.x,y:T!=null&&D.y!=null?d.scale(T):null,payload:D.payload}:{x:T!=null?f.scale(T):null,y:D.y,payload:D.payload}}):C=S?d.scale(A):f.scale(A),{points:_,baseLine:C,isRange:j}}function hG(e){var t=Rn(e,tM),n=bn();return g.createElement(H$,{id:t.id,type:"area"},r=>g.createElement(g.Fragment,null,g.createElement(B$,{legendPayload:eG(t)}),g.createElement(tG,{dataKey:t.dataKey,data:t.data,stroke:t.stroke,strokeWidth:t.strokeWidth,fill:t.fill,name:t.name,hide:t.hide,unit:t.unit,tooltipType:t.tooltipType}),g.createElement(F$,{type:"area",id:r,data:t.data,dataKey:t.dataKey,xAxisId:t.xAxisId,yAxisId:t.yAxisId,zAxisId:0,stackId:r6(t.stackId),hide:t.hide,barSize:void 0,baseValue:t.baseValue,isPanorama:n,connectNulls:t.connectNulls}),g.createElement(cG,ki({},t,{id:r}))))}var q0=g.memo(hG,z0);q0.displayName="Area";var mG=["domain","range"],vG=["domain","range"];function d2(e,t){if(e==null)return{};var n,r,l=pG(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function pG(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function h2(e,t){return e===t?!0:Array.isArray(e)&&e.length===2&&Array.isArray(t)&&t.length===2?e[0]===t[0]&&e[1]===t[1]:!1}function nM(e,t){if(e===t)return!0;var{domain:n,range:r}=e,l=d2(e,mG),{domain:o,range:s}=t,f=d2(t,vG);return!h2(n,o)||!h2(r,s)?!1:z0(l,f)}var yG=["dangerouslySetInnerHTML","ticks"],gG=["id"];function Xy(){return Xy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Xy.apply(null,arguments)}function m2(e,t){if(e==null)return{};var n,r,l=bG(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function bG(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function xG(e){var t=Bt(),n=g.useRef(null);return g.useLayoutEffect(()=>{n.current===null?t(sY(e)):n.current!==e&&t(cY({prev:n.current,next:e})),n.current=e},[e,t]),g.useLayoutEffect(()=>()=>{n.current&&(t(fY(n.current)),n.current=null)},[t]),null}var wG=e=>{var{xAxisId:t,className:n}=e,r=ve(IN),l=bn(),o="xAxis",s=ve(S=>so(S,o,t,l)),f=ve(S=>V_(S,o,t,l)),d=ve(S=>o7(S,t)),h=ve(S=>h7(S,t)),m=ve(S=>h_(S,t));if(d==null||h==null||m==null)return null;var{dangerouslySetInnerHTML:p,ticks:x}=e,w=m2(e,yG),{id:O}=m,A=m2(m,gG);return g.createElement(U0,Xy({},w,A,{scale:s,x:h.x,y:h.y,width:d.width,height:d.height,className:Ve("recharts-".concat(o," ").concat(o),n),viewBox:r,ticks:f,axisType:o}))},SG={allowDataOverflow:Rt.allowDataOverflow,allowDecimals:Rt.allowDecimals,allowDuplicatedCategory:Rt.allowDuplicatedCategory,angle:Rt.angle,axisLine:Jr.axisLine,height:Rt.height,hide:!1,includeHidden:Rt.includeHidden,interval:Rt.interval,minTickGap:Rt.minTickGap,mirror:Rt.mirror,orientation:Rt.orientation,padding:Rt.padding,reversed:Rt.reversed,scale:Rt.scale,tick:Rt.tick,tickCount:Rt.tickCount,tickLine:Jr.tickLine,tickSize:Jr.tickSize,type:Rt.type,xAxisId:0},EG=e=>{var t=Rn(e,SG);return g.createElement(g.Fragment,null,g.createElement(xG,{allowDataOverflow:t.allowDataOverflow,allowDecimals:t.allowDecimals,allowDuplicatedCategory:t.allowDuplicatedCategory,angle:t.angle,dataKey:t.dataKey,domain:t.domain,height:t.height,hide:t.hide,id:t.xAxisId,includeHidden:t.includeHidden,interval:t.interval,minTickGap:t.minTickGap,mirror:t.mirror,name:t.name,orientation:t.orientation,padding:t.padding,reversed:t.reversed,scale:t.scale,tick:t.tick,tickCount:t.tickCount,tickFormatter:t.tickFormatter,ticks:t.ticks,type:t.type,unit:t.unit}),g.createElement(wG,t))},H0=g.memo(EG,nM);H0.displayName="XAxis";var OG=["dangerouslySetInnerHTML","ticks"],AG=["id"];function Fy(){return Fy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Fy.apply(null,arguments)}function v2(e,t){if(e==null)return{};var n,r,l=jG(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function jG(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function NG(e){var t=Bt(),n=g.useRef(null);return g.useLayoutEffect(()=>{n.current===null?t(dY(e)):n.current!==e&&t(hY({prev:n.current,next:e})),n.current=e},[e,t]),g.useLayoutEffect(()=>()=>{n.current&&(t(mY(n.current)),n.current=null)},[t]),null}var CG=e=>{var{yAxisId:t,className:n,width:r,label:l}=e,o=g.useRef(null),s=g.useRef(null),f=ve(IN),d=bn(),h=Bt(),m="yAxis",p=ve(T=>so(T,m,t,d)),x=ve(T=>p7(T,t)),w=ve(T=>v7(T,t)),O=ve(T=>V_(T,m,t,d)),A=ve(T=>m_(T,t));if(g.useLayoutEffect(()=>{if(!(r!=="auto"||!x||P0(l)||g.isValidElement(l)||A==null)){var T=o.current;if(T){var R=T.getCalculatedWidth();Math.round(x.width)!==Math.round(R)&&h(vY({id:t,width:R}))}}},[O,x,h,l,t,r,A]),x==null||w==null||A==null)return null;var{dangerouslySetInnerHTML:S,ticks:j}=e,_=v2(e,OG),{id:C}=A,D=v2(A,AG);return g.createElement(U0,Fy({},_,D,{ref:o,labelRef:s,scale:p,x:w.x,y:w.y,tickTextProps:r==="auto"?{width:void 0}:{width:r},width:x.width,height:x.height,className:Ve("recharts-".concat(m," ").concat(m),n),viewBox:f,ticks:O,axisType:m}))},_G={allowDataOverflow:zt.allowDataOverflow,allowDecimals:zt.allowDecimals,allowDuplicatedCategory:zt.allowDuplicatedCategory,angle:zt.angle,axisLine:Jr.axisLine,hide:!1,includeHidden:zt.includeHidden,interval:zt.interval,minTickGap:zt.minTickGap,mirror:zt.mirror,orientation:zt.orientation,padding:zt.padding,reversed:zt.reversed,scale:zt.scale,tick:zt.tick,tickCount:zt.tickCount,tickLine:Jr.tickLine,tickSize:Jr.tickSize,type:zt.type,width:zt.width,yAxisId:0},TG=e=>{var t=Rn(e,_G);return g.createElement(g.Fragment,null,g.createElement(NG,{interval:t.interval,id:t.yAxisId,scale:t.scale,type:t.type,domain:t.domain,allowDataOverflow:t.allowDataOverflow,dataKey:t.dataKey,allowDuplicatedCategory:t.allowDuplicatedCategory,allowDecimals:t.allowDecimals,tickCount:t.tickCount,padding:t.padding,includeHidden:t.includeHidden,reversed:t.reversed,ticks:t.ticks,width:t.width,orientation:t.orientation,mirror:t.mirror,hide:t.hide,unit:t.unit,name:t.name,angle:t.angle,minTickGap:t.minTickGap,tick:t.tick,tickFormatter:t.tickFormatter}),g.createElement(CG,t))},$0=g.memo(TG,nM);$0.displayName="YAxis";var MG=(e,t)=>t,Y0=Y([MG,We,f_,Mt,cT,va,Tq,Qt],Lq),K0=e=>{var t=e.currentTarget.getBoundingClientRect(),n=t.width/e.currentTarget.offsetWidth,r=t.height/e.currentTarget.offsetHeight;return{chartX:Math.round((e.clientX-t.left)/n),chartY:Math.round((e.clientY-t.top)/r)}},rM=Qn("mouseClick"),aM=Gu();aM.startListening({actionCreator:rM,effect:(e,t)=>{var n=e.payload,r=Y0(t.getState(),K0(n));r?.activeIndex!=null&&t.dispatch(_7({activeIndex:r.activeIndex,activeDataKey:void 0,activeCoordinate:r.activeCoordinate}))}});var Wy=Qn("mouseMove"),iM=Gu(),Kc=null;iM.startListening({actionCreator:Wy,effect:(e,t)=>{var n=e.payload;Kc!==null&&cancelAnimationFrame(Kc);var r=K0(n);Kc=requestAnimationFrame(()=>{var l=t.getState(),o=E0(l,l.tooltip.settings.shared);if(o==="axis"){var s=Y0(l,r);s?.activeIndex!=null?t.dispatch(nT({activeIndex:s.activeIndex,activeDataKey:void 0,activeCoordinate:s.activeCoordinate})):t.dispatch(tT())}Kc=null})}});var p2={accessibilityLayer:!0,barCategoryGap:"10%",barGap:4,barSize:void 0,className:void 0,maxBarSize:void 0,stackOffset:"none",syncId:void 0,syncMethod:"index",baseValue:void 0,reverseStackOrder:!1},lM=gn({name:"rootProps",initialState:p2,reducers:{updateOptions:(e,t)=>{var n;e.accessibilityLayer=t.payload.accessibilityLayer,e.barCategoryGap=t.payload.barCategoryGap,e.barGap=(n=t.payload.barGap)!==null&&n!==void 0?n:p2.barGap,e.barSize=t.payload.barSize,e.maxBarSize=t.payload.maxBarSize,e.stackOffset=t.payload.stackOffset,e.syncId=t.payload.syncId,e.syncMethod=t.payload.syncMethod,e.className=t.payload.className,e.baseValue=t.payload.baseValue,e.reverseStackOrder=t.payload.reverseStackOrder}}}),DG=lM.reducer,{updateOptions:kG}=lM.actions,oM=gn({name:"polarOptions",initialState:null,reducers:{updatePolarOptions:(e,t)=>t.payload}}),{updatePolarOptions:aW}=oM.actions,PG=oM.reducer,uM=Qn("keyDown"),sM=Qn("focus"),G0=Gu();G0.startListening({actionCreator:uM,effect:(e,t)=>{var n=t.getState(),r=n.rootProps.accessibilityLayer!==!1;if(r){var{keyboardInteraction:l}=n.tooltip,o=e.payload;if(!(o!=="ArrowRight"&&o!=="ArrowLeft"&&o!=="Enter")){var s=O0(l,fo(n),ns(n),os(n)),f=s==null?-1:Number(s);if(!(!Number.isFinite(f)||f<0)){var d=va(n);if(o==="Enter"){var h=Kf(n,"axis","hover",String(l.index));t.dispatch(Hy({active:!l.active,activeIndex:l.index,activeDataKey:l.dataKey,activeCoordinate:h}));return}var m=x7(n),p=m==="left-to-right"?1:-1,x=o==="ArrowRight"?1:-1,w=f+x*p;if(!(d==null||w>=d.length||w<0)){var O=Kf(n,"axis","hover",String(w));t.dispatch(Hy({active:!0,activeIndex:w.toString(),activeDataKey:void 0,activeCoordinate:O}))}}}}}});G0.startListening({actionCreator:sM,effect:(e,t)=>{var n=t.getState(),r=n.rootProps.accessibilityLayer!==!1;if(r){var{keyboardInteraction:l}=n.tooltip;if(!l.active&&l.index==null){var o="0",s=Kf(n,"axis","hover",String(o));t.dispatch(Hy({activeDataKey:void 0,active:!0,activeIndex:o,activeCoordinate:s}))}}}});var Vn=Qn("externalEvent"),cM=Gu(),$p=new Map;cM.startListening({actionCreator:Vn,effect:(e,t)=>{var{handler:n,reactEvent:r}=e.payload;if(n!=null){r.persist();var l=r.type,o=$p.get(l);o!==void 0&&cancelAnimationFrame(o);var s=requestAnimationFrame(()=>{try{var f=t.getState(),d={activeCoordinate:vq(f),activeDataKey:hq(f),activeIndex:zu(f),activeLabel:hT(f),activeTooltipIndex:zu(f),isTooltipActive:pq(f)};n(d,r)}finally{$p.delete(l)}});$p.set(l,s)}}});var RG=Y([co],e=>e.tooltipItemPayloads),zG=Y([RG,is,(e,t,n)=>t,(e,t,n)=>n],(e,t,n,r)=>{var l=e.find(f=>f.settings.dataKey===r);if(l!=null){var{positions:o}=l;if(o!=null){var s=t(o,n);return s}}}),fM=Qn("touchMove"),dM=Gu();dM.startListening({actionCreator:fM,effect:(e,t)=>{var n=e.payload;if(!(n.touches==null||n.touches.length===0)){var r=t.getState(),l=E0(r,r.tooltip.settings.shared);if(l==="axis"){var o=Y0(r,K0({clientX:n.touches[0].clientX,clientY:n.touches[0].clientY,currentTarget:n.currentTarget}));o?.activeIndex!=null&&t.dispatch(nT({activeIndex:o.activeIndex,activeDataKey:void 0,activeCoordinate:o.activeCoordinate}))}else if(l==="item"){var s,f=n.touches[0];if(document.elementFromPoint==null)return;var d=document.elementFromPoint(f.clientX,f.clientY);if(!d||!d.getAttribute)return;var h=d.getAttribute(c6),m=(s=d.getAttribute(f6))!==null&&s!==void 0?s:void 0,p=zG(t.getState(),h,m);t.dispatch(C7({activeDataKey:m,activeIndex:h,activeCoordinate:p}))}}}});var LG=oN({brush:XY,cartesianAxis:pY,chartData:vH,errorBars:AY,graphicalItems:V$,layout:VL,legend:r8,options:cH,polarAxis:z$,polarOptions:PG,referenceElements:tK,rootProps:DG,tooltip:T7,zIndex:Zq}),BG=function(t){return gL({reducer:LG,preloadedState:t,middleware:n=>{var r;return n({serializableCheck:!1,immutableCheck:!["commonjs","es6","production"].includes((r="es6")!==null&&r!==void 0?r:"")}).concat([aM.middleware,iM.middleware,G0.middleware,cM.middleware,dM.middleware])},enhancers:n=>{var r=n;return typeof n=="function"&&(r=n()),r.concat(SN({type:"raf"}))},devTools:ro.devToolsEnabled})};function UG(e){var{preloadedState:t,children:n,reduxStoreName:r}=e,l=bn(),o=g.useRef(null);if(l)return n;o.current==null&&(o.current=BG(t));var s=Sg;return g.createElement(YY,{context:s,store:o.current},n)}function IG(e){var{layout:t,margin:n}=e,r=Bt(),l=bn();return g.useEffect(()=>{l||(r(YL(t)),r($L(n)))},[r,l,t,n]),null}var qG=g.memo(IG,z0);function HG(e){var t=Bt();return g.useEffect(()=>{t(kG(e))},[t,e]),null}function y2(e){var{zIndex:t,isPanorama:n}=e,r=n?"recharts-zindex-panorama-":"recharts-zindex-",l=IT("".concat(r).concat(t)),o=Bt();return g.useLayoutEffect(()=>(o(Fq({zIndex:t,elementId:l,isPanorama:n})),()=>{o(Wq({zIndex:t,isPanorama:n}))}),[o,t,l,n]),g.createElement("g",{tabIndex:-1,id:l})}function g2(e){var{children:t,isPanorama:n}=e,r=ve(Uq);if(!r||r.length===0)return t;var l=r.filter(s=>s<0),o=r.filter(s=>s>0);return g.createElement(g.Fragment,null,l.map(s=>g.createElement(y2,{key:s,zIndex:s,isPanorama:n})),t,o.map(s=>g.createElement(y2,{key:s,zIndex:s,isPanorama:n})))}var $G=["children"];function YG(e,t){if(e==null)return{};var n,r,l=KG(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function KG(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}function Zf(){return Zf=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Zf.apply(null,arguments)}var GG={width:"100%",height:"100%",display:"block"},VG=g.forwardRef((e,t)=>{var n=VN(),r=XN(),l=nC();if(!Er(n)||!Er(r))return null;var{children:o,otherAttributes:s,title:f,desc:d}=e,h,m;return s!=null&&(typeof s.tabIndex=="number"?h=s.tabIndex:h=l?0:void 0,typeof s.role=="string"?m=s.role:m=l?"application":void 0),g.createElement(Cj,Zf({},s,{title:f,desc:d,role:m,tabIndex:h,width:n,height:r,style:GG,ref:t}),o)}),XG=e=>{var{children:t}=e,n=ve(xd);if(!n)return null;var{width:r,height:l,y:o,x:s}=n;return g.createElement(Cj,{width:r,height:l,x:s,y:o},t)},b2=g.forwardRef((e,t)=>{var{children:n}=e,r=YG(e,$G),l=bn();return l?g.createElement(XG,null,g.createElement(g2,{isPanorama:!0},n)):g.createElement(VG,Zf({ref:t},r),g.createElement(g2,{isPanorama:!1},n))});function FG(){var e=Bt(),[t,n]=g.useState(null),r=ve(s6);return g.useEffect(()=>{if(t!=null){var l=t.getBoundingClientRect(),o=l.width/t.offsetWidth;st(o)&&o!==r&&e(GL(o))}},[t,e,r]),n}function x2(e,t){var n=Object.keys(e);if(Object.getOwnPropertySymbols){var r=Object.getOwnPropertySymbols(e);t&&(r=r.filter(function(l){return Object.getOwnPropertyDescriptor(e,l).enumerable})),n.push.apply(n,r)}return n}function WG(e){for(var t=1;t<arguments.length;t++){var n=arguments[t]!=null?arguments[t]:{};t%2?x2(Object(n),!0).forEach(function(r){ZG(e,r,n[r])}):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(n)):x2(Object(n)).forEach(function(r){Object.defineProperty(e,r,Object.getOwnPropertyDescriptor(n,r))})}return e}function ZG(e,t,n){return(t=QG(t))in e?Object.defineProperty(e,t,{value:n,enumerable:!0,configurable:!0,writable:!0}):e[t]=n,e}function QG(e){var t=JG(e,"string");return typeof t=="symbol"?t:t+""}function JG(e,t){if(typeof e!="object"||!e)return e;var n=e[Symbol.toPrimitive];if(n!==void 0){var r=n.call(e,t);if(typeof r!="object")return r;throw new TypeError("@@toPrimitive must return a primitive value.")}return(t==="string"?String:Number)(e)}function Bi(){return Bi=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Bi.apply(null,arguments)}var eV=()=>(OH(),null);function Qf(e){if(typeof e=="number")return e;if(typeof e=="string"){var t=parseFloat(e);if(!Number.isNaN(t))return t}return 0}var tV=g.forwardRef((e,t)=>{var n,r,l=g.useRef(null),[o,s]=g.useState({containerWidth:Qf((n=e.style)===null||n===void 0?void 0:n.width),containerHeight:Qf((r=e.style)===null||r===void 0?void 0:r.height)}),f=g.useCallback((h,m)=>{s(p=>{var x=Math.round(h),w=Math.round(m);return p.containerWidth===x&&p.containerHeight===w?p:{containerWidth:x,containerHeight:w}})},[]),d=g.useCallback(h=>{if(typeof t=="function"&&t(h),h!=null&&typeof ResizeObserver<"u"){var{width:m,height:p}=h.getBoundingClientRect();f(m,p);var x=O=>{var{width:A,height:S}=O[0].contentRect;f(A,S)},w=new ResizeObserver(x);w.observe(h),l.current=w}},[t,f]);return g.useEffect(()=>()=>{var h=l.current;h?.disconnect()},[f]),g.createElement(g.Fragment,null,g.createElement(Sd,{width:o.containerWidth,height:o.containerHeight}),g.createElement("div",Bi({ref:d},e)))}),nV=g.forwardRef((e,t)=>{var{width:n,height:r}=e,[l,o]=g.useState({containerWidth:Qf(n),containerHeight:Qf(r)}),s=g.useCallback((d,h)=>{o(m=>{var p=Math.round(d),x=Math.round(h);return m.containerWidth===p&&m.containerHeight===x?m:{containerWidth:p,containerHeight:x}})},[]),f=g.useCallback(d=>{if(typeof t=="function"&&t(d),d!=null){var{width:h,height:m}=d.getBoundingClientRect();s(h,m)}},[t,s]);return g.createElement(g.Fragment,null,g.createElement(Sd,{width:l.containerWidth,height:l.containerHeight}),g.createElement("div",Bi({ref:f},e)))}),rV=g.forwardRef((e,t)=>{var{width:n,height:r}=e;return g.createElement(g.Fragment,null,g.createElement(Sd,{width:n,height:r}),g.createElement("div",Bi({ref:t},e)))}),aV=g.forwardRef((e,t)=>{var{width:n,height:r}=e;return ta(n)||ta(r)?g.createElement(nV,Bi({},e,{ref:t})):g.createElement(rV,Bi({},e,{ref:t}))});function iV(e){return e===!0?tV:aV}var lV=g.forwardRef((e,t)=>{var{children:n,className:r,height:l,onClick:o,onContextMenu:s,onDoubleClick:f,onMouseDown:d,onMouseEnter:h,onMouseLeave:m,onMouseMove:p,onMouseUp:x,onTouchEnd:w,onTouchMove:O,onTouchStart:A,style:S,width:j,responsive:_,dispatchTouchEvents:C=!0}=e,D=g.useRef(null),T=Bt(),[R,k]=g.useState(null),[I,re]=g.useState(null),ae=FG(),W=Mg(),J=W?.width>0?W.width:j,pe=W?.height>0?W.height:l,ge=g.useCallback(V=>{ae(V),typeof t=="function"&&t(V),k(V),re(V),V!=null&&(D.current=V)},[ae,t,k,re]),xe=g.useCallback(V=>{T(rM(V)),T(Vn({handler:o,reactEvent:V}))},[T,o]),q=g.useCallback(V=>{T(Wy(V)),T(Vn({handler:h,reactEvent:V}))},[T,h]),Q=g.useCallback(V=>{T(tT()),T(Vn({handler:m,reactEvent:V}))},[T,m]),X=g.useCallback(V=>{T(Wy(V)),T(Vn({handler:p,reactEvent:V}))},[T,p]),le=g.useCallback(()=>{T(sM())},[T]),Oe=g.useCallback(V=>{T(uM(V.key))},[T]),P=g.useCallback(V=>{T(Vn({handler:s,reactEvent:V}))},[T,s]),K=g.useCallback(V=>{T(Vn({handler:f,reactEvent:V}))},[T,f]),ee=g.useCallback(V=>{T(Vn({handler:d,reactEvent:V}))},[T,d]),ne=g.useCallback(V=>{T(Vn({handler:x,reactEvent:V}))},[T,x]),he=g.useCallback(V=>{T(Vn({handler:A,reactEvent:V}))},[T,A]),we=g.useCallback(V=>{C&&T(fM(V)),T(Vn({handler:O,reactEvent:V}))},[T,C,O]),ue=g.useCallback(V=>{T(Vn({handler:w,reactEvent:V}))},[T,w]),it=iV(_);return g.createElement(wT.Provider,{value:R},g.createElement(x4.Provider,{value:I},g.createElement(it,{width:J??S?.width,height:pe??S?.height,className:Ve("recharts-wrapper",r),style:WG({position:"relative",cursor:"default",width:J,height:pe},S),onClick:xe,onContextMenu:P,onDoubleClick:K,onFocus:le,onKeyDown:Oe,onMouseDown:ee,onMouseEnter:q,onMouseLeave:Q,onMouseMove:X,onMouseUp:ne,onTouchEnd:ue,onTouchMove:we,onTouchStart:he,ref:ge},g.createElement(eV,null),n)))}),oV=["width","height","responsive","children","className","style","compact","title","desc"];function uV(e,t){if(e==null)return{};var n,r,l=sV(e,t);if(Object.getOwnPropertySymbols){var o=Object.getOwnPropertySymbols(e);for(r=0;r<o.length;r++)n=o[r],t.indexOf(n)===-1&&{}.propertyIsEnumerable.call(e,n)&&(l[n]=e[n])}return l}function sV(e,t){if(e==null)return{};var n={};for(var r in e)if({}.hasOwnProperty.call(e,r)){if(t.indexOf(r)!==-1)continue;n[r]=e[r]}return n}var cV=g.forwardRef((e,t)=>{var{width:n,height:r,responsive:l,children:o,className:s,style:f,compact:d,title:h,desc:m}=e,p=uV(e,oV),x=sr(p);return d?g.createElement(g.Fragment,null,g.createElement(Sd,{width:n,height:r}),g.createElement(b2,{otherAttributes:x,title:h,desc:m},o)):g.createElement(lV,{className:s,style:f,width:n,height:r,responsive:l??!1,onClick:e.onClick,onMouseLeave:e.onMouseLeave,onMouseEnter:e.onMouseEnter,onMouseMove:e.onMouseMove,onMouseDown:e.onMouseDown,onMouseUp:e.onMouseUp,onContextMenu:e.onContextMenu,onDoubleClick:e.onDoubleClick,onTouchStart:e.onTouchStart,onTouchMove:e.onTouchMove,onTouchEnd:e.onTouchEnd},g.createElement(b2,{otherAttributes:x,title:h,desc:m,ref:t},g.createElement(rK,null,o)))});function Zy(){return Zy=Object.assign?Object.assign.bind():function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)({}).hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},Zy.apply(null,arguments)}var fV={top:5,right:5,bottom:5,left:5},dV={accessibilityLayer:!0,barCategoryGap:"10%",barGap:4,layout:"horizontal",margin:fV,responsive:!1,reverseStackOrder:!1,stackOffset:"none",syncMethod:"index"},hV=g.forwardRef(function(t,n){var r,l=Rn(t.categoricalChartProps,dV),{chartName:o,defaultTooltipEventType:s,validateTooltipEventTypes:f,tooltipPayloadSearcher:d,categoricalChartProps:h}=t,m={chartName:o,defaultTooltipEventType:s,validateTooltipEventTypes:f,tooltipPayloadSearcher:d,eventEmitter:void 0};return g.createElement(UG,{preloadedState:{options:m},reduxStoreName:(r=h.id)!==null&&r!==void 0?r:o},g.createElement(VY,{chartData:h.data}),g.createElement(qG,{layout:l.layout,margin:l.margin}),g.createElement(HG,{baseValue:l.baseValue,accessibilityLayer:l.accessibilityLayer,barCategoryGap:l.barCategoryGap,maxBarSize:l.maxBarSize,stackOffset:l.stackOffset,barGap:l.barGap,barSize:l.barSize,syncId:l.syncId,syncMethod:l.syncMethod,className:l.className,reverseStackOrder:l.reverseStackOrder}),g.createElement(cV,Zy({},l,{ref:n})))}),mV=["axis"],hM=g.forwardRef((e,t)=>g.createElement(hV,{chartName:"AreaChart",defaultTooltipEventType:"axis",validateTooltipEventTypes:mV,tooltipPayloadSearcher:uH,categoricalChartProps:e,ref:t}));function ho({className:e}){const t=ua(),n=l=>t.pathname===l,r=[{icon:Mz,label:"Panel",path:"/dashboard"},{icon:yj,label:"Kartlarım",path:"/cards"},{icon:fg,label:"Yatırımlar",path:"/invest"},{icon:pj,label:"Kredi Başvurusu",path:"/credit-application"},{icon:_z,label:"Geçmiş",path:"/history"},{icon:qz,label:"Ayarlar",path:"/settings"}];return b.jsxs("div",{className:Xe("pb-12 min-h-screen border-r bg-card",e),children:[b.jsx("div",{className:"space-y-4 py-4",children:b.jsxs("div",{className:"px-3 py-2",children:[b.jsx("h2",{className:"mb-2 px-4 text-2xl font-bold tracking-tight text-primary flex items-center gap-2",children:"DinoBank"}),b.jsx("div",{className:"space-y-1",children:r.map(l=>b.jsx(Va,{to:l.path,children:b.jsxs(ht,{variant:n(l.path)?"secondary":"ghost",className:"w-full justify-start",children:[b.jsx(l.icon,{className:"mr-2 h-4 w-4"}),l.label]})},l.path))})]})}),b.jsx("div",{className:"px-3 py-2 mt-auto border-t",children:b.jsxs("div",{className:"flex items-center gap-3 px-4 py-4",children:[b.jsx("div",{className:"h-9 w-9 rounded-full bg-primary/20 flex items-center justify-center text-primary",children:b.jsx(xj,{className:"h-5 w-5"})}),b.jsxs("div",{className:"flex-1 overflow-hidden",children:[b.jsx("p",{className:"text-sm font-medium leading-none truncate",children:"T-Rex Admin"}),b.jsx("p",{className:"text-xs text-muted-foreground truncate",children:"admin@dinobank.com"})]}),b.jsx(ht,{variant:"ghost",size:"icon",className:"text-destructive hover:text-destructive",onClick:()=>{localStorage.removeItem("token"),window.location.href="/login"},children:b.jsx(Rz,{className:"h-4 w-4"})})]})})]})}function Fa(e,t,{checkForDefaultPrevented:n=!0}={}){return function(l){if(e?.(l),n===!1||!l.defaultPrevented)return t?.(l)}}function vV(e,t){const n=g.createContext(t),r=o=>{const{children:s,...f}=o,d=g.useMemo(()=>f,Object.values(f));return b.jsx(n.Provider,{value:d,children:s})};r.displayName=e+"Provider";function l(o){const s=g.useContext(n);if(s)return s;if(t!==void 0)return t;throw new Error(`\`${o}\` must be used within \`${e}\``)}return[r,l]}function pV(e,t=[]){let n=[];function r(o,s){const f=g.createContext(s),d=n.length;n=[...n,s];const h=p=>{const{scope:x,children:w,...O}=p,A=x?.[e]?.[d]||f,S=g.useMemo(()=>O,Object.values(O));return b.jsx(A.Provider,{value:S,children:w})};h.displayName=o+"Provider";function m(p,x){const w=x?.[e]?.[d]||f,O=g.useContext(w);if(O)return O;if(s!==void 0)return s;throw new Error(`\`${p}\` must be used within \`${o}\``)}return[h,m]}const l=()=>{const o=n.map(s=>g.createContext(s));return function(f){const d=f?.[e]||o;return g.useMemo(()=>({[`__scope${e}`]:{...f,[e]:d}}),[f,d])}};return l.scopeName=e,[r,yV(l,...t)]}function yV(...e){const t=e[0];if(e.length===1)return t;const n=()=>{const r=e.map(l=>({useScope:l(),scopeName:l.scopeName}));return function(o){const s=r.reduce((f,{useScope:d,scopeName:h})=>{const p=d(o)[`__scope${h}`];return{...f,...p}},{});return g.useMemo(()=>({[`__scope${t.scopeName}`]:s}),[s])}};return n.scopeName=t.scopeName,n}var Bu=globalThis?.document?g.useLayoutEffect:()=>{},gV=ed[" useId ".trim().toString()]||(()=>{}),bV=0;function Yp(e){const[t,n]=g.useState(gV());return Bu(()=>{n(r=>r??String(bV++))},[e]),e||(t?`radix-${t}`:"")}var xV=ed[" useInsertionEffect ".trim().toString()]||Bu;function wV({prop:e,defaultProp:t,onChange:n=()=>{},caller:r}){const[l,o,s]=SV({defaultProp:t,onChange:n}),f=e!==void 0,d=f?e:l;{const m=g.useRef(e!==void 0);g.useEffect(()=>{const p=m.current;p!==f&&console.warn(`${r} is changing from ${p?"controlled":"uncontrolled"} to ${f?"controlled":"uncontrolled"}. Components should not switch from controlled to uncontrolled (or vice versa). Decide between using a controlled or uncontrolled value for the lifetime of the component.`),m.current=f},[f,r])}const h=g.useCallback(m=>{if(f){const p=EV(m)?m(e):m;p!==e&&s.current?.(p)}else o(m)},[f,e,o,s]);return[d,h]}function SV({defaultProp:e,onChange:t}){const[n,r]=g.useState(e),l=g.useRef(n),o=g.useRef(t);return xV(()=>{o.current=t},[t]),g.useEffect(()=>{l.current!==n&&(o.current?.(n),l.current=n)},[n,l]),[n,r,o]}function EV(e){return typeof e=="function"}function OV(e){const t=AV(e),n=g.forwardRef((r,l)=>{const{children:o,...s}=r,f=g.Children.toArray(o),d=f.find(NV);if(d){const h=d.props.children,m=f.map(p=>p===d?g.Children.count(h)>1?g.Children.only(null):g.isValidElement(h)?h.props.children:null:p);return b.jsx(t,{...s,ref:l,children:g.isValidElement(h)?g.cloneElement(h,void 0,m):null})}return b.jsx(t,{...s,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}function AV(e){const t=g.forwardRef((n,r)=>{const{children:l,...o}=n;if(g.isValidElement(l)){const s=_V(l),f=CV(o,l.props);return l.type!==g.Fragment&&(f.ref=r?Jl(r,s):s),g.cloneElement(l,f)}return g.Children.count(l)>1?g.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var jV=Symbol("radix.slottable");function NV(e){return g.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===jV}function CV(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function _V(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}var TV=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],mM=TV.reduce((e,t)=>{const n=OV(`Primitive.${t}`),r=g.forwardRef((l,o)=>{const{asChild:s,...f}=l,d=s?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),b.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{});function MV(e,t){e&&rd.flushSync(()=>e.dispatchEvent(t))}function Uu(e){const t=g.useRef(e);return g.useEffect(()=>{t.current=e}),g.useMemo(()=>(...n)=>t.current?.(...n),[])}function DV(e,t=globalThis?.document){const n=Uu(e);g.useEffect(()=>{const r=l=>{l.key==="Escape"&&n(l)};return t.addEventListener("keydown",r,{capture:!0}),()=>t.removeEventListener("keydown",r,{capture:!0})},[n,t])}var kV="DismissableLayer",Qy="dismissableLayer.update",PV="dismissableLayer.pointerDownOutside",RV="dismissableLayer.focusOutside",w2,vM=g.createContext({layers:new Set,layersWithOutsidePointerEventsDisabled:new Set,branches:new Set}),pM=g.forwardRef((e,t)=>{const{disableOutsidePointerEvents:n=!1,onEscapeKeyDown:r,onPointerDownOutside:l,onFocusOutside:o,onInteractOutside:s,onDismiss:f,...d}=e,h=g.useContext(vM),[m,p]=g.useState(null),x=m?.ownerDocument??globalThis?.document,[,w]=g.useState({}),O=Ii(t,k=>p(k)),A=Array.from(h.layers),[S]=[...h.layersWithOutsidePointerEventsDisabled].slice(-1),j=A.indexOf(S),_=m?A.indexOf(m):-1,C=h.layersWithOutsidePointerEventsDisabled.size>0,D=_>=j,T=BV(k=>{const I=k.target,re=[...h.branches].some(ae=>ae.contains(I));!D||re||(l?.(k),s?.(k),k.defaultPrevented||f?.())},x),R=UV(k=>{const I=k.target;[...h.branches].some(ae=>ae.contains(I))||(o?.(k),s?.(k),k.defaultPrevented||f?.())},x);return DV(k=>{_===h.layers.size-1&&(r?.(k),!k.defaultPrevented&&f&&(k.preventDefault(),f()))},x),g.useEffect(()=>{if(m)return n&&(h.layersWithOutsidePointerEventsDisabled.size===0&&(w2=x.body.style.pointerEvents,x.body.style.pointerEvents="none"),h.layersWithOutsidePointerEventsDisabled.add(m)),h.layers.add(m),S2(),()=>{n&&h.layersWithOutsidePointerEventsDisabled.size===1&&(x.body.style.pointerEvents=w2)}},[m,x,n,h]),g.useEffect(()=>()=>{m&&(h.layers.delete(m),h.layersWithOutsidePointerEventsDisabled.delete(m),S2())},[m,h]),g.useEffect(()=>{const k=()=>w({});return document.addEventListener(Qy,k),()=>document.removeEventListener(Qy,k)},[]),b.jsx(mM.div,{...d,ref:O,style:{pointerEvents:C?D?"auto":"none":void 0,...e.style},onFocusCapture:Fa(e.onFocusCapture,R.onFocusCapture),onBlurCapture:Fa(e.onBlurCapture,R.onBlurCapture),onPointerDownCapture:Fa(e.onPointerDownCapture,T.onPointerDownCapture)})});pM.displayName=kV;var zV="DismissableLayerBranch",LV=g.forwardRef((e,t)=>{const n=g.useContext(vM),r=g.useRef(null),l=Ii(t,r);return g.useEffect(()=>{const o=r.current;if(o)return n.branches.add(o),()=>{n.branches.delete(o)}},[n.branches]),b.jsx(mM.div,{...e,ref:l})});LV.displayName=zV;function BV(e,t=globalThis?.document){const n=Uu(e),r=g.useRef(!1),l=g.useRef(()=>{});return g.useEffect(()=>{const o=f=>{if(f.target&&!r.current){let d=function(){yM(PV,n,h,{discrete:!0})};const h={originalEvent:f};f.pointerType==="touch"?(t.removeEventListener("click",l.current),l.current=d,t.addEventListener("click",l.current,{once:!0})):d()}else t.removeEventListener("click",l.current);r.current=!1},s=window.setTimeout(()=>{t.addEventListener("pointerdown",o)},0);return()=>{window.clearTimeout(s),t.removeEventListener("pointerdown",o),t.removeEventListener("click",l.current)}},[t,n]),{onPointerDownCapture:()=>r.current=!0}}function UV(e,t=globalThis?.document){const n=Uu(e),r=g.useRef(!1);return g.useEffect(()=>{const l=o=>{o.target&&!r.current&&yM(RV,n,{originalEvent:o},{discrete:!1})};return t.addEventListener("focusin",l),()=>t.removeEventListener("focusin",l)},[t,n]),{onFocusCapture:()=>r.current=!0,onBlurCapture:()=>r.current=!1}}function S2(){const e=new CustomEvent(Qy);document.dispatchEvent(e)}function yM(e,t,n,{discrete:r}){const l=n.originalEvent.target,o=new CustomEvent(e,{bubbles:!1,cancelable:!0,detail:n});t&&l.addEventListener(e,t,{once:!0}),r?MV(l,o):l.dispatchEvent(o)}function IV(e){const t=qV(e),n=g.forwardRef((r,l)=>{const{children:o,...s}=r,f=g.Children.toArray(o),d=f.find($V);if(d){const h=d.props.children,m=f.map(p=>p===d?g.Children.count(h)>1?g.Children.only(null):g.isValidElement(h)?h.props.children:null:p);return b.jsx(t,{...s,ref:l,children:g.isValidElement(h)?g.cloneElement(h,void 0,m):null})}return b.jsx(t,{...s,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}function qV(e){const t=g.forwardRef((n,r)=>{const{children:l,...o}=n;if(g.isValidElement(l)){const s=KV(l),f=YV(o,l.props);return l.type!==g.Fragment&&(f.ref=r?Jl(r,s):s),g.cloneElement(l,f)}return g.Children.count(l)>1?g.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var HV=Symbol("radix.slottable");function $V(e){return g.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===HV}function YV(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function KV(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}var GV=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],VV=GV.reduce((e,t)=>{const n=IV(`Primitive.${t}`),r=g.forwardRef((l,o)=>{const{asChild:s,...f}=l,d=s?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),b.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{}),Kp="focusScope.autoFocusOnMount",Gp="focusScope.autoFocusOnUnmount",E2={bubbles:!1,cancelable:!0},XV="FocusScope",gM=g.forwardRef((e,t)=>{const{loop:n=!1,trapped:r=!1,onMountAutoFocus:l,onUnmountAutoFocus:o,...s}=e,[f,d]=g.useState(null),h=Uu(l),m=Uu(o),p=g.useRef(null),x=Ii(t,A=>d(A)),w=g.useRef({paused:!1,pause(){this.paused=!0},resume(){this.paused=!1}}).current;g.useEffect(()=>{if(r){let A=function(C){if(w.paused||!f)return;const D=C.target;f.contains(D)?p.current=D:$a(p.current,{select:!0})},S=function(C){if(w.paused||!f)return;const D=C.relatedTarget;D!==null&&(f.contains(D)||$a(p.current,{select:!0}))},j=function(C){if(document.activeElement===document.body)for(const T of C)T.removedNodes.length>0&&$a(f)};document.addEventListener("focusin",A),document.addEventListener("focusout",S);const _=new MutationObserver(j);return f&&_.observe(f,{childList:!0,subtree:!0}),()=>{document.removeEventListener("focusin",A),document.removeEventListener("focusout",S),_.disconnect()}}},[r,f,w.paused]),g.useEffect(()=>{if(f){A2.add(w);const A=document.activeElement;if(!f.contains(A)){const j=new CustomEvent(Kp,E2);f.addEventListener(Kp,h),f.dispatchEvent(j),j.defaultPrevented||(FV(eX(bM(f)),{select:!0}),document.activeElement===A&&$a(f))}return()=>{f.removeEventListener(Kp,h),setTimeout(()=>{const j=new CustomEvent(Gp,E2);f.addEventListener(Gp,m),f.dispatchEvent(j),j.defaultPrevented||$a(A??document.body,{select:!0}),f.removeEventListener(Gp,m),A2.remove(w)},0)}}},[f,h,m,w]);const O=g.useCallback(A=>{if(!n&&!r||w.paused)return;const S=A.key==="Tab"&&!A.altKey&&!A.ctrlKey&&!A.metaKey,j=document.activeElement;if(S&&j){const _=A.currentTarget,[C,D]=WV(_);C&&D?!A.shiftKey&&j===D?(A.preventDefault(),n&&$a(C,{select:!0})):A.shiftKey&&j===C&&(A.preventDefault(),n&&$a(D,{select:!0})):j===_&&A.preventDefault()}},[n,r,w.paused]);return b.jsx(VV.div,{tabIndex:-1,...s,ref:x,onKeyDown:O})});gM.displayName=XV;function FV(e,{select:t=!1}={}){const n=document.activeElement;for(const r of e)if($a(r,{select:t}),document.activeElement!==n)return}function WV(e){const t=bM(e),n=O2(t,e),r=O2(t.reverse(),e);return[n,r]}function bM(e){const t=[],n=document.createTreeWalker(e,NodeFilter.SHOW_ELEMENT,{acceptNode:r=>{const l=r.tagName==="INPUT"&&r.type==="hidden";return r.disabled||r.hidden||l?NodeFilter.FILTER_SKIP:r.tabIndex>=0?NodeFilter.FILTER_ACCEPT:NodeFilter.FILTER_SKIP}});for(;n.nextNode();)t.push(n.currentNode);return t}function O2(e,t){for(const n of e)if(!ZV(n,{upTo:t}))return n}function ZV(e,{upTo:t}){if(getComputedStyle(e).visibility==="hidden")return!0;for(;e;){if(t!==void 0&&e===t)return!1;if(getComputedStyle(e).display==="none")return!0;e=e.parentElement}return!1}function QV(e){return e instanceof HTMLInputElement&&"select"in e}function $a(e,{select:t=!1}={}){if(e&&e.focus){const n=document.activeElement;e.focus({preventScroll:!0}),e!==n&&QV(e)&&t&&e.select()}}var A2=JV();function JV(){let e=[];return{add(t){const n=e[0];t!==n&&n?.pause(),e=j2(e,t),e.unshift(t)},remove(t){e=j2(e,t),e[0]?.resume()}}}function j2(e,t){const n=[...e],r=n.indexOf(t);return r!==-1&&n.splice(r,1),n}function eX(e){return e.filter(t=>t.tagName!=="A")}function tX(e){const t=nX(e),n=g.forwardRef((r,l)=>{const{children:o,...s}=r,f=g.Children.toArray(o),d=f.find(aX);if(d){const h=d.props.children,m=f.map(p=>p===d?g.Children.count(h)>1?g.Children.only(null):g.isValidElement(h)?h.props.children:null:p);return b.jsx(t,{...s,ref:l,children:g.isValidElement(h)?g.cloneElement(h,void 0,m):null})}return b.jsx(t,{...s,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}function nX(e){const t=g.forwardRef((n,r)=>{const{children:l,...o}=n;if(g.isValidElement(l)){const s=lX(l),f=iX(o,l.props);return l.type!==g.Fragment&&(f.ref=r?Jl(r,s):s),g.cloneElement(l,f)}return g.Children.count(l)>1?g.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var rX=Symbol("radix.slottable");function aX(e){return g.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===rX}function iX(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function lX(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}var oX=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],uX=oX.reduce((e,t)=>{const n=tX(`Primitive.${t}`),r=g.forwardRef((l,o)=>{const{asChild:s,...f}=l,d=s?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),b.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{}),sX="Portal",xM=g.forwardRef((e,t)=>{const{container:n,...r}=e,[l,o]=g.useState(!1);Bu(()=>o(!0),[]);const s=n||l&&globalThis?.document?.body;return s?i3.createPortal(b.jsx(uX.div,{...r,ref:t}),s):null});xM.displayName=sX;function cX(e,t){return g.useReducer((n,r)=>t[n][r]??n,e)}var qd=e=>{const{present:t,children:n}=e,r=fX(t),l=typeof n=="function"?n({present:r.isPresent}):g.Children.only(n),o=Ii(r.ref,dX(l));return typeof n=="function"||r.isPresent?g.cloneElement(l,{ref:o}):null};qd.displayName="Presence";function fX(e){const[t,n]=g.useState(),r=g.useRef(null),l=g.useRef(e),o=g.useRef("none"),s=e?"mounted":"unmounted",[f,d]=cX(s,{mounted:{UNMOUNT:"unmounted",ANIMATION_OUT:"unmountSuspended"},unmountSuspended:{MOUNT:"mounted",ANIMATION_END:"unmounted"},unmounted:{MOUNT:"mounted"}});return g.useEffect(()=>{const h=Gc(r.current);o.current=f==="mounted"?h:"none"},[f]),Bu(()=>{const h=r.current,m=l.current;if(m!==e){const x=o.current,w=Gc(h);e?d("MOUNT"):w==="none"||h?.display==="none"?d("UNMOUNT"):d(m&&x!==w?"ANIMATION_OUT":"UNMOUNT"),l.current=e}},[e,d]),Bu(()=>{if(t){let h;const m=t.ownerDocument.defaultView??window,p=w=>{const A=Gc(r.current).includes(CSS.escape(w.animationName));if(w.target===t&&A&&(d("ANIMATION_END"),!l.current)){const S=t.style.animationFillMode;t.style.animationFillMode="forwards",h=m.setTimeout(()=>{t.style.animationFillMode==="forwards"&&(t.style.animationFillMode=S)})}},x=w=>{w.target===t&&(o.current=Gc(r.current))};return t.addEventListener("animationstart",x),t.addEventListener("animationcancel",p),t.addEventListener("animationend",p),()=>{m.clearTimeout(h),t.removeEventListener("animationstart",x),t.removeEventListener("animationcancel",p),t.removeEventListener("animationend",p)}}else d("ANIMATION_END")},[t,d]),{isPresent:["mounted","unmountSuspended"].includes(f),ref:g.useCallback(h=>{r.current=h?getComputedStyle(h):null,n(h)},[])}}function Gc(e){return e?.animationName||"none"}function dX(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}function wM(e){const t=hX(e),n=g.forwardRef((r,l)=>{const{children:o,...s}=r,f=g.Children.toArray(o),d=f.find(vX);if(d){const h=d.props.children,m=f.map(p=>p===d?g.Children.count(h)>1?g.Children.only(null):g.isValidElement(h)?h.props.children:null:p);return b.jsx(t,{...s,ref:l,children:g.isValidElement(h)?g.cloneElement(h,void 0,m):null})}return b.jsx(t,{...s,ref:l,children:o})});return n.displayName=`${e}.Slot`,n}function hX(e){const t=g.forwardRef((n,r)=>{const{children:l,...o}=n;if(g.isValidElement(l)){const s=yX(l),f=pX(o,l.props);return l.type!==g.Fragment&&(f.ref=r?Jl(r,s):s),g.cloneElement(l,f)}return g.Children.count(l)>1?g.Children.only(null):null});return t.displayName=`${e}.SlotClone`,t}var mX=Symbol("radix.slottable");function vX(e){return g.isValidElement(e)&&typeof e.type=="function"&&"__radixId"in e.type&&e.type.__radixId===mX}function pX(e,t){const n={...t};for(const r in t){const l=e[r],o=t[r];/^on[A-Z]/.test(r)?l&&o?n[r]=(...f)=>{const d=o(...f);return l(...f),d}:l&&(n[r]=l):r==="style"?n[r]={...l,...o}:r==="className"&&(n[r]=[l,o].filter(Boolean).join(" "))}return{...e,...n}}function yX(e){let t=Object.getOwnPropertyDescriptor(e.props,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning;return n?e.ref:(t=Object.getOwnPropertyDescriptor(e,"ref")?.get,n=t&&"isReactWarning"in t&&t.isReactWarning,n?e.props.ref:e.props.ref||e.ref)}var gX=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],ss=gX.reduce((e,t)=>{const n=wM(`Primitive.${t}`),r=g.forwardRef((l,o)=>{const{asChild:s,...f}=l,d=s?n:t;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),b.jsx(d,{...f,ref:o})});return r.displayName=`Primitive.${t}`,{...e,[t]:r}},{}),Vp=0;function bX(){g.useEffect(()=>{const e=document.querySelectorAll("[data-radix-focus-guard]");return document.body.insertAdjacentElement("afterbegin",e[0]??N2()),document.body.insertAdjacentElement("beforeend",e[1]??N2()),Vp++,()=>{Vp===1&&document.querySelectorAll("[data-radix-focus-guard]").forEach(t=>t.remove()),Vp--}},[])}function N2(){const e=document.createElement("span");return e.setAttribute("data-radix-focus-guard",""),e.tabIndex=0,e.style.outline="none",e.style.opacity="0",e.style.position="fixed",e.style.pointerEvents="none",e}var gr=function(){return gr=Object.assign||function(t){for(var n,r=1,l=arguments.length;r<l;r++){n=arguments[r];for(var o in n)Object.prototype.hasOwnProperty.call(n,o)&&(t[o]=n[o])}return t},gr.apply(this,arguments)};function SM(e,t){var n={};for(var r in e)Object.prototype.hasOwnProperty.call(e,r)&&t.indexOf(r)<0&&(n[r]=e[r]);if(e!=null&&typeof Object.getOwnPropertySymbols=="function")for(var l=0,r=Object.getOwnPropertySymbols(e);l<r.length;l++)t.indexOf(r[l])<0&&Object.prototype.propertyIsEnumerable.call(e,r[l])&&(n[r[l]]=e[r[l]]);return n}function xX(e,t,n){if(n||arguments.length===2)for(var r=0,l=t.length,o;r<l;r++)(o||!(r in t))&&(o||(o=Array.prototype.slice.call(t,0,r)),o[r]=t[r]);return e.concat(o||Array.prototype.slice.call(t))}var lf="right-scroll-bar-position",of="width-before-scroll-bar",wX="with-scroll-bars-hidden",SX="--removed-body-scroll-bar-size";function Xp(e,t){return typeof e=="function"?e(t):e&&(e.current=t),e}function EX(e,t){var n=g.useState(function(){return{value:e,callback:t,facade:{get current(){return n.value},set current(r){var l=n.value;l!==r&&(n.value=r,n.callback(r,l))}}}})[0];return n.callback=t,n.facade}var OX=typeof window<"u"?g.useLayoutEffect:g.useEffect,C2=new WeakMap;function AX(e,t){var n=EX(null,function(r){return e.forEach(function(l){return Xp(l,r)})});return OX(function(){var r=C2.get(n);if(r){var l=new Set(r),o=new Set(e),s=n.current;l.forEach(function(f){o.has(f)||Xp(f,null)}),o.forEach(function(f){l.has(f)||Xp(f,s)})}C2.set(n,e)},[e]),n}function jX(e){return e}function NX(e,t){t===void 0&&(t=jX);var n=[],r=!1,l={read:function(){if(r)throw new Error("Sidecar: could not `read` from an `assigned` medium. `read` could be used only with `useMedium`.");return n.length?n[n.length-1]:e},useMedium:function(o){var s=t(o,r);return n.push(s),function(){n=n.filter(function(f){return f!==s})}},assignSyncMedium:function(o){for(r=!0;n.length;){var s=n;n=[],s.forEach(o)}n={push:function(f){return o(f)},filter:function(){return n}}},assignMedium:function(o){r=!0;var s=[];if(n.length){var f=n;n=[],f.forEach(o),s=n}var d=function(){var m=s;s=[],m.forEach(o)},h=function(){return Promise.resolve().then(d)};h(),n={push:function(m){s.push(m),h()},filter:function(m){return s=s.filter(m),n}}}};return l}function CX(e){e===void 0&&(e={});var t=NX(null);return t.options=gr({async:!0,ssr:!1},e),t}var EM=function(e){var t=e.sideCar,n=SM(e,["sideCar"]);if(!t)throw new Error("Sidecar: please provide `sideCar` property to import the right car");var r=t.read();if(!r)throw new Error("Sidecar medium not found");return g.createElement(r,gr({},n))};EM.isSideCarExport=!0;function _X(e,t){return e.useMedium(t),EM}var OM=CX(),Fp=function(){},Hd=g.forwardRef(function(e,t){var n=g.useRef(null),r=g.useState({onScrollCapture:Fp,onWheelCapture:Fp,onTouchMoveCapture:Fp}),l=r[0],o=r[1],s=e.forwardProps,f=e.children,d=e.className,h=e.removeScrollBar,m=e.enabled,p=e.shards,x=e.sideCar,w=e.noRelative,O=e.noIsolation,A=e.inert,S=e.allowPinchZoom,j=e.as,_=j===void 0?"div":j,C=e.gapMode,D=SM(e,["forwardProps","children","className","removeScrollBar","enabled","shards","sideCar","noRelative","noIsolation","inert","allowPinchZoom","as","gapMode"]),T=x,R=AX([n,t]),k=gr(gr({},D),l);return g.createElement(g.Fragment,null,m&&g.createElement(T,{sideCar:OM,removeScrollBar:h,shards:p,noRelative:w,noIsolation:O,inert:A,setCallbacks:o,allowPinchZoom:!!S,lockRef:n,gapMode:C}),s?g.cloneElement(g.Children.only(f),gr(gr({},k),{ref:R})):g.createElement(_,gr({},k,{className:d,ref:R}),f))});Hd.defaultProps={enabled:!0,removeScrollBar:!0,inert:!1};Hd.classNames={fullWidth:of,zeroRight:lf};var TX=function(){if(typeof __webpack_nonce__<"u")return __webpack_nonce__};function MX(){if(!document)return null;var e=document.createElement("style");e.type="text/css";var t=TX();return t&&e.setAttribute("nonce",t),e}function DX(e,t){e.styleSheet?e.styleSheet.cssText=t:e.appendChild(document.createTextNode(t))}function kX(e){var t=document.head||document.getElementsByTagName("head")[0];t.appendChild(e)}var PX=function(){var e=0,t=null;return{add:function(n){e==0&&(t=MX())&&(DX(t,n),kX(t)),e++},remove:function(){e--,!e&&t&&(t.parentNode&&t.parentNode.removeChild(t),t=null)}}},RX=function(){var e=PX();return function(t,n){g.useEffect(function(){return e.add(t),function(){e.remove()}},[t&&n])}},AM=function(){var e=RX(),t=function(n){var r=n.styles,l=n.dynamic;return e(r,l),null};return t},zX={left:0,top:0,right:0,gap:0},Wp=function(e){return parseInt(e||"",10)||0},LX=function(e){var t=window.getComputedStyle(document.body),n=t[e==="padding"?"paddingLeft":"marginLeft"],r=t[e==="padding"?"paddingTop":"marginTop"],l=t[e==="padding"?"paddingRight":"marginRight"];return[Wp(n),Wp(r),Wp(l)]},BX=function(e){if(e===void 0&&(e="margin"),typeof window>"u")return zX;var t=LX(e),n=document.documentElement.clientWidth,r=window.innerWidth;return{left:t[0],top:t[1],right:t[2],gap:Math.max(0,r-n+t[2]-t[0])}},UX=AM(),ql="data-scroll-locked",IX=function(e,t,n,r){var l=e.left,o=e.top,s=e.right,f=e.gap;return n===void 0&&(n="margin"),`
-  .`.concat(wX,` {
-   overflow: hidden `).concat(r,`;
-   padding-right: `).concat(f,"px ").concat(r,`;
-  }
-  body[`).concat(ql,`] {
-    overflow: hidden `).concat(r,`;
-    overscroll-behavior: contain;
-    `).concat([t&&"position: relative ".concat(r,";"),n==="margin"&&`
-    padding-left: `.concat(l,`px;
-    padding-top: `).concat(o,`px;
-    padding-right: `).concat(s,`px;
-    margin-left:0;
-    margin-top:0;
-    margin-right: `).concat(f,"px ").concat(r,`;
-    `),n==="padding"&&"padding-right: ".concat(f,"px ").concat(r,";")].filter(Boolean).join(""),`
-  }
-  
-  .`).concat(lf,` {
-    right: `).concat(f,"px ").concat(r,`;
-  }
-  
-  .`).concat(of,` {
-    margin-right: `).concat(f,"px ").concat(r,`;
-  }
-  
-  .`).concat(lf," .").concat(lf,` {
-    right: 0 `).concat(r,`;
-  }
-  
-  .`).concat(of," .").concat(of,` {
-    margin-right: 0 `).concat(r,`;
-  }
-  
-  body[`).concat(ql,`] {
-    `).concat(SX,": ").concat(f,`px;
-  }
-`)},_2=function(){var e=parseInt(document.body.getAttribute(ql)||"0",10);return isFinite(e)?e:0},qX=function(){g.useEffect(function(){return document.body.setAttribute(ql,(_2()+1).toString()),function(){var e=_2()-1;e<=0?document.body.removeAttribute(ql):document.body.setAttribute(ql,e.toString())}},[])},HX=function(e){var t=e.noRelative,n=e.noImportant,r=e.gapMode,l=r===void 0?"margin":r;qX();var o=g.useMemo(function(){return BX(l)},[l]);return g.createElement(UX,{styles:IX(o,!t,l,n?"":"!important")})},Jy=!1;if(typeof window<"u")try{var Vc=Object.defineProperty({},"passive",{get:function(){return Jy=!0,!0}});window.addEventListener("test",Vc,Vc),window.removeEventListener("test",Vc,Vc)}catch{Jy=!1}var Dl=Jy?{passive:!1}:!1,$X=function(e){return e.tagName==="TEXTAREA"},jM=function(e,t){if(!(e instanceof Element))return!1;var n=window.getComputedStyle(e);return n[t]!=="hidden"&&!(n.overflowY===n.overflowX&&!$X(e)&&n[t]==="visible")},YX=function(e){return jM(e,"overflowY")},KX=function(e){return jM(e,"overflowX")},T2=function(e,t){var n=t.ownerDocument,r=t;do{typeof ShadowRoot<"u"&&r instanceof ShadowRoot&&(r=r.host);var l=NM(e,r);if(l){var o=CM(e,r),s=o[1],f=o[2];if(s>f)return!0}r=r.parentNode}while(r&&r!==n.body);return!1},GX=function(e){var t=e.scrollTop,n=e.scrollHeight,r=e.clientHeight;return[t,n,r]},VX=function(e){var t=e.scrollLeft,n=e.scrollWidth,r=e.clientWidth;return[t,n,r]},NM=function(e,t){return e==="v"?YX(t):KX(t)},CM=function(e,t){return e==="v"?GX(t):VX(t)},XX=function(e,t){return e==="h"&&t==="rtl"?-1:1},FX=function(e,t,n,r,l){var o=XX(e,window.getComputedStyle(t).direction),s=o*r,f=n.target,d=t.contains(f),h=!1,m=s>0,p=0,x=0;do{if(!f)break;var w=CM(e,f),O=w[0],A=w[1],S=w[2],j=A-S-o*O;(O||j)&&NM(e,f)&&(p+=j,x+=O);var _=f.parentNode;f=_&&_.nodeType===Node.DOCUMENT_FRAGMENT_NODE?_.host:_}while(!d&&f!==document.body||d&&(t.contains(f)||t===f));return(m&&Math.abs(p)<1||!m&&Math.abs(x)<1)&&(h=!0),h},Xc=function(e){return"changedTouches"in e?[e.changedTouches[0].clientX,e.changedTouches[0].clientY]:[0,0]},M2=function(e){return[e.deltaX,e.deltaY]},D2=function(e){return e&&"current"in e?e.current:e},WX=function(e,t){return e[0]===t[0]&&e[1]===t[1]},ZX=function(e){return`
-  .block-interactivity-`.concat(e,` {pointer-events: none;}
-  .allow-interactivity-`).concat(e,` {pointer-events: all;}
-`)},QX=0,kl=[];function JX(e){var t=g.useRef([]),n=g.useRef([0,0]),r=g.useRef(),l=g.useState(QX++)[0],o=g.useState(AM)[0],s=g.useRef(e);g.useEffect(function(){s.current=e},[e]),g.useEffect(function(){if(e.inert){document.body.classList.add("block-interactivity-".concat(l));var A=xX([e.lockRef.current],(e.shards||[]).map(D2),!0).filter(Boolean);return A.forEach(function(S){return S.classList.add("allow-interactivity-".concat(l))}),function(){document.body.classList.remove("block-interactivity-".concat(l)),A.forEach(function(S){return S.classList.remove("allow-interactivity-".concat(l))})}}},[e.inert,e.lockRef.current,e.shards]);var f=g.useCallback(function(A,S){if("touches"in A&&A.touches.length===2||A.type==="wheel"&&A.ctrlKey)return!s.current.allowPinchZoom;var j=Xc(A),_=n.current,C="deltaX"in A?A.deltaX:_[0]-j[0],D="deltaY"in A?A.deltaY:_[1]-j[1],T,R=A.target,k=Math.abs(C)>Math.abs(D)?"h":"v";if("touches"in A&&k==="h"&&R.type==="range")return!1;var I=window.getSelection(),re=I&&I.anchorNode,ae=re?re===R||re.contains(R):!1;if(ae)return!1;var W=T2(k,R);if(!W)return!0;if(W?T=k:(T=k==="v"?"h":"v",W=T2(k,R)),!W)return!1;if(!r.current&&"changedTouches"in A&&(C||D)&&(r.current=T),!T)return!0;var J=r.current||T;return FX(J,S,A,J==="h"?C:D)},[]),d=g.useCallback(function(A){var S=A;if(!(!kl.length||kl[kl.length-1]!==o)){var j="deltaY"in S?M2(S):Xc(S),_=t.current.filter(function(T){return T.name===S.type&&(T.target===S.target||S.target===T.shadowParent)&&WX(T.delta,j)})[0];if(_&&_.should){S.cancelable&&S.preventDefault();return}if(!_){var C=(s.current.shards||[]).map(D2).filter(Boolean).filter(function(T){return T.contains(S.target)}),D=C.length>0?f(S,C[0]):!s.current.noIsolation;D&&S.cancelable&&S.preventDefault()}}},[]),h=g.useCallback(function(A,S,j,_){var C={name:A,delta:S,target:j,should:_,shadowParent:eF(j)};t.current.push(C),setTimeout(function(){t.current=t.current.filter(function(D){return D!==C})},1)},[]),m=g.useCallback(function(A){n.current=Xc(A),r.current=void 0},[]),p=g.useCallback(function(A){h(A.type,M2(A),A.target,f(A,e.lockRef.current))},[]),x=g.useCallback(function(A){h(A.type,Xc(A),A.target,f(A,e.lockRef.current))},[]);g.useEffect(function(){return kl.push(o),e.setCallbacks({onScrollCapture:p,onWheelCapture:p,onTouchMoveCapture:x}),document.addEventListener("wheel",d,Dl),document.addEventListener("touchmove",d,Dl),document.addEventListener("touchstart",m,Dl),function(){kl=kl.filter(function(A){return A!==o}),document.removeEventListener("wheel",d,Dl),document.removeEventListener("touchmove",d,Dl),document.removeEventListener("touchstart",m,Dl)}},[]);var w=e.removeScrollBar,O=e.inert;return g.createElement(g.Fragment,null,O?g.createElement(o,{styles:ZX(l)}):null,w?g.createElement(HX,{noRelative:e.noRelative,gapMode:e.gapMode}):null)}function eF(e){for(var t=null;e!==null;)e instanceof ShadowRoot&&(t=e.host,e=e.host),e=e.parentNode;return t}const tF=_X(OM,JX);var _M=g.forwardRef(function(e,t){return g.createElement(Hd,gr({},e,{ref:t,sideCar:tF}))});_M.classNames=Hd.classNames;var nF=function(e){if(typeof document>"u")return null;var t=Array.isArray(e)?e[0]:e;return t.ownerDocument.body},Pl=new WeakMap,Fc=new WeakMap,Wc={},Zp=0,TM=function(e){return e&&(e.host||TM(e.parentNode))},rF=function(e,t){return t.map(function(n){if(e.contains(n))return n;var r=TM(n);return r&&e.contains(r)?r:(console.error("aria-hidden",n,"in not contained inside",e,". Doing nothing"),null)}).filter(function(n){return!!n})},aF=function(e,t,n,r){var l=rF(t,Array.isArray(e)?e:[e]);Wc[n]||(Wc[n]=new WeakMap);var o=Wc[n],s=[],f=new Set,d=new Set(l),h=function(p){!p||f.has(p)||(f.add(p),h(p.parentNode))};l.forEach(h);var m=function(p){!p||d.has(p)||Array.prototype.forEach.call(p.children,function(x){if(f.has(x))m(x);else try{var w=x.getAttribute(r),O=w!==null&&w!=="false",A=(Pl.get(x)||0)+1,S=(o.get(x)||0)+1;Pl.set(x,A),o.set(x,S),s.push(x),A===1&&O&&Fc.set(x,!0),S===1&&x.setAttribute(n,"true"),O||x.setAttribute(r,"true")}catch(j){console.error("aria-hidden: cannot operate on ",x,j)}})};return m(t),f.clear(),Zp++,function(){s.forEach(function(p){var x=Pl.get(p)-1,w=o.get(p)-1;Pl.set(p,x),o.set(p,w),x||(Fc.has(p)||p.removeAttribute(r),Fc.delete(p)),w||p.removeAttribute(n)}),Zp--,Zp||(Pl=new WeakMap,Pl=new WeakMap,Fc=new WeakMap,Wc={})}},iF=function(e,t,n){n===void 0&&(n="data-aria-hidden");var r=Array.from(Array.isArray(e)?e:[e]),l=nF(e);return l?(r.push.apply(r,Array.from(l.querySelectorAll("[aria-live], script"))),aF(r,l,n,"aria-hidden")):function(){return null}},$d="Dialog",[MM]=pV($d),[lF,dr]=MM($d),DM=e=>{const{__scopeDialog:t,children:n,open:r,defaultOpen:l,onOpenChange:o,modal:s=!0}=e,f=g.useRef(null),d=g.useRef(null),[h,m]=wV({prop:r,defaultProp:l??!1,onChange:o,caller:$d});return b.jsx(lF,{scope:t,triggerRef:f,contentRef:d,contentId:Yp(),titleId:Yp(),descriptionId:Yp(),open:h,onOpenChange:m,onOpenToggle:g.useCallback(()=>m(p=>!p),[m]),modal:s,children:n})};DM.displayName=$d;var kM="DialogTrigger",oF=g.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=dr(kM,n),o=Ii(t,l.triggerRef);return b.jsx(ss.button,{type:"button","aria-haspopup":"dialog","aria-expanded":l.open,"aria-controls":l.contentId,"data-state":F0(l.open),...r,ref:o,onClick:Fa(e.onClick,l.onOpenToggle)})});oF.displayName=kM;var V0="DialogPortal",[uF,PM]=MM(V0,{forceMount:void 0}),RM=e=>{const{__scopeDialog:t,forceMount:n,children:r,container:l}=e,o=dr(V0,t);return b.jsx(uF,{scope:t,forceMount:n,children:g.Children.map(r,s=>b.jsx(qd,{present:n||o.open,children:b.jsx(xM,{asChild:!0,container:l,children:s})}))})};RM.displayName=V0;var Jf="DialogOverlay",zM=g.forwardRef((e,t)=>{const n=PM(Jf,e.__scopeDialog),{forceMount:r=n.forceMount,...l}=e,o=dr(Jf,e.__scopeDialog);return o.modal?b.jsx(qd,{present:r||o.open,children:b.jsx(cF,{...l,ref:t})}):null});zM.displayName=Jf;var sF=wM("DialogOverlay.RemoveScroll"),cF=g.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=dr(Jf,n);return b.jsx(_M,{as:sF,allowPinchZoom:!0,shards:[l.contentRef],children:b.jsx(ss.div,{"data-state":F0(l.open),...r,ref:t,style:{pointerEvents:"auto",...r.style}})})}),Ui="DialogContent",LM=g.forwardRef((e,t)=>{const n=PM(Ui,e.__scopeDialog),{forceMount:r=n.forceMount,...l}=e,o=dr(Ui,e.__scopeDialog);return b.jsx(qd,{present:r||o.open,children:o.modal?b.jsx(fF,{...l,ref:t}):b.jsx(dF,{...l,ref:t})})});LM.displayName=Ui;var fF=g.forwardRef((e,t)=>{const n=dr(Ui,e.__scopeDialog),r=g.useRef(null),l=Ii(t,n.contentRef,r);return g.useEffect(()=>{const o=r.current;if(o)return iF(o)},[]),b.jsx(BM,{...e,ref:l,trapFocus:n.open,disableOutsidePointerEvents:!0,onCloseAutoFocus:Fa(e.onCloseAutoFocus,o=>{o.preventDefault(),n.triggerRef.current?.focus()}),onPointerDownOutside:Fa(e.onPointerDownOutside,o=>{const s=o.detail.originalEvent,f=s.button===0&&s.ctrlKey===!0;(s.button===2||f)&&o.preventDefault()}),onFocusOutside:Fa(e.onFocusOutside,o=>o.preventDefault())})}),dF=g.forwardRef((e,t)=>{const n=dr(Ui,e.__scopeDialog),r=g.useRef(!1),l=g.useRef(!1);return b.jsx(BM,{...e,ref:t,trapFocus:!1,disableOutsidePointerEvents:!1,onCloseAutoFocus:o=>{e.onCloseAutoFocus?.(o),o.defaultPrevented||(r.current||n.triggerRef.current?.focus(),o.preventDefault()),r.current=!1,l.current=!1},onInteractOutside:o=>{e.onInteractOutside?.(o),o.defaultPrevented||(r.current=!0,o.detail.originalEvent.type==="pointerdown"&&(l.current=!0));const s=o.target;n.triggerRef.current?.contains(s)&&o.preventDefault(),o.detail.originalEvent.type==="focusin"&&l.current&&o.preventDefault()}})}),BM=g.forwardRef((e,t)=>{const{__scopeDialog:n,trapFocus:r,onOpenAutoFocus:l,onCloseAutoFocus:o,...s}=e,f=dr(Ui,n),d=g.useRef(null),h=Ii(t,d);return bX(),b.jsxs(b.Fragment,{children:[b.jsx(gM,{asChild:!0,loop:!0,trapped:r,onMountAutoFocus:l,onUnmountAutoFocus:o,children:b.jsx(pM,{role:"dialog",id:f.contentId,"aria-describedby":f.descriptionId,"aria-labelledby":f.titleId,"data-state":F0(f.open),...s,ref:h,onDismiss:()=>f.onOpenChange(!1)})}),b.jsxs(b.Fragment,{children:[b.jsx(hF,{titleId:f.titleId}),b.jsx(vF,{contentRef:d,descriptionId:f.descriptionId})]})]})}),X0="DialogTitle",UM=g.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=dr(X0,n);return b.jsx(ss.h2,{id:l.titleId,...r,ref:t})});UM.displayName=X0;var IM="DialogDescription",qM=g.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=dr(IM,n);return b.jsx(ss.p,{id:l.descriptionId,...r,ref:t})});qM.displayName=IM;var HM="DialogClose",$M=g.forwardRef((e,t)=>{const{__scopeDialog:n,...r}=e,l=dr(HM,n);return b.jsx(ss.button,{type:"button",...r,ref:t,onClick:Fa(e.onClick,()=>l.onOpenChange(!1))})});$M.displayName=HM;function F0(e){return e?"open":"closed"}var YM="DialogTitleWarning",[iW,KM]=vV(YM,{contentName:Ui,titleName:X0,docsSlug:"dialog"}),hF=({titleId:e})=>{const t=KM(YM),n=`\`${t.contentName}\` requires a \`${t.titleName}\` for the component to be accessible for screen reader users.
-
-If you want to hide the \`${t.titleName}\`, you can wrap it with our VisuallyHidden component.
-
-For more information, see https://radix-ui.com/primitives/docs/components/${t.docsSlug}`;return g.useEffect(()=>{e&&(document.getElementById(e)||console.error(n))},[n,e]),null},mF="DialogDescriptionWarning",vF=({contentRef:e,descriptionId:t})=>{const r=`Warning: Missing \`Description\` or \`aria-describedby={undefined}\` for {${KM(mF).contentName}}.`;return g.useEffect(()=>{const l=e.current?.getAttribute("aria-describedby");t&&l&&(document.getElementById(t)||console.warn(r))},[r,e,t]),null},pF=DM,yF=RM,GM=zM,VM=LM,XM=UM,FM=qM,gF=$M;const bF=pF,xF=yF,WM=g.forwardRef(({className:e,...t},n)=>b.jsx(GM,{ref:n,className:Xe("fixed inset-0 z-50 bg-black/80  data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0",e),...t}));WM.displayName=GM.displayName;const ZM=g.forwardRef(({className:e,children:t,...n},r)=>b.jsxs(xF,{children:[b.jsx(WM,{}),b.jsxs(VM,{ref:r,className:Xe("fixed left-[50%] top-[50%] z-50 grid w-full max-w-lg translate-x-[-50%] translate-y-[-50%] gap-4 border bg-background p-6 shadow-lg duration-200 data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 data-[state=closed]:zoom-out-95 data-[state=open]:zoom-in-95 data-[state=closed]:slide-out-to-left-1/2 data-[state=closed]:slide-out-to-top-[48%] data-[state=open]:slide-in-from-left-1/2 data-[state=open]:slide-in-from-top-[48%] sm:rounded-lg",e),...n,children:[t,b.jsxs(gF,{className:"absolute right-4 top-4 rounded-sm opacity-70 ring-offset-background transition-opacity hover:opacity-100 focus:outline-none focus:ring-2 focus:ring-ring focus:ring-offset-2 disabled:pointer-events-none data-[state=open]:bg-accent data-[state=open]:text-muted-foreground",children:[b.jsx(Xz,{className:"h-4 w-4"}),b.jsx("span",{className:"sr-only",children:"Close"})]})]})]}));ZM.displayName=VM.displayName;const QM=({className:e,...t})=>b.jsx("div",{className:Xe("flex flex-col space-y-1.5 text-center sm:text-left",e),...t});QM.displayName="DialogHeader";const JM=({className:e,...t})=>b.jsx("div",{className:Xe("flex flex-col-reverse sm:flex-row sm:justify-end sm:space-x-2",e),...t});JM.displayName="DialogFooter";const eD=g.forwardRef(({className:e,...t},n)=>b.jsx(XM,{ref:n,className:Xe("text-lg font-semibold leading-none tracking-tight",e),...t}));eD.displayName=XM.displayName;const tD=g.forwardRef(({className:e,...t},n)=>b.jsx(FM,{ref:n,className:Xe("text-sm text-muted-foreground",e),...t}));tD.displayName=FM.displayName;function wF({isOpen:e,onClose:t,onSuccess:n,userAccountId:r}){const[l,o]=g.useState(""),[s,f]=g.useState(""),[d,h]=g.useState(""),[m,p]=g.useState(!1),[x,w]=g.useState(""),O=async A=>{if(A.preventDefault(),p(!0),w(""),Number(s)<=0){w("Tutar 0'dan büyük olmalı."),p(!1);return}try{await uz({fromAccountNumber:r,toAccountNumber:l,amount:Number(s),description:d||"Transfer"}),n(),t(),o(""),f(""),h("")}catch(S){w(S.message||"Transfer başarısız.")}finally{p(!1)}};return b.jsx(bF,{open:e,onOpenChange:t,children:b.jsxs(ZM,{className:"sm:max-w-[425px] bg-slate-900 text-white border-slate-700",children:[b.jsxs(QM,{children:[b.jsx(eD,{children:"Para Transferi 💸"}),b.jsx(tD,{className:"text-slate-400",children:"Başka bir DinoBank hesabına anında para gönderin."})]}),b.jsxs("form",{onSubmit:O,className:"grid gap-4 py-4",children:[b.jsxs("div",{className:"grid grid-cols-4 items-center gap-4",children:[b.jsx(bt,{htmlFor:"target",className:"text-right text-slate-300",children:"Alıcı Hesap"}),b.jsx(At,{id:"target",placeholder:"TR...",className:"col-span-3 bg-slate-800 border-slate-700 text-white focus:ring-primary",value:l,onChange:A=>o(A.target.value),required:!0})]}),b.jsxs("div",{className:"grid grid-cols-4 items-center gap-4",children:[b.jsx(bt,{htmlFor:"amount",className:"text-right text-slate-300",children:"Tutar"}),b.jsx(At,{id:"amount",type:"number",placeholder:"0.00",className:"col-span-3 bg-slate-800 border-slate-700 text-white focus:ring-primary",value:s,onChange:A=>f(A.target.value),required:!0})]}),b.jsxs("div",{className:"grid grid-cols-4 items-center gap-4",children:[b.jsx(bt,{htmlFor:"desc",className:"text-right text-slate-300",children:"Açıklama"}),b.jsx(At,{id:"desc",placeholder:"Örn: Kira",className:"col-span-3 bg-slate-800 border-slate-700 text-white focus:ring-primary",value:d,onChange:A=>h(A.target.value)})]}),x&&b.jsx("div",{className:"text-red-400 text-sm text-center bg-red-900/20 p-2 rounded",children:x}),b.jsx(JM,{children:b.jsx(ht,{type:"submit",disabled:m,className:"w-full bg-primary hover:bg-primary/90 text-black font-bold",children:m?b.jsx(cg,{className:"mr-2 h-4 w-4 animate-spin"}):"Gönder"})})]})]})})}const Qp=[{name:"Dino Egg 🥚",min:0},{name:"Velociraptor 🦖",min:1e4},{name:"Triceratops 🦕",min:5e4},{name:"T-Rex King 👑",min:25e4}];function SF(){const[e,t]=g.useState(null),[n,r]=g.useState(null),[l,o]=g.useState([]),[s,f]=g.useState(!0),[d,h]=g.useState(!1),m=qu(),p=n?Math.floor(n.balance):0,x=Qp.slice().reverse().find(j=>p>=j.min)||Qp[0],w=Qp.find(j=>j.min>p),O=w?(p-x.min)/(w.min-x.min)*100:100,A=[{name:"Pzt",amount:4e3},{name:"Sal",amount:3e3},{name:"Çar",amount:2e3},{name:"Per",amount:2780},{name:"Cum",amount:1890},{name:"Cmt",amount:2390},{name:"Paz",amount:3490}],S=async()=>{const j=localStorage.getItem("dinoUser");if(!j)return;const _=JSON.parse(j);try{const C=await hj(_.id);if(r(C),C&&C.id){const D=await mj(C.id),T=k=>k?Array.isArray(k)?new Date(k[0],k[1]-1,k[2],k[3],k[4],k[5]||0):new Date(k):new Date,R=D.sort((k,I)=>T(I.transactionDate)-T(k.transactionDate));o(R.map(k=>({...k,parsedDate:T(k.transactionDate)})))}}catch(C){console.error("Dashboard data fetch error:",C)}};return g.useEffect(()=>{const j=localStorage.getItem("dinoUser");if(!j){m("/login");return}const _=JSON.parse(j);t(_),(async()=>{await S(),f(!1)})()},[m]),s?b.jsx("div",{className:"flex items-center justify-center h-screen text-white bg-background",children:b.jsxs("div",{className:"flex flex-col items-center",children:[b.jsx("span",{className:"text-4xl animate-bounce",children:"🦖"}),b.jsx("p",{className:"mt-4 text-slate-400",children:"Veriler Yükleniyor..."})]})}):b.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[b.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:b.jsx(ho,{})}),b.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[b.jsxs("header",{className:"flex justify-between items-center mb-10",children:[b.jsxs("div",{children:[b.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-white to-slate-400 bg-clip-text text-transparent",children:"Panel"}),b.jsxs("p",{className:"text-slate-400 mt-1",children:["Tekrar hoşgeldin, ",e?.ad,"!"]})]}),b.jsx("div",{className:"flex items-center gap-4",children:b.jsxs(ht,{className:"bg-primary text-black font-bold hover:bg-primary/90 shadow-lg shadow-primary/20",onClick:()=>h(!0),children:[b.jsx(SS,{className:"mr-2 h-4 w-4"})," Yeni Transfer"]})})]}),b.jsx(wF,{isOpen:d,onClose:()=>h(!1),onSuccess:()=>{S()},userAccountId:n?.accountNumber}),b.jsxs("div",{className:"grid gap-6 md:grid-cols-2 lg:grid-cols-7",children:[b.jsxs(xt,{className:"col-span-4 bg-gradient-to-br from-primary/20 to-black/40 border-primary/20 backdrop-blur-sm relative overflow-hidden",children:[b.jsx("div",{className:"absolute right-[-20px] bottom-[-20px] text-[150px] opacity-5 rotate-[-10deg]",children:"🦖"}),b.jsxs(Nt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[b.jsx(Ct,{className:"text-sm font-medium text-primary-foreground/80",children:"Toplam Bakiye"}),b.jsx(SS,{className:"h-5 w-5 text-primary"})]}),b.jsxs(wt,{children:[b.jsxs("div",{className:"text-5xl font-black text-white tracking-tight",children:["₺ ",n?.balance?n.balance.toLocaleString("tr-TR",{minimumFractionDigits:2}):"0,00"]}),b.jsx("p",{className:"text-sm text-primary/80 mt-2 font-medium flex items-center",children:b.jsx("span",{className:"opacity-70 text-xs mr-2",children:n?.accountNumber})})]})]}),b.jsxs(xt,{className:"col-span-3 bg-black/40 border-white/10 backdrop-blur-md",children:[b.jsxs(Nt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[b.jsx(Ct,{className:"text-sm font-medium text-slate-300",children:"Sadakat Durumu"}),b.jsx("div",{className:"h-8 w-8 rounded-full bg-primary/20 flex items-center justify-center text-primary",children:b.jsx(fg,{className:"h-4 w-4"})})]}),b.jsxs(wt,{children:[b.jsxs("div",{className:"flex justify-between items-end mb-4",children:[b.jsxs("div",{children:[b.jsx("div",{className:"text-3xl font-bold text-white",children:x.name}),b.jsxs("p",{className:"text-sm text-slate-400 font-medium",children:[p," Puan"]})]}),w&&b.jsxs("div",{className:"text-right",children:[b.jsxs("div",{className:"text-sm font-medium text-slate-300",children:["Sonraki: ",w.name]}),b.jsxs("div",{className:"text-xs text-slate-500",children:[w.min-p," puan kaldı"]})]})]}),b.jsx(xu,{value:O,className:"h-3 bg-white/5",indicatorClassName:"bg-gradient-to-r from-primary to-emerald-400"})]})]}),b.jsxs(xt,{className:"col-span-4 bg-black/20 border-white/5",children:[b.jsx(Nt,{children:b.jsx(Ct,{className:"text-slate-200",children:"Haftalık Özet"})}),b.jsx(wt,{className:"pl-2",children:b.jsx("div",{className:"h-[250px] w-full",children:b.jsx(YN,{width:"100%",height:"100%",children:b.jsxs(hM,{data:A,children:[b.jsx("defs",{children:b.jsxs("linearGradient",{id:"colorAmount",x1:"0",y1:"0",x2:"0",y2:"1",children:[b.jsx("stop",{offset:"5%",stopColor:"hsl(var(--primary))",stopOpacity:.3}),b.jsx("stop",{offset:"95%",stopColor:"hsl(var(--primary))",stopOpacity:0})]})}),b.jsx(I0,{strokeDasharray:"3 3",vertical:!1,stroke:"rgba(255,255,255,0.05)"}),b.jsx(H0,{dataKey:"name",stroke:"#64748b",fontSize:12,tickLine:!1,axisLine:!1}),b.jsx($0,{stroke:"#64748b",fontSize:12,tickLine:!1,axisLine:!1,tickFormatter:j=>`₺${j}`}),b.jsx(OT,{contentStyle:{backgroundColor:"#0f172a",borderRadius:"12px",border:"1px solid rgba(255,255,255,0.1)",color:"#fff"},itemStyle:{color:"#fff"}}),b.jsx(q0,{type:"monotone",dataKey:"amount",stroke:"hsl(var(--primary))",strokeWidth:3,fillOpacity:1,fill:"url(#colorAmount)"})]})})})})]}),b.jsxs(xt,{className:"col-span-3 bg-black/20 border-white/5",children:[b.jsxs(Nt,{children:[b.jsx(Ct,{className:"text-slate-200",children:"Son İşlemler"}),b.jsxs(qi,{className:"text-slate-500",children:["Bu hafta ",l.length," işlem yaptınız."]})]}),b.jsx(wt,{children:b.jsxs(ji,{children:[b.jsx(Ni,{children:b.jsxs(Ft,{className:"border-white/5 hover:bg-transparent",children:[b.jsx(Fe,{className:"text-slate-400",children:"İşlem"}),b.jsx(Fe,{className:"text-right text-slate-400",children:"Tutar"})]})}),b.jsx(Ci,{children:l.length===0?b.jsx(Ft,{children:b.jsx(Be,{colSpan:2,className:"text-center text-slate-500 py-4",children:"Henüz işlem yok 🦖"})}):l.slice(0,5).map(j=>{j.amount>0;const _=j.transactionType==="DEPOSIT"||j.transactionType==="INCOMING_TRANSFER";return b.jsxs(Ft,{className:"border-white/5 hover:bg-white/5 transition-colors",children:[b.jsxs(Be,{children:[b.jsx("div",{className:"font-medium text-slate-200",children:j.description||j.transactionType}),b.jsx("div",{className:"text-xs text-slate-500",children:j.parsedDate?j.parsedDate.toLocaleDateString("tr-TR"):"-"})]}),b.jsxs(Be,{className:Xe("text-right font-bold",_?"text-emerald-400":"text-slate-300"),children:[_?"+":"-","₺",Math.abs(j.amount).toLocaleString("tr-TR",{minimumFractionDigits:2})]})]},j.id)})})]})})]})]})]})]})}function EF(){return b.jsxs("div",{className:"min-h-screen bg-slate-950 font-sans text-white scroll-smooth relative overflow-x-hidden",children:[b.jsx("nav",{className:"fixed w-full z-50 top-0 px-4 py-3",children:b.jsxs("div",{className:"bg-white/70 dark:bg-black/70 backdrop-blur-md max-w-7xl mx-auto rounded-2xl px-6 py-3 shadow-sm flex flex-wrap items-center justify-between border border-white/20",children:[b.jsxs(Va,{to:"/",className:"flex items-center space-x-2 group",children:[b.jsx("div",{className:"bg-primary text-primary-foreground p-2 rounded-lg shadow-lg group-hover:rotate-12 transition-transform",children:b.jsx("svg",{className:"h-6 w-6",fill:"currentColor",viewBox:"0 0 24 24",children:b.jsx("path",{d:"M12 2C6.48 2 2 6.48 2 12s4.48 10 10 10 10-4.48 10-10S17.52 2 12 2zm-1 17.93c-3.95-.49-7-3.85-7-7.93 0-.62.08-1.21.21-1.79L9 15v1c0 1.1.9 2 2 2v1.93zm6.9-2.54c-.26-.81-1-1.39-1.9-1.39h-1v-3c0-.55-.45-1-1-1H8v-2h2c.55 0 1-.45 1-1V7h2c1.1 0 2-.9 2-2v-.41c2.93 1.19 5 4.06 5 7.41 0 2.08-.8 3.97-2.1 5.39z"})})}),b.jsx("span",{className:"self-center text-xl font-bold tracking-tight",children:"DinoBank"})]}),b.jsxs("div",{className:"hidden md:flex space-x-8 font-medium text-slate-600 dark:text-slate-300",children:[b.jsx("a",{href:"#features",className:"hover:text-primary transition",children:"Özellikler"}),b.jsx("a",{href:"#cards",className:"hover:text-primary transition",children:"Kartlar"}),b.jsx("a",{href:"#contact",className:"hover:text-primary transition",children:"İletişim"})]}),b.jsx("div",{className:"flex space-x-3",children:b.jsx(Va,{to:"/login",children:b.jsx(ht,{className:"bg-primary hover:bg-primary/90 text-primary-foreground font-semibold rounded-xl shadow-lg shadow-primary/20",children:"Giriş Yap"})})})]})}),b.jsxs("section",{id:"home",className:"relative pt-40 pb-20 overflow-hidden",children:[b.jsx("div",{className:"absolute top-20 right-0 w-[600px] h-[600px] bg-primary/10 rounded-full blur-[100px] -z-10"}),b.jsx("div",{className:"absolute bottom-0 left-0 w-[400px] h-[400px] bg-blue-500/10 rounded-full blur-[80px] -z-10"}),b.jsx("div",{className:"container mx-auto px-6 relative z-10",children:b.jsxs("div",{className:"flex flex-col lg:flex-row items-center gap-12",children:[b.jsxs("div",{className:"w-full lg:w-1/2 space-y-8 text-center lg:text-left",children:[b.jsx("div",{className:"inline-block px-4 py-1.5 bg-white dark:bg-white/5 border border-primary/20 rounded-full shadow-sm",children:b.jsxs("span",{className:"text-primary font-bold text-xs uppercase tracking-wider flex items-center gap-2",children:[b.jsx("span",{className:"w-2 h-2 bg-primary rounded-full animate-pulse"}),"Yeni Nesil Finans"]})}),b.jsxs("h1",{className:"text-5xl lg:text-7xl font-extrabold leading-[1.1]",children:["Paranız İçin ",b.jsx("br",{}),b.jsx("span",{className:"text-transparent bg-clip-text bg-gradient-to-r from-primary to-emerald-400",children:"Jurassic Bir Güç."})]}),b.jsx("p",{className:"text-lg text-slate-600 dark:text-slate-400 max-w-xl mx-auto lg:mx-0 leading-relaxed",children:"Fosil bankacılık alışkanlıklarını geride bırakın. DinoBank ile ışık hızında transferler, kaya gibi sağlam güvenlik ve size özel avantajlar dünyasına adım atın."}),b.jsxs("div",{className:"flex flex-col sm:flex-row gap-4 justify-center lg:justify-start",children:[b.jsx(Va,{to:"/register",children:b.jsx(ht,{size:"lg",className:"rounded-2xl text-lg px-8 py-6 shadow-xl shadow-primary/20",children:"Hesap Oluştur"})}),b.jsx(ht,{variant:"outline",size:"lg",className:"rounded-2xl text-lg px-8 py-6 bg-white/50 dark:bg-white/5 backdrop-blur-sm",children:"Nasıl Çalışır?"})]}),b.jsxs("div",{className:"pt-8 flex items-center justify-center lg:justify-start gap-8 border-t border-slate-200 dark:border-slate-800",children:[b.jsxs("div",{children:[b.jsx("p",{className:"text-3xl font-bold",children:"2M+"}),b.jsx("p",{className:"text-sm text-slate-500 font-medium",children:"Kullanıcı"})]}),b.jsx("div",{className:"w-px h-10 bg-slate-300 dark:bg-slate-700"}),b.jsxs("div",{children:[b.jsx("p",{className:"text-3xl font-bold",children:"₺50Mr"}),b.jsx("p",{className:"text-sm text-slate-500 font-medium",children:"Hacim"})]})]})]}),b.jsxs("div",{className:"w-full lg:w-1/2 flex justify-center relative",children:[b.jsx("div",{className:"absolute inset-0 bg-gradient-to-tr from-primary/20 to-transparent rounded-full filter blur-3xl opacity-30 animate-pulse"}),b.jsx("div",{className:"relative w-full max-w-md animate-bounce duration-[3000ms]",children:b.jsx("div",{className:"relative bg-slate-900 rounded-[3rem] p-4 shadow-2xl border-4 border-slate-800 ring-1 ring-slate-700",children:b.jsxs("div",{className:"bg-white dark:bg-slate-950 rounded-[2.5rem] overflow-hidden h-[600px] w-full relative",children:[b.jsxs("div",{className:"bg-primary h-40 p-6 pt-10 text-primary-foreground rounded-b-[3rem] shadow-lg relative z-10",children:[b.jsxs("div",{className:"flex justify-between items-center mb-4",children:[b.jsx("div",{className:"w-8 h-8 bg-white/20 rounded-full flex items-center justify-center text-xs",children:"🦖"}),b.jsx("div",{className:"w-8 h-8 bg-white/20 rounded-full"})]}),b.jsx("p",{className:"text-primary-foreground/80 text-sm",children:"Toplam Bakiye"}),b.jsx("h3",{className:"text-3xl font-bold",children:"₺ 124.500"})]}),b.jsxs("div",{className:"p-6 space-y-4 -mt-6 relative z-0",children:[b.jsxs("div",{className:"bg-white dark:bg-slate-900 p-4 rounded-2xl shadow-lg border border-slate-100 dark:border-slate-800 flex items-center justify-between",children:[b.jsxs("div",{className:"flex items-center gap-3",children:[b.jsx("div",{className:"w-10 h-10 bg-green-50 dark:bg-green-900/20 text-primary rounded-full flex items-center justify-center font-bold",children:"₺"}),b.jsxs("div",{children:[b.jsx("p",{className:"font-bold text-sm",children:"Maaş Yatışı"}),b.jsx("p",{className:"text-xs text-slate-400",children:"DinoCorp A.Ş."})]})]}),b.jsx("span",{className:"font-bold text-emerald-500",children:"+45.000₺"})]}),b.jsxs("div",{className:"bg-white dark:bg-slate-900 p-4 rounded-2xl shadow-sm border border-slate-100 dark:border-slate-800 flex items-center justify-between opacity-80",children:[b.jsxs("div",{className:"flex items-center gap-3",children:[b.jsx("div",{className:"w-10 h-10 bg-red-50 dark:bg-red-900/20 text-red-500 rounded-full flex items-center justify-center",children:"🛒"}),b.jsxs("div",{children:[b.jsx("p",{className:"font-bold text-sm",children:"Market"}),b.jsx("p",{className:"text-xs text-slate-400",children:"Migros"})]})]}),b.jsx("span",{className:"font-bold text-slate-800 dark:text-slate-200",children:"-1.200₺"})]})]})]})})})]})]})})]}),b.jsx("section",{id:"features",className:"py-24 relative bg-slate-900 border-t border-slate-800",children:b.jsxs("div",{className:"container mx-auto px-6",children:[b.jsxs("div",{className:"mb-32 flex flex-col md:flex-row items-center gap-12 bg-slate-800/50 p-12 rounded-[3rem] border border-slate-700 relative overflow-hidden",children:[b.jsx("div",{className:"absolute top-0 right-0 w-64 h-64 bg-primary/20 rounded-full blur-[100px] pointer-events-none"}),b.jsx("div",{className:"w-full md:w-1/3 flex justify-center",children:b.jsx("div",{className:"w-64 h-64 bg-gradient-to-br from-emerald-500 to-primary rounded-full flex items-center justify-center text-[100px] shadow-2xl shadow-emerald-500/20 animate-bounce cursor-pointer hover:rotate-12 transition-transform",children:"🦖"})}),b.jsxs("div",{className:"w-full md:w-2/3 space-y-6 relative z-10",children:[b.jsx("div",{className:"inline-block px-4 py-1.5 bg-emerald-500/20 text-emerald-400 rounded-full text-xs font-bold uppercase tracking-wider",children:"Müşteri Temsilciniz"}),b.jsx("h2",{className:"text-4xl font-extrabold text-white",children:"T-Rex İle Tanışın."}),b.jsx("p",{className:"text-lg text-slate-300 leading-relaxed",children:'"Merhaba! Ben T-Rex. Bankacılık işlemlerinizin fosilleşmesini engellemek için buradayım. Sürpriz ücretleri yiyor, faiz oranlarını ısırıyorum. Size en güçlü finansal desteği sunmak için 65 milyon yıldır bekliyorum!"'}),b.jsx(ht,{className:"bg-emerald-600 hover:bg-emerald-700 text-white rounded-xl px-8 h-12",children:"T-Rex İle Konuş (Yakında)"})]})]}),b.jsxs("div",{className:"text-center max-w-3xl mx-auto mb-16",children:[b.jsx("span",{className:"text-primary font-bold tracking-widest uppercase text-xs",children:"Neden Biz?"}),b.jsxs("h2",{className:"text-4xl font-bold mt-2 text-white",children:["Dinozor Kadar Güçlü,",b.jsx("br",{}),"Teknoloji Kadar Hızlı."]})]}),b.jsx("div",{className:"grid grid-cols-1 md:grid-cols-3 gap-8",children:[{icon:"🚀",title:"Işık Hızı",desc:"Havale, EFT ve FAST işlemleriniz saniyeler içinde gerçekleşir. DinoBank ile beklemek tarihe karıştı.",color:"bg-green-50 dark:bg-green-900/20"},{icon:"🛡️",title:"Zırhlı Güvenlik",desc:"Verileriniz, en son şifreleme teknolojileri ve Dinozor gücündeki güvenlik duvarlarıyla korunur.",color:"bg-yellow-50 dark:bg-yellow-900/20"},{icon:"🌍",title:"Evrensel Erişim",desc:"Dünyanın her yerinde geçerli kartlar ve düşük komisyonlu döviz işlemleri ile sınırlar kalktı.",color:"bg-blue-50 dark:bg-blue-900/20"}].map((e,t)=>b.jsxs("div",{className:"group bg-white dark:bg-slate-800 p-8 rounded-[2rem] shadow-lg border border-slate-100 dark:border-slate-700 hover:border-primary/30 transition-all duration-300 relative overflow-hidden",children:[b.jsx("div",{className:`absolute top-0 right-0 w-32 h-32 ${e.color} rounded-bl-[100px] -z-0 transition-transform group-hover:scale-110`}),b.jsxs("div",{className:"relative z-10",children:[b.jsx("div",{className:"w-14 h-14 bg-primary text-primary-foreground rounded-2xl flex items-center justify-center mb-6 shadow-lg shadow-primary/20 text-2xl",children:e.icon}),b.jsx("h3",{className:"text-xl font-bold mb-3",children:e.title}),b.jsx("p",{className:"text-slate-500 dark:text-slate-400 leading-relaxed",children:e.desc})]})]},t))})]})}),b.jsx("section",{id:"cards",className:"py-24 bg-slate-900 border-t border-slate-800 overflow-hidden",children:b.jsxs("div",{className:"container mx-auto px-6",children:[b.jsxs("div",{className:"text-center max-w-3xl mx-auto mb-16",children:[b.jsx("span",{className:"text-primary font-bold tracking-widest uppercase text-xs",children:"Kartlarımız"}),b.jsxs("h2",{className:"text-4xl font-bold mt-2",children:["Cüzdanınıza Yakışan",b.jsx("br",{}),"Dinozor Gücü."]})]}),b.jsxs("div",{className:"flex flex-wrap justify-center gap-8 perspective-1000",children:[b.jsxs("div",{className:"group relative w-80 h-48 bg-gradient-to-br from-blue-600 to-blue-800 rounded-2xl shadow-2xl p-6 text-white transform transition-all duration-500 hover:scale-105 hover:-rotate-2 hover:shadow-blue-500/50",children:[b.jsxs("div",{className:"flex justify-between items-start",children:[b.jsx("span",{className:"font-bold text-lg tracking-widest",children:"DinoBank"}),b.jsx("span",{className:"text-xs opacity-70",children:"Debit"})]}),b.jsxs("div",{className:"mt-8 flex gap-2",children:[b.jsx("div",{className:"w-10 h-7 bg-yellow-400/80 rounded-md"}),b.jsx("div",{className:"w-7 h-7 border-2 border-white/30 rounded-full"})]}),b.jsx("div",{className:"mt-4",children:b.jsx("p",{className:"font-mono text-lg tracking-widest opacity-90",children:"**** **** **** 4242"})}),b.jsxs("div",{className:"mt-4 flex justify-between items-end",children:[b.jsxs("div",{children:[b.jsx("p",{className:"text-[10px] opacity-70 uppercase",children:"Kart Sahibi"}),b.jsx("p",{className:"font-medium text-sm tracking-wide",children:"OSMAN YETKİN"})]}),b.jsx("div",{className:"w-10 h-10 bg-white/20 rounded-full flex items-center justify-center text-xl",children:"🦖"})]})]}),b.jsxs("div",{className:"group relative w-80 h-48 bg-gradient-to-br from-yellow-500 via-amber-500 to-yellow-600 rounded-2xl shadow-2xl p-6 text-white transform transition-all duration-500 hover:scale-110 hover:z-10 hover:shadow-yellow-500/50",children:[b.jsx("div",{className:"absolute inset-0 bg-[url('https://www.transparenttextures.com/patterns/cubes.png')] opacity-10"}),b.jsxs("div",{className:"flex justify-between items-start relative z-10",children:[b.jsx("span",{className:"font-bold text-lg tracking-widest",children:"DinoBank"}),b.jsx("span",{className:"bg-white/20 px-2 py-0.5 rounded text-[10px] font-bold uppercase",children:"Gold"})]}),b.jsxs("div",{className:"mt-8 flex gap-2 relative z-10",children:[b.jsx("div",{className:"w-10 h-7 bg-yellow-200/80 rounded-md"}),b.jsx("span",{className:"text-2xl",children:"📶"})]}),b.jsx("div",{className:"mt-4 relative z-10",children:b.jsx("p",{className:"font-mono text-lg tracking-widest text-shadow-sm",children:"5412 7512 3412 3456"})}),b.jsxs("div",{className:"mt-4 flex justify-between items-end relative z-10",children:[b.jsxs("div",{children:[b.jsx("p",{className:"text-[10px] opacity-70 uppercase",children:"Kart Sahibi"}),b.jsx("p",{className:"font-medium text-sm tracking-wide",children:"KÜRŞAT YILMAZ"})]}),b.jsx("div",{className:"text-2xl",children:"🦕"})]})]}),b.jsxs("div",{className:"group relative w-80 h-48 bg-gradient-to-br from-slate-800 to-black rounded-2xl shadow-2xl p-6 text-white transform transition-all duration-500 hover:scale-105 hover:rotate-2 hover:shadow-primary/50 border border-slate-700",children:[b.jsx("div",{className:"absolute inset-0 bg-gradient-to-r from-transparent via-white/5 to-transparent skew-x-12 opacity-0 group-hover:opacity-100 transition-opacity duration-700"}),b.jsxs("div",{className:"flex justify-between items-start",children:[b.jsx("span",{className:"font-bold text-lg tracking-widest bg-gradient-to-r from-primary to-emerald-400 bg-clip-text text-transparent",children:"DinoBank"}),b.jsx("span",{className:"text-primary text-xs font-bold uppercase tracking-widest",children:"Elite"})]}),b.jsx("div",{className:"mt-8 flex gap-2",children:b.jsx("div",{className:"w-10 h-7 bg-slate-400/80 rounded-md"})}),b.jsx("div",{className:"mt-4",children:b.jsx("p",{className:"font-mono text-lg tracking-widest opacity-90",children:"4000 1234 5678 9010"})}),b.jsxs("div",{className:"mt-4 flex justify-between items-end",children:[b.jsxs("div",{children:[b.jsx("p",{className:"text-[10px] opacity-70 uppercase",children:"Kart Sahibi"}),b.jsx("p",{className:"font-medium text-sm tracking-wide",children:"İLKMERT DEMİR"})]}),b.jsx("div",{className:"text-2xl",children:"🥚"})]})]})]})]})}),b.jsx("footer",{className:"bg-slate-50 dark:bg-slate-950 pt-16 pb-8 border-t border-slate-200 dark:border-slate-800",children:b.jsx("div",{className:"container mx-auto px-6",children:b.jsxs("div",{className:"flex flex-col md:flex-row justify-between items-center text-sm text-slate-500",children:[b.jsx("div",{className:"flex items-center space-x-2 mb-4 md:mb-0",children:b.jsx("span",{className:"text-xl font-bold text-slate-900 dark:text-slate-100",children:"DinoBank"})}),b.jsx("p",{children:"© 2025 DinoBank A.Ş. Tüm hakları saklıdır."})]})})})]})}function OF(){const[e,t]=g.useState("credit");return b.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[b.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:b.jsx(ho,{})}),b.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[b.jsxs("header",{className:"flex justify-between items-center mb-10",children:[b.jsxs("div",{children:[b.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-purple-400 to-pink-600 bg-clip-text text-transparent",children:"Kartlarım"}),b.jsx("p",{className:"text-slate-400 mt-1",children:"Kartlarınızı yönetin ve limitlerinizi kontrol edin."})]}),b.jsxs(ht,{className:"bg-white text-black hover:bg-slate-200",children:[b.jsx(Uz,{className:"mr-2 h-4 w-4"})," Yeni Kart Başvurusu"]})]}),b.jsxs("div",{className:"grid gap-8 lg:grid-cols-2",children:[b.jsxs("div",{className:"space-y-6",children:[b.jsx("div",{className:"relative group perspective-1000",children:b.jsxs("div",{className:"relative h-56 w-96 rounded-2xl bg-gradient-to-r from-purple-600 to-blue-600 p-6 text-white shadow-2xl transition-transform transform group-hover:scale-105 duration-300",children:[b.jsxs("div",{className:"flex justify-between items-start",children:[b.jsx("div",{className:"text-2xl font-bold",children:"DinoBank"}),b.jsx(yj,{className:"h-8 w-8 opacity-80"})]}),b.jsxs("div",{className:"mt-8 flex items-center gap-2",children:[b.jsx("div",{className:"bg-white/20 px-2 py-1 rounded text-xs backdrop-blur-sm",children:"CHIP"}),b.jsx(Wz,{className:"h-4 w-4 text-yellow-300"})]}),b.jsx("div",{className:"mt-4 text-2xl font-mono tracking-widest",children:"4522 **** **** 9832"}),b.jsxs("div",{className:"mt-6 flex justify-between items-end",children:[b.jsxs("div",{children:[b.jsx("div",{className:"text-[10px] opacity-75 mb-1",children:"KART SAHİBİ"}),b.jsx("div",{className:"font-bold tracking-wider text-sm truncate w-40",children:"TEST USER"})]}),b.jsxs("div",{children:[b.jsx("div",{className:"text-xs opacity-75",children:"SKT"}),b.jsx("div",{className:"font-bold",children:"12/28"})]}),b.jsx("div",{className:"text-2xl font-bold italic opacity-50",children:"PLATINUM"})]}),b.jsx("div",{className:"absolute inset-0 rounded-2xl bg-gradient-to-tr from-white/10 to-transparent pointer-events-none"})]})}),b.jsxs("div",{className:"grid grid-cols-2 gap-4 w-96",children:[b.jsxs(ht,{variant:"outline",className:"border-white/10 hover:bg-white/5 text-white",children:[b.jsx(gj,{className:"mr-2 h-4 w-4"})," Şifre Değiştir"]}),b.jsxs(ht,{variant:"destructive",className:"bg-red-900/50 hover:bg-red-900/80",children:[b.jsx(bj,{className:"mr-2 h-4 w-4"})," Kartı Dondur"]})]})]}),b.jsx("div",{className:"space-y-6",children:b.jsxs(xt,{className:"bg-black/40 border-white/10",children:[b.jsxs(Nt,{children:[b.jsx(Ct,{className:"text-white",children:"Harcama Limitleri"}),b.jsx(qi,{children:"Aylık harcama detaylarınız"})]}),b.jsxs(wt,{className:"space-y-6",children:[b.jsxs("div",{children:[b.jsxs("div",{className:"flex justify-between text-sm mb-2 text-slate-300",children:[b.jsx("span",{children:"Kredi Kartı Limiti"}),b.jsx("span",{className:"font-bold",children:"₺15,450 / ₺50,000"})]}),b.jsx(xu,{value:33,className:"h-2",indicatorClassName:"bg-purple-500"})]}),b.jsxs("div",{children:[b.jsxs("div",{className:"flex justify-between text-sm mb-2 text-slate-300",children:[b.jsx("span",{children:"İnternet Alışverişi"}),b.jsx("span",{className:"font-bold",children:"₺2,300 / ₺10,000"})]}),b.jsx(xu,{value:23,className:"h-2",indicatorClassName:"bg-blue-500"})]}),b.jsxs("div",{children:[b.jsxs("div",{className:"flex justify-between text-sm mb-2 text-slate-300",children:[b.jsx("span",{children:"Nakit Avans"}),b.jsx("span",{className:"font-bold",children:"₺0 / ₺5,000"})]}),b.jsx(xu,{value:0,className:"h-2",indicatorClassName:"bg-green-500"})]})]})]})})]})]})]})}const AF=[{name:"10:00",value:4e3},{name:"11:00",value:3e3},{name:"12:00",value:5e3},{name:"13:00",value:2780},{name:"14:00",value:1890},{name:"15:00",value:2390},{name:"16:00",value:3490}];function jF(){return b.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[b.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:b.jsx(ho,{})}),b.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[b.jsx("header",{className:"flex justify-between items-center mb-10",children:b.jsxs("div",{children:[b.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-emerald-400 to-cyan-600 bg-clip-text text-transparent",children:"Yatırım Dünyası"}),b.jsx("p",{className:"text-slate-400 mt-1",children:"DinoCoin ve hisse senedi piyasalarını takip edin."})]})}),b.jsxs("div",{className:"grid gap-6 md:grid-cols-2 lg:grid-cols-4 mb-8",children:[b.jsxs(xt,{className:"bg-black/40 border-emerald-500/30",children:[b.jsxs(Nt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[b.jsx(Ct,{className:"text-sm font-medium text-slate-200",children:"DinoCoin (DNC)"}),b.jsx(gz,{className:"h-4 w-4 text-emerald-500"})]}),b.jsxs(wt,{children:[b.jsx("div",{className:"text-2xl font-bold text-white",children:"$45,231.89"}),b.jsxs("p",{className:"text-xs text-emerald-500 flex items-center mt-1",children:[b.jsx(fg,{className:"h-3 w-3 mr-1"})," +20.1% bugün"]})]})]}),b.jsxs(xt,{className:"bg-black/40 border-white/10",children:[b.jsxs(Nt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[b.jsx(Ct,{className:"text-sm font-medium text-slate-200",children:"Portföy Değeri"}),b.jsx(Nz,{className:"h-4 w-4 text-purple-500"})]}),b.jsxs(wt,{children:[b.jsx("div",{className:"text-2xl font-bold text-white",children:"$12,345.00"}),b.jsxs("p",{className:"text-xs text-purple-500 flex items-center mt-1",children:[b.jsx(vz,{className:"h-3 w-3 mr-1"})," Stabil"]})]})]}),b.jsxs(xt,{className:"bg-black/40 border-red-500/30",children:[b.jsxs(Nt,{className:"flex flex-row items-center justify-between space-y-0 pb-2",children:[b.jsx(Ct,{className:"text-sm font-medium text-slate-200",children:"Meteor Stocks"}),b.jsx(wS,{className:"h-4 w-4 text-red-500"})]}),b.jsxs(wt,{children:[b.jsx("div",{className:"text-2xl font-bold text-white",children:"$1,203.45"}),b.jsxs("p",{className:"text-xs text-red-500 flex items-center mt-1",children:[b.jsx(wS,{className:"h-3 w-3 mr-1"})," -4.5% bugün"]})]})]})]}),b.jsxs(xt,{className:"bg-black/20 border-white/5",children:[b.jsx(Nt,{children:b.jsx(Ct,{className:"text-slate-200",children:"DinoCoin Performansı (24s)"})}),b.jsx(wt,{className:"h-[400px]",children:b.jsx(YN,{width:"100%",height:"100%",children:b.jsxs(hM,{data:AF,children:[b.jsx("defs",{children:b.jsxs("linearGradient",{id:"colorValue",x1:"0",y1:"0",x2:"0",y2:"1",children:[b.jsx("stop",{offset:"5%",stopColor:"#10b981",stopOpacity:.3}),b.jsx("stop",{offset:"95%",stopColor:"#10b981",stopOpacity:0})]})}),b.jsx(I0,{strokeDasharray:"3 3",vertical:!1,stroke:"rgba(255,255,255,0.05)"}),b.jsx(H0,{dataKey:"name",stroke:"#64748b"}),b.jsx($0,{stroke:"#64748b",prefix:"$"}),b.jsx(OT,{contentStyle:{backgroundColor:"#0f172a",border:"1px solid rgba(255,255,255,0.1)"},itemStyle:{color:"#fff"}}),b.jsx(q0,{type:"monotone",dataKey:"value",stroke:"#10b981",fillOpacity:1,fill:"url(#colorValue)"})]})})})]})]})]})}function NF(){const[e,t]=g.useState({ad:"",soyad:"",email:""});return g.useEffect(()=>{const n=localStorage.getItem("dinoUser");n&&t(JSON.parse(n))},[]),b.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[b.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:b.jsx(ho,{})}),b.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[b.jsxs("header",{className:"mb-10",children:[b.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-slate-200 to-slate-500 bg-clip-text text-transparent",children:"Ayarlar"}),b.jsx("p",{className:"text-slate-400 mt-1",children:"Hesap tercihlerinizi ve g??venlik ayarlarınızı yönetin."})]}),b.jsxs("div",{className:"grid gap-6 max-w-2xl",children:[b.jsxs(xt,{className:"bg-black/40 border-white/10",children:[b.jsxs(Nt,{children:[b.jsxs(Ct,{className:"flex items-center gap-2 text-white",children:[b.jsx(xj,{className:"h-5 w-5"})," Profil Bilgileri"]}),b.jsx(qi,{children:"Kişisel bilgilerinizi güncelleyin."})]}),b.jsxs(wt,{className:"space-y-4",children:[b.jsxs("div",{className:"grid grid-cols-2 gap-4",children:[b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"name",className:"text-slate-300",children:"İsim"}),b.jsx(At,{id:"name",defaultValue:e.ad,className:"bg-slate-900 border-slate-700 text-white"})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"surname",className:"text-slate-300",children:"Soyisim"}),b.jsx(At,{id:"surname",defaultValue:e.soyad,className:"bg-slate-900 border-slate-700 text-white"})]})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"email",className:"text-slate-300",children:"E-posta"}),b.jsx(At,{id:"email",defaultValue:e.email,className:"bg-slate-900 border-slate-700 text-white",disabled:!0})]}),b.jsx(ht,{className:"w-full bg-primary text-black font-bold hover:bg-primary/90",children:"Değişiklikleri Kaydet"})]})]}),b.jsxs(xt,{className:"bg-black/40 border-white/10",children:[b.jsx(Nt,{children:b.jsxs(Ct,{className:"flex items-center gap-2 text-white",children:[b.jsx(bj,{className:"h-5 w-5"})," Güvenlik"]})}),b.jsxs(wt,{className:"space-y-4",children:[b.jsx(ht,{variant:"outline",className:"w-full border-slate-700 text-slate-300 hover:bg-slate-800",children:"Şifre Değiştir"}),b.jsx(ht,{variant:"outline",className:"w-full border-red-900/50 text-red-400 hover:bg-red-900/20 hover:text-red-300",children:"Hesabı Sil"})]})]})]})]})]})}function CF(){const[e,t]=g.useState([]),[n,r]=g.useState(!0);return g.useEffect(()=>{(async()=>{const o=localStorage.getItem("dinoUser");if(o){const s=JSON.parse(o);try{const f=await hj(s.id);if(f&&f.id){const d=await mj(f.id),h=p=>p?Array.isArray(p)?new Date(p[0],p[1]-1,p[2],p[3],p[4],p[5]||0):new Date(p):new Date,m=d.sort((p,x)=>h(x.transactionDate)-h(p.transactionDate));t(m.map(p=>({...p,parsedDate:h(p.transactionDate)})))}}catch(f){console.error("History fetch error:",f)}finally{r(!1)}}})()},[]),b.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[b.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:b.jsx(ho,{})}),b.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[b.jsxs("header",{className:"mb-10",children:[b.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-orange-400 to-red-600 bg-clip-text text-transparent",children:"Geçmiş İşlemler"}),b.jsx("p",{className:"text-slate-400 mt-1",children:"Hesap hareketlerinizin detaylı dökümü."})]}),b.jsxs(xt,{className:"bg-black/40 border-white/10",children:[b.jsx(Nt,{children:b.jsx(Ct,{className:"text-white",children:"İşlem Geçmişi"})}),b.jsx(wt,{children:b.jsxs(ji,{children:[b.jsx(Ni,{children:b.jsxs(Ft,{className:"border-white/5 hover:bg-transparent",children:[b.jsx(Fe,{className:"text-slate-400",children:"Tarih"}),b.jsx(Fe,{className:"text-slate-400",children:"İşlem Tipi"}),b.jsx(Fe,{className:"text-slate-400",children:"Açıklama"}),b.jsx(Fe,{className:"text-right text-slate-400",children:"Tutar"}),b.jsx(Fe,{className:"text-right text-slate-400",children:"Durum"})]})}),b.jsx(Ci,{children:n?b.jsx(Ft,{children:b.jsx(Be,{colSpan:5,className:"text-center py-8",children:"Yükleniyor..."})}):e.length===0?b.jsx(Ft,{children:b.jsx(Be,{colSpan:5,className:"text-center py-8 text-slate-500",children:"İşlem bulunamadı."})}):e.map(l=>{const o=l.transactionType==="DEPOSIT"||l.transactionType==="INCOMING_TRANSFER";return b.jsxs(Ft,{className:"border-white/5 hover:bg-white/5",children:[b.jsx(Be,{className:"text-slate-300",children:l.parsedDate?l.parsedDate.toLocaleDateString("tr-TR")+" "+l.parsedDate.toLocaleTimeString("tr-TR",{hour:"2-digit",minute:"2-digit"}):"-"}),b.jsx(Be,{className:"text-slate-300",children:l.transactionType}),b.jsx(Be,{className:"text-slate-300",children:l.description}),b.jsxs(Be,{className:Xe("text-right font-bold",o?"text-emerald-400":"text-slate-300"),children:[o?"+":"-","₺",Math.abs(l.amount).toLocaleString("tr-TR",{minimumFractionDigits:2})]}),b.jsx(Be,{className:"text-right",children:b.jsx("span",{className:"px-2 py-1 rounded bg-green-900/40 text-green-400 text-xs font-bold",children:l.status})})]},l.id)})})]})})]})]})]})}function _F(){const[e,t]=g.useState(""),[n,r]=g.useState("12"),[l,o]=g.useState(""),[s,f]=g.useState(!1),[d,h]=g.useState(null),[m,p]=g.useState([]),x=async()=>{try{const O=await fetch("http://localhost:8081/api/credits/history/1");if(O.ok){const S=(await O.json()).sort((j,_)=>new Date(_.applicationDate)-new Date(j.applicationDate));p(S)}}catch(O){console.error("Failed to fetch history",O)}};g.useEffect(()=>{x()},[]);const w=async O=>{O.preventDefault(),f(!0),h(null);try{const S=await(await fetch("http://localhost:8081/api/credits/apply",{method:"POST",headers:{"Content-Type":"application/json"},body:JSON.stringify({customerId:1,requestedAmount:parseFloat(e),installmentCount:parseInt(n),purpose:l})})).json();S.status==="APPROVED"?h({status:"APPROVED",message:`Tebrikler! ${S.requestedAmount} TL tutarındaki krediniz onaylandı ve hesabınıza yatırıldı.`}):S.status==="REJECTED"?h({status:"REJECTED",message:`Üzgünüz, başvurunuz reddedildi. Sebep: ${S.rejectionReason}`}):h({status:"PENDING",message:"Başvurunuz alındı, değerlendirme sürecinde."}),x()}catch(A){console.error("Error applying for credit:",A),h({status:"ERROR",message:"Bir hata oluştu. Lütfen tekrar deneyiniz."})}finally{f(!1)}};return b.jsxs("div",{className:"flex min-h-screen bg-background text-foreground",children:[b.jsx("div",{className:"hidden md:block w-72 fixed h-full border-r border-white/5 bg-black/20 backdrop-blur-xl",children:b.jsx(ho,{})}),b.jsxs("div",{className:"flex-1 md:ml-72 p-8 overflow-y-auto",children:[b.jsxs("header",{className:"mb-10",children:[b.jsx("h1",{className:"text-4xl font-extrabold tracking-tight bg-gradient-to-r from-green-400 to-emerald-600 bg-clip-text text-transparent",children:"Kredi Başvurusu"}),b.jsx("p",{className:"text-slate-400 mt-1",children:"Hayallerinize bir adım daha yaklaşın. Anında kredi sonucu."})]}),b.jsxs("div",{className:"max-w-2xl mx-auto",children:[b.jsxs(xt,{className:"bg-black/40 border-white/10 backdrop-blur-sm",children:[b.jsxs(Nt,{children:[b.jsxs(Ct,{className:"flex items-center gap-2 text-slate-200",children:[b.jsx(pj,{className:"h-6 w-6 text-emerald-500"}),"Hızlı Kredi"]}),b.jsx(qi,{children:"Bakiyenize dayalı anında onaylanan kredi sistemi."})]}),b.jsxs(wt,{children:[b.jsxs("form",{onSubmit:w,className:"space-y-6",children:[b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"amount",children:"Kredi Tutarı (TL)"}),b.jsx(At,{id:"amount",type:"number",placeholder:"Örn: 20000",value:e,onChange:O=>t(O.target.value),required:!0,className:"bg-black/20 border-white/10 text-white"})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"installment",children:"Vade (Ay)"}),b.jsxs("select",{id:"installment",value:n,onChange:O=>r(O.target.value),className:"flex h-10 w-full rounded-md border border-white/10 bg-black/20 px-3 py-2 text-sm ring-offset-background focus-visible:outline-none focus-visible:ring-2 focus-visible:ring-ring focus-visible:ring-offset-2 disabled:cursor-not-allowed disabled:opacity-50 text-white",children:[b.jsx("option",{value:"12",children:"12 Ay"}),b.jsx("option",{value:"24",children:"24 Ay"}),b.jsx("option",{value:"36",children:"36 Ay"}),b.jsx("option",{value:"48",children:"48 Ay"})]})]}),b.jsxs("div",{className:"space-y-2",children:[b.jsx(bt,{htmlFor:"purpose",children:"Kullanım Amacı"}),b.jsx(At,{id:"purpose",placeholder:"Örn: Tatil, Eğitim, Tadilat",value:l,onChange:O=>o(O.target.value),required:!0,className:"bg-black/20 border-white/10 text-white"})]}),b.jsx(ht,{type:"submit",className:"w-full bg-emerald-600 hover:bg-emerald-700 text-white font-bold",disabled:s,children:s?"Değerlendiriliyor...":"Başvuruyu Tamamla"})]}),d&&b.jsxs("div",{className:`mt-6 p-4 rounded-lg flex items-start gap-3 border ${d.status==="APPROVED"?"bg-emerald-500/10 border-emerald-500/30 text-emerald-400":d.status==="REJECTED"?"bg-red-500/10 border-red-500/30 text-red-400":"bg-blue-500/10 border-blue-500/30 text-blue-400"}`,children:[d.status==="APPROVED"&&b.jsx(Sz,{className:"h-6 w-6 shrink-0"}),d.status==="REJECTED"&&b.jsx(Oz,{className:"h-6 w-6 shrink-0"}),d.status==="ERROR"&&b.jsx(xz,{className:"h-6 w-6 shrink-0"}),b.jsxs("div",{children:[b.jsx("h4",{className:"font-bold",children:d.status==="APPROVED"?"Onaylandı!":d.status==="REJECTED"?"Reddedildi":"İşlem Sonucu"}),b.jsx("p",{className:"text-sm mt-1 opacity-90",children:d.message})]})]})]})]}),b.jsxs("div",{className:"mt-8",children:[b.jsx("h2",{className:"text-2xl font-bold mb-4 text-slate-200",children:"Geçmiş Başvurularım"}),b.jsx(xt,{className:"bg-black/20 border-white/5",children:b.jsx(wt,{className:"p-0",children:b.jsxs(ji,{children:[b.jsx(Ni,{children:b.jsxs(Ft,{className:"border-white/5 hover:bg-transparent",children:[b.jsx(Fe,{className:"text-slate-400",children:"Tarih"}),b.jsx(Fe,{className:"text-slate-400",children:"Amaç"}),b.jsx(Fe,{className:"text-slate-400",children:"Tutar"}),b.jsx(Fe,{className:"text-slate-400",children:"Durum"}),b.jsx(Fe,{className:"text-slate-400",children:"Açıklama"})]})}),b.jsx(Ci,{children:m.length===0?b.jsx(Ft,{children:b.jsx(Be,{colSpan:5,className:"text-center py-8 text-slate-500",children:"Henüz kredi başvurunuz bulunmuyor."})}):m.map(O=>b.jsxs(Ft,{className:"border-white/5 hover:bg-white/5",children:[b.jsx(Be,{className:"font-medium text-slate-300",children:new Date(O.applicationDate).toLocaleDateString("tr-TR")}),b.jsx(Be,{className:"text-slate-300",children:O.purpose}),b.jsxs(Be,{className:"text-slate-300",children:["₺",O.requestedAmount.toLocaleString("tr-TR")]}),b.jsx(Be,{children:b.jsx("span",{className:`px-2 py-1 rounded-full text-xs font-bold ${O.status==="APPROVED"?"bg-emerald-500/20 text-emerald-400":O.status==="REJECTED"?"bg-red-500/20 text-red-400":"bg-yellow-500/20 text-yellow-400"}`,children:O.status==="APPROVED"?"ONAYLANDI":O.status==="REJECTED"?"REDDEDİLDİ":"BEKLEMEDE"})}),b.jsx(Be,{className:"text-slate-400 text-sm max-w-[200px] truncate",title:O.rejectionReason,children:O.rejectionReason||"-"})]},O.id))})]})})})]})]})]})]})}function TF(){const[e,t]=g.useState({customers:[],accounts:[]}),[n,r]=g.useState(!0);return g.useEffect(()=>{(async()=>{try{const o=await no("/admin/db");t(o)}catch(o){console.error("Admin fetch error:",o)}finally{r(!1)}})()},[]),n?b.jsx("div",{className:"text-white text-center p-10",children:"Veritabanı Yükleniyor..."}):b.jsxs("div",{className:"min-h-screen bg-slate-950 p-8 text-white",children:[b.jsx("h1",{className:"text-3xl font-bold mb-8 text-primary",children:"Admin Veritabanı Görünümü"}),b.jsxs("div",{className:"grid gap-8",children:[b.jsxs(xt,{className:"bg-slate-900 border-slate-800",children:[b.jsx(Nt,{children:b.jsx(Ct,{className:"text-xl text-slate-200",children:"Müşteriler (Customers)"})}),b.jsx(wt,{children:b.jsx("div",{className:"overflow-x-auto",children:b.jsxs(ji,{children:[b.jsx(Ni,{children:b.jsxs(Ft,{className:"border-slate-800",children:[b.jsx(Fe,{className:"text-slate-400",children:"ID"}),b.jsx(Fe,{className:"text-slate-400",children:"Ad Soyad"}),b.jsx(Fe,{className:"text-slate-400",children:"Email"}),b.jsx(Fe,{className:"text-slate-400",children:"TCKN"})]})}),b.jsx(Ci,{children:e.customers?.map(l=>b.jsxs(Ft,{className:"border-slate-800",children:[b.jsx(Be,{children:l.id}),b.jsxs(Be,{children:[l.ad," ",l.soyad]}),b.jsx(Be,{children:l.email}),b.jsx(Be,{children:l.tcKimlikNo})]},l.id))})]})})})]}),b.jsxs(xt,{className:"bg-slate-900 border-slate-800",children:[b.jsx(Nt,{children:b.jsx(Ct,{className:"text-xl text-slate-200",children:"Hesaplar (Accounts)"})}),b.jsx(wt,{children:b.jsx("div",{className:"overflow-x-auto",children:b.jsxs(ji,{children:[b.jsx(Ni,{children:b.jsxs(Ft,{className:"border-slate-800",children:[b.jsx(Fe,{className:"text-slate-400",children:"ID"}),b.jsx(Fe,{className:"text-slate-400",children:"Hesap No"}),b.jsx(Fe,{className:"text-slate-400",children:"Müşteri ID"}),b.jsx(Fe,{className:"text-slate-400 text-right",children:"Bakiye"})]})}),b.jsx(Ci,{children:e.accounts?.map(l=>b.jsxs(Ft,{className:"border-slate-800",children:[b.jsx(Be,{children:l.id}),b.jsx(Be,{children:l.accountNumber}),b.jsx(Be,{children:l.customer?.id||l.customerId}),b.jsxs(Be,{className:"text-right",children:["₺",l.balance]})]},l.id))})]})})})]}),b.jsxs(xt,{className:"bg-slate-900 border-slate-800",children:[b.jsx(Nt,{children:b.jsx(Ct,{className:"text-xl text-slate-200",children:"İşlemler (Transactions)"})}),b.jsx(wt,{children:b.jsx("div",{className:"overflow-x-auto",children:b.jsxs(ji,{children:[b.jsx(Ni,{children:b.jsxs(Ft,{className:"border-slate-800",children:[b.jsx(Fe,{className:"text-slate-400",children:"ID"}),b.jsx(Fe,{className:"text-slate-400",children:"Tip"}),b.jsx(Fe,{className:"text-slate-400",children:"Tutar"}),b.jsx(Fe,{className:"text-slate-400",children:"Açıklama"}),b.jsx(Fe,{className:"text-slate-400",children:"Tarih"})]})}),b.jsx(Ci,{children:e.transactions?.map(l=>b.jsxs(Ft,{className:"border-slate-800",children:[b.jsx(Be,{children:l.id}),b.jsx(Be,{children:l.transactionType}),b.jsxs(Be,{children:["₺",l.amount]}),b.jsx(Be,{children:l.description}),b.jsx(Be,{children:l.transactionDate})]},l.id))})]})})})]})]})]})}class MF extends k2.Component{constructor(t){super(t),this.state={hasError:!1,error:null,errorInfo:null}}static getDerivedStateFromError(t){return{hasError:!0}}componentDidCatch(t,n){this.setState({error:t,errorInfo:n}),console.error("Uncaught error:",t,n)}render(){return this.state.hasError?b.jsxs("div",{style:{padding:"20px",color:"red",backgroundColor:"#fff"},children:[b.jsx("h1",{children:"Something went wrong."}),b.jsxs("details",{style:{whiteSpace:"pre-wrap"},children:[this.state.error&&this.state.error.toString(),b.jsx("br",{}),this.state.errorInfo&&this.state.errorInfo.componentStack]})]}):this.props.children}}function DF(){return b.jsx(MF,{children:b.jsx(FR,{children:b.jsx("div",{className:"min-h-screen bg-background font-sans antialiased",children:b.jsxs(jR,{children:[b.jsx(Gn,{path:"/",element:b.jsx(EF,{})}),b.jsx(Gn,{path:"/login",element:b.jsx(Zz,{})}),b.jsx(Gn,{path:"/register",element:b.jsx(Qz,{})}),b.jsx(Gn,{path:"/dashboard",element:b.jsx(SF,{})}),b.jsx(Gn,{path:"/cards",element:b.jsx(OF,{})}),b.jsx(Gn,{path:"/invest",element:b.jsx(jF,{})}),b.jsx(Gn,{path:"/credit-application",element:b.jsx(_F,{})}),b.jsx(Gn,{path:"/settings",element:b.jsx(NF,{})}),b.jsx(Gn,{path:"/history",element:b.jsx(CF,{})}),b.jsx(Gn,{path:"/admin",element:b.jsx(TF,{})}),b.jsx(Gn,{path:"*",element:b.jsx(OR,{to:"/",replace:!0})})]})})})})}console.log("Main.jsx is running");kP.createRoot(document.getElementById("root")).render(b.jsx(g.StrictMode,{children:b.jsx(DF,{})}));
@@ -0,0 +1,162 @@
+package com.dinobank.Transaction.service;
+
+import com.dinobank.metrics.BusinessMetrics;
+import com.dinobank.model.Account;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TransferLimitService: eşzamanlı transferler günlük limiti birlikte
+ * aşamaz, geri alınan transferin rezervasyonu bırakılır. Sayaçlar
+ * açılıştaki yeniden kurulum olmadan (start() çağrılmadan) kullanılır.
+ */
+class TransferLimitServiceTest {
+
+    private static final BigDecimal ONE = new BigDecimal("1.00");
+
+    private static TransferLimitService service(String daily, String perTransaction, int stripes) {
+        return new TransferLimitService(null, null, new BusinessMetrics(new SimpleMeterRegistry()), daily,
+                perTransaction, stripes);
+    }
+
+    private static Account account(long id, String type) {
+        Account account = new Account();
+        account.setId(id);
+        account.setAccountType(type);
+        return account;
+    }
+
+    /** Transaction senkronizasyonunu elle sürer: commit veya rollback */
+    private static void inTransaction(boolean commit, Runnable body) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            body.run();
+            complete(commit);
+        } catch (RuntimeException e) {
+            complete(false);
+            throw e;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void complete(boolean commit) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        int status = commit ? TransactionSynchronization.STATUS_COMMITTED
+                : TransactionSynchronization.STATUS_ROLLED_BACK;
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Test
+    void concurrentTransfersNeverExceedTheDailyLimitAndRollbacksLeakNothing() throws Exception {
+        int accounts = 8;
+        int threads = 16;
+        int attemptsPerThread = 1_000;
+        long limit = 500;
+        // 4 şerit: birden fazla hesap aynı kilidi paylaşır
+        TransferLimitService service = service("DEFAULT:" + limit, "DEFAULT:0", 4);
+
+        AtomicLongArray committed = new AtomicLongArray(accounts);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            results.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    int index = (thread + i) % accounts;
+                    // Her üç transferden biri rezervasyondan sonra geri alınır
+                    boolean commit = i % 3 != 0;
+                    try {
+                        inTransaction(commit, () -> service.reserve(account(index + 1, "VADESIZ"), ONE));
+                        if (commit) {
+                            committed.incrementAndGet(index);
+                        }
+                    } catch (RuntimeException limitExceeded) {
+                        // Limit doldu
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        for (int index = 0; index < accounts; index++) {
+            assertThat(committed.get(index)).isLessThanOrEqualTo(limit);
+            // Geri alınanlar bırakıldıysa kalan tam olarak limit - commit edilen kadardır
+            long remaining = 0;
+            while (true) {
+                try {
+                    service.reserve(account(index + 1, "VADESIZ"), ONE);
+                    remaining++;
+                } catch (RuntimeException limitExceeded) {
+                    break;
+                }
+            }
+            assertThat(committed.get(index) + remaining).isEqualTo(limit);
+        }
+    }
+
+    @Test
+    void openReservationCountsUntilRollbackReleasesIt() {
+        TransferLimitService service = service("DEFAULT:100", "DEFAULT:0", 1);
+        Account account = account(7, "VADELI");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.reserve(account, new BigDecimal("100"));
+            // İlk transaction henüz bitmedi: eşzamanlı ikinci transfer sığmaz
+            assertThatThrownBy(() -> service.reserve(account, ONE)).hasMessageContaining("kalan: 0.00");
+            complete(false);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        inTransaction(true, () -> service.reserve(account, new BigDecimal("100")));
+        assertThatThrownBy(() -> service.reserve(account, ONE)).hasMessageContaining("Günlük transfer limiti");
+    }
+
+    @Test
+    void appliesPerTypeLimitsAndRejectsSubKurusAmounts() {
+        TransferLimitService service = service("DEFAULT:0", "VADESIZ:100,DEFAULT:50", 1);
+
+        service.reserve(account(1, "vadesiz"), new BigDecimal("100.00"));
+        assertThatThrownBy(() -> service.reserve(account(1, "VADESIZ"), new BigDecimal("100.01")))
+                .hasMessageContaining("İşlem başına");
+        // Listede olmayan tür DEFAULT'u kullanır
+        assertThatThrownBy(() -> service.reserve(account(2, "YATIRIM"), new BigDecimal("50.01")))
+                .hasMessageContaining("İşlem başına");
+        assertThatThrownBy(() -> service.reserve(account(2, "YATIRIM"), new BigDecimal("0.009")))
+                .hasMessageContaining("2 ondalık");
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> service("DEFAULT:100", "DEFAULT:50", 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service("VADESIZ:100", "DEFAULT:50", 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service("DEFAULT:-1", "DEFAULT:50", 4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
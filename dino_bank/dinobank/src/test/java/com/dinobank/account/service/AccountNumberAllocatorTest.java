@@ -0,0 +1,122 @@
+package com.dinobank.account.service;
+
+import com.dinobank.validation.IbanValidator;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AccountNumberAllocator: blok yenilemeleri boyunca eşzamanlı çağrılarda
+ * aynı numara iki kez verilmez. Sequence, V1'deki gibi 1000'den başlayan ve
+ * her nextval'de blockSize kadar ilerleyen bir sayaçla taklit edilir.
+ */
+class AccountNumberAllocatorTest {
+
+    private static final String BANK_CODE = "1907";
+
+    /** START WITH 1000, INCREMENT BY blockSize */
+    private static LongSupplier sequence(int blockSize) {
+        AtomicLong value = new AtomicLong(1000 - blockSize);
+        return () -> value.addAndGet(blockSize);
+    }
+
+    @Test
+    void concurrentAllocationAcrossRefillsNeverRepeats() throws Exception {
+        int blockSize = 50;
+        int threads = 16;
+        int perThread = 5_000;
+        // İki instance aynı sequence'ı paylaşır (iki uygulama düğümü)
+        LongSupplier shared = sequence(blockSize);
+        AccountNumberAllocator first = new AccountNumberAllocator(shared, blockSize, BANK_CODE);
+        AccountNumberAllocator second = new AccountNumberAllocator(shared, blockSize, BANK_CODE);
+
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            AccountNumberAllocator allocator = t % 2 == 0 ? first : second;
+            results.add(pool.submit(() -> {
+                start.await();
+                int duplicates = 0;
+                for (int i = 0; i < perThread; i++) {
+                    if (!seen.add(allocator.nextAccountNumber())) {
+                        duplicates++;
+                    }
+                }
+                return duplicates;
+            }));
+        }
+        start.countDown();
+        int duplicates = 0;
+        for (Future<Integer> result : results) {
+            duplicates += result.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(duplicates).isZero();
+        assertThat(seen).hasSize(threads * perThread);
+        assertThat(seen).allMatch(IbanValidator::isValidIban);
+    }
+
+    @Test
+    void firstBlockOnFreshSequenceStaysPositiveWhenBlockExceedsStartValue() {
+        int blockSize = 5_000;
+        AccountNumberAllocator allocator = new AccountNumberAllocator(sequence(blockSize), blockSize, BANK_CODE);
+
+        // İlk nextval 1000 döner: blok [1, 1000], ardından (1000, 6000]
+        for (long expected = 1; expected <= 6_000; expected++) {
+            assertThat(allocator.nextSerial()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void formattedNumberPassesMod97() {
+        assertThat(AccountNumberAllocator.format(BANK_CODE, 1)).hasSize(AccountNumberAllocator.ACCOUNT_NUMBER_LENGTH);
+        assertThat(IbanValidator.isValidIban(AccountNumberAllocator.format(BANK_CODE, 1))).isTrue();
+        assertThat(IbanValidator.isValidIban(AccountNumberAllocator.format(BANK_CODE, 999_999_999_999L))).isTrue();
+    }
+
+    @Test
+    void startupRejectsBlockSizeThatDiffersFromSequenceIncrement() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:allocator-" + UUID.randomUUID()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS public");
+        dataSource.setUser("sa");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        // V1: INCREMENT BY 1000
+        AccountNumberAllocator matching = new AccountNumberAllocator(jdbcTemplate, transactionManager, 1000, BANK_CODE);
+        matching.start();
+        assertThat(matching.nextSerial()).isEqualTo(1);
+
+        AccountNumberAllocator mismatched = new AccountNumberAllocator(jdbcTemplate, transactionManager, 500, BANK_CODE);
+        assertThatThrownBy(mismatched::start)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("(1000)");
+    }
+}
@@ -0,0 +1,181 @@
+package com.dinobank.account.service;
+
+import com.dinobank.account.dto.AccountBalanceDto;
+import com.dinobank.repository.AccountRepository;
+import com.dinobank.repository.BalanceCheckpointRepository;
+import com.dinobank.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BalanceCheckpointService: kontrol noktası anındaki bakiye, o andan sonra
+ * işlenen transferler (dövizli transferin converted_amount bacağı dahil)
+ * geri alınarak bulunur; geçmiş tarihli sorgu kontrol noktasından önce,
+ * tam o anda ve sonrasında aynı bakiyeyi verir. Aynı an için tekrar
+ * çalıştırma mevcut kayıtlara dokunmaz, yalnızca eksik hesapları yazar.
+ */
+class BalanceCheckpointServiceTest {
+
+    private static final LocalDateTime CHECKPOINT = LocalDateTime.of(2024, 3, 10, 0, 0);
+    private static final long TRY_ACCOUNT = 1;
+    private static final long USD_ACCOUNT = 2;
+    private static final long OTHER_ACCOUNT = 3;
+
+    private JdbcTemplate jdbcTemplate;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private EntityManager entityManager;
+    private BalanceCheckpointService service;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:checkpoint-" + UUID.randomUUID()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;"
+                + "INIT=CREATE SCHEMA IF NOT EXISTS public");
+        dataSource.setUser("sa");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setPackagesToScan("com.dinobank.model");
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.afterPropertiesSet();
+        entityManager = entityManagerFactory.getObject().createEntityManager();
+        JpaRepositoryFactory repositories = new JpaRepositoryFactory(entityManager);
+
+        // Parça boyutu 2: üç hesap iki ayrı INSERT ... SELECT ile yazılır
+        service = new BalanceCheckpointService(repositories.getRepository(AccountRepository.class),
+                repositories.getRepository(TransactionRepository.class),
+                repositories.getRepository(BalanceCheckpointRepository.class), jdbcTemplate, 2);
+
+        jdbcTemplate.update("""
+                INSERT INTO public.customers (tc_kimlik_no, ad, soyad, email, dogum_tarihi, sifre)
+                VALUES ('10000000146', 'Bakiye', 'Test', 'bakiye@test.com', DATE '1990-01-01', 'x')
+                """);
+        // Güncel bakiyeler aşağıdaki tüm COMPLETED işlemler uygulanmış hâlidir
+        account(TRY_ACCOUNT, "TRY", "830.00");
+        account(USD_ACCOUNT, "USD", "130.00");
+        account(OTHER_ACCOUNT, "TRY", "175.00");
+
+        // Kontrol noktasından önce: TRY 2000 → 1460, USD 100 → 110, diğer 0 → 200
+        transfer(TRY_ACCOUNT, OTHER_ACCOUNT, "200.00", null, CHECKPOINT.minusHours(2), "COMPLETED");
+        transfer(TRY_ACCOUNT, USD_ACCOUNT, "340.00", "10.00", CHECKPOINT.minusHours(1), "COMPLETED");
+        // Tam kontrol noktası anındaki işlem sonrasına sayılır
+        transfer(OTHER_ACCOUNT, TRY_ACCOUNT, "50.00", null, CHECKPOINT, "COMPLETED");
+        transfer(TRY_ACCOUNT, USD_ACCOUNT, "680.00", "20.00", CHECKPOINT.plusHours(1), "COMPLETED");
+        // Tamamlanmamış işlem bakiyeye yansımaz
+        transfer(TRY_ACCOUNT, OTHER_ACCOUNT, "999.00", null, CHECKPOINT.plusHours(2), "PENDING");
+        transfer(null, OTHER_ACCOUNT, "25.00", null, CHECKPOINT.plusHours(3), "COMPLETED");
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.close();
+        entityManagerFactory.destroy();
+    }
+
+    private void account(long id, String currency, String balance) {
+        jdbcTemplate.update("""
+                INSERT INTO public.accounts (account_id, customer_id, account_number, account_type, balance, currency)
+                VALUES (?, 1, ?, 'VADESIZ', ?, ?)
+                """, id, String.format("TR%010d0", id), new BigDecimal(balance), currency);
+    }
+
+    private void transfer(Long from, Long to, String amount, String convertedAmount, LocalDateTime at,
+            String status) {
+        jdbcTemplate.update("""
+                INSERT INTO public.transactions (from_account_id, to_account_id, transaction_type, amount,
+                                                 transaction_date, status, converted_amount, converted_currency)
+                VALUES (?, ?, 'TRANSFER', ?, ?, ?, ?, ?)
+                """, from, to, new BigDecimal(amount), Timestamp.valueOf(at), status,
+                convertedAmount == null ? null : new BigDecimal(convertedAmount),
+                convertedAmount == null ? null : "USD");
+    }
+
+    private Map<Long, BigDecimal> checkpoints() {
+        Map<Long, BigDecimal> checkpoints = new HashMap<>();
+        jdbcTemplate.query("SELECT account_id, balance FROM public.balance_checkpoints WHERE checkpoint_at = ?",
+                rs -> {
+                    checkpoints.put(rs.getLong("account_id"), rs.getBigDecimal("balance"));
+                }, Timestamp.valueOf(CHECKPOINT));
+        return checkpoints;
+    }
+
+    private void assertBalance(long accountId, LocalDateTime asOf, String expected, String source) {
+        AccountBalanceDto balance = service.getBalanceAsOf(accountId, asOf);
+        assertThat(balance.getBalance()).as("hesap %d, %s", accountId, asOf).isEqualByComparingTo(expected);
+        assertThat(balance.getSource()).isEqualTo(source);
+    }
+
+    @Test
+    void checkpointReversesLaterTransfersIncludingTheConvertedLeg() {
+        // Kontrol noktası yokken güncel bakiyeden geriye doğru
+        assertBalance(TRY_ACCOUNT, CHECKPOINT, "1460.00", "LIVE");
+        assertBalance(USD_ACCOUNT, CHECKPOINT, "110.00", "LIVE");
+
+        assertThat(service.writeCheckpoints(CHECKPOINT)).isEqualTo(3);
+        assertThat(checkpoints()).hasSize(3)
+                .hasEntrySatisfying(TRY_ACCOUNT, b -> assertThat(b).isEqualByComparingTo("1460.00"))
+                .hasEntrySatisfying(USD_ACCOUNT, b -> assertThat(b).isEqualByComparingTo("110.00"))
+                .hasEntrySatisfying(OTHER_ACCOUNT, b -> assertThat(b).isEqualByComparingTo("200.00"));
+
+        // Önce: en yakın kontrol noktasından geriye doğru
+        assertBalance(TRY_ACCOUNT, CHECKPOINT.minusHours(3), "2000.00", "CHECKPOINT");
+        assertBalance(TRY_ACCOUNT, CHECKPOINT.minusMinutes(90), "1800.00", "CHECKPOINT");
+        assertBalance(USD_ACCOUNT, CHECKPOINT.minusMinutes(90), "100.00", "CHECKPOINT");
+        assertBalance(OTHER_ACCOUNT, CHECKPOINT.minusHours(3), "0.00", "CHECKPOINT");
+        // Tam kontrol noktası anında
+        AccountBalanceDto at = service.getBalanceAsOf(USD_ACCOUNT, CHECKPOINT);
+        assertThat(at.getBalance()).isEqualByComparingTo("110.00");
+        assertThat(at.getCheckpointAt()).isEqualTo(CHECKPOINT);
+        // Sonra: kontrol noktasından ileriye doğru
+        assertBalance(TRY_ACCOUNT, CHECKPOINT.plusMinutes(30), "1510.00", "CHECKPOINT");
+        assertBalance(OTHER_ACCOUNT, CHECKPOINT.plusMinutes(30), "150.00", "CHECKPOINT");
+        assertBalance(USD_ACCOUNT, CHECKPOINT.plusMinutes(90), "130.00", "CHECKPOINT");
+        assertBalance(TRY_ACCOUNT, CHECKPOINT.plusHours(5), "830.00", "CHECKPOINT");
+        assertBalance(OTHER_ACCOUNT, CHECKPOINT.plusHours(5), "175.00", "CHECKPOINT");
+    }
+
+    @Test
+    void rerunKeepsExistingCheckpointsAndFillsOnlyMissingAccounts() {
+        assertThat(service.writeCheckpoints(CHECKPOINT)).isEqualTo(3);
+        Map<Long, BigDecimal> written = checkpoints();
+
+        // Aynı an için ikinci çalıştırma hiçbir şey yazmaz
+        assertThat(service.writeCheckpoints(CHECKPOINT)).isZero();
+        assertThat(checkpoints()).isEqualTo(written);
+
+        // Yarıda kalmış bir çalıştırma: bir hesabın kaydı eksik, diğerleri sonradan değişmiş gibi
+        jdbcTemplate.update("DELETE FROM public.balance_checkpoints WHERE account_id = ?", USD_ACCOUNT);
+        jdbcTemplate.update("UPDATE public.balance_checkpoints SET balance = balance + 1 WHERE account_id = ?",
+                TRY_ACCOUNT);
+        assertThat(service.writeCheckpoints(CHECKPOINT)).isEqualTo(1);
+        assertThat(checkpoints()).hasSize(3)
+                .hasEntrySatisfying(USD_ACCOUNT, b -> assertThat(b).isEqualByComparingTo("110.00"))
+                .hasEntrySatisfying(TRY_ACCOUNT, b -> assertThat(b).isEqualByComparingTo("1461.00"));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM public.balance_checkpoints", Long.class))
+                .isEqualTo(3);
+    }
+}
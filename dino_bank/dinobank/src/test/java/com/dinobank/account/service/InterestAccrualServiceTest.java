@@ -0,0 +1,180 @@
+package com.dinobank.account.service;
+
+import com.dinobank.outbox.OutboxEventType;
+import com.dinobank.outbox.OutboxSignal;
+import com.dinobank.outbox.OutboxWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * InterestAccrualService: yarıda kalan bir çalışma aynı gün için tekrar
+ * çağrıldığında kalan parçalardan devam eder ve her hesaba günün faizi
+ * tam bir kez yansır. Şema gerçek Flyway migration'larıyla, PostgreSQL
+ * modundaki bellek içi H2'de kurulur.
+ */
+class InterestAccrualServiceTest {
+
+    private static final int ACCOUNTS = 60;
+    private static final int CHUNK_SIZE = 10;
+    private static final long DEPOSIT_RATE_E8 = 40_000_000L;
+    private static final long OVERDRAFT_RATE_E8 = 60_000_000L;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ObjectMapper objectMapper;
+    private AccountVersionRegistry accountVersionRegistry;
+    private Map<Long, BigDecimal> initialBalances;
+
+    /** Belirli bir çağrıdan itibaren her toplu yazıda hata veren yazıcı (ölü bağlantı, çökme) */
+    private static final class FailingOutboxWriter extends OutboxWriter {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final int failFromCall;
+
+        FailingOutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, int failFromCall) {
+            super(jdbcTemplate, objectMapper, new OutboxSignal());
+            this.failFromCall = failFromCall;
+        }
+
+        @Override
+        public <T> void appendAll(OutboxEventType type, List<T> payloads, Function<T, Long> aggregateId) {
+            if (calls.incrementAndGet() >= failFromCall) {
+                throw new RuntimeException("Simüle edilen çökme");
+            }
+            super.appendAll(type, payloads, aggregateId);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:accrual-" + UUID.randomUUID()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;"
+                + "INIT=CREATE SCHEMA IF NOT EXISTS public");
+        dataSource.setUser("sa");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        accountVersionRegistry = new AccountVersionRegistry();
+
+        jdbcTemplate.update("""
+                INSERT INTO public.customers (tc_kimlik_no, ad, soyad, email, dogum_tarihi, sifre)
+                VALUES ('10000000146', 'Faiz', 'Test', 'faiz@test.com', DATE '1990-01-01', 'x')
+                """);
+        // Üçte biri mevduat faizi alır, üçte biri eksi bakiyeli, üçte biri faizsiz
+        initialBalances = new HashMap<>();
+        for (long id = 1; id <= ACCOUNTS; id++) {
+            String type = id % 3 == 0 ? "VADELI" : "VADESIZ";
+            BigDecimal balance = id % 3 == 1 ? BigDecimal.valueOf(-50_000 - id, 2)
+                    : BigDecimal.valueOf(100_000 + id, 2);
+            jdbcTemplate.update("""
+                    INSERT INTO public.accounts (account_id, customer_id, account_number, account_type, balance)
+                    VALUES (?, 1, ?, ?, ?)
+                    """, id, String.format("TR%010d0", id), type, balance);
+            initialBalances.put(id, balance);
+        }
+    }
+
+    private InterestAccrualService service(OutboxWriter outboxWriter, int threads) {
+        return new InterestAccrualService(jdbcTemplate, transactionTemplate, outboxWriter, accountVersionRegistry,
+                true, new BigDecimal("0.40"), new BigDecimal("0.60"), CHUNK_SIZE, threads);
+    }
+
+    private Map<Long, BigDecimal> balances() {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        jdbcTemplate.query("SELECT account_id, balance FROM public.accounts",
+                rs -> {
+                    balances.put(rs.getLong("account_id"), rs.getBigDecimal("balance"));
+                });
+        return balances;
+    }
+
+    private static long expectedInterestKurus(long accountId, BigDecimal balance) {
+        long kurus = balance.movePointRight(2).longValueExact();
+        if (kurus < 0) {
+            return -InterestAccrualService.dailyInterestKurus(-kurus, OVERDRAFT_RATE_E8);
+        }
+        return accountId % 3 == 0 ? InterestAccrualService.dailyInterestKurus(kurus, DEPOSIT_RATE_E8) : 0;
+    }
+
+    @Test
+    void restartAfterCrashPostsEachAccountExactlyOnce() {
+        LocalDate day = LocalDate.now();
+        OutboxWriter outboxWriter = new OutboxWriter(jdbcTemplate, objectMapper, new OutboxSignal());
+
+        // Tek thread, üçüncü parçadan itibaren her yazı hata verir: iki parça commit edilir
+        assertThatThrownBy(() -> service(new FailingOutboxWriter(jdbcTemplate, objectMapper, 3), 1).accrue(day))
+                .hasMessageContaining("Simüle edilen çökme");
+        Long postedBeforeCrash = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(accounts_posted), 0) FROM public.interest_accrual_chunks", Long.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM public.interest_accrual_runs", String.class))
+                .isEqualTo("RUNNING");
+
+        // Yeniden başlatma paralel çalışır ve yalnızca eksik parçaları işler
+        long postedAfterRestart = service(outboxWriter, 4).accrue(day);
+
+        Map<Long, BigDecimal> balances = balances();
+        Map<Long, Integer> interestRows = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT COALESCE(to_account_id, from_account_id) AS account_id, COUNT(*) AS n
+                FROM public.transactions WHERE transaction_type = 'INTEREST' GROUP BY 1
+                """, rs -> {
+                    interestRows.put(rs.getLong("account_id"), rs.getInt("n"));
+                });
+        int interestAccounts = 0;
+        for (long id = 1; id <= ACCOUNTS; id++) {
+            BigDecimal initial = initialBalances.get(id);
+            long interest = expectedInterestKurus(id, initial);
+            assertThat(balances.get(id)).as("hesap %d", id)
+                    .isEqualByComparingTo(initial.add(BigDecimal.valueOf(interest, 2)));
+            assertThat(interestRows.getOrDefault(id, 0)).as("hesap %d faiz satırı", id)
+                    .isEqualTo(interest != 0 ? 1 : 0);
+            if (interest != 0) {
+                interestAccounts++;
+                assertThat(accountVersionRegistry.accountETag(id)).doesNotEndWith("-0\"");
+            } else {
+                assertThat(accountVersionRegistry.accountETag(id)).endsWith("-0\"");
+            }
+        }
+        assertThat(interestAccounts).isEqualTo(2 * ACCOUNTS / 3);
+        assertThat(postedBeforeCrash).isPositive();
+        assertThat(postedBeforeCrash + postedAfterRestart).isEqualTo(interestAccounts);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM public.outbox_events WHERE event_type = 'INTEREST_POSTED'", Long.class))
+                .isEqualTo(interestAccounts);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM public.interest_accrual_chunks", Long.class))
+                .isEqualTo(ACCOUNTS / CHUNK_SIZE);
+        assertThat(jdbcTemplate.queryForMap("SELECT status, accounts_posted FROM public.interest_accrual_runs"))
+                .containsEntry("status", "COMPLETED")
+                .containsEntry("accounts_posted", (long) interestAccounts);
+
+        // Tamamlanmış gün tekrar çağrılırsa hiçbir şey yapılmaz
+        assertThat(service(outboxWriter, 4).accrue(day)).isZero();
+        assertThat(balances()).isEqualTo(balances);
+    }
+}
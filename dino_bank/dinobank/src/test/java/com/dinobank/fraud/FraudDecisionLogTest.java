@@ -0,0 +1,63 @@
+package com.dinobank.fraud;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FraudDecisionLog: web sunucusundan sonra durur ve durdurulurken
+ * kuyrukta bekleyen tüm kararları yazar.
+ */
+class FraudDecisionLogTest {
+
+    @Test
+    void stopsAfterTheWebServerAndWritesEveryQueuedDecision() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:fraud-" + UUID.randomUUID()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;"
+                + "INIT=CREATE SCHEMA IF NOT EXISTS public");
+        dataSource.setUser("sa");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        int decisions = 5_000;
+        FraudDecisionLog decisionLog = new FraudDecisionLog(jdbcTemplate, registry, decisions, 100);
+
+        // Küçük faz önce başlar, sonra durur; web sunucusu SMART_LIFECYCLE_PHASE - 1024'tedir
+        assertThat(decisionLog.getPhase())
+                .isLessThan(WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024);
+
+        decisionLog.start();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < decisions; i++) {
+            VelocityDecision decision = i % 2 == 0 ? VelocityDecision.flag(VelocityRule.ACCOUNT_COUNT_PER_HOUR)
+                    : VelocityDecision.ALLOW;
+            decisionLog.submit(new FraudDecisionLog.Entry(now, "TRANSFER", "TR11111111110", "TR22222222220",
+                    1L, BigDecimal.TEN, decision));
+        }
+        // Kuyruk henüz boşalmadan durdurulur
+        decisionLog.stop();
+
+        assertThat(decisionLog.isRunning()).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM public.fraud_decisions", Long.class))
+                .isEqualTo(decisions);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM public.fraud_decisions WHERE rule = 'ACCOUNT_COUNT_PER_HOUR'", Long.class))
+                .isEqualTo(decisions / 2);
+        assertThat(registry.get("dinobank.fraud.log.written").counter().count()).isEqualTo(decisions);
+        assertThat(registry.get("dinobank.fraud.log.dropped").counter().count()).isZero();
+    }
+}
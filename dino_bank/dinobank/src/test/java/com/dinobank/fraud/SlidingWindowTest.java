@@ -0,0 +1,60 @@
+package com.dinobank.fraud;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SlidingWindow: pencere içinde bulunulan kova dahil son "buckets" kovadır;
+ * eskiyen kovalar tek tek düşer, saat geri giderse en yeni kovada kalınır.
+ */
+class SlidingWindowTest {
+
+    /** 6 × 10 sn: hız kontrolünün dakikalık penceresi */
+    private static SlidingWindow minuteWindow() {
+        return new SlidingWindow(6, 10_000);
+    }
+
+    @Test
+    void oldestBucketExpiresWhenWindowSlidesPastIt() {
+        SlidingWindow window = minuteWindow();
+        window.add(0, 100);
+        window.add(15_000, 200);
+
+        // Kova 5: pencere 0..5, ikisi de içeride
+        assertThat(window.count(59_999)).isEqualTo(2);
+        assertThat(window.amount(59_999)).isEqualTo(300);
+        // Kova 6: pencere 1..6, 0. kova düştü
+        assertThat(window.count(60_000)).isEqualTo(1);
+        assertThat(window.amount(60_000)).isEqualTo(200);
+        // Kova 7: pencere 2..7, boş
+        assertThat(window.count(70_000)).isZero();
+        assertThat(window.amount(70_000)).isZero();
+    }
+
+    @Test
+    void jumpLongerThanWindowClearsEverything() {
+        SlidingWindow window = minuteWindow();
+        for (long t = 0; t < 60_000; t += 1_000) {
+            window.add(t, 1);
+        }
+        assertThat(window.count(59_999)).isEqualTo(60);
+
+        assertThat(window.count(10_000_000)).isZero();
+        window.add(10_000_000, 5);
+        assertThat(window.count(10_000_000)).isEqualTo(1);
+        assertThat(window.amount(10_000_000)).isEqualTo(5);
+    }
+
+    @Test
+    void clockGoingBackwardsCountsIntoNewestBucket() {
+        SlidingWindow window = minuteWindow();
+        window.add(50_000, 1);
+        window.add(40_000, 1);
+        assertThat(window.count(50_000)).isEqualTo(2);
+
+        // İkisi de kova 5'te: kova 10'a kadar içeride, 11'de düşer
+        assertThat(window.count(109_999)).isEqualTo(2);
+        assertThat(window.count(110_000)).isZero();
+    }
+}
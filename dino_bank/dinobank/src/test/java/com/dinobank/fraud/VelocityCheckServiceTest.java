@@ -0,0 +1,127 @@
+package com.dinobank.fraud;
+
+import com.dinobank.Transaction.dto.TransactionRequestDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * VelocityCheckService: kontrol sayaçları değiştirmez, yalnızca commit
+ * edilen işlemler sayılır ve eşzamanlı commit'lerde sayım kaybolmaz.
+ * Yalnızca hesabın saatlik adet kuralı açıktır.
+ */
+class VelocityCheckServiceTest {
+
+    private static final String FROM = "TR11111111110";
+    private static final String TO = "TR22222222220";
+    private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+
+    private static VelocityCheckService service(long accountMaxPerHour) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FraudDecisionLog decisionLog = new FraudDecisionLog(null, registry, 1_000, 100);
+        return new VelocityCheckService(decisionLog, registry, true, false, 0, accountMaxPerHour,
+                BigDecimal.ZERO, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO, 120);
+    }
+
+    private static TransactionRequestDto transfer() {
+        TransactionRequestDto request = new TransactionRequestDto();
+        request.setFromAccountNumber(FROM);
+        request.setToAccountNumber(TO);
+        request.setAmount(AMOUNT);
+        return request;
+    }
+
+    /** Transaction senkronizasyonunu elle sürer: commit veya rollback */
+    private static void inTransaction(boolean commit, Runnable body) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            body.run();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager
+                    .getSynchronizations();
+            if (commit) {
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            }
+            int status = commit ? TransactionSynchronization.STATUS_COMMITTED
+                    : TransactionSynchronization.STATUS_ROLLED_BACK;
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void onlyCommittedTransfersConsumeTheBudget() {
+        VelocityCheckService service = service(2);
+
+        // Kontrolün kendisi sayılmaz
+        for (int i = 0; i < 5; i++) {
+            assertThat(service.checkTransfer(transfer()).outcome()).isEqualTo(VelocityDecision.Outcome.ALLOW);
+        }
+        // Geri alınan transferler (ör. yetersiz bakiye) sayılmaz
+        for (int i = 0; i < 5; i++) {
+            inTransaction(false, () -> service.recordTransferAfterCommit(FROM, TO, 1L, AMOUNT));
+        }
+        assertThat(service.checkTransfer(transfer()).outcome()).isEqualTo(VelocityDecision.Outcome.ALLOW);
+
+        inTransaction(true, () -> service.recordTransferAfterCommit(FROM, TO, 1L, AMOUNT));
+        assertThat(service.checkTransfer(transfer()).outcome()).isEqualTo(VelocityDecision.Outcome.ALLOW);
+        inTransaction(true, () -> service.recordTransferAfterCommit(FROM, TO, 1L, AMOUNT));
+        assertThatThrownBy(() -> service.checkTransfer(transfer()))
+                .hasMessageContaining(VelocityRule.ACCOUNT_COUNT_PER_HOUR.message());
+    }
+
+    @Test
+    void concurrentCommitsOnOneAccountAreAllCounted() throws Exception {
+        int threads = 8;
+        int perThread = 2_000;
+        int total = threads * perThread;
+        VelocityCheckService service = service(total + 1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    // Transaction yok: kayıt hemen yapılır
+                    service.recordTransferAfterCommit(FROM, TO, 1L, AMOUNT);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // total kayıt: bir transfer daha sığar, ondan sonrakine yer yoktur
+        assertThat(service.checkTransfer(transfer()).outcome()).isEqualTo(VelocityDecision.Outcome.ALLOW);
+        service.recordTransferAfterCommit(FROM, TO, 1L, AMOUNT);
+        assertThatThrownBy(() -> service.checkTransfer(transfer()))
+                .hasMessageContaining(VelocityRule.ACCOUNT_COUNT_PER_HOUR.message());
+    }
+
+    @Test
+    void rejectsIdleTimeoutShorterThanTheHourlyWindow() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FraudDecisionLog decisionLog = new FraudDecisionLog(null, registry, 1_000, 100);
+        assertThatThrownBy(() -> new VelocityCheckService(decisionLog, registry, true, false, 0, 0,
+                BigDecimal.ZERO, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO, 59))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,229 @@
+package com.dinobank.json;
+
+import com.dinobank.Transaction.dto.TransactionResponseDto;
+import com.dinobank.model.Account;
+import com.dinobank.model.CreditApplication;
+import com.dinobank.model.Customer;
+import com.dinobank.model.Transaction;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Elle yazılan JSON yazıcıları: çıktı, varsayılan serileştirmeyle
+ * (JavaTimeModule, tarihler ISO metin) alan sırası dahil birebir aynıdır;
+ * tek fark müşterinin şifre hash'inin (sifre) yazılmamasıdır. Tarihler
+ * kesirsiz, tek nanosaniyelik ve sondaki sıfırları atılan kesirlerle,
+ * müşteri hem gerçek nesne hem de başlatılmamış Hibernate proxy'si olarak
+ * denenir.
+ */
+class JsonSerializersTest {
+
+    /** Sondaki sıfırların atılması ve kesirsiz yazım için sınır değerler */
+    private static final List<LocalDateTime> DATE_TIMES = List.of(
+            LocalDateTime.of(2024, 1, 1, 0, 0),
+            LocalDateTime.of(2024, 2, 29, 23, 59, 59),
+            LocalDateTime.of(2024, 3, 5, 7, 8, 9, 1),
+            LocalDateTime.of(2024, 3, 5, 7, 8, 9, 10),
+            LocalDateTime.of(2024, 3, 5, 7, 8, 9, 1_000),
+            LocalDateTime.of(2024, 3, 5, 7, 8, 9, 1_000_000),
+            LocalDateTime.of(2024, 3, 5, 7, 8, 9, 100_000_000),
+            LocalDateTime.of(2024, 3, 5, 7, 8, 9, 120_000_000),
+            LocalDateTime.of(2024, 3, 5, 7, 8, 9, 123_456_789),
+            LocalDateTime.of(2024, 3, 5, 7, 8, 9, 999_999_999),
+            LocalDateTime.of(5, 6, 7, 8, 9, 10, 500),
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999),
+            LocalDateTime.of(10_000, 1, 1, 0, 0, 0, 1));
+
+    private static final List<LocalDate> DATES = List.of(
+            LocalDate.of(1990, 1, 1),
+            LocalDate.of(5, 6, 7),
+            LocalDate.of(9999, 12, 31),
+            LocalDate.of(10_000, 1, 1));
+
+    /** Varsayılan serileştirme; şifre hash'i dışarıda bırakılır */
+    @JsonIgnoreProperties("sifre")
+    private abstract static class CustomerWithoutPassword {
+    }
+
+    private final ObjectMapper reference = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .addMixIn(Customer.class, CustomerWithoutPassword.class)
+            .build();
+
+    /** Spring Boot'un ObjectMapper'ı gibi: @JsonComponent yazıcıları kayıtlı */
+    private final ObjectMapper custom = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .addModule(new SimpleModule()
+                    .addSerializer(new CustomerJsonSerializer())
+                    .addSerializer(new AccountJsonSerializer())
+                    .addSerializer(new TransactionJsonSerializer())
+                    .addSerializer(new TransactionResponseJsonSerializer())
+                    .addSerializer(new CreditApplicationJsonSerializer()))
+            .build();
+
+    private static Customer customer(LocalDate date) {
+        Customer customer = new Customer();
+        customer.setId(4L);
+        customer.setTcKimlikNo("10000000146");
+        customer.setAd("Atilla \"Dino\"");
+        customer.setSoyad("Şahin");
+        customer.setEmail("atilla@dinobank.com");
+        customer.setTelefon(null);
+        customer.setDogumTarihi(date);
+        customer.setAdres("Kadıköy\nİstanbul");
+        customer.setSifre("$2a$10$gizlihashgizlihashgizlihashgizlihashgizlihashgizlihas");
+        customer.setKayitTarihi(date);
+        customer.setAktif(true);
+        return customer;
+    }
+
+    private static Account account(Customer customer, LocalDateTime openingDate) {
+        Account account = new Account();
+        account.setId(44L);
+        account.setCustomer(customer);
+        account.setAccountNumber("TR44444444440");
+        account.setAccountType("VADESIZ");
+        account.setBalance(new BigDecimal("1250.50"));
+        account.setCurrency("TRY");
+        account.setOpeningDate(openingDate);
+        account.setActive(false);
+        return account;
+    }
+
+    private void assertSameJson(Object value, Object referenceValue) throws Exception {
+        String json = custom.writeValueAsString(value);
+        assertThat(json).isEqualTo(reference.writeValueAsString(referenceValue));
+        assertThat(json).doesNotContain("sifre").doesNotContain("$2a$");
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        assertSameJson(value, value);
+    }
+
+    @Test
+    void transactionResponseMatchesDefaultSerialization() throws Exception {
+        for (LocalDateTime date : DATE_TIMES) {
+            TransactionResponseDto dto = new TransactionResponseDto(7L, "TR11111111110", "TR22222222220",
+                    new BigDecimal("100.00"), "TRANSFER", "COMPLETED", date);
+            assertSameJson(dto);
+
+            dto.setExchangeRate(new BigDecimal("34.12345678"));
+            dto.setConvertedAmount(new BigDecimal("2.93"));
+            dto.setConvertedCurrency("USD");
+            assertSameJson(dto);
+        }
+        assertSameJson(new TransactionResponseDto(null, null, null, null, null, null, null));
+    }
+
+    @Test
+    void entitiesMatchDefaultSerializationWithoutPassword() throws Exception {
+        for (int i = 0; i < DATE_TIMES.size(); i++) {
+            LocalDateTime date = DATE_TIMES.get(i);
+            Customer customer = customer(DATES.get(i % DATES.size()));
+            assertSameJson(customer);
+
+            Account account = account(customer, date);
+            assertSameJson(account);
+
+            Transaction transaction = new Transaction();
+            transaction.setId(9L);
+            transaction.setFromAccount(account);
+            transaction.setToAccount(i % 2 == 0 ? null : account(customer(date.toLocalDate()), date));
+            transaction.setTransactionType("TRANSFER");
+            transaction.setAmount(new BigDecimal("1E+3"));
+            transaction.setDescription(i % 3 == 0 ? null : "Kira\t\"Ocak\"");
+            transaction.setTransactionDate(date);
+            transaction.setStatus("COMPLETED");
+            transaction.setExchangeRate(i % 2 == 0 ? null : new BigDecimal("0.02930000"));
+            transaction.setConvertedAmount(i % 2 == 0 ? null : new BigDecimal("29.30"));
+            transaction.setConvertedCurrency(i % 2 == 0 ? null : "EUR");
+            assertSameJson(transaction);
+
+            CreditApplication application = new CreditApplication();
+            application.setId(3L);
+            application.setCustomer(customer);
+            application.setRequestedAmount(new BigDecimal("50000"));
+            application.setInstallmentCount(i % 2 == 0 ? 12 : null);
+            application.setPurpose("Konut");
+            application.setApplicationDate(date.toLocalDate());
+            application.setStatus("REJECTED");
+            application.setRejectionReason("Gelir yetersiz");
+            application.setEvaluationDate(i % 2 == 0 ? null : date);
+            assertSameJson(application);
+        }
+    }
+
+    @Test
+    void lazyCustomerProxyIsWrittenLikeTheLoadedEntity() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:json-" + UUID.randomUUID()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;"
+                + "INIT=CREATE SCHEMA IF NOT EXISTS public");
+        dataSource.setUser("sa");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        new JdbcTemplate(dataSource).update("""
+                INSERT INTO public.customers (customer_id, tc_kimlik_no, ad, soyad, email, dogum_tarihi, sifre,
+                                              kayit_tarihi)
+                VALUES (4, '10000000146', 'Atilla', 'Şahin', 'atilla@dinobank.com', DATE '1990-01-01',
+                        '$2a$10$gizli', DATE '2024-02-29')
+                """);
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.dinobank.model");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        try {
+            EntityManager entityManager = entityManagerFactory.createEntityManager();
+            try {
+                Customer proxy = entityManager.getReference(Customer.class, 4L);
+                assertThat(proxy).isInstanceOf(HibernateProxy.class);
+                assertThat(Hibernate.isInitialized(proxy)).isFalse();
+
+                Account account = account(proxy, DATE_TIMES.get(8));
+                String json = custom.writeValueAsString(account);
+                Customer loaded = (Customer) Hibernate.unproxy(proxy);
+                assertThat(json)
+                        .isEqualTo(reference.writeValueAsString(account(loaded, DATE_TIMES.get(8))))
+                        .doesNotContain("hibernateLazyInitializer")
+                        .doesNotContain("sifre");
+
+                // Kök nesne olarak da proxy alt sınıfı Customer yazıcısına düşer
+                assertThat(custom.writeValueAsString(proxy)).isEqualTo(reference.writeValueAsString(loaded));
+            } finally {
+                entityManager.close();
+            }
+        } finally {
+            factoryBean.destroy();
+        }
+    }
+}
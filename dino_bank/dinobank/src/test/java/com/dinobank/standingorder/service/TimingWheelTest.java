@@ -0,0 +1,84 @@
+package com.dinobank.standingorder.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TimingWheel: her öğe tam vadesinin tikinde, bir kez ve zaman sırasıyla
+ * tetiklenir; üst seviyelerden alt seviyelere taşınan (cascade) öğeler de
+ * erken ya da geç tetiklenmez.
+ */
+class TimingWheelTest {
+
+    @Test
+    void firesEachItemOnceAtItsTickAcrossCascades() {
+        long tick = 10;
+        // 3 seviye: 64^3 tik kapsam; öğeler her seviyeye ve tur sınırlarına düşer
+        TimingWheel<Integer> wheel = new TimingWheel<>(tick, 3, 0);
+        Random random = new Random(42);
+        Map<Integer, Long> dueTick = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            long dueAt = 1 + random.nextLong(wheel.spanMillis() - tick);
+            wheel.add(dueAt, i);
+            dueTick.put(i, Math.ceilDiv(dueAt, tick));
+        }
+        assertThat(wheel.size()).isEqualTo(dueTick.size());
+
+        List<Integer> fired = new ArrayList<>();
+        long now = 0;
+        long lastTick = 0;
+        while (wheel.size() > 0) {
+            // Düzensiz adımlar: tek tik, birkaç tik, bazen bir tur atlanır
+            now += tick * (1 + random.nextInt(random.nextInt(10) == 0 ? 200 : 5));
+            long nowTick = now / tick;
+            int before = fired.size();
+            wheel.advanceTo(now, fired::add);
+            for (int item : fired.subList(before, fired.size())) {
+                long due = dueTick.get(item);
+                assertThat(due).isGreaterThan(lastTick).isLessThanOrEqualTo(nowTick);
+            }
+            lastTick = nowTick;
+        }
+
+        assertThat(fired).hasSize(dueTick.size()).doesNotHaveDuplicates();
+        for (int i = 1; i < fired.size(); i++) {
+            assertThat(dueTick.get(fired.get(i))).isGreaterThanOrEqualTo(dueTick.get(fired.get(i - 1)));
+        }
+    }
+
+    @Test
+    void sameTickKeepsInsertionOrderAndPastDueFiresOnNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(1_000, 4, 100_000);
+        wheel.add(165_000, "a");
+        wheel.add(50_000, "gecmis");
+        wheel.add(164_001, "b");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(100_999, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.advanceTo(101_000, fired::add);
+        assertThat(fired).containsExactly("gecmis");
+        wheel.advanceTo(164_999, fired::add);
+        assertThat(fired).containsExactly("gecmis");
+        wheel.advanceTo(165_000, fired::add);
+        assertThat(fired).containsExactly("gecmis", "a", "b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void rejectsTimesBeyondSpan() {
+        TimingWheel<String> wheel = new TimingWheel<>(1_000, 2, 0);
+        assertThatThrownBy(() -> wheel.add(wheel.spanMillis() + 1_000, "uzak"))
+                .isInstanceOf(IllegalArgumentException.class);
+        wheel.add(wheel.spanMillis(), "sinirda");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.dinobank.validation;
+
+import com.dinobank.account.service.AccountNumberAllocator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IbanValidator.isAcceptableAccountNumber: üreticinin numaraları mod-97'den
+ * geçmelidir; kontrol hanesi taşımayan eski numaralar (seed "TR" + TC,
+ * eski kayıt "TR" + millis, rastgele sayısal) kabul edilir.
+ */
+class IbanValidatorTest {
+
+    @Test
+    void acceptsLegacyRegisterNumbersRegardlessOfMod97() {
+        long millis = 1_700_000_000_000L;
+        int mod97Passes = 0;
+        for (int i = 0; i < 1_000; i++) {
+            String number = "TR" + (millis + i * 7_919L);
+            assertThat(number).hasSize(15);
+            assertThat(IbanValidator.isAcceptableAccountNumber(number)).as(number).isTrue();
+            if (IbanValidator.isValidIban(number)) {
+                mod97Passes++;
+            }
+        }
+        // Eski numaraların çoğu IBAN olarak geçersizdir; kabul edilmeleri eski kurala bağlıdır
+        assertThat(mod97Passes).isLessThan(100);
+    }
+
+    @Test
+    void acceptsSeededAndRandomLegacyNumbers() {
+        assertThat(IbanValidator.isAcceptableAccountNumber("TR11111111110")).isTrue();
+        assertThat(IbanValidator.isAcceptableAccountNumber("TR22222222220")).isTrue();
+        assertThat(IbanValidator.isAcceptableAccountNumber("TR33333333330")).isTrue();
+        assertThat(IbanValidator.isAcceptableAccountNumber("483920175")).isTrue();
+    }
+
+    @Test
+    void allocatorNumbersMustPassMod97() {
+        assertThat(IbanValidator.ALLOCATED_LENGTH).isEqualTo(AccountNumberAllocator.ACCOUNT_NUMBER_LENGTH);
+        String number = AccountNumberAllocator.format("1907", 123_456);
+        assertThat(IbanValidator.isAcceptableAccountNumber(number)).isTrue();
+
+        // Tek hane değişikliği (yazım hatası) yakalanır
+        char last = number.charAt(number.length() - 1);
+        String typo = number.substring(0, number.length() - 1) + (char) (last == '9' ? '0' : last + 1);
+        assertThat(IbanValidator.isAcceptableAccountNumber(typo)).isFalse();
+    }
+
+    @Test
+    void longerNumbersAreCheckedAsIbans() {
+        assertThat(IbanValidator.isAcceptableAccountNumber("DE89370400440532013000")).isTrue();
+        assertThat(IbanValidator.isAcceptableAccountNumber("DE89370400440532013001")).isFalse();
+    }
+
+    @Test
+    void rejectsMalformedNumbers() {
+        assertThat(IbanValidator.isAcceptableAccountNumber(null)).isFalse();
+        assertThat(IbanValidator.isAcceptableAccountNumber("")).isFalse();
+        assertThat(IbanValidator.isAcceptableAccountNumber("tr11111111110")).isFalse();
+        assertThat(IbanValidator.isAcceptableAccountNumber("TR1111-1111110")).isFalse();
+    }
+}
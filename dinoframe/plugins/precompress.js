@@ -0,0 +1,73 @@
+import { readdir, readFile, writeFile } from 'node:fs/promises'
+import path from 'node:path'
+import { brotliCompressSync, constants, gzipSync } from 'node:zlib'
+
+// Metin tabanlı varlıklar sıkıştırılır; png/woff2 gibi zaten sıkıştırılmış
+// biçimler dokunulmadan bırakılır.
+const COMPRESSIBLE = /\.(js|mjs|css|html|svg|json|txt)$/
+const ENCODINGS = [
+  {
+    extension: '.br',
+    compress: (data) => brotliCompressSync(data, {
+      params: {
+        [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY,
+        [constants.BROTLI_PARAM_SIZE_HINT]: data.length,
+      },
+    }),
+  },
+  { extension: '.gz', compress: (data) => gzipSync(data, { level: 9 }) },
+]
+
+/**
+ * Dizindeki varlıkların yanına .br ve .gz kopyalarını yazar. Sunucu
+ * (EncodedResourceResolver) Accept-Encoding'e göre bu dosyaları seçer,
+ * böylece istek başına sıkıştırma yapılmaz. Eşikten küçük dosyalar ve
+ * sıkıştırınca küçülmeyenler atlanır.
+ */
+export async function precompressDir(dir, { threshold = 1024 } = {}) {
+  const results = []
+  for (const entry of await readdir(dir, { withFileTypes: true })) {
+    const file = path.join(dir, entry.name)
+    if (entry.isDirectory()) {
+      results.push(...await precompressDir(file, { threshold }))
+      continue
+    }
+    if (!COMPRESSIBLE.test(entry.name)) {
+      continue
+    }
+    const data = await readFile(file)
+    if (data.length < threshold) {
+      continue
+    }
+    const sizes = { file: entry.name, original: data.length }
+    for (const { extension, compress } of ENCODINGS) {
+      const compressed = compress(data)
+      if (compressed.length < data.length) {
+        await writeFile(file + extension, compressed)
+        sizes[extension.slice(1)] = compressed.length
+      }
+    }
+    results.push(sizes)
+  }
+  return results
+}
+
+/** Vite build sonunda assets dizinini sıkıştıran eklenti */
+export default function precompress(options = {}) {
+  let assetsDir
+  let logger
+  return {
+    name: 'dinobank-precompress',
+    apply: 'build',
+    configResolved(config) {
+      assetsDir = path.resolve(config.root, config.build.outDir, config.build.assetsDir)
+      logger = config.logger
+    },
+    async closeBundle() {
+      for (const { file, original, br, gz } of await precompressDir(assetsDir, options)) {
+        const kb = (size) => (size === undefined ? '-' : `${(size / 1024).toFixed(1)} kB`)
+        logger.info(`precompress ${file}: ${kb(original)} → br ${kb(br)}, gzip ${kb(gz)}`)
+      }
+    },
+  }
+}
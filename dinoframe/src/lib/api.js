@@ -169,6 +169,21 @@ export const getCustomer = (id) => request(`/customers/${id}`);
  */
 export const getAccountSummary = (customerId) => request(`/accounts/summary/${customerId}`);
 
+/**
+ * Müşteri Paneli Getir (tek çağrı)
+ * 
+ * ENDPOINT: GET /api/dashboard/{customerId}
+ * BACKEND: DashboardController.getDashboard()
+ * 
+ * Hesaplar, bakiyeler, son işlemler, aylık harcama ve kredi durumu tek
+ * cevapta gelir. Son işlemler en yeni başta sıralıdır; direction alanı
+ * IN (gelen) veya OUT (giden) değerini alır.
+ * 
+ * @param {number} customerId - Müşteri ID'si
+ * @returns {Promise<CustomerDashboard>}
+ */
+export const getDashboard = (customerId) => request(`/dashboard/${customerId}`);
+
 // =============================================================================
 // İŞLEM (TRANSACTION) API'LERİ
 // =============================================================================
@@ -227,6 +242,7 @@ export const api = {
     register,   // Yeni kayıt
     getCustomer,        // Müşteri bilgileri
     getAccountSummary,  // Hesap özeti
+    getDashboard,       // Müşteri paneli
     getTransactions,    // İşlem geçmişi
     transfer,           // Para transferi
     createAccount       // Yeni hesap
@@ -6,7 +6,7 @@ import { Progress } from '@/components/ui/progress';
 import { Table, TableBody, TableCell, TableHead, TableHeader, TableRow } from '@/components/ui/table';
 import { Wallet, TrendingUp } from 'lucide-react';
 import { AreaChart, Area, XAxis, YAxis, CartesianGrid, Tooltip, ResponsiveContainer } from 'recharts';
-import { getAccountSummary, getTransactions } from '@/lib/api';
+import { getDashboard } from '@/lib/api';
 import Sidebar from '@/components/Sidebar';
 import TransferModal from '@/components/TransferModal';
 import { cn } from '@/lib/utils'; // Assuming cn is used
@@ -24,6 +24,7 @@ export default function DashboardPage() {
     const [user, setUser] = useState(null);
     const [account, setAccount] = useState(null);
     const [transactions, setTransactions] = useState([]);
+    const [monthlySpend, setMonthlySpend] = useState([]);
     const [loading, setLoading] = useState(true);
     const [isTransferOpen, setIsTransferOpen] = useState(false);
     const navigate = useNavigate();
@@ -36,44 +37,27 @@ export default function DashboardPage() {
         ? ((currentPoints - currentLevel.min) / (nextLevel.min - currentLevel.min)) * 100
         : 100;
 
-    // Mock chart data for now (or could be real from history)
-    const chartData = [
-        { name: 'Pzt', amount: 4000 },
-        { name: 'Sal', amount: 3000 },
-        { name: 'Çar', amount: 2000 },
-        { name: 'Per', amount: 2780 },
-        { name: 'Cum', amount: 1890 },
-        { name: 'Cmt', amount: 2390 },
-        { name: 'Paz', amount: 3490 },
-    ];
+    // Aylık harcama grafiği (hesabın para birimindeki giden tutarlar)
+    const chartData = monthlySpend
+        .filter(m => m.currency === (account?.currency || 'TRY'))
+        .map(m => ({ name: m.month, amount: m.amount }));
 
     const fetchData = async () => {
-        // ... (existing logic) ...
         const userStr = localStorage.getItem('dinoUser');
         if (!userStr) return;
         const userInfo = JSON.parse(userStr);
 
         try {
-            const accData = await getAccountSummary(userInfo.id);
-            setAccount(accData);
-
-            if (accData && accData.id) {
-                const txData = await getTransactions(accData.id);
-                // Safe date parser helper
-                const parseDate = (d) => {
-                    if (!d) return new Date();
-                    if (Array.isArray(d)) {
-                        // [year, month, day, hour, minute, second] - Month is 0-indexed in JS Date!
-                        // But Spring sends 1-indexed month. So d[1]-1.
-                        return new Date(d[0], d[1] - 1, d[2], d[3], d[4], d[5] || 0);
-                    }
-                    return new Date(d);
-                };
-
-                const sortedTx = txData.sort((a, b) => parseDate(b.transactionDate) - parseDate(a.transactionDate));
-                // Add parsed objects back to state so we don't re-parse in render
-                setTransactions(sortedTx.map(t => ({ ...t, parsedDate: parseDate(t.transactionDate) })));
-            }
+            // Tek çağrı: hesaplar, son işlemler ve aylık harcama aynı cevapta gelir
+            const dashboard = await getDashboard(userInfo.id);
+            const mainAccount = dashboard.accounts[0];
+            setAccount(mainAccount ? { ...mainAccount, id: mainAccount.accountId } : null);
+            setMonthlySpend(dashboard.monthlySpend);
+            setTransactions(dashboard.recentTransactions.map(t => ({
+                ...t,
+                id: t.transactionId,
+                parsedDate: new Date(t.occurredAt),
+            })));
         } catch (error) {
             console.error("Dashboard data fetch error:", error);
         }
@@ -184,7 +168,7 @@ export default function DashboardPage() {
                     {/* Chart Section */}
                     <Card className="col-span-4 bg-black/20 border-white/5">
                         <CardHeader>
-                            <CardTitle className="text-slate-200">Haftalık Özet</CardTitle>
+                            <CardTitle className="text-slate-200">Aylık Harcama</CardTitle>
                         </CardHeader>
                         <CardContent className="pl-2">
                             <div className="h-[250px] w-full">
@@ -249,22 +233,11 @@ export default function DashboardPage() {
                                             <TableCell colSpan={2} className="text-center text-slate-500 py-4">Henüz işlem yok 🦖</TableCell>
                                         </TableRow>
                                     ) : (
-                                        transactions.slice(0, 5).map((tx) => {
-                                            const isIncome = tx.amount > 0; // Simple logic: positive amount is income? Or based on transactionType
-                                            // The backend sends positive amounts for deposit, negative for withdrawal/transfer? 
-                                            // Let's assume backend logic: if type is DEPOSIT it's +, else -
-                                            // Or simplified: if amount > 0 display +, if < 0 display -
-
-                                            // Actually backend sends absolute amount and type. 
-                                            // Let's check Transaction.java: amount is BigDecimal. transactionType is ENUM (DEPOSIT, WITHDRAWAL, TRANSFER).
-                                            // If DEPOSIT -> Green. If WITHDRAWAL/TRANSFER -> Red.
-
-                                            const isPositive = tx.transactionType === 'DEPOSIT' || tx.transactionType === 'INCOMING_TRANSFER';
-                                            // Note: Backend might just use TRANSFER and we need to check source/target.
-                                            // For now let's rely on amount sign or type if available. 
+                                        transactions.slice(0, 5).map((tx, index) => {
+                                            const isPositive = tx.direction === 'IN';
 
                                             return (
-                                                <TableRow key={tx.id} className="border-white/5 hover:bg-white/5 transition-colors">
+                                                <TableRow key={tx.id ?? `tx-${index}`} className="border-white/5 hover:bg-white/5 transition-colors">
                                                     <TableCell>
                                                         <div className="font-medium text-slate-200">{tx.description || tx.transactionType}</div>
                                                         <div className="text-xs text-slate-500">{tx.parsedDate ? tx.parsedDate.toLocaleDateString('tr-TR') : '-'}</div>
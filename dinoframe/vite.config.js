@@ -1,5 +1,6 @@
 import { defineConfig } from 'vite'
 import react from '@vitejs/plugin-react'
+import precompress from './plugins/precompress.js'
 import path from 'path'
 import { fileURLToPath } from 'url'
 
@@ -8,7 +9,13 @@ const __dirname = path.dirname(__filename)
 
 // https://vitejs.dev/config/
 export default defineConfig({
-  plugins: [react()],
+  plugins: [react(), precompress()],
+  build: {
+    // Çıktı doğrudan Spring Boot'un static dizinine yazılır; eski hash'li
+    // paketler birikmesin diye dizin her build'de temizlenir
+    outDir: '../dino_bank/dinobank/src/main/resources/static',
+    emptyOutDir: true,
+  },
   server: {
     proxy: {
       '/api': {